@@ -0,0 +1,2 @@
+const __vite__mapDeps=(i,m=__vite__mapDeps,d=(m.f||(m.f=["assets/competition-DDRzTI-D.js","assets/index-LBqe1eNs.js","assets/index-Dc8zltW3.css","assets/submission-DCFVV_C6.js"])))=>i.map(i=>d[i]);
+import{_ as Q,z as me,r as $,c as G,J as W,g as c,h as ee,d as z,e as i,j as H,m as _,A as P,w as e,f as t,i as s,t as m,E as T,x as he,l as k,X as ke,q as pe,Y as we,Z as Se,o as Ie,V as ce,u as Ce,F as se,v as re}from"./index-LBqe1eNs.js";import{u as fe}from"./team-DUt-q28F.js";import{useCompetitionStore as _e}from"./competition-BeX1I71u.js";import{useRecruitmentStore as Re}from"./recruitment-BogGKxph.js";import{listCompetitionRegistrations as xe,reviewRegistration as $e}from"./competition-DDRzTI-D.js";import{listSubmissions as Te,scoreSubmission as Ve,getCompetitionRank as ze}from"./submission-DCFVV_C6.js";const Ne={class:"registration-review"},De={key:2,style:{color:"#999"}},Le={__name:"RegistrationReview",props:{competitionId:{type:Number,required:!0}},emits:["refresh"],setup(J,{expose:N,emit:M}){const w=fe(),S=me(),V=_e(),I=J,b=M,C=$([]),R=$(!1);G(()=>{const v={};return w.teams.forEach(o=>{v[o.teamId]=o}),v});async function r(){if(I.competitionId){R.value=!0;try{const[v,o]=await Promise.all([xe(I.competitionId),S.fetchCurrentUser()]),d=v?.data?.data||[],y=await Promise.all(d.map(async p=>{let L="-";p.teamId&&(L=(await w.fetchTeamDetail(p.teamId))?.team?.name||"-");let q=p.userId;o&&p.userId===o.id&&(q=o.username);const f=V.competitions.find(B=>B.id===p.competitionId)?.maxMembers>1;return{...p,username:q,teamName:L,isTeamMode:f}}));C.value=y}catch(v){console.error("loadRegistrations error",v),T.error("加载报名列表失败")}finally{R.value=!1}}}async function x(v,o){const d=o===1?"通过":"拒绝";try{await he.confirm(`确定要${d}该报名吗？`,"审核确认",{confirmButtonText:"确定",cancelButtonText:"取消",type:o===1?"success":"warning"});const y=await $e({registrationId:v.id,status:o});y?.data?.code===0?(T.success(`${d}成功`),await r(),b("refresh")):T.error(y?.data?.message||`${d}失败`)}catch(y){y!=="cancel"&&(console.error("handleReview error",y),T.error(`${d}失败：`+(y.response?.data?.message||y.message)))}}function F(v){return{0:"warning",1:"success",2:"danger"}[v]||"info"}function U(v){return{0:"待审核",1:"已通过",2:"已拒绝"}[v]||"未知"}function D(v){return v?new Date(v).toLocaleString("zh-CN",{year:"numeric",month:"2-digit",day:"2-digit",hour:"2-digit",minute:"2-digit"}):"-"}return W(()=>I.competitionId,v=>{v&&r()},{immediate:!0}),N({loadRegistrations:r}),(v,o)=>{const d=c("el-table-column"),y=c("el-tag"),p=c("el-button"),L=c("el-table"),q=c("el-empty"),X=ee("loading");return i(),z("div",Ne,[H((i(),_(L,{data:C.value,border:"",stripe:""},{default:e(()=>[t(d,{prop:"id",label:"报名ID",width:"80"}),t(d,{label:"报名类型",width:"100"},{default:e(({row:f})=>[t(y,{type:f.isTeamMode?"success":"info"},{default:e(()=>[s(m(f.isTeamMode?"部落战":"单人试炼"),1)]),_:2},1032,["type"])]),_:1}),t(d,{label:"求学哥布林/酋长",width:"120"},{default:e(({row:f})=>[s(m(f.username||f.userId),1)]),_:1}),t(d,{label:"部落名称",width:"150"},{default:e(({row:f})=>[s(m(f.teamName||"-"),1)]),_:1}),t(d,{label:"报名时间",width:"160"},{default:e(({row:f})=>[s(m(D(f.createTime)),1)]),_:1}),t(d,{label:"状态",width:"100"},{default:e(({row:f})=>[t(y,{type:F(f.status)},{default:e(()=>[s(m(U(f.status)),1)]),_:2},1032,["type"])]),_:1}),t(d,{label:"操作",width:"220",fixed:"right"},{default:e(({row:f})=>[f.status===0?(i(),_(p,{key:0,type:"success",size:"small",onClick:B=>x(f,1)},{default:e(()=>[...o[0]||(o[0]=[s(" 通过 ",-1)])]),_:1},8,["onClick"])):P("",!0),f.status===0?(i(),_(p,{key:1,type:"danger",size:"small",onClick:B=>x(f,2)},{default:e(()=>[...o[1]||(o[1]=[s(" 拒绝 ",-1)])]),_:1},8,["onClick"])):P("",!0),f.status!==0?(i(),z("span",De,"已审核")):P("",!0)]),_:1})]),_:1},8,["data"])),[[X,R.value]]),!R.value&&C.value.length===0?(i(),_(q,{key:0,description:"暂无报名记录"})):P("",!0)])}}},Me=Q(Le,[["__scopeId","data-v-f08c01e4"]]),Pe={class:"scoring-panel"},Ue={__name:"ScoringPanel",props:{competitionId:{type:Number,required:!0}},emits:["refresh","view-detail"],setup(J,{expose:N,emit:M}){const w=J,S=M,V=$([]),I=$(!1),b=$(!1),C=$(!1),R=$(null),r=$({score:null,comment:""});async function x(){if(w.competitionId){I.value=!0;try{const o=await Te({competitionId:w.competitionId});V.value=o?.data?.data||[]}catch(o){console.error("loadSubmissions error",o),T.error("加载作品列表失败")}finally{I.value=!1}}}function F(o){R.value=o,r.value={score:o.score??null,comment:o.comment||""},b.value=!0}async function U(){if(r.value.score==null)return T.warning("请输入评分");if(r.value.score<0||r.value.score>100)return T.warning("评分范围为0-100");C.value=!0;try{const o=await Ve({submissionId:R.value.id,score:r.value.score,comment:r.value.comment});o?.data?.code===0?(T.success("评分成功"),b.value=!1,await x(),S("refresh")):T.error(o?.data?.message||"评分失败")}catch(o){console.error("submitScore error",o),T.error("评分失败："+(o.response?.data?.message||o.message))}finally{C.value=!1}}function D(o){S("view-detail",o)}function v(o){return o?new Date(o).toLocaleString("zh-CN",{year:"numeric",month:"2-digit",day:"2-digit",hour:"2-digit",minute:"2-digit"}):"-"}return W(()=>w.competitionId,o=>{o&&x()},{immediate:!0}),N({loadSubmissions:x}),(o,d)=>{const y=c("el-table-column"),p=c("el-tag"),L=c("el-button"),q=c("el-table"),X=c("el-empty"),f=c("el-form-item"),B=c("el-input-number"),te=c("el-input"),ne=c("el-form"),le=c("el-dialog"),ae=ee("loading");return i(),z("div",Pe,[H((i(),_(q,{data:V.value,border:"",stripe:""},{default:e(()=>[t(y,{prop:"id",label:"战利品ID",width:"80"}),t(y,{label:"上交类型",width:"100"},{default:e(({row:g})=>[t(p,{type:g.teamId?"success":"info"},{default:e(()=>[s(m(g.teamId?"部落战利品":"单人战利品"),1)]),_:2},1032,["type"])]),_:1}),t(y,{label:"上交者/部落",width:"150"},{default:e(({row:g})=>[s(m(g.teamName||g.username||g.userId),1)]),_:1}),t(y,{prop:"description",label:"战利品描述","min-width":"200"}),t(y,{label:"上交时间",width:"160"},{default:e(({row:g})=>[s(m(v(g.submitTime||g.createTime)),1)]),_:1}),t(y,{label:"当前战力值",width:"100"},{default:e(({row:g})=>[k("span",{style:ke({color:g.score!=null?"#67C23A":"#909399"})},m(g.score!=null?g.score:"未鉴定"),5)]),_:1}),t(y,{label:"操作",width:"180",fixed:"right"},{default:e(({row:g})=>[t(L,{type:"primary",size:"small",onClick:oe=>F(g)},{default:e(()=>[s(m(g.score!=null?"重新鉴定":"鉴定"),1)]),_:2},1032,["onClick"]),t(L,{size:"small",onClick:oe=>D(g)},{default:e(()=>[...d[4]||(d[4]=[s(" 查看详情 ",-1)])]),_:1},8,["onClick"])]),_:1})]),_:1},8,["data"])),[[ae,I.value]]),!I.value&&V.value.length===0?(i(),_(X,{key:0,description:"暂无战利品上交"})):P("",!0),t(le,{modelValue:b.value,"onUpdate:modelValue":d[3]||(d[3]=g=>b.value=g),title:"战利品鉴定",width:"500px"},{footer:e(()=>[t(L,{onClick:d[2]||(d[2]=g=>b.value=!1)},{default:e(()=>[...d[6]||(d[6]=[s("取消",-1)])]),_:1}),t(L,{type:"primary",onClick:U,loading:C.value},{default:e(()=>[...d[7]||(d[7]=[s(" 确定鉴定 ",-1)])]),_:1},8,["loading"])]),default:e(()=>[t(ne,{model:r.value,"label-width":"80px"},{default:e(()=>[t(f,{label:"战利品标题"},{default:e(()=>[k("span",null,m(R.value?.title),1)]),_:1}),t(f,{label:"上交者"},{default:e(()=>[k("span",null,m(R.value?.teamName||R.value?.username||R.value?.userId),1)]),_:1}),t(f,{label:"评分",required:""},{default:e(()=>[t(B,{modelValue:r.value.score,"onUpdate:modelValue":d[0]||(d[0]=g=>r.value.score=g),min:0,max:100,precision:1,step:.5,"controls-position":"right"},null,8,["modelValue"]),d[5]||(d[5]=k("span",{style:{"margin-left":"10px",color:"#909399"}},"满分100战力",-1))]),_:1}),t(f,{label:"萨满评语"},{default:e(()=>[t(te,{modelValue:r.value.comment,"onUpdate:modelValue":d[1]||(d[1]=g=>r.value.comment=g),type:"textarea",rows:4,placeholder:"请输入萨满评语（选填）",maxlength:"500","show-word-limit":""},null,8,["modelValue"])]),_:1})]),_:1},8,["model"])]),_:1},8,["modelValue"])])}}},Ee=Q(Ue,[["__scopeId","data-v-3ae706cc"]]),qe={class:"ranking-panel"},Be={class:"ranking-header"},Ae={style:{display:"flex","align-items":"center",gap:"8px"}},je={class:"score-display"},Oe={__name:"RankingPanel",props:{competitionId:{type:Number,required:!0}},setup(J,{expose:N}){const M=J,w=$([]),S=$(!1);async function V(){if(M.competitionId){S.value=!0;try{const r=await ze(M.competitionId);w.value=r?.data?.data||[]}catch(r){console.error("loadRanking error",r),T.error("加载战力榜失败")}finally{S.value=!1}}}async function I(){await V(),T.success("战力榜已刷新")}function b(r){return r===1?"rank-gold":r===2?"rank-silver":r===3?"rank-bronze":""}function C(r){return r===1?"🥇":r===2?"🥈":r===3?"🥉":r}function R(r){return r?new Date(r).toLocaleString("zh-CN",{year:"numeric",month:"2-digit",day:"2-digit",hour:"2-digit",minute:"2-digit"}):"-"}return W(()=>M.competitionId,r=>{r&&V()},{immediate:!0}),N({loadRanking:V,refreshRanking:I}),(r,x)=>{const F=c("el-icon"),U=c("el-button"),D=c("el-table-column"),v=c("el-tag"),o=c("el-table"),d=c("el-empty"),y=ee("loading");return i(),z("div",qe,[k("div",Be,[x[1]||(x[1]=k("h3",null,"试炼战力榜",-1)),t(U,{type:"success",onClick:I,loading:S.value},{default:e(()=>[t(F,null,{default:e(()=>[t(pe(we))]),_:1}),x[0]||(x[0]=s(" 刷新战力榜 ",-1))]),_:1},8,["loading"])]),H((i(),_(o,{data:w.value,border:"",stripe:""},{default:e(()=>[t(D,{label:"战力排名",width:"80",align:"center"},{default:e(({row:p,$index:L})=>[k("div",{class:Se(["rank-badge",b(L+1)])},m(C(L+1)),3)]),_:1}),t(D,{label:"挑战者","min-width":"150"},{default:e(({row:p})=>[k("div",Ae,[t(v,{type:p.teamId?"success":"info",size:"small"},{default:e(()=>[s(m(p.teamId?"部落":"独狼"),1)]),_:2},1032,["type"]),k("span",null,m(p.teamName||p.username||p.userId),1)])]),_:1}),t(D,{label:"战利品描述","min-width":"200",prop:"description"}),t(D,{label:"战力值",width:"100",align:"center"},{default:e(({row:p})=>[k("div",je,m(p.score),1)]),_:1}),t(D,{label:"上交时间",width:"160"},{default:e(({row:p})=>[s(m(R(p.submitTime||p.createTime)),1)]),_:1}),t(D,{label:"萨满评语","min-width":"150","show-overflow-tooltip":""},{default:e(({row:p})=>[s(m(p.comment||"-"),1)]),_:1})]),_:1},8,["data"])),[[y,S.value]]),!S.value&&w.value.length===0?(i(),_(d,{key:0,description:"暂无战力数据"},{description:e(()=>[...x[2]||(x[2]=[k("div",null,[k("p",{style:{"margin-bottom":"8px"}},"暂无战力数据"),k("p",{style:{"font-size":"12px",color:"#909399"}},"鉴定后将自动生成战力榜")],-1)])]),_:1})):P("",!0)])}}},Fe=Q(Oe,[["__scopeId","data-v-23999966"]]),Je={class:"my-competitions-page"},Xe={key:0,style:{"min-height":"300px"}},Ye={key:1,class:"teacher-view"},Ze={class:"quick-actions"},Ge={class:"quick-actions"},He={class:"quick-actions"},Ke={key:2,class:"student-view"},Qe={style:{"margin-bottom":"16px",display:"flex","justify-content":"flex-end"}},We={key:1,style:{color:"#909399","font-size":"12px"}},et={key:2,style:{color:"#909399","font-size":"12px"}},tt={key:0,style:{color:"#67C23A","font-weight":"bold","font-size":"16px"}},nt={key:1,style:{color:"#909399","font-size":"12px"}},lt={style:{"font-size":"24px","font-weight":"bold",color:"#67C23A"}},at={style:{"white-space":"pre-wrap","line-height":"1.6"}},ot={__name:"MyCompetitions",setup(J){const N=Ce(),M=me(),w=fe(),S=_e(),V=Re();$({}),$({});const I=$("published"),b=$(null),C=$(!0),R=$(!1),r=$(null),x=G(()=>M.role==="admin");async function F(){C.value=!0;try{x.value?await S.fetchList():(w.teams=[],await Promise.all([w.fetchMyTeams(),S.fetchList(),V.fetchMyRecruitments()]),await q()),T.success("刷新成功")}catch(a){T.error("刷新失败: "+a.message)}finally{C.value=!1}}Ie(async()=>{C.value=!0;try{x.value?(await S.fetchList(),I.value="published"):(await Promise.all([w.fetchMyTeams(),S.fetchList(),V.fetchMyRecruitments()]),I.value="joined",await q())}finally{C.value=!1}});const U=G(()=>S.competitions.filter(a=>a.creatorId===M.id)),D=G(()=>{const a=M.id;return w.teams.map(n=>{const h=S.competitions.find(u=>u.id===n.competitionId);return h?{competitionId:n.competitionId,competitionTitle:h.name,teamId:n.id,teamName:n.name,teamStatus:n.status,isLeader:n.userId===a,registrationStatus:n.registrationStatus,hasSubmission:n.hasSubmission||!1,score:n.score,comment:n.comment}:null}).filter(n=>n!==null)});W(D,a=>{console.log("myTeams 更新了：",JSON.parse(JSON.stringify(a)))},{immediate:!0});const v=G(()=>V.myRecruitments.map(a=>{const n=S.competitions.find(h=>h.id===a.competitionId);return n?{...a,competitionName:n.name}:null}).filter(a=>a!==null));function o(a){return a?new Date(a).toLocaleDateString("zh-CN"):"-"}function d(a){return{0:"warning",1:"success",2:"danger"}[a]||"info"}function y(a){return{0:"待审核",1:"已通过",2:"已拒绝"}[a]||"未知"}function p(a){return{0:"success",1:"warning",2:"info"}[a]||"info"}function L(a){return{0:"招募中",1:"已满员",2:"已关闭"}[a]||"未知"}async function q(){if(!w.teams||w.teams.length===0){console.log("没有队伍数据，跳过加载额外信息");return}const{getMyRegistrationStatus:a}=await ce(async()=>{const{getMyRegistrationStatus:u}=await import("./competition-DDRzTI-D.js");return{getMyRegistrationStatus:u}},__vite__mapDeps([0,1,2])),{listSubmissions:n}=await ce(async()=>{const{listSubmissions:u}=await import("./submission-DCFVV_C6.js");return{listSubmissions:u}},__vite__mapDeps([3,1,2]));console.log(`开始加载 ${w.teams.length} 个队伍的额外信息`);const h=w.teams.map(async u=>{try{const A=await a(u.competitionId,{silent:!0});if(A?(u.registrationStatus=A,console.log(`队伍 ${u.name} (竞赛 ID: ${u.competitionId}) 报名状态: ${A}`)):console.log(`队伍 ${u.name} 未找到报名记录`),u.registrationStatus===1)try{const E=await n({competitionId:u.competitionId,teamId:u.id},{silent:!0}),j=E?.data?.data?.list||E?.data?.data||[];if(j.length>0){const Y=j[0];u.hasSubmission=!0,u.score=Y.score,u.comment=Y.comment,console.log(`队伍 ${u.name} 已提交作品，评分: ${u.score}`)}else u.hasSubmission=!1,console.log(`队伍 ${u.name} 未提交作品`)}catch(E){console.warn(`检查队伍 ${u.id} 提交状态失败:`,E.message)}}catch(A){console.warn(`加载队伍 ${u.id} 的报名状态失败:`,A.message)}});await Promise.allSettled(h),console.log("完成加载所有队伍的额外信息")}function X(){b.value&&$(null).value?.loadRanking?.()}function f(a){r.value={competitionTitle:a.competitionTitle,teamName:a.teamName,score:a.score,comment:a.comment},R.value=!0}function B(a){N.push(`/competitions/${a}`)}function te(a){N.push({path:"/team-detail",query:{teamId:a}})}function ne(){N.push("/recruitments")}function le(a,n){N.push({path:`/submissions/${a}`,query:{competitionId:a,teamId:n}})}function ae(a){N.push(`/recruitments/${a}`)}function g(a){N.push("/admin/registrations?competitionId="+a)}function oe(a){N.push("/admin/submissions?competitionId="+a)}function ge(a){N.push(`/rankings/${a}`)}async function ve(a){try{await V.closeRecruitment(a),T.success("招募已关闭"),await V.fetchMyRecruitments()}catch(n){T.error("关闭失败: "+n.message)}}return(a,n)=>{const h=c("el-table-column"),u=c("el-button"),A=c("el-table"),E=c("el-empty"),j=c("el-tab-pane"),Y=c("el-option"),ie=c("el-select"),ue=c("el-tabs"),Z=c("el-tag"),K=c("el-descriptions-item"),ye=c("el-descriptions"),be=c("el-dialog"),de=ee("loading");return i(),z("div",Je,[k("h2",null,m(x.value?"我发布的试炼":"我的试炼"),1),C.value?H((i(),z("div",Xe,null,512)),[[de,!0]]):x.value?(i(),z("div",Ye,[t(ue,{modelValue:I.value,"onUpdate:modelValue":n[3]||(n[3]=l=>I.value=l),type:"card"},{default:e(()=>[t(j,{label:"我发布的试炼",name:"published"},{default:e(()=>[t(A,{data:U.value,border:""},{default:e(()=>[t(h,{prop:"name",label:"试炼名称"}),t(h,{label:"主办祭司",width:"150"},{default:e(()=>[s(m(pe(M).userName||"我"),1)]),_:1}),t(h,{label:"时间",width:"200"},{default:e(({row:l})=>[s(m(o(l.startTime))+" ~ "+m(o(l.endTime)),1)]),_:1}),t(h,{label:"操作",width:"350",fixed:"right"},{default:e(({row:l})=>[t(u,{size:"small",onClick:O=>B(l.id)},{default:e(()=>[...n[7]||(n[7]=[s("查看详情",-1)])]),_:1},8,["onClick"]),t(u,{size:"small",type:"primary",onClick:O=>g(l.id)},{default:e(()=>[...n[8]||(n[8]=[s("报名审核",-1)])]),_:1},8,["onClick"]),t(u,{size:"small",type:"success",onClick:O=>oe(l.id)},{default:e(()=>[...n[9]||(n[9]=[s("战利品鉴定",-1)])]),_:1},8,["onClick"]),t(u,{size:"small",type:"warning",onClick:O=>ge(l.id)},{default:e(()=>[...n[10]||(n[10]=[s("战力排行",-1)])]),_:1},8,["onClick"])]),_:1})]),_:1},8,["data"]),U.value.length===0?(i(),_(E,{key:0,description:"暂未发布试炼"})):P("",!0)]),_:1}),t(j,{label:"报名审核",name:"registrations"},{default:e(()=>[k("div",Ze,[t(ie,{modelValue:b.value,"onUpdate:modelValue":n[0]||(n[0]=l=>b.value=l),placeholder:"选择试炼",clearable:"",style:{width:"300px"}},{default:e(()=>[(i(!0),z(se,null,re(U.value,l=>(i(),_(Y,{key:l.id,label:l.name,value:l.id},null,8,["label","value"]))),128))]),_:1},8,["modelValue"])]),b.value?(i(),_(Me,{key:0,"competition-id":b.value,ref:"reviewRef"},null,8,["competition-id"])):(i(),_(E,{key:1,description:"请先选择试炼"}))]),_:1}),t(j,{label:"战利品鉴定",name:"submissions"},{default:e(()=>[k("div",Ge,[t(ie,{modelValue:b.value,"onUpdate:modelValue":n[1]||(n[1]=l=>b.value=l),placeholder:"选择试炼",clearable:"",style:{width:"300px"}},{default:e(()=>[(i(!0),z(se,null,re(U.value,l=>(i(),_(Y,{key:l.id,label:l.name,value:l.id},null,8,["label","value"]))),128))]),_:1},8,["modelValue"])]),b.value?(i(),_(Ee,{key:0,"competition-id":b.value,ref:"scoringRef",onRefresh:X},null,8,["competition-id"])):(i(),_(E,{key:1,description:"请先选择试炼"}))]),_:1}),t(j,{label:"战力排行",name:"rankings"},{default:e(()=>[k("div",He,[t(ie,{modelValue:b.value,"onUpdate:modelValue":n[2]||(n[2]=l=>b.value=l),placeholder:"选择试炼",clearable:"",style:{width:"300px"}},{default:e(()=>[(i(!0),z(se,null,re(U.value,l=>(i(),_(Y,{key:l.id,label:l.name,value:l.id},null,8,["label","value"]))),128))]),_:1},8,["modelValue"])]),b.value?(i(),_(Fe,{key:0,"competition-id":b.value,ref:"rankingRef"},null,8,["competition-id"])):(i(),_(E,{key:1,description:"请先选择试炼"}))]),_:1})]),_:1},8,["modelValue"])])):(i(),z("div",Ke,[t(ue,{modelValue:I.value,"onUpdate:modelValue":n[4]||(n[4]=l=>I.value=l),type:"card"},{default:e(()=>[t(j,{label:"我参加的试炼",name:"joined"},{default:e(()=>[k("div",Qe,[t(u,{icon:C.value?"Loading":"Refresh",loading:C.value,onClick:F},{default:e(()=>[...n[11]||(n[11]=[s(" 刷新数据 ",-1)])]),_:1},8,["icon","loading"])]),H((i(),_(A,{data:D.value,border:""},{default:e(()=>[t(h,{prop:"competitionTitle",label:"试炼名称","min-width":"180"}),t(h,{prop:"teamName",label:"部落名称",width:"150"}),t(h,{label:"我的身份",width:"100",align:"center"},{default:e(({row:l})=>[t(Z,{type:l.isLeader?"success":"info",size:"small"},{default:e(()=>[s(m(l.isLeader?"酋长":"部下"),1)]),_:2},1032,["type"])]),_:1}),t(h,{label:"报名状态",width:"120",align:"center"},{default:e(({row:l})=>[l.registrationStatus!==void 0?(i(),_(Z,{key:0,type:d(l.registrationStatus),size:"small"},{default:e(()=>[s(m(y(l.registrationStatus)),1)]),_:2},1032,["type"])):(i(),z("span",We,"-"))]),_:1}),t(h,{label:"上交状态",width:"100",align:"center"},{default:e(({row:l})=>[l.hasSubmission?(i(),_(Z,{key:0,type:"success",size:"small"},{default:e(()=>[...n[12]||(n[12]=[s(" 已上交 ",-1)])]),_:1})):l.registrationStatus===1?(i(),_(Z,{key:1,type:"info",size:"small"},{default:e(()=>[...n[13]||(n[13]=[s(" 未上交 ",-1)])]),_:1})):(i(),z("span",et,"-"))]),_:1}),t(h,{label:"评分",width:"100",align:"center"},{default:e(({row:l})=>[l.score!=null?(i(),z("span",tt,m(l.score),1)):(i(),z("span",nt,"未评分"))]),_:1}),t(h,{label:"操作",width:"380",fixed:"right"},{default:e(({row:l})=>[t(u,{size:"small",onClick:O=>B(l.competitionId)},{default:e(()=>[...n[14]||(n[14]=[s("查看试炼",-1)])]),_:1},8,["onClick"]),t(u,{size:"small",type:"primary",onClick:O=>te(l.teamId)},{default:e(()=>[...n[15]||(n[15]=[s("管理部落",-1)])]),_:1},8,["onClick"]),l.isLeader?(i(),_(u,{key:0,size:"small",type:"success",onClick:O=>le(l.competitionId,l.teamId)},{default:e(()=>[s(m(l.hasSubmission?"重新上交":"上交战利品"),1)]),_:2},1032,["onClick"])):P("",!0),l.score!=null?(i(),_(u,{key:1,size:"small",type:"warning",onClick:O=>f(l)},{default:e(()=>[...n[16]||(n[16]=[s(" 查看萨满评语 ",-1)])]),_:1},8,["onClick"])):P("",!0)]),_:1})]),_:1},8,["data"])),[[de,C.value]]),D.value.length===0?(i(),_(E,{key:0,description:"暂无参战记录，快去部落招募吧！"},{default:e(()=>[t(u,{type:"primary",onClick:ne},{default:e(()=>[...n[17]||(n[17]=[s("前往部落招募",-1)])]),_:1})]),_:1})):P("",!0)]),_:1}),t(j,{label:"我的招募令",name:"recruitments"},{default:e(()=>[n[20]||(n[20]=k("div",{class:"recruitment-summary"},null,-1)),t(A,{data:v.value,border:"",style:{"margin-top":"16px"}},{default:e(()=>[t(h,{prop:"competitionName",label:"试炼名称"}),t(h,{prop:"title",label:"招募令标题"}),t(h,{label:"招募数量",width:"100"},{default:e(({row:l})=>[s(m(l.maxMembers)+"只",1)]),_:1}),t(h,{label:"状态",width:"100"},{default:e(({row:l})=>[t(Z,{type:p(l.status)},{default:e(()=>[s(m(L(l.status)),1)]),_:2},1032,["type"])]),_:1}),t(h,{label:"操作",width:"180"},{default:e(({row:l})=>[t(u,{size:"small",onClick:O=>ae(l.id)},{default:e(()=>[...n[18]||(n[18]=[s("查看详情",-1)])]),_:1},8,["onClick"]),l.status===0?(i(),_(u,{key:0,size:"small",type:"danger",onClick:O=>ve(l.id)},{default:e(()=>[...n[19]||(n[19]=[s(" 撤回招募令 ",-1)])]),_:1},8,["onClick"])):P("",!0)]),_:1})]),_:1},8,["data"]),v.value.length===0?(i(),_(E,{key:0,description:"暂无招募令发布"})):P("",!0)]),_:1})]),_:1},8,["modelValue"])])),t(be,{modelValue:R.value,"onUpdate:modelValue":n[6]||(n[6]=l=>R.value=l),title:"战利品评分详情",width:"500px"},{footer:e(()=>[t(u,{type:"primary",onClick:n[5]||(n[5]=l=>R.value=!1)},{default:e(()=>[...n[21]||(n[21]=[s("确定",-1)])]),_:1})]),default:e(()=>[t(ye,{column:1,border:""},{default:e(()=>[t(K,{label:"试炼名称"},{default:e(()=>[s(m(r.value?.competitionTitle||"-"),1)]),_:1}),t(K,{label:"部落名称"},{default:e(()=>[s(m(r.value?.teamName||"-"),1)]),_:1}),t(K,{label:"得分"},{default:e(()=>[k("span",lt,m(r.value?.score),1)]),_:1}),t(K,{label:"萨满评语"},{default:e(()=>[k("div",at,m(r.value?.comment||"暂无萨满评语"),1)]),_:1})]),_:1})]),_:1},8,["modelValue"])])}}},mt=Q(ot,[["__scopeId","data-v-e6fd4769"]]);export{mt as default};
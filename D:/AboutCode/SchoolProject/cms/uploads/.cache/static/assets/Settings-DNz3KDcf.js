@@ -0,0 +1 @@
+import{_ as P,r as S,a as b,d as c,e as N,f as e,w as t,g as d,i as u,l as k,E}from"./index-LBqe1eNs.js";const F={class:"settings-page"},B={__name:"Settings",setup(M){const V=S("basic"),s=b({siteName:"我的竞赛平台",siteUrl:"http://localhost:8080",logo:"",icp:"京ICP备20250924号"}),p=b({enableCaptcha:!0,enable2FA:!1,ipWhitelist:"127.0.0.1"}),n=b({smtpServer:"",smtpPort:"",fromEmail:"",password:""}),i=()=>{E.info("此功能正在快马加鞭开发中... 敬请期待！")};return(T,l)=>{const x=d("el-breadcrumb-item"),w=d("el-breadcrumb"),m=d("el-input"),o=d("el-form-item"),r=d("el-button"),U=d("el-upload"),f=d("el-form"),_=d("el-tab-pane"),y=d("el-switch"),v=d("el-alert"),C=d("el-tabs"),g=d("el-card");return N(),c("div",F,[e(w,{separator:"/"},{default:t(()=>[e(x,{to:{path:"/admin"}},{default:t(()=>[...l[11]||(l[11]=[u("统治者后台",-1)])]),_:1}),e(x,null,{default:t(()=>[...l[12]||(l[12]=[u("部落法则",-1)])]),_:1})]),_:1}),e(g,{class:"box-card"},{default:t(()=>[e(C,{modelValue:V.value,"onUpdate:modelValue":l[10]||(l[10]=a=>V.value=a)},{default:t(()=>[e(_,{label:"基本法则",name:"basic"},{default:t(()=>[e(f,{model:s,"label-width":"120px",style:{"max-width":"600px"}},{default:t(()=>[e(o,{label:"部落名称"},{default:t(()=>[e(m,{modelValue:s.siteName,"onUpdate:modelValue":l[0]||(l[0]=a=>s.siteName=a)},null,8,["modelValue"])]),_:1}),e(o,{label:"部落领地"},{default:t(()=>[e(m,{modelValue:s.siteUrl,"onUpdate:modelValue":l[1]||(l[1]=a=>s.siteUrl=a)},null,8,["modelValue"])]),_:1}),e(o,{label:"部落图腾"},{default:t(()=>[e(U,{action:"#","show-file-list":!1,"auto-upload":!1},{tip:t(()=>[...l[14]||(l[14]=[k("div",{class:"el-upload__tip"}," 建议尺寸 120x120px, JPG, PNG 格式, 小于 2MB ",-1)])]),default:t(()=>[e(r,{type:"primary"},{default:t(()=>[...l[13]||(l[13]=[u("点击上传",-1)])]),_:1})]),_:1})]),_:1}),e(o,{label:"部落印记"},{default:t(()=>[e(m,{modelValue:s.icp,"onUpdate:modelValue":l[2]||(l[2]=a=>s.icp=a)},null,8,["modelValue"])]),_:1}),e(o,null,{default:t(()=>[e(r,{type:"primary",onClick:i},{default:t(()=>[...l[15]||(l[15]=[u("铭刻法则",-1)])]),_:1})]),_:1})]),_:1},8,["model"])]),_:1}),e(_,{label:"防御结界",name:"security"},{default:t(()=>[e(f,{"label-width":"150px",style:{"max-width":"600px"}},{default:t(()=>[e(o,{label:"启用口令验证"},{default:t(()=>[e(y,{modelValue:p.enableCaptcha,"onUpdate:modelValue":l[3]||(l[3]=a=>p.enableCaptcha=a),disabled:""},null,8,["modelValue"])]),_:1}),e(o,{label:"启用血脉认证"},{default:t(()=>[e(y,{modelValue:p.enable2FA,"onUpdate:modelValue":l[4]||(l[4]=a=>p.enable2FA=a),disabled:""},null,8,["modelValue"])]),_:1}),e(o,{label:"统治者洞穴白名单"},{default:t(()=>[e(m,{type:"textarea",rows:3,placeholder:"多个IP请用英文逗号隔开",modelValue:p.ipWhitelist,"onUpdate:modelValue":l[5]||(l[5]=a=>p.ipWhitelist=a),disabled:""},null,8,["modelValue"])]),_:1}),e(o,null,{default:t(()=>[e(r,{type:"primary",onClick:i},{default:t(()=>[...l[16]||(l[16]=[u("保存设置",-1)])]),_:1})]),_:1})]),_:1})]),_:1}),e(_,{label:"邮件设置",name:"email"},{default:t(()=>[e(v,{title:"邮件服务用于发送注册验证、密码找回等通知邮件。",type:"info","show-icon":"",closable:!1,style:{"margin-bottom":"20px"}}),e(f,{model:n,"label-width":"120px",style:{"max-width":"600px"}},{default:t(()=>[e(o,{label:"SMTP服务器"},{default:t(()=>[e(m,{modelValue:n.smtpServer,"onUpdate:modelValue":l[6]||(l[6]=a=>n.smtpServer=a),placeholder:"例如: smtp.example.com"},null,8,["modelValue"])]),_:1}),e(o,{label:"SMTP端口"},{default:t(()=>[e(m,{modelValue:n.smtpPort,"onUpdate:modelValue":l[7]||(l[7]=a=>n.smtpPort=a),placeholder:"例如: 465"},null,8,["modelValue"])]),_:1}),e(o,{label:"发件人邮箱"},{default:t(()=>[e(m,{modelValue:n.fromEmail,"onUpdate:modelValue":l[8]||(l[8]=a=>n.fromEmail=a),placeholder:"例如: no-reply@example.com"},null,8,["modelValue"])]),_:1}),e(o,{label:"邮箱密码/授权码"},{default:t(()=>[e(m,{modelValue:n.password,"onUpdate:modelValue":l[9]||(l[9]=a=>n.password=a),type:"password"},null,8,["modelValue"])]),_:1}),e(o,null,{default:t(()=>[e(r,{type:"primary",onClick:i},{default:t(()=>[...l[17]||(l[17]=[u("保存设置",-1)])]),_:1}),e(r,{onClick:i},{default:t(()=>[...l[18]||(l[18]=[u("发送测试邮件",-1)])]),_:1})]),_:1})]),_:1},8,["model"])]),_:1})]),_:1},8,["modelValue"])]),_:1})])}}},I=P(B,[["__scopeId","data-v-a7d6dc98"]]);export{I as default};
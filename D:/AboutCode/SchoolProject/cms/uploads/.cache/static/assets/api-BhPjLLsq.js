@@ -0,0 +1 @@
+import{y as n}from"./index-LBqe1eNs.js";function i(t){return n.post("/competition/add",t).then(e=>e.data)}function o(t){return n.post("/competition/update",t).then(e=>e.data)}function r(t){return n.post("/competition/delete",t).then(e=>e.data)}function u(t){return n.get("/competition/list",{params:t}).then(e=>e.data)}function p(t){return n.get("/competition/registrations",{params:{competitionId:t}}).then(e=>e.data)}function m(t){return n.post("/competition/review",t).then(e=>e.data)}function d(t){return n.post("/submission/list",t).then(e=>e.data)}function c(t){return n.get("/submission/detail",{params:{id:t}}).then(e=>e.data)}function l(t){return n.post("/submission/score",t).then(e=>e.data)}function f(t){return n.get("/submission/rank",{params:{competitionId:t}}).then(e=>e.data)}function h(t){return n.get("/submission/export",{params:{competitionId:t},responseType:"blob"})}function g(t){return n.get("/team/detail",{params:{teamId:t}}).then(e=>e.data)}function b(t){return n.post("/recruitment/delete",t).then(e=>e.data)}function C(t){return n.post("/recruitment/list",t).then(e=>e.data)}function R(t){return n.get("/recruitment/detail",{params:{id:t}}).then(e=>e.data)}function S(t){return n.get("/chat/session/list",{params:t}).then(e=>e.data)}function D(t){return n.post("/chat/message/list",t).then(e=>e.data)}function k(t){const e=new FormData;return e.append("file",t),n.post("/file/upload/image",e,{headers:{"Content-Type":"multipart/form-data"}}).then(a=>a.data)}function w(t){return n.get("/user/list",{params:t}).then(e=>e.data)}function x(t){return n.post("/user/delete",t).then(e=>e.data)}function y(t){return n.get("/user/update-role",{params:t}).then(e=>e.data)}export{i as a,w as b,d as c,r as d,h as e,f,p as g,c as h,g as i,C as j,R as k,u as l,b as m,D as n,S as o,y as p,x as q,m as r,o as s,l as t,k as u};
@@ -0,0 +1 @@
+import{y as i}from"./index-LBqe1eNs.js";function s(t){return i.get("/competition/list",{params:t})}function u(t){return i.get("/competition/detail",{params:{id:t}})}function m(t){return i.post("/competition/add",t)}function a(t){return i.post("/competition/update",t)}function c(t){return i.post("/competition/delete",null,{params:{id:t}})}function g(t){return i.post("/competition/register",t)}function f(t){return i.post("/competition/review",t)}function d(t){return i.get("/competition/registration/list",{params:{competitionId:t}})}function l(){return i.get("/competition/my")}function C(t){return i.get("/competition/registration/getMy",{params:{competitionId:t}})}function y(t){return i.get("/competition/my").then(e=>(e.data?.data||[]).find(n=>n.id===t)?1:null)}export{m as createCompetition,c as deleteCompetition,u as getCompetition,l as getMyCompetitions,C as getMyRegistration,y as getMyRegistrationStatus,d as listCompetitionRegistrations,s as listCompetitions,g as registerCompetition,f as reviewRegistration,a as updateCompetition};
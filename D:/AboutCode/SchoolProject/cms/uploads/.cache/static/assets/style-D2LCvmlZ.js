@@ -0,0 +1,333 @@
+const __vite__mapDeps=(i,m=__vite__mapDeps,d=(m.f||(m.f=["assets/index-BT-XfKMe.js","assets/index-LBqe1eNs.js","assets/index-Dc8zltW3.css","assets/index-CdHIc1ud.js","assets/index-Ca2a99KL.js","assets/index-DPPh6wlq.js","assets/index-CA6FJKIU.js","assets/index-xobnwr9u.js","assets/index-BeEZhhDq.js","assets/index-B2leo8wf.js","assets/index-CW90xaTk.js","assets/index-Dsq5_9Ff.js","assets/index-4Gh3Fja1.js","assets/index-ICdS2Lnn.js","assets/index-OiHk26rL.js","assets/index-BPvXnwWq.js","assets/index-CM6qQVH2.js","assets/dockerfile-BKs6k2Af.js","assets/simple-mode-GW_nhZxv.js","assets/factor-kuTfRLto.js","assets/nsis-LdVXkNf5.js","assets/pug-DeIclll2.js","assets/javascript-iXu5QeM3.js","assets/index-BMZDLcn_.js","assets/index-8CbzS8YS.js"])))=>i.map(i=>d[i]);
+import{I as H,a as yt,r as ie,J as ee,o as we,K as ni,L as cr,f as w,M as Q,N as yi,c as fe,F as Rr,O as $e,P as d1,Q as an,R as Nl,S as St,T as p1,U as m1,V as T,W as O1}from"./index-LBqe1eNs.js";const g1=t=>{const e=typeof t;return e!=="function"&&e!=="object"||t===null},b1=t=>{const e=t.flags===""?void 0:t.flags;return new RegExp(t.source,e)},qn=(t,e=new WeakMap)=>{if(t===null||g1(t))return t;if(e.has(t))return e.get(t);if(t instanceof RegExp)return b1(t);if(t instanceof Date)return new Date(t.getTime());if(t instanceof Function)return t;if(t instanceof Map){const n=new Map;return e.set(t,n),t.forEach((r,s)=>{n.set(s,qn(r,e))}),n}if(t instanceof Set){const n=new Set;e.set(t,n);for(const r of t)n.add(qn(r,e));return n}if(Array.isArray(t)){const n=[];return e.set(t,n),t.forEach(r=>{n.push(qn(r,e))}),n}const i={};e.set(t,i);for(const n in t)Object.prototype.hasOwnProperty.call(t,n)&&(i[n]=qn(t[n],e));return i},Gd=(t,e=200)=>{let i=0;return(...n)=>new Promise(r=>{i&&(clearTimeout(i),r("cancel")),i=window.setTimeout(()=>{t.apply(void 0,n),i=0,r("done")},e)})},x1=(t,e={_blank:!0,nofollow:!0})=>{const i=document.createElement("a");i.href=t,e._blank&&(i.target="_blank"),e.nofollow&&(i.rel="noopener noreferrer"),i.click()},nu=()=>{let t=-1;return(e,i,n,r=100)=>{const s=()=>{n&&(typeof r=="number"?setTimeout(n,r):n())};t!==-1&&(cancelAnimationFrame(t),s());let o=e.scrollTop;const l=()=>{t=-1;const a=i-o;o=o+a/5,Math.abs(a)<1?(e.scrollTo(0,i),s()):(e.scrollTo(0,o),t=requestAnimationFrame(l))};t=requestAnimationFrame(l)}},y1=(t,e=200)=>{let i=0,n=null;const r=s=>{i===0&&(i=s),s-i>=e?(t.apply(void 0,n),n=null,i=0):window.requestAnimationFrame(r)};return(...s)=>{n===null&&window.requestAnimationFrame(r),n=s}},k1=t=>{const e=i=>{const{scrollHeight:n,scrollWidth:r,offsetHeight:s,offsetWidth:o,scrollLeft:l,scrollTop:a}=t,u=i.x,c=i.y,h=d=>{const p=a+c-d.y,m=l+u-d.x,O=n-s,g=r-o,b={};m>=0&&m<=g&&(b.left=m),p>=0&&p<=O&&(b.top=p),t.scroll(b)};document.addEventListener("mousemove",h);const f=()=>{document.removeEventListener("mousemove",h),document.removeEventListener("mouseup",f)};document.addEventListener("mouseup",f)};return t.addEventListener("mousedown",e),()=>{t.removeEventListener("mousedown",e)}},Wl=()=>`${Date.now().toString(36)}${Math.random().toString(36).substring(2)}`,Ys=t=>t!==null&&typeof t=="object"&&!Array.isArray(t),ru=(t,e,i={})=>{if(Array.isArray(t)&&Array.isArray(e))return Gl(t,e,i);const{excludeKeys:n}=i;for(const r in e){const s=e[r],o=t[r];n&&n(r)?t[r]=s:Array.isArray(s)&&Array.isArray(o)?t[r]=Gl(o,s,i):Ys(s)&&Ys(o)?t[r]=ru(o,s,i):t[r]=s}return t},Gl=(t,e,i)=>{const n=t.slice();return e.forEach((r,s)=>{const o=n[s];Array.isArray(r)&&Array.isArray(o)?n[s]=Gl(o,r,i):Ys(r)&&Ys(o)?n[s]=ru(o,r,i):n[s]=r}),n},k="md-editor",v1="MdEditor",xe="https://unpkg.com",S1=`${xe}/@highlightjs/cdn-assets@11.10.0/highlight.min.js`,gc={main:`${xe}/prettier@3.3.3/standalone.js`,markdown:`${xe}/prettier@3.3.3/plugins/markdown.js`},w1={css:`${xe}/cropperjs@1.6.2/dist/cropper.min.css`,js:`${xe}/cropperjs@1.6.2/dist/cropper.min.js`},Q1=`${xe}/screenfull@5.2.0/dist/screenfull.js`,$1=`${xe}/mermaid@11.9.0/dist/mermaid.min.js`,_1={js:`${xe}/katex@0.16.22/dist/katex.min.js`,css:`${xe}/katex@0.16.22/dist/katex.min.css`},Ul={a11y:{light:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/a11y-light.min.css`,dark:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/a11y-dark.min.css`},atom:{light:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/atom-one-light.min.css`,dark:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/atom-one-dark.min.css`},github:{light:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/github.min.css`,dark:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/github-dark.min.css`},gradient:{light:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/gradient-light.min.css`,dark:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/gradient-dark.min.css`},kimbie:{light:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/kimbie-light.min.css`,dark:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/kimbie-dark.min.css`},paraiso:{light:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/paraiso-light.min.css`,dark:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/paraiso-dark.min.css`},qtcreator:{light:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/qtcreator-light.min.css`,dark:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/qtcreator-dark.min.css`},stackoverflow:{light:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/stackoverflow-light.min.css`,dark:`${xe}/@highlightjs/cdn-assets@11.10.0/styles/stackoverflow-dark.min.css`}},P1=`${xe}/echarts@6.0.0/dist/echarts.min.js`,Ud=["bold","underline","italic","strikeThrough","-","title","sub","sup","quote","unorderedList","orderedList","task","-","codeRow","code","link","image","table","mermaid","katex","-","revoke","next","save","=","prettier","pageFullscreen","fullscreen","preview","previewOnly","htmlPreview","catalog","github"],Hd=["markdownTotal","=","scrollSwitch"],bc={"zh-CN":{toolbarTips:{bold:"加粗",underline:"下划线",italic:"斜体",strikeThrough:"删除线",title:"标题",sub:"下标",sup:"上标",quote:"引用",unorderedList:"无序列表",orderedList:"有序列表",task:"任务列表",codeRow:"行内代码",code:"块级代码",link:"链接",image:"图片",table:"表格",mermaid:"mermaid图",katex:"katex公式",revoke:"后退",next:"前进",save:"保存",prettier:"美化",pageFullscreen:"浏览器全屏",fullscreen:"屏幕全屏",preview:"预览",previewOnly:"仅预览",htmlPreview:"html代码预览",catalog:"目录",github:"源码地址"},titleItem:{h1:"一级标题",h2:"二级标题",h3:"三级标题",h4:"四级标题",h5:"五级标题",h6:"六级标题"},imgTitleItem:{link:"添加链接",upload:"上传图片",clip2upload:"裁剪上传"},linkModalTips:{linkTitle:"添加链接",imageTitle:"添加图片",descLabel:"链接描述：",descLabelPlaceHolder:"请输入描述...",urlLabel:"链接地址：",urlLabelPlaceHolder:"请输入链接...",buttonOK:"确定"},clipModalTips:{title:"裁剪图片上传",buttonUpload:"上传"},copyCode:{text:"复制代码",successTips:"已复制！",failTips:"复制失败！"},mermaid:{flow:"流程图",sequence:"时序图",gantt:"甘特图",class:"类图",state:"状态图",pie:"饼图",relationship:"关系图",journey:"旅程图"},katex:{inline:"行内公式",block:"块级公式"},footer:{markdownTotal:"字数",scrollAuto:"同步滚动"}},"en-US":{toolbarTips:{bold:"bold",underline:"underline",italic:"italic",strikeThrough:"strikeThrough",title:"title",sub:"subscript",sup:"superscript",quote:"quote",unorderedList:"unordered list",orderedList:"ordered list",task:"task list",codeRow:"inline code",code:"block-level code",link:"link",image:"image",table:"table",mermaid:"mermaid",katex:"formula",revoke:"revoke",next:"undo revoke",save:"save",prettier:"prettier",pageFullscreen:"fullscreen in page",fullscreen:"fullscreen",preview:"preview",previewOnly:"preview only",htmlPreview:"html preview",catalog:"catalog",github:"source code"},titleItem:{h1:"Lv1 Heading",h2:"Lv2 Heading",h3:"Lv3 Heading",h4:"Lv4 Heading",h5:"Lv5 Heading",h6:"Lv6 Heading"},imgTitleItem:{link:"Add Image Link",upload:"Upload Images",clip2upload:"Crop And Upload"},linkModalTips:{linkTitle:"Add Link",imageTitle:"Add Image",descLabel:"Desc:",descLabelPlaceHolder:"Enter a description...",urlLabel:"Link:",urlLabelPlaceHolder:"Enter a link...",buttonOK:"OK"},clipModalTips:{title:"Crop Image",buttonUpload:"Upload"},copyCode:{text:"Copy",successTips:"Copied!",failTips:"Copy failed!"},mermaid:{flow:"flow",sequence:"sequence",gantt:"gantt",class:"class",state:"state",pie:"pie",relationship:"relationship",journey:"journey"},katex:{inline:"inline",block:"block"},footer:{markdownTotal:"Character Count",scrollAuto:"Scroll Auto"}}},Ee={editorExtensions:{highlight:{js:S1,css:Ul},prettier:{standaloneJs:gc.main,parserMarkdownJs:gc.markdown},cropper:{...w1},screenfull:{js:Q1},mermaid:{js:$1,enableZoom:!0},katex:{..._1},echarts:{js:P1}},editorExtensionsAttrs:{},editorConfig:{languageUserDefined:{},mermaidTemplate:{},renderDelay:500,zIndex:2e4},codeMirrorExtensions:t=>t,markdownItConfig:()=>{},markdownItPlugins:t=>t,mermaidConfig:t=>t,katexConfig:t=>t,echartsConfig:t=>t},Hr=.1,Ge=({instance:t,ctx:e,props:i={}},n="default")=>{const r=t?.$slots[n]||e?.slots[n];return(r?r(t):"")||i[n]},C1={overlay:{type:[String,Object],default:""},visible:{type:Boolean,default:!1},onChange:{type:Function,default:()=>{}},relative:{type:String,default:"html"},disabled:{type:Boolean,default:void 0}},Qn=H({name:`${k}-dropdown`,props:C1,setup(t,e){const i=`${k}-dropdown-hidden`,n=yt({overlayClass:[i],overlayStyle:{},triggerHover:!1,overlayHover:!1}),r=ie(),s=ie(),o=()=>{if(t.disabled)return!1;n.triggerHover=!0;const c=r.value,h=s.value;if(!c||!h)return;const f=c.getBoundingClientRect(),d=c.offsetTop,p=c.offsetLeft,m=f.height,O=f.width,g=c.getRootNode(),b=g.querySelector(t.relative)?.scrollLeft||0,S=g.querySelector(t.relative)?.clientWidth||0;let x=p-h.offsetWidth/2+O/2-b;x+h.offsetWidth>b+S&&(x=b+S-h.offsetWidth),x<0&&(x=0),n.overlayStyle={...n.overlayStyle,top:d+m+"px",left:x+"px"},t.onChange(!0)},l=()=>{if(t.disabled)return!1;n.overlayHover=!0};ee(()=>t.visible,c=>{c?n.overlayClass=n.overlayClass.filter(h=>h!==i):n.overlayClass.push(i)});let a=-1;const u=c=>{r.value===c.target?n.triggerHover=!1:n.overlayHover=!1,clearTimeout(a),a=window.setTimeout(()=>{!n.overlayHover&&!n.triggerHover&&t.onChange(!1)},10)};return we(()=>{r.value.addEventListener("mouseenter",o),r.value.addEventListener("mouseleave",u),s.value.addEventListener("mouseenter",l),s.value.addEventListener("mouseleave",u)}),ni(()=>{r.value.removeEventListener("mouseenter",o),r.value.removeEventListener("mouseleave",u),s.value.removeEventListener("mouseenter",l),s.value.removeEventListener("mouseleave",u)}),()=>{const c=Ge({ctx:e}),h=Ge({props:t,ctx:e},"overlay"),f=cr(c instanceof Array?c[0]:c,{ref:r,key:"cloned-dropdown-trigger"}),d=w("div",{class:[`${k}-dropdown`,n.overlayClass],style:n.overlayStyle,ref:s},[w("div",{class:`${k}-dropdown-overlay`},[h instanceof Array?h[0]:h])]);return[f,d]}}}),T1={title:{type:String,default:""},visible:{type:Boolean,default:void 0},trigger:{type:[String,Object],default:void 0},onChange:{type:Function,default:void 0},overlay:{type:[String,Object],default:void 0},insert:{type:Function,default:void 0},language:{type:String,default:void 0},theme:{type:String,default:void 0},previewTheme:{type:String,default:void 0},codeTheme:{type:String,default:void 0},disabled:{type:Boolean,default:void 0},showToolbarName:{type:Boolean,default:void 0}},Ps=H({name:"DropdownToolbar",props:T1,emits:["onChange"],setup(t,e){const i=Q("editorId"),n=r=>{t.onChange?.(r),e.emit("onChange",r)};return()=>{const r=Ge({props:t,ctx:e},"trigger"),s=Ge({props:t,ctx:e},"overlay"),o=Ge({props:t,ctx:e});return w(Qn,{relative:`#${i}-toolbar-wrapper`,visible:t.visible,onChange:n,overlay:s,disabled:t.disabled},{default:()=>[w("button",{class:[`${k}-toolbar-item`,t.disabled&&`${k}-disabled`],title:t.title||"",disabled:t.disabled,type:"button"},[o||r])]})}}});Ps.install=t=>(t.component(Ps.name,Ps),t);const _o="onSave",su="changeCatalogVisible",Kd="changeFullscreen",xc="pageFullscreenChanged",yc="fullscreenChanged",kc="previewChanged",vc="previewOnlyChanged",Sc="htmlPreviewChanged",wc="catalogVisibleChanged",Cs="buildFinished",Yt="errorCatcher",J="replace",Po="uploadImage",Jd="ctrlZ",ep="ctrlShiftZ",Kn="catalogChanged",tp="pushCatalog",ou="rerender",ip="eventListener",np="taskStateChanged",rp="sendEditorView",Ns="getEditorView";class A1{pools={};remove(e,i,n){const r=this.pools[e]&&this.pools[e][i];r&&(this.pools[e][i]=r.filter(s=>s!==n))}clear(e){this.pools[e]={}}on(e,i){return this.pools[e]||(this.pools[e]={}),this.pools[e][i.name]||(this.pools[e][i.name]=[]),this.pools[e][i.name].push(i.callback),this.pools[e][i.name].includes(i.callback)}emit(e,i,...n){this.pools[e]||(this.pools[e]={});const r=this.pools[e][i];r&&r.forEach(s=>{try{s(...n)}catch(o){console.error(`${i} monitor event exception！`,o)}})}}const R=new A1,E1=(t,e="image.png")=>{const i=t.split(","),n=i[0].match(/:(.*?);/);if(n){const r=n[1],s=atob(i[1]);let o=s.length;const l=new Uint8Array(o);for(;o--;)l[o]=s.charCodeAt(o);return new File([l],e,{type:r})}return null},D1=(t,e)=>{if(!t)return t;const i=e.split(`
+`),n=['<span rn-wrapper aria-hidden="true">'];return i.forEach(()=>{n.push("<span></span>")}),n.push("</span>"),`<span class="${k}-code-block">${t}</span>${n.join("")}`},M1=(t,e)=>{if(!t||!e)return 0;const i=t?.getBoundingClientRect();if(e===document.documentElement)return i.top-e.clientTop;const n=e?.getBoundingClientRect();return i.top-n.top},Qc=(()=>{let t=0;return()=>++t})(),R1=`.${k}-preview > [data-line]`,Ui=(t,e)=>+getComputedStyle(t).getPropertyValue(e).replace("px",""),L1=(t,e)=>{const i=Gd(()=>{t.removeEventListener("scroll",n),t.addEventListener("scroll",n),e.removeEventListener("scroll",n),e.addEventListener("scroll",n)},50),n=r=>{const s=t.clientHeight,o=e.clientHeight,l=t.scrollHeight,a=e.scrollHeight,u=(l-s)/(a-o);r.target===t?(e.removeEventListener("scroll",n),e.scrollTo({top:t.scrollTop/u}),i()):(t.removeEventListener("scroll",n),t.scrollTo({top:e.scrollTop*u}),i())};return[()=>{i().finally(()=>{t.dispatchEvent(new Event("scroll"))})},()=>{t.removeEventListener("scroll",n),e.removeEventListener("scroll",n)}]},Z1=(t,e,i)=>{const{view:n}=i,r=nu(),s=g=>n.lineBlockAt(n.state.doc.line(g+1).from).top,o=g=>n.lineBlockAt(n.state.doc.line(g+1).from).bottom;let l=[],a=[],u=[];const c=()=>{l=[],a=Array.from(e.querySelectorAll(R1)),u=a.map(y=>Number(y.dataset.line));const g=[...u],{lines:b}=n.state.doc;let S=g.shift()||0,x=g.shift()||b;for(let y=0;y<b;y++)y===x&&(S=y,x=g.shift()||b),l.push({start:S,end:x-1})},h=(g,b)=>{let S=1;for(let x=a.length-1;x-1>=0;x--){const y=a[x],$=a[x-1];if(y.offsetTop+y.offsetHeight>b&&$.offsetTop<b){S=Number($.dataset.line);break}}for(let x=l.length-1;x>=0;x--){const y=o(l[x].end),$=s(l[x].start);if(y>g&&$<=g){S=S<l[x].start?S:l[x].start;break}}return S};let f=0,d=0;const p=()=>{if(d!==0)return!1;f++;const{scrollDOM:g,contentHeight:b}=n;let S=Ui(e,"padding-top");const x=n.lineBlockAtHeight(g.scrollTop),{number:y}=n.state.doc.lineAt(x.from),$=l[y-1];if(!$)return!1;let _=1;const P=e.querySelector(`[data-line="${$.start}"]`)||e.firstElementChild?.firstElementChild,A=e.querySelector(`[data-line="${$.end+1}"]`)||e.lastElementChild?.lastElementChild,z=g.scrollHeight-g.clientHeight,V=e.scrollHeight-e.clientHeight;let E=s($.start),X=o($.end),q=P.offsetTop,B=A.offsetTop-q;E===0&&(q=0,P===A?(S=0,X=b-g.offsetHeight,B=V):B=A.offsetTop),_=(g.scrollTop-E)/(X-E);const D=A==e.lastElementChild?.lastElementChild?A.offsetTop+A.clientHeight:A.offsetTop;if(X>=z||D>V){const Z=h(z,V);E=s(Z),_=(g.scrollTop-E)/(z-E);const I=e.querySelector(`[data-line="${Z}"]`);E>0&&I&&(q=I.offsetTop),B=V-q+Ui(e,"padding-top")}const F=q-S+B*_;r(e,F,()=>{f--})},m=()=>{if(f!==0)return;d++;const{scrollDOM:g}=n,b=e.scrollTop,S=e.scrollHeight,x=g.scrollHeight-g.clientHeight,y=e.scrollHeight-e.clientHeight;let $=e.firstElementChild?.firstElementChild,_=e.firstElementChild?.lastElementChild;if(u.length>0){let D=Math.ceil(u[u.length-1]*(b/S)),F=u.findLastIndex(Z=>Z<=D);F=F===-1?0:F,D=u[F];for(let Z=F;Z>=0&&Z<u.length;)if(a[Z].offsetTop>b){if(Z-1>=0){Z--;continue}D=-1,F=Z;break}else{if(Z+1<u.length&&a[Z+1].offsetTop<b){Z++;continue}D=u[Z],F=Z;break}switch(F){case-1:{$=e.firstElementChild?.firstElementChild,_=a[F];break}case u.length-1:{$=a[F],_=e.firstElementChild?.lastElementChild;break}default:$=a[F],_=a[F+1===a.length?F:F+1]}}let P=$===e.firstElementChild?.firstElementChild?0:$.offsetTop-Ui($,"margin-top"),A=_.offsetTop,z=0;const{start:V,end:E}=l[Number($.dataset.line||0)];let X=s(V);const q=s(E+1===n.state.doc.lines?E:E+1);let B=0;if(q>x||_.offsetTop+_.offsetHeight>y){const D=h(x,y),F=e.querySelector(`[data-line="${D}"]`);P=F?F.offsetTop-Ui(F,"margin-top"):P,X=s(D),z=(b-P)/(y-P),B=x-X}else $===e.firstElementChild?.firstElementChild?($===_&&(A=_.offsetTop+_.offsetHeight+ +getComputedStyle(_).marginBottom.replace("px","")),B=q,z=Math.max(b/A,0)):(z=Math.max((b-P)/(A-P),0),B=q-X);r(t,X+B*z,()=>{d--})},O=g=>{const{scrollDOM:b,contentHeight:S}=n,x=b.clientHeight;if(S<=x||e.firstElementChild.clientHeight<=e.clientHeight||n.state.doc.lines<=l[l.length-1]?.end)return!1;g.target===t?p():m()};return[()=>{c(),t.addEventListener("scroll",O),e.addEventListener("scroll",O),t.dispatchEvent(new Event("scroll"))},()=>{t.removeEventListener("scroll",O),e.removeEventListener("scroll",O)}]},I1={tocItem:{type:Object,default:()=>({})},mdHeadingId:{type:Function,default:()=>{}},onActive:{type:Function,default:()=>{}},onClick:{type:Function,default:()=>{}},scrollElementOffsetTop:{type:Number,default:0}},sp=H({props:I1,setup(t){const e=Q("scrollElementRef"),i=Q("roorNodeRef"),n=ie();ee(()=>t.tocItem.active,s=>{s&&t.onActive(t.tocItem,n.value)}),we(()=>{t.tocItem.active&&t.onActive(t.tocItem,n.value)});const r=s=>{if(s.stopPropagation(),t.onClick(s,t.tocItem),s.defaultPrevented)return;const o=t.mdHeadingId({text:t.tocItem.text,level:t.tocItem.level,index:t.tocItem.index,currentToken:t.tocItem.currentToken,nextToken:t.tocItem.nextToken}),l=i.value.getElementById(o),a=e.value;if(l&&a){let u=l.offsetParent,c=l.offsetTop;if(a.contains(u))for(;u&&a!=u;)c+=u?.offsetTop,u=u?.offsetParent;const h=l.previousElementSibling;let f=0;h||(f=Ui(l,"margin-top")),a?.scrollTo({top:c-t.scrollElementOffsetTop-f,behavior:"smooth"})}};return()=>w("div",{ref:n,class:[`${k}-catalog-link`,t.tocItem.active&&`${k}-catalog-active`],onClick:r},[w("span",{title:t.tocItem.text},[t.tocItem.text]),t.tocItem.children&&t.tocItem.children.length>0&&w("div",{class:`${k}-catalog-wrapper`},[t.tocItem.children.map(s=>w(sp,{mdHeadingId:t.mdHeadingId,key:`${t.tocItem.text}-link-${s.level}-${s.text}`,tocItem:s,onActive:t.onActive,onClick:t.onClick,scrollElementOffsetTop:t.scrollElementOffsetTop},null))])])}}),z1={editorId:{type:String,default:void 0},class:{type:String,default:""},mdHeadingId:{type:Function,default:({text:t})=>t},scrollElement:{type:[String,Object],default:void 0},theme:{type:String,default:"light"},offsetTop:{type:Number,default:20},scrollElementOffsetTop:{type:Number,default:0},onClick:{type:Function,default:void 0},onActive:{type:Function,default:void 0},isScrollElementInShadow:{type:Boolean,default:!1},syncWith:{type:String,default:"preview"},catalogMaxDepth:{type:Number,default:void 0}},Jn=H({name:"MdCatalog",props:z1,emits:["onClick","onActive"],setup(t,e){const i=t.editorId,n=`#${i}-preview-wrapper`,r=yt({list:[],show:!1,scrollElement:t.scrollElement||n}),s=yi(),o=ie(),l=ie(),a=ie(),u=ie(),c=yi(),h=ie({});$e("scrollElementRef",l),$e("roorNodeRef",u);const f=fe(()=>{const x=[];return r.list.forEach((y,$)=>{if(t.catalogMaxDepth&&y.level>t.catalogMaxDepth)return;const{text:_,level:P,line:A}=y,z={level:P,text:_,line:A,index:$+1,active:s.value===y};if(x.length===0)x.push(z);else{let V=x[x.length-1];if(z.level>V.level)for(let E=V.level+1;E<=6;E++){const{children:X}=V;if(!X){V.children=[z];break}if(V=X[X.length-1],z.level<=V.level){X.push(z);break}}else x.push(z)}}),x}),d=()=>{if(r.scrollElement instanceof HTMLElement)return r.scrollElement;let x=document;return(r.scrollElement===n||t.isScrollElementInShadow)&&(x=o.value?.getRootNode()),x.querySelector(r.scrollElement)},p=x=>{if(x.length===0)return s.value=void 0,r.list=[],!1;const{activeHead:y,activeIndex:$}=x.reduce((A,z,V)=>{let E=0;if(t.syncWith==="preview"){const X=u.value?.getElementById(t.mdHeadingId({text:z.text,level:z.level,index:V+1,currentToken:z.currentToken,nextToken:z.nextToken}));X instanceof HTMLElement&&(E=M1(X,l.value))}else{const X=c.value;if(X){const q=X.lineBlockAt(X.state.doc.line(z.line+1).from).top,B=X.scrollDOM.scrollTop;E=q-B}}return E<t.offsetTop&&E>A.minTop?{activeHead:z,activeIndex:V,minTop:E}:A},{activeHead:x[0],activeIndex:0,minTop:Number.MIN_SAFE_INTEGER});let _=y;const{catalogMaxDepth:P}=t;if(P&&_.level>P){for(let A=$;A>=0;A--){const z=x[A];if(z.level<=P){_=z;break}}if(_.level>P){const A=x.find(z=>z.level<=P);A&&(_=A)}}s.value=_,r.list=x},m=(x,y)=>{h.value.top=y.offsetTop+Ui(y,"padding-top")+"px",t.onActive?.(x,y),e.emit("onActive",x,y)},O=()=>{p(r.list)},g=x=>{if(a.value?.removeEventListener("scroll",O),t.syncWith==="editor")a.value=c.value?.scrollDOM;else{const y=d();l.value=y,a.value=y===document.documentElement?document:y}p(x),a.value?.addEventListener("scroll",O)},b=x=>{c.value=x};ee([()=>t.syncWith,c,()=>t.catalogMaxDepth],()=>{g(r.list)}),we(()=>{u.value=o.value.getRootNode(),R.on(i,{name:Kn,callback:g}),R.on(i,{name:Ns,callback:b}),R.emit(i,tp),R.emit(i,rp)}),ni(()=>{R.remove(i,Kn,g),R.remove(i,Ns,b),a.value?.removeEventListener("scroll",O)});const S=(x,y)=>{t.onClick?.(x,y),e.emit("onClick",x,y)};return()=>w("div",{class:[`${k}-catalog`,t.theme==="dark"&&`${k}-catalog-dark`,t.class||""],ref:o},[f.value.length>0&&w(Rr,null,[w("div",{class:`${k}-catalog-indicator`,style:h.value},null),w("div",{class:`${k}-catalog-container`},[f.value.map(x=>w(sp,{mdHeadingId:t.mdHeadingId,tocItem:x,key:`link-${x.level}-${x.text}`,onActive:m,onClick:S,scrollElementOffsetTop:t.scrollElementOffsetTop},null))])])])}});Jn.install=t=>(t.component(Jn.name,Jn),t);async function op(t){if(typeof t=="string"){if(window.isSecureContext&&navigator.clipboard)return await navigator.clipboard.writeText(t);{const e=document.createElement("textarea");let i=!1;if(e.value=t,e.style.position="fixed",e.style.opacity=0,e.style.zIndex="-10000",e.style.top="-10000",document.body.appendChild(e),e.select(),i=document.execCommand("copy"),document.body.removeChild(e),i)return;throw new Error('Failed to copy content via "execCommand"!')}}}const X1={copy:`<svg xmlns="http://www.w3.org/2000/svg" width="24" height="24" viewBox="0 0 24 24" fill="none" stroke="currentColor" stroke-width="2" stroke-linecap="round" stroke-linejoin="round" class="lucide lucide-copy ${k}-icon"><rect width="14" height="14" x="8" y="8" rx="2" ry="2"/><path d="M4 16c-1.1 0-2-.9-2-2V4c0-1.1.9-2 2-2h10c1.1 0 2 .9 2 2"/></svg>`,"collapse-tips":`<svg xmlns="http://www.w3.org/2000/svg" width="24" height="24" viewBox="0 0 24 24" fill="none" stroke="currentColor" stroke-width="2" stroke-linecap="round" stroke-linejoin="round" class="lucide lucide-circle-chevron-left ${k}-icon"><circle cx="12" cy="12" r="10"/><path d="m14 16-4-4 4-4"/></svg>`,pin:`<svg xmlns="http://www.w3.org/2000/svg" width="24" height="24" viewBox="0 0 24 24" fill="none" stroke="currentColor" stroke-width="2" stroke-linecap="round" stroke-linejoin="round" class="lucide lucide-pin ${k}-icon"><path d="M12 17v5"/><path d="M9 10.76a2 2 0 0 1-1.11 1.79l-1.78.9A2 2 0 0 0 5 15.24V16a1 1 0 0 0 1 1h12a1 1 0 0 0 1-1v-.76a2 2 0 0 0-1.11-1.79l-1.78-.9A2 2 0 0 1 15 10.76V7a1 1 0 0 1 1-1 2 2 0 0 0 0-4H8a2 2 0 0 0 0 4 1 1 0 0 1 1 1z"/></svg>`,"pin-off":`<svg xmlns="http://www.w3.org/2000/svg" width="24" height="24" viewBox="0 0 24 24" fill="none" stroke="currentColor" stroke-width="2" stroke-linecap="round" stroke-linejoin="round" class="lucide lucide-pin-off ${k}-icon"><path d="M12 17v5"/><path d="M15 9.34V7a1 1 0 0 1 1-1 2 2 0 0 0 0-4H7.89"/><path d="m2 2 20 20"/><path d="M9 9v1.76a2 2 0 0 1-1.11 1.79l-1.78.9A2 2 0 0 0 5 15.24V16a1 1 0 0 0 1 1h11"/></svg>`,check:`<svg xmlns="http://www.w3.org/2000/svg" width="24" height="24" viewBox="0 0 24 24" fill="none" stroke="currentColor" stroke-width="2" stroke-linecap="round" stroke-linejoin="round" class="lucide lucide-check ${k}-icon"><path d="M20 6 9 17l-5-5"/></svg>`},Zt=(t,e)=>typeof e[t]=="string"?e[t]:X1[t],$c=(t,e)=>{const i=n=>{const r=t.parentElement||document.body,s=r.offsetWidth,o=r.offsetHeight,{clientWidth:l,clientHeight:a}=document.documentElement,u=n.offsetX,c=n.offsetY,h=d=>{let p=d.x+document.body.scrollLeft-document.body.clientLeft-u,m=d.y+document.body.scrollTop-document.body.clientTop-c;p=p<1?1:p<l-s-1?p:l-s-1,m=m<1?1:m<a-o-1?m:a-o-1,e?e(p,m):(r.style.left=`${p}px`,r.style.top=`${m}px`)};document.addEventListener("mousemove",h);const f=()=>{document.removeEventListener("mousemove",h),document.removeEventListener("mouseup",f)};document.addEventListener("mouseup",f)};return t.addEventListener("mousedown",i),()=>{t.removeEventListener("mousedown",i)}},ut=(t,e,i="")=>{const n=document.getElementById(e.id);if(n)i!==""&&(Reflect.get(window,i)?e.onload?.call(n,new Event("load")):e.onload&&n.addEventListener("load",e.onload));else{const r={...e};r.onload=null;const s=F1(t,r);e.onload&&s.addEventListener("load",e.onload),document.head.appendChild(s)}},V1=(t,e)=>{document.getElementById(e.id)?.remove(),ut(t,e)},F1=(t,e)=>{const i=document.createElement(t);return Object.keys(e).forEach(n=>{e[n]!==void 0&&(i[n]=e[n])}),i},B1=(t,e)=>{const i=new Map;return t?.forEach(n=>{let r=n.querySelector(`.${k}-mermaid-action`);r?r.querySelector(`.${k}-mermaid-copy`)||r.insertAdjacentHTML("beforeend",`<span class="${k}-mermaid-copy">${Zt("copy",e.customIcon)}</span>`):(n.insertAdjacentHTML("beforeend",`<div class="${k}-mermaid-action"><span class="${k}-mermaid-copy">${Zt("copy",e.customIcon)}</span></div>`),r=n.querySelector(`.${k}-mermaid-action`));const s=r.querySelector(`.${k}-mermaid-copy`);let o=-1;const l=()=>{clearTimeout(o),op(n.dataset.content||"").then(()=>{s.innerHTML=Zt("check",e.customIcon)}).catch(()=>{s.innerHTML=Zt("copy",e.customIcon)}).finally(()=>{o=window.setTimeout(()=>{s.innerHTML=Zt("copy",e.customIcon)},1500)})};s.addEventListener("click",l),i.set(n,{removeClick:()=>{s.removeEventListener("click",l)}})}),()=>{i.forEach(({removeClick:n})=>{n?.()}),i.clear()}},q1=(()=>{const t=e=>{if(!e)return()=>{};const i=e.firstChild;let n=1,r=0,s=0,o=!1,l,a,u,c=1;const h=()=>{i.style.transform=`translate(${r}px, ${s}px) scale(${n})`},f=x=>{x.touches.length===1?(o=!0,l=x.touches[0].clientX-r,a=x.touches[0].clientY-s):x.touches.length===2&&(u=Math.hypot(x.touches[0].clientX-x.touches[1].clientX,x.touches[0].clientY-x.touches[1].clientY),c=n)},d=x=>{if(x.preventDefault(),o&&x.touches.length===1)r=x.touches[0].clientX-l,s=x.touches[0].clientY-a,h();else if(x.touches.length===2){const y=Math.hypot(x.touches[0].clientX-x.touches[1].clientX,x.touches[0].clientY-x.touches[1].clientY)/u,$=n;n=c*(1+(y-1));const _=(x.touches[0].clientX+x.touches[1].clientX)/2,P=(x.touches[0].clientY+x.touches[1].clientY)/2,A=i.getBoundingClientRect(),z=(_-A.left)/$,V=(P-A.top)/$;r-=z*(n-$),s-=V*(n-$),h()}},p=()=>{o=!1},m=x=>{x.preventDefault();const y=.02,$=n;x.deltaY<0?n+=y:n=Math.max(.1,n-y);const _=i.getBoundingClientRect(),P=x.clientX-_.left,A=x.clientY-_.top;r-=P/$*(n-$),s-=A/$*(n-$),h()},O=x=>{o=!0,l=x.clientX-r,a=x.clientY-s},g=x=>{o&&(r=x.clientX-l,s=x.clientY-a,h())},b=()=>{o=!1},S=()=>{o=!1};return e.addEventListener("touchstart",f,{passive:!1}),e.addEventListener("touchmove",d,{passive:!1}),e.addEventListener("touchend",p),e.addEventListener("wheel",m,{passive:!1}),e.addEventListener("mousedown",O),e.addEventListener("mousemove",g),e.addEventListener("mouseup",b),e.addEventListener("mouseleave",S),()=>{e.removeEventListener("touchstart",f),e.removeEventListener("touchmove",d),e.removeEventListener("touchend",p),e.removeEventListener("wheel",m),e.removeEventListener("mousedown",O),e.removeEventListener("mousemove",g),e.removeEventListener("mouseup",b),e.removeEventListener("mouseleave",S)}};return(e,i)=>{const n=new Map;return e?.forEach(r=>{let s=r.querySelector(`.${k}-mermaid-action`);s?s.querySelector(`.${k}-mermaid-zoom`)||s.insertAdjacentHTML("beforeend",`<span class="${k}-mermaid-zoom">${Zt("pin-off",i.customIcon)}</span>`):(r.insertAdjacentHTML("beforeend",`<div class="${k}-mermaid-action"><span class="${k}-mermaid-zoom">${Zt("pin-off",i.customIcon)}</span></div>`),s=r.querySelector(`.${k}-mermaid-action`));const o=s.querySelector(`.${k}-mermaid-zoom`),l=()=>{const a=n.get(r);if(a?.removeEvent)a.removeEvent(),r.removeAttribute("data-grab"),n.set(r,{removeClick:a.removeClick}),o.innerHTML=Zt("pin-off",i.customIcon);else{const u=t(r);r.setAttribute("data-grab",""),n.set(r,{removeEvent:u,removeClick:a?.removeClick}),o.innerHTML=Zt("pin",i.customIcon)}};o.addEventListener("click",l),n.set(r,{removeClick:()=>o.removeEventListener("click",l)})}),()=>{n.forEach(({removeEvent:r,removeClick:s})=>{r?.(),s?.()}),n.clear()}}})(),_c={};function j1(t){let e=_c[t];if(e)return e;e=_c[t]=[];for(let i=0;i<128;i++){const n=String.fromCharCode(i);e.push(n)}for(let i=0;i<t.length;i++){const n=t.charCodeAt(i);e[n]="%"+("0"+n.toString(16).toUpperCase()).slice(-2)}return e}function un(t,e){typeof e!="string"&&(e=un.defaultChars);const i=j1(e);return t.replace(/(%[a-f0-9]{2})+/gi,function(n){let r="";for(let s=0,o=n.length;s<o;s+=3){const l=parseInt(n.slice(s+1,s+3),16);if(l<128){r+=i[l];continue}if((l&224)===192&&s+3<o){const a=parseInt(n.slice(s+4,s+6),16);if((a&192)===128){const u=l<<6&1984|a&63;u<128?r+="��":r+=String.fromCharCode(u),s+=3;continue}}if((l&240)===224&&s+6<o){const a=parseInt(n.slice(s+4,s+6),16),u=parseInt(n.slice(s+7,s+9),16);if((a&192)===128&&(u&192)===128){const c=l<<12&61440|a<<6&4032|u&63;c<2048||c>=55296&&c<=57343?r+="���":r+=String.fromCharCode(c),s+=6;continue}}if((l&248)===240&&s+9<o){const a=parseInt(n.slice(s+4,s+6),16),u=parseInt(n.slice(s+7,s+9),16),c=parseInt(n.slice(s+10,s+12),16);if((a&192)===128&&(u&192)===128&&(c&192)===128){let h=l<<18&1835008|a<<12&258048|u<<6&4032|c&63;h<65536||h>1114111?r+="����":(h-=65536,r+=String.fromCharCode(55296+(h>>10),56320+(h&1023))),s+=9;continue}}r+="�"}return r})}un.defaultChars=";/?:@&=+$,#";un.componentChars="";const Pc={};function Y1(t){let e=Pc[t];if(e)return e;e=Pc[t]=[];for(let i=0;i<128;i++){const n=String.fromCharCode(i);/^[0-9a-z]$/i.test(n)?e.push(n):e.push("%"+("0"+i.toString(16).toUpperCase()).slice(-2))}for(let i=0;i<t.length;i++)e[t.charCodeAt(i)]=t[i];return e}function Lr(t,e,i){typeof e!="string"&&(i=e,e=Lr.defaultChars),typeof i>"u"&&(i=!0);const n=Y1(e);let r="";for(let s=0,o=t.length;s<o;s++){const l=t.charCodeAt(s);if(i&&l===37&&s+2<o&&/^[0-9a-f]{2}$/i.test(t.slice(s+1,s+3))){r+=t.slice(s,s+3),s+=2;continue}if(l<128){r+=n[l];continue}if(l>=55296&&l<=57343){if(l>=55296&&l<=56319&&s+1<o){const a=t.charCodeAt(s+1);if(a>=56320&&a<=57343){r+=encodeURIComponent(t[s]+t[s+1]),s++;continue}}r+="%EF%BF%BD";continue}r+=encodeURIComponent(t[s])}return r}Lr.defaultChars=";/?:@&=+$,-_.!~*'()#";Lr.componentChars="-_.!~*'()";function lu(t){let e="";return e+=t.protocol||"",e+=t.slashes?"//":"",e+=t.auth?t.auth+"@":"",t.hostname&&t.hostname.indexOf(":")!==-1?e+="["+t.hostname+"]":e+=t.hostname||"",e+=t.port?":"+t.port:"",e+=t.pathname||"",e+=t.search||"",e+=t.hash||"",e}function Ws(){this.protocol=null,this.slashes=null,this.auth=null,this.port=null,this.hostname=null,this.hash=null,this.search=null,this.pathname=null}const N1=/^([a-z0-9.+-]+:)/i,W1=/:[0-9]*$/,G1=/^(\/\/?(?!\/)[^\?\s]*)(\?[^\s]*)?$/,U1=["<",">",'"',"`"," ","\r",`
+`,"	"],H1=["{","}","|","\\","^","`"].concat(U1),K1=["'"].concat(H1),Cc=["%","/","?",";","#"].concat(K1),Tc=["/","?","#"],J1=255,Ac=/^[+a-z0-9A-Z_-]{0,63}$/,eb=/^([+a-z0-9A-Z_-]{0,63})(.*)$/,Ec={javascript:!0,"javascript:":!0},Dc={http:!0,https:!0,ftp:!0,gopher:!0,file:!0,"http:":!0,"https:":!0,"ftp:":!0,"gopher:":!0,"file:":!0};function au(t,e){if(t&&t instanceof Ws)return t;const i=new Ws;return i.parse(t,e),i}Ws.prototype.parse=function(t,e){let i,n,r,s=t;if(s=s.trim(),!e&&t.split("#").length===1){const u=G1.exec(s);if(u)return this.pathname=u[1],u[2]&&(this.search=u[2]),this}let o=N1.exec(s);if(o&&(o=o[0],i=o.toLowerCase(),this.protocol=o,s=s.substr(o.length)),(e||o||s.match(/^\/\/[^@\/]+@[^@\/]+/))&&(r=s.substr(0,2)==="//",r&&!(o&&Ec[o])&&(s=s.substr(2),this.slashes=!0)),!Ec[o]&&(r||o&&!Dc[o])){let u=-1;for(let p=0;p<Tc.length;p++)n=s.indexOf(Tc[p]),n!==-1&&(u===-1||n<u)&&(u=n);let c,h;u===-1?h=s.lastIndexOf("@"):h=s.lastIndexOf("@",u),h!==-1&&(c=s.slice(0,h),s=s.slice(h+1),this.auth=c),u=-1;for(let p=0;p<Cc.length;p++)n=s.indexOf(Cc[p]),n!==-1&&(u===-1||n<u)&&(u=n);u===-1&&(u=s.length),s[u-1]===":"&&u--;const f=s.slice(0,u);s=s.slice(u),this.parseHost(f),this.hostname=this.hostname||"";const d=this.hostname[0]==="["&&this.hostname[this.hostname.length-1]==="]";if(!d){const p=this.hostname.split(/\./);for(let m=0,O=p.length;m<O;m++){const g=p[m];if(g&&!g.match(Ac)){let b="";for(let S=0,x=g.length;S<x;S++)g.charCodeAt(S)>127?b+="x":b+=g[S];if(!b.match(Ac)){const S=p.slice(0,m),x=p.slice(m+1),y=g.match(eb);y&&(S.push(y[1]),x.unshift(y[2])),x.length&&(s=x.join(".")+s),this.hostname=S.join(".");break}}}}this.hostname.length>J1&&(this.hostname=""),d&&(this.hostname=this.hostname.substr(1,this.hostname.length-2))}const l=s.indexOf("#");l!==-1&&(this.hash=s.substr(l),s=s.slice(0,l));const a=s.indexOf("?");return a!==-1&&(this.search=s.substr(a),s=s.slice(0,a)),s&&(this.pathname=s),Dc[i]&&this.hostname&&!this.pathname&&(this.pathname=""),this};Ws.prototype.parseHost=function(t){let e=W1.exec(t);e&&(e=e[0],e!==":"&&(this.port=e.substr(1)),t=t.substr(0,t.length-e.length)),t&&(this.hostname=t)};const tb=Object.freeze(Object.defineProperty({__proto__:null,decode:un,encode:Lr,format:lu,parse:au},Symbol.toStringTag,{value:"Module"})),lp=/[\0-\uD7FF\uE000-\uFFFF]|[\uD800-\uDBFF][\uDC00-\uDFFF]|[\uD800-\uDBFF](?![\uDC00-\uDFFF])|(?:[^\uD800-\uDBFF]|^)[\uDC00-\uDFFF]/,ap=/[\0-\x1F\x7F-\x9F]/,ib=/[\xAD\u0600-\u0605\u061C\u06DD\u070F\u0890\u0891\u08E2\u180E\u200B-\u200F\u202A-\u202E\u2060-\u2064\u2066-\u206F\uFEFF\uFFF9-\uFFFB]|\uD804[\uDCBD\uDCCD]|\uD80D[\uDC30-\uDC3F]|\uD82F[\uDCA0-\uDCA3]|\uD834[\uDD73-\uDD7A]|\uDB40[\uDC01\uDC20-\uDC7F]/,uu=/[!-#%-\*,-\/:;\?@\[-\]_\{\}\xA1\xA7\xAB\xB6\xB7\xBB\xBF\u037E\u0387\u055A-\u055F\u0589\u058A\u05BE\u05C0\u05C3\u05C6\u05F3\u05F4\u0609\u060A\u060C\u060D\u061B\u061D-\u061F\u066A-\u066D\u06D4\u0700-\u070D\u07F7-\u07F9\u0830-\u083E\u085E\u0964\u0965\u0970\u09FD\u0A76\u0AF0\u0C77\u0C84\u0DF4\u0E4F\u0E5A\u0E5B\u0F04-\u0F12\u0F14\u0F3A-\u0F3D\u0F85\u0FD0-\u0FD4\u0FD9\u0FDA\u104A-\u104F\u10FB\u1360-\u1368\u1400\u166E\u169B\u169C\u16EB-\u16ED\u1735\u1736\u17D4-\u17D6\u17D8-\u17DA\u1800-\u180A\u1944\u1945\u1A1E\u1A1F\u1AA0-\u1AA6\u1AA8-\u1AAD\u1B5A-\u1B60\u1B7D\u1B7E\u1BFC-\u1BFF\u1C3B-\u1C3F\u1C7E\u1C7F\u1CC0-\u1CC7\u1CD3\u2010-\u2027\u2030-\u2043\u2045-\u2051\u2053-\u205E\u207D\u207E\u208D\u208E\u2308-\u230B\u2329\u232A\u2768-\u2775\u27C5\u27C6\u27E6-\u27EF\u2983-\u2998\u29D8-\u29DB\u29FC\u29FD\u2CF9-\u2CFC\u2CFE\u2CFF\u2D70\u2E00-\u2E2E\u2E30-\u2E4F\u2E52-\u2E5D\u3001-\u3003\u3008-\u3011\u3014-\u301F\u3030\u303D\u30A0\u30FB\uA4FE\uA4FF\uA60D-\uA60F\uA673\uA67E\uA6F2-\uA6F7\uA874-\uA877\uA8CE\uA8CF\uA8F8-\uA8FA\uA8FC\uA92E\uA92F\uA95F\uA9C1-\uA9CD\uA9DE\uA9DF\uAA5C-\uAA5F\uAADE\uAADF\uAAF0\uAAF1\uABEB\uFD3E\uFD3F\uFE10-\uFE19\uFE30-\uFE52\uFE54-\uFE61\uFE63\uFE68\uFE6A\uFE6B\uFF01-\uFF03\uFF05-\uFF0A\uFF0C-\uFF0F\uFF1A\uFF1B\uFF1F\uFF20\uFF3B-\uFF3D\uFF3F\uFF5B\uFF5D\uFF5F-\uFF65]|\uD800[\uDD00-\uDD02\uDF9F\uDFD0]|\uD801\uDD6F|\uD802[\uDC57\uDD1F\uDD3F\uDE50-\uDE58\uDE7F\uDEF0-\uDEF6\uDF39-\uDF3F\uDF99-\uDF9C]|\uD803[\uDEAD\uDF55-\uDF59\uDF86-\uDF89]|\uD804[\uDC47-\uDC4D\uDCBB\uDCBC\uDCBE-\uDCC1\uDD40-\uDD43\uDD74\uDD75\uDDC5-\uDDC8\uDDCD\uDDDB\uDDDD-\uDDDF\uDE38-\uDE3D\uDEA9]|\uD805[\uDC4B-\uDC4F\uDC5A\uDC5B\uDC5D\uDCC6\uDDC1-\uDDD7\uDE41-\uDE43\uDE60-\uDE6C\uDEB9\uDF3C-\uDF3E]|\uD806[\uDC3B\uDD44-\uDD46\uDDE2\uDE3F-\uDE46\uDE9A-\uDE9C\uDE9E-\uDEA2\uDF00-\uDF09]|\uD807[\uDC41-\uDC45\uDC70\uDC71\uDEF7\uDEF8\uDF43-\uDF4F\uDFFF]|\uD809[\uDC70-\uDC74]|\uD80B[\uDFF1\uDFF2]|\uD81A[\uDE6E\uDE6F\uDEF5\uDF37-\uDF3B\uDF44]|\uD81B[\uDE97-\uDE9A\uDFE2]|\uD82F\uDC9F|\uD836[\uDE87-\uDE8B]|\uD83A[\uDD5E\uDD5F]/,up=/[\$\+<->\^`\|~\xA2-\xA6\xA8\xA9\xAC\xAE-\xB1\xB4\xB8\xD7\xF7\u02C2-\u02C5\u02D2-\u02DF\u02E5-\u02EB\u02ED\u02EF-\u02FF\u0375\u0384\u0385\u03F6\u0482\u058D-\u058F\u0606-\u0608\u060B\u060E\u060F\u06DE\u06E9\u06FD\u06FE\u07F6\u07FE\u07FF\u0888\u09F2\u09F3\u09FA\u09FB\u0AF1\u0B70\u0BF3-\u0BFA\u0C7F\u0D4F\u0D79\u0E3F\u0F01-\u0F03\u0F13\u0F15-\u0F17\u0F1A-\u0F1F\u0F34\u0F36\u0F38\u0FBE-\u0FC5\u0FC7-\u0FCC\u0FCE\u0FCF\u0FD5-\u0FD8\u109E\u109F\u1390-\u1399\u166D\u17DB\u1940\u19DE-\u19FF\u1B61-\u1B6A\u1B74-\u1B7C\u1FBD\u1FBF-\u1FC1\u1FCD-\u1FCF\u1FDD-\u1FDF\u1FED-\u1FEF\u1FFD\u1FFE\u2044\u2052\u207A-\u207C\u208A-\u208C\u20A0-\u20C0\u2100\u2101\u2103-\u2106\u2108\u2109\u2114\u2116-\u2118\u211E-\u2123\u2125\u2127\u2129\u212E\u213A\u213B\u2140-\u2144\u214A-\u214D\u214F\u218A\u218B\u2190-\u2307\u230C-\u2328\u232B-\u2426\u2440-\u244A\u249C-\u24E9\u2500-\u2767\u2794-\u27C4\u27C7-\u27E5\u27F0-\u2982\u2999-\u29D7\u29DC-\u29FB\u29FE-\u2B73\u2B76-\u2B95\u2B97-\u2BFF\u2CE5-\u2CEA\u2E50\u2E51\u2E80-\u2E99\u2E9B-\u2EF3\u2F00-\u2FD5\u2FF0-\u2FFF\u3004\u3012\u3013\u3020\u3036\u3037\u303E\u303F\u309B\u309C\u3190\u3191\u3196-\u319F\u31C0-\u31E3\u31EF\u3200-\u321E\u322A-\u3247\u3250\u3260-\u327F\u328A-\u32B0\u32C0-\u33FF\u4DC0-\u4DFF\uA490-\uA4C6\uA700-\uA716\uA720\uA721\uA789\uA78A\uA828-\uA82B\uA836-\uA839\uAA77-\uAA79\uAB5B\uAB6A\uAB6B\uFB29\uFBB2-\uFBC2\uFD40-\uFD4F\uFDCF\uFDFC-\uFDFF\uFE62\uFE64-\uFE66\uFE69\uFF04\uFF0B\uFF1C-\uFF1E\uFF3E\uFF40\uFF5C\uFF5E\uFFE0-\uFFE6\uFFE8-\uFFEE\uFFFC\uFFFD]|\uD800[\uDD37-\uDD3F\uDD79-\uDD89\uDD8C-\uDD8E\uDD90-\uDD9C\uDDA0\uDDD0-\uDDFC]|\uD802[\uDC77\uDC78\uDEC8]|\uD805\uDF3F|\uD807[\uDFD5-\uDFF1]|\uD81A[\uDF3C-\uDF3F\uDF45]|\uD82F\uDC9C|\uD833[\uDF50-\uDFC3]|\uD834[\uDC00-\uDCF5\uDD00-\uDD26\uDD29-\uDD64\uDD6A-\uDD6C\uDD83\uDD84\uDD8C-\uDDA9\uDDAE-\uDDEA\uDE00-\uDE41\uDE45\uDF00-\uDF56]|\uD835[\uDEC1\uDEDB\uDEFB\uDF15\uDF35\uDF4F\uDF6F\uDF89\uDFA9\uDFC3]|\uD836[\uDC00-\uDDFF\uDE37-\uDE3A\uDE6D-\uDE74\uDE76-\uDE83\uDE85\uDE86]|\uD838[\uDD4F\uDEFF]|\uD83B[\uDCAC\uDCB0\uDD2E\uDEF0\uDEF1]|\uD83C[\uDC00-\uDC2B\uDC30-\uDC93\uDCA0-\uDCAE\uDCB1-\uDCBF\uDCC1-\uDCCF\uDCD1-\uDCF5\uDD0D-\uDDAD\uDDE6-\uDE02\uDE10-\uDE3B\uDE40-\uDE48\uDE50\uDE51\uDE60-\uDE65\uDF00-\uDFFF]|\uD83D[\uDC00-\uDED7\uDEDC-\uDEEC\uDEF0-\uDEFC\uDF00-\uDF76\uDF7B-\uDFD9\uDFE0-\uDFEB\uDFF0]|\uD83E[\uDC00-\uDC0B\uDC10-\uDC47\uDC50-\uDC59\uDC60-\uDC87\uDC90-\uDCAD\uDCB0\uDCB1\uDD00-\uDE53\uDE60-\uDE6D\uDE70-\uDE7C\uDE80-\uDE88\uDE90-\uDEBD\uDEBF-\uDEC5\uDECE-\uDEDB\uDEE0-\uDEE8\uDEF0-\uDEF8\uDF00-\uDF92\uDF94-\uDFCA]/,cp=/[ \xA0\u1680\u2000-\u200A\u2028\u2029\u202F\u205F\u3000]/,nb=Object.freeze(Object.defineProperty({__proto__:null,Any:lp,Cc:ap,Cf:ib,P:uu,S:up,Z:cp},Symbol.toStringTag,{value:"Module"})),rb=new Uint16Array('ᵁ<Õıʊҝջאٵ۞ޢߖࠏ੊ઑඡ๭༉༦჊ረዡᐕᒝᓃᓟᔥ\0\0\0\0\0\0ᕫᛍᦍᰒᷝ὾⁠↰⊍⏀⏻⑂⠤⤒ⴈ⹈⿎〖㊺㘹㞬㣾㨨㩱㫠㬮ࠀEMabcfglmnoprstu\\bfms¦³¹ÈÏlig耻Æ䃆P耻&䀦cute耻Á䃁reve;䄂Āiyx}rc耻Â䃂;䐐r;쀀𝔄rave耻À䃀pha;䎑acr;䄀d;橓Āgp¡on;䄄f;쀀𝔸plyFunction;恡ing耻Å䃅Ācs¾Ãr;쀀𝒜ign;扔ilde耻Ã䃃ml耻Ä䃄ЀaceforsuåûþėĜĢħĪĀcrêòkslash;或Ŷöø;櫧ed;挆y;䐑ƀcrtąċĔause;戵noullis;愬a;䎒r;쀀𝔅pf;쀀𝔹eve;䋘còēmpeq;扎܀HOacdefhilorsuōőŖƀƞƢƵƷƺǜȕɳɸɾcy;䐧PY耻©䂩ƀcpyŝŢźute;䄆Ā;iŧŨ拒talDifferentialD;慅leys;愭ȀaeioƉƎƔƘron;䄌dil耻Ç䃇rc;䄈nint;戰ot;䄊ĀdnƧƭilla;䂸terDot;䂷òſi;䎧rcleȀDMPTǇǋǑǖot;抙inus;抖lus;投imes;抗oĀcsǢǸkwiseContourIntegral;戲eCurlyĀDQȃȏoubleQuote;思uote;怙ȀlnpuȞȨɇɕonĀ;eȥȦ户;橴ƀgitȯȶȺruent;扡nt;戯ourIntegral;戮ĀfrɌɎ;愂oduct;成nterClockwiseContourIntegral;戳oss;樯cr;쀀𝒞pĀ;Cʄʅ拓ap;才րDJSZacefiosʠʬʰʴʸˋ˗ˡ˦̳ҍĀ;oŹʥtrahd;椑cy;䐂cy;䐅cy;䐏ƀgrsʿ˄ˇger;怡r;憡hv;櫤Āayː˕ron;䄎;䐔lĀ;t˝˞戇a;䎔r;쀀𝔇Āaf˫̧Ācm˰̢riticalȀADGT̖̜̀̆cute;䂴oŴ̋̍;䋙bleAcute;䋝rave;䁠ilde;䋜ond;拄ferentialD;慆Ѱ̽\0\0\0͔͂\0Ѕf;쀀𝔻ƀ;DE͈͉͍䂨ot;惜qual;扐blèCDLRUVͣͲ΂ϏϢϸontourIntegraìȹoɴ͹\0\0ͻ»͉nArrow;懓Āeo·ΤftƀARTΐΖΡrrow;懐ightArrow;懔eåˊngĀLRΫτeftĀARγιrrow;柸ightArrow;柺ightArrow;柹ightĀATϘϞrrow;懒ee;抨pɁϩ\0\0ϯrrow;懑ownArrow;懕erticalBar;戥ǹABLRTaВЪаўѿͼrrowƀ;BUНОТ憓ar;椓pArrow;懵reve;䌑eft˒к\0ц\0ѐightVector;楐eeVector;楞ectorĀ;Bљњ憽ar;楖ightǔѧ\0ѱeeVector;楟ectorĀ;BѺѻ懁ar;楗eeĀ;A҆҇护rrow;憧ĀctҒҗr;쀀𝒟rok;䄐ࠀNTacdfglmopqstuxҽӀӄӋӞӢӧӮӵԡԯԶՒ՝ՠեG;䅊H耻Ð䃐cute耻É䃉ƀaiyӒӗӜron;䄚rc耻Ê䃊;䐭ot;䄖r;쀀𝔈rave耻È䃈ement;戈ĀapӺӾcr;䄒tyɓԆ\0\0ԒmallSquare;旻erySmallSquare;斫ĀgpԦԪon;䄘f;쀀𝔼silon;䎕uĀaiԼՉlĀ;TՂՃ橵ilde;扂librium;懌Āci՗՚r;愰m;橳a;䎗ml耻Ë䃋Āipժկsts;戃onentialE;慇ʀcfiosօֈ֍ֲ׌y;䐤r;쀀𝔉lledɓ֗\0\0֣mallSquare;旼erySmallSquare;斪Ͱֺ\0ֿ\0\0ׄf;쀀𝔽All;戀riertrf;愱cò׋؀JTabcdfgorstר׬ׯ׺؀ؒؖ؛؝أ٬ٲcy;䐃耻>䀾mmaĀ;d׷׸䎓;䏜reve;䄞ƀeiy؇،ؐdil;䄢rc;䄜;䐓ot;䄠r;쀀𝔊;拙pf;쀀𝔾eater̀EFGLSTصلَٖٛ٦qualĀ;Lؾؿ扥ess;招ullEqual;执reater;檢ess;扷lantEqual;橾ilde;扳cr;쀀𝒢;扫ЀAacfiosuڅڋږڛڞڪھۊRDcy;䐪Āctڐڔek;䋇;䁞irc;䄤r;愌lbertSpace;愋ǰگ\0ڲf;愍izontalLine;攀Āctۃۅòکrok;䄦mpńېۘownHumðįqual;扏܀EJOacdfgmnostuۺ۾܃܇܎ܚܞܡܨ݄ݸދޏޕcy;䐕lig;䄲cy;䐁cute耻Í䃍Āiyܓܘrc耻Î䃎;䐘ot;䄰r;愑rave耻Ì䃌ƀ;apܠܯܿĀcgܴܷr;䄪inaryI;慈lieóϝǴ݉\0ݢĀ;eݍݎ戬Āgrݓݘral;戫section;拂isibleĀCTݬݲomma;恣imes;恢ƀgptݿރވon;䄮f;쀀𝕀a;䎙cr;愐ilde;䄨ǫޚ\0ޞcy;䐆l耻Ï䃏ʀcfosuެ޷޼߂ߐĀiyޱ޵rc;䄴;䐙r;쀀𝔍pf;쀀𝕁ǣ߇\0ߌr;쀀𝒥rcy;䐈kcy;䐄΀HJacfosߤߨ߽߬߱ࠂࠈcy;䐥cy;䐌ppa;䎚Āey߶߻dil;䄶;䐚r;쀀𝔎pf;쀀𝕂cr;쀀𝒦րJTaceflmostࠥࠩࠬࡐࡣ঳সে্਷ੇcy;䐉耻<䀼ʀcmnpr࠷࠼ࡁࡄࡍute;䄹bda;䎛g;柪lacetrf;愒r;憞ƀaeyࡗ࡜ࡡron;䄽dil;䄻;䐛Āfsࡨ॰tԀACDFRTUVarࡾࢩࢱࣦ࣠ࣼयज़ΐ४Ānrࢃ࢏gleBracket;柨rowƀ;BR࢙࢚࢞憐ar;懤ightArrow;懆eiling;挈oǵࢷ\0ࣃbleBracket;柦nǔࣈ\0࣒eeVector;楡ectorĀ;Bࣛࣜ懃ar;楙loor;挊ightĀAV࣯ࣵrrow;憔ector;楎Āerँगeƀ;AVउऊऐ抣rrow;憤ector;楚iangleƀ;BEतथऩ抲ar;槏qual;抴pƀDTVषूौownVector;楑eeVector;楠ectorĀ;Bॖॗ憿ar;楘ectorĀ;B॥०憼ar;楒ightáΜs̀EFGLSTॾঋকঝঢভqualGreater;拚ullEqual;扦reater;扶ess;檡lantEqual;橽ilde;扲r;쀀𝔏Ā;eঽা拘ftarrow;懚idot;䄿ƀnpw৔ਖਛgȀLRlr৞৷ਂਐeftĀAR০৬rrow;柵ightArrow;柷ightArrow;柶eftĀarγਊightáοightáϊf;쀀𝕃erĀLRਢਬeftArrow;憙ightArrow;憘ƀchtਾੀੂòࡌ;憰rok;䅁;扪Ѐacefiosuਗ਼੝੠੷੼અઋ઎p;椅y;䐜Ādl੥੯iumSpace;恟lintrf;愳r;쀀𝔐nusPlus;戓pf;쀀𝕄cò੶;䎜ҀJacefostuણધભીଔଙඑ඗ඞcy;䐊cute;䅃ƀaey઴હાron;䅇dil;䅅;䐝ƀgswે૰଎ativeƀMTV૓૟૨ediumSpace;怋hiĀcn૦૘ë૙eryThiî૙tedĀGL૸ଆreaterGreateòٳessLesóੈLine;䀊r;쀀𝔑ȀBnptଢନଷ଺reak;恠BreakingSpace;䂠f;愕ڀ;CDEGHLNPRSTV୕ୖ୪୼஡௫ఄ౞಄ದ೘ൡඅ櫬Āou୛୤ngruent;扢pCap;扭oubleVerticalBar;戦ƀlqxஃஊ஛ement;戉ualĀ;Tஒஓ扠ilde;쀀≂̸ists;戄reater΀;EFGLSTஶஷ஽௉௓௘௥扯qual;扱ullEqual;쀀≧̸reater;쀀≫̸ess;批lantEqual;쀀⩾̸ilde;扵umpń௲௽ownHump;쀀≎̸qual;쀀≏̸eĀfsఊధtTriangleƀ;BEచఛడ拪ar;쀀⧏̸qual;括s̀;EGLSTవశ఼ౄోౘ扮qual;扰reater;扸ess;쀀≪̸lantEqual;쀀⩽̸ilde;扴estedĀGL౨౹reaterGreater;쀀⪢̸essLess;쀀⪡̸recedesƀ;ESಒಓಛ技qual;쀀⪯̸lantEqual;拠ĀeiಫಹverseElement;戌ghtTriangleƀ;BEೋೌ೒拫ar;쀀⧐̸qual;拭ĀquೝഌuareSuĀbp೨೹setĀ;E೰ೳ쀀⊏̸qual;拢ersetĀ;Eഃആ쀀⊐̸qual;拣ƀbcpഓതൎsetĀ;Eഛഞ쀀⊂⃒qual;抈ceedsȀ;ESTലള഻െ抁qual;쀀⪰̸lantEqual;拡ilde;쀀≿̸ersetĀ;E൘൛쀀⊃⃒qual;抉ildeȀ;EFT൮൯൵ൿ扁qual;扄ullEqual;扇ilde;扉erticalBar;戤cr;쀀𝒩ilde耻Ñ䃑;䎝܀Eacdfgmoprstuvලෂ෉෕ෛ෠෧෼ขภยา฿ไlig;䅒cute耻Ó䃓Āiy෎ීrc耻Ô䃔;䐞blac;䅐r;쀀𝔒rave耻Ò䃒ƀaei෮ෲ෶cr;䅌ga;䎩cron;䎟pf;쀀𝕆enCurlyĀDQฎบoubleQuote;怜uote;怘;橔Āclวฬr;쀀𝒪ash耻Ø䃘iŬื฼de耻Õ䃕es;樷ml耻Ö䃖erĀBP๋๠Āar๐๓r;怾acĀek๚๜;揞et;掴arenthesis;揜Ҁacfhilors๿ງຊຏຒດຝະ໼rtialD;戂y;䐟r;쀀𝔓i;䎦;䎠usMinus;䂱Āipຢອncareplanåڝf;愙Ȁ;eio຺ູ໠໤檻cedesȀ;EST່້໏໚扺qual;檯lantEqual;扼ilde;找me;怳Ādp໩໮uct;戏ortionĀ;aȥ໹l;戝Āci༁༆r;쀀𝒫;䎨ȀUfos༑༖༛༟OT耻"䀢r;쀀𝔔pf;愚cr;쀀𝒬؀BEacefhiorsu༾གྷཇའཱིྦྷྪྭ႖ႩႴႾarr;椐G耻®䂮ƀcnrཎནབute;䅔g;柫rĀ;tཛྷཝ憠l;椖ƀaeyཧཬཱron;䅘dil;䅖;䐠Ā;vླྀཹ愜erseĀEUྂྙĀlq྇ྎement;戋uilibrium;懋pEquilibrium;楯r»ཹo;䎡ghtЀACDFTUVa࿁࿫࿳ဢဨၛႇϘĀnr࿆࿒gleBracket;柩rowƀ;BL࿜࿝࿡憒ar;懥eftArrow;懄eiling;按oǵ࿹\0စbleBracket;柧nǔည\0နeeVector;楝ectorĀ;Bဝသ懂ar;楕loor;挋Āerိ၃eƀ;AVဵံြ抢rrow;憦ector;楛iangleƀ;BEၐၑၕ抳ar;槐qual;抵pƀDTVၣၮၸownVector;楏eeVector;楜ectorĀ;Bႂႃ憾ar;楔ectorĀ;B႑႒懀ar;楓Āpuႛ႞f;愝ndImplies;楰ightarrow;懛ĀchႹႼr;愛;憱leDelayed;槴ڀHOacfhimoqstuფჱჷჽᄙᄞᅑᅖᅡᅧᆵᆻᆿĀCcჩხHcy;䐩y;䐨FTcy;䐬cute;䅚ʀ;aeiyᄈᄉᄎᄓᄗ檼ron;䅠dil;䅞rc;䅜;䐡r;쀀𝔖ortȀDLRUᄪᄴᄾᅉownArrow»ОeftArrow»࢚ightArrow»࿝pArrow;憑gma;䎣allCircle;战pf;쀀𝕊ɲᅭ\0\0ᅰt;戚areȀ;ISUᅻᅼᆉᆯ斡ntersection;抓uĀbpᆏᆞsetĀ;Eᆗᆘ抏qual;抑ersetĀ;Eᆨᆩ抐qual;抒nion;抔cr;쀀𝒮ar;拆ȀbcmpᇈᇛሉላĀ;sᇍᇎ拐etĀ;Eᇍᇕqual;抆ĀchᇠህeedsȀ;ESTᇭᇮᇴᇿ扻qual;檰lantEqual;扽ilde;承Tháྌ;我ƀ;esሒሓሣ拑rsetĀ;Eሜም抃qual;抇et»ሓրHRSacfhiorsሾቄ቉ቕ቞ቱቶኟዂወዑORN耻Þ䃞ADE;愢ĀHc቎ቒcy;䐋y;䐦Ābuቚቜ;䀉;䎤ƀaeyብቪቯron;䅤dil;䅢;䐢r;쀀𝔗Āeiቻ኉ǲኀ\0ኇefore;戴a;䎘Ācn኎ኘkSpace;쀀  Space;怉ldeȀ;EFTካኬኲኼ戼qual;扃ullEqual;扅ilde;扈pf;쀀𝕋ipleDot;惛Āctዖዛr;쀀𝒯rok;䅦ૡዷጎጚጦ\0ጬጱ\0\0\0\0\0ጸጽ፷ᎅ\0᏿ᐄᐊᐐĀcrዻጁute耻Ú䃚rĀ;oጇገ憟cir;楉rǣጓ\0጖y;䐎ve;䅬Āiyጞጣrc耻Û䃛;䐣blac;䅰r;쀀𝔘rave耻Ù䃙acr;䅪Ādiፁ፩erĀBPፈ፝Āarፍፐr;䁟acĀekፗፙ;揟et;掵arenthesis;揝onĀ;P፰፱拃lus;抎Āgp፻፿on;䅲f;쀀𝕌ЀADETadps᎕ᎮᎸᏄϨᏒᏗᏳrrowƀ;BDᅐᎠᎤar;椒ownArrow;懅ownArrow;憕quilibrium;楮eeĀ;AᏋᏌ报rrow;憥ownáϳerĀLRᏞᏨeftArrow;憖ightArrow;憗iĀ;lᏹᏺ䏒on;䎥ing;䅮cr;쀀𝒰ilde;䅨ml耻Ü䃜ҀDbcdefosvᐧᐬᐰᐳᐾᒅᒊᒐᒖash;披ar;櫫y;䐒ashĀ;lᐻᐼ抩;櫦Āerᑃᑅ;拁ƀbtyᑌᑐᑺar;怖Ā;iᑏᑕcalȀBLSTᑡᑥᑪᑴar;戣ine;䁼eparator;杘ilde;所ThinSpace;怊r;쀀𝔙pf;쀀𝕍cr;쀀𝒱dash;抪ʀcefosᒧᒬᒱᒶᒼirc;䅴dge;拀r;쀀𝔚pf;쀀𝕎cr;쀀𝒲Ȁfiosᓋᓐᓒᓘr;쀀𝔛;䎞pf;쀀𝕏cr;쀀𝒳ҀAIUacfosuᓱᓵᓹᓽᔄᔏᔔᔚᔠcy;䐯cy;䐇cy;䐮cute耻Ý䃝Āiyᔉᔍrc;䅶;䐫r;쀀𝔜pf;쀀𝕐cr;쀀𝒴ml;䅸ЀHacdefosᔵᔹᔿᕋᕏᕝᕠᕤcy;䐖cute;䅹Āayᕄᕉron;䅽;䐗ot;䅻ǲᕔ\0ᕛoWidtè૙a;䎖r;愨pf;愤cr;쀀𝒵௡ᖃᖊᖐ\0ᖰᖶᖿ\0\0\0\0ᗆᗛᗫᙟ᙭\0ᚕ᚛ᚲᚹ\0ᚾcute耻á䃡reve;䄃̀;Ediuyᖜᖝᖡᖣᖨᖭ戾;쀀∾̳;房rc耻â䃢te肻´̆;䐰lig耻æ䃦Ā;r²ᖺ;쀀𝔞rave耻à䃠ĀepᗊᗖĀfpᗏᗔsym;愵èᗓha;䎱ĀapᗟcĀclᗤᗧr;䄁g;樿ɤᗰ\0\0ᘊʀ;adsvᗺᗻᗿᘁᘇ戧nd;橕;橜lope;橘;橚΀;elmrszᘘᘙᘛᘞᘿᙏᙙ戠;榤e»ᘙsdĀ;aᘥᘦ戡ѡᘰᘲᘴᘶᘸᘺᘼᘾ;榨;榩;榪;榫;榬;榭;榮;榯tĀ;vᙅᙆ戟bĀ;dᙌᙍ抾;榝Āptᙔᙗh;戢»¹arr;捼Āgpᙣᙧon;䄅f;쀀𝕒΀;Eaeiop዁ᙻᙽᚂᚄᚇᚊ;橰cir;橯;扊d;手s;䀧roxĀ;e዁ᚒñᚃing耻å䃥ƀctyᚡᚦᚨr;쀀𝒶;䀪mpĀ;e዁ᚯñʈilde耻ã䃣ml耻ä䃤Āciᛂᛈoninôɲnt;樑ࠀNabcdefiklnoprsu᛭ᛱᜰ᜼ᝃᝈ᝸᝽០៦ᠹᡐᜍ᤽᥈ᥰot;櫭Ācrᛶ᜞kȀcepsᜀᜅᜍᜓong;扌psilon;䏶rime;怵imĀ;e᜚᜛戽q;拍Ŷᜢᜦee;抽edĀ;gᜬᜭ挅e»ᜭrkĀ;t፜᜷brk;掶Āoyᜁᝁ;䐱quo;怞ʀcmprtᝓ᝛ᝡᝤᝨausĀ;eĊĉptyv;榰séᜌnoõēƀahwᝯ᝱ᝳ;䎲;愶een;扬r;쀀𝔟g΀costuvwឍឝឳេ៕៛៞ƀaiuបពរðݠrc;旯p»፱ƀdptឤឨឭot;樀lus;樁imes;樂ɱឹ\0\0ើcup;樆ar;昅riangleĀdu៍្own;施p;斳plus;樄eåᑄåᒭarow;植ƀako៭ᠦᠵĀcn៲ᠣkƀlst៺֫᠂ozenge;槫riangleȀ;dlr᠒᠓᠘᠝斴own;斾eft;旂ight;斸k;搣Ʊᠫ\0ᠳƲᠯ\0ᠱ;斒;斑4;斓ck;斈ĀeoᠾᡍĀ;qᡃᡆ쀀=⃥uiv;쀀≡⃥t;挐Ȁptwxᡙᡞᡧᡬf;쀀𝕓Ā;tᏋᡣom»Ꮜtie;拈؀DHUVbdhmptuvᢅᢖᢪᢻᣗᣛᣬ᣿ᤅᤊᤐᤡȀLRlrᢎᢐᢒᢔ;敗;敔;敖;敓ʀ;DUduᢡᢢᢤᢦᢨ敐;敦;敩;敤;敧ȀLRlrᢳᢵᢷᢹ;敝;敚;敜;教΀;HLRhlrᣊᣋᣍᣏᣑᣓᣕ救;敬;散;敠;敫;敢;敟ox;槉ȀLRlrᣤᣦᣨᣪ;敕;敒;攐;攌ʀ;DUduڽ᣷᣹᣻᣽;敥;敨;攬;攴inus;抟lus;択imes;抠ȀLRlrᤙᤛᤝ᤟;敛;敘;攘;攔΀;HLRhlrᤰᤱᤳᤵᤷ᤻᤹攂;敪;敡;敞;攼;攤;攜Āevģ᥂bar耻¦䂦Ȁceioᥑᥖᥚᥠr;쀀𝒷mi;恏mĀ;e᜚᜜lƀ;bhᥨᥩᥫ䁜;槅sub;柈Ŭᥴ᥾lĀ;e᥹᥺怢t»᥺pƀ;Eeįᦅᦇ;檮Ā;qۜۛೡᦧ\0᧨ᨑᨕᨲ\0ᨷᩐ\0\0᪴\0\0᫁\0\0ᬡᬮ᭍᭒\0᯽\0ᰌƀcpr᦭ᦲ᧝ute;䄇̀;abcdsᦿᧀᧄ᧊᧕᧙戩nd;橄rcup;橉Āau᧏᧒p;橋p;橇ot;橀;쀀∩︀Āeo᧢᧥t;恁îړȀaeiu᧰᧻ᨁᨅǰ᧵\0᧸s;橍on;䄍dil耻ç䃧rc;䄉psĀ;sᨌᨍ橌m;橐ot;䄋ƀdmnᨛᨠᨦil肻¸ƭptyv;榲t脀¢;eᨭᨮ䂢räƲr;쀀𝔠ƀceiᨽᩀᩍy;䑇ckĀ;mᩇᩈ朓ark»ᩈ;䏇r΀;Ecefms᩟᩠ᩢᩫ᪤᪪᪮旋;槃ƀ;elᩩᩪᩭ䋆q;扗eɡᩴ\0\0᪈rrowĀlr᩼᪁eft;憺ight;憻ʀRSacd᪒᪔᪖᪚᪟»ཇ;擈st;抛irc;抚ash;抝nint;樐id;櫯cir;槂ubsĀ;u᪻᪼晣it»᪼ˬ᫇᫔᫺\0ᬊonĀ;eᫍᫎ䀺Ā;qÇÆɭ᫙\0\0᫢aĀ;t᫞᫟䀬;䁀ƀ;fl᫨᫩᫫戁îᅠeĀmx᫱᫶ent»᫩eóɍǧ᫾\0ᬇĀ;dኻᬂot;橭nôɆƀfryᬐᬔᬗ;쀀𝕔oäɔ脀©;sŕᬝr;愗Āaoᬥᬩrr;憵ss;朗Ācuᬲᬷr;쀀𝒸Ābpᬼ᭄Ā;eᭁᭂ櫏;櫑Ā;eᭉᭊ櫐;櫒dot;拯΀delprvw᭠᭬᭷ᮂᮬᯔ᯹arrĀlr᭨᭪;椸;椵ɰ᭲\0\0᭵r;拞c;拟arrĀ;p᭿ᮀ憶;椽̀;bcdosᮏᮐᮖᮡᮥᮨ截rcap;橈Āauᮛᮞp;橆p;橊ot;抍r;橅;쀀∪︀Ȁalrv᮵ᮿᯞᯣrrĀ;mᮼᮽ憷;椼yƀevwᯇᯔᯘqɰᯎ\0\0ᯒreã᭳uã᭵ee;拎edge;拏en耻¤䂤earrowĀlrᯮ᯳eft»ᮀight»ᮽeäᯝĀciᰁᰇoninôǷnt;戱lcty;挭ঀAHabcdefhijlorstuwz᰸᰻᰿ᱝᱩᱵᲊᲞᲬᲷ᳻᳿ᴍᵻᶑᶫᶻ᷆᷍rò΁ar;楥Ȁglrs᱈ᱍ᱒᱔ger;怠eth;愸òᄳhĀ;vᱚᱛ怐»ऊūᱡᱧarow;椏aã̕Āayᱮᱳron;䄏;䐴ƀ;ao̲ᱼᲄĀgrʿᲁr;懊tseq;橷ƀglmᲑᲔᲘ耻°䂰ta;䎴ptyv;榱ĀirᲣᲨsht;楿;쀀𝔡arĀlrᲳᲵ»ࣜ»သʀaegsv᳂͸᳖᳜᳠mƀ;oș᳊᳔ndĀ;ș᳑uit;晦amma;䏝in;拲ƀ;io᳧᳨᳸䃷de脀÷;o᳧ᳰntimes;拇nø᳷cy;䑒cɯᴆ\0\0ᴊrn;挞op;挍ʀlptuwᴘᴝᴢᵉᵕlar;䀤f;쀀𝕕ʀ;emps̋ᴭᴷᴽᵂqĀ;d͒ᴳot;扑inus;戸lus;戔quare;抡blebarwedgåúnƀadhᄮᵝᵧownarrowóᲃarpoonĀlrᵲᵶefôᲴighôᲶŢᵿᶅkaro÷གɯᶊ\0\0ᶎrn;挟op;挌ƀcotᶘᶣᶦĀryᶝᶡ;쀀𝒹;䑕l;槶rok;䄑Ādrᶰᶴot;拱iĀ;fᶺ᠖斿Āah᷀᷃ròЩaòྦangle;榦Āci᷒ᷕy;䑟grarr;柿ऀDacdefglmnopqrstuxḁḉḙḸոḼṉṡṾấắẽỡἪἷὄ὎὚ĀDoḆᴴoôᲉĀcsḎḔute耻é䃩ter;橮ȀaioyḢḧḱḶron;䄛rĀ;cḭḮ扖耻ê䃪lon;払;䑍ot;䄗ĀDrṁṅot;扒;쀀𝔢ƀ;rsṐṑṗ檚ave耻è䃨Ā;dṜṝ檖ot;檘Ȁ;ilsṪṫṲṴ檙nters;揧;愓Ā;dṹṺ檕ot;檗ƀapsẅẉẗcr;䄓tyƀ;svẒẓẕ戅et»ẓpĀ1;ẝẤĳạả;怄;怅怃ĀgsẪẬ;䅋p;怂ĀgpẴẸon;䄙f;쀀𝕖ƀalsỄỎỒrĀ;sỊị拕l;槣us;橱iƀ;lvỚớở䎵on»ớ;䏵ȀcsuvỪỳἋἣĀioữḱrc»Ḯɩỹ\0\0ỻíՈantĀglἂἆtr»ṝess»Ṻƀaeiἒ἖Ἒls;䀽st;扟vĀ;DȵἠD;橸parsl;槥ĀDaἯἳot;打rr;楱ƀcdiἾὁỸr;愯oô͒ĀahὉὋ;䎷耻ð䃰Āmrὓὗl耻ë䃫o;悬ƀcipὡὤὧl;䀡sôծĀeoὬὴctatioîՙnentialåչৡᾒ\0ᾞ\0ᾡᾧ\0\0ῆῌ\0ΐ\0ῦῪ \0 ⁚llingdotseñṄy;䑄male;晀ƀilrᾭᾳ῁lig;耀ﬃɩᾹ\0\0᾽g;耀ﬀig;耀ﬄ;쀀𝔣lig;耀ﬁlig;쀀fjƀaltῙ῜ῡt;晭ig;耀ﬂns;斱of;䆒ǰ΅\0ῳf;쀀𝕗ĀakֿῷĀ;vῼ´拔;櫙artint;樍Āao‌⁕Ācs‑⁒α‚‰‸⁅⁈\0⁐β•‥‧‪‬\0‮耻½䂽;慓耻¼䂼;慕;慙;慛Ƴ‴\0‶;慔;慖ʴ‾⁁\0\0⁃耻¾䂾;慗;慜5;慘ƶ⁌\0⁎;慚;慝8;慞l;恄wn;挢cr;쀀𝒻ࢀEabcdefgijlnorstv₂₉₟₥₰₴⃰⃵⃺⃿℃ℒℸ̗ℾ⅒↞Ā;lٍ₇;檌ƀcmpₐₕ₝ute;䇵maĀ;dₜ᳚䎳;檆reve;䄟Āiy₪₮rc;䄝;䐳ot;䄡Ȁ;lqsؾق₽⃉ƀ;qsؾٌ⃄lanô٥Ȁ;cdl٥⃒⃥⃕c;檩otĀ;o⃜⃝檀Ā;l⃢⃣檂;檄Ā;e⃪⃭쀀⋛︀s;檔r;쀀𝔤Ā;gٳ؛mel;愷cy;䑓Ȁ;Eajٚℌℎℐ;檒;檥;檤ȀEaesℛℝ℩ℴ;扩pĀ;p℣ℤ檊rox»ℤĀ;q℮ℯ檈Ā;q℮ℛim;拧pf;쀀𝕘Āci⅃ⅆr;愊mƀ;el٫ⅎ⅐;檎;檐茀>;cdlqr׮ⅠⅪⅮⅳⅹĀciⅥⅧ;檧r;橺ot;拗Par;榕uest;橼ʀadelsↄⅪ←ٖ↛ǰ↉\0↎proø₞r;楸qĀlqؿ↖lesó₈ií٫Āen↣↭rtneqq;쀀≩︀Å↪ԀAabcefkosy⇄⇇⇱⇵⇺∘∝∯≨≽ròΠȀilmr⇐⇔⇗⇛rsðᒄf»․ilôکĀdr⇠⇤cy;䑊ƀ;cwࣴ⇫⇯ir;楈;憭ar;意irc;䄥ƀalr∁∎∓rtsĀ;u∉∊晥it»∊lip;怦con;抹r;쀀𝔥sĀew∣∩arow;椥arow;椦ʀamopr∺∾≃≞≣rr;懿tht;戻kĀlr≉≓eftarrow;憩ightarrow;憪f;쀀𝕙bar;怕ƀclt≯≴≸r;쀀𝒽asè⇴rok;䄧Ābp⊂⊇ull;恃hen»ᱛૡ⊣\0⊪\0⊸⋅⋎\0⋕⋳\0\0⋸⌢⍧⍢⍿\0⎆⎪⎴cute耻í䃭ƀ;iyݱ⊰⊵rc耻î䃮;䐸Ācx⊼⊿y;䐵cl耻¡䂡ĀfrΟ⋉;쀀𝔦rave耻ì䃬Ȁ;inoܾ⋝⋩⋮Āin⋢⋦nt;樌t;戭fin;槜ta;愩lig;䄳ƀaop⋾⌚⌝ƀcgt⌅⌈⌗r;䄫ƀelpܟ⌏⌓inåގarôܠh;䄱f;抷ed;䆵ʀ;cfotӴ⌬⌱⌽⍁are;愅inĀ;t⌸⌹戞ie;槝doô⌙ʀ;celpݗ⍌⍐⍛⍡al;抺Āgr⍕⍙eróᕣã⍍arhk;樗rod;樼Ȁcgpt⍯⍲⍶⍻y;䑑on;䄯f;쀀𝕚a;䎹uest耻¿䂿Āci⎊⎏r;쀀𝒾nʀ;EdsvӴ⎛⎝⎡ӳ;拹ot;拵Ā;v⎦⎧拴;拳Ā;iݷ⎮lde;䄩ǫ⎸\0⎼cy;䑖l耻ï䃯̀cfmosu⏌⏗⏜⏡⏧⏵Āiy⏑⏕rc;䄵;䐹r;쀀𝔧ath;䈷pf;쀀𝕛ǣ⏬\0⏱r;쀀𝒿rcy;䑘kcy;䑔Ѐacfghjos␋␖␢␧␭␱␵␻ppaĀ;v␓␔䎺;䏰Āey␛␠dil;䄷;䐺r;쀀𝔨reen;䄸cy;䑅cy;䑜pf;쀀𝕜cr;쀀𝓀஀ABEHabcdefghjlmnoprstuv⑰⒁⒆⒍⒑┎┽╚▀♎♞♥♹♽⚚⚲⛘❝❨➋⟀⠁⠒ƀart⑷⑺⑼rò৆òΕail;椛arr;椎Ā;gঔ⒋;檋ar;楢ॣ⒥\0⒪\0⒱\0\0\0\0\0⒵Ⓔ\0ⓆⓈⓍ\0⓹ute;䄺mptyv;榴raîࡌbda;䎻gƀ;dlࢎⓁⓃ;榑åࢎ;檅uo耻«䂫rЀ;bfhlpst࢙ⓞⓦⓩ⓫⓮⓱⓵Ā;f࢝ⓣs;椟s;椝ë≒p;憫l;椹im;楳l;憢ƀ;ae⓿─┄檫il;椙Ā;s┉┊檭;쀀⪭︀ƀabr┕┙┝rr;椌rk;杲Āak┢┬cĀek┨┪;䁻;䁛Āes┱┳;榋lĀdu┹┻;榏;榍Ȁaeuy╆╋╖╘ron;䄾Ādi═╔il;䄼ìࢰâ┩;䐻Ȁcqrs╣╦╭╽a;椶uoĀ;rนᝆĀdu╲╷har;楧shar;楋h;憲ʀ;fgqs▋▌উ◳◿扤tʀahlrt▘▤▷◂◨rrowĀ;t࢙□aé⓶arpoonĀdu▯▴own»њp»०eftarrows;懇ightƀahs◍◖◞rrowĀ;sࣴࢧarpoonó྘quigarro÷⇰hreetimes;拋ƀ;qs▋ও◺lanôবʀ;cdgsব☊☍☝☨c;檨otĀ;o☔☕橿Ā;r☚☛檁;檃Ā;e☢☥쀀⋚︀s;檓ʀadegs☳☹☽♉♋pproøⓆot;拖qĀgq♃♅ôউgtò⒌ôছiíলƀilr♕࣡♚sht;楼;쀀𝔩Ā;Eজ♣;檑š♩♶rĀdu▲♮Ā;l॥♳;楪lk;斄cy;䑙ʀ;achtੈ⚈⚋⚑⚖rò◁orneòᴈard;楫ri;旺Āio⚟⚤dot;䅀ustĀ;a⚬⚭掰che»⚭ȀEaes⚻⚽⛉⛔;扨pĀ;p⛃⛄檉rox»⛄Ā;q⛎⛏檇Ā;q⛎⚻im;拦Ѐabnoptwz⛩⛴⛷✚✯❁❇❐Ānr⛮⛱g;柬r;懽rëࣁgƀlmr⛿✍✔eftĀar০✇ightá৲apsto;柼ightá৽parrowĀlr✥✩efô⓭ight;憬ƀafl✶✹✽r;榅;쀀𝕝us;樭imes;樴š❋❏st;戗áፎƀ;ef❗❘᠀旊nge»❘arĀ;l❤❥䀨t;榓ʀachmt❳❶❼➅➇ròࢨorneòᶌarĀ;d྘➃;業;怎ri;抿̀achiqt➘➝ੀ➢➮➻quo;怹r;쀀𝓁mƀ;egল➪➬;檍;檏Ābu┪➳oĀ;rฟ➹;怚rok;䅂萀<;cdhilqrࠫ⟒☹⟜⟠⟥⟪⟰Āci⟗⟙;檦r;橹reå◲mes;拉arr;楶uest;橻ĀPi⟵⟹ar;榖ƀ;ef⠀भ᠛旃rĀdu⠇⠍shar;楊har;楦Āen⠗⠡rtneqq;쀀≨︀Å⠞܀Dacdefhilnopsu⡀⡅⢂⢎⢓⢠⢥⢨⣚⣢⣤ઃ⣳⤂Dot;戺Ȁclpr⡎⡒⡣⡽r耻¯䂯Āet⡗⡙;時Ā;e⡞⡟朠se»⡟Ā;sျ⡨toȀ;dluျ⡳⡷⡻owîҌefôएðᏑker;斮Āoy⢇⢌mma;権;䐼ash;怔asuredangle»ᘦr;쀀𝔪o;愧ƀcdn⢯⢴⣉ro耻µ䂵Ȁ;acdᑤ⢽⣀⣄sôᚧir;櫰ot肻·Ƶusƀ;bd⣒ᤃ⣓戒Ā;uᴼ⣘;横ţ⣞⣡p;櫛ò−ðઁĀdp⣩⣮els;抧f;쀀𝕞Āct⣸⣽r;쀀𝓂pos»ᖝƀ;lm⤉⤊⤍䎼timap;抸ఀGLRVabcdefghijlmoprstuvw⥂⥓⥾⦉⦘⧚⧩⨕⨚⩘⩝⪃⪕⪤⪨⬄⬇⭄⭿⮮ⰴⱧⱼ⳩Āgt⥇⥋;쀀⋙̸Ā;v⥐௏쀀≫⃒ƀelt⥚⥲⥶ftĀar⥡⥧rrow;懍ightarrow;懎;쀀⋘̸Ā;v⥻ే쀀≪⃒ightarrow;懏ĀDd⦎⦓ash;抯ash;抮ʀbcnpt⦣⦧⦬⦱⧌la»˞ute;䅄g;쀀∠⃒ʀ;Eiop඄⦼⧀⧅⧈;쀀⩰̸d;쀀≋̸s;䅉roø඄urĀ;a⧓⧔普lĀ;s⧓ସǳ⧟\0⧣p肻 ଷmpĀ;e௹ఀʀaeouy⧴⧾⨃⨐⨓ǰ⧹\0⧻;橃on;䅈dil;䅆ngĀ;dൾ⨊ot;쀀⩭̸p;橂;䐽ash;怓΀;Aadqsxஒ⨩⨭⨻⩁⩅⩐rr;懗rĀhr⨳⨶k;椤Ā;oᏲᏰot;쀀≐̸uiöୣĀei⩊⩎ar;椨í஘istĀ;s஠டr;쀀𝔫ȀEest௅⩦⩹⩼ƀ;qs஼⩭௡ƀ;qs஼௅⩴lanô௢ií௪Ā;rஶ⪁»ஷƀAap⪊⪍⪑rò⥱rr;憮ar;櫲ƀ;svྍ⪜ྌĀ;d⪡⪢拼;拺cy;䑚΀AEadest⪷⪺⪾⫂⫅⫶⫹rò⥦;쀀≦̸rr;憚r;急Ȁ;fqs఻⫎⫣⫯tĀar⫔⫙rro÷⫁ightarro÷⪐ƀ;qs఻⪺⫪lanôౕĀ;sౕ⫴»శiíౝĀ;rవ⫾iĀ;eచథiäඐĀpt⬌⬑f;쀀𝕟膀¬;in⬙⬚⬶䂬nȀ;Edvஉ⬤⬨⬮;쀀⋹̸ot;쀀⋵̸ǡஉ⬳⬵;拷;拶iĀ;vಸ⬼ǡಸ⭁⭃;拾;拽ƀaor⭋⭣⭩rȀ;ast୻⭕⭚⭟lleì୻l;쀀⫽⃥;쀀∂̸lint;樔ƀ;ceಒ⭰⭳uåಥĀ;cಘ⭸Ā;eಒ⭽ñಘȀAait⮈⮋⮝⮧rò⦈rrƀ;cw⮔⮕⮙憛;쀀⤳̸;쀀↝̸ghtarrow»⮕riĀ;eೋೖ΀chimpqu⮽⯍⯙⬄୸⯤⯯Ȁ;cerല⯆ഷ⯉uå൅;쀀𝓃ortɭ⬅\0\0⯖ará⭖mĀ;e൮⯟Ā;q൴൳suĀbp⯫⯭å೸åഋƀbcp⯶ⰑⰙȀ;Ees⯿ⰀഢⰄ抄;쀀⫅̸etĀ;eഛⰋqĀ;qണⰀcĀ;eലⰗñസȀ;EesⰢⰣൟⰧ抅;쀀⫆̸etĀ;e൘ⰮqĀ;qൠⰣȀgilrⰽⰿⱅⱇìௗlde耻ñ䃱çృiangleĀlrⱒⱜeftĀ;eచⱚñదightĀ;eೋⱥñ೗Ā;mⱬⱭ䎽ƀ;esⱴⱵⱹ䀣ro;愖p;怇ҀDHadgilrsⲏⲔⲙⲞⲣⲰⲶⳓⳣash;抭arr;椄p;쀀≍⃒ash;抬ĀetⲨⲬ;쀀≥⃒;쀀>⃒nfin;槞ƀAetⲽⳁⳅrr;椂;쀀≤⃒Ā;rⳊⳍ쀀<⃒ie;쀀⊴⃒ĀAtⳘⳜrr;椃rie;쀀⊵⃒im;쀀∼⃒ƀAan⳰⳴ⴂrr;懖rĀhr⳺⳽k;椣Ā;oᏧᏥear;椧ቓ᪕\0\0\0\0\0\0\0\0\0\0\0\0\0ⴭ\0ⴸⵈⵠⵥ⵲ⶄᬇ\0\0ⶍⶫ\0ⷈⷎ\0ⷜ⸙⸫⸾⹃Ācsⴱ᪗ute耻ó䃳ĀiyⴼⵅrĀ;c᪞ⵂ耻ô䃴;䐾ʀabios᪠ⵒⵗǈⵚlac;䅑v;樸old;榼lig;䅓Ācr⵩⵭ir;榿;쀀𝔬ͯ⵹\0\0⵼\0ⶂn;䋛ave耻ò䃲;槁Ābmⶈ෴ar;榵Ȁacitⶕ⶘ⶥⶨrò᪀Āir⶝ⶠr;榾oss;榻nå๒;槀ƀaeiⶱⶵⶹcr;䅍ga;䏉ƀcdnⷀⷅǍron;䎿;榶pf;쀀𝕠ƀaelⷔ⷗ǒr;榷rp;榹΀;adiosvⷪⷫⷮ⸈⸍⸐⸖戨rò᪆Ȁ;efmⷷⷸ⸂⸅橝rĀ;oⷾⷿ愴f»ⷿ耻ª䂪耻º䂺gof;抶r;橖lope;橗;橛ƀclo⸟⸡⸧ò⸁ash耻ø䃸l;折iŬⸯ⸴de耻õ䃵esĀ;aǛ⸺s;樶ml耻ö䃶bar;挽ૡ⹞\0⹽\0⺀⺝\0⺢⺹\0\0⻋ຜ\0⼓\0\0⼫⾼\0⿈rȀ;astЃ⹧⹲຅脀¶;l⹭⹮䂶leìЃɩ⹸\0\0⹻m;櫳;櫽y;䐿rʀcimpt⺋⺏⺓ᡥ⺗nt;䀥od;䀮il;怰enk;怱r;쀀𝔭ƀimo⺨⺰⺴Ā;v⺭⺮䏆;䏕maô੶ne;明ƀ;tv⺿⻀⻈䏀chfork»´;䏖Āau⻏⻟nĀck⻕⻝kĀ;h⇴⻛;愎ö⇴sҀ;abcdemst⻳⻴ᤈ⻹⻽⼄⼆⼊⼎䀫cir;樣ir;樢Āouᵀ⼂;樥;橲n肻±ຝim;樦wo;樧ƀipu⼙⼠⼥ntint;樕f;쀀𝕡nd耻£䂣Ԁ;Eaceinosu່⼿⽁⽄⽇⾁⾉⾒⽾⾶;檳p;檷uå໙Ā;c໎⽌̀;acens່⽙⽟⽦⽨⽾pproø⽃urlyeñ໙ñ໎ƀaes⽯⽶⽺pprox;檹qq;檵im;拨iíໟmeĀ;s⾈ຮ怲ƀEas⽸⾐⽺ð⽵ƀdfp໬⾙⾯ƀals⾠⾥⾪lar;挮ine;挒urf;挓Ā;t໻⾴ï໻rel;抰Āci⿀⿅r;쀀𝓅;䏈ncsp;怈̀fiopsu⿚⋢⿟⿥⿫⿱r;쀀𝔮pf;쀀𝕢rime;恗cr;쀀𝓆ƀaeo⿸〉〓tĀei⿾々rnionóڰnt;樖stĀ;e【】䀿ñἙô༔઀ABHabcdefhilmnoprstux぀けさすムㄎㄫㅇㅢㅲㆎ㈆㈕㈤㈩㉘㉮㉲㊐㊰㊷ƀartぇおがròႳòϝail;検aròᱥar;楤΀cdenqrtとふへみわゔヌĀeuねぱ;쀀∽̱te;䅕iãᅮmptyv;榳gȀ;del࿑らるろ;榒;榥å࿑uo耻»䂻rր;abcfhlpstw࿜ガクシスゼゾダッデナp;極Ā;f࿠ゴs;椠;椳s;椞ë≝ð✮l;楅im;楴l;憣;憝Āaiパフil;椚oĀ;nホボ戶aló༞ƀabrョリヮrò៥rk;杳ĀakンヽcĀekヹ・;䁽;䁝Āes㄂㄄;榌lĀduㄊㄌ;榎;榐Ȁaeuyㄗㄜㄧㄩron;䅙Ādiㄡㄥil;䅗ì࿲âヺ;䑀Ȁclqsㄴㄷㄽㅄa;椷dhar;楩uoĀ;rȎȍh;憳ƀacgㅎㅟངlȀ;ipsླྀㅘㅛႜnåႻarôྩt;断ƀilrㅩဣㅮsht;楽;쀀𝔯ĀaoㅷㆆrĀduㅽㅿ»ѻĀ;l႑ㆄ;楬Ā;vㆋㆌ䏁;䏱ƀgns㆕ㇹㇼht̀ahlrstㆤㆰ㇂㇘㇤㇮rrowĀ;t࿜ㆭaéトarpoonĀduㆻㆿowîㅾp»႒eftĀah㇊㇐rrowó࿪arpoonóՑightarrows;應quigarro÷ニhreetimes;拌g;䋚ingdotseñἲƀahm㈍㈐㈓rò࿪aòՑ;怏oustĀ;a㈞㈟掱che»㈟mid;櫮Ȁabpt㈲㈽㉀㉒Ānr㈷㈺g;柭r;懾rëဃƀafl㉇㉊㉎r;榆;쀀𝕣us;樮imes;樵Āap㉝㉧rĀ;g㉣㉤䀩t;榔olint;樒arò㇣Ȁachq㉻㊀Ⴜ㊅quo;怺r;쀀𝓇Ābu・㊊oĀ;rȔȓƀhir㊗㊛㊠reåㇸmes;拊iȀ;efl㊪ၙᠡ㊫方tri;槎luhar;楨;愞ൡ㋕㋛㋟㌬㌸㍱\0㍺㎤\0\0㏬㏰\0㐨㑈㑚㒭㒱㓊㓱\0㘖\0\0㘳cute;䅛quï➺Ԁ;Eaceinpsyᇭ㋳㋵㋿㌂㌋㌏㌟㌦㌩;檴ǰ㋺\0㋼;檸on;䅡uåᇾĀ;dᇳ㌇il;䅟rc;䅝ƀEas㌖㌘㌛;檶p;檺im;择olint;樓iíሄ;䑁otƀ;be㌴ᵇ㌵担;橦΀Aacmstx㍆㍊㍗㍛㍞㍣㍭rr;懘rĀhr㍐㍒ë∨Ā;oਸ਼਴t耻§䂧i;䀻war;椩mĀin㍩ðnuóñt;朶rĀ;o㍶⁕쀀𝔰Ȁacoy㎂㎆㎑㎠rp;景Āhy㎋㎏cy;䑉;䑈rtɭ㎙\0\0㎜iäᑤaraì⹯耻­䂭Āgm㎨㎴maƀ;fv㎱㎲㎲䏃;䏂Ѐ;deglnprካ㏅㏉㏎㏖㏞㏡㏦ot;橪Ā;q኱ኰĀ;E㏓㏔檞;檠Ā;E㏛㏜檝;檟e;扆lus;樤arr;楲aròᄽȀaeit㏸㐈㐏㐗Āls㏽㐄lsetmé㍪hp;樳parsl;槤Ādlᑣ㐔e;挣Ā;e㐜㐝檪Ā;s㐢㐣檬;쀀⪬︀ƀflp㐮㐳㑂tcy;䑌Ā;b㐸㐹䀯Ā;a㐾㐿槄r;挿f;쀀𝕤aĀdr㑍ЂesĀ;u㑔㑕晠it»㑕ƀcsu㑠㑹㒟Āau㑥㑯pĀ;sᆈ㑫;쀀⊓︀pĀ;sᆴ㑵;쀀⊔︀uĀbp㑿㒏ƀ;esᆗᆜ㒆etĀ;eᆗ㒍ñᆝƀ;esᆨᆭ㒖etĀ;eᆨ㒝ñᆮƀ;afᅻ㒦ְrť㒫ֱ»ᅼaròᅈȀcemt㒹㒾㓂㓅r;쀀𝓈tmîñiì㐕aræᆾĀar㓎㓕rĀ;f㓔ឿ昆Āan㓚㓭ightĀep㓣㓪psiloîỠhé⺯s»⡒ʀbcmnp㓻㕞ሉ㖋㖎Ҁ;Edemnprs㔎㔏㔑㔕㔞㔣㔬㔱㔶抂;櫅ot;檽Ā;dᇚ㔚ot;櫃ult;櫁ĀEe㔨㔪;櫋;把lus;檿arr;楹ƀeiu㔽㕒㕕tƀ;en㔎㕅㕋qĀ;qᇚ㔏eqĀ;q㔫㔨m;櫇Ābp㕚㕜;櫕;櫓c̀;acensᇭ㕬㕲㕹㕻㌦pproø㋺urlyeñᇾñᇳƀaes㖂㖈㌛pproø㌚qñ㌗g;晪ڀ123;Edehlmnps㖩㖬㖯ሜ㖲㖴㗀㗉㗕㗚㗟㗨㗭耻¹䂹耻²䂲耻³䂳;櫆Āos㖹㖼t;檾ub;櫘Ā;dሢ㗅ot;櫄sĀou㗏㗒l;柉b;櫗arr;楻ult;櫂ĀEe㗤㗦;櫌;抋lus;櫀ƀeiu㗴㘉㘌tƀ;enሜ㗼㘂qĀ;qሢ㖲eqĀ;q㗧㗤m;櫈Ābp㘑㘓;櫔;櫖ƀAan㘜㘠㘭rr;懙rĀhr㘦㘨ë∮Ā;oਫ਩war;椪lig耻ß䃟௡㙑㙝㙠ዎ㙳㙹\0㙾㛂\0\0\0\0\0㛛㜃\0㜉㝬\0\0\0㞇ɲ㙖\0\0㙛get;挖;䏄rë๟ƀaey㙦㙫㙰ron;䅥dil;䅣;䑂lrec;挕r;쀀𝔱Ȁeiko㚆㚝㚵㚼ǲ㚋\0㚑eĀ4fኄኁaƀ;sv㚘㚙㚛䎸ym;䏑Ācn㚢㚲kĀas㚨㚮pproø዁im»ኬsðኞĀas㚺㚮ð዁rn耻þ䃾Ǭ̟㛆⋧es膀×;bd㛏㛐㛘䃗Ā;aᤏ㛕r;樱;樰ƀeps㛡㛣㜀á⩍Ȁ;bcf҆㛬㛰㛴ot;挶ir;櫱Ā;o㛹㛼쀀𝕥rk;櫚á㍢rime;怴ƀaip㜏㜒㝤dåቈ΀adempst㜡㝍㝀㝑㝗㝜㝟ngleʀ;dlqr㜰㜱㜶㝀㝂斵own»ᶻeftĀ;e⠀㜾ñम;扜ightĀ;e㊪㝋ñၚot;旬inus;樺lus;樹b;槍ime;樻ezium;揢ƀcht㝲㝽㞁Āry㝷㝻;쀀𝓉;䑆cy;䑛rok;䅧Āio㞋㞎xô᝷headĀlr㞗㞠eftarro÷ࡏightarrow»ཝऀAHabcdfghlmoprstuw㟐㟓㟗㟤㟰㟼㠎㠜㠣㠴㡑㡝㡫㢩㣌㣒㣪㣶ròϭar;楣Ācr㟜㟢ute耻ú䃺òᅐrǣ㟪\0㟭y;䑞ve;䅭Āiy㟵㟺rc耻û䃻;䑃ƀabh㠃㠆㠋ròᎭlac;䅱aòᏃĀir㠓㠘sht;楾;쀀𝔲rave耻ù䃹š㠧㠱rĀlr㠬㠮»ॗ»ႃlk;斀Āct㠹㡍ɯ㠿\0\0㡊rnĀ;e㡅㡆挜r»㡆op;挏ri;旸Āal㡖㡚cr;䅫肻¨͉Āgp㡢㡦on;䅳f;쀀𝕦̀adhlsuᅋ㡸㡽፲㢑㢠ownáᎳarpoonĀlr㢈㢌efô㠭ighô㠯iƀ;hl㢙㢚㢜䏅»ᏺon»㢚parrows;懈ƀcit㢰㣄㣈ɯ㢶\0\0㣁rnĀ;e㢼㢽挝r»㢽op;挎ng;䅯ri;旹cr;쀀𝓊ƀdir㣙㣝㣢ot;拰lde;䅩iĀ;f㜰㣨»᠓Āam㣯㣲rò㢨l耻ü䃼angle;榧ހABDacdeflnoprsz㤜㤟㤩㤭㦵㦸㦽㧟㧤㧨㧳㧹㧽㨁㨠ròϷarĀ;v㤦㤧櫨;櫩asèϡĀnr㤲㤷grt;榜΀eknprst㓣㥆㥋㥒㥝㥤㦖appá␕othinçẖƀhir㓫⻈㥙opô⾵Ā;hᎷ㥢ïㆍĀiu㥩㥭gmá㎳Ābp㥲㦄setneqĀ;q㥽㦀쀀⊊︀;쀀⫋︀setneqĀ;q㦏㦒쀀⊋︀;쀀⫌︀Āhr㦛㦟etá㚜iangleĀlr㦪㦯eft»थight»ၑy;䐲ash»ံƀelr㧄㧒㧗ƀ;beⷪ㧋㧏ar;抻q;扚lip;拮Ābt㧜ᑨaòᑩr;쀀𝔳tré㦮suĀbp㧯㧱»ജ»൙pf;쀀𝕧roð໻tré㦴Ācu㨆㨋r;쀀𝓋Ābp㨐㨘nĀEe㦀㨖»㥾nĀEe㦒㨞»㦐igzag;榚΀cefoprs㨶㨻㩖㩛㩔㩡㩪irc;䅵Ādi㩀㩑Ābg㩅㩉ar;機eĀ;qᗺ㩏;扙erp;愘r;쀀𝔴pf;쀀𝕨Ā;eᑹ㩦atèᑹcr;쀀𝓌ૣណ㪇\0㪋\0㪐㪛\0\0㪝㪨㪫㪯\0\0㫃㫎\0㫘ៜ៟tré៑r;쀀𝔵ĀAa㪔㪗ròσrò৶;䎾ĀAa㪡㪤ròθrò৫að✓is;拻ƀdptឤ㪵㪾Āfl㪺ឩ;쀀𝕩imåឲĀAa㫇㫊ròώròਁĀcq㫒ីr;쀀𝓍Āpt៖㫜ré។Ѐacefiosu㫰㫽㬈㬌㬑㬕㬛㬡cĀuy㫶㫻te耻ý䃽;䑏Āiy㬂㬆rc;䅷;䑋n耻¥䂥r;쀀𝔶cy;䑗pf;쀀𝕪cr;쀀𝓎Ācm㬦㬩y;䑎l耻ÿ䃿Ԁacdefhiosw㭂㭈㭔㭘㭤㭩㭭㭴㭺㮀cute;䅺Āay㭍㭒ron;䅾;䐷ot;䅼Āet㭝㭡træᕟa;䎶r;쀀𝔷cy;䐶grarr;懝pf;쀀𝕫cr;쀀𝓏Ājn㮅㮇;怍j;怌'.split("").map(t=>t.charCodeAt(0))),sb=new Uint16Array("Ȁaglq	\x1Bɭ\0\0p;䀦os;䀧t;䀾t;䀼uot;䀢".split("").map(t=>t.charCodeAt(0)));var No;const ob=new Map([[0,65533],[128,8364],[130,8218],[131,402],[132,8222],[133,8230],[134,8224],[135,8225],[136,710],[137,8240],[138,352],[139,8249],[140,338],[142,381],[145,8216],[146,8217],[147,8220],[148,8221],[149,8226],[150,8211],[151,8212],[152,732],[153,8482],[154,353],[155,8250],[156,339],[158,382],[159,376]]),lb=(No=String.fromCodePoint)!==null&&No!==void 0?No:function(t){let e="";return t>65535&&(t-=65536,e+=String.fromCharCode(t>>>10&1023|55296),t=56320|t&1023),e+=String.fromCharCode(t),e};function ab(t){var e;return t>=55296&&t<=57343||t>1114111?65533:(e=ob.get(t))!==null&&e!==void 0?e:t}var Le;(function(t){t[t.NUM=35]="NUM",t[t.SEMI=59]="SEMI",t[t.EQUALS=61]="EQUALS",t[t.ZERO=48]="ZERO",t[t.NINE=57]="NINE",t[t.LOWER_A=97]="LOWER_A",t[t.LOWER_F=102]="LOWER_F",t[t.LOWER_X=120]="LOWER_X",t[t.LOWER_Z=122]="LOWER_Z",t[t.UPPER_A=65]="UPPER_A",t[t.UPPER_F=70]="UPPER_F",t[t.UPPER_Z=90]="UPPER_Z"})(Le||(Le={}));const ub=32;var pi;(function(t){t[t.VALUE_LENGTH=49152]="VALUE_LENGTH",t[t.BRANCH_LENGTH=16256]="BRANCH_LENGTH",t[t.JUMP_TABLE=127]="JUMP_TABLE"})(pi||(pi={}));function Hl(t){return t>=Le.ZERO&&t<=Le.NINE}function cb(t){return t>=Le.UPPER_A&&t<=Le.UPPER_F||t>=Le.LOWER_A&&t<=Le.LOWER_F}function hb(t){return t>=Le.UPPER_A&&t<=Le.UPPER_Z||t>=Le.LOWER_A&&t<=Le.LOWER_Z||Hl(t)}function fb(t){return t===Le.EQUALS||hb(t)}var Re;(function(t){t[t.EntityStart=0]="EntityStart",t[t.NumericStart=1]="NumericStart",t[t.NumericDecimal=2]="NumericDecimal",t[t.NumericHex=3]="NumericHex",t[t.NamedEntity=4]="NamedEntity"})(Re||(Re={}));var fi;(function(t){t[t.Legacy=0]="Legacy",t[t.Strict=1]="Strict",t[t.Attribute=2]="Attribute"})(fi||(fi={}));class db{constructor(e,i,n){this.decodeTree=e,this.emitCodePoint=i,this.errors=n,this.state=Re.EntityStart,this.consumed=1,this.result=0,this.treeIndex=0,this.excess=1,this.decodeMode=fi.Strict}startEntity(e){this.decodeMode=e,this.state=Re.EntityStart,this.result=0,this.treeIndex=0,this.excess=1,this.consumed=1}write(e,i){switch(this.state){case Re.EntityStart:return e.charCodeAt(i)===Le.NUM?(this.state=Re.NumericStart,this.consumed+=1,this.stateNumericStart(e,i+1)):(this.state=Re.NamedEntity,this.stateNamedEntity(e,i));case Re.NumericStart:return this.stateNumericStart(e,i);case Re.NumericDecimal:return this.stateNumericDecimal(e,i);case Re.NumericHex:return this.stateNumericHex(e,i);case Re.NamedEntity:return this.stateNamedEntity(e,i)}}stateNumericStart(e,i){return i>=e.length?-1:(e.charCodeAt(i)|ub)===Le.LOWER_X?(this.state=Re.NumericHex,this.consumed+=1,this.stateNumericHex(e,i+1)):(this.state=Re.NumericDecimal,this.stateNumericDecimal(e,i))}addToNumericResult(e,i,n,r){if(i!==n){const s=n-i;this.result=this.result*Math.pow(r,s)+parseInt(e.substr(i,s),r),this.consumed+=s}}stateNumericHex(e,i){const n=i;for(;i<e.length;){const r=e.charCodeAt(i);if(Hl(r)||cb(r))i+=1;else return this.addToNumericResult(e,n,i,16),this.emitNumericEntity(r,3)}return this.addToNumericResult(e,n,i,16),-1}stateNumericDecimal(e,i){const n=i;for(;i<e.length;){const r=e.charCodeAt(i);if(Hl(r))i+=1;else return this.addToNumericResult(e,n,i,10),this.emitNumericEntity(r,2)}return this.addToNumericResult(e,n,i,10),-1}emitNumericEntity(e,i){var n;if(this.consumed<=i)return(n=this.errors)===null||n===void 0||n.absenceOfDigitsInNumericCharacterReference(this.consumed),0;if(e===Le.SEMI)this.consumed+=1;else if(this.decodeMode===fi.Strict)return 0;return this.emitCodePoint(ab(this.result),this.consumed),this.errors&&(e!==Le.SEMI&&this.errors.missingSemicolonAfterCharacterReference(),this.errors.validateNumericCharacterReference(this.result)),this.consumed}stateNamedEntity(e,i){const{decodeTree:n}=this;let r=n[this.treeIndex],s=(r&pi.VALUE_LENGTH)>>14;for(;i<e.length;i++,this.excess++){const o=e.charCodeAt(i);if(this.treeIndex=pb(n,r,this.treeIndex+Math.max(1,s),o),this.treeIndex<0)return this.result===0||this.decodeMode===fi.Attribute&&(s===0||fb(o))?0:this.emitNotTerminatedNamedEntity();if(r=n[this.treeIndex],s=(r&pi.VALUE_LENGTH)>>14,s!==0){if(o===Le.SEMI)return this.emitNamedEntityData(this.treeIndex,s,this.consumed+this.excess);this.decodeMode!==fi.Strict&&(this.result=this.treeIndex,this.consumed+=this.excess,this.excess=0)}}return-1}emitNotTerminatedNamedEntity(){var e;const{result:i,decodeTree:n}=this,r=(n[i]&pi.VALUE_LENGTH)>>14;return this.emitNamedEntityData(i,r,this.consumed),(e=this.errors)===null||e===void 0||e.missingSemicolonAfterCharacterReference(),this.consumed}emitNamedEntityData(e,i,n){const{decodeTree:r}=this;return this.emitCodePoint(i===1?r[e]&~pi.VALUE_LENGTH:r[e+1],n),i===3&&this.emitCodePoint(r[e+2],n),n}end(){var e;switch(this.state){case Re.NamedEntity:return this.result!==0&&(this.decodeMode!==fi.Attribute||this.result===this.treeIndex)?this.emitNotTerminatedNamedEntity():0;case Re.NumericDecimal:return this.emitNumericEntity(0,2);case Re.NumericHex:return this.emitNumericEntity(0,3);case Re.NumericStart:return(e=this.errors)===null||e===void 0||e.absenceOfDigitsInNumericCharacterReference(this.consumed),0;case Re.EntityStart:return 0}}}function hp(t){let e="";const i=new db(t,n=>e+=lb(n));return function(r,s){let o=0,l=0;for(;(l=r.indexOf("&",l))>=0;){e+=r.slice(o,l),i.startEntity(s);const u=i.write(r,l+1);if(u<0){o=l+i.end();break}o=l+u,l=u===0?o+1:o}const a=e+r.slice(o);return e="",a}}function pb(t,e,i,n){const r=(e&pi.BRANCH_LENGTH)>>7,s=e&pi.JUMP_TABLE;if(r===0)return s!==0&&n===s?i:-1;if(s){const a=n-s;return a<0||a>=r?-1:t[i+a]-1}let o=i,l=o+r-1;for(;o<=l;){const a=o+l>>>1,u=t[a];if(u<n)o=a+1;else if(u>n)l=a-1;else return t[a+r]}return-1}const mb=hp(rb);hp(sb);function fp(t,e=fi.Legacy){return mb(t,e)}function Ob(t){return Object.prototype.toString.call(t)}function cu(t){return Ob(t)==="[object String]"}const gb=Object.prototype.hasOwnProperty;function bb(t,e){return gb.call(t,e)}function Co(t){return Array.prototype.slice.call(arguments,1).forEach(function(i){if(i){if(typeof i!="object")throw new TypeError(i+"must be object");Object.keys(i).forEach(function(n){t[n]=i[n]})}}),t}function dp(t,e,i){return[].concat(t.slice(0,e),i,t.slice(e+1))}function hu(t){return!(t>=55296&&t<=57343||t>=64976&&t<=65007||(t&65535)===65535||(t&65535)===65534||t>=0&&t<=8||t===11||t>=14&&t<=31||t>=127&&t<=159||t>1114111)}function Gs(t){if(t>65535){t-=65536;const e=55296+(t>>10),i=56320+(t&1023);return String.fromCharCode(e,i)}return String.fromCharCode(t)}const pp=/\\([!"#$%&'()*+,\-./:;<=>?@[\\\]^_`{|}~])/g,xb=/&([a-z#][a-z0-9]{1,31});/gi,yb=new RegExp(pp.source+"|"+xb.source,"gi"),kb=/^#((?:x[a-f0-9]{1,8}|[0-9]{1,8}))$/i;function vb(t,e){if(e.charCodeAt(0)===35&&kb.test(e)){const n=e[1].toLowerCase()==="x"?parseInt(e.slice(2),16):parseInt(e.slice(1),10);return hu(n)?Gs(n):t}const i=fp(t);return i!==t?i:t}function Sb(t){return t.indexOf("\\")<0?t:t.replace(pp,"$1")}function cn(t){return t.indexOf("\\")<0&&t.indexOf("&")<0?t:t.replace(yb,function(e,i,n){return i||vb(e,n)})}const wb=/[&<>"]/,Qb=/[&<>"]/g,$b={"&":"&amp;","<":"&lt;",">":"&gt;",'"':"&quot;"};function _b(t){return $b[t]}function ki(t){return wb.test(t)?t.replace(Qb,_b):t}const Pb=/[.?*+^$[\]\\(){}|-]/g;function Cb(t){return t.replace(Pb,"\\$&")}function ke(t){switch(t){case 9:case 32:return!0}return!1}function hr(t){if(t>=8192&&t<=8202)return!0;switch(t){case 9:case 10:case 11:case 12:case 13:case 32:case 160:case 5760:case 8239:case 8287:case 12288:return!0}return!1}function fr(t){return uu.test(t)||up.test(t)}function dr(t){switch(t){case 33:case 34:case 35:case 36:case 37:case 38:case 39:case 40:case 41:case 42:case 43:case 44:case 45:case 46:case 47:case 58:case 59:case 60:case 61:case 62:case 63:case 64:case 91:case 92:case 93:case 94:case 95:case 96:case 123:case 124:case 125:case 126:return!0;default:return!1}}function To(t){return t=t.trim().replace(/\s+/g," "),"ẞ".toLowerCase()==="Ṿ"&&(t=t.replace(/ẞ/g,"ß")),t.toLowerCase().toUpperCase()}const Tb={mdurl:tb,ucmicro:nb},Ab=Object.freeze(Object.defineProperty({__proto__:null,arrayReplaceAt:dp,assign:Co,escapeHtml:ki,escapeRE:Cb,fromCodePoint:Gs,has:bb,isMdAsciiPunct:dr,isPunctChar:fr,isSpace:ke,isString:cu,isValidEntityCode:hu,isWhiteSpace:hr,lib:Tb,normalizeReference:To,unescapeAll:cn,unescapeMd:Sb},Symbol.toStringTag,{value:"Module"}));function Eb(t,e,i){let n,r,s,o;const l=t.posMax,a=t.pos;for(t.pos=e+1,n=1;t.pos<l;){if(s=t.src.charCodeAt(t.pos),s===93&&(n--,n===0)){r=!0;break}if(o=t.pos,t.md.inline.skipToken(t),s===91){if(o===t.pos-1)n++;else if(i)return t.pos=a,-1}}let u=-1;return r&&(u=t.pos),t.pos=a,u}function Db(t,e,i){let n,r=e;const s={ok:!1,pos:0,str:""};if(t.charCodeAt(r)===60){for(r++;r<i;){if(n=t.charCodeAt(r),n===10||n===60)return s;if(n===62)return s.pos=r+1,s.str=cn(t.slice(e+1,r)),s.ok=!0,s;if(n===92&&r+1<i){r+=2;continue}r++}return s}let o=0;for(;r<i&&(n=t.charCodeAt(r),!(n===32||n<32||n===127));){if(n===92&&r+1<i){if(t.charCodeAt(r+1)===32)break;r+=2;continue}if(n===40&&(o++,o>32))return s;if(n===41){if(o===0)break;o--}r++}return e===r||o!==0||(s.str=cn(t.slice(e,r)),s.pos=r,s.ok=!0),s}function Mb(t,e,i,n){let r,s=e;const o={ok:!1,can_continue:!1,pos:0,str:"",marker:0};if(n)o.str=n.str,o.marker=n.marker;else{if(s>=i)return o;let l=t.charCodeAt(s);if(l!==34&&l!==39&&l!==40)return o;e++,s++,l===40&&(l=41),o.marker=l}for(;s<i;){if(r=t.charCodeAt(s),r===o.marker)return o.pos=s+1,o.str+=cn(t.slice(e,s)),o.ok=!0,o;if(r===40&&o.marker===41)return o;r===92&&s+1<i&&s++,s++}return o.can_continue=!0,o.str+=cn(t.slice(e,s)),o}const Rb=Object.freeze(Object.defineProperty({__proto__:null,parseLinkDestination:Db,parseLinkLabel:Eb,parseLinkTitle:Mb},Symbol.toStringTag,{value:"Module"})),Wt={};Wt.code_inline=function(t,e,i,n,r){const s=t[e];return"<code"+r.renderAttrs(s)+">"+ki(s.content)+"</code>"};Wt.code_block=function(t,e,i,n,r){const s=t[e];return"<pre"+r.renderAttrs(s)+"><code>"+ki(t[e].content)+`</code></pre>
+`};Wt.fence=function(t,e,i,n,r){const s=t[e],o=s.info?cn(s.info).trim():"";let l="",a="";if(o){const c=o.split(/(\s+)/g);l=c[0],a=c.slice(2).join("")}let u;if(i.highlight?u=i.highlight(s.content,l,a)||ki(s.content):u=ki(s.content),u.indexOf("<pre")===0)return u+`
+`;if(o){const c=s.attrIndex("class"),h=s.attrs?s.attrs.slice():[];c<0?h.push(["class",i.langPrefix+l]):(h[c]=h[c].slice(),h[c][1]+=" "+i.langPrefix+l);const f={attrs:h};return`<pre><code${r.renderAttrs(f)}>${u}</code></pre>
+`}return`<pre><code${r.renderAttrs(s)}>${u}</code></pre>
+`};Wt.image=function(t,e,i,n,r){const s=t[e];return s.attrs[s.attrIndex("alt")][1]=r.renderInlineAsText(s.children,i,n),r.renderToken(t,e,i)};Wt.hardbreak=function(t,e,i){return i.xhtmlOut?`<br />
+`:`<br>
+`};Wt.softbreak=function(t,e,i){return i.breaks?i.xhtmlOut?`<br />
+`:`<br>
+`:`
+`};Wt.text=function(t,e){return ki(t[e].content)};Wt.html_block=function(t,e){return t[e].content};Wt.html_inline=function(t,e){return t[e].content};function $n(){this.rules=Co({},Wt)}$n.prototype.renderAttrs=function(e){let i,n,r;if(!e.attrs)return"";for(r="",i=0,n=e.attrs.length;i<n;i++)r+=" "+ki(e.attrs[i][0])+'="'+ki(e.attrs[i][1])+'"';return r};$n.prototype.renderToken=function(e,i,n){const r=e[i];let s="";if(r.hidden)return"";r.block&&r.nesting!==-1&&i&&e[i-1].hidden&&(s+=`
+`),s+=(r.nesting===-1?"</":"<")+r.tag,s+=this.renderAttrs(r),r.nesting===0&&n.xhtmlOut&&(s+=" /");let o=!1;if(r.block&&(o=!0,r.nesting===1&&i+1<e.length)){const l=e[i+1];(l.type==="inline"||l.hidden||l.nesting===-1&&l.tag===r.tag)&&(o=!1)}return s+=o?`>
+`:">",s};$n.prototype.renderInline=function(t,e,i){let n="";const r=this.rules;for(let s=0,o=t.length;s<o;s++){const l=t[s].type;typeof r[l]<"u"?n+=r[l](t,s,e,i,this):n+=this.renderToken(t,s,e)}return n};$n.prototype.renderInlineAsText=function(t,e,i){let n="";for(let r=0,s=t.length;r<s;r++)switch(t[r].type){case"text":n+=t[r].content;break;case"image":n+=this.renderInlineAsText(t[r].children,e,i);break;case"html_inline":case"html_block":n+=t[r].content;break;case"softbreak":case"hardbreak":n+=`
+`;break}return n};$n.prototype.render=function(t,e,i){let n="";const r=this.rules;for(let s=0,o=t.length;s<o;s++){const l=t[s].type;l==="inline"?n+=this.renderInline(t[s].children,e,i):typeof r[l]<"u"?n+=r[l](t,s,e,i,this):n+=this.renderToken(t,s,e,i)}return n};function tt(){this.__rules__=[],this.__cache__=null}tt.prototype.__find__=function(t){for(let e=0;e<this.__rules__.length;e++)if(this.__rules__[e].name===t)return e;return-1};tt.prototype.__compile__=function(){const t=this,e=[""];t.__rules__.forEach(function(i){i.enabled&&i.alt.forEach(function(n){e.indexOf(n)<0&&e.push(n)})}),t.__cache__={},e.forEach(function(i){t.__cache__[i]=[],t.__rules__.forEach(function(n){n.enabled&&(i&&n.alt.indexOf(i)<0||t.__cache__[i].push(n.fn))})})};tt.prototype.at=function(t,e,i){const n=this.__find__(t),r=i||{};if(n===-1)throw new Error("Parser rule not found: "+t);this.__rules__[n].fn=e,this.__rules__[n].alt=r.alt||[],this.__cache__=null};tt.prototype.before=function(t,e,i,n){const r=this.__find__(t),s=n||{};if(r===-1)throw new Error("Parser rule not found: "+t);this.__rules__.splice(r,0,{name:e,enabled:!0,fn:i,alt:s.alt||[]}),this.__cache__=null};tt.prototype.after=function(t,e,i,n){const r=this.__find__(t),s=n||{};if(r===-1)throw new Error("Parser rule not found: "+t);this.__rules__.splice(r+1,0,{name:e,enabled:!0,fn:i,alt:s.alt||[]}),this.__cache__=null};tt.prototype.push=function(t,e,i){const n=i||{};this.__rules__.push({name:t,enabled:!0,fn:e,alt:n.alt||[]}),this.__cache__=null};tt.prototype.enable=function(t,e){Array.isArray(t)||(t=[t]);const i=[];return t.forEach(function(n){const r=this.__find__(n);if(r<0){if(e)return;throw new Error("Rules manager: invalid rule name "+n)}this.__rules__[r].enabled=!0,i.push(n)},this),this.__cache__=null,i};tt.prototype.enableOnly=function(t,e){Array.isArray(t)||(t=[t]),this.__rules__.forEach(function(i){i.enabled=!1}),this.enable(t,e)};tt.prototype.disable=function(t,e){Array.isArray(t)||(t=[t]);const i=[];return t.forEach(function(n){const r=this.__find__(n);if(r<0){if(e)return;throw new Error("Rules manager: invalid rule name "+n)}this.__rules__[r].enabled=!1,i.push(n)},this),this.__cache__=null,i};tt.prototype.getRules=function(t){return this.__cache__===null&&this.__compile__(),this.__cache__[t]||[]};function Tt(t,e,i){this.type=t,this.tag=e,this.attrs=null,this.map=null,this.nesting=i,this.level=0,this.children=null,this.content="",this.markup="",this.info="",this.meta=null,this.block=!1,this.hidden=!1}Tt.prototype.attrIndex=function(e){if(!this.attrs)return-1;const i=this.attrs;for(let n=0,r=i.length;n<r;n++)if(i[n][0]===e)return n;return-1};Tt.prototype.attrPush=function(e){this.attrs?this.attrs.push(e):this.attrs=[e]};Tt.prototype.attrSet=function(e,i){const n=this.attrIndex(e),r=[e,i];n<0?this.attrPush(r):this.attrs[n]=r};Tt.prototype.attrGet=function(e){const i=this.attrIndex(e);let n=null;return i>=0&&(n=this.attrs[i][1]),n};Tt.prototype.attrJoin=function(e,i){const n=this.attrIndex(e);n<0?this.attrPush([e,i]):this.attrs[n][1]=this.attrs[n][1]+" "+i};function mp(t,e,i){this.src=t,this.env=i,this.tokens=[],this.inlineMode=!1,this.md=e}mp.prototype.Token=Tt;const Lb=/\r\n?|\n/g,Zb=/\0/g;function Ib(t){let e;e=t.src.replace(Lb,`
+`),e=e.replace(Zb,"�"),t.src=e}function zb(t){let e;t.inlineMode?(e=new t.Token("inline","",0),e.content=t.src,e.map=[0,1],e.children=[],t.tokens.push(e)):t.md.block.parse(t.src,t.md,t.env,t.tokens)}function Xb(t){const e=t.tokens;for(let i=0,n=e.length;i<n;i++){const r=e[i];r.type==="inline"&&t.md.inline.parse(r.content,t.md,t.env,r.children)}}function Vb(t){return/^<a[>\s]/i.test(t)}function Fb(t){return/^<\/a\s*>/i.test(t)}function Bb(t){const e=t.tokens;if(t.md.options.linkify)for(let i=0,n=e.length;i<n;i++){if(e[i].type!=="inline"||!t.md.linkify.pretest(e[i].content))continue;let r=e[i].children,s=0;for(let o=r.length-1;o>=0;o--){const l=r[o];if(l.type==="link_close"){for(o--;r[o].level!==l.level&&r[o].type!=="link_open";)o--;continue}if(l.type==="html_inline"&&(Vb(l.content)&&s>0&&s--,Fb(l.content)&&s++),!(s>0)&&l.type==="text"&&t.md.linkify.test(l.content)){const a=l.content;let u=t.md.linkify.match(a);const c=[];let h=l.level,f=0;u.length>0&&u[0].index===0&&o>0&&r[o-1].type==="text_special"&&(u=u.slice(1));for(let d=0;d<u.length;d++){const p=u[d].url,m=t.md.normalizeLink(p);if(!t.md.validateLink(m))continue;let O=u[d].text;u[d].schema?u[d].schema==="mailto:"&&!/^mailto:/i.test(O)?O=t.md.normalizeLinkText("mailto:"+O).replace(/^mailto:/,""):O=t.md.normalizeLinkText(O):O=t.md.normalizeLinkText("http://"+O).replace(/^http:\/\//,"");const g=u[d].index;if(g>f){const y=new t.Token("text","",0);y.content=a.slice(f,g),y.level=h,c.push(y)}const b=new t.Token("link_open","a",1);b.attrs=[["href",m]],b.level=h++,b.markup="linkify",b.info="auto",c.push(b);const S=new t.Token("text","",0);S.content=O,S.level=h,c.push(S);const x=new t.Token("link_close","a",-1);x.level=--h,x.markup="linkify",x.info="auto",c.push(x),f=u[d].lastIndex}if(f<a.length){const d=new t.Token("text","",0);d.content=a.slice(f),d.level=h,c.push(d)}e[i].children=r=dp(r,o,c)}}}}const Op=/\+-|\.\.|\?\?\?\?|!!!!|,,|--/,qb=/\((c|tm|r)\)/i,jb=/\((c|tm|r)\)/ig,Yb={c:"©",r:"®",tm:"™"};function Nb(t,e){return Yb[e.toLowerCase()]}function Wb(t){let e=0;for(let i=t.length-1;i>=0;i--){const n=t[i];n.type==="text"&&!e&&(n.content=n.content.replace(jb,Nb)),n.type==="link_open"&&n.info==="auto"&&e--,n.type==="link_close"&&n.info==="auto"&&e++}}function Gb(t){let e=0;for(let i=t.length-1;i>=0;i--){const n=t[i];n.type==="text"&&!e&&Op.test(n.content)&&(n.content=n.content.replace(/\+-/g,"±").replace(/\.{2,}/g,"…").replace(/([?!])…/g,"$1..").replace(/([?!]){4,}/g,"$1$1$1").replace(/,{2,}/g,",").replace(/(^|[^-])---(?=[^-]|$)/mg,"$1—").replace(/(^|\s)--(?=\s|$)/mg,"$1–").replace(/(^|[^-\s])--(?=[^-\s]|$)/mg,"$1–")),n.type==="link_open"&&n.info==="auto"&&e--,n.type==="link_close"&&n.info==="auto"&&e++}}function Ub(t){let e;if(t.md.options.typographer)for(e=t.tokens.length-1;e>=0;e--)t.tokens[e].type==="inline"&&(qb.test(t.tokens[e].content)&&Wb(t.tokens[e].children),Op.test(t.tokens[e].content)&&Gb(t.tokens[e].children))}const Hb=/['"]/,Mc=/['"]/g,Rc="’";function Kr(t,e,i){return t.slice(0,e)+i+t.slice(e+1)}function Kb(t,e){let i;const n=[];for(let r=0;r<t.length;r++){const s=t[r],o=t[r].level;for(i=n.length-1;i>=0&&!(n[i].level<=o);i--);if(n.length=i+1,s.type!=="text")continue;let l=s.content,a=0,u=l.length;e:for(;a<u;){Mc.lastIndex=a;const c=Mc.exec(l);if(!c)break;let h=!0,f=!0;a=c.index+1;const d=c[0]==="'";let p=32;if(c.index-1>=0)p=l.charCodeAt(c.index-1);else for(i=r-1;i>=0&&!(t[i].type==="softbreak"||t[i].type==="hardbreak");i--)if(t[i].content){p=t[i].content.charCodeAt(t[i].content.length-1);break}let m=32;if(a<u)m=l.charCodeAt(a);else for(i=r+1;i<t.length&&!(t[i].type==="softbreak"||t[i].type==="hardbreak");i++)if(t[i].content){m=t[i].content.charCodeAt(0);break}const O=dr(p)||fr(String.fromCharCode(p)),g=dr(m)||fr(String.fromCharCode(m)),b=hr(p),S=hr(m);if(S?h=!1:g&&(b||O||(h=!1)),b?f=!1:O&&(S||g||(f=!1)),m===34&&c[0]==='"'&&p>=48&&p<=57&&(f=h=!1),h&&f&&(h=O,f=g),!h&&!f){d&&(s.content=Kr(s.content,c.index,Rc));continue}if(f)for(i=n.length-1;i>=0;i--){let x=n[i];if(n[i].level<o)break;if(x.single===d&&n[i].level===o){x=n[i];let y,$;d?(y=e.md.options.quotes[2],$=e.md.options.quotes[3]):(y=e.md.options.quotes[0],$=e.md.options.quotes[1]),s.content=Kr(s.content,c.index,$),t[x.token].content=Kr(t[x.token].content,x.pos,y),a+=$.length-1,x.token===r&&(a+=y.length-1),l=s.content,u=l.length,n.length=i;continue e}}h?n.push({token:r,pos:c.index,single:d,level:o}):f&&d&&(s.content=Kr(s.content,c.index,Rc))}}}function Jb(t){if(t.md.options.typographer)for(let e=t.tokens.length-1;e>=0;e--)t.tokens[e].type!=="inline"||!Hb.test(t.tokens[e].content)||Kb(t.tokens[e].children,t)}function e2(t){let e,i;const n=t.tokens,r=n.length;for(let s=0;s<r;s++){if(n[s].type!=="inline")continue;const o=n[s].children,l=o.length;for(e=0;e<l;e++)o[e].type==="text_special"&&(o[e].type="text");for(e=i=0;e<l;e++)o[e].type==="text"&&e+1<l&&o[e+1].type==="text"?o[e+1].content=o[e].content+o[e+1].content:(e!==i&&(o[i]=o[e]),i++);e!==i&&(o.length=i)}}const Wo=[["normalize",Ib],["block",zb],["inline",Xb],["linkify",Bb],["replacements",Ub],["smartquotes",Jb],["text_join",e2]];function fu(){this.ruler=new tt;for(let t=0;t<Wo.length;t++)this.ruler.push(Wo[t][0],Wo[t][1])}fu.prototype.process=function(t){const e=this.ruler.getRules("");for(let i=0,n=e.length;i<n;i++)e[i](t)};fu.prototype.State=mp;function Gt(t,e,i,n){this.src=t,this.md=e,this.env=i,this.tokens=n,this.bMarks=[],this.eMarks=[],this.tShift=[],this.sCount=[],this.bsCount=[],this.blkIndent=0,this.line=0,this.lineMax=0,this.tight=!1,this.ddIndent=-1,this.listIndent=-1,this.parentType="root",this.level=0;const r=this.src;for(let s=0,o=0,l=0,a=0,u=r.length,c=!1;o<u;o++){const h=r.charCodeAt(o);if(!c)if(ke(h)){l++,h===9?a+=4-a%4:a++;continue}else c=!0;(h===10||o===u-1)&&(h!==10&&o++,this.bMarks.push(s),this.eMarks.push(o),this.tShift.push(l),this.sCount.push(a),this.bsCount.push(0),c=!1,l=0,a=0,s=o+1)}this.bMarks.push(r.length),this.eMarks.push(r.length),this.tShift.push(0),this.sCount.push(0),this.bsCount.push(0),this.lineMax=this.bMarks.length-1}Gt.prototype.push=function(t,e,i){const n=new Tt(t,e,i);return n.block=!0,i<0&&this.level--,n.level=this.level,i>0&&this.level++,this.tokens.push(n),n};Gt.prototype.isEmpty=function(e){return this.bMarks[e]+this.tShift[e]>=this.eMarks[e]};Gt.prototype.skipEmptyLines=function(e){for(let i=this.lineMax;e<i&&!(this.bMarks[e]+this.tShift[e]<this.eMarks[e]);e++);return e};Gt.prototype.skipSpaces=function(e){for(let i=this.src.length;e<i;e++){const n=this.src.charCodeAt(e);if(!ke(n))break}return e};Gt.prototype.skipSpacesBack=function(e,i){if(e<=i)return e;for(;e>i;)if(!ke(this.src.charCodeAt(--e)))return e+1;return e};Gt.prototype.skipChars=function(e,i){for(let n=this.src.length;e<n&&this.src.charCodeAt(e)===i;e++);return e};Gt.prototype.skipCharsBack=function(e,i,n){if(e<=n)return e;for(;e>n;)if(i!==this.src.charCodeAt(--e))return e+1;return e};Gt.prototype.getLines=function(e,i,n,r){if(e>=i)return"";const s=new Array(i-e);for(let o=0,l=e;l<i;l++,o++){let a=0;const u=this.bMarks[l];let c=u,h;for(l+1<i||r?h=this.eMarks[l]+1:h=this.eMarks[l];c<h&&a<n;){const f=this.src.charCodeAt(c);if(ke(f))f===9?a+=4-(a+this.bsCount[l])%4:a++;else if(c-u<this.tShift[l])a++;else break;c++}a>n?s[o]=new Array(a-n+1).join(" ")+this.src.slice(c,h):s[o]=this.src.slice(c,h)}return s.join("")};Gt.prototype.Token=Tt;const t2=65536;function Go(t,e){const i=t.bMarks[e]+t.tShift[e],n=t.eMarks[e];return t.src.slice(i,n)}function Lc(t){const e=[],i=t.length;let n=0,r=t.charCodeAt(n),s=!1,o=0,l="";for(;n<i;)r===124&&(s?(l+=t.substring(o,n-1),o=n):(e.push(l+t.substring(o,n)),l="",o=n+1)),s=r===92,n++,r=t.charCodeAt(n);return e.push(l+t.substring(o)),e}function i2(t,e,i,n){if(e+2>i)return!1;let r=e+1;if(t.sCount[r]<t.blkIndent||t.sCount[r]-t.blkIndent>=4)return!1;let s=t.bMarks[r]+t.tShift[r];if(s>=t.eMarks[r])return!1;const o=t.src.charCodeAt(s++);if(o!==124&&o!==45&&o!==58||s>=t.eMarks[r])return!1;const l=t.src.charCodeAt(s++);if(l!==124&&l!==45&&l!==58&&!ke(l)||o===45&&ke(l))return!1;for(;s<t.eMarks[r];){const x=t.src.charCodeAt(s);if(x!==124&&x!==45&&x!==58&&!ke(x))return!1;s++}let a=Go(t,e+1),u=a.split("|");const c=[];for(let x=0;x<u.length;x++){const y=u[x].trim();if(!y){if(x===0||x===u.length-1)continue;return!1}if(!/^:?-+:?$/.test(y))return!1;y.charCodeAt(y.length-1)===58?c.push(y.charCodeAt(0)===58?"center":"right"):y.charCodeAt(0)===58?c.push("left"):c.push("")}if(a=Go(t,e).trim(),a.indexOf("|")===-1||t.sCount[e]-t.blkIndent>=4)return!1;u=Lc(a),u.length&&u[0]===""&&u.shift(),u.length&&u[u.length-1]===""&&u.pop();const h=u.length;if(h===0||h!==c.length)return!1;if(n)return!0;const f=t.parentType;t.parentType="table";const d=t.md.block.ruler.getRules("blockquote"),p=t.push("table_open","table",1),m=[e,0];p.map=m;const O=t.push("thead_open","thead",1);O.map=[e,e+1];const g=t.push("tr_open","tr",1);g.map=[e,e+1];for(let x=0;x<u.length;x++){const y=t.push("th_open","th",1);c[x]&&(y.attrs=[["style","text-align:"+c[x]]]);const $=t.push("inline","",0);$.content=u[x].trim(),$.children=[],t.push("th_close","th",-1)}t.push("tr_close","tr",-1),t.push("thead_close","thead",-1);let b,S=0;for(r=e+2;r<i&&!(t.sCount[r]<t.blkIndent);r++){let x=!1;for(let $=0,_=d.length;$<_;$++)if(d[$](t,r,i,!0)){x=!0;break}if(x||(a=Go(t,r).trim(),!a)||t.sCount[r]-t.blkIndent>=4||(u=Lc(a),u.length&&u[0]===""&&u.shift(),u.length&&u[u.length-1]===""&&u.pop(),S+=h-u.length,S>t2))break;if(r===e+2){const $=t.push("tbody_open","tbody",1);$.map=b=[e+2,0]}const y=t.push("tr_open","tr",1);y.map=[r,r+1];for(let $=0;$<h;$++){const _=t.push("td_open","td",1);c[$]&&(_.attrs=[["style","text-align:"+c[$]]]);const P=t.push("inline","",0);P.content=u[$]?u[$].trim():"",P.children=[],t.push("td_close","td",-1)}t.push("tr_close","tr",-1)}return b&&(t.push("tbody_close","tbody",-1),b[1]=r),t.push("table_close","table",-1),m[1]=r,t.parentType=f,t.line=r,!0}function n2(t,e,i){if(t.sCount[e]-t.blkIndent<4)return!1;let n=e+1,r=n;for(;n<i;){if(t.isEmpty(n)){n++;continue}if(t.sCount[n]-t.blkIndent>=4){n++,r=n;continue}break}t.line=r;const s=t.push("code_block","code",0);return s.content=t.getLines(e,r,4+t.blkIndent,!1)+`
+`,s.map=[e,t.line],!0}function r2(t,e,i,n){let r=t.bMarks[e]+t.tShift[e],s=t.eMarks[e];if(t.sCount[e]-t.blkIndent>=4||r+3>s)return!1;const o=t.src.charCodeAt(r);if(o!==126&&o!==96)return!1;let l=r;r=t.skipChars(r,o);let a=r-l;if(a<3)return!1;const u=t.src.slice(l,r),c=t.src.slice(r,s);if(o===96&&c.indexOf(String.fromCharCode(o))>=0)return!1;if(n)return!0;let h=e,f=!1;for(;h++,!(h>=i||(r=l=t.bMarks[h]+t.tShift[h],s=t.eMarks[h],r<s&&t.sCount[h]<t.blkIndent));)if(t.src.charCodeAt(r)===o&&!(t.sCount[h]-t.blkIndent>=4)&&(r=t.skipChars(r,o),!(r-l<a)&&(r=t.skipSpaces(r),!(r<s)))){f=!0;break}a=t.sCount[e],t.line=h+(f?1:0);const d=t.push("fence","code",0);return d.info=c,d.content=t.getLines(e+1,h,a,!0),d.markup=u,d.map=[e,t.line],!0}function s2(t,e,i,n){let r=t.bMarks[e]+t.tShift[e],s=t.eMarks[e];const o=t.lineMax;if(t.sCount[e]-t.blkIndent>=4||t.src.charCodeAt(r)!==62)return!1;if(n)return!0;const l=[],a=[],u=[],c=[],h=t.md.block.ruler.getRules("blockquote"),f=t.parentType;t.parentType="blockquote";let d=!1,p;for(p=e;p<i;p++){const S=t.sCount[p]<t.blkIndent;if(r=t.bMarks[p]+t.tShift[p],s=t.eMarks[p],r>=s)break;if(t.src.charCodeAt(r++)===62&&!S){let y=t.sCount[p]+1,$,_;t.src.charCodeAt(r)===32?(r++,y++,_=!1,$=!0):t.src.charCodeAt(r)===9?($=!0,(t.bsCount[p]+y)%4===3?(r++,y++,_=!1):_=!0):$=!1;let P=y;for(l.push(t.bMarks[p]),t.bMarks[p]=r;r<s;){const A=t.src.charCodeAt(r);if(ke(A))A===9?P+=4-(P+t.bsCount[p]+(_?1:0))%4:P++;else break;r++}d=r>=s,a.push(t.bsCount[p]),t.bsCount[p]=t.sCount[p]+1+($?1:0),u.push(t.sCount[p]),t.sCount[p]=P-y,c.push(t.tShift[p]),t.tShift[p]=r-t.bMarks[p];continue}if(d)break;let x=!1;for(let y=0,$=h.length;y<$;y++)if(h[y](t,p,i,!0)){x=!0;break}if(x){t.lineMax=p,t.blkIndent!==0&&(l.push(t.bMarks[p]),a.push(t.bsCount[p]),c.push(t.tShift[p]),u.push(t.sCount[p]),t.sCount[p]-=t.blkIndent);break}l.push(t.bMarks[p]),a.push(t.bsCount[p]),c.push(t.tShift[p]),u.push(t.sCount[p]),t.sCount[p]=-1}const m=t.blkIndent;t.blkIndent=0;const O=t.push("blockquote_open","blockquote",1);O.markup=">";const g=[e,0];O.map=g,t.md.block.tokenize(t,e,p);const b=t.push("blockquote_close","blockquote",-1);b.markup=">",t.lineMax=o,t.parentType=f,g[1]=t.line;for(let S=0;S<c.length;S++)t.bMarks[S+e]=l[S],t.tShift[S+e]=c[S],t.sCount[S+e]=u[S],t.bsCount[S+e]=a[S];return t.blkIndent=m,!0}function o2(t,e,i,n){const r=t.eMarks[e];if(t.sCount[e]-t.blkIndent>=4)return!1;let s=t.bMarks[e]+t.tShift[e];const o=t.src.charCodeAt(s++);if(o!==42&&o!==45&&o!==95)return!1;let l=1;for(;s<r;){const u=t.src.charCodeAt(s++);if(u!==o&&!ke(u))return!1;u===o&&l++}if(l<3)return!1;if(n)return!0;t.line=e+1;const a=t.push("hr","hr",0);return a.map=[e,t.line],a.markup=Array(l+1).join(String.fromCharCode(o)),!0}function Zc(t,e){const i=t.eMarks[e];let n=t.bMarks[e]+t.tShift[e];const r=t.src.charCodeAt(n++);if(r!==42&&r!==45&&r!==43)return-1;if(n<i){const s=t.src.charCodeAt(n);if(!ke(s))return-1}return n}function Ic(t,e){const i=t.bMarks[e]+t.tShift[e],n=t.eMarks[e];let r=i;if(r+1>=n)return-1;let s=t.src.charCodeAt(r++);if(s<48||s>57)return-1;for(;;){if(r>=n)return-1;if(s=t.src.charCodeAt(r++),s>=48&&s<=57){if(r-i>=10)return-1;continue}if(s===41||s===46)break;return-1}return r<n&&(s=t.src.charCodeAt(r),!ke(s))?-1:r}function l2(t,e){const i=t.level+2;for(let n=e+2,r=t.tokens.length-2;n<r;n++)t.tokens[n].level===i&&t.tokens[n].type==="paragraph_open"&&(t.tokens[n+2].hidden=!0,t.tokens[n].hidden=!0,n+=2)}function a2(t,e,i,n){let r,s,o,l,a=e,u=!0;if(t.sCount[a]-t.blkIndent>=4||t.listIndent>=0&&t.sCount[a]-t.listIndent>=4&&t.sCount[a]<t.blkIndent)return!1;let c=!1;n&&t.parentType==="paragraph"&&t.sCount[a]>=t.blkIndent&&(c=!0);let h,f,d;if((d=Ic(t,a))>=0){if(h=!0,o=t.bMarks[a]+t.tShift[a],f=Number(t.src.slice(o,d-1)),c&&f!==1)return!1}else if((d=Zc(t,a))>=0)h=!1;else return!1;if(c&&t.skipSpaces(d)>=t.eMarks[a])return!1;if(n)return!0;const p=t.src.charCodeAt(d-1),m=t.tokens.length;h?(l=t.push("ordered_list_open","ol",1),f!==1&&(l.attrs=[["start",f]])):l=t.push("bullet_list_open","ul",1);const O=[a,0];l.map=O,l.markup=String.fromCharCode(p);let g=!1;const b=t.md.block.ruler.getRules("list"),S=t.parentType;for(t.parentType="list";a<i;){s=d,r=t.eMarks[a];const x=t.sCount[a]+d-(t.bMarks[a]+t.tShift[a]);let y=x;for(;s<r;){const B=t.src.charCodeAt(s);if(B===9)y+=4-(y+t.bsCount[a])%4;else if(B===32)y++;else break;s++}const $=s;let _;$>=r?_=1:_=y-x,_>4&&(_=1);const P=x+_;l=t.push("list_item_open","li",1),l.markup=String.fromCharCode(p);const A=[a,0];l.map=A,h&&(l.info=t.src.slice(o,d-1));const z=t.tight,V=t.tShift[a],E=t.sCount[a],X=t.listIndent;if(t.listIndent=t.blkIndent,t.blkIndent=P,t.tight=!0,t.tShift[a]=$-t.bMarks[a],t.sCount[a]=y,$>=r&&t.isEmpty(a+1)?t.line=Math.min(t.line+2,i):t.md.block.tokenize(t,a,i,!0),(!t.tight||g)&&(u=!1),g=t.line-a>1&&t.isEmpty(t.line-1),t.blkIndent=t.listIndent,t.listIndent=X,t.tShift[a]=V,t.sCount[a]=E,t.tight=z,l=t.push("list_item_close","li",-1),l.markup=String.fromCharCode(p),a=t.line,A[1]=a,a>=i||t.sCount[a]<t.blkIndent||t.sCount[a]-t.blkIndent>=4)break;let q=!1;for(let B=0,D=b.length;B<D;B++)if(b[B](t,a,i,!0)){q=!0;break}if(q)break;if(h){if(d=Ic(t,a),d<0)break;o=t.bMarks[a]+t.tShift[a]}else if(d=Zc(t,a),d<0)break;if(p!==t.src.charCodeAt(d-1))break}return h?l=t.push("ordered_list_close","ol",-1):l=t.push("bullet_list_close","ul",-1),l.markup=String.fromCharCode(p),O[1]=a,t.line=a,t.parentType=S,u&&l2(t,m),!0}function u2(t,e,i,n){let r=t.bMarks[e]+t.tShift[e],s=t.eMarks[e],o=e+1;if(t.sCount[e]-t.blkIndent>=4||t.src.charCodeAt(r)!==91)return!1;function l(b){const S=t.lineMax;if(b>=S||t.isEmpty(b))return null;let x=!1;if(t.sCount[b]-t.blkIndent>3&&(x=!0),t.sCount[b]<0&&(x=!0),!x){const _=t.md.block.ruler.getRules("reference"),P=t.parentType;t.parentType="reference";let A=!1;for(let z=0,V=_.length;z<V;z++)if(_[z](t,b,S,!0)){A=!0;break}if(t.parentType=P,A)return null}const y=t.bMarks[b]+t.tShift[b],$=t.eMarks[b];return t.src.slice(y,$+1)}let a=t.src.slice(r,s+1);s=a.length;let u=-1;for(r=1;r<s;r++){const b=a.charCodeAt(r);if(b===91)return!1;if(b===93){u=r;break}else if(b===10){const S=l(o);S!==null&&(a+=S,s=a.length,o++)}else if(b===92&&(r++,r<s&&a.charCodeAt(r)===10)){const S=l(o);S!==null&&(a+=S,s=a.length,o++)}}if(u<0||a.charCodeAt(u+1)!==58)return!1;for(r=u+2;r<s;r++){const b=a.charCodeAt(r);if(b===10){const S=l(o);S!==null&&(a+=S,s=a.length,o++)}else if(!ke(b))break}const c=t.md.helpers.parseLinkDestination(a,r,s);if(!c.ok)return!1;const h=t.md.normalizeLink(c.str);if(!t.md.validateLink(h))return!1;r=c.pos;const f=r,d=o,p=r;for(;r<s;r++){const b=a.charCodeAt(r);if(b===10){const S=l(o);S!==null&&(a+=S,s=a.length,o++)}else if(!ke(b))break}let m=t.md.helpers.parseLinkTitle(a,r,s);for(;m.can_continue;){const b=l(o);if(b===null)break;a+=b,r=s,s=a.length,o++,m=t.md.helpers.parseLinkTitle(a,r,s,m)}let O;for(r<s&&p!==r&&m.ok?(O=m.str,r=m.pos):(O="",r=f,o=d);r<s;){const b=a.charCodeAt(r);if(!ke(b))break;r++}if(r<s&&a.charCodeAt(r)!==10&&O)for(O="",r=f,o=d;r<s;){const b=a.charCodeAt(r);if(!ke(b))break;r++}if(r<s&&a.charCodeAt(r)!==10)return!1;const g=To(a.slice(1,u));return g?(n||(typeof t.env.references>"u"&&(t.env.references={}),typeof t.env.references[g]>"u"&&(t.env.references[g]={title:O,href:h}),t.line=o),!0):!1}const c2=["address","article","aside","base","basefont","blockquote","body","caption","center","col","colgroup","dd","details","dialog","dir","div","dl","dt","fieldset","figcaption","figure","footer","form","frame","frameset","h1","h2","h3","h4","h5","h6","head","header","hr","html","iframe","legend","li","link","main","menu","menuitem","nav","noframes","ol","optgroup","option","p","param","search","section","summary","table","tbody","td","tfoot","th","thead","title","tr","track","ul"],h2="[a-zA-Z_:][a-zA-Z0-9:._-]*",f2="[^\"'=<>`\\x00-\\x20]+",d2="'[^']*'",p2='"[^"]*"',m2="(?:"+f2+"|"+d2+"|"+p2+")",O2="(?:\\s+"+h2+"(?:\\s*=\\s*"+m2+")?)",gp="<[A-Za-z][A-Za-z0-9\\-]*"+O2+"*\\s*\\/?>",bp="<\\/[A-Za-z][A-Za-z0-9\\-]*\\s*>",g2="<!---?>|<!--(?:[^-]|-[^-]|--[^>])*-->",b2="<[?][\\s\\S]*?[?]>",x2="<![A-Za-z][^>]*>",y2="<!\\[CDATA\\[[\\s\\S]*?\\]\\]>",k2=new RegExp("^(?:"+gp+"|"+bp+"|"+g2+"|"+b2+"|"+x2+"|"+y2+")"),v2=new RegExp("^(?:"+gp+"|"+bp+")"),ji=[[/^<(script|pre|style|textarea)(?=(\s|>|$))/i,/<\/(script|pre|style|textarea)>/i,!0],[/^<!--/,/-->/,!0],[/^<\?/,/\?>/,!0],[/^<![A-Z]/,/>/,!0],[/^<!\[CDATA\[/,/\]\]>/,!0],[new RegExp("^</?("+c2.join("|")+")(?=(\\s|/?>|$))","i"),/^$/,!0],[new RegExp(v2.source+"\\s*$"),/^$/,!1]];function S2(t,e,i,n){let r=t.bMarks[e]+t.tShift[e],s=t.eMarks[e];if(t.sCount[e]-t.blkIndent>=4||!t.md.options.html||t.src.charCodeAt(r)!==60)return!1;let o=t.src.slice(r,s),l=0;for(;l<ji.length&&!ji[l][0].test(o);l++);if(l===ji.length)return!1;if(n)return ji[l][2];let a=e+1;if(!ji[l][1].test(o)){for(;a<i&&!(t.sCount[a]<t.blkIndent);a++)if(r=t.bMarks[a]+t.tShift[a],s=t.eMarks[a],o=t.src.slice(r,s),ji[l][1].test(o)){o.length!==0&&a++;break}}t.line=a;const u=t.push("html_block","",0);return u.map=[e,a],u.content=t.getLines(e,a,t.blkIndent,!0),!0}function w2(t,e,i,n){let r=t.bMarks[e]+t.tShift[e],s=t.eMarks[e];if(t.sCount[e]-t.blkIndent>=4)return!1;let o=t.src.charCodeAt(r);if(o!==35||r>=s)return!1;let l=1;for(o=t.src.charCodeAt(++r);o===35&&r<s&&l<=6;)l++,o=t.src.charCodeAt(++r);if(l>6||r<s&&!ke(o))return!1;if(n)return!0;s=t.skipSpacesBack(s,r);const a=t.skipCharsBack(s,35,r);a>r&&ke(t.src.charCodeAt(a-1))&&(s=a),t.line=e+1;const u=t.push("heading_open","h"+String(l),1);u.markup="########".slice(0,l),u.map=[e,t.line];const c=t.push("inline","",0);c.content=t.src.slice(r,s).trim(),c.map=[e,t.line],c.children=[];const h=t.push("heading_close","h"+String(l),-1);return h.markup="########".slice(0,l),!0}function Q2(t,e,i){const n=t.md.block.ruler.getRules("paragraph");if(t.sCount[e]-t.blkIndent>=4)return!1;const r=t.parentType;t.parentType="paragraph";let s=0,o,l=e+1;for(;l<i&&!t.isEmpty(l);l++){if(t.sCount[l]-t.blkIndent>3)continue;if(t.sCount[l]>=t.blkIndent){let d=t.bMarks[l]+t.tShift[l];const p=t.eMarks[l];if(d<p&&(o=t.src.charCodeAt(d),(o===45||o===61)&&(d=t.skipChars(d,o),d=t.skipSpaces(d),d>=p))){s=o===61?1:2;break}}if(t.sCount[l]<0)continue;let f=!1;for(let d=0,p=n.length;d<p;d++)if(n[d](t,l,i,!0)){f=!0;break}if(f)break}if(!s)return!1;const a=t.getLines(e,l,t.blkIndent,!1).trim();t.line=l+1;const u=t.push("heading_open","h"+String(s),1);u.markup=String.fromCharCode(o),u.map=[e,t.line];const c=t.push("inline","",0);c.content=a,c.map=[e,t.line-1],c.children=[];const h=t.push("heading_close","h"+String(s),-1);return h.markup=String.fromCharCode(o),t.parentType=r,!0}function $2(t,e,i){const n=t.md.block.ruler.getRules("paragraph"),r=t.parentType;let s=e+1;for(t.parentType="paragraph";s<i&&!t.isEmpty(s);s++){if(t.sCount[s]-t.blkIndent>3||t.sCount[s]<0)continue;let u=!1;for(let c=0,h=n.length;c<h;c++)if(n[c](t,s,i,!0)){u=!0;break}if(u)break}const o=t.getLines(e,s,t.blkIndent,!1).trim();t.line=s;const l=t.push("paragraph_open","p",1);l.map=[e,t.line];const a=t.push("inline","",0);return a.content=o,a.map=[e,t.line],a.children=[],t.push("paragraph_close","p",-1),t.parentType=r,!0}const Jr=[["table",i2,["paragraph","reference"]],["code",n2],["fence",r2,["paragraph","reference","blockquote","list"]],["blockquote",s2,["paragraph","reference","blockquote","list"]],["hr",o2,["paragraph","reference","blockquote","list"]],["list",a2,["paragraph","reference","blockquote"]],["reference",u2],["html_block",S2,["paragraph","reference","blockquote"]],["heading",w2,["paragraph","reference","blockquote"]],["lheading",Q2],["paragraph",$2]];function Ao(){this.ruler=new tt;for(let t=0;t<Jr.length;t++)this.ruler.push(Jr[t][0],Jr[t][1],{alt:(Jr[t][2]||[]).slice()})}Ao.prototype.tokenize=function(t,e,i){const n=this.ruler.getRules(""),r=n.length,s=t.md.options.maxNesting;let o=e,l=!1;for(;o<i&&(t.line=o=t.skipEmptyLines(o),!(o>=i||t.sCount[o]<t.blkIndent));){if(t.level>=s){t.line=i;break}const a=t.line;let u=!1;for(let c=0;c<r;c++)if(u=n[c](t,o,i,!1),u){if(a>=t.line)throw new Error("block rule didn't increment state.line");break}if(!u)throw new Error("none of the block rules matched");t.tight=!l,t.isEmpty(t.line-1)&&(l=!0),o=t.line,o<i&&t.isEmpty(o)&&(l=!0,o++,t.line=o)}};Ao.prototype.parse=function(t,e,i,n){if(!t)return;const r=new this.State(t,e,i,n);this.tokenize(r,r.line,r.lineMax)};Ao.prototype.State=Gt;function Zr(t,e,i,n){this.src=t,this.env=i,this.md=e,this.tokens=n,this.tokens_meta=Array(n.length),this.pos=0,this.posMax=this.src.length,this.level=0,this.pending="",this.pendingLevel=0,this.cache={},this.delimiters=[],this._prev_delimiters=[],this.backticks={},this.backticksScanned=!1,this.linkLevel=0}Zr.prototype.pushPending=function(){const t=new Tt("text","",0);return t.content=this.pending,t.level=this.pendingLevel,this.tokens.push(t),this.pending="",t};Zr.prototype.push=function(t,e,i){this.pending&&this.pushPending();const n=new Tt(t,e,i);let r=null;return i<0&&(this.level--,this.delimiters=this._prev_delimiters.pop()),n.level=this.level,i>0&&(this.level++,this._prev_delimiters.push(this.delimiters),this.delimiters=[],r={delimiters:this.delimiters}),this.pendingLevel=this.level,this.tokens.push(n),this.tokens_meta.push(r),n};Zr.prototype.scanDelims=function(t,e){const i=this.posMax,n=this.src.charCodeAt(t),r=t>0?this.src.charCodeAt(t-1):32;let s=t;for(;s<i&&this.src.charCodeAt(s)===n;)s++;const o=s-t,l=s<i?this.src.charCodeAt(s):32,a=dr(r)||fr(String.fromCharCode(r)),u=dr(l)||fr(String.fromCharCode(l)),c=hr(r),h=hr(l),f=!h&&(!u||c||a),d=!c&&(!a||h||u);return{can_open:f&&(e||!d||a),can_close:d&&(e||!f||u),length:o}};Zr.prototype.Token=Tt;function _2(t){switch(t){case 10:case 33:case 35:case 36:case 37:case 38:case 42:case 43:case 45:case 58:case 60:case 61:case 62:case 64:case 91:case 92:case 93:case 94:case 95:case 96:case 123:case 125:case 126:return!0;default:return!1}}function P2(t,e){let i=t.pos;for(;i<t.posMax&&!_2(t.src.charCodeAt(i));)i++;return i===t.pos?!1:(e||(t.pending+=t.src.slice(t.pos,i)),t.pos=i,!0)}const C2=/(?:^|[^a-z0-9.+-])([a-z][a-z0-9.+-]*)$/i;function T2(t,e){if(!t.md.options.linkify||t.linkLevel>0)return!1;const i=t.pos,n=t.posMax;if(i+3>n||t.src.charCodeAt(i)!==58||t.src.charCodeAt(i+1)!==47||t.src.charCodeAt(i+2)!==47)return!1;const r=t.pending.match(C2);if(!r)return!1;const s=r[1],o=t.md.linkify.matchAtStart(t.src.slice(i-s.length));if(!o)return!1;let l=o.url;if(l.length<=s.length)return!1;l=l.replace(/\*+$/,"");const a=t.md.normalizeLink(l);if(!t.md.validateLink(a))return!1;if(!e){t.pending=t.pending.slice(0,-s.length);const u=t.push("link_open","a",1);u.attrs=[["href",a]],u.markup="linkify",u.info="auto";const c=t.push("text","",0);c.content=t.md.normalizeLinkText(l);const h=t.push("link_close","a",-1);h.markup="linkify",h.info="auto"}return t.pos+=l.length-s.length,!0}function A2(t,e){let i=t.pos;if(t.src.charCodeAt(i)!==10)return!1;const n=t.pending.length-1,r=t.posMax;if(!e)if(n>=0&&t.pending.charCodeAt(n)===32)if(n>=1&&t.pending.charCodeAt(n-1)===32){let s=n-1;for(;s>=1&&t.pending.charCodeAt(s-1)===32;)s--;t.pending=t.pending.slice(0,s),t.push("hardbreak","br",0)}else t.pending=t.pending.slice(0,-1),t.push("softbreak","br",0);else t.push("softbreak","br",0);for(i++;i<r&&ke(t.src.charCodeAt(i));)i++;return t.pos=i,!0}const du=[];for(let t=0;t<256;t++)du.push(0);"\\!\"#$%&'()*+,./:;<=>?@[]^_`{|}~-".split("").forEach(function(t){du[t.charCodeAt(0)]=1});function E2(t,e){let i=t.pos;const n=t.posMax;if(t.src.charCodeAt(i)!==92||(i++,i>=n))return!1;let r=t.src.charCodeAt(i);if(r===10){for(e||t.push("hardbreak","br",0),i++;i<n&&(r=t.src.charCodeAt(i),!!ke(r));)i++;return t.pos=i,!0}let s=t.src[i];if(r>=55296&&r<=56319&&i+1<n){const l=t.src.charCodeAt(i+1);l>=56320&&l<=57343&&(s+=t.src[i+1],i++)}const o="\\"+s;if(!e){const l=t.push("text_special","",0);r<256&&du[r]!==0?l.content=s:l.content=o,l.markup=o,l.info="escape"}return t.pos=i+1,!0}function D2(t,e){let i=t.pos;if(t.src.charCodeAt(i)!==96)return!1;const r=i;i++;const s=t.posMax;for(;i<s&&t.src.charCodeAt(i)===96;)i++;const o=t.src.slice(r,i),l=o.length;if(t.backticksScanned&&(t.backticks[l]||0)<=r)return e||(t.pending+=o),t.pos+=l,!0;let a=i,u;for(;(u=t.src.indexOf("`",a))!==-1;){for(a=u+1;a<s&&t.src.charCodeAt(a)===96;)a++;const c=a-u;if(c===l){if(!e){const h=t.push("code_inline","code",0);h.markup=o,h.content=t.src.slice(i,u).replace(/\n/g," ").replace(/^ (.+) $/,"$1")}return t.pos=a,!0}t.backticks[c]=u}return t.backticksScanned=!0,e||(t.pending+=o),t.pos+=l,!0}function M2(t,e){const i=t.pos,n=t.src.charCodeAt(i);if(e||n!==126)return!1;const r=t.scanDelims(t.pos,!0);let s=r.length;const o=String.fromCharCode(n);if(s<2)return!1;let l;s%2&&(l=t.push("text","",0),l.content=o,s--);for(let a=0;a<s;a+=2)l=t.push("text","",0),l.content=o+o,t.delimiters.push({marker:n,length:0,token:t.tokens.length-1,end:-1,open:r.can_open,close:r.can_close});return t.pos+=r.length,!0}function zc(t,e){let i;const n=[],r=e.length;for(let s=0;s<r;s++){const o=e[s];if(o.marker!==126||o.end===-1)continue;const l=e[o.end];i=t.tokens[o.token],i.type="s_open",i.tag="s",i.nesting=1,i.markup="~~",i.content="",i=t.tokens[l.token],i.type="s_close",i.tag="s",i.nesting=-1,i.markup="~~",i.content="",t.tokens[l.token-1].type==="text"&&t.tokens[l.token-1].content==="~"&&n.push(l.token-1)}for(;n.length;){const s=n.pop();let o=s+1;for(;o<t.tokens.length&&t.tokens[o].type==="s_close";)o++;o--,s!==o&&(i=t.tokens[o],t.tokens[o]=t.tokens[s],t.tokens[s]=i)}}function R2(t){const e=t.tokens_meta,i=t.tokens_meta.length;zc(t,t.delimiters);for(let n=0;n<i;n++)e[n]&&e[n].delimiters&&zc(t,e[n].delimiters)}const xp={tokenize:M2,postProcess:R2};function L2(t,e){const i=t.pos,n=t.src.charCodeAt(i);if(e||n!==95&&n!==42)return!1;const r=t.scanDelims(t.pos,n===42);for(let s=0;s<r.length;s++){const o=t.push("text","",0);o.content=String.fromCharCode(n),t.delimiters.push({marker:n,length:r.length,token:t.tokens.length-1,end:-1,open:r.can_open,close:r.can_close})}return t.pos+=r.length,!0}function Xc(t,e){const i=e.length;for(let n=i-1;n>=0;n--){const r=e[n];if(r.marker!==95&&r.marker!==42||r.end===-1)continue;const s=e[r.end],o=n>0&&e[n-1].end===r.end+1&&e[n-1].marker===r.marker&&e[n-1].token===r.token-1&&e[r.end+1].token===s.token+1,l=String.fromCharCode(r.marker),a=t.tokens[r.token];a.type=o?"strong_open":"em_open",a.tag=o?"strong":"em",a.nesting=1,a.markup=o?l+l:l,a.content="";const u=t.tokens[s.token];u.type=o?"strong_close":"em_close",u.tag=o?"strong":"em",u.nesting=-1,u.markup=o?l+l:l,u.content="",o&&(t.tokens[e[n-1].token].content="",t.tokens[e[r.end+1].token].content="",n--)}}function Z2(t){const e=t.tokens_meta,i=t.tokens_meta.length;Xc(t,t.delimiters);for(let n=0;n<i;n++)e[n]&&e[n].delimiters&&Xc(t,e[n].delimiters)}const yp={tokenize:L2,postProcess:Z2};function I2(t,e){let i,n,r,s,o="",l="",a=t.pos,u=!0;if(t.src.charCodeAt(t.pos)!==91)return!1;const c=t.pos,h=t.posMax,f=t.pos+1,d=t.md.helpers.parseLinkLabel(t,t.pos,!0);if(d<0)return!1;let p=d+1;if(p<h&&t.src.charCodeAt(p)===40){for(u=!1,p++;p<h&&(i=t.src.charCodeAt(p),!(!ke(i)&&i!==10));p++);if(p>=h)return!1;if(a=p,r=t.md.helpers.parseLinkDestination(t.src,p,t.posMax),r.ok){for(o=t.md.normalizeLink(r.str),t.md.validateLink(o)?p=r.pos:o="",a=p;p<h&&(i=t.src.charCodeAt(p),!(!ke(i)&&i!==10));p++);if(r=t.md.helpers.parseLinkTitle(t.src,p,t.posMax),p<h&&a!==p&&r.ok)for(l=r.str,p=r.pos;p<h&&(i=t.src.charCodeAt(p),!(!ke(i)&&i!==10));p++);}(p>=h||t.src.charCodeAt(p)!==41)&&(u=!0),p++}if(u){if(typeof t.env.references>"u")return!1;if(p<h&&t.src.charCodeAt(p)===91?(a=p+1,p=t.md.helpers.parseLinkLabel(t,p),p>=0?n=t.src.slice(a,p++):p=d+1):p=d+1,n||(n=t.src.slice(f,d)),s=t.env.references[To(n)],!s)return t.pos=c,!1;o=s.href,l=s.title}if(!e){t.pos=f,t.posMax=d;const m=t.push("link_open","a",1),O=[["href",o]];m.attrs=O,l&&O.push(["title",l]),t.linkLevel++,t.md.inline.tokenize(t),t.linkLevel--,t.push("link_close","a",-1)}return t.pos=p,t.posMax=h,!0}function z2(t,e){let i,n,r,s,o,l,a,u,c="";const h=t.pos,f=t.posMax;if(t.src.charCodeAt(t.pos)!==33||t.src.charCodeAt(t.pos+1)!==91)return!1;const d=t.pos+2,p=t.md.helpers.parseLinkLabel(t,t.pos+1,!1);if(p<0)return!1;if(s=p+1,s<f&&t.src.charCodeAt(s)===40){for(s++;s<f&&(i=t.src.charCodeAt(s),!(!ke(i)&&i!==10));s++);if(s>=f)return!1;for(u=s,l=t.md.helpers.parseLinkDestination(t.src,s,t.posMax),l.ok&&(c=t.md.normalizeLink(l.str),t.md.validateLink(c)?s=l.pos:c=""),u=s;s<f&&(i=t.src.charCodeAt(s),!(!ke(i)&&i!==10));s++);if(l=t.md.helpers.parseLinkTitle(t.src,s,t.posMax),s<f&&u!==s&&l.ok)for(a=l.str,s=l.pos;s<f&&(i=t.src.charCodeAt(s),!(!ke(i)&&i!==10));s++);else a="";if(s>=f||t.src.charCodeAt(s)!==41)return t.pos=h,!1;s++}else{if(typeof t.env.references>"u")return!1;if(s<f&&t.src.charCodeAt(s)===91?(u=s+1,s=t.md.helpers.parseLinkLabel(t,s),s>=0?r=t.src.slice(u,s++):s=p+1):s=p+1,r||(r=t.src.slice(d,p)),o=t.env.references[To(r)],!o)return t.pos=h,!1;c=o.href,a=o.title}if(!e){n=t.src.slice(d,p);const m=[];t.md.inline.parse(n,t.md,t.env,m);const O=t.push("image","img",0),g=[["src",c],["alt",""]];O.attrs=g,O.children=m,O.content=n,a&&g.push(["title",a])}return t.pos=s,t.posMax=f,!0}const X2=/^([a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*)$/,V2=/^([a-zA-Z][a-zA-Z0-9+.-]{1,31}):([^<>\x00-\x20]*)$/;function F2(t,e){let i=t.pos;if(t.src.charCodeAt(i)!==60)return!1;const n=t.pos,r=t.posMax;for(;;){if(++i>=r)return!1;const o=t.src.charCodeAt(i);if(o===60)return!1;if(o===62)break}const s=t.src.slice(n+1,i);if(V2.test(s)){const o=t.md.normalizeLink(s);if(!t.md.validateLink(o))return!1;if(!e){const l=t.push("link_open","a",1);l.attrs=[["href",o]],l.markup="autolink",l.info="auto";const a=t.push("text","",0);a.content=t.md.normalizeLinkText(s);const u=t.push("link_close","a",-1);u.markup="autolink",u.info="auto"}return t.pos+=s.length+2,!0}if(X2.test(s)){const o=t.md.normalizeLink("mailto:"+s);if(!t.md.validateLink(o))return!1;if(!e){const l=t.push("link_open","a",1);l.attrs=[["href",o]],l.markup="autolink",l.info="auto";const a=t.push("text","",0);a.content=t.md.normalizeLinkText(s);const u=t.push("link_close","a",-1);u.markup="autolink",u.info="auto"}return t.pos+=s.length+2,!0}return!1}function B2(t){return/^<a[>\s]/i.test(t)}function q2(t){return/^<\/a\s*>/i.test(t)}function j2(t){const e=t|32;return e>=97&&e<=122}function Y2(t,e){if(!t.md.options.html)return!1;const i=t.posMax,n=t.pos;if(t.src.charCodeAt(n)!==60||n+2>=i)return!1;const r=t.src.charCodeAt(n+1);if(r!==33&&r!==63&&r!==47&&!j2(r))return!1;const s=t.src.slice(n).match(k2);if(!s)return!1;if(!e){const o=t.push("html_inline","",0);o.content=s[0],B2(o.content)&&t.linkLevel++,q2(o.content)&&t.linkLevel--}return t.pos+=s[0].length,!0}const N2=/^&#((?:x[a-f0-9]{1,6}|[0-9]{1,7}));/i,W2=/^&([a-z][a-z0-9]{1,31});/i;function G2(t,e){const i=t.pos,n=t.posMax;if(t.src.charCodeAt(i)!==38||i+1>=n)return!1;if(t.src.charCodeAt(i+1)===35){const s=t.src.slice(i).match(N2);if(s){if(!e){const o=s[1][0].toLowerCase()==="x"?parseInt(s[1].slice(1),16):parseInt(s[1],10),l=t.push("text_special","",0);l.content=hu(o)?Gs(o):Gs(65533),l.markup=s[0],l.info="entity"}return t.pos+=s[0].length,!0}}else{const s=t.src.slice(i).match(W2);if(s){const o=fp(s[0]);if(o!==s[0]){if(!e){const l=t.push("text_special","",0);l.content=o,l.markup=s[0],l.info="entity"}return t.pos+=s[0].length,!0}}}return!1}function Vc(t){const e={},i=t.length;if(!i)return;let n=0,r=-2;const s=[];for(let o=0;o<i;o++){const l=t[o];if(s.push(0),(t[n].marker!==l.marker||r!==l.token-1)&&(n=o),r=l.token,l.length=l.length||0,!l.close)continue;e.hasOwnProperty(l.marker)||(e[l.marker]=[-1,-1,-1,-1,-1,-1]);const a=e[l.marker][(l.open?3:0)+l.length%3];let u=n-s[n]-1,c=u;for(;u>a;u-=s[u]+1){const h=t[u];if(h.marker===l.marker&&h.open&&h.end<0){let f=!1;if((h.close||l.open)&&(h.length+l.length)%3===0&&(h.length%3!==0||l.length%3!==0)&&(f=!0),!f){const d=u>0&&!t[u-1].open?s[u-1]+1:0;s[o]=o-u+d,s[u]=d,l.open=!1,h.end=o,h.close=!1,c=-1,r=-2;break}}}c!==-1&&(e[l.marker][(l.open?3:0)+(l.length||0)%3]=c)}}function U2(t){const e=t.tokens_meta,i=t.tokens_meta.length;Vc(t.delimiters);for(let n=0;n<i;n++)e[n]&&e[n].delimiters&&Vc(e[n].delimiters)}function H2(t){let e,i,n=0;const r=t.tokens,s=t.tokens.length;for(e=i=0;e<s;e++)r[e].nesting<0&&n--,r[e].level=n,r[e].nesting>0&&n++,r[e].type==="text"&&e+1<s&&r[e+1].type==="text"?r[e+1].content=r[e].content+r[e+1].content:(e!==i&&(r[i]=r[e]),i++);e!==i&&(r.length=i)}const Uo=[["text",P2],["linkify",T2],["newline",A2],["escape",E2],["backticks",D2],["strikethrough",xp.tokenize],["emphasis",yp.tokenize],["link",I2],["image",z2],["autolink",F2],["html_inline",Y2],["entity",G2]],Ho=[["balance_pairs",U2],["strikethrough",xp.postProcess],["emphasis",yp.postProcess],["fragments_join",H2]];function Ir(){this.ruler=new tt;for(let t=0;t<Uo.length;t++)this.ruler.push(Uo[t][0],Uo[t][1]);this.ruler2=new tt;for(let t=0;t<Ho.length;t++)this.ruler2.push(Ho[t][0],Ho[t][1])}Ir.prototype.skipToken=function(t){const e=t.pos,i=this.ruler.getRules(""),n=i.length,r=t.md.options.maxNesting,s=t.cache;if(typeof s[e]<"u"){t.pos=s[e];return}let o=!1;if(t.level<r){for(let l=0;l<n;l++)if(t.level++,o=i[l](t,!0),t.level--,o){if(e>=t.pos)throw new Error("inline rule didn't increment state.pos");break}}else t.pos=t.posMax;o||t.pos++,s[e]=t.pos};Ir.prototype.tokenize=function(t){const e=this.ruler.getRules(""),i=e.length,n=t.posMax,r=t.md.options.maxNesting;for(;t.pos<n;){const s=t.pos;let o=!1;if(t.level<r){for(let l=0;l<i;l++)if(o=e[l](t,!1),o){if(s>=t.pos)throw new Error("inline rule didn't increment state.pos");break}}if(o){if(t.pos>=n)break;continue}t.pending+=t.src[t.pos++]}t.pending&&t.pushPending()};Ir.prototype.parse=function(t,e,i,n){const r=new this.State(t,e,i,n);this.tokenize(r);const s=this.ruler2.getRules(""),o=s.length;for(let l=0;l<o;l++)s[l](r)};Ir.prototype.State=Zr;function K2(t){const e={};t=t||{},e.src_Any=lp.source,e.src_Cc=ap.source,e.src_Z=cp.source,e.src_P=uu.source,e.src_ZPCc=[e.src_Z,e.src_P,e.src_Cc].join("|"),e.src_ZCc=[e.src_Z,e.src_Cc].join("|");const i="[><｜]";return e.src_pseudo_letter="(?:(?!"+i+"|"+e.src_ZPCc+")"+e.src_Any+")",e.src_ip4="(?:(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)",e.src_auth="(?:(?:(?!"+e.src_ZCc+"|[@/\\[\\]()]).)+@)?",e.src_port="(?::(?:6(?:[0-4]\\d{3}|5(?:[0-4]\\d{2}|5(?:[0-2]\\d|3[0-5])))|[1-5]?\\d{1,4}))?",e.src_host_terminator="(?=$|"+i+"|"+e.src_ZPCc+")(?!"+(t["---"]?"-(?!--)|":"-|")+"_|:\\d|\\.-|\\.(?!$|"+e.src_ZPCc+"))",e.src_path="(?:[/?#](?:(?!"+e.src_ZCc+"|"+i+`|[()[\\]{}.,"'?!\\-;]).|\\[(?:(?!`+e.src_ZCc+"|\\]).)*\\]|\\((?:(?!"+e.src_ZCc+"|[)]).)*\\)|\\{(?:(?!"+e.src_ZCc+'|[}]).)*\\}|\\"(?:(?!'+e.src_ZCc+`|["]).)+\\"|\\'(?:(?!`+e.src_ZCc+"|[']).)+\\'|\\'(?="+e.src_pseudo_letter+"|[-])|\\.{2,}[a-zA-Z0-9%/&]|\\.(?!"+e.src_ZCc+"|[.]|$)|"+(t["---"]?"\\-(?!--(?:[^-]|$))(?:-*)|":"\\-+|")+",(?!"+e.src_ZCc+"|$)|;(?!"+e.src_ZCc+"|$)|\\!+(?!"+e.src_ZCc+"|[!]|$)|\\?(?!"+e.src_ZCc+"|[?]|$))+|\\/)?",e.src_email_name='[\\-;:&=\\+\\$,\\.a-zA-Z0-9_][\\-;:&=\\+\\$,\\"\\.a-zA-Z0-9_]*',e.src_xn="xn--[a-z0-9\\-]{1,59}",e.src_domain_root="(?:"+e.src_xn+"|"+e.src_pseudo_letter+"{1,63})",e.src_domain="(?:"+e.src_xn+"|(?:"+e.src_pseudo_letter+")|(?:"+e.src_pseudo_letter+"(?:-|"+e.src_pseudo_letter+"){0,61}"+e.src_pseudo_letter+"))",e.src_host="(?:(?:(?:(?:"+e.src_domain+")\\.)*"+e.src_domain+"))",e.tpl_host_fuzzy="(?:"+e.src_ip4+"|(?:(?:(?:"+e.src_domain+")\\.)+(?:%TLDS%)))",e.tpl_host_no_ip_fuzzy="(?:(?:(?:"+e.src_domain+")\\.)+(?:%TLDS%))",e.src_host_strict=e.src_host+e.src_host_terminator,e.tpl_host_fuzzy_strict=e.tpl_host_fuzzy+e.src_host_terminator,e.src_host_port_strict=e.src_host+e.src_port+e.src_host_terminator,e.tpl_host_port_fuzzy_strict=e.tpl_host_fuzzy+e.src_port+e.src_host_terminator,e.tpl_host_port_no_ip_fuzzy_strict=e.tpl_host_no_ip_fuzzy+e.src_port+e.src_host_terminator,e.tpl_host_fuzzy_test="localhost|www\\.|\\.\\d{1,3}\\.|(?:\\.(?:%TLDS%)(?:"+e.src_ZPCc+"|>|$))",e.tpl_email_fuzzy="(^|"+i+'|"|\\(|'+e.src_ZCc+")("+e.src_email_name+"@"+e.tpl_host_fuzzy_strict+")",e.tpl_link_fuzzy="(^|(?![.:/\\-_@])(?:[$+<=>^`|｜]|"+e.src_ZPCc+"))((?![$+<=>^`|｜])"+e.tpl_host_port_fuzzy_strict+e.src_path+")",e.tpl_link_no_ip_fuzzy="(^|(?![.:/\\-_@])(?:[$+<=>^`|｜]|"+e.src_ZPCc+"))((?![$+<=>^`|｜])"+e.tpl_host_port_no_ip_fuzzy_strict+e.src_path+")",e}function Kl(t){return Array.prototype.slice.call(arguments,1).forEach(function(i){i&&Object.keys(i).forEach(function(n){t[n]=i[n]})}),t}function Eo(t){return Object.prototype.toString.call(t)}function J2(t){return Eo(t)==="[object String]"}function ex(t){return Eo(t)==="[object Object]"}function tx(t){return Eo(t)==="[object RegExp]"}function Fc(t){return Eo(t)==="[object Function]"}function ix(t){return t.replace(/[.?*+^$[\]\\(){}|-]/g,"\\$&")}const kp={fuzzyLink:!0,fuzzyEmail:!0,fuzzyIP:!1};function nx(t){return Object.keys(t||{}).reduce(function(e,i){return e||kp.hasOwnProperty(i)},!1)}const rx={"http:":{validate:function(t,e,i){const n=t.slice(e);return i.re.http||(i.re.http=new RegExp("^\\/\\/"+i.re.src_auth+i.re.src_host_port_strict+i.re.src_path,"i")),i.re.http.test(n)?n.match(i.re.http)[0].length:0}},"https:":"http:","ftp:":"http:","//":{validate:function(t,e,i){const n=t.slice(e);return i.re.no_http||(i.re.no_http=new RegExp("^"+i.re.src_auth+"(?:localhost|(?:(?:"+i.re.src_domain+")\\.)+"+i.re.src_domain_root+")"+i.re.src_port+i.re.src_host_terminator+i.re.src_path,"i")),i.re.no_http.test(n)?e>=3&&t[e-3]===":"||e>=3&&t[e-3]==="/"?0:n.match(i.re.no_http)[0].length:0}},"mailto:":{validate:function(t,e,i){const n=t.slice(e);return i.re.mailto||(i.re.mailto=new RegExp("^"+i.re.src_email_name+"@"+i.re.src_host_strict,"i")),i.re.mailto.test(n)?n.match(i.re.mailto)[0].length:0}}},sx="a[cdefgilmnoqrstuwxz]|b[abdefghijmnorstvwyz]|c[acdfghiklmnoruvwxyz]|d[ejkmoz]|e[cegrstu]|f[ijkmor]|g[abdefghilmnpqrstuwy]|h[kmnrtu]|i[delmnoqrst]|j[emop]|k[eghimnprwyz]|l[abcikrstuvy]|m[acdeghklmnopqrstuvwxyz]|n[acefgilopruz]|om|p[aefghklmnrstwy]|qa|r[eosuw]|s[abcdeghijklmnortuvxyz]|t[cdfghjklmnortvwz]|u[agksyz]|v[aceginu]|w[fs]|y[et]|z[amw]",ox="biz|com|edu|gov|net|org|pro|web|xxx|aero|asia|coop|info|museum|name|shop|рф".split("|");function lx(t){t.__index__=-1,t.__text_cache__=""}function ax(t){return function(e,i){const n=e.slice(i);return t.test(n)?n.match(t)[0].length:0}}function Bc(){return function(t,e){e.normalize(t)}}function Us(t){const e=t.re=K2(t.__opts__),i=t.__tlds__.slice();t.onCompile(),t.__tlds_replaced__||i.push(sx),i.push(e.src_xn),e.src_tlds=i.join("|");function n(l){return l.replace("%TLDS%",e.src_tlds)}e.email_fuzzy=RegExp(n(e.tpl_email_fuzzy),"i"),e.link_fuzzy=RegExp(n(e.tpl_link_fuzzy),"i"),e.link_no_ip_fuzzy=RegExp(n(e.tpl_link_no_ip_fuzzy),"i"),e.host_fuzzy_test=RegExp(n(e.tpl_host_fuzzy_test),"i");const r=[];t.__compiled__={};function s(l,a){throw new Error('(LinkifyIt) Invalid schema "'+l+'": '+a)}Object.keys(t.__schemas__).forEach(function(l){const a=t.__schemas__[l];if(a===null)return;const u={validate:null,link:null};if(t.__compiled__[l]=u,ex(a)){tx(a.validate)?u.validate=ax(a.validate):Fc(a.validate)?u.validate=a.validate:s(l,a),Fc(a.normalize)?u.normalize=a.normalize:a.normalize?s(l,a):u.normalize=Bc();return}if(J2(a)){r.push(l);return}s(l,a)}),r.forEach(function(l){t.__compiled__[t.__schemas__[l]]&&(t.__compiled__[l].validate=t.__compiled__[t.__schemas__[l]].validate,t.__compiled__[l].normalize=t.__compiled__[t.__schemas__[l]].normalize)}),t.__compiled__[""]={validate:null,normalize:Bc()};const o=Object.keys(t.__compiled__).filter(function(l){return l.length>0&&t.__compiled__[l]}).map(ix).join("|");t.re.schema_test=RegExp("(^|(?!_)(?:[><｜]|"+e.src_ZPCc+"))("+o+")","i"),t.re.schema_search=RegExp("(^|(?!_)(?:[><｜]|"+e.src_ZPCc+"))("+o+")","ig"),t.re.schema_at_start=RegExp("^"+t.re.schema_search.source,"i"),t.re.pretest=RegExp("("+t.re.schema_test.source+")|("+t.re.host_fuzzy_test.source+")|@","i"),lx(t)}function ux(t,e){const i=t.__index__,n=t.__last_index__,r=t.__text_cache__.slice(i,n);this.schema=t.__schema__.toLowerCase(),this.index=i+e,this.lastIndex=n+e,this.raw=r,this.text=r,this.url=r}function Jl(t,e){const i=new ux(t,e);return t.__compiled__[i.schema].normalize(i,t),i}function pt(t,e){if(!(this instanceof pt))return new pt(t,e);e||nx(t)&&(e=t,t={}),this.__opts__=Kl({},kp,e),this.__index__=-1,this.__last_index__=-1,this.__schema__="",this.__text_cache__="",this.__schemas__=Kl({},rx,t),this.__compiled__={},this.__tlds__=ox,this.__tlds_replaced__=!1,this.re={},Us(this)}pt.prototype.add=function(e,i){return this.__schemas__[e]=i,Us(this),this};pt.prototype.set=function(e){return this.__opts__=Kl(this.__opts__,e),this};pt.prototype.test=function(e){if(this.__text_cache__=e,this.__index__=-1,!e.length)return!1;let i,n,r,s,o,l,a,u,c;if(this.re.schema_test.test(e)){for(a=this.re.schema_search,a.lastIndex=0;(i=a.exec(e))!==null;)if(s=this.testSchemaAt(e,i[2],a.lastIndex),s){this.__schema__=i[2],this.__index__=i.index+i[1].length,this.__last_index__=i.index+i[0].length+s;break}}return this.__opts__.fuzzyLink&&this.__compiled__["http:"]&&(u=e.search(this.re.host_fuzzy_test),u>=0&&(this.__index__<0||u<this.__index__)&&(n=e.match(this.__opts__.fuzzyIP?this.re.link_fuzzy:this.re.link_no_ip_fuzzy))!==null&&(o=n.index+n[1].length,(this.__index__<0||o<this.__index__)&&(this.__schema__="",this.__index__=o,this.__last_index__=n.index+n[0].length))),this.__opts__.fuzzyEmail&&this.__compiled__["mailto:"]&&(c=e.indexOf("@"),c>=0&&(r=e.match(this.re.email_fuzzy))!==null&&(o=r.index+r[1].length,l=r.index+r[0].length,(this.__index__<0||o<this.__index__||o===this.__index__&&l>this.__last_index__)&&(this.__schema__="mailto:",this.__index__=o,this.__last_index__=l))),this.__index__>=0};pt.prototype.pretest=function(e){return this.re.pretest.test(e)};pt.prototype.testSchemaAt=function(e,i,n){return this.__compiled__[i.toLowerCase()]?this.__compiled__[i.toLowerCase()].validate(e,n,this):0};pt.prototype.match=function(e){const i=[];let n=0;this.__index__>=0&&this.__text_cache__===e&&(i.push(Jl(this,n)),n=this.__last_index__);let r=n?e.slice(n):e;for(;this.test(r);)i.push(Jl(this,n)),r=r.slice(this.__last_index__),n+=this.__last_index__;return i.length?i:null};pt.prototype.matchAtStart=function(e){if(this.__text_cache__=e,this.__index__=-1,!e.length)return null;const i=this.re.schema_at_start.exec(e);if(!i)return null;const n=this.testSchemaAt(e,i[2],i[0].length);return n?(this.__schema__=i[2],this.__index__=i.index+i[1].length,this.__last_index__=i.index+i[0].length+n,Jl(this,0)):null};pt.prototype.tlds=function(e,i){return e=Array.isArray(e)?e:[e],i?(this.__tlds__=this.__tlds__.concat(e).sort().filter(function(n,r,s){return n!==s[r-1]}).reverse(),Us(this),this):(this.__tlds__=e.slice(),this.__tlds_replaced__=!0,Us(this),this)};pt.prototype.normalize=function(e){e.schema||(e.url="http://"+e.url),e.schema==="mailto:"&&!/^mailto:/i.test(e.url)&&(e.url="mailto:"+e.url)};pt.prototype.onCompile=function(){};const en=2147483647,Vt=36,pu=1,pr=26,cx=38,hx=700,vp=72,Sp=128,wp="-",fx=/^xn--/,dx=/[^\0-\x7F]/,px=/[\x2E\u3002\uFF0E\uFF61]/g,mx={overflow:"Overflow: input needs wider integers to process","not-basic":"Illegal input >= 0x80 (not a basic code point)","invalid-input":"Invalid input"},Ko=Vt-pu,Ft=Math.floor,Jo=String.fromCharCode;function ai(t){throw new RangeError(mx[t])}function Ox(t,e){const i=[];let n=t.length;for(;n--;)i[n]=e(t[n]);return i}function Qp(t,e){const i=t.split("@");let n="";i.length>1&&(n=i[0]+"@",t=i[1]),t=t.replace(px,".");const r=t.split("."),s=Ox(r,e).join(".");return n+s}function $p(t){const e=[];let i=0;const n=t.length;for(;i<n;){const r=t.charCodeAt(i++);if(r>=55296&&r<=56319&&i<n){const s=t.charCodeAt(i++);(s&64512)==56320?e.push(((r&1023)<<10)+(s&1023)+65536):(e.push(r),i--)}else e.push(r)}return e}const gx=t=>String.fromCodePoint(...t),bx=function(t){return t>=48&&t<58?26+(t-48):t>=65&&t<91?t-65:t>=97&&t<123?t-97:Vt},qc=function(t,e){return t+22+75*(t<26)-((e!=0)<<5)},_p=function(t,e,i){let n=0;for(t=i?Ft(t/hx):t>>1,t+=Ft(t/e);t>Ko*pr>>1;n+=Vt)t=Ft(t/Ko);return Ft(n+(Ko+1)*t/(t+cx))},Pp=function(t){const e=[],i=t.length;let n=0,r=Sp,s=vp,o=t.lastIndexOf(wp);o<0&&(o=0);for(let l=0;l<o;++l)t.charCodeAt(l)>=128&&ai("not-basic"),e.push(t.charCodeAt(l));for(let l=o>0?o+1:0;l<i;){const a=n;for(let c=1,h=Vt;;h+=Vt){l>=i&&ai("invalid-input");const f=bx(t.charCodeAt(l++));f>=Vt&&ai("invalid-input"),f>Ft((en-n)/c)&&ai("overflow"),n+=f*c;const d=h<=s?pu:h>=s+pr?pr:h-s;if(f<d)break;const p=Vt-d;c>Ft(en/p)&&ai("overflow"),c*=p}const u=e.length+1;s=_p(n-a,u,a==0),Ft(n/u)>en-r&&ai("overflow"),r+=Ft(n/u),n%=u,e.splice(n++,0,r)}return String.fromCodePoint(...e)},Cp=function(t){const e=[];t=$p(t);const i=t.length;let n=Sp,r=0,s=vp;for(const a of t)a<128&&e.push(Jo(a));const o=e.length;let l=o;for(o&&e.push(wp);l<i;){let a=en;for(const c of t)c>=n&&c<a&&(a=c);const u=l+1;a-n>Ft((en-r)/u)&&ai("overflow"),r+=(a-n)*u,n=a;for(const c of t)if(c<n&&++r>en&&ai("overflow"),c===n){let h=r;for(let f=Vt;;f+=Vt){const d=f<=s?pu:f>=s+pr?pr:f-s;if(h<d)break;const p=h-d,m=Vt-d;e.push(Jo(qc(d+p%m,0))),h=Ft(p/m)}e.push(Jo(qc(h,0))),s=_p(r,u,l===o),r=0,++l}++r,++n}return e.join("")},xx=function(t){return Qp(t,function(e){return fx.test(e)?Pp(e.slice(4).toLowerCase()):e})},yx=function(t){return Qp(t,function(e){return dx.test(e)?"xn--"+Cp(e):e})},Tp={version:"2.3.1",ucs2:{decode:$p,encode:gx},decode:Pp,encode:Cp,toASCII:yx,toUnicode:xx},kx={options:{html:!1,xhtmlOut:!1,breaks:!1,langPrefix:"language-",linkify:!1,typographer:!1,quotes:"“”‘’",highlight:null,maxNesting:100},components:{core:{},block:{},inline:{}}},vx={options:{html:!1,xhtmlOut:!1,breaks:!1,langPrefix:"language-",linkify:!1,typographer:!1,quotes:"“”‘’",highlight:null,maxNesting:20},components:{core:{rules:["normalize","block","inline","text_join"]},block:{rules:["paragraph"]},inline:{rules:["text"],rules2:["balance_pairs","fragments_join"]}}},Sx={options:{html:!0,xhtmlOut:!0,breaks:!1,langPrefix:"language-",linkify:!1,typographer:!1,quotes:"“”‘’",highlight:null,maxNesting:20},components:{core:{rules:["normalize","block","inline","text_join"]},block:{rules:["blockquote","code","fence","heading","hr","html_block","lheading","list","reference","paragraph"]},inline:{rules:["autolink","backticks","emphasis","entity","escape","html_inline","image","link","newline","text"],rules2:["balance_pairs","emphasis","fragments_join"]}}},wx={default:kx,zero:vx,commonmark:Sx},Qx=/^(vbscript|javascript|file|data):/,$x=/^data:image\/(gif|png|jpeg|webp);/;function _x(t){const e=t.trim().toLowerCase();return Qx.test(e)?$x.test(e):!0}const Ap=["http:","https:","mailto:"];function Px(t){const e=au(t,!0);if(e.hostname&&(!e.protocol||Ap.indexOf(e.protocol)>=0))try{e.hostname=Tp.toASCII(e.hostname)}catch{}return Lr(lu(e))}function Cx(t){const e=au(t,!0);if(e.hostname&&(!e.protocol||Ap.indexOf(e.protocol)>=0))try{e.hostname=Tp.toUnicode(e.hostname)}catch{}return un(lu(e),un.defaultChars+"%")}function wt(t,e){if(!(this instanceof wt))return new wt(t,e);e||cu(t)||(e=t||{},t="default"),this.inline=new Ir,this.block=new Ao,this.core=new fu,this.renderer=new $n,this.linkify=new pt,this.validateLink=_x,this.normalizeLink=Px,this.normalizeLinkText=Cx,this.utils=Ab,this.helpers=Co({},Rb),this.options={},this.configure(t),e&&this.set(e)}wt.prototype.set=function(t){return Co(this.options,t),this};wt.prototype.configure=function(t){const e=this;if(cu(t)){const i=t;if(t=wx[i],!t)throw new Error('Wrong `markdown-it` preset "'+i+'", check name')}if(!t)throw new Error("Wrong `markdown-it` preset, can't be empty");return t.options&&e.set(t.options),t.components&&Object.keys(t.components).forEach(function(i){t.components[i].rules&&e[i].ruler.enableOnly(t.components[i].rules),t.components[i].rules2&&e[i].ruler2.enableOnly(t.components[i].rules2)}),this};wt.prototype.enable=function(t,e){let i=[];Array.isArray(t)||(t=[t]),["core","block","inline"].forEach(function(r){i=i.concat(this[r].ruler.enable(t,!0))},this),i=i.concat(this.inline.ruler2.enable(t,!0));const n=t.filter(function(r){return i.indexOf(r)<0});if(n.length&&!e)throw new Error("MarkdownIt. Failed to enable unknown rule(s): "+n);return this};wt.prototype.disable=function(t,e){let i=[];Array.isArray(t)||(t=[t]),["core","block","inline"].forEach(function(r){i=i.concat(this[r].ruler.disable(t,!0))},this),i=i.concat(this.inline.ruler2.disable(t,!0));const n=t.filter(function(r){return i.indexOf(r)<0});if(n.length&&!e)throw new Error("MarkdownIt. Failed to disable unknown rule(s): "+n);return this};wt.prototype.use=function(t){const e=[this].concat(Array.prototype.slice.call(arguments,1));return t.apply(t,e),this};wt.prototype.parse=function(t,e){if(typeof t!="string")throw new Error("Input data should be a String");const i=new this.core.State(t,this,e);return this.core.process(i),i.tokens};wt.prototype.render=function(t,e){return e=e||{},this.renderer.render(this.parse(t,e),this.options,e)};wt.prototype.parseInline=function(t,e){const i=new this.core.State(t,this,e);return i.inlineMode=!0,this.core.process(i),i.tokens};wt.prototype.renderInline=function(t,e){return e=e||{},this.renderer.render(this.parseInline(t,e),this.options,e)};const jc=new Set([!0,!1,"alt","title"]);function Ep(t,e){return(Array.isArray(t)?t:[]).filter(([i])=>i!==e)}function Dp(t,e){t&&t.attrs&&(t.attrs=Ep(t.attrs,e))}function Tx(t,e){if(!jc.has(t))throw new TypeError(`figcaption must be one of: ${[...jc]}.`);if(t==="alt")return e.content;const i=e.attrs.find(([n])=>n==="title");return Array.isArray(i)&&i[1]?(Dp(e,"title"),i[1]):void 0}function Ax(t,e){e=e||{},t.core.ruler.before("linkify","image_figures",function(i){let n=1;for(let r=1,s=i.tokens.length;r<s-1;++r){const o=i.tokens[r];if(o.type!=="inline"||!o.children||o.children.length!==1&&o.children.length!==3||o.children.length===1&&o.children[0].type!=="image")continue;if(o.children.length===3){const[u,c,h]=o.children;if(u.type!=="link_open"||c.type!=="image"||h.type!=="link_close")continue}if(r!==0&&i.tokens[r-1].type!=="paragraph_open"||r!==s-1&&i.tokens[r+1].type!=="paragraph_close")continue;const l=i.tokens[r-1];let a;if(l.type="figure_open",l.tag="figure",i.tokens[r+1].type="figure_close",i.tokens[r+1].tag="figure",e.dataType&&i.tokens[r-1].attrPush(["data-type","image"]),e.link&&o.children.length===1){[a]=o.children;const u=new i.Token("link_open","a",1);u.attrPush(["href",a.attrGet("src")]),o.children.unshift(u),o.children.push(new i.Token("link_close","a",-1))}if(a=o.children.length===1?o.children[0]:o.children[1],e.figcaption){const u=Tx(e.figcaption,a);if(u){const[c]=t.parseInline(u,i.env);o.children.push(new i.Token("figcaption_open","figcaption",1)),o.children.push(...c.children),o.children.push(new i.Token("figcaption_close","figcaption",-1)),a.attrs&&(a.attrs=Ep(a.attrs,"title"))}}if(e.copyAttrs&&a.attrs){const u=e.copyAttrs===!0?"":e.copyAttrs;l.attrs=a.attrs.filter(([c])=>c.match(u)).map(c=>Array.from(c))}if(e.tabindex&&(i.tokens[r-1].attrPush(["tabindex",n]),n++),e.lazy&&(a.attrs.some(([u])=>u==="loading")||a.attrs.push(["loading","lazy"])),e.async&&(a.attrs.some(([u])=>u==="decoding")||a.attrs.push(["decoding","async"])),e.classes&&typeof e.classes=="string"){let u=!1;for(let c=0,h=a.attrs.length;c<h&&!u;c++){const f=a.attrs[c];f[0]==="class"&&(f[1]=`${f[1]} ${e.classes}`,u=!0)}u||a.attrs.push(["class",e.classes])}if(e.removeSrc){const u=a.attrs.find(([c])=>c==="src");a.attrs.push(["data-src",u[1]]),Dp(a,"src")}}})}const Ex=/\\([ \\!"#$%&'()*+,./:;<=>?@[\]^_`{|}~-])/g;function Dx(t,e){const i=t.posMax,n=t.pos;if(t.src.charCodeAt(n)!==126||e||n+2>=i)return!1;t.pos=n+1;let r=!1;for(;t.pos<i;){if(t.src.charCodeAt(t.pos)===126){r=!0;break}t.md.inline.skipToken(t)}if(!r||n+1===t.pos)return t.pos=n,!1;const s=t.src.slice(n+1,t.pos);if(s.match(/(^|[^\\])(\\\\)*\s/))return t.pos=n,!1;t.posMax=t.pos,t.pos=n+1;const o=t.push("sub_open","sub",1);o.markup="~";const l=t.push("text","",0);l.content=s.replace(Ex,"$1");const a=t.push("sub_close","sub",-1);return a.markup="~",t.pos=t.posMax+1,t.posMax=i,!0}function Mx(t){t.inline.ruler.after("emphasis","sub",Dx)}const Rx=/\\([ \\!"#$%&'()*+,./:;<=>?@[\]^_`{|}~-])/g;function Lx(t,e){const i=t.posMax,n=t.pos;if(t.src.charCodeAt(n)!==94||e||n+2>=i)return!1;t.pos=n+1;let r=!1;for(;t.pos<i;){if(t.src.charCodeAt(t.pos)===94){r=!0;break}t.md.inline.skipToken(t)}if(!r||n+1===t.pos)return t.pos=n,!1;const s=t.src.slice(n+1,t.pos);if(s.match(/(^|[^\\])(\\\\)*\s/))return t.pos=n,!1;t.posMax=t.pos,t.pos=n+1;const o=t.push("sup_open","sup",1);o.markup="^";const l=t.push("text","",0);l.content=s.replace(Rx,"$1");const a=t.push("sup_close","sup",-1);return a.markup="^",t.pos=t.posMax+1,t.posMax=i,!0}function Zx(t){t.inline.ruler.after("emphasis","sup",Lx)}const Ix=typeof performance=="object"&&performance&&typeof performance.now=="function"?performance:Date,Mp=new Set,ea=typeof process=="object"&&process?process:{},Rp=(t,e,i,n)=>{typeof ea.emitWarning=="function"?ea.emitWarning(t,e,i,n):console.error(`[${i}] ${e}: ${t}`)};let Hs=globalThis.AbortController,Yc=globalThis.AbortSignal;if(typeof Hs>"u"){Yc=class{onabort;_onabort=[];reason;aborted=!1;addEventListener(n,r){this._onabort.push(r)}},Hs=class{constructor(){e()}signal=new Yc;abort(n){if(!this.signal.aborted){this.signal.reason=n,this.signal.aborted=!0;for(const r of this.signal._onabort)r(n);this.signal.onabort?.(n)}}};let t=ea.env?.LRU_CACHE_IGNORE_AC_WARNING!=="1";const e=()=>{t&&(t=!1,Rp("AbortController is not defined. If using lru-cache in node 14, load an AbortController polyfill from the `node-abort-controller` package. A minimal polyfill is provided for use by LRUCache.fetch(), but it should not be relied upon in other contexts (eg, passing it to other APIs that use AbortController/AbortSignal might have undesirable effects). You may disable this with LRU_CACHE_IGNORE_AC_WARNING=1 in the env.","NO_ABORT_CONTROLLER","ENOTSUP",e))}}const zx=t=>!Mp.has(t),li=t=>t&&t===Math.floor(t)&&t>0&&isFinite(t),Lp=t=>li(t)?t<=Math.pow(2,8)?Uint8Array:t<=Math.pow(2,16)?Uint16Array:t<=Math.pow(2,32)?Uint32Array:t<=Number.MAX_SAFE_INTEGER?Ts:null:null;class Ts extends Array{constructor(e){super(e),this.fill(0)}}let Xx=class jn{heap;length;static#l=!1;static create(e){const i=Lp(e);if(!i)return[];jn.#l=!0;const n=new jn(e,i);return jn.#l=!1,n}constructor(e,i){if(!jn.#l)throw new TypeError("instantiate Stack using Stack.create(n)");this.heap=new i(e),this.length=0}push(e){this.heap[this.length++]=e}pop(){return this.heap[--this.length]}};class mu{#l;#h;#O;#C;#g;#D;#M;#b;get perf(){return this.#b}ttl;ttlResolution;ttlAutopurge;updateAgeOnGet;updateAgeOnHas;allowStale;noDisposeOnSet;noUpdateTTL;maxEntrySize;sizeCalculation;noDeleteOnFetchRejection;noDeleteOnStaleGet;allowStaleOnFetchAbort;allowStaleOnFetchRejection;ignoreFetchAbort;#r;#x;#n;#i;#e;#u;#f;#a;#s;#y;#o;#k;#v;#d;#p;#S;#P;#c;#R;static unsafeExposeInternals(e){return{starts:e.#v,ttls:e.#d,autopurgeTimers:e.#p,sizes:e.#k,keyMap:e.#n,keyList:e.#i,valList:e.#e,next:e.#u,prev:e.#f,get head(){return e.#a},get tail(){return e.#s},free:e.#y,isBackgroundFetch:i=>e.#t(i),backgroundFetch:(i,n,r,s)=>e.#I(i,n,r,s),moveToTail:i=>e.#E(i),indexes:i=>e.#w(i),rindexes:i=>e.#Q(i),isStale:i=>e.#m(i)}}get max(){return this.#l}get maxSize(){return this.#h}get calculatedSize(){return this.#x}get size(){return this.#r}get fetchMethod(){return this.#D}get memoMethod(){return this.#M}get dispose(){return this.#O}get onInsert(){return this.#C}get disposeAfter(){return this.#g}constructor(e){const{max:i=0,ttl:n,ttlResolution:r=1,ttlAutopurge:s,updateAgeOnGet:o,updateAgeOnHas:l,allowStale:a,dispose:u,onInsert:c,disposeAfter:h,noDisposeOnSet:f,noUpdateTTL:d,maxSize:p=0,maxEntrySize:m=0,sizeCalculation:O,fetchMethod:g,memoMethod:b,noDeleteOnFetchRejection:S,noDeleteOnStaleGet:x,allowStaleOnFetchRejection:y,allowStaleOnFetchAbort:$,ignoreFetchAbort:_,perf:P}=e;if(P!==void 0&&typeof P?.now!="function")throw new TypeError("perf option must have a now() method if specified");if(this.#b=P??Ix,i!==0&&!li(i))throw new TypeError("max option must be a nonnegative integer");const A=i?Lp(i):Array;if(!A)throw new Error("invalid max value: "+i);if(this.#l=i,this.#h=p,this.maxEntrySize=m||this.#h,this.sizeCalculation=O,this.sizeCalculation){if(!this.#h&&!this.maxEntrySize)throw new TypeError("cannot set sizeCalculation without setting maxSize or maxEntrySize");if(typeof this.sizeCalculation!="function")throw new TypeError("sizeCalculation set to non-function")}if(b!==void 0&&typeof b!="function")throw new TypeError("memoMethod must be a function if defined");if(this.#M=b,g!==void 0&&typeof g!="function")throw new TypeError("fetchMethod must be a function if specified");if(this.#D=g,this.#P=!!g,this.#n=new Map,this.#i=new Array(i).fill(void 0),this.#e=new Array(i).fill(void 0),this.#u=new A(i),this.#f=new A(i),this.#a=0,this.#s=0,this.#y=Xx.create(i),this.#r=0,this.#x=0,typeof u=="function"&&(this.#O=u),typeof c=="function"&&(this.#C=c),typeof h=="function"?(this.#g=h,this.#o=[]):(this.#g=void 0,this.#o=void 0),this.#S=!!this.#O,this.#R=!!this.#C,this.#c=!!this.#g,this.noDisposeOnSet=!!f,this.noUpdateTTL=!!d,this.noDeleteOnFetchRejection=!!S,this.allowStaleOnFetchRejection=!!y,this.allowStaleOnFetchAbort=!!$,this.ignoreFetchAbort=!!_,this.maxEntrySize!==0){if(this.#h!==0&&!li(this.#h))throw new TypeError("maxSize must be a positive integer if specified");if(!li(this.maxEntrySize))throw new TypeError("maxEntrySize must be a positive integer if specified");this.#j()}if(this.allowStale=!!a,this.noDeleteOnStaleGet=!!x,this.updateAgeOnGet=!!o,this.updateAgeOnHas=!!l,this.ttlResolution=li(r)||r===0?r:1,this.ttlAutopurge=!!s,this.ttl=n||0,this.ttl){if(!li(this.ttl))throw new TypeError("ttl must be a positive integer if specified");this.#z()}if(this.#l===0&&this.ttl===0&&this.#h===0)throw new TypeError("At least one of max, maxSize, or ttl is required");if(!this.ttlAutopurge&&!this.#l&&!this.#h){const z="LRU_CACHE_UNBOUNDED";zx(z)&&(Mp.add(z),Rp("TTL caching without ttlAutopurge, max, or maxSize can result in unbounded memory consumption.","UnboundedCacheWarning",z,mu))}}getRemainingTTL(e){return this.#n.has(e)?1/0:0}#z(){const e=new Ts(this.#l),i=new Ts(this.#l);this.#d=e,this.#v=i;const n=this.ttlAutopurge?new Array(this.#l):void 0;this.#p=n,this.#X=(o,l,a=this.#b.now())=>{if(i[o]=l!==0?a:0,e[o]=l,n?.[o]&&(clearTimeout(n[o]),n[o]=void 0),l!==0&&n){const u=setTimeout(()=>{this.#m(o)&&this.#$(this.#i[o],"expire")},l+1);u.unref&&u.unref(),n[o]=u}},this.#T=o=>{i[o]=e[o]!==0?this.#b.now():0},this.#_=(o,l)=>{if(e[l]){const a=e[l],u=i[l];if(!a||!u)return;o.ttl=a,o.start=u,o.now=r||s();const c=o.now-u;o.remainingTTL=a-c}};let r=0;const s=()=>{const o=this.#b.now();if(this.ttlResolution>0){r=o;const l=setTimeout(()=>r=0,this.ttlResolution);l.unref&&l.unref()}return o};this.getRemainingTTL=o=>{const l=this.#n.get(o);if(l===void 0)return 0;const a=e[l],u=i[l];if(!a||!u)return 1/0;const c=(r||s())-u;return a-c},this.#m=o=>{const l=i[o],a=e[o];return!!a&&!!l&&(r||s())-l>a}}#T=()=>{};#_=()=>{};#X=()=>{};#m=()=>!1;#j(){const e=new Ts(this.#l);this.#x=0,this.#k=e,this.#A=i=>{this.#x-=e[i],e[i]=0},this.#V=(i,n,r,s)=>{if(this.#t(n))return 0;if(!li(r))if(s){if(typeof s!="function")throw new TypeError("sizeCalculation must be a function");if(r=s(n,i),!li(r))throw new TypeError("sizeCalculation return invalid (expect positive integer)")}else throw new TypeError("invalid size value (must be positive integer). When maxSize or maxEntrySize is used, sizeCalculation or size must be set.");return r},this.#L=(i,n,r)=>{if(e[i]=n,this.#h){const s=this.#h-e[i];for(;this.#x>s;)this.#Z(!0)}this.#x+=e[i],r&&(r.entrySize=n,r.totalCalculatedSize=this.#x)}}#A=e=>{};#L=(e,i,n)=>{};#V=(e,i,n,r)=>{if(n||r)throw new TypeError("cannot set size without setting maxSize or maxEntrySize on cache");return 0};*#w({allowStale:e=this.allowStale}={}){if(this.#r)for(let i=this.#s;!(!this.#F(i)||((e||!this.#m(i))&&(yield i),i===this.#a));)i=this.#f[i]}*#Q({allowStale:e=this.allowStale}={}){if(this.#r)for(let i=this.#a;!(!this.#F(i)||((e||!this.#m(i))&&(yield i),i===this.#s));)i=this.#u[i]}#F(e){return e!==void 0&&this.#n.get(this.#i[e])===e}*entries(){for(const e of this.#w())this.#e[e]!==void 0&&this.#i[e]!==void 0&&!this.#t(this.#e[e])&&(yield[this.#i[e],this.#e[e]])}*rentries(){for(const e of this.#Q())this.#e[e]!==void 0&&this.#i[e]!==void 0&&!this.#t(this.#e[e])&&(yield[this.#i[e],this.#e[e]])}*keys(){for(const e of this.#w()){const i=this.#i[e];i!==void 0&&!this.#t(this.#e[e])&&(yield i)}}*rkeys(){for(const e of this.#Q()){const i=this.#i[e];i!==void 0&&!this.#t(this.#e[e])&&(yield i)}}*values(){for(const e of this.#w())this.#e[e]!==void 0&&!this.#t(this.#e[e])&&(yield this.#e[e])}*rvalues(){for(const e of this.#Q())this.#e[e]!==void 0&&!this.#t(this.#e[e])&&(yield this.#e[e])}[Symbol.iterator](){return this.entries()}[Symbol.toStringTag]="LRUCache";find(e,i={}){for(const n of this.#w()){const r=this.#e[n],s=this.#t(r)?r.__staleWhileFetching:r;if(s!==void 0&&e(s,this.#i[n],this))return this.get(this.#i[n],i)}}forEach(e,i=this){for(const n of this.#w()){const r=this.#e[n],s=this.#t(r)?r.__staleWhileFetching:r;s!==void 0&&e.call(i,s,this.#i[n],this)}}rforEach(e,i=this){for(const n of this.#Q()){const r=this.#e[n],s=this.#t(r)?r.__staleWhileFetching:r;s!==void 0&&e.call(i,s,this.#i[n],this)}}purgeStale(){let e=!1;for(const i of this.#Q({allowStale:!0}))this.#m(i)&&(this.#$(this.#i[i],"expire"),e=!0);return e}info(e){const i=this.#n.get(e);if(i===void 0)return;const n=this.#e[i],r=this.#t(n)?n.__staleWhileFetching:n;if(r===void 0)return;const s={value:r};if(this.#d&&this.#v){const o=this.#d[i],l=this.#v[i];if(o&&l){const a=o-(this.#b.now()-l);s.ttl=a,s.start=Date.now()}}return this.#k&&(s.size=this.#k[i]),s}dump(){const e=[];for(const i of this.#w({allowStale:!0})){const n=this.#i[i],r=this.#e[i],s=this.#t(r)?r.__staleWhileFetching:r;if(s===void 0||n===void 0)continue;const o={value:s};if(this.#d&&this.#v){o.ttl=this.#d[i];const l=this.#b.now()-this.#v[i];o.start=Math.floor(Date.now()-l)}this.#k&&(o.size=this.#k[i]),e.unshift([n,o])}return e}load(e){this.clear();for(const[i,n]of e){if(n.start){const r=Date.now()-n.start;n.start=this.#b.now()-r}this.set(i,n.value,n)}}set(e,i,n={}){if(i===void 0)return this.delete(e),this;const{ttl:r=this.ttl,start:s,noDisposeOnSet:o=this.noDisposeOnSet,sizeCalculation:l=this.sizeCalculation,status:a}=n;let{noUpdateTTL:u=this.noUpdateTTL}=n;const c=this.#V(e,i,n.size||0,l);if(this.maxEntrySize&&c>this.maxEntrySize)return a&&(a.set="miss",a.maxEntrySizeExceeded=!0),this.#$(e,"set"),this;let h=this.#r===0?void 0:this.#n.get(e);if(h===void 0)h=this.#r===0?this.#s:this.#y.length!==0?this.#y.pop():this.#r===this.#l?this.#Z(!1):this.#r,this.#i[h]=e,this.#e[h]=i,this.#n.set(e,h),this.#u[this.#s]=h,this.#f[h]=this.#s,this.#s=h,this.#r++,this.#L(h,c,a),a&&(a.set="add"),u=!1,this.#R&&this.#C?.(i,e,"add");else{this.#E(h);const f=this.#e[h];if(i!==f){if(this.#P&&this.#t(f)){f.__abortController.abort(new Error("replaced"));const{__staleWhileFetching:d}=f;d!==void 0&&!o&&(this.#S&&this.#O?.(d,e,"set"),this.#c&&this.#o?.push([d,e,"set"]))}else o||(this.#S&&this.#O?.(f,e,"set"),this.#c&&this.#o?.push([f,e,"set"]));if(this.#A(h),this.#L(h,c,a),this.#e[h]=i,a){a.set="replace";const d=f&&this.#t(f)?f.__staleWhileFetching:f;d!==void 0&&(a.oldValue=d)}}else a&&(a.set="update");this.#R&&this.onInsert?.(i,e,i===f?"update":"replace")}if(r!==0&&!this.#d&&this.#z(),this.#d&&(u||this.#X(h,r,s),a&&this.#_(a,h)),!o&&this.#c&&this.#o){const f=this.#o;let d;for(;d=f?.shift();)this.#g?.(...d)}return this}pop(){try{for(;this.#r;){const e=this.#e[this.#a];if(this.#Z(!0),this.#t(e)){if(e.__staleWhileFetching)return e.__staleWhileFetching}else if(e!==void 0)return e}}finally{if(this.#c&&this.#o){const e=this.#o;let i;for(;i=e?.shift();)this.#g?.(...i)}}}#Z(e){const i=this.#a,n=this.#i[i],r=this.#e[i];return this.#P&&this.#t(r)?r.__abortController.abort(new Error("evicted")):(this.#S||this.#c)&&(this.#S&&this.#O?.(r,n,"evict"),this.#c&&this.#o?.push([r,n,"evict"])),this.#A(i),this.#p?.[i]&&(clearTimeout(this.#p[i]),this.#p[i]=void 0),e&&(this.#i[i]=void 0,this.#e[i]=void 0,this.#y.push(i)),this.#r===1?(this.#a=this.#s=0,this.#y.length=0):this.#a=this.#u[i],this.#n.delete(n),this.#r--,i}has(e,i={}){const{updateAgeOnHas:n=this.updateAgeOnHas,status:r}=i,s=this.#n.get(e);if(s!==void 0){const o=this.#e[s];if(this.#t(o)&&o.__staleWhileFetching===void 0)return!1;if(this.#m(s))r&&(r.has="stale",this.#_(r,s));else return n&&this.#T(s),r&&(r.has="hit",this.#_(r,s)),!0}else r&&(r.has="miss");return!1}peek(e,i={}){const{allowStale:n=this.allowStale}=i,r=this.#n.get(e);if(r===void 0||!n&&this.#m(r))return;const s=this.#e[r];return this.#t(s)?s.__staleWhileFetching:s}#I(e,i,n,r){const s=i===void 0?void 0:this.#e[i];if(this.#t(s))return s;const o=new Hs,{signal:l}=n;l?.addEventListener("abort",()=>o.abort(l.reason),{signal:o.signal});const a={signal:o.signal,options:n,context:r},u=(m,O=!1)=>{const{aborted:g}=o.signal,b=n.ignoreFetchAbort&&m!==void 0;if(n.status&&(g&&!O?(n.status.fetchAborted=!0,n.status.fetchError=o.signal.reason,b&&(n.status.fetchAbortIgnored=!0)):n.status.fetchResolved=!0),g&&!b&&!O)return h(o.signal.reason);const S=d,x=this.#e[i];return(x===d||b&&O&&x===void 0)&&(m===void 0?S.__staleWhileFetching!==void 0?this.#e[i]=S.__staleWhileFetching:this.#$(e,"fetch"):(n.status&&(n.status.fetchUpdated=!0),this.set(e,m,a.options))),m},c=m=>(n.status&&(n.status.fetchRejected=!0,n.status.fetchError=m),h(m)),h=m=>{const{aborted:O}=o.signal,g=O&&n.allowStaleOnFetchAbort,b=g||n.allowStaleOnFetchRejection,S=b||n.noDeleteOnFetchRejection,x=d;if(this.#e[i]===d&&(!S||x.__staleWhileFetching===void 0?this.#$(e,"fetch"):g||(this.#e[i]=x.__staleWhileFetching)),b)return n.status&&x.__staleWhileFetching!==void 0&&(n.status.returnedStale=!0),x.__staleWhileFetching;if(x.__returned===x)throw m},f=(m,O)=>{const g=this.#D?.(e,s,a);g&&g instanceof Promise&&g.then(b=>m(b===void 0?void 0:b),O),o.signal.addEventListener("abort",()=>{(!n.ignoreFetchAbort||n.allowStaleOnFetchAbort)&&(m(void 0),n.allowStaleOnFetchAbort&&(m=b=>u(b,!0)))})};n.status&&(n.status.fetchDispatched=!0);const d=new Promise(f).then(u,c),p=Object.assign(d,{__abortController:o,__staleWhileFetching:s,__returned:void 0});return i===void 0?(this.set(e,p,{...a.options,status:void 0}),i=this.#n.get(e)):this.#e[i]=p,p}#t(e){if(!this.#P)return!1;const i=e;return!!i&&i instanceof Promise&&i.hasOwnProperty("__staleWhileFetching")&&i.__abortController instanceof Hs}async fetch(e,i={}){const{allowStale:n=this.allowStale,updateAgeOnGet:r=this.updateAgeOnGet,noDeleteOnStaleGet:s=this.noDeleteOnStaleGet,ttl:o=this.ttl,noDisposeOnSet:l=this.noDisposeOnSet,size:a=0,sizeCalculation:u=this.sizeCalculation,noUpdateTTL:c=this.noUpdateTTL,noDeleteOnFetchRejection:h=this.noDeleteOnFetchRejection,allowStaleOnFetchRejection:f=this.allowStaleOnFetchRejection,ignoreFetchAbort:d=this.ignoreFetchAbort,allowStaleOnFetchAbort:p=this.allowStaleOnFetchAbort,context:m,forceRefresh:O=!1,status:g,signal:b}=i;if(!this.#P)return g&&(g.fetch="get"),this.get(e,{allowStale:n,updateAgeOnGet:r,noDeleteOnStaleGet:s,status:g});const S={allowStale:n,updateAgeOnGet:r,noDeleteOnStaleGet:s,ttl:o,noDisposeOnSet:l,size:a,sizeCalculation:u,noUpdateTTL:c,noDeleteOnFetchRejection:h,allowStaleOnFetchRejection:f,allowStaleOnFetchAbort:p,ignoreFetchAbort:d,status:g,signal:b};let x=this.#n.get(e);if(x===void 0){g&&(g.fetch="miss");const y=this.#I(e,x,S,m);return y.__returned=y}else{const y=this.#e[x];if(this.#t(y)){const z=n&&y.__staleWhileFetching!==void 0;return g&&(g.fetch="inflight",z&&(g.returnedStale=!0)),z?y.__staleWhileFetching:y.__returned=y}const $=this.#m(x);if(!O&&!$)return g&&(g.fetch="hit"),this.#E(x),r&&this.#T(x),g&&this.#_(g,x),y;const _=this.#I(e,x,S,m),A=_.__staleWhileFetching!==void 0&&n;return g&&(g.fetch=$?"stale":"refresh",A&&$&&(g.returnedStale=!0)),A?_.__staleWhileFetching:_.__returned=_}}async forceFetch(e,i={}){const n=await this.fetch(e,i);if(n===void 0)throw new Error("fetch() returned undefined");return n}memo(e,i={}){const n=this.#M;if(!n)throw new Error("no memoMethod provided to constructor");const{context:r,forceRefresh:s,...o}=i,l=this.get(e,o);if(!s&&l!==void 0)return l;const a=n(e,l,{options:o,context:r});return this.set(e,a,o),a}get(e,i={}){const{allowStale:n=this.allowStale,updateAgeOnGet:r=this.updateAgeOnGet,noDeleteOnStaleGet:s=this.noDeleteOnStaleGet,status:o}=i,l=this.#n.get(e);if(l!==void 0){const a=this.#e[l],u=this.#t(a);return o&&this.#_(o,l),this.#m(l)?(o&&(o.get="stale"),u?(o&&n&&a.__staleWhileFetching!==void 0&&(o.returnedStale=!0),n?a.__staleWhileFetching:void 0):(s||this.#$(e,"expire"),o&&n&&(o.returnedStale=!0),n?a:void 0)):(o&&(o.get="hit"),u?a.__staleWhileFetching:(this.#E(l),r&&this.#T(l),a))}else o&&(o.get="miss")}#B(e,i){this.#f[i]=e,this.#u[e]=i}#E(e){e!==this.#s&&(e===this.#a?this.#a=this.#u[e]:this.#B(this.#f[e],this.#u[e]),this.#B(this.#s,e),this.#s=e)}delete(e){return this.#$(e,"delete")}#$(e,i){let n=!1;if(this.#r!==0){const r=this.#n.get(e);if(r!==void 0)if(this.#p?.[r]&&(clearTimeout(this.#p?.[r]),this.#p[r]=void 0),n=!0,this.#r===1)this.#q(i);else{this.#A(r);const s=this.#e[r];if(this.#t(s)?s.__abortController.abort(new Error("deleted")):(this.#S||this.#c)&&(this.#S&&this.#O?.(s,e,i),this.#c&&this.#o?.push([s,e,i])),this.#n.delete(e),this.#i[r]=void 0,this.#e[r]=void 0,r===this.#s)this.#s=this.#f[r];else if(r===this.#a)this.#a=this.#u[r];else{const o=this.#f[r];this.#u[o]=this.#u[r];const l=this.#u[r];this.#f[l]=this.#f[r]}this.#r--,this.#y.push(r)}}if(this.#c&&this.#o?.length){const r=this.#o;let s;for(;s=r?.shift();)this.#g?.(...s)}return n}clear(){return this.#q("delete")}#q(e){for(const i of this.#Q({allowStale:!0})){const n=this.#e[i];if(this.#t(n))n.__abortController.abort(new Error("deleted"));else{const r=this.#i[i];this.#S&&this.#O?.(n,r,e),this.#c&&this.#o?.push([n,r,e])}}if(this.#n.clear(),this.#e.fill(void 0),this.#i.fill(void 0),this.#d&&this.#v){this.#d.fill(0),this.#v.fill(0);for(const i of this.#p??[])i!==void 0&&clearTimeout(i);this.#p?.fill(void 0)}if(this.#k&&this.#k.fill(0),this.#a=0,this.#s=0,this.#y.length=0,this.#x=0,this.#r=0,this.#c&&this.#o){const i=this.#o;let n;for(;n=i?.shift();)this.#g?.(...n)}}}/*! medium-zoom 1.1.0 | MIT License | https://github.com/francoischalifour/medium-zoom */var Ai=Object.assign||function(t){for(var e=1;e<arguments.length;e++){var i=arguments[e];for(var n in i)Object.prototype.hasOwnProperty.call(i,n)&&(t[n]=i[n])}return t},es=function(e){return e.tagName==="IMG"},Vx=function(e){return NodeList.prototype.isPrototypeOf(e)},As=function(e){return e&&e.nodeType===1},Nc=function(e){var i=e.currentSrc||e.src;return i.substr(-4).toLowerCase()===".svg"},Wc=function(e){try{return Array.isArray(e)?e.filter(es):Vx(e)?[].slice.call(e).filter(es):As(e)?[e].filter(es):typeof e=="string"?[].slice.call(document.querySelectorAll(e)).filter(es):[]}catch{throw new TypeError(`The provided selector is invalid.
+Expects a CSS selector, a Node element, a NodeList or an array.
+See: https://github.com/francoischalifour/medium-zoom`)}},Fx=function(e){var i=document.createElement("div");return i.classList.add("medium-zoom-overlay"),i.style.background=e,i},Bx=function(e){var i=e.getBoundingClientRect(),n=i.top,r=i.left,s=i.width,o=i.height,l=e.cloneNode(),a=window.pageYOffset||document.documentElement.scrollTop||document.body.scrollTop||0,u=window.pageXOffset||document.documentElement.scrollLeft||document.body.scrollLeft||0;return l.removeAttribute("id"),l.style.position="absolute",l.style.top=n+a+"px",l.style.left=r+u+"px",l.style.width=s+"px",l.style.height=o+"px",l.style.transform="",l},Yi=function(e,i){var n=Ai({bubbles:!1,cancelable:!1,detail:void 0},i);if(typeof window.CustomEvent=="function")return new CustomEvent(e,n);var r=document.createEvent("CustomEvent");return r.initCustomEvent(e,n.bubbles,n.cancelable,n.detail),r},qx=function t(e){var i=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{},n=window.Promise||function(E){function X(){}E(X,X)},r=function(E){var X=E.target;if(X===A){p();return}S.indexOf(X)!==-1&&m({target:X})},s=function(){if(!(y||!P.original)){var E=window.pageYOffset||document.documentElement.scrollTop||document.body.scrollTop||0;Math.abs($-E)>_.scrollOffset&&setTimeout(p,150)}},o=function(E){var X=E.key||E.keyCode;(X==="Escape"||X==="Esc"||X===27)&&p()},l=function(){var E=arguments.length>0&&arguments[0]!==void 0?arguments[0]:{},X=E;if(E.background&&(A.style.background=E.background),E.container&&E.container instanceof Object&&(X.container=Ai({},_.container,E.container)),E.template){var q=As(E.template)?E.template:document.querySelector(E.template);X.template=q}return _=Ai({},_,X),S.forEach(function(B){B.dispatchEvent(Yi("medium-zoom:update",{detail:{zoom:z}}))}),z},a=function(){var E=arguments.length>0&&arguments[0]!==void 0?arguments[0]:{};return t(Ai({},_,E))},u=function(){for(var E=arguments.length,X=Array(E),q=0;q<E;q++)X[q]=arguments[q];var B=X.reduce(function(D,F){return[].concat(D,Wc(F))},[]);return B.filter(function(D){return S.indexOf(D)===-1}).forEach(function(D){S.push(D),D.classList.add("medium-zoom-image")}),x.forEach(function(D){var F=D.type,Z=D.listener,I=D.options;B.forEach(function(K){K.addEventListener(F,Z,I)})}),z},c=function(){for(var E=arguments.length,X=Array(E),q=0;q<E;q++)X[q]=arguments[q];P.zoomed&&p();var B=X.length>0?X.reduce(function(D,F){return[].concat(D,Wc(F))},[]):S;return B.forEach(function(D){D.classList.remove("medium-zoom-image"),D.dispatchEvent(Yi("medium-zoom:detach",{detail:{zoom:z}}))}),S=S.filter(function(D){return B.indexOf(D)===-1}),z},h=function(E,X){var q=arguments.length>2&&arguments[2]!==void 0?arguments[2]:{};return S.forEach(function(B){B.addEventListener("medium-zoom:"+E,X,q)}),x.push({type:"medium-zoom:"+E,listener:X,options:q}),z},f=function(E,X){var q=arguments.length>2&&arguments[2]!==void 0?arguments[2]:{};return S.forEach(function(B){B.removeEventListener("medium-zoom:"+E,X,q)}),x=x.filter(function(B){return!(B.type==="medium-zoom:"+E&&B.listener.toString()===X.toString())}),z},d=function(){var E=arguments.length>0&&arguments[0]!==void 0?arguments[0]:{},X=E.target,q=function(){var D={width:document.documentElement.clientWidth,height:document.documentElement.clientHeight,left:0,top:0,right:0,bottom:0},F=void 0,Z=void 0;if(_.container)if(_.container instanceof Object)D=Ai({},D,_.container),F=D.width-D.left-D.right-_.margin*2,Z=D.height-D.top-D.bottom-_.margin*2;else{var I=As(_.container)?_.container:document.querySelector(_.container),K=I.getBoundingClientRect(),oe=K.width,ne=K.height,de=K.left,pe=K.top;D=Ai({},D,{width:oe,height:ne,left:de,top:pe})}F=F||D.width-_.margin*2,Z=Z||D.height-_.margin*2;var me=P.zoomedHd||P.original,He=Nc(me)?F:me.naturalWidth||F,_i=Nc(me)?Z:me.naturalHeight||Z,Ur=me.getBoundingClientRect(),l1=Ur.top,a1=Ur.left,qo=Ur.width,jo=Ur.height,u1=Math.min(Math.max(qo,He),F)/qo,c1=Math.min(Math.max(jo,_i),Z)/jo,Yo=Math.min(u1,c1),h1=(-a1+(F-qo)/2+_.margin+D.left)/Yo,f1=(-l1+(Z-jo)/2+_.margin+D.top)/Yo,Oc="scale("+Yo+") translate3d("+h1+"px, "+f1+"px, 0)";P.zoomed.style.transform=Oc,P.zoomedHd&&(P.zoomedHd.style.transform=Oc)};return new n(function(B){if(X&&S.indexOf(X)===-1){B(z);return}var D=function oe(){y=!1,P.zoomed.removeEventListener("transitionend",oe),P.original.dispatchEvent(Yi("medium-zoom:opened",{detail:{zoom:z}})),B(z)};if(P.zoomed){B(z);return}if(X)P.original=X;else if(S.length>0){var F=S;P.original=F[0]}else{B(z);return}if(P.original.dispatchEvent(Yi("medium-zoom:open",{detail:{zoom:z}})),$=window.pageYOffset||document.documentElement.scrollTop||document.body.scrollTop||0,y=!0,P.zoomed=Bx(P.original),document.body.appendChild(A),_.template){var Z=As(_.template)?_.template:document.querySelector(_.template);P.template=document.createElement("div"),P.template.appendChild(Z.content.cloneNode(!0)),document.body.appendChild(P.template)}if(P.original.parentElement&&P.original.parentElement.tagName==="PICTURE"&&P.original.currentSrc&&(P.zoomed.src=P.original.currentSrc),document.body.appendChild(P.zoomed),window.requestAnimationFrame(function(){document.body.classList.add("medium-zoom--opened")}),P.original.classList.add("medium-zoom-image--hidden"),P.zoomed.classList.add("medium-zoom-image--opened"),P.zoomed.addEventListener("click",p),P.zoomed.addEventListener("transitionend",D),P.original.getAttribute("data-zoom-src")){P.zoomedHd=P.zoomed.cloneNode(),P.zoomedHd.removeAttribute("srcset"),P.zoomedHd.removeAttribute("sizes"),P.zoomedHd.removeAttribute("loading"),P.zoomedHd.src=P.zoomed.getAttribute("data-zoom-src"),P.zoomedHd.onerror=function(){clearInterval(I),console.warn("Unable to reach the zoom image target "+P.zoomedHd.src),P.zoomedHd=null,q()};var I=setInterval(function(){P.zoomedHd.complete&&(clearInterval(I),P.zoomedHd.classList.add("medium-zoom-image--opened"),P.zoomedHd.addEventListener("click",p),document.body.appendChild(P.zoomedHd),q())},10)}else if(P.original.hasAttribute("srcset")){P.zoomedHd=P.zoomed.cloneNode(),P.zoomedHd.removeAttribute("sizes"),P.zoomedHd.removeAttribute("loading");var K=P.zoomedHd.addEventListener("load",function(){P.zoomedHd.removeEventListener("load",K),P.zoomedHd.classList.add("medium-zoom-image--opened"),P.zoomedHd.addEventListener("click",p),document.body.appendChild(P.zoomedHd),q()})}else q()})},p=function(){return new n(function(E){if(y||!P.original){E(z);return}var X=function q(){P.original.classList.remove("medium-zoom-image--hidden"),document.body.removeChild(P.zoomed),P.zoomedHd&&document.body.removeChild(P.zoomedHd),document.body.removeChild(A),P.zoomed.classList.remove("medium-zoom-image--opened"),P.template&&document.body.removeChild(P.template),y=!1,P.zoomed.removeEventListener("transitionend",q),P.original.dispatchEvent(Yi("medium-zoom:closed",{detail:{zoom:z}})),P.original=null,P.zoomed=null,P.zoomedHd=null,P.template=null,E(z)};y=!0,document.body.classList.remove("medium-zoom--opened"),P.zoomed.style.transform="",P.zoomedHd&&(P.zoomedHd.style.transform=""),P.template&&(P.template.style.transition="opacity 150ms",P.template.style.opacity=0),P.original.dispatchEvent(Yi("medium-zoom:close",{detail:{zoom:z}})),P.zoomed.addEventListener("transitionend",X)})},m=function(){var E=arguments.length>0&&arguments[0]!==void 0?arguments[0]:{},X=E.target;return P.original?p():d({target:X})},O=function(){return _},g=function(){return S},b=function(){return P.original},S=[],x=[],y=!1,$=0,_=i,P={original:null,zoomed:null,zoomedHd:null,template:null};Object.prototype.toString.call(e)==="[object Object]"?_=e:(e||typeof e=="string")&&u(e),_=Ai({margin:0,background:"#fff",scrollOffset:40,container:null,template:null},_);var A=Fx(_.background);document.addEventListener("click",r),document.addEventListener("keyup",o),document.addEventListener("scroll",s),window.addEventListener("resize",p);var z={open:d,close:p,toggle:m,update:l,clone:a,attach:u,detach:c,on:h,off:f,getOptions:O,getImages:g,getZoomedImage:b};return z};function jx(t,e){e===void 0&&(e={});var i=e.insertAt;if(!(typeof document>"u")){var n=document.head||document.getElementsByTagName("head")[0],r=document.createElement("style");r.type="text/css",i==="top"&&n.firstChild?n.insertBefore(r,n.firstChild):n.appendChild(r),r.styleSheet?r.styleSheet.cssText=t:r.appendChild(document.createTextNode(t))}}var Yx=".medium-zoom-overlay{position:fixed;top:0;right:0;bottom:0;left:0;opacity:0;transition:opacity .3s;will-change:opacity}.medium-zoom--opened .medium-zoom-overlay{cursor:pointer;cursor:zoom-out;opacity:1}.medium-zoom-image{cursor:pointer;cursor:zoom-in;transition:transform .3s cubic-bezier(.2,0,.2,1)!important}.medium-zoom-image--hidden{visibility:hidden}.medium-zoom-image--opened{position:relative;cursor:pointer;cursor:zoom-out;will-change:transform}";jx(Yx);const ct={hljs:`${k}-hljs`,hlcss:`${k}-hlCss`,prettier:`${k}-prettier`,prettierMD:`${k}-prettierMD`,cropperjs:`${k}-cropper`,croppercss:`${k}-cropperCss`,screenfull:`${k}-screenfull`,mermaidM:`${k}-mermaid-m`,mermaid:`${k}-mermaid`,katexjs:`${k}-katex`,katexcss:`${k}-katexCss`,echarts:`${k}-echarts`},Nx=(t,e,i)=>{const{editorId:n}=i,r=yt({buildFinished:!1,html:""});ee(()=>t.modelValue,()=>{r.buildFinished=!1}),we(()=>{R.on(n,{name:Cs,callback(s){r.buildFinished=!0,r.html=s}}),R.on(n,{name:_o,callback(){const s=new Promise(o=>{if(r.buildFinished)o(r.html);else{const l=a=>{o(a),R.remove(n,Cs,l)};R.on(n,{name:Cs,callback:l})}});t.onSave?t.onSave(t.modelValue,s):e.emit("onSave",t.modelValue,s)}})})},Zp=(t,{editorId:e,rootRef:i,setting:n})=>{const r=Ee.editorExtensions.highlight,s=Ee.editorExtensionsAttrs.highlight;$e("editorId",e),$e("rootRef",i),$e("theme",fe(()=>t.theme)),$e("language",fe(()=>t.language)),$e("highlight",fe(()=>{const{js:l}=r,a={...Ul,...r.css},{js:u,css:c={}}=s||{},h=t.codeStyleReverse&&t.codeStyleReverseList.includes(t.previewTheme)?"dark":t.theme,f=a[t.codeTheme]?a[t.codeTheme][h]:Ul.atom[h],d=a[t.codeTheme]&&c[t.codeTheme]?c[t.codeTheme][h]:c.atom?c.atom[h]:{};return{js:{src:l,...u},css:{href:f,...d}}})),$e("showCodeRowNumber",t.showCodeRowNumber);const o=fe(()=>{const l={...bc,...Ee.editorConfig.languageUserDefined};return ru(qn(bc["en-US"]),l[t.language]||{})});return $e("usedLanguageText",o),$e("previewTheme",fe(()=>t.previewTheme)),$e("customIcon",fe(()=>t.customIcon)),$e("setting",fe(()=>n?{...n}:{preview:!0,htmlPreview:!1,previewOnly:!1,pageFullscreen:!1,fullscreen:!1})),{editorId:e}},Wx=(t,e)=>($e("tabWidth",t.tabWidth),$e("disabled",fe(()=>t.disabled)),$e("showToolbarName",fe(()=>t.showToolbarName)),$e("noUploadImg",t.noUploadImg),$e("tableShape",fe(()=>t.tableShape)),$e("noPrettier",t.noPrettier),$e("codeTheme",fe(()=>t.codeTheme)),$e("updateSetting",e.updateSetting),$e("catalogVisible",fe(()=>e.catalogVisible.value)),$e("defToolbars",e.defToolbars),$e("floatingToolbars",fe(()=>t.floatingToolbars)),Zp(t,e)),Gx=t=>{const{noPrettier:e,noUploadImg:i}=t,{editorExtensions:n,editorExtensionsAttrs:r}=Ee,s=e||n.prettier.prettierInstance,o=e||n.prettier.parserMarkdownInstance,l=i||n.cropper.instance;we(()=>{if(!l){const{js:a={},css:u={}}=r.cropper||{};ut("link",{...u,rel:"stylesheet",href:n.cropper.css,id:ct.croppercss}),ut("script",{...a,src:n.cropper.js,id:ct.cropperjs})}if(!s){const{standaloneJs:a={}}=r.prettier||{};ut("script",{...a,src:n.prettier.standaloneJs,id:ct.prettier})}if(!o){const{parserMarkdownJs:a={}}=r.prettier||{};ut("script",{...a,src:n.prettier.parserMarkdownJs,id:ct.prettierMD})}})},Ux=(t,e,i)=>{const{editorId:n}=i;we(()=>{R.on(n,{name:Yt,callback:r=>{t.onError?.(r),e.emit("onError",r)}})})},Hx=(t,e,i)=>{const{editorId:n}=i,r=yt({pageFullscreen:t.pageFullscreen,fullscreen:!1,preview:t.preview,htmlPreview:t.preview?!1:t.htmlPreview,previewOnly:!1}),s=yt({...r}),o=(u,c)=>{const h=c===void 0?!r[u]:c;switch(u){case"preview":{r.htmlPreview=!1,r.previewOnly=!1;break}case"htmlPreview":{r.preview=!1,r.previewOnly=!1;break}case"previewOnly":{h?!r.preview&&!r.htmlPreview&&(r.preview=!0):(s.preview||(r.preview=!1),s.htmlPreview||(r.htmlPreview=!1));break}}s[u]=h,r[u]=h};let l="";const a=()=>{r.pageFullscreen||r.fullscreen?document.body.style.overflow="hidden":document.body.style.overflow=l};return ee(()=>[r.pageFullscreen,r.fullscreen],a),we(()=>{R.on(n,{name:Po,callback(u,c){const h=f=>{R.emit(n,J,"image",{desc:"",urls:f}),c?.()};t.onUploadImg?t.onUploadImg(u,h):e.emit("onUploadImg",u,h)}}),l=document.body.style.overflow,a()}),[r,o]},Kx=(t,e)=>{const{editorId:i}=e,n=ie(!1);return we(()=>{R.on(i,{name:su,callback:r=>{r===void 0?n.value=!n.value:n.value=r}})}),n},Jx=(t,e,i)=>{const{editorId:n,catalogVisible:r,setting:s,updateSetting:o,codeRef:l}=i;ee(()=>s.pageFullscreen,u=>{R.emit(n,xc,u)}),ee(()=>s.fullscreen,u=>{R.emit(n,yc,u)}),ee(()=>s.preview,u=>{R.emit(n,kc,u)}),ee(()=>s.previewOnly,u=>{R.emit(n,vc,u)}),ee(()=>s.htmlPreview,u=>{R.emit(n,Sc,u)}),ee(r,u=>{R.emit(n,wc,u)});const a={on(u,c){switch(u){case"pageFullscreen":{R.on(n,{name:xc,callback(h){c(h)}});break}case"fullscreen":{R.on(n,{name:yc,callback(h){c(h)}});break}case"preview":{R.on(n,{name:kc,callback(h){c(h)}});break}case"previewOnly":{R.on(n,{name:vc,callback(h){c(h)}});break}case"htmlPreview":{R.on(n,{name:Sc,callback(h){c(h)}});break}case"catalog":{R.on(n,{name:wc,callback(h){c(h)}});break}}},togglePageFullscreen(u){o("pageFullscreen",u)},toggleFullscreen(u){R.emit(n,Kd,u)},togglePreview(u){o("preview",u)},togglePreviewOnly(u){o("previewOnly",u)},toggleHtmlPreview(u){o("htmlPreview",u)},toggleCatalog(u){R.emit(n,su,u)},triggerSave(){R.emit(n,_o)},insert(u){R.emit(n,J,"universal",{generate:u})},focus(u){l.value?.focus(u)},rerender(){R.emit(n,ou)},getSelectedText(){return l.value?.getSelectedText()},resetHistory(){l.value?.resetHistory()},domEventHandlers(u){R.emit(n,ip,u)},execCommand(u){R.emit(n,J,u)},getEditorView(){return l.value?.getEditorView()}};e.expose(a)},Ip=t=>{const e=d1();return t.id||t.editorId||`${k}-${e}`},ey=(t,e,i)=>{const n=Q("editorId"),r=Q("rootRef"),s=Q("usedLanguageText"),o=Q("setting"),l=()=>{r.value.querySelectorAll(`#${n} .${k}-preview .${k}-code`).forEach(c=>{let h=-1;const f=c.querySelector(`.${k}-copy-button:not([data-processed])`);f&&(f.onclick=d=>{d.preventDefault(),clearTimeout(h);const p=(c.querySelector("input:checked + pre code")||c.querySelector("pre code")).textContent,{text:m,successTips:O,failTips:g}=s.value.copyCode;let b=O;op(t.formatCopiedText(p||"")).catch(()=>{b=g}).finally(()=>{f.dataset.isIcon?f.dataset.tips=b:f.innerHTML=b,h=window.setTimeout(()=>{f.dataset.isIcon?f.dataset.tips=m:f.innerHTML=m},1500)})},f.setAttribute("data-processed","true"))})},a=()=>{St(l)},u=c=>{c&&St(l)};ee([e,i],a),ee(()=>o.value.preview,u),ee(()=>o.value.htmlPreview,u),we(l)},ty=t=>{const e=Q("editorId"),i=Q("theme"),n=Q("rootRef"),{editorExtensions:r,editorExtensionsAttrs:s}=Ee;let o=r.echarts.instance;const l=yi(-1),a=()=>{!t.noEcharts&&o&&(l.value=l.value+1)};ee(()=>i.value,()=>{a()}),we(()=>{if(t.noEcharts||o)return;const p=r.echarts.js;ut("script",{...s.echarts?.js,src:p,id:ct.echarts,onload(){o=window.echarts,a()}},"echarts")});let u=[],c=[],h=[];const f=(p=!1)=>{if(!u.length){p&&(c.forEach(b=>{b.dispose?.()}),h.forEach(b=>{b.disconnect?.()}),c=[],h=[]);return}const m=[],O=[],g=[];u.forEach((b,S)=>{const x=c[S],y=h[S];if(p||!b||!b.isConnected||n?.value&&!n.value.contains(b)){x?.dispose?.(),y?.disconnect?.();return}m.push(b),x&&O.push(x),y&&g.push(y)}),u=m,c=O,h=g},d=()=>{f(),!t.noEcharts&&o&&Array.from(n.value.querySelectorAll(`#${e} div.${k}-echarts:not([data-processed])`)).forEach(p=>{if(p.dataset.closed==="false")return!1;try{const m=new Function(`return ${p.innerText}`)(),O=o.init(p,i.value);O.setOption(m),p.setAttribute("data-processed",""),u.push(p),c.push(O);const g=new ResizeObserver(()=>{O.resize()});g.observe(p),h.push(g)}catch(m){R.emit(e,Yt,{name:"echarts",message:m?.message,error:m})}})};return ni(()=>{f(!0)}),{reRenderEcharts:l,replaceEcharts:d}},iy=t=>{const e=Q("highlight"),i=yi(Ee.editorExtensions.highlight.instance);return we(()=>{t.noHighlight||i.value||(ut("link",{...e.value.css,rel:"stylesheet",id:ct.hlcss}),ut("script",{...e.value.js,id:ct.hljs,onload(){i.value=window.hljs}},"hljs"))}),ee(()=>e.value.css,()=>{t.noHighlight||Ee.editorExtensions.highlight.instance||V1("link",{...e.value.css,rel:"stylesheet",id:ct.hlcss})}),i},ny=t=>{const e=yi(Ee.editorExtensions.katex.instance);return we(()=>{if(t.noKatex||e.value)return;const{editorExtensions:i,editorExtensionsAttrs:n}=Ee;ut("script",{...n.katex?.js,src:i.katex.js,id:ct.katexjs,onload(){e.value=window.katex}},"katex"),ut("link",{...n.katex?.css,rel:"stylesheet",href:i.katex.css,id:ct.katexcss})}),e},Es=new mu({max:1e3,ttl:6e5}),ry=t=>{const e=Q("editorId"),i=Q("theme"),n=Q("rootRef"),{editorExtensions:r,editorExtensionsAttrs:s,mermaidConfig:o}=Ee;let l=r.mermaid.instance;const a=yi(-1),u=()=>{!t.noMermaid&&l&&(l.initialize(o({startOnLoad:!1,theme:i.value==="dark"?"dark":"default"})),a.value=a.value+1)};return ee(()=>i.value,()=>{Es.clear(),u()}),we(()=>{if(t.noMermaid||l)return;const c=r.mermaid.js;/\.mjs/.test(c)?(ut("link",{...s.mermaid?.js,rel:"modulepreload",href:c,id:ct.mermaidM}),import(c).then(h=>{l=h.default,u()}).catch(h=>{R.emit(e,Yt,{name:"mermaid",message:`Failed to load mermaid module: ${h.message}`,error:h})})):ut("script",{...s.mermaid?.js,src:c,id:ct.mermaid,onload(){l=window.mermaid,u()}},"mermaid")}),{reRenderRef:a,replaceMermaid:async()=>{if(!t.noMermaid&&l){const c=n.value.querySelectorAll(`div.${k}-mermaid`),h=document.createElement("div"),f=document.body.offsetWidth>1366?document.body.offsetWidth:1366,d=document.body.offsetHeight>768?document.body.offsetHeight:768;h.style.width=f+"px",h.style.height=d+"px",h.style.position="fixed",h.style.zIndex="-10000",h.style.top="-10000";let p=c.length;p>0&&document.body.appendChild(h),await Promise.allSettled(Array.from(c).map(m=>(async O=>{if(O.dataset.closed==="false")return!1;const g=O.innerText;let b=Es.get(g);if(!b){const S=Wl();let x={svg:""};try{x=await l.render(S,g,h),b=await t.sanitizeMermaid(x.svg);const y=document.createElement("p");y.className=`${k}-mermaid`,y.setAttribute("data-processed",""),y.setAttribute("data-content",g),y.innerHTML=b,y.children[0]?.removeAttribute("height"),Es.set(g,y.innerHTML),O.dataset.line!==void 0&&(y.dataset.line=O.dataset.line),O.replaceWith(y)}catch(y){R.emit(e,Yt,{name:"mermaid",message:y.message,error:y})}--p===0&&h.remove()}})(m)))}}}},sy=(t,e)=>{e=e||{};const i=3,n=e.marker||"!",r=n.charCodeAt(0),s=n.length;let o="",l="";const a=(c,h,f,d,p)=>{const m=c[h];return m.type==="admonition_open"?c[h].attrPush(["class",`${k}-admonition ${k}-admonition-${m.info}`]):m.type==="admonition_title_open"&&c[h].attrPush(["class",`${k}-admonition-title`]),p.renderToken(c,h,f)},u=c=>{const h=c.trim().split(" ",2);l="",o=h[0],h.length>1&&(l=c.substring(o.length+2))};t.block.ruler.before("code","admonition",(c,h,f,d)=>{let p,m,O,g=!1,b=c.bMarks[h]+c.tShift[h],S=c.eMarks[h];if(r!==c.src.charCodeAt(b))return!1;for(p=b+1;p<=S&&n[(p-b)%s]===c.src[p];p++);const x=Math.floor((p-b)/s);if(x!==i)return!1;p-=(p-b)%s;const y=c.src.slice(b,p),$=c.src.slice(p,S);if(u($),d)return!0;for(m=h;m++,!(m>=f||(b=c.bMarks[m]+c.tShift[m],S=c.eMarks[m],b<S&&c.sCount[m]<c.blkIndent));)if(r===c.src.charCodeAt(b)&&!(c.sCount[m]-c.blkIndent>=4)){for(p=b+1;p<=S&&n[(p-b)%s]===c.src[p];p++);if(!(Math.floor((p-b)/s)<x)&&(p-=(p-b)%s,p=c.skipSpaces(p),!(p<S))){g=!0;break}}const _=c.parentType,P=c.lineMax;return c.parentType="root",c.lineMax=m,O=c.push("admonition_open","div",1),O.markup=y,O.block=!0,O.info=o,O.map=[h,m],l&&(O=c.push("admonition_title_open","p",1),O.markup=y+" "+o,O.map=[h,m],O=c.push("inline","",0),O.content=l,O.map=[h,c.line-1],O.children=[],O=c.push("admonition_title_close","p",-1),O.markup=y+" "+o),c.md.block.tokenize(c,h+1,m),O=c.push("admonition_close","div",-1),O.markup=c.src.slice(b,p),O.block=!0,c.parentType=_,c.lineMax=P,c.line=m+(g?1:0),!0},{alt:["paragraph","reference","blockquote","list"]}),t.renderer.rules.admonition_open=a,t.renderer.rules.admonition_title_open=a,t.renderer.rules.admonition_title_close=a,t.renderer.rules.admonition_close=a},ta=(t,e)=>{const i=t.attrs?t.attrs.slice():[];return e.forEach(n=>{const r=t.attrIndex(n[0]);r<0?i.push(n):(i[r]=i[r].slice(),i[r][1]+=` ${n[1]}`)}),i},oy=(t,e)=>{const i=t.renderer.rules.fence,n=t.utils.unescapeAll,r=/\[(\w*)(?::([\w ]*))?\]/,s=/::(open|close)/,o=h=>h.info?n(h.info).trim():"",l=h=>{const f=o(h),[d=null,p=""]=(r.exec(f)||[]).slice(1);return[d,p]},a=h=>{const f=o(h);return f?f.split(/(\s+)/g)[0]:""},u=h=>{const f=h.info.match(s)||[],d=f[1]==="open"||f[1]!=="close"&&e.codeFoldable&&h.content.trim().split(`
+`).length<e.autoFoldThreshold,p=f[1]||e.codeFoldable?"details":"div",m=f[1]||e.codeFoldable?"summary":"div";return{open:d,tagContainer:p,tagHeader:m}},c=(h,f,d,p,m)=>{if(h[f].hidden)return"";const O=e.usedLanguageTextRef.value?.copyCode.text,g=e.customIconRef.value.copy||O,b=!!e.customIconRef.value.copy,S=`<span class="${k}-collapse-tips">${Zt("collapse-tips",e.customIconRef.value)}</span>`,[x]=l(h[f]);if(x===null){const{open:F,tagContainer:Z,tagHeader:I}=u(h[f]),K=[["class",`${k}-code`]];F&&K.push(["open",""]);const oe={attrs:ta(h[f],K)};h[f].info=h[f].info.replace(s,"");const ne=i(h,f,d,p,m);return`
+        <${Z} ${m.renderAttrs(oe)}>
+          <${I} class="${k}-code-head">
+            <div class="${k}-code-flag"><span></span><span></span><span></span></div>
+            <div class="${k}-code-action">
+              <span class="${k}-code-lang">${t.utils.escapeHtml(h[f].info.trim())}</span>
+              <span class="${k}-copy-button" data-tips="${O}"${b?" data-is-icon=true":""}>${g}</span>
+              ${e.extraTools instanceof Function?e.extraTools({lang:h[f].info.trim()}):e.extraTools||""}
+              ${Z==="details"?S:""}
+            </div>
+          </${I}>
+          ${ne}
+        </${Z}>
+      `}let y,$,_,P,A="",z="",V="";const{open:E,tagContainer:X,tagHeader:q}=u(h[f]),B=[["class",`${k}-code`]];E&&B.push(["open",""]);const D={attrs:ta(h[f],B)};for(let F=f;F<h.length&&(y=h[F],[$,_]=l(y),$===x);F++){y.info=y.info.replace(r,"").replace(s,""),y.hidden=!0;const Z=`${k}-codetab-${e.editorId}-${f}-${F-f}`;P=F-f>0?"":"checked",A+=`
+        <li>
+          <input
+            type="radio"
+            id="label-${k}-codetab-label-1-${e.editorId}-${f}-${F-f}"
+            name="${k}-codetab-label-${e.editorId}-${f}"
+            class="${Z}"
+            ${P}
+          >
+          <label
+            for="label-${k}-codetab-label-1-${e.editorId}-${f}-${F-f}"
+            onclick="this.getRootNode().querySelectorAll('.${Z}').forEach(e => e.click())"
+          >
+            ${t.utils.escapeHtml(_||a(y))}
+          </label>
+        </li>`,z+=`
+        <div role="tabpanel">
+          <input
+            type="radio"
+            name="${k}-codetab-pre-${e.editorId}-${f}"
+            class="${Z}"
+            ${P}
+            role="presentation">
+          ${i(h,F,d,p,m)}
+        </div>`,V+=`
+        <input
+          type="radio"
+          name="${k}-codetab-lang-${e.editorId}-${f}"
+          class="${Z}"
+          ${P}
+          role="presentation">
+        <span class=${k}-code-lang role="note">${t.utils.escapeHtml(a(y))}</span>`}return`
+      <${X} ${m.renderAttrs(D)}>
+        <${q} class="${k}-code-head">
+          <div class="${k}-code-flag">
+            <ul class="${k}-codetab-label" role="tablist">${A}</ul>
+          </div>
+          <div class="${k}-code-action">
+            <span class="${k}-codetab-lang">${V}</span>
+            <span class="${k}-copy-button" data-tips="${O}"${b?" data-is-icon=true":""}>${g}</span>
+            ${e.extraTools instanceof Function?e.extraTools({lang:h[f].info.trim()}):e.extraTools||""}
+            ${X==="details"?S:""}
+          </div>
+        </${q}>
+        ${z}
+      </${X}>
+    `};t.renderer.rules.fence=c,t.renderer.rules.code_block=c},ly=(t,e)=>{const i=t.renderer.rules.fence.bind(t.renderer.rules);t.renderer.rules.fence=(n,r,s,o,l)=>{const a=n[r],u=a.content.trim();if(a.info==="echarts"){if(a.attrSet("class",`${k}-echarts`),a.attrSet("data-echarts-theme",e.themeRef.value),a.map&&a.level===0){const c=a.map[1]-1,h=!!o.srcLines[c]?.trim()?.startsWith("```");a.attrSet("data-closed",`${h}`),a.attrSet("data-line",String(a.map[0]))}return`<div ${l.renderAttrs(a)} style="width: 100%; aspect-ratio: 4 / 3;">${t.utils.escapeHtml(u)}</div>`}return i(n,r,s,o,l)}},ay=(t,e)=>{t.renderer.rules.heading_open=(i,n)=>{const r=i[n],s=i[n+1].children?.reduce((l,a)=>l+(["text","code_inline","math_inline"].includes(a.type)&&a.content||""),"")||"",o=r.markup.length;return e.headsRef.value.push({text:s,level:o,line:r.map[0],currentToken:r,nextToken:i[n+1]}),r.map&&r.level===0&&r.attrSet("id",e.mdHeadingId({text:s,level:o,index:e.headsRef.value.length,currentToken:r,nextToken:i[n+1]})),t.renderer.renderToken(i,n,e)},t.renderer.rules.heading_close=(i,n,r,s,o)=>o.renderToken(i,n,r)},Gc={block:[{open:"$$",close:"$$"},{open:"\\[",close:"\\]"}],inline:[{open:"$$",close:"$$"},{open:"$",close:"$"},{open:"\\[",close:"\\]"},{open:"\\(",close:"\\)"}]},uy=t=>(e,i)=>{const n=t.delimiters;for(const r of n){if(!e.src.startsWith(r.open,e.pos))continue;const s=e.pos+r.open.length;let o=s;for(;(o=e.src.indexOf(r.close,o))!==-1;){let l=0,a=o-1;for(;a>=0&&e.src[a]==="\\";)l++,a--;if(l%2===0)break;o+=r.close.length}if(o!==-1){if(o-s===0)return i||(e.pending+=r.open+r.close),e.pos=o+r.close.length,!0;if(!i){const l=e.push("math_inline","math",0);l.markup=r.open,l.content=e.src.slice(s,o)}return e.pos=o+r.close.length,!0}}return!1},cy=t=>(e,i,n,r)=>{const s=t.delimiters,o=e.bMarks[i]+e.tShift[i],l=e.eMarks[i],a=(u,c,h)=>{e.line=c;const f=e.push("math_block","math",0);return f.block=!0,f.content=u,f.map=[i,e.line],f.markup=h,!0};for(const u of s){const c=o;if(e.src.slice(c,c+u.open.length)!==u.open)continue;const h=c+u.open.length,f=e.src.slice(h,l).trim(),d=f==="",p=f===u.close,m=f.endsWith(u.close);if(!d&&!p&&!m)continue;if(r)return!0;if(p)return a("",i+1,u.open);if(!d&&m){const x=f.slice(0,-u.close.length);return a(x,i+1,u.open)}let O=i+1,g=!1,b="";for(;O<n;O++){const x=e.bMarks[O]+e.tShift[O],y=e.eMarks[O];if(x<y&&e.tShift[O]<e.blkIndent)break;if(e.src.slice(x,y).trim().endsWith(u.close)){const $=e.src.slice(0,y).lastIndexOf(u.close);b=e.src.slice(x,$),g=!0;break}}if(!g)continue;const S=e.getLines(i+1,O,e.tShift[i],!0)+(b.trim()?b:"");return a(S,O+1,u.open)}return!1},hy=(t,{katexRef:e,inlineDelimiters:i,blockDelimiters:n})=>{const r=(l,a,u,c,h=!1)=>{const f={attrs:ta(l,[["class",a]])},d=c.renderAttrs(f);if(!e.value)return`<${u} ${d}>${l.content}</${u}>`;const p=e.value.renderToString(l.content,Ee.katexConfig({throwOnError:!1,displayMode:h}));return`<${u} ${d} data-processed>${p}</${u}>`},s=(l,a,u,c,h)=>r(l[a],`${k}-katex-inline`,"span",h),o=(l,a,u,c,h)=>r(l[a],`${k}-katex-block`,"p",h,!0);t.inline.ruler.before("escape","math_inline",uy({delimiters:i||Gc.inline})),t.block.ruler.after("blockquote","math_block",cy({delimiters:n||Gc.block}),{alt:["paragraph","reference","blockquote","list"]}),t.renderer.rules.math_inline=s,t.renderer.rules.math_block=o},fy=(t,e)=>{const i=t.renderer.rules.fence.bind(t.renderer.rules);t.renderer.rules.fence=(n,r,s,o,l)=>{const a=n[r],u=a.content.trim();if(a.info==="mermaid"){if(a.attrSet("class",`${k}-mermaid`),a.attrSet("data-mermaid-theme",e.themeRef.value),a.map&&a.level===0){const h=a.map[1]-1,f=!!o.srcLines[h]?.trim()?.startsWith("```");a.attrSet("data-closed",`${f}`),a.attrSet("data-line",String(a.map[0]))}const c=Es.get(u);return c?(a.attrSet("data-processed",""),a.attrSet("data-content",u),`<p ${l.renderAttrs(a)}>${c}</p>`):`<div ${l.renderAttrs(a)}>${t.utils.escapeHtml(u)}</div>`}return i(n,r,s,o,l)}},Uc=(t,e,i)=>{const n=t.attrIndex(e),r=[e,i];n<0?t.attrPush(r):(t.attrs=t.attrs||[],t.attrs[n]=r)},dy=t=>t.type==="inline",py=t=>t.type==="paragraph_open",my=t=>t.type==="list_item_open",Oy=t=>t.content.indexOf("[ ] ")===0||t.content.indexOf("[x] ")===0||t.content.indexOf("[X] ")===0,gy=(t,e)=>dy(t[e])&&py(t[e-1])&&my(t[e-2])&&Oy(t[e]),by=(t,e)=>{const i=t[e].level-1;for(let n=e-1;n>=0;n--)if(t[n].level===i)return n;return-1},xy=t=>{const e=new t("html_inline","",0);return e.content="<label>",e},yy=t=>{const e=new t("html_inline","",0);return e.content="</label>",e},ky=(t,e,i)=>{const n=new i("html_inline","",0);return n.content='<label class="task-list-item-label" for="'+e+'">'+t+"</label>",n.attrs=[["for",e]],n},vy=(t,e,i)=>{const n=new e("html_inline","",0),r=i.enabled?" ":' disabled="" ';return t.content.indexOf("[ ] ")===0?n.content='<input class="task-list-item-checkbox"'+r+'type="checkbox">':(t.content.indexOf("[x] ")===0||t.content.indexOf("[X] ")===0)&&(n.content='<input class="task-list-item-checkbox" checked=""'+r+'type="checkbox">'),n},Sy=(t,e,i)=>{if(t.children=t.children||[],t.children.unshift(vy(t,e,i)),t.children[1].content=t.children[1].content.slice(3),t.content=t.content.slice(3),i.label)if(i.labelAfter){t.children.pop();const n="task-item-"+Math.ceil(Math.random()*(1e4*1e3)-1e3);t.children[0].content=t.children[0].content.slice(0,-1)+' id="'+n+'">',t.children.push(ky(t.content,n,e))}else t.children.unshift(xy(e)),t.children.push(yy(e))},wy=(t,e={})=>{t.core.ruler.after("inline","github-task-lists",i=>{const n=i.tokens;for(let r=2;r<n.length;r++)gy(n,r)&&(Sy(n[r],i.Token,e),Uc(n[r-2],"class","task-list-item"+(e.enabled?" enabled":" ")),Uc(n[by(n,r-2)],"class","contains-task-list"))})},Qy=t=>{t.core.ruler.push("init-line-number",e=>(e.tokens.forEach(i=>{i.map&&(i.attrs||(i.attrs=[]),i.attrs.push(["data-line",i.map[0].toString()]))}),!0))},$y=(t,e)=>{const{editorConfig:i,markdownItPlugins:n}=Ee,r=Q("editorId"),s=Q("language"),o=Q("usedLanguageText"),l=Q("showCodeRowNumber"),a=Q("theme"),u=Q("customIcon"),c=Q("rootRef"),h=Q("setting"),f=ie([]),d=iy(t),p=ny(t),{reRenderRef:m,replaceMermaid:O}=ry(t),{reRenderEcharts:g,replaceEcharts:b}=ty(t),S=wt({html:!0,breaks:!0,linkify:!0}),x=[{type:"image",plugin:Ax,options:{figcaption:!0,classes:"md-zoom"}},{type:"admonition",plugin:sy,options:{}},{type:"taskList",plugin:wy,options:{}},{type:"heading",plugin:ay,options:{mdHeadingId:t.mdHeadingId,headsRef:f}},{type:"code",plugin:oy,options:{editorId:r,usedLanguageTextRef:o,codeFoldable:t.codeFoldable,autoFoldThreshold:t.autoFoldThreshold,customIconRef:u}},{type:"sub",plugin:Mx,options:{}},{type:"sup",plugin:Zx,options:{}}];t.noKatex||x.push({type:"katex",plugin:hy,options:{katexRef:p}}),t.noMermaid||x.push({type:"mermaid",plugin:fy,options:{themeRef:a}}),t.noEcharts||x.push({type:"echarts",plugin:ly,options:{themeRef:a}}),n(x,{editorId:r}).forEach(B=>{S.use(B.plugin,B.options)});const y=S.options.highlight;S.set({highlight:(B,D,F)=>{if(y){const K=y(B,D,F);if(K)return K}let Z;!t.noHighlight&&d.value?d.value.getLanguage(D)?Z=d.value.highlight(B,{language:D,ignoreIllegals:!0}).value:Z=d.value.highlightAuto(B).value:Z=S.utils.escapeHtml(B);const I=l?D1(Z.replace(/^\n+|\n+$/g,""),B.replace(/^\n+|\n+$/g,"")):`<span class="${k}-code-block">${Z.replace(/^\n+|\n+$/g,"")}</span>`;return`<pre><code class="language-${D}" language=${D}>${I}</code></pre>`}}),Qy(S);const $=ie(`_article-key_${Wl()}`),_=ie(t.sanitize(S.render(t.modelValue,{srcLines:t.modelValue.split(`
+`)})));let P=()=>{},A=()=>{};const z=()=>{const B=c.value?.querySelectorAll(`#${r} p.${k}-mermaid:not([data-closed=false])`);A(),A=B1(B,{customIcon:u.value}),P(),P=q1(B,{customIcon:u.value})},V=()=>{R.emit(r,Cs,_.value),t.onHtmlChanged(_.value),t.onGetCatalog(f.value),R.emit(r,Kn,f.value),St(()=>{O().then(z),b()})},E=()=>{f.value=[],_.value=t.sanitize(S.render(t.modelValue,{srcLines:t.modelValue.split(`
+`)}))},X=fe(()=>(t.noKatex||!!p.value)&&(t.noHighlight||!!d.value));let q=-1;return ee([Nl(t,"modelValue"),X,m,s],()=>{q=window.setTimeout(()=>{E()},e?0:i.renderDelay)}),ee(()=>h.value.preview,()=>{h.value.preview&&St(()=>{O().then(z),b(),R.emit(r,Kn,f.value)})}),ee([_,g],()=>{V()}),we(V),we(()=>{R.on(r,{name:tp,callback(){R.emit(r,Kn,f.value)}}),R.on(r,{name:ou,callback:()=>{$.value=`_article-key_${Wl()}`,E()}})}),ni(()=>{P(),A(),clearTimeout(q)}),{html:_,key:$}},_y=(t,e)=>{const i=Q("editorId"),n=Q("setting"),{noImgZoomIn:r}=t,s=Gd(()=>{const o=document.querySelectorAll(`#${i}-preview img:not(.not-zoom):not(.medium-zoom-image)`);o.length!==0&&qx(o,{background:"#00000073"})});we(async()=>{!r&&n.value.preview&&await s()}),ee([e,()=>n.value.preview],async()=>{!r&&n.value.preview&&await s()})},Hc={checked:{regexp:/- \[x\]/,value:"- [ ]"},unChecked:{regexp:/- \[\s\]/,value:"- [x]"}},Py=(t,e)=>{const i=Q("editorId"),n=Q("rootRef");let r=()=>{};const s=()=>{if(!n.value)return!1;const o=n.value.querySelectorAll(".task-list-item.enabled"),l=a=>{a.preventDefault();const u=a.target.checked?"unChecked":"checked",c=a.target.parentElement?.dataset.line;if(!c)return;const h=Number(c),f=t.modelValue.split(`
+`),d=f[Number(h)].replace(Hc[u].regexp,Hc[u].value);t.previewOnly?(f[Number(h)]=d,t.onChange(f.join(`
+`))):R.emit(i,np,h+1,d)};o.forEach(a=>{a.addEventListener("click",l)}),r=()=>{o.forEach(a=>{a.removeEventListener("click",l)})}};ni(()=>{r()}),ee([e],()=>{r(),St(s)},{immediate:!0})},Cy=(t,e,i)=>{const n=Q("setting"),r=()=>{St(()=>{t.onRemount?.()})},s=o=>{o&&r()};ee([e,i],r),ee(()=>n.value.preview,s),ee(()=>n.value.htmlPreview,s),we(r)},zp={modelValue:{type:String,default:""},onChange:{type:Function,default:()=>{}},onHtmlChanged:{type:Function,default:()=>{}},onGetCatalog:{type:Function,default:()=>{}},mdHeadingId:{type:Function,default:()=>""},noMermaid:{type:Boolean,default:!1},sanitize:{type:Function,default:t=>t},noKatex:{type:Boolean,default:!1},formatCopiedText:{type:Function,default:t=>t},noHighlight:{type:Boolean,default:!1},previewOnly:{type:Boolean,default:!1},noImgZoomIn:{type:Boolean},sanitizeMermaid:{type:Function},codeFoldable:{type:Boolean},autoFoldThreshold:{type:Number},onRemount:{type:Function},noEcharts:{type:Boolean},previewComponent:{type:[Object,Function],default:void 0}},Ty={...zp,updateModelValue:{type:Function,default:()=>{}},placeholder:{type:String,default:""},scrollAuto:{type:Boolean},autofocus:{type:Boolean},readonly:{type:Boolean},maxlength:{type:Number},autoDetectCode:{type:Boolean},onBlur:{type:Function,default:()=>{}},onFocus:{type:Function,default:()=>{}},completions:{type:Array},onInput:{type:Function},onDrop:{type:Function,default:()=>{}},inputBoxWidth:{type:String},oninputBoxWidthChange:{type:Function},transformImgUrl:{type:Function,default:t=>t},catalogLayout:{type:String},catalogMaxDepth:{type:Number}},Kc=t=>{const e=new DOMParser().parseFromString(t,"text/html");return Array.from(e.body.childNodes)},Ay=(t,e)=>t.nodeType!==e.nodeType?!1:t.nodeType===Node.TEXT_NODE||t.nodeType===Node.COMMENT_NODE?t.textContent===e.textContent:t.nodeType===Node.ELEMENT_NODE?t.outerHTML===e.outerHTML:t.isEqualNode?t.isEqualNode(e):!1,Ey=H({name:"UpdateOnDemand",props:{id:{type:String,required:!0},class:{type:[String,Array,Object],required:!0},html:{type:String,required:!0}},setup(t){const e=ie(),i=t.html,n=(r,s)=>{if(!e.value)return;const o=e.value,l=Array.from(o.childNodes),a=Math.min(r.length,s.length);let u=-1;for(let h=0;h<a;h++)if(!Ay(r[h],s[h])){u=h;break}if(u===-1)if(s.length>r.length)u=r.length;else if(r.length>s.length)u=s.length;else return;const c=Math.min(u,l.length);for(let h=l.length-1;h>=c;h--)l[h].remove();for(let h=u;h<r.length;h++)o.appendChild(r[h].cloneNode(!0))};return ee(()=>t.html,(r,s)=>{const o=Kc(r),l=Kc(s||"");n(o,l)}),()=>w("div",{id:t.id,class:t.class,innerHTML:i,ref:e},null)}}),Xp=H({name:"ContentPreview",props:zp,setup(t){const e=Q("editorId"),i=Q("setting"),n=Q("previewTheme"),r=Q("showCodeRowNumber"),{html:s,key:o}=$y(t,t.previewOnly);ey(t,s,o),_y(t,s),Py(t,s),Cy(t,s,o);const l=fe(()=>[`${k}-preview`,`${n?.value}-theme`,r&&`${k}-scrn`].filter(Boolean)),a=()=>{const u=`${e}-preview`;return t.previewComponent?an(t.previewComponent,{key:o.value,html:s.value,id:u,class:l.value}):w(Ey,{key:o.value,html:s.value,id:u,class:l.value},null)};return()=>w(Rr,null,[i.value.preview&&(t.previewOnly?a():w("div",{id:`${e}-preview-wrapper`,class:`${k}-preview-wrapper`,key:"content-preview-wrapper"},[a()])),i.value.htmlPreview&&w("div",{id:`${e}-html-wrapper`,class:`${k}-preview-wrapper`,key:"html-preview-wrapper"},[w("div",{class:`${k}-html`},[s.value])])])}}),Dy=({text:t})=>t,Vp={modelValue:{type:String,default:""},onChange:{type:Function,default:void 0},theme:{type:String,default:"light"},class:{type:String,default:""},language:{type:String,default:"zh-CN"},onHtmlChanged:{type:Function,default:void 0},onGetCatalog:{type:Function,default:void 0},editorId:{type:String,default:void 0},id:{type:String,default:void 0},showCodeRowNumber:{type:Boolean,default:!0},previewTheme:{type:String,default:"default"},style:{type:Object,default:()=>({})},mdHeadingId:{type:Function,default:Dy},sanitize:{type:Function,default:t=>t},noMermaid:{type:Boolean,default:!1},noKatex:{type:Boolean,default:!1},codeTheme:{type:String,default:"atom"},formatCopiedText:{type:Function,default:t=>t},codeStyleReverse:{type:Boolean,default:!0},codeStyleReverseList:{type:Array,default:["default","mk-cute"]},noHighlight:{type:Boolean,default:!1},noImgZoomIn:{type:Boolean,default:!1},customIcon:{type:Object,default:{}},sanitizeMermaid:{type:Function,default:t=>Promise.resolve(t)},codeFoldable:{type:Boolean,default:!0},autoFoldThreshold:{type:Number,default:30},onRemount:{type:Function,default:void 0},noEcharts:{type:Boolean,default:!1},previewComponent:{type:[Object,Function],default:void 0}},My={...Vp,onSave:{type:Function,default:void 0},onUploadImg:{type:Function,default:void 0},pageFullscreen:{type:Boolean,default:!1},preview:{type:Boolean,default:!0},htmlPreview:{type:Boolean,default:!1},toolbars:{type:Array,default:Ud},floatingToolbars:{type:Array,default:[]},toolbarsExclude:{type:Array,default:[]},noPrettier:{type:Boolean,default:!1},tabWidth:{type:Number,default:2},tableShape:{type:Array,default:[6,4]},placeholder:{type:String,default:""},defToolbars:{type:[String,Object],default:void 0},onError:{type:Function,default:void 0},footers:{type:Array,default:Hd},scrollAuto:{type:Boolean,default:!0},defFooters:{type:[String,Object],default:void 0},noUploadImg:{type:Boolean,default:!1},autoFocus:{type:Boolean,default:!1},disabled:{type:Boolean,default:!1},readOnly:{type:Boolean,default:!1},maxLength:{type:Number,default:void 0},autoDetectCode:{type:Boolean,default:!1},onBlur:{type:Function,default:void 0},onFocus:{type:Function,default:void 0},completions:{type:Array,default:void 0},showToolbarName:{type:Boolean,default:!1},onInput:{type:Function,default:void 0},onDrop:{type:Function,default:void 0},inputBoxWidth:{type:String,default:"50%"},oninputBoxWidthChange:{type:Function,default:void 0},transformImgUrl:{type:Function,default:t=>t},catalogLayout:{type:String,default:"fixed"},catalogMaxDepth:{type:Number,default:void 0}},Fp=["onHtmlChanged","onGetCatalog","onChange","onRemount","update:modelValue"],Ry=[...Fp,"onSave","onUploadImg","onError","onBlur","onFocus","onInput","onDrop","oninputBoxWidthChange"],Ly=(t,e,i)=>{const{editorId:n}=i,r={rerender(){R.emit(n,ou)}};e.expose(r)},Ds=H({name:"MdPreview",props:Vp,emits:Fp,setup(t,e){const{noKatex:i,noMermaid:n,noHighlight:r}=t,s=ie(),o=Ip(t);Zp(t,{rootRef:s,editorId:o}),Ly(t,e,{editorId:o}),ni(()=>{R.clear(o)});const l=h=>{t.onChange?.(h),e.emit("onChange",h),e.emit("update:modelValue",h)},a=h=>{t.onHtmlChanged?.(h),e.emit("onHtmlChanged",h)},u=h=>{t.onGetCatalog?.(h),e.emit("onGetCatalog",h)},c=()=>{t.onRemount?.(),e.emit("onRemount")};return()=>w("div",{id:o,class:[k,t.class,t.theme==="dark"&&`${k}-dark`,`${k}-previewOnly`],style:t.style,ref:s},[w(Xp,{modelValue:t.modelValue,onChange:l,onHtmlChanged:a,onGetCatalog:u,mdHeadingId:t.mdHeadingId,noMermaid:n,sanitize:t.sanitize,noKatex:i,formatCopiedText:t.formatCopiedText,noHighlight:r,noImgZoomIn:t.noImgZoomIn,previewOnly:!0,sanitizeMermaid:t.sanitizeMermaid,codeFoldable:t.codeFoldable,autoFoldThreshold:t.autoFoldThreshold,onRemount:c,noEcharts:t.noEcharts,previewComponent:t.previewComponent},null)])}});Ds.install=t=>(t.component(Ds.name,Ds),t);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Jc=t=>t.replace(/([a-z0-9])([A-Z])/g,"$1-$2").toLowerCase(),Zy=t=>t.replace(/^([A-Z])|[\s-_]+(\w)/g,(e,i,n)=>n?n.toUpperCase():i.toLowerCase()),Iy=t=>{const e=Zy(t);return e.charAt(0).toUpperCase()+e.slice(1)},zy=(...t)=>t.filter((e,i,n)=>!!e&&e.trim()!==""&&n.indexOf(e)===i).join(" ").trim(),eh=t=>t==="";/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */var Rn={xmlns:"http://www.w3.org/2000/svg",width:24,height:24,viewBox:"0 0 24 24",fill:"none",stroke:"currentColor","stroke-width":2,"stroke-linecap":"round","stroke-linejoin":"round"};/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Xy=({name:t,iconNode:e,absoluteStrokeWidth:i,"absolute-stroke-width":n,strokeWidth:r,"stroke-width":s,size:o=Rn.width,color:l=Rn.stroke,...a},{slots:u})=>an("svg",{...Rn,...a,width:o,height:o,stroke:l,"stroke-width":eh(i)||eh(n)||i===!0||n===!0?Number(r||s||Rn["stroke-width"])*24/Number(o):r||s||Rn["stroke-width"],class:zy("lucide",a.class,...t?[`lucide-${Jc(Iy(t))}-icon`,`lucide-${Jc(t)}`]:["lucide-icon"])},[...e.map(c=>an(...c)),...u.default?[u.default()]:[]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const he=(t,e)=>(i,{slots:n,attrs:r})=>an(Xy,{...r,...i,iconNode:e,name:t},n);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Vy=he("bold",[["path",{d:"M6 12h9a4 4 0 0 1 0 8H7a1 1 0 0 1-1-1V5a1 1 0 0 1 1-1h7a4 4 0 0 1 0 8",key:"mg9rjx"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Fy=he("chart-area",[["path",{d:"M3 3v16a2 2 0 0 0 2 2h16",key:"c24i48"}],["path",{d:"M7 11.207a.5.5 0 0 1 .146-.353l2-2a.5.5 0 0 1 .708 0l3.292 3.292a.5.5 0 0 0 .708 0l4.292-4.292a.5.5 0 0 1 .854.353V16a1 1 0 0 1-1 1H8a1 1 0 0 1-1-1z",key:"q0gr47"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const By=he("code-xml",[["path",{d:"m18 16 4-4-4-4",key:"1inbqp"}],["path",{d:"m6 8-4 4 4 4",key:"15zrgr"}],["path",{d:"m14.5 4-5 16",key:"e7oirm"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const qy=he("code",[["path",{d:"m16 18 6-6-6-6",key:"eg8j8"}],["path",{d:"m8 6-6 6 6 6",key:"ppft3o"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const jy=he("expand",[["path",{d:"m15 15 6 6",key:"1s409w"}],["path",{d:"m15 9 6-6",key:"ko1vev"}],["path",{d:"M21 16v5h-5",key:"1ck2sf"}],["path",{d:"M21 8V3h-5",key:"1qoq8a"}],["path",{d:"M3 16v5h5",key:"1t08am"}],["path",{d:"m3 21 6-6",key:"wwnumi"}],["path",{d:"M3 8V3h5",key:"1ln10m"}],["path",{d:"M9 9 3 3",key:"v551iv"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Yy=he("eye",[["path",{d:"M2.062 12.348a1 1 0 0 1 0-.696 10.75 10.75 0 0 1 19.876 0 1 1 0 0 1 0 .696 10.75 10.75 0 0 1-19.876 0",key:"1nclc0"}],["circle",{cx:"12",cy:"12",r:"3",key:"1v7zrd"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Ny=he("forward",[["path",{d:"m15 17 5-5-5-5",key:"nf172w"}],["path",{d:"M4 18v-2a4 4 0 0 1 4-4h12",key:"jmiej9"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Wy=he("heading",[["path",{d:"M6 12h12",key:"8npq4p"}],["path",{d:"M6 20V4",key:"1w1bmo"}],["path",{d:"M18 20V4",key:"o2hl4u"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Gy=he("image",[["rect",{width:"18",height:"18",x:"3",y:"3",rx:"2",ry:"2",key:"1m3agn"}],["circle",{cx:"9",cy:"9",r:"2",key:"af1f0g"}],["path",{d:"m21 15-3.086-3.086a2 2 0 0 0-2.828 0L6 21",key:"1xmnt7"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Uy=he("italic",[["line",{x1:"19",x2:"10",y1:"4",y2:"4",key:"15jd3p"}],["line",{x1:"14",x2:"5",y1:"20",y2:"20",key:"bu0au3"}],["line",{x1:"15",x2:"9",y1:"4",y2:"20",key:"uljnxc"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Hy=he("link",[["path",{d:"M10 13a5 5 0 0 0 7.54.54l3-3a5 5 0 0 0-7.07-7.07l-1.72 1.71",key:"1cjeqo"}],["path",{d:"M14 11a5 5 0 0 0-7.54-.54l-3 3a5 5 0 0 0 7.07 7.07l1.71-1.71",key:"19qd67"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Ky=he("list-ordered",[["path",{d:"M11 5h10",key:"1cz7ny"}],["path",{d:"M11 12h10",key:"1438ji"}],["path",{d:"M11 19h10",key:"11t30w"}],["path",{d:"M4 4h1v5",key:"10yrso"}],["path",{d:"M4 9h2",key:"r1h2o0"}],["path",{d:"M6.5 20H3.4c0-1 2.6-1.925 2.6-3.5a1.5 1.5 0 0 0-2.6-1.02",key:"xtkcd5"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Jy=he("list-todo",[["path",{d:"M13 5h8",key:"a7qcls"}],["path",{d:"M13 12h8",key:"h98zly"}],["path",{d:"M13 19h8",key:"c3s6r1"}],["path",{d:"m3 17 2 2 4-4",key:"1jhpwq"}],["rect",{x:"3",y:"4",width:"6",height:"6",rx:"1",key:"cif1o7"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const ek=he("list-tree",[["path",{d:"M8 5h13",key:"1pao27"}],["path",{d:"M13 12h8",key:"h98zly"}],["path",{d:"M13 19h8",key:"c3s6r1"}],["path",{d:"M3 10a2 2 0 0 0 2 2h3",key:"1npucw"}],["path",{d:"M3 5v12a2 2 0 0 0 2 2h3",key:"x1gjn2"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const tk=he("list",[["path",{d:"M3 5h.01",key:"18ugdj"}],["path",{d:"M3 12h.01",key:"nlz23k"}],["path",{d:"M3 19h.01",key:"noohij"}],["path",{d:"M8 5h13",key:"1pao27"}],["path",{d:"M8 12h13",key:"1za7za"}],["path",{d:"M8 19h13",key:"m83p4d"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const ik=he("maximize-2",[["path",{d:"M15 3h6v6",key:"1q9fwt"}],["path",{d:"m21 3-7 7",key:"1l2asr"}],["path",{d:"m3 21 7-7",key:"tjx5ai"}],["path",{d:"M9 21H3v-6",key:"wtvkvv"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const nk=he("minimize-2",[["path",{d:"m14 10 7-7",key:"oa77jy"}],["path",{d:"M20 10h-6V4",key:"mjg0md"}],["path",{d:"m3 21 7-7",key:"tjx5ai"}],["path",{d:"M4 14h6v6",key:"rmj7iw"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const rk=he("quote",[["path",{d:"M16 3a2 2 0 0 0-2 2v6a2 2 0 0 0 2 2 1 1 0 0 1 1 1v1a2 2 0 0 1-2 2 1 1 0 0 0-1 1v2a1 1 0 0 0 1 1 6 6 0 0 0 6-6V5a2 2 0 0 0-2-2z",key:"rib7q0"}],["path",{d:"M5 3a2 2 0 0 0-2 2v6a2 2 0 0 0 2 2 1 1 0 0 1 1 1v1a2 2 0 0 1-2 2 1 1 0 0 0-1 1v2a1 1 0 0 0 1 1 6 6 0 0 0 6-6V5a2 2 0 0 0-2-2z",key:"1ymkrd"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const sk=he("reply",[["path",{d:"M20 18v-2a4 4 0 0 0-4-4H4",key:"5vmcpk"}],["path",{d:"m9 17-5-5 5-5",key:"nvlc11"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const ok=he("save",[["path",{d:"M15.2 3a2 2 0 0 1 1.4.6l3.8 3.8a2 2 0 0 1 .6 1.4V19a2 2 0 0 1-2 2H5a2 2 0 0 1-2-2V5a2 2 0 0 1 2-2z",key:"1c8476"}],["path",{d:"M17 21v-7a1 1 0 0 0-1-1H8a1 1 0 0 0-1 1v7",key:"1ydtos"}],["path",{d:"M7 3v4a1 1 0 0 0 1 1h7",key:"t51u73"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const lk=he("shrink",[["path",{d:"m15 15 6 6m-6-6v4.8m0-4.8h4.8",key:"17vawe"}],["path",{d:"M9 19.8V15m0 0H4.2M9 15l-6 6",key:"chjx8e"}],["path",{d:"M15 4.2V9m0 0h4.8M15 9l6-6",key:"lav6yq"}],["path",{d:"M9 4.2V9m0 0H4.2M9 9 3 3",key:"1pxi2q"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const th=he("square-code",[["path",{d:"m10 9-3 3 3 3",key:"1oro0q"}],["path",{d:"m14 15 3-3-3-3",key:"bz13h7"}],["rect",{x:"3",y:"3",width:"18",height:"18",rx:"2",key:"h1oib"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const ak=he("square-sigma",[["rect",{width:"18",height:"18",x:"3",y:"3",rx:"2",key:"afitv7"}],["path",{d:"M16 8.9V7H8l4 5-4 5h8v-1.9",key:"9nih0i"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const uk=he("strikethrough",[["path",{d:"M16 4H9a3 3 0 0 0-2.83 4",key:"43sutm"}],["path",{d:"M14 12a4 4 0 0 1 0 8H6",key:"nlfj13"}],["line",{x1:"4",x2:"20",y1:"12",y2:"12",key:"1e0a9i"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const ck=he("subscript",[["path",{d:"m4 5 8 8",key:"1eunvl"}],["path",{d:"m12 5-8 8",key:"1ah0jp"}],["path",{d:"M20 19h-4c0-1.5.44-2 1.5-2.5S20 15.33 20 14c0-.47-.17-.93-.48-1.29a2.11 2.11 0 0 0-2.62-.44c-.42.24-.74.62-.9 1.07",key:"e8ta8j"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const hk=he("superscript",[["path",{d:"m4 19 8-8",key:"hr47gm"}],["path",{d:"m12 19-8-8",key:"1dhhmo"}],["path",{d:"M20 12h-4c0-1.5.442-2 1.5-2.5S20 8.334 20 7.002c0-.472-.17-.93-.484-1.29a2.105 2.105 0 0 0-2.617-.436c-.42.239-.738.614-.899 1.06",key:"1dfcux"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const fk=he("table",[["path",{d:"M12 3v18",key:"108xh3"}],["rect",{width:"18",height:"18",x:"3",y:"3",rx:"2",key:"afitv7"}],["path",{d:"M3 9h18",key:"1pudct"}],["path",{d:"M3 15h18",key:"5xshup"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const dk=he("trash-2",[["path",{d:"M10 11v6",key:"nco0om"}],["path",{d:"M14 11v6",key:"outv1u"}],["path",{d:"M19 6v14a2 2 0 0 1-2 2H7a2 2 0 0 1-2-2V6",key:"miytrc"}],["path",{d:"M3 6h18",key:"d0wm0j"}],["path",{d:"M8 6V4a2 2 0 0 1 2-2h4a2 2 0 0 1 2 2v2",key:"e791ji"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const pk=he("underline",[["path",{d:"M6 4v6a6 6 0 0 0 12 0V4",key:"9kb039"}],["line",{x1:"4",x2:"20",y1:"20",y2:"20",key:"nun2al"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const mk=he("upload",[["path",{d:"M12 3v12",key:"1x0j5s"}],["path",{d:"m17 8-5-5-5 5",key:"7q97r8"}],["path",{d:"M21 15v4a2 2 0 0 1-2 2H5a2 2 0 0 1-2-2v-4",key:"ih7n3h"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const Ok=he("view",[["path",{d:"M21 17v2a2 2 0 0 1-2 2H5a2 2 0 0 1-2-2v-2",key:"mrq65r"}],["path",{d:"M21 7V5a2 2 0 0 0-2-2H5a2 2 0 0 0-2 2v2",key:"be3xqs"}],["circle",{cx:"12",cy:"12",r:"1",key:"41hilf"}],["path",{d:"M18.944 12.33a1 1 0 0 0 0-.66 7.5 7.5 0 0 0-13.888 0 1 1 0 0 0 0 .66 7.5 7.5 0 0 0 13.888 0",key:"11ak4c"}]]);/**
+ * @license lucide-vue-next v0.543.0 - ISC
+ *
+ * This source code is licensed under the ISC license.
+ * See the LICENSE file in the root directory of this source tree.
+ */const gk=he("x",[["path",{d:"M18 6 6 18",key:"1bl5f8"}],["path",{d:"m6 6 12 12",key:"d8bk6v"}]]),bk=()=>w("svg",{xmlns:"http://www.w3.org/2000/svg",viewBox:"0 0 24 24",fill:"none",stroke:"currentColor","stroke-width":"2","stroke-linecap":"round","stroke-linejoin":"round",class:"lucide lucide-github-icon"},[w("path",{d:"M15 22v-4a4.8 4.8 0 0 0-1-3.5c3 0 6-2 6-5.5.08-1.25-.27-2.48-1-3.5.28-1.15.28-2.35 0-3.5 0 0-1 0-3 1.5-2.64-.5-5.36-.5-8 0C6 2 5 2 5 2c-.3 1.15-.3 2.35 0 3.5A5.403 5.403 0 0 0 4 9c0 3.5 3 5.5 6 5.5-.39.49-.68 1.05-.85 1.65-.17.6-.22 1.23-.15 1.85v4"},null),w("path",{d:"M9 18c-4.51 2-5-2-7-2"},null)]),xk={bold:Vy,underline:pk,italic:Uy,"strike-through":uk,title:Wy,sub:ck,sup:hk,quote:rk,"unordered-list":tk,"ordered-list":Ky,task:Jy,"code-row":qy,code:th,link:Hy,image:Gy,table:fk,revoke:sk,next:Ny,save:ok,prettier:th,minimize:nk,maximize:ik,"fullscreen-exit":lk,fullscreen:jy,"preview-only":Ok,preview:Yy,"preview-html":By,catalog:ek,github:bk,mermaid:Fy,formula:ak,close:gk,delete:dk,upload:mk},yk=H({name:`${k}-icon-set`,props:{name:{type:String,default:""}},setup(t){return()=>an(xk[t.name],{class:`${k}-icon`})}}),ce=H({name:`${k}-icon`,props:{name:{type:String,default:""}},setup(t){const e=Q("customIcon");return()=>{const i=e.value[t.name];return typeof i=="object"?typeof i.component=="object"?an(i.component,i.props):w("span",{innerHTML:i.component},null):w(yk,{name:t.name},null)}}}),kk={title:{type:[String,Object],default:""},visible:{type:Boolean,default:!1},width:{type:String,default:"auto"},height:{type:String,default:"auto"},onClose:{type:Function},showAdjust:{type:Boolean,default:!1},isFullscreen:{type:Boolean,default:!1},onAdjust:{type:Function,default:()=>{}},class:{type:String,default:void 0},style:{type:[Object,String],default:()=>({})},showMask:{type:Boolean,default:!0}},er=H({name:"MdModal",props:kk,emits:["onClose"],setup(t,e){const i=Q("theme"),n=Q("rootRef"),r=ie(t.visible),s=ie([`${k}-modal`]),o=ie(),l=ie(),a=ie(),u=yi();let c=()=>{};const h=yt({maskStyle:{zIndex:-1},modalStyle:{zIndex:-1},initPos:{left:"0px",top:"0px"},historyPos:{left:"0px",top:"0px"}}),f=fe(()=>t.isFullscreen?{width:"100%",height:"100%"}:{width:t.width,height:t.height});ee(()=>t.isFullscreen,m=>{m?c():St(()=>{c=$c(l.value,(O,g)=>{h.initPos.left=O+"px",h.initPos.top=g+"px"})})}),ee(()=>t.visible,m=>{m?(h.maskStyle.zIndex=Ee.editorConfig.zIndex+Qc(),h.modalStyle.zIndex=Ee.editorConfig.zIndex+Qc(),s.value.push("zoom-in"),r.value=m,St(()=>{const O=o.value.offsetWidth/2,g=o.value.offsetHeight/2,b=document.documentElement.clientWidth/2,S=document.documentElement.clientHeight/2;h.initPos.left=b-O+"px",h.initPos.top=S-g+"px",t.isFullscreen||(c=$c(l.value,(x,y)=>{h.initPos.left=x+"px",h.initPos.top=y+"px"}))}),setTimeout(()=>{s.value=s.value.filter(O=>O!=="zoom-in")},140)):(s.value.push("zoom-out"),c(),setTimeout(()=>{s.value=s.value.filter(O=>O!=="zoom-out"),r.value=m},130))});const d=fe(()=>({display:r.value?"block":"none"})),p=fe(()=>{if(typeof t.style=="string"){const m=Object.entries(d.value).map(([O,g])=>`${O}: ${g}`).join("; ");return[t.style,m].join("; ")}else return t.style instanceof Object?{...d.value,...t.style}:d.value});return we(()=>{const m=n.value?.getRootNode();a.value=m instanceof Document?document.body:m}),()=>{const m=Ge({ctx:e}),O=Ge({props:t,ctx:e},"title");return a.value?w(p1,{to:a.value},{default:()=>[w("div",{ref:u,class:`${k}-modal-container`,"data-theme":i.value},[w("div",{class:t.class,style:p.value},[t.showMask&&w("div",{class:`${k}-modal-mask`,style:h.maskStyle,onClick:()=>{t.onClose?.(),e.emit("onClose")}},null),w("div",{class:s.value,style:{...h.modalStyle,...h.initPos,...f.value},ref:o},[w("div",{class:`${k}-modal-header`,ref:l},[O||""]),w("div",{class:`${k}-modal-body`},[m]),w("div",{class:`${k}-modal-func`},[t.showAdjust&&w("div",{class:`${k}-modal-adjust`,onClick:g=>{g.stopPropagation(),t.isFullscreen?h.initPos=h.historyPos:(h.historyPos=h.initPos,h.initPos={left:"0",top:"0"}),t.onAdjust(!t.isFullscreen)}},[w(ce,{name:t.isFullscreen?"minimize":"maximize"},null)]),w("div",{class:`${k}-modal-close`,onClick:g=>{g.stopPropagation(),t.onClose?.(),e.emit("onClose")}},[w(ce,{name:"close"},null)])])])])])]}):""}}});er.install=t=>(t.component(er.name,er),t);function vk(t){return typeof t=="function"||Object.prototype.toString.call(t)==="[object Object]"&&!m1(t)}const Sk={title:{type:String,default:""},modalTitle:{type:[String,Object],default:""},visible:{type:Boolean,default:void 0},width:{type:String,default:"auto"},height:{type:String,default:"auto"},trigger:{type:[String,Object],default:void 0},onClick:{type:Function,default:void 0},onClose:{type:Function,default:void 0},showAdjust:{type:Boolean,default:!1},isFullscreen:{type:Boolean,default:!1},onAdjust:{type:Function,default:void 0},class:{type:String,default:void 0},style:{type:[Object,String],default:void 0},showMask:{type:Boolean,default:!0},insert:{type:Function,default:void 0},language:{type:String,default:void 0},theme:{type:String,default:void 0},previewTheme:{type:String,default:void 0},codeTheme:{type:String,default:void 0},disabled:{type:Boolean,default:void 0},showToolbarName:{type:Boolean,default:void 0}},Ms=H({name:"ModalToolbar",props:Sk,emits:["onClick","onClose","onAdjust"],setup(t,e){const i=()=>{t.onClose?.(),e.emit("onClose")},n=r=>{t.onAdjust?.(r),e.emit("onAdjust",r)};return()=>{const r=Ge({props:t,ctx:e},"trigger"),s=Ge({props:t,ctx:e},"modalTitle"),o=Ge({props:t,ctx:e});return w(Rr,null,[w("button",{class:[`${k}-toolbar-item`,t.disabled&&`${k}-disabled`],title:t.title,disabled:t.disabled,onClick:()=>{t.onClick?.(),e.emit("onClick")},type:"button"},[r]),w(er,{style:t.style,class:t.class,width:t.width,height:t.height,title:s,visible:t.visible,showMask:t.showMask,onClose:i,showAdjust:t.showAdjust,isFullscreen:t.isFullscreen,onAdjust:n},vk(o)?o:{default:()=>[o]})])}}});Ms.install=t=>(t.component(Ms.name,Ms),t);const wk={title:{type:String,default:""},trigger:{type:[String,Object],default:void 0},onClick:{type:Function,default:void 0},insert:{type:Function,default:void 0},language:{type:String,default:void 0},theme:{type:String,default:void 0},previewTheme:{type:String,default:void 0},codeTheme:{type:String,default:void 0},disabled:{type:Boolean,default:void 0},showToolbarName:{type:Boolean,default:void 0}},Rs=H({name:"NormalToolbar",props:wk,emits:["onClick"],setup(t,e){return()=>{const i=Ge({props:t,ctx:e},"trigger"),n=Ge({props:t,ctx:e});return w("button",{class:[`${k}-toolbar-item`,t.disabled&&`${k}-disabled`],title:t.title,disabled:t.disabled,onClick:r=>{t.onClick?.(r),e.emit("onClick",r)},type:"button"},[n||i])}}});Rs.install=t=>(t.component(Rs.name,Rs),t);let ia=[],Bp=[];(()=>{let t="lc,34,7n,7,7b,19,,,,2,,2,,,20,b,1c,l,g,,2t,7,2,6,2,2,,4,z,,u,r,2j,b,1m,9,9,,o,4,,9,,3,,5,17,3,3b,f,,w,1j,,,,4,8,4,,3,7,a,2,t,,1m,,,,2,4,8,,9,,a,2,q,,2,2,1l,,4,2,4,2,2,3,3,,u,2,3,,b,2,1l,,4,5,,2,4,,k,2,m,6,,,1m,,,2,,4,8,,7,3,a,2,u,,1n,,,,c,,9,,14,,3,,1l,3,5,3,,4,7,2,b,2,t,,1m,,2,,2,,3,,5,2,7,2,b,2,s,2,1l,2,,,2,4,8,,9,,a,2,t,,20,,4,,2,3,,,8,,29,,2,7,c,8,2q,,2,9,b,6,22,2,r,,,,,,1j,e,,5,,2,5,b,,10,9,,2u,4,,6,,2,2,2,p,2,4,3,g,4,d,,2,2,6,,f,,jj,3,qa,3,t,3,t,2,u,2,1s,2,,7,8,,2,b,9,,19,3,3b,2,y,,3a,3,4,2,9,,6,3,63,2,2,,1m,,,7,,,,,2,8,6,a,2,,1c,h,1r,4,1c,7,,,5,,14,9,c,2,w,4,2,2,,3,1k,,,2,3,,,3,1m,8,2,2,48,3,,d,,7,4,,6,,3,2,5i,1m,,5,ek,,5f,x,2da,3,3x,,2o,w,fe,6,2x,2,n9w,4,,a,w,2,28,2,7k,,3,,4,,p,2,5,,47,2,q,i,d,,12,8,p,b,1a,3,1c,,2,4,2,2,13,,1v,6,2,2,2,2,c,,8,,1b,,1f,,,3,2,2,5,2,,,16,2,8,,6m,,2,,4,,fn4,,kh,g,g,g,a6,2,gt,,6a,,45,5,1ae,3,,2,5,4,14,3,4,,4l,2,fx,4,ar,2,49,b,4w,,1i,f,1k,3,1d,4,2,2,1x,3,10,5,,8,1q,,c,2,1g,9,a,4,2,,2n,3,2,,,2,6,,4g,,3,8,l,2,1l,2,,,,,m,,e,7,3,5,5f,8,2,3,,,n,,29,,2,6,,,2,,,2,,2,6j,,2,4,6,2,,2,r,2,2d,8,2,,,2,2y,,,,2,6,,,2t,3,2,4,,5,77,9,,2,6t,,a,2,,,4,,40,4,2,2,4,,w,a,14,6,2,4,8,,9,6,2,3,1a,d,,2,ba,7,,6,,,2a,m,2,7,,2,,2,3e,6,3,,,2,,7,,,20,2,3,,,,9n,2,f0b,5,1n,7,t4,,1r,4,29,,f5k,2,43q,,,3,4,5,8,8,2,7,u,4,44,3,1iz,1j,4,1e,8,,e,,m,5,,f,11s,7,,h,2,7,,2,,5,79,7,c5,4,15s,7,31,7,240,5,gx7k,2o,3k,6o".split(",").map(e=>e?parseInt(e,36):1);for(let e=0,i=0;e<t.length;e++)(e%2?Bp:ia).push(i=i+t[e])})();function Qk(t){if(t<768)return!1;for(let e=0,i=ia.length;;){let n=e+i>>1;if(t<ia[n])i=n;else if(t>=Bp[n])e=n+1;else return!0;if(e==i)return!1}}function ih(t){return t>=127462&&t<=127487}const nh=8205;function $k(t,e,i=!0,n=!0){return(i?qp:_k)(t,e,n)}function qp(t,e,i){if(e==t.length)return e;e&&jp(t.charCodeAt(e))&&Yp(t.charCodeAt(e-1))&&e--;let n=el(t,e);for(e+=rh(n);e<t.length;){let r=el(t,e);if(n==nh||r==nh||i&&Qk(r))e+=rh(r),n=r;else if(ih(r)){let s=0,o=e-2;for(;o>=0&&ih(el(t,o));)s++,o-=2;if(s%2==0)break;e+=2}else break}return e}function _k(t,e,i){for(;e>0;){let n=qp(t,e-2,i);if(n<e)return n;e--}return 0}function el(t,e){let i=t.charCodeAt(e);if(!Yp(i)||e+1==t.length)return i;let n=t.charCodeAt(e+1);return jp(n)?(i-55296<<10)+(n-56320)+65536:i}function jp(t){return t>=56320&&t<57344}function Yp(t){return t>=55296&&t<56320}function rh(t){return t<65536?1:2}class ue{lineAt(e){if(e<0||e>this.length)throw new RangeError(`Invalid position ${e} in document of length ${this.length}`);return this.lineInner(e,!1,1,0)}line(e){if(e<1||e>this.lines)throw new RangeError(`Invalid line number ${e} in ${this.lines}-line document`);return this.lineInner(e,!0,1,0)}replace(e,i,n){[e,i]=hn(this,e,i);let r=[];return this.decompose(0,e,r,2),n.length&&n.decompose(0,n.length,r,3),this.decompose(i,this.length,r,1),It.from(r,this.length-(i-e)+n.length)}append(e){return this.replace(this.length,this.length,e)}slice(e,i=this.length){[e,i]=hn(this,e,i);let n=[];return this.decompose(e,i,n,0),It.from(n,i-e)}eq(e){if(e==this)return!0;if(e.length!=this.length||e.lines!=this.lines)return!1;let i=this.scanIdentical(e,1),n=this.length-this.scanIdentical(e,-1),r=new tr(this),s=new tr(e);for(let o=i,l=i;;){if(r.next(o),s.next(o),o=0,r.lineBreak!=s.lineBreak||r.done!=s.done||r.value!=s.value)return!1;if(l+=r.value.length,r.done||l>=n)return!0}}iter(e=1){return new tr(this,e)}iterRange(e,i=this.length){return new Np(this,e,i)}iterLines(e,i){let n;if(e==null)n=this.iter();else{i==null&&(i=this.lines+1);let r=this.line(e).from;n=this.iterRange(r,Math.max(r,i==this.lines+1?this.length:i<=1?0:this.line(i-1).to))}return new Wp(n)}toString(){return this.sliceString(0)}toJSON(){let e=[];return this.flatten(e),e}constructor(){}static of(e){if(e.length==0)throw new RangeError("A document must have at least one line");return e.length==1&&!e[0]?ue.empty:e.length<=32?new Ce(e):It.from(Ce.split(e,[]))}}class Ce extends ue{constructor(e,i=Pk(e)){super(),this.text=e,this.length=i}get lines(){return this.text.length}get children(){return null}lineInner(e,i,n,r){for(let s=0;;s++){let o=this.text[s],l=r+o.length;if((i?n:l)>=e)return new Ck(r,l,n,o);r=l+1,n++}}decompose(e,i,n,r){let s=e<=0&&i>=this.length?this:new Ce(sh(this.text,e,i),Math.min(i,this.length)-Math.max(0,e));if(r&1){let o=n.pop(),l=Ls(s.text,o.text.slice(),0,s.length);if(l.length<=32)n.push(new Ce(l,o.length+s.length));else{let a=l.length>>1;n.push(new Ce(l.slice(0,a)),new Ce(l.slice(a)))}}else n.push(s)}replace(e,i,n){if(!(n instanceof Ce))return super.replace(e,i,n);[e,i]=hn(this,e,i);let r=Ls(this.text,Ls(n.text,sh(this.text,0,e)),i),s=this.length+n.length-(i-e);return r.length<=32?new Ce(r,s):It.from(Ce.split(r,[]),s)}sliceString(e,i=this.length,n=`
+`){[e,i]=hn(this,e,i);let r="";for(let s=0,o=0;s<=i&&o<this.text.length;o++){let l=this.text[o],a=s+l.length;s>e&&o&&(r+=n),e<a&&i>s&&(r+=l.slice(Math.max(0,e-s),i-s)),s=a+1}return r}flatten(e){for(let i of this.text)e.push(i)}scanIdentical(){return 0}static split(e,i){let n=[],r=-1;for(let s of e)n.push(s),r+=s.length+1,n.length==32&&(i.push(new Ce(n,r)),n=[],r=-1);return r>-1&&i.push(new Ce(n,r)),i}}class It extends ue{constructor(e,i){super(),this.children=e,this.length=i,this.lines=0;for(let n of e)this.lines+=n.lines}lineInner(e,i,n,r){for(let s=0;;s++){let o=this.children[s],l=r+o.length,a=n+o.lines-1;if((i?a:l)>=e)return o.lineInner(e,i,n,r);r=l+1,n=a+1}}decompose(e,i,n,r){for(let s=0,o=0;o<=i&&s<this.children.length;s++){let l=this.children[s],a=o+l.length;if(e<=a&&i>=o){let u=r&((o<=e?1:0)|(a>=i?2:0));o>=e&&a<=i&&!u?n.push(l):l.decompose(e-o,i-o,n,u)}o=a+1}}replace(e,i,n){if([e,i]=hn(this,e,i),n.lines<this.lines)for(let r=0,s=0;r<this.children.length;r++){let o=this.children[r],l=s+o.length;if(e>=s&&i<=l){let a=o.replace(e-s,i-s,n),u=this.lines-o.lines+a.lines;if(a.lines<u>>4&&a.lines>u>>6){let c=this.children.slice();return c[r]=a,new It(c,this.length-(i-e)+n.length)}return super.replace(s,l,a)}s=l+1}return super.replace(e,i,n)}sliceString(e,i=this.length,n=`
+`){[e,i]=hn(this,e,i);let r="";for(let s=0,o=0;s<this.children.length&&o<=i;s++){let l=this.children[s],a=o+l.length;o>e&&s&&(r+=n),e<a&&i>o&&(r+=l.sliceString(e-o,i-o,n)),o=a+1}return r}flatten(e){for(let i of this.children)i.flatten(e)}scanIdentical(e,i){if(!(e instanceof It))return 0;let n=0,[r,s,o,l]=i>0?[0,0,this.children.length,e.children.length]:[this.children.length-1,e.children.length-1,-1,-1];for(;;r+=i,s+=i){if(r==o||s==l)return n;let a=this.children[r],u=e.children[s];if(a!=u)return n+a.scanIdentical(u,i);n+=a.length+1}}static from(e,i=e.reduce((n,r)=>n+r.length+1,-1)){let n=0;for(let d of e)n+=d.lines;if(n<32){let d=[];for(let p of e)p.flatten(d);return new Ce(d,i)}let r=Math.max(32,n>>5),s=r<<1,o=r>>1,l=[],a=0,u=-1,c=[];function h(d){let p;if(d.lines>s&&d instanceof It)for(let m of d.children)h(m);else d.lines>o&&(a>o||!a)?(f(),l.push(d)):d instanceof Ce&&a&&(p=c[c.length-1])instanceof Ce&&d.lines+p.lines<=32?(a+=d.lines,u+=d.length+1,c[c.length-1]=new Ce(p.text.concat(d.text),p.length+1+d.length)):(a+d.lines>r&&f(),a+=d.lines,u+=d.length+1,c.push(d))}function f(){a!=0&&(l.push(c.length==1?c[0]:It.from(c,u)),u=-1,a=c.length=0)}for(let d of e)h(d);return f(),l.length==1?l[0]:new It(l,i)}}ue.empty=new Ce([""],0);function Pk(t){let e=-1;for(let i of t)e+=i.length+1;return e}function Ls(t,e,i=0,n=1e9){for(let r=0,s=0,o=!0;s<t.length&&r<=n;s++){let l=t[s],a=r+l.length;a>=i&&(a>n&&(l=l.slice(0,n-r)),r<i&&(l=l.slice(i-r)),o?(e[e.length-1]+=l,o=!1):e.push(l)),r=a+1}return e}function sh(t,e,i){return Ls(t,[""],e,i)}class tr{constructor(e,i=1){this.dir=i,this.done=!1,this.lineBreak=!1,this.value="",this.nodes=[e],this.offsets=[i>0?1:(e instanceof Ce?e.text.length:e.children.length)<<1]}nextInner(e,i){for(this.done=this.lineBreak=!1;;){let n=this.nodes.length-1,r=this.nodes[n],s=this.offsets[n],o=s>>1,l=r instanceof Ce?r.text.length:r.children.length;if(o==(i>0?l:0)){if(n==0)return this.done=!0,this.value="",this;i>0&&this.offsets[n-1]++,this.nodes.pop(),this.offsets.pop()}else if((s&1)==(i>0?0:1)){if(this.offsets[n]+=i,e==0)return this.lineBreak=!0,this.value=`
+`,this;e--}else if(r instanceof Ce){let a=r.text[o+(i<0?-1:0)];if(this.offsets[n]+=i,a.length>Math.max(0,e))return this.value=e==0?a:i>0?a.slice(e):a.slice(0,a.length-e),this;e-=a.length}else{let a=r.children[o+(i<0?-1:0)];e>a.length?(e-=a.length,this.offsets[n]+=i):(i<0&&this.offsets[n]--,this.nodes.push(a),this.offsets.push(i>0?1:(a instanceof Ce?a.text.length:a.children.length)<<1))}}}next(e=0){return e<0&&(this.nextInner(-e,-this.dir),e=this.value.length),this.nextInner(e,this.dir)}}class Np{constructor(e,i,n){this.value="",this.done=!1,this.cursor=new tr(e,i>n?-1:1),this.pos=i>n?e.length:0,this.from=Math.min(i,n),this.to=Math.max(i,n)}nextInner(e,i){if(i<0?this.pos<=this.from:this.pos>=this.to)return this.value="",this.done=!0,this;e+=Math.max(0,i<0?this.pos-this.to:this.from-this.pos);let n=i<0?this.pos-this.from:this.to-this.pos;e>n&&(e=n),n-=e;let{value:r}=this.cursor.next(e);return this.pos+=(r.length+e)*i,this.value=r.length<=n?r:i<0?r.slice(r.length-n):r.slice(0,n),this.done=!this.value,this}next(e=0){return e<0?e=Math.max(e,this.from-this.pos):e>0&&(e=Math.min(e,this.to-this.pos)),this.nextInner(e,this.cursor.dir)}get lineBreak(){return this.cursor.lineBreak&&this.value!=""}}class Wp{constructor(e){this.inner=e,this.afterBreak=!0,this.value="",this.done=!1}next(e=0){let{done:i,lineBreak:n,value:r}=this.inner.next(e);return i&&this.afterBreak?(this.value="",this.afterBreak=!1):i?(this.done=!0,this.value=""):n?this.afterBreak?this.value="":(this.afterBreak=!0,this.next()):(this.value=r,this.afterBreak=!1),this}get lineBreak(){return!1}}typeof Symbol<"u"&&(ue.prototype[Symbol.iterator]=function(){return this.iter()},tr.prototype[Symbol.iterator]=Np.prototype[Symbol.iterator]=Wp.prototype[Symbol.iterator]=function(){return this});let Ck=class{constructor(e,i,n,r){this.from=e,this.to=i,this.number=n,this.text=r}get length(){return this.to-this.from}};function hn(t,e,i){return e=Math.max(0,Math.min(t.length,e)),[e,Math.max(e,Math.min(t.length,i))]}function Ve(t,e,i=!0,n=!0){return $k(t,e,i,n)}function Tk(t){return t>=56320&&t<57344}function Ak(t){return t>=55296&&t<56320}function ui(t,e){let i=t.charCodeAt(e);if(!Ak(i)||e+1==t.length)return i;let n=t.charCodeAt(e+1);return Tk(n)?(i-55296<<10)+(n-56320)+65536:i}function Gp(t){return t<=65535?String.fromCharCode(t):(t-=65536,String.fromCharCode((t>>10)+55296,(t&1023)+56320))}function Di(t){return t<65536?1:2}const na=/\r\n?|\n/;var We=(function(t){return t[t.Simple=0]="Simple",t[t.TrackDel=1]="TrackDel",t[t.TrackBefore=2]="TrackBefore",t[t.TrackAfter=3]="TrackAfter",t})(We||(We={}));class jt{constructor(e){this.sections=e}get length(){let e=0;for(let i=0;i<this.sections.length;i+=2)e+=this.sections[i];return e}get newLength(){let e=0;for(let i=0;i<this.sections.length;i+=2){let n=this.sections[i+1];e+=n<0?this.sections[i]:n}return e}get empty(){return this.sections.length==0||this.sections.length==2&&this.sections[1]<0}iterGaps(e){for(let i=0,n=0,r=0;i<this.sections.length;){let s=this.sections[i++],o=this.sections[i++];o<0?(e(n,r,s),r+=s):r+=o,n+=s}}iterChangedRanges(e,i=!1){ra(this,e,i)}get invertedDesc(){let e=[];for(let i=0;i<this.sections.length;){let n=this.sections[i++],r=this.sections[i++];r<0?e.push(n,r):e.push(r,n)}return new jt(e)}composeDesc(e){return this.empty?e:e.empty?this:Up(this,e)}mapDesc(e,i=!1){return e.empty?this:sa(this,e,i)}mapPos(e,i=-1,n=We.Simple){let r=0,s=0;for(let o=0;o<this.sections.length;){let l=this.sections[o++],a=this.sections[o++],u=r+l;if(a<0){if(u>e)return s+(e-r);s+=l}else{if(n!=We.Simple&&u>=e&&(n==We.TrackDel&&r<e&&u>e||n==We.TrackBefore&&r<e||n==We.TrackAfter&&u>e))return null;if(u>e||u==e&&i<0&&!l)return e==r||i<0?s:s+a;s+=a}r=u}if(e>r)throw new RangeError(`Position ${e} is out of range for changeset of length ${r}`);return s}touchesRange(e,i=e){for(let n=0,r=0;n<this.sections.length&&r<=i;){let s=this.sections[n++],o=this.sections[n++],l=r+s;if(o>=0&&r<=i&&l>=e)return r<e&&l>i?"cover":!0;r=l}return!1}toString(){let e="";for(let i=0;i<this.sections.length;){let n=this.sections[i++],r=this.sections[i++];e+=(e?" ":"")+n+(r>=0?":"+r:"")}return e}toJSON(){return this.sections}static fromJSON(e){if(!Array.isArray(e)||e.length%2||e.some(i=>typeof i!="number"))throw new RangeError("Invalid JSON representation of ChangeDesc");return new jt(e)}static create(e){return new jt(e)}}class Me extends jt{constructor(e,i){super(e),this.inserted=i}apply(e){if(this.length!=e.length)throw new RangeError("Applying change set to a document with the wrong length");return ra(this,(i,n,r,s,o)=>e=e.replace(r,r+(n-i),o),!1),e}mapDesc(e,i=!1){return sa(this,e,i,!0)}invert(e){let i=this.sections.slice(),n=[];for(let r=0,s=0;r<i.length;r+=2){let o=i[r],l=i[r+1];if(l>=0){i[r]=l,i[r+1]=o;let a=r>>1;for(;n.length<a;)n.push(ue.empty);n.push(o?e.slice(s,s+o):ue.empty)}s+=o}return new Me(i,n)}compose(e){return this.empty?e:e.empty?this:Up(this,e,!0)}map(e,i=!1){return e.empty?this:sa(this,e,i,!0)}iterChanges(e,i=!1){ra(this,e,i)}get desc(){return jt.create(this.sections)}filter(e){let i=[],n=[],r=[],s=new mr(this);e:for(let o=0,l=0;;){let a=o==e.length?1e9:e[o++];for(;l<a||l==a&&s.len==0;){if(s.done)break e;let c=Math.min(s.len,a-l);Be(r,c,-1);let h=s.ins==-1?-1:s.off==0?s.ins:0;Be(i,c,h),h>0&&mi(n,i,s.text),s.forward(c),l+=c}let u=e[o++];for(;l<u;){if(s.done)break e;let c=Math.min(s.len,u-l);Be(i,c,-1),Be(r,c,s.ins==-1?-1:s.off==0?s.ins:0),s.forward(c),l+=c}}return{changes:new Me(i,n),filtered:jt.create(r)}}toJSON(){let e=[];for(let i=0;i<this.sections.length;i+=2){let n=this.sections[i],r=this.sections[i+1];r<0?e.push(n):r==0?e.push([n]):e.push([n].concat(this.inserted[i>>1].toJSON()))}return e}static of(e,i,n){let r=[],s=[],o=0,l=null;function a(c=!1){if(!c&&!r.length)return;o<i&&Be(r,i-o,-1);let h=new Me(r,s);l=l?l.compose(h.map(l)):h,r=[],s=[],o=0}function u(c){if(Array.isArray(c))for(let h of c)u(h);else if(c instanceof Me){if(c.length!=i)throw new RangeError(`Mismatched change set length (got ${c.length}, expected ${i})`);a(),l=l?l.compose(c.map(l)):c}else{let{from:h,to:f=h,insert:d}=c;if(h>f||h<0||f>i)throw new RangeError(`Invalid change range ${h} to ${f} (in doc of length ${i})`);let p=d?typeof d=="string"?ue.of(d.split(n||na)):d:ue.empty,m=p.length;if(h==f&&m==0)return;h<o&&a(),h>o&&Be(r,h-o,-1),Be(r,f-h,m),mi(s,r,p),o=f}}return u(e),a(!l),l}static empty(e){return new Me(e?[e,-1]:[],[])}static fromJSON(e){if(!Array.isArray(e))throw new RangeError("Invalid JSON representation of ChangeSet");let i=[],n=[];for(let r=0;r<e.length;r++){let s=e[r];if(typeof s=="number")i.push(s,-1);else{if(!Array.isArray(s)||typeof s[0]!="number"||s.some((o,l)=>l&&typeof o!="string"))throw new RangeError("Invalid JSON representation of ChangeSet");if(s.length==1)i.push(s[0],0);else{for(;n.length<r;)n.push(ue.empty);n[r]=ue.of(s.slice(1)),i.push(s[0],n[r].length)}}}return new Me(i,n)}static createSet(e,i){return new Me(e,i)}}function Be(t,e,i,n=!1){if(e==0&&i<=0)return;let r=t.length-2;r>=0&&i<=0&&i==t[r+1]?t[r]+=e:r>=0&&e==0&&t[r]==0?t[r+1]+=i:n?(t[r]+=e,t[r+1]+=i):t.push(e,i)}function mi(t,e,i){if(i.length==0)return;let n=e.length-2>>1;if(n<t.length)t[t.length-1]=t[t.length-1].append(i);else{for(;t.length<n;)t.push(ue.empty);t.push(i)}}function ra(t,e,i){let n=t.inserted;for(let r=0,s=0,o=0;o<t.sections.length;){let l=t.sections[o++],a=t.sections[o++];if(a<0)r+=l,s+=l;else{let u=r,c=s,h=ue.empty;for(;u+=l,c+=a,a&&n&&(h=h.append(n[o-2>>1])),!(i||o==t.sections.length||t.sections[o+1]<0);)l=t.sections[o++],a=t.sections[o++];e(r,u,s,c,h),r=u,s=c}}}function sa(t,e,i,n=!1){let r=[],s=n?[]:null,o=new mr(t),l=new mr(e);for(let a=-1;;){if(o.done&&l.len||l.done&&o.len)throw new Error("Mismatched change set lengths");if(o.ins==-1&&l.ins==-1){let u=Math.min(o.len,l.len);Be(r,u,-1),o.forward(u),l.forward(u)}else if(l.ins>=0&&(o.ins<0||a==o.i||o.off==0&&(l.len<o.len||l.len==o.len&&!i))){let u=l.len;for(Be(r,l.ins,-1);u;){let c=Math.min(o.len,u);o.ins>=0&&a<o.i&&o.len<=c&&(Be(r,0,o.ins),s&&mi(s,r,o.text),a=o.i),o.forward(c),u-=c}l.next()}else if(o.ins>=0){let u=0,c=o.len;for(;c;)if(l.ins==-1){let h=Math.min(c,l.len);u+=h,c-=h,l.forward(h)}else if(l.ins==0&&l.len<c)c-=l.len,l.next();else break;Be(r,u,a<o.i?o.ins:0),s&&a<o.i&&mi(s,r,o.text),a=o.i,o.forward(o.len-c)}else{if(o.done&&l.done)return s?Me.createSet(r,s):jt.create(r);throw new Error("Mismatched change set lengths")}}}function Up(t,e,i=!1){let n=[],r=i?[]:null,s=new mr(t),o=new mr(e);for(let l=!1;;){if(s.done&&o.done)return r?Me.createSet(n,r):jt.create(n);if(s.ins==0)Be(n,s.len,0,l),s.next();else if(o.len==0&&!o.done)Be(n,0,o.ins,l),r&&mi(r,n,o.text),o.next();else{if(s.done||o.done)throw new Error("Mismatched change set lengths");{let a=Math.min(s.len2,o.len),u=n.length;if(s.ins==-1){let c=o.ins==-1?-1:o.off?0:o.ins;Be(n,a,c,l),r&&c&&mi(r,n,o.text)}else o.ins==-1?(Be(n,s.off?0:s.len,a,l),r&&mi(r,n,s.textBit(a))):(Be(n,s.off?0:s.len,o.off?0:o.ins,l),r&&!o.off&&mi(r,n,o.text));l=(s.ins>a||o.ins>=0&&o.len>a)&&(l||n.length>u),s.forward2(a),o.forward(a)}}}}class mr{constructor(e){this.set=e,this.i=0,this.next()}next(){let{sections:e}=this.set;this.i<e.length?(this.len=e[this.i++],this.ins=e[this.i++]):(this.len=0,this.ins=-2),this.off=0}get done(){return this.ins==-2}get len2(){return this.ins<0?this.len:this.ins}get text(){let{inserted:e}=this.set,i=this.i-2>>1;return i>=e.length?ue.empty:e[i]}textBit(e){let{inserted:i}=this.set,n=this.i-2>>1;return n>=i.length&&!e?ue.empty:i[n].slice(this.off,e==null?void 0:this.off+e)}forward(e){e==this.len?this.next():(this.len-=e,this.off+=e)}forward2(e){this.ins==-1?this.forward(e):e==this.ins?this.next():(this.ins-=e,this.off+=e)}}class Li{constructor(e,i,n){this.from=e,this.to=i,this.flags=n}get anchor(){return this.flags&32?this.to:this.from}get head(){return this.flags&32?this.from:this.to}get empty(){return this.from==this.to}get assoc(){return this.flags&8?-1:this.flags&16?1:0}get bidiLevel(){let e=this.flags&7;return e==7?null:e}get goalColumn(){let e=this.flags>>6;return e==16777215?void 0:e}map(e,i=-1){let n,r;return this.empty?n=r=e.mapPos(this.from,i):(n=e.mapPos(this.from,1),r=e.mapPos(this.to,-1)),n==this.from&&r==this.to?this:new Li(n,r,this.flags)}extend(e,i=e){if(e<=this.anchor&&i>=this.anchor)return M.range(e,i);let n=Math.abs(e-this.anchor)>Math.abs(i-this.anchor)?e:i;return M.range(this.anchor,n)}eq(e,i=!1){return this.anchor==e.anchor&&this.head==e.head&&(!i||!this.empty||this.assoc==e.assoc)}toJSON(){return{anchor:this.anchor,head:this.head}}static fromJSON(e){if(!e||typeof e.anchor!="number"||typeof e.head!="number")throw new RangeError("Invalid JSON representation for SelectionRange");return M.range(e.anchor,e.head)}static create(e,i,n){return new Li(e,i,n)}}class M{constructor(e,i){this.ranges=e,this.mainIndex=i}map(e,i=-1){return e.empty?this:M.create(this.ranges.map(n=>n.map(e,i)),this.mainIndex)}eq(e,i=!1){if(this.ranges.length!=e.ranges.length||this.mainIndex!=e.mainIndex)return!1;for(let n=0;n<this.ranges.length;n++)if(!this.ranges[n].eq(e.ranges[n],i))return!1;return!0}get main(){return this.ranges[this.mainIndex]}asSingle(){return this.ranges.length==1?this:new M([this.main],0)}addRange(e,i=!0){return M.create([e].concat(this.ranges),i?0:this.mainIndex+1)}replaceRange(e,i=this.mainIndex){let n=this.ranges.slice();return n[i]=e,M.create(n,this.mainIndex)}toJSON(){return{ranges:this.ranges.map(e=>e.toJSON()),main:this.mainIndex}}static fromJSON(e){if(!e||!Array.isArray(e.ranges)||typeof e.main!="number"||e.main>=e.ranges.length)throw new RangeError("Invalid JSON representation for EditorSelection");return new M(e.ranges.map(i=>Li.fromJSON(i)),e.main)}static single(e,i=e){return new M([M.range(e,i)],0)}static create(e,i=0){if(e.length==0)throw new RangeError("A selection needs at least one range");for(let n=0,r=0;r<e.length;r++){let s=e[r];if(s.empty?s.from<=n:s.from<n)return M.normalized(e.slice(),i);n=s.to}return new M(e,i)}static cursor(e,i=0,n,r){return Li.create(e,e,(i==0?0:i<0?8:16)|(n==null?7:Math.min(6,n))|(r??16777215)<<6)}static range(e,i,n,r){let s=(n??16777215)<<6|(r==null?7:Math.min(6,r));return i<e?Li.create(i,e,48|s):Li.create(e,i,(i>e?8:0)|s)}static normalized(e,i=0){let n=e[i];e.sort((r,s)=>r.from-s.from),i=e.indexOf(n);for(let r=1;r<e.length;r++){let s=e[r],o=e[r-1];if(s.empty?s.from<=o.to:s.from<o.to){let l=o.from,a=Math.max(s.to,o.to);r<=i&&i--,e.splice(--r,2,s.anchor>s.head?M.range(a,l):M.range(l,a))}}return new M(e,i)}}function Hp(t,e){for(let i of t.ranges)if(i.to>e)throw new RangeError("Selection points outside of document")}let Ou=0;class U{constructor(e,i,n,r,s){this.combine=e,this.compareInput=i,this.compare=n,this.isStatic=r,this.id=Ou++,this.default=e([]),this.extensions=typeof s=="function"?s(this):s}get reader(){return this}static define(e={}){return new U(e.combine||(i=>i),e.compareInput||((i,n)=>i===n),e.compare||(e.combine?(i,n)=>i===n:gu),!!e.static,e.enables)}of(e){return new Zs([],this,0,e)}compute(e,i){if(this.isStatic)throw new Error("Can't compute a static facet");return new Zs(e,this,1,i)}computeN(e,i){if(this.isStatic)throw new Error("Can't compute a static facet");return new Zs(e,this,2,i)}from(e,i){return i||(i=n=>n),this.compute([e],n=>i(n.field(e)))}}function gu(t,e){return t==e||t.length==e.length&&t.every((i,n)=>i===e[n])}class Zs{constructor(e,i,n,r){this.dependencies=e,this.facet=i,this.type=n,this.value=r,this.id=Ou++}dynamicSlot(e){var i;let n=this.value,r=this.facet.compareInput,s=this.id,o=e[s]>>1,l=this.type==2,a=!1,u=!1,c=[];for(let h of this.dependencies)h=="doc"?a=!0:h=="selection"?u=!0:(((i=e[h.id])!==null&&i!==void 0?i:1)&1)==0&&c.push(e[h.id]);return{create(h){return h.values[o]=n(h),1},update(h,f){if(a&&f.docChanged||u&&(f.docChanged||f.selection)||oa(h,c)){let d=n(h);if(l?!oh(d,h.values[o],r):!r(d,h.values[o]))return h.values[o]=d,1}return 0},reconfigure:(h,f)=>{let d,p=f.config.address[s];if(p!=null){let m=Js(f,p);if(this.dependencies.every(O=>O instanceof U?f.facet(O)===h.facet(O):O instanceof it?f.field(O,!1)==h.field(O,!1):!0)||(l?oh(d=n(h),m,r):r(d=n(h),m)))return h.values[o]=m,0}else d=n(h);return h.values[o]=d,1}}}}function oh(t,e,i){if(t.length!=e.length)return!1;for(let n=0;n<t.length;n++)if(!i(t[n],e[n]))return!1;return!0}function oa(t,e){let i=!1;for(let n of e)ir(t,n)&1&&(i=!0);return i}function Ek(t,e,i){let n=i.map(a=>t[a.id]),r=i.map(a=>a.type),s=n.filter(a=>!(a&1)),o=t[e.id]>>1;function l(a){let u=[];for(let c=0;c<n.length;c++){let h=Js(a,n[c]);if(r[c]==2)for(let f of h)u.push(f);else u.push(h)}return e.combine(u)}return{create(a){for(let u of n)ir(a,u);return a.values[o]=l(a),1},update(a,u){if(!oa(a,s))return 0;let c=l(a);return e.compare(c,a.values[o])?0:(a.values[o]=c,1)},reconfigure(a,u){let c=oa(a,n),h=u.config.facets[e.id],f=u.facet(e);if(h&&!c&&gu(i,h))return a.values[o]=f,0;let d=l(a);return e.compare(d,f)?(a.values[o]=f,0):(a.values[o]=d,1)}}}const ts=U.define({static:!0});class it{constructor(e,i,n,r,s){this.id=e,this.createF=i,this.updateF=n,this.compareF=r,this.spec=s,this.provides=void 0}static define(e){let i=new it(Ou++,e.create,e.update,e.compare||((n,r)=>n===r),e);return e.provide&&(i.provides=e.provide(i)),i}create(e){let i=e.facet(ts).find(n=>n.field==this);return(i?.create||this.createF)(e)}slot(e){let i=e[this.id]>>1;return{create:n=>(n.values[i]=this.create(n),1),update:(n,r)=>{let s=n.values[i],o=this.updateF(s,r);return this.compareF(s,o)?0:(n.values[i]=o,1)},reconfigure:(n,r)=>{let s=n.facet(ts),o=r.facet(ts),l;return(l=s.find(a=>a.field==this))&&l!=o.find(a=>a.field==this)?(n.values[i]=l.create(n),1):r.config.address[this.id]!=null?(n.values[i]=r.field(this),0):(n.values[i]=this.create(n),1)}}}init(e){return[this,ts.of({field:this,create:e})]}get extension(){return this}}const Mi={lowest:4,low:3,default:2,high:1,highest:0};function Ln(t){return e=>new Kp(e,t)}const ri={highest:Ln(Mi.highest),high:Ln(Mi.high),default:Ln(Mi.default),low:Ln(Mi.low),lowest:Ln(Mi.lowest)};class Kp{constructor(e,i){this.inner=e,this.prec=i}}class zt{of(e){return new la(this,e)}reconfigure(e){return zt.reconfigure.of({compartment:this,extension:e})}get(e){return e.config.compartments.get(this)}}class la{constructor(e,i){this.compartment=e,this.inner=i}}class Ks{constructor(e,i,n,r,s,o){for(this.base=e,this.compartments=i,this.dynamicSlots=n,this.address=r,this.staticValues=s,this.facets=o,this.statusTemplate=[];this.statusTemplate.length<n.length;)this.statusTemplate.push(0)}staticFacet(e){let i=this.address[e.id];return i==null?e.default:this.staticValues[i>>1]}static resolve(e,i,n){let r=[],s=Object.create(null),o=new Map;for(let f of Dk(e,i,o))f instanceof it?r.push(f):(s[f.facet.id]||(s[f.facet.id]=[])).push(f);let l=Object.create(null),a=[],u=[];for(let f of r)l[f.id]=u.length<<1,u.push(d=>f.slot(d));let c=n?.config.facets;for(let f in s){let d=s[f],p=d[0].facet,m=c&&c[f]||[];if(d.every(O=>O.type==0))if(l[p.id]=a.length<<1|1,gu(m,d))a.push(n.facet(p));else{let O=p.combine(d.map(g=>g.value));a.push(n&&p.compare(O,n.facet(p))?n.facet(p):O)}else{for(let O of d)O.type==0?(l[O.id]=a.length<<1|1,a.push(O.value)):(l[O.id]=u.length<<1,u.push(g=>O.dynamicSlot(g)));l[p.id]=u.length<<1,u.push(O=>Ek(O,p,d))}}let h=u.map(f=>f(l));return new Ks(e,o,h,l,a,s)}}function Dk(t,e,i){let n=[[],[],[],[],[]],r=new Map;function s(o,l){let a=r.get(o);if(a!=null){if(a<=l)return;let u=n[a].indexOf(o);u>-1&&n[a].splice(u,1),o instanceof la&&i.delete(o.compartment)}if(r.set(o,l),Array.isArray(o))for(let u of o)s(u,l);else if(o instanceof la){if(i.has(o.compartment))throw new RangeError("Duplicate use of compartment in extensions");let u=e.get(o.compartment)||o.inner;i.set(o.compartment,u),s(u,l)}else if(o instanceof Kp)s(o.inner,o.prec);else if(o instanceof it)n[l].push(o),o.provides&&s(o.provides,l);else if(o instanceof Zs)n[l].push(o),o.facet.extensions&&s(o.facet.extensions,Mi.default);else{let u=o.extension;if(!u)throw new Error(`Unrecognized extension value in extension set (${o}). This sometimes happens because multiple instances of @codemirror/state are loaded, breaking instanceof checks.`);s(u,l)}}return s(t,Mi.default),n.reduce((o,l)=>o.concat(l))}function ir(t,e){if(e&1)return 2;let i=e>>1,n=t.status[i];if(n==4)throw new Error("Cyclic dependency between fields and/or facets");if(n&2)return n;t.status[i]=4;let r=t.computeSlot(t,t.config.dynamicSlots[i]);return t.status[i]=2|r}function Js(t,e){return e&1?t.config.staticValues[e>>1]:t.values[e>>1]}const Jp=U.define(),aa=U.define({combine:t=>t.some(e=>e),static:!0}),e0=U.define({combine:t=>t.length?t[0]:void 0,static:!0}),t0=U.define(),i0=U.define(),n0=U.define(),r0=U.define({combine:t=>t.length?t[0]:!1});class si{constructor(e,i){this.type=e,this.value=i}static define(){return new Mk}}class Mk{of(e){return new si(this,e)}}class Rk{constructor(e){this.map=e}of(e){return new re(this,e)}}class re{constructor(e,i){this.type=e,this.value=i}map(e){let i=this.type.map(this.value,e);return i===void 0?void 0:i==this.value?this:new re(this.type,i)}is(e){return this.type==e}static define(e={}){return new Rk(e.map||(i=>i))}static mapEffects(e,i){if(!e.length)return e;let n=[];for(let r of e){let s=r.map(i);s&&n.push(s)}return n}}re.reconfigure=re.define();re.appendConfig=re.define();class Ae{constructor(e,i,n,r,s,o){this.startState=e,this.changes=i,this.selection=n,this.effects=r,this.annotations=s,this.scrollIntoView=o,this._doc=null,this._state=null,n&&Hp(n,i.newLength),s.some(l=>l.type==Ae.time)||(this.annotations=s.concat(Ae.time.of(Date.now())))}static create(e,i,n,r,s,o){return new Ae(e,i,n,r,s,o)}get newDoc(){return this._doc||(this._doc=this.changes.apply(this.startState.doc))}get newSelection(){return this.selection||this.startState.selection.map(this.changes)}get state(){return this._state||this.startState.applyTransaction(this),this._state}annotation(e){for(let i of this.annotations)if(i.type==e)return i.value}get docChanged(){return!this.changes.empty}get reconfigured(){return this.startState.config!=this.state.config}isUserEvent(e){let i=this.annotation(Ae.userEvent);return!!(i&&(i==e||i.length>e.length&&i.slice(0,e.length)==e&&i[e.length]=="."))}}Ae.time=si.define();Ae.userEvent=si.define();Ae.addToHistory=si.define();Ae.remote=si.define();function Lk(t,e){let i=[];for(let n=0,r=0;;){let s,o;if(n<t.length&&(r==e.length||e[r]>=t[n]))s=t[n++],o=t[n++];else if(r<e.length)s=e[r++],o=e[r++];else return i;!i.length||i[i.length-1]<s?i.push(s,o):i[i.length-1]<o&&(i[i.length-1]=o)}}function s0(t,e,i){var n;let r,s,o;return i?(r=e.changes,s=Me.empty(e.changes.length),o=t.changes.compose(e.changes)):(r=e.changes.map(t.changes),s=t.changes.mapDesc(e.changes,!0),o=t.changes.compose(r)),{changes:o,selection:e.selection?e.selection.map(s):(n=t.selection)===null||n===void 0?void 0:n.map(r),effects:re.mapEffects(t.effects,r).concat(re.mapEffects(e.effects,s)),annotations:t.annotations.length?t.annotations.concat(e.annotations):e.annotations,scrollIntoView:t.scrollIntoView||e.scrollIntoView}}function ua(t,e,i){let n=e.selection,r=tn(e.annotations);return e.userEvent&&(r=r.concat(Ae.userEvent.of(e.userEvent))),{changes:e.changes instanceof Me?e.changes:Me.of(e.changes||[],i,t.facet(e0)),selection:n&&(n instanceof M?n:M.single(n.anchor,n.head)),effects:tn(e.effects),annotations:r,scrollIntoView:!!e.scrollIntoView}}function o0(t,e,i){let n=ua(t,e.length?e[0]:{},t.doc.length);e.length&&e[0].filter===!1&&(i=!1);for(let s=1;s<e.length;s++){e[s].filter===!1&&(i=!1);let o=!!e[s].sequential;n=s0(n,ua(t,e[s],o?n.changes.newLength:t.doc.length),o)}let r=Ae.create(t,n.changes,n.selection,n.effects,n.annotations,n.scrollIntoView);return Ik(i?Zk(r):r)}function Zk(t){let e=t.startState,i=!0;for(let r of e.facet(t0)){let s=r(t);if(s===!1){i=!1;break}Array.isArray(s)&&(i=i===!0?s:Lk(i,s))}if(i!==!0){let r,s;if(i===!1)s=t.changes.invertedDesc,r=Me.empty(e.doc.length);else{let o=t.changes.filter(i);r=o.changes,s=o.filtered.mapDesc(o.changes).invertedDesc}t=Ae.create(e,r,t.selection&&t.selection.map(s),re.mapEffects(t.effects,s),t.annotations,t.scrollIntoView)}let n=e.facet(i0);for(let r=n.length-1;r>=0;r--){let s=n[r](t);s instanceof Ae?t=s:Array.isArray(s)&&s.length==1&&s[0]instanceof Ae?t=s[0]:t=o0(e,tn(s),!1)}return t}function Ik(t){let e=t.startState,i=e.facet(n0),n=t;for(let r=i.length-1;r>=0;r--){let s=i[r](t);s&&Object.keys(s).length&&(n=s0(n,ua(e,s,t.changes.newLength),!0))}return n==t?t:Ae.create(e,t.changes,t.selection,n.effects,n.annotations,n.scrollIntoView)}const zk=[];function tn(t){return t==null?zk:Array.isArray(t)?t:[t]}var Fe=(function(t){return t[t.Word=0]="Word",t[t.Space=1]="Space",t[t.Other=2]="Other",t})(Fe||(Fe={}));const Xk=/[\u00df\u0587\u0590-\u05f4\u0600-\u06ff\u3040-\u309f\u30a0-\u30ff\u3400-\u4db5\u4e00-\u9fcc\uac00-\ud7af]/;let ca;try{ca=new RegExp("[\\p{Alphabetic}\\p{Number}_]","u")}catch{}function Vk(t){if(ca)return ca.test(t);for(let e=0;e<t.length;e++){let i=t[e];if(/\w/.test(i)||i>""&&(i.toUpperCase()!=i.toLowerCase()||Xk.test(i)))return!0}return!1}function Fk(t){return e=>{if(!/\S/.test(e))return Fe.Space;if(Vk(e))return Fe.Word;for(let i=0;i<t.length;i++)if(e.indexOf(t[i])>-1)return Fe.Word;return Fe.Other}}class ae{constructor(e,i,n,r,s,o){this.config=e,this.doc=i,this.selection=n,this.values=r,this.status=e.statusTemplate.slice(),this.computeSlot=s,o&&(o._state=this);for(let l=0;l<this.config.dynamicSlots.length;l++)ir(this,l<<1);this.computeSlot=null}field(e,i=!0){let n=this.config.address[e.id];if(n==null){if(i)throw new RangeError("Field is not present in this state");return}return ir(this,n),Js(this,n)}update(...e){return o0(this,e,!0)}applyTransaction(e){let i=this.config,{base:n,compartments:r}=i;for(let l of e.effects)l.is(zt.reconfigure)?(i&&(r=new Map,i.compartments.forEach((a,u)=>r.set(u,a)),i=null),r.set(l.value.compartment,l.value.extension)):l.is(re.reconfigure)?(i=null,n=l.value):l.is(re.appendConfig)&&(i=null,n=tn(n).concat(l.value));let s;i?s=e.startState.values.slice():(i=Ks.resolve(n,r,this),s=new ae(i,this.doc,this.selection,i.dynamicSlots.map(()=>null),(a,u)=>u.reconfigure(a,this),null).values);let o=e.startState.facet(aa)?e.newSelection:e.newSelection.asSingle();new ae(i,e.newDoc,o,s,(l,a)=>a.update(l,e),e)}replaceSelection(e){return typeof e=="string"&&(e=this.toText(e)),this.changeByRange(i=>({changes:{from:i.from,to:i.to,insert:e},range:M.cursor(i.from+e.length)}))}changeByRange(e){let i=this.selection,n=e(i.ranges[0]),r=this.changes(n.changes),s=[n.range],o=tn(n.effects);for(let l=1;l<i.ranges.length;l++){let a=e(i.ranges[l]),u=this.changes(a.changes),c=u.map(r);for(let f=0;f<l;f++)s[f]=s[f].map(c);let h=r.mapDesc(u,!0);s.push(a.range.map(h)),r=r.compose(c),o=re.mapEffects(o,c).concat(re.mapEffects(tn(a.effects),h))}return{changes:r,selection:M.create(s,i.mainIndex),effects:o}}changes(e=[]){return e instanceof Me?e:Me.of(e,this.doc.length,this.facet(ae.lineSeparator))}toText(e){return ue.of(e.split(this.facet(ae.lineSeparator)||na))}sliceDoc(e=0,i=this.doc.length){return this.doc.sliceString(e,i,this.lineBreak)}facet(e){let i=this.config.address[e.id];return i==null?e.default:(ir(this,i),Js(this,i))}toJSON(e){let i={doc:this.sliceDoc(),selection:this.selection.toJSON()};if(e)for(let n in e){let r=e[n];r instanceof it&&this.config.address[r.id]!=null&&(i[n]=r.spec.toJSON(this.field(e[n]),this))}return i}static fromJSON(e,i={},n){if(!e||typeof e.doc!="string")throw new RangeError("Invalid JSON representation for EditorState");let r=[];if(n){for(let s in n)if(Object.prototype.hasOwnProperty.call(e,s)){let o=n[s],l=e[s];r.push(o.init(a=>o.spec.fromJSON(l,a)))}}return ae.create({doc:e.doc,selection:M.fromJSON(e.selection),extensions:i.extensions?r.concat([i.extensions]):r})}static create(e={}){let i=Ks.resolve(e.extensions||[],new Map),n=e.doc instanceof ue?e.doc:ue.of((e.doc||"").split(i.staticFacet(ae.lineSeparator)||na)),r=e.selection?e.selection instanceof M?e.selection:M.single(e.selection.anchor,e.selection.head):M.single(0);return Hp(r,n.length),i.staticFacet(aa)||(r=r.asSingle()),new ae(i,n,r,i.dynamicSlots.map(()=>null),(s,o)=>o.create(s),null)}get tabSize(){return this.facet(ae.tabSize)}get lineBreak(){return this.facet(ae.lineSeparator)||`
+`}get readOnly(){return this.facet(r0)}phrase(e,...i){for(let n of this.facet(ae.phrases))if(Object.prototype.hasOwnProperty.call(n,e)){e=n[e];break}return i.length&&(e=e.replace(/\$(\$|\d*)/g,(n,r)=>{if(r=="$")return"$";let s=+(r||1);return!s||s>i.length?n:i[s-1]})),e}languageDataAt(e,i,n=-1){let r=[];for(let s of this.facet(Jp))for(let o of s(this,i,n))Object.prototype.hasOwnProperty.call(o,e)&&r.push(o[e]);return r}charCategorizer(e){return Fk(this.languageDataAt("wordChars",e).join(""))}wordAt(e){let{text:i,from:n,length:r}=this.doc.lineAt(e),s=this.charCategorizer(e),o=e-n,l=e-n;for(;o>0;){let a=Ve(i,o,!1);if(s(i.slice(a,o))!=Fe.Word)break;o=a}for(;l<r;){let a=Ve(i,l);if(s(i.slice(l,a))!=Fe.Word)break;l=a}return o==l?null:M.range(o+n,l+n)}}ae.allowMultipleSelections=aa;ae.tabSize=U.define({combine:t=>t.length?t[0]:4});ae.lineSeparator=e0;ae.readOnly=r0;ae.phrases=U.define({compare(t,e){let i=Object.keys(t),n=Object.keys(e);return i.length==n.length&&i.every(r=>t[r]==e[r])}});ae.languageData=Jp;ae.changeFilter=t0;ae.transactionFilter=i0;ae.transactionExtender=n0;zt.reconfigure=re.define();function Do(t,e,i={}){let n={};for(let r of t)for(let s of Object.keys(r)){let o=r[s],l=n[s];if(l===void 0)n[s]=o;else if(!(l===o||o===void 0))if(Object.hasOwnProperty.call(i,s))n[s]=i[s](l,o);else throw new Error("Config merge conflict for field "+s)}for(let r in e)n[r]===void 0&&(n[r]=e[r]);return n}class Ii{eq(e){return this==e}range(e,i=e){return ha.create(e,i,this)}}Ii.prototype.startSide=Ii.prototype.endSide=0;Ii.prototype.point=!1;Ii.prototype.mapMode=We.TrackDel;let ha=class l0{constructor(e,i,n){this.from=e,this.to=i,this.value=n}static create(e,i,n){return new l0(e,i,n)}};function fa(t,e){return t.from-e.from||t.value.startSide-e.value.startSide}class bu{constructor(e,i,n,r){this.from=e,this.to=i,this.value=n,this.maxPoint=r}get length(){return this.to[this.to.length-1]}findIndex(e,i,n,r=0){let s=n?this.to:this.from;for(let o=r,l=s.length;;){if(o==l)return o;let a=o+l>>1,u=s[a]-e||(n?this.value[a].endSide:this.value[a].startSide)-i;if(a==o)return u>=0?o:l;u>=0?l=a:o=a+1}}between(e,i,n,r){for(let s=this.findIndex(i,-1e9,!0),o=this.findIndex(n,1e9,!1,s);s<o;s++)if(r(this.from[s]+e,this.to[s]+e,this.value[s])===!1)return!1}map(e,i){let n=[],r=[],s=[],o=-1,l=-1;for(let a=0;a<this.value.length;a++){let u=this.value[a],c=this.from[a]+e,h=this.to[a]+e,f,d;if(c==h){let p=i.mapPos(c,u.startSide,u.mapMode);if(p==null||(f=d=p,u.startSide!=u.endSide&&(d=i.mapPos(c,u.endSide),d<f)))continue}else if(f=i.mapPos(c,u.startSide),d=i.mapPos(h,u.endSide),f>d||f==d&&u.startSide>0&&u.endSide<=0)continue;(d-f||u.endSide-u.startSide)<0||(o<0&&(o=f),u.point&&(l=Math.max(l,d-f)),n.push(u),r.push(f-o),s.push(d-o))}return{mapped:n.length?new bu(r,s,n,l):null,pos:o}}}class Se{constructor(e,i,n,r){this.chunkPos=e,this.chunk=i,this.nextLayer=n,this.maxPoint=r}static create(e,i,n,r){return new Se(e,i,n,r)}get length(){let e=this.chunk.length-1;return e<0?0:Math.max(this.chunkEnd(e),this.nextLayer.length)}get size(){if(this.isEmpty)return 0;let e=this.nextLayer.size;for(let i of this.chunk)e+=i.value.length;return e}chunkEnd(e){return this.chunkPos[e]+this.chunk[e].length}update(e){let{add:i=[],sort:n=!1,filterFrom:r=0,filterTo:s=this.length}=e,o=e.filter;if(i.length==0&&!o)return this;if(n&&(i=i.slice().sort(fa)),this.isEmpty)return i.length?Se.of(i):this;let l=new a0(this,null,-1).goto(0),a=0,u=[],c=new zi;for(;l.value||a<i.length;)if(a<i.length&&(l.from-i[a].from||l.startSide-i[a].value.startSide)>=0){let h=i[a++];c.addInner(h.from,h.to,h.value)||u.push(h)}else l.rangeIndex==1&&l.chunkIndex<this.chunk.length&&(a==i.length||this.chunkEnd(l.chunkIndex)<i[a].from)&&(!o||r>this.chunkEnd(l.chunkIndex)||s<this.chunkPos[l.chunkIndex])&&c.addChunk(this.chunkPos[l.chunkIndex],this.chunk[l.chunkIndex])?l.nextChunk():((!o||r>l.to||s<l.from||o(l.from,l.to,l.value))&&(c.addInner(l.from,l.to,l.value)||u.push(ha.create(l.from,l.to,l.value))),l.next());return c.finishInner(this.nextLayer.isEmpty&&!u.length?Se.empty:this.nextLayer.update({add:u,filter:o,filterFrom:r,filterTo:s}))}map(e){if(e.empty||this.isEmpty)return this;let i=[],n=[],r=-1;for(let o=0;o<this.chunk.length;o++){let l=this.chunkPos[o],a=this.chunk[o],u=e.touchesRange(l,l+a.length);if(u===!1)r=Math.max(r,a.maxPoint),i.push(a),n.push(e.mapPos(l));else if(u===!0){let{mapped:c,pos:h}=a.map(l,e);c&&(r=Math.max(r,c.maxPoint),i.push(c),n.push(h))}}let s=this.nextLayer.map(e);return i.length==0?s:new Se(n,i,s||Se.empty,r)}between(e,i,n){if(!this.isEmpty){for(let r=0;r<this.chunk.length;r++){let s=this.chunkPos[r],o=this.chunk[r];if(i>=s&&e<=s+o.length&&o.between(s,e-s,i-s,n)===!1)return}this.nextLayer.between(e,i,n)}}iter(e=0){return Or.from([this]).goto(e)}get isEmpty(){return this.nextLayer==this}static iter(e,i=0){return Or.from(e).goto(i)}static compare(e,i,n,r,s=-1){let o=e.filter(h=>h.maxPoint>0||!h.isEmpty&&h.maxPoint>=s),l=i.filter(h=>h.maxPoint>0||!h.isEmpty&&h.maxPoint>=s),a=lh(o,l,n),u=new Zn(o,a,s),c=new Zn(l,a,s);n.iterGaps((h,f,d)=>ah(u,h,c,f,d,r)),n.empty&&n.length==0&&ah(u,0,c,0,0,r)}static eq(e,i,n=0,r){r==null&&(r=999999999);let s=e.filter(c=>!c.isEmpty&&i.indexOf(c)<0),o=i.filter(c=>!c.isEmpty&&e.indexOf(c)<0);if(s.length!=o.length)return!1;if(!s.length)return!0;let l=lh(s,o),a=new Zn(s,l,0).goto(n),u=new Zn(o,l,0).goto(n);for(;;){if(a.to!=u.to||!da(a.active,u.active)||a.point&&(!u.point||!a.point.eq(u.point)))return!1;if(a.to>r)return!0;a.next(),u.next()}}static spans(e,i,n,r,s=-1){let o=new Zn(e,null,s).goto(i),l=i,a=o.openStart;for(;;){let u=Math.min(o.to,n);if(o.point){let c=o.activeForPoint(o.to),h=o.pointFrom<i?c.length+1:o.point.startSide<0?c.length:Math.min(c.length,a);r.point(l,u,o.point,c,h,o.pointRank),a=Math.min(o.openEnd(u),c.length)}else u>l&&(r.span(l,u,o.active,a),a=o.openEnd(u));if(o.to>n)return a+(o.point&&o.to>n?1:0);l=o.to,o.next()}}static of(e,i=!1){let n=new zi;for(let r of e instanceof ha?[e]:i?Bk(e):e)n.add(r.from,r.to,r.value);return n.finish()}static join(e){if(!e.length)return Se.empty;let i=e[e.length-1];for(let n=e.length-2;n>=0;n--)for(let r=e[n];r!=Se.empty;r=r.nextLayer)i=new Se(r.chunkPos,r.chunk,i,Math.max(r.maxPoint,i.maxPoint));return i}}Se.empty=new Se([],[],null,-1);function Bk(t){if(t.length>1)for(let e=t[0],i=1;i<t.length;i++){let n=t[i];if(fa(e,n)>0)return t.slice().sort(fa);e=n}return t}Se.empty.nextLayer=Se.empty;class zi{finishChunk(e){this.chunks.push(new bu(this.from,this.to,this.value,this.maxPoint)),this.chunkPos.push(this.chunkStart),this.chunkStart=-1,this.setMaxPoint=Math.max(this.setMaxPoint,this.maxPoint),this.maxPoint=-1,e&&(this.from=[],this.to=[],this.value=[])}constructor(){this.chunks=[],this.chunkPos=[],this.chunkStart=-1,this.last=null,this.lastFrom=-1e9,this.lastTo=-1e9,this.from=[],this.to=[],this.value=[],this.maxPoint=-1,this.setMaxPoint=-1,this.nextLayer=null}add(e,i,n){this.addInner(e,i,n)||(this.nextLayer||(this.nextLayer=new zi)).add(e,i,n)}addInner(e,i,n){let r=e-this.lastTo||n.startSide-this.last.endSide;if(r<=0&&(e-this.lastFrom||n.startSide-this.last.startSide)<0)throw new Error("Ranges must be added sorted by `from` position and `startSide`");return r<0?!1:(this.from.length==250&&this.finishChunk(!0),this.chunkStart<0&&(this.chunkStart=e),this.from.push(e-this.chunkStart),this.to.push(i-this.chunkStart),this.last=n,this.lastFrom=e,this.lastTo=i,this.value.push(n),n.point&&(this.maxPoint=Math.max(this.maxPoint,i-e)),!0)}addChunk(e,i){if((e-this.lastTo||i.value[0].startSide-this.last.endSide)<0)return!1;this.from.length&&this.finishChunk(!0),this.setMaxPoint=Math.max(this.setMaxPoint,i.maxPoint),this.chunks.push(i),this.chunkPos.push(e);let n=i.value.length-1;return this.last=i.value[n],this.lastFrom=i.from[n]+e,this.lastTo=i.to[n]+e,!0}finish(){return this.finishInner(Se.empty)}finishInner(e){if(this.from.length&&this.finishChunk(!1),this.chunks.length==0)return e;let i=Se.create(this.chunkPos,this.chunks,this.nextLayer?this.nextLayer.finishInner(e):e,this.setMaxPoint);return this.from=null,i}}function lh(t,e,i){let n=new Map;for(let s of t)for(let o=0;o<s.chunk.length;o++)s.chunk[o].maxPoint<=0&&n.set(s.chunk[o],s.chunkPos[o]);let r=new Set;for(let s of e)for(let o=0;o<s.chunk.length;o++){let l=n.get(s.chunk[o]);l!=null&&(i?i.mapPos(l):l)==s.chunkPos[o]&&!i?.touchesRange(l,l+s.chunk[o].length)&&r.add(s.chunk[o])}return r}class a0{constructor(e,i,n,r=0){this.layer=e,this.skip=i,this.minPoint=n,this.rank=r}get startSide(){return this.value?this.value.startSide:0}get endSide(){return this.value?this.value.endSide:0}goto(e,i=-1e9){return this.chunkIndex=this.rangeIndex=0,this.gotoInner(e,i,!1),this}gotoInner(e,i,n){for(;this.chunkIndex<this.layer.chunk.length;){let r=this.layer.chunk[this.chunkIndex];if(!(this.skip&&this.skip.has(r)||this.layer.chunkEnd(this.chunkIndex)<e||r.maxPoint<this.minPoint))break;this.chunkIndex++,n=!1}if(this.chunkIndex<this.layer.chunk.length){let r=this.layer.chunk[this.chunkIndex].findIndex(e-this.layer.chunkPos[this.chunkIndex],i,!0);(!n||this.rangeIndex<r)&&this.setRangeIndex(r)}this.next()}forward(e,i){(this.to-e||this.endSide-i)<0&&this.gotoInner(e,i,!0)}next(){for(;;)if(this.chunkIndex==this.layer.chunk.length){this.from=this.to=1e9,this.value=null;break}else{let e=this.layer.chunkPos[this.chunkIndex],i=this.layer.chunk[this.chunkIndex],n=e+i.from[this.rangeIndex];if(this.from=n,this.to=e+i.to[this.rangeIndex],this.value=i.value[this.rangeIndex],this.setRangeIndex(this.rangeIndex+1),this.minPoint<0||this.value.point&&this.to-this.from>=this.minPoint)break}}setRangeIndex(e){if(e==this.layer.chunk[this.chunkIndex].value.length){if(this.chunkIndex++,this.skip)for(;this.chunkIndex<this.layer.chunk.length&&this.skip.has(this.layer.chunk[this.chunkIndex]);)this.chunkIndex++;this.rangeIndex=0}else this.rangeIndex=e}nextChunk(){this.chunkIndex++,this.rangeIndex=0,this.next()}compare(e){return this.from-e.from||this.startSide-e.startSide||this.rank-e.rank||this.to-e.to||this.endSide-e.endSide}}class Or{constructor(e){this.heap=e}static from(e,i=null,n=-1){let r=[];for(let s=0;s<e.length;s++)for(let o=e[s];!o.isEmpty;o=o.nextLayer)o.maxPoint>=n&&r.push(new a0(o,i,n,s));return r.length==1?r[0]:new Or(r)}get startSide(){return this.value?this.value.startSide:0}goto(e,i=-1e9){for(let n of this.heap)n.goto(e,i);for(let n=this.heap.length>>1;n>=0;n--)tl(this.heap,n);return this.next(),this}forward(e,i){for(let n of this.heap)n.forward(e,i);for(let n=this.heap.length>>1;n>=0;n--)tl(this.heap,n);(this.to-e||this.value.endSide-i)<0&&this.next()}next(){if(this.heap.length==0)this.from=this.to=1e9,this.value=null,this.rank=-1;else{let e=this.heap[0];this.from=e.from,this.to=e.to,this.value=e.value,this.rank=e.rank,e.value&&e.next(),tl(this.heap,0)}}}function tl(t,e){for(let i=t[e];;){let n=(e<<1)+1;if(n>=t.length)break;let r=t[n];if(n+1<t.length&&r.compare(t[n+1])>=0&&(r=t[n+1],n++),i.compare(r)<0)break;t[n]=i,t[e]=r,e=n}}class Zn{constructor(e,i,n){this.minPoint=n,this.active=[],this.activeTo=[],this.activeRank=[],this.minActive=-1,this.point=null,this.pointFrom=0,this.pointRank=0,this.to=-1e9,this.endSide=0,this.openStart=-1,this.cursor=Or.from(e,i,n)}goto(e,i=-1e9){return this.cursor.goto(e,i),this.active.length=this.activeTo.length=this.activeRank.length=0,this.minActive=-1,this.to=e,this.endSide=i,this.openStart=-1,this.next(),this}forward(e,i){for(;this.minActive>-1&&(this.activeTo[this.minActive]-e||this.active[this.minActive].endSide-i)<0;)this.removeActive(this.minActive);this.cursor.forward(e,i)}removeActive(e){is(this.active,e),is(this.activeTo,e),is(this.activeRank,e),this.minActive=uh(this.active,this.activeTo)}addActive(e){let i=0,{value:n,to:r,rank:s}=this.cursor;for(;i<this.activeRank.length&&(s-this.activeRank[i]||r-this.activeTo[i])>0;)i++;ns(this.active,i,n),ns(this.activeTo,i,r),ns(this.activeRank,i,s),e&&ns(e,i,this.cursor.from),this.minActive=uh(this.active,this.activeTo)}next(){let e=this.to,i=this.point;this.point=null;let n=this.openStart<0?[]:null;for(;;){let r=this.minActive;if(r>-1&&(this.activeTo[r]-this.cursor.from||this.active[r].endSide-this.cursor.startSide)<0){if(this.activeTo[r]>e){this.to=this.activeTo[r],this.endSide=this.active[r].endSide;break}this.removeActive(r),n&&is(n,r)}else if(this.cursor.value)if(this.cursor.from>e){this.to=this.cursor.from,this.endSide=this.cursor.startSide;break}else{let s=this.cursor.value;if(!s.point)this.addActive(n),this.cursor.next();else if(i&&this.cursor.to==this.to&&this.cursor.from<this.cursor.to)this.cursor.next();else{this.point=s,this.pointFrom=this.cursor.from,this.pointRank=this.cursor.rank,this.to=this.cursor.to,this.endSide=s.endSide,this.cursor.next(),this.forward(this.to,this.endSide);break}}else{this.to=this.endSide=1e9;break}}if(n){this.openStart=0;for(let r=n.length-1;r>=0&&n[r]<e;r--)this.openStart++}}activeForPoint(e){if(!this.active.length)return this.active;let i=[];for(let n=this.active.length-1;n>=0&&!(this.activeRank[n]<this.pointRank);n--)(this.activeTo[n]>e||this.activeTo[n]==e&&this.active[n].endSide>=this.point.endSide)&&i.push(this.active[n]);return i.reverse()}openEnd(e){let i=0;for(let n=this.activeTo.length-1;n>=0&&this.activeTo[n]>e;n--)i++;return i}}function ah(t,e,i,n,r,s){t.goto(e),i.goto(n);let o=n+r,l=n,a=n-e;for(;;){let u=t.to+a-i.to,c=u||t.endSide-i.endSide,h=c<0?t.to+a:i.to,f=Math.min(h,o);if(t.point||i.point?t.point&&i.point&&(t.point==i.point||t.point.eq(i.point))&&da(t.activeForPoint(t.to),i.activeForPoint(i.to))||s.comparePoint(l,f,t.point,i.point):f>l&&!da(t.active,i.active)&&s.compareRange(l,f,t.active,i.active),h>o)break;(u||t.openEnd!=i.openEnd)&&s.boundChange&&s.boundChange(h),l=h,c<=0&&t.next(),c>=0&&i.next()}}function da(t,e){if(t.length!=e.length)return!1;for(let i=0;i<t.length;i++)if(t[i]!=e[i]&&!t[i].eq(e[i]))return!1;return!0}function is(t,e){for(let i=e,n=t.length-1;i<n;i++)t[i]=t[i+1];t.pop()}function ns(t,e,i){for(let n=t.length-1;n>=e;n--)t[n+1]=t[n];t[e]=i}function uh(t,e){let i=-1,n=1e9;for(let r=0;r<e.length;r++)(e[r]-n||t[r].endSide-t[i].endSide)<0&&(i=r,n=e[r]);return i}function ti(t,e,i=t.length){let n=0;for(let r=0;r<i&&r<t.length;)t.charCodeAt(r)==9?(n+=e-n%e,r++):(n++,r=Ve(t,r));return n}function qk(t,e,i,n){for(let r=0,s=0;;){if(s>=e)return r;if(r==t.length)break;s+=t.charCodeAt(r)==9?i-s%i:1,r=Ve(t,r)}return t.length}const pa="ͼ",ch=typeof Symbol>"u"?"__"+pa:Symbol.for(pa),ma=typeof Symbol>"u"?"__styleSet"+Math.floor(Math.random()*1e8):Symbol("styleSet"),hh=typeof globalThis<"u"?globalThis:typeof window<"u"?window:{};class vi{constructor(e,i){this.rules=[];let{finish:n}=i||{};function r(o){return/^@/.test(o)?[o]:o.split(/,\s*/)}function s(o,l,a,u){let c=[],h=/^@(\w+)\b/.exec(o[0]),f=h&&h[1]=="keyframes";if(h&&l==null)return a.push(o[0]+";");for(let d in l){let p=l[d];if(/&/.test(d))s(d.split(/,\s*/).map(m=>o.map(O=>m.replace(/&/,O))).reduce((m,O)=>m.concat(O)),p,a);else if(p&&typeof p=="object"){if(!h)throw new RangeError("The value of a property ("+d+") should be a primitive value.");s(r(d),p,c,f)}else p!=null&&c.push(d.replace(/_.*/,"").replace(/[A-Z]/g,m=>"-"+m.toLowerCase())+": "+p+";")}(c.length||f)&&a.push((n&&!h&&!u?o.map(n):o).join(", ")+" {"+c.join(" ")+"}")}for(let o in e)s(r(o),e[o],this.rules)}getRules(){return this.rules.join(`
+`)}static newName(){let e=hh[ch]||1;return hh[ch]=e+1,pa+e.toString(36)}static mount(e,i,n){let r=e[ma],s=n&&n.nonce;r?s&&r.setNonce(s):r=new jk(e,s),r.mount(Array.isArray(i)?i:[i],e)}}let fh=new Map;class jk{constructor(e,i){let n=e.ownerDocument||e,r=n.defaultView;if(!e.head&&e.adoptedStyleSheets&&r.CSSStyleSheet){let s=fh.get(n);if(s)return e[ma]=s;this.sheet=new r.CSSStyleSheet,fh.set(n,this)}else this.styleTag=n.createElement("style"),i&&this.styleTag.setAttribute("nonce",i);this.modules=[],e[ma]=this}mount(e,i){let n=this.sheet,r=0,s=0;for(let o=0;o<e.length;o++){let l=e[o],a=this.modules.indexOf(l);if(a<s&&a>-1&&(this.modules.splice(a,1),s--,a=-1),a==-1){if(this.modules.splice(s++,0,l),n)for(let u=0;u<l.rules.length;u++)n.insertRule(l.rules[u],r++)}else{for(;s<a;)r+=this.modules[s++].rules.length;r+=l.rules.length,s++}}if(n)i.adoptedStyleSheets.indexOf(this.sheet)<0&&(i.adoptedStyleSheets=[this.sheet,...i.adoptedStyleSheets]);else{let o="";for(let a=0;a<this.modules.length;a++)o+=this.modules[a].getRules()+`
+`;this.styleTag.textContent=o;let l=i.head||i;this.styleTag.parentNode!=l&&l.insertBefore(this.styleTag,l.firstChild)}}setNonce(e){this.styleTag&&this.styleTag.getAttribute("nonce")!=e&&this.styleTag.setAttribute("nonce",e)}}var Si={8:"Backspace",9:"Tab",10:"Enter",12:"NumLock",13:"Enter",16:"Shift",17:"Control",18:"Alt",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",44:"PrintScreen",45:"Insert",46:"Delete",59:";",61:"=",91:"Meta",92:"Meta",106:"*",107:"+",108:",",109:"-",110:".",111:"/",144:"NumLock",145:"ScrollLock",160:"Shift",161:"Shift",162:"Control",163:"Control",164:"Alt",165:"Alt",173:"-",186:";",187:"=",188:",",189:"-",190:".",191:"/",192:"`",219:"[",220:"\\",221:"]",222:"'"},gr={48:")",49:"!",50:"@",51:"#",52:"$",53:"%",54:"^",55:"&",56:"*",57:"(",59:":",61:"+",173:"_",186:":",187:"+",188:"<",189:"_",190:">",191:"?",192:"~",219:"{",220:"|",221:"}",222:'"'},Yk=typeof navigator<"u"&&/Mac/.test(navigator.platform),Nk=typeof navigator<"u"&&/MSIE \d|Trident\/(?:[7-9]|\d{2,})\..*rv:(\d+)/.exec(navigator.userAgent);for(var Xe=0;Xe<10;Xe++)Si[48+Xe]=Si[96+Xe]=String(Xe);for(var Xe=1;Xe<=24;Xe++)Si[Xe+111]="F"+Xe;for(var Xe=65;Xe<=90;Xe++)Si[Xe]=String.fromCharCode(Xe+32),gr[Xe]=String.fromCharCode(Xe);for(var il in Si)gr.hasOwnProperty(il)||(gr[il]=Si[il]);function Wk(t){var e=Yk&&t.metaKey&&t.shiftKey&&!t.ctrlKey&&!t.altKey||Nk&&t.shiftKey&&t.key&&t.key.length==1||t.key=="Unidentified",i=!e&&t.key||(t.shiftKey?gr:Si)[t.keyCode]||t.key||"Unidentified";return i=="Esc"&&(i="Escape"),i=="Del"&&(i="Delete"),i=="Left"&&(i="ArrowLeft"),i=="Up"&&(i="ArrowUp"),i=="Right"&&(i="ArrowRight"),i=="Down"&&(i="ArrowDown"),i}function Ie(){var t=arguments[0];typeof t=="string"&&(t=document.createElement(t));var e=1,i=arguments[1];if(i&&typeof i=="object"&&i.nodeType==null&&!Array.isArray(i)){for(var n in i)if(Object.prototype.hasOwnProperty.call(i,n)){var r=i[n];typeof r=="string"?t.setAttribute(n,r):r!=null&&(t[n]=r)}e++}for(;e<arguments.length;e++)u0(t,arguments[e]);return t}function u0(t,e){if(typeof e=="string")t.appendChild(document.createTextNode(e));else if(e!=null)if(e.nodeType!=null)t.appendChild(e);else if(Array.isArray(e))for(var i=0;i<e.length;i++)u0(t,e[i]);else throw new RangeError("Unsupported child node: "+e)}let Ne=typeof navigator<"u"?navigator:{userAgent:"",vendor:"",platform:""},Oa=typeof document<"u"?document:{documentElement:{style:{}}};const ga=/Edge\/(\d+)/.exec(Ne.userAgent),c0=/MSIE \d/.test(Ne.userAgent),ba=/Trident\/(?:[7-9]|\d{2,})\..*rv:(\d+)/.exec(Ne.userAgent),Mo=!!(c0||ba||ga),dh=!Mo&&/gecko\/(\d+)/i.test(Ne.userAgent),nl=!Mo&&/Chrome\/(\d+)/.exec(Ne.userAgent),Gk="webkitFontSmoothing"in Oa.documentElement.style,xa=!Mo&&/Apple Computer/.test(Ne.vendor),ph=xa&&(/Mobile\/\w+/.test(Ne.userAgent)||Ne.maxTouchPoints>2);var N={mac:ph||/Mac/.test(Ne.platform),windows:/Win/.test(Ne.platform),linux:/Linux|X11/.test(Ne.platform),ie:Mo,ie_version:c0?Oa.documentMode||6:ba?+ba[1]:ga?+ga[1]:0,gecko:dh,gecko_version:dh?+(/Firefox\/(\d+)/.exec(Ne.userAgent)||[0,0])[1]:0,chrome:!!nl,chrome_version:nl?+nl[1]:0,ios:ph,android:/Android\b/.test(Ne.userAgent),webkit_version:Gk?+(/\bAppleWebKit\/(\d+)/.exec(Ne.userAgent)||[0,0])[1]:0,safari:xa,safari_version:xa?+(/\bVersion\/(\d+(\.\d+)?)/.exec(Ne.userAgent)||[0,0])[1]:0,tabSize:Oa.documentElement.style.tabSize!=null?"tab-size":"-moz-tab-size"};function br(t){let e;return t.nodeType==11?e=t.getSelection?t:t.ownerDocument:e=t,e.getSelection()}function ya(t,e){return e?t==e||t.contains(e.nodeType!=1?e.parentNode:e):!1}function Is(t,e){if(!e.anchorNode)return!1;try{return ya(t,e.anchorNode)}catch{return!1}}function fn(t){return t.nodeType==3?Vi(t,0,t.nodeValue.length).getClientRects():t.nodeType==1?t.getClientRects():[]}function nr(t,e,i,n){return i?mh(t,e,i,n,-1)||mh(t,e,i,n,1):!1}function Xi(t){for(var e=0;;e++)if(t=t.previousSibling,!t)return e}function eo(t){return t.nodeType==1&&/^(DIV|P|LI|UL|OL|BLOCKQUOTE|DD|DT|H\d|SECTION|PRE)$/.test(t.nodeName)}function mh(t,e,i,n,r){for(;;){if(t==i&&e==n)return!0;if(e==(r<0?0:Nt(t))){if(t.nodeName=="DIV")return!1;let s=t.parentNode;if(!s||s.nodeType!=1)return!1;e=Xi(t)+(r<0?0:1),t=s}else if(t.nodeType==1){if(t=t.childNodes[e+(r<0?-1:0)],t.nodeType==1&&t.contentEditable=="false")return!1;e=r<0?Nt(t):0}else return!1}}function Nt(t){return t.nodeType==3?t.nodeValue.length:t.childNodes.length}function zr(t,e){let i=e?t.left:t.right;return{left:i,right:i,top:t.top,bottom:t.bottom}}function Uk(t){let e=t.visualViewport;return e?{left:0,right:e.width,top:0,bottom:e.height}:{left:0,right:t.innerWidth,top:0,bottom:t.innerHeight}}function h0(t,e){let i=e.width/t.offsetWidth,n=e.height/t.offsetHeight;return(i>.995&&i<1.005||!isFinite(i)||Math.abs(e.width-t.offsetWidth)<1)&&(i=1),(n>.995&&n<1.005||!isFinite(n)||Math.abs(e.height-t.offsetHeight)<1)&&(n=1),{scaleX:i,scaleY:n}}function Hk(t,e,i,n,r,s,o,l){let a=t.ownerDocument,u=a.defaultView||window;for(let c=t,h=!1;c&&!h;)if(c.nodeType==1){let f,d=c==a.body,p=1,m=1;if(d)f=Uk(u);else{if(/^(fixed|sticky)$/.test(getComputedStyle(c).position)&&(h=!0),c.scrollHeight<=c.clientHeight&&c.scrollWidth<=c.clientWidth){c=c.assignedSlot||c.parentNode;continue}let b=c.getBoundingClientRect();({scaleX:p,scaleY:m}=h0(c,b)),f={left:b.left,right:b.left+c.clientWidth*p,top:b.top,bottom:b.top+c.clientHeight*m}}let O=0,g=0;if(r=="nearest")e.top<f.top?(g=e.top-(f.top+o),i>0&&e.bottom>f.bottom+g&&(g=e.bottom-f.bottom+o)):e.bottom>f.bottom&&(g=e.bottom-f.bottom+o,i<0&&e.top-g<f.top&&(g=e.top-(f.top+o)));else{let b=e.bottom-e.top,S=f.bottom-f.top;g=(r=="center"&&b<=S?e.top+b/2-S/2:r=="start"||r=="center"&&i<0?e.top-o:e.bottom-S+o)-f.top}if(n=="nearest"?e.left<f.left?(O=e.left-(f.left+s),i>0&&e.right>f.right+O&&(O=e.right-f.right+s)):e.right>f.right&&(O=e.right-f.right+s,i<0&&e.left<f.left+O&&(O=e.left-(f.left+s))):O=(n=="center"?e.left+(e.right-e.left)/2-(f.right-f.left)/2:n=="start"==l?e.left-s:e.right-(f.right-f.left)+s)-f.left,O||g)if(d)u.scrollBy(O,g);else{let b=0,S=0;if(g){let x=c.scrollTop;c.scrollTop+=g/m,S=(c.scrollTop-x)*m}if(O){let x=c.scrollLeft;c.scrollLeft+=O/p,b=(c.scrollLeft-x)*p}e={left:e.left-b,top:e.top-S,right:e.right-b,bottom:e.bottom-S},b&&Math.abs(b-O)<1&&(n="nearest"),S&&Math.abs(S-g)<1&&(r="nearest")}if(d)break;(e.top<f.top||e.bottom>f.bottom||e.left<f.left||e.right>f.right)&&(e={left:Math.max(e.left,f.left),right:Math.min(e.right,f.right),top:Math.max(e.top,f.top),bottom:Math.min(e.bottom,f.bottom)}),c=c.assignedSlot||c.parentNode}else if(c.nodeType==11)c=c.host;else break}function Kk(t){let e=t.ownerDocument,i,n;for(let r=t.parentNode;r&&!(r==e.body||i&&n);)if(r.nodeType==1)!n&&r.scrollHeight>r.clientHeight&&(n=r),!i&&r.scrollWidth>r.clientWidth&&(i=r),r=r.assignedSlot||r.parentNode;else if(r.nodeType==11)r=r.host;else break;return{x:i,y:n}}class Jk{constructor(){this.anchorNode=null,this.anchorOffset=0,this.focusNode=null,this.focusOffset=0}eq(e){return this.anchorNode==e.anchorNode&&this.anchorOffset==e.anchorOffset&&this.focusNode==e.focusNode&&this.focusOffset==e.focusOffset}setRange(e){let{anchorNode:i,focusNode:n}=e;this.set(i,Math.min(e.anchorOffset,i?Nt(i):0),n,Math.min(e.focusOffset,n?Nt(n):0))}set(e,i,n,r){this.anchorNode=e,this.anchorOffset=i,this.focusNode=n,this.focusOffset=r}}let Ei=null;N.safari&&N.safari_version>=26&&(Ei=!1);function f0(t){if(t.setActive)return t.setActive();if(Ei)return t.focus(Ei);let e=[];for(let i=t;i&&(e.push(i,i.scrollTop,i.scrollLeft),i!=i.ownerDocument);i=i.parentNode);if(t.focus(Ei==null?{get preventScroll(){return Ei={preventScroll:!0},!0}}:void 0),!Ei){Ei=!1;for(let i=0;i<e.length;){let n=e[i++],r=e[i++],s=e[i++];n.scrollTop!=r&&(n.scrollTop=r),n.scrollLeft!=s&&(n.scrollLeft=s)}}}let Oh;function Vi(t,e,i=e){let n=Oh||(Oh=document.createRange());return n.setEnd(t,i),n.setStart(t,e),n}function nn(t,e,i,n){let r={key:e,code:e,keyCode:i,which:i,cancelable:!0};n&&({altKey:r.altKey,ctrlKey:r.ctrlKey,shiftKey:r.shiftKey,metaKey:r.metaKey}=n);let s=new KeyboardEvent("keydown",r);s.synthetic=!0,t.dispatchEvent(s);let o=new KeyboardEvent("keyup",r);return o.synthetic=!0,t.dispatchEvent(o),s.defaultPrevented||o.defaultPrevented}function ev(t){for(;t;){if(t&&(t.nodeType==9||t.nodeType==11&&t.host))return t;t=t.assignedSlot||t.parentNode}return null}function d0(t){for(;t.attributes.length;)t.removeAttributeNode(t.attributes[0])}function tv(t,e){let i=e.focusNode,n=e.focusOffset;if(!i||e.anchorNode!=i||e.anchorOffset!=n)return!1;for(n=Math.min(n,Nt(i));;)if(n){if(i.nodeType!=1)return!1;let r=i.childNodes[n-1];r.contentEditable=="false"?n--:(i=r,n=Nt(i))}else{if(i==t)return!0;n=Xi(i),i=i.parentNode}}function p0(t){return t.scrollTop>Math.max(1,t.scrollHeight-t.clientHeight-4)}function m0(t,e){for(let i=t,n=e;;){if(i.nodeType==3&&n>0)return{node:i,offset:n};if(i.nodeType==1&&n>0){if(i.contentEditable=="false")return null;i=i.childNodes[n-1],n=Nt(i)}else if(i.parentNode&&!eo(i))n=Xi(i),i=i.parentNode;else return null}}function O0(t,e){for(let i=t,n=e;;){if(i.nodeType==3&&n<i.nodeValue.length)return{node:i,offset:n};if(i.nodeType==1&&n<i.childNodes.length){if(i.contentEditable=="false")return null;i=i.childNodes[n],n=0}else if(i.parentNode&&!eo(i))n=Xi(i)+1,i=i.parentNode;else return null}}class qe{constructor(e,i,n=!0){this.node=e,this.offset=i,this.precise=n}static before(e,i){return new qe(e.parentNode,Xi(e),i)}static after(e,i){return new qe(e.parentNode,Xi(e)+1,i)}}const xu=[];class ge{constructor(){this.parent=null,this.dom=null,this.flags=2}get overrideDOMText(){return null}get posAtStart(){return this.parent?this.parent.posBefore(this):0}get posAtEnd(){return this.posAtStart+this.length}posBefore(e){let i=this.posAtStart;for(let n of this.children){if(n==e)return i;i+=n.length+n.breakAfter}throw new RangeError("Invalid child in posBefore")}posAfter(e){return this.posBefore(e)+e.length}sync(e,i){if(this.flags&2){let n=this.dom,r=null,s;for(let o of this.children){if(o.flags&7){if(!o.dom&&(s=r?r.nextSibling:n.firstChild)){let l=ge.get(s);(!l||!l.parent&&l.canReuseDOM(o))&&o.reuseDOM(s)}o.sync(e,i),o.flags&=-8}if(s=r?r.nextSibling:n.firstChild,i&&!i.written&&i.node==n&&s!=o.dom&&(i.written=!0),o.dom.parentNode==n)for(;s&&s!=o.dom;)s=gh(s);else n.insertBefore(o.dom,s);r=o.dom}for(s=r?r.nextSibling:n.firstChild,s&&i&&i.node==n&&(i.written=!0);s;)s=gh(s)}else if(this.flags&1)for(let n of this.children)n.flags&7&&(n.sync(e,i),n.flags&=-8)}reuseDOM(e){}localPosFromDOM(e,i){let n;if(e==this.dom)n=this.dom.childNodes[i];else{let r=Nt(e)==0?0:i==0?-1:1;for(;;){let s=e.parentNode;if(s==this.dom)break;r==0&&s.firstChild!=s.lastChild&&(e==s.firstChild?r=-1:r=1),e=s}r<0?n=e:n=e.nextSibling}if(n==this.dom.firstChild)return 0;for(;n&&!ge.get(n);)n=n.nextSibling;if(!n)return this.length;for(let r=0,s=0;;r++){let o=this.children[r];if(o.dom==n)return s;s+=o.length+o.breakAfter}}domBoundsAround(e,i,n=0){let r=-1,s=-1,o=-1,l=-1;for(let a=0,u=n,c=n;a<this.children.length;a++){let h=this.children[a],f=u+h.length;if(u<e&&f>i)return h.domBoundsAround(e,i,u);if(f>=e&&r==-1&&(r=a,s=u),u>i&&h.dom.parentNode==this.dom){o=a,l=c;break}c=f,u=f+h.breakAfter}return{from:s,to:l<0?n+this.length:l,startDOM:(r?this.children[r-1].dom.nextSibling:null)||this.dom.firstChild,endDOM:o<this.children.length&&o>=0?this.children[o].dom:null}}markDirty(e=!1){this.flags|=2,this.markParentsDirty(e)}markParentsDirty(e){for(let i=this.parent;i;i=i.parent){if(e&&(i.flags|=2),i.flags&1)return;i.flags|=1,e=!1}}setParent(e){this.parent!=e&&(this.parent=e,this.flags&7&&this.markParentsDirty(!0))}setDOM(e){this.dom!=e&&(this.dom&&(this.dom.cmView=null),this.dom=e,e.cmView=this)}get rootView(){for(let e=this;;){let i=e.parent;if(!i)return e;e=i}}replaceChildren(e,i,n=xu){this.markDirty();for(let r=e;r<i;r++){let s=this.children[r];s.parent==this&&n.indexOf(s)<0&&s.destroy()}n.length<250?this.children.splice(e,i-e,...n):this.children=[].concat(this.children.slice(0,e),n,this.children.slice(i));for(let r=0;r<n.length;r++)n[r].setParent(this)}ignoreMutation(e){return!1}ignoreEvent(e){return!1}childCursor(e=this.length){return new g0(this.children,e,this.children.length)}childPos(e,i=1){return this.childCursor().findPos(e,i)}toString(){let e=this.constructor.name.replace("View","");return e+(this.children.length?"("+this.children.join()+")":this.length?"["+(e=="Text"?this.text:this.length)+"]":"")+(this.breakAfter?"#":"")}static get(e){return e.cmView}get isEditable(){return!0}get isWidget(){return!1}get isHidden(){return!1}merge(e,i,n,r,s,o){return!1}become(e){return!1}canReuseDOM(e){return e.constructor==this.constructor&&!((this.flags|e.flags)&8)}getSide(){return 0}destroy(){for(let e of this.children)e.parent==this&&e.destroy();this.parent=null}}ge.prototype.breakAfter=0;function gh(t){let e=t.nextSibling;return t.parentNode.removeChild(t),e}class g0{constructor(e,i,n){this.children=e,this.pos=i,this.i=n,this.off=0}findPos(e,i=1){for(;;){if(e>this.pos||e==this.pos&&(i>0||this.i==0||this.children[this.i-1].breakAfter))return this.off=e-this.pos,this;let n=this.children[--this.i];this.pos-=n.length+n.breakAfter}}}function b0(t,e,i,n,r,s,o,l,a){let{children:u}=t,c=u.length?u[e]:null,h=s.length?s[s.length-1]:null,f=h?h.breakAfter:o;if(!(e==n&&c&&!o&&!f&&s.length<2&&c.merge(i,r,s.length?h:null,i==0,l,a))){if(n<u.length){let d=u[n];d&&(r<d.length||d.breakAfter&&h?.breakAfter)?(e==n&&(d=d.split(r),r=0),!f&&h&&d.merge(0,r,h,!0,0,a)?s[s.length-1]=d:((r||d.children.length&&!d.children[0].length)&&d.merge(0,r,null,!1,0,a),s.push(d))):d?.breakAfter&&(h?h.breakAfter=1:o=1),n++}for(c&&(c.breakAfter=o,i>0&&(!o&&s.length&&c.merge(i,c.length,s[0],!1,l,0)?c.breakAfter=s.shift().breakAfter:(i<c.length||c.children.length&&c.children[c.children.length-1].length==0)&&c.merge(i,c.length,null,!1,l,0),e++));e<n&&s.length;)if(u[n-1].become(s[s.length-1]))n--,s.pop(),a=s.length?0:l;else if(u[e].become(s[0]))e++,s.shift(),l=s.length?0:a;else break;!s.length&&e&&n<u.length&&!u[e-1].breakAfter&&u[n].merge(0,0,u[e-1],!1,l,a)&&e--,(e<n||s.length)&&t.replaceChildren(e,n,s)}}function x0(t,e,i,n,r,s){let o=t.childCursor(),{i:l,off:a}=o.findPos(i,1),{i:u,off:c}=o.findPos(e,-1),h=e-i;for(let f of n)h+=f.length;t.length+=h,b0(t,u,c,l,a,n,0,r,s)}const iv=256;class Pt extends ge{constructor(e){super(),this.text=e}get length(){return this.text.length}createDOM(e){this.setDOM(e||document.createTextNode(this.text))}sync(e,i){this.dom||this.createDOM(),this.dom.nodeValue!=this.text&&(i&&i.node==this.dom&&(i.written=!0),this.dom.nodeValue=this.text)}reuseDOM(e){e.nodeType==3&&this.createDOM(e)}merge(e,i,n){return this.flags&8||n&&(!(n instanceof Pt)||this.length-(i-e)+n.length>iv||n.flags&8)?!1:(this.text=this.text.slice(0,e)+(n?n.text:"")+this.text.slice(i),this.markDirty(),!0)}split(e){let i=new Pt(this.text.slice(e));return this.text=this.text.slice(0,e),this.markDirty(),i.flags|=this.flags&8,i}localPosFromDOM(e,i){return e==this.dom?i:i?this.text.length:0}domAtPos(e){return new qe(this.dom,e)}domBoundsAround(e,i,n){return{from:n,to:n+this.length,startDOM:this.dom,endDOM:this.dom.nextSibling}}coordsAt(e,i){return nv(this.dom,e,i)}}class ii extends ge{constructor(e,i=[],n=0){super(),this.mark=e,this.children=i,this.length=n;for(let r of i)r.setParent(this)}setAttrs(e){if(d0(e),this.mark.class&&(e.className=this.mark.class),this.mark.attrs)for(let i in this.mark.attrs)e.setAttribute(i,this.mark.attrs[i]);return e}canReuseDOM(e){return super.canReuseDOM(e)&&!((this.flags|e.flags)&8)}reuseDOM(e){e.nodeName==this.mark.tagName.toUpperCase()&&(this.setDOM(e),this.flags|=6)}sync(e,i){this.dom?this.flags&4&&this.setAttrs(this.dom):this.setDOM(this.setAttrs(document.createElement(this.mark.tagName))),super.sync(e,i)}merge(e,i,n,r,s,o){return n&&(!(n instanceof ii&&n.mark.eq(this.mark))||e&&s<=0||i<this.length&&o<=0)?!1:(x0(this,e,i,n?n.children.slice():[],s-1,o-1),this.markDirty(),!0)}split(e){let i=[],n=0,r=-1,s=0;for(let l of this.children){let a=n+l.length;a>e&&i.push(n<e?l.split(e-n):l),r<0&&n>=e&&(r=s),n=a,s++}let o=this.length-e;return this.length=e,r>-1&&(this.children.length=r,this.markDirty()),new ii(this.mark,i,o)}domAtPos(e){return y0(this,e)}coordsAt(e,i){return v0(this,e,i)}}function nv(t,e,i){let n=t.nodeValue.length;e>n&&(e=n);let r=e,s=e,o=0;e==0&&i<0||e==n&&i>=0?N.chrome||N.gecko||(e?(r--,o=1):s<n&&(s++,o=-1)):i<0?r--:s<n&&s++;let l=Vi(t,r,s).getClientRects();if(!l.length)return null;let a=l[(o?o<0:i>=0)?0:l.length-1];return N.safari&&!o&&a.width==0&&(a=Array.prototype.find.call(l,u=>u.width)||a),o?zr(a,o<0):a||null}class Oi extends ge{static create(e,i,n){return new Oi(e,i,n)}constructor(e,i,n){super(),this.widget=e,this.length=i,this.side=n,this.prevWidget=null}split(e){let i=Oi.create(this.widget,this.length-e,this.side);return this.length-=e,i}sync(e){(!this.dom||!this.widget.updateDOM(this.dom,e))&&(this.dom&&this.prevWidget&&this.prevWidget.destroy(this.dom),this.prevWidget=null,this.setDOM(this.widget.toDOM(e)),this.widget.editable||(this.dom.contentEditable="false"))}getSide(){return this.side}merge(e,i,n,r,s,o){return n&&(!(n instanceof Oi)||!this.widget.compare(n.widget)||e>0&&s<=0||i<this.length&&o<=0)?!1:(this.length=e+(n?n.length:0)+(this.length-i),!0)}become(e){return e instanceof Oi&&e.side==this.side&&this.widget.constructor==e.widget.constructor?(this.widget.compare(e.widget)||this.markDirty(!0),this.dom&&!this.prevWidget&&(this.prevWidget=this.widget),this.widget=e.widget,this.length=e.length,!0):!1}ignoreMutation(){return!0}ignoreEvent(e){return this.widget.ignoreEvent(e)}get overrideDOMText(){if(this.length==0)return ue.empty;let e=this;for(;e.parent;)e=e.parent;let{view:i}=e,n=i&&i.state.doc,r=this.posAtStart;return n?n.slice(r,r+this.length):ue.empty}domAtPos(e){return(this.length?e==0:this.side>0)?qe.before(this.dom):qe.after(this.dom,e==this.length)}domBoundsAround(){return null}coordsAt(e,i){let n=this.widget.coordsAt(this.dom,e,i);if(n)return n;let r=this.dom.getClientRects(),s=null;if(!r.length)return null;let o=this.side?this.side<0:e>0;for(let l=o?r.length-1:0;s=r[l],!(e>0?l==0:l==r.length-1||s.top<s.bottom);l+=o?-1:1);return zr(s,!o)}get isEditable(){return!1}get isWidget(){return!0}get isHidden(){return this.widget.isHidden}destroy(){super.destroy(),this.dom&&this.widget.destroy(this.dom)}}class dn extends ge{constructor(e){super(),this.side=e}get length(){return 0}merge(){return!1}become(e){return e instanceof dn&&e.side==this.side}split(){return new dn(this.side)}sync(){if(!this.dom){let e=document.createElement("img");e.className="cm-widgetBuffer",e.setAttribute("aria-hidden","true"),this.setDOM(e)}}getSide(){return this.side}domAtPos(e){return this.side>0?qe.before(this.dom):qe.after(this.dom)}localPosFromDOM(){return 0}domBoundsAround(){return null}coordsAt(e){return this.dom.getBoundingClientRect()}get overrideDOMText(){return ue.empty}get isHidden(){return!0}}Pt.prototype.children=Oi.prototype.children=dn.prototype.children=xu;function y0(t,e){let i=t.dom,{children:n}=t,r=0;for(let s=0;r<n.length;r++){let o=n[r],l=s+o.length;if(!(l==s&&o.getSide()<=0)){if(e>s&&e<l&&o.dom.parentNode==i)return o.domAtPos(e-s);if(e<=s)break;s=l}}for(let s=r;s>0;s--){let o=n[s-1];if(o.dom.parentNode==i)return o.domAtPos(o.length)}for(let s=r;s<n.length;s++){let o=n[s];if(o.dom.parentNode==i)return o.domAtPos(0)}return new qe(i,0)}function k0(t,e,i){let n,{children:r}=t;i>0&&e instanceof ii&&r.length&&(n=r[r.length-1])instanceof ii&&n.mark.eq(e.mark)?k0(n,e.children[0],i-1):(r.push(e),e.setParent(t)),t.length+=e.length}function v0(t,e,i){let n=null,r=-1,s=null,o=-1;function l(u,c){for(let h=0,f=0;h<u.children.length&&f<=c;h++){let d=u.children[h],p=f+d.length;p>=c&&(d.children.length?l(d,c-f):(!s||s.isHidden&&(i>0||sv(s,d)))&&(p>c||f==p&&d.getSide()>0)?(s=d,o=c-f):(f<c||f==p&&d.getSide()<0&&!d.isHidden)&&(n=d,r=c-f)),f=p}}l(t,e);let a=(i<0?n:s)||n||s;return a?a.coordsAt(Math.max(0,a==n?r:o),i):rv(t)}function rv(t){let e=t.dom.lastChild;if(!e)return t.dom.getBoundingClientRect();let i=fn(e);return i[i.length-1]||null}function sv(t,e){let i=t.coordsAt(0,1),n=e.coordsAt(0,1);return i&&n&&n.top<i.bottom}function ka(t,e){for(let i in t)i=="class"&&e.class?e.class+=" "+t.class:i=="style"&&e.style?e.style+=";"+t.style:e[i]=t[i];return e}const bh=Object.create(null);function to(t,e,i){if(t==e)return!0;t||(t=bh),e||(e=bh);let n=Object.keys(t),r=Object.keys(e);if(n.length-(i&&n.indexOf(i)>-1?1:0)!=r.length-(i&&r.indexOf(i)>-1?1:0))return!1;for(let s of n)if(s!=i&&(r.indexOf(s)==-1||t[s]!==e[s]))return!1;return!0}function va(t,e,i){let n=!1;if(e)for(let r in e)i&&r in i||(n=!0,r=="style"?t.style.cssText="":t.removeAttribute(r));if(i)for(let r in i)e&&e[r]==i[r]||(n=!0,r=="style"?t.style.cssText=i[r]:t.setAttribute(r,i[r]));return n}function ov(t){let e=Object.create(null);for(let i=0;i<t.attributes.length;i++){let n=t.attributes[i];e[n.name]=n.value}return e}class _n{eq(e){return!1}updateDOM(e,i){return!1}compare(e){return this==e||this.constructor==e.constructor&&this.eq(e)}get estimatedHeight(){return-1}get lineBreaks(){return 0}ignoreEvent(e){return!0}coordsAt(e,i,n){return null}get isHidden(){return!1}get editable(){return!1}destroy(e){}}var dt=(function(t){return t[t.Text=0]="Text",t[t.WidgetBefore=1]="WidgetBefore",t[t.WidgetAfter=2]="WidgetAfter",t[t.WidgetRange=3]="WidgetRange",t})(dt||(dt={}));class Oe extends Ii{constructor(e,i,n,r){super(),this.startSide=e,this.endSide=i,this.widget=n,this.spec=r}get heightRelevant(){return!1}static mark(e){return new Xr(e)}static widget(e){let i=Math.max(-1e4,Math.min(1e4,e.side||0)),n=!!e.block;return i+=n&&!e.inlineOrder?i>0?3e8:-4e8:i>0?1e8:-1e8,new wi(e,i,i,n,e.widget||null,!1)}static replace(e){let i=!!e.block,n,r;if(e.isBlockGap)n=-5e8,r=4e8;else{let{start:s,end:o}=S0(e,i);n=(s?i?-3e8:-1:5e8)-1,r=(o?i?2e8:1:-6e8)+1}return new wi(e,n,r,i,e.widget||null,!0)}static line(e){return new Vr(e)}static set(e,i=!1){return Se.of(e,i)}hasHeight(){return this.widget?this.widget.estimatedHeight>-1:!1}}Oe.none=Se.empty;class Xr extends Oe{constructor(e){let{start:i,end:n}=S0(e);super(i?-1:5e8,n?1:-6e8,null,e),this.tagName=e.tagName||"span",this.class=e.class||"",this.attrs=e.attributes||null}eq(e){var i,n;return this==e||e instanceof Xr&&this.tagName==e.tagName&&(this.class||((i=this.attrs)===null||i===void 0?void 0:i.class))==(e.class||((n=e.attrs)===null||n===void 0?void 0:n.class))&&to(this.attrs,e.attrs,"class")}range(e,i=e){if(e>=i)throw new RangeError("Mark decorations may not be empty");return super.range(e,i)}}Xr.prototype.point=!1;class Vr extends Oe{constructor(e){super(-2e8,-2e8,null,e)}eq(e){return e instanceof Vr&&this.spec.class==e.spec.class&&to(this.spec.attributes,e.spec.attributes)}range(e,i=e){if(i!=e)throw new RangeError("Line decoration ranges must be zero-length");return super.range(e,i)}}Vr.prototype.mapMode=We.TrackBefore;Vr.prototype.point=!0;class wi extends Oe{constructor(e,i,n,r,s,o){super(i,n,s,e),this.block=r,this.isReplace=o,this.mapMode=r?i<=0?We.TrackBefore:We.TrackAfter:We.TrackDel}get type(){return this.startSide!=this.endSide?dt.WidgetRange:this.startSide<=0?dt.WidgetBefore:dt.WidgetAfter}get heightRelevant(){return this.block||!!this.widget&&(this.widget.estimatedHeight>=5||this.widget.lineBreaks>0)}eq(e){return e instanceof wi&&lv(this.widget,e.widget)&&this.block==e.block&&this.startSide==e.startSide&&this.endSide==e.endSide}range(e,i=e){if(this.isReplace&&(e>i||e==i&&this.startSide>0&&this.endSide<=0))throw new RangeError("Invalid range for replacement decoration");if(!this.isReplace&&i!=e)throw new RangeError("Widget decorations can only have zero-length ranges");return super.range(e,i)}}wi.prototype.point=!0;function S0(t,e=!1){let{inclusiveStart:i,inclusiveEnd:n}=t;return i==null&&(i=t.inclusive),n==null&&(n=t.inclusive),{start:i??e,end:n??e}}function lv(t,e){return t==e||!!(t&&e&&t.compare(e))}function zs(t,e,i,n=0){let r=i.length-1;r>=0&&i[r]+n>=t?i[r]=Math.max(i[r],e):i.push(t,e)}class Te extends ge{constructor(){super(...arguments),this.children=[],this.length=0,this.prevAttrs=void 0,this.attrs=null,this.breakAfter=0}merge(e,i,n,r,s,o){if(n){if(!(n instanceof Te))return!1;this.dom||n.transferDOM(this)}return r&&this.setDeco(n?n.attrs:null),x0(this,e,i,n?n.children.slice():[],s,o),!0}split(e){let i=new Te;if(i.breakAfter=this.breakAfter,this.length==0)return i;let{i:n,off:r}=this.childPos(e);r&&(i.append(this.children[n].split(r),0),this.children[n].merge(r,this.children[n].length,null,!1,0,0),n++);for(let s=n;s<this.children.length;s++)i.append(this.children[s],0);for(;n>0&&this.children[n-1].length==0;)this.children[--n].destroy();return this.children.length=n,this.markDirty(),this.length=e,i}transferDOM(e){this.dom&&(this.markDirty(),e.setDOM(this.dom),e.prevAttrs=this.prevAttrs===void 0?this.attrs:this.prevAttrs,this.prevAttrs=void 0,this.dom=null)}setDeco(e){to(this.attrs,e)||(this.dom&&(this.prevAttrs=this.attrs,this.markDirty()),this.attrs=e)}append(e,i){k0(this,e,i)}addLineDeco(e){let i=e.spec.attributes,n=e.spec.class;i&&(this.attrs=ka(i,this.attrs||{})),n&&(this.attrs=ka({class:n},this.attrs||{}))}domAtPos(e){return y0(this,e)}reuseDOM(e){e.nodeName=="DIV"&&(this.setDOM(e),this.flags|=6)}sync(e,i){var n;this.dom?this.flags&4&&(d0(this.dom),this.dom.className="cm-line",this.prevAttrs=this.attrs?null:void 0):(this.setDOM(document.createElement("div")),this.dom.className="cm-line",this.prevAttrs=this.attrs?null:void 0),this.prevAttrs!==void 0&&(va(this.dom,this.prevAttrs,this.attrs),this.dom.classList.add("cm-line"),this.prevAttrs=void 0),super.sync(e,i);let r=this.dom.lastChild;for(;r&&ge.get(r)instanceof ii;)r=r.lastChild;if(!r||!this.length||r.nodeName!="BR"&&((n=ge.get(r))===null||n===void 0?void 0:n.isEditable)==!1&&(!N.ios||!this.children.some(s=>s instanceof Pt))){let s=document.createElement("BR");s.cmIgnore=!0,this.dom.appendChild(s)}}measureTextSize(){if(this.children.length==0||this.length>20)return null;let e=0,i;for(let n of this.children){if(!(n instanceof Pt)||/[^ -~]/.test(n.text))return null;let r=fn(n.dom);if(r.length!=1)return null;e+=r[0].width,i=r[0].height}return e?{lineHeight:this.dom.getBoundingClientRect().height,charWidth:e/this.length,textHeight:i}:null}coordsAt(e,i){let n=v0(this,e,i);if(!this.children.length&&n&&this.parent){let{heightOracle:r}=this.parent.view.viewState,s=n.bottom-n.top;if(Math.abs(s-r.lineHeight)<2&&r.textHeight<s){let o=(s-r.textHeight)/2;return{top:n.top+o,bottom:n.bottom-o,left:n.left,right:n.left}}}return n}become(e){return e instanceof Te&&this.children.length==0&&e.children.length==0&&to(this.attrs,e.attrs)&&this.breakAfter==e.breakAfter}covers(){return!0}static find(e,i){for(let n=0,r=0;n<e.children.length;n++){let s=e.children[n],o=r+s.length;if(o>=i){if(s instanceof Te)return s;if(o>i)break}r=o+s.breakAfter}return null}}class Jt extends ge{constructor(e,i,n){super(),this.widget=e,this.length=i,this.deco=n,this.breakAfter=0,this.prevWidget=null}merge(e,i,n,r,s,o){return n&&(!(n instanceof Jt)||!this.widget.compare(n.widget)||e>0&&s<=0||i<this.length&&o<=0)?!1:(this.length=e+(n?n.length:0)+(this.length-i),!0)}domAtPos(e){return e==0?qe.before(this.dom):qe.after(this.dom,e==this.length)}split(e){let i=this.length-e;this.length=e;let n=new Jt(this.widget,i,this.deco);return n.breakAfter=this.breakAfter,n}get children(){return xu}sync(e){(!this.dom||!this.widget.updateDOM(this.dom,e))&&(this.dom&&this.prevWidget&&this.prevWidget.destroy(this.dom),this.prevWidget=null,this.setDOM(this.widget.toDOM(e)),this.widget.editable||(this.dom.contentEditable="false"))}get overrideDOMText(){return this.parent?this.parent.view.state.doc.slice(this.posAtStart,this.posAtEnd):ue.empty}domBoundsAround(){return null}become(e){return e instanceof Jt&&e.widget.constructor==this.widget.constructor?(e.widget.compare(this.widget)||this.markDirty(!0),this.dom&&!this.prevWidget&&(this.prevWidget=this.widget),this.widget=e.widget,this.length=e.length,this.deco=e.deco,this.breakAfter=e.breakAfter,!0):!1}ignoreMutation(){return!0}ignoreEvent(e){return this.widget.ignoreEvent(e)}get isEditable(){return!1}get isWidget(){return!0}coordsAt(e,i){let n=this.widget.coordsAt(this.dom,e,i);return n||(this.widget instanceof Sa?null:zr(this.dom.getBoundingClientRect(),this.length?e==0:i<=0))}destroy(){super.destroy(),this.dom&&this.widget.destroy(this.dom)}covers(e){let{startSide:i,endSide:n}=this.deco;return i==n?!1:e<0?i<0:n>0}}class Sa extends _n{constructor(e){super(),this.height=e}toDOM(){let e=document.createElement("div");return e.className="cm-gap",this.updateDOM(e),e}eq(e){return e.height==this.height}updateDOM(e){return e.style.height=this.height+"px",!0}get editable(){return!0}get estimatedHeight(){return this.height}ignoreEvent(){return!1}}class rr{constructor(e,i,n,r){this.doc=e,this.pos=i,this.end=n,this.disallowBlockEffectsFor=r,this.content=[],this.curLine=null,this.breakAtStart=0,this.pendingBuffer=0,this.bufferMarks=[],this.atCursorPos=!0,this.openStart=-1,this.openEnd=-1,this.text="",this.textOff=0,this.cursor=e.iter(),this.skip=i}posCovered(){if(this.content.length==0)return!this.breakAtStart&&this.doc.lineAt(this.pos).from!=this.pos;let e=this.content[this.content.length-1];return!(e.breakAfter||e instanceof Jt&&e.deco.endSide<0)}getLine(){return this.curLine||(this.content.push(this.curLine=new Te),this.atCursorPos=!0),this.curLine}flushBuffer(e=this.bufferMarks){this.pendingBuffer&&(this.curLine.append(rs(new dn(-1),e),e.length),this.pendingBuffer=0)}addBlockWidget(e){this.flushBuffer(),this.curLine=null,this.content.push(e)}finish(e){this.pendingBuffer&&e<=this.bufferMarks.length?this.flushBuffer():this.pendingBuffer=0,!this.posCovered()&&!(e&&this.content.length&&this.content[this.content.length-1]instanceof Jt)&&this.getLine()}buildText(e,i,n){for(;e>0;){if(this.textOff==this.text.length){let{value:o,lineBreak:l,done:a}=this.cursor.next(this.skip);if(this.skip=0,a)throw new Error("Ran out of text content when drawing inline views");if(l){this.posCovered()||this.getLine(),this.content.length?this.content[this.content.length-1].breakAfter=1:this.breakAtStart=1,this.flushBuffer(),this.curLine=null,this.atCursorPos=!0,e--;continue}else this.text=o,this.textOff=0}let r=Math.min(this.text.length-this.textOff,e),s=Math.min(r,512);this.flushBuffer(i.slice(i.length-n)),this.getLine().append(rs(new Pt(this.text.slice(this.textOff,this.textOff+s)),i),n),this.atCursorPos=!0,this.textOff+=s,e-=s,n=r<=s?0:i.length}}span(e,i,n,r){this.buildText(i-e,n,r),this.pos=i,this.openStart<0&&(this.openStart=r)}point(e,i,n,r,s,o){if(this.disallowBlockEffectsFor[o]&&n instanceof wi){if(n.block)throw new RangeError("Block decorations may not be specified via plugins");if(i>this.doc.lineAt(this.pos).to)throw new RangeError("Decorations that replace line breaks may not be specified via plugins")}let l=i-e;if(n instanceof wi)if(n.block)n.startSide>0&&!this.posCovered()&&this.getLine(),this.addBlockWidget(new Jt(n.widget||pn.block,l,n));else{let a=Oi.create(n.widget||pn.inline,l,l?0:n.startSide),u=this.atCursorPos&&!a.isEditable&&s<=r.length&&(e<i||n.startSide>0),c=!a.isEditable&&(e<i||s>r.length||n.startSide<=0),h=this.getLine();this.pendingBuffer==2&&!u&&!a.isEditable&&(this.pendingBuffer=0),this.flushBuffer(r),u&&(h.append(rs(new dn(1),r),s),s=r.length+Math.max(0,s-r.length)),h.append(rs(a,r),s),this.atCursorPos=c,this.pendingBuffer=c?e<i||s>r.length?1:2:0,this.pendingBuffer&&(this.bufferMarks=r.slice())}else this.doc.lineAt(this.pos).from==this.pos&&this.getLine().addLineDeco(n);l&&(this.textOff+l<=this.text.length?this.textOff+=l:(this.skip+=l-(this.text.length-this.textOff),this.text="",this.textOff=0),this.pos=i),this.openStart<0&&(this.openStart=s)}static build(e,i,n,r,s){let o=new rr(e,i,n,s);return o.openEnd=Se.spans(r,i,n,o),o.openStart<0&&(o.openStart=o.openEnd),o.finish(o.openEnd),o}}function rs(t,e){for(let i of e)t=new ii(i,[t],t.length);return t}class pn extends _n{constructor(e){super(),this.tag=e}eq(e){return e.tag==this.tag}toDOM(){return document.createElement(this.tag)}updateDOM(e){return e.nodeName.toLowerCase()==this.tag}get isHidden(){return!0}}pn.inline=new pn("span");pn.block=new pn("div");var _e=(function(t){return t[t.LTR=0]="LTR",t[t.RTL=1]="RTL",t})(_e||(_e={}));const Fi=_e.LTR,yu=_e.RTL;function w0(t){let e=[];for(let i=0;i<t.length;i++)e.push(1<<+t[i]);return e}const av=w0("88888888888888888888888888888888888666888888787833333333337888888000000000000000000000000008888880000000000000000000000000088888888888888888888888888888888888887866668888088888663380888308888800000000000000000000000800000000000000000000000000000008"),uv=w0("4444448826627288999999999992222222222222222222222222222222222222222222222229999999999999999999994444444444644222822222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222222999999949999999229989999223333333333"),wa=Object.create(null),Dt=[];for(let t of["()","[]","{}"]){let e=t.charCodeAt(0),i=t.charCodeAt(1);wa[e]=i,wa[i]=-e}function Q0(t){return t<=247?av[t]:1424<=t&&t<=1524?2:1536<=t&&t<=1785?uv[t-1536]:1774<=t&&t<=2220?4:8192<=t&&t<=8204?256:64336<=t&&t<=65023?4:1}const cv=/[\u0590-\u05f4\u0600-\u06ff\u0700-\u08ac\ufb50-\ufdff]/;class gi{get dir(){return this.level%2?yu:Fi}constructor(e,i,n){this.from=e,this.to=i,this.level=n}side(e,i){return this.dir==i==e?this.to:this.from}forward(e,i){return e==(this.dir==i)}static find(e,i,n,r){let s=-1;for(let o=0;o<e.length;o++){let l=e[o];if(l.from<=i&&l.to>=i){if(l.level==n)return o;(s<0||(r!=0?r<0?l.from<i:l.to>i:e[s].level>l.level))&&(s=o)}}if(s<0)throw new RangeError("Index out of range");return s}}function $0(t,e){if(t.length!=e.length)return!1;for(let i=0;i<t.length;i++){let n=t[i],r=e[i];if(n.from!=r.from||n.to!=r.to||n.direction!=r.direction||!$0(n.inner,r.inner))return!1}return!0}const be=[];function hv(t,e,i,n,r){for(let s=0;s<=n.length;s++){let o=s?n[s-1].to:e,l=s<n.length?n[s].from:i,a=s?256:r;for(let u=o,c=a,h=a;u<l;u++){let f=Q0(t.charCodeAt(u));f==512?f=c:f==8&&h==4&&(f=16),be[u]=f==4?2:f,f&7&&(h=f),c=f}for(let u=o,c=a,h=a;u<l;u++){let f=be[u];if(f==128)u<l-1&&c==be[u+1]&&c&24?f=be[u]=c:be[u]=256;else if(f==64){let d=u+1;for(;d<l&&be[d]==64;)d++;let p=u&&c==8||d<i&&be[d]==8?h==1?1:8:256;for(let m=u;m<d;m++)be[m]=p;u=d-1}else f==8&&h==1&&(be[u]=1);c=f,f&7&&(h=f)}}}function fv(t,e,i,n,r){let s=r==1?2:1;for(let o=0,l=0,a=0;o<=n.length;o++){let u=o?n[o-1].to:e,c=o<n.length?n[o].from:i;for(let h=u,f,d,p;h<c;h++)if(d=wa[f=t.charCodeAt(h)])if(d<0){for(let m=l-3;m>=0;m-=3)if(Dt[m+1]==-d){let O=Dt[m+2],g=O&2?r:O&4?O&1?s:r:0;g&&(be[h]=be[Dt[m]]=g),l=m;break}}else{if(Dt.length==189)break;Dt[l++]=h,Dt[l++]=f,Dt[l++]=a}else if((p=be[h])==2||p==1){let m=p==r;a=m?0:1;for(let O=l-3;O>=0;O-=3){let g=Dt[O+2];if(g&2)break;if(m)Dt[O+2]|=2;else{if(g&4)break;Dt[O+2]|=4}}}}}function dv(t,e,i,n){for(let r=0,s=n;r<=i.length;r++){let o=r?i[r-1].to:t,l=r<i.length?i[r].from:e;for(let a=o;a<l;){let u=be[a];if(u==256){let c=a+1;for(;;)if(c==l){if(r==i.length)break;c=i[r++].to,l=r<i.length?i[r].from:e}else if(be[c]==256)c++;else break;let h=s==1,f=(c<e?be[c]:n)==1,d=h==f?h?1:2:n;for(let p=c,m=r,O=m?i[m-1].to:t;p>a;)p==O&&(p=i[--m].from,O=m?i[m-1].to:t),be[--p]=d;a=c}else s=u,a++}}}function Qa(t,e,i,n,r,s,o){let l=n%2?2:1;if(n%2==r%2)for(let a=e,u=0;a<i;){let c=!0,h=!1;if(u==s.length||a<s[u].from){let m=be[a];m!=l&&(c=!1,h=m==16)}let f=!c&&l==1?[]:null,d=c?n:n+1,p=a;e:for(;;)if(u<s.length&&p==s[u].from){if(h)break e;let m=s[u];if(!c)for(let O=m.to,g=u+1;;){if(O==i)break e;if(g<s.length&&s[g].from==O)O=s[g++].to;else{if(be[O]==l)break e;break}}if(u++,f)f.push(m);else{m.from>a&&o.push(new gi(a,m.from,d));let O=m.direction==Fi!=!(d%2);$a(t,O?n+1:n,r,m.inner,m.from,m.to,o),a=m.to}p=m.to}else{if(p==i||(c?be[p]!=l:be[p]==l))break;p++}f?Qa(t,a,p,n+1,r,f,o):a<p&&o.push(new gi(a,p,d)),a=p}else for(let a=i,u=s.length;a>e;){let c=!0,h=!1;if(!u||a>s[u-1].to){let m=be[a-1];m!=l&&(c=!1,h=m==16)}let f=!c&&l==1?[]:null,d=c?n:n+1,p=a;e:for(;;)if(u&&p==s[u-1].to){if(h)break e;let m=s[--u];if(!c)for(let O=m.from,g=u;;){if(O==e)break e;if(g&&s[g-1].to==O)O=s[--g].from;else{if(be[O-1]==l)break e;break}}if(f)f.push(m);else{m.to<a&&o.push(new gi(m.to,a,d));let O=m.direction==Fi!=!(d%2);$a(t,O?n+1:n,r,m.inner,m.from,m.to,o),a=m.from}p=m.from}else{if(p==e||(c?be[p-1]!=l:be[p-1]==l))break;p--}f?Qa(t,p,a,n+1,r,f,o):p<a&&o.push(new gi(p,a,d)),a=p}}function $a(t,e,i,n,r,s,o){let l=e%2?2:1;hv(t,r,s,n,l),fv(t,r,s,n,l),dv(r,s,n,l),Qa(t,r,s,e,i,n,o)}function pv(t,e,i){if(!t)return[new gi(0,0,e==yu?1:0)];if(e==Fi&&!i.length&&!cv.test(t))return _0(t.length);if(i.length)for(;t.length>be.length;)be[be.length]=256;let n=[],r=e==Fi?0:1;return $a(t,r,r,i,0,t.length,n),n}function _0(t){return[new gi(0,t,0)]}let P0="";function mv(t,e,i,n,r){var s;let o=n.head-t.from,l=gi.find(e,o,(s=n.bidiLevel)!==null&&s!==void 0?s:-1,n.assoc),a=e[l],u=a.side(r,i);if(o==u){let f=l+=r?1:-1;if(f<0||f>=e.length)return null;a=e[l=f],o=a.side(!r,i),u=a.side(r,i)}let c=Ve(t.text,o,a.forward(r,i));(c<a.from||c>a.to)&&(c=u),P0=t.text.slice(Math.min(o,c),Math.max(o,c));let h=l==(r?e.length-1:0)?null:e[l+(r?1:-1)];return h&&c==u&&h.level+(r?0:1)<a.level?M.cursor(h.side(!r,i)+t.from,h.forward(r,i)?1:-1,h.level):M.cursor(c+t.from,a.forward(r,i)?-1:1,a.level)}function Ov(t,e,i){for(let n=e;n<i;n++){let r=Q0(t.charCodeAt(n));if(r==1)return Fi;if(r==2||r==4)return yu}return Fi}const C0=U.define(),T0=U.define(),A0=U.define(),E0=U.define(),_a=U.define(),D0=U.define(),M0=U.define(),ku=U.define(),vu=U.define(),R0=U.define({combine:t=>t.some(e=>e)}),L0=U.define({combine:t=>t.some(e=>e)}),Z0=U.define();class rn{constructor(e,i="nearest",n="nearest",r=5,s=5,o=!1){this.range=e,this.y=i,this.x=n,this.yMargin=r,this.xMargin=s,this.isSnapshot=o}map(e){return e.empty?this:new rn(this.range.map(e),this.y,this.x,this.yMargin,this.xMargin,this.isSnapshot)}clip(e){return this.range.to<=e.doc.length?this:new rn(M.cursor(e.doc.length),this.y,this.x,this.yMargin,this.xMargin,this.isSnapshot)}}const ss=re.define({map:(t,e)=>t.map(e)}),I0=re.define();function ht(t,e,i){let n=t.facet(E0);n.length?n[0](e):window.onerror&&window.onerror(String(e),i,void 0,void 0,e)||(i?console.error(i+":",e):console.error(e))}const Kt=U.define({combine:t=>t.length?t[0]:!0});let gv=0;const Hi=U.define({combine(t){return t.filter((e,i)=>{for(let n=0;n<i;n++)if(t[n].plugin==e.plugin)return!1;return!0})}});class mt{constructor(e,i,n,r,s){this.id=e,this.create=i,this.domEventHandlers=n,this.domEventObservers=r,this.baseExtensions=s(this),this.extension=this.baseExtensions.concat(Hi.of({plugin:this,arg:void 0}))}of(e){return this.baseExtensions.concat(Hi.of({plugin:this,arg:e}))}static define(e,i){const{eventHandlers:n,eventObservers:r,provide:s,decorations:o}=i||{};return new mt(gv++,e,n,r,l=>{let a=[];return o&&a.push(xr.of(u=>{let c=u.plugin(l);return c?o(c):Oe.none})),s&&a.push(s(l)),a})}static fromClass(e,i){return mt.define((n,r)=>new e(n,r),i)}}class rl{constructor(e){this.spec=e,this.mustUpdate=null,this.value=null}get plugin(){return this.spec&&this.spec.plugin}update(e){if(this.value){if(this.mustUpdate){let i=this.mustUpdate;if(this.mustUpdate=null,this.value.update)try{this.value.update(i)}catch(n){if(ht(i.state,n,"CodeMirror plugin crashed"),this.value.destroy)try{this.value.destroy()}catch{}this.deactivate()}}}else if(this.spec)try{this.value=this.spec.plugin.create(e,this.spec.arg)}catch(i){ht(e.state,i,"CodeMirror plugin crashed"),this.deactivate()}return this}destroy(e){var i;if(!((i=this.value)===null||i===void 0)&&i.destroy)try{this.value.destroy()}catch(n){ht(e.state,n,"CodeMirror plugin crashed")}}deactivate(){this.spec=this.value=null}}const z0=U.define(),Su=U.define(),xr=U.define(),X0=U.define(),Fr=U.define(),V0=U.define();function xh(t,e){let i=t.state.facet(V0);if(!i.length)return i;let n=i.map(s=>s instanceof Function?s(t):s),r=[];return Se.spans(n,e.from,e.to,{point(){},span(s,o,l,a){let u=s-e.from,c=o-e.from,h=r;for(let f=l.length-1;f>=0;f--,a--){let d=l[f].spec.bidiIsolate,p;if(d==null&&(d=Ov(e.text,u,c)),a>0&&h.length&&(p=h[h.length-1]).to==u&&p.direction==d)p.to=c,h=p.inner;else{let m={from:u,to:c,direction:d,inner:[]};h.push(m),h=m.inner}}}}),r}const F0=U.define();function wu(t){let e=0,i=0,n=0,r=0;for(let s of t.state.facet(F0)){let o=s(t);o&&(o.left!=null&&(e=Math.max(e,o.left)),o.right!=null&&(i=Math.max(i,o.right)),o.top!=null&&(n=Math.max(n,o.top)),o.bottom!=null&&(r=Math.max(r,o.bottom)))}return{left:e,right:i,top:n,bottom:r}}const Yn=U.define();class kt{constructor(e,i,n,r){this.fromA=e,this.toA=i,this.fromB=n,this.toB=r}join(e){return new kt(Math.min(this.fromA,e.fromA),Math.max(this.toA,e.toA),Math.min(this.fromB,e.fromB),Math.max(this.toB,e.toB))}addToSet(e){let i=e.length,n=this;for(;i>0;i--){let r=e[i-1];if(!(r.fromA>n.toA)){if(r.toA<n.fromA)break;n=n.join(r),e.splice(i-1,1)}}return e.splice(i,0,n),e}static extendWithRanges(e,i){if(i.length==0)return e;let n=[];for(let r=0,s=0,o=0,l=0;;r++){let a=r==e.length?null:e[r],u=o-l,c=a?a.fromB:1e9;for(;s<i.length&&i[s]<c;){let h=i[s],f=i[s+1],d=Math.max(l,h),p=Math.min(c,f);if(d<=p&&new kt(d+u,p+u,d,p).addToSet(n),f>c)break;s+=2}if(!a)return n;new kt(a.fromA,a.toA,a.fromB,a.toB).addToSet(n),o=a.toA,l=a.toB}}}class io{constructor(e,i,n){this.view=e,this.state=i,this.transactions=n,this.flags=0,this.startState=e.state,this.changes=Me.empty(this.startState.doc.length);for(let s of n)this.changes=this.changes.compose(s.changes);let r=[];this.changes.iterChangedRanges((s,o,l,a)=>r.push(new kt(s,o,l,a))),this.changedRanges=r}static create(e,i,n){return new io(e,i,n)}get viewportChanged(){return(this.flags&4)>0}get viewportMoved(){return(this.flags&8)>0}get heightChanged(){return(this.flags&2)>0}get geometryChanged(){return this.docChanged||(this.flags&18)>0}get focusChanged(){return(this.flags&1)>0}get docChanged(){return!this.changes.empty}get selectionSet(){return this.transactions.some(e=>e.selection)}get empty(){return this.flags==0&&this.transactions.length==0}}class yh extends ge{get length(){return this.view.state.doc.length}constructor(e){super(),this.view=e,this.decorations=[],this.dynamicDecorationMap=[!1],this.domChanged=null,this.hasComposition=null,this.markedForComposition=new Set,this.editContextFormatting=Oe.none,this.lastCompositionAfterCursor=!1,this.minWidth=0,this.minWidthFrom=0,this.minWidthTo=0,this.impreciseAnchor=null,this.impreciseHead=null,this.forceSelection=!1,this.lastUpdate=Date.now(),this.setDOM(e.contentDOM),this.children=[new Te],this.children[0].setParent(this),this.updateDeco(),this.updateInner([new kt(0,0,0,e.state.doc.length)],0,null)}update(e){var i;let n=e.changedRanges;this.minWidth>0&&n.length&&(n.every(({fromA:u,toA:c})=>c<this.minWidthFrom||u>this.minWidthTo)?(this.minWidthFrom=e.changes.mapPos(this.minWidthFrom,1),this.minWidthTo=e.changes.mapPos(this.minWidthTo,1)):this.minWidth=this.minWidthFrom=this.minWidthTo=0),this.updateEditContextFormatting(e);let r=-1;this.view.inputState.composing>=0&&!this.view.observer.editContext&&(!((i=this.domChanged)===null||i===void 0)&&i.newSel?r=this.domChanged.newSel.head:!wv(e.changes,this.hasComposition)&&!e.selectionSet&&(r=e.state.selection.main.head));let s=r>-1?xv(this.view,e.changes,r):null;if(this.domChanged=null,this.hasComposition){this.markedForComposition.clear();let{from:u,to:c}=this.hasComposition;n=new kt(u,c,e.changes.mapPos(u,-1),e.changes.mapPos(c,1)).addToSet(n.slice())}this.hasComposition=s?{from:s.range.fromB,to:s.range.toB}:null,(N.ie||N.chrome)&&!s&&e&&e.state.doc.lines!=e.startState.doc.lines&&(this.forceSelection=!0);let o=this.decorations,l=this.updateDeco(),a=vv(o,l,e.changes);return n=kt.extendWithRanges(n,a),!(this.flags&7)&&n.length==0?!1:(this.updateInner(n,e.startState.doc.length,s),e.transactions.length&&(this.lastUpdate=Date.now()),!0)}updateInner(e,i,n){this.view.viewState.mustMeasureContent=!0,this.updateChildren(e,i,n);let{observer:r}=this.view;r.ignore(()=>{this.dom.style.height=this.view.viewState.contentHeight/this.view.scaleY+"px",this.dom.style.flexBasis=this.minWidth?this.minWidth+"px":"";let o=N.chrome||N.ios?{node:r.selectionRange.focusNode,written:!1}:void 0;this.sync(this.view,o),this.flags&=-8,o&&(o.written||r.selectionRange.focusNode!=o.node)&&(this.forceSelection=!0),this.dom.style.height=""}),this.markedForComposition.forEach(o=>o.flags&=-9);let s=[];if(this.view.viewport.from||this.view.viewport.to<this.view.state.doc.length)for(let o of this.children)o instanceof Jt&&o.widget instanceof Sa&&s.push(o.dom);r.updateGaps(s)}updateChildren(e,i,n){let r=n?n.range.addToSet(e.slice()):e,s=this.childCursor(i);for(let o=r.length-1;;o--){let l=o>=0?r[o]:null;if(!l)break;let{fromA:a,toA:u,fromB:c,toB:h}=l,f,d,p,m;if(n&&n.range.fromB<h&&n.range.toB>c){let x=rr.build(this.view.state.doc,c,n.range.fromB,this.decorations,this.dynamicDecorationMap),y=rr.build(this.view.state.doc,n.range.toB,h,this.decorations,this.dynamicDecorationMap);d=x.breakAtStart,p=x.openStart,m=y.openEnd;let $=this.compositionView(n);y.breakAtStart?$.breakAfter=1:y.content.length&&$.merge($.length,$.length,y.content[0],!1,y.openStart,0)&&($.breakAfter=y.content[0].breakAfter,y.content.shift()),x.content.length&&$.merge(0,0,x.content[x.content.length-1],!0,0,x.openEnd)&&x.content.pop(),f=x.content.concat($).concat(y.content)}else({content:f,breakAtStart:d,openStart:p,openEnd:m}=rr.build(this.view.state.doc,c,h,this.decorations,this.dynamicDecorationMap));let{i:O,off:g}=s.findPos(u,1),{i:b,off:S}=s.findPos(a,-1);b0(this,b,S,O,g,f,d,p,m)}n&&this.fixCompositionDOM(n)}updateEditContextFormatting(e){this.editContextFormatting=this.editContextFormatting.map(e.changes);for(let i of e.transactions)for(let n of i.effects)n.is(I0)&&(this.editContextFormatting=n.value)}compositionView(e){let i=new Pt(e.text.nodeValue);i.flags|=8;for(let{deco:r}of e.marks)i=new ii(r,[i],i.length);let n=new Te;return n.append(i,0),n}fixCompositionDOM(e){let i=(s,o)=>{o.flags|=8|(o.children.some(a=>a.flags&7)?1:0),this.markedForComposition.add(o);let l=ge.get(s);l&&l!=o&&(l.dom=null),o.setDOM(s)},n=this.childPos(e.range.fromB,1),r=this.children[n.i];i(e.line,r);for(let s=e.marks.length-1;s>=-1;s--)n=r.childPos(n.off,1),r=r.children[n.i],i(s>=0?e.marks[s].node:e.text,r)}updateSelection(e=!1,i=!1){(e||!this.view.observer.selectionRange.focusNode)&&this.view.observer.readSelectionRange();let n=this.view.root.activeElement,r=n==this.dom,s=!r&&!(this.view.state.facet(Kt)||this.dom.tabIndex>-1)&&Is(this.dom,this.view.observer.selectionRange)&&!(n&&this.dom.contains(n));if(!(r||i||s))return;let o=this.forceSelection;this.forceSelection=!1;let l=this.view.state.selection.main,a=this.moveToLine(this.domAtPos(l.anchor)),u=l.empty?a:this.moveToLine(this.domAtPos(l.head));if(N.gecko&&l.empty&&!this.hasComposition&&bv(a)){let h=document.createTextNode("");this.view.observer.ignore(()=>a.node.insertBefore(h,a.node.childNodes[a.offset]||null)),a=u=new qe(h,0),o=!0}let c=this.view.observer.selectionRange;(o||!c.focusNode||(!nr(a.node,a.offset,c.anchorNode,c.anchorOffset)||!nr(u.node,u.offset,c.focusNode,c.focusOffset))&&!this.suppressWidgetCursorChange(c,l))&&(this.view.observer.ignore(()=>{N.android&&N.chrome&&this.dom.contains(c.focusNode)&&Sv(c.focusNode,this.dom)&&(this.dom.blur(),this.dom.focus({preventScroll:!0}));let h=br(this.view.root);if(h)if(l.empty){if(N.gecko){let f=yv(a.node,a.offset);if(f&&f!=3){let d=(f==1?m0:O0)(a.node,a.offset);d&&(a=new qe(d.node,d.offset))}}h.collapse(a.node,a.offset),l.bidiLevel!=null&&h.caretBidiLevel!==void 0&&(h.caretBidiLevel=l.bidiLevel)}else if(h.extend){h.collapse(a.node,a.offset);try{h.extend(u.node,u.offset)}catch{}}else{let f=document.createRange();l.anchor>l.head&&([a,u]=[u,a]),f.setEnd(u.node,u.offset),f.setStart(a.node,a.offset),h.removeAllRanges(),h.addRange(f)}s&&this.view.root.activeElement==this.dom&&(this.dom.blur(),n&&n.focus())}),this.view.observer.setSelectionRange(a,u)),this.impreciseAnchor=a.precise?null:new qe(c.anchorNode,c.anchorOffset),this.impreciseHead=u.precise?null:new qe(c.focusNode,c.focusOffset)}suppressWidgetCursorChange(e,i){return this.hasComposition&&i.empty&&nr(e.focusNode,e.focusOffset,e.anchorNode,e.anchorOffset)&&this.posFromDOM(e.focusNode,e.focusOffset)==i.head}enforceCursorAssoc(){if(this.hasComposition)return;let{view:e}=this,i=e.state.selection.main,n=br(e.root),{anchorNode:r,anchorOffset:s}=e.observer.selectionRange;if(!n||!i.empty||!i.assoc||!n.modify)return;let o=Te.find(this,i.head);if(!o)return;let l=o.posAtStart;if(i.head==l||i.head==l+o.length)return;let a=this.coordsAt(i.head,-1),u=this.coordsAt(i.head,1);if(!a||!u||a.bottom>u.top)return;let c=this.domAtPos(i.head+i.assoc);n.collapse(c.node,c.offset),n.modify("move",i.assoc<0?"forward":"backward","lineboundary"),e.observer.readSelectionRange();let h=e.observer.selectionRange;e.docView.posFromDOM(h.anchorNode,h.anchorOffset)!=i.from&&n.collapse(r,s)}moveToLine(e){let i=this.dom,n;if(e.node!=i)return e;for(let r=e.offset;!n&&r<i.childNodes.length;r++){let s=ge.get(i.childNodes[r]);s instanceof Te&&(n=s.domAtPos(0))}for(let r=e.offset-1;!n&&r>=0;r--){let s=ge.get(i.childNodes[r]);s instanceof Te&&(n=s.domAtPos(s.length))}return n?new qe(n.node,n.offset,!0):e}nearest(e){for(let i=e;i;){let n=ge.get(i);if(n&&n.rootView==this)return n;i=i.parentNode}return null}posFromDOM(e,i){let n=this.nearest(e);if(!n)throw new RangeError("Trying to find position for a DOM position outside of the document");return n.localPosFromDOM(e,i)+n.posAtStart}domAtPos(e){let{i,off:n}=this.childCursor().findPos(e,-1);for(;i<this.children.length-1;){let r=this.children[i];if(n<r.length||r instanceof Te)break;i++,n=0}return this.children[i].domAtPos(n)}coordsAt(e,i){let n=null,r=0;for(let s=this.length,o=this.children.length-1;o>=0;o--){let l=this.children[o],a=s-l.breakAfter,u=a-l.length;if(a<e)break;if(u<=e&&(u<e||l.covers(-1))&&(a>e||l.covers(1))&&(!n||l instanceof Te&&!(n instanceof Te&&i>=0)))n=l,r=u;else if(n&&u==e&&a==e&&l instanceof Jt&&Math.abs(i)<2){if(l.deco.startSide<0)break;o&&(n=null)}s=u}return n?n.coordsAt(e-r,i):null}coordsForChar(e){let{i,off:n}=this.childPos(e,1),r=this.children[i];if(!(r instanceof Te))return null;for(;r.children.length;){let{i:l,off:a}=r.childPos(n,1);for(;;l++){if(l==r.children.length)return null;if((r=r.children[l]).length)break}n=a}if(!(r instanceof Pt))return null;let s=Ve(r.text,n);if(s==n)return null;let o=Vi(r.dom,n,s).getClientRects();for(let l=0;l<o.length;l++){let a=o[l];if(l==o.length-1||a.top<a.bottom&&a.left<a.right)return a}return null}measureVisibleLineHeights(e){let i=[],{from:n,to:r}=e,s=this.view.contentDOM.clientWidth,o=s>Math.max(this.view.scrollDOM.clientWidth,this.minWidth)+1,l=-1,a=this.view.textDirection==_e.LTR;for(let u=0,c=0;c<this.children.length;c++){let h=this.children[c],f=u+h.length;if(f>r)break;if(u>=n){let d=h.dom.getBoundingClientRect();if(i.push(d.height),o){let p=h.dom.lastChild,m=p?fn(p):[];if(m.length){let O=m[m.length-1],g=a?O.right-d.left:d.right-O.left;g>l&&(l=g,this.minWidth=s,this.minWidthFrom=u,this.minWidthTo=f)}}}u=f+h.breakAfter}return i}textDirectionAt(e){let{i}=this.childPos(e,1);return getComputedStyle(this.children[i].dom).direction=="rtl"?_e.RTL:_e.LTR}measureTextSize(){for(let s of this.children)if(s instanceof Te){let o=s.measureTextSize();if(o)return o}let e=document.createElement("div"),i,n,r;return e.className="cm-line",e.style.width="99999px",e.style.position="absolute",e.textContent="abc def ghi jkl mno pqr stu",this.view.observer.ignore(()=>{this.dom.appendChild(e);let s=fn(e.firstChild)[0];i=e.getBoundingClientRect().height,n=s?s.width/27:7,r=s?s.height:i,e.remove()}),{lineHeight:i,charWidth:n,textHeight:r}}childCursor(e=this.length){let i=this.children.length;return i&&(e-=this.children[--i].length),new g0(this.children,e,i)}computeBlockGapDeco(){let e=[],i=this.view.viewState;for(let n=0,r=0;;r++){let s=r==i.viewports.length?null:i.viewports[r],o=s?s.from-1:this.length;if(o>n){let l=(i.lineBlockAt(o).bottom-i.lineBlockAt(n).top)/this.view.scaleY;e.push(Oe.replace({widget:new Sa(l),block:!0,inclusive:!0,isBlockGap:!0}).range(n,o))}if(!s)break;n=s.to+1}return Oe.set(e)}updateDeco(){let e=1,i=this.view.state.facet(xr).map(s=>(this.dynamicDecorationMap[e++]=typeof s=="function")?s(this.view):s),n=!1,r=this.view.state.facet(X0).map((s,o)=>{let l=typeof s=="function";return l&&(n=!0),l?s(this.view):s});for(r.length&&(this.dynamicDecorationMap[e++]=n,i.push(Se.join(r))),this.decorations=[this.editContextFormatting,...i,this.computeBlockGapDeco(),this.view.viewState.lineGapDeco];e<this.decorations.length;)this.dynamicDecorationMap[e++]=!1;return this.decorations}scrollIntoView(e){if(e.isSnapshot){let u=this.view.viewState.lineBlockAt(e.range.head);this.view.scrollDOM.scrollTop=u.top-e.yMargin,this.view.scrollDOM.scrollLeft=e.xMargin;return}for(let u of this.view.state.facet(Z0))try{if(u(this.view,e.range,e))return!0}catch(c){ht(this.view.state,c,"scroll handler")}let{range:i}=e,n=this.coordsAt(i.head,i.empty?i.assoc:i.head>i.anchor?-1:1),r;if(!n)return;!i.empty&&(r=this.coordsAt(i.anchor,i.anchor>i.head?-1:1))&&(n={left:Math.min(n.left,r.left),top:Math.min(n.top,r.top),right:Math.max(n.right,r.right),bottom:Math.max(n.bottom,r.bottom)});let s=wu(this.view),o={left:n.left-s.left,top:n.top-s.top,right:n.right+s.right,bottom:n.bottom+s.bottom},{offsetWidth:l,offsetHeight:a}=this.view.scrollDOM;Hk(this.view.scrollDOM,o,i.head<i.anchor?-1:1,e.x,e.y,Math.max(Math.min(e.xMargin,l),-l),Math.max(Math.min(e.yMargin,a),-a),this.view.textDirection==_e.LTR)}lineHasWidget(e){let{i}=this.childCursor().findPos(e);if(i==this.children.length)return!1;let n=r=>r instanceof Oi||r.children.some(n);return n(this.children[i])}}function bv(t){return t.node.nodeType==1&&t.node.firstChild&&(t.offset==0||t.node.childNodes[t.offset-1].contentEditable=="false")&&(t.offset==t.node.childNodes.length||t.node.childNodes[t.offset].contentEditable=="false")}function B0(t,e){let i=t.observer.selectionRange;if(!i.focusNode)return null;let n=m0(i.focusNode,i.focusOffset),r=O0(i.focusNode,i.focusOffset),s=n||r;if(r&&n&&r.node!=n.node){let l=ge.get(r.node);if(!l||l instanceof Pt&&l.text!=r.node.nodeValue)s=r;else if(t.docView.lastCompositionAfterCursor){let a=ge.get(n.node);!a||a instanceof Pt&&a.text!=n.node.nodeValue||(s=r)}}if(t.docView.lastCompositionAfterCursor=s!=n,!s)return null;let o=e-s.offset;return{from:o,to:o+s.node.nodeValue.length,node:s.node}}function xv(t,e,i){let n=B0(t,i);if(!n)return null;let{node:r,from:s,to:o}=n,l=r.nodeValue;if(/[\n\r]/.test(l)||t.state.doc.sliceString(n.from,n.to)!=l)return null;let a=e.invertedDesc,u=new kt(a.mapPos(s),a.mapPos(o),s,o),c=[];for(let h=r.parentNode;;h=h.parentNode){let f=ge.get(h);if(f instanceof ii)c.push({node:h,deco:f.mark});else{if(f instanceof Te||h.nodeName=="DIV"&&h.parentNode==t.contentDOM)return{range:u,text:r,marks:c,line:h};if(h!=t.contentDOM)c.push({node:h,deco:new Xr({inclusive:!0,attributes:ov(h),tagName:h.tagName.toLowerCase()})});else return null}}}function yv(t,e){return t.nodeType!=1?0:(e&&t.childNodes[e-1].contentEditable=="false"?1:0)|(e<t.childNodes.length&&t.childNodes[e].contentEditable=="false"?2:0)}let kv=class{constructor(){this.changes=[]}compareRange(e,i){zs(e,i,this.changes)}comparePoint(e,i){zs(e,i,this.changes)}boundChange(e){zs(e,e,this.changes)}};function vv(t,e,i){let n=new kv;return Se.compare(t,e,i,n),n.changes}function Sv(t,e){for(let i=t;i&&i!=e;i=i.assignedSlot||i.parentNode)if(i.nodeType==1&&i.contentEditable=="false")return!0;return!1}function wv(t,e){let i=!1;return e&&t.iterChangedRanges((n,r)=>{n<e.to&&r>e.from&&(i=!0)}),i}function Qv(t,e,i=1){let n=t.charCategorizer(e),r=t.doc.lineAt(e),s=e-r.from;if(r.length==0)return M.cursor(e);s==0?i=1:s==r.length&&(i=-1);let o=s,l=s;i<0?o=Ve(r.text,s,!1):l=Ve(r.text,s);let a=n(r.text.slice(o,l));for(;o>0;){let u=Ve(r.text,o,!1);if(n(r.text.slice(u,o))!=a)break;o=u}for(;l<r.length;){let u=Ve(r.text,l);if(n(r.text.slice(l,u))!=a)break;l=u}return M.range(o+r.from,l+r.from)}function $v(t,e){return e.left>t?e.left-t:Math.max(0,t-e.right)}function _v(t,e){return e.top>t?e.top-t:Math.max(0,t-e.bottom)}function sl(t,e){return t.top<e.bottom-1&&t.bottom>e.top+1}function kh(t,e){return e<t.top?{top:e,left:t.left,right:t.right,bottom:t.bottom}:t}function vh(t,e){return e>t.bottom?{top:t.top,left:t.left,right:t.right,bottom:e}:t}function Pa(t,e,i){let n,r,s,o,l=!1,a,u,c,h;for(let p=t.firstChild;p;p=p.nextSibling){let m=fn(p);for(let O=0;O<m.length;O++){let g=m[O];r&&sl(r,g)&&(g=kh(vh(g,r.bottom),r.top));let b=$v(e,g),S=_v(i,g);if(b==0&&S==0)return p.nodeType==3?Sh(p,e,i):Pa(p,e,i);(!n||o>S||o==S&&s>b)&&(n=p,r=g,s=b,o=S,l=b?e<g.left?O>0:O<m.length-1:!0),b==0?i>g.bottom&&(!c||c.bottom<g.bottom)?(a=p,c=g):i<g.top&&(!h||h.top>g.top)&&(u=p,h=g):c&&sl(c,g)?c=vh(c,g.bottom):h&&sl(h,g)&&(h=kh(h,g.top))}}if(c&&c.bottom>=i?(n=a,r=c):h&&h.top<=i&&(n=u,r=h),!n)return{node:t,offset:0};let f=Math.max(r.left,Math.min(r.right,e));if(n.nodeType==3)return Sh(n,f,i);if(l&&n.contentEditable!="false")return Pa(n,f,i);let d=Array.prototype.indexOf.call(t.childNodes,n)+(e>=(r.left+r.right)/2?1:0);return{node:t,offset:d}}function Sh(t,e,i){let n=t.nodeValue.length,r=-1,s=1e9,o=0;for(let l=0;l<n;l++){let a=Vi(t,l,l+1).getClientRects();for(let u=0;u<a.length;u++){let c=a[u];if(c.top==c.bottom)continue;o||(o=e-c.left);let h=(c.top>i?c.top-i:i-c.bottom)-1;if(c.left-1<=e&&c.right+1>=e&&h<s){let f=e>=(c.left+c.right)/2,d=f;if(N.chrome||N.gecko){let p=Vi(t,l).getBoundingClientRect();Math.abs(p.left-c.right)<.1&&(d=!f)}if(h<=0)return{node:t,offset:l+(d?1:0)};r=l+(d?1:0),s=h}}}return{node:t,offset:r>-1?r:o>0?t.nodeValue.length:0}}function q0(t,e,i,n=-1){var r,s;let o=t.contentDOM.getBoundingClientRect(),l=o.top+t.viewState.paddingTop,a,{docHeight:u}=t.viewState,{x:c,y:h}=e,f=h-l;if(f<0)return 0;if(f>u)return t.state.doc.length;for(let x=t.viewState.heightOracle.textHeight/2,y=!1;a=t.elementAtHeight(f),a.type!=dt.Text;)for(;f=n>0?a.bottom+x:a.top-x,!(f>=0&&f<=u);){if(y)return i?null:0;y=!0,n=-n}h=l+f;let d=a.from;if(d<t.viewport.from)return t.viewport.from==0?0:i?null:wh(t,o,a,c,h);if(d>t.viewport.to)return t.viewport.to==t.state.doc.length?t.state.doc.length:i?null:wh(t,o,a,c,h);let p=t.dom.ownerDocument,m=t.root.elementFromPoint?t.root:p,O=m.elementFromPoint(c,h);O&&!t.contentDOM.contains(O)&&(O=null),O||(c=Math.max(o.left+1,Math.min(o.right-1,c)),O=m.elementFromPoint(c,h),O&&!t.contentDOM.contains(O)&&(O=null));let g,b=-1;if(O&&((r=t.docView.nearest(O))===null||r===void 0?void 0:r.isEditable)!=!1){if(p.caretPositionFromPoint){let x=p.caretPositionFromPoint(c,h);x&&({offsetNode:g,offset:b}=x)}else if(p.caretRangeFromPoint){let x=p.caretRangeFromPoint(c,h);x&&({startContainer:g,startOffset:b}=x)}g&&(!t.contentDOM.contains(g)||N.safari&&Pv(g,b,c)||N.chrome&&Cv(g,b,c))&&(g=void 0),g&&(b=Math.min(Nt(g),b))}if(!g||!t.docView.dom.contains(g)){let x=Te.find(t.docView,d);if(!x)return f>a.top+a.height/2?a.to:a.from;({node:g,offset:b}=Pa(x.dom,c,h))}let S=t.docView.nearest(g);if(!S)return null;if(S.isWidget&&((s=S.dom)===null||s===void 0?void 0:s.nodeType)==1){let x=S.dom.getBoundingClientRect();return e.y<x.top||e.y<=x.bottom&&e.x<=(x.left+x.right)/2?S.posAtStart:S.posAtEnd}else return S.localPosFromDOM(g,b)+S.posAtStart}function wh(t,e,i,n,r){let s=Math.round((n-e.left)*t.defaultCharacterWidth);if(t.lineWrapping&&i.height>t.defaultLineHeight*1.5){let l=t.viewState.heightOracle.textHeight,a=Math.floor((r-i.top-(t.defaultLineHeight-l)*.5)/l);s+=a*t.viewState.heightOracle.lineLength}let o=t.state.sliceDoc(i.from,i.to);return i.from+qk(o,s,t.state.tabSize)}function j0(t,e,i){let n,r=t;if(t.nodeType!=3||e!=(n=t.nodeValue.length))return!1;for(;;){let s=r.nextSibling;if(s){if(s.nodeName=="BR")break;return!1}else{let o=r.parentNode;if(!o||o.nodeName=="DIV")break;r=o}}return Vi(t,n-1,n).getBoundingClientRect().right>i}function Pv(t,e,i){return j0(t,e,i)}function Cv(t,e,i){if(e!=0)return j0(t,e,i);for(let r=t;;){let s=r.parentNode;if(!s||s.nodeType!=1||s.firstChild!=r)return!1;if(s.classList.contains("cm-line"))break;r=s}let n=t.nodeType==1?t.getBoundingClientRect():Vi(t,0,Math.max(t.nodeValue.length,1)).getBoundingClientRect();return i-n.left>5}function Ca(t,e,i){let n=t.lineBlockAt(e);if(Array.isArray(n.type)){let r;for(let s of n.type){if(s.from>e)break;if(!(s.to<e)){if(s.from<e&&s.to>e)return s;(!r||s.type==dt.Text&&(r.type!=s.type||(i<0?s.from<e:s.to>e)))&&(r=s)}}return r||n}return n}function Tv(t,e,i,n){let r=Ca(t,e.head,e.assoc||-1),s=!n||r.type!=dt.Text||!(t.lineWrapping||r.widgetLineBreaks)?null:t.coordsAtPos(e.assoc<0&&e.head>r.from?e.head-1:e.head);if(s){let o=t.dom.getBoundingClientRect(),l=t.textDirectionAt(r.from),a=t.posAtCoords({x:i==(l==_e.LTR)?o.right-1:o.left+1,y:(s.top+s.bottom)/2});if(a!=null)return M.cursor(a,i?-1:1)}return M.cursor(i?r.to:r.from,i?-1:1)}function Qh(t,e,i,n){let r=t.state.doc.lineAt(e.head),s=t.bidiSpans(r),o=t.textDirectionAt(r.from);for(let l=e,a=null;;){let u=mv(r,s,o,l,i),c=P0;if(!u){if(r.number==(i?t.state.doc.lines:1))return l;c=`
+`,r=t.state.doc.line(r.number+(i?1:-1)),s=t.bidiSpans(r),u=t.visualLineSide(r,!i)}if(a){if(!a(c))return l}else{if(!n)return u;a=n(c)}l=u}}function Av(t,e,i){let n=t.state.charCategorizer(e),r=n(i);return s=>{let o=n(s);return r==Fe.Space&&(r=o),r==o}}function Ev(t,e,i,n){let r=e.head,s=i?1:-1;if(r==(i?t.state.doc.length:0))return M.cursor(r,e.assoc);let o=e.goalColumn,l,a=t.contentDOM.getBoundingClientRect(),u=t.coordsAtPos(r,e.assoc||-1),c=t.documentTop;if(u)o==null&&(o=u.left-a.left),l=s<0?u.top:u.bottom;else{let d=t.viewState.lineBlockAt(r);o==null&&(o=Math.min(a.right-a.left,t.defaultCharacterWidth*(r-d.from))),l=(s<0?d.top:d.bottom)+c}let h=a.left+o,f=n??t.viewState.heightOracle.textHeight>>1;for(let d=0;;d+=10){let p=l+(f+d)*s,m=q0(t,{x:h,y:p},!1,s);if(p<a.top||p>a.bottom||(s<0?m<r:m>r)){let O=t.docView.coordsForChar(m),g=!O||p<O.top?-1:1;return M.cursor(m,g,void 0,o)}}}function sr(t,e,i){for(;;){let n=0;for(let r of t)r.between(e-1,e+1,(s,o,l)=>{if(e>s&&e<o){let a=n||i||(e-s<o-e?-1:1);e=a<0?s:o,n=a}});if(!n)return e}}function Y0(t,e){let i=null;for(let n=0;n<e.ranges.length;n++){let r=e.ranges[n],s=null;if(r.empty){let o=sr(t,r.from,0);o!=r.from&&(s=M.cursor(o,-1))}else{let o=sr(t,r.from,-1),l=sr(t,r.to,1);(o!=r.from||l!=r.to)&&(s=M.range(r.from==r.anchor?o:l,r.from==r.head?o:l))}s&&(i||(i=e.ranges.slice()),i[n]=s)}return i?M.create(i,e.mainIndex):e}function ol(t,e,i){let n=sr(t.state.facet(Fr).map(r=>r(t)),i.from,e.head>i.from?-1:1);return n==i.from?i:M.cursor(n,n<i.from?1:-1)}const Nn="￿";class Dv{constructor(e,i){this.points=e,this.text="",this.lineSeparator=i.facet(ae.lineSeparator)}append(e){this.text+=e}lineBreak(){this.text+=Nn}readRange(e,i){if(!e)return this;let n=e.parentNode;for(let r=e;;){this.findPointBefore(n,r);let s=this.text.length;this.readNode(r);let o=r.nextSibling;if(o==i)break;let l=ge.get(r),a=ge.get(o);(l&&a?l.breakAfter:(l?l.breakAfter:eo(r))||eo(o)&&(r.nodeName!="BR"||r.cmIgnore)&&this.text.length>s)&&!Rv(o,i)&&this.lineBreak(),r=o}return this.findPointBefore(n,i),this}readTextNode(e){let i=e.nodeValue;for(let n of this.points)n.node==e&&(n.pos=this.text.length+Math.min(n.offset,i.length));for(let n=0,r=this.lineSeparator?null:/\r\n?|\n/g;;){let s=-1,o=1,l;if(this.lineSeparator?(s=i.indexOf(this.lineSeparator,n),o=this.lineSeparator.length):(l=r.exec(i))&&(s=l.index,o=l[0].length),this.append(i.slice(n,s<0?i.length:s)),s<0)break;if(this.lineBreak(),o>1)for(let a of this.points)a.node==e&&a.pos>this.text.length&&(a.pos-=o-1);n=s+o}}readNode(e){if(e.cmIgnore)return;let i=ge.get(e),n=i&&i.overrideDOMText;if(n!=null){this.findPointInside(e,n.length);for(let r=n.iter();!r.next().done;)r.lineBreak?this.lineBreak():this.append(r.value)}else e.nodeType==3?this.readTextNode(e):e.nodeName=="BR"?e.nextSibling&&this.lineBreak():e.nodeType==1&&this.readRange(e.firstChild,null)}findPointBefore(e,i){for(let n of this.points)n.node==e&&e.childNodes[n.offset]==i&&(n.pos=this.text.length)}findPointInside(e,i){for(let n of this.points)(e.nodeType==3?n.node==e:e.contains(n.node))&&(n.pos=this.text.length+(Mv(e,n.node,n.offset)?i:0))}}function Mv(t,e,i){for(;;){if(!e||i<Nt(e))return!1;if(e==t)return!0;i=Xi(e)+1,e=e.parentNode}}function Rv(t,e){let i;for(;!(t==e||!t);t=t.nextSibling){let n=ge.get(t);if(!(n?.isWidget||t.cmIgnore))return!1;n&&(i||(i=[])).push(n)}if(i)for(let n of i){let r=n.overrideDOMText;if(r?.length)return!1}return!0}class $h{constructor(e,i){this.node=e,this.offset=i,this.pos=-1}}class Lv{constructor(e,i,n,r){this.typeOver=r,this.bounds=null,this.text="",this.domChanged=i>-1;let{impreciseHead:s,impreciseAnchor:o}=e.docView;if(e.state.readOnly&&i>-1)this.newSel=null;else if(i>-1&&(this.bounds=e.docView.domBoundsAround(i,n,0))){let l=s||o?[]:Iv(e),a=new Dv(l,e.state);a.readRange(this.bounds.startDOM,this.bounds.endDOM),this.text=a.text,this.newSel=zv(l,this.bounds.from)}else{let l=e.observer.selectionRange,a=s&&s.node==l.focusNode&&s.offset==l.focusOffset||!ya(e.contentDOM,l.focusNode)?e.state.selection.main.head:e.docView.posFromDOM(l.focusNode,l.focusOffset),u=o&&o.node==l.anchorNode&&o.offset==l.anchorOffset||!ya(e.contentDOM,l.anchorNode)?e.state.selection.main.anchor:e.docView.posFromDOM(l.anchorNode,l.anchorOffset),c=e.viewport;if((N.ios||N.chrome)&&e.state.selection.main.empty&&a!=u&&(c.from>0||c.to<e.state.doc.length)){let h=Math.min(a,u),f=Math.max(a,u),d=c.from-h,p=c.to-f;(d==0||d==1||h==0)&&(p==0||p==-1||f==e.state.doc.length)&&(a=0,u=e.state.doc.length)}e.inputState.composing>-1&&e.state.selection.ranges.length>1?this.newSel=e.state.selection.replaceRange(M.range(u,a)):this.newSel=M.single(u,a)}}}function N0(t,e){let i,{newSel:n}=e,r=t.state.selection.main,s=t.inputState.lastKeyTime>Date.now()-100?t.inputState.lastKeyCode:-1;if(e.bounds){let{from:o,to:l}=e.bounds,a=r.from,u=null;(s===8||N.android&&e.text.length<l-o)&&(a=r.to,u="end");let c=W0(t.state.doc.sliceString(o,l,Nn),e.text,a-o,u);c&&(N.chrome&&s==13&&c.toB==c.from+2&&e.text.slice(c.from,c.toB)==Nn+Nn&&c.toB--,i={from:o+c.from,to:o+c.toA,insert:ue.of(e.text.slice(c.from,c.toB).split(Nn))})}else n&&(!t.hasFocus&&t.state.facet(Kt)||n.main.eq(r))&&(n=null);if(!i&&!n)return!1;if(!i&&e.typeOver&&!r.empty&&n&&n.main.empty?i={from:r.from,to:r.to,insert:t.state.doc.slice(r.from,r.to)}:(N.mac||N.android)&&i&&i.from==i.to&&i.from==r.head-1&&/^\. ?$/.test(i.insert.toString())&&t.contentDOM.getAttribute("autocorrect")=="off"?(n&&i.insert.length==2&&(n=M.single(n.main.anchor-1,n.main.head-1)),i={from:i.from,to:i.to,insert:ue.of([i.insert.toString().replace("."," ")])}):i&&i.from>=r.from&&i.to<=r.to&&(i.from!=r.from||i.to!=r.to)&&r.to-r.from-(i.to-i.from)<=4?i={from:r.from,to:r.to,insert:t.state.doc.slice(r.from,i.from).append(i.insert).append(t.state.doc.slice(i.to,r.to))}:t.state.doc.lineAt(r.from).to<r.to&&t.docView.lineHasWidget(r.to)&&t.inputState.insertingTextAt>Date.now()-50?i={from:r.from,to:r.to,insert:t.state.toText(t.inputState.insertingText)}:N.chrome&&i&&i.from==i.to&&i.from==r.head&&i.insert.toString()==`
+ `&&t.lineWrapping&&(n&&(n=M.single(n.main.anchor-1,n.main.head-1)),i={from:r.from,to:r.to,insert:ue.of([" "])}),i)return Qu(t,i,n,s);if(n&&!n.main.eq(r)){let o=!1,l="select";return t.inputState.lastSelectionTime>Date.now()-50&&(t.inputState.lastSelectionOrigin=="select"&&(o=!0),l=t.inputState.lastSelectionOrigin,l=="select.pointer"&&(n=Y0(t.state.facet(Fr).map(a=>a(t)),n))),t.dispatch({selection:n,scrollIntoView:o,userEvent:l}),!0}else return!1}function Qu(t,e,i,n=-1){if(N.ios&&t.inputState.flushIOSKey(e))return!0;let r=t.state.selection.main;if(N.android&&(e.to==r.to&&(e.from==r.from||e.from==r.from-1&&t.state.sliceDoc(e.from,r.from)==" ")&&e.insert.length==1&&e.insert.lines==2&&nn(t.contentDOM,"Enter",13)||(e.from==r.from-1&&e.to==r.to&&e.insert.length==0||n==8&&e.insert.length<e.to-e.from&&e.to>r.head)&&nn(t.contentDOM,"Backspace",8)||e.from==r.from&&e.to==r.to+1&&e.insert.length==0&&nn(t.contentDOM,"Delete",46)))return!0;let s=e.insert.toString();t.inputState.composing>=0&&t.inputState.composing++;let o,l=()=>o||(o=Zv(t,e,i));return t.state.facet(D0).some(a=>a(t,e.from,e.to,s,l))||t.dispatch(l()),!0}function Zv(t,e,i){let n,r=t.state,s=r.selection.main,o=-1;if(e.from==e.to&&e.from<s.from||e.from>s.to){let a=e.from<s.from?-1:1,u=a<0?s.from:s.to,c=sr(r.facet(Fr).map(h=>h(t)),u,a);e.from==c&&(o=c)}if(o>-1)n={changes:e,selection:M.cursor(e.from+e.insert.length,-1)};else if(e.from>=s.from&&e.to<=s.to&&e.to-e.from>=(s.to-s.from)/3&&(!i||i.main.empty&&i.main.from==e.from+e.insert.length)&&t.inputState.composing<0){let a=s.from<e.from?r.sliceDoc(s.from,e.from):"",u=s.to>e.to?r.sliceDoc(e.to,s.to):"";n=r.replaceSelection(t.state.toText(a+e.insert.sliceString(0,void 0,t.state.lineBreak)+u))}else{let a=r.changes(e),u=i&&i.main.to<=a.newLength?i.main:void 0;if(r.selection.ranges.length>1&&(t.inputState.composing>=0||t.inputState.compositionPendingChange)&&e.to<=s.to+10&&e.to>=s.to-10){let c=t.state.sliceDoc(e.from,e.to),h,f=i&&B0(t,i.main.head);if(f){let p=e.insert.length-(e.to-e.from);h={from:f.from,to:f.to-p}}else h=t.state.doc.lineAt(s.head);let d=s.to-e.to;n=r.changeByRange(p=>{if(p.from==s.from&&p.to==s.to)return{changes:a,range:u||p.map(a)};let m=p.to-d,O=m-c.length;if(t.state.sliceDoc(O,m)!=c||m>=h.from&&O<=h.to)return{range:p};let g=r.changes({from:O,to:m,insert:e.insert}),b=p.to-s.to;return{changes:g,range:u?M.range(Math.max(0,u.anchor+b),Math.max(0,u.head+b)):p.map(g)}})}else n={changes:a,selection:u&&r.selection.replaceRange(u)}}let l="input.type";return(t.composing||t.inputState.compositionPendingChange&&t.inputState.compositionEndedAt>Date.now()-50)&&(t.inputState.compositionPendingChange=!1,l+=".compose",t.inputState.compositionFirstChange&&(l+=".start",t.inputState.compositionFirstChange=!1)),r.update(n,{userEvent:l,scrollIntoView:!0})}function W0(t,e,i,n){let r=Math.min(t.length,e.length),s=0;for(;s<r&&t.charCodeAt(s)==e.charCodeAt(s);)s++;if(s==r&&t.length==e.length)return null;let o=t.length,l=e.length;for(;o>0&&l>0&&t.charCodeAt(o-1)==e.charCodeAt(l-1);)o--,l--;if(n=="end"){let a=Math.max(0,s-Math.min(o,l));i-=o+a-s}if(o<s&&t.length<e.length){let a=i<=s&&i>=o?s-i:0;s-=a,l=s+(l-o),o=s}else if(l<s){let a=i<=s&&i>=l?s-i:0;s-=a,o=s+(o-l),l=s}return{from:s,toA:o,toB:l}}function Iv(t){let e=[];if(t.root.activeElement!=t.contentDOM)return e;let{anchorNode:i,anchorOffset:n,focusNode:r,focusOffset:s}=t.observer.selectionRange;return i&&(e.push(new $h(i,n)),(r!=i||s!=n)&&e.push(new $h(r,s))),e}function zv(t,e){if(t.length==0)return null;let i=t[0].pos,n=t.length==2?t[1].pos:i;return i>-1&&n>-1?M.single(i+e,n+e):null}class Xv{setSelectionOrigin(e){this.lastSelectionOrigin=e,this.lastSelectionTime=Date.now()}constructor(e){this.view=e,this.lastKeyCode=0,this.lastKeyTime=0,this.lastTouchTime=0,this.lastFocusTime=0,this.lastScrollTop=0,this.lastScrollLeft=0,this.pendingIOSKey=void 0,this.tabFocusMode=-1,this.lastSelectionOrigin=null,this.lastSelectionTime=0,this.lastContextMenu=0,this.scrollHandlers=[],this.handlers=Object.create(null),this.composing=-1,this.compositionFirstChange=null,this.compositionEndedAt=0,this.compositionPendingKey=!1,this.compositionPendingChange=!1,this.insertingText="",this.insertingTextAt=0,this.mouseSelection=null,this.draggedContent=null,this.handleEvent=this.handleEvent.bind(this),this.notifiedFocused=e.hasFocus,N.safari&&e.contentDOM.addEventListener("input",()=>null),N.gecko&&iS(e.contentDOM.ownerDocument)}handleEvent(e){!Wv(this.view,e)||this.ignoreDuringComposition(e)||e.type=="keydown"&&this.keydown(e)||(this.view.updateState!=0?Promise.resolve().then(()=>this.runHandlers(e.type,e)):this.runHandlers(e.type,e))}runHandlers(e,i){let n=this.handlers[e];if(n){for(let r of n.observers)r(this.view,i);for(let r of n.handlers){if(i.defaultPrevented)break;if(r(this.view,i)){i.preventDefault();break}}}}ensureHandlers(e){let i=Vv(e),n=this.handlers,r=this.view.contentDOM;for(let s in i)if(s!="scroll"){let o=!i[s].handlers.length,l=n[s];l&&o!=!l.handlers.length&&(r.removeEventListener(s,this.handleEvent),l=null),l||r.addEventListener(s,this.handleEvent,{passive:o})}for(let s in n)s!="scroll"&&!i[s]&&r.removeEventListener(s,this.handleEvent);this.handlers=i}keydown(e){if(this.lastKeyCode=e.keyCode,this.lastKeyTime=Date.now(),e.keyCode==9&&this.tabFocusMode>-1&&(!this.tabFocusMode||Date.now()<=this.tabFocusMode))return!0;if(this.tabFocusMode>0&&e.keyCode!=27&&U0.indexOf(e.keyCode)<0&&(this.tabFocusMode=-1),N.android&&N.chrome&&!e.synthetic&&(e.keyCode==13||e.keyCode==8))return this.view.observer.delayAndroidKey(e.key,e.keyCode),!0;let i;return N.ios&&!e.synthetic&&!e.altKey&&!e.metaKey&&((i=G0.find(n=>n.keyCode==e.keyCode))&&!e.ctrlKey||Fv.indexOf(e.key)>-1&&e.ctrlKey&&!e.shiftKey)?(this.pendingIOSKey=i||e,setTimeout(()=>this.flushIOSKey(),250),!0):(e.keyCode!=229&&this.view.observer.forceFlush(),!1)}flushIOSKey(e){let i=this.pendingIOSKey;return!i||i.key=="Enter"&&e&&e.from<e.to&&/^\S+$/.test(e.insert.toString())?!1:(this.pendingIOSKey=void 0,nn(this.view.contentDOM,i.key,i.keyCode,i instanceof KeyboardEvent?i:void 0))}ignoreDuringComposition(e){return!/^key/.test(e.type)||e.synthetic?!1:this.composing>0?!0:N.safari&&!N.ios&&this.compositionPendingKey&&Date.now()-this.compositionEndedAt<100?(this.compositionPendingKey=!1,!0):!1}startMouseSelection(e){this.mouseSelection&&this.mouseSelection.destroy(),this.mouseSelection=e}update(e){this.view.observer.update(e),this.mouseSelection&&this.mouseSelection.update(e),this.draggedContent&&e.docChanged&&(this.draggedContent=this.draggedContent.map(e.changes)),e.transactions.length&&(this.lastKeyCode=this.lastSelectionTime=0)}destroy(){this.mouseSelection&&this.mouseSelection.destroy()}}function _h(t,e){return(i,n)=>{try{return e.call(t,n,i)}catch(r){ht(i.state,r)}}}function Vv(t){let e=Object.create(null);function i(n){return e[n]||(e[n]={observers:[],handlers:[]})}for(let n of t){let r=n.spec,s=r&&r.plugin.domEventHandlers,o=r&&r.plugin.domEventObservers;if(s)for(let l in s){let a=s[l];a&&i(l).handlers.push(_h(n.value,a))}if(o)for(let l in o){let a=o[l];a&&i(l).observers.push(_h(n.value,a))}}for(let n in Ct)i(n).handlers.push(Ct[n]);for(let n in Qt)i(n).observers.push(Qt[n]);return e}const G0=[{key:"Backspace",keyCode:8,inputType:"deleteContentBackward"},{key:"Enter",keyCode:13,inputType:"insertParagraph"},{key:"Enter",keyCode:13,inputType:"insertLineBreak"},{key:"Delete",keyCode:46,inputType:"deleteContentForward"}],Fv="dthko",U0=[16,17,18,20,91,92,224,225],os=6;function ls(t){return Math.max(0,t)*.7+8}function Bv(t,e){return Math.max(Math.abs(t.clientX-e.clientX),Math.abs(t.clientY-e.clientY))}class qv{constructor(e,i,n,r){this.view=e,this.startEvent=i,this.style=n,this.mustSelect=r,this.scrollSpeed={x:0,y:0},this.scrolling=-1,this.lastEvent=i,this.scrollParents=Kk(e.contentDOM),this.atoms=e.state.facet(Fr).map(o=>o(e));let s=e.contentDOM.ownerDocument;s.addEventListener("mousemove",this.move=this.move.bind(this)),s.addEventListener("mouseup",this.up=this.up.bind(this)),this.extend=i.shiftKey,this.multiple=e.state.facet(ae.allowMultipleSelections)&&jv(e,i),this.dragging=Nv(e,i)&&J0(i)==1?null:!1}start(e){this.dragging===!1&&this.select(e)}move(e){if(e.buttons==0)return this.destroy();if(this.dragging||this.dragging==null&&Bv(this.startEvent,e)<10)return;this.select(this.lastEvent=e);let i=0,n=0,r=0,s=0,o=this.view.win.innerWidth,l=this.view.win.innerHeight;this.scrollParents.x&&({left:r,right:o}=this.scrollParents.x.getBoundingClientRect()),this.scrollParents.y&&({top:s,bottom:l}=this.scrollParents.y.getBoundingClientRect());let a=wu(this.view);e.clientX-a.left<=r+os?i=-ls(r-e.clientX):e.clientX+a.right>=o-os&&(i=ls(e.clientX-o)),e.clientY-a.top<=s+os?n=-ls(s-e.clientY):e.clientY+a.bottom>=l-os&&(n=ls(e.clientY-l)),this.setScrollSpeed(i,n)}up(e){this.dragging==null&&this.select(this.lastEvent),this.dragging||e.preventDefault(),this.destroy()}destroy(){this.setScrollSpeed(0,0);let e=this.view.contentDOM.ownerDocument;e.removeEventListener("mousemove",this.move),e.removeEventListener("mouseup",this.up),this.view.inputState.mouseSelection=this.view.inputState.draggedContent=null}setScrollSpeed(e,i){this.scrollSpeed={x:e,y:i},e||i?this.scrolling<0&&(this.scrolling=setInterval(()=>this.scroll(),50)):this.scrolling>-1&&(clearInterval(this.scrolling),this.scrolling=-1)}scroll(){let{x:e,y:i}=this.scrollSpeed;e&&this.scrollParents.x&&(this.scrollParents.x.scrollLeft+=e,e=0),i&&this.scrollParents.y&&(this.scrollParents.y.scrollTop+=i,i=0),(e||i)&&this.view.win.scrollBy(e,i),this.dragging===!1&&this.select(this.lastEvent)}select(e){let{view:i}=this,n=Y0(this.atoms,this.style.get(e,this.extend,this.multiple));(this.mustSelect||!n.eq(i.state.selection,this.dragging===!1))&&this.view.dispatch({selection:n,userEvent:"select.pointer"}),this.mustSelect=!1}update(e){e.transactions.some(i=>i.isUserEvent("input.type"))?this.destroy():this.style.update(e)&&setTimeout(()=>this.select(this.lastEvent),20)}}function jv(t,e){let i=t.state.facet(C0);return i.length?i[0](e):N.mac?e.metaKey:e.ctrlKey}function Yv(t,e){let i=t.state.facet(T0);return i.length?i[0](e):N.mac?!e.altKey:!e.ctrlKey}function Nv(t,e){let{main:i}=t.state.selection;if(i.empty)return!1;let n=br(t.root);if(!n||n.rangeCount==0)return!0;let r=n.getRangeAt(0).getClientRects();for(let s=0;s<r.length;s++){let o=r[s];if(o.left<=e.clientX&&o.right>=e.clientX&&o.top<=e.clientY&&o.bottom>=e.clientY)return!0}return!1}function Wv(t,e){if(!e.bubbles)return!0;if(e.defaultPrevented)return!1;for(let i=e.target,n;i!=t.contentDOM;i=i.parentNode)if(!i||i.nodeType==11||(n=ge.get(i))&&n.ignoreEvent(e))return!1;return!0}const Ct=Object.create(null),Qt=Object.create(null),H0=N.ie&&N.ie_version<15||N.ios&&N.webkit_version<604;function Gv(t){let e=t.dom.parentNode;if(!e)return;let i=e.appendChild(document.createElement("textarea"));i.style.cssText="position: fixed; left: -10000px; top: 10px",i.focus(),setTimeout(()=>{t.focus(),i.remove(),K0(t,i.value)},50)}function Ro(t,e,i){for(let n of t.facet(e))i=n(i,t);return i}function K0(t,e){e=Ro(t.state,ku,e);let{state:i}=t,n,r=1,s=i.toText(e),o=s.lines==i.selection.ranges.length;if(Ta!=null&&i.selection.ranges.every(a=>a.empty)&&Ta==s.toString()){let a=-1;n=i.changeByRange(u=>{let c=i.doc.lineAt(u.from);if(c.from==a)return{range:u};a=c.from;let h=i.toText((o?s.line(r++).text:e)+i.lineBreak);return{changes:{from:c.from,insert:h},range:M.cursor(u.from+h.length)}})}else o?n=i.changeByRange(a=>{let u=s.line(r++);return{changes:{from:a.from,to:a.to,insert:u.text},range:M.cursor(a.from+u.length)}}):n=i.replaceSelection(s);t.dispatch(n,{userEvent:"input.paste",scrollIntoView:!0})}Qt.scroll=t=>{t.inputState.lastScrollTop=t.scrollDOM.scrollTop,t.inputState.lastScrollLeft=t.scrollDOM.scrollLeft};Ct.keydown=(t,e)=>(t.inputState.setSelectionOrigin("select"),e.keyCode==27&&t.inputState.tabFocusMode!=0&&(t.inputState.tabFocusMode=Date.now()+2e3),!1);Qt.touchstart=(t,e)=>{t.inputState.lastTouchTime=Date.now(),t.inputState.setSelectionOrigin("select.pointer")};Qt.touchmove=t=>{t.inputState.setSelectionOrigin("select.pointer")};Ct.mousedown=(t,e)=>{if(t.observer.flush(),t.inputState.lastTouchTime>Date.now()-2e3)return!1;let i=null;for(let n of t.state.facet(A0))if(i=n(t,e),i)break;if(!i&&e.button==0&&(i=Kv(t,e)),i){let n=!t.hasFocus;t.inputState.startMouseSelection(new qv(t,e,i,n)),n&&t.observer.ignore(()=>{f0(t.contentDOM);let s=t.root.activeElement;s&&!s.contains(t.contentDOM)&&s.blur()});let r=t.inputState.mouseSelection;if(r)return r.start(e),r.dragging===!1}else t.inputState.setSelectionOrigin("select.pointer");return!1};function Ph(t,e,i,n){if(n==1)return M.cursor(e,i);if(n==2)return Qv(t.state,e,i);{let r=Te.find(t.docView,e),s=t.state.doc.lineAt(r?r.posAtEnd:e),o=r?r.posAtStart:s.from,l=r?r.posAtEnd:s.to;return l<t.state.doc.length&&l==s.to&&l++,M.range(o,l)}}let Ch=(t,e,i)=>e>=i.top&&e<=i.bottom&&t>=i.left&&t<=i.right;function Uv(t,e,i,n){let r=Te.find(t.docView,e);if(!r)return 1;let s=e-r.posAtStart;if(s==0)return 1;if(s==r.length)return-1;let o=r.coordsAt(s,-1);if(o&&Ch(i,n,o))return-1;let l=r.coordsAt(s,1);return l&&Ch(i,n,l)?1:o&&o.bottom>=n?-1:1}function Th(t,e){let i=t.posAtCoords({x:e.clientX,y:e.clientY},!1);return{pos:i,bias:Uv(t,i,e.clientX,e.clientY)}}const Hv=N.ie&&N.ie_version<=11;let Ah=null,Eh=0,Dh=0;function J0(t){if(!Hv)return t.detail;let e=Ah,i=Dh;return Ah=t,Dh=Date.now(),Eh=!e||i>Date.now()-400&&Math.abs(e.clientX-t.clientX)<2&&Math.abs(e.clientY-t.clientY)<2?(Eh+1)%3:1}function Kv(t,e){let i=Th(t,e),n=J0(e),r=t.state.selection;return{update(s){s.docChanged&&(i.pos=s.changes.mapPos(i.pos),r=r.map(s.changes))},get(s,o,l){let a=Th(t,s),u,c=Ph(t,a.pos,a.bias,n);if(i.pos!=a.pos&&!o){let h=Ph(t,i.pos,i.bias,n),f=Math.min(h.from,c.from),d=Math.max(h.to,c.to);c=f<c.from?M.range(f,d):M.range(d,f)}return o?r.replaceRange(r.main.extend(c.from,c.to)):l&&n==1&&r.ranges.length>1&&(u=Jv(r,a.pos))?u:l?r.addRange(c):M.create([c])}}}function Jv(t,e){for(let i=0;i<t.ranges.length;i++){let{from:n,to:r}=t.ranges[i];if(n<=e&&r>=e)return M.create(t.ranges.slice(0,i).concat(t.ranges.slice(i+1)),t.mainIndex==i?0:t.mainIndex-(t.mainIndex>i?1:0))}return null}Ct.dragstart=(t,e)=>{let{selection:{main:i}}=t.state;if(e.target.draggable){let r=t.docView.nearest(e.target);if(r&&r.isWidget){let s=r.posAtStart,o=s+r.length;(s>=i.to||o<=i.from)&&(i=M.range(s,o))}}let{inputState:n}=t;return n.mouseSelection&&(n.mouseSelection.dragging=!0),n.draggedContent=i,e.dataTransfer&&(e.dataTransfer.setData("Text",Ro(t.state,vu,t.state.sliceDoc(i.from,i.to))),e.dataTransfer.effectAllowed="copyMove"),!1};Ct.dragend=t=>(t.inputState.draggedContent=null,!1);function Mh(t,e,i,n){if(i=Ro(t.state,ku,i),!i)return;let r=t.posAtCoords({x:e.clientX,y:e.clientY},!1),{draggedContent:s}=t.inputState,o=n&&s&&Yv(t,e)?{from:s.from,to:s.to}:null,l={from:r,insert:i},a=t.state.changes(o?[o,l]:l);t.focus(),t.dispatch({changes:a,selection:{anchor:a.mapPos(r,-1),head:a.mapPos(r,1)},userEvent:o?"move.drop":"input.drop"}),t.inputState.draggedContent=null}Ct.drop=(t,e)=>{if(!e.dataTransfer)return!1;if(t.state.readOnly)return!0;let i=e.dataTransfer.files;if(i&&i.length){let n=Array(i.length),r=0,s=()=>{++r==i.length&&Mh(t,e,n.filter(o=>o!=null).join(t.state.lineBreak),!1)};for(let o=0;o<i.length;o++){let l=new FileReader;l.onerror=s,l.onload=()=>{/[\x00-\x08\x0e-\x1f]{2}/.test(l.result)||(n[o]=l.result),s()},l.readAsText(i[o])}return!0}else{let n=e.dataTransfer.getData("Text");if(n)return Mh(t,e,n,!0),!0}return!1};Ct.paste=(t,e)=>{if(t.state.readOnly)return!0;t.observer.flush();let i=H0?null:e.clipboardData;return i?(K0(t,i.getData("text/plain")||i.getData("text/uri-list")),!0):(Gv(t),!1)};function eS(t,e){let i=t.dom.parentNode;if(!i)return;let n=i.appendChild(document.createElement("textarea"));n.style.cssText="position: fixed; left: -10000px; top: 10px",n.value=e,n.focus(),n.selectionEnd=e.length,n.selectionStart=0,setTimeout(()=>{n.remove(),t.focus()},50)}function tS(t){let e=[],i=[],n=!1;for(let r of t.selection.ranges)r.empty||(e.push(t.sliceDoc(r.from,r.to)),i.push(r));if(!e.length){let r=-1;for(let{from:s}of t.selection.ranges){let o=t.doc.lineAt(s);o.number>r&&(e.push(o.text),i.push({from:o.from,to:Math.min(t.doc.length,o.to+1)})),r=o.number}n=!0}return{text:Ro(t,vu,e.join(t.lineBreak)),ranges:i,linewise:n}}let Ta=null;Ct.copy=Ct.cut=(t,e)=>{let{text:i,ranges:n,linewise:r}=tS(t.state);if(!i&&!r)return!1;Ta=r?i:null,e.type=="cut"&&!t.state.readOnly&&t.dispatch({changes:n,scrollIntoView:!0,userEvent:"delete.cut"});let s=H0?null:e.clipboardData;return s?(s.clearData(),s.setData("text/plain",i),!0):(eS(t,i),!1)};const em=si.define();function tm(t,e){let i=[];for(let n of t.facet(M0)){let r=n(t,e);r&&i.push(r)}return i.length?t.update({effects:i,annotations:em.of(!0)}):null}function im(t){setTimeout(()=>{let e=t.hasFocus;if(e!=t.inputState.notifiedFocused){let i=tm(t.state,e);i?t.dispatch(i):t.update([])}},10)}Qt.focus=t=>{t.inputState.lastFocusTime=Date.now(),!t.scrollDOM.scrollTop&&(t.inputState.lastScrollTop||t.inputState.lastScrollLeft)&&(t.scrollDOM.scrollTop=t.inputState.lastScrollTop,t.scrollDOM.scrollLeft=t.inputState.lastScrollLeft),im(t)};Qt.blur=t=>{t.observer.clearSelectionRange(),im(t)};Qt.compositionstart=Qt.compositionupdate=t=>{t.observer.editContext||(t.inputState.compositionFirstChange==null&&(t.inputState.compositionFirstChange=!0),t.inputState.composing<0&&(t.inputState.composing=0))};Qt.compositionend=t=>{t.observer.editContext||(t.inputState.composing=-1,t.inputState.compositionEndedAt=Date.now(),t.inputState.compositionPendingKey=!0,t.inputState.compositionPendingChange=t.observer.pendingRecords().length>0,t.inputState.compositionFirstChange=null,N.chrome&&N.android?t.observer.flushSoon():t.inputState.compositionPendingChange?Promise.resolve().then(()=>t.observer.flush()):setTimeout(()=>{t.inputState.composing<0&&t.docView.hasComposition&&t.update([])},50))};Qt.contextmenu=t=>{t.inputState.lastContextMenu=Date.now()};Ct.beforeinput=(t,e)=>{var i,n;if((e.inputType=="insertText"||e.inputType=="insertCompositionText")&&(t.inputState.insertingText=e.data,t.inputState.insertingTextAt=Date.now()),e.inputType=="insertReplacementText"&&t.observer.editContext){let s=(i=e.dataTransfer)===null||i===void 0?void 0:i.getData("text/plain"),o=e.getTargetRanges();if(s&&o.length){let l=o[0],a=t.posAtDOM(l.startContainer,l.startOffset),u=t.posAtDOM(l.endContainer,l.endOffset);return Qu(t,{from:a,to:u,insert:t.state.toText(s)},null),!0}}let r;if(N.chrome&&N.android&&(r=G0.find(s=>s.inputType==e.inputType))&&(t.observer.delayAndroidKey(r.key,r.keyCode),r.key=="Backspace"||r.key=="Delete")){let s=((n=window.visualViewport)===null||n===void 0?void 0:n.height)||0;setTimeout(()=>{var o;(((o=window.visualViewport)===null||o===void 0?void 0:o.height)||0)>s+10&&t.hasFocus&&(t.contentDOM.blur(),t.focus())},100)}return N.ios&&e.inputType=="deleteContentForward"&&t.observer.flushSoon(),N.safari&&e.inputType=="insertText"&&t.inputState.composing>=0&&setTimeout(()=>Qt.compositionend(t,e),20),!1};const Rh=new Set;function iS(t){Rh.has(t)||(Rh.add(t),t.addEventListener("copy",()=>{}),t.addEventListener("cut",()=>{}))}const Lh=["pre-wrap","normal","pre-line","break-spaces"];let mn=!1;function Zh(){mn=!1}class nS{constructor(e){this.lineWrapping=e,this.doc=ue.empty,this.heightSamples={},this.lineHeight=14,this.charWidth=7,this.textHeight=14,this.lineLength=30}heightForGap(e,i){let n=this.doc.lineAt(i).number-this.doc.lineAt(e).number+1;return this.lineWrapping&&(n+=Math.max(0,Math.ceil((i-e-n*this.lineLength*.5)/this.lineLength))),this.lineHeight*n}heightForLine(e){return this.lineWrapping?(1+Math.max(0,Math.ceil((e-this.lineLength)/Math.max(1,this.lineLength-5))))*this.lineHeight:this.lineHeight}setDoc(e){return this.doc=e,this}mustRefreshForWrapping(e){return Lh.indexOf(e)>-1!=this.lineWrapping}mustRefreshForHeights(e){let i=!1;for(let n=0;n<e.length;n++){let r=e[n];r<0?n++:this.heightSamples[Math.floor(r*10)]||(i=!0,this.heightSamples[Math.floor(r*10)]=!0)}return i}refresh(e,i,n,r,s,o){let l=Lh.indexOf(e)>-1,a=Math.round(i)!=Math.round(this.lineHeight)||this.lineWrapping!=l;if(this.lineWrapping=l,this.lineHeight=i,this.charWidth=n,this.textHeight=r,this.lineLength=s,a){this.heightSamples={};for(let u=0;u<o.length;u++){let c=o[u];c<0?u++:this.heightSamples[Math.floor(c*10)]=!0}}return a}}class rS{constructor(e,i){this.from=e,this.heights=i,this.index=0}get more(){return this.index<this.heights.length}}class Xt{constructor(e,i,n,r,s){this.from=e,this.length=i,this.top=n,this.height=r,this._content=s}get type(){return typeof this._content=="number"?dt.Text:Array.isArray(this._content)?this._content:this._content.type}get to(){return this.from+this.length}get bottom(){return this.top+this.height}get widget(){return this._content instanceof wi?this._content.widget:null}get widgetLineBreaks(){return typeof this._content=="number"?this._content:0}join(e){let i=(Array.isArray(this._content)?this._content:[this]).concat(Array.isArray(e._content)?e._content:[e]);return new Xt(this.from,this.length+e.length,this.top,this.height+e.height,i)}}var ve=(function(t){return t[t.ByPos=0]="ByPos",t[t.ByHeight=1]="ByHeight",t[t.ByPosNoHeight=2]="ByPosNoHeight",t})(ve||(ve={}));const Xs=.001;class Ue{constructor(e,i,n=2){this.length=e,this.height=i,this.flags=n}get outdated(){return(this.flags&2)>0}set outdated(e){this.flags=(e?2:0)|this.flags&-3}setHeight(e){this.height!=e&&(Math.abs(this.height-e)>Xs&&(mn=!0),this.height=e)}replace(e,i,n){return Ue.of(n)}decomposeLeft(e,i){i.push(this)}decomposeRight(e,i){i.push(this)}applyChanges(e,i,n,r){let s=this,o=n.doc;for(let l=r.length-1;l>=0;l--){let{fromA:a,toA:u,fromB:c,toB:h}=r[l],f=s.lineAt(a,ve.ByPosNoHeight,n.setDoc(i),0,0),d=f.to>=u?f:s.lineAt(u,ve.ByPosNoHeight,n,0,0);for(h+=d.to-u,u=d.to;l>0&&f.from<=r[l-1].toA;)a=r[l-1].fromA,c=r[l-1].fromB,l--,a<f.from&&(f=s.lineAt(a,ve.ByPosNoHeight,n,0,0));c+=f.from-a,a=f.from;let p=$u.build(n.setDoc(o),e,c,h);s=no(s,s.replace(a,u,p))}return s.updateHeight(n,0)}static empty(){return new ot(0,0)}static of(e){if(e.length==1)return e[0];let i=0,n=e.length,r=0,s=0;for(;;)if(i==n)if(r>s*2){let l=e[i-1];l.break?e.splice(--i,1,l.left,null,l.right):e.splice(--i,1,l.left,l.right),n+=1+l.break,r-=l.size}else if(s>r*2){let l=e[n];l.break?e.splice(n,1,l.left,null,l.right):e.splice(n,1,l.left,l.right),n+=2+l.break,s-=l.size}else break;else if(r<s){let l=e[i++];l&&(r+=l.size)}else{let l=e[--n];l&&(s+=l.size)}let o=0;return e[i-1]==null?(o=1,i--):e[i]==null&&(o=1,n++),new sS(Ue.of(e.slice(0,i)),o,Ue.of(e.slice(n)))}}function no(t,e){return t==e?t:(t.constructor!=e.constructor&&(mn=!0),e)}Ue.prototype.size=1;class nm extends Ue{constructor(e,i,n){super(e,i),this.deco=n}blockAt(e,i,n,r){return new Xt(r,this.length,n,this.height,this.deco||0)}lineAt(e,i,n,r,s){return this.blockAt(0,n,r,s)}forEachLine(e,i,n,r,s,o){e<=s+this.length&&i>=s&&o(this.blockAt(0,n,r,s))}updateHeight(e,i=0,n=!1,r){return r&&r.from<=i&&r.more&&this.setHeight(r.heights[r.index++]),this.outdated=!1,this}toString(){return`block(${this.length})`}}class ot extends nm{constructor(e,i){super(e,i,null),this.collapsed=0,this.widgetHeight=0,this.breaks=0}blockAt(e,i,n,r){return new Xt(r,this.length,n,this.height,this.breaks)}replace(e,i,n){let r=n[0];return n.length==1&&(r instanceof ot||r instanceof ze&&r.flags&4)&&Math.abs(this.length-r.length)<10?(r instanceof ze?r=new ot(r.length,this.height):r.height=this.height,this.outdated||(r.outdated=!1),r):Ue.of(n)}updateHeight(e,i=0,n=!1,r){return r&&r.from<=i&&r.more?this.setHeight(r.heights[r.index++]):(n||this.outdated)&&this.setHeight(Math.max(this.widgetHeight,e.heightForLine(this.length-this.collapsed))+this.breaks*e.lineHeight),this.outdated=!1,this}toString(){return`line(${this.length}${this.collapsed?-this.collapsed:""}${this.widgetHeight?":"+this.widgetHeight:""})`}}class ze extends Ue{constructor(e){super(e,0)}heightMetrics(e,i){let n=e.doc.lineAt(i).number,r=e.doc.lineAt(i+this.length).number,s=r-n+1,o,l=0;if(e.lineWrapping){let a=Math.min(this.height,e.lineHeight*s);o=a/s,this.length>s+1&&(l=(this.height-a)/(this.length-s-1))}else o=this.height/s;return{firstLine:n,lastLine:r,perLine:o,perChar:l}}blockAt(e,i,n,r){let{firstLine:s,lastLine:o,perLine:l,perChar:a}=this.heightMetrics(i,r);if(i.lineWrapping){let u=r+(e<i.lineHeight?0:Math.round(Math.max(0,Math.min(1,(e-n)/this.height))*this.length)),c=i.doc.lineAt(u),h=l+c.length*a,f=Math.max(n,e-h/2);return new Xt(c.from,c.length,f,h,0)}else{let u=Math.max(0,Math.min(o-s,Math.floor((e-n)/l))),{from:c,length:h}=i.doc.line(s+u);return new Xt(c,h,n+l*u,l,0)}}lineAt(e,i,n,r,s){if(i==ve.ByHeight)return this.blockAt(e,n,r,s);if(i==ve.ByPosNoHeight){let{from:d,to:p}=n.doc.lineAt(e);return new Xt(d,p-d,0,0,0)}let{firstLine:o,perLine:l,perChar:a}=this.heightMetrics(n,s),u=n.doc.lineAt(e),c=l+u.length*a,h=u.number-o,f=r+l*h+a*(u.from-s-h);return new Xt(u.from,u.length,Math.max(r,Math.min(f,r+this.height-c)),c,0)}forEachLine(e,i,n,r,s,o){e=Math.max(e,s),i=Math.min(i,s+this.length);let{firstLine:l,perLine:a,perChar:u}=this.heightMetrics(n,s);for(let c=e,h=r;c<=i;){let f=n.doc.lineAt(c);if(c==e){let p=f.number-l;h+=a*p+u*(e-s-p)}let d=a+u*f.length;o(new Xt(f.from,f.length,h,d,0)),h+=d,c=f.to+1}}replace(e,i,n){let r=this.length-i;if(r>0){let s=n[n.length-1];s instanceof ze?n[n.length-1]=new ze(s.length+r):n.push(null,new ze(r-1))}if(e>0){let s=n[0];s instanceof ze?n[0]=new ze(e+s.length):n.unshift(new ze(e-1),null)}return Ue.of(n)}decomposeLeft(e,i){i.push(new ze(e-1),null)}decomposeRight(e,i){i.push(null,new ze(this.length-e-1))}updateHeight(e,i=0,n=!1,r){let s=i+this.length;if(r&&r.from<=i+this.length&&r.more){let o=[],l=Math.max(i,r.from),a=-1;for(r.from>i&&o.push(new ze(r.from-i-1).updateHeight(e,i));l<=s&&r.more;){let c=e.doc.lineAt(l).length;o.length&&o.push(null);let h=r.heights[r.index++];a==-1?a=h:Math.abs(h-a)>=Xs&&(a=-2);let f=new ot(c,h);f.outdated=!1,o.push(f),l+=c+1}l<=s&&o.push(null,new ze(s-l).updateHeight(e,l));let u=Ue.of(o);return(a<0||Math.abs(u.height-this.height)>=Xs||Math.abs(a-this.heightMetrics(e,i).perLine)>=Xs)&&(mn=!0),no(this,u)}else(n||this.outdated)&&(this.setHeight(e.heightForGap(i,i+this.length)),this.outdated=!1);return this}toString(){return`gap(${this.length})`}}class sS extends Ue{constructor(e,i,n){super(e.length+i+n.length,e.height+n.height,i|(e.outdated||n.outdated?2:0)),this.left=e,this.right=n,this.size=e.size+n.size}get break(){return this.flags&1}blockAt(e,i,n,r){let s=n+this.left.height;return e<s?this.left.blockAt(e,i,n,r):this.right.blockAt(e,i,s,r+this.left.length+this.break)}lineAt(e,i,n,r,s){let o=r+this.left.height,l=s+this.left.length+this.break,a=i==ve.ByHeight?e<o:e<l,u=a?this.left.lineAt(e,i,n,r,s):this.right.lineAt(e,i,n,o,l);if(this.break||(a?u.to<l:u.from>l))return u;let c=i==ve.ByPosNoHeight?ve.ByPosNoHeight:ve.ByPos;return a?u.join(this.right.lineAt(l,c,n,o,l)):this.left.lineAt(l,c,n,r,s).join(u)}forEachLine(e,i,n,r,s,o){let l=r+this.left.height,a=s+this.left.length+this.break;if(this.break)e<a&&this.left.forEachLine(e,i,n,r,s,o),i>=a&&this.right.forEachLine(e,i,n,l,a,o);else{let u=this.lineAt(a,ve.ByPos,n,r,s);e<u.from&&this.left.forEachLine(e,u.from-1,n,r,s,o),u.to>=e&&u.from<=i&&o(u),i>u.to&&this.right.forEachLine(u.to+1,i,n,l,a,o)}}replace(e,i,n){let r=this.left.length+this.break;if(i<r)return this.balanced(this.left.replace(e,i,n),this.right);if(e>this.left.length)return this.balanced(this.left,this.right.replace(e-r,i-r,n));let s=[];e>0&&this.decomposeLeft(e,s);let o=s.length;for(let l of n)s.push(l);if(e>0&&Ih(s,o-1),i<this.length){let l=s.length;this.decomposeRight(i,s),Ih(s,l)}return Ue.of(s)}decomposeLeft(e,i){let n=this.left.length;if(e<=n)return this.left.decomposeLeft(e,i);i.push(this.left),this.break&&(n++,e>=n&&i.push(null)),e>n&&this.right.decomposeLeft(e-n,i)}decomposeRight(e,i){let n=this.left.length,r=n+this.break;if(e>=r)return this.right.decomposeRight(e-r,i);e<n&&this.left.decomposeRight(e,i),this.break&&e<r&&i.push(null),i.push(this.right)}balanced(e,i){return e.size>2*i.size||i.size>2*e.size?Ue.of(this.break?[e,null,i]:[e,i]):(this.left=no(this.left,e),this.right=no(this.right,i),this.setHeight(e.height+i.height),this.outdated=e.outdated||i.outdated,this.size=e.size+i.size,this.length=e.length+this.break+i.length,this)}updateHeight(e,i=0,n=!1,r){let{left:s,right:o}=this,l=i+s.length+this.break,a=null;return r&&r.from<=i+s.length&&r.more?a=s=s.updateHeight(e,i,n,r):s.updateHeight(e,i,n),r&&r.from<=l+o.length&&r.more?a=o=o.updateHeight(e,l,n,r):o.updateHeight(e,l,n),a?this.balanced(s,o):(this.height=this.left.height+this.right.height,this.outdated=!1,this)}toString(){return this.left+(this.break?" ":"-")+this.right}}function Ih(t,e){let i,n;t[e]==null&&(i=t[e-1])instanceof ze&&(n=t[e+1])instanceof ze&&t.splice(e-1,3,new ze(i.length+1+n.length))}const oS=5;class $u{constructor(e,i){this.pos=e,this.oracle=i,this.nodes=[],this.lineStart=-1,this.lineEnd=-1,this.covering=null,this.writtenTo=e}get isCovered(){return this.covering&&this.nodes[this.nodes.length-1]==this.covering}span(e,i){if(this.lineStart>-1){let n=Math.min(i,this.lineEnd),r=this.nodes[this.nodes.length-1];r instanceof ot?r.length+=n-this.pos:(n>this.pos||!this.isCovered)&&this.nodes.push(new ot(n-this.pos,-1)),this.writtenTo=n,i>n&&(this.nodes.push(null),this.writtenTo++,this.lineStart=-1)}this.pos=i}point(e,i,n){if(e<i||n.heightRelevant){let r=n.widget?n.widget.estimatedHeight:0,s=n.widget?n.widget.lineBreaks:0;r<0&&(r=this.oracle.lineHeight);let o=i-e;n.block?this.addBlock(new nm(o,r,n)):(o||s||r>=oS)&&this.addLineDeco(r,s,o)}else i>e&&this.span(e,i);this.lineEnd>-1&&this.lineEnd<this.pos&&(this.lineEnd=this.oracle.doc.lineAt(this.pos).to)}enterLine(){if(this.lineStart>-1)return;let{from:e,to:i}=this.oracle.doc.lineAt(this.pos);this.lineStart=e,this.lineEnd=i,this.writtenTo<e&&((this.writtenTo<e-1||this.nodes[this.nodes.length-1]==null)&&this.nodes.push(this.blankContent(this.writtenTo,e-1)),this.nodes.push(null)),this.pos>e&&this.nodes.push(new ot(this.pos-e,-1)),this.writtenTo=this.pos}blankContent(e,i){let n=new ze(i-e);return this.oracle.doc.lineAt(e).to==i&&(n.flags|=4),n}ensureLine(){this.enterLine();let e=this.nodes.length?this.nodes[this.nodes.length-1]:null;if(e instanceof ot)return e;let i=new ot(0,-1);return this.nodes.push(i),i}addBlock(e){this.enterLine();let i=e.deco;i&&i.startSide>0&&!this.isCovered&&this.ensureLine(),this.nodes.push(e),this.writtenTo=this.pos=this.pos+e.length,i&&i.endSide>0&&(this.covering=e)}addLineDeco(e,i,n){let r=this.ensureLine();r.length+=n,r.collapsed+=n,r.widgetHeight=Math.max(r.widgetHeight,e),r.breaks+=i,this.writtenTo=this.pos=this.pos+n}finish(e){let i=this.nodes.length==0?null:this.nodes[this.nodes.length-1];this.lineStart>-1&&!(i instanceof ot)&&!this.isCovered?this.nodes.push(new ot(0,-1)):(this.writtenTo<this.pos||i==null)&&this.nodes.push(this.blankContent(this.writtenTo,this.pos));let n=e;for(let r of this.nodes)r instanceof ot&&r.updateHeight(this.oracle,n),n+=r?r.length:1;return this.nodes}static build(e,i,n,r){let s=new $u(n,e);return Se.spans(i,n,r,s,0),s.finish(n)}}function lS(t,e,i){let n=new aS;return Se.compare(t,e,i,n,0),n.changes}class aS{constructor(){this.changes=[]}compareRange(){}comparePoint(e,i,n,r){(e<i||n&&n.heightRelevant||r&&r.heightRelevant)&&zs(e,i,this.changes,5)}}function uS(t,e){let i=t.getBoundingClientRect(),n=t.ownerDocument,r=n.defaultView||window,s=Math.max(0,i.left),o=Math.min(r.innerWidth,i.right),l=Math.max(0,i.top),a=Math.min(r.innerHeight,i.bottom);for(let u=t.parentNode;u&&u!=n.body;)if(u.nodeType==1){let c=u,h=window.getComputedStyle(c);if((c.scrollHeight>c.clientHeight||c.scrollWidth>c.clientWidth)&&h.overflow!="visible"){let f=c.getBoundingClientRect();s=Math.max(s,f.left),o=Math.min(o,f.right),l=Math.max(l,f.top),a=Math.min(u==t.parentNode?r.innerHeight:a,f.bottom)}u=h.position=="absolute"||h.position=="fixed"?c.offsetParent:c.parentNode}else if(u.nodeType==11)u=u.host;else break;return{left:s-i.left,right:Math.max(s,o)-i.left,top:l-(i.top+e),bottom:Math.max(l,a)-(i.top+e)}}function cS(t){let e=t.getBoundingClientRect(),i=t.ownerDocument.defaultView||window;return e.left<i.innerWidth&&e.right>0&&e.top<i.innerHeight&&e.bottom>0}function hS(t,e){let i=t.getBoundingClientRect();return{left:0,right:i.right-i.left,top:e,bottom:i.bottom-(i.top+e)}}class ll{constructor(e,i,n,r){this.from=e,this.to=i,this.size=n,this.displaySize=r}static same(e,i){if(e.length!=i.length)return!1;for(let n=0;n<e.length;n++){let r=e[n],s=i[n];if(r.from!=s.from||r.to!=s.to||r.size!=s.size)return!1}return!0}draw(e,i){return Oe.replace({widget:new fS(this.displaySize*(i?e.scaleY:e.scaleX),i)}).range(this.from,this.to)}}class fS extends _n{constructor(e,i){super(),this.size=e,this.vertical=i}eq(e){return e.size==this.size&&e.vertical==this.vertical}toDOM(){let e=document.createElement("div");return this.vertical?e.style.height=this.size+"px":(e.style.width=this.size+"px",e.style.height="2px",e.style.display="inline-block"),e}get estimatedHeight(){return this.vertical?this.size:-1}}class zh{constructor(e){this.state=e,this.pixelViewport={left:0,right:window.innerWidth,top:0,bottom:0},this.inView=!0,this.paddingTop=0,this.paddingBottom=0,this.contentDOMWidth=0,this.contentDOMHeight=0,this.editorHeight=0,this.editorWidth=0,this.scrollTop=0,this.scrolledToBottom=!1,this.scaleX=1,this.scaleY=1,this.scrollAnchorPos=0,this.scrollAnchorHeight=-1,this.scaler=Xh,this.scrollTarget=null,this.printing=!1,this.mustMeasureContent=!0,this.defaultTextDirection=_e.LTR,this.visibleRanges=[],this.mustEnforceCursorAssoc=!1;let i=e.facet(Su).some(n=>typeof n!="function"&&n.class=="cm-lineWrapping");this.heightOracle=new nS(i),this.stateDeco=e.facet(xr).filter(n=>typeof n!="function"),this.heightMap=Ue.empty().applyChanges(this.stateDeco,ue.empty,this.heightOracle.setDoc(e.doc),[new kt(0,0,0,e.doc.length)]);for(let n=0;n<2&&(this.viewport=this.getViewport(0,null),!!this.updateForViewport());n++);this.updateViewportLines(),this.lineGaps=this.ensureLineGaps([]),this.lineGapDeco=Oe.set(this.lineGaps.map(n=>n.draw(this,!1))),this.computeVisibleRanges()}updateForViewport(){let e=[this.viewport],{main:i}=this.state.selection;for(let n=0;n<=1;n++){let r=n?i.head:i.anchor;if(!e.some(({from:s,to:o})=>r>=s&&r<=o)){let{from:s,to:o}=this.lineBlockAt(r);e.push(new as(s,o))}}return this.viewports=e.sort((n,r)=>n.from-r.from),this.updateScaler()}updateScaler(){let e=this.scaler;return this.scaler=this.heightMap.height<=7e6?Xh:new _u(this.heightOracle,this.heightMap,this.viewports),e.eq(this.scaler)?0:2}updateViewportLines(){this.viewportLines=[],this.heightMap.forEachLine(this.viewport.from,this.viewport.to,this.heightOracle.setDoc(this.state.doc),0,0,e=>{this.viewportLines.push(Wn(e,this.scaler))})}update(e,i=null){this.state=e.state;let n=this.stateDeco;this.stateDeco=this.state.facet(xr).filter(c=>typeof c!="function");let r=e.changedRanges,s=kt.extendWithRanges(r,lS(n,this.stateDeco,e?e.changes:Me.empty(this.state.doc.length))),o=this.heightMap.height,l=this.scrolledToBottom?null:this.scrollAnchorAt(this.scrollTop);Zh(),this.heightMap=this.heightMap.applyChanges(this.stateDeco,e.startState.doc,this.heightOracle.setDoc(this.state.doc),s),(this.heightMap.height!=o||mn)&&(e.flags|=2),l?(this.scrollAnchorPos=e.changes.mapPos(l.from,-1),this.scrollAnchorHeight=l.top):(this.scrollAnchorPos=-1,this.scrollAnchorHeight=o);let a=s.length?this.mapViewport(this.viewport,e.changes):this.viewport;(i&&(i.range.head<a.from||i.range.head>a.to)||!this.viewportIsAppropriate(a))&&(a=this.getViewport(0,i));let u=a.from!=this.viewport.from||a.to!=this.viewport.to;this.viewport=a,e.flags|=this.updateForViewport(),(u||!e.changes.empty||e.flags&2)&&this.updateViewportLines(),(this.lineGaps.length||this.viewport.to-this.viewport.from>4e3)&&this.updateLineGaps(this.ensureLineGaps(this.mapLineGaps(this.lineGaps,e.changes))),e.flags|=this.computeVisibleRanges(e.changes),i&&(this.scrollTarget=i),!this.mustEnforceCursorAssoc&&e.selectionSet&&e.view.lineWrapping&&e.state.selection.main.empty&&e.state.selection.main.assoc&&!e.state.facet(L0)&&(this.mustEnforceCursorAssoc=!0)}measure(e){let i=e.contentDOM,n=window.getComputedStyle(i),r=this.heightOracle,s=n.whiteSpace;this.defaultTextDirection=n.direction=="rtl"?_e.RTL:_e.LTR;let o=this.heightOracle.mustRefreshForWrapping(s),l=i.getBoundingClientRect(),a=o||this.mustMeasureContent||this.contentDOMHeight!=l.height;this.contentDOMHeight=l.height,this.mustMeasureContent=!1;let u=0,c=0;if(l.width&&l.height){let{scaleX:x,scaleY:y}=h0(i,l);(x>.005&&Math.abs(this.scaleX-x)>.005||y>.005&&Math.abs(this.scaleY-y)>.005)&&(this.scaleX=x,this.scaleY=y,u|=16,o=a=!0)}let h=(parseInt(n.paddingTop)||0)*this.scaleY,f=(parseInt(n.paddingBottom)||0)*this.scaleY;(this.paddingTop!=h||this.paddingBottom!=f)&&(this.paddingTop=h,this.paddingBottom=f,u|=18),this.editorWidth!=e.scrollDOM.clientWidth&&(r.lineWrapping&&(a=!0),this.editorWidth=e.scrollDOM.clientWidth,u|=16);let d=e.scrollDOM.scrollTop*this.scaleY;this.scrollTop!=d&&(this.scrollAnchorHeight=-1,this.scrollTop=d),this.scrolledToBottom=p0(e.scrollDOM);let p=(this.printing?hS:uS)(i,this.paddingTop),m=p.top-this.pixelViewport.top,O=p.bottom-this.pixelViewport.bottom;this.pixelViewport=p;let g=this.pixelViewport.bottom>this.pixelViewport.top&&this.pixelViewport.right>this.pixelViewport.left;if(g!=this.inView&&(this.inView=g,g&&(a=!0)),!this.inView&&!this.scrollTarget&&!cS(e.dom))return 0;let b=l.width;if((this.contentDOMWidth!=b||this.editorHeight!=e.scrollDOM.clientHeight)&&(this.contentDOMWidth=l.width,this.editorHeight=e.scrollDOM.clientHeight,u|=16),a){let x=e.docView.measureVisibleLineHeights(this.viewport);if(r.mustRefreshForHeights(x)&&(o=!0),o||r.lineWrapping&&Math.abs(b-this.contentDOMWidth)>r.charWidth){let{lineHeight:y,charWidth:$,textHeight:_}=e.docView.measureTextSize();o=y>0&&r.refresh(s,y,$,_,Math.max(5,b/$),x),o&&(e.docView.minWidth=0,u|=16)}m>0&&O>0?c=Math.max(m,O):m<0&&O<0&&(c=Math.min(m,O)),Zh();for(let y of this.viewports){let $=y.from==this.viewport.from?x:e.docView.measureVisibleLineHeights(y);this.heightMap=(o?Ue.empty().applyChanges(this.stateDeco,ue.empty,this.heightOracle,[new kt(0,0,0,e.state.doc.length)]):this.heightMap).updateHeight(r,0,o,new rS(y.from,$))}mn&&(u|=2)}let S=!this.viewportIsAppropriate(this.viewport,c)||this.scrollTarget&&(this.scrollTarget.range.head<this.viewport.from||this.scrollTarget.range.head>this.viewport.to);return S&&(u&2&&(u|=this.updateScaler()),this.viewport=this.getViewport(c,this.scrollTarget),u|=this.updateForViewport()),(u&2||S)&&this.updateViewportLines(),(this.lineGaps.length||this.viewport.to-this.viewport.from>4e3)&&this.updateLineGaps(this.ensureLineGaps(o?[]:this.lineGaps,e)),u|=this.computeVisibleRanges(),this.mustEnforceCursorAssoc&&(this.mustEnforceCursorAssoc=!1,e.docView.enforceCursorAssoc()),u}get visibleTop(){return this.scaler.fromDOM(this.pixelViewport.top)}get visibleBottom(){return this.scaler.fromDOM(this.pixelViewport.bottom)}getViewport(e,i){let n=.5-Math.max(-.5,Math.min(.5,e/1e3/2)),r=this.heightMap,s=this.heightOracle,{visibleTop:o,visibleBottom:l}=this,a=new as(r.lineAt(o-n*1e3,ve.ByHeight,s,0,0).from,r.lineAt(l+(1-n)*1e3,ve.ByHeight,s,0,0).to);if(i){let{head:u}=i.range;if(u<a.from||u>a.to){let c=Math.min(this.editorHeight,this.pixelViewport.bottom-this.pixelViewport.top),h=r.lineAt(u,ve.ByPos,s,0,0),f;i.y=="center"?f=(h.top+h.bottom)/2-c/2:i.y=="start"||i.y=="nearest"&&u<a.from?f=h.top:f=h.bottom-c,a=new as(r.lineAt(f-1e3/2,ve.ByHeight,s,0,0).from,r.lineAt(f+c+1e3/2,ve.ByHeight,s,0,0).to)}}return a}mapViewport(e,i){let n=i.mapPos(e.from,-1),r=i.mapPos(e.to,1);return new as(this.heightMap.lineAt(n,ve.ByPos,this.heightOracle,0,0).from,this.heightMap.lineAt(r,ve.ByPos,this.heightOracle,0,0).to)}viewportIsAppropriate({from:e,to:i},n=0){if(!this.inView)return!0;let{top:r}=this.heightMap.lineAt(e,ve.ByPos,this.heightOracle,0,0),{bottom:s}=this.heightMap.lineAt(i,ve.ByPos,this.heightOracle,0,0),{visibleTop:o,visibleBottom:l}=this;return(e==0||r<=o-Math.max(10,Math.min(-n,250)))&&(i==this.state.doc.length||s>=l+Math.max(10,Math.min(n,250)))&&r>o-2*1e3&&s<l+2*1e3}mapLineGaps(e,i){if(!e.length||i.empty)return e;let n=[];for(let r of e)i.touchesRange(r.from,r.to)||n.push(new ll(i.mapPos(r.from),i.mapPos(r.to),r.size,r.displaySize));return n}ensureLineGaps(e,i){let n=this.heightOracle.lineWrapping,r=n?1e4:2e3,s=r>>1,o=r<<1;if(this.defaultTextDirection!=_e.LTR&&!n)return[];let l=[],a=(c,h,f,d)=>{if(h-c<s)return;let p=this.state.selection.main,m=[p.from];p.empty||m.push(p.to);for(let g of m)if(g>c&&g<h){a(c,g-10,f,d),a(g+10,h,f,d);return}let O=pS(e,g=>g.from>=f.from&&g.to<=f.to&&Math.abs(g.from-c)<s&&Math.abs(g.to-h)<s&&!m.some(b=>g.from<b&&g.to>b));if(!O){if(h<f.to&&i&&n&&i.visibleRanges.some(S=>S.from<=h&&S.to>=h)){let S=i.moveToLineBoundary(M.cursor(h),!1,!0).head;S>c&&(h=S)}let g=this.gapSize(f,c,h,d),b=n||g<2e6?g:2e6;O=new ll(c,h,g,b)}l.push(O)},u=c=>{if(c.length<o||c.type!=dt.Text)return;let h=dS(c.from,c.to,this.stateDeco);if(h.total<o)return;let f=this.scrollTarget?this.scrollTarget.range.head:null,d,p;if(n){let m=r/this.heightOracle.lineLength*this.heightOracle.lineHeight,O,g;if(f!=null){let b=cs(h,f),S=((this.visibleBottom-this.visibleTop)/2+m)/c.height;O=b-S,g=b+S}else O=(this.visibleTop-c.top-m)/c.height,g=(this.visibleBottom-c.top+m)/c.height;d=us(h,O),p=us(h,g)}else{let m=h.total*this.heightOracle.charWidth,O=r*this.heightOracle.charWidth,g=0;if(m>2e6)for(let $ of e)$.from>=c.from&&$.from<c.to&&$.size!=$.displaySize&&$.from*this.heightOracle.charWidth+g<this.pixelViewport.left&&(g=$.size-$.displaySize);let b=this.pixelViewport.left+g,S=this.pixelViewport.right+g,x,y;if(f!=null){let $=cs(h,f),_=((S-b)/2+O)/m;x=$-_,y=$+_}else x=(b-O)/m,y=(S+O)/m;d=us(h,x),p=us(h,y)}d>c.from&&a(c.from,d,c,h),p<c.to&&a(p,c.to,c,h)};for(let c of this.viewportLines)Array.isArray(c.type)?c.type.forEach(u):u(c);return l}gapSize(e,i,n,r){let s=cs(r,n)-cs(r,i);return this.heightOracle.lineWrapping?e.height*s:r.total*this.heightOracle.charWidth*s}updateLineGaps(e){ll.same(e,this.lineGaps)||(this.lineGaps=e,this.lineGapDeco=Oe.set(e.map(i=>i.draw(this,this.heightOracle.lineWrapping))))}computeVisibleRanges(e){let i=this.stateDeco;this.lineGaps.length&&(i=i.concat(this.lineGapDeco));let n=[];Se.spans(i,this.viewport.from,this.viewport.to,{span(s,o){n.push({from:s,to:o})},point(){}},20);let r=0;if(n.length!=this.visibleRanges.length)r=12;else for(let s=0;s<n.length&&!(r&8);s++){let o=this.visibleRanges[s],l=n[s];(o.from!=l.from||o.to!=l.to)&&(r|=4,e&&e.mapPos(o.from,-1)==l.from&&e.mapPos(o.to,1)==l.to||(r|=8))}return this.visibleRanges=n,r}lineBlockAt(e){return e>=this.viewport.from&&e<=this.viewport.to&&this.viewportLines.find(i=>i.from<=e&&i.to>=e)||Wn(this.heightMap.lineAt(e,ve.ByPos,this.heightOracle,0,0),this.scaler)}lineBlockAtHeight(e){return e>=this.viewportLines[0].top&&e<=this.viewportLines[this.viewportLines.length-1].bottom&&this.viewportLines.find(i=>i.top<=e&&i.bottom>=e)||Wn(this.heightMap.lineAt(this.scaler.fromDOM(e),ve.ByHeight,this.heightOracle,0,0),this.scaler)}scrollAnchorAt(e){let i=this.lineBlockAtHeight(e+8);return i.from>=this.viewport.from||this.viewportLines[0].top-e>200?i:this.viewportLines[0]}elementAtHeight(e){return Wn(this.heightMap.blockAt(this.scaler.fromDOM(e),this.heightOracle,0,0),this.scaler)}get docHeight(){return this.scaler.toDOM(this.heightMap.height)}get contentHeight(){return this.docHeight+this.paddingTop+this.paddingBottom}}class as{constructor(e,i){this.from=e,this.to=i}}function dS(t,e,i){let n=[],r=t,s=0;return Se.spans(i,t,e,{span(){},point(o,l){o>r&&(n.push({from:r,to:o}),s+=o-r),r=l}},20),r<e&&(n.push({from:r,to:e}),s+=e-r),{total:s,ranges:n}}function us({total:t,ranges:e},i){if(i<=0)return e[0].from;if(i>=1)return e[e.length-1].to;let n=Math.floor(t*i);for(let r=0;;r++){let{from:s,to:o}=e[r],l=o-s;if(n<=l)return s+n;n-=l}}function cs(t,e){let i=0;for(let{from:n,to:r}of t.ranges){if(e<=r){i+=e-n;break}i+=r-n}return i/t.total}function pS(t,e){for(let i of t)if(e(i))return i}const Xh={toDOM(t){return t},fromDOM(t){return t},scale:1,eq(t){return t==this}};class _u{constructor(e,i,n){let r=0,s=0,o=0;this.viewports=n.map(({from:l,to:a})=>{let u=i.lineAt(l,ve.ByPos,e,0,0).top,c=i.lineAt(a,ve.ByPos,e,0,0).bottom;return r+=c-u,{from:l,to:a,top:u,bottom:c,domTop:0,domBottom:0}}),this.scale=(7e6-r)/(i.height-r);for(let l of this.viewports)l.domTop=o+(l.top-s)*this.scale,o=l.domBottom=l.domTop+(l.bottom-l.top),s=l.bottom}toDOM(e){for(let i=0,n=0,r=0;;i++){let s=i<this.viewports.length?this.viewports[i]:null;if(!s||e<s.top)return r+(e-n)*this.scale;if(e<=s.bottom)return s.domTop+(e-s.top);n=s.bottom,r=s.domBottom}}fromDOM(e){for(let i=0,n=0,r=0;;i++){let s=i<this.viewports.length?this.viewports[i]:null;if(!s||e<s.domTop)return n+(e-r)/this.scale;if(e<=s.domBottom)return s.top+(e-s.domTop);n=s.bottom,r=s.domBottom}}eq(e){return e instanceof _u?this.scale==e.scale&&this.viewports.length==e.viewports.length&&this.viewports.every((i,n)=>i.from==e.viewports[n].from&&i.to==e.viewports[n].to):!1}}function Wn(t,e){if(e.scale==1)return t;let i=e.toDOM(t.top),n=e.toDOM(t.bottom);return new Xt(t.from,t.length,i,n-i,Array.isArray(t._content)?t._content.map(r=>Wn(r,e)):t._content)}const hs=U.define({combine:t=>t.join(" ")}),Aa=U.define({combine:t=>t.indexOf(!0)>-1}),Ea=vi.newName(),rm=vi.newName(),sm=vi.newName(),om={"&light":"."+rm,"&dark":"."+sm};function Da(t,e,i){return new vi(e,{finish(n){return/&/.test(n)?n.replace(/&\w*/,r=>{if(r=="&")return t;if(!i||!i[r])throw new RangeError(`Unsupported selector: ${r}`);return i[r]}):t+" "+n}})}const mS=Da("."+Ea,{"&":{position:"relative !important",boxSizing:"border-box","&.cm-focused":{outline:"1px dotted #212121"},display:"flex !important",flexDirection:"column"},".cm-scroller":{display:"flex !important",alignItems:"flex-start !important",fontFamily:"monospace",lineHeight:1.4,height:"100%",overflowX:"auto",position:"relative",zIndex:0,overflowAnchor:"none"},".cm-content":{margin:0,flexGrow:2,flexShrink:0,display:"block",whiteSpace:"pre",wordWrap:"normal",boxSizing:"border-box",minHeight:"100%",padding:"4px 0",outline:"none","&[contenteditable=true]":{WebkitUserModify:"read-write-plaintext-only"}},".cm-lineWrapping":{whiteSpace_fallback:"pre-wrap",whiteSpace:"break-spaces",wordBreak:"break-word",overflowWrap:"anywhere",flexShrink:1},"&light .cm-content":{caretColor:"black"},"&dark .cm-content":{caretColor:"white"},".cm-line":{display:"block",padding:"0 2px 0 6px"},".cm-layer":{position:"absolute",left:0,top:0,contain:"size style","& > *":{position:"absolute"}},"&light .cm-selectionBackground":{background:"#d9d9d9"},"&dark .cm-selectionBackground":{background:"#222"},"&light.cm-focused > .cm-scroller > .cm-selectionLayer .cm-selectionBackground":{background:"#d7d4f0"},"&dark.cm-focused > .cm-scroller > .cm-selectionLayer .cm-selectionBackground":{background:"#233"},".cm-cursorLayer":{pointerEvents:"none"},"&.cm-focused > .cm-scroller > .cm-cursorLayer":{animation:"steps(1) cm-blink 1.2s infinite"},"@keyframes cm-blink":{"0%":{},"50%":{opacity:0},"100%":{}},"@keyframes cm-blink2":{"0%":{},"50%":{opacity:0},"100%":{}},".cm-cursor, .cm-dropCursor":{borderLeft:"1.2px solid black",marginLeft:"-0.6px",pointerEvents:"none"},".cm-cursor":{display:"none"},"&dark .cm-cursor":{borderLeftColor:"#ddd"},".cm-dropCursor":{position:"absolute"},"&.cm-focused > .cm-scroller > .cm-cursorLayer .cm-cursor":{display:"block"},".cm-iso":{unicodeBidi:"isolate"},".cm-announced":{position:"fixed",top:"-10000px"},"@media print":{".cm-announced":{display:"none"}},"&light .cm-activeLine":{backgroundColor:"#cceeff44"},"&dark .cm-activeLine":{backgroundColor:"#99eeff33"},"&light .cm-specialChar":{color:"red"},"&dark .cm-specialChar":{color:"#f78"},".cm-gutters":{flexShrink:0,display:"flex",height:"100%",boxSizing:"border-box",zIndex:200},".cm-gutters-before":{insetInlineStart:0},".cm-gutters-after":{insetInlineEnd:0},"&light .cm-gutters":{backgroundColor:"#f5f5f5",color:"#6c6c6c",border:"0px solid #ddd","&.cm-gutters-before":{borderRightWidth:"1px"},"&.cm-gutters-after":{borderLeftWidth:"1px"}},"&dark .cm-gutters":{backgroundColor:"#333338",color:"#ccc"},".cm-gutter":{display:"flex !important",flexDirection:"column",flexShrink:0,boxSizing:"border-box",minHeight:"100%",overflow:"hidden"},".cm-gutterElement":{boxSizing:"border-box"},".cm-lineNumbers .cm-gutterElement":{padding:"0 3px 0 5px",minWidth:"20px",textAlign:"right",whiteSpace:"nowrap"},"&light .cm-activeLineGutter":{backgroundColor:"#e2f2ff"},"&dark .cm-activeLineGutter":{backgroundColor:"#222227"},".cm-panels":{boxSizing:"border-box",position:"sticky",left:0,right:0,zIndex:300},"&light .cm-panels":{backgroundColor:"#f5f5f5",color:"black"},"&light .cm-panels-top":{borderBottom:"1px solid #ddd"},"&light .cm-panels-bottom":{borderTop:"1px solid #ddd"},"&dark .cm-panels":{backgroundColor:"#333338",color:"white"},".cm-dialog":{padding:"2px 19px 4px 6px",position:"relative","& label":{fontSize:"80%"}},".cm-dialog-close":{position:"absolute",top:"3px",right:"4px",backgroundColor:"inherit",border:"none",font:"inherit",fontSize:"14px",padding:"0"},".cm-tab":{display:"inline-block",overflow:"hidden",verticalAlign:"bottom"},".cm-widgetBuffer":{verticalAlign:"text-top",height:"1em",width:0,display:"inline"},".cm-placeholder":{color:"#888",display:"inline-block",verticalAlign:"top",userSelect:"none"},".cm-highlightSpace":{backgroundImage:"radial-gradient(circle at 50% 55%, #aaa 20%, transparent 5%)",backgroundPosition:"center"},".cm-highlightTab":{backgroundImage:`url('data:image/svg+xml,<svg xmlns="http://www.w3.org/2000/svg" width="200" height="20"><path stroke="%23888" stroke-width="1" fill="none" d="M1 10H196L190 5M190 15L196 10M197 4L197 16"/></svg>')`,backgroundSize:"auto 100%",backgroundPosition:"right 90%",backgroundRepeat:"no-repeat"},".cm-trailingSpace":{backgroundColor:"#ff332255"},".cm-button":{verticalAlign:"middle",color:"inherit",fontSize:"70%",padding:".2em 1em",borderRadius:"1px"},"&light .cm-button":{backgroundImage:"linear-gradient(#eff1f5, #d9d9df)",border:"1px solid #888","&:active":{backgroundImage:"linear-gradient(#b4b4b4, #d0d3d6)"}},"&dark .cm-button":{backgroundImage:"linear-gradient(#393939, #111)",border:"1px solid #888","&:active":{backgroundImage:"linear-gradient(#111, #333)"}},".cm-textfield":{verticalAlign:"middle",color:"inherit",fontSize:"70%",border:"1px solid silver",padding:".2em .5em"},"&light .cm-textfield":{backgroundColor:"white"},"&dark .cm-textfield":{border:"1px solid #555",backgroundColor:"inherit"}},om),OS={childList:!0,characterData:!0,subtree:!0,attributes:!0,characterDataOldValue:!0},al=N.ie&&N.ie_version<=11;class gS{constructor(e){this.view=e,this.active=!1,this.editContext=null,this.selectionRange=new Jk,this.selectionChanged=!1,this.delayedFlush=-1,this.resizeTimeout=-1,this.queue=[],this.delayedAndroidKey=null,this.flushingAndroidKey=-1,this.lastChange=0,this.scrollTargets=[],this.intersection=null,this.resizeScroll=null,this.intersecting=!1,this.gapIntersection=null,this.gaps=[],this.printQuery=null,this.parentCheck=-1,this.dom=e.contentDOM,this.observer=new MutationObserver(i=>{for(let n of i)this.queue.push(n);(N.ie&&N.ie_version<=11||N.ios&&e.composing)&&i.some(n=>n.type=="childList"&&n.removedNodes.length||n.type=="characterData"&&n.oldValue.length>n.target.nodeValue.length)?this.flushSoon():this.flush()}),window.EditContext&&N.android&&e.constructor.EDIT_CONTEXT!==!1&&!(N.chrome&&N.chrome_version<126)&&(this.editContext=new xS(e),e.state.facet(Kt)&&(e.contentDOM.editContext=this.editContext.editContext)),al&&(this.onCharData=i=>{this.queue.push({target:i.target,type:"characterData",oldValue:i.prevValue}),this.flushSoon()}),this.onSelectionChange=this.onSelectionChange.bind(this),this.onResize=this.onResize.bind(this),this.onPrint=this.onPrint.bind(this),this.onScroll=this.onScroll.bind(this),window.matchMedia&&(this.printQuery=window.matchMedia("print")),typeof ResizeObserver=="function"&&(this.resizeScroll=new ResizeObserver(()=>{var i;((i=this.view.docView)===null||i===void 0?void 0:i.lastUpdate)<Date.now()-75&&this.onResize()}),this.resizeScroll.observe(e.scrollDOM)),this.addWindowListeners(this.win=e.win),this.start(),typeof IntersectionObserver=="function"&&(this.intersection=new IntersectionObserver(i=>{this.parentCheck<0&&(this.parentCheck=setTimeout(this.listenForScroll.bind(this),1e3)),i.length>0&&i[i.length-1].intersectionRatio>0!=this.intersecting&&(this.intersecting=!this.intersecting,this.intersecting!=this.view.inView&&this.onScrollChanged(document.createEvent("Event")))},{threshold:[0,.001]}),this.intersection.observe(this.dom),this.gapIntersection=new IntersectionObserver(i=>{i.length>0&&i[i.length-1].intersectionRatio>0&&this.onScrollChanged(document.createEvent("Event"))},{})),this.listenForScroll(),this.readSelectionRange()}onScrollChanged(e){this.view.inputState.runHandlers("scroll",e),this.intersecting&&this.view.measure()}onScroll(e){this.intersecting&&this.flush(!1),this.editContext&&this.view.requestMeasure(this.editContext.measureReq),this.onScrollChanged(e)}onResize(){this.resizeTimeout<0&&(this.resizeTimeout=setTimeout(()=>{this.resizeTimeout=-1,this.view.requestMeasure()},50))}onPrint(e){(e.type=="change"||!e.type)&&!e.matches||(this.view.viewState.printing=!0,this.view.measure(),setTimeout(()=>{this.view.viewState.printing=!1,this.view.requestMeasure()},500))}updateGaps(e){if(this.gapIntersection&&(e.length!=this.gaps.length||this.gaps.some((i,n)=>i!=e[n]))){this.gapIntersection.disconnect();for(let i of e)this.gapIntersection.observe(i);this.gaps=e}}onSelectionChange(e){let i=this.selectionChanged;if(!this.readSelectionRange()||this.delayedAndroidKey)return;let{view:n}=this,r=this.selectionRange;if(n.state.facet(Kt)?n.root.activeElement!=this.dom:!Is(this.dom,r))return;let s=r.anchorNode&&n.docView.nearest(r.anchorNode);if(s&&s.ignoreEvent(e)){i||(this.selectionChanged=!1);return}(N.ie&&N.ie_version<=11||N.android&&N.chrome)&&!n.state.selection.main.empty&&r.focusNode&&nr(r.focusNode,r.focusOffset,r.anchorNode,r.anchorOffset)?this.flushSoon():this.flush(!1)}readSelectionRange(){let{view:e}=this,i=br(e.root);if(!i)return!1;let n=N.safari&&e.root.nodeType==11&&e.root.activeElement==this.dom&&bS(this.view,i)||i;if(!n||this.selectionRange.eq(n))return!1;let r=Is(this.dom,n);return r&&!this.selectionChanged&&e.inputState.lastFocusTime>Date.now()-200&&e.inputState.lastTouchTime<Date.now()-300&&tv(this.dom,n)?(this.view.inputState.lastFocusTime=0,e.docView.updateSelection(),!1):(this.selectionRange.setRange(n),r&&(this.selectionChanged=!0),!0)}setSelectionRange(e,i){this.selectionRange.set(e.node,e.offset,i.node,i.offset),this.selectionChanged=!1}clearSelectionRange(){this.selectionRange.set(null,0,null,0)}listenForScroll(){this.parentCheck=-1;let e=0,i=null;for(let n=this.dom;n;)if(n.nodeType==1)!i&&e<this.scrollTargets.length&&this.scrollTargets[e]==n?e++:i||(i=this.scrollTargets.slice(0,e)),i&&i.push(n),n=n.assignedSlot||n.parentNode;else if(n.nodeType==11)n=n.host;else break;if(e<this.scrollTargets.length&&!i&&(i=this.scrollTargets.slice(0,e)),i){for(let n of this.scrollTargets)n.removeEventListener("scroll",this.onScroll);for(let n of this.scrollTargets=i)n.addEventListener("scroll",this.onScroll)}}ignore(e){if(!this.active)return e();try{return this.stop(),e()}finally{this.start(),this.clear()}}start(){this.active||(this.observer.observe(this.dom,OS),al&&this.dom.addEventListener("DOMCharacterDataModified",this.onCharData),this.active=!0)}stop(){this.active&&(this.active=!1,this.observer.disconnect(),al&&this.dom.removeEventListener("DOMCharacterDataModified",this.onCharData))}clear(){this.processRecords(),this.queue.length=0,this.selectionChanged=!1}delayAndroidKey(e,i){var n;if(!this.delayedAndroidKey){let r=()=>{let s=this.delayedAndroidKey;s&&(this.clearDelayedAndroidKey(),this.view.inputState.lastKeyCode=s.keyCode,this.view.inputState.lastKeyTime=Date.now(),!this.flush()&&s.force&&nn(this.dom,s.key,s.keyCode))};this.flushingAndroidKey=this.view.win.requestAnimationFrame(r)}(!this.delayedAndroidKey||e=="Enter")&&(this.delayedAndroidKey={key:e,keyCode:i,force:this.lastChange<Date.now()-50||!!(!((n=this.delayedAndroidKey)===null||n===void 0)&&n.force)})}clearDelayedAndroidKey(){this.win.cancelAnimationFrame(this.flushingAndroidKey),this.delayedAndroidKey=null,this.flushingAndroidKey=-1}flushSoon(){this.delayedFlush<0&&(this.delayedFlush=this.view.win.requestAnimationFrame(()=>{this.delayedFlush=-1,this.flush()}))}forceFlush(){this.delayedFlush>=0&&(this.view.win.cancelAnimationFrame(this.delayedFlush),this.delayedFlush=-1),this.flush()}pendingRecords(){for(let e of this.observer.takeRecords())this.queue.push(e);return this.queue}processRecords(){let e=this.pendingRecords();e.length&&(this.queue=[]);let i=-1,n=-1,r=!1;for(let s of e){let o=this.readMutation(s);o&&(o.typeOver&&(r=!0),i==-1?{from:i,to:n}=o:(i=Math.min(o.from,i),n=Math.max(o.to,n)))}return{from:i,to:n,typeOver:r}}readChange(){let{from:e,to:i,typeOver:n}=this.processRecords(),r=this.selectionChanged&&Is(this.dom,this.selectionRange);if(e<0&&!r)return null;e>-1&&(this.lastChange=Date.now()),this.view.inputState.lastFocusTime=0,this.selectionChanged=!1;let s=new Lv(this.view,e,i,n);return this.view.docView.domChanged={newSel:s.newSel?s.newSel.main:null},s}flush(e=!0){if(this.delayedFlush>=0||this.delayedAndroidKey)return!1;e&&this.readSelectionRange();let i=this.readChange();if(!i)return this.view.requestMeasure(),!1;let n=this.view.state,r=N0(this.view,i);return this.view.state==n&&(i.domChanged||i.newSel&&!i.newSel.main.eq(this.view.state.selection.main))&&this.view.update([]),r}readMutation(e){let i=this.view.docView.nearest(e.target);if(!i||i.ignoreMutation(e))return null;if(i.markDirty(e.type=="attributes"),e.type=="attributes"&&(i.flags|=4),e.type=="childList"){let n=Vh(i,e.previousSibling||e.target.previousSibling,-1),r=Vh(i,e.nextSibling||e.target.nextSibling,1);return{from:n?i.posAfter(n):i.posAtStart,to:r?i.posBefore(r):i.posAtEnd,typeOver:!1}}else return e.type=="characterData"?{from:i.posAtStart,to:i.posAtEnd,typeOver:e.target.nodeValue==e.oldValue}:null}setWindow(e){e!=this.win&&(this.removeWindowListeners(this.win),this.win=e,this.addWindowListeners(this.win))}addWindowListeners(e){e.addEventListener("resize",this.onResize),this.printQuery?this.printQuery.addEventListener?this.printQuery.addEventListener("change",this.onPrint):this.printQuery.addListener(this.onPrint):e.addEventListener("beforeprint",this.onPrint),e.addEventListener("scroll",this.onScroll),e.document.addEventListener("selectionchange",this.onSelectionChange)}removeWindowListeners(e){e.removeEventListener("scroll",this.onScroll),e.removeEventListener("resize",this.onResize),this.printQuery?this.printQuery.removeEventListener?this.printQuery.removeEventListener("change",this.onPrint):this.printQuery.removeListener(this.onPrint):e.removeEventListener("beforeprint",this.onPrint),e.document.removeEventListener("selectionchange",this.onSelectionChange)}update(e){this.editContext&&(this.editContext.update(e),e.startState.facet(Kt)!=e.state.facet(Kt)&&(e.view.contentDOM.editContext=e.state.facet(Kt)?this.editContext.editContext:null))}destroy(){var e,i,n;this.stop(),(e=this.intersection)===null||e===void 0||e.disconnect(),(i=this.gapIntersection)===null||i===void 0||i.disconnect(),(n=this.resizeScroll)===null||n===void 0||n.disconnect();for(let r of this.scrollTargets)r.removeEventListener("scroll",this.onScroll);this.removeWindowListeners(this.win),clearTimeout(this.parentCheck),clearTimeout(this.resizeTimeout),this.win.cancelAnimationFrame(this.delayedFlush),this.win.cancelAnimationFrame(this.flushingAndroidKey),this.editContext&&(this.view.contentDOM.editContext=null,this.editContext.destroy())}}function Vh(t,e,i){for(;e;){let n=ge.get(e);if(n&&n.parent==t)return n;let r=e.parentNode;e=r!=t.dom?r:i>0?e.nextSibling:e.previousSibling}return null}function Fh(t,e){let i=e.startContainer,n=e.startOffset,r=e.endContainer,s=e.endOffset,o=t.docView.domAtPos(t.state.selection.main.anchor);return nr(o.node,o.offset,r,s)&&([i,n,r,s]=[r,s,i,n]),{anchorNode:i,anchorOffset:n,focusNode:r,focusOffset:s}}function bS(t,e){if(e.getComposedRanges){let r=e.getComposedRanges(t.root)[0];if(r)return Fh(t,r)}let i=null;function n(r){r.preventDefault(),r.stopImmediatePropagation(),i=r.getTargetRanges()[0]}return t.contentDOM.addEventListener("beforeinput",n,!0),t.dom.ownerDocument.execCommand("indent"),t.contentDOM.removeEventListener("beforeinput",n,!0),i?Fh(t,i):null}class xS{constructor(e){this.from=0,this.to=0,this.pendingContextChange=null,this.handlers=Object.create(null),this.composing=null,this.resetRange(e.state);let i=this.editContext=new window.EditContext({text:e.state.doc.sliceString(this.from,this.to),selectionStart:this.toContextPos(Math.max(this.from,Math.min(this.to,e.state.selection.main.anchor))),selectionEnd:this.toContextPos(e.state.selection.main.head)});this.handlers.textupdate=n=>{let r=e.state.selection.main,{anchor:s,head:o}=r,l=this.toEditorPos(n.updateRangeStart),a=this.toEditorPos(n.updateRangeEnd);e.inputState.composing>=0&&!this.composing&&(this.composing={contextBase:n.updateRangeStart,editorBase:l,drifted:!1});let u=a-l>n.text.length;l==this.from&&s<this.from?l=s:a==this.to&&s>this.to&&(a=s);let c=W0(e.state.sliceDoc(l,a),n.text,(u?r.from:r.to)-l,u?"end":null);if(!c){let f=M.single(this.toEditorPos(n.selectionStart),this.toEditorPos(n.selectionEnd));f.main.eq(r)||e.dispatch({selection:f,userEvent:"select"});return}let h={from:c.from+l,to:c.toA+l,insert:ue.of(n.text.slice(c.from,c.toB).split(`
+`))};if((N.mac||N.android)&&h.from==o-1&&/^\. ?$/.test(n.text)&&e.contentDOM.getAttribute("autocorrect")=="off"&&(h={from:l,to:a,insert:ue.of([n.text.replace("."," ")])}),this.pendingContextChange=h,!e.state.readOnly){let f=this.to-this.from+(h.to-h.from+h.insert.length);Qu(e,h,M.single(this.toEditorPos(n.selectionStart,f),this.toEditorPos(n.selectionEnd,f)))}this.pendingContextChange&&(this.revertPending(e.state),this.setSelection(e.state)),h.from<h.to&&!h.insert.length&&e.inputState.composing>=0&&!/[\\p{Alphabetic}\\p{Number}_]/.test(i.text.slice(Math.max(0,n.updateRangeStart-1),Math.min(i.text.length,n.updateRangeStart+1)))&&this.handlers.compositionend(n)},this.handlers.characterboundsupdate=n=>{let r=[],s=null;for(let o=this.toEditorPos(n.rangeStart),l=this.toEditorPos(n.rangeEnd);o<l;o++){let a=e.coordsForChar(o);s=a&&new DOMRect(a.left,a.top,a.right-a.left,a.bottom-a.top)||s||new DOMRect,r.push(s)}i.updateCharacterBounds(n.rangeStart,r)},this.handlers.textformatupdate=n=>{let r=[];for(let s of n.getTextFormats()){let o=s.underlineStyle,l=s.underlineThickness;if(!/none/i.test(o)&&!/none/i.test(l)){let a=this.toEditorPos(s.rangeStart),u=this.toEditorPos(s.rangeEnd);if(a<u){let c=`text-decoration: underline ${/^[a-z]/.test(o)?o+" ":o=="Dashed"?"dashed ":o=="Squiggle"?"wavy ":""}${/thin/i.test(l)?1:2}px`;r.push(Oe.mark({attributes:{style:c}}).range(a,u))}}}e.dispatch({effects:I0.of(Oe.set(r))})},this.handlers.compositionstart=()=>{e.inputState.composing<0&&(e.inputState.composing=0,e.inputState.compositionFirstChange=!0)},this.handlers.compositionend=()=>{if(e.inputState.composing=-1,e.inputState.compositionFirstChange=null,this.composing){let{drifted:n}=this.composing;this.composing=null,n&&this.reset(e.state)}};for(let n in this.handlers)i.addEventListener(n,this.handlers[n]);this.measureReq={read:n=>{this.editContext.updateControlBounds(n.contentDOM.getBoundingClientRect());let r=br(n.root);r&&r.rangeCount&&this.editContext.updateSelectionBounds(r.getRangeAt(0).getBoundingClientRect())}}}applyEdits(e){let i=0,n=!1,r=this.pendingContextChange;return e.changes.iterChanges((s,o,l,a,u)=>{if(n)return;let c=u.length-(o-s);if(r&&o>=r.to)if(r.from==s&&r.to==o&&r.insert.eq(u)){r=this.pendingContextChange=null,i+=c,this.to+=c;return}else r=null,this.revertPending(e.state);if(s+=i,o+=i,o<=this.from)this.from+=c,this.to+=c;else if(s<this.to){if(s<this.from||o>this.to||this.to-this.from+u.length>3e4){n=!0;return}this.editContext.updateText(this.toContextPos(s),this.toContextPos(o),u.toString()),this.to+=c}i+=c}),r&&!n&&this.revertPending(e.state),!n}update(e){let i=this.pendingContextChange,n=e.startState.selection.main;this.composing&&(this.composing.drifted||!e.changes.touchesRange(n.from,n.to)&&e.transactions.some(r=>!r.isUserEvent("input.type")&&r.changes.touchesRange(this.from,this.to)))?(this.composing.drifted=!0,this.composing.editorBase=e.changes.mapPos(this.composing.editorBase)):!this.applyEdits(e)||!this.rangeIsValid(e.state)?(this.pendingContextChange=null,this.reset(e.state)):(e.docChanged||e.selectionSet||i)&&this.setSelection(e.state),(e.geometryChanged||e.docChanged||e.selectionSet)&&e.view.requestMeasure(this.measureReq)}resetRange(e){let{head:i}=e.selection.main;this.from=Math.max(0,i-1e4),this.to=Math.min(e.doc.length,i+1e4)}reset(e){this.resetRange(e),this.editContext.updateText(0,this.editContext.text.length,e.doc.sliceString(this.from,this.to)),this.setSelection(e)}revertPending(e){let i=this.pendingContextChange;this.pendingContextChange=null,this.editContext.updateText(this.toContextPos(i.from),this.toContextPos(i.from+i.insert.length),e.doc.sliceString(i.from,i.to))}setSelection(e){let{main:i}=e.selection,n=this.toContextPos(Math.max(this.from,Math.min(this.to,i.anchor))),r=this.toContextPos(i.head);(this.editContext.selectionStart!=n||this.editContext.selectionEnd!=r)&&this.editContext.updateSelection(n,r)}rangeIsValid(e){let{head:i}=e.selection.main;return!(this.from>0&&i-this.from<500||this.to<e.doc.length&&this.to-i<500||this.to-this.from>1e4*3)}toEditorPos(e,i=this.to-this.from){e=Math.min(e,i);let n=this.composing;return n&&n.drifted?n.editorBase+(e-n.contextBase):e+this.from}toContextPos(e){let i=this.composing;return i&&i.drifted?i.contextBase+(e-i.editorBase):e-this.from}destroy(){for(let e in this.handlers)this.editContext.removeEventListener(e,this.handlers[e])}}class W{get state(){return this.viewState.state}get viewport(){return this.viewState.viewport}get visibleRanges(){return this.viewState.visibleRanges}get inView(){return this.viewState.inView}get composing(){return!!this.inputState&&this.inputState.composing>0}get compositionStarted(){return!!this.inputState&&this.inputState.composing>=0}get root(){return this._root}get win(){return this.dom.ownerDocument.defaultView||window}constructor(e={}){var i;this.plugins=[],this.pluginMap=new Map,this.editorAttrs={},this.contentAttrs={},this.bidiCache=[],this.destroyed=!1,this.updateState=2,this.measureScheduled=-1,this.measureRequests=[],this.contentDOM=document.createElement("div"),this.scrollDOM=document.createElement("div"),this.scrollDOM.tabIndex=-1,this.scrollDOM.className="cm-scroller",this.scrollDOM.appendChild(this.contentDOM),this.announceDOM=document.createElement("div"),this.announceDOM.className="cm-announced",this.announceDOM.setAttribute("aria-live","polite"),this.dom=document.createElement("div"),this.dom.appendChild(this.announceDOM),this.dom.appendChild(this.scrollDOM),e.parent&&e.parent.appendChild(this.dom);let{dispatch:n}=e;this.dispatchTransactions=e.dispatchTransactions||n&&(r=>r.forEach(s=>n(s,this)))||(r=>this.update(r)),this.dispatch=this.dispatch.bind(this),this._root=e.root||ev(e.parent)||document,this.viewState=new zh(e.state||ae.create(e)),e.scrollTo&&e.scrollTo.is(ss)&&(this.viewState.scrollTarget=e.scrollTo.value.clip(this.viewState.state)),this.plugins=this.state.facet(Hi).map(r=>new rl(r));for(let r of this.plugins)r.update(this);this.observer=new gS(this),this.inputState=new Xv(this),this.inputState.ensureHandlers(this.plugins),this.docView=new yh(this),this.mountStyles(),this.updateAttrs(),this.updateState=0,this.requestMeasure(),!((i=document.fonts)===null||i===void 0)&&i.ready&&document.fonts.ready.then(()=>this.requestMeasure())}dispatch(...e){let i=e.length==1&&e[0]instanceof Ae?e:e.length==1&&Array.isArray(e[0])?e[0]:[this.state.update(...e)];this.dispatchTransactions(i,this)}update(e){if(this.updateState!=0)throw new Error("Calls to EditorView.update are not allowed while an update is in progress");let i=!1,n=!1,r,s=this.state;for(let f of e){if(f.startState!=s)throw new RangeError("Trying to update state with a transaction that doesn't start from the previous state.");s=f.state}if(this.destroyed){this.viewState.state=s;return}let o=this.hasFocus,l=0,a=null;e.some(f=>f.annotation(em))?(this.inputState.notifiedFocused=o,l=1):o!=this.inputState.notifiedFocused&&(this.inputState.notifiedFocused=o,a=tm(s,o),a||(l=1));let u=this.observer.delayedAndroidKey,c=null;if(u?(this.observer.clearDelayedAndroidKey(),c=this.observer.readChange(),(c&&!this.state.doc.eq(s.doc)||!this.state.selection.eq(s.selection))&&(c=null)):this.observer.clear(),s.facet(ae.phrases)!=this.state.facet(ae.phrases))return this.setState(s);r=io.create(this,s,e),r.flags|=l;let h=this.viewState.scrollTarget;try{this.updateState=2;for(let f of e){if(h&&(h=h.map(f.changes)),f.scrollIntoView){let{main:d}=f.state.selection;h=new rn(d.empty?d:M.cursor(d.head,d.head>d.anchor?-1:1))}for(let d of f.effects)d.is(ss)&&(h=d.value.clip(this.state))}this.viewState.update(r,h),this.bidiCache=ro.update(this.bidiCache,r.changes),r.empty||(this.updatePlugins(r),this.inputState.update(r)),i=this.docView.update(r),this.state.facet(Yn)!=this.styleModules&&this.mountStyles(),n=this.updateAttrs(),this.showAnnouncements(e),this.docView.updateSelection(i,e.some(f=>f.isUserEvent("select.pointer")))}finally{this.updateState=0}if(r.startState.facet(hs)!=r.state.facet(hs)&&(this.viewState.mustMeasureContent=!0),(i||n||h||this.viewState.mustEnforceCursorAssoc||this.viewState.mustMeasureContent)&&this.requestMeasure(),i&&this.docViewUpdate(),!r.empty)for(let f of this.state.facet(_a))try{f(r)}catch(d){ht(this.state,d,"update listener")}(a||c)&&Promise.resolve().then(()=>{a&&this.state==a.startState&&this.dispatch(a),c&&!N0(this,c)&&u.force&&nn(this.contentDOM,u.key,u.keyCode)})}setState(e){if(this.updateState!=0)throw new Error("Calls to EditorView.setState are not allowed while an update is in progress");if(this.destroyed){this.viewState.state=e;return}this.updateState=2;let i=this.hasFocus;try{for(let n of this.plugins)n.destroy(this);this.viewState=new zh(e),this.plugins=e.facet(Hi).map(n=>new rl(n)),this.pluginMap.clear();for(let n of this.plugins)n.update(this);this.docView.destroy(),this.docView=new yh(this),this.inputState.ensureHandlers(this.plugins),this.mountStyles(),this.updateAttrs(),this.bidiCache=[]}finally{this.updateState=0}i&&this.focus(),this.requestMeasure()}updatePlugins(e){let i=e.startState.facet(Hi),n=e.state.facet(Hi);if(i!=n){let r=[];for(let s of n){let o=i.indexOf(s);if(o<0)r.push(new rl(s));else{let l=this.plugins[o];l.mustUpdate=e,r.push(l)}}for(let s of this.plugins)s.mustUpdate!=e&&s.destroy(this);this.plugins=r,this.pluginMap.clear()}else for(let r of this.plugins)r.mustUpdate=e;for(let r=0;r<this.plugins.length;r++)this.plugins[r].update(this);i!=n&&this.inputState.ensureHandlers(this.plugins)}docViewUpdate(){for(let e of this.plugins){let i=e.value;if(i&&i.docViewUpdate)try{i.docViewUpdate(this)}catch(n){ht(this.state,n,"doc view update listener")}}}measure(e=!0){if(this.destroyed)return;if(this.measureScheduled>-1&&this.win.cancelAnimationFrame(this.measureScheduled),this.observer.delayedAndroidKey){this.measureScheduled=-1,this.requestMeasure();return}this.measureScheduled=0,e&&this.observer.forceFlush();let i=null,n=this.scrollDOM,r=n.scrollTop*this.scaleY,{scrollAnchorPos:s,scrollAnchorHeight:o}=this.viewState;Math.abs(r-this.viewState.scrollTop)>1&&(o=-1),this.viewState.scrollAnchorHeight=-1;try{for(let l=0;;l++){if(o<0)if(p0(n))s=-1,o=this.viewState.heightMap.height;else{let d=this.viewState.scrollAnchorAt(r);s=d.from,o=d.top}this.updateState=1;let a=this.viewState.measure(this);if(!a&&!this.measureRequests.length&&this.viewState.scrollTarget==null)break;if(l>5){console.warn(this.measureRequests.length?"Measure loop restarted more than 5 times":"Viewport failed to stabilize");break}let u=[];a&4||([this.measureRequests,u]=[u,this.measureRequests]);let c=u.map(d=>{try{return d.read(this)}catch(p){return ht(this.state,p),Bh}}),h=io.create(this,this.state,[]),f=!1;h.flags|=a,i?i.flags|=a:i=h,this.updateState=2,h.empty||(this.updatePlugins(h),this.inputState.update(h),this.updateAttrs(),f=this.docView.update(h),f&&this.docViewUpdate());for(let d=0;d<u.length;d++)if(c[d]!=Bh)try{let p=u[d];p.write&&p.write(c[d],this)}catch(p){ht(this.state,p)}if(f&&this.docView.updateSelection(!0),!h.viewportChanged&&this.measureRequests.length==0){if(this.viewState.editorHeight)if(this.viewState.scrollTarget){this.docView.scrollIntoView(this.viewState.scrollTarget),this.viewState.scrollTarget=null,o=-1;continue}else{let p=(s<0?this.viewState.heightMap.height:this.viewState.lineBlockAt(s).top)-o;if(p>1||p<-1){r=r+p,n.scrollTop=r/this.scaleY,o=-1;continue}}break}}}finally{this.updateState=0,this.measureScheduled=-1}if(i&&!i.empty)for(let l of this.state.facet(_a))l(i)}get themeClasses(){return Ea+" "+(this.state.facet(Aa)?sm:rm)+" "+this.state.facet(hs)}updateAttrs(){let e=qh(this,z0,{class:"cm-editor"+(this.hasFocus?" cm-focused ":" ")+this.themeClasses}),i={spellcheck:"false",autocorrect:"off",autocapitalize:"off",writingsuggestions:"false",translate:"no",contenteditable:this.state.facet(Kt)?"true":"false",class:"cm-content",style:`${N.tabSize}: ${this.state.tabSize}`,role:"textbox","aria-multiline":"true"};this.state.readOnly&&(i["aria-readonly"]="true"),qh(this,Su,i);let n=this.observer.ignore(()=>{let r=va(this.contentDOM,this.contentAttrs,i),s=va(this.dom,this.editorAttrs,e);return r||s});return this.editorAttrs=e,this.contentAttrs=i,n}showAnnouncements(e){let i=!0;for(let n of e)for(let r of n.effects)if(r.is(W.announce)){i&&(this.announceDOM.textContent=""),i=!1;let s=this.announceDOM.appendChild(document.createElement("div"));s.textContent=r.value}}mountStyles(){this.styleModules=this.state.facet(Yn);let e=this.state.facet(W.cspNonce);vi.mount(this.root,this.styleModules.concat(mS).reverse(),e?{nonce:e}:void 0)}readMeasured(){if(this.updateState==2)throw new Error("Reading the editor layout isn't allowed during an update");this.updateState==0&&this.measureScheduled>-1&&this.measure(!1)}requestMeasure(e){if(this.measureScheduled<0&&(this.measureScheduled=this.win.requestAnimationFrame(()=>this.measure())),e){if(this.measureRequests.indexOf(e)>-1)return;if(e.key!=null){for(let i=0;i<this.measureRequests.length;i++)if(this.measureRequests[i].key===e.key){this.measureRequests[i]=e;return}}this.measureRequests.push(e)}}plugin(e){let i=this.pluginMap.get(e);return(i===void 0||i&&i.plugin!=e)&&this.pluginMap.set(e,i=this.plugins.find(n=>n.plugin==e)||null),i&&i.update(this).value}get documentTop(){return this.contentDOM.getBoundingClientRect().top+this.viewState.paddingTop}get documentPadding(){return{top:this.viewState.paddingTop,bottom:this.viewState.paddingBottom}}get scaleX(){return this.viewState.scaleX}get scaleY(){return this.viewState.scaleY}elementAtHeight(e){return this.readMeasured(),this.viewState.elementAtHeight(e)}lineBlockAtHeight(e){return this.readMeasured(),this.viewState.lineBlockAtHeight(e)}get viewportLineBlocks(){return this.viewState.viewportLines}lineBlockAt(e){return this.viewState.lineBlockAt(e)}get contentHeight(){return this.viewState.contentHeight}moveByChar(e,i,n){return ol(this,e,Qh(this,e,i,n))}moveByGroup(e,i){return ol(this,e,Qh(this,e,i,n=>Av(this,e.head,n)))}visualLineSide(e,i){let n=this.bidiSpans(e),r=this.textDirectionAt(e.from),s=n[i?n.length-1:0];return M.cursor(s.side(i,r)+e.from,s.forward(!i,r)?1:-1)}moveToLineBoundary(e,i,n=!0){return Tv(this,e,i,n)}moveVertically(e,i,n){return ol(this,e,Ev(this,e,i,n))}domAtPos(e){return this.docView.domAtPos(e)}posAtDOM(e,i=0){return this.docView.posFromDOM(e,i)}posAtCoords(e,i=!0){return this.readMeasured(),q0(this,e,i)}coordsAtPos(e,i=1){this.readMeasured();let n=this.docView.coordsAt(e,i);if(!n||n.left==n.right)return n;let r=this.state.doc.lineAt(e),s=this.bidiSpans(r),o=s[gi.find(s,e-r.from,-1,i)];return zr(n,o.dir==_e.LTR==i>0)}coordsForChar(e){return this.readMeasured(),this.docView.coordsForChar(e)}get defaultCharacterWidth(){return this.viewState.heightOracle.charWidth}get defaultLineHeight(){return this.viewState.heightOracle.lineHeight}get textDirection(){return this.viewState.defaultTextDirection}textDirectionAt(e){return!this.state.facet(R0)||e<this.viewport.from||e>this.viewport.to?this.textDirection:(this.readMeasured(),this.docView.textDirectionAt(e))}get lineWrapping(){return this.viewState.heightOracle.lineWrapping}bidiSpans(e){if(e.length>yS)return _0(e.length);let i=this.textDirectionAt(e.from),n;for(let s of this.bidiCache)if(s.from==e.from&&s.dir==i&&(s.fresh||$0(s.isolates,n=xh(this,e))))return s.order;n||(n=xh(this,e));let r=pv(e.text,i,n);return this.bidiCache.push(new ro(e.from,e.to,i,n,!0,r)),r}get hasFocus(){var e;return(this.dom.ownerDocument.hasFocus()||N.safari&&((e=this.inputState)===null||e===void 0?void 0:e.lastContextMenu)>Date.now()-3e4)&&this.root.activeElement==this.contentDOM}focus(){this.observer.ignore(()=>{f0(this.contentDOM),this.docView.updateSelection()})}setRoot(e){this._root!=e&&(this._root=e,this.observer.setWindow((e.nodeType==9?e:e.ownerDocument).defaultView||window),this.mountStyles())}destroy(){this.root.activeElement==this.contentDOM&&this.contentDOM.blur();for(let e of this.plugins)e.destroy(this);this.plugins=[],this.inputState.destroy(),this.docView.destroy(),this.dom.remove(),this.observer.destroy(),this.measureScheduled>-1&&this.win.cancelAnimationFrame(this.measureScheduled),this.destroyed=!0}static scrollIntoView(e,i={}){return ss.of(new rn(typeof e=="number"?M.cursor(e):e,i.y,i.x,i.yMargin,i.xMargin))}scrollSnapshot(){let{scrollTop:e,scrollLeft:i}=this.scrollDOM,n=this.viewState.scrollAnchorAt(e);return ss.of(new rn(M.cursor(n.from),"start","start",n.top-e,i,!0))}setTabFocusMode(e){e==null?this.inputState.tabFocusMode=this.inputState.tabFocusMode<0?0:-1:typeof e=="boolean"?this.inputState.tabFocusMode=e?0:-1:this.inputState.tabFocusMode!=0&&(this.inputState.tabFocusMode=Date.now()+e)}static domEventHandlers(e){return mt.define(()=>({}),{eventHandlers:e})}static domEventObservers(e){return mt.define(()=>({}),{eventObservers:e})}static theme(e,i){let n=vi.newName(),r=[hs.of(n),Yn.of(Da(`.${n}`,e))];return i&&i.dark&&r.push(Aa.of(!0)),r}static baseTheme(e){return ri.lowest(Yn.of(Da("."+Ea,e,om)))}static findFromDOM(e){var i;let n=e.querySelector(".cm-content"),r=n&&ge.get(n)||ge.get(e);return((i=r?.rootView)===null||i===void 0?void 0:i.view)||null}}W.styleModule=Yn;W.inputHandler=D0;W.clipboardInputFilter=ku;W.clipboardOutputFilter=vu;W.scrollHandler=Z0;W.focusChangeEffect=M0;W.perLineTextDirection=R0;W.exceptionSink=E0;W.updateListener=_a;W.editable=Kt;W.mouseSelectionStyle=A0;W.dragMovesSelection=T0;W.clickAddsSelectionRange=C0;W.decorations=xr;W.outerDecorations=X0;W.atomicRanges=Fr;W.bidiIsolatedRanges=V0;W.scrollMargins=F0;W.darkTheme=Aa;W.cspNonce=U.define({combine:t=>t.length?t[0]:""});W.contentAttributes=Su;W.editorAttributes=z0;W.lineWrapping=W.contentAttributes.of({class:"cm-lineWrapping"});W.announce=re.define();const yS=4096,Bh={};class ro{constructor(e,i,n,r,s,o){this.from=e,this.to=i,this.dir=n,this.isolates=r,this.fresh=s,this.order=o}static update(e,i){if(i.empty&&!e.some(s=>s.fresh))return e;let n=[],r=e.length?e[e.length-1].dir:_e.LTR;for(let s=Math.max(0,e.length-10);s<e.length;s++){let o=e[s];o.dir==r&&!i.touchesRange(o.from,o.to)&&n.push(new ro(i.mapPos(o.from,1),i.mapPos(o.to,-1),o.dir,o.isolates,!1,o.order))}return n}}function qh(t,e,i){for(let n=t.state.facet(e),r=n.length-1;r>=0;r--){let s=n[r],o=typeof s=="function"?s(t):s;o&&ka(o,i)}return i}const kS=N.mac?"mac":N.windows?"win":N.linux?"linux":"key";function vS(t,e){const i=t.split(/-(?!$)/);let n=i[i.length-1];n=="Space"&&(n=" ");let r,s,o,l;for(let a=0;a<i.length-1;++a){const u=i[a];if(/^(cmd|meta|m)$/i.test(u))l=!0;else if(/^a(lt)?$/i.test(u))r=!0;else if(/^(c|ctrl|control)$/i.test(u))s=!0;else if(/^s(hift)?$/i.test(u))o=!0;else if(/^mod$/i.test(u))e=="mac"?l=!0:s=!0;else throw new Error("Unrecognized modifier name: "+u)}return r&&(n="Alt-"+n),s&&(n="Ctrl-"+n),l&&(n="Meta-"+n),o&&(n="Shift-"+n),n}function fs(t,e,i){return e.altKey&&(t="Alt-"+t),e.ctrlKey&&(t="Ctrl-"+t),e.metaKey&&(t="Meta-"+t),i!==!1&&e.shiftKey&&(t="Shift-"+t),t}const SS=ri.default(W.domEventHandlers({keydown(t,e){return am(lm(e.state),t,e,"editor")}})),Br=U.define({enables:SS}),jh=new WeakMap;function lm(t){let e=t.facet(Br),i=jh.get(e);return i||jh.set(e,i=$S(e.reduce((n,r)=>n.concat(r),[]))),i}function wS(t,e,i){return am(lm(t.state),e,t,i)}let di=null;const QS=4e3;function $S(t,e=kS){let i=Object.create(null),n=Object.create(null),r=(o,l)=>{let a=n[o];if(a==null)n[o]=l;else if(a!=l)throw new Error("Key binding "+o+" is used both as a regular binding and as a multi-stroke prefix")},s=(o,l,a,u,c)=>{var h,f;let d=i[o]||(i[o]=Object.create(null)),p=l.split(/ (?!$)/).map(g=>vS(g,e));for(let g=1;g<p.length;g++){let b=p.slice(0,g).join(" ");r(b,!0),d[b]||(d[b]={preventDefault:!0,stopPropagation:!1,run:[S=>{let x=di={view:S,prefix:b,scope:o};return setTimeout(()=>{di==x&&(di=null)},QS),!0}]})}let m=p.join(" ");r(m,!1);let O=d[m]||(d[m]={preventDefault:!1,stopPropagation:!1,run:((f=(h=d._any)===null||h===void 0?void 0:h.run)===null||f===void 0?void 0:f.slice())||[]});a&&O.run.push(a),u&&(O.preventDefault=!0),c&&(O.stopPropagation=!0)};for(let o of t){let l=o.scope?o.scope.split(" "):["editor"];if(o.any)for(let u of l){let c=i[u]||(i[u]=Object.create(null));c._any||(c._any={preventDefault:!1,stopPropagation:!1,run:[]});let{any:h}=o;for(let f in c)c[f].run.push(d=>h(d,Ma))}let a=o[e]||o.key;if(a)for(let u of l)s(u,a,o.run,o.preventDefault,o.stopPropagation),o.shift&&s(u,"Shift-"+a,o.shift,o.preventDefault,o.stopPropagation)}return i}let Ma=null;function am(t,e,i,n){Ma=e;let r=Wk(e),s=ui(r,0),o=Di(s)==r.length&&r!=" ",l="",a=!1,u=!1,c=!1;di&&di.view==i&&di.scope==n&&(l=di.prefix+" ",U0.indexOf(e.keyCode)<0&&(u=!0,di=null));let h=new Set,f=O=>{if(O){for(let g of O.run)if(!h.has(g)&&(h.add(g),g(i)))return O.stopPropagation&&(c=!0),!0;O.preventDefault&&(O.stopPropagation&&(c=!0),u=!0)}return!1},d=t[n],p,m;return d&&(f(d[l+fs(r,e,!o)])?a=!0:o&&(e.altKey||e.metaKey||e.ctrlKey)&&!(N.windows&&e.ctrlKey&&e.altKey)&&!(N.mac&&e.altKey&&!(e.ctrlKey||e.metaKey))&&(p=Si[e.keyCode])&&p!=r?(f(d[l+fs(p,e,!0)])||e.shiftKey&&(m=gr[e.keyCode])!=r&&m!=p&&f(d[l+fs(m,e,!1)]))&&(a=!0):o&&e.shiftKey&&f(d[l+fs(r,e,!0)])&&(a=!0),!a&&f(d._any)&&(a=!0)),u&&(a=!0),a&&c&&e.stopPropagation(),Ma=null,a}class qr{constructor(e,i,n,r,s){this.className=e,this.left=i,this.top=n,this.width=r,this.height=s}draw(){let e=document.createElement("div");return e.className=this.className,this.adjust(e),e}update(e,i){return i.className!=this.className?!1:(this.adjust(e),!0)}adjust(e){e.style.left=this.left+"px",e.style.top=this.top+"px",this.width!=null&&(e.style.width=this.width+"px"),e.style.height=this.height+"px"}eq(e){return this.left==e.left&&this.top==e.top&&this.width==e.width&&this.height==e.height&&this.className==e.className}static forRange(e,i,n){if(n.empty){let r=e.coordsAtPos(n.head,n.assoc||1);if(!r)return[];let s=um(e);return[new qr(i,r.left-s.left,r.top-s.top,null,r.bottom-r.top)]}else return _S(e,i,n)}}function um(t){let e=t.scrollDOM.getBoundingClientRect();return{left:(t.textDirection==_e.LTR?e.left:e.right-t.scrollDOM.clientWidth*t.scaleX)-t.scrollDOM.scrollLeft*t.scaleX,top:e.top-t.scrollDOM.scrollTop*t.scaleY}}function Yh(t,e,i,n){let r=t.coordsAtPos(e,i*2);if(!r)return n;let s=t.dom.getBoundingClientRect(),o=(r.top+r.bottom)/2,l=t.posAtCoords({x:s.left+1,y:o}),a=t.posAtCoords({x:s.right-1,y:o});return l==null||a==null?n:{from:Math.max(n.from,Math.min(l,a)),to:Math.min(n.to,Math.max(l,a))}}function _S(t,e,i){if(i.to<=t.viewport.from||i.from>=t.viewport.to)return[];let n=Math.max(i.from,t.viewport.from),r=Math.min(i.to,t.viewport.to),s=t.textDirection==_e.LTR,o=t.contentDOM,l=o.getBoundingClientRect(),a=um(t),u=o.querySelector(".cm-line"),c=u&&window.getComputedStyle(u),h=l.left+(c?parseInt(c.paddingLeft)+Math.min(0,parseInt(c.textIndent)):0),f=l.right-(c?parseInt(c.paddingRight):0),d=Ca(t,n,1),p=Ca(t,r,-1),m=d.type==dt.Text?d:null,O=p.type==dt.Text?p:null;if(m&&(t.lineWrapping||d.widgetLineBreaks)&&(m=Yh(t,n,1,m)),O&&(t.lineWrapping||p.widgetLineBreaks)&&(O=Yh(t,r,-1,O)),m&&O&&m.from==O.from&&m.to==O.to)return b(S(i.from,i.to,m));{let y=m?S(i.from,null,m):x(d,!1),$=O?S(null,i.to,O):x(p,!0),_=[];return(m||d).to<(O||p).from-(m&&O?1:0)||d.widgetLineBreaks>1&&y.bottom+t.defaultLineHeight/2<$.top?_.push(g(h,y.bottom,f,$.top)):y.bottom<$.top&&t.elementAtHeight((y.bottom+$.top)/2).type==dt.Text&&(y.bottom=$.top=(y.bottom+$.top)/2),b(y).concat(_).concat(b($))}function g(y,$,_,P){return new qr(e,y-a.left,$-a.top,_-y,P-$)}function b({top:y,bottom:$,horizontal:_}){let P=[];for(let A=0;A<_.length;A+=2)P.push(g(_[A],y,_[A+1],$));return P}function S(y,$,_){let P=1e9,A=-1e9,z=[];function V(q,B,D,F,Z){let I=t.coordsAtPos(q,q==_.to?-2:2),K=t.coordsAtPos(D,D==_.from?2:-2);!I||!K||(P=Math.min(I.top,K.top,P),A=Math.max(I.bottom,K.bottom,A),Z==_e.LTR?z.push(s&&B?h:I.left,s&&F?f:K.right):z.push(!s&&F?h:K.left,!s&&B?f:I.right))}let E=y??_.from,X=$??_.to;for(let q of t.visibleRanges)if(q.to>E&&q.from<X)for(let B=Math.max(q.from,E),D=Math.min(q.to,X);;){let F=t.state.doc.lineAt(B);for(let Z of t.bidiSpans(F)){let I=Z.from+F.from,K=Z.to+F.from;if(I>=D)break;K>B&&V(Math.max(I,B),y==null&&I<=E,Math.min(K,D),$==null&&K>=X,Z.dir)}if(B=F.to+1,B>=D)break}return z.length==0&&V(E,y==null,X,$==null,t.textDirection),{top:P,bottom:A,horizontal:z}}function x(y,$){let _=l.top+($?y.top:y.bottom);return{top:_,bottom:_,horizontal:[]}}}function PS(t,e){return t.constructor==e.constructor&&t.eq(e)}class CS{constructor(e,i){this.view=e,this.layer=i,this.drawn=[],this.scaleX=1,this.scaleY=1,this.measureReq={read:this.measure.bind(this),write:this.draw.bind(this)},this.dom=e.scrollDOM.appendChild(document.createElement("div")),this.dom.classList.add("cm-layer"),i.above&&this.dom.classList.add("cm-layer-above"),i.class&&this.dom.classList.add(i.class),this.scale(),this.dom.setAttribute("aria-hidden","true"),this.setOrder(e.state),e.requestMeasure(this.measureReq),i.mount&&i.mount(this.dom,e)}update(e){e.startState.facet(Vs)!=e.state.facet(Vs)&&this.setOrder(e.state),(this.layer.update(e,this.dom)||e.geometryChanged)&&(this.scale(),e.view.requestMeasure(this.measureReq))}docViewUpdate(e){this.layer.updateOnDocViewUpdate!==!1&&e.requestMeasure(this.measureReq)}setOrder(e){let i=0,n=e.facet(Vs);for(;i<n.length&&n[i]!=this.layer;)i++;this.dom.style.zIndex=String((this.layer.above?150:-1)-i)}measure(){return this.layer.markers(this.view)}scale(){let{scaleX:e,scaleY:i}=this.view;(e!=this.scaleX||i!=this.scaleY)&&(this.scaleX=e,this.scaleY=i,this.dom.style.transform=`scale(${1/e}, ${1/i})`)}draw(e){if(e.length!=this.drawn.length||e.some((i,n)=>!PS(i,this.drawn[n]))){let i=this.dom.firstChild,n=0;for(let r of e)r.update&&i&&r.constructor&&this.drawn[n].constructor&&r.update(i,this.drawn[n])?(i=i.nextSibling,n++):this.dom.insertBefore(r.draw(),i);for(;i;){let r=i.nextSibling;i.remove(),i=r}this.drawn=e,N.safari&&N.safari_version>=26&&(this.dom.style.display=this.dom.firstChild?"":"none")}}destroy(){this.layer.destroy&&this.layer.destroy(this.dom,this.view),this.dom.remove()}}const Vs=U.define();function cm(t){return[mt.define(e=>new CS(e,t)),Vs.of(t)]}const yr=U.define({combine(t){return Do(t,{cursorBlinkRate:1200,drawRangeCursor:!0},{cursorBlinkRate:(e,i)=>Math.min(e,i),drawRangeCursor:(e,i)=>e||i})}});function TS(t={}){return[yr.of(t),AS,ES,DS,L0.of(!0)]}function hm(t){return t.startState.facet(yr)!=t.state.facet(yr)}const AS=cm({above:!0,markers(t){let{state:e}=t,i=e.facet(yr),n=[];for(let r of e.selection.ranges){let s=r==e.selection.main;if(r.empty||i.drawRangeCursor){let o=s?"cm-cursor cm-cursor-primary":"cm-cursor cm-cursor-secondary",l=r.empty?r:M.cursor(r.head,r.head>r.anchor?-1:1);for(let a of qr.forRange(t,o,l))n.push(a)}}return n},update(t,e){t.transactions.some(n=>n.selection)&&(e.style.animationName=e.style.animationName=="cm-blink"?"cm-blink2":"cm-blink");let i=hm(t);return i&&Nh(t.state,e),t.docChanged||t.selectionSet||i},mount(t,e){Nh(e.state,t)},class:"cm-cursorLayer"});function Nh(t,e){e.style.animationDuration=t.facet(yr).cursorBlinkRate+"ms"}const ES=cm({above:!1,markers(t){return t.state.selection.ranges.map(e=>e.empty?[]:qr.forRange(t,"cm-selectionBackground",e)).reduce((e,i)=>e.concat(i))},update(t,e){return t.docChanged||t.selectionSet||t.viewportChanged||hm(t)},class:"cm-selectionLayer"}),DS=ri.highest(W.theme({".cm-line":{"& ::selection, &::selection":{backgroundColor:"transparent !important"},caretColor:"transparent !important"},".cm-content":{caretColor:"transparent !important","& :focus":{caretColor:"initial !important","&::selection, & ::selection":{backgroundColor:"Highlight !important"}}}}));class MS extends _n{constructor(e){super(),this.content=e}toDOM(e){let i=document.createElement("span");return i.className="cm-placeholder",i.style.pointerEvents="none",i.appendChild(typeof this.content=="string"?document.createTextNode(this.content):typeof this.content=="function"?this.content(e):this.content.cloneNode(!0)),i.setAttribute("aria-hidden","true"),i}coordsAt(e){let i=e.firstChild?fn(e.firstChild):[];if(!i.length)return null;let n=window.getComputedStyle(e.parentNode),r=zr(i[0],n.direction!="rtl"),s=parseInt(n.lineHeight);return r.bottom-r.top>s*1.5?{left:r.left,right:r.right,top:r.top,bottom:r.top+s}:r}ignoreEvent(){return!1}}function RS(t){let e=mt.fromClass(class{constructor(i){this.view=i,this.placeholder=t?Oe.set([Oe.widget({widget:new MS(t),side:1}).range(0)]):Oe.none}get decorations(){return this.view.state.doc.length?Oe.none:this.placeholder}},{decorations:i=>i.decorations});return typeof t=="string"?[e,W.contentAttributes.of({"aria-placeholder":t})]:e}const ds="-10000px";class LS{constructor(e,i,n,r){this.facet=i,this.createTooltipView=n,this.removeTooltipView=r,this.input=e.state.facet(i),this.tooltips=this.input.filter(o=>o);let s=null;this.tooltipViews=this.tooltips.map(o=>s=n(o,s))}update(e,i){var n;let r=e.state.facet(this.facet),s=r.filter(a=>a);if(r===this.input){for(let a of this.tooltipViews)a.update&&a.update(e);return!1}let o=[],l=i?[]:null;for(let a=0;a<s.length;a++){let u=s[a],c=-1;if(u){for(let h=0;h<this.tooltips.length;h++){let f=this.tooltips[h];f&&f.create==u.create&&(c=h)}if(c<0)o[a]=this.createTooltipView(u,a?o[a-1]:null),l&&(l[a]=!!u.above);else{let h=o[a]=this.tooltipViews[c];l&&(l[a]=i[c]),h.update&&h.update(e)}}}for(let a of this.tooltipViews)o.indexOf(a)<0&&(this.removeTooltipView(a),(n=a.destroy)===null||n===void 0||n.call(a));return i&&(l.forEach((a,u)=>i[u]=a),i.length=l.length),this.input=r,this.tooltips=s,this.tooltipViews=o,!0}}function ZS(t){let e=t.dom.ownerDocument.documentElement;return{top:0,left:0,bottom:e.clientHeight,right:e.clientWidth}}const ul=U.define({combine:t=>{var e,i,n;return{position:N.ios?"absolute":((e=t.find(r=>r.position))===null||e===void 0?void 0:e.position)||"fixed",parent:((i=t.find(r=>r.parent))===null||i===void 0?void 0:i.parent)||null,tooltipSpace:((n=t.find(r=>r.tooltipSpace))===null||n===void 0?void 0:n.tooltipSpace)||ZS}}}),Wh=new WeakMap,fm=mt.fromClass(class{constructor(t){this.view=t,this.above=[],this.inView=!0,this.madeAbsolute=!1,this.lastTransaction=0,this.measureTimeout=-1;let e=t.state.facet(ul);this.position=e.position,this.parent=e.parent,this.classes=t.themeClasses,this.createContainer(),this.measureReq={read:this.readMeasure.bind(this),write:this.writeMeasure.bind(this),key:this},this.resizeObserver=typeof ResizeObserver=="function"?new ResizeObserver(()=>this.measureSoon()):null,this.manager=new LS(t,Pu,(i,n)=>this.createTooltip(i,n),i=>{this.resizeObserver&&this.resizeObserver.unobserve(i.dom),i.dom.remove()}),this.above=this.manager.tooltips.map(i=>!!i.above),this.intersectionObserver=typeof IntersectionObserver=="function"?new IntersectionObserver(i=>{Date.now()>this.lastTransaction-50&&i.length>0&&i[i.length-1].intersectionRatio<1&&this.measureSoon()},{threshold:[1]}):null,this.observeIntersection(),t.win.addEventListener("resize",this.measureSoon=this.measureSoon.bind(this)),this.maybeMeasure()}createContainer(){this.parent?(this.container=document.createElement("div"),this.container.style.position="relative",this.container.className=this.view.themeClasses,this.parent.appendChild(this.container)):this.container=this.view.dom}observeIntersection(){if(this.intersectionObserver){this.intersectionObserver.disconnect();for(let t of this.manager.tooltipViews)this.intersectionObserver.observe(t.dom)}}measureSoon(){this.measureTimeout<0&&(this.measureTimeout=setTimeout(()=>{this.measureTimeout=-1,this.maybeMeasure()},50))}update(t){t.transactions.length&&(this.lastTransaction=Date.now());let e=this.manager.update(t,this.above);e&&this.observeIntersection();let i=e||t.geometryChanged,n=t.state.facet(ul);if(n.position!=this.position&&!this.madeAbsolute){this.position=n.position;for(let r of this.manager.tooltipViews)r.dom.style.position=this.position;i=!0}if(n.parent!=this.parent){this.parent&&this.container.remove(),this.parent=n.parent,this.createContainer();for(let r of this.manager.tooltipViews)this.container.appendChild(r.dom);i=!0}else this.parent&&this.view.themeClasses!=this.classes&&(this.classes=this.container.className=this.view.themeClasses);i&&this.maybeMeasure()}createTooltip(t,e){let i=t.create(this.view),n=e?e.dom:null;if(i.dom.classList.add("cm-tooltip"),t.arrow&&!i.dom.querySelector(".cm-tooltip > .cm-tooltip-arrow")){let r=document.createElement("div");r.className="cm-tooltip-arrow",i.dom.appendChild(r)}return i.dom.style.position=this.position,i.dom.style.top=ds,i.dom.style.left="0px",this.container.insertBefore(i.dom,n),i.mount&&i.mount(this.view),this.resizeObserver&&this.resizeObserver.observe(i.dom),i}destroy(){var t,e,i;this.view.win.removeEventListener("resize",this.measureSoon);for(let n of this.manager.tooltipViews)n.dom.remove(),(t=n.destroy)===null||t===void 0||t.call(n);this.parent&&this.container.remove(),(e=this.resizeObserver)===null||e===void 0||e.disconnect(),(i=this.intersectionObserver)===null||i===void 0||i.disconnect(),clearTimeout(this.measureTimeout)}readMeasure(){let t=1,e=1,i=!1;if(this.position=="fixed"&&this.manager.tooltipViews.length){let{dom:s}=this.manager.tooltipViews[0];if(N.safari){let o=s.getBoundingClientRect();i=Math.abs(o.top+1e4)>1||Math.abs(o.left)>1}else i=!!s.offsetParent&&s.offsetParent!=this.container.ownerDocument.body}if(i||this.position=="absolute")if(this.parent){let s=this.parent.getBoundingClientRect();s.width&&s.height&&(t=s.width/this.parent.offsetWidth,e=s.height/this.parent.offsetHeight)}else({scaleX:t,scaleY:e}=this.view.viewState);let n=this.view.scrollDOM.getBoundingClientRect(),r=wu(this.view);return{visible:{left:n.left+r.left,top:n.top+r.top,right:n.right-r.right,bottom:n.bottom-r.bottom},parent:this.parent?this.container.getBoundingClientRect():this.view.dom.getBoundingClientRect(),pos:this.manager.tooltips.map((s,o)=>{let l=this.manager.tooltipViews[o];return l.getCoords?l.getCoords(s.pos):this.view.coordsAtPos(s.pos)}),size:this.manager.tooltipViews.map(({dom:s})=>s.getBoundingClientRect()),space:this.view.state.facet(ul).tooltipSpace(this.view),scaleX:t,scaleY:e,makeAbsolute:i}}writeMeasure(t){var e;if(t.makeAbsolute){this.madeAbsolute=!0,this.position="absolute";for(let l of this.manager.tooltipViews)l.dom.style.position="absolute"}let{visible:i,space:n,scaleX:r,scaleY:s}=t,o=[];for(let l=0;l<this.manager.tooltips.length;l++){let a=this.manager.tooltips[l],u=this.manager.tooltipViews[l],{dom:c}=u,h=t.pos[l],f=t.size[l];if(!h||a.clip!==!1&&(h.bottom<=Math.max(i.top,n.top)||h.top>=Math.min(i.bottom,n.bottom)||h.right<Math.max(i.left,n.left)-.1||h.left>Math.min(i.right,n.right)+.1)){c.style.top=ds;continue}let d=a.arrow?u.dom.querySelector(".cm-tooltip-arrow"):null,p=d?7:0,m=f.right-f.left,O=(e=Wh.get(u))!==null&&e!==void 0?e:f.bottom-f.top,g=u.offset||zS,b=this.view.textDirection==_e.LTR,S=f.width>n.right-n.left?b?n.left:n.right-f.width:b?Math.max(n.left,Math.min(h.left-(d?14:0)+g.x,n.right-m)):Math.min(Math.max(n.left,h.left-m+(d?14:0)-g.x),n.right-m),x=this.above[l];!a.strictSide&&(x?h.top-O-p-g.y<n.top:h.bottom+O+p+g.y>n.bottom)&&x==n.bottom-h.bottom>h.top-n.top&&(x=this.above[l]=!x);let y=(x?h.top-n.top:n.bottom-h.bottom)-p;if(y<O&&u.resize!==!1){if(y<this.view.defaultLineHeight){c.style.top=ds;continue}Wh.set(u,O),c.style.height=(O=y)/s+"px"}else c.style.height&&(c.style.height="");let $=x?h.top-O-p-g.y:h.bottom+p+g.y,_=S+m;if(u.overlap!==!0)for(let P of o)P.left<_&&P.right>S&&P.top<$+O&&P.bottom>$&&($=x?P.top-O-2-p:P.bottom+p+2);if(this.position=="absolute"?(c.style.top=($-t.parent.top)/s+"px",Gh(c,(S-t.parent.left)/r)):(c.style.top=$/s+"px",Gh(c,S/r)),d){let P=h.left+(b?g.x:-g.x)-(S+14-7);d.style.left=P/r+"px"}u.overlap!==!0&&o.push({left:S,top:$,right:_,bottom:$+O}),c.classList.toggle("cm-tooltip-above",x),c.classList.toggle("cm-tooltip-below",!x),u.positioned&&u.positioned(t.space)}}maybeMeasure(){if(this.manager.tooltips.length&&(this.view.inView&&this.view.requestMeasure(this.measureReq),this.inView!=this.view.inView&&(this.inView=this.view.inView,!this.inView)))for(let t of this.manager.tooltipViews)t.dom.style.top=ds}},{eventObservers:{scroll(){this.maybeMeasure()}}});function Gh(t,e){let i=parseInt(t.style.left,10);(isNaN(i)||Math.abs(e-i)>1)&&(t.style.left=e+"px")}const IS=W.baseTheme({".cm-tooltip":{zIndex:500,boxSizing:"border-box"},"&light .cm-tooltip":{border:"1px solid #bbb",backgroundColor:"#f5f5f5"},"&light .cm-tooltip-section:not(:first-child)":{borderTop:"1px solid #bbb"},"&dark .cm-tooltip":{backgroundColor:"#333338",color:"white"},".cm-tooltip-arrow":{height:"7px",width:"14px",position:"absolute",zIndex:-1,overflow:"hidden","&:before, &:after":{content:"''",position:"absolute",width:0,height:0,borderLeft:"7px solid transparent",borderRight:"7px solid transparent"},".cm-tooltip-above &":{bottom:"-7px","&:before":{borderTop:"7px solid #bbb"},"&:after":{borderTop:"7px solid #f5f5f5",bottom:"1px"}},".cm-tooltip-below &":{top:"-7px","&:before":{borderBottom:"7px solid #bbb"},"&:after":{borderBottom:"7px solid #f5f5f5",top:"1px"}}},"&dark .cm-tooltip .cm-tooltip-arrow":{"&:before":{borderTopColor:"#333338",borderBottomColor:"#333338"},"&:after":{borderTopColor:"transparent",borderBottomColor:"transparent"}}}),zS={x:0,y:0},Pu=U.define({enables:[fm,IS]});function dm(t,e){let i=t.plugin(fm);if(!i)return null;let n=i.manager.tooltips.indexOf(e);return n<0?null:i.manager.tooltipViews[n]}const Uh=U.define({combine(t){let e,i;for(let n of t)e=e||n.topContainer,i=i||n.bottomContainer;return{topContainer:e,bottomContainer:i}}});function so(t,e){let i=t.plugin(pm),n=i?i.specs.indexOf(e):-1;return n>-1?i.panels[n]:null}const pm=mt.fromClass(class{constructor(t){this.input=t.state.facet(oo),this.specs=this.input.filter(i=>i),this.panels=this.specs.map(i=>i(t));let e=t.state.facet(Uh);this.top=new ps(t,!0,e.topContainer),this.bottom=new ps(t,!1,e.bottomContainer),this.top.sync(this.panels.filter(i=>i.top)),this.bottom.sync(this.panels.filter(i=>!i.top));for(let i of this.panels)i.dom.classList.add("cm-panel"),i.mount&&i.mount()}update(t){let e=t.state.facet(Uh);this.top.container!=e.topContainer&&(this.top.sync([]),this.top=new ps(t.view,!0,e.topContainer)),this.bottom.container!=e.bottomContainer&&(this.bottom.sync([]),this.bottom=new ps(t.view,!1,e.bottomContainer)),this.top.syncClasses(),this.bottom.syncClasses();let i=t.state.facet(oo);if(i!=this.input){let n=i.filter(a=>a),r=[],s=[],o=[],l=[];for(let a of n){let u=this.specs.indexOf(a),c;u<0?(c=a(t.view),l.push(c)):(c=this.panels[u],c.update&&c.update(t)),r.push(c),(c.top?s:o).push(c)}this.specs=n,this.panels=r,this.top.sync(s),this.bottom.sync(o);for(let a of l)a.dom.classList.add("cm-panel"),a.mount&&a.mount()}else for(let n of this.panels)n.update&&n.update(t)}destroy(){this.top.sync([]),this.bottom.sync([])}},{provide:t=>W.scrollMargins.of(e=>{let i=e.plugin(t);return i&&{top:i.top.scrollMargin(),bottom:i.bottom.scrollMargin()}})});class ps{constructor(e,i,n){this.view=e,this.top=i,this.container=n,this.dom=void 0,this.classes="",this.panels=[],this.syncClasses()}sync(e){for(let i of this.panels)i.destroy&&e.indexOf(i)<0&&i.destroy();this.panels=e,this.syncDOM()}syncDOM(){if(this.panels.length==0){this.dom&&(this.dom.remove(),this.dom=void 0);return}if(!this.dom){this.dom=document.createElement("div"),this.dom.className=this.top?"cm-panels cm-panels-top":"cm-panels cm-panels-bottom",this.dom.style[this.top?"top":"bottom"]="0";let i=this.container||this.view.dom;i.insertBefore(this.dom,this.top?i.firstChild:null)}let e=this.dom.firstChild;for(let i of this.panels)if(i.dom.parentNode==this.dom){for(;e!=i.dom;)e=Hh(e);e=e.nextSibling}else this.dom.insertBefore(i.dom,e);for(;e;)e=Hh(e)}scrollMargin(){return!this.dom||this.container?0:Math.max(0,this.top?this.dom.getBoundingClientRect().bottom-Math.max(0,this.view.scrollDOM.getBoundingClientRect().top):Math.min(innerHeight,this.view.scrollDOM.getBoundingClientRect().bottom)-this.dom.getBoundingClientRect().top)}syncClasses(){if(!(!this.container||this.classes==this.view.themeClasses)){for(let e of this.classes.split(" "))e&&this.container.classList.remove(e);for(let e of(this.classes=this.view.themeClasses).split(" "))e&&this.container.classList.add(e)}}}function Hh(t){let e=t.nextSibling;return t.remove(),e}const oo=U.define({enables:pm});class On extends Ii{compare(e){return this==e||this.constructor==e.constructor&&this.eq(e)}eq(e){return!1}destroy(e){}}On.prototype.elementClass="";On.prototype.toDOM=void 0;On.prototype.mapMode=We.TrackBefore;On.prototype.startSide=On.prototype.endSide=-1;On.prototype.point=!0;const mm=1024;let XS=0;class gt{constructor(e,i){this.from=e,this.to=i}}class te{constructor(e={}){this.id=XS++,this.perNode=!!e.perNode,this.deserialize=e.deserialize||(()=>{throw new Error("This node type doesn't define a deserialize function")}),this.combine=e.combine||null}add(e){if(this.perNode)throw new RangeError("Can't add per-node props to node types");return typeof e!="function"&&(e=De.match(e)),i=>{let n=e(i);return n===void 0?null:[this,n]}}}te.closedBy=new te({deserialize:t=>t.split(" ")});te.openedBy=new te({deserialize:t=>t.split(" ")});te.group=new te({deserialize:t=>t.split(" ")});te.isolate=new te({deserialize:t=>{if(t&&t!="rtl"&&t!="ltr"&&t!="auto")throw new RangeError("Invalid value for isolate: "+t);return t||"auto"}});te.contextHash=new te({perNode:!0});te.lookAhead=new te({perNode:!0});te.mounted=new te({perNode:!0});class kr{constructor(e,i,n){this.tree=e,this.overlay=i,this.parser=n}static get(e){return e&&e.props&&e.props[te.mounted.id]}}const VS=Object.create(null);class De{constructor(e,i,n,r=0){this.name=e,this.props=i,this.id=n,this.flags=r}static define(e){let i=e.props&&e.props.length?Object.create(null):VS,n=(e.top?1:0)|(e.skipped?2:0)|(e.error?4:0)|(e.name==null?8:0),r=new De(e.name||"",i,e.id,n);if(e.props){for(let s of e.props)if(Array.isArray(s)||(s=s(r)),s){if(s[0].perNode)throw new RangeError("Can't store a per-node prop on a node type");i[s[0].id]=s[1]}}return r}prop(e){return this.props[e.id]}get isTop(){return(this.flags&1)>0}get isSkipped(){return(this.flags&2)>0}get isError(){return(this.flags&4)>0}get isAnonymous(){return(this.flags&8)>0}is(e){if(typeof e=="string"){if(this.name==e)return!0;let i=this.prop(te.group);return i?i.indexOf(e)>-1:!1}return this.id==e}static match(e){let i=Object.create(null);for(let n in e)for(let r of n.split(" "))i[r]=e[n];return n=>{for(let r=n.prop(te.group),s=-1;s<(r?r.length:0);s++){let o=i[s<0?n.name:r[s]];if(o)return o}}}}De.none=new De("",Object.create(null),0,8);class Pn{constructor(e){this.types=e;for(let i=0;i<e.length;i++)if(e[i].id!=i)throw new RangeError("Node type ids should correspond to array positions when creating a node set")}extend(...e){let i=[];for(let n of this.types){let r=null;for(let s of e){let o=s(n);if(o){r||(r=Object.assign({},n.props));let l=o[1],a=o[0];a.combine&&a.id in r&&(l=a.combine(r[a.id],l)),r[a.id]=l}}i.push(r?new De(n.name,r,n.id,n.flags):n)}return new Pn(i)}}const ms=new WeakMap,Kh=new WeakMap;var ye;(function(t){t[t.ExcludeBuffers=1]="ExcludeBuffers",t[t.IncludeAnonymous=2]="IncludeAnonymous",t[t.IgnoreMounts=4]="IgnoreMounts",t[t.IgnoreOverlays=8]="IgnoreOverlays"})(ye||(ye={}));class se{constructor(e,i,n,r,s){if(this.type=e,this.children=i,this.positions=n,this.length=r,this.props=null,s&&s.length){this.props=Object.create(null);for(let[o,l]of s)this.props[typeof o=="number"?o:o.id]=l}}toString(){let e=kr.get(this);if(e&&!e.overlay)return e.tree.toString();let i="";for(let n of this.children){let r=n.toString();r&&(i&&(i+=","),i+=r)}return this.type.name?(/\W/.test(this.type.name)&&!this.type.isError?JSON.stringify(this.type.name):this.type.name)+(i.length?"("+i+")":""):i}cursor(e=0){return new lo(this.topNode,e)}cursorAt(e,i=0,n=0){let r=ms.get(this)||this.topNode,s=new lo(r);return s.moveTo(e,i),ms.set(this,s._tree),s}get topNode(){return new je(this,0,0,null)}resolve(e,i=0){let n=vr(ms.get(this)||this.topNode,e,i,!1);return ms.set(this,n),n}resolveInner(e,i=0){let n=vr(Kh.get(this)||this.topNode,e,i,!0);return Kh.set(this,n),n}resolveStack(e,i=0){return qS(this,e,i)}iterate(e){let{enter:i,leave:n,from:r=0,to:s=this.length}=e,o=e.mode||0,l=(o&ye.IncludeAnonymous)>0;for(let a=this.cursor(o|ye.IncludeAnonymous);;){let u=!1;if(a.from<=s&&a.to>=r&&(!l&&a.type.isAnonymous||i(a)!==!1)){if(a.firstChild())continue;u=!0}for(;u&&n&&(l||!a.type.isAnonymous)&&n(a),!a.nextSibling();){if(!a.parent())return;u=!0}}}prop(e){return e.perNode?this.props?this.props[e.id]:void 0:this.type.prop(e)}get propValues(){let e=[];if(this.props)for(let i in this.props)e.push([+i,this.props[i]]);return e}balance(e={}){return this.children.length<=8?this:Au(De.none,this.children,this.positions,0,this.children.length,0,this.length,(i,n,r)=>new se(this.type,i,n,r,this.propValues),e.makeTree||((i,n,r)=>new se(De.none,i,n,r)))}static build(e){return jS(e)}}se.empty=new se(De.none,[],[],0);class Cu{constructor(e,i){this.buffer=e,this.index=i}get id(){return this.buffer[this.index-4]}get start(){return this.buffer[this.index-3]}get end(){return this.buffer[this.index-2]}get size(){return this.buffer[this.index-1]}get pos(){return this.index}next(){this.index-=4}fork(){return new Cu(this.buffer,this.index)}}class Qi{constructor(e,i,n){this.buffer=e,this.length=i,this.set=n}get type(){return De.none}toString(){let e=[];for(let i=0;i<this.buffer.length;)e.push(this.childString(i)),i=this.buffer[i+3];return e.join(",")}childString(e){let i=this.buffer[e],n=this.buffer[e+3],r=this.set.types[i],s=r.name;if(/\W/.test(s)&&!r.isError&&(s=JSON.stringify(s)),e+=4,n==e)return s;let o=[];for(;e<n;)o.push(this.childString(e)),e=this.buffer[e+3];return s+"("+o.join(",")+")"}findChild(e,i,n,r,s){let{buffer:o}=this,l=-1;for(let a=e;a!=i&&!(Om(s,r,o[a+1],o[a+2])&&(l=a,n>0));a=o[a+3]);return l}slice(e,i,n){let r=this.buffer,s=new Uint16Array(i-e),o=0;for(let l=e,a=0;l<i;){s[a++]=r[l++],s[a++]=r[l++]-n;let u=s[a++]=r[l++]-n;s[a++]=r[l++]-e,o=Math.max(o,u)}return new Qi(s,o,this.set)}}function Om(t,e,i,n){switch(t){case-2:return i<e;case-1:return n>=e&&i<e;case 0:return i<e&&n>e;case 1:return i<=e&&n>e;case 2:return n>e;case 4:return!0}}function vr(t,e,i,n){for(var r;t.from==t.to||(i<1?t.from>=e:t.from>e)||(i>-1?t.to<=e:t.to<e);){let o=!n&&t instanceof je&&t.index<0?null:t.parent;if(!o)return t;t=o}let s=n?0:ye.IgnoreOverlays;if(n)for(let o=t,l=o.parent;l;o=l,l=o.parent)o instanceof je&&o.index<0&&((r=l.enter(e,i,s))===null||r===void 0?void 0:r.from)!=o.from&&(t=l);for(;;){let o=t.enter(e,i,s);if(!o)return t;t=o}}class gm{cursor(e=0){return new lo(this,e)}getChild(e,i=null,n=null){let r=Jh(this,e,i,n);return r.length?r[0]:null}getChildren(e,i=null,n=null){return Jh(this,e,i,n)}resolve(e,i=0){return vr(this,e,i,!1)}resolveInner(e,i=0){return vr(this,e,i,!0)}matchContext(e){return Ra(this.parent,e)}enterUnfinishedNodesBefore(e){let i=this.childBefore(e),n=this;for(;i;){let r=i.lastChild;if(!r||r.to!=i.to)break;r.type.isError&&r.from==r.to?(n=i,i=r.prevSibling):i=r}return n}get node(){return this}get next(){return this.parent}}class je extends gm{constructor(e,i,n,r){super(),this._tree=e,this.from=i,this.index=n,this._parent=r}get type(){return this._tree.type}get name(){return this._tree.type.name}get to(){return this.from+this._tree.length}nextChild(e,i,n,r,s=0){for(let o=this;;){for(let{children:l,positions:a}=o._tree,u=i>0?l.length:-1;e!=u;e+=i){let c=l[e],h=a[e]+o.from;if(Om(r,n,h,h+c.length)){if(c instanceof Qi){if(s&ye.ExcludeBuffers)continue;let f=c.findChild(0,c.buffer.length,i,n-h,r);if(f>-1)return new Bt(new FS(o,c,e,h),null,f)}else if(s&ye.IncludeAnonymous||!c.type.isAnonymous||Tu(c)){let f;if(!(s&ye.IgnoreMounts)&&(f=kr.get(c))&&!f.overlay)return new je(f.tree,h,e,o);let d=new je(c,h,e,o);return s&ye.IncludeAnonymous||!d.type.isAnonymous?d:d.nextChild(i<0?c.children.length-1:0,i,n,r)}}}if(s&ye.IncludeAnonymous||!o.type.isAnonymous||(o.index>=0?e=o.index+i:e=i<0?-1:o._parent._tree.children.length,o=o._parent,!o))return null}}get firstChild(){return this.nextChild(0,1,0,4)}get lastChild(){return this.nextChild(this._tree.children.length-1,-1,0,4)}childAfter(e){return this.nextChild(0,1,e,2)}childBefore(e){return this.nextChild(this._tree.children.length-1,-1,e,-2)}prop(e){return this._tree.prop(e)}enter(e,i,n=0){let r;if(!(n&ye.IgnoreOverlays)&&(r=kr.get(this._tree))&&r.overlay){let s=e-this.from;for(let{from:o,to:l}of r.overlay)if((i>0?o<=s:o<s)&&(i<0?l>=s:l>s))return new je(r.tree,r.overlay[0].from+this.from,-1,this)}return this.nextChild(0,1,e,i,n)}nextSignificantParent(){let e=this;for(;e.type.isAnonymous&&e._parent;)e=e._parent;return e}get parent(){return this._parent?this._parent.nextSignificantParent():null}get nextSibling(){return this._parent&&this.index>=0?this._parent.nextChild(this.index+1,1,0,4):null}get prevSibling(){return this._parent&&this.index>=0?this._parent.nextChild(this.index-1,-1,0,4):null}get tree(){return this._tree}toTree(){return this._tree}toString(){return this._tree.toString()}}function Jh(t,e,i,n){let r=t.cursor(),s=[];if(!r.firstChild())return s;if(i!=null){for(let o=!1;!o;)if(o=r.type.is(i),!r.nextSibling())return s}for(;;){if(n!=null&&r.type.is(n))return s;if(r.type.is(e)&&s.push(r.node),!r.nextSibling())return n==null?s:[]}}function Ra(t,e,i=e.length-1){for(let n=t;i>=0;n=n.parent){if(!n)return!1;if(!n.type.isAnonymous){if(e[i]&&e[i]!=n.name)return!1;i--}}return!0}class FS{constructor(e,i,n,r){this.parent=e,this.buffer=i,this.index=n,this.start=r}}class Bt extends gm{get name(){return this.type.name}get from(){return this.context.start+this.context.buffer.buffer[this.index+1]}get to(){return this.context.start+this.context.buffer.buffer[this.index+2]}constructor(e,i,n){super(),this.context=e,this._parent=i,this.index=n,this.type=e.buffer.set.types[e.buffer.buffer[n]]}child(e,i,n){let{buffer:r}=this.context,s=r.findChild(this.index+4,r.buffer[this.index+3],e,i-this.context.start,n);return s<0?null:new Bt(this.context,this,s)}get firstChild(){return this.child(1,0,4)}get lastChild(){return this.child(-1,0,4)}childAfter(e){return this.child(1,e,2)}childBefore(e){return this.child(-1,e,-2)}prop(e){return this.type.prop(e)}enter(e,i,n=0){if(n&ye.ExcludeBuffers)return null;let{buffer:r}=this.context,s=r.findChild(this.index+4,r.buffer[this.index+3],i>0?1:-1,e-this.context.start,i);return s<0?null:new Bt(this.context,this,s)}get parent(){return this._parent||this.context.parent.nextSignificantParent()}externalSibling(e){return this._parent?null:this.context.parent.nextChild(this.context.index+e,e,0,4)}get nextSibling(){let{buffer:e}=this.context,i=e.buffer[this.index+3];return i<(this._parent?e.buffer[this._parent.index+3]:e.buffer.length)?new Bt(this.context,this._parent,i):this.externalSibling(1)}get prevSibling(){let{buffer:e}=this.context,i=this._parent?this._parent.index+4:0;return this.index==i?this.externalSibling(-1):new Bt(this.context,this._parent,e.findChild(i,this.index,-1,0,4))}get tree(){return null}toTree(){let e=[],i=[],{buffer:n}=this.context,r=this.index+4,s=n.buffer[this.index+3];if(s>r){let o=n.buffer[this.index+1];e.push(n.slice(r,s,o)),i.push(0)}return new se(this.type,e,i,this.to-this.from)}toString(){return this.context.buffer.childString(this.index)}}function bm(t){if(!t.length)return null;let e=0,i=t[0];for(let s=1;s<t.length;s++){let o=t[s];(o.from>i.from||o.to<i.to)&&(i=o,e=s)}let n=i instanceof je&&i.index<0?null:i.parent,r=t.slice();return n?r[e]=n:r.splice(e,1),new BS(r,i)}class BS{constructor(e,i){this.heads=e,this.node=i}get next(){return bm(this.heads)}}function qS(t,e,i){let n=t.resolveInner(e,i),r=null;for(let s=n instanceof je?n:n.context.parent;s;s=s.parent)if(s.index<0){let o=s.parent;(r||(r=[n])).push(o.resolve(e,i)),s=o}else{let o=kr.get(s.tree);if(o&&o.overlay&&o.overlay[0].from<=e&&o.overlay[o.overlay.length-1].to>=e){let l=new je(o.tree,o.overlay[0].from+s.from,-1,s);(r||(r=[n])).push(vr(l,e,i,!1))}}return r?bm(r):n}class lo{get name(){return this.type.name}constructor(e,i=0){if(this.mode=i,this.buffer=null,this.stack=[],this.index=0,this.bufferNode=null,e instanceof je)this.yieldNode(e);else{this._tree=e.context.parent,this.buffer=e.context;for(let n=e._parent;n;n=n._parent)this.stack.unshift(n.index);this.bufferNode=e,this.yieldBuf(e.index)}}yieldNode(e){return e?(this._tree=e,this.type=e.type,this.from=e.from,this.to=e.to,!0):!1}yieldBuf(e,i){this.index=e;let{start:n,buffer:r}=this.buffer;return this.type=i||r.set.types[r.buffer[e]],this.from=n+r.buffer[e+1],this.to=n+r.buffer[e+2],!0}yield(e){return e?e instanceof je?(this.buffer=null,this.yieldNode(e)):(this.buffer=e.context,this.yieldBuf(e.index,e.type)):!1}toString(){return this.buffer?this.buffer.buffer.childString(this.index):this._tree.toString()}enterChild(e,i,n){if(!this.buffer)return this.yield(this._tree.nextChild(e<0?this._tree._tree.children.length-1:0,e,i,n,this.mode));let{buffer:r}=this.buffer,s=r.findChild(this.index+4,r.buffer[this.index+3],e,i-this.buffer.start,n);return s<0?!1:(this.stack.push(this.index),this.yieldBuf(s))}firstChild(){return this.enterChild(1,0,4)}lastChild(){return this.enterChild(-1,0,4)}childAfter(e){return this.enterChild(1,e,2)}childBefore(e){return this.enterChild(-1,e,-2)}enter(e,i,n=this.mode){return this.buffer?n&ye.ExcludeBuffers?!1:this.enterChild(1,e,i):this.yield(this._tree.enter(e,i,n))}parent(){if(!this.buffer)return this.yieldNode(this.mode&ye.IncludeAnonymous?this._tree._parent:this._tree.parent);if(this.stack.length)return this.yieldBuf(this.stack.pop());let e=this.mode&ye.IncludeAnonymous?this.buffer.parent:this.buffer.parent.nextSignificantParent();return this.buffer=null,this.yieldNode(e)}sibling(e){if(!this.buffer)return this._tree._parent?this.yield(this._tree.index<0?null:this._tree._parent.nextChild(this._tree.index+e,e,0,4,this.mode)):!1;let{buffer:i}=this.buffer,n=this.stack.length-1;if(e<0){let r=n<0?0:this.stack[n]+4;if(this.index!=r)return this.yieldBuf(i.findChild(r,this.index,-1,0,4))}else{let r=i.buffer[this.index+3];if(r<(n<0?i.buffer.length:i.buffer[this.stack[n]+3]))return this.yieldBuf(r)}return n<0?this.yield(this.buffer.parent.nextChild(this.buffer.index+e,e,0,4,this.mode)):!1}nextSibling(){return this.sibling(1)}prevSibling(){return this.sibling(-1)}atLastNode(e){let i,n,{buffer:r}=this;if(r){if(e>0){if(this.index<r.buffer.buffer.length)return!1}else for(let s=0;s<this.index;s++)if(r.buffer.buffer[s+3]<this.index)return!1;({index:i,parent:n}=r)}else({index:i,_parent:n}=this._tree);for(;n;{index:i,_parent:n}=n)if(i>-1)for(let s=i+e,o=e<0?-1:n._tree.children.length;s!=o;s+=e){let l=n._tree.children[s];if(this.mode&ye.IncludeAnonymous||l instanceof Qi||!l.type.isAnonymous||Tu(l))return!1}return!0}move(e,i){if(i&&this.enterChild(e,0,4))return!0;for(;;){if(this.sibling(e))return!0;if(this.atLastNode(e)||!this.parent())return!1}}next(e=!0){return this.move(1,e)}prev(e=!0){return this.move(-1,e)}moveTo(e,i=0){for(;(this.from==this.to||(i<1?this.from>=e:this.from>e)||(i>-1?this.to<=e:this.to<e))&&this.parent(););for(;this.enterChild(1,e,i););return this}get node(){if(!this.buffer)return this._tree;let e=this.bufferNode,i=null,n=0;if(e&&e.context==this.buffer)e:for(let r=this.index,s=this.stack.length;s>=0;){for(let o=e;o;o=o._parent)if(o.index==r){if(r==this.index)return o;i=o,n=s+1;break e}r=this.stack[--s]}for(let r=n;r<this.stack.length;r++)i=new Bt(this.buffer,i,this.stack[r]);return this.bufferNode=new Bt(this.buffer,i,this.index)}get tree(){return this.buffer?null:this._tree._tree}iterate(e,i){for(let n=0;;){let r=!1;if(this.type.isAnonymous||e(this)!==!1){if(this.firstChild()){n++;continue}this.type.isAnonymous||(r=!0)}for(;;){if(r&&i&&i(this),r=this.type.isAnonymous,!n)return;if(this.nextSibling())break;this.parent(),n--,r=!0}}}matchContext(e){if(!this.buffer)return Ra(this.node.parent,e);let{buffer:i}=this.buffer,{types:n}=i.set;for(let r=e.length-1,s=this.stack.length-1;r>=0;s--){if(s<0)return Ra(this._tree,e,r);let o=n[i.buffer[this.stack[s]]];if(!o.isAnonymous){if(e[r]&&e[r]!=o.name)return!1;r--}}return!0}}function Tu(t){return t.children.some(e=>e instanceof Qi||!e.type.isAnonymous||Tu(e))}function jS(t){var e;let{buffer:i,nodeSet:n,maxBufferLength:r=mm,reused:s=[],minRepeatType:o=n.types.length}=t,l=Array.isArray(i)?new Cu(i,i.length):i,a=n.types,u=0,c=0;function h(y,$,_,P,A,z){let{id:V,start:E,end:X,size:q}=l,B=c,D=u;if(q<0)if(l.next(),q==-1){let oe=s[V];_.push(oe),P.push(E-y);return}else if(q==-3){u=V;return}else if(q==-4){c=V;return}else throw new RangeError(`Unrecognized record size: ${q}`);let F=a[V],Z,I,K=E-y;if(X-E<=r&&(I=O(l.pos-$,A))){let oe=new Uint16Array(I.size-I.skip),ne=l.pos-I.size,de=oe.length;for(;l.pos>ne;)de=g(I.start,oe,de);Z=new Qi(oe,X-I.start,n),K=I.start-y}else{let oe=l.pos-q;l.next();let ne=[],de=[],pe=V>=o?V:-1,me=0,He=X;for(;l.pos>oe;)pe>=0&&l.id==pe&&l.size>=0?(l.end<=He-r&&(p(ne,de,E,me,l.end,He,pe,B,D),me=ne.length,He=l.end),l.next()):z>2500?f(E,oe,ne,de):h(E,oe,ne,de,pe,z+1);if(pe>=0&&me>0&&me<ne.length&&p(ne,de,E,me,E,He,pe,B,D),ne.reverse(),de.reverse(),pe>-1&&me>0){let _i=d(F,D);Z=Au(F,ne,de,0,ne.length,0,X-E,_i,_i)}else Z=m(F,ne,de,X-E,B-X,D)}_.push(Z),P.push(K)}function f(y,$,_,P){let A=[],z=0,V=-1;for(;l.pos>$;){let{id:E,start:X,end:q,size:B}=l;if(B>4)l.next();else{if(V>-1&&X<V)break;V<0&&(V=q-r),A.push(E,X,q),z++,l.next()}}if(z){let E=new Uint16Array(z*4),X=A[A.length-2];for(let q=A.length-3,B=0;q>=0;q-=3)E[B++]=A[q],E[B++]=A[q+1]-X,E[B++]=A[q+2]-X,E[B++]=B;_.push(new Qi(E,A[2]-X,n)),P.push(X-y)}}function d(y,$){return(_,P,A)=>{let z=0,V=_.length-1,E,X;if(V>=0&&(E=_[V])instanceof se){if(!V&&E.type==y&&E.length==A)return E;(X=E.prop(te.lookAhead))&&(z=P[V]+E.length+X)}return m(y,_,P,A,z,$)}}function p(y,$,_,P,A,z,V,E,X){let q=[],B=[];for(;y.length>P;)q.push(y.pop()),B.push($.pop()+_-A);y.push(m(n.types[V],q,B,z-A,E-z,X)),$.push(A-_)}function m(y,$,_,P,A,z,V){if(z){let E=[te.contextHash,z];V=V?[E].concat(V):[E]}if(A>25){let E=[te.lookAhead,A];V=V?[E].concat(V):[E]}return new se(y,$,_,P,V)}function O(y,$){let _=l.fork(),P=0,A=0,z=0,V=_.end-r,E={size:0,start:0,skip:0};e:for(let X=_.pos-y;_.pos>X;){let q=_.size;if(_.id==$&&q>=0){E.size=P,E.start=A,E.skip=z,z+=4,P+=4,_.next();continue}let B=_.pos-q;if(q<0||B<X||_.start<V)break;let D=_.id>=o?4:0,F=_.start;for(_.next();_.pos>B;){if(_.size<0)if(_.size==-3||_.size==-4)D+=4;else break e;else _.id>=o&&(D+=4);_.next()}A=F,P+=q,z+=D}return($<0||P==y)&&(E.size=P,E.start=A,E.skip=z),E.size>4?E:void 0}function g(y,$,_){let{id:P,start:A,end:z,size:V}=l;if(l.next(),V>=0&&P<o){let E=_;if(V>4){let X=l.pos-(V-4);for(;l.pos>X;)_=g(y,$,_)}$[--_]=E,$[--_]=z-y,$[--_]=A-y,$[--_]=P}else V==-3?u=P:V==-4&&(c=P);return _}let b=[],S=[];for(;l.pos>0;)h(t.start||0,t.bufferStart||0,b,S,-1,0);let x=(e=t.length)!==null&&e!==void 0?e:b.length?S[0]+b[0].length:0;return new se(a[t.topID],b.reverse(),S.reverse(),x)}const ef=new WeakMap;function Fs(t,e){if(!t.isAnonymous||e instanceof Qi||e.type!=t)return 1;let i=ef.get(e);if(i==null){i=1;for(let n of e.children){if(n.type!=t||!(n instanceof se)){i=1;break}i+=Fs(t,n)}ef.set(e,i)}return i}function Au(t,e,i,n,r,s,o,l,a){let u=0;for(let p=n;p<r;p++)u+=Fs(t,e[p]);let c=Math.ceil(u*1.5/8),h=[],f=[];function d(p,m,O,g,b){for(let S=O;S<g;){let x=S,y=m[S],$=Fs(t,p[S]);for(S++;S<g;S++){let _=Fs(t,p[S]);if($+_>=c)break;$+=_}if(S==x+1){if($>c){let _=p[x];d(_.children,_.positions,0,_.children.length,m[x]+b);continue}h.push(p[x])}else{let _=m[S-1]+p[S-1].length-y;h.push(Au(t,p,m,x,S,y,_,null,a))}f.push(y+b-s)}}return d(e,i,n,r,0),(l||a)(h,f,o)}class xm{constructor(){this.map=new WeakMap}setBuffer(e,i,n){let r=this.map.get(e);r||this.map.set(e,r=new Map),r.set(i,n)}getBuffer(e,i){let n=this.map.get(e);return n&&n.get(i)}set(e,i){e instanceof Bt?this.setBuffer(e.context.buffer,e.index,i):e instanceof je&&this.map.set(e.tree,i)}get(e){return e instanceof Bt?this.getBuffer(e.context.buffer,e.index):e instanceof je?this.map.get(e.tree):void 0}cursorSet(e,i){e.buffer?this.setBuffer(e.buffer.buffer,e.index,i):this.map.set(e.tree,i)}cursorGet(e){return e.buffer?this.getBuffer(e.buffer.buffer,e.index):this.map.get(e.tree)}}class ei{constructor(e,i,n,r,s=!1,o=!1){this.from=e,this.to=i,this.tree=n,this.offset=r,this.open=(s?1:0)|(o?2:0)}get openStart(){return(this.open&1)>0}get openEnd(){return(this.open&2)>0}static addTree(e,i=[],n=!1){let r=[new ei(0,e.length,e,0,!1,n)];for(let s of i)s.to>e.length&&r.push(s);return r}static applyChanges(e,i,n=128){if(!i.length)return e;let r=[],s=1,o=e.length?e[0]:null;for(let l=0,a=0,u=0;;l++){let c=l<i.length?i[l]:null,h=c?c.fromA:1e9;if(h-a>=n)for(;o&&o.from<h;){let f=o;if(a>=f.from||h<=f.to||u){let d=Math.max(f.from,a)-u,p=Math.min(f.to,h)-u;f=d>=p?null:new ei(d,p,f.tree,f.offset+u,l>0,!!c)}if(f&&r.push(f),o.to>h)break;o=s<e.length?e[s++]:null}if(!c)break;a=c.toA,u=c.toA-c.toB}return r}}class Lo{startParse(e,i,n){return typeof e=="string"&&(e=new YS(e)),n=n?n.length?n.map(r=>new gt(r.from,r.to)):[new gt(0,0)]:[new gt(0,e.length)],this.createParse(e,i||[],n)}parse(e,i,n){let r=this.startParse(e,i,n);for(;;){let s=r.advance();if(s)return s}}}class YS{constructor(e){this.string=e}get length(){return this.string.length}chunk(e){return this.string.slice(e)}get lineChunks(){return!1}read(e,i){return this.string.slice(e,i)}}function ym(t){return(e,i,n,r)=>new WS(e,t,i,n,r)}class tf{constructor(e,i,n,r,s){this.parser=e,this.parse=i,this.overlay=n,this.target=r,this.from=s}}function nf(t){if(!t.length||t.some(e=>e.from>=e.to))throw new RangeError("Invalid inner parse ranges given: "+JSON.stringify(t))}class NS{constructor(e,i,n,r,s,o,l){this.parser=e,this.predicate=i,this.mounts=n,this.index=r,this.start=s,this.target=o,this.prev=l,this.depth=0,this.ranges=[]}}const La=new te({perNode:!0});class WS{constructor(e,i,n,r,s){this.nest=i,this.input=n,this.fragments=r,this.ranges=s,this.inner=[],this.innerDone=0,this.baseTree=null,this.stoppedAt=null,this.baseParse=e}advance(){if(this.baseParse){let n=this.baseParse.advance();if(!n)return null;if(this.baseParse=null,this.baseTree=n,this.startInner(),this.stoppedAt!=null)for(let r of this.inner)r.parse.stopAt(this.stoppedAt)}if(this.innerDone==this.inner.length){let n=this.baseTree;return this.stoppedAt!=null&&(n=new se(n.type,n.children,n.positions,n.length,n.propValues.concat([[La,this.stoppedAt]]))),n}let e=this.inner[this.innerDone],i=e.parse.advance();if(i){this.innerDone++;let n=Object.assign(Object.create(null),e.target.props);n[te.mounted.id]=new kr(i,e.overlay,e.parser),e.target.props=n}return null}get parsedPos(){if(this.baseParse)return 0;let e=this.input.length;for(let i=this.innerDone;i<this.inner.length;i++)this.inner[i].from<e&&(e=Math.min(e,this.inner[i].parse.parsedPos));return e}stopAt(e){if(this.stoppedAt=e,this.baseParse)this.baseParse.stopAt(e);else for(let i=this.innerDone;i<this.inner.length;i++)this.inner[i].parse.stopAt(e)}startInner(){let e=new HS(this.fragments),i=null,n=null,r=new lo(new je(this.baseTree,this.ranges[0].from,0,null),ye.IncludeAnonymous|ye.IgnoreMounts);e:for(let s,o;;){let l=!0,a;if(this.stoppedAt!=null&&r.from>=this.stoppedAt)l=!1;else if(e.hasNode(r)){if(i){let u=i.mounts.find(c=>c.frag.from<=r.from&&c.frag.to>=r.to&&c.mount.overlay);if(u)for(let c of u.mount.overlay){let h=c.from+u.pos,f=c.to+u.pos;h>=r.from&&f<=r.to&&!i.ranges.some(d=>d.from<f&&d.to>h)&&i.ranges.push({from:h,to:f})}}l=!1}else if(n&&(o=GS(n.ranges,r.from,r.to)))l=o!=2;else if(!r.type.isAnonymous&&(s=this.nest(r,this.input))&&(r.from<r.to||!s.overlay)){r.tree||(US(r),i&&i.depth++,n&&n.depth++);let u=e.findMounts(r.from,s.parser);if(typeof s.overlay=="function")i=new NS(s.parser,s.overlay,u,this.inner.length,r.from,r.tree,i);else{let c=of(this.ranges,s.overlay||(r.from<r.to?[new gt(r.from,r.to)]:[]));c.length&&nf(c),(c.length||!s.overlay)&&this.inner.push(new tf(s.parser,c.length?s.parser.startParse(this.input,lf(u,c),c):s.parser.startParse(""),s.overlay?s.overlay.map(h=>new gt(h.from-r.from,h.to-r.from)):null,r.tree,c.length?c[0].from:r.from)),s.overlay?c.length&&(n={ranges:c,depth:0,prev:n}):l=!1}}else if(i&&(a=i.predicate(r))&&(a===!0&&(a=new gt(r.from,r.to)),a.from<a.to)){let u=i.ranges.length-1;u>=0&&i.ranges[u].to==a.from?i.ranges[u]={from:i.ranges[u].from,to:a.to}:i.ranges.push(a)}if(l&&r.firstChild())i&&i.depth++,n&&n.depth++;else for(;!r.nextSibling();){if(!r.parent())break e;if(i&&!--i.depth){let u=of(this.ranges,i.ranges);u.length&&(nf(u),this.inner.splice(i.index,0,new tf(i.parser,i.parser.startParse(this.input,lf(i.mounts,u),u),i.ranges.map(c=>new gt(c.from-i.start,c.to-i.start)),i.target,u[0].from))),i=i.prev}n&&!--n.depth&&(n=n.prev)}}}}function GS(t,e,i){for(let n of t){if(n.from>=i)break;if(n.to>e)return n.from<=e&&n.to>=i?2:1}return 0}function rf(t,e,i,n,r,s){if(e<i){let o=t.buffer[e+1];n.push(t.slice(e,i,o)),r.push(o-s)}}function US(t){let{node:e}=t,i=[],n=e.context.buffer;do i.push(t.index),t.parent();while(!t.tree);let r=t.tree,s=r.children.indexOf(n),o=r.children[s],l=o.buffer,a=[s];function u(c,h,f,d,p,m){let O=i[m],g=[],b=[];rf(o,c,O,g,b,d);let S=l[O+1],x=l[O+2];a.push(g.length);let y=m?u(O+4,l[O+3],o.set.types[l[O]],S,x-S,m-1):e.toTree();return g.push(y),b.push(S-d),rf(o,l[O+3],h,g,b,d),new se(f,g,b,p)}r.children[s]=u(0,l.length,De.none,0,o.length,i.length-1);for(let c of a){let h=t.tree.children[c],f=t.tree.positions[c];t.yield(new je(h,f+t.from,c,t._tree))}}class sf{constructor(e,i){this.offset=i,this.done=!1,this.cursor=e.cursor(ye.IncludeAnonymous|ye.IgnoreMounts)}moveTo(e){let{cursor:i}=this,n=e-this.offset;for(;!this.done&&i.from<n;)i.to>=e&&i.enter(n,1,ye.IgnoreOverlays|ye.ExcludeBuffers)||i.next(!1)||(this.done=!0)}hasNode(e){if(this.moveTo(e.from),!this.done&&this.cursor.from+this.offset==e.from&&this.cursor.tree)for(let i=this.cursor.tree;;){if(i==e.tree)return!0;if(i.children.length&&i.positions[0]==0&&i.children[0]instanceof se)i=i.children[0];else break}return!1}}let HS=class{constructor(e){var i;if(this.fragments=e,this.curTo=0,this.fragI=0,e.length){let n=this.curFrag=e[0];this.curTo=(i=n.tree.prop(La))!==null&&i!==void 0?i:n.to,this.inner=new sf(n.tree,-n.offset)}else this.curFrag=this.inner=null}hasNode(e){for(;this.curFrag&&e.from>=this.curTo;)this.nextFrag();return this.curFrag&&this.curFrag.from<=e.from&&this.curTo>=e.to&&this.inner.hasNode(e)}nextFrag(){var e;if(this.fragI++,this.fragI==this.fragments.length)this.curFrag=this.inner=null;else{let i=this.curFrag=this.fragments[this.fragI];this.curTo=(e=i.tree.prop(La))!==null&&e!==void 0?e:i.to,this.inner=new sf(i.tree,-i.offset)}}findMounts(e,i){var n;let r=[];if(this.inner){this.inner.cursor.moveTo(e,1);for(let s=this.inner.cursor.node;s;s=s.parent){let o=(n=s.tree)===null||n===void 0?void 0:n.prop(te.mounted);if(o&&o.parser==i)for(let l=this.fragI;l<this.fragments.length;l++){let a=this.fragments[l];if(a.from>=s.to)break;a.tree==this.curFrag.tree&&r.push({frag:a,pos:s.from-a.offset,mount:o})}}}return r}};function of(t,e){let i=null,n=e;for(let r=1,s=0;r<t.length;r++){let o=t[r-1].to,l=t[r].from;for(;s<n.length;s++){let a=n[s];if(a.from>=l)break;a.to<=o||(i||(n=i=e.slice()),a.from<o?(i[s]=new gt(a.from,o),a.to>l&&i.splice(s+1,0,new gt(l,a.to))):a.to>l?i[s--]=new gt(l,a.to):i.splice(s--,1))}}return n}function KS(t,e,i,n){let r=0,s=0,o=!1,l=!1,a=-1e9,u=[];for(;;){let c=r==t.length?1e9:o?t[r].to:t[r].from,h=s==e.length?1e9:l?e[s].to:e[s].from;if(o!=l){let f=Math.max(a,i),d=Math.min(c,h,n);f<d&&u.push(new gt(f,d))}if(a=Math.min(c,h),a==1e9)break;c==a&&(o?(o=!1,r++):o=!0),h==a&&(l?(l=!1,s++):l=!0)}return u}function lf(t,e){let i=[];for(let{pos:n,mount:r,frag:s}of t){let o=n+(r.overlay?r.overlay[0].from:0),l=o+r.tree.length,a=Math.max(s.from,o),u=Math.min(s.to,l);if(r.overlay){let c=r.overlay.map(f=>new gt(f.from+n,f.to+n)),h=KS(e,c,a,u);for(let f=0,d=a;;f++){let p=f==h.length,m=p?u:h[f].from;if(m>d&&i.push(new ei(d,m,r.tree,-o,s.from>=d||s.openStart,s.to<=m||s.openEnd)),p)break;d=h[f].to}}else i.push(new ei(a,u,r.tree,-o,s.from>=o||s.openStart,s.to<=l||s.openEnd))}return i}let JS=0;class at{constructor(e,i,n,r){this.name=e,this.set=i,this.base=n,this.modified=r,this.id=JS++}toString(){let{name:e}=this;for(let i of this.modified)i.name&&(e=`${i.name}(${e})`);return e}static define(e,i){let n=typeof e=="string"?e:"?";if(e instanceof at&&(i=e),i?.base)throw new Error("Can not derive from a modified tag");let r=new at(n,[],null,[]);if(r.set.push(r),i)for(let s of i.set)r.set.push(s);return r}static defineModifier(e){let i=new ao(e);return n=>n.modified.indexOf(i)>-1?n:ao.get(n.base||n,n.modified.concat(i).sort((r,s)=>r.id-s.id))}}let ew=0;class ao{constructor(e){this.name=e,this.instances=[],this.id=ew++}static get(e,i){if(!i.length)return e;let n=i[0].instances.find(l=>l.base==e&&tw(i,l.modified));if(n)return n;let r=[],s=new at(e.name,r,e,i);for(let l of i)l.instances.push(s);let o=iw(i);for(let l of e.set)if(!l.modified.length)for(let a of o)r.push(ao.get(l,a));return s}}function tw(t,e){return t.length==e.length&&t.every((i,n)=>i==e[n])}function iw(t){let e=[[]];for(let i=0;i<t.length;i++)for(let n=0,r=e.length;n<r;n++)e.push(e[n].concat(t[i]));return e.sort((i,n)=>n.length-i.length)}function Cn(t){let e=Object.create(null);for(let i in t){let n=t[i];Array.isArray(n)||(n=[n]);for(let r of i.split(" "))if(r){let s=[],o=2,l=r;for(let h=0;;){if(l=="..."&&h>0&&h+3==r.length){o=1;break}let f=/^"(?:[^"\\]|\\.)*?"|[^\/!]+/.exec(l);if(!f)throw new RangeError("Invalid path: "+r);if(s.push(f[0]=="*"?"":f[0][0]=='"'?JSON.parse(f[0]):f[0]),h+=f[0].length,h==r.length)break;let d=r[h++];if(h==r.length&&d=="!"){o=0;break}if(d!="/")throw new RangeError("Invalid path: "+r);l=r.slice(h)}let a=s.length-1,u=s[a];if(!u)throw new RangeError("Invalid path: "+r);let c=new Sr(n,o,a>0?s.slice(0,a):null);e[u]=c.sort(e[u])}}return km.add(e)}const km=new te({combine(t,e){let i,n,r;for(;t||e;){if(!t||e&&t.depth>=e.depth?(r=e,e=e.next):(r=t,t=t.next),i&&i.mode==r.mode&&!r.context&&!i.context)continue;let s=new Sr(r.tags,r.mode,r.context);i?i.next=s:n=s,i=s}return n}});class Sr{constructor(e,i,n,r){this.tags=e,this.mode=i,this.context=n,this.next=r}get opaque(){return this.mode==0}get inherit(){return this.mode==1}sort(e){return!e||e.depth<this.depth?(this.next=e,this):(e.next=this.sort(e.next),e)}get depth(){return this.context?this.context.length:0}}Sr.empty=new Sr([],2,null);function vm(t,e){let i=Object.create(null);for(let s of t)if(!Array.isArray(s.tag))i[s.tag.id]=s.class;else for(let o of s.tag)i[o.id]=s.class;let{scope:n,all:r=null}=e||{};return{style:s=>{let o=r;for(let l of s)for(let a of l.set){let u=i[a.id];if(u){o=o?o+" "+u:u;break}}return o},scope:n}}function nw(t,e){let i=null;for(let n of t){let r=n.style(e);r&&(i=i?i+" "+r:r)}return i}function rw(t,e,i,n=0,r=t.length){let s=new sw(n,Array.isArray(e)?e:[e],i);s.highlightRange(t.cursor(),n,r,"",s.highlighters),s.flush(r)}class sw{constructor(e,i,n){this.at=e,this.highlighters=i,this.span=n,this.class=""}startSpan(e,i){i!=this.class&&(this.flush(e),e>this.at&&(this.at=e),this.class=i)}flush(e){e>this.at&&this.class&&this.span(this.at,e,this.class)}highlightRange(e,i,n,r,s){let{type:o,from:l,to:a}=e;if(l>=n||a<=i)return;o.isTop&&(s=this.highlighters.filter(d=>!d.scope||d.scope(o)));let u=r,c=ow(e)||Sr.empty,h=nw(s,c.tags);if(h&&(u&&(u+=" "),u+=h,c.mode==1&&(r+=(r?" ":"")+h)),this.startSpan(Math.max(i,l),u),c.opaque)return;let f=e.tree&&e.tree.prop(te.mounted);if(f&&f.overlay){let d=e.node.enter(f.overlay[0].from+l,1),p=this.highlighters.filter(O=>!O.scope||O.scope(f.tree.type)),m=e.firstChild();for(let O=0,g=l;;O++){let b=O<f.overlay.length?f.overlay[O]:null,S=b?b.from+l:a,x=Math.max(i,g),y=Math.min(n,S);if(x<y&&m)for(;e.from<y&&(this.highlightRange(e,x,y,r,s),this.startSpan(Math.min(y,e.to),u),!(e.to>=S||!e.nextSibling())););if(!b||S>n)break;g=b.to+l,g>i&&(this.highlightRange(d.cursor(),Math.max(i,b.from+l),Math.min(n,g),"",p),this.startSpan(Math.min(n,g),u))}m&&e.parent()}else if(e.firstChild()){f&&(r="");do if(!(e.to<=i)){if(e.from>=n)break;this.highlightRange(e,i,n,r,s),this.startSpan(Math.min(n,e.to),u)}while(e.nextSibling());e.parent()}}}function ow(t){let e=t.type.prop(km);for(;e&&e.context&&!t.matchContext(e.context);)e=e.next;return e||null}const Y=at.define,Os=Y(),ci=Y(),af=Y(ci),uf=Y(ci),hi=Y(),gs=Y(hi),cl=Y(hi),Lt=Y(),Pi=Y(Lt),Mt=Y(),Rt=Y(),Za=Y(),In=Y(Za),bs=Y(),v={comment:Os,lineComment:Y(Os),blockComment:Y(Os),docComment:Y(Os),name:ci,variableName:Y(ci),typeName:af,tagName:Y(af),propertyName:uf,attributeName:Y(uf),className:Y(ci),labelName:Y(ci),namespace:Y(ci),macroName:Y(ci),literal:hi,string:gs,docString:Y(gs),character:Y(gs),attributeValue:Y(gs),number:cl,integer:Y(cl),float:Y(cl),bool:Y(hi),regexp:Y(hi),escape:Y(hi),color:Y(hi),url:Y(hi),keyword:Mt,self:Y(Mt),null:Y(Mt),atom:Y(Mt),unit:Y(Mt),modifier:Y(Mt),operatorKeyword:Y(Mt),controlKeyword:Y(Mt),definitionKeyword:Y(Mt),moduleKeyword:Y(Mt),operator:Rt,derefOperator:Y(Rt),arithmeticOperator:Y(Rt),logicOperator:Y(Rt),bitwiseOperator:Y(Rt),compareOperator:Y(Rt),updateOperator:Y(Rt),definitionOperator:Y(Rt),typeOperator:Y(Rt),controlOperator:Y(Rt),punctuation:Za,separator:Y(Za),bracket:In,angleBracket:Y(In),squareBracket:Y(In),paren:Y(In),brace:Y(In),content:Lt,heading:Pi,heading1:Y(Pi),heading2:Y(Pi),heading3:Y(Pi),heading4:Y(Pi),heading5:Y(Pi),heading6:Y(Pi),contentSeparator:Y(Lt),list:Y(Lt),quote:Y(Lt),emphasis:Y(Lt),strong:Y(Lt),link:Y(Lt),monospace:Y(Lt),strikethrough:Y(Lt),inserted:Y(),deleted:Y(),changed:Y(),invalid:Y(),meta:bs,documentMeta:Y(bs),annotation:Y(bs),processingInstruction:Y(bs),definition:at.defineModifier("definition"),constant:at.defineModifier("constant"),function:at.defineModifier("function"),standard:at.defineModifier("standard"),local:at.defineModifier("local"),special:at.defineModifier("special")};for(let t in v){let e=v[t];e instanceof at&&(e.name=t)}vm([{tag:v.link,class:"tok-link"},{tag:v.heading,class:"tok-heading"},{tag:v.emphasis,class:"tok-emphasis"},{tag:v.strong,class:"tok-strong"},{tag:v.keyword,class:"tok-keyword"},{tag:v.atom,class:"tok-atom"},{tag:v.bool,class:"tok-bool"},{tag:v.url,class:"tok-url"},{tag:v.labelName,class:"tok-labelName"},{tag:v.inserted,class:"tok-inserted"},{tag:v.deleted,class:"tok-deleted"},{tag:v.literal,class:"tok-literal"},{tag:v.string,class:"tok-string"},{tag:v.number,class:"tok-number"},{tag:[v.regexp,v.escape,v.special(v.string)],class:"tok-string2"},{tag:v.variableName,class:"tok-variableName"},{tag:v.local(v.variableName),class:"tok-variableName tok-local"},{tag:v.definition(v.variableName),class:"tok-variableName tok-definition"},{tag:v.special(v.variableName),class:"tok-variableName2"},{tag:v.definition(v.propertyName),class:"tok-propertyName tok-definition"},{tag:v.typeName,class:"tok-typeName"},{tag:v.namespace,class:"tok-namespace"},{tag:v.className,class:"tok-className"},{tag:v.macroName,class:"tok-macroName"},{tag:v.propertyName,class:"tok-propertyName"},{tag:v.operator,class:"tok-operator"},{tag:v.comment,class:"tok-comment"},{tag:v.meta,class:"tok-meta"},{tag:v.invalid,class:"tok-invalid"},{tag:v.punctuation,class:"tok-punctuation"}]);var hl;const bi=new te;function Zo(t){return U.define({combine:t?e=>e.concat(t):void 0})}const Eu=new te;class ft{constructor(e,i,n=[],r=""){this.data=e,this.name=r,ae.prototype.hasOwnProperty("tree")||Object.defineProperty(ae.prototype,"tree",{get(){return Pe(this)}}),this.parser=i,this.extension=[xn.of(this),ae.languageData.of((s,o,l)=>{let a=cf(s,o,l),u=a.type.prop(bi);if(!u)return[];let c=s.facet(u),h=a.type.prop(Eu);if(h){let f=a.resolve(o-a.from,l);for(let d of h)if(d.test(f,s)){let p=s.facet(d.facet);return d.type=="replace"?p:p.concat(c)}}return c})].concat(n)}isActiveAt(e,i,n=-1){return cf(e,i,n).type.prop(bi)==this.data}findRegions(e){let i=e.facet(xn);if(i?.data==this.data)return[{from:0,to:e.doc.length}];if(!i||!i.allowsNesting)return[];let n=[],r=(s,o)=>{if(s.prop(bi)==this.data){n.push({from:o,to:o+s.length});return}let l=s.prop(te.mounted);if(l){if(l.tree.prop(bi)==this.data){if(l.overlay)for(let a of l.overlay)n.push({from:a.from+o,to:a.to+o});else n.push({from:o,to:o+s.length});return}else if(l.overlay){let a=n.length;if(r(l.tree,l.overlay[0].from+o),n.length>a)return}}for(let a=0;a<s.children.length;a++){let u=s.children[a];u instanceof se&&r(u,s.positions[a]+o)}};return r(Pe(e),0),n}get allowsNesting(){return!0}}ft.setState=re.define();function cf(t,e,i){let n=t.facet(xn),r=Pe(t).topNode;if(!n||n.allowsNesting)for(let s=r;s;s=s.enter(e,i,ye.ExcludeBuffers))s.type.isTop&&(r=s);return r}class gn extends ft{constructor(e,i,n){super(e,i,[],n),this.parser=i}static define(e){let i=Zo(e.languageData);return new gn(i,e.parser.configure({props:[bi.add(n=>n.isTop?i:void 0)]}),e.name)}configure(e,i){return new gn(this.data,this.parser.configure(e),i||this.name)}get allowsNesting(){return this.parser.hasWrappers()}}function Pe(t){let e=t.field(ft.state,!1);return e?e.tree:se.empty}class lw{constructor(e){this.doc=e,this.cursorPos=0,this.string="",this.cursor=e.iter()}get length(){return this.doc.length}syncTo(e){return this.string=this.cursor.next(e-this.cursorPos).value,this.cursorPos=e+this.string.length,this.cursorPos-this.string.length}chunk(e){return this.syncTo(e),this.string}get lineChunks(){return!0}read(e,i){let n=this.cursorPos-this.string.length;return e<n||i>=this.cursorPos?this.doc.sliceString(e,i):this.string.slice(e-n,i-n)}}let zn=null;class Bi{constructor(e,i,n=[],r,s,o,l,a){this.parser=e,this.state=i,this.fragments=n,this.tree=r,this.treeLen=s,this.viewport=o,this.skipped=l,this.scheduleOn=a,this.parse=null,this.tempSkipped=[]}static create(e,i,n){return new Bi(e,i,[],se.empty,0,n,[],null)}startParse(){return this.parser.startParse(new lw(this.state.doc),this.fragments)}work(e,i){return i!=null&&i>=this.state.doc.length&&(i=void 0),this.tree!=se.empty&&this.isDone(i??this.state.doc.length)?(this.takeTree(),!0):this.withContext(()=>{var n;if(typeof e=="number"){let r=Date.now()+e;e=()=>Date.now()>r}for(this.parse||(this.parse=this.startParse()),i!=null&&(this.parse.stoppedAt==null||this.parse.stoppedAt>i)&&i<this.state.doc.length&&this.parse.stopAt(i);;){let r=this.parse.advance();if(r)if(this.fragments=this.withoutTempSkipped(ei.addTree(r,this.fragments,this.parse.stoppedAt!=null)),this.treeLen=(n=this.parse.stoppedAt)!==null&&n!==void 0?n:this.state.doc.length,this.tree=r,this.parse=null,this.treeLen<(i??this.state.doc.length))this.parse=this.startParse();else return!0;if(e())return!1}})}takeTree(){let e,i;this.parse&&(e=this.parse.parsedPos)>=this.treeLen&&((this.parse.stoppedAt==null||this.parse.stoppedAt>e)&&this.parse.stopAt(e),this.withContext(()=>{for(;!(i=this.parse.advance()););}),this.treeLen=e,this.tree=i,this.fragments=this.withoutTempSkipped(ei.addTree(this.tree,this.fragments,!0)),this.parse=null)}withContext(e){let i=zn;zn=this;try{return e()}finally{zn=i}}withoutTempSkipped(e){for(let i;i=this.tempSkipped.pop();)e=hf(e,i.from,i.to);return e}changes(e,i){let{fragments:n,tree:r,treeLen:s,viewport:o,skipped:l}=this;if(this.takeTree(),!e.empty){let a=[];if(e.iterChangedRanges((u,c,h,f)=>a.push({fromA:u,toA:c,fromB:h,toB:f})),n=ei.applyChanges(n,a),r=se.empty,s=0,o={from:e.mapPos(o.from,-1),to:e.mapPos(o.to,1)},this.skipped.length){l=[];for(let u of this.skipped){let c=e.mapPos(u.from,1),h=e.mapPos(u.to,-1);c<h&&l.push({from:c,to:h})}}}return new Bi(this.parser,i,n,r,s,o,l,this.scheduleOn)}updateViewport(e){if(this.viewport.from==e.from&&this.viewport.to==e.to)return!1;this.viewport=e;let i=this.skipped.length;for(let n=0;n<this.skipped.length;n++){let{from:r,to:s}=this.skipped[n];r<e.to&&s>e.from&&(this.fragments=hf(this.fragments,r,s),this.skipped.splice(n--,1))}return this.skipped.length>=i?!1:(this.reset(),!0)}reset(){this.parse&&(this.takeTree(),this.parse=null)}skipUntilInView(e,i){this.skipped.push({from:e,to:i})}static getSkippingParser(e){return new class extends Lo{createParse(i,n,r){let s=r[0].from,o=r[r.length-1].to;return{parsedPos:s,advance(){let a=zn;if(a){for(let u of r)a.tempSkipped.push(u);e&&(a.scheduleOn=a.scheduleOn?Promise.all([a.scheduleOn,e]):e)}return this.parsedPos=o,new se(De.none,[],[],o-s)},stoppedAt:null,stopAt(){}}}}}isDone(e){e=Math.min(e,this.state.doc.length);let i=this.fragments;return this.treeLen>=e&&i.length&&i[0].from==0&&i[0].to>=e}static get(){return zn}}function hf(t,e,i){return ei.applyChanges(t,[{fromA:e,toA:i,fromB:e,toB:i}])}class bn{constructor(e){this.context=e,this.tree=e.tree}apply(e){if(!e.docChanged&&this.tree==this.context.tree)return this;let i=this.context.changes(e.changes,e.state),n=this.context.treeLen==e.startState.doc.length?void 0:Math.max(e.changes.mapPos(this.context.treeLen),i.viewport.to);return i.work(20,n)||i.takeTree(),new bn(i)}static init(e){let i=Math.min(3e3,e.doc.length),n=Bi.create(e.facet(xn).parser,e,{from:0,to:i});return n.work(20,i)||n.takeTree(),new bn(n)}}ft.state=it.define({create:bn.init,update(t,e){for(let i of e.effects)if(i.is(ft.setState))return i.value;return e.startState.facet(xn)!=e.state.facet(xn)?bn.init(e.state):t.apply(e)}});let Sm=t=>{let e=setTimeout(()=>t(),500);return()=>clearTimeout(e)};typeof requestIdleCallback<"u"&&(Sm=t=>{let e=-1,i=setTimeout(()=>{e=requestIdleCallback(t,{timeout:400})},100);return()=>e<0?clearTimeout(i):cancelIdleCallback(e)});const fl=typeof navigator<"u"&&(!((hl=navigator.scheduling)===null||hl===void 0)&&hl.isInputPending)?()=>navigator.scheduling.isInputPending():null,aw=mt.fromClass(class{constructor(e){this.view=e,this.working=null,this.workScheduled=0,this.chunkEnd=-1,this.chunkBudget=-1,this.work=this.work.bind(this),this.scheduleWork()}update(e){let i=this.view.state.field(ft.state).context;(i.updateViewport(e.view.viewport)||this.view.viewport.to>i.treeLen)&&this.scheduleWork(),(e.docChanged||e.selectionSet)&&(this.view.hasFocus&&(this.chunkBudget+=50),this.scheduleWork()),this.checkAsyncSchedule(i)}scheduleWork(){if(this.working)return;let{state:e}=this.view,i=e.field(ft.state);(i.tree!=i.context.tree||!i.context.isDone(e.doc.length))&&(this.working=Sm(this.work))}work(e){this.working=null;let i=Date.now();if(this.chunkEnd<i&&(this.chunkEnd<0||this.view.hasFocus)&&(this.chunkEnd=i+3e4,this.chunkBudget=3e3),this.chunkBudget<=0)return;let{state:n,viewport:{to:r}}=this.view,s=n.field(ft.state);if(s.tree==s.context.tree&&s.context.isDone(r+1e5))return;let o=Date.now()+Math.min(this.chunkBudget,100,e&&!fl?Math.max(25,e.timeRemaining()-5):1e9),l=s.context.treeLen<r&&n.doc.length>r+1e3,a=s.context.work(()=>fl&&fl()||Date.now()>o,r+(l?0:1e5));this.chunkBudget-=Date.now()-i,(a||this.chunkBudget<=0)&&(s.context.takeTree(),this.view.dispatch({effects:ft.setState.of(new bn(s.context))})),this.chunkBudget>0&&!(a&&!l)&&this.scheduleWork(),this.checkAsyncSchedule(s.context)}checkAsyncSchedule(e){e.scheduleOn&&(this.workScheduled++,e.scheduleOn.then(()=>this.scheduleWork()).catch(i=>ht(this.view.state,i)).then(()=>this.workScheduled--),e.scheduleOn=null)}destroy(){this.working&&this.working()}isWorking(){return!!(this.working||this.workScheduled>0)}},{eventHandlers:{focus(){this.scheduleWork()}}}),xn=U.define({combine(t){return t.length?t[0]:null},enables:t=>[ft.state,aw,W.contentAttributes.compute([t],e=>{let i=e.facet(t);return i&&i.name?{"data-language":i.name}:{}})]});class yn{constructor(e,i=[]){this.language=e,this.support=i,this.extension=[e,i]}}class C{constructor(e,i,n,r,s,o=void 0){this.name=e,this.alias=i,this.extensions=n,this.filename=r,this.loadFunc=s,this.support=o,this.loading=null}load(){return this.loading||(this.loading=this.loadFunc().then(e=>this.support=e,e=>{throw this.loading=null,e}))}static of(e){let{load:i,support:n}=e;if(!i){if(!n)throw new RangeError("Must pass either 'load' or 'support' to LanguageDescription.of");i=()=>Promise.resolve(n)}return new C(e.name,(e.alias||[]).concat(e.name).map(r=>r.toLowerCase()),e.extensions||[],e.filename,i,n)}static matchFilename(e,i){for(let r of e)if(r.filename&&r.filename.test(i))return r;let n=/\.([^.]+)$/.exec(i);if(n){for(let r of e)if(r.extensions.indexOf(n[1])>-1)return r}return null}static matchLanguageName(e,i,n=!0){i=i.toLowerCase();for(let r of e)if(r.alias.some(s=>s==i))return r;if(n)for(let r of e)for(let s of r.alias){let o=i.indexOf(s);if(o>-1&&(s.length>2||!/\w/.test(i[o-1])&&!/\w/.test(i[o+s.length])))return r}return null}}const uw=U.define(),Tn=U.define({combine:t=>{if(!t.length)return"  ";let e=t[0];if(!e||/\S/.test(e)||Array.from(e).some(i=>i!=e[0]))throw new Error("Invalid indent unit: "+JSON.stringify(t[0]));return e}});function qi(t){let e=t.facet(Tn);return e.charCodeAt(0)==9?t.tabSize*e.length:e.length}function uo(t,e){let i="",n=t.tabSize,r=t.facet(Tn)[0];if(r=="	"){for(;e>=n;)i+="	",e-=n;r=" "}for(let s=0;s<e;s++)i+=r;return i}function wm(t,e){t instanceof ae&&(t=new Io(t));for(let n of t.state.facet(uw)){let r=n(t,e);if(r!==void 0)return r}let i=Pe(t.state);return i.length>=e?cw(t,i,e):null}class Io{constructor(e,i={}){this.state=e,this.options=i,this.unit=qi(e)}lineAt(e,i=1){let n=this.state.doc.lineAt(e),{simulateBreak:r,simulateDoubleBreak:s}=this.options;return r!=null&&r>=n.from&&r<=n.to?s&&r==e?{text:"",from:e}:(i<0?r<e:r<=e)?{text:n.text.slice(r-n.from),from:r}:{text:n.text.slice(0,r-n.from),from:n.from}:n}textAfterPos(e,i=1){if(this.options.simulateDoubleBreak&&e==this.options.simulateBreak)return"";let{text:n,from:r}=this.lineAt(e,i);return n.slice(e-r,Math.min(n.length,e+100-r))}column(e,i=1){let{text:n,from:r}=this.lineAt(e,i),s=this.countColumn(n,e-r),o=this.options.overrideIndentation?this.options.overrideIndentation(r):-1;return o>-1&&(s+=o-this.countColumn(n,n.search(/\S|$/))),s}countColumn(e,i=e.length){return ti(e,this.state.tabSize,i)}lineIndent(e,i=1){let{text:n,from:r}=this.lineAt(e,i),s=this.options.overrideIndentation;if(s){let o=s(r);if(o>-1)return o}return this.countColumn(n,n.search(/\S|$/))}get simulatedBreak(){return this.options.simulateBreak||null}}const An=new te;function cw(t,e,i){let n=e.resolveStack(i),r=e.resolveInner(i,-1).resolve(i,0).enterUnfinishedNodesBefore(i);if(r!=n.node){let s=[];for(let o=r;o&&!(o.from<n.node.from||o.to>n.node.to||o.from==n.node.from&&o.type==n.node.type);o=o.parent)s.push(o);for(let o=s.length-1;o>=0;o--)n={node:s[o],next:n}}return Qm(n,t,i)}function Qm(t,e,i){for(let n=t;n;n=n.next){let r=fw(n.node);if(r)return r(Du.create(e,i,n))}return 0}function hw(t){return t.pos==t.options.simulateBreak&&t.options.simulateDoubleBreak}function fw(t){let e=t.type.prop(An);if(e)return e;let i=t.firstChild,n;if(i&&(n=i.type.prop(te.closedBy))){let r=t.lastChild,s=r&&n.indexOf(r.name)>-1;return o=>$m(o,!0,1,void 0,s&&!hw(o)?r.from:void 0)}return t.parent==null?dw:null}function dw(){return 0}class Du extends Io{constructor(e,i,n){super(e.state,e.options),this.base=e,this.pos=i,this.context=n}get node(){return this.context.node}static create(e,i,n){return new Du(e,i,n)}get textAfter(){return this.textAfterPos(this.pos)}get baseIndent(){return this.baseIndentFor(this.node)}baseIndentFor(e){let i=this.state.doc.lineAt(e.from);for(;;){let n=e.resolve(i.from);for(;n.parent&&n.parent.from==n.from;)n=n.parent;if(pw(n,e))break;i=this.state.doc.lineAt(n.from)}return this.lineIndent(i.from)}continue(){return Qm(this.context.next,this.base,this.pos)}}function pw(t,e){for(let i=e;i;i=i.parent)if(t==i)return!0;return!1}function mw(t){let e=t.node,i=e.childAfter(e.from),n=e.lastChild;if(!i)return null;let r=t.options.simulateBreak,s=t.state.doc.lineAt(i.from),o=r==null||r<=s.from?s.to:Math.min(s.to,r);for(let l=i.to;;){let a=e.childAfter(l);if(!a||a==n)return null;if(!a.type.isSkipped){if(a.from>=o)return null;let u=/^ */.exec(s.text.slice(i.to-s.from))[0].length;return{from:i.from,to:i.to+u}}l=a.to}}function Ow({closing:t,align:e=!0,units:i=1}){return n=>$m(n,e,i,t)}function $m(t,e,i,n,r){let s=t.textAfter,o=s.match(/^\s*/)[0].length,l=n&&s.slice(o,o+n.length)==n||r==t.pos+o,a=e?mw(t):null;return a?l?t.column(a.from):t.column(a.to):t.baseIndent+(l?0:t.unit*i)}const gw=t=>t.baseIndent;function Bs({except:t,units:e=1}={}){return i=>{let n=t&&t.test(i.textAfter);return i.baseIndent+(n?0:e*i.unit)}}const bw=U.define(),jr=new te;function _m(t){let e=t.firstChild,i=t.lastChild;return e&&e.to<i.from?{from:e.to,to:i.type.isError?t.to:i.from}:null}class Yr{constructor(e,i){this.specs=e;let n;function r(l){let a=vi.newName();return(n||(n=Object.create(null)))["."+a]=l,a}const s=typeof i.all=="string"?i.all:i.all?r(i.all):void 0,o=i.scope;this.scope=o instanceof ft?l=>l.prop(bi)==o.data:o?l=>l==o:void 0,this.style=vm(e.map(l=>({tag:l.tag,class:l.class||r(Object.assign({},l,{tag:null}))})),{all:s}).style,this.module=n?new vi(n):null,this.themeType=i.themeType}static define(e,i){return new Yr(e,i||{})}}const Ia=U.define(),xw=U.define({combine(t){return t.length?[t[0]]:null}});function dl(t){let e=t.facet(Ia);return e.length?e:t.facet(xw)}function Pm(t,e){let i=[kw],n;return t instanceof Yr&&(t.module&&i.push(W.styleModule.of(t.module)),n=t.themeType),n?i.push(Ia.computeN([W.darkTheme],r=>r.facet(W.darkTheme)==(n=="dark")?[t]:[])):i.push(Ia.of(t)),i}class yw{constructor(e){this.markCache=Object.create(null),this.tree=Pe(e.state),this.decorations=this.buildDeco(e,dl(e.state)),this.decoratedTo=e.viewport.to}update(e){let i=Pe(e.state),n=dl(e.state),r=n!=dl(e.startState),{viewport:s}=e.view,o=e.changes.mapPos(this.decoratedTo,1);i.length<s.to&&!r&&i.type==this.tree.type&&o>=s.to?(this.decorations=this.decorations.map(e.changes),this.decoratedTo=o):(i!=this.tree||e.viewportChanged||r)&&(this.tree=i,this.decorations=this.buildDeco(e.view,n),this.decoratedTo=s.to)}buildDeco(e,i){if(!i||!this.tree.length)return Oe.none;let n=new zi;for(let{from:r,to:s}of e.visibleRanges)rw(this.tree,i,(o,l,a)=>{n.add(o,l,this.markCache[a]||(this.markCache[a]=Oe.mark({class:a})))},r,s);return n.finish()}}const kw=ri.high(mt.fromClass(yw,{decorations:t=>t.decorations})),vw=1e4,Sw="()[]{}",Cm=new te;function za(t,e,i){let n=t.prop(e<0?te.openedBy:te.closedBy);if(n)return n;if(t.name.length==1){let r=i.indexOf(t.name);if(r>-1&&r%2==(e<0?1:0))return[i[r+e]]}return null}function Xa(t){let e=t.type.prop(Cm);return e?e(t.node):t}function Ki(t,e,i,n={}){let r=n.maxScanDistance||vw,s=n.brackets||Sw,o=Pe(t),l=o.resolveInner(e,i);for(let a=l;a;a=a.parent){let u=za(a.type,i,s);if(u&&a.from<a.to){let c=Xa(a);if(c&&(i>0?e>=c.from&&e<c.to:e>c.from&&e<=c.to))return ww(t,e,i,a,c,u,s)}}return Qw(t,e,i,o,l.type,r,s)}function ww(t,e,i,n,r,s,o){let l=n.parent,a={from:r.from,to:r.to},u=0,c=l?.cursor();if(c&&(i<0?c.childBefore(n.from):c.childAfter(n.to)))do if(i<0?c.to<=n.from:c.from>=n.to){if(u==0&&s.indexOf(c.type.name)>-1&&c.from<c.to){let h=Xa(c);return{start:a,end:h?{from:h.from,to:h.to}:void 0,matched:!0}}else if(za(c.type,i,o))u++;else if(za(c.type,-i,o)){if(u==0){let h=Xa(c);return{start:a,end:h&&h.from<h.to?{from:h.from,to:h.to}:void 0,matched:!1}}u--}}while(i<0?c.prevSibling():c.nextSibling());return{start:a,matched:!1}}function Qw(t,e,i,n,r,s,o){let l=i<0?t.sliceDoc(e-1,e):t.sliceDoc(e,e+1),a=o.indexOf(l);if(a<0||a%2==0!=i>0)return null;let u={from:i<0?e-1:e,to:i>0?e+1:e},c=t.doc.iterRange(e,i>0?t.doc.length:0),h=0;for(let f=0;!c.next().done&&f<=s;){let d=c.value;i<0&&(f+=d.length);let p=e+f*i;for(let m=i>0?0:d.length-1,O=i>0?d.length:-1;m!=O;m+=i){let g=o.indexOf(d[m]);if(!(g<0||n.resolveInner(p+m,1).type!=r))if(g%2==0==i>0)h++;else{if(h==1)return{start:u,end:{from:p+m,to:p+m+1},matched:g>>1==a>>1};h--}}i>0&&(f+=d.length)}return c.done?{start:u,matched:!1}:null}function ff(t,e,i,n=0,r=0){e==null&&(e=t.search(/[^\s\u00a0]/),e==-1&&(e=t.length));let s=r;for(let o=n;o<e;o++)t.charCodeAt(o)==9?s+=i-s%i:s++;return s}class Tm{constructor(e,i,n,r){this.string=e,this.tabSize=i,this.indentUnit=n,this.overrideIndent=r,this.pos=0,this.start=0,this.lastColumnPos=0,this.lastColumnValue=0}eol(){return this.pos>=this.string.length}sol(){return this.pos==0}peek(){return this.string.charAt(this.pos)||void 0}next(){if(this.pos<this.string.length)return this.string.charAt(this.pos++)}eat(e){let i=this.string.charAt(this.pos),n;if(typeof e=="string"?n=i==e:n=i&&(e instanceof RegExp?e.test(i):e(i)),n)return++this.pos,i}eatWhile(e){let i=this.pos;for(;this.eat(e););return this.pos>i}eatSpace(){let e=this.pos;for(;/[\s\u00a0]/.test(this.string.charAt(this.pos));)++this.pos;return this.pos>e}skipToEnd(){this.pos=this.string.length}skipTo(e){let i=this.string.indexOf(e,this.pos);if(i>-1)return this.pos=i,!0}backUp(e){this.pos-=e}column(){return this.lastColumnPos<this.start&&(this.lastColumnValue=ff(this.string,this.start,this.tabSize,this.lastColumnPos,this.lastColumnValue),this.lastColumnPos=this.start),this.lastColumnValue}indentation(){var e;return(e=this.overrideIndent)!==null&&e!==void 0?e:ff(this.string,null,this.tabSize)}match(e,i,n){if(typeof e=="string"){let r=o=>n?o.toLowerCase():o,s=this.string.substr(this.pos,e.length);return r(s)==r(e)?(i!==!1&&(this.pos+=e.length),!0):null}else{let r=this.string.slice(this.pos).match(e);return r&&r.index>0?null:(r&&i!==!1&&(this.pos+=r[0].length),r)}}current(){return this.string.slice(this.start,this.pos)}}function $w(t){return{name:t.name||"",token:t.token,blankLine:t.blankLine||(()=>{}),startState:t.startState||(()=>!0),copyState:t.copyState||_w,indent:t.indent||(()=>null),languageData:t.languageData||{},tokenTable:t.tokenTable||Lu,mergeTokens:t.mergeTokens!==!1}}function _w(t){if(typeof t!="object")return t;let e={};for(let i in t){let n=t[i];e[i]=n instanceof Array?n.slice():n}return e}const df=new WeakMap;class Mu extends ft{constructor(e){let i=Zo(e.languageData),n=$w(e),r,s=new class extends Lo{createParse(o,l,a){return new Cw(r,o,l,a)}};super(i,s,[],e.name),this.topNode=Ew(i,this),r=this,this.streamParser=n,this.stateAfter=new te({perNode:!0}),this.tokenTable=e.tokenTable?new Mm(n.tokenTable):Aw}static define(e){return new Mu(e)}getIndent(e){let i,{overrideIndentation:n}=e.options;n&&(i=df.get(e.state),i!=null&&i<e.pos-1e4&&(i=void 0));let r=Ru(this,e.node.tree,e.node.from,e.node.from,i??e.pos),s,o;if(r?(o=r.state,s=r.pos+1):(o=this.streamParser.startState(e.unit),s=e.node.from),e.pos-s>1e4)return null;for(;s<e.pos;){let a=e.state.doc.lineAt(s),u=Math.min(e.pos,a.to);if(a.length){let c=n?n(a.from):-1,h=new Tm(a.text,e.state.tabSize,e.unit,c<0?void 0:c);for(;h.pos<u-a.from;)Em(this.streamParser.token,h,o)}else this.streamParser.blankLine(o,e.unit);if(u==e.pos)break;s=a.to+1}let l=e.lineAt(e.pos);return n&&i==null&&df.set(e.state,l.from),this.streamParser.indent(o,/^\s*(.*)/.exec(l.text)[1],e)}get allowsNesting(){return!1}}function Ru(t,e,i,n,r){let s=i>=n&&i+e.length<=r&&e.prop(t.stateAfter);if(s)return{state:t.streamParser.copyState(s),pos:i+e.length};for(let o=e.children.length-1;o>=0;o--){let l=e.children[o],a=i+e.positions[o],u=l instanceof se&&a<r&&Ru(t,l,a,n,r);if(u)return u}return null}function Am(t,e,i,n,r){if(r&&i<=0&&n>=e.length)return e;!r&&i==0&&e.type==t.topNode&&(r=!0);for(let s=e.children.length-1;s>=0;s--){let o=e.positions[s],l=e.children[s],a;if(o<n&&l instanceof se){if(!(a=Am(t,l,i-o,n-o,r)))break;return r?new se(e.type,e.children.slice(0,s).concat(a),e.positions.slice(0,s+1),o+a.length):a}}return null}function Pw(t,e,i,n,r){for(let s of e){let o=s.from+(s.openStart?25:0),l=s.to-(s.openEnd?25:0),a=o<=i&&l>i&&Ru(t,s.tree,0-s.offset,i,l),u;if(a&&a.pos<=n&&(u=Am(t,s.tree,i+s.offset,a.pos+s.offset,!1)))return{state:a.state,tree:u}}return{state:t.streamParser.startState(r?qi(r):4),tree:se.empty}}let Cw=class{constructor(e,i,n,r){this.lang=e,this.input=i,this.fragments=n,this.ranges=r,this.stoppedAt=null,this.chunks=[],this.chunkPos=[],this.chunk=[],this.chunkReused=void 0,this.rangeIndex=0,this.to=r[r.length-1].to;let s=Bi.get(),o=r[0].from,{state:l,tree:a}=Pw(e,n,o,this.to,s?.state);this.state=l,this.parsedPos=this.chunkStart=o+a.length;for(let u=0;u<a.children.length;u++)this.chunks.push(a.children[u]),this.chunkPos.push(a.positions[u]);s&&this.parsedPos<s.viewport.from-1e5&&r.some(u=>u.from<=s.viewport.from&&u.to>=s.viewport.from)&&(this.state=this.lang.streamParser.startState(qi(s.state)),s.skipUntilInView(this.parsedPos,s.viewport.from),this.parsedPos=s.viewport.from),this.moveRangeIndex()}advance(){let e=Bi.get(),i=this.stoppedAt==null?this.to:Math.min(this.to,this.stoppedAt),n=Math.min(i,this.chunkStart+512);for(e&&(n=Math.min(n,e.viewport.to));this.parsedPos<n;)this.parseLine(e);return this.chunkStart<this.parsedPos&&this.finishChunk(),this.parsedPos>=i?this.finish():e&&this.parsedPos>=e.viewport.to?(e.skipUntilInView(this.parsedPos,i),this.finish()):null}stopAt(e){this.stoppedAt=e}lineAfter(e){let i=this.input.chunk(e);if(this.input.lineChunks)i==`
+`&&(i="");else{let n=i.indexOf(`
+`);n>-1&&(i=i.slice(0,n))}return e+i.length<=this.to?i:i.slice(0,this.to-e)}nextLine(){let e=this.parsedPos,i=this.lineAfter(e),n=e+i.length;for(let r=this.rangeIndex;;){let s=this.ranges[r].to;if(s>=n||(i=i.slice(0,s-(n-i.length)),r++,r==this.ranges.length))break;let o=this.ranges[r].from,l=this.lineAfter(o);i+=l,n=o+l.length}return{line:i,end:n}}skipGapsTo(e,i,n){for(;;){let r=this.ranges[this.rangeIndex].to,s=e+i;if(n>0?r>s:r>=s)break;let o=this.ranges[++this.rangeIndex].from;i+=o-r}return i}moveRangeIndex(){for(;this.ranges[this.rangeIndex].to<this.parsedPos;)this.rangeIndex++}emitToken(e,i,n,r){let s=4;if(this.ranges.length>1){r=this.skipGapsTo(i,r,1),i+=r;let l=this.chunk.length;r=this.skipGapsTo(n,r,-1),n+=r,s+=this.chunk.length-l}let o=this.chunk.length-4;return this.lang.streamParser.mergeTokens&&s==4&&o>=0&&this.chunk[o]==e&&this.chunk[o+2]==i?this.chunk[o+2]=n:this.chunk.push(e,i,n,s),r}parseLine(e){let{line:i,end:n}=this.nextLine(),r=0,{streamParser:s}=this.lang,o=new Tm(i,e?e.state.tabSize:4,e?qi(e.state):2);if(o.eol())s.blankLine(this.state,o.indentUnit);else for(;!o.eol();){let l=Em(s.token,o,this.state);if(l&&(r=this.emitToken(this.lang.tokenTable.resolve(l),this.parsedPos+o.start,this.parsedPos+o.pos,r)),o.start>1e4)break}this.parsedPos=n,this.moveRangeIndex(),this.parsedPos<this.to&&this.parsedPos++}finishChunk(){let e=se.build({buffer:this.chunk,start:this.chunkStart,length:this.parsedPos-this.chunkStart,nodeSet:Tw,topID:0,maxBufferLength:512,reused:this.chunkReused});e=new se(e.type,e.children,e.positions,e.length,[[this.lang.stateAfter,this.lang.streamParser.copyState(this.state)]]),this.chunks.push(e),this.chunkPos.push(this.chunkStart-this.ranges[0].from),this.chunk=[],this.chunkReused=void 0,this.chunkStart=this.parsedPos}finish(){return new se(this.lang.topNode,this.chunks,this.chunkPos,this.parsedPos-this.ranges[0].from).balance()}};function Em(t,e,i){e.start=e.pos;for(let n=0;n<10;n++){let r=t(e,i);if(e.pos>e.start)return r}throw new Error("Stream parser failed to advance stream.")}const Lu=Object.create(null),wr=[De.none],Tw=new Pn(wr),pf=[],mf=Object.create(null),Dm=Object.create(null);for(let[t,e]of[["variable","variableName"],["variable-2","variableName.special"],["string-2","string.special"],["def","variableName.definition"],["tag","tagName"],["attribute","attributeName"],["type","typeName"],["builtin","variableName.standard"],["qualifier","modifier"],["error","invalid"],["header","heading"],["property","propertyName"]])Dm[t]=Rm(Lu,e);class Mm{constructor(e){this.extra=e,this.table=Object.assign(Object.create(null),Dm)}resolve(e){return e?this.table[e]||(this.table[e]=Rm(this.extra,e)):0}}const Aw=new Mm(Lu);function pl(t,e){pf.indexOf(t)>-1||(pf.push(t),console.warn(e))}function Rm(t,e){let i=[];for(let l of e.split(" ")){let a=[];for(let u of l.split(".")){let c=t[u]||v[u];c?typeof c=="function"?a.length?a=a.map(c):pl(u,`Modifier ${u} used at start of tag`):a.length?pl(u,`Tag ${u} used as modifier`):a=Array.isArray(c)?c:[c]:pl(u,`Unknown highlighting tag ${u}`)}for(let u of a)i.push(u)}if(!i.length)return 0;let n=e.replace(/ /g,"_"),r=n+" "+i.map(l=>l.id),s=mf[r];if(s)return s.id;let o=mf[r]=De.define({id:wr.length,name:n,props:[Cn({[n]:i})]});return wr.push(o),o.id}function Ew(t,e){let i=De.define({id:wr.length,name:"Document",props:[bi.add(()=>t),An.add(()=>n=>e.getIndent(n))],top:!0});return wr.push(i),i}_e.RTL,_e.LTR;const Dw=t=>{let{state:e}=t,i=e.doc.lineAt(e.selection.main.from),n=Iu(t.state,i.from);return n.line?Mw(t):n.block?Lw(t):!1};function Zu(t,e){return({state:i,dispatch:n})=>{if(i.readOnly)return!1;let r=t(e,i);return r?(n(i.update(r)),!0):!1}}const Mw=Zu(zw,0),Rw=Zu(Lm,0),Lw=Zu((t,e)=>Lm(t,e,Iw(e)),0);function Iu(t,e){let i=t.languageDataAt("commentTokens",e,1);return i.length?i[0]:{}}const Xn=50;function Zw(t,{open:e,close:i},n,r){let s=t.sliceDoc(n-Xn,n),o=t.sliceDoc(r,r+Xn),l=/\s*$/.exec(s)[0].length,a=/^\s*/.exec(o)[0].length,u=s.length-l;if(s.slice(u-e.length,u)==e&&o.slice(a,a+i.length)==i)return{open:{pos:n-l,margin:l&&1},close:{pos:r+a,margin:a&&1}};let c,h;r-n<=2*Xn?c=h=t.sliceDoc(n,r):(c=t.sliceDoc(n,n+Xn),h=t.sliceDoc(r-Xn,r));let f=/^\s*/.exec(c)[0].length,d=/\s*$/.exec(h)[0].length,p=h.length-d-i.length;return c.slice(f,f+e.length)==e&&h.slice(p,p+i.length)==i?{open:{pos:n+f+e.length,margin:/\s/.test(c.charAt(f+e.length))?1:0},close:{pos:r-d-i.length,margin:/\s/.test(h.charAt(p-1))?1:0}}:null}function Iw(t){let e=[];for(let i of t.selection.ranges){let n=t.doc.lineAt(i.from),r=i.to<=n.to?n:t.doc.lineAt(i.to);r.from>n.from&&r.from==i.to&&(r=i.to==n.to+1?n:t.doc.lineAt(i.to-1));let s=e.length-1;s>=0&&e[s].to>n.from?e[s].to=r.to:e.push({from:n.from+/^\s*/.exec(n.text)[0].length,to:r.to})}return e}function Lm(t,e,i=e.selection.ranges){let n=i.map(s=>Iu(e,s.from).block);if(!n.every(s=>s))return null;let r=i.map((s,o)=>Zw(e,n[o],s.from,s.to));if(t!=2&&!r.every(s=>s))return{changes:e.changes(i.map((s,o)=>r[o]?[]:[{from:s.from,insert:n[o].open+" "},{from:s.to,insert:" "+n[o].close}]))};if(t!=1&&r.some(s=>s)){let s=[];for(let o=0,l;o<r.length;o++)if(l=r[o]){let a=n[o],{open:u,close:c}=l;s.push({from:u.pos-a.open.length,to:u.pos+u.margin},{from:c.pos-c.margin,to:c.pos+a.close.length})}return{changes:s}}return null}function zw(t,e,i=e.selection.ranges){let n=[],r=-1;for(let{from:s,to:o}of i){let l=n.length,a=1e9,u=Iu(e,s).line;if(u){for(let c=s;c<=o;){let h=e.doc.lineAt(c);if(h.from>r&&(s==o||o>h.from)){r=h.from;let f=/^\s*/.exec(h.text)[0].length,d=f==h.length,p=h.text.slice(f,f+u.length)==u?f:-1;f<h.text.length&&f<a&&(a=f),n.push({line:h,comment:p,token:u,indent:f,empty:d,single:!1})}c=h.to+1}if(a<1e9)for(let c=l;c<n.length;c++)n[c].indent<n[c].line.text.length&&(n[c].indent=a);n.length==l+1&&(n[l].single=!0)}}if(t!=2&&n.some(s=>s.comment<0&&(!s.empty||s.single))){let s=[];for(let{line:l,token:a,indent:u,empty:c,single:h}of n)(h||!c)&&s.push({from:l.from+u,insert:a+" "});let o=e.changes(s);return{changes:o,selection:e.selection.map(o,1)}}else if(t!=1&&n.some(s=>s.comment>=0)){let s=[];for(let{line:o,comment:l,token:a}of n)if(l>=0){let u=o.from+l,c=u+a.length;o.text[c-o.from]==" "&&c++,s.push({from:u,to:c})}return{changes:s}}return null}const Va=si.define(),Xw=si.define(),Vw=U.define(),Zm=U.define({combine(t){return Do(t,{minDepth:100,newGroupDelay:500,joinToEvent:(e,i)=>i},{minDepth:Math.max,newGroupDelay:Math.min,joinToEvent:(e,i)=>(n,r)=>e(n,r)||i(n,r)})}}),Im=it.define({create(){return qt.empty},update(t,e){let i=e.state.facet(Zm),n=e.annotation(Va);if(n){let a=et.fromTransaction(e,n.selection),u=n.side,c=u==0?t.undone:t.done;return a?c=ho(c,c.length,i.minDepth,a):c=Xm(c,e.startState.selection),new qt(u==0?n.rest:c,u==0?c:n.rest)}let r=e.annotation(Xw);if((r=="full"||r=="before")&&(t=t.isolate()),e.annotation(Ae.addToHistory)===!1)return e.changes.empty?t:t.addMapping(e.changes.desc);let s=et.fromTransaction(e),o=e.annotation(Ae.time),l=e.annotation(Ae.userEvent);return s?t=t.addChanges(s,o,l,i,e):e.selection&&(t=t.addSelection(e.startState.selection,o,l,i.newGroupDelay)),(r=="full"||r=="after")&&(t=t.isolate()),t},toJSON(t){return{done:t.done.map(e=>e.toJSON()),undone:t.undone.map(e=>e.toJSON())}},fromJSON(t){return new qt(t.done.map(et.fromJSON),t.undone.map(et.fromJSON))}});function Of(t={}){return[Im,Zm.of(t),W.domEventHandlers({beforeinput(e,i){let n=e.inputType=="historyUndo"?zu:e.inputType=="historyRedo"?co:null;return n?(e.preventDefault(),n(i)):!1}})]}function zo(t,e){return function({state:i,dispatch:n}){if(!e&&i.readOnly)return!1;let r=i.field(Im,!1);if(!r)return!1;let s=r.pop(t,i,e);return s?(n(s),!0):!1}}const zu=zo(0,!1),co=zo(1,!1),Fw=zo(0,!0),Bw=zo(1,!0);class et{constructor(e,i,n,r,s){this.changes=e,this.effects=i,this.mapped=n,this.startSelection=r,this.selectionsAfter=s}setSelAfter(e){return new et(this.changes,this.effects,this.mapped,this.startSelection,e)}toJSON(){var e,i,n;return{changes:(e=this.changes)===null||e===void 0?void 0:e.toJSON(),mapped:(i=this.mapped)===null||i===void 0?void 0:i.toJSON(),startSelection:(n=this.startSelection)===null||n===void 0?void 0:n.toJSON(),selectionsAfter:this.selectionsAfter.map(r=>r.toJSON())}}static fromJSON(e){return new et(e.changes&&Me.fromJSON(e.changes),[],e.mapped&&jt.fromJSON(e.mapped),e.startSelection&&M.fromJSON(e.startSelection),e.selectionsAfter.map(M.fromJSON))}static fromTransaction(e,i){let n=bt;for(let r of e.startState.facet(Vw)){let s=r(e);s.length&&(n=n.concat(s))}return!n.length&&e.changes.empty?null:new et(e.changes.invert(e.startState.doc),n,void 0,i||e.startState.selection,bt)}static selection(e){return new et(void 0,bt,void 0,void 0,e)}}function ho(t,e,i,n){let r=e+1>i+20?e-i-1:0,s=t.slice(r,e);return s.push(n),s}function qw(t,e){let i=[],n=!1;return t.iterChangedRanges((r,s)=>i.push(r,s)),e.iterChangedRanges((r,s,o,l)=>{for(let a=0;a<i.length;){let u=i[a++],c=i[a++];l>=u&&o<=c&&(n=!0)}}),n}function jw(t,e){return t.ranges.length==e.ranges.length&&t.ranges.filter((i,n)=>i.empty!=e.ranges[n].empty).length===0}function zm(t,e){return t.length?e.length?t.concat(e):t:e}const bt=[],Yw=200;function Xm(t,e){if(t.length){let i=t[t.length-1],n=i.selectionsAfter.slice(Math.max(0,i.selectionsAfter.length-Yw));return n.length&&n[n.length-1].eq(e)?t:(n.push(e),ho(t,t.length-1,1e9,i.setSelAfter(n)))}else return[et.selection([e])]}function Nw(t){let e=t[t.length-1],i=t.slice();return i[t.length-1]=e.setSelAfter(e.selectionsAfter.slice(0,e.selectionsAfter.length-1)),i}function ml(t,e){if(!t.length)return t;let i=t.length,n=bt;for(;i;){let r=Ww(t[i-1],e,n);if(r.changes&&!r.changes.empty||r.effects.length){let s=t.slice(0,i);return s[i-1]=r,s}else e=r.mapped,i--,n=r.selectionsAfter}return n.length?[et.selection(n)]:bt}function Ww(t,e,i){let n=zm(t.selectionsAfter.length?t.selectionsAfter.map(l=>l.map(e)):bt,i);if(!t.changes)return et.selection(n);let r=t.changes.map(e),s=e.mapDesc(t.changes,!0),o=t.mapped?t.mapped.composeDesc(s):s;return new et(r,re.mapEffects(t.effects,e),o,t.startSelection.map(s),n)}const Gw=/^(input\.type|delete)($|\.)/;class qt{constructor(e,i,n=0,r=void 0){this.done=e,this.undone=i,this.prevTime=n,this.prevUserEvent=r}isolate(){return this.prevTime?new qt(this.done,this.undone):this}addChanges(e,i,n,r,s){let o=this.done,l=o[o.length-1];return l&&l.changes&&!l.changes.empty&&e.changes&&(!n||Gw.test(n))&&(!l.selectionsAfter.length&&i-this.prevTime<r.newGroupDelay&&r.joinToEvent(s,qw(l.changes,e.changes))||n=="input.type.compose")?o=ho(o,o.length-1,r.minDepth,new et(e.changes.compose(l.changes),zm(re.mapEffects(e.effects,l.changes),l.effects),l.mapped,l.startSelection,bt)):o=ho(o,o.length,r.minDepth,e),new qt(o,bt,i,n)}addSelection(e,i,n,r){let s=this.done.length?this.done[this.done.length-1].selectionsAfter:bt;return s.length>0&&i-this.prevTime<r&&n==this.prevUserEvent&&n&&/^select($|\.)/.test(n)&&jw(s[s.length-1],e)?this:new qt(Xm(this.done,e),this.undone,i,n)}addMapping(e){return new qt(ml(this.done,e),ml(this.undone,e),this.prevTime,this.prevUserEvent)}pop(e,i,n){let r=e==0?this.done:this.undone;if(r.length==0)return null;let s=r[r.length-1],o=s.selectionsAfter[0]||i.selection;if(n&&s.selectionsAfter.length)return i.update({selection:s.selectionsAfter[s.selectionsAfter.length-1],annotations:Va.of({side:e,rest:Nw(r),selection:o}),userEvent:e==0?"select.undo":"select.redo",scrollIntoView:!0});if(s.changes){let l=r.length==1?bt:r.slice(0,r.length-1);return s.mapped&&(l=ml(l,s.mapped)),i.update({changes:s.changes,selection:s.startSelection,effects:s.effects,annotations:Va.of({side:e,rest:l,selection:o}),filter:!1,userEvent:e==0?"undo":"redo",scrollIntoView:!0})}else return null}}qt.empty=new qt(bt,bt);const Uw=[{key:"Mod-z",run:zu,preventDefault:!0},{key:"Mod-y",mac:"Mod-Shift-z",run:co,preventDefault:!0},{linux:"Ctrl-Shift-z",run:co,preventDefault:!0},{key:"Mod-u",run:Fw,preventDefault:!0},{key:"Alt-u",mac:"Mod-Shift-u",run:Bw,preventDefault:!0}];function En(t,e){return M.create(t.ranges.map(e),t.mainIndex)}function At(t,e){return t.update({selection:e,scrollIntoView:!0,userEvent:"select"})}function Et({state:t,dispatch:e},i){let n=En(t.selection,i);return n.eq(t.selection,!0)?!1:(e(At(t,n)),!0)}function Xo(t,e){return M.cursor(e?t.to:t.from)}function Vm(t,e){return Et(t,i=>i.empty?t.moveByChar(i,e):Xo(i,e))}function Ye(t){return t.textDirectionAt(t.state.selection.main.head)==_e.LTR}const Fm=t=>Vm(t,!Ye(t)),Bm=t=>Vm(t,Ye(t));function qm(t,e){return Et(t,i=>i.empty?t.moveByGroup(i,e):Xo(i,e))}const Hw=t=>qm(t,!Ye(t)),Kw=t=>qm(t,Ye(t));function Jw(t,e,i){if(e.type.prop(i))return!0;let n=e.to-e.from;return n&&(n>2||/[^\s,.;:]/.test(t.sliceDoc(e.from,e.to)))||e.firstChild}function Vo(t,e,i){let n=Pe(t).resolveInner(e.head),r=i?te.closedBy:te.openedBy;for(let a=e.head;;){let u=i?n.childAfter(a):n.childBefore(a);if(!u)break;Jw(t,u,r)?n=u:a=i?u.to:u.from}let s=n.type.prop(r),o,l;return s&&(o=i?Ki(t,n.from,1):Ki(t,n.to,-1))&&o.matched?l=i?o.end.to:o.end.from:l=i?n.to:n.from,M.cursor(l,i?-1:1)}const e3=t=>Et(t,e=>Vo(t.state,e,!Ye(t))),t3=t=>Et(t,e=>Vo(t.state,e,Ye(t)));function jm(t,e){return Et(t,i=>{if(!i.empty)return Xo(i,e);let n=t.moveVertically(i,e);return n.head!=i.head?n:t.moveToLineBoundary(i,e)})}const Ym=t=>jm(t,!1),Nm=t=>jm(t,!0);function Wm(t){let e=t.scrollDOM.clientHeight<t.scrollDOM.scrollHeight-2,i=0,n=0,r;if(e){for(let s of t.state.facet(W.scrollMargins)){let o=s(t);o?.top&&(i=Math.max(o?.top,i)),o?.bottom&&(n=Math.max(o?.bottom,n))}r=t.scrollDOM.clientHeight-i-n}else r=(t.dom.ownerDocument.defaultView||window).innerHeight;return{marginTop:i,marginBottom:n,selfScroll:e,height:Math.max(t.defaultLineHeight,r-5)}}function Gm(t,e){let i=Wm(t),{state:n}=t,r=En(n.selection,o=>o.empty?t.moveVertically(o,e,i.height):Xo(o,e));if(r.eq(n.selection))return!1;let s;if(i.selfScroll){let o=t.coordsAtPos(n.selection.main.head),l=t.scrollDOM.getBoundingClientRect(),a=l.top+i.marginTop,u=l.bottom-i.marginBottom;o&&o.top>a&&o.bottom<u&&(s=W.scrollIntoView(r.main.head,{y:"start",yMargin:o.top-a}))}return t.dispatch(At(n,r),{effects:s}),!0}const gf=t=>Gm(t,!1),Fa=t=>Gm(t,!0);function $i(t,e,i){let n=t.lineBlockAt(e.head),r=t.moveToLineBoundary(e,i);if(r.head==e.head&&r.head!=(i?n.to:n.from)&&(r=t.moveToLineBoundary(e,i,!1)),!i&&r.head==n.from&&n.length){let s=/^\s*/.exec(t.state.sliceDoc(n.from,Math.min(n.from+100,n.to)))[0].length;s&&e.head!=n.from+s&&(r=M.cursor(n.from+s))}return r}const i3=t=>Et(t,e=>$i(t,e,!0)),n3=t=>Et(t,e=>$i(t,e,!1)),r3=t=>Et(t,e=>$i(t,e,!Ye(t))),s3=t=>Et(t,e=>$i(t,e,Ye(t))),o3=t=>Et(t,e=>M.cursor(t.lineBlockAt(e.head).from,1)),l3=t=>Et(t,e=>M.cursor(t.lineBlockAt(e.head).to,-1));function a3(t,e,i){let n=!1,r=En(t.selection,s=>{let o=Ki(t,s.head,-1)||Ki(t,s.head,1)||s.head>0&&Ki(t,s.head-1,1)||s.head<t.doc.length&&Ki(t,s.head+1,-1);if(!o||!o.end)return s;n=!0;let l=o.start.from==s.head?o.end.to:o.end.from;return M.cursor(l)});return n?(e(At(t,r)),!0):!1}const u3=({state:t,dispatch:e})=>a3(t,e);function $t(t,e){let i=En(t.state.selection,n=>{let r=e(n);return M.range(n.anchor,r.head,r.goalColumn,r.bidiLevel||void 0)});return i.eq(t.state.selection)?!1:(t.dispatch(At(t.state,i)),!0)}function Um(t,e){return $t(t,i=>t.moveByChar(i,e))}const Hm=t=>Um(t,!Ye(t)),Km=t=>Um(t,Ye(t));function Jm(t,e){return $t(t,i=>t.moveByGroup(i,e))}const c3=t=>Jm(t,!Ye(t)),h3=t=>Jm(t,Ye(t)),f3=t=>$t(t,e=>Vo(t.state,e,!Ye(t))),d3=t=>$t(t,e=>Vo(t.state,e,Ye(t)));function eO(t,e){return $t(t,i=>t.moveVertically(i,e))}const tO=t=>eO(t,!1),iO=t=>eO(t,!0);function nO(t,e){return $t(t,i=>t.moveVertically(i,e,Wm(t).height))}const bf=t=>nO(t,!1),xf=t=>nO(t,!0),p3=t=>$t(t,e=>$i(t,e,!0)),m3=t=>$t(t,e=>$i(t,e,!1)),O3=t=>$t(t,e=>$i(t,e,!Ye(t))),g3=t=>$t(t,e=>$i(t,e,Ye(t))),b3=t=>$t(t,e=>M.cursor(t.lineBlockAt(e.head).from)),x3=t=>$t(t,e=>M.cursor(t.lineBlockAt(e.head).to)),yf=({state:t,dispatch:e})=>(e(At(t,{anchor:0})),!0),kf=({state:t,dispatch:e})=>(e(At(t,{anchor:t.doc.length})),!0),vf=({state:t,dispatch:e})=>(e(At(t,{anchor:t.selection.main.anchor,head:0})),!0),Sf=({state:t,dispatch:e})=>(e(At(t,{anchor:t.selection.main.anchor,head:t.doc.length})),!0),y3=({state:t,dispatch:e})=>(e(t.update({selection:{anchor:0,head:t.doc.length},userEvent:"select"})),!0),k3=({state:t,dispatch:e})=>{let i=Fo(t).map(({from:n,to:r})=>M.range(n,Math.min(r+1,t.doc.length)));return e(t.update({selection:M.create(i),userEvent:"select"})),!0},v3=({state:t,dispatch:e})=>{let i=En(t.selection,n=>{let r=Pe(t),s=r.resolveStack(n.from,1);if(n.empty){let o=r.resolveStack(n.from,-1);o.node.from>=s.node.from&&o.node.to<=s.node.to&&(s=o)}for(let o=s;o;o=o.next){let{node:l}=o;if((l.from<n.from&&l.to>=n.to||l.to>n.to&&l.from<=n.from)&&o.next)return M.range(l.to,l.from)}return n});return i.eq(t.selection)?!1:(e(At(t,i)),!0)};function rO(t,e){let{state:i}=t,n=i.selection,r=i.selection.ranges.slice();for(let s of i.selection.ranges){let o=i.doc.lineAt(s.head);if(e?o.to<t.state.doc.length:o.from>0)for(let l=s;;){let a=t.moveVertically(l,e);if(a.head<o.from||a.head>o.to){r.some(u=>u.head==a.head)||r.push(a);break}else{if(a.head==l.head)break;l=a}}}return r.length==n.ranges.length?!1:(t.dispatch(At(i,M.create(r,r.length-1))),!0)}const S3=t=>rO(t,!1),w3=t=>rO(t,!0),Q3=({state:t,dispatch:e})=>{let i=t.selection,n=null;return i.ranges.length>1?n=M.create([i.main]):i.main.empty||(n=M.create([M.cursor(i.main.head)])),n?(e(At(t,n)),!0):!1};function Nr(t,e){if(t.state.readOnly)return!1;let i="delete.selection",{state:n}=t,r=n.changeByRange(s=>{let{from:o,to:l}=s;if(o==l){let a=e(s);a<o?(i="delete.backward",a=xs(t,a,!1)):a>o&&(i="delete.forward",a=xs(t,a,!0)),o=Math.min(o,a),l=Math.max(l,a)}else o=xs(t,o,!1),l=xs(t,l,!0);return o==l?{range:s}:{changes:{from:o,to:l},range:M.cursor(o,o<s.head?-1:1)}});return r.changes.empty?!1:(t.dispatch(n.update(r,{scrollIntoView:!0,userEvent:i,effects:i=="delete.selection"?W.announce.of(n.phrase("Selection deleted")):void 0})),!0)}function xs(t,e,i){if(t instanceof W)for(let n of t.state.facet(W.atomicRanges).map(r=>r(t)))n.between(e,e,(r,s)=>{r<e&&s>e&&(e=i?s:r)});return e}const sO=(t,e,i)=>Nr(t,n=>{let r=n.from,{state:s}=t,o=s.doc.lineAt(r),l,a;if(i&&!e&&r>o.from&&r<o.from+200&&!/[^ \t]/.test(l=o.text.slice(0,r-o.from))){if(l[l.length-1]=="	")return r-1;let u=ti(l,s.tabSize),c=u%qi(s)||qi(s);for(let h=0;h<c&&l[l.length-1-h]==" ";h++)r--;a=r}else a=Ve(o.text,r-o.from,e,e)+o.from,a==r&&o.number!=(e?s.doc.lines:1)?a+=e?1:-1:!e&&/[\ufe00-\ufe0f]/.test(o.text.slice(a-o.from,r-o.from))&&(a=Ve(o.text,a-o.from,!1,!1)+o.from);return a}),Ba=t=>sO(t,!1,!0),oO=t=>sO(t,!0,!1),lO=(t,e)=>Nr(t,i=>{let n=i.head,{state:r}=t,s=r.doc.lineAt(n),o=r.charCategorizer(n);for(let l=null;;){if(n==(e?s.to:s.from)){n==i.head&&s.number!=(e?r.doc.lines:1)&&(n+=e?1:-1);break}let a=Ve(s.text,n-s.from,e)+s.from,u=s.text.slice(Math.min(n,a)-s.from,Math.max(n,a)-s.from),c=o(u);if(l!=null&&c!=l)break;(u!=" "||n!=i.head)&&(l=c),n=a}return n}),aO=t=>lO(t,!1),$3=t=>lO(t,!0),_3=t=>Nr(t,e=>{let i=t.lineBlockAt(e.head).to;return e.head<i?i:Math.min(t.state.doc.length,e.head+1)}),P3=t=>Nr(t,e=>{let i=t.moveToLineBoundary(e,!1).head;return e.head>i?i:Math.max(0,e.head-1)}),C3=t=>Nr(t,e=>{let i=t.moveToLineBoundary(e,!0).head;return e.head<i?i:Math.min(t.state.doc.length,e.head+1)}),T3=({state:t,dispatch:e})=>{if(t.readOnly)return!1;let i=t.changeByRange(n=>({changes:{from:n.from,to:n.to,insert:ue.of(["",""])},range:M.cursor(n.from)}));return e(t.update(i,{scrollIntoView:!0,userEvent:"input"})),!0},A3=({state:t,dispatch:e})=>{if(t.readOnly)return!1;let i=t.changeByRange(n=>{if(!n.empty||n.from==0||n.from==t.doc.length)return{range:n};let r=n.from,s=t.doc.lineAt(r),o=r==s.from?r-1:Ve(s.text,r-s.from,!1)+s.from,l=r==s.to?r+1:Ve(s.text,r-s.from,!0)+s.from;return{changes:{from:o,to:l,insert:t.doc.slice(r,l).append(t.doc.slice(o,r))},range:M.cursor(l)}});return i.changes.empty?!1:(e(t.update(i,{scrollIntoView:!0,userEvent:"move.character"})),!0)};function Fo(t){let e=[],i=-1;for(let n of t.selection.ranges){let r=t.doc.lineAt(n.from),s=t.doc.lineAt(n.to);if(!n.empty&&n.to==s.from&&(s=t.doc.lineAt(n.to-1)),i>=r.number){let o=e[e.length-1];o.to=s.to,o.ranges.push(n)}else e.push({from:r.from,to:s.to,ranges:[n]});i=s.number+1}return e}function uO(t,e,i){if(t.readOnly)return!1;let n=[],r=[];for(let s of Fo(t)){if(i?s.to==t.doc.length:s.from==0)continue;let o=t.doc.lineAt(i?s.to+1:s.from-1),l=o.length+1;if(i){n.push({from:s.to,to:o.to},{from:s.from,insert:o.text+t.lineBreak});for(let a of s.ranges)r.push(M.range(Math.min(t.doc.length,a.anchor+l),Math.min(t.doc.length,a.head+l)))}else{n.push({from:o.from,to:s.from},{from:s.to,insert:t.lineBreak+o.text});for(let a of s.ranges)r.push(M.range(a.anchor-l,a.head-l))}}return n.length?(e(t.update({changes:n,scrollIntoView:!0,selection:M.create(r,t.selection.mainIndex),userEvent:"move.line"})),!0):!1}const E3=({state:t,dispatch:e})=>uO(t,e,!1),D3=({state:t,dispatch:e})=>uO(t,e,!0);function cO(t,e,i){if(t.readOnly)return!1;let n=[];for(let r of Fo(t))i?n.push({from:r.from,insert:t.doc.slice(r.from,r.to)+t.lineBreak}):n.push({from:r.to,insert:t.lineBreak+t.doc.slice(r.from,r.to)});return e(t.update({changes:n,scrollIntoView:!0,userEvent:"input.copyline"})),!0}const M3=({state:t,dispatch:e})=>cO(t,e,!1),R3=({state:t,dispatch:e})=>cO(t,e,!0),hO=t=>{if(t.state.readOnly)return!1;let{state:e}=t,i=e.changes(Fo(e).map(({from:r,to:s})=>(r>0?r--:s<e.doc.length&&s++,{from:r,to:s}))),n=En(e.selection,r=>{let s;if(t.lineWrapping){let o=t.lineBlockAt(r.head),l=t.coordsAtPos(r.head,r.assoc||1);l&&(s=o.bottom+t.documentTop-l.bottom+t.defaultLineHeight/2)}return t.moveVertically(r,!0,s)}).map(i);return t.dispatch({changes:i,selection:n,scrollIntoView:!0,userEvent:"delete.line"}),!0};function L3(t,e){if(/\(\)|\[\]|\{\}/.test(t.sliceDoc(e-1,e+1)))return{from:e,to:e};let i=Pe(t).resolveInner(e),n=i.childBefore(e),r=i.childAfter(e),s;return n&&r&&n.to<=e&&r.from>=e&&(s=n.type.prop(te.closedBy))&&s.indexOf(r.name)>-1&&t.doc.lineAt(n.to).from==t.doc.lineAt(r.from).from&&!/\S/.test(t.sliceDoc(n.to,r.from))?{from:n.to,to:r.from}:null}const wf=fO(!1),Z3=fO(!0);function fO(t){return({state:e,dispatch:i})=>{if(e.readOnly)return!1;let n=e.changeByRange(r=>{let{from:s,to:o}=r,l=e.doc.lineAt(s),a=!t&&s==o&&L3(e,s);t&&(s=o=(o<=l.to?l:e.doc.lineAt(o)).to);let u=new Io(e,{simulateBreak:s,simulateDoubleBreak:!!a}),c=wm(u,s);for(c==null&&(c=ti(/^\s*/.exec(e.doc.lineAt(s).text)[0],e.tabSize));o<l.to&&/\s/.test(l.text[o-l.from]);)o++;a?{from:s,to:o}=a:s>l.from&&s<l.from+100&&!/\S/.test(l.text.slice(0,s))&&(s=l.from);let h=["",uo(e,c)];return a&&h.push(uo(e,u.lineIndent(l.from,-1))),{changes:{from:s,to:o,insert:ue.of(h)},range:M.cursor(s+1+h[1].length)}});return i(e.update(n,{scrollIntoView:!0,userEvent:"input"})),!0}}function Xu(t,e){let i=-1;return t.changeByRange(n=>{let r=[];for(let o=n.from;o<=n.to;){let l=t.doc.lineAt(o);l.number>i&&(n.empty||n.to>l.from)&&(e(l,r,n),i=l.number),o=l.to+1}let s=t.changes(r);return{changes:r,range:M.range(s.mapPos(n.anchor,1),s.mapPos(n.head,1))}})}const I3=({state:t,dispatch:e})=>{if(t.readOnly)return!1;let i=Object.create(null),n=new Io(t,{overrideIndentation:s=>{let o=i[s];return o??-1}}),r=Xu(t,(s,o,l)=>{let a=wm(n,s.from);if(a==null)return;/\S/.test(s.text)||(a=0);let u=/^\s*/.exec(s.text)[0],c=uo(t,a);(u!=c||l.from<s.from+u.length)&&(i[s.from]=a,o.push({from:s.from,to:s.from+u.length,insert:c}))});return r.changes.empty||e(t.update(r,{userEvent:"indent"})),!0},dO=({state:t,dispatch:e})=>t.readOnly?!1:(e(t.update(Xu(t,(i,n)=>{n.push({from:i.from,insert:t.facet(Tn)})}),{userEvent:"input.indent"})),!0),pO=({state:t,dispatch:e})=>t.readOnly?!1:(e(t.update(Xu(t,(i,n)=>{let r=/^\s*/.exec(i.text)[0];if(!r)return;let s=ti(r,t.tabSize),o=0,l=uo(t,Math.max(0,s-qi(t)));for(;o<r.length&&o<l.length&&r.charCodeAt(o)==l.charCodeAt(o);)o++;n.push({from:i.from+o,to:i.from+r.length,insert:l.slice(o)})}),{userEvent:"delete.dedent"})),!0),z3=t=>(t.setTabFocusMode(),!0),X3=[{key:"Ctrl-b",run:Fm,shift:Hm,preventDefault:!0},{key:"Ctrl-f",run:Bm,shift:Km},{key:"Ctrl-p",run:Ym,shift:tO},{key:"Ctrl-n",run:Nm,shift:iO},{key:"Ctrl-a",run:o3,shift:b3},{key:"Ctrl-e",run:l3,shift:x3},{key:"Ctrl-d",run:oO},{key:"Ctrl-h",run:Ba},{key:"Ctrl-k",run:_3},{key:"Ctrl-Alt-h",run:aO},{key:"Ctrl-o",run:T3},{key:"Ctrl-t",run:A3},{key:"Ctrl-v",run:Fa}],V3=[{key:"ArrowLeft",run:Fm,shift:Hm,preventDefault:!0},{key:"Mod-ArrowLeft",mac:"Alt-ArrowLeft",run:Hw,shift:c3,preventDefault:!0},{mac:"Cmd-ArrowLeft",run:r3,shift:O3,preventDefault:!0},{key:"ArrowRight",run:Bm,shift:Km,preventDefault:!0},{key:"Mod-ArrowRight",mac:"Alt-ArrowRight",run:Kw,shift:h3,preventDefault:!0},{mac:"Cmd-ArrowRight",run:s3,shift:g3,preventDefault:!0},{key:"ArrowUp",run:Ym,shift:tO,preventDefault:!0},{mac:"Cmd-ArrowUp",run:yf,shift:vf},{mac:"Ctrl-ArrowUp",run:gf,shift:bf},{key:"ArrowDown",run:Nm,shift:iO,preventDefault:!0},{mac:"Cmd-ArrowDown",run:kf,shift:Sf},{mac:"Ctrl-ArrowDown",run:Fa,shift:xf},{key:"PageUp",run:gf,shift:bf},{key:"PageDown",run:Fa,shift:xf},{key:"Home",run:n3,shift:m3,preventDefault:!0},{key:"Mod-Home",run:yf,shift:vf},{key:"End",run:i3,shift:p3,preventDefault:!0},{key:"Mod-End",run:kf,shift:Sf},{key:"Enter",run:wf,shift:wf},{key:"Mod-a",run:y3},{key:"Backspace",run:Ba,shift:Ba,preventDefault:!0},{key:"Delete",run:oO,preventDefault:!0},{key:"Mod-Backspace",mac:"Alt-Backspace",run:aO,preventDefault:!0},{key:"Mod-Delete",mac:"Alt-Delete",run:$3,preventDefault:!0},{mac:"Mod-Backspace",run:P3,preventDefault:!0},{mac:"Mod-Delete",run:C3,preventDefault:!0}].concat(X3.map(t=>({mac:t.key,run:t.run,shift:t.shift}))),F3=[{key:"Alt-ArrowLeft",mac:"Ctrl-ArrowLeft",run:e3,shift:f3},{key:"Alt-ArrowRight",mac:"Ctrl-ArrowRight",run:t3,shift:d3},{key:"Alt-ArrowUp",run:E3},{key:"Shift-Alt-ArrowUp",run:M3},{key:"Alt-ArrowDown",run:D3},{key:"Shift-Alt-ArrowDown",run:R3},{key:"Mod-Alt-ArrowUp",run:S3},{key:"Mod-Alt-ArrowDown",run:w3},{key:"Escape",run:Q3},{key:"Mod-Enter",run:Z3},{key:"Alt-l",mac:"Ctrl-l",run:k3},{key:"Mod-i",run:v3,preventDefault:!0},{key:"Mod-[",run:pO},{key:"Mod-]",run:dO},{key:"Mod-Alt-\\",run:I3},{key:"Shift-Mod-k",run:hO},{key:"Shift-Mod-\\",run:u3},{key:"Mod-/",run:Dw},{key:"Alt-A",run:Rw},{key:"Ctrl-m",mac:"Shift-Alt-m",run:z3}].concat(V3),B3={key:"Tab",run:dO,shift:pO};class Vu{constructor(e,i,n,r){this.state=e,this.pos=i,this.explicit=n,this.view=r,this.abortListeners=[],this.abortOnDocChange=!1}tokenBefore(e){let i=Pe(this.state).resolveInner(this.pos,-1);for(;i&&e.indexOf(i.name)<0;)i=i.parent;return i?{from:i.from,to:this.pos,text:this.state.sliceDoc(i.from,this.pos),type:i.type}:null}matchBefore(e){let i=this.state.doc.lineAt(this.pos),n=Math.max(i.from,this.pos-250),r=i.text.slice(n-i.from,this.pos-i.from),s=r.search(OO(e,!1));return s<0?null:{from:n+s,to:this.pos,text:r.slice(s)}}get aborted(){return this.abortListeners==null}addEventListener(e,i,n){e=="abort"&&this.abortListeners&&(this.abortListeners.push(i),n&&n.onDocChange&&(this.abortOnDocChange=!0))}}function Qf(t){let e=Object.keys(t).join(""),i=/\w/.test(e);return i&&(e=e.replace(/\w/g,"")),`[${i?"\\w":""}${e.replace(/[^\w\s]/g,"\\$&")}]`}function q3(t){let e=Object.create(null),i=Object.create(null);for(let{label:r}of t){e[r[0]]=!0;for(let s=1;s<r.length;s++)i[r[s]]=!0}let n=Qf(e)+Qf(i)+"*$";return[new RegExp("^"+n),new RegExp(n)]}function mO(t){let e=t.map(r=>typeof r=="string"?{label:r}:r),[i,n]=e.every(r=>/^\w+$/.test(r.label))?[/\w*$/,/\w+$/]:q3(e);return r=>{let s=r.matchBefore(n);return s||r.explicit?{from:s?s.from:r.pos,options:e,validFor:i}:null}}function j3(t,e){return i=>{for(let n=Pe(i.state).resolveInner(i.pos,-1);n;n=n.parent){if(t.indexOf(n.name)>-1)return null;if(n.type.isTop)break}return e(i)}}class $f{constructor(e,i,n,r){this.completion=e,this.source=i,this.match=n,this.score=r}}function Zi(t){return t.selection.main.from}function OO(t,e){var i;let{source:n}=t,r=e&&n[0]!="^",s=n[n.length-1]!="$";return!r&&!s?t:new RegExp(`${r?"^":""}(?:${n})${s?"$":""}`,(i=t.flags)!==null&&i!==void 0?i:t.ignoreCase?"i":"")}const Fu=si.define();function Y3(t,e,i,n){let{main:r}=t.selection,s=i-r.from,o=n-r.from;return{...t.changeByRange(l=>{if(l!=r&&i!=n&&t.sliceDoc(l.from+s,l.from+o)!=t.sliceDoc(i,n))return{range:l};let a=t.toText(e);return{changes:{from:l.from+s,to:n==r.from?l.to:l.from+o,insert:a},range:M.cursor(l.from+s+a.length)}}),scrollIntoView:!0,userEvent:"input.complete"}}const _f=new WeakMap;function N3(t){if(!Array.isArray(t))return t;let e=_f.get(t);return e||_f.set(t,e=mO(t)),e}const fo=re.define(),Qr=re.define();class W3{constructor(e){this.pattern=e,this.chars=[],this.folded=[],this.any=[],this.precise=[],this.byWord=[],this.score=0,this.matched=[];for(let i=0;i<e.length;){let n=ui(e,i),r=Di(n);this.chars.push(n);let s=e.slice(i,i+r),o=s.toUpperCase();this.folded.push(ui(o==s?s.toLowerCase():o,0)),i+=r}this.astral=e.length!=this.chars.length}ret(e,i){return this.score=e,this.matched=i,this}match(e){if(this.pattern.length==0)return this.ret(-100,[]);if(e.length<this.pattern.length)return null;let{chars:i,folded:n,any:r,precise:s,byWord:o}=this;if(i.length==1){let b=ui(e,0),S=Di(b),x=S==e.length?0:-100;if(b!=i[0])if(b==n[0])x+=-200;else return null;return this.ret(x,[0,S])}let l=e.indexOf(this.pattern);if(l==0)return this.ret(e.length==this.pattern.length?0:-100,[0,this.pattern.length]);let a=i.length,u=0;if(l<0){for(let b=0,S=Math.min(e.length,200);b<S&&u<a;){let x=ui(e,b);(x==i[u]||x==n[u])&&(r[u++]=b),b+=Di(x)}if(u<a)return null}let c=0,h=0,f=!1,d=0,p=-1,m=-1,O=/[a-z]/.test(e),g=!0;for(let b=0,S=Math.min(e.length,200),x=0;b<S&&h<a;){let y=ui(e,b);l<0&&(c<a&&y==i[c]&&(s[c++]=b),d<a&&(y==i[d]||y==n[d]?(d==0&&(p=b),m=b+1,d++):d=0));let $,_=y<255?y>=48&&y<=57||y>=97&&y<=122?2:y>=65&&y<=90?1:0:($=Gp(y))!=$.toLowerCase()?1:$!=$.toUpperCase()?2:0;(!b||_==1&&O||x==0&&_!=0)&&(i[h]==y||n[h]==y&&(f=!0)?o[h++]=b:o.length&&(g=!1)),x=_,b+=Di(y)}return h==a&&o[0]==0&&g?this.result(-100+(f?-200:0),o,e):d==a&&p==0?this.ret(-200-e.length+(m==e.length?0:-100),[0,m]):l>-1?this.ret(-700-e.length,[l,l+this.pattern.length]):d==a?this.ret(-900-e.length,[p,m]):h==a?this.result(-100+(f?-200:0)+-700+(g?0:-1100),o,e):i.length==2?null:this.result((r[0]?-700:0)+-200+-1100,r,e)}result(e,i,n){let r=[],s=0;for(let o of i){let l=o+(this.astral?Di(ui(n,o)):1);s&&r[s-1]==o?r[s-1]=l:(r[s++]=o,r[s++]=l)}return this.ret(e-n.length,r)}}class G3{constructor(e){this.pattern=e,this.matched=[],this.score=0,this.folded=e.toLowerCase()}match(e){if(e.length<this.pattern.length)return null;let i=e.slice(0,this.pattern.length),n=i==this.pattern?0:i.toLowerCase()==this.folded?-200:null;return n==null?null:(this.matched=[0,i.length],this.score=n+(e.length==this.pattern.length?0:-100),this)}}const Ze=U.define({combine(t){return Do(t,{activateOnTyping:!0,activateOnCompletion:()=>!1,activateOnTypingDelay:100,selectOnOpen:!0,override:null,closeOnBlur:!0,maxRenderedOptions:100,defaultKeymap:!0,tooltipClass:()=>"",optionClass:()=>"",aboveCursor:!1,icons:!0,addToOptions:[],positionInfo:U3,filterStrict:!1,compareCompletions:(e,i)=>(e.sortText||e.label).localeCompare(i.sortText||i.label),interactionDelay:75,updateSyncTime:100},{defaultKeymap:(e,i)=>e&&i,closeOnBlur:(e,i)=>e&&i,icons:(e,i)=>e&&i,tooltipClass:(e,i)=>n=>Pf(e(n),i(n)),optionClass:(e,i)=>n=>Pf(e(n),i(n)),addToOptions:(e,i)=>e.concat(i),filterStrict:(e,i)=>e||i})}});function Pf(t,e){return t?e?t+" "+e:t:e}function U3(t,e,i,n,r,s){let o=t.textDirection==_e.RTL,l=o,a=!1,u="top",c,h,f=e.left-r.left,d=r.right-e.right,p=n.right-n.left,m=n.bottom-n.top;if(l&&f<Math.min(p,d)?l=!1:!l&&d<Math.min(p,f)&&(l=!0),p<=(l?f:d))c=Math.max(r.top,Math.min(i.top,r.bottom-m))-e.top,h=Math.min(400,l?f:d);else{a=!0,h=Math.min(400,(o?e.right:r.right-e.left)-30);let b=r.bottom-e.bottom;b>=m||b>e.top?c=i.bottom-e.top:(u="bottom",c=e.bottom-i.top)}let O=(e.bottom-e.top)/s.offsetHeight,g=(e.right-e.left)/s.offsetWidth;return{style:`${u}: ${c/O}px; max-width: ${h/g}px`,class:"cm-completionInfo-"+(a?o?"left-narrow":"right-narrow":l?"left":"right")}}function H3(t){let e=t.addToOptions.slice();return t.icons&&e.push({render(i){let n=document.createElement("div");return n.classList.add("cm-completionIcon"),i.type&&n.classList.add(...i.type.split(/\s+/g).map(r=>"cm-completionIcon-"+r)),n.setAttribute("aria-hidden","true"),n},position:20}),e.push({render(i,n,r,s){let o=document.createElement("span");o.className="cm-completionLabel";let l=i.displayLabel||i.label,a=0;for(let u=0;u<s.length;){let c=s[u++],h=s[u++];c>a&&o.appendChild(document.createTextNode(l.slice(a,c)));let f=o.appendChild(document.createElement("span"));f.appendChild(document.createTextNode(l.slice(c,h))),f.className="cm-completionMatchedText",a=h}return a<l.length&&o.appendChild(document.createTextNode(l.slice(a))),o},position:50},{render(i){if(!i.detail)return null;let n=document.createElement("span");return n.className="cm-completionDetail",n.textContent=i.detail,n},position:80}),e.sort((i,n)=>i.position-n.position).map(i=>i.render)}function Ol(t,e,i){if(t<=i)return{from:0,to:t};if(e<0&&(e=0),e<=t>>1){let r=Math.floor(e/i);return{from:r*i,to:(r+1)*i}}let n=Math.floor((t-e)/i);return{from:t-(n+1)*i,to:t-n*i}}class K3{constructor(e,i,n){this.view=e,this.stateField=i,this.applyCompletion=n,this.info=null,this.infoDestroy=null,this.placeInfoReq={read:()=>this.measureInfo(),write:a=>this.placeInfo(a),key:this},this.space=null,this.currentClass="";let r=e.state.field(i),{options:s,selected:o}=r.open,l=e.state.facet(Ze);this.optionContent=H3(l),this.optionClass=l.optionClass,this.tooltipClass=l.tooltipClass,this.range=Ol(s.length,o,l.maxRenderedOptions),this.dom=document.createElement("div"),this.dom.className="cm-tooltip-autocomplete",this.updateTooltipClass(e.state),this.dom.addEventListener("mousedown",a=>{let{options:u}=e.state.field(i).open;for(let c=a.target,h;c&&c!=this.dom;c=c.parentNode)if(c.nodeName=="LI"&&(h=/-(\d+)$/.exec(c.id))&&+h[1]<u.length){this.applyCompletion(e,u[+h[1]]),a.preventDefault();return}}),this.dom.addEventListener("focusout",a=>{let u=e.state.field(this.stateField,!1);u&&u.tooltip&&e.state.facet(Ze).closeOnBlur&&a.relatedTarget!=e.contentDOM&&e.dispatch({effects:Qr.of(null)})}),this.showOptions(s,r.id)}mount(){this.updateSel()}showOptions(e,i){this.list&&this.list.remove(),this.list=this.dom.appendChild(this.createListBox(e,i,this.range)),this.list.addEventListener("scroll",()=>{this.info&&this.view.requestMeasure(this.placeInfoReq)})}update(e){var i;let n=e.state.field(this.stateField),r=e.startState.field(this.stateField);if(this.updateTooltipClass(e.state),n!=r){let{options:s,selected:o,disabled:l}=n.open;(!r.open||r.open.options!=s)&&(this.range=Ol(s.length,o,e.state.facet(Ze).maxRenderedOptions),this.showOptions(s,n.id)),this.updateSel(),l!=((i=r.open)===null||i===void 0?void 0:i.disabled)&&this.dom.classList.toggle("cm-tooltip-autocomplete-disabled",!!l)}}updateTooltipClass(e){let i=this.tooltipClass(e);if(i!=this.currentClass){for(let n of this.currentClass.split(" "))n&&this.dom.classList.remove(n);for(let n of i.split(" "))n&&this.dom.classList.add(n);this.currentClass=i}}positioned(e){this.space=e,this.info&&this.view.requestMeasure(this.placeInfoReq)}updateSel(){let e=this.view.state.field(this.stateField),i=e.open;(i.selected>-1&&i.selected<this.range.from||i.selected>=this.range.to)&&(this.range=Ol(i.options.length,i.selected,this.view.state.facet(Ze).maxRenderedOptions),this.showOptions(i.options,e.id));let n=this.updateSelectedOption(i.selected);if(n){this.destroyInfo();let{completion:r}=i.options[i.selected],{info:s}=r;if(!s)return;let o=typeof s=="string"?document.createTextNode(s):s(r);if(!o)return;"then"in o?o.then(l=>{l&&this.view.state.field(this.stateField,!1)==e&&this.addInfoPane(l,r)}).catch(l=>ht(this.view.state,l,"completion info")):(this.addInfoPane(o,r),n.setAttribute("aria-describedby",this.info.id))}}addInfoPane(e,i){this.destroyInfo();let n=this.info=document.createElement("div");if(n.className="cm-tooltip cm-completionInfo",n.id="cm-completionInfo-"+Math.floor(Math.random()*65535).toString(16),e.nodeType!=null)n.appendChild(e),this.infoDestroy=null;else{let{dom:r,destroy:s}=e;n.appendChild(r),this.infoDestroy=s||null}this.dom.appendChild(n),this.view.requestMeasure(this.placeInfoReq)}updateSelectedOption(e){let i=null;for(let n=this.list.firstChild,r=this.range.from;n;n=n.nextSibling,r++)n.nodeName!="LI"||!n.id?r--:r==e?n.hasAttribute("aria-selected")||(n.setAttribute("aria-selected","true"),i=n):n.hasAttribute("aria-selected")&&(n.removeAttribute("aria-selected"),n.removeAttribute("aria-describedby"));return i&&eQ(this.list,i),i}measureInfo(){let e=this.dom.querySelector("[aria-selected]");if(!e||!this.info)return null;let i=this.dom.getBoundingClientRect(),n=this.info.getBoundingClientRect(),r=e.getBoundingClientRect(),s=this.space;if(!s){let o=this.dom.ownerDocument.documentElement;s={left:0,top:0,right:o.clientWidth,bottom:o.clientHeight}}return r.top>Math.min(s.bottom,i.bottom)-10||r.bottom<Math.max(s.top,i.top)+10?null:this.view.state.facet(Ze).positionInfo(this.view,i,r,n,s,this.dom)}placeInfo(e){this.info&&(e?(e.style&&(this.info.style.cssText=e.style),this.info.className="cm-tooltip cm-completionInfo "+(e.class||"")):this.info.style.cssText="top: -1e6px")}createListBox(e,i,n){const r=document.createElement("ul");r.id=i,r.setAttribute("role","listbox"),r.setAttribute("aria-expanded","true"),r.setAttribute("aria-label",this.view.state.phrase("Completions")),r.addEventListener("mousedown",o=>{o.target==r&&o.preventDefault()});let s=null;for(let o=n.from;o<n.to;o++){let{completion:l,match:a}=e[o],{section:u}=l;if(u){let f=typeof u=="string"?u:u.name;if(f!=s&&(o>n.from||n.from==0))if(s=f,typeof u!="string"&&u.header)r.appendChild(u.header(u));else{let d=r.appendChild(document.createElement("completion-section"));d.textContent=f}}const c=r.appendChild(document.createElement("li"));c.id=i+"-"+o,c.setAttribute("role","option");let h=this.optionClass(l);h&&(c.className=h);for(let f of this.optionContent){let d=f(l,this.view.state,this.view,a);d&&c.appendChild(d)}}return n.from&&r.classList.add("cm-completionListIncompleteTop"),n.to<e.length&&r.classList.add("cm-completionListIncompleteBottom"),r}destroyInfo(){this.info&&(this.infoDestroy&&this.infoDestroy(),this.info.remove(),this.info=null)}destroy(){this.destroyInfo()}}function J3(t,e){return i=>new K3(i,t,e)}function eQ(t,e){let i=t.getBoundingClientRect(),n=e.getBoundingClientRect(),r=i.height/t.offsetHeight;n.top<i.top?t.scrollTop-=(i.top-n.top)/r:n.bottom>i.bottom&&(t.scrollTop+=(n.bottom-i.bottom)/r)}function Cf(t){return(t.boost||0)*100+(t.apply?10:0)+(t.info?5:0)+(t.type?1:0)}function tQ(t,e){let i=[],n=null,r=null,s=c=>{i.push(c);let{section:h}=c.completion;if(h){n||(n=[]);let f=typeof h=="string"?h:h.name;n.some(d=>d.name==f)||n.push(typeof h=="string"?{name:f}:h)}},o=e.facet(Ze);for(let c of t)if(c.hasResult()){let h=c.result.getMatch;if(c.result.filter===!1)for(let f of c.result.options)s(new $f(f,c.source,h?h(f):[],1e9-i.length));else{let f=e.sliceDoc(c.from,c.to),d,p=o.filterStrict?new G3(f):new W3(f);for(let m of c.result.options)if(d=p.match(m.label)){let O=m.displayLabel?h?h(m,d.matched):[]:d.matched,g=d.score+(m.boost||0);if(s(new $f(m,c.source,O,g)),typeof m.section=="object"&&m.section.rank==="dynamic"){let{name:b}=m.section;r||(r=Object.create(null)),r[b]=Math.max(g,r[b]||-1e9)}}}}if(n){let c=Object.create(null),h=0,f=(d,p)=>(d.rank==="dynamic"&&p.rank==="dynamic"?r[p.name]-r[d.name]:0)||(typeof d.rank=="number"?d.rank:1e9)-(typeof p.rank=="number"?p.rank:1e9)||(d.name<p.name?-1:1);for(let d of n.sort(f))h-=1e5,c[d.name]=h;for(let d of i){let{section:p}=d.completion;p&&(d.score+=c[typeof p=="string"?p:p.name])}}let l=[],a=null,u=o.compareCompletions;for(let c of i.sort((h,f)=>f.score-h.score||u(h.completion,f.completion))){let h=c.completion;!a||a.label!=h.label||a.detail!=h.detail||a.type!=null&&h.type!=null&&a.type!=h.type||a.apply!=h.apply||a.boost!=h.boost?l.push(c):Cf(c.completion)>Cf(a)&&(l[l.length-1]=c),a=c.completion}return l}class Ji{constructor(e,i,n,r,s,o){this.options=e,this.attrs=i,this.tooltip=n,this.timestamp=r,this.selected=s,this.disabled=o}setSelected(e,i){return e==this.selected||e>=this.options.length?this:new Ji(this.options,Tf(i,e),this.tooltip,this.timestamp,e,this.disabled)}static build(e,i,n,r,s,o){if(r&&!o&&e.some(u=>u.isPending))return r.setDisabled();let l=tQ(e,i);if(!l.length)return r&&e.some(u=>u.isPending)?r.setDisabled():null;let a=i.facet(Ze).selectOnOpen?0:-1;if(r&&r.selected!=a&&r.selected!=-1){let u=r.options[r.selected].completion;for(let c=0;c<l.length;c++)if(l[c].completion==u){a=c;break}}return new Ji(l,Tf(n,a),{pos:e.reduce((u,c)=>c.hasResult()?Math.min(u,c.from):u,1e8),create:lQ,above:s.aboveCursor},r?r.timestamp:Date.now(),a,!1)}map(e){return new Ji(this.options,this.attrs,{...this.tooltip,pos:e.mapPos(this.tooltip.pos)},this.timestamp,this.selected,this.disabled)}setDisabled(){return new Ji(this.options,this.attrs,this.tooltip,this.timestamp,this.selected,!0)}}class po{constructor(e,i,n){this.active=e,this.id=i,this.open=n}static start(){return new po(sQ,"cm-ac-"+Math.floor(Math.random()*2e6).toString(36),null)}update(e){let{state:i}=e,n=i.facet(Ze),s=(n.override||i.languageDataAt("autocomplete",Zi(i)).map(N3)).map(a=>(this.active.find(c=>c.source==a)||new xt(a,this.active.some(c=>c.state!=0)?1:0)).update(e,n));s.length==this.active.length&&s.every((a,u)=>a==this.active[u])&&(s=this.active);let o=this.open,l=e.effects.some(a=>a.is(Bu));o&&e.docChanged&&(o=o.map(e.changes)),e.selection||s.some(a=>a.hasResult()&&e.changes.touchesRange(a.from,a.to))||!iQ(s,this.active)||l?o=Ji.build(s,i,this.id,o,n,l):o&&o.disabled&&!s.some(a=>a.isPending)&&(o=null),!o&&s.every(a=>!a.isPending)&&s.some(a=>a.hasResult())&&(s=s.map(a=>a.hasResult()?new xt(a.source,0):a));for(let a of e.effects)a.is(bO)&&(o=o&&o.setSelected(a.value,this.id));return s==this.active&&o==this.open?this:new po(s,this.id,o)}get tooltip(){return this.open?this.open.tooltip:null}get attrs(){return this.open?this.open.attrs:this.active.length?nQ:rQ}}function iQ(t,e){if(t==e)return!0;for(let i=0,n=0;;){for(;i<t.length&&!t[i].hasResult();)i++;for(;n<e.length&&!e[n].hasResult();)n++;let r=i==t.length,s=n==e.length;if(r||s)return r==s;if(t[i++].result!=e[n++].result)return!1}}const nQ={"aria-autocomplete":"list"},rQ={};function Tf(t,e){let i={"aria-autocomplete":"list","aria-haspopup":"listbox","aria-controls":t};return e>-1&&(i["aria-activedescendant"]=t+"-"+e),i}const sQ=[];function gO(t,e){if(t.isUserEvent("input.complete")){let n=t.annotation(Fu);if(n&&e.activateOnCompletion(n))return 12}let i=t.isUserEvent("input.type");return i&&e.activateOnTyping?5:i?1:t.isUserEvent("delete.backward")?2:t.selection?8:t.docChanged?16:0}class xt{constructor(e,i,n=!1){this.source=e,this.state=i,this.explicit=n}hasResult(){return!1}get isPending(){return this.state==1}update(e,i){let n=gO(e,i),r=this;(n&8||n&16&&this.touches(e))&&(r=new xt(r.source,0)),n&4&&r.state==0&&(r=new xt(this.source,1)),r=r.updateFor(e,n);for(let s of e.effects)if(s.is(fo))r=new xt(r.source,1,s.value);else if(s.is(Qr))r=new xt(r.source,0);else if(s.is(Bu))for(let o of s.value)o.source==r.source&&(r=o);return r}updateFor(e,i){return this.map(e.changes)}map(e){return this}touches(e){return e.changes.touchesRange(Zi(e.state))}}class sn extends xt{constructor(e,i,n,r,s,o){super(e,3,i),this.limit=n,this.result=r,this.from=s,this.to=o}hasResult(){return!0}updateFor(e,i){var n;if(!(i&3))return this.map(e.changes);let r=this.result;r.map&&!e.changes.empty&&(r=r.map(r,e.changes));let s=e.changes.mapPos(this.from),o=e.changes.mapPos(this.to,1),l=Zi(e.state);if(l>o||!r||i&2&&(Zi(e.startState)==this.from||l<this.limit))return new xt(this.source,i&4?1:0);let a=e.changes.mapPos(this.limit);return oQ(r.validFor,e.state,s,o)?new sn(this.source,this.explicit,a,r,s,o):r.update&&(r=r.update(r,s,o,new Vu(e.state,l,!1)))?new sn(this.source,this.explicit,a,r,r.from,(n=r.to)!==null&&n!==void 0?n:Zi(e.state)):new xt(this.source,1,this.explicit)}map(e){return e.empty?this:(this.result.map?this.result.map(this.result,e):this.result)?new sn(this.source,this.explicit,e.mapPos(this.limit),this.result,e.mapPos(this.from),e.mapPos(this.to,1)):new xt(this.source,0)}touches(e){return e.changes.touchesRange(this.from,this.to)}}function oQ(t,e,i,n){if(!t)return!1;let r=e.sliceDoc(i,n);return typeof t=="function"?t(r,i,n,e):OO(t,!0).test(r)}const Bu=re.define({map(t,e){return t.map(i=>i.map(e))}}),bO=re.define(),Je=it.define({create(){return po.start()},update(t,e){return t.update(e)},provide:t=>[Pu.from(t,e=>e.tooltip),W.contentAttributes.from(t,e=>e.attrs)]});function qu(t,e){const i=e.completion.apply||e.completion.label;let n=t.state.field(Je).active.find(r=>r.source==e.source);return n instanceof sn?(typeof i=="string"?t.dispatch({...Y3(t.state,i,n.from,n.to),annotations:Fu.of(e.completion)}):i(t,e.completion,n.from,n.to),!0):!1}const lQ=J3(Je,qu);function ys(t,e="option"){return i=>{let n=i.state.field(Je,!1);if(!n||!n.open||n.open.disabled||Date.now()-n.open.timestamp<i.state.facet(Ze).interactionDelay)return!1;let r=1,s;e=="page"&&(s=dm(i,n.open.tooltip))&&(r=Math.max(2,Math.floor(s.dom.offsetHeight/s.dom.querySelector("li").offsetHeight)-1));let{length:o}=n.open.options,l=n.open.selected>-1?n.open.selected+r*(t?1:-1):t?0:o-1;return l<0?l=e=="page"?0:o-1:l>=o&&(l=e=="page"?o-1:0),i.dispatch({effects:bO.of(l)}),!0}}const aQ=t=>{let e=t.state.field(Je,!1);return t.state.readOnly||!e||!e.open||e.open.selected<0||e.open.disabled||Date.now()-e.open.timestamp<t.state.facet(Ze).interactionDelay?!1:qu(t,e.open.options[e.open.selected])},gl=t=>t.state.field(Je,!1)?(t.dispatch({effects:fo.of(!0)}),!0):!1,uQ=t=>{let e=t.state.field(Je,!1);return!e||!e.active.some(i=>i.state!=0)?!1:(t.dispatch({effects:Qr.of(null)}),!0)};class cQ{constructor(e,i){this.active=e,this.context=i,this.time=Date.now(),this.updates=[],this.done=void 0}}const hQ=50,fQ=1e3,dQ=mt.fromClass(class{constructor(t){this.view=t,this.debounceUpdate=-1,this.running=[],this.debounceAccept=-1,this.pendingStart=!1,this.composing=0;for(let e of t.state.field(Je).active)e.isPending&&this.startQuery(e)}update(t){let e=t.state.field(Je),i=t.state.facet(Ze);if(!t.selectionSet&&!t.docChanged&&t.startState.field(Je)==e)return;let n=t.transactions.some(s=>{let o=gO(s,i);return o&8||(s.selection||s.docChanged)&&!(o&3)});for(let s=0;s<this.running.length;s++){let o=this.running[s];if(n||o.context.abortOnDocChange&&t.docChanged||o.updates.length+t.transactions.length>hQ&&Date.now()-o.time>fQ){for(let l of o.context.abortListeners)try{l()}catch(a){ht(this.view.state,a)}o.context.abortListeners=null,this.running.splice(s--,1)}else o.updates.push(...t.transactions)}this.debounceUpdate>-1&&clearTimeout(this.debounceUpdate),t.transactions.some(s=>s.effects.some(o=>o.is(fo)))&&(this.pendingStart=!0);let r=this.pendingStart?50:i.activateOnTypingDelay;if(this.debounceUpdate=e.active.some(s=>s.isPending&&!this.running.some(o=>o.active.source==s.source))?setTimeout(()=>this.startUpdate(),r):-1,this.composing!=0)for(let s of t.transactions)s.isUserEvent("input.type")?this.composing=2:this.composing==2&&s.selection&&(this.composing=3)}startUpdate(){this.debounceUpdate=-1,this.pendingStart=!1;let{state:t}=this.view,e=t.field(Je);for(let i of e.active)i.isPending&&!this.running.some(n=>n.active.source==i.source)&&this.startQuery(i);this.running.length&&e.open&&e.open.disabled&&(this.debounceAccept=setTimeout(()=>this.accept(),this.view.state.facet(Ze).updateSyncTime))}startQuery(t){let{state:e}=this.view,i=Zi(e),n=new Vu(e,i,t.explicit,this.view),r=new cQ(t,n);this.running.push(r),Promise.resolve(t.source(n)).then(s=>{r.context.aborted||(r.done=s||null,this.scheduleAccept())},s=>{this.view.dispatch({effects:Qr.of(null)}),ht(this.view.state,s)})}scheduleAccept(){this.running.every(t=>t.done!==void 0)?this.accept():this.debounceAccept<0&&(this.debounceAccept=setTimeout(()=>this.accept(),this.view.state.facet(Ze).updateSyncTime))}accept(){var t;this.debounceAccept>-1&&clearTimeout(this.debounceAccept),this.debounceAccept=-1;let e=[],i=this.view.state.facet(Ze),n=this.view.state.field(Je);for(let r=0;r<this.running.length;r++){let s=this.running[r];if(s.done===void 0)continue;if(this.running.splice(r--,1),s.done){let l=Zi(s.updates.length?s.updates[0].startState:this.view.state),a=Math.min(l,s.done.from+(s.active.explicit?0:1)),u=new sn(s.active.source,s.active.explicit,a,s.done,s.done.from,(t=s.done.to)!==null&&t!==void 0?t:l);for(let c of s.updates)u=u.update(c,i);if(u.hasResult()){e.push(u);continue}}let o=n.active.find(l=>l.source==s.active.source);if(o&&o.isPending)if(s.done==null){let l=new xt(s.active.source,0);for(let a of s.updates)l=l.update(a,i);l.isPending||e.push(l)}else this.startQuery(o)}(e.length||n.open&&n.open.disabled)&&this.view.dispatch({effects:Bu.of(e)})}},{eventHandlers:{blur(t){let e=this.view.state.field(Je,!1);if(e&&e.tooltip&&this.view.state.facet(Ze).closeOnBlur){let i=e.open&&dm(this.view,e.open.tooltip);(!i||!i.dom.contains(t.relatedTarget))&&setTimeout(()=>this.view.dispatch({effects:Qr.of(null)}),10)}},compositionstart(){this.composing=1},compositionend(){this.composing==3&&setTimeout(()=>this.view.dispatch({effects:fo.of(!1)}),20),this.composing=0}}}),pQ=typeof navigator=="object"&&/Win/.test(navigator.platform),mQ=ri.highest(W.domEventHandlers({keydown(t,e){let i=e.state.field(Je,!1);if(!i||!i.open||i.open.disabled||i.open.selected<0||t.key.length>1||t.ctrlKey&&!(pQ&&t.altKey)||t.metaKey)return!1;let n=i.open.options[i.open.selected],r=i.active.find(o=>o.source==n.source),s=n.completion.commitCharacters||r.result.commitCharacters;return s&&s.indexOf(t.key)>-1&&qu(e,n),!1}})),xO=W.baseTheme({".cm-tooltip.cm-tooltip-autocomplete":{"& > ul":{fontFamily:"monospace",whiteSpace:"nowrap",overflow:"hidden auto",maxWidth_fallback:"700px",maxWidth:"min(700px, 95vw)",minWidth:"250px",maxHeight:"10em",height:"100%",listStyle:"none",margin:0,padding:0,"& > li, & > completion-section":{padding:"1px 3px",lineHeight:1.2},"& > li":{overflowX:"hidden",textOverflow:"ellipsis",cursor:"pointer"},"& > completion-section":{display:"list-item",borderBottom:"1px solid silver",paddingLeft:"0.5em",opacity:.7}}},"&light .cm-tooltip-autocomplete ul li[aria-selected]":{background:"#17c",color:"white"},"&light .cm-tooltip-autocomplete-disabled ul li[aria-selected]":{background:"#777"},"&dark .cm-tooltip-autocomplete ul li[aria-selected]":{background:"#347",color:"white"},"&dark .cm-tooltip-autocomplete-disabled ul li[aria-selected]":{background:"#444"},".cm-completionListIncompleteTop:before, .cm-completionListIncompleteBottom:after":{content:'"···"',opacity:.5,display:"block",textAlign:"center"},".cm-tooltip.cm-completionInfo":{position:"absolute",padding:"3px 9px",width:"max-content",maxWidth:"400px",boxSizing:"border-box",whiteSpace:"pre-line"},".cm-completionInfo.cm-completionInfo-left":{right:"100%"},".cm-completionInfo.cm-completionInfo-right":{left:"100%"},".cm-completionInfo.cm-completionInfo-left-narrow":{right:"30px"},".cm-completionInfo.cm-completionInfo-right-narrow":{left:"30px"},"&light .cm-snippetField":{backgroundColor:"#00000022"},"&dark .cm-snippetField":{backgroundColor:"#ffffff22"},".cm-snippetFieldPosition":{verticalAlign:"text-top",width:0,height:"1.15em",display:"inline-block",margin:"0 -0.7px -.7em",borderLeft:"1.4px dotted #888"},".cm-completionMatchedText":{textDecoration:"underline"},".cm-completionDetail":{marginLeft:"0.5em",fontStyle:"italic"},".cm-completionIcon":{fontSize:"90%",width:".8em",display:"inline-block",textAlign:"center",paddingRight:".6em",opacity:"0.6",boxSizing:"content-box"},".cm-completionIcon-function, .cm-completionIcon-method":{"&:after":{content:"'ƒ'"}},".cm-completionIcon-class":{"&:after":{content:"'○'"}},".cm-completionIcon-interface":{"&:after":{content:"'◌'"}},".cm-completionIcon-variable":{"&:after":{content:"'𝑥'"}},".cm-completionIcon-constant":{"&:after":{content:"'𝐶'"}},".cm-completionIcon-type":{"&:after":{content:"'𝑡'"}},".cm-completionIcon-enum":{"&:after":{content:"'∪'"}},".cm-completionIcon-property":{"&:after":{content:"'□'"}},".cm-completionIcon-keyword":{"&:after":{content:"'🔑︎'"}},".cm-completionIcon-namespace":{"&:after":{content:"'▢'"}},".cm-completionIcon-text":{"&:after":{content:"'abc'",fontSize:"50%",verticalAlign:"middle"}}});class OQ{constructor(e,i,n,r){this.field=e,this.line=i,this.from=n,this.to=r}}class ju{constructor(e,i,n){this.field=e,this.from=i,this.to=n}map(e){let i=e.mapPos(this.from,-1,We.TrackDel),n=e.mapPos(this.to,1,We.TrackDel);return i==null||n==null?null:new ju(this.field,i,n)}}class Yu{constructor(e,i){this.lines=e,this.fieldPositions=i}instantiate(e,i){let n=[],r=[i],s=e.doc.lineAt(i),o=/^\s*/.exec(s.text)[0];for(let a of this.lines){if(n.length){let u=o,c=/^\t*/.exec(a)[0].length;for(let h=0;h<c;h++)u+=e.facet(Tn);r.push(i+u.length-c),a=u+a.slice(c)}n.push(a),i+=a.length+1}let l=this.fieldPositions.map(a=>new ju(a.field,r[a.line]+a.from,r[a.line]+a.to));return{text:n,ranges:l}}static parse(e){let i=[],n=[],r=[],s;for(let o of e.split(/\r\n?|\n/)){for(;s=/[#$]\{(?:(\d+)(?::([^{}]*))?|((?:\\[{}]|[^{}])*))\}/.exec(o);){let l=s[1]?+s[1]:null,a=s[2]||s[3]||"",u=-1,c=a.replace(/\\[{}]/g,h=>h[1]);for(let h=0;h<i.length;h++)(l!=null?i[h].seq==l:c&&i[h].name==c)&&(u=h);if(u<0){let h=0;for(;h<i.length&&(l==null||i[h].seq!=null&&i[h].seq<l);)h++;i.splice(h,0,{seq:l,name:c}),u=h;for(let f of r)f.field>=u&&f.field++}for(let h of r)if(h.line==n.length&&h.from>s.index){let f=s[2]?3+(s[1]||"").length:2;h.from-=f,h.to-=f}r.push(new OQ(u,n.length,s.index,s.index+c.length)),o=o.slice(0,s.index)+a+o.slice(s.index+s[0].length)}o=o.replace(/\\([{}])/g,(l,a,u)=>{for(let c of r)c.line==n.length&&c.from>u&&(c.from--,c.to--);return a}),n.push(o)}return new Yu(n,r)}}let gQ=Oe.widget({widget:new class extends _n{toDOM(){let t=document.createElement("span");return t.className="cm-snippetFieldPosition",t}ignoreEvent(){return!1}}}),bQ=Oe.mark({class:"cm-snippetField"});class Dn{constructor(e,i){this.ranges=e,this.active=i,this.deco=Oe.set(e.map(n=>(n.from==n.to?gQ:bQ).range(n.from,n.to)),!0)}map(e){let i=[];for(let n of this.ranges){let r=n.map(e);if(!r)return null;i.push(r)}return new Dn(i,this.active)}selectionInsideField(e){return e.ranges.every(i=>this.ranges.some(n=>n.field==this.active&&n.from<=i.from&&n.to>=i.to))}}const Wr=re.define({map(t,e){return t&&t.map(e)}}),xQ=re.define(),$r=it.define({create(){return null},update(t,e){for(let i of e.effects){if(i.is(Wr))return i.value;if(i.is(xQ)&&t)return new Dn(t.ranges,i.value)}return t&&e.docChanged&&(t=t.map(e.changes)),t&&e.selection&&!t.selectionInsideField(e.selection)&&(t=null),t},provide:t=>W.decorations.from(t,e=>e?e.deco:Oe.none)});function Nu(t,e){return M.create(t.filter(i=>i.field==e).map(i=>M.range(i.from,i.to)))}function yQ(t){let e=Yu.parse(t);return(i,n,r,s)=>{let{text:o,ranges:l}=e.instantiate(i.state,r),{main:a}=i.state.selection,u={changes:{from:r,to:s==a.from?a.to:s,insert:ue.of(o)},scrollIntoView:!0,annotations:n?[Fu.of(n),Ae.userEvent.of("input.complete")]:void 0};if(l.length&&(u.selection=Nu(l,0)),l.some(c=>c.field>0)){let c=new Dn(l,0),h=u.effects=[Wr.of(c)];i.state.field($r,!1)===void 0&&h.push(re.appendConfig.of([$r,QQ,$Q,xO]))}i.dispatch(i.state.update(u))}}function yO(t){return({state:e,dispatch:i})=>{let n=e.field($r,!1);if(!n||t<0&&n.active==0)return!1;let r=n.active+t,s=t>0&&!n.ranges.some(o=>o.field==r+t);return i(e.update({selection:Nu(n.ranges,r),effects:Wr.of(s?null:new Dn(n.ranges,r)),scrollIntoView:!0})),!0}}const kQ=({state:t,dispatch:e})=>t.field($r,!1)?(e(t.update({effects:Wr.of(null)})),!0):!1,vQ=yO(1),SQ=yO(-1),wQ=[{key:"Tab",run:vQ,shift:SQ},{key:"Escape",run:kQ}],Af=U.define({combine(t){return t.length?t[0]:wQ}}),QQ=ri.highest(Br.compute([Af],t=>t.facet(Af)));function Ke(t,e){return{...e,apply:yQ(t)}}const $Q=W.domEventHandlers({mousedown(t,e){let i=e.state.field($r,!1),n;if(!i||(n=e.posAtCoords({x:t.clientX,y:t.clientY}))==null)return!1;let r=i.ranges.find(s=>s.from<=n&&s.to>=n);return!r||r.field==i.active?!1:(e.dispatch({selection:Nu(i.ranges,r.field),effects:Wr.of(i.ranges.some(s=>s.field>r.field)?new Dn(i.ranges,r.field):null),scrollIntoView:!0}),!0)}}),kO=new class extends Ii{};kO.startSide=1;kO.endSide=-1;function _Q(t={}){return[mQ,Je,Ze.of(t),dQ,CQ,xO]}const PQ=[{key:"Ctrl-Space",run:gl},{mac:"Alt-`",run:gl},{mac:"Alt-i",run:gl},{key:"Escape",run:uQ},{key:"ArrowDown",run:ys(!0)},{key:"ArrowUp",run:ys(!1)},{key:"PageDown",run:ys(!0,"page")},{key:"PageUp",run:ys(!1,"page")},{key:"Enter",run:aQ}],CQ=ri.highest(Br.computeN([Ze],t=>t.facet(Ze).defaultKeymap?[PQ]:[]));class mo{static create(e,i,n,r,s){let o=r+(r<<8)+e+(i<<4)|0;return new mo(e,i,n,o,s,[],[])}constructor(e,i,n,r,s,o,l){this.type=e,this.value=i,this.from=n,this.hash=r,this.end=s,this.children=o,this.positions=l,this.hashProp=[[te.contextHash,r]]}addChild(e,i){e.prop(te.contextHash)!=this.hash&&(e=new se(e.type,e.children,e.positions,e.length,this.hashProp)),this.children.push(e),this.positions.push(i)}toTree(e,i=this.end){let n=this.children.length-1;return n>=0&&(i=Math.max(i,this.positions[n]+this.children[n].length+this.from)),new se(e.types[this.type],this.children,this.positions,i-this.from).balance({makeTree:(r,s,o)=>new se(De.none,r,s,o,this.hashProp)})}}var j;(function(t){t[t.Document=1]="Document",t[t.CodeBlock=2]="CodeBlock",t[t.FencedCode=3]="FencedCode",t[t.Blockquote=4]="Blockquote",t[t.HorizontalRule=5]="HorizontalRule",t[t.BulletList=6]="BulletList",t[t.OrderedList=7]="OrderedList",t[t.ListItem=8]="ListItem",t[t.ATXHeading1=9]="ATXHeading1",t[t.ATXHeading2=10]="ATXHeading2",t[t.ATXHeading3=11]="ATXHeading3",t[t.ATXHeading4=12]="ATXHeading4",t[t.ATXHeading5=13]="ATXHeading5",t[t.ATXHeading6=14]="ATXHeading6",t[t.SetextHeading1=15]="SetextHeading1",t[t.SetextHeading2=16]="SetextHeading2",t[t.HTMLBlock=17]="HTMLBlock",t[t.LinkReference=18]="LinkReference",t[t.Paragraph=19]="Paragraph",t[t.CommentBlock=20]="CommentBlock",t[t.ProcessingInstructionBlock=21]="ProcessingInstructionBlock",t[t.Escape=22]="Escape",t[t.Entity=23]="Entity",t[t.HardBreak=24]="HardBreak",t[t.Emphasis=25]="Emphasis",t[t.StrongEmphasis=26]="StrongEmphasis",t[t.Link=27]="Link",t[t.Image=28]="Image",t[t.InlineCode=29]="InlineCode",t[t.HTMLTag=30]="HTMLTag",t[t.Comment=31]="Comment",t[t.ProcessingInstruction=32]="ProcessingInstruction",t[t.Autolink=33]="Autolink",t[t.HeaderMark=34]="HeaderMark",t[t.QuoteMark=35]="QuoteMark",t[t.ListMark=36]="ListMark",t[t.LinkMark=37]="LinkMark",t[t.EmphasisMark=38]="EmphasisMark",t[t.CodeMark=39]="CodeMark",t[t.CodeText=40]="CodeText",t[t.CodeInfo=41]="CodeInfo",t[t.LinkTitle=42]="LinkTitle",t[t.LinkLabel=43]="LinkLabel",t[t.URL=44]="URL"})(j||(j={}));class TQ{constructor(e,i){this.start=e,this.content=i,this.marks=[],this.parsers=[]}}class AQ{constructor(){this.text="",this.baseIndent=0,this.basePos=0,this.depth=0,this.markers=[],this.pos=0,this.indent=0,this.next=-1}forward(){this.basePos>this.pos&&this.forwardInner()}forwardInner(){let e=this.skipSpace(this.basePos);this.indent=this.countIndent(e,this.pos,this.indent),this.pos=e,this.next=e==this.text.length?-1:this.text.charCodeAt(e)}skipSpace(e){return or(this.text,e)}reset(e){for(this.text=e,this.baseIndent=this.basePos=this.pos=this.indent=0,this.forwardInner(),this.depth=1;this.markers.length;)this.markers.pop()}moveBase(e){this.basePos=e,this.baseIndent=this.countIndent(e,this.pos,this.indent)}moveBaseColumn(e){this.baseIndent=e,this.basePos=this.findColumn(e)}addMarker(e){this.markers.push(e)}countIndent(e,i=0,n=0){for(let r=i;r<e;r++)n+=this.text.charCodeAt(r)==9?4-n%4:1;return n}findColumn(e){let i=0;for(let n=0;i<this.text.length&&n<e;i++)n+=this.text.charCodeAt(i)==9?4-n%4:1;return i}scrub(){if(!this.baseIndent)return this.text;let e="";for(let i=0;i<this.basePos;i++)e+=" ";return e+this.text.slice(this.basePos)}}function Ef(t,e,i){if(i.pos==i.text.length||t!=e.block&&i.indent>=e.stack[i.depth+1].value+i.baseIndent)return!0;if(i.indent>=i.baseIndent+4)return!1;let n=(t.type==j.OrderedList?Uu:Gu)(i,e,!1);return n>0&&(t.type!=j.BulletList||Wu(i,e,!1)<0)&&i.text.charCodeAt(i.pos+n-1)==t.value}const vO={[j.Blockquote](t,e,i){return i.next!=62?!1:(i.markers.push(le(j.QuoteMark,e.lineStart+i.pos,e.lineStart+i.pos+1)),i.moveBase(i.pos+(_t(i.text.charCodeAt(i.pos+1))?2:1)),t.end=e.lineStart+i.text.length,!0)},[j.ListItem](t,e,i){return i.indent<i.baseIndent+t.value&&i.next>-1?!1:(i.moveBaseColumn(i.baseIndent+t.value),!0)},[j.OrderedList]:Ef,[j.BulletList]:Ef,[j.Document](){return!0}};function _t(t){return t==32||t==9||t==10||t==13}function or(t,e=0){for(;e<t.length&&_t(t.charCodeAt(e));)e++;return e}function Df(t,e,i){for(;e>i&&_t(t.charCodeAt(e-1));)e--;return e}function SO(t){if(t.next!=96&&t.next!=126)return-1;let e=t.pos+1;for(;e<t.text.length&&t.text.charCodeAt(e)==t.next;)e++;if(e<t.pos+3)return-1;if(t.next==96){for(let i=e;i<t.text.length;i++)if(t.text.charCodeAt(i)==96)return-1}return e}function wO(t){return t.next!=62?-1:t.text.charCodeAt(t.pos+1)==32?2:1}function Wu(t,e,i){if(t.next!=42&&t.next!=45&&t.next!=95)return-1;let n=1;for(let r=t.pos+1;r<t.text.length;r++){let s=t.text.charCodeAt(r);if(s==t.next)n++;else if(!_t(s))return-1}return i&&t.next==45&&_O(t)>-1&&t.depth==e.stack.length&&e.parser.leafBlockParsers.indexOf(AO.SetextHeading)>-1||n<3?-1:1}function QO(t,e){for(let i=t.stack.length-1;i>=0;i--)if(t.stack[i].type==e)return!0;return!1}function Gu(t,e,i){return(t.next==45||t.next==43||t.next==42)&&(t.pos==t.text.length-1||_t(t.text.charCodeAt(t.pos+1)))&&(!i||QO(e,j.BulletList)||t.skipSpace(t.pos+2)<t.text.length)?1:-1}function Uu(t,e,i){let n=t.pos,r=t.next;for(;r>=48&&r<=57;){n++;if(n==t.text.length)return-1;r=t.text.charCodeAt(n)}return n==t.pos||n>t.pos+9||r!=46&&r!=41||n<t.text.length-1&&!_t(t.text.charCodeAt(n+1))||i&&!QO(e,j.OrderedList)&&(t.skipSpace(n+1)==t.text.length||n>t.pos+1||t.next!=49)?-1:n+1-t.pos}function $O(t){if(t.next!=35)return-1;let e=t.pos+1;for(;e<t.text.length&&t.text.charCodeAt(e)==35;)e++;if(e<t.text.length&&t.text.charCodeAt(e)!=32)return-1;let i=e-t.pos;return i>6?-1:i}function _O(t){if(t.next!=45&&t.next!=61||t.indent>=t.baseIndent+4)return-1;let e=t.pos+1;for(;e<t.text.length&&t.text.charCodeAt(e)==t.next;)e++;let i=e;for(;e<t.text.length&&_t(t.text.charCodeAt(e));)e++;return e==t.text.length?i:-1}const qa=/^[ \t]*$/,PO=/-->/,CO=/\?>/,ja=[[/^<(?:script|pre|style)(?:\s|>|$)/i,/<\/(?:script|pre|style)>/i],[/^\s*<!--/,PO],[/^\s*<\?/,CO],[/^\s*<![A-Z]/,/>/],[/^\s*<!\[CDATA\[/,/\]\]>/],[/^\s*<\/?(?:address|article|aside|base|basefont|blockquote|body|caption|center|col|colgroup|dd|details|dialog|dir|div|dl|dt|fieldset|figcaption|figure|footer|form|frame|frameset|h1|h2|h3|h4|h5|h6|head|header|hr|html|iframe|legend|li|link|main|menu|menuitem|nav|noframes|ol|optgroup|option|p|param|section|source|summary|table|tbody|td|tfoot|th|thead|title|tr|track|ul)(?:\s|\/?>|$)/i,qa],[/^\s*(?:<\/[a-z][\w-]*\s*>|<[a-z][\w-]*(\s+[a-z:_][\w-.]*(?:\s*=\s*(?:[^\s"'=<>`]+|'[^']*'|"[^"]*"))?)*\s*>)\s*$/i,qa]];function TO(t,e,i){if(t.next!=60)return-1;let n=t.text.slice(t.pos);for(let r=0,s=ja.length-(i?1:0);r<s;r++)if(ja[r][0].test(n))return r;return-1}function Mf(t,e){let i=t.countIndent(e,t.pos,t.indent),n=t.countIndent(t.skipSpace(e),e,i);return n>=i+5?i+1:n}function Ci(t,e,i){let n=t.length-1;n>=0&&t[n].to==e&&t[n].type==j.CodeText?t[n].to=i:t.push(le(j.CodeText,e,i))}const ks={LinkReference:void 0,IndentedCode(t,e){let i=e.baseIndent+4;if(e.indent<i)return!1;let n=e.findColumn(i),r=t.lineStart+n,s=t.lineStart+e.text.length,o=[],l=[];for(Ci(o,r,s);t.nextLine()&&e.depth>=t.stack.length;)if(e.pos==e.text.length){Ci(l,t.lineStart-1,t.lineStart);for(let a of e.markers)l.push(a)}else{if(e.indent<i)break;{if(l.length){for(let u of l)u.type==j.CodeText?Ci(o,u.from,u.to):o.push(u);l=[]}Ci(o,t.lineStart-1,t.lineStart);for(let u of e.markers)o.push(u);s=t.lineStart+e.text.length;let a=t.lineStart+e.findColumn(e.baseIndent+4);a<s&&Ci(o,a,s)}}return l.length&&(l=l.filter(a=>a.type!=j.CodeText),l.length&&(e.markers=l.concat(e.markers))),t.addNode(t.buffer.writeElements(o,-r).finish(j.CodeBlock,s-r),r),!0},FencedCode(t,e){let i=SO(e);if(i<0)return!1;let n=t.lineStart+e.pos,r=e.next,s=i-e.pos,o=e.skipSpace(i),l=Df(e.text,e.text.length,o),a=[le(j.CodeMark,n,n+s)];o<l&&a.push(le(j.CodeInfo,t.lineStart+o,t.lineStart+l));for(let u=!0;t.nextLine()&&e.depth>=t.stack.length;u=!1){let c=e.pos;if(e.indent-e.baseIndent<4)for(;c<e.text.length&&e.text.charCodeAt(c)==r;)c++;if(c-e.pos>=s&&e.skipSpace(c)==e.text.length){for(let h of e.markers)a.push(h);a.push(le(j.CodeMark,t.lineStart+e.pos,t.lineStart+c)),t.nextLine();break}else{u||Ci(a,t.lineStart-1,t.lineStart);for(let d of e.markers)a.push(d);let h=t.lineStart+e.basePos,f=t.lineStart+e.text.length;h<f&&Ci(a,h,f)}}return t.addNode(t.buffer.writeElements(a,-n).finish(j.FencedCode,t.prevLineEnd()-n),n),!0},Blockquote(t,e){let i=wO(e);return i<0?!1:(t.startContext(j.Blockquote,e.pos),t.addNode(j.QuoteMark,t.lineStart+e.pos,t.lineStart+e.pos+1),e.moveBase(e.pos+i),null)},HorizontalRule(t,e){if(Wu(e,t,!1)<0)return!1;let i=t.lineStart+e.pos;return t.nextLine(),t.addNode(j.HorizontalRule,i),!0},BulletList(t,e){let i=Gu(e,t,!1);if(i<0)return!1;t.block.type!=j.BulletList&&t.startContext(j.BulletList,e.basePos,e.next);let n=Mf(e,e.pos+1);return t.startContext(j.ListItem,e.basePos,n-e.baseIndent),t.addNode(j.ListMark,t.lineStart+e.pos,t.lineStart+e.pos+i),e.moveBaseColumn(n),null},OrderedList(t,e){let i=Uu(e,t,!1);if(i<0)return!1;t.block.type!=j.OrderedList&&t.startContext(j.OrderedList,e.basePos,e.text.charCodeAt(e.pos+i-1));let n=Mf(e,e.pos+i);return t.startContext(j.ListItem,e.basePos,n-e.baseIndent),t.addNode(j.ListMark,t.lineStart+e.pos,t.lineStart+e.pos+i),e.moveBaseColumn(n),null},ATXHeading(t,e){let i=$O(e);if(i<0)return!1;let n=e.pos,r=t.lineStart+n,s=Df(e.text,e.text.length,n),o=s;for(;o>n&&e.text.charCodeAt(o-1)==e.next;)o--;(o==s||o==n||!_t(e.text.charCodeAt(o-1)))&&(o=e.text.length);let l=t.buffer.write(j.HeaderMark,0,i).writeElements(t.parser.parseInline(e.text.slice(n+i+1,o),r+i+1),-r);o<e.text.length&&l.write(j.HeaderMark,o-n,s-n);let a=l.finish(j.ATXHeading1-1+i,e.text.length-n);return t.nextLine(),t.addNode(a,r),!0},HTMLBlock(t,e){let i=TO(e,t,!1);if(i<0)return!1;let n=t.lineStart+e.pos,r=ja[i][1],s=[],o=r!=qa;for(;!r.test(e.text)&&t.nextLine();){if(e.depth<t.stack.length){o=!1;break}for(let u of e.markers)s.push(u)}o&&t.nextLine();let l=r==PO?j.CommentBlock:r==CO?j.ProcessingInstructionBlock:j.HTMLBlock,a=t.prevLineEnd();return t.addNode(t.buffer.writeElements(s,-n).finish(l,a-n),n),!0},SetextHeading:void 0};class EQ{constructor(e){this.stage=0,this.elts=[],this.pos=0,this.start=e.start,this.advance(e.content)}nextLine(e,i,n){if(this.stage==-1)return!1;let r=n.content+`
+`+i.scrub(),s=this.advance(r);return s>-1&&s<r.length?this.complete(e,n,s):!1}finish(e,i){return(this.stage==2||this.stage==3)&&or(i.content,this.pos)==i.content.length?this.complete(e,i,i.content.length):!1}complete(e,i,n){return e.addLeafElement(i,le(j.LinkReference,this.start,this.start+n,this.elts)),!0}nextStage(e){return e?(this.pos=e.to-this.start,this.elts.push(e),this.stage++,!0):(e===!1&&(this.stage=-1),!1)}advance(e){for(;;){if(this.stage==-1)return-1;if(this.stage==0){if(!this.nextStage(XO(e,this.pos,this.start,!0)))return-1;if(e.charCodeAt(this.pos)!=58)return this.stage=-1;this.elts.push(le(j.LinkMark,this.pos+this.start,this.pos+this.start+1)),this.pos++}else if(this.stage==1){if(!this.nextStage(IO(e,or(e,this.pos),this.start)))return-1}else if(this.stage==2){let i=or(e,this.pos),n=0;if(i>this.pos){let r=zO(e,i,this.start);if(r){let s=bl(e,r.to-this.start);s>0&&(this.nextStage(r),n=s)}}return n||(n=bl(e,this.pos)),n>0&&n<e.length?n:-1}else return bl(e,this.pos)}}}function bl(t,e){for(;e<t.length;e++){let i=t.charCodeAt(e);if(i==10)break;if(!_t(i))return-1}return e}class DQ{nextLine(e,i,n){let r=i.depth<e.stack.length?-1:_O(i),s=i.next;if(r<0)return!1;let o=le(j.HeaderMark,e.lineStart+i.pos,e.lineStart+r);return e.nextLine(),e.addLeafElement(n,le(s==61?j.SetextHeading1:j.SetextHeading2,n.start,e.prevLineEnd(),[...e.parser.parseInline(n.content,n.start),o])),!0}finish(){return!1}}const AO={LinkReference(t,e){return e.content.charCodeAt(0)==91?new EQ(e):null},SetextHeading(){return new DQ}},MQ=[(t,e)=>$O(e)>=0,(t,e)=>SO(e)>=0,(t,e)=>wO(e)>=0,(t,e)=>Gu(e,t,!0)>=0,(t,e)=>Uu(e,t,!0)>=0,(t,e)=>Wu(e,t,!0)>=0,(t,e)=>TO(e,t,!0)>=0],RQ={text:"",end:0};class LQ{constructor(e,i,n,r){this.parser=e,this.input=i,this.ranges=r,this.line=new AQ,this.atEnd=!1,this.reusePlaceholders=new Map,this.stoppedAt=null,this.rangeI=0,this.to=r[r.length-1].to,this.lineStart=this.absoluteLineStart=this.absoluteLineEnd=r[0].from,this.block=mo.create(j.Document,0,this.lineStart,0,0),this.stack=[this.block],this.fragments=n.length?new zQ(n,i):null,this.readLine()}get parsedPos(){return this.absoluteLineStart}advance(){if(this.stoppedAt!=null&&this.absoluteLineStart>this.stoppedAt)return this.finish();let{line:e}=this;for(;;){for(let n=0;;){let r=e.depth<this.stack.length?this.stack[this.stack.length-1]:null;for(;n<e.markers.length&&(!r||e.markers[n].from<r.end);){let s=e.markers[n++];this.addNode(s.type,s.from,s.to)}if(!r)break;this.finishContext()}if(e.pos<e.text.length)break;if(!this.nextLine())return this.finish()}if(this.fragments&&this.reuseFragment(e.basePos))return null;e:for(;;){for(let n of this.parser.blockParsers)if(n){let r=n(this,e);if(r!=!1){if(r==!0)return null;e.forward();continue e}}break}let i=new TQ(this.lineStart+e.pos,e.text.slice(e.pos));for(let n of this.parser.leafBlockParsers)if(n){let r=n(this,i);r&&i.parsers.push(r)}e:for(;this.nextLine()&&e.pos!=e.text.length;){if(e.indent<e.baseIndent+4){for(let n of this.parser.endLeafBlock)if(n(this,e,i))break e}for(let n of i.parsers)if(n.nextLine(this,e,i))return null;i.content+=`
+`+e.scrub();for(let n of e.markers)i.marks.push(n)}return this.finishLeaf(i),null}stopAt(e){if(this.stoppedAt!=null&&this.stoppedAt<e)throw new RangeError("Can't move stoppedAt forward");this.stoppedAt=e}reuseFragment(e){if(!this.fragments.moveTo(this.absoluteLineStart+e,this.absoluteLineStart)||!this.fragments.matches(this.block.hash))return!1;let i=this.fragments.takeNodes(this);return i?(this.absoluteLineStart+=i,this.lineStart=VO(this.absoluteLineStart,this.ranges),this.moveRangeI(),this.absoluteLineStart<this.to?(this.lineStart++,this.absoluteLineStart++,this.readLine()):(this.atEnd=!0,this.readLine()),!0):!1}get depth(){return this.stack.length}parentType(e=this.depth-1){return this.parser.nodeSet.types[this.stack[e].type]}nextLine(){return this.lineStart+=this.line.text.length,this.absoluteLineEnd>=this.to?(this.absoluteLineStart=this.absoluteLineEnd,this.atEnd=!0,this.readLine(),!1):(this.lineStart++,this.absoluteLineStart=this.absoluteLineEnd+1,this.moveRangeI(),this.readLine(),!0)}peekLine(){return this.scanLine(this.absoluteLineEnd+1).text}moveRangeI(){for(;this.rangeI<this.ranges.length-1&&this.absoluteLineStart>=this.ranges[this.rangeI].to;)this.rangeI++,this.absoluteLineStart=Math.max(this.absoluteLineStart,this.ranges[this.rangeI].from)}scanLine(e){let i=RQ;if(i.end=e,e>=this.to)i.text="";else if(i.text=this.lineChunkAt(e),i.end+=i.text.length,this.ranges.length>1){let n=this.absoluteLineStart,r=this.rangeI;for(;this.ranges[r].to<i.end;){r++;let s=this.ranges[r].from,o=this.lineChunkAt(s);i.end=s+o.length,i.text=i.text.slice(0,this.ranges[r-1].to-n)+o,n=i.end-i.text.length}}return i}readLine(){let{line:e}=this,{text:i,end:n}=this.scanLine(this.absoluteLineStart);for(this.absoluteLineEnd=n,e.reset(i);e.depth<this.stack.length;e.depth++){let r=this.stack[e.depth],s=this.parser.skipContextMarkup[r.type];if(!s)throw new Error("Unhandled block context "+j[r.type]);let o=this.line.markers.length;if(!s(r,this,e)){this.line.markers.length>o&&(r.end=this.line.markers[this.line.markers.length-1].to);break}e.forward()}}lineChunkAt(e){let i=this.input.chunk(e),n;if(this.input.lineChunks)n=i==`
+`?"":i;else{let r=i.indexOf(`
+`);n=r<0?i:i.slice(0,r)}return e+n.length>this.to?n.slice(0,this.to-e):n}prevLineEnd(){return this.atEnd?this.lineStart:this.lineStart-1}startContext(e,i,n=0){this.block=mo.create(e,n,this.lineStart+i,this.block.hash,this.lineStart+this.line.text.length),this.stack.push(this.block)}startComposite(e,i,n=0){this.startContext(this.parser.getNodeType(e),i,n)}addNode(e,i,n){typeof e=="number"&&(e=new se(this.parser.nodeSet.types[e],kn,kn,(n??this.prevLineEnd())-i)),this.block.addChild(e,i-this.block.from)}addElement(e){this.block.addChild(e.toTree(this.parser.nodeSet),e.from-this.block.from)}addLeafElement(e,i){this.addNode(this.buffer.writeElements(Na(i.children,e.marks),-i.from).finish(i.type,i.to-i.from),i.from)}finishContext(){let e=this.stack.pop(),i=this.stack[this.stack.length-1];i.addChild(e.toTree(this.parser.nodeSet),e.from-i.from),this.block=i}finish(){for(;this.stack.length>1;)this.finishContext();return this.addGaps(this.block.toTree(this.parser.nodeSet,this.lineStart))}addGaps(e){return this.ranges.length>1?EO(this.ranges,0,e.topNode,this.ranges[0].from,this.reusePlaceholders):e}finishLeaf(e){for(let n of e.parsers)if(n.finish(this,e))return;let i=Na(this.parser.parseInline(e.content,e.start),e.marks);this.addNode(this.buffer.writeElements(i,-e.start).finish(j.Paragraph,e.content.length),e.start)}elt(e,i,n,r){return typeof e=="string"?le(this.parser.getNodeType(e),i,n,r):new RO(e,i)}get buffer(){return new MO(this.parser.nodeSet)}}function EO(t,e,i,n,r){let s=t[e].to,o=[],l=[],a=i.from+n;function u(c,h){for(;h?c>=s:c>s;){let f=t[e+1].from-s;n+=f,c+=f,e++,s=t[e].to}}for(let c=i.firstChild;c;c=c.nextSibling){u(c.from+n,!0);let h=c.from+n,f,d=r.get(c.tree);d?f=d:c.to+n>s?(f=EO(t,e,c,n,r),u(c.to+n,!1)):f=c.toTree(),o.push(f),l.push(h-a)}return u(i.to+n,!1),new se(i.type,o,l,i.to+n-a,i.tree?i.tree.propValues:void 0)}class Bo extends Lo{constructor(e,i,n,r,s,o,l,a,u){super(),this.nodeSet=e,this.blockParsers=i,this.leafBlockParsers=n,this.blockNames=r,this.endLeafBlock=s,this.skipContextMarkup=o,this.inlineParsers=l,this.inlineNames=a,this.wrappers=u,this.nodeTypes=Object.create(null);for(let c of e.types)this.nodeTypes[c.name]=c.id}createParse(e,i,n){let r=new LQ(this,e,i,n);for(let s of this.wrappers)r=s(r,e,i,n);return r}configure(e){let i=Ya(e);if(!i)return this;let{nodeSet:n,skipContextMarkup:r}=this,s=this.blockParsers.slice(),o=this.leafBlockParsers.slice(),l=this.blockNames.slice(),a=this.inlineParsers.slice(),u=this.inlineNames.slice(),c=this.endLeafBlock.slice(),h=this.wrappers;if(Vn(i.defineNodes)){r=Object.assign({},r);let f=n.types.slice(),d;for(let p of i.defineNodes){let{name:m,block:O,composite:g,style:b}=typeof p=="string"?{name:p}:p;if(f.some(y=>y.name==m))continue;g&&(r[f.length]=(y,$,_)=>g($,_,y.value));let S=f.length,x=g?["Block","BlockContext"]:O?S>=j.ATXHeading1&&S<=j.SetextHeading2?["Block","LeafBlock","Heading"]:["Block","LeafBlock"]:void 0;f.push(De.define({id:S,name:m,props:x&&[[te.group,x]]})),b&&(d||(d={}),Array.isArray(b)||b instanceof at?d[m]=b:Object.assign(d,b))}n=new Pn(f),d&&(n=n.extend(Cn(d)))}if(Vn(i.props)&&(n=n.extend(...i.props)),Vn(i.remove))for(let f of i.remove){let d=this.blockNames.indexOf(f),p=this.inlineNames.indexOf(f);d>-1&&(s[d]=o[d]=void 0),p>-1&&(a[p]=void 0)}if(Vn(i.parseBlock))for(let f of i.parseBlock){let d=l.indexOf(f.name);if(d>-1)s[d]=f.parse,o[d]=f.leaf;else{let p=f.before?vs(l,f.before):f.after?vs(l,f.after)+1:l.length-1;s.splice(p,0,f.parse),o.splice(p,0,f.leaf),l.splice(p,0,f.name)}f.endLeaf&&c.push(f.endLeaf)}if(Vn(i.parseInline))for(let f of i.parseInline){let d=u.indexOf(f.name);if(d>-1)a[d]=f.parse;else{let p=f.before?vs(u,f.before):f.after?vs(u,f.after)+1:u.length-1;a.splice(p,0,f.parse),u.splice(p,0,f.name)}}return i.wrap&&(h=h.concat(i.wrap)),new Bo(n,s,o,l,c,r,a,u,h)}getNodeType(e){let i=this.nodeTypes[e];if(i==null)throw new RangeError(`Unknown node type '${e}'`);return i}parseInline(e,i){let n=new Hu(this,e,i);e:for(let r=i;r<n.end;){let s=n.char(r);for(let o of this.inlineParsers)if(o){let l=o(n,s,r);if(l>=0){r=l;continue e}}r++}return n.resolveMarkers(0)}}function Vn(t){return t!=null&&t.length>0}function Ya(t){if(!Array.isArray(t))return t;if(t.length==0)return null;let e=Ya(t[0]);if(t.length==1)return e;let i=Ya(t.slice(1));if(!i||!e)return e||i;let n=(o,l)=>(o||kn).concat(l||kn),r=e.wrap,s=i.wrap;return{props:n(e.props,i.props),defineNodes:n(e.defineNodes,i.defineNodes),parseBlock:n(e.parseBlock,i.parseBlock),parseInline:n(e.parseInline,i.parseInline),remove:n(e.remove,i.remove),wrap:r?s?(o,l,a,u)=>r(s(o,l,a,u),l,a,u):r:s}}function vs(t,e){let i=t.indexOf(e);if(i<0)throw new RangeError(`Position specified relative to unknown parser ${e}`);return i}let DO=[De.none];for(let t=1,e;e=j[t];t++)DO[t]=De.define({id:t,name:e,props:t>=j.Escape?[]:[[te.group,t in vO?["Block","BlockContext"]:["Block","LeafBlock"]]],top:e=="Document"});const kn=[];class MO{constructor(e){this.nodeSet=e,this.content=[],this.nodes=[]}write(e,i,n,r=0){return this.content.push(e,i,n,4+r*4),this}writeElements(e,i=0){for(let n of e)n.writeTo(this,i);return this}finish(e,i){return se.build({buffer:this.content,nodeSet:this.nodeSet,reused:this.nodes,topID:e,length:i})}}let _r=class{constructor(e,i,n,r=kn){this.type=e,this.from=i,this.to=n,this.children=r}writeTo(e,i){let n=e.content.length;e.writeElements(this.children,i),e.content.push(this.type,this.from+i,this.to+i,e.content.length+4-n)}toTree(e){return new MO(e).writeElements(this.children,-this.from).finish(this.type,this.to-this.from)}};class RO{constructor(e,i){this.tree=e,this.from=i}get to(){return this.from+this.tree.length}get type(){return this.tree.type.id}get children(){return kn}writeTo(e,i){e.nodes.push(this.tree),e.content.push(e.nodes.length-1,this.from+i,this.to+i,-1)}toTree(){return this.tree}}function le(t,e,i,n){return new _r(t,e,i,n)}const LO={resolve:"Emphasis",mark:"EmphasisMark"},ZO={resolve:"Emphasis",mark:"EmphasisMark"},Ri={},Oo={};class lt{constructor(e,i,n,r){this.type=e,this.from=i,this.to=n,this.side=r}}const Rf="!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";let Pr=/[!"#$%&'()*+,\-.\/:;<=>?@\[\\\]^_`{|}~\xA1\u2010-\u2027]/;try{Pr=new RegExp("[\\p{S}|\\p{P}]","u")}catch{}const xl={Escape(t,e,i){if(e!=92||i==t.end-1)return-1;let n=t.char(i+1);for(let r=0;r<Rf.length;r++)if(Rf.charCodeAt(r)==n)return t.append(le(j.Escape,i,i+2));return-1},Entity(t,e,i){if(e!=38)return-1;let n=/^(?:#\d+|#x[a-f\d]+|\w+);/i.exec(t.slice(i+1,i+31));return n?t.append(le(j.Entity,i,i+1+n[0].length)):-1},InlineCode(t,e,i){if(e!=96||i&&t.char(i-1)==96)return-1;let n=i+1;for(;n<t.end&&t.char(n)==96;)n++;let r=n-i,s=0;for(;n<t.end;n++)if(t.char(n)==96){if(s++,s==r&&t.char(n+1)!=96)return t.append(le(j.InlineCode,i,n+1,[le(j.CodeMark,i,i+r),le(j.CodeMark,n+1-r,n+1)]))}else s=0;return-1},HTMLTag(t,e,i){if(e!=60||i==t.end-1)return-1;let n=t.slice(i+1,t.end),r=/^(?:[a-z][-\w+.]+:[^\s>]+|[a-z\d.!#$%&'*+/=?^_`{|}~-]+@[a-z\d](?:[a-z\d-]{0,61}[a-z\d])?(?:\.[a-z\d](?:[a-z\d-]{0,61}[a-z\d])?)*)>/i.exec(n);if(r)return t.append(le(j.Autolink,i,i+1+r[0].length,[le(j.LinkMark,i,i+1),le(j.URL,i+1,i+r[0].length),le(j.LinkMark,i+r[0].length,i+1+r[0].length)]));let s=/^!--[^>](?:-[^-]|[^-])*?-->/i.exec(n);if(s)return t.append(le(j.Comment,i,i+1+s[0].length));let o=/^\?[^]*?\?>/.exec(n);if(o)return t.append(le(j.ProcessingInstruction,i,i+1+o[0].length));let l=/^(?:![A-Z][^]*?>|!\[CDATA\[[^]*?\]\]>|\/\s*[a-zA-Z][\w-]*\s*>|\s*[a-zA-Z][\w-]*(\s+[a-zA-Z:_][\w-.:]*(?:\s*=\s*(?:[^\s"'=<>`]+|'[^']*'|"[^"]*"))?)*\s*(\/\s*)?>)/.exec(n);return l?t.append(le(j.HTMLTag,i,i+1+l[0].length)):-1},Emphasis(t,e,i){if(e!=95&&e!=42)return-1;let n=i+1;for(;t.char(n)==e;)n++;let r=t.slice(i-1,i),s=t.slice(n,n+1),o=Pr.test(r),l=Pr.test(s),a=/\s|^$/.test(r),u=/\s|^$/.test(s),c=!u&&(!l||a||o),h=!a&&(!o||u||l),f=c&&(e==42||!h||o),d=h&&(e==42||!c||l);return t.append(new lt(e==95?LO:ZO,i,n,(f?1:0)|(d?2:0)))},HardBreak(t,e,i){if(e==92&&t.char(i+1)==10)return t.append(le(j.HardBreak,i,i+2));if(e==32){let n=i+1;for(;t.char(n)==32;)n++;if(t.char(n)==10&&n>=i+2)return t.append(le(j.HardBreak,i,n+1))}return-1},Link(t,e,i){return e==91?t.append(new lt(Ri,i,i+1,1)):-1},Image(t,e,i){return e==33&&t.char(i+1)==91?t.append(new lt(Oo,i,i+2,1)):-1},LinkEnd(t,e,i){if(e!=93)return-1;for(let n=t.parts.length-1;n>=0;n--){let r=t.parts[n];if(r instanceof lt&&(r.type==Ri||r.type==Oo)){if(!r.side||t.skipSpace(r.to)==i&&!/[(\[]/.test(t.slice(i+1,i+2)))return t.parts[n]=null,-1;let s=t.takeContent(n),o=t.parts[n]=ZQ(t,s,r.type==Ri?j.Link:j.Image,r.from,i+1);if(r.type==Ri)for(let l=0;l<n;l++){let a=t.parts[l];a instanceof lt&&a.type==Ri&&(a.side=0)}return o.to}}return-1}};function ZQ(t,e,i,n,r){let{text:s}=t,o=t.char(r),l=r;if(e.unshift(le(j.LinkMark,n,n+(i==j.Image?2:1))),e.push(le(j.LinkMark,r-1,r)),o==40){let a=t.skipSpace(r+1),u=IO(s,a-t.offset,t.offset),c;u&&(a=t.skipSpace(u.to),a!=u.to&&(c=zO(s,a-t.offset,t.offset),c&&(a=t.skipSpace(c.to)))),t.char(a)==41&&(e.push(le(j.LinkMark,r,r+1)),l=a+1,u&&e.push(u),c&&e.push(c),e.push(le(j.LinkMark,a,l)))}else if(o==91){let a=XO(s,r-t.offset,t.offset,!1);a&&(e.push(a),l=a.to)}return le(i,n,l,e)}function IO(t,e,i){if(t.charCodeAt(e)==60){for(let r=e+1;r<t.length;r++){let s=t.charCodeAt(r);if(s==62)return le(j.URL,e+i,r+1+i);if(s==60||s==10)return!1}return null}else{let r=0,s=e;for(let o=!1;s<t.length;s++){let l=t.charCodeAt(s);if(_t(l))break;if(o)o=!1;else if(l==40)r++;else if(l==41){if(!r)break;r--}else l==92&&(o=!0)}return s>e?le(j.URL,e+i,s+i):s==t.length?null:!1}}function zO(t,e,i){let n=t.charCodeAt(e);if(n!=39&&n!=34&&n!=40)return!1;let r=n==40?41:n;for(let s=e+1,o=!1;s<t.length;s++){let l=t.charCodeAt(s);if(o)o=!1;else{if(l==r)return le(j.LinkTitle,e+i,s+1+i);l==92&&(o=!0)}}return null}function XO(t,e,i,n){for(let r=!1,s=e+1,o=Math.min(t.length,s+999);s<o;s++){let l=t.charCodeAt(s);if(r)r=!1;else{if(l==93)return n?!1:le(j.LinkLabel,e+i,s+1+i);if(n&&!_t(l)&&(n=!1),l==91)return!1;l==92&&(r=!0)}}return null}class Hu{constructor(e,i,n){this.parser=e,this.text=i,this.offset=n,this.parts=[]}char(e){return e>=this.end?-1:this.text.charCodeAt(e-this.offset)}get end(){return this.offset+this.text.length}slice(e,i){return this.text.slice(e-this.offset,i-this.offset)}append(e){return this.parts.push(e),e.to}addDelimiter(e,i,n,r,s){return this.append(new lt(e,i,n,(r?1:0)|(s?2:0)))}get hasOpenLink(){for(let e=this.parts.length-1;e>=0;e--){let i=this.parts[e];if(i instanceof lt&&(i.type==Ri||i.type==Oo))return!0}return!1}addElement(e){return this.append(e)}resolveMarkers(e){for(let n=e;n<this.parts.length;n++){let r=this.parts[n];if(!(r instanceof lt&&r.type.resolve&&r.side&2))continue;let s=r.type==LO||r.type==ZO,o=r.to-r.from,l,a=n-1;for(;a>=e;a--){let m=this.parts[a];if(m instanceof lt&&m.side&1&&m.type==r.type&&!(s&&(r.side&1||m.side&2)&&(m.to-m.from+o)%3==0&&((m.to-m.from)%3||o%3))){l=m;break}}if(!l)continue;let u=r.type.resolve,c=[],h=l.from,f=r.to;if(s){let m=Math.min(2,l.to-l.from,o);h=l.to-m,f=r.from+m,u=m==1?"Emphasis":"StrongEmphasis"}l.type.mark&&c.push(this.elt(l.type.mark,h,l.to));for(let m=a+1;m<n;m++)this.parts[m]instanceof _r&&c.push(this.parts[m]),this.parts[m]=null;r.type.mark&&c.push(this.elt(r.type.mark,r.from,f));let d=this.elt(u,h,f,c);this.parts[a]=s&&l.from!=h?new lt(l.type,l.from,h,l.side):null,(this.parts[n]=s&&r.to!=f?new lt(r.type,f,r.to,r.side):null)?this.parts.splice(n,0,d):this.parts[n]=d}let i=[];for(let n=e;n<this.parts.length;n++){let r=this.parts[n];r instanceof _r&&i.push(r)}return i}findOpeningDelimiter(e){for(let i=this.parts.length-1;i>=0;i--){let n=this.parts[i];if(n instanceof lt&&n.type==e&&n.side&1)return i}return null}takeContent(e){let i=this.resolveMarkers(e);return this.parts.length=e,i}getDelimiterAt(e){let i=this.parts[e];return i instanceof lt?i:null}skipSpace(e){return or(this.text,e-this.offset)+this.offset}elt(e,i,n,r){return typeof e=="string"?le(this.parser.getNodeType(e),i,n,r):new RO(e,i)}}Hu.linkStart=Ri;Hu.imageStart=Oo;function Na(t,e){if(!e.length)return t;if(!t.length)return e;let i=t.slice(),n=0;for(let r of e){for(;n<i.length&&i[n].to<r.to;)n++;if(n<i.length&&i[n].from<r.from){let s=i[n];s instanceof _r&&(i[n]=new _r(s.type,s.from,s.to,Na(s.children,[r])))}else i.splice(n++,0,r)}return i}const IQ=[j.CodeBlock,j.ListItem,j.OrderedList,j.BulletList];let zQ=class{constructor(e,i){this.fragments=e,this.input=i,this.i=0,this.fragment=null,this.fragmentEnd=-1,this.cursor=null,e.length&&(this.fragment=e[this.i++])}nextFragment(){this.fragment=this.i<this.fragments.length?this.fragments[this.i++]:null,this.cursor=null,this.fragmentEnd=-1}moveTo(e,i){for(;this.fragment&&this.fragment.to<=e;)this.nextFragment();if(!this.fragment||this.fragment.from>(e?e-1:0))return!1;if(this.fragmentEnd<0){let s=this.fragment.to;for(;s>0&&this.input.read(s-1,s)!=`
+`;)s--;this.fragmentEnd=s?s-1:0}let n=this.cursor;n||(n=this.cursor=this.fragment.tree.cursor(),n.firstChild());let r=e+this.fragment.offset;for(;n.to<=r;)if(!n.parent())return!1;for(;;){if(n.from>=r)return this.fragment.from<=i;if(!n.childAfter(r))return!1}}matches(e){let i=this.cursor.tree;return i&&i.prop(te.contextHash)==e}takeNodes(e){let i=this.cursor,n=this.fragment.offset,r=this.fragmentEnd-(this.fragment.openEnd?1:0),s=e.absoluteLineStart,o=s,l=e.block.children.length,a=o,u=l;for(;;){if(i.to-n>r){if(i.type.isAnonymous&&i.firstChild())continue;break}let c=VO(i.from-n,e.ranges);if(i.to-n<=e.ranges[e.rangeI].to)e.addNode(i.tree,c);else{let h=new se(e.parser.nodeSet.types[j.Paragraph],[],[],0,e.block.hashProp);e.reusePlaceholders.set(h,i.tree),e.addNode(h,c)}if(i.type.is("Block")&&(IQ.indexOf(i.type.id)<0?(o=i.to-n,l=e.block.children.length):(o=a,l=u,a=i.to-n,u=e.block.children.length)),!i.nextSibling())break}for(;e.block.children.length>l;)e.block.children.pop(),e.block.positions.pop();return o-s}};function VO(t,e){let i=t;for(let n=1;n<e.length;n++){let r=e[n-1].to,s=e[n].from;r<t&&(i-=s-r)}return i}const XQ=Cn({"Blockquote/...":v.quote,HorizontalRule:v.contentSeparator,"ATXHeading1/... SetextHeading1/...":v.heading1,"ATXHeading2/... SetextHeading2/...":v.heading2,"ATXHeading3/...":v.heading3,"ATXHeading4/...":v.heading4,"ATXHeading5/...":v.heading5,"ATXHeading6/...":v.heading6,"Comment CommentBlock":v.comment,Escape:v.escape,Entity:v.character,"Emphasis/...":v.emphasis,"StrongEmphasis/...":v.strong,"Link/... Image/...":v.link,"OrderedList/... BulletList/...":v.list,"BlockQuote/...":v.quote,"InlineCode CodeText":v.monospace,"URL Autolink":v.url,"HeaderMark HardBreak QuoteMark ListMark LinkMark EmphasisMark CodeMark":v.processingInstruction,"CodeInfo LinkLabel":v.labelName,LinkTitle:v.string,Paragraph:v.content}),VQ=new Bo(new Pn(DO).extend(XQ),Object.keys(ks).map(t=>ks[t]),Object.keys(ks).map(t=>AO[t]),Object.keys(ks),MQ,vO,Object.keys(xl).map(t=>xl[t]),Object.keys(xl),[]);function FQ(t,e,i){let n=[];for(let r=t.firstChild,s=e;;r=r.nextSibling){let o=r?r.from:i;if(o>s&&n.push({from:s,to:o}),!r)break;s=r.to}return n}function BQ(t){let{codeParser:e,htmlParser:i}=t;return{wrap:ym((r,s)=>{let o=r.type.id;if(e&&(o==j.CodeBlock||o==j.FencedCode)){let l="";if(o==j.FencedCode){let u=r.node.getChild(j.CodeInfo);u&&(l=s.read(u.from,u.to))}let a=e(l);if(a)return{parser:a,overlay:u=>u.type.id==j.CodeText}}else if(i&&(o==j.HTMLBlock||o==j.HTMLTag||o==j.CommentBlock))return{parser:i,overlay:FQ(r.node,r.from,r.to)};return null})}}const qQ={resolve:"Strikethrough",mark:"StrikethroughMark"},jQ={defineNodes:[{name:"Strikethrough",style:{"Strikethrough/...":v.strikethrough}},{name:"StrikethroughMark",style:v.processingInstruction}],parseInline:[{name:"Strikethrough",parse(t,e,i){if(e!=126||t.char(i+1)!=126||t.char(i+2)==126)return-1;let n=t.slice(i-1,i),r=t.slice(i+2,i+3),s=/\s|^$/.test(n),o=/\s|^$/.test(r),l=Pr.test(n),a=Pr.test(r);return t.addDelimiter(qQ,i,i+2,!o&&(!a||s||l),!s&&(!l||o||a))},after:"Emphasis"}]};function lr(t,e,i=0,n,r=0){let s=0,o=!0,l=-1,a=-1,u=!1,c=()=>{n.push(t.elt("TableCell",r+l,r+a,t.parser.parseInline(e.slice(l,a),r+l)))};for(let h=i;h<e.length;h++){let f=e.charCodeAt(h);f==124&&!u?((!o||l>-1)&&s++,o=!1,n&&(l>-1&&c(),n.push(t.elt("TableDelimiter",h+r,h+r+1))),l=a=-1):(u||f!=32&&f!=9)&&(l<0&&(l=h),a=h+1),u=!u&&f==92}return l>-1&&(s++,n&&c()),s}function Lf(t,e){for(let i=e;i<t.length;i++){let n=t.charCodeAt(i);if(n==124)return!0;n==92&&i++}return!1}const FO=/^\|?(\s*:?-+:?\s*\|)+(\s*:?-+:?\s*)?$/;class Zf{constructor(){this.rows=null}nextLine(e,i,n){if(this.rows==null){this.rows=!1;let r;if((i.next==45||i.next==58||i.next==124)&&FO.test(r=i.text.slice(i.pos))){let s=[];lr(e,n.content,0,s,n.start)==lr(e,r,i.pos)&&(this.rows=[e.elt("TableHeader",n.start,n.start+n.content.length,s),e.elt("TableDelimiter",e.lineStart+i.pos,e.lineStart+i.text.length)])}}else if(this.rows){let r=[];lr(e,i.text,i.pos,r,e.lineStart),this.rows.push(e.elt("TableRow",e.lineStart+i.pos,e.lineStart+i.text.length,r))}return!1}finish(e,i){return this.rows?(e.addLeafElement(i,e.elt("Table",i.start,i.start+i.content.length,this.rows)),!0):!1}}const YQ={defineNodes:[{name:"Table",block:!0},{name:"TableHeader",style:{"TableHeader/...":v.heading}},"TableRow",{name:"TableCell",style:v.content},{name:"TableDelimiter",style:v.processingInstruction}],parseBlock:[{name:"Table",leaf(t,e){return Lf(e.content,0)?new Zf:null},endLeaf(t,e,i){if(i.parsers.some(r=>r instanceof Zf)||!Lf(e.text,e.basePos))return!1;let n=t.peekLine();return FO.test(n)&&lr(t,e.text,e.basePos)==lr(t,n,e.basePos)},before:"SetextHeading"}]};class NQ{nextLine(){return!1}finish(e,i){return e.addLeafElement(i,e.elt("Task",i.start,i.start+i.content.length,[e.elt("TaskMarker",i.start,i.start+3),...e.parser.parseInline(i.content.slice(3),i.start+3)])),!0}}const WQ={defineNodes:[{name:"Task",block:!0,style:v.list},{name:"TaskMarker",style:v.atom}],parseBlock:[{name:"TaskList",leaf(t,e){return/^\[[ xX]\][ \t]/.test(e.content)&&t.parentType().name=="ListItem"?new NQ:null},after:"SetextHeading"}]},If=/(www\.)|(https?:\/\/)|([\w.+-]{1,100}@)|(mailto:|xmpp:)/gy,zf=/[\w-]+(\.[\w-]+)+(\/[^\s<]*)?/gy,GQ=/[\w-]+\.[\w-]+($|\/)/,Xf=/[\w.+-]+@[\w-]+(\.[\w.-]+)+/gy,Vf=/\/[a-zA-Z\d@.]+/gy;function Ff(t,e,i,n){let r=0;for(let s=e;s<i;s++)t[s]==n&&r++;return r}function UQ(t,e){zf.lastIndex=e;let i=zf.exec(t);if(!i||GQ.exec(i[0])[0].indexOf("_")>-1)return-1;let n=e+i[0].length;for(;;){let r=t[n-1],s;if(/[?!.,:*_~]/.test(r)||r==")"&&Ff(t,e,n,")")>Ff(t,e,n,"("))n--;else if(r==";"&&(s=/&(?:#\d+|#x[a-f\d]+|\w+);$/.exec(t.slice(e,n))))n=e+s.index;else break}return n}function Bf(t,e){Xf.lastIndex=e;let i=Xf.exec(t);if(!i)return-1;let n=i[0][i[0].length-1];return n=="_"||n=="-"?-1:e+i[0].length-(n=="."?1:0)}const HQ={parseInline:[{name:"Autolink",parse(t,e,i){let n=i-t.offset;if(n&&/\w/.test(t.text[n-1]))return-1;If.lastIndex=n;let r=If.exec(t.text),s=-1;if(!r)return-1;if(r[1]||r[2]){if(s=UQ(t.text,n+r[0].length),s>-1&&t.hasOpenLink){let o=/([^\[\]]|\[[^\]]*\])*/.exec(t.text.slice(n,s));s=n+o[0].length}}else r[3]?s=Bf(t.text,n):(s=Bf(t.text,n+r[0].length),s>-1&&r[0]=="xmpp:"&&(Vf.lastIndex=s,r=Vf.exec(t.text),r&&(s=r.index+r[0].length)));return s<0?-1:(t.addElement(t.elt("URL",i,s+t.offset)),s+t.offset)}}]},KQ=[YQ,WQ,jQ,HQ];function BO(t,e,i){return(n,r,s)=>{if(r!=t||n.char(s+1)==t)return-1;let o=[n.elt(i,s,s+1)];for(let l=s+1;l<n.end;l++){let a=n.char(l);if(a==t)return n.addElement(n.elt(e,s,l+1,o.concat(n.elt(i,l,l+1))));if(a==92&&o.push(n.elt("Escape",l,l+++2)),_t(a))break}return-1}}const JQ={defineNodes:[{name:"Superscript",style:v.special(v.content)},{name:"SuperscriptMark",style:v.processingInstruction}],parseInline:[{name:"Superscript",parse:BO(94,"Superscript","SuperscriptMark")}]},e$={defineNodes:[{name:"Subscript",style:v.special(v.content)},{name:"SubscriptMark",style:v.processingInstruction}],parseInline:[{name:"Subscript",parse:BO(126,"Subscript","SubscriptMark")}]},t$={defineNodes:[{name:"Emoji",style:v.character}],parseInline:[{name:"Emoji",parse(t,e,i){let n;return e!=58||!(n=/^[a-zA-Z_0-9]+:/.exec(t.slice(i+1,t.end)))?-1:t.addElement(t.elt("Emoji",i,i+1+n[0].length))}}]};var qf={};class go{constructor(e,i,n,r,s,o,l,a,u,c=0,h){this.p=e,this.stack=i,this.state=n,this.reducePos=r,this.pos=s,this.score=o,this.buffer=l,this.bufferBase=a,this.curContext=u,this.lookAhead=c,this.parent=h}toString(){return`[${this.stack.filter((e,i)=>i%3==0).concat(this.state)}]@${this.pos}${this.score?"!"+this.score:""}`}static start(e,i,n=0){let r=e.parser.context;return new go(e,[],i,n,n,0,[],0,r?new jf(r,r.start):null,0,null)}get context(){return this.curContext?this.curContext.context:null}pushState(e,i){this.stack.push(this.state,i,this.bufferBase+this.buffer.length),this.state=e}reduce(e){var i;let n=e>>19,r=e&65535,{parser:s}=this.p,o=this.reducePos<this.pos-25&&this.setLookAhead(this.pos),l=s.dynamicPrecedence(r);if(l&&(this.score+=l),n==0){this.pushState(s.getGoto(this.state,r,!0),this.reducePos),r<s.minRepeatTerm&&this.storeNode(r,this.reducePos,this.reducePos,o?8:4,!0),this.reduceContext(r,this.reducePos);return}let a=this.stack.length-(n-1)*3-(e&262144?6:0),u=a?this.stack[a-2]:this.p.ranges[0].from,c=this.reducePos-u;c>=2e3&&!(!((i=this.p.parser.nodeSet.types[r])===null||i===void 0)&&i.isAnonymous)&&(u==this.p.lastBigReductionStart?(this.p.bigReductionCount++,this.p.lastBigReductionSize=c):this.p.lastBigReductionSize<c&&(this.p.bigReductionCount=1,this.p.lastBigReductionStart=u,this.p.lastBigReductionSize=c));let h=a?this.stack[a-1]:0,f=this.bufferBase+this.buffer.length-h;if(r<s.minRepeatTerm||e&131072){let d=s.stateFlag(this.state,1)?this.pos:this.reducePos;this.storeNode(r,u,d,f+4,!0)}if(e&262144)this.state=this.stack[a];else{let d=this.stack[a-3];this.state=s.getGoto(d,r,!0)}for(;this.stack.length>a;)this.stack.pop();this.reduceContext(r,u)}storeNode(e,i,n,r=4,s=!1){if(e==0&&(!this.stack.length||this.stack[this.stack.length-1]<this.buffer.length+this.bufferBase)){let o=this,l=this.buffer.length;if(l==0&&o.parent&&(l=o.bufferBase-o.parent.bufferBase,o=o.parent),l>0&&o.buffer[l-4]==0&&o.buffer[l-1]>-1){if(i==n)return;if(o.buffer[l-2]>=i){o.buffer[l-2]=n;return}}}if(!s||this.pos==n)this.buffer.push(e,i,n,r);else{let o=this.buffer.length;if(o>0&&(this.buffer[o-4]!=0||this.buffer[o-1]<0)){let l=!1;for(let a=o;a>0&&this.buffer[a-2]>n;a-=4)if(this.buffer[a-1]>=0){l=!0;break}if(l)for(;o>0&&this.buffer[o-2]>n;)this.buffer[o]=this.buffer[o-4],this.buffer[o+1]=this.buffer[o-3],this.buffer[o+2]=this.buffer[o-2],this.buffer[o+3]=this.buffer[o-1],o-=4,r>4&&(r-=4)}this.buffer[o]=e,this.buffer[o+1]=i,this.buffer[o+2]=n,this.buffer[o+3]=r}}shift(e,i,n,r){if(e&131072)this.pushState(e&65535,this.pos);else if((e&262144)==0){let s=e,{parser:o}=this.p;(r>this.pos||i<=o.maxNode)&&(this.pos=r,o.stateFlag(s,1)||(this.reducePos=r)),this.pushState(s,n),this.shiftContext(i,n),i<=o.maxNode&&this.buffer.push(i,n,r,4)}else this.pos=r,this.shiftContext(i,n),i<=this.p.parser.maxNode&&this.buffer.push(i,n,r,4)}apply(e,i,n,r){e&65536?this.reduce(e):this.shift(e,i,n,r)}useNode(e,i){let n=this.p.reused.length-1;(n<0||this.p.reused[n]!=e)&&(this.p.reused.push(e),n++);let r=this.pos;this.reducePos=this.pos=r+e.length,this.pushState(i,r),this.buffer.push(n,r,this.reducePos,-1),this.curContext&&this.updateContext(this.curContext.tracker.reuse(this.curContext.context,e,this,this.p.stream.reset(this.pos-e.length)))}split(){let e=this,i=e.buffer.length;for(;i>0&&e.buffer[i-2]>e.reducePos;)i-=4;let n=e.buffer.slice(i),r=e.bufferBase+i;for(;e&&r==e.bufferBase;)e=e.parent;return new go(this.p,this.stack.slice(),this.state,this.reducePos,this.pos,this.score,n,r,this.curContext,this.lookAhead,e)}recoverByDelete(e,i){let n=e<=this.p.parser.maxNode;n&&this.storeNode(e,this.pos,i,4),this.storeNode(0,this.pos,i,n?8:4),this.pos=this.reducePos=i,this.score-=190}canShift(e){for(let i=new i$(this);;){let n=this.p.parser.stateSlot(i.state,4)||this.p.parser.hasAction(i.state,e);if(n==0)return!1;if((n&65536)==0)return!0;i.reduce(n)}}recoverByInsert(e){if(this.stack.length>=300)return[];let i=this.p.parser.nextStates(this.state);if(i.length>8||this.stack.length>=120){let r=[];for(let s=0,o;s<i.length;s+=2)(o=i[s+1])!=this.state&&this.p.parser.hasAction(o,e)&&r.push(i[s],o);if(this.stack.length<120)for(let s=0;r.length<8&&s<i.length;s+=2){let o=i[s+1];r.some((l,a)=>a&1&&l==o)||r.push(i[s],o)}i=r}let n=[];for(let r=0;r<i.length&&n.length<4;r+=2){let s=i[r+1];if(s==this.state)continue;let o=this.split();o.pushState(s,this.pos),o.storeNode(0,o.pos,o.pos,4,!0),o.shiftContext(i[r],this.pos),o.reducePos=this.pos,o.score-=200,n.push(o)}return n}forceReduce(){let{parser:e}=this.p,i=e.stateSlot(this.state,5);if((i&65536)==0)return!1;if(!e.validAction(this.state,i)){let n=i>>19,r=i&65535,s=this.stack.length-n*3;if(s<0||e.getGoto(this.stack[s],r,!1)<0){let o=this.findForcedReduction();if(o==null)return!1;i=o}this.storeNode(0,this.pos,this.pos,4,!0),this.score-=100}return this.reducePos=this.pos,this.reduce(i),!0}findForcedReduction(){let{parser:e}=this.p,i=[],n=(r,s)=>{if(!i.includes(r))return i.push(r),e.allActions(r,o=>{if(!(o&393216))if(o&65536){let l=(o>>19)-s;if(l>1){let a=o&65535,u=this.stack.length-l*3;if(u>=0&&e.getGoto(this.stack[u],a,!1)>=0)return l<<19|65536|a}}else{let l=n(o,s+1);if(l!=null)return l}})};return n(this.state,0)}forceAll(){for(;!this.p.parser.stateFlag(this.state,2);)if(!this.forceReduce()){this.storeNode(0,this.pos,this.pos,4,!0);break}return this}get deadEnd(){if(this.stack.length!=3)return!1;let{parser:e}=this.p;return e.data[e.stateSlot(this.state,1)]==65535&&!e.stateSlot(this.state,4)}restart(){this.storeNode(0,this.pos,this.pos,4,!0),this.state=this.stack[0],this.stack.length=0}sameState(e){if(this.state!=e.state||this.stack.length!=e.stack.length)return!1;for(let i=0;i<this.stack.length;i+=3)if(this.stack[i]!=e.stack[i])return!1;return!0}get parser(){return this.p.parser}dialectEnabled(e){return this.p.parser.dialect.flags[e]}shiftContext(e,i){this.curContext&&this.updateContext(this.curContext.tracker.shift(this.curContext.context,e,this,this.p.stream.reset(i)))}reduceContext(e,i){this.curContext&&this.updateContext(this.curContext.tracker.reduce(this.curContext.context,e,this,this.p.stream.reset(i)))}emitContext(){let e=this.buffer.length-1;(e<0||this.buffer[e]!=-3)&&this.buffer.push(this.curContext.hash,this.pos,this.pos,-3)}emitLookAhead(){let e=this.buffer.length-1;(e<0||this.buffer[e]!=-4)&&this.buffer.push(this.lookAhead,this.pos,this.pos,-4)}updateContext(e){if(e!=this.curContext.context){let i=new jf(this.curContext.tracker,e);i.hash!=this.curContext.hash&&this.emitContext(),this.curContext=i}}setLookAhead(e){return e<=this.lookAhead?!1:(this.emitLookAhead(),this.lookAhead=e,!0)}close(){this.curContext&&this.curContext.tracker.strict&&this.emitContext(),this.lookAhead>0&&this.emitLookAhead()}}class jf{constructor(e,i){this.tracker=e,this.context=i,this.hash=e.strict?e.hash(i):0}}class i${constructor(e){this.start=e,this.state=e.state,this.stack=e.stack,this.base=this.stack.length}reduce(e){let i=e&65535,n=e>>19;n==0?(this.stack==this.start.stack&&(this.stack=this.stack.slice()),this.stack.push(this.state,0,0),this.base+=3):this.base-=(n-1)*3;let r=this.start.p.parser.getGoto(this.stack[this.base-3],i,!0);this.state=r}}class bo{constructor(e,i,n){this.stack=e,this.pos=i,this.index=n,this.buffer=e.buffer,this.index==0&&this.maybeNext()}static create(e,i=e.bufferBase+e.buffer.length){return new bo(e,i,i-e.bufferBase)}maybeNext(){let e=this.stack.parent;e!=null&&(this.index=this.stack.bufferBase-e.bufferBase,this.stack=e,this.buffer=e.buffer)}get id(){return this.buffer[this.index-4]}get start(){return this.buffer[this.index-3]}get end(){return this.buffer[this.index-2]}get size(){return this.buffer[this.index-1]}next(){this.index-=4,this.pos-=4,this.index==0&&this.maybeNext()}fork(){return new bo(this.stack,this.pos,this.index)}}function Gn(t,e=Uint16Array){if(typeof t!="string")return t;let i=null;for(let n=0,r=0;n<t.length;){let s=0;for(;;){let o=t.charCodeAt(n++),l=!1;if(o==126){s=65535;break}o>=92&&o--,o>=34&&o--;let a=o-32;if(a>=46&&(a-=46,l=!0),s+=a,l)break;s*=46}i?i[r++]=s:i=new e(s)}return i}class qs{constructor(){this.start=-1,this.value=-1,this.end=-1,this.extended=-1,this.lookAhead=0,this.mask=0,this.context=0}}const Yf=new qs;class n${constructor(e,i){this.input=e,this.ranges=i,this.chunk="",this.chunkOff=0,this.chunk2="",this.chunk2Pos=0,this.next=-1,this.token=Yf,this.rangeIndex=0,this.pos=this.chunkPos=i[0].from,this.range=i[0],this.end=i[i.length-1].to,this.readNext()}resolveOffset(e,i){let n=this.range,r=this.rangeIndex,s=this.pos+e;for(;s<n.from;){if(!r)return null;let o=this.ranges[--r];s-=n.from-o.to,n=o}for(;i<0?s>n.to:s>=n.to;){if(r==this.ranges.length-1)return null;let o=this.ranges[++r];s+=o.from-n.to,n=o}return s}clipPos(e){if(e>=this.range.from&&e<this.range.to)return e;for(let i of this.ranges)if(i.to>e)return Math.max(e,i.from);return this.end}peek(e){let i=this.chunkOff+e,n,r;if(i>=0&&i<this.chunk.length)n=this.pos+e,r=this.chunk.charCodeAt(i);else{let s=this.resolveOffset(e,1);if(s==null)return-1;if(n=s,n>=this.chunk2Pos&&n<this.chunk2Pos+this.chunk2.length)r=this.chunk2.charCodeAt(n-this.chunk2Pos);else{let o=this.rangeIndex,l=this.range;for(;l.to<=n;)l=this.ranges[++o];this.chunk2=this.input.chunk(this.chunk2Pos=n),n+this.chunk2.length>l.to&&(this.chunk2=this.chunk2.slice(0,l.to-n)),r=this.chunk2.charCodeAt(0)}}return n>=this.token.lookAhead&&(this.token.lookAhead=n+1),r}acceptToken(e,i=0){let n=i?this.resolveOffset(i,-1):this.pos;if(n==null||n<this.token.start)throw new RangeError("Token end out of bounds");this.token.value=e,this.token.end=n}acceptTokenTo(e,i){this.token.value=e,this.token.end=i}getChunk(){if(this.pos>=this.chunk2Pos&&this.pos<this.chunk2Pos+this.chunk2.length){let{chunk:e,chunkPos:i}=this;this.chunk=this.chunk2,this.chunkPos=this.chunk2Pos,this.chunk2=e,this.chunk2Pos=i,this.chunkOff=this.pos-this.chunkPos}else{this.chunk2=this.chunk,this.chunk2Pos=this.chunkPos;let e=this.input.chunk(this.pos),i=this.pos+e.length;this.chunk=i>this.range.to?e.slice(0,this.range.to-this.pos):e,this.chunkPos=this.pos,this.chunkOff=0}}readNext(){return this.chunkOff>=this.chunk.length&&(this.getChunk(),this.chunkOff==this.chunk.length)?this.next=-1:this.next=this.chunk.charCodeAt(this.chunkOff)}advance(e=1){for(this.chunkOff+=e;this.pos+e>=this.range.to;){if(this.rangeIndex==this.ranges.length-1)return this.setDone();e-=this.range.to-this.pos,this.range=this.ranges[++this.rangeIndex],this.pos=this.range.from}return this.pos+=e,this.pos>=this.token.lookAhead&&(this.token.lookAhead=this.pos+1),this.readNext()}setDone(){return this.pos=this.chunkPos=this.end,this.range=this.ranges[this.rangeIndex=this.ranges.length-1],this.chunk="",this.next=-1}reset(e,i){if(i?(this.token=i,i.start=e,i.lookAhead=e+1,i.value=i.extended=-1):this.token=Yf,this.pos!=e){if(this.pos=e,e==this.end)return this.setDone(),this;for(;e<this.range.from;)this.range=this.ranges[--this.rangeIndex];for(;e>=this.range.to;)this.range=this.ranges[++this.rangeIndex];e>=this.chunkPos&&e<this.chunkPos+this.chunk.length?this.chunkOff=e-this.chunkPos:(this.chunk="",this.chunkOff=0),this.readNext()}return this}read(e,i){if(e>=this.chunkPos&&i<=this.chunkPos+this.chunk.length)return this.chunk.slice(e-this.chunkPos,i-this.chunkPos);if(e>=this.chunk2Pos&&i<=this.chunk2Pos+this.chunk2.length)return this.chunk2.slice(e-this.chunk2Pos,i-this.chunk2Pos);if(e>=this.range.from&&i<=this.range.to)return this.input.read(e,i);let n="";for(let r of this.ranges){if(r.from>=i)break;r.to>e&&(n+=this.input.read(Math.max(r.from,e),Math.min(r.to,i)))}return n}}class on{constructor(e,i){this.data=e,this.id=i}token(e,i){let{parser:n}=i.p;qO(this.data,e,i,this.id,n.data,n.tokenPrecTable)}}on.prototype.contextual=on.prototype.fallback=on.prototype.extend=!1;class xo{constructor(e,i,n){this.precTable=i,this.elseToken=n,this.data=typeof e=="string"?Gn(e):e}token(e,i){let n=e.pos,r=0;for(;;){let s=e.next<0,o=e.resolveOffset(1,1);if(qO(this.data,e,i,0,this.data,this.precTable),e.token.value>-1)break;if(this.elseToken==null)return;if(s||r++,o==null)break;e.reset(o,e.token)}r&&(e.reset(n,e.token),e.acceptToken(this.elseToken,r))}}xo.prototype.contextual=on.prototype.fallback=on.prototype.extend=!1;class Ot{constructor(e,i={}){this.token=e,this.contextual=!!i.contextual,this.fallback=!!i.fallback,this.extend=!!i.extend}}function qO(t,e,i,n,r,s){let o=0,l=1<<n,{dialect:a}=i.p.parser;e:for(;(l&t[o])!=0;){let u=t[o+1];for(let d=o+3;d<u;d+=2)if((t[d+1]&l)>0){let p=t[d];if(a.allows(p)&&(e.token.value==-1||e.token.value==p||r$(p,e.token.value,r,s))){e.acceptToken(p);break}}let c=e.next,h=0,f=t[o+2];if(e.next<0&&f>h&&t[u+f*3-3]==65535){o=t[u+f*3-1];continue e}for(;h<f;){let d=h+f>>1,p=u+d+(d<<1),m=t[p],O=t[p+1]||65536;if(c<m)f=d;else if(c>=O)h=d+1;else{o=t[p+2],e.advance();continue e}}break}}function Nf(t,e,i){for(let n=e,r;(r=t[n])!=65535;n++)if(r==i)return n-e;return-1}function r$(t,e,i,n){let r=Nf(i,n,e);return r<0||Nf(i,n,t)<r}const nt=typeof process<"u"&&qf&&/\bparse\b/.test(qf.LOG);let yl=null;function Wf(t,e,i){let n=t.cursor(ye.IncludeAnonymous);for(n.moveTo(e);;)if(!(i<0?n.childBefore(e):n.childAfter(e)))for(;;){if((i<0?n.to<e:n.from>e)&&!n.type.isError)return i<0?Math.max(0,Math.min(n.to-1,e-25)):Math.min(t.length,Math.max(n.from+1,e+25));if(i<0?n.prevSibling():n.nextSibling())break;if(!n.parent())return i<0?0:t.length}}class s${constructor(e,i){this.fragments=e,this.nodeSet=i,this.i=0,this.fragment=null,this.safeFrom=-1,this.safeTo=-1,this.trees=[],this.start=[],this.index=[],this.nextFragment()}nextFragment(){let e=this.fragment=this.i==this.fragments.length?null:this.fragments[this.i++];if(e){for(this.safeFrom=e.openStart?Wf(e.tree,e.from+e.offset,1)-e.offset:e.from,this.safeTo=e.openEnd?Wf(e.tree,e.to+e.offset,-1)-e.offset:e.to;this.trees.length;)this.trees.pop(),this.start.pop(),this.index.pop();this.trees.push(e.tree),this.start.push(-e.offset),this.index.push(0),this.nextStart=this.safeFrom}else this.nextStart=1e9}nodeAt(e){if(e<this.nextStart)return null;for(;this.fragment&&this.safeTo<=e;)this.nextFragment();if(!this.fragment)return null;for(;;){let i=this.trees.length-1;if(i<0)return this.nextFragment(),null;let n=this.trees[i],r=this.index[i];if(r==n.children.length){this.trees.pop(),this.start.pop(),this.index.pop();continue}let s=n.children[r],o=this.start[i]+n.positions[r];if(o>e)return this.nextStart=o,null;if(s instanceof se){if(o==e){if(o<this.safeFrom)return null;let l=o+s.length;if(l<=this.safeTo){let a=s.prop(te.lookAhead);if(!a||l+a<this.fragment.to)return s}}this.index[i]++,o+s.length>=Math.max(this.safeFrom,e)&&(this.trees.push(s),this.start.push(o),this.index.push(0))}else this.index[i]++,this.nextStart=o+s.length}}}class o${constructor(e,i){this.stream=i,this.tokens=[],this.mainToken=null,this.actions=[],this.tokens=e.tokenizers.map(n=>new qs)}getActions(e){let i=0,n=null,{parser:r}=e.p,{tokenizers:s}=r,o=r.stateSlot(e.state,3),l=e.curContext?e.curContext.hash:0,a=0;for(let u=0;u<s.length;u++){if((1<<u&o)==0)continue;let c=s[u],h=this.tokens[u];if(!(n&&!c.fallback)&&((c.contextual||h.start!=e.pos||h.mask!=o||h.context!=l)&&(this.updateCachedToken(h,c,e),h.mask=o,h.context=l),h.lookAhead>h.end+25&&(a=Math.max(h.lookAhead,a)),h.value!=0)){let f=i;if(h.extended>-1&&(i=this.addActions(e,h.extended,h.end,i)),i=this.addActions(e,h.value,h.end,i),!c.extend&&(n=h,i>f))break}}for(;this.actions.length>i;)this.actions.pop();return a&&e.setLookAhead(a),!n&&e.pos==this.stream.end&&(n=new qs,n.value=e.p.parser.eofTerm,n.start=n.end=e.pos,i=this.addActions(e,n.value,n.end,i)),this.mainToken=n,this.actions}getMainToken(e){if(this.mainToken)return this.mainToken;let i=new qs,{pos:n,p:r}=e;return i.start=n,i.end=Math.min(n+1,r.stream.end),i.value=n==r.stream.end?r.parser.eofTerm:0,i}updateCachedToken(e,i,n){let r=this.stream.clipPos(n.pos);if(i.token(this.stream.reset(r,e),n),e.value>-1){let{parser:s}=n.p;for(let o=0;o<s.specialized.length;o++)if(s.specialized[o]==e.value){let l=s.specializers[o](this.stream.read(e.start,e.end),n);if(l>=0&&n.p.parser.dialect.allows(l>>1)){(l&1)==0?e.value=l>>1:e.extended=l>>1;break}}}else e.value=0,e.end=this.stream.clipPos(r+1)}putAction(e,i,n,r){for(let s=0;s<r;s+=3)if(this.actions[s]==e)return r;return this.actions[r++]=e,this.actions[r++]=i,this.actions[r++]=n,r}addActions(e,i,n,r){let{state:s}=e,{parser:o}=e.p,{data:l}=o;for(let a=0;a<2;a++)for(let u=o.stateSlot(s,a?2:1);;u+=3){if(l[u]==65535)if(l[u+1]==1)u=Ht(l,u+2);else{r==0&&l[u+1]==2&&(r=this.putAction(Ht(l,u+2),i,n,r));break}l[u]==i&&(r=this.putAction(Ht(l,u+1),i,n,r))}return r}}class l${constructor(e,i,n,r){this.parser=e,this.input=i,this.ranges=r,this.recovering=0,this.nextStackID=9812,this.minStackPos=0,this.reused=[],this.stoppedAt=null,this.lastBigReductionStart=-1,this.lastBigReductionSize=0,this.bigReductionCount=0,this.stream=new n$(i,r),this.tokens=new o$(e,this.stream),this.topTerm=e.top[1];let{from:s}=r[0];this.stacks=[go.start(this,e.top[0],s)],this.fragments=n.length&&this.stream.end-s>e.bufferLength*4?new s$(n,e.nodeSet):null}get parsedPos(){return this.minStackPos}advance(){let e=this.stacks,i=this.minStackPos,n=this.stacks=[],r,s;if(this.bigReductionCount>300&&e.length==1){let[o]=e;for(;o.forceReduce()&&o.stack.length&&o.stack[o.stack.length-2]>=this.lastBigReductionStart;);this.bigReductionCount=this.lastBigReductionSize=0}for(let o=0;o<e.length;o++){let l=e[o];for(;;){if(this.tokens.mainToken=null,l.pos>i)n.push(l);else{if(this.advanceStack(l,n,e))continue;{r||(r=[],s=[]),r.push(l);let a=this.tokens.getMainToken(l);s.push(a.value,a.end)}}break}}if(!n.length){let o=r&&u$(r);if(o)return nt&&console.log("Finish with "+this.stackID(o)),this.stackToTree(o);if(this.parser.strict)throw nt&&r&&console.log("Stuck with token "+(this.tokens.mainToken?this.parser.getName(this.tokens.mainToken.value):"none")),new SyntaxError("No parse at "+i);this.recovering||(this.recovering=5)}if(this.recovering&&r){let o=this.stoppedAt!=null&&r[0].pos>this.stoppedAt?r[0]:this.runRecovery(r,s,n);if(o)return nt&&console.log("Force-finish "+this.stackID(o)),this.stackToTree(o.forceAll())}if(this.recovering){let o=this.recovering==1?1:this.recovering*3;if(n.length>o)for(n.sort((l,a)=>a.score-l.score);n.length>o;)n.pop();n.some(l=>l.reducePos>i)&&this.recovering--}else if(n.length>1){e:for(let o=0;o<n.length-1;o++){let l=n[o];for(let a=o+1;a<n.length;a++){let u=n[a];if(l.sameState(u)||l.buffer.length>500&&u.buffer.length>500)if((l.score-u.score||l.buffer.length-u.buffer.length)>0)n.splice(a--,1);else{n.splice(o--,1);continue e}}}n.length>12&&n.splice(12,n.length-12)}this.minStackPos=n[0].pos;for(let o=1;o<n.length;o++)n[o].pos<this.minStackPos&&(this.minStackPos=n[o].pos);return null}stopAt(e){if(this.stoppedAt!=null&&this.stoppedAt<e)throw new RangeError("Can't move stoppedAt forward");this.stoppedAt=e}advanceStack(e,i,n){let r=e.pos,{parser:s}=this,o=nt?this.stackID(e)+" -> ":"";if(this.stoppedAt!=null&&r>this.stoppedAt)return e.forceReduce()?e:null;if(this.fragments){let u=e.curContext&&e.curContext.tracker.strict,c=u?e.curContext.hash:0;for(let h=this.fragments.nodeAt(r);h;){let f=this.parser.nodeSet.types[h.type.id]==h.type?s.getGoto(e.state,h.type.id):-1;if(f>-1&&h.length&&(!u||(h.prop(te.contextHash)||0)==c))return e.useNode(h,f),nt&&console.log(o+this.stackID(e)+` (via reuse of ${s.getName(h.type.id)})`),!0;if(!(h instanceof se)||h.children.length==0||h.positions[0]>0)break;let d=h.children[0];if(d instanceof se&&h.positions[0]==0)h=d;else break}}let l=s.stateSlot(e.state,4);if(l>0)return e.reduce(l),nt&&console.log(o+this.stackID(e)+` (via always-reduce ${s.getName(l&65535)})`),!0;if(e.stack.length>=8400)for(;e.stack.length>6e3&&e.forceReduce(););let a=this.tokens.getActions(e);for(let u=0;u<a.length;){let c=a[u++],h=a[u++],f=a[u++],d=u==a.length||!n,p=d?e:e.split(),m=this.tokens.mainToken;if(p.apply(c,h,m?m.start:p.pos,f),nt&&console.log(o+this.stackID(p)+` (via ${(c&65536)==0?"shift":`reduce of ${s.getName(c&65535)}`} for ${s.getName(h)} @ ${r}${p==e?"":", split"})`),d)return!0;p.pos>r?i.push(p):n.push(p)}return!1}advanceFully(e,i){let n=e.pos;for(;;){if(!this.advanceStack(e,null,null))return!1;if(e.pos>n)return Gf(e,i),!0}}runRecovery(e,i,n){let r=null,s=!1;for(let o=0;o<e.length;o++){let l=e[o],a=i[o<<1],u=i[(o<<1)+1],c=nt?this.stackID(l)+" -> ":"";if(l.deadEnd&&(s||(s=!0,l.restart(),nt&&console.log(c+this.stackID(l)+" (restarted)"),this.advanceFully(l,n))))continue;let h=l.split(),f=c;for(let d=0;d<10&&h.forceReduce()&&(nt&&console.log(f+this.stackID(h)+" (via force-reduce)"),!this.advanceFully(h,n));d++)nt&&(f=this.stackID(h)+" -> ");for(let d of l.recoverByInsert(a))nt&&console.log(c+this.stackID(d)+" (via recover-insert)"),this.advanceFully(d,n);this.stream.end>l.pos?(u==l.pos&&(u++,a=0),l.recoverByDelete(a,u),nt&&console.log(c+this.stackID(l)+` (via recover-delete ${this.parser.getName(a)})`),Gf(l,n)):(!r||r.score<l.score)&&(r=l)}return r}stackToTree(e){return e.close(),se.build({buffer:bo.create(e),nodeSet:this.parser.nodeSet,topID:this.topTerm,maxBufferLength:this.parser.bufferLength,reused:this.reused,start:this.ranges[0].from,length:e.pos-this.ranges[0].from,minRepeatType:this.parser.minRepeatTerm})}stackID(e){let i=(yl||(yl=new WeakMap)).get(e);return i||yl.set(e,i=String.fromCodePoint(this.nextStackID++)),i+e}}function Gf(t,e){for(let i=0;i<e.length;i++){let n=e[i];if(n.pos==t.pos&&n.sameState(t)){e[i].score<t.score&&(e[i]=t);return}}e.push(t)}class a${constructor(e,i,n){this.source=e,this.flags=i,this.disabled=n}allows(e){return!this.disabled||this.disabled[e]==0}}const kl=t=>t;class jO{constructor(e){this.start=e.start,this.shift=e.shift||kl,this.reduce=e.reduce||kl,this.reuse=e.reuse||kl,this.hash=e.hash||(()=>0),this.strict=e.strict!==!1}}class vn extends Lo{constructor(e){if(super(),this.wrappers=[],e.version!=14)throw new RangeError(`Parser version (${e.version}) doesn't match runtime version (14)`);let i=e.nodeNames.split(" ");this.minRepeatTerm=i.length;for(let l=0;l<e.repeatNodeCount;l++)i.push("");let n=Object.keys(e.topRules).map(l=>e.topRules[l][1]),r=[];for(let l=0;l<i.length;l++)r.push([]);function s(l,a,u){r[l].push([a,a.deserialize(String(u))])}if(e.nodeProps)for(let l of e.nodeProps){let a=l[0];typeof a=="string"&&(a=te[a]);for(let u=1;u<l.length;){let c=l[u++];if(c>=0)s(c,a,l[u++]);else{let h=l[u+-c];for(let f=-c;f>0;f--)s(l[u++],a,h);u++}}}this.nodeSet=new Pn(i.map((l,a)=>De.define({name:a>=this.minRepeatTerm?void 0:l,id:a,props:r[a],top:n.indexOf(a)>-1,error:a==0,skipped:e.skippedNodes&&e.skippedNodes.indexOf(a)>-1}))),e.propSources&&(this.nodeSet=this.nodeSet.extend(...e.propSources)),this.strict=!1,this.bufferLength=mm;let o=Gn(e.tokenData);this.context=e.context,this.specializerSpecs=e.specialized||[],this.specialized=new Uint16Array(this.specializerSpecs.length);for(let l=0;l<this.specializerSpecs.length;l++)this.specialized[l]=this.specializerSpecs[l].term;this.specializers=this.specializerSpecs.map(Uf),this.states=Gn(e.states,Uint32Array),this.data=Gn(e.stateData),this.goto=Gn(e.goto),this.maxTerm=e.maxTerm,this.tokenizers=e.tokenizers.map(l=>typeof l=="number"?new on(o,l):l),this.topRules=e.topRules,this.dialects=e.dialects||{},this.dynamicPrecedences=e.dynamicPrecedences||null,this.tokenPrecTable=e.tokenPrec,this.termNames=e.termNames||null,this.maxNode=this.nodeSet.types.length-1,this.dialect=this.parseDialect(),this.top=this.topRules[Object.keys(this.topRules)[0]]}createParse(e,i,n){let r=new l$(this,e,i,n);for(let s of this.wrappers)r=s(r,e,i,n);return r}getGoto(e,i,n=!1){let r=this.goto;if(i>=r[0])return-1;for(let s=r[i+1];;){let o=r[s++],l=o&1,a=r[s++];if(l&&n)return a;for(let u=s+(o>>1);s<u;s++)if(r[s]==e)return a;if(l)return-1}}hasAction(e,i){let n=this.data;for(let r=0;r<2;r++)for(let s=this.stateSlot(e,r?2:1),o;;s+=3){if((o=n[s])==65535)if(n[s+1]==1)o=n[s=Ht(n,s+2)];else{if(n[s+1]==2)return Ht(n,s+2);break}if(o==i||o==0)return Ht(n,s+1)}return 0}stateSlot(e,i){return this.states[e*6+i]}stateFlag(e,i){return(this.stateSlot(e,0)&i)>0}validAction(e,i){return!!this.allActions(e,n=>n==i?!0:null)}allActions(e,i){let n=this.stateSlot(e,4),r=n?i(n):void 0;for(let s=this.stateSlot(e,1);r==null;s+=3){if(this.data[s]==65535)if(this.data[s+1]==1)s=Ht(this.data,s+2);else break;r=i(Ht(this.data,s+1))}return r}nextStates(e){let i=[];for(let n=this.stateSlot(e,1);;n+=3){if(this.data[n]==65535)if(this.data[n+1]==1)n=Ht(this.data,n+2);else break;if((this.data[n+2]&1)==0){let r=this.data[n+1];i.some((s,o)=>o&1&&s==r)||i.push(this.data[n],r)}}return i}configure(e){let i=Object.assign(Object.create(vn.prototype),this);if(e.props&&(i.nodeSet=this.nodeSet.extend(...e.props)),e.top){let n=this.topRules[e.top];if(!n)throw new RangeError(`Invalid top rule name ${e.top}`);i.top=n}return e.tokenizers&&(i.tokenizers=this.tokenizers.map(n=>{let r=e.tokenizers.find(s=>s.from==n);return r?r.to:n})),e.specializers&&(i.specializers=this.specializers.slice(),i.specializerSpecs=this.specializerSpecs.map((n,r)=>{let s=e.specializers.find(l=>l.from==n.external);if(!s)return n;let o=Object.assign(Object.assign({},n),{external:s.to});return i.specializers[r]=Uf(o),o})),e.contextTracker&&(i.context=e.contextTracker),e.dialect&&(i.dialect=this.parseDialect(e.dialect)),e.strict!=null&&(i.strict=e.strict),e.wrap&&(i.wrappers=i.wrappers.concat(e.wrap)),e.bufferLength!=null&&(i.bufferLength=e.bufferLength),i}hasWrappers(){return this.wrappers.length>0}getName(e){return this.termNames?this.termNames[e]:String(e<=this.maxNode&&this.nodeSet.types[e].name||e)}get eofTerm(){return this.maxNode+1}get topNode(){return this.nodeSet.types[this.top[1]]}dynamicPrecedence(e){let i=this.dynamicPrecedences;return i==null?0:i[e]||0}parseDialect(e){let i=Object.keys(this.dialects),n=i.map(()=>!1);if(e)for(let s of e.split(" ")){let o=i.indexOf(s);o>=0&&(n[o]=!0)}let r=null;for(let s=0;s<i.length;s++)if(!n[s])for(let o=this.dialects[i[s]],l;(l=this.data[o++])!=65535;)(r||(r=new Uint8Array(this.maxTerm+1)))[l]=1;return new a$(e,n,r)}static deserialize(e){return new vn(e)}}function Ht(t,e){return t[e]|t[e+1]<<16}function u$(t){let e=null;for(let i of t){let n=i.p.stoppedAt;(i.pos==i.p.stream.end||n!=null&&i.pos>n)&&i.p.parser.stateFlag(i.state,2)&&(!e||e.score<i.score)&&(e=i)}return e}function Uf(t){if(t.external){let e=t.extend?1:0;return(i,n)=>t.external(i,n)<<1|e}return t.get}const c$=55,h$=1,f$=56,d$=2,p$=57,m$=3,Hf=4,O$=5,Ku=6,YO=7,NO=8,WO=9,GO=10,g$=11,b$=12,x$=13,vl=58,y$=14,k$=15,Kf=59,UO=21,v$=23,HO=24,S$=25,Wa=27,KO=28,w$=29,Q$=32,$$=35,_$=37,P$=38,C$=0,T$=1,A$={area:!0,base:!0,br:!0,col:!0,command:!0,embed:!0,frame:!0,hr:!0,img:!0,input:!0,keygen:!0,link:!0,meta:!0,param:!0,source:!0,track:!0,wbr:!0,menuitem:!0},E$={dd:!0,li:!0,optgroup:!0,option:!0,p:!0,rp:!0,rt:!0,tbody:!0,td:!0,tfoot:!0,th:!0,tr:!0},Jf={dd:{dd:!0,dt:!0},dt:{dd:!0,dt:!0},li:{li:!0},option:{option:!0,optgroup:!0},optgroup:{optgroup:!0},p:{address:!0,article:!0,aside:!0,blockquote:!0,dir:!0,div:!0,dl:!0,fieldset:!0,footer:!0,form:!0,h1:!0,h2:!0,h3:!0,h4:!0,h5:!0,h6:!0,header:!0,hgroup:!0,hr:!0,menu:!0,nav:!0,ol:!0,p:!0,pre:!0,section:!0,table:!0,ul:!0},rp:{rp:!0,rt:!0},rt:{rp:!0,rt:!0},tbody:{tbody:!0,tfoot:!0},td:{td:!0,th:!0},tfoot:{tbody:!0},th:{td:!0,th:!0},thead:{tbody:!0,tfoot:!0},tr:{tr:!0}};function D$(t){return t==45||t==46||t==58||t>=65&&t<=90||t==95||t>=97&&t<=122||t>=161}let ed=null,td=null,id=0;function Ga(t,e){let i=t.pos+e;if(id==i&&td==t)return ed;let n=t.peek(e),r="";for(;D$(n);)r+=String.fromCharCode(n),n=t.peek(++e);return td=t,id=i,ed=r?r.toLowerCase():n==M$||n==R$?void 0:null}const JO=60,yo=62,Ju=47,M$=63,R$=33,L$=45;function nd(t,e){this.name=t,this.parent=e}const Z$=[Ku,GO,YO,NO,WO],I$=new jO({start:null,shift(t,e,i,n){return Z$.indexOf(e)>-1?new nd(Ga(n,1)||"",t):t},reduce(t,e){return e==UO&&t?t.parent:t},reuse(t,e,i,n){let r=e.type.id;return r==Ku||r==_$?new nd(Ga(n,1)||"",t):t},strict:!1}),z$=new Ot((t,e)=>{if(t.next!=JO){t.next<0&&e.context&&t.acceptToken(vl);return}t.advance();let i=t.next==Ju;i&&t.advance();let n=Ga(t,0);if(n===void 0)return;if(!n)return t.acceptToken(i?k$:y$);let r=e.context?e.context.name:null;if(i){if(n==r)return t.acceptToken(g$);if(r&&E$[r])return t.acceptToken(vl,-2);if(e.dialectEnabled(C$))return t.acceptToken(b$);for(let s=e.context;s;s=s.parent)if(s.name==n)return;t.acceptToken(x$)}else{if(n=="script")return t.acceptToken(YO);if(n=="style")return t.acceptToken(NO);if(n=="textarea")return t.acceptToken(WO);if(A$.hasOwnProperty(n))return t.acceptToken(GO);r&&Jf[r]&&Jf[r][n]?t.acceptToken(vl,-1):t.acceptToken(Ku)}},{contextual:!0}),X$=new Ot(t=>{for(let e=0,i=0;;i++){if(t.next<0){i&&t.acceptToken(Kf);break}if(t.next==L$)e++;else if(t.next==yo&&e>=2){i>=3&&t.acceptToken(Kf,-2);break}else e=0;t.advance()}});function V$(t){for(;t;t=t.parent)if(t.name=="svg"||t.name=="math")return!0;return!1}const F$=new Ot((t,e)=>{if(t.next==Ju&&t.peek(1)==yo){let i=e.dialectEnabled(T$)||V$(e.context);t.acceptToken(i?O$:Hf,2)}else t.next==yo&&t.acceptToken(Hf,1)});function ec(t,e,i){let n=2+t.length;return new Ot(r=>{for(let s=0,o=0,l=0;;l++){if(r.next<0){l&&r.acceptToken(e);break}if(s==0&&r.next==JO||s==1&&r.next==Ju||s>=2&&s<n&&r.next==t.charCodeAt(s-2))s++,o++;else if(s==n&&r.next==yo){l>o?r.acceptToken(e,-o):r.acceptToken(i,-(o-2));break}else if((r.next==10||r.next==13)&&l){r.acceptToken(e,1);break}else s=o=0;r.advance()}})}const B$=ec("script",c$,h$),q$=ec("style",f$,d$),j$=ec("textarea",p$,m$),Y$=Cn({"Text RawText IncompleteTag IncompleteCloseTag":v.content,"StartTag StartCloseTag SelfClosingEndTag EndTag":v.angleBracket,TagName:v.tagName,"MismatchedCloseTag/TagName":[v.tagName,v.invalid],AttributeName:v.attributeName,"AttributeValue UnquotedAttributeValue":v.attributeValue,Is:v.definitionOperator,"EntityReference CharacterReference":v.character,Comment:v.blockComment,ProcessingInst:v.processingInstruction,DoctypeDecl:v.documentMeta}),N$=vn.deserialize({version:14,states:",xOVO!rOOO!ZQ#tO'#CrO!`Q#tO'#C{O!eQ#tO'#DOO!jQ#tO'#DRO!oQ#tO'#DTO!tOaO'#CqO#PObO'#CqO#[OdO'#CqO$kO!rO'#CqOOO`'#Cq'#CqO$rO$fO'#DUO$zQ#tO'#DWO%PQ#tO'#DXOOO`'#Dl'#DlOOO`'#DZ'#DZQVO!rOOO%UQ&rO,59^O%aQ&rO,59gO%lQ&rO,59jO%wQ&rO,59mO&SQ&rO,59oOOOa'#D_'#D_O&_OaO'#CyO&jOaO,59]OOOb'#D`'#D`O&rObO'#C|O&}ObO,59]OOOd'#Da'#DaO'VOdO'#DPO'bOdO,59]OOO`'#Db'#DbO'jO!rO,59]O'qQ#tO'#DSOOO`,59],59]OOOp'#Dc'#DcO'vO$fO,59pOOO`,59p,59pO(OQ#|O,59rO(TQ#|O,59sOOO`-E7X-E7XO(YQ&rO'#CtOOQW'#D['#D[O(hQ&rO1G.xOOOa1G.x1G.xOOO`1G/Z1G/ZO(sQ&rO1G/ROOOb1G/R1G/RO)OQ&rO1G/UOOOd1G/U1G/UO)ZQ&rO1G/XOOO`1G/X1G/XO)fQ&rO1G/ZOOOa-E7]-E7]O)qQ#tO'#CzOOO`1G.w1G.wOOOb-E7^-E7^O)vQ#tO'#C}OOOd-E7_-E7_O){Q#tO'#DQOOO`-E7`-E7`O*QQ#|O,59nOOOp-E7a-E7aOOO`1G/[1G/[OOO`1G/^1G/^OOO`1G/_1G/_O*VQ,UO,59`OOQW-E7Y-E7YOOOa7+$d7+$dOOO`7+$u7+$uOOOb7+$m7+$mOOOd7+$p7+$pOOO`7+$s7+$sO*bQ#|O,59fO*gQ#|O,59iO*lQ#|O,59lOOO`1G/Y1G/YO*qO7[O'#CwO+SOMhO'#CwOOQW1G.z1G.zOOO`1G/Q1G/QOOO`1G/T1G/TOOO`1G/W1G/WOOOO'#D]'#D]O+eO7[O,59cOOQW,59c,59cOOOO'#D^'#D^O+vOMhO,59cOOOO-E7Z-E7ZOOQW1G.}1G.}OOOO-E7[-E7[",stateData:",c~O!_OS~OUSOVPOWQOXROYTO[]O][O^^O_^Oa^Ob^Oc^Od^Oy^O|_O!eZO~OgaO~OgbO~OgcO~OgdO~OgeO~O!XfOPmP![mP~O!YiOQpP![pP~O!ZlORsP![sP~OUSOVPOWQOXROYTOZqO[]O][O^^O_^Oa^Ob^Oc^Od^Oy^O!eZO~O![rO~P#gO!]sO!fuO~OgvO~OgwO~OS|OT}OiyO~OS!POT}OiyO~OS!ROT}OiyO~OS!TOT}OiyO~OS}OT}OiyO~O!XfOPmX![mX~OP!WO![!XO~O!YiOQpX![pX~OQ!ZO![!XO~O!ZlORsX![sX~OR!]O![!XO~O![!XO~P#gOg!_O~O!]sO!f!aO~OS!bO~OS!cO~Oj!dOShXThXihX~OS!fOT!gOiyO~OS!hOT!gOiyO~OS!iOT!gOiyO~OS!jOT!gOiyO~OS!gOT!gOiyO~Og!kO~Og!lO~Og!mO~OS!nO~Ol!qO!a!oO!c!pO~OS!rO~OS!sO~OS!tO~Ob!uOc!uOd!uO!a!wO!b!uO~Ob!xOc!xOd!xO!c!wO!d!xO~Ob!uOc!uOd!uO!a!{O!b!uO~Ob!xOc!xOd!xO!c!{O!d!xO~OT~cbd!ey|!e~",goto:"%q!aPPPPPPPPPPPPPPPPPPPPP!b!hP!nPP!zP!}#Q#T#Z#^#a#g#j#m#s#y!bP!b!bP$P$V$m$s$y%P%V%]%cPPPPPPPP%iX^OX`pXUOX`pezabcde{!O!Q!S!UR!q!dRhUR!XhXVOX`pRkVR!XkXWOX`pRnWR!XnXXOX`pQrXR!XpXYOX`pQ`ORx`Q{aQ!ObQ!QcQ!SdQ!UeZ!e{!O!Q!S!UQ!v!oR!z!vQ!y!pR!|!yQgUR!VgQjVR!YjQmWR![mQpXR!^pQtZR!`tS_O`ToXp",nodeNames:"⚠ StartCloseTag StartCloseTag StartCloseTag EndTag SelfClosingEndTag StartTag StartTag StartTag StartTag StartTag StartCloseTag StartCloseTag StartCloseTag IncompleteTag IncompleteCloseTag Document Text EntityReference CharacterReference InvalidEntity Element OpenTag TagName Attribute AttributeName Is AttributeValue UnquotedAttributeValue ScriptText CloseTag OpenTag StyleText CloseTag OpenTag TextareaText CloseTag OpenTag CloseTag SelfClosingTag Comment ProcessingInst MismatchedCloseTag CloseTag DoctypeDecl",maxTerm:68,context:I$,nodeProps:[["closedBy",-10,1,2,3,7,8,9,10,11,12,13,"EndTag",6,"EndTag SelfClosingEndTag",-4,22,31,34,37,"CloseTag"],["openedBy",4,"StartTag StartCloseTag",5,"StartTag",-4,30,33,36,38,"OpenTag"],["group",-10,14,15,18,19,20,21,40,41,42,43,"Entity",17,"Entity TextContent",-3,29,32,35,"TextContent Entity"],["isolate",-11,22,30,31,33,34,36,37,38,39,42,43,"ltr",-3,27,28,40,""]],propSources:[Y$],skippedNodes:[0],repeatNodeCount:9,tokenData:"!<p!aR!YOX$qXY,QYZ,QZ[$q[]&X]^,Q^p$qpq,Qqr-_rs3_sv-_vw3}wxHYx}-_}!OH{!O!P-_!P!Q$q!Q![-_![!]Mz!]!^-_!^!_!$S!_!`!;x!`!a&X!a!c-_!c!}Mz!}#R-_#R#SMz#S#T1k#T#oMz#o#s-_#s$f$q$f%W-_%W%oMz%o%p-_%p&aMz&a&b-_&b1pMz1p4U-_4U4dMz4d4e-_4e$ISMz$IS$I`-_$I`$IbMz$Ib$Kh-_$Kh%#tMz%#t&/x-_&/x&EtMz&Et&FV-_&FV;'SMz;'S;:j!#|;:j;=`3X<%l?&r-_?&r?AhMz?Ah?BY$q?BY?MnMz?MnO$q!Z$|caPlW!b`!dpOX$qXZ&XZ[$q[^&X^p$qpq&Xqr$qrs&}sv$qvw+Pwx(tx!^$q!^!_*V!_!a&X!a#S$q#S#T&X#T;'S$q;'S;=`+z<%lO$q!R&bXaP!b`!dpOr&Xrs&}sv&Xwx(tx!^&X!^!_*V!_;'S&X;'S;=`*y<%lO&Xq'UVaP!dpOv&}wx'kx!^&}!^!_(V!_;'S&};'S;=`(n<%lO&}P'pTaPOv'kw!^'k!_;'S'k;'S;=`(P<%lO'kP(SP;=`<%l'kp([S!dpOv(Vx;'S(V;'S;=`(h<%lO(Vp(kP;=`<%l(Vq(qP;=`<%l&}a({WaP!b`Or(trs'ksv(tw!^(t!^!_)e!_;'S(t;'S;=`*P<%lO(t`)jT!b`Or)esv)ew;'S)e;'S;=`)y<%lO)e`)|P;=`<%l)ea*SP;=`<%l(t!Q*^V!b`!dpOr*Vrs(Vsv*Vwx)ex;'S*V;'S;=`*s<%lO*V!Q*vP;=`<%l*V!R*|P;=`<%l&XW+UYlWOX+PZ[+P^p+Pqr+Psw+Px!^+P!a#S+P#T;'S+P;'S;=`+t<%lO+PW+wP;=`<%l+P!Z+}P;=`<%l$q!a,]`aP!b`!dp!_^OX&XXY,QYZ,QZ]&X]^,Q^p&Xpq,Qqr&Xrs&}sv&Xwx(tx!^&X!^!_*V!_;'S&X;'S;=`*y<%lO&X!_-ljiSaPlW!b`!dpOX$qXZ&XZ[$q[^&X^p$qpq&Xqr-_rs&}sv-_vw/^wx(tx!P-_!P!Q$q!Q!^-_!^!_*V!_!a&X!a#S-_#S#T1k#T#s-_#s$f$q$f;'S-_;'S;=`3X<%l?Ah-_?Ah?BY$q?BY?Mn-_?MnO$q[/ebiSlWOX+PZ[+P^p+Pqr/^sw/^x!P/^!P!Q+P!Q!^/^!a#S/^#S#T0m#T#s/^#s$f+P$f;'S/^;'S;=`1e<%l?Ah/^?Ah?BY+P?BY?Mn/^?MnO+PS0rXiSqr0msw0mx!P0m!Q!^0m!a#s0m$f;'S0m;'S;=`1_<%l?Ah0m?BY?Mn0mS1bP;=`<%l0m[1hP;=`<%l/^!V1vciSaP!b`!dpOq&Xqr1krs&}sv1kvw0mwx(tx!P1k!P!Q&X!Q!^1k!^!_*V!_!a&X!a#s1k#s$f&X$f;'S1k;'S;=`3R<%l?Ah1k?Ah?BY&X?BY?Mn1k?MnO&X!V3UP;=`<%l1k!_3[P;=`<%l-_!Z3hV!ahaP!dpOv&}wx'kx!^&}!^!_(V!_;'S&};'S;=`(n<%lO&}!_4WiiSlWd!ROX5uXZ7SZ[5u[^7S^p5uqr8trs7Sst>]tw8twx7Sx!P8t!P!Q5u!Q!]8t!]!^/^!^!a7S!a#S8t#S#T;{#T#s8t#s$f5u$f;'S8t;'S;=`>V<%l?Ah8t?Ah?BY5u?BY?Mn8t?MnO5u!Z5zblWOX5uXZ7SZ[5u[^7S^p5uqr5urs7Sst+Ptw5uwx7Sx!]5u!]!^7w!^!a7S!a#S5u#S#T7S#T;'S5u;'S;=`8n<%lO5u!R7VVOp7Sqs7St!]7S!]!^7l!^;'S7S;'S;=`7q<%lO7S!R7qOb!R!R7tP;=`<%l7S!Z8OYlWb!ROX+PZ[+P^p+Pqr+Psw+Px!^+P!a#S+P#T;'S+P;'S;=`+t<%lO+P!Z8qP;=`<%l5u!_8{iiSlWOX5uXZ7SZ[5u[^7S^p5uqr8trs7Sst/^tw8twx7Sx!P8t!P!Q5u!Q!]8t!]!^:j!^!a7S!a#S8t#S#T;{#T#s8t#s$f5u$f;'S8t;'S;=`>V<%l?Ah8t?Ah?BY5u?BY?Mn8t?MnO5u!_:sbiSlWb!ROX+PZ[+P^p+Pqr/^sw/^x!P/^!P!Q+P!Q!^/^!a#S/^#S#T0m#T#s/^#s$f+P$f;'S/^;'S;=`1e<%l?Ah/^?Ah?BY+P?BY?Mn/^?MnO+P!V<QciSOp7Sqr;{rs7Sst0mtw;{wx7Sx!P;{!P!Q7S!Q!];{!]!^=]!^!a7S!a#s;{#s$f7S$f;'S;{;'S;=`>P<%l?Ah;{?Ah?BY7S?BY?Mn;{?MnO7S!V=dXiSb!Rqr0msw0mx!P0m!Q!^0m!a#s0m$f;'S0m;'S;=`1_<%l?Ah0m?BY?Mn0m!V>SP;=`<%l;{!_>YP;=`<%l8t!_>dhiSlWOX@OXZAYZ[@O[^AY^p@OqrBwrsAYswBwwxAYx!PBw!P!Q@O!Q!]Bw!]!^/^!^!aAY!a#SBw#S#TE{#T#sBw#s$f@O$f;'SBw;'S;=`HS<%l?AhBw?Ah?BY@O?BY?MnBw?MnO@O!Z@TalWOX@OXZAYZ[@O[^AY^p@Oqr@OrsAYsw@OwxAYx!]@O!]!^Az!^!aAY!a#S@O#S#TAY#T;'S@O;'S;=`Bq<%lO@O!RA]UOpAYq!]AY!]!^Ao!^;'SAY;'S;=`At<%lOAY!RAtOc!R!RAwP;=`<%lAY!ZBRYlWc!ROX+PZ[+P^p+Pqr+Psw+Px!^+P!a#S+P#T;'S+P;'S;=`+t<%lO+P!ZBtP;=`<%l@O!_COhiSlWOX@OXZAYZ[@O[^AY^p@OqrBwrsAYswBwwxAYx!PBw!P!Q@O!Q!]Bw!]!^Dj!^!aAY!a#SBw#S#TE{#T#sBw#s$f@O$f;'SBw;'S;=`HS<%l?AhBw?Ah?BY@O?BY?MnBw?MnO@O!_DsbiSlWc!ROX+PZ[+P^p+Pqr/^sw/^x!P/^!P!Q+P!Q!^/^!a#S/^#S#T0m#T#s/^#s$f+P$f;'S/^;'S;=`1e<%l?Ah/^?Ah?BY+P?BY?Mn/^?MnO+P!VFQbiSOpAYqrE{rsAYswE{wxAYx!PE{!P!QAY!Q!]E{!]!^GY!^!aAY!a#sE{#s$fAY$f;'SE{;'S;=`G|<%l?AhE{?Ah?BYAY?BY?MnE{?MnOAY!VGaXiSc!Rqr0msw0mx!P0m!Q!^0m!a#s0m$f;'S0m;'S;=`1_<%l?Ah0m?BY?Mn0m!VHPP;=`<%lE{!_HVP;=`<%lBw!ZHcW!cxaP!b`Or(trs'ksv(tw!^(t!^!_)e!_;'S(t;'S;=`*P<%lO(t!aIYliSaPlW!b`!dpOX$qXZ&XZ[$q[^&X^p$qpq&Xqr-_rs&}sv-_vw/^wx(tx}-_}!OKQ!O!P-_!P!Q$q!Q!^-_!^!_*V!_!a&X!a#S-_#S#T1k#T#s-_#s$f$q$f;'S-_;'S;=`3X<%l?Ah-_?Ah?BY$q?BY?Mn-_?MnO$q!aK_kiSaPlW!b`!dpOX$qXZ&XZ[$q[^&X^p$qpq&Xqr-_rs&}sv-_vw/^wx(tx!P-_!P!Q$q!Q!^-_!^!_*V!_!`&X!`!aMS!a#S-_#S#T1k#T#s-_#s$f$q$f;'S-_;'S;=`3X<%l?Ah-_?Ah?BY$q?BY?Mn-_?MnO$q!TM_XaP!b`!dp!fQOr&Xrs&}sv&Xwx(tx!^&X!^!_*V!_;'S&X;'S;=`*y<%lO&X!aNZ!ZiSgQaPlW!b`!dpOX$qXZ&XZ[$q[^&X^p$qpq&Xqr-_rs&}sv-_vw/^wx(tx}-_}!OMz!O!PMz!P!Q$q!Q![Mz![!]Mz!]!^-_!^!_*V!_!a&X!a!c-_!c!}Mz!}#R-_#R#SMz#S#T1k#T#oMz#o#s-_#s$f$q$f$}-_$}%OMz%O%W-_%W%oMz%o%p-_%p&aMz&a&b-_&b1pMz1p4UMz4U4dMz4d4e-_4e$ISMz$IS$I`-_$I`$IbMz$Ib$Je-_$Je$JgMz$Jg$Kh-_$Kh%#tMz%#t&/x-_&/x&EtMz&Et&FV-_&FV;'SMz;'S;:j!#|;:j;=`3X<%l?&r-_?&r?AhMz?Ah?BY$q?BY?MnMz?MnO$q!a!$PP;=`<%lMz!R!$ZY!b`!dpOq*Vqr!$yrs(Vsv*Vwx)ex!a*V!a!b!4t!b;'S*V;'S;=`*s<%lO*V!R!%Q]!b`!dpOr*Vrs(Vsv*Vwx)ex}*V}!O!%y!O!f*V!f!g!']!g#W*V#W#X!0`#X;'S*V;'S;=`*s<%lO*V!R!&QX!b`!dpOr*Vrs(Vsv*Vwx)ex}*V}!O!&m!O;'S*V;'S;=`*s<%lO*V!R!&vV!b`!dp!ePOr*Vrs(Vsv*Vwx)ex;'S*V;'S;=`*s<%lO*V!R!'dX!b`!dpOr*Vrs(Vsv*Vwx)ex!q*V!q!r!(P!r;'S*V;'S;=`*s<%lO*V!R!(WX!b`!dpOr*Vrs(Vsv*Vwx)ex!e*V!e!f!(s!f;'S*V;'S;=`*s<%lO*V!R!(zX!b`!dpOr*Vrs(Vsv*Vwx)ex!v*V!v!w!)g!w;'S*V;'S;=`*s<%lO*V!R!)nX!b`!dpOr*Vrs(Vsv*Vwx)ex!{*V!{!|!*Z!|;'S*V;'S;=`*s<%lO*V!R!*bX!b`!dpOr*Vrs(Vsv*Vwx)ex!r*V!r!s!*}!s;'S*V;'S;=`*s<%lO*V!R!+UX!b`!dpOr*Vrs(Vsv*Vwx)ex!g*V!g!h!+q!h;'S*V;'S;=`*s<%lO*V!R!+xY!b`!dpOr!+qrs!,hsv!+qvw!-Swx!.[x!`!+q!`!a!/j!a;'S!+q;'S;=`!0Y<%lO!+qq!,mV!dpOv!,hvx!-Sx!`!,h!`!a!-q!a;'S!,h;'S;=`!.U<%lO!,hP!-VTO!`!-S!`!a!-f!a;'S!-S;'S;=`!-k<%lO!-SP!-kO|PP!-nP;=`<%l!-Sq!-xS!dp|POv(Vx;'S(V;'S;=`(h<%lO(Vq!.XP;=`<%l!,ha!.aX!b`Or!.[rs!-Ssv!.[vw!-Sw!`!.[!`!a!.|!a;'S!.[;'S;=`!/d<%lO!.[a!/TT!b`|POr)esv)ew;'S)e;'S;=`)y<%lO)ea!/gP;=`<%l!.[!R!/sV!b`!dp|POr*Vrs(Vsv*Vwx)ex;'S*V;'S;=`*s<%lO*V!R!0]P;=`<%l!+q!R!0gX!b`!dpOr*Vrs(Vsv*Vwx)ex#c*V#c#d!1S#d;'S*V;'S;=`*s<%lO*V!R!1ZX!b`!dpOr*Vrs(Vsv*Vwx)ex#V*V#V#W!1v#W;'S*V;'S;=`*s<%lO*V!R!1}X!b`!dpOr*Vrs(Vsv*Vwx)ex#h*V#h#i!2j#i;'S*V;'S;=`*s<%lO*V!R!2qX!b`!dpOr*Vrs(Vsv*Vwx)ex#m*V#m#n!3^#n;'S*V;'S;=`*s<%lO*V!R!3eX!b`!dpOr*Vrs(Vsv*Vwx)ex#d*V#d#e!4Q#e;'S*V;'S;=`*s<%lO*V!R!4XX!b`!dpOr*Vrs(Vsv*Vwx)ex#X*V#X#Y!+q#Y;'S*V;'S;=`*s<%lO*V!R!4{Y!b`!dpOr!4trs!5ksv!4tvw!6Vwx!8]x!a!4t!a!b!:]!b;'S!4t;'S;=`!;r<%lO!4tq!5pV!dpOv!5kvx!6Vx!a!5k!a!b!7W!b;'S!5k;'S;=`!8V<%lO!5kP!6YTO!a!6V!a!b!6i!b;'S!6V;'S;=`!7Q<%lO!6VP!6lTO!`!6V!`!a!6{!a;'S!6V;'S;=`!7Q<%lO!6VP!7QOyPP!7TP;=`<%l!6Vq!7]V!dpOv!5kvx!6Vx!`!5k!`!a!7r!a;'S!5k;'S;=`!8V<%lO!5kq!7yS!dpyPOv(Vx;'S(V;'S;=`(h<%lO(Vq!8YP;=`<%l!5ka!8bX!b`Or!8]rs!6Vsv!8]vw!6Vw!a!8]!a!b!8}!b;'S!8];'S;=`!:V<%lO!8]a!9SX!b`Or!8]rs!6Vsv!8]vw!6Vw!`!8]!`!a!9o!a;'S!8];'S;=`!:V<%lO!8]a!9vT!b`yPOr)esv)ew;'S)e;'S;=`)y<%lO)ea!:YP;=`<%l!8]!R!:dY!b`!dpOr!4trs!5ksv!4tvw!6Vwx!8]x!`!4t!`!a!;S!a;'S!4t;'S;=`!;r<%lO!4t!R!;]V!b`!dpyPOr*Vrs(Vsv*Vwx)ex;'S*V;'S;=`*s<%lO*V!R!;uP;=`<%l!4t!V!<TXjSaP!b`!dpOr&Xrs&}sv&Xwx(tx!^&X!^!_*V!_;'S&X;'S;=`*y<%lO&X",tokenizers:[B$,q$,j$,F$,z$,X$,0,1,2,3,4,5],topRules:{Document:[0,16]},dialects:{noMatch:0,selfClosing:515},tokenPrec:517});function eg(t,e){let i=Object.create(null);for(let n of t.getChildren(HO)){let r=n.getChild(S$),s=n.getChild(Wa)||n.getChild(KO);r&&(i[e.read(r.from,r.to)]=s?s.type.id==Wa?e.read(s.from+1,s.to-1):e.read(s.from,s.to):"")}return i}function rd(t,e){let i=t.getChild(v$);return i?e.read(i.from,i.to):" "}function Sl(t,e,i){let n;for(let r of i)if(!r.attrs||r.attrs(n||(n=eg(t.node.parent.firstChild,e))))return{parser:r.parser};return null}function tg(t=[],e=[]){let i=[],n=[],r=[],s=[];for(let l of t)(l.tag=="script"?i:l.tag=="style"?n:l.tag=="textarea"?r:s).push(l);let o=e.length?Object.create(null):null;for(let l of e)(o[l.name]||(o[l.name]=[])).push(l);return ym((l,a)=>{let u=l.type.id;if(u==w$)return Sl(l,a,i);if(u==Q$)return Sl(l,a,n);if(u==$$)return Sl(l,a,r);if(u==UO&&s.length){let c=l.node,h=c.firstChild,f=h&&rd(h,a),d;if(f){for(let p of s)if(p.tag==f&&(!p.attrs||p.attrs(d||(d=eg(h,a))))){let m=c.lastChild,O=m.type.id==P$?m.from:c.to;if(O>h.to)return{parser:p.parser,overlay:[{from:h.to,to:O}]}}}}if(o&&u==HO){let c=l.node,h;if(h=c.firstChild){let f=o[a.read(h.from,h.to)];if(f)for(let d of f){if(d.tagName&&d.tagName!=rd(c.parent,a))continue;let p=c.lastChild;if(p.type.id==Wa){let m=p.from+1,O=p.lastChild,g=p.to-(O&&O.isError?0:1);if(g>m)return{parser:d.parser,overlay:[{from:m,to:g}]}}else if(p.type.id==KO)return{parser:d.parser,overlay:[{from:p.from,to:p.to}]}}}}return null})}const W$=122,sd=1,G$=123,U$=124,ig=2,H$=125,K$=3,J$=4,ng=[9,10,11,12,13,32,133,160,5760,8192,8193,8194,8195,8196,8197,8198,8199,8200,8201,8202,8232,8233,8239,8287,12288],e_=58,t_=40,rg=95,i_=91,js=45,n_=46,r_=35,s_=37,o_=38,l_=92,a_=10,u_=42;function Cr(t){return t>=65&&t<=90||t>=97&&t<=122||t>=161}function tc(t){return t>=48&&t<=57}function od(t){return tc(t)||t>=97&&t<=102||t>=65&&t<=70}const sg=(t,e,i)=>(n,r)=>{for(let s=!1,o=0,l=0;;l++){let{next:a}=n;if(Cr(a)||a==js||a==rg||s&&tc(a))!s&&(a!=js||l>0)&&(s=!0),o===l&&a==js&&o++,n.advance();else if(a==l_&&n.peek(1)!=a_){if(n.advance(),od(n.next)){do n.advance();while(od(n.next));n.next==32&&n.advance()}else n.next>-1&&n.advance();s=!0}else{s&&n.acceptToken(o==2&&r.canShift(ig)?e:a==t_?i:t);break}}},c_=new Ot(sg(G$,ig,U$)),h_=new Ot(sg(H$,K$,J$)),f_=new Ot(t=>{if(ng.includes(t.peek(-1))){let{next:e}=t;(Cr(e)||e==rg||e==r_||e==n_||e==u_||e==i_||e==e_&&Cr(t.peek(1))||e==js||e==o_)&&t.acceptToken(W$)}}),d_=new Ot(t=>{if(!ng.includes(t.peek(-1))){let{next:e}=t;if(e==s_&&(t.advance(),t.acceptToken(sd)),Cr(e)){do t.advance();while(Cr(t.next)||tc(t.next));t.acceptToken(sd)}}}),p_=Cn({"AtKeyword import charset namespace keyframes media supports":v.definitionKeyword,"from to selector":v.keyword,NamespaceName:v.namespace,KeyframeName:v.labelName,KeyframeRangeName:v.operatorKeyword,TagName:v.tagName,ClassName:v.className,PseudoClassName:v.constant(v.className),IdName:v.labelName,"FeatureName PropertyName":v.propertyName,AttributeName:v.attributeName,NumberLiteral:v.number,KeywordQuery:v.keyword,UnaryQueryOp:v.operatorKeyword,"CallTag ValueName":v.atom,VariableName:v.variableName,Callee:v.operatorKeyword,Unit:v.unit,"UniversalSelector NestingSelector":v.definitionOperator,"MatchOp CompareOp":v.compareOperator,"ChildOp SiblingOp, LogicOp":v.logicOperator,BinOp:v.arithmeticOperator,Important:v.modifier,Comment:v.blockComment,ColorLiteral:v.color,"ParenthesizedContent StringLiteral":v.string,":":v.punctuation,"PseudoOp #":v.derefOperator,"; ,":v.separator,"( )":v.paren,"[ ]":v.squareBracket,"{ }":v.brace}),m_={__proto__:null,lang:38,"nth-child":38,"nth-last-child":38,"nth-of-type":38,"nth-last-of-type":38,dir:38,"host-context":38,if:84,url:124,"url-prefix":124,domain:124,regexp:124},O_={__proto__:null,or:98,and:98,not:106,only:106,layer:170},g_={__proto__:null,selector:112,layer:166},b_={__proto__:null,"@import":162,"@media":174,"@charset":178,"@namespace":182,"@keyframes":188,"@supports":200,"@scope":204},x_={__proto__:null,to:207},y_=vn.deserialize({version:14,states:"EbQYQdOOO#qQdOOP#xO`OOOOQP'#Cf'#CfOOQP'#Ce'#CeO#}QdO'#ChO$nQaO'#CcO$xQdO'#CkO%TQdO'#DpO%YQdO'#DrO%_QdO'#DuO%_QdO'#DxOOQP'#FV'#FVO&eQhO'#EhOOQS'#FU'#FUOOQS'#Ek'#EkQYQdOOO&lQdO'#EOO&PQhO'#EUO&lQdO'#EWO'aQdO'#EYO'lQdO'#E]O'tQhO'#EcO(VQdO'#EeO(bQaO'#CfO)VQ`O'#D{O)[Q`O'#F`O)gQdO'#F`QOQ`OOP)qO&jO'#CaPOOO)C@t)C@tOOQP'#Cj'#CjOOQP,59S,59SO#}QdO,59SO)|QdO,59VO%TQdO,5:[O%YQdO,5:^O%_QdO,5:aO%_QdO,5:cO%_QdO,5:dO%_QdO'#ErO*XQ`O,58}O*aQdO'#DzOOQS,58},58}OOQP'#Cn'#CnOOQO'#Dn'#DnOOQP,59V,59VO*hQ`O,59VO*mQ`O,59VOOQP'#Dq'#DqOOQP,5:[,5:[OOQO'#Ds'#DsO*rQpO,5:^O+]QaO,5:aO+sQaO,5:dOOQW'#DZ'#DZO,ZQhO'#DdO,xQhO'#FaO'tQhO'#DbO-WQ`O'#DhOOQW'#F['#F[O-]Q`O,5;SO-eQ`O'#DeOOQS-E8i-E8iOOQ['#Cs'#CsO-jQdO'#CtO.QQdO'#CzO.hQdO'#C}O/OQ!pO'#DPO1RQ!jO,5:jOOQO'#DU'#DUO*mQ`O'#DTO1cQ!nO'#FXO3`Q`O'#DVO3eQ`O'#DkOOQ['#FX'#FXO-`Q`O,5:pO3jQ!bO,5:rOOQS'#E['#E[O3rQ`O,5:tO3wQdO,5:tOOQO'#E_'#E_O4PQ`O,5:wO4UQhO,5:}O%_QdO'#DgOOQS,5;P,5;PO-eQ`O,5;PO4^QdO,5;PO4fQdO,5:gO4vQdO'#EtO5TQ`O,5;zO5TQ`O,5;zPOOO'#Ej'#EjP5`O&jO,58{POOO,58{,58{OOQP1G.n1G.nOOQP1G.q1G.qO*hQ`O1G.qO*mQ`O1G.qOOQP1G/v1G/vO5kQpO1G/xO5sQaO1G/{O6ZQaO1G/}O6qQaO1G0OO7XQaO,5;^OOQO-E8p-E8pOOQS1G.i1G.iO7cQ`O,5:fO7hQdO'#DoO7oQdO'#CrOOQP1G/x1G/xO&lQdO1G/xO7vQ!jO'#DZO8UQ!bO,59vO8^QhO,5:OOOQO'#F]'#F]O8XQ!bO,59zO'tQhO,59xO8fQhO'#EvO8sQ`O,5;{O9OQhO,59|O9uQhO'#DiOOQW,5:S,5:SOOQS1G0n1G0nOOQW,5:P,5:PO9|Q!fO'#FYOOQS'#FY'#FYOOQS'#Em'#EmO;^QdO,59`OOQ[,59`,59`O;tQdO,59fOOQ[,59f,59fO<[QdO,59iOOQ[,59i,59iOOQ[,59k,59kO&lQdO,59mO<rQhO'#EQOOQW'#EQ'#EQO=WQ`O1G0UO1[QhO1G0UOOQ[,59o,59oO'tQhO'#DXOOQ[,59q,59qO=]Q#tO,5:VOOQS1G0[1G0[OOQS1G0^1G0^OOQS1G0`1G0`O=hQ`O1G0`O=mQdO'#E`OOQS1G0c1G0cOOQS1G0i1G0iO=xQaO,5:RO-`Q`O1G0kOOQS1G0k1G0kO-eQ`O1G0kO>PQ!fO1G0ROOQO1G0R1G0ROOQO,5;`,5;`O>gQdO,5;`OOQO-E8r-E8rO>tQ`O1G1fPOOO-E8h-E8hPOOO1G.g1G.gOOQP7+$]7+$]OOQP7+%d7+%dO&lQdO7+%dOOQS1G0Q1G0QO?PQaO'#F_O?ZQ`O,5:ZO?`Q!fO'#ElO@^QdO'#FWO@hQ`O,59^O@mQ!bO7+%dO&lQdO1G/bO@uQhO1G/fOOQW1G/j1G/jOOQW1G/d1G/dOAWQhO,5;bOOQO-E8t-E8tOAfQhO'#DZOAtQhO'#F^OBPQ`O'#F^OBUQ`O,5:TOOQS-E8k-E8kOOQ[1G.z1G.zOOQ[1G/Q1G/QOOQ[1G/T1G/TOOQ[1G/X1G/XOBZQdO,5:lOOQS7+%p7+%pOB`Q`O7+%pOBeQhO'#DYOBmQ`O,59sO'tQhO,59sOOQ[1G/q1G/qOBuQ`O1G/qOOQS7+%z7+%zOBzQbO'#DPOOQO'#Eb'#EbOCYQ`O'#EaOOQO'#Ea'#EaOCeQ`O'#EwOCmQdO,5:zOOQS,5:z,5:zOOQ[1G/m1G/mOOQS7+&V7+&VO-`Q`O7+&VOCxQ!fO'#EsO&lQdO'#EsOEPQdO7+%mOOQO7+%m7+%mOOQO1G0z1G0zOEdQ!bO<<IOOElQdO'#EqOEvQ`O,5;yOOQP1G/u1G/uOOQS-E8j-E8jOFOQdO'#EpOFYQ`O,5;rOOQ]1G.x1G.xOOQP<<IO<<IOOFbQdO7+$|OOQO'#D]'#D]OFiQ!bO7+%QOFqQhO'#EoOF{Q`O,5;xO&lQdO,5;xOOQW1G/o1G/oOOQO'#ES'#ESOGTQ`O1G0WOOQS<<I[<<I[O&lQdO,59tOGnQhO1G/_OOQ[1G/_1G/_OGuQ`O1G/_OOQW-E8l-E8lOOQ[7+%]7+%]OOQO,5:{,5:{O=pQdO'#ExOCeQ`O,5;cOOQS,5;c,5;cOOQS-E8u-E8uOOQS1G0f1G0fOOQS<<Iq<<IqOG}Q!fO,5;_OOQS-E8q-E8qOOQO<<IX<<IXOOQPAN>jAN>jOIUQaO,5;]OOQO-E8o-E8oOI`QdO,5;[OOQO-E8n-E8nOOQW<<Hh<<HhOOQW<<Hl<<HlOIjQhO<<HlOI{QhO,5;ZOJWQ`O,5;ZOOQO-E8m-E8mOJ]QdO1G1dOBZQdO'#EuOJgQ`O7+%rOOQW7+%r7+%rOJoQ!bO1G/`OOQ[7+$y7+$yOJzQhO7+$yPKRQ`O'#EnOOQO,5;d,5;dOOQO-E8v-E8vOOQS1G0}1G0}OKWQ`OAN>WO&lQdO1G0uOK]Q`O7+'OOOQO,5;a,5;aOOQO-E8s-E8sOOQW<<I^<<I^OOQ[<<He<<HePOQW,5;Y,5;YOOQWG23rG23rOKeQdO7+&a",stateData:"Kx~O#sOS#tQQ~OW[OZ[O]TO`VOaVOi]OjWOmXO!jYO!mZO!saO!ybO!{cO!}dO#QeO#WfO#YgO#oRO~OQiOW[OZ[O]TO`VOaVOi]OjWOmXO!jYO!mZO!saO!ybO!{cO!}dO#QeO#WfO#YgO#ohO~O#m$SP~P!dO#tmO~O#ooO~O]qO`rOarOjsOmtO!juO!mwO#nvO~OpzO!^xO~P$SOc!QO#o|O#p}O~O#o!RO~O#o!TO~OW[OZ[O]TO`VOaVOjWOmXO!jYO!mZO#oRO~OS!]Oe!YO!V![O!Y!`O#q!XOp$TP~Ok$TP~P&POQ!jOe!cOm!dOp!eOr!mOt!mOz!kO!`!lO#o!bO#p!hO#}!fO~Ot!qO!`!lO#o!pO~Ot!sO#o!sO~OS!]Oe!YO!V![O!Y!`O#q!XO~Oe!vOpzO#Z!xO~O]YX`YX`!pXaYXjYXmYXpYX!^YX!jYX!mYX#nYX~O`!zO~Ok!{O#m$SXo$SX~O#m$SXo$SX~P!dO#u#OO#v#OO#w#QO~Oc#UO#o|O#p}O~OpzO!^xO~Oo$SP~P!dOe#`O~Oe#aO~Ol#bO!h#cO~O]qO`rOarOjsOmtO~Op!ia!^!ia!j!ia!m!ia#n!iad!ia~P*zOp!la!^!la!j!la!m!la#n!lad!la~P*zOR#gOS!]Oe!YOr#gOt#gO!V![O!Y!`O#q#dO#}!fO~O!R#iO!^#jOk$TXp$TX~Oe#mO~Ok#oOpzO~Oe!vO~O]#rO`#rOd#uOi#rOj#rOk#rO~P&lO]#rO`#rOi#rOj#rOk#rOl#wO~P&lO]#rO`#rOi#rOj#rOk#rOo#yO~P&lOP#zOSsXesXksXvsX!VsX!YsX!usX!wsX#qsX!TsXQsX]sX`sXdsXisXjsXmsXpsXrsXtsXzsX!`sX#osX#psX#}sXlsXosX!^sX!qsX#msX~Ov#{O!u#|O!w#}Ok$TP~P'tOe#aOS#{Xk#{Xv#{X!V#{X!Y#{X!u#{X!w#{X#q#{XQ#{X]#{X`#{Xd#{Xi#{Xj#{Xm#{Xp#{Xr#{Xt#{Xz#{X!`#{X#o#{X#p#{X#}#{Xl#{Xo#{X!^#{X!q#{X#m#{X~Oe$RO~Oe$TO~Ok$VOv#{O~Ok$WO~Ot$XO!`!lO~Op$YO~OpzO!R#iO~OpzO#Z$`O~O!q$bOk!oa#m!oao!oa~P&lOk#hX#m#hXo#hX~P!dOk!{O#m$Sao$Sa~O#u#OO#v#OO#w$hO~Ol$jO!h$kO~Op!ii!^!ii!j!ii!m!ii#n!iid!ii~P*zOp!ki!^!ki!j!ki!m!ki#n!kid!ki~P*zOp!li!^!li!j!li!m!li#n!lid!li~P*zOp#fa!^#fa~P$SOo$lO~Od$RP~P%_Od#zP~P&lO`!PXd}X!R}X!T!PX~O`$sO!T$tO~Od$uO!R#iO~Ok#jXp#jX!^#jX~P'tO!^#jOk$Tap$Ta~O!R#iOk!Uap!Ua!^!Uad!Ua`!Ua~OS!]Oe!YO!V![O!Y!`O#q$yO~Od$QP~P9dOv#{OQ#|X]#|X`#|Xd#|Xe#|Xi#|Xj#|Xk#|Xm#|Xp#|Xr#|Xt#|Xz#|X!`#|X#o#|X#p#|X#}#|Xl#|Xo#|X~O]#rO`#rOd%OOi#rOj#rOk#rO~P&lO]#rO`#rOi#rOj#rOk#rOl%PO~P&lO]#rO`#rOi#rOj#rOk#rOo%QO~P&lOe%SOS!tXk!tX!V!tX!Y!tX#q!tX~Ok%TO~Od%YOt%ZO!a%ZO~Ok%[O~Oo%cO#o%^O#}%]O~Od%dO~P$SOv#{O!^%hO!q%jOk!oi#m!oio!oi~P&lOk#ha#m#hao#ha~P!dOk!{O#m$Sio$Si~O!^%mOd$RX~P$SOd%oO~Ov#{OQ#`Xd#`Xe#`Xm#`Xp#`Xr#`Xt#`Xz#`X!^#`X!`#`X#o#`X#p#`X#}#`X~O!^%qOd#zX~P&lOd%sO~Ol%tOv#{O~OR#gOr#gOt#gO#q%vO#}!fO~O!R#iOk#jap#ja!^#ja~O`!PXd}X!R}X!^}X~O!R#iO!^%xOd$QX~O`%zO~Od%{O~O#o%|O~Ok&OO~O`&PO!R#iO~Od&ROk&QO~Od&UO~OP#zOpsX!^sXdsX~O#}%]Op#TX!^#TX~OpzO!^&WO~Oo&[O#o%^O#}%]O~Ov#{OQ#gXe#gXk#gXm#gXp#gXr#gXt#gXz#gX!^#gX!`#gX!q#gX#m#gX#o#gX#p#gX#}#gXo#gX~O!^%hO!q&`Ok!oq#m!oqo!oq~P&lOl&aOv#{O~Od#eX!^#eX~P%_O!^%mOd$Ra~Od#dX!^#dX~P&lO!^%qOd#za~Od&fO~P&lOd&gO!T&hO~Od#cX!^#cX~P9dO!^%xOd$Qa~O]&mOd&oO~OS#bae#ba!V#ba!Y#ba#q#ba~Od&qO~PG]Od&qOk&rO~Ov#{OQ#gae#gak#gam#gap#gar#gat#gaz#ga!^#ga!`#ga!q#ga#m#ga#o#ga#p#ga#}#gao#ga~Od#ea!^#ea~P$SOd#da!^#da~P&lOR#gOr#gOt#gO#q%vO#}%]O~O!R#iOd#ca!^#ca~O`&xO~O!^%xOd$Qi~P&lO]&mOd&|O~Ov#{Od|ik|i~Od&}O~PG]Ok'OO~Od'PO~O!^%xOd$Qq~Od#cq!^#cq~P&lO#s!a#t#}]#}v!m~",goto:"2h$UPPPPP$VP$YP$c$uP$cP%X$cPP%_PPP%e%o%oPPPPP%oPP%oP&]P%oP%o'W%oP't'w'}'}(^'}P'}P'}P'}'}P(m'}(yP(|PP)p)v$c)|$c*SP$cP$c$cP*Y*{+YP$YP+aP+dP$YP$YP$YP+j$YP+m+p+s+z$YP$YPP$YP,P,V,f,|-[-b-l-r-x.O.U.`.f.l.rPPPPPPPPPPP.x/R/w/z0|P1U1u2O2R2U2[RnQ_^OP`kz!{$dq[OPYZ`kuvwxz!v!{#`$d%mqSOPYZ`kuvwxz!v!{#`$d%mQpTR#RqQ!OVR#SrQ#S!QS$Q!i!jR$i#U!V!mac!c!d!e!z#a#c#t#v#x#{$a$k$p$s%h%i%q%u%z&P&d&l&x'Q!U!mac!c!d!e!z#a#c#t#v#x#{$a$k$p$s%h%i%q%u%z&P&d&l&x'QU#g!Y$t&hU%`$Y%b&WR&V%_!V!iac!c!d!e!z#a#c#t#v#x#{$a$k$p$s%h%i%q%u%z&P&d&l&x'QR$S!kQ%W$RR&S%Xk!^]bf!Y![!g#i#j#m$P$R%X%xQ#e!YQ${#mQ%w$tQ&j%xR&w&hQ!ygQ#p!`Q$^!xR%f$`R#n!]!U!mac!c!d!e!z#a#c#t#v#x#{$a$k$p$s%h%i%q%u%z&P&d&l&x'QQ!qdR$X!rQ!PVR#TrQ#S!PR$i#TQ!SWR#VsQ!UXR#WtQ{UQ!wgQ#^yQ#o!_Q$U!nQ$[!uQ$_!yQ%e$^Q&Y%aQ&]%fR&v&XSjPzQ!}kQ$c!{R%k$dZiPkz!{$dR$P!gQ%}%SR&z&mR!rdR!teR$Z!tS%a$Y%bR&t&WV%_$Y%b&WQ#PmR$g#PQ`OSkPzU!a`k$dR$d!{Q$p#aY%p$p%u&d&l'QQ%u$sQ&d%qQ&l%zR'Q&xQ#t!cQ#v!dQ#x!eV$}#t#v#xQ%X$RR&T%XQ%y$zS&k%y&yR&y&lQ%r$pR&e%rQ%n$mR&c%nQyUR#]yQ%i$aR&_%iQ!|jS$e!|$fR$f!}Q&n%}R&{&nQ#k!ZR$x#kQ%b$YR&Z%bQ&X%aR&u&X__OP`kz!{$d^UOP`kz!{$dQ!VYQ!WZQ#XuQ#YvQ#ZwQ#[xQ$]!vQ$m#`R&b%mR$q#aQ!gaQ!oc[#q!c!d!e#t#v#xQ$a!zd$o#a$p$s%q%u%z&d&l&x'QQ$r#cQ%R#{S%g$a%iQ%l$kQ&^%hR&p&P]#s!c!d!e#t#v#xW!Z]b!g$PQ!ufQ#f!YQ#l![Q$v#iQ$w#jQ$z#mS%V$R%XR&i%xQ#h!YQ%w$tR&w&hR$|#mR$n#`QlPR#_zQ!_]Q!nbQ$O!gR%U$P",nodeNames:"⚠ Unit VariableName VariableName QueryCallee Comment StyleSheet RuleSet UniversalSelector TagSelector TagName NestingSelector ClassSelector . ClassName PseudoClassSelector : :: PseudoClassName PseudoClassName ) ( ArgList ValueName ParenthesizedValue AtKeyword # ; ] [ BracketedValue } { BracedValue ColorLiteral NumberLiteral StringLiteral BinaryExpression BinOp CallExpression Callee IfExpression if ArgList IfBranch KeywordQuery FeatureQuery FeatureName BinaryQuery LogicOp ComparisonQuery CompareOp UnaryQuery UnaryQueryOp ParenthesizedQuery SelectorQuery selector ParenthesizedSelector CallQuery ArgList , CallLiteral CallTag ParenthesizedContent PseudoClassName ArgList IdSelector IdName AttributeSelector AttributeName MatchOp ChildSelector ChildOp DescendantSelector SiblingSelector SiblingOp Block Declaration PropertyName Important ImportStatement import Layer layer LayerName layer MediaStatement media CharsetStatement charset NamespaceStatement namespace NamespaceName KeyframesStatement keyframes KeyframeName KeyframeList KeyframeSelector KeyframeRangeName SupportsStatement supports ScopeStatement scope to AtRule Styles",maxTerm:143,nodeProps:[["isolate",-2,5,36,""],["openedBy",20,"(",28,"[",31,"{"],["closedBy",21,")",29,"]",32,"}"]],propSources:[p_],skippedNodes:[0,5,106],repeatNodeCount:15,tokenData:"JQ~R!YOX$qX^%i^p$qpq%iqr({rs-ust/itu6Wuv$qvw7Qwx7cxy9Qyz9cz{9h{|:R|}>t}!O?V!O!P?t!P!Q@]!Q![AU![!]BP!]!^B{!^!_C^!_!`DY!`!aDm!a!b$q!b!cEn!c!}$q!}#OG{#O#P$q#P#QH^#Q#R6W#R#o$q#o#pHo#p#q6W#q#rIQ#r#sIc#s#y$q#y#z%i#z$f$q$f$g%i$g#BY$q#BY#BZ%i#BZ$IS$q$IS$I_%i$I_$I|$q$I|$JO%i$JO$JT$q$JT$JU%i$JU$KV$q$KV$KW%i$KW&FU$q&FU&FV%i&FV;'S$q;'S;=`Iz<%lO$q`$tSOy%Qz;'S%Q;'S;=`%c<%lO%Q`%VS!a`Oy%Qz;'S%Q;'S;=`%c<%lO%Q`%fP;=`<%l%Q~%nh#s~OX%QX^'Y^p%Qpq'Yqy%Qz#y%Q#y#z'Y#z$f%Q$f$g'Y$g#BY%Q#BY#BZ'Y#BZ$IS%Q$IS$I_'Y$I_$I|%Q$I|$JO'Y$JO$JT%Q$JT$JU'Y$JU$KV%Q$KV$KW'Y$KW&FU%Q&FU&FV'Y&FV;'S%Q;'S;=`%c<%lO%Q~'ah#s~!a`OX%QX^'Y^p%Qpq'Yqy%Qz#y%Q#y#z'Y#z$f%Q$f$g'Y$g#BY%Q#BY#BZ'Y#BZ$IS%Q$IS$I_'Y$I_$I|%Q$I|$JO'Y$JO$JT%Q$JT$JU'Y$JU$KV%Q$KV$KW'Y$KW&FU%Q&FU&FV'Y&FV;'S%Q;'S;=`%c<%lO%Qj)OUOy%Qz#]%Q#]#^)b#^;'S%Q;'S;=`%c<%lO%Qj)gU!a`Oy%Qz#a%Q#a#b)y#b;'S%Q;'S;=`%c<%lO%Qj*OU!a`Oy%Qz#d%Q#d#e*b#e;'S%Q;'S;=`%c<%lO%Qj*gU!a`Oy%Qz#c%Q#c#d*y#d;'S%Q;'S;=`%c<%lO%Qj+OU!a`Oy%Qz#f%Q#f#g+b#g;'S%Q;'S;=`%c<%lO%Qj+gU!a`Oy%Qz#h%Q#h#i+y#i;'S%Q;'S;=`%c<%lO%Qj,OU!a`Oy%Qz#T%Q#T#U,b#U;'S%Q;'S;=`%c<%lO%Qj,gU!a`Oy%Qz#b%Q#b#c,y#c;'S%Q;'S;=`%c<%lO%Qj-OU!a`Oy%Qz#h%Q#h#i-b#i;'S%Q;'S;=`%c<%lO%Qj-iS!qY!a`Oy%Qz;'S%Q;'S;=`%c<%lO%Q~-xWOY-uZr-urs.bs#O-u#O#P.g#P;'S-u;'S;=`/c<%lO-u~.gOt~~.jRO;'S-u;'S;=`.s;=`O-u~.vXOY-uZr-urs.bs#O-u#O#P.g#P;'S-u;'S;=`/c;=`<%l-u<%lO-u~/fP;=`<%l-uj/nYjYOy%Qz!Q%Q!Q![0^![!c%Q!c!i0^!i#T%Q#T#Z0^#Z;'S%Q;'S;=`%c<%lO%Qj0cY!a`Oy%Qz!Q%Q!Q![1R![!c%Q!c!i1R!i#T%Q#T#Z1R#Z;'S%Q;'S;=`%c<%lO%Qj1WY!a`Oy%Qz!Q%Q!Q![1v![!c%Q!c!i1v!i#T%Q#T#Z1v#Z;'S%Q;'S;=`%c<%lO%Qj1}YrY!a`Oy%Qz!Q%Q!Q![2m![!c%Q!c!i2m!i#T%Q#T#Z2m#Z;'S%Q;'S;=`%c<%lO%Qj2tYrY!a`Oy%Qz!Q%Q!Q![3d![!c%Q!c!i3d!i#T%Q#T#Z3d#Z;'S%Q;'S;=`%c<%lO%Qj3iY!a`Oy%Qz!Q%Q!Q![4X![!c%Q!c!i4X!i#T%Q#T#Z4X#Z;'S%Q;'S;=`%c<%lO%Qj4`YrY!a`Oy%Qz!Q%Q!Q![5O![!c%Q!c!i5O!i#T%Q#T#Z5O#Z;'S%Q;'S;=`%c<%lO%Qj5TY!a`Oy%Qz!Q%Q!Q![5s![!c%Q!c!i5s!i#T%Q#T#Z5s#Z;'S%Q;'S;=`%c<%lO%Qj5zSrY!a`Oy%Qz;'S%Q;'S;=`%c<%lO%Qd6ZUOy%Qz!_%Q!_!`6m!`;'S%Q;'S;=`%c<%lO%Qd6tS!hS!a`Oy%Qz;'S%Q;'S;=`%c<%lO%Qb7VSZQOy%Qz;'S%Q;'S;=`%c<%lO%Q~7fWOY7cZw7cwx.bx#O7c#O#P8O#P;'S7c;'S;=`8z<%lO7c~8RRO;'S7c;'S;=`8[;=`O7c~8_XOY7cZw7cwx.bx#O7c#O#P8O#P;'S7c;'S;=`8z;=`<%l7c<%lO7c~8}P;=`<%l7cj9VSeYOy%Qz;'S%Q;'S;=`%c<%lO%Q~9hOd~n9oUWQvWOy%Qz!_%Q!_!`6m!`;'S%Q;'S;=`%c<%lO%Qj:YWvW!mQOy%Qz!O%Q!O!P:r!P!Q%Q!Q![=w![;'S%Q;'S;=`%c<%lO%Qj:wU!a`Oy%Qz!Q%Q!Q![;Z![;'S%Q;'S;=`%c<%lO%Qj;bY!a`#}YOy%Qz!Q%Q!Q![;Z![!g%Q!g!h<Q!h#X%Q#X#Y<Q#Y;'S%Q;'S;=`%c<%lO%Qj<VY!a`Oy%Qz{%Q{|<u|}%Q}!O<u!O!Q%Q!Q![=^![;'S%Q;'S;=`%c<%lO%Qj<zU!a`Oy%Qz!Q%Q!Q![=^![;'S%Q;'S;=`%c<%lO%Qj=eU!a`#}YOy%Qz!Q%Q!Q![=^![;'S%Q;'S;=`%c<%lO%Qj>O[!a`#}YOy%Qz!O%Q!O!P;Z!P!Q%Q!Q![=w![!g%Q!g!h<Q!h#X%Q#X#Y<Q#Y;'S%Q;'S;=`%c<%lO%Qj>yS!^YOy%Qz;'S%Q;'S;=`%c<%lO%Qj?[WvWOy%Qz!O%Q!O!P:r!P!Q%Q!Q![=w![;'S%Q;'S;=`%c<%lO%Qj?yU]YOy%Qz!Q%Q!Q![;Z![;'S%Q;'S;=`%c<%lO%Q~@bTvWOy%Qz{@q{;'S%Q;'S;=`%c<%lO%Q~@xS!a`#t~Oy%Qz;'S%Q;'S;=`%c<%lO%QjAZ[#}YOy%Qz!O%Q!O!P;Z!P!Q%Q!Q![=w![!g%Q!g!h<Q!h#X%Q#X#Y<Q#Y;'S%Q;'S;=`%c<%lO%QjBUU`YOy%Qz![%Q![!]Bh!];'S%Q;'S;=`%c<%lO%QbBoSaQ!a`Oy%Qz;'S%Q;'S;=`%c<%lO%QjCQSkYOy%Qz;'S%Q;'S;=`%c<%lO%QhCcU!TWOy%Qz!_%Q!_!`Cu!`;'S%Q;'S;=`%c<%lO%QhC|S!TW!a`Oy%Qz;'S%Q;'S;=`%c<%lO%QlDaS!TW!hSOy%Qz;'S%Q;'S;=`%c<%lO%QjDtV!jQ!TWOy%Qz!_%Q!_!`Cu!`!aEZ!a;'S%Q;'S;=`%c<%lO%QbEbS!jQ!a`Oy%Qz;'S%Q;'S;=`%c<%lO%QjEqYOy%Qz}%Q}!OFa!O!c%Q!c!}GO!}#T%Q#T#oGO#o;'S%Q;'S;=`%c<%lO%QjFfW!a`Oy%Qz!c%Q!c!}GO!}#T%Q#T#oGO#o;'S%Q;'S;=`%c<%lO%QjGV[iY!a`Oy%Qz}%Q}!OGO!O!Q%Q!Q![GO![!c%Q!c!}GO!}#T%Q#T#oGO#o;'S%Q;'S;=`%c<%lO%QjHQSmYOy%Qz;'S%Q;'S;=`%c<%lO%QnHcSl^Oy%Qz;'S%Q;'S;=`%c<%lO%QjHtSpYOy%Qz;'S%Q;'S;=`%c<%lO%QjIVSoYOy%Qz;'S%Q;'S;=`%c<%lO%QfIhU!mQOy%Qz!_%Q!_!`6m!`;'S%Q;'S;=`%c<%lO%Q`I}P;=`<%l$q",tokenizers:[f_,d_,c_,h_,1,2,3,4,new xo("m~RRYZ[z{a~~g~aO#v~~dP!P!Qg~lO#w~~",28,129)],topRules:{StyleSheet:[0,6],Styles:[1,105]},specialized:[{term:124,get:t=>m_[t]||-1},{term:125,get:t=>O_[t]||-1},{term:4,get:t=>g_[t]||-1},{term:25,get:t=>b_[t]||-1},{term:123,get:t=>x_[t]||-1}],tokenPrec:1963});let wl=null;function Ql(){if(!wl&&typeof document=="object"&&document.body){let{style:t}=document.body,e=[],i=new Set;for(let n in t)n!="cssText"&&n!="cssFloat"&&typeof t[n]=="string"&&(/[A-Z]/.test(n)&&(n=n.replace(/[A-Z]/g,r=>"-"+r.toLowerCase())),i.has(n)||(e.push(n),i.add(n)));wl=e.sort().map(n=>({type:"property",label:n,apply:n+": "}))}return wl||[]}const ld=["active","after","any-link","autofill","backdrop","before","checked","cue","default","defined","disabled","empty","enabled","file-selector-button","first","first-child","first-letter","first-line","first-of-type","focus","focus-visible","focus-within","fullscreen","has","host","host-context","hover","in-range","indeterminate","invalid","is","lang","last-child","last-of-type","left","link","marker","modal","not","nth-child","nth-last-child","nth-last-of-type","nth-of-type","only-child","only-of-type","optional","out-of-range","part","placeholder","placeholder-shown","read-only","read-write","required","right","root","scope","selection","slotted","target","target-text","valid","visited","where"].map(t=>({type:"class",label:t})),ad=["above","absolute","activeborder","additive","activecaption","after-white-space","ahead","alias","all","all-scroll","alphabetic","alternate","always","antialiased","appworkspace","asterisks","attr","auto","auto-flow","avoid","avoid-column","avoid-page","avoid-region","axis-pan","background","backwards","baseline","below","bidi-override","blink","block","block-axis","bold","bolder","border","border-box","both","bottom","break","break-all","break-word","bullets","button","button-bevel","buttonface","buttonhighlight","buttonshadow","buttontext","calc","capitalize","caps-lock-indicator","caption","captiontext","caret","cell","center","checkbox","circle","cjk-decimal","clear","clip","close-quote","col-resize","collapse","color","color-burn","color-dodge","column","column-reverse","compact","condensed","contain","content","contents","content-box","context-menu","continuous","copy","counter","counters","cover","crop","cross","crosshair","currentcolor","cursive","cyclic","darken","dashed","decimal","decimal-leading-zero","default","default-button","dense","destination-atop","destination-in","destination-out","destination-over","difference","disc","discard","disclosure-closed","disclosure-open","document","dot-dash","dot-dot-dash","dotted","double","down","e-resize","ease","ease-in","ease-in-out","ease-out","element","ellipse","ellipsis","embed","end","ethiopic-abegede-gez","ethiopic-halehame-aa-er","ethiopic-halehame-gez","ew-resize","exclusion","expanded","extends","extra-condensed","extra-expanded","fantasy","fast","fill","fill-box","fixed","flat","flex","flex-end","flex-start","footnotes","forwards","from","geometricPrecision","graytext","grid","groove","hand","hard-light","help","hidden","hide","higher","highlight","highlighttext","horizontal","hsl","hsla","hue","icon","ignore","inactiveborder","inactivecaption","inactivecaptiontext","infinite","infobackground","infotext","inherit","initial","inline","inline-axis","inline-block","inline-flex","inline-grid","inline-table","inset","inside","intrinsic","invert","italic","justify","keep-all","landscape","large","larger","left","level","lighter","lighten","line-through","linear","linear-gradient","lines","list-item","listbox","listitem","local","logical","loud","lower","lower-hexadecimal","lower-latin","lower-norwegian","lowercase","ltr","luminosity","manipulation","match","matrix","matrix3d","medium","menu","menutext","message-box","middle","min-intrinsic","mix","monospace","move","multiple","multiple_mask_images","multiply","n-resize","narrower","ne-resize","nesw-resize","no-close-quote","no-drop","no-open-quote","no-repeat","none","normal","not-allowed","nowrap","ns-resize","numbers","numeric","nw-resize","nwse-resize","oblique","opacity","open-quote","optimizeLegibility","optimizeSpeed","outset","outside","outside-shape","overlay","overline","padding","padding-box","painted","page","paused","perspective","pinch-zoom","plus-darker","plus-lighter","pointer","polygon","portrait","pre","pre-line","pre-wrap","preserve-3d","progress","push-button","radial-gradient","radio","read-only","read-write","read-write-plaintext-only","rectangle","region","relative","repeat","repeating-linear-gradient","repeating-radial-gradient","repeat-x","repeat-y","reset","reverse","rgb","rgba","ridge","right","rotate","rotate3d","rotateX","rotateY","rotateZ","round","row","row-resize","row-reverse","rtl","run-in","running","s-resize","sans-serif","saturation","scale","scale3d","scaleX","scaleY","scaleZ","screen","scroll","scrollbar","scroll-position","se-resize","self-start","self-end","semi-condensed","semi-expanded","separate","serif","show","single","skew","skewX","skewY","skip-white-space","slide","slider-horizontal","slider-vertical","sliderthumb-horizontal","sliderthumb-vertical","slow","small","small-caps","small-caption","smaller","soft-light","solid","source-atop","source-in","source-out","source-over","space","space-around","space-between","space-evenly","spell-out","square","start","static","status-bar","stretch","stroke","stroke-box","sub","subpixel-antialiased","svg_masks","super","sw-resize","symbolic","symbols","system-ui","table","table-caption","table-cell","table-column","table-column-group","table-footer-group","table-header-group","table-row","table-row-group","text","text-bottom","text-top","textarea","textfield","thick","thin","threeddarkshadow","threedface","threedhighlight","threedlightshadow","threedshadow","to","top","transform","translate","translate3d","translateX","translateY","translateZ","transparent","ultra-condensed","ultra-expanded","underline","unidirectional-pan","unset","up","upper-latin","uppercase","url","var","vertical","vertical-text","view-box","visible","visibleFill","visiblePainted","visibleStroke","visual","w-resize","wait","wave","wider","window","windowframe","windowtext","words","wrap","wrap-reverse","x-large","x-small","xor","xx-large","xx-small"].map(t=>({type:"keyword",label:t})).concat(["aliceblue","antiquewhite","aqua","aquamarine","azure","beige","bisque","black","blanchedalmond","blue","blueviolet","brown","burlywood","cadetblue","chartreuse","chocolate","coral","cornflowerblue","cornsilk","crimson","cyan","darkblue","darkcyan","darkgoldenrod","darkgray","darkgreen","darkkhaki","darkmagenta","darkolivegreen","darkorange","darkorchid","darkred","darksalmon","darkseagreen","darkslateblue","darkslategray","darkturquoise","darkviolet","deeppink","deepskyblue","dimgray","dodgerblue","firebrick","floralwhite","forestgreen","fuchsia","gainsboro","ghostwhite","gold","goldenrod","gray","grey","green","greenyellow","honeydew","hotpink","indianred","indigo","ivory","khaki","lavender","lavenderblush","lawngreen","lemonchiffon","lightblue","lightcoral","lightcyan","lightgoldenrodyellow","lightgray","lightgreen","lightpink","lightsalmon","lightseagreen","lightskyblue","lightslategray","lightsteelblue","lightyellow","lime","limegreen","linen","magenta","maroon","mediumaquamarine","mediumblue","mediumorchid","mediumpurple","mediumseagreen","mediumslateblue","mediumspringgreen","mediumturquoise","mediumvioletred","midnightblue","mintcream","mistyrose","moccasin","navajowhite","navy","oldlace","olive","olivedrab","orange","orangered","orchid","palegoldenrod","palegreen","paleturquoise","palevioletred","papayawhip","peachpuff","peru","pink","plum","powderblue","purple","rebeccapurple","red","rosybrown","royalblue","saddlebrown","salmon","sandybrown","seagreen","seashell","sienna","silver","skyblue","slateblue","slategray","snow","springgreen","steelblue","tan","teal","thistle","tomato","turquoise","violet","wheat","white","whitesmoke","yellow","yellowgreen"].map(t=>({type:"constant",label:t}))),k_=["a","abbr","address","article","aside","b","bdi","bdo","blockquote","body","br","button","canvas","caption","cite","code","col","colgroup","dd","del","details","dfn","dialog","div","dl","dt","em","figcaption","figure","footer","form","header","hgroup","h1","h2","h3","h4","h5","h6","hr","html","i","iframe","img","input","ins","kbd","label","legend","li","main","meter","nav","ol","output","p","pre","ruby","section","select","small","source","span","strong","sub","summary","sup","table","tbody","td","template","textarea","tfoot","th","thead","tr","u","ul"].map(t=>({type:"type",label:t})),v_=["@charset","@color-profile","@container","@counter-style","@font-face","@font-feature-values","@font-palette-values","@import","@keyframes","@layer","@media","@namespace","@page","@position-try","@property","@scope","@starting-style","@supports","@view-transition"].map(t=>({type:"keyword",label:t})),Ut=/^(\w[\w-]*|-\w[\w-]*|)$/,S_=/^-(-[\w-]*)?$/;function w_(t,e){var i;if((t.name=="("||t.type.isError)&&(t=t.parent||t),t.name!="ArgList")return!1;let n=(i=t.parent)===null||i===void 0?void 0:i.firstChild;return n?.name!="Callee"?!1:e.sliceString(n.from,n.to)=="var"}const ud=new xm,Q_=["Declaration"];function $_(t){for(let e=t;;){if(e.type.isTop)return e;if(!(e=e.parent))return t}}function og(t,e,i){if(e.to-e.from>4096){let n=ud.get(e);if(n)return n;let r=[],s=new Set,o=e.cursor(ye.IncludeAnonymous);if(o.firstChild())do for(let l of og(t,o.node,i))s.has(l.label)||(s.add(l.label),r.push(l));while(o.nextSibling());return ud.set(e,r),r}else{let n=[],r=new Set;return e.cursor().iterate(s=>{var o;if(i(s)&&s.matchContext(Q_)&&((o=s.node.nextSibling)===null||o===void 0?void 0:o.name)==":"){let l=t.sliceString(s.from,s.to);r.has(l)||(r.add(l),n.push({label:l,type:"variable"}))}}),n}}const lg=t=>e=>{let{state:i,pos:n}=e,r=Pe(i).resolveInner(n,-1),s=r.type.isError&&r.from==r.to-1&&i.doc.sliceString(r.from,r.to)=="-";if(r.name=="PropertyName"||(s||r.name=="TagName")&&/^(Block|Styles)$/.test(r.resolve(r.to).name))return{from:r.from,options:Ql(),validFor:Ut};if(r.name=="ValueName")return{from:r.from,options:ad,validFor:Ut};if(r.name=="PseudoClassName")return{from:r.from,options:ld,validFor:Ut};if(t(r)||(e.explicit||s)&&w_(r,i.doc))return{from:t(r)||s?r.from:n,options:og(i.doc,$_(r),t),validFor:S_};if(r.name=="TagName"){for(let{parent:a}=r;a;a=a.parent)if(a.name=="Block")return{from:r.from,options:Ql(),validFor:Ut};return{from:r.from,options:k_,validFor:Ut}}if(r.name=="AtKeyword")return{from:r.from,options:v_,validFor:Ut};if(!e.explicit)return null;let o=r.resolve(n),l=o.childBefore(n);return l&&l.name==":"&&o.name=="PseudoClassSelector"?{from:n,options:ld,validFor:Ut}:l&&l.name==":"&&o.name=="Declaration"||o.name=="ArgList"?{from:n,options:ad,validFor:Ut}:o.name=="Block"||o.name=="Styles"?{from:n,options:Ql(),validFor:Ut}:null},ag=lg(t=>t.name=="VariableName"),Tr=gn.define({name:"css",parser:y_.configure({props:[An.add({Declaration:Bs()}),jr.add({"Block KeyframeList":_m})]}),languageData:{commentTokens:{block:{open:"/*",close:"*/"}},indentOnInput:/^\s*\}$/,wordChars:"-"}});function ug(){return new yn(Tr,Tr.data.of({autocomplete:ag}))}const __=Object.freeze(Object.defineProperty({__proto__:null,css:ug,cssCompletionSource:ag,cssLanguage:Tr,defineCSSCompletionSource:lg},Symbol.toStringTag,{value:"Module"})),P_=316,C_=317,cd=1,T_=2,A_=3,E_=4,D_=318,M_=320,R_=321,L_=5,Z_=6,I_=0,Ua=[9,10,11,12,13,32,133,160,5760,8192,8193,8194,8195,8196,8197,8198,8199,8200,8201,8202,8232,8233,8239,8287,12288],cg=125,z_=59,Ha=47,X_=42,V_=43,F_=45,B_=60,q_=44,j_=63,Y_=46,N_=91,W_=new jO({start:!1,shift(t,e){return e==L_||e==Z_||e==M_?t:e==R_},strict:!1}),G_=new Ot((t,e)=>{let{next:i}=t;(i==cg||i==-1||e.context)&&t.acceptToken(D_)},{contextual:!0,fallback:!0}),U_=new Ot((t,e)=>{let{next:i}=t,n;Ua.indexOf(i)>-1||i==Ha&&((n=t.peek(1))==Ha||n==X_)||i!=cg&&i!=z_&&i!=-1&&!e.context&&t.acceptToken(P_)},{contextual:!0}),H_=new Ot((t,e)=>{t.next==N_&&!e.context&&t.acceptToken(C_)},{contextual:!0}),K_=new Ot((t,e)=>{let{next:i}=t;if(i==V_||i==F_){if(t.advance(),i==t.next){t.advance();let n=!e.context&&e.canShift(cd);t.acceptToken(n?cd:T_)}}else i==j_&&t.peek(1)==Y_&&(t.advance(),t.advance(),(t.next<48||t.next>57)&&t.acceptToken(A_))},{contextual:!0});function $l(t,e){return t>=65&&t<=90||t>=97&&t<=122||t==95||t>=192||!e&&t>=48&&t<=57}const J_=new Ot((t,e)=>{if(t.next!=B_||!e.dialectEnabled(I_)||(t.advance(),t.next==Ha))return;let i=0;for(;Ua.indexOf(t.next)>-1;)t.advance(),i++;if($l(t.next,!0)){for(t.advance(),i++;$l(t.next,!1);)t.advance(),i++;for(;Ua.indexOf(t.next)>-1;)t.advance(),i++;if(t.next==q_)return;for(let n=0;;n++){if(n==7){if(!$l(t.next,!0))return;break}if(t.next!="extends".charCodeAt(n))break;t.advance(),i++}}t.acceptToken(E_,-i)}),eP=Cn({"get set async static":v.modifier,"for while do if else switch try catch finally return throw break continue default case defer":v.controlKeyword,"in of await yield void typeof delete instanceof as satisfies":v.operatorKeyword,"let var const using function class extends":v.definitionKeyword,"import export from":v.moduleKeyword,"with debugger new":v.keyword,TemplateString:v.special(v.string),super:v.atom,BooleanLiteral:v.bool,this:v.self,null:v.null,Star:v.modifier,VariableName:v.variableName,"CallExpression/VariableName TaggedTemplateExpression/VariableName":v.function(v.variableName),VariableDefinition:v.definition(v.variableName),Label:v.labelName,PropertyName:v.propertyName,PrivatePropertyName:v.special(v.propertyName),"CallExpression/MemberExpression/PropertyName":v.function(v.propertyName),"FunctionDeclaration/VariableDefinition":v.function(v.definition(v.variableName)),"ClassDeclaration/VariableDefinition":v.definition(v.className),"NewExpression/VariableName":v.className,PropertyDefinition:v.definition(v.propertyName),PrivatePropertyDefinition:v.definition(v.special(v.propertyName)),UpdateOp:v.updateOperator,"LineComment Hashbang":v.lineComment,BlockComment:v.blockComment,Number:v.number,String:v.string,Escape:v.escape,ArithOp:v.arithmeticOperator,LogicOp:v.logicOperator,BitOp:v.bitwiseOperator,CompareOp:v.compareOperator,RegExp:v.regexp,Equals:v.definitionOperator,Arrow:v.function(v.punctuation),": Spread":v.punctuation,"( )":v.paren,"[ ]":v.squareBracket,"{ }":v.brace,"InterpolationStart InterpolationEnd":v.special(v.brace),".":v.derefOperator,", ;":v.separator,"@":v.meta,TypeName:v.typeName,TypeDefinition:v.definition(v.typeName),"type enum interface implements namespace module declare":v.definitionKeyword,"abstract global Privacy readonly override":v.modifier,"is keyof unique infer asserts":v.operatorKeyword,JSXAttributeValue:v.attributeValue,JSXText:v.content,"JSXStartTag JSXStartCloseTag JSXSelfCloseEndTag JSXEndTag":v.angleBracket,"JSXIdentifier JSXNameSpacedName":v.tagName,"JSXAttribute/JSXIdentifier JSXAttribute/JSXNameSpacedName":v.attributeName,"JSXBuiltin/JSXIdentifier":v.standard(v.tagName)}),tP={__proto__:null,export:20,as:25,from:33,default:36,async:41,function:42,in:52,out:55,const:56,extends:60,this:64,true:72,false:72,null:84,void:88,typeof:92,super:108,new:142,delete:154,yield:163,await:167,class:172,public:235,private:235,protected:235,readonly:237,instanceof:256,satisfies:259,import:292,keyof:349,unique:353,infer:359,asserts:395,is:397,abstract:417,implements:419,type:421,let:424,var:426,using:429,interface:435,enum:439,namespace:445,module:447,declare:451,global:455,defer:471,for:476,of:485,while:488,with:492,do:496,if:500,else:502,switch:506,case:512,try:518,catch:522,finally:526,return:530,throw:534,break:538,continue:542,debugger:546},iP={__proto__:null,async:129,get:131,set:133,declare:195,public:197,private:197,protected:197,static:199,abstract:201,override:203,readonly:209,accessor:211,new:401},nP={__proto__:null,"<":193},rP=vn.deserialize({version:14,states:"$F|Q%TQlOOO%[QlOOO'_QpOOP(lO`OOO*zQ!0MxO'#CiO+RO#tO'#CjO+aO&jO'#CjO+oO#@ItO'#DaO.QQlO'#DgO.bQlO'#DrO%[QlO'#DzO0fQlO'#ESOOQ!0Lf'#E['#E[O1PQ`O'#EXOOQO'#Ep'#EpOOQO'#Il'#IlO1XQ`O'#GsO1dQ`O'#EoO1iQ`O'#EoO3hQ!0MxO'#JrO6[Q!0MxO'#JsO6uQ`O'#F]O6zQ,UO'#FtOOQ!0Lf'#Ff'#FfO7VO7dO'#FfO9XQMhO'#F|O9`Q`O'#F{OOQ!0Lf'#Js'#JsOOQ!0Lb'#Jr'#JrO9eQ`O'#GwOOQ['#K_'#K_O9pQ`O'#IYO9uQ!0LrO'#IZOOQ['#J`'#J`OOQ['#I_'#I_Q`QlOOQ`QlOOO9}Q!L^O'#DvO:UQlO'#EOO:]QlO'#EQO9kQ`O'#GsO:dQMhO'#CoO:rQ`O'#EnO:}Q`O'#EyO;hQMhO'#FeO;xQ`O'#GsOOQO'#K`'#K`O;}Q`O'#K`O<]Q`O'#G{O<]Q`O'#G|O<]Q`O'#HOO9kQ`O'#HRO=SQ`O'#HUO>kQ`O'#CeO>{Q`O'#HcO?TQ`O'#HiO?TQ`O'#HkO`QlO'#HmO?TQ`O'#HoO?TQ`O'#HrO?YQ`O'#HxO?_Q!0LsO'#IOO%[QlO'#IQO?jQ!0LsO'#ISO?uQ!0LsO'#IUO9uQ!0LrO'#IWO@QQ!0MxO'#CiOASQpO'#DlQOQ`OOO%[QlO'#EQOAjQ`O'#ETO:dQMhO'#EnOAuQ`O'#EnOBQQ!bO'#FeOOQ['#Cg'#CgOOQ!0Lb'#Dq'#DqOOQ!0Lb'#Jv'#JvO%[QlO'#JvOOQO'#Jy'#JyOOQO'#Ih'#IhOCQQpO'#EgOOQ!0Lb'#Ef'#EfOOQ!0Lb'#J}'#J}OC|Q!0MSO'#EgODWQpO'#EWOOQO'#Jx'#JxODlQpO'#JyOEyQpO'#EWODWQpO'#EgPFWO&2DjO'#CbPOOO)CD})CD}OOOO'#I`'#I`OFcO#tO,59UOOQ!0Lh,59U,59UOOOO'#Ia'#IaOFqO&jO,59UOGPQ!L^O'#DcOOOO'#Ic'#IcOGWO#@ItO,59{OOQ!0Lf,59{,59{OGfQlO'#IdOGyQ`O'#JtOIxQ!fO'#JtO+}QlO'#JtOJPQ`O,5:ROJgQ`O'#EpOJtQ`O'#KTOKPQ`O'#KSOKPQ`O'#KSOKXQ`O,5;^OK^Q`O'#KROOQ!0Ln,5:^,5:^OKeQlO,5:^OMcQ!0MxO,5:fONSQ`O,5:nONmQ!0LrO'#KQONtQ`O'#KPO9eQ`O'#KPO! YQ`O'#KPO! bQ`O,5;]O! gQ`O'#KPO!#lQ!fO'#JsOOQ!0Lh'#Ci'#CiO%[QlO'#ESO!$[Q!fO,5:sOOQS'#Jz'#JzOOQO-E<j-E<jO9kQ`O,5=_O!$rQ`O,5=_O!$wQlO,5;ZO!&zQMhO'#EkO!(eQ`O,5;ZO!(jQlO'#DyO!(tQpO,5;dO!(|QpO,5;dO%[QlO,5;dOOQ['#FT'#FTOOQ['#FV'#FVO%[QlO,5;eO%[QlO,5;eO%[QlO,5;eO%[QlO,5;eO%[QlO,5;eO%[QlO,5;eO%[QlO,5;eO%[QlO,5;eO%[QlO,5;eO%[QlO,5;eOOQ['#FZ'#FZO!)[QlO,5;tOOQ!0Lf,5;y,5;yOOQ!0Lf,5;z,5;zOOQ!0Lf,5;|,5;|O%[QlO'#IpO!+_Q!0LrO,5<iO%[QlO,5;eO!&zQMhO,5;eO!+|QMhO,5;eO!-nQMhO'#E^O%[QlO,5;wOOQ!0Lf,5;{,5;{O!-uQ,UO'#FjO!.rQ,UO'#KXO!.^Q,UO'#KXO!.yQ,UO'#KXOOQO'#KX'#KXO!/_Q,UO,5<SOOOW,5<`,5<`O!/pQlO'#FvOOOW'#Io'#IoO7VO7dO,5<QO!/wQ,UO'#FxOOQ!0Lf,5<Q,5<QO!0hQ$IUO'#CyOOQ!0Lh'#C}'#C}O!0{O#@ItO'#DRO!1iQMjO,5<eO!1pQ`O,5<hO!3YQ(CWO'#GXO!3jQ`O'#GYO!3oQ`O'#GYO!5_Q(CWO'#G^O!6dQpO'#GbOOQO'#Gn'#GnO!,TQMhO'#GmOOQO'#Gp'#GpO!,TQMhO'#GoO!7VQ$IUO'#JlOOQ!0Lh'#Jl'#JlO!7aQ`O'#JkO!7oQ`O'#JjO!7wQ`O'#CuOOQ!0Lh'#C{'#C{O!8YQ`O'#C}OOQ!0Lh'#DV'#DVOOQ!0Lh'#DX'#DXO!8_Q`O,5<eO1SQ`O'#DZO!,TQMhO'#GPO!,TQMhO'#GRO!8gQ`O'#GTO!8lQ`O'#GUO!3oQ`O'#G[O!,TQMhO'#GaO<]Q`O'#JkO!8qQ`O'#EqO!9`Q`O,5<gOOQ!0Lb'#Cr'#CrO!9hQ`O'#ErO!:bQpO'#EsOOQ!0Lb'#KR'#KRO!:iQ!0LrO'#KaO9uQ!0LrO,5=cO`QlO,5>tOOQ['#Jh'#JhOOQ[,5>u,5>uOOQ[-E<]-E<]O!<hQ!0MxO,5:bO!:]QpO,5:`O!?RQ!0MxO,5:jO%[QlO,5:jO!AiQ!0MxO,5:lOOQO,5@z,5@zO!BYQMhO,5=_O!BhQ!0LrO'#JiO9`Q`O'#JiO!ByQ!0LrO,59ZO!CUQpO,59ZO!C^QMhO,59ZO:dQMhO,59ZO!CiQ`O,5;ZO!CqQ`O'#HbO!DVQ`O'#KdO%[QlO,5;}O!:]QpO,5<PO!D_Q`O,5=zO!DdQ`O,5=zO!DiQ`O,5=zO!DwQ`O,5=zO9uQ!0LrO,5=zO<]Q`O,5=jOOQO'#Cy'#CyO!EOQpO,5=gO!EWQMhO,5=hO!EcQ`O,5=jO!EhQ!bO,5=mO!EpQ`O'#K`O?YQ`O'#HWO9kQ`O'#HYO!EuQ`O'#HYO:dQMhO'#H[O!EzQ`O'#H[OOQ[,5=p,5=pO!FPQ`O'#H]O!FbQ`O'#CoO!FgQ`O,59PO!FqQ`O,59PO!HvQlO,59POOQ[,59P,59PO!IWQ!0LrO,59PO%[QlO,59PO!KcQlO'#HeOOQ['#Hf'#HfOOQ['#Hg'#HgO`QlO,5=}O!KyQ`O,5=}O`QlO,5>TO`QlO,5>VO!LOQ`O,5>XO`QlO,5>ZO!LTQ`O,5>^O!LYQlO,5>dOOQ[,5>j,5>jO%[QlO,5>jO9uQ!0LrO,5>lOOQ[,5>n,5>nO#!dQ`O,5>nOOQ[,5>p,5>pO#!dQ`O,5>pOOQ[,5>r,5>rO##QQpO'#D_O%[QlO'#JvO##sQpO'#JvO##}QpO'#DmO#$`QpO'#DmO#&qQlO'#DmO#&xQ`O'#JuO#'QQ`O,5:WO#'VQ`O'#EtO#'eQ`O'#KUO#'mQ`O,5;_O#'rQpO'#DmO#(PQpO'#EVOOQ!0Lf,5:o,5:oO%[QlO,5:oO#(WQ`O,5:oO?YQ`O,5;YO!CUQpO,5;YO!C^QMhO,5;YO:dQMhO,5;YO#(`Q`O,5@bO#(eQ07dO,5:sOOQO-E<f-E<fO#)kQ!0MSO,5;RODWQpO,5:rO#)uQpO,5:rODWQpO,5;RO!ByQ!0LrO,5:rOOQ!0Lb'#Ej'#EjOOQO,5;R,5;RO%[QlO,5;RO#*SQ!0LrO,5;RO#*_Q!0LrO,5;RO!CUQpO,5:rOOQO,5;X,5;XO#*mQ!0LrO,5;RPOOO'#I^'#I^P#+RO&2DjO,58|POOO,58|,58|OOOO-E<^-E<^OOQ!0Lh1G.p1G.pOOOO-E<_-E<_OOOO,59},59}O#+^Q!bO,59}OOOO-E<a-E<aOOQ!0Lf1G/g1G/gO#+cQ!fO,5?OO+}QlO,5?OOOQO,5?U,5?UO#+mQlO'#IdOOQO-E<b-E<bO#+zQ`O,5@`O#,SQ!fO,5@`O#,ZQ`O,5@nOOQ!0Lf1G/m1G/mO%[QlO,5@oO#,cQ`O'#IjOOQO-E<h-E<hO#,ZQ`O,5@nOOQ!0Lb1G0x1G0xOOQ!0Ln1G/x1G/xOOQ!0Ln1G0Y1G0YO%[QlO,5@lO#,wQ!0LrO,5@lO#-YQ!0LrO,5@lO#-aQ`O,5@kO9eQ`O,5@kO#-iQ`O,5@kO#-wQ`O'#ImO#-aQ`O,5@kOOQ!0Lb1G0w1G0wO!(tQpO,5:uO!)PQpO,5:uOOQS,5:w,5:wO#.iQdO,5:wO#.qQMhO1G2yO9kQ`O1G2yOOQ!0Lf1G0u1G0uO#/PQ!0MxO1G0uO#0UQ!0MvO,5;VOOQ!0Lh'#GW'#GWO#0rQ!0MzO'#JlO!$wQlO1G0uO#2}Q!fO'#JwO%[QlO'#JwO#3XQ`O,5:eOOQ!0Lh'#D_'#D_OOQ!0Lf1G1O1G1OO%[QlO1G1OOOQ!0Lf1G1f1G1fO#3^Q`O1G1OO#5rQ!0MxO1G1PO#5yQ!0MxO1G1PO#8aQ!0MxO1G1PO#8hQ!0MxO1G1PO#;OQ!0MxO1G1PO#=fQ!0MxO1G1PO#=mQ!0MxO1G1PO#=tQ!0MxO1G1PO#@[Q!0MxO1G1PO#@cQ!0MxO1G1PO#BpQ?MtO'#CiO#DkQ?MtO1G1`O#DrQ?MtO'#JsO#EVQ!0MxO,5?[OOQ!0Lb-E<n-E<nO#GdQ!0MxO1G1PO#HaQ!0MzO1G1POOQ!0Lf1G1P1G1PO#IdQMjO'#J|O#InQ`O,5:xO#IsQ!0MxO1G1cO#JgQ,UO,5<WO#JoQ,UO,5<XO#JwQ,UO'#FoO#K`Q`O'#FnOOQO'#KY'#KYOOQO'#In'#InO#KeQ,UO1G1nOOQ!0Lf1G1n1G1nOOOW1G1y1G1yO#KvQ?MtO'#JrO#LQQ`O,5<bO!)[QlO,5<bOOOW-E<m-E<mOOQ!0Lf1G1l1G1lO#LVQpO'#KXOOQ!0Lf,5<d,5<dO#L_QpO,5<dO#LdQMhO'#DTOOOO'#Ib'#IbO#LkO#@ItO,59mOOQ!0Lh,59m,59mO%[QlO1G2PO!8lQ`O'#IrO#LvQ`O,5<zOOQ!0Lh,5<w,5<wO!,TQMhO'#IuO#MdQMjO,5=XO!,TQMhO'#IwO#NVQMjO,5=ZO!&zQMhO,5=]OOQO1G2S1G2SO#NaQ!dO'#CrO#NtQ(CWO'#ErO$ |QpO'#GbO$!dQ!dO,5<sO$!kQ`O'#K[O9eQ`O'#K[O$!yQ`O,5<uO$#aQ!dO'#C{O!,TQMhO,5<tO$#kQ`O'#GZO$$PQ`O,5<tO$$UQ!dO'#GWO$$cQ!dO'#K]O$$mQ`O'#K]O!&zQMhO'#K]O$$rQ`O,5<xO$$wQlO'#JvO$%RQpO'#GcO#$`QpO'#GcO$%dQ`O'#GgO!3oQ`O'#GkO$%iQ!0LrO'#ItO$%tQpO,5<|OOQ!0Lp,5<|,5<|O$%{QpO'#GcO$&YQpO'#GdO$&kQpO'#GdO$&pQMjO,5=XO$'QQMjO,5=ZOOQ!0Lh,5=^,5=^O!,TQMhO,5@VO!,TQMhO,5@VO$'bQ`O'#IyO$'vQ`O,5@UO$(OQ`O,59aOOQ!0Lh,59i,59iO$(TQ`O,5@VO$)TQ$IYO,59uOOQ!0Lh'#Jp'#JpO$)vQMjO,5<kO$*iQMjO,5<mO@zQ`O,5<oOOQ!0Lh,5<p,5<pO$*sQ`O,5<vO$*xQMjO,5<{O$+YQ`O'#KPO!$wQlO1G2RO$+_Q`O1G2RO9eQ`O'#KSO9eQ`O'#EtO%[QlO'#EtO9eQ`O'#I{O$+dQ!0LrO,5@{OOQ[1G2}1G2}OOQ[1G4`1G4`OOQ!0Lf1G/|1G/|OOQ!0Lf1G/z1G/zO$-fQ!0MxO1G0UOOQ[1G2y1G2yO!&zQMhO1G2yO%[QlO1G2yO#.tQ`O1G2yO$/jQMhO'#EkOOQ!0Lb,5@T,5@TO$/wQ!0LrO,5@TOOQ[1G.u1G.uO!ByQ!0LrO1G.uO!CUQpO1G.uO!C^QMhO1G.uO$0YQ`O1G0uO$0_Q`O'#CiO$0jQ`O'#KeO$0rQ`O,5=|O$0wQ`O'#KeO$0|Q`O'#KeO$1[Q`O'#JRO$1jQ`O,5AOO$1rQ!fO1G1iOOQ!0Lf1G1k1G1kO9kQ`O1G3fO@zQ`O1G3fO$1yQ`O1G3fO$2OQ`O1G3fO!DiQ`O1G3fO9uQ!0LrO1G3fOOQ[1G3f1G3fO!EcQ`O1G3UO!&zQMhO1G3RO$2TQ`O1G3ROOQ[1G3S1G3SO!&zQMhO1G3SO$2YQ`O1G3SO$2bQpO'#HQOOQ[1G3U1G3UO!6_QpO'#I}O!EhQ!bO1G3XOOQ[1G3X1G3XOOQ[,5=r,5=rO$2jQMhO,5=tO9kQ`O,5=tO$%dQ`O,5=vO9`Q`O,5=vO!CUQpO,5=vO!C^QMhO,5=vO:dQMhO,5=vO$2xQ`O'#KcO$3TQ`O,5=wOOQ[1G.k1G.kO$3YQ!0LrO1G.kO@zQ`O1G.kO$3eQ`O1G.kO9uQ!0LrO1G.kO$5mQ!fO,5AQO$5zQ`O,5AQO9eQ`O,5AQO$6VQlO,5>PO$6^Q`O,5>POOQ[1G3i1G3iO`QlO1G3iOOQ[1G3o1G3oOOQ[1G3q1G3qO?TQ`O1G3sO$6cQlO1G3uO$:gQlO'#HtOOQ[1G3x1G3xO$:tQ`O'#HzO?YQ`O'#H|OOQ[1G4O1G4OO$:|QlO1G4OO9uQ!0LrO1G4UOOQ[1G4W1G4WOOQ!0Lb'#G_'#G_O9uQ!0LrO1G4YO9uQ!0LrO1G4[O$?TQ`O,5@bO!)[QlO,5;`O9eQ`O,5;`O?YQ`O,5:XO!)[QlO,5:XO!CUQpO,5:XO$?YQ?MtO,5:XOOQO,5;`,5;`O$?dQpO'#IeO$?zQ`O,5@aOOQ!0Lf1G/r1G/rO$@SQpO'#IkO$@^Q`O,5@pOOQ!0Lb1G0y1G0yO#$`QpO,5:XOOQO'#Ig'#IgO$@fQpO,5:qOOQ!0Ln,5:q,5:qO#(ZQ`O1G0ZOOQ!0Lf1G0Z1G0ZO%[QlO1G0ZOOQ!0Lf1G0t1G0tO?YQ`O1G0tO!CUQpO1G0tO!C^QMhO1G0tOOQ!0Lb1G5|1G5|O!ByQ!0LrO1G0^OOQO1G0m1G0mO%[QlO1G0mO$@mQ!0LrO1G0mO$@xQ!0LrO1G0mO!CUQpO1G0^ODWQpO1G0^O$AWQ!0LrO1G0mOOQO1G0^1G0^O$AlQ!0MxO1G0mPOOO-E<[-E<[POOO1G.h1G.hOOOO1G/i1G/iO$AvQ!bO,5<iO$BOQ!fO1G4jOOQO1G4p1G4pO%[QlO,5?OO$BYQ`O1G5zO$BbQ`O1G6YO$BjQ!fO1G6ZO9eQ`O,5?UO$BtQ!0MxO1G6WO%[QlO1G6WO$CUQ!0LrO1G6WO$CgQ`O1G6VO$CgQ`O1G6VO9eQ`O1G6VO$CoQ`O,5?XO9eQ`O,5?XOOQO,5?X,5?XO$DTQ`O,5?XO$+YQ`O,5?XOOQO-E<k-E<kOOQS1G0a1G0aOOQS1G0c1G0cO#.lQ`O1G0cOOQ[7+(e7+(eO!&zQMhO7+(eO%[QlO7+(eO$DcQ`O7+(eO$DnQMhO7+(eO$D|Q!0MzO,5=XO$GXQ!0MzO,5=ZO$IdQ!0MzO,5=XO$KuQ!0MzO,5=ZO$NWQ!0MzO,59uO%!]Q!0MzO,5<kO%$hQ!0MzO,5<mO%&sQ!0MzO,5<{OOQ!0Lf7+&a7+&aO%)UQ!0MxO7+&aO%)xQlO'#IfO%*VQ`O,5@cO%*_Q!fO,5@cOOQ!0Lf1G0P1G0PO%*iQ`O7+&jOOQ!0Lf7+&j7+&jO%*nQ?MtO,5:fO%[QlO7+&zO%*xQ?MtO,5:bO%+VQ?MtO,5:jO%+aQ?MtO,5:lO%+kQMhO'#IiO%+uQ`O,5@hOOQ!0Lh1G0d1G0dOOQO1G1r1G1rOOQO1G1s1G1sO%+}Q!jO,5<ZO!)[QlO,5<YOOQO-E<l-E<lOOQ!0Lf7+'Y7+'YOOOW7+'e7+'eOOOW1G1|1G1|O%,YQ`O1G1|OOQ!0Lf1G2O1G2OOOOO,59o,59oO%,_Q!dO,59oOOOO-E<`-E<`OOQ!0Lh1G/X1G/XO%,fQ!0MxO7+'kOOQ!0Lh,5?^,5?^O%-YQMhO1G2fP%-aQ`O'#IrPOQ!0Lh-E<p-E<pO%-}QMjO,5?aOOQ!0Lh-E<s-E<sO%.pQMjO,5?cOOQ!0Lh-E<u-E<uO%.zQ!dO1G2wO%/RQ!dO'#CrO%/iQMhO'#KSO$$wQlO'#JvOOQ!0Lh1G2_1G2_O%/sQ`O'#IqO%0[Q`O,5@vO%0[Q`O,5@vO%0dQ`O,5@vO%0oQ`O,5@vOOQO1G2a1G2aO%0}QMjO1G2`O$+YQ`O'#K[O!,TQMhO1G2`O%1_Q(CWO'#IsO%1lQ`O,5@wO!&zQMhO,5@wO%1tQ!dO,5@wOOQ!0Lh1G2d1G2dO%4UQ!fO'#CiO%4`Q`O,5=POOQ!0Lb,5<},5<}O%4hQpO,5<}OOQ!0Lb,5=O,5=OOCwQ`O,5<}O%4sQpO,5<}OOQ!0Lb,5=R,5=RO$+YQ`O,5=VOOQO,5?`,5?`OOQO-E<r-E<rOOQ!0Lp1G2h1G2hO#$`QpO,5<}O$$wQlO,5=PO%5RQ`O,5=OO%5^QpO,5=OO!,TQMhO'#IuO%6WQMjO1G2sO!,TQMhO'#IwO%6yQMjO1G2uO%7TQMjO1G5qO%7_QMjO1G5qOOQO,5?e,5?eOOQO-E<w-E<wOOQO1G.{1G.{O!,TQMhO1G5qO!,TQMhO1G5qO!:]QpO,59wO%[QlO,59wOOQ!0Lh,5<j,5<jO%7lQ`O1G2ZO!,TQMhO1G2bO%7qQ!0MxO7+'mOOQ!0Lf7+'m7+'mO!$wQlO7+'mO%8eQ`O,5;`OOQ!0Lb,5?g,5?gOOQ!0Lb-E<y-E<yO%8jQ!dO'#K^O#(ZQ`O7+(eO4UQ!fO7+(eO$DfQ`O7+(eO%8tQ!0MvO'#CiO%9XQ!0MvO,5=SO%9lQ`O,5=SO%9tQ`O,5=SOOQ!0Lb1G5o1G5oOOQ[7+$a7+$aO!ByQ!0LrO7+$aO!CUQpO7+$aO!$wQlO7+&aO%9yQ`O'#JQO%:bQ`O,5APOOQO1G3h1G3hO9kQ`O,5APO%:bQ`O,5APO%:jQ`O,5APOOQO,5?m,5?mOOQO-E=P-E=POOQ!0Lf7+'T7+'TO%:oQ`O7+)QO9uQ!0LrO7+)QO9kQ`O7+)QO@zQ`O7+)QO%:tQ`O7+)QOOQ[7+)Q7+)QOOQ[7+(p7+(pO%:yQ!0MvO7+(mO!&zQMhO7+(mO!E^Q`O7+(nOOQ[7+(n7+(nO!&zQMhO7+(nO%;TQ`O'#KbO%;`Q`O,5=lOOQO,5?i,5?iOOQO-E<{-E<{OOQ[7+(s7+(sO%<rQpO'#HZOOQ[1G3`1G3`O!&zQMhO1G3`O%[QlO1G3`O%<yQ`O1G3`O%=UQMhO1G3`O9uQ!0LrO1G3bO$%dQ`O1G3bO9`Q`O1G3bO!CUQpO1G3bO!C^QMhO1G3bO%=dQ`O'#JPO%=xQ`O,5@}O%>QQpO,5@}OOQ!0Lb1G3c1G3cOOQ[7+$V7+$VO@zQ`O7+$VO9uQ!0LrO7+$VO%>]Q`O7+$VO%[QlO1G6lO%[QlO1G6mO%>bQ!0LrO1G6lO%>lQlO1G3kO%>sQ`O1G3kO%>xQlO1G3kOOQ[7+)T7+)TO9uQ!0LrO7+)_O`QlO7+)aOOQ['#Kh'#KhOOQ['#JS'#JSO%?PQlO,5>`OOQ[,5>`,5>`O%[QlO'#HuO%?^Q`O'#HwOOQ[,5>f,5>fO9eQ`O,5>fOOQ[,5>h,5>hOOQ[7+)j7+)jOOQ[7+)p7+)pOOQ[7+)t7+)tOOQ[7+)v7+)vO%?cQpO1G5|O%?}Q?MtO1G0zO%@XQ`O1G0zOOQO1G/s1G/sO%@dQ?MtO1G/sO?YQ`O1G/sO!)[QlO'#DmOOQO,5?P,5?POOQO-E<c-E<cOOQO,5?V,5?VOOQO-E<i-E<iO!CUQpO1G/sOOQO-E<e-E<eOOQ!0Ln1G0]1G0]OOQ!0Lf7+%u7+%uO#(ZQ`O7+%uOOQ!0Lf7+&`7+&`O?YQ`O7+&`O!CUQpO7+&`OOQO7+%x7+%xO$AlQ!0MxO7+&XOOQO7+&X7+&XO%[QlO7+&XO%@nQ!0LrO7+&XO!ByQ!0LrO7+%xO!CUQpO7+%xO%@yQ!0LrO7+&XO%AXQ!0MxO7++rO%[QlO7++rO%AiQ`O7++qO%AiQ`O7++qOOQO1G4s1G4sO9eQ`O1G4sO%AqQ`O1G4sOOQS7+%}7+%}O#(ZQ`O<<LPO4UQ!fO<<LPO%BPQ`O<<LPOOQ[<<LP<<LPO!&zQMhO<<LPO%[QlO<<LPO%BXQ`O<<LPO%BdQ!0MzO,5?aO%DoQ!0MzO,5?cO%FzQ!0MzO1G2`O%I]Q!0MzO1G2sO%KhQ!0MzO1G2uO%MsQ!fO,5?QO%[QlO,5?QOOQO-E<d-E<dO%M}Q`O1G5}OOQ!0Lf<<JU<<JUO%NVQ?MtO1G0uO&!^Q?MtO1G1PO&!eQ?MtO1G1PO&$fQ?MtO1G1PO&$mQ?MtO1G1PO&&nQ?MtO1G1PO&(oQ?MtO1G1PO&(vQ?MtO1G1PO&(}Q?MtO1G1PO&+OQ?MtO1G1PO&+VQ?MtO1G1PO&+^Q!0MxO<<JfO&-UQ?MtO1G1PO&.RQ?MvO1G1PO&/UQ?MvO'#JlO&1[Q?MtO1G1cO&1iQ?MtO1G0UO&1sQMjO,5?TOOQO-E<g-E<gO!)[QlO'#FqOOQO'#KZ'#KZOOQO1G1u1G1uO&1}Q`O1G1tO&2SQ?MtO,5?[OOOW7+'h7+'hOOOO1G/Z1G/ZO&2^Q!dO1G4xOOQ!0Lh7+(Q7+(QP!&zQMhO,5?^O!,TQMhO7+(cO&2eQ`O,5?]O9eQ`O,5?]O$+YQ`O,5?]OOQO-E<o-E<oO&2sQ`O1G6bO&2sQ`O1G6bO&2{Q`O1G6bO&3WQMjO7+'zO&3hQ!dO,5?_O&3rQ`O,5?_O!&zQMhO,5?_OOQO-E<q-E<qO&3wQ!dO1G6cO&4RQ`O1G6cO&4ZQ`O1G2kO!&zQMhO1G2kOOQ!0Lb1G2i1G2iOOQ!0Lb1G2j1G2jO%4hQpO1G2iO!CUQpO1G2iOCwQ`O1G2iOOQ!0Lb1G2q1G2qO&4`QpO1G2iO&4nQ`O1G2kO$+YQ`O1G2jOCwQ`O1G2jO$$wQlO1G2kO&4vQ`O1G2jO&5jQMjO,5?aOOQ!0Lh-E<t-E<tO&6]QMjO,5?cOOQ!0Lh-E<v-E<vO!,TQMhO7++]O&6gQMjO7++]O&6qQMjO7++]OOQ!0Lh1G/c1G/cO&7OQ`O1G/cOOQ!0Lh7+'u7+'uO&7TQMjO7+'|O&7eQ!0MxO<<KXOOQ!0Lf<<KX<<KXO&8XQ`O1G0zO!&zQMhO'#IzO&8^Q`O,5@xO&:`Q!fO<<LPO!&zQMhO1G2nO&:gQ!0LrO1G2nOOQ[<<G{<<G{O!ByQ!0LrO<<G{O&:xQ!0MxO<<I{OOQ!0Lf<<I{<<I{OOQO,5?l,5?lO&;lQ`O,5?lO&;qQ`O,5?lOOQO-E=O-E=OO&<PQ`O1G6kO&<PQ`O1G6kO9kQ`O1G6kO@zQ`O<<LlOOQ[<<Ll<<LlO&<XQ`O<<LlO9uQ!0LrO<<LlO9kQ`O<<LlOOQ[<<LX<<LXO%:yQ!0MvO<<LXOOQ[<<LY<<LYO!E^Q`O<<LYO&<^QpO'#I|O&<iQ`O,5@|O!)[QlO,5@|OOQ[1G3W1G3WOOQO'#JO'#JOO9uQ!0LrO'#JOO&<qQpO,5=uOOQ[,5=u,5=uO&<xQpO'#EgO&=PQpO'#GeO&=UQ`O7+(zO&=ZQ`O7+(zOOQ[7+(z7+(zO!&zQMhO7+(zO%[QlO7+(zO&=cQ`O7+(zOOQ[7+(|7+(|O9uQ!0LrO7+(|O$%dQ`O7+(|O9`Q`O7+(|O!CUQpO7+(|O&=nQ`O,5?kOOQO-E<}-E<}OOQO'#H^'#H^O&=yQ`O1G6iO9uQ!0LrO<<GqOOQ[<<Gq<<GqO@zQ`O<<GqO&>RQ`O7+,WO&>WQ`O7+,XO%[QlO7+,WO%[QlO7+,XOOQ[7+)V7+)VO&>]Q`O7+)VO&>bQlO7+)VO&>iQ`O7+)VOOQ[<<Ly<<LyOOQ[<<L{<<L{OOQ[-E=Q-E=QOOQ[1G3z1G3zO&>nQ`O,5>aOOQ[,5>c,5>cO&>sQ`O1G4QO9eQ`O7+&fO!)[QlO7+&fOOQO7+%_7+%_O&>xQ?MtO1G6ZO?YQ`O7+%_OOQ!0Lf<<Ia<<IaOOQ!0Lf<<Iz<<IzO?YQ`O<<IzOOQO<<Is<<IsO$AlQ!0MxO<<IsO%[QlO<<IsOOQO<<Id<<IdO!ByQ!0LrO<<IdO&?SQ!0LrO<<IsO&?_Q!0MxO<= ^O&?oQ`O<= ]OOQO7+*_7+*_O9eQ`O7+*_OOQ[ANAkANAkO&?wQ!fOANAkO!&zQMhOANAkO#(ZQ`OANAkO4UQ!fOANAkO&@OQ`OANAkO%[QlOANAkO&@WQ!0MzO7+'zO&BiQ!0MzO,5?aO&DtQ!0MzO,5?cO&GPQ!0MzO7+'|O&IbQ!fO1G4lO&IlQ?MtO7+&aO&KpQ?MvO,5=XO&MwQ?MvO,5=ZO&NXQ?MvO,5=XO&NiQ?MvO,5=ZO&NyQ?MvO,59uO'#PQ?MvO,5<kO'%SQ?MvO,5<mO''hQ?MvO,5<{O')^Q?MtO7+'kO')kQ?MtO7+'mO')xQ`O,5<]OOQO7+'`7+'`OOQ!0Lh7+*d7+*dO')}QMjO<<K}OOQO1G4w1G4wO'*UQ`O1G4wO'*aQ`O1G4wO'*oQ`O7++|O'*oQ`O7++|O!&zQMhO1G4yO'*wQ!dO1G4yO'+RQ`O7++}O'+ZQ`O7+(VO'+fQ!dO7+(VOOQ!0Lb7+(T7+(TOOQ!0Lb7+(U7+(UO!CUQpO7+(TOCwQ`O7+(TO'+pQ`O7+(VO!&zQMhO7+(VO$+YQ`O7+(UO'+uQ`O7+(VOCwQ`O7+(UO'+}QMjO<<NwO!,TQMhO<<NwOOQ!0Lh7+$}7+$}O',XQ!dO,5?fOOQO-E<x-E<xO',cQ!0MvO7+(YO!&zQMhO7+(YOOQ[AN=gAN=gO9kQ`O1G5WOOQO1G5W1G5WO',sQ`O1G5WO',xQ`O7+,VO',xQ`O7+,VO9uQ!0LrOANBWO@zQ`OANBWOOQ[ANBWANBWO'-QQ`OANBWOOQ[ANAsANAsOOQ[ANAtANAtO'-VQ`O,5?hOOQO-E<z-E<zO'-bQ?MtO1G6hOOQO,5?j,5?jOOQO-E<|-E<|OOQ[1G3a1G3aO'-lQ`O,5=POOQ[<<Lf<<LfO!&zQMhO<<LfO&=UQ`O<<LfO'-qQ`O<<LfO%[QlO<<LfOOQ[<<Lh<<LhO9uQ!0LrO<<LhO$%dQ`O<<LhO9`Q`O<<LhO'-yQpO1G5VO'.UQ`O7+,TOOQ[AN=]AN=]O9uQ!0LrOAN=]OOQ[<= r<= rOOQ[<= s<= sO'.^Q`O<= rO'.cQ`O<= sOOQ[<<Lq<<LqO'.hQ`O<<LqO'.mQlO<<LqOOQ[1G3{1G3{O?YQ`O7+)lO'.tQ`O<<JQO'/PQ?MtO<<JQOOQO<<Hy<<HyOOQ!0LfAN?fAN?fOOQOAN?_AN?_O$AlQ!0MxOAN?_OOQOAN?OAN?OO%[QlOAN?_OOQO<<My<<MyOOQ[G27VG27VO!&zQMhOG27VO#(ZQ`OG27VO'/ZQ!fOG27VO4UQ!fOG27VO'/bQ`OG27VO'/jQ?MtO<<JfO'/wQ?MvO1G2`O'1mQ?MvO,5?aO'3pQ?MvO,5?cO'5sQ?MvO1G2sO'7vQ?MvO1G2uO'9yQ?MtO<<KXO':WQ?MtO<<I{OOQO1G1w1G1wO!,TQMhOANAiOOQO7+*c7+*cO':eQ`O7+*cO':pQ`O<= hO':xQ!dO7+*eOOQ!0Lb<<Kq<<KqO$+YQ`O<<KqOCwQ`O<<KqO';SQ`O<<KqO!&zQMhO<<KqOOQ!0Lb<<Ko<<KoO!CUQpO<<KoO';_Q!dO<<KqOOQ!0Lb<<Kp<<KpO';iQ`O<<KqO!&zQMhO<<KqO$+YQ`O<<KpO';nQMjOANDcO';xQ!0MvO<<KtOOQO7+*r7+*rO9kQ`O7+*rO'<YQ`O<= qOOQ[G27rG27rO9uQ!0LrOG27rO@zQ`OG27rO!)[QlO1G5SO'<bQ`O7+,SO'<jQ`O1G2kO&=UQ`OANBQOOQ[ANBQANBQO!&zQMhOANBQO'<oQ`OANBQOOQ[ANBSANBSO9uQ!0LrOANBSO$%dQ`OANBSOOQO'#H_'#H_OOQO7+*q7+*qOOQ[G22wG22wOOQ[ANE^ANE^OOQ[ANE_ANE_OOQ[ANB]ANB]O'<wQ`OANB]OOQ[<<MW<<MWO!)[QlOAN?lOOQOG24yG24yO$AlQ!0MxOG24yO#(ZQ`OLD,qOOQ[LD,qLD,qO!&zQMhOLD,qO'<|Q!fOLD,qO'=TQ?MvO7+'zO'>yQ?MvO,5?aO'@|Q?MvO,5?cO'CPQ?MvO7+'|O'DuQMjOG27TOOQO<<M}<<M}OOQ!0LbANA]ANA]O$+YQ`OANA]OCwQ`OANA]O'EVQ!dOANA]OOQ!0LbANAZANAZO'E^Q`OANA]O!&zQMhOANA]O'EiQ!dOANA]OOQ!0LbANA[ANA[OOQO<<N^<<N^OOQ[LD-^LD-^O9uQ!0LrOLD-^O'EsQ?MtO7+*nOOQO'#Gf'#GfOOQ[G27lG27lO&=UQ`OG27lO!&zQMhOG27lOOQ[G27nG27nO9uQ!0LrOG27nOOQ[G27wG27wO'E}Q?MtOG25WOOQOLD*eLD*eOOQ[!$(!]!$(!]O#(ZQ`O!$(!]O!&zQMhO!$(!]O'FXQ!0MzOG27TOOQ!0LbG26wG26wO$+YQ`OG26wO'HjQ`OG26wOCwQ`OG26wO'HuQ!dOG26wO!&zQMhOG26wOOQ[!$(!x!$(!xOOQ[LD-WLD-WO&=UQ`OLD-WOOQ[LD-YLD-YOOQ[!)9Ew!)9EwO#(ZQ`O!)9EwOOQ!0LbLD,cLD,cO$+YQ`OLD,cOCwQ`OLD,cO'H|Q`OLD,cO'IXQ!dOLD,cOOQ[!$(!r!$(!rOOQ[!.K;c!.K;cO'I`Q?MvOG27TOOQ!0Lb!$( }!$( }O$+YQ`O!$( }OCwQ`O!$( }O'KUQ`O!$( }OOQ!0Lb!)9Ei!)9EiO$+YQ`O!)9EiOCwQ`O!)9EiOOQ!0Lb!.K;T!.K;TO$+YQ`O!.K;TOOQ!0Lb!4/0o!4/0oO!)[QlO'#DzO1PQ`O'#EXO'KaQ!fO'#JrO'KhQ!L^O'#DvO'KoQlO'#EOO'KvQ!fO'#CiO'N^Q!fO'#CiO!)[QlO'#EQO'NnQlO,5;ZO!)[QlO,5;eO!)[QlO,5;eO!)[QlO,5;eO!)[QlO,5;eO!)[QlO,5;eO!)[QlO,5;eO!)[QlO,5;eO!)[QlO,5;eO!)[QlO,5;eO!)[QlO,5;eO!)[QlO'#IpO(!qQ`O,5<iO!)[QlO,5;eO(!yQMhO,5;eO($dQMhO,5;eO!)[QlO,5;wO!&zQMhO'#GmO(!yQMhO'#GmO!&zQMhO'#GoO(!yQMhO'#GoO1SQ`O'#DZO1SQ`O'#DZO!&zQMhO'#GPO(!yQMhO'#GPO!&zQMhO'#GRO(!yQMhO'#GRO!&zQMhO'#GaO(!yQMhO'#GaO!)[QlO,5:jO($kQpO'#D_O($uQpO'#JvO!)[QlO,5@oO'NnQlO1G0uO(%PQ?MtO'#CiO!)[QlO1G2PO!&zQMhO'#IuO(!yQMhO'#IuO!&zQMhO'#IwO(!yQMhO'#IwO(%ZQ!dO'#CrO!&zQMhO,5<tO(!yQMhO,5<tO'NnQlO1G2RO!)[QlO7+&zO!&zQMhO1G2`O(!yQMhO1G2`O!&zQMhO'#IuO(!yQMhO'#IuO!&zQMhO'#IwO(!yQMhO'#IwO!&zQMhO1G2bO(!yQMhO1G2bO'NnQlO7+'mO'NnQlO7+&aO!&zQMhOANAiO(!yQMhOANAiO(%nQ`O'#EoO(%sQ`O'#EoO(%{Q`O'#F]O(&QQ`O'#EyO(&VQ`O'#KTO(&bQ`O'#KRO(&mQ`O,5;ZO(&rQMjO,5<eO(&yQ`O'#GYO('OQ`O'#GYO('TQ`O,5<eO(']Q`O,5<gO('eQ`O,5;ZO('mQ?MtO1G1`O('tQ`O,5<tO('yQ`O,5<tO((OQ`O,5<vO((TQ`O,5<vO((YQ`O1G2RO((_Q`O1G0uO((dQMjO<<K}O((kQMjO<<K}O((rQMhO'#F|O9`Q`O'#F{OAuQ`O'#EnO!)[QlO,5;tO!3oQ`O'#GYO!3oQ`O'#GYO!3oQ`O'#G[O!3oQ`O'#G[O!,TQMhO7+(cO!,TQMhO7+(cO%.zQ!dO1G2wO%.zQ!dO1G2wO!&zQMhO,5=]O!&zQMhO,5=]",stateData:"()x~O'|OS'}OSTOS(ORQ~OPYOQYOSfOY!VOaqOdzOeyOl!POpkOrYOskOtkOzkO|YO!OYO!SWO!WkO!XkO!_XO!iuO!lZO!oYO!pYO!qYO!svO!uwO!xxO!|]O$W|O$niO%h}O%j!QO%l!OO%m!OO%n!OO%q!RO%s!SO%v!TO%w!TO%y!UO&W!WO&^!XO&`!YO&b!ZO&d![O&g!]O&m!^O&s!_O&u!`O&w!aO&y!bO&{!cO(TSO(VTO(YUO(aVO(o[O~OWtO~P`OPYOQYOSfOd!jOe!iOpkOrYOskOtkOzkO|YO!OYO!SWO!WkO!XkO!_!eO!iuO!lZO!oYO!pYO!qYO!svO!u!gO!x!hO$W!kO$niO(T!dO(VTO(YUO(aVO(o[O~Oa!wOs!nO!S!oO!b!yO!c!vO!d!vO!|<VO#T!pO#U!pO#V!xO#W!pO#X!pO#[!zO#]!zO(U!lO(VTO(YUO(e!mO(o!sO~O(O!{O~OP]XR]X[]Xa]Xj]Xr]X!Q]X!S]X!]]X!l]X!p]X#R]X#S]X#`]X#kfX#n]X#o]X#p]X#q]X#r]X#s]X#t]X#u]X#v]X#x]X#z]X#{]X$Q]X'z]X(a]X(r]X(y]X(z]X~O!g%RX~P(qO_!}O(V#PO(W!}O(X#PO~O_#QO(X#PO(Y#PO(Z#QO~Ox#SO!U#TO(b#TO(c#VO~OPYOQYOSfOd!jOe!iOpkOrYOskOtkOzkO|YO!OYO!SWO!WkO!XkO!_!eO!iuO!lZO!oYO!pYO!qYO!svO!u!gO!x!hO$W!kO$niO(T<ZO(VTO(YUO(aVO(o[O~O![#ZO!]#WO!Y(hP!Y(vP~P+}O!^#cO~P`OPYOQYOSfOd!jOe!iOrYOskOtkOzkO|YO!OYO!SWO!WkO!XkO!_!eO!iuO!lZO!oYO!pYO!qYO!svO!u!gO!x!hO$W!kO$niO(VTO(YUO(aVO(o[O~Op#mO![#iO!|]O#i#lO#j#iO(T<[O!k(sP~P.iO!l#oO(T#nO~O!x#sO!|]O%h#tO~O#k#uO~O!g#vO#k#uO~OP$[OR#zO[$cOj$ROr$aO!Q#yO!S#{O!]$_O!l#xO!p$[O#R$RO#n$OO#o$PO#p$PO#q$PO#r$QO#s$RO#t$RO#u$bO#v$SO#x$UO#z$WO#{$XO(aVO(r$YO(y#|O(z#}O~Oa(fX'z(fX'w(fX!k(fX!Y(fX!_(fX%i(fX!g(fX~P1qO#S$dO#`$eO$Q$eOP(gXR(gX[(gXj(gXr(gX!Q(gX!S(gX!](gX!l(gX!p(gX#R(gX#n(gX#o(gX#p(gX#q(gX#r(gX#s(gX#t(gX#u(gX#v(gX#x(gX#z(gX#{(gX(a(gX(r(gX(y(gX(z(gX!_(gX%i(gX~Oa(gX'z(gX'w(gX!Y(gX!k(gXv(gX!g(gX~P4UO#`$eO~O$]$hO$_$gO$f$mO~OSfO!_$nO$i$oO$k$qO~Oh%VOj%dOk%dOp%WOr%XOs$tOt$tOz%YO|%ZO!O%]O!S${O!_$|O!i%bO!l$xO#j%cO$W%`O$t%^O$v%_O$y%aO(T$sO(VTO(YUO(a$uO(y$}O(z%POg(^P~Ol%[O~P7eO!l%eO~O!S%hO!_%iO(T%gO~O!g%mO~Oa%nO'z%nO~O!Q%rO~P%[O(U!lO~P%[O%n%vO~P%[Oh%VO!l%eO(T%gO(U!lO~Oe%}O!l%eO(T%gO~Oj$RO~O!_&PO(T%gO(U!lO(VTO(YUO`)WP~O!Q&SO!l&RO%j&VO&T&WO~P;SO!x#sO~O%s&YO!S)SX!_)SX(T)SX~O(T&ZO~Ol!PO!u&`O%j!QO%l!OO%m!OO%n!OO%q!RO%s!SO%v!TO%w!TO~Od&eOe&dO!x&bO%h&cO%{&aO~P<bOd&hOeyOl!PO!_&gO!u&`O!xxO!|]O%h}O%l!OO%m!OO%n!OO%q!RO%s!SO%v!TO%w!TO%y!UO~Ob&kO#`&nO%j&iO(U!lO~P=gO!l&oO!u&sO~O!l#oO~O!_XO~Oa%nO'x&{O'z%nO~Oa%nO'x'OO'z%nO~Oa%nO'x'QO'z%nO~O'w]X!Y]Xv]X!k]X&[]X!_]X%i]X!g]X~P(qO!b'_O!c'WO!d'WO(U!lO(VTO(YUO~Os'UO!S'TO!['XO(e'SO!^(iP!^(xP~P@nOn'bO!_'`O(T%gO~Oe'gO!l%eO(T%gO~O!Q&SO!l&RO~Os!nO!S!oO!|<VO#T!pO#U!pO#W!pO#X!pO(U!lO(VTO(YUO(e!mO(o!sO~O!b'mO!c'lO!d'lO#V!pO#['nO#]'nO~PBYOa%nOh%VO!g#vO!l%eO'z%nO(r'pO~O!p'tO#`'rO~PChOs!nO!S!oO(VTO(YUO(e!mO(o!sO~O!_XOs(mX!S(mX!b(mX!c(mX!d(mX!|(mX#T(mX#U(mX#V(mX#W(mX#X(mX#[(mX#](mX(U(mX(V(mX(Y(mX(e(mX(o(mX~O!c'lO!d'lO(U!lO~PDWO(P'xO(Q'xO(R'zO~O_!}O(V'|O(W!}O(X'|O~O_#QO(X'|O(Y'|O(Z#QO~Ov(OO~P%[Ox#SO!U#TO(b#TO(c(RO~O![(TO!Y'WX!Y'^X!]'WX!]'^X~P+}O!](VO!Y(hX~OP$[OR#zO[$cOj$ROr$aO!Q#yO!S#{O!](VO!l#xO!p$[O#R$RO#n$OO#o$PO#p$PO#q$PO#r$QO#s$RO#t$RO#u$bO#v$SO#x$UO#z$WO#{$XO(aVO(r$YO(y#|O(z#}O~O!Y(hX~PHRO!Y([O~O!Y(uX!](uX!g(uX!k(uX(r(uX~O#`(uX#k#dX!^(uX~PJUO#`(]O!Y(wX!](wX~O!](^O!Y(vX~O!Y(aO~O#`$eO~PJUO!^(bO~P`OR#zO!Q#yO!S#{O!l#xO(aVOP!na[!naj!nar!na!]!na!p!na#R!na#n!na#o!na#p!na#q!na#r!na#s!na#t!na#u!na#v!na#x!na#z!na#{!na(r!na(y!na(z!na~Oa!na'z!na'w!na!Y!na!k!nav!na!_!na%i!na!g!na~PKlO!k(cO~O!g#vO#`(dO(r'pO!](tXa(tX'z(tX~O!k(tX~PNXO!S%hO!_%iO!|]O#i(iO#j(hO(T%gO~O!](jO!k(sX~O!k(lO~O!S%hO!_%iO#j(hO(T%gO~OP(gXR(gX[(gXj(gXr(gX!Q(gX!S(gX!](gX!l(gX!p(gX#R(gX#n(gX#o(gX#p(gX#q(gX#r(gX#s(gX#t(gX#u(gX#v(gX#x(gX#z(gX#{(gX(a(gX(r(gX(y(gX(z(gX~O!g#vO!k(gX~P! uOR(nO!Q(mO!l#xO#S$dO!|!{a!S!{a~O!x!{a%h!{a!_!{a#i!{a#j!{a(T!{a~P!#vO!x(rO~OPYOQYOSfOd!jOe!iOpkOrYOskOtkOzkO|YO!OYO!SWO!WkO!XkO!_XO!iuO!lZO!oYO!pYO!qYO!svO!u!gO!x!hO$W!kO$niO(T!dO(VTO(YUO(aVO(o[O~Oh%VOp%WOr%XOs$tOt$tOz%YO|%ZO!O<sO!S${O!_$|O!i>VO!l$xO#j<yO$W%`O$t<uO$v<wO$y%aO(T(vO(VTO(YUO(a$uO(y$}O(z%PO~O#k(xO~O![(zO!k(kP~P%[O(e(|O(o[O~O!S)OO!l#xO(e(|O(o[O~OP<UOQ<UOSfOd>ROe!iOpkOr<UOskOtkOzkO|<UO!O<UO!SWO!WkO!XkO!_!eO!i<XO!lZO!o<UO!p<UO!q<UO!s<YO!u<]O!x!hO$W!kO$n>PO(T)]O(VTO(YUO(aVO(o[O~O!]$_Oa$qa'z$qa'w$qa!k$qa!Y$qa!_$qa%i$qa!g$qa~Ol)dO~P!&zOh%VOp%WOr%XOs$tOt$tOz%YO|%ZO!O%]O!S${O!_$|O!i%bO!l$xO#j%cO$W%`O$t%^O$v%_O$y%aO(T(vO(VTO(YUO(a$uO(y$}O(z%PO~Og(pP~P!,TO!Q)iO!g)hO!_$^X$Z$^X$]$^X$_$^X$f$^X~O!g)hO!_({X$Z({X$]({X$_({X$f({X~O!Q)iO~P!.^O!Q)iO!_({X$Z({X$]({X$_({X$f({X~O!_)kO$Z)oO$])jO$_)jO$f)pO~O![)sO~P!)[O$]$hO$_$gO$f)wO~On$zX!Q$zX#S$zX'y$zX(y$zX(z$zX~OgmXg$zXnmX!]mX#`mX~P!0SOx)yO(b)zO(c)|O~On*VO!Q*OO'y*PO(y$}O(z%PO~Og)}O~P!1WOg*WO~Oh%VOr%XOs$tOt$tOz%YO|%ZO!O<sO!S*YO!_*ZO!i>VO!l$xO#j<yO$W%`O$t<uO$v<wO$y%aO(VTO(YUO(a$uO(y$}O(z%PO~Op*`O![*^O(T*XO!k)OP~P!1uO#k*aO~O!l*bO~Oh%VOp%WOr%XOs$tOt$tOz%YO|%ZO!O<sO!S${O!_$|O!i>VO!l$xO#j<yO$W%`O$t<uO$v<wO$y%aO(T*dO(VTO(YUO(a$uO(y$}O(z%PO~O![*gO!Y)PP~P!3tOr*sOs!nO!S*iO!b*qO!c*kO!d*kO!l*bO#[*rO%`*mO(U!lO(VTO(YUO(e!mO~O!^*pO~P!5iO#S$dOn(`X!Q(`X'y(`X(y(`X(z(`X!](`X#`(`X~Og(`X$O(`X~P!6kOn*xO#`*wOg(_X!](_X~O!]*yOg(^X~Oj%dOk%dOl%dO(T&ZOg(^P~Os*|O~Og)}O(T&ZO~O!l+SO~O(T(vO~Op+WO!S%hO![#iO!_%iO!|]O#i#lO#j#iO(T%gO!k(sP~O!g#vO#k+XO~O!S%hO![+ZO!](^O!_%iO(T%gO!Y(vP~Os'[O!S+]O![+[O(VTO(YUO(e(|O~O!^(xP~P!9|O!]+^Oa)TX'z)TX~OP$[OR#zO[$cOj$ROr$aO!Q#yO!S#{O!l#xO!p$[O#R$RO#n$OO#o$PO#p$PO#q$PO#r$QO#s$RO#t$RO#u$bO#v$SO#x$UO#z$WO#{$XO(aVO(r$YO(y#|O(z#}O~Oa!ja!]!ja'z!ja'w!ja!Y!ja!k!jav!ja!_!ja%i!ja!g!ja~P!:tOR#zO!Q#yO!S#{O!l#xO(aVOP!ra[!raj!rar!ra!]!ra!p!ra#R!ra#n!ra#o!ra#p!ra#q!ra#r!ra#s!ra#t!ra#u!ra#v!ra#x!ra#z!ra#{!ra(r!ra(y!ra(z!ra~Oa!ra'z!ra'w!ra!Y!ra!k!rav!ra!_!ra%i!ra!g!ra~P!=[OR#zO!Q#yO!S#{O!l#xO(aVOP!ta[!taj!tar!ta!]!ta!p!ta#R!ta#n!ta#o!ta#p!ta#q!ta#r!ta#s!ta#t!ta#u!ta#v!ta#x!ta#z!ta#{!ta(r!ta(y!ta(z!ta~Oa!ta'z!ta'w!ta!Y!ta!k!tav!ta!_!ta%i!ta!g!ta~P!?rOh%VOn+gO!_'`O%i+fO~O!g+iOa(]X!_(]X'z(]X!](]X~Oa%nO!_XO'z%nO~Oh%VO!l%eO~Oh%VO!l%eO(T%gO~O!g#vO#k(xO~Ob+tO%j+uO(T+qO(VTO(YUO!^)XP~O!]+vO`)WX~O[+zO~O`+{O~O!_&PO(T%gO(U!lO`)WP~O%j,OO~P;SOh%VO#`,SO~Oh%VOn,VO!_$|O~O!_,XO~O!Q,ZO!_XO~O%n%vO~O!x,`O~Oe,eO~Ob,fO(T#nO(VTO(YUO!^)VP~Oe%}O~O%j!QO(T&ZO~P=gO[,kO`,jO~OPYOQYOSfOdzOeyOpkOrYOskOtkOzkO|YO!OYO!SWO!WkO!XkO!iuO!lZO!oYO!pYO!qYO!svO!xxO!|]O$niO%h}O(VTO(YUO(aVO(o[O~O!_!eO!u!gO$W!kO(T!dO~P!FyO`,jOa%nO'z%nO~OPYOQYOSfOd!jOe!iOpkOrYOskOtkOzkO|YO!OYO!SWO!WkO!XkO!_!eO!iuO!lZO!oYO!pYO!qYO!svO!x!hO$W!kO$niO(T!dO(VTO(YUO(aVO(o[O~Oa,pOl!OO!uwO%l!OO%m!OO%n!OO~P!IcO!l&oO~O&^,vO~O!_,xO~O&o,zO&q,{OP&laQ&laS&laY&laa&lad&lae&lal&lap&lar&las&lat&laz&la|&la!O&la!S&la!W&la!X&la!_&la!i&la!l&la!o&la!p&la!q&la!s&la!u&la!x&la!|&la$W&la$n&la%h&la%j&la%l&la%m&la%n&la%q&la%s&la%v&la%w&la%y&la&W&la&^&la&`&la&b&la&d&la&g&la&m&la&s&la&u&la&w&la&y&la&{&la'w&la(T&la(V&la(Y&la(a&la(o&la!^&la&e&lab&la&j&la~O(T-QO~Oh!eX!]!RX!^!RX!g!RX!g!eX!l!eX#`!RX~O!]!eX!^!eX~P#!iO!g-VO#`-UOh(jX!]#hX!^#hX!g(jX!l(jX~O!](jX!^(jX~P##[Oh%VO!g-XO!l%eO!]!aX!^!aX~Os!nO!S!oO(VTO(YUO(e!mO~OP<UOQ<UOSfOd>ROe!iOpkOr<UOskOtkOzkO|<UO!O<UO!SWO!WkO!XkO!_!eO!i<XO!lZO!o<UO!p<UO!q<UO!s<YO!u<]O!x!hO$W!kO$n>PO(VTO(YUO(aVO(o[O~O(T=QO~P#$qO!]-]O!^(iX~O!^-_O~O!g-VO#`-UO!]#hX!^#hX~O!]-`O!^(xX~O!^-bO~O!c-cO!d-cO(U!lO~P#$`O!^-fO~P'_On-iO!_'`O~O!Y-nO~Os!{a!b!{a!c!{a!d!{a#T!{a#U!{a#V!{a#W!{a#X!{a#[!{a#]!{a(U!{a(V!{a(Y!{a(e!{a(o!{a~P!#vO!p-sO#`-qO~PChO!c-uO!d-uO(U!lO~PDWOa%nO#`-qO'z%nO~Oa%nO!g#vO#`-qO'z%nO~Oa%nO!g#vO!p-sO#`-qO'z%nO(r'pO~O(P'xO(Q'xO(R-zO~Ov-{O~O!Y'Wa!]'Wa~P!:tO![.PO!Y'WX!]'WX~P%[O!](VO!Y(ha~O!Y(ha~PHRO!](^O!Y(va~O!S%hO![.TO!_%iO(T%gO!Y'^X!]'^X~O#`.VO!](ta!k(taa(ta'z(ta~O!g#vO~P#,wO!](jO!k(sa~O!S%hO!_%iO#j.ZO(T%gO~Op.`O!S%hO![.]O!_%iO!|]O#i._O#j.]O(T%gO!]'aX!k'aX~OR.dO!l#xO~Oh%VOn.gO!_'`O%i.fO~Oa#ci!]#ci'z#ci'w#ci!Y#ci!k#civ#ci!_#ci%i#ci!g#ci~P!:tOn>]O!Q*OO'y*PO(y$}O(z%PO~O#k#_aa#_a#`#_a'z#_a!]#_a!k#_a!_#_a!Y#_a~P#/sO#k(`XP(`XR(`X[(`Xa(`Xj(`Xr(`X!S(`X!l(`X!p(`X#R(`X#n(`X#o(`X#p(`X#q(`X#r(`X#s(`X#t(`X#u(`X#v(`X#x(`X#z(`X#{(`X'z(`X(a(`X(r(`X!k(`X!Y(`X'w(`Xv(`X!_(`X%i(`X!g(`X~P!6kO!].tO!k(kX~P!:tO!k.wO~O!Y.yO~OP$[OR#zO!Q#yO!S#{O!l#xO!p$[O(aVO[#mia#mij#mir#mi!]#mi#R#mi#o#mi#p#mi#q#mi#r#mi#s#mi#t#mi#u#mi#v#mi#x#mi#z#mi#{#mi'z#mi(r#mi(y#mi(z#mi'w#mi!Y#mi!k#miv#mi!_#mi%i#mi!g#mi~O#n#mi~P#3cO#n$OO~P#3cOP$[OR#zOr$aO!Q#yO!S#{O!l#xO!p$[O#n$OO#o$PO#p$PO#q$PO(aVO[#mia#mij#mi!]#mi#R#mi#s#mi#t#mi#u#mi#v#mi#x#mi#z#mi#{#mi'z#mi(r#mi(y#mi(z#mi'w#mi!Y#mi!k#miv#mi!_#mi%i#mi!g#mi~O#r#mi~P#6QO#r$QO~P#6QOP$[OR#zO[$cOj$ROr$aO!Q#yO!S#{O!l#xO!p$[O#R$RO#n$OO#o$PO#p$PO#q$PO#r$QO#s$RO#t$RO#u$bO(aVOa#mi!]#mi#x#mi#z#mi#{#mi'z#mi(r#mi(y#mi(z#mi'w#mi!Y#mi!k#miv#mi!_#mi%i#mi!g#mi~O#v#mi~P#8oOP$[OR#zO[$cOj$ROr$aO!Q#yO!S#{O!l#xO!p$[O#R$RO#n$OO#o$PO#p$PO#q$PO#r$QO#s$RO#t$RO#u$bO#v$SO(aVO(z#}Oa#mi!]#mi#z#mi#{#mi'z#mi(r#mi(y#mi'w#mi!Y#mi!k#miv#mi!_#mi%i#mi!g#mi~O#x$UO~P#;VO#x#mi~P#;VO#v$SO~P#8oOP$[OR#zO[$cOj$ROr$aO!Q#yO!S#{O!l#xO!p$[O#R$RO#n$OO#o$PO#p$PO#q$PO#r$QO#s$RO#t$RO#u$bO#v$SO#x$UO(aVO(y#|O(z#}Oa#mi!]#mi#{#mi'z#mi(r#mi'w#mi!Y#mi!k#miv#mi!_#mi%i#mi!g#mi~O#z#mi~P#={O#z$WO~P#={OP]XR]X[]Xj]Xr]X!Q]X!S]X!l]X!p]X#R]X#S]X#`]X#kfX#n]X#o]X#p]X#q]X#r]X#s]X#t]X#u]X#v]X#x]X#z]X#{]X$Q]X(a]X(r]X(y]X(z]X!]]X!^]X~O$O]X~P#@jOP$[OR#zO[<mOj<bOr<kO!Q#yO!S#{O!l#xO!p$[O#R<bO#n<_O#o<`O#p<`O#q<`O#r<aO#s<bO#t<bO#u<lO#v<cO#x<eO#z<gO#{<hO(aVO(r$YO(y#|O(z#}O~O$O.{O~P#BwO#S$dO#`<nO$Q<nO$O(gX!^(gX~P! uOa'da!]'da'z'da'w'da!k'da!Y'dav'da!_'da%i'da!g'da~P!:tO[#mia#mij#mir#mi!]#mi#R#mi#r#mi#s#mi#t#mi#u#mi#v#mi#x#mi#z#mi#{#mi'z#mi(r#mi'w#mi!Y#mi!k#miv#mi!_#mi%i#mi!g#mi~OP$[OR#zO!Q#yO!S#{O!l#xO!p$[O#n$OO#o$PO#p$PO#q$PO(aVO(y#mi(z#mi~P#EyOn>]O!Q*OO'y*PO(y$}O(z%POP#miR#mi!S#mi!l#mi!p#mi#n#mi#o#mi#p#mi#q#mi(a#mi~P#EyO!]/POg(pX~P!1WOg/RO~Oa$Pi!]$Pi'z$Pi'w$Pi!Y$Pi!k$Piv$Pi!_$Pi%i$Pi!g$Pi~P!:tO$]/SO$_/SO~O$]/TO$_/TO~O!g)hO#`/UO!_$cX$Z$cX$]$cX$_$cX$f$cX~O![/VO~O!_)kO$Z/XO$])jO$_)jO$f/YO~O!]<iO!^(fX~P#BwO!^/ZO~O!g)hO$f({X~O$f/]O~Ov/^O~P!&zOx)yO(b)zO(c/aO~O!S/dO~O(y$}On%aa!Q%aa'y%aa(z%aa!]%aa#`%aa~Og%aa$O%aa~P#L{O(z%POn%ca!Q%ca'y%ca(y%ca!]%ca#`%ca~Og%ca$O%ca~P#MnO!]fX!gfX!kfX!k$zX(rfX~P!0SOp%WO![/mO!](^O(T/lO!Y(vP!Y)PP~P!1uOr*sO!b*qO!c*kO!d*kO!l*bO#[*rO%`*mO(U!lO(VTO(YUO~Os<}O!S/nO![+[O!^*pO(e<|O!^(xP~P$ [O!k/oO~P#/sO!]/pO!g#vO(r'pO!k)OX~O!k/uO~OnoX!QoX'yoX(yoX(zoX~O!g#vO!koX~P$#OOp/wO!S%hO![*^O!_%iO(T%gO!k)OP~O#k/xO~O!Y$zX!]$zX!g%RX~P!0SO!]/yO!Y)PX~P#/sO!g/{O~O!Y/}O~OpkO(T0OO~P.iOh%VOr0TO!g#vO!l%eO(r'pO~O!g+iO~Oa%nO!]0XO'z%nO~O!^0ZO~P!5iO!c0[O!d0[O(U!lO~P#$`Os!nO!S0]O(VTO(YUO(e!mO~O#[0_O~Og%aa!]%aa#`%aa$O%aa~P!1WOg%ca!]%ca#`%ca$O%ca~P!1WOj%dOk%dOl%dO(T&ZOg'mX!]'mX~O!]*yOg(^a~Og0hO~On0jO#`0iOg(_a!](_a~OR0kO!Q0kO!S0lO#S$dOn}a'y}a(y}a(z}a!]}a#`}a~Og}a$O}a~P$(cO!Q*OO'y*POn$sa(y$sa(z$sa!]$sa#`$sa~Og$sa$O$sa~P$)_O!Q*OO'y*POn$ua(y$ua(z$ua!]$ua#`$ua~Og$ua$O$ua~P$*QO#k0oO~Og%Ta!]%Ta#`%Ta$O%Ta~P!1WO!g#vO~O#k0rO~O!]+^Oa)Ta'z)Ta~OR#zO!Q#yO!S#{O!l#xO(aVOP!ri[!rij!rir!ri!]!ri!p!ri#R!ri#n!ri#o!ri#p!ri#q!ri#r!ri#s!ri#t!ri#u!ri#v!ri#x!ri#z!ri#{!ri(r!ri(y!ri(z!ri~Oa!ri'z!ri'w!ri!Y!ri!k!riv!ri!_!ri%i!ri!g!ri~P$+oOh%VOr%XOs$tOt$tOz%YO|%ZO!O<sO!S${O!_$|O!i>VO!l$xO#j<yO$W%`O$t<uO$v<wO$y%aO(VTO(YUO(a$uO(y$}O(z%PO~Op0{O%]0|O(T0zO~P$.VO!g+iOa(]a!_(]a'z(]a!](]a~O#k1SO~O[]X!]fX!^fX~O!]1TO!^)XX~O!^1VO~O[1WO~Ob1YO(T+qO(VTO(YUO~O!_&PO(T%gO`'uX!]'uX~O!]+vO`)Wa~O!k1]O~P!:tO[1`O~O`1aO~O#`1fO~On1iO!_$|O~O(e(|O!^)UP~Oh%VOn1rO!_1oO%i1qO~O[1|O!]1zO!^)VX~O!^1}O~O`2POa%nO'z%nO~O(T#nO(VTO(YUO~O#S$dO#`$eO$Q$eOP(gXR(gX[(gXr(gX!Q(gX!S(gX!](gX!l(gX!p(gX#R(gX#n(gX#o(gX#p(gX#q(gX#r(gX#s(gX#t(gX#u(gX#v(gX#x(gX#z(gX#{(gX(a(gX(r(gX(y(gX(z(gX~Oj2SO&[2TOa(gX~P$3pOj2SO#`$eO&[2TO~Oa2VO~P%[Oa2XO~O&e2[OP&ciQ&ciS&ciY&cia&cid&cie&cil&cip&cir&cis&cit&ciz&ci|&ci!O&ci!S&ci!W&ci!X&ci!_&ci!i&ci!l&ci!o&ci!p&ci!q&ci!s&ci!u&ci!x&ci!|&ci$W&ci$n&ci%h&ci%j&ci%l&ci%m&ci%n&ci%q&ci%s&ci%v&ci%w&ci%y&ci&W&ci&^&ci&`&ci&b&ci&d&ci&g&ci&m&ci&s&ci&u&ci&w&ci&y&ci&{&ci'w&ci(T&ci(V&ci(Y&ci(a&ci(o&ci!^&cib&ci&j&ci~Ob2bO!^2`O&j2aO~P`O!_XO!l2dO~O&q,{OP&liQ&liS&liY&lia&lid&lie&lil&lip&lir&lis&lit&liz&li|&li!O&li!S&li!W&li!X&li!_&li!i&li!l&li!o&li!p&li!q&li!s&li!u&li!x&li!|&li$W&li$n&li%h&li%j&li%l&li%m&li%n&li%q&li%s&li%v&li%w&li%y&li&W&li&^&li&`&li&b&li&d&li&g&li&m&li&s&li&u&li&w&li&y&li&{&li'w&li(T&li(V&li(Y&li(a&li(o&li!^&li&e&lib&li&j&li~O!Y2jO~O!]!aa!^!aa~P#BwOs!nO!S!oO![2pO(e!mO!]'XX!^'XX~P@nO!]-]O!^(ia~O!]'_X!^'_X~P!9|O!]-`O!^(xa~O!^2wO~P'_Oa%nO#`3QO'z%nO~Oa%nO!g#vO#`3QO'z%nO~Oa%nO!g#vO!p3UO#`3QO'z%nO(r'pO~Oa%nO'z%nO~P!:tO!]$_Ov$qa~O!Y'Wi!]'Wi~P!:tO!](VO!Y(hi~O!](^O!Y(vi~O!Y(wi!](wi~P!:tO!](ti!k(tia(ti'z(ti~P!:tO#`3WO!](ti!k(tia(ti'z(ti~O!](jO!k(si~O!S%hO!_%iO!|]O#i3]O#j3[O(T%gO~O!S%hO!_%iO#j3[O(T%gO~On3dO!_'`O%i3cO~Oh%VOn3dO!_'`O%i3cO~O#k%aaP%aaR%aa[%aaa%aaj%aar%aa!S%aa!l%aa!p%aa#R%aa#n%aa#o%aa#p%aa#q%aa#r%aa#s%aa#t%aa#u%aa#v%aa#x%aa#z%aa#{%aa'z%aa(a%aa(r%aa!k%aa!Y%aa'w%aav%aa!_%aa%i%aa!g%aa~P#L{O#k%caP%caR%ca[%caa%caj%car%ca!S%ca!l%ca!p%ca#R%ca#n%ca#o%ca#p%ca#q%ca#r%ca#s%ca#t%ca#u%ca#v%ca#x%ca#z%ca#{%ca'z%ca(a%ca(r%ca!k%ca!Y%ca'w%cav%ca!_%ca%i%ca!g%ca~P#MnO#k%aaP%aaR%aa[%aaa%aaj%aar%aa!S%aa!]%aa!l%aa!p%aa#R%aa#n%aa#o%aa#p%aa#q%aa#r%aa#s%aa#t%aa#u%aa#v%aa#x%aa#z%aa#{%aa'z%aa(a%aa(r%aa!k%aa!Y%aa'w%aa#`%aav%aa!_%aa%i%aa!g%aa~P#/sO#k%caP%caR%ca[%caa%caj%car%ca!S%ca!]%ca!l%ca!p%ca#R%ca#n%ca#o%ca#p%ca#q%ca#r%ca#s%ca#t%ca#u%ca#v%ca#x%ca#z%ca#{%ca'z%ca(a%ca(r%ca!k%ca!Y%ca'w%ca#`%cav%ca!_%ca%i%ca!g%ca~P#/sO#k}aP}a[}aa}aj}ar}a!l}a!p}a#R}a#n}a#o}a#p}a#q}a#r}a#s}a#t}a#u}a#v}a#x}a#z}a#{}a'z}a(a}a(r}a!k}a!Y}a'w}av}a!_}a%i}a!g}a~P$(cO#k$saP$saR$sa[$saa$saj$sar$sa!S$sa!l$sa!p$sa#R$sa#n$sa#o$sa#p$sa#q$sa#r$sa#s$sa#t$sa#u$sa#v$sa#x$sa#z$sa#{$sa'z$sa(a$sa(r$sa!k$sa!Y$sa'w$sav$sa!_$sa%i$sa!g$sa~P$)_O#k$uaP$uaR$ua[$uaa$uaj$uar$ua!S$ua!l$ua!p$ua#R$ua#n$ua#o$ua#p$ua#q$ua#r$ua#s$ua#t$ua#u$ua#v$ua#x$ua#z$ua#{$ua'z$ua(a$ua(r$ua!k$ua!Y$ua'w$uav$ua!_$ua%i$ua!g$ua~P$*QO#k%TaP%TaR%Ta[%Taa%Taj%Tar%Ta!S%Ta!]%Ta!l%Ta!p%Ta#R%Ta#n%Ta#o%Ta#p%Ta#q%Ta#r%Ta#s%Ta#t%Ta#u%Ta#v%Ta#x%Ta#z%Ta#{%Ta'z%Ta(a%Ta(r%Ta!k%Ta!Y%Ta'w%Ta#`%Tav%Ta!_%Ta%i%Ta!g%Ta~P#/sOa#cq!]#cq'z#cq'w#cq!Y#cq!k#cqv#cq!_#cq%i#cq!g#cq~P!:tO![3lO!]'YX!k'YX~P%[O!].tO!k(ka~O!].tO!k(ka~P!:tO!Y3oO~O$O!na!^!na~PKlO$O!ja!]!ja!^!ja~P#BwO$O!ra!^!ra~P!=[O$O!ta!^!ta~P!?rOg']X!]']X~P!,TO!]/POg(pa~OSfO!_4TO$d4UO~O!^4YO~Ov4ZO~P#/sOa$mq!]$mq'z$mq'w$mq!Y$mq!k$mqv$mq!_$mq%i$mq!g$mq~P!:tO!Y4]O~P!&zO!S4^O~O!Q*OO'y*PO(z%POn'ia(y'ia!]'ia#`'ia~Og'ia$O'ia~P%-fO!Q*OO'y*POn'ka(y'ka(z'ka!]'ka#`'ka~Og'ka$O'ka~P%.XO(r$YO~P#/sO!YfX!Y$zX!]fX!]$zX!g%RX#`fX~P!0SOp%WO(T=WO~P!1uOp4bO!S%hO![4aO!_%iO(T%gO!]'eX!k'eX~O!]/pO!k)Oa~O!]/pO!g#vO!k)Oa~O!]/pO!g#vO(r'pO!k)Oa~Og$|i!]$|i#`$|i$O$|i~P!1WO![4jO!Y'gX!]'gX~P!3tO!]/yO!Y)Pa~O!]/yO!Y)Pa~P#/sOP]XR]X[]Xj]Xr]X!Q]X!S]X!Y]X!]]X!l]X!p]X#R]X#S]X#`]X#kfX#n]X#o]X#p]X#q]X#r]X#s]X#t]X#u]X#v]X#x]X#z]X#{]X$Q]X(a]X(r]X(y]X(z]X~Oj%YX!g%YX~P%2OOj4oO!g#vO~Oh%VO!g#vO!l%eO~Oh%VOr4tO!l%eO(r'pO~Or4yO!g#vO(r'pO~Os!nO!S4zO(VTO(YUO(e!mO~O(y$}On%ai!Q%ai'y%ai(z%ai!]%ai#`%ai~Og%ai$O%ai~P%5oO(z%POn%ci!Q%ci'y%ci(y%ci!]%ci#`%ci~Og%ci$O%ci~P%6bOg(_i!](_i~P!1WO#`5QOg(_i!](_i~P!1WO!k5VO~Oa$oq!]$oq'z$oq'w$oq!Y$oq!k$oqv$oq!_$oq%i$oq!g$oq~P!:tO!Y5ZO~O!]5[O!_)QX~P#/sOa$zX!_$zX%^]X'z$zX!]$zX~P!0SO%^5_OaoX!_oX'zoX!]oX~P$#OOp5`O(T#nO~O%^5_O~Ob5fO%j5gO(T+qO(VTO(YUO!]'tX!^'tX~O!]1TO!^)Xa~O[5kO~O`5lO~O[5pO~Oa%nO'z%nO~P#/sO!]5uO#`5wO!^)UX~O!^5xO~Or6OOs!nO!S*iO!b!yO!c!vO!d!vO!|<VO#T!pO#U!pO#V!pO#W!pO#X!pO#[5}O#]!zO(U!lO(VTO(YUO(e!mO(o!sO~O!^5|O~P%;eOn6TO!_1oO%i6SO~Oh%VOn6TO!_1oO%i6SO~Ob6[O(T#nO(VTO(YUO!]'sX!^'sX~O!]1zO!^)Va~O(VTO(YUO(e6^O~O`6bO~Oj6eO&[6fO~PNXO!k6gO~P%[Oa6iO~Oa6iO~P%[Ob2bO!^6nO&j2aO~P`O!g6pO~O!g6rOh(ji!](ji!^(ji!g(ji!l(jir(ji(r(ji~O!]#hi!^#hi~P#BwO#`6sO!]#hi!^#hi~O!]!ai!^!ai~P#BwOa%nO#`6|O'z%nO~Oa%nO!g#vO#`6|O'z%nO~O!](tq!k(tqa(tq'z(tq~P!:tO!](jO!k(sq~O!S%hO!_%iO#j7TO(T%gO~O!_'`O%i7WO~On7[O!_'`O%i7WO~O#k'iaP'iaR'ia['iaa'iaj'iar'ia!S'ia!l'ia!p'ia#R'ia#n'ia#o'ia#p'ia#q'ia#r'ia#s'ia#t'ia#u'ia#v'ia#x'ia#z'ia#{'ia'z'ia(a'ia(r'ia!k'ia!Y'ia'w'iav'ia!_'ia%i'ia!g'ia~P%-fO#k'kaP'kaR'ka['kaa'kaj'kar'ka!S'ka!l'ka!p'ka#R'ka#n'ka#o'ka#p'ka#q'ka#r'ka#s'ka#t'ka#u'ka#v'ka#x'ka#z'ka#{'ka'z'ka(a'ka(r'ka!k'ka!Y'ka'w'kav'ka!_'ka%i'ka!g'ka~P%.XO#k$|iP$|iR$|i[$|ia$|ij$|ir$|i!S$|i!]$|i!l$|i!p$|i#R$|i#n$|i#o$|i#p$|i#q$|i#r$|i#s$|i#t$|i#u$|i#v$|i#x$|i#z$|i#{$|i'z$|i(a$|i(r$|i!k$|i!Y$|i'w$|i#`$|iv$|i!_$|i%i$|i!g$|i~P#/sO#k%aiP%aiR%ai[%aia%aij%air%ai!S%ai!l%ai!p%ai#R%ai#n%ai#o%ai#p%ai#q%ai#r%ai#s%ai#t%ai#u%ai#v%ai#x%ai#z%ai#{%ai'z%ai(a%ai(r%ai!k%ai!Y%ai'w%aiv%ai!_%ai%i%ai!g%ai~P%5oO#k%ciP%ciR%ci[%cia%cij%cir%ci!S%ci!l%ci!p%ci#R%ci#n%ci#o%ci#p%ci#q%ci#r%ci#s%ci#t%ci#u%ci#v%ci#x%ci#z%ci#{%ci'z%ci(a%ci(r%ci!k%ci!Y%ci'w%civ%ci!_%ci%i%ci!g%ci~P%6bO!]'Ya!k'Ya~P!:tO!].tO!k(ki~O$O#ci!]#ci!^#ci~P#BwOP$[OR#zO!Q#yO!S#{O!l#xO!p$[O(aVO[#mij#mir#mi#R#mi#o#mi#p#mi#q#mi#r#mi#s#mi#t#mi#u#mi#v#mi#x#mi#z#mi#{#mi$O#mi(r#mi(y#mi(z#mi!]#mi!^#mi~O#n#mi~P%NdO#n<_O~P%NdOP$[OR#zOr<kO!Q#yO!S#{O!l#xO!p$[O#n<_O#o<`O#p<`O#q<`O(aVO[#mij#mi#R#mi#s#mi#t#mi#u#mi#v#mi#x#mi#z#mi#{#mi$O#mi(r#mi(y#mi(z#mi!]#mi!^#mi~O#r#mi~P&!lO#r<aO~P&!lOP$[OR#zO[<mOj<bOr<kO!Q#yO!S#{O!l#xO!p$[O#R<bO#n<_O#o<`O#p<`O#q<`O#r<aO#s<bO#t<bO#u<lO(aVO#x#mi#z#mi#{#mi$O#mi(r#mi(y#mi(z#mi!]#mi!^#mi~O#v#mi~P&$tOP$[OR#zO[<mOj<bOr<kO!Q#yO!S#{O!l#xO!p$[O#R<bO#n<_O#o<`O#p<`O#q<`O#r<aO#s<bO#t<bO#u<lO#v<cO(aVO(z#}O#z#mi#{#mi$O#mi(r#mi(y#mi!]#mi!^#mi~O#x<eO~P&&uO#x#mi~P&&uO#v<cO~P&$tOP$[OR#zO[<mOj<bOr<kO!Q#yO!S#{O!l#xO!p$[O#R<bO#n<_O#o<`O#p<`O#q<`O#r<aO#s<bO#t<bO#u<lO#v<cO#x<eO(aVO(y#|O(z#}O#{#mi$O#mi(r#mi!]#mi!^#mi~O#z#mi~P&)UO#z<gO~P&)UOa#|y!]#|y'z#|y'w#|y!Y#|y!k#|yv#|y!_#|y%i#|y!g#|y~P!:tO[#mij#mir#mi#R#mi#r#mi#s#mi#t#mi#u#mi#v#mi#x#mi#z#mi#{#mi$O#mi(r#mi!]#mi!^#mi~OP$[OR#zO!Q#yO!S#{O!l#xO!p$[O#n<_O#o<`O#p<`O#q<`O(aVO(y#mi(z#mi~P&,QOn>^O!Q*OO'y*PO(y$}O(z%POP#miR#mi!S#mi!l#mi!p#mi#n#mi#o#mi#p#mi#q#mi(a#mi~P&,QO#S$dOP(`XR(`X[(`Xj(`Xn(`Xr(`X!Q(`X!S(`X!l(`X!p(`X#R(`X#n(`X#o(`X#p(`X#q(`X#r(`X#s(`X#t(`X#u(`X#v(`X#x(`X#z(`X#{(`X$O(`X'y(`X(a(`X(r(`X(y(`X(z(`X!](`X!^(`X~O$O$Pi!]$Pi!^$Pi~P#BwO$O!ri!^!ri~P$+oOg']a!]']a~P!1WO!^7nO~O!]'da!^'da~P#BwO!Y7oO~P#/sO!g#vO(r'pO!]'ea!k'ea~O!]/pO!k)Oi~O!]/pO!g#vO!k)Oi~Og$|q!]$|q#`$|q$O$|q~P!1WO!Y'ga!]'ga~P#/sO!g7vO~O!]/yO!Y)Pi~P#/sO!]/yO!Y)Pi~O!Y7yO~Oh%VOr8OO!l%eO(r'pO~Oj8QO!g#vO~Or8TO!g#vO(r'pO~O!Q*OO'y*PO(z%POn'ja(y'ja!]'ja#`'ja~Og'ja$O'ja~P&5RO!Q*OO'y*POn'la(y'la(z'la!]'la#`'la~Og'la$O'la~P&5tOg(_q!](_q~P!1WO#`8VOg(_q!](_q~P!1WO!Y8WO~Og%Oq!]%Oq#`%Oq$O%Oq~P!1WOa$oy!]$oy'z$oy'w$oy!Y$oy!k$oyv$oy!_$oy%i$oy!g$oy~P!:tO!g6rO~O!]5[O!_)Qa~O!_'`OP$TaR$Ta[$Taj$Tar$Ta!Q$Ta!S$Ta!]$Ta!l$Ta!p$Ta#R$Ta#n$Ta#o$Ta#p$Ta#q$Ta#r$Ta#s$Ta#t$Ta#u$Ta#v$Ta#x$Ta#z$Ta#{$Ta(a$Ta(r$Ta(y$Ta(z$Ta~O%i7WO~P&8fO%^8[Oa%[i!_%[i'z%[i!]%[i~Oa#cy!]#cy'z#cy'w#cy!Y#cy!k#cyv#cy!_#cy%i#cy!g#cy~P!:tO[8^O~Ob8`O(T+qO(VTO(YUO~O!]1TO!^)Xi~O`8dO~O(e(|O!]'pX!^'pX~O!]5uO!^)Ua~O!^8nO~P%;eO(o!sO~P$&YO#[8oO~O!_1oO~O!_1oO%i8qO~On8tO!_1oO%i8qO~O[8yO!]'sa!^'sa~O!]1zO!^)Vi~O!k8}O~O!k9OO~O!k9RO~O!k9RO~P%[Oa9TO~O!g9UO~O!k9VO~O!](wi!^(wi~P#BwOa%nO#`9_O'z%nO~O!](ty!k(tya(ty'z(ty~P!:tO!](jO!k(sy~O%i9bO~P&8fO!_'`O%i9bO~O#k$|qP$|qR$|q[$|qa$|qj$|qr$|q!S$|q!]$|q!l$|q!p$|q#R$|q#n$|q#o$|q#p$|q#q$|q#r$|q#s$|q#t$|q#u$|q#v$|q#x$|q#z$|q#{$|q'z$|q(a$|q(r$|q!k$|q!Y$|q'w$|q#`$|qv$|q!_$|q%i$|q!g$|q~P#/sO#k'jaP'jaR'ja['jaa'jaj'jar'ja!S'ja!l'ja!p'ja#R'ja#n'ja#o'ja#p'ja#q'ja#r'ja#s'ja#t'ja#u'ja#v'ja#x'ja#z'ja#{'ja'z'ja(a'ja(r'ja!k'ja!Y'ja'w'jav'ja!_'ja%i'ja!g'ja~P&5RO#k'laP'laR'la['laa'laj'lar'la!S'la!l'la!p'la#R'la#n'la#o'la#p'la#q'la#r'la#s'la#t'la#u'la#v'la#x'la#z'la#{'la'z'la(a'la(r'la!k'la!Y'la'w'lav'la!_'la%i'la!g'la~P&5tO#k%OqP%OqR%Oq[%Oqa%Oqj%Oqr%Oq!S%Oq!]%Oq!l%Oq!p%Oq#R%Oq#n%Oq#o%Oq#p%Oq#q%Oq#r%Oq#s%Oq#t%Oq#u%Oq#v%Oq#x%Oq#z%Oq#{%Oq'z%Oq(a%Oq(r%Oq!k%Oq!Y%Oq'w%Oq#`%Oqv%Oq!_%Oq%i%Oq!g%Oq~P#/sO!]'Yi!k'Yi~P!:tO$O#cq!]#cq!^#cq~P#BwO(y$}OP%aaR%aa[%aaj%aar%aa!S%aa!l%aa!p%aa#R%aa#n%aa#o%aa#p%aa#q%aa#r%aa#s%aa#t%aa#u%aa#v%aa#x%aa#z%aa#{%aa$O%aa(a%aa(r%aa!]%aa!^%aa~On%aa!Q%aa'y%aa(z%aa~P&IyO(z%POP%caR%ca[%caj%car%ca!S%ca!l%ca!p%ca#R%ca#n%ca#o%ca#p%ca#q%ca#r%ca#s%ca#t%ca#u%ca#v%ca#x%ca#z%ca#{%ca$O%ca(a%ca(r%ca!]%ca!^%ca~On%ca!Q%ca'y%ca(y%ca~P&LQOn>^O!Q*OO'y*PO(z%PO~P&IyOn>^O!Q*OO'y*PO(y$}O~P&LQOR0kO!Q0kO!S0lO#S$dOP}a[}aj}an}ar}a!l}a!p}a#R}a#n}a#o}a#p}a#q}a#r}a#s}a#t}a#u}a#v}a#x}a#z}a#{}a$O}a'y}a(a}a(r}a(y}a(z}a!]}a!^}a~O!Q*OO'y*POP$saR$sa[$saj$san$sar$sa!S$sa!l$sa!p$sa#R$sa#n$sa#o$sa#p$sa#q$sa#r$sa#s$sa#t$sa#u$sa#v$sa#x$sa#z$sa#{$sa$O$sa(a$sa(r$sa(y$sa(z$sa!]$sa!^$sa~O!Q*OO'y*POP$uaR$ua[$uaj$uan$uar$ua!S$ua!l$ua!p$ua#R$ua#n$ua#o$ua#p$ua#q$ua#r$ua#s$ua#t$ua#u$ua#v$ua#x$ua#z$ua#{$ua$O$ua(a$ua(r$ua(y$ua(z$ua!]$ua!^$ua~On>^O!Q*OO'y*PO(y$}O(z%PO~OP%TaR%Ta[%Taj%Tar%Ta!S%Ta!l%Ta!p%Ta#R%Ta#n%Ta#o%Ta#p%Ta#q%Ta#r%Ta#s%Ta#t%Ta#u%Ta#v%Ta#x%Ta#z%Ta#{%Ta$O%Ta(a%Ta(r%Ta!]%Ta!^%Ta~P''VO$O$mq!]$mq!^$mq~P#BwO$O$oq!]$oq!^$oq~P#BwO!^9oO~O$O9pO~P!1WO!g#vO!]'ei!k'ei~O!g#vO(r'pO!]'ei!k'ei~O!]/pO!k)Oq~O!Y'gi!]'gi~P#/sO!]/yO!Y)Pq~Or9wO!g#vO(r'pO~O[9yO!Y9xO~P#/sO!Y9xO~Oj:PO!g#vO~Og(_y!](_y~P!1WO!]'na!_'na~P#/sOa%[q!_%[q'z%[q!]%[q~P#/sO[:UO~O!]1TO!^)Xq~O`:YO~O#`:ZO!]'pa!^'pa~O!]5uO!^)Ui~P#BwO!S:]O~O!_1oO%i:`O~O(VTO(YUO(e:eO~O!]1zO!^)Vq~O!k:hO~O!k:iO~O!k:jO~O!k:jO~P%[O#`:mO!]#hy!^#hy~O!]#hy!^#hy~P#BwO%i:rO~P&8fO!_'`O%i:rO~O$O#|y!]#|y!^#|y~P#BwOP$|iR$|i[$|ij$|ir$|i!S$|i!l$|i!p$|i#R$|i#n$|i#o$|i#p$|i#q$|i#r$|i#s$|i#t$|i#u$|i#v$|i#x$|i#z$|i#{$|i$O$|i(a$|i(r$|i!]$|i!^$|i~P''VO!Q*OO'y*PO(z%POP'iaR'ia['iaj'ian'iar'ia!S'ia!l'ia!p'ia#R'ia#n'ia#o'ia#p'ia#q'ia#r'ia#s'ia#t'ia#u'ia#v'ia#x'ia#z'ia#{'ia$O'ia(a'ia(r'ia(y'ia!]'ia!^'ia~O!Q*OO'y*POP'kaR'ka['kaj'kan'kar'ka!S'ka!l'ka!p'ka#R'ka#n'ka#o'ka#p'ka#q'ka#r'ka#s'ka#t'ka#u'ka#v'ka#x'ka#z'ka#{'ka$O'ka(a'ka(r'ka(y'ka(z'ka!]'ka!^'ka~O(y$}OP%aiR%ai[%aij%ain%air%ai!Q%ai!S%ai!l%ai!p%ai#R%ai#n%ai#o%ai#p%ai#q%ai#r%ai#s%ai#t%ai#u%ai#v%ai#x%ai#z%ai#{%ai$O%ai'y%ai(a%ai(r%ai(z%ai!]%ai!^%ai~O(z%POP%ciR%ci[%cij%cin%cir%ci!Q%ci!S%ci!l%ci!p%ci#R%ci#n%ci#o%ci#p%ci#q%ci#r%ci#s%ci#t%ci#u%ci#v%ci#x%ci#z%ci#{%ci$O%ci'y%ci(a%ci(r%ci(y%ci!]%ci!^%ci~O$O$oy!]$oy!^$oy~P#BwO$O#cy!]#cy!^#cy~P#BwO!g#vO!]'eq!k'eq~O!]/pO!k)Oy~O!Y'gq!]'gq~P#/sOr:|O!g#vO(r'pO~O[;QO!Y;PO~P#/sO!Y;PO~Og(_!R!](_!R~P!1WOa%[y!_%[y'z%[y!]%[y~P#/sO!]1TO!^)Xy~O!]5uO!^)Uq~O(T;XO~O!_1oO%i;[O~O!k;_O~O%i;dO~P&8fOP$|qR$|q[$|qj$|qr$|q!S$|q!l$|q!p$|q#R$|q#n$|q#o$|q#p$|q#q$|q#r$|q#s$|q#t$|q#u$|q#v$|q#x$|q#z$|q#{$|q$O$|q(a$|q(r$|q!]$|q!^$|q~P''VO!Q*OO'y*PO(z%POP'jaR'ja['jaj'jan'jar'ja!S'ja!l'ja!p'ja#R'ja#n'ja#o'ja#p'ja#q'ja#r'ja#s'ja#t'ja#u'ja#v'ja#x'ja#z'ja#{'ja$O'ja(a'ja(r'ja(y'ja!]'ja!^'ja~O!Q*OO'y*POP'laR'la['laj'lan'lar'la!S'la!l'la!p'la#R'la#n'la#o'la#p'la#q'la#r'la#s'la#t'la#u'la#v'la#x'la#z'la#{'la$O'la(a'la(r'la(y'la(z'la!]'la!^'la~OP%OqR%Oq[%Oqj%Oqr%Oq!S%Oq!l%Oq!p%Oq#R%Oq#n%Oq#o%Oq#p%Oq#q%Oq#r%Oq#s%Oq#t%Oq#u%Oq#v%Oq#x%Oq#z%Oq#{%Oq$O%Oq(a%Oq(r%Oq!]%Oq!^%Oq~P''VOg%e!Z!]%e!Z#`%e!Z$O%e!Z~P!1WO!Y;hO~P#/sOr;iO!g#vO(r'pO~O[;kO!Y;hO~P#/sO!]'pq!^'pq~P#BwO!]#h!Z!^#h!Z~P#BwO#k%e!ZP%e!ZR%e!Z[%e!Za%e!Zj%e!Zr%e!Z!S%e!Z!]%e!Z!l%e!Z!p%e!Z#R%e!Z#n%e!Z#o%e!Z#p%e!Z#q%e!Z#r%e!Z#s%e!Z#t%e!Z#u%e!Z#v%e!Z#x%e!Z#z%e!Z#{%e!Z'z%e!Z(a%e!Z(r%e!Z!k%e!Z!Y%e!Z'w%e!Z#`%e!Zv%e!Z!_%e!Z%i%e!Z!g%e!Z~P#/sOr;tO!g#vO(r'pO~O!Y;uO~P#/sOr;|O!g#vO(r'pO~O!Y;}O~P#/sOP%e!ZR%e!Z[%e!Zj%e!Zr%e!Z!S%e!Z!l%e!Z!p%e!Z#R%e!Z#n%e!Z#o%e!Z#p%e!Z#q%e!Z#r%e!Z#s%e!Z#t%e!Z#u%e!Z#v%e!Z#x%e!Z#z%e!Z#{%e!Z$O%e!Z(a%e!Z(r%e!Z!]%e!Z!^%e!Z~P''VOr<QO!g#vO(r'pO~Ov(fX~P1qO!Q%rO~P!)[O(U!lO~P!)[O!YfX!]fX#`fX~P%2OOP]XR]X[]Xj]Xr]X!Q]X!S]X!]]X!]fX!l]X!p]X#R]X#S]X#`]X#`fX#kfX#n]X#o]X#p]X#q]X#r]X#s]X#t]X#u]X#v]X#x]X#z]X#{]X$Q]X(a]X(r]X(y]X(z]X~O!gfX!k]X!kfX(rfX~P'LTOP<UOQ<UOSfOd>ROe!iOpkOr<UOskOtkOzkO|<UO!O<UO!SWO!WkO!XkO!_XO!i<XO!lZO!o<UO!p<UO!q<UO!s<YO!u<]O!x!hO$W!kO$n>PO(T)]O(VTO(YUO(aVO(o[O~O!]<iO!^$qa~Oh%VOp%WOr%XOs$tOt$tOz%YO|%ZO!O<tO!S${O!_$|O!i>WO!l$xO#j<zO$W%`O$t<vO$v<xO$y%aO(T(vO(VTO(YUO(a$uO(y$}O(z%PO~Ol)dO~P(!yOr!eX(r!eX~P#!iOr(jX(r(jX~P##[O!^]X!^fX~P'LTO!YfX!Y$zX!]fX!]$zX#`fX~P!0SO#k<^O~O!g#vO#k<^O~O#`<nO~Oj<bO~O#`=OO!](wX!^(wX~O#`<nO!](uX!^(uX~O#k=PO~Og=RO~P!1WO#k=XO~O#k=YO~Og=RO(T&ZO~O!g#vO#k=ZO~O!g#vO#k=PO~O$O=[O~P#BwO#k=]O~O#k=^O~O#k=cO~O#k=dO~O#k=eO~O#k=fO~O$O=gO~P!1WO$O=hO~P!1WOl=sO~P7eOk#S#T#U#W#X#[#i#j#u$n$t$v$y%]%^%h%i%j%q%s%v%w%y%{~(OT#o!X'|(U#ps#n#qr!Q'}$]'}(T$_(e~",goto:"$9Y)]PPPPPP)^PP)aP)rP+W/]PPPP6mPP7TPP=QPPP@tPA^PA^PPPA^PCfPA^PA^PA^PCjPCoPD^PIWPPPI[PPPPI[L_PPPLeMVPI[PI[PP! eI[PPPI[PI[P!#lI[P!'S!(X!(bP!)U!)Y!)U!,gPPPPPPP!-W!(XPP!-h!/YP!2iI[I[!2n!5z!:h!:h!>gPPP!>oI[PPPPPPPPP!BOP!C]PPI[!DnPI[PI[I[I[I[I[PI[!FQP!I[P!LbP!Lf!Lp!Lt!LtP!IXP!Lx!LxP#!OP#!SI[PI[#!Y#%_CjA^PA^PA^A^P#&lA^A^#)OA^#+vA^#.SA^A^#.r#1W#1W#1]#1f#1W#1qPP#1WPA^#2ZA^#6YA^A^6mPPP#:_PPP#:x#:xP#:xP#;`#:xPP#;fP#;]P#;]#;y#;]#<e#<k#<n)aP#<q)aP#<z#<z#<zP)aP)aP)aP)aPP)aP#=Q#=TP#=T)aP#=XP#=[P)aP)aP)aP)aP)aP)a)aPP#=b#=h#=s#=y#>P#>V#>]#>k#>q#>{#?R#?]#?c#?s#?y#@k#@}#AT#AZ#Ai#BO#Cs#DR#DY#Et#FS#Gt#HS#HY#H`#Hf#Hp#Hv#H|#IW#Ij#IpPPPPPPPPPPP#IvPPPPPPP#Jk#Mx$ b$ i$ qPPP$']P$'f$*_$0x$0{$1O$1}$2Q$2X$2aP$2g$2jP$3W$3[$4S$5b$5g$5}PP$6S$6Y$6^$6a$6e$6i$7e$7|$8e$8i$8l$8o$8y$8|$9Q$9UR!|RoqOXst!Z#d%m&r&t&u&w,s,x2[2_Y!vQ'`-e1o5{Q%tvQ%|yQ&T|Q&j!VS'W!e-]Q'f!iS'l!r!yU*k$|*Z*oQ+o%}S+|&V&WQ,d&dQ-c'_Q-m'gQ-u'mQ0[*qQ1b,OQ1y,eR<{<Y%SdOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$_$a$e%m%t&R&k&n&r&t&u&w&{'T'b'r(T(V(](d(x(z)O)}*i+X+],p,s,x-i-q.P.V.t.{/n0]0l0r1S1r2S2T2V2X2[2_2a3Q3W3l4z6T6e6f6i6|8t9T9_S#q]<V!r)_$Z$n'X)s-U-X/V2p4T5w6s:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SU+P%]<s<tQ+t&PQ,f&gQ,m&oQ0x+gQ0}+iQ1Y+uQ2R,kQ3`.gQ5`0|Q5f1TQ6[1zQ7Y3dQ8`5gR9e7['QkOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$Z$_$a$e$n%m%t&R&k&n&o&r&t&u&w&{'T'X'b'r(T(V(](d(x(z)O)s)}*i+X+]+g,p,s,x-U-X-i-q.P.V.g.t.{/V/n0]0l0r1S1r2S2T2V2X2[2_2a2p3Q3W3d3l4T4z5w6T6e6f6i6s6|7[8t9T9_:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>S!S!nQ!r!v!y!z$|'W'_'`'l'm'n*k*o*q*r-]-c-e-u0[0_1o5{5}%[$ti#v$b$c$d$x${%O%Q%^%_%c)y*R*T*V*Y*a*g*w*x+f+i,S,V.f/P/d/m/x/y/{0`0b0i0j0o1f1i1q3c4^4_4j4o5Q5[5_6S7W7v8Q8V8[8q9b9p9y:P:`:r;Q;[;d;k<l<m<o<p<q<r<u<v<w<x<y<z=S=T=U=V=X=Y=]=^=_=`=a=b=c=d=g=h>P>X>Y>]>^Q&X|Q'U!eS'[%i-`Q+t&PQ,P&WQ,f&gQ0n+SQ1Y+uQ1_+{Q2Q,jQ2R,kQ5f1TQ5o1aQ6[1zQ6_1|Q6`2PQ8`5gQ8c5lQ8|6bQ:X8dQ:f8yQ;V:YR<}*ZrnOXst!V!Z#d%m&i&r&t&u&w,s,x2[2_R,h&k&z^OPXYstuvwz!Z!`!g!j!o#S#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$Z$_$a$e$n%m%t&R&k&n&o&r&t&u&w&{'T'b'r(V(](d(x(z)O)s)}*i+X+]+g,p,s,x-U-X-i-q.P.V.g.t.{/V/n0]0l0r1S1r2S2T2V2X2[2_2a2p3Q3W3d3l4T4z5w6T6e6f6i6s6|7[8t9T9_:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>R>S[#]WZ#W#Z'X(T!b%jm#h#i#l$x%e%h(^(h(i(j*Y*^*b+Z+[+^,o-V.T.Z.[.]._/m/p2d3[3]4a6r7TQ%wxQ%{yW&Q|&V&W,OQ&_!TQ'c!hQ'e!iQ(q#sS+n%|%}Q+r&PQ,_&bQ,c&dS-l'f'gQ.i(rQ1R+oQ1X+uQ1Z+vQ1^+zQ1t,`S1x,d,eQ2|-mQ5e1TQ5i1WQ5n1`Q6Z1yQ8_5gQ8b5kQ8f5pQ:T8^R;T:U!U$zi$d%O%Q%^%_%c*R*T*a*w*x/P/x0`0b0i0j0o4_5Q8V9p>P>X>Y!^%yy!i!u%{%|%}'V'e'f'g'k'u*j+n+o-Y-l-m-t0R0U1R2u2|3T4r4s4v7}9{Q+h%wQ,T&[Q,W&]Q,b&dQ.h(qQ1s,_U1w,c,d,eQ3e.iQ6U1tS6Y1x1yQ8x6Z#f>T#v$b$c$x${)y*V*Y*g+f+i,S,V.f/d/m/y/{1f1i1q3c4^4j4o5[5_6S7W7v8Q8[8q9b9y:P:`:r;Q;[;d;k<o<q<u<w<y=S=U=X=]=_=a=c=g>]>^o>U<l<m<p<r<v<x<z=T=V=Y=^=`=b=d=hW%Ti%V*y>PS&[!Q&iQ&]!RQ&^!SU*}%[%d=sR,R&Y%]%Si#v$b$c$d$x${%O%Q%^%_%c)y*R*T*V*Y*a*g*w*x+f+i,S,V.f/P/d/m/x/y/{0`0b0i0j0o1f1i1q3c4^4_4j4o5Q5[5_6S7W7v8Q8V8[8q9b9p9y:P:`:r;Q;[;d;k<l<m<o<p<q<r<u<v<w<x<y<z=S=T=U=V=X=Y=]=^=_=`=a=b=c=d=g=h>P>X>Y>]>^T)z$u){V+P%]<s<tW'[!e%i*Z-`S(}#y#zQ+c%rQ+y&SS.b(m(nQ1j,XQ5T0kR8i5u'QkOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$Z$_$a$e$n%m%t&R&k&n&o&r&t&u&w&{'T'X'b'r(T(V(](d(x(z)O)s)}*i+X+]+g,p,s,x-U-X-i-q.P.V.g.t.{/V/n0]0l0r1S1r2S2T2V2X2[2_2a2p3Q3W3d3l4T4z5w6T6e6f6i6s6|7[8t9T9_:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>S$i$^c#Y#e%q%s%u(S(Y(t(y)R)S)T)U)V)W)X)Y)Z)[)^)`)b)g)q+d+x-Z-x-}.S.U.s.v.z.|.}/O/b0p2k2n3O3V3k3p3q3r3s3t3u3v3w3x3y3z3{3|4P4Q4X5X5c6u6{7Q7a7b7k7l8k9X9]9g9m9n:o;W;`<W=vT#TV#U'RkOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$Z$_$a$e$n%m%t&R&k&n&o&r&t&u&w&{'T'X'b'r(T(V(](d(x(z)O)s)}*i+X+]+g,p,s,x-U-X-i-q.P.V.g.t.{/V/n0]0l0r1S1r2S2T2V2X2[2_2a2p3Q3W3d3l4T4z5w6T6e6f6i6s6|7[8t9T9_:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SQ'Y!eR2q-]!W!nQ!e!r!v!y!z$|'W'_'`'l'm'n*Z*k*o*q*r-]-c-e-u0[0_1o5{5}R1l,ZnqOXst!Z#d%m&r&t&u&w,s,x2[2_Q&y!^Q'v!xS(s#u<^Q+l%zQ,]&_Q,^&aQ-j'dQ-w'oS.r(x=PS0q+X=ZQ1P+mQ1n,[Q2c,zQ2e,{Q2m-WQ2z-kQ2}-oS5Y0r=eQ5a1QS5d1S=fQ6t2oQ6x2{Q6}3SQ8]5bQ9Y6vQ9Z6yQ9^7OR:l9V$d$]c#Y#e%s%u(S(Y(t(y)R)S)T)U)V)W)X)Y)Z)[)^)`)b)g)q+d+x-Z-x-}.S.U.s.v.z.}/O/b0p2k2n3O3V3k3p3q3r3s3t3u3v3w3x3y3z3{3|4P4Q4X5X5c6u6{7Q7a7b7k7l8k9X9]9g9m9n:o;W;`<W=vS(o#p'iQ)P#zS+b%q.|S.c(n(pR3^.d'QkOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$Z$_$a$e$n%m%t&R&k&n&o&r&t&u&w&{'T'X'b'r(T(V(](d(x(z)O)s)}*i+X+]+g,p,s,x-U-X-i-q.P.V.g.t.{/V/n0]0l0r1S1r2S2T2V2X2[2_2a2p3Q3W3d3l4T4z5w6T6e6f6i6s6|7[8t9T9_:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SS#q]<VQ&t!XQ&u!YQ&w![Q&x!]R2Z,vQ'a!hQ+e%wQ-h'cS.e(q+hQ2x-gW3b.h.i0w0yQ6w2yW7U3_3a3e5^U9a7V7X7ZU:q9c9d9fS;b:p:sQ;p;cR;x;qU!wQ'`-eT5y1o5{!Q_OXZ`st!V!Z#d#h%e%m&i&k&r&t&u&w(j,s,x.[2[2_]!pQ!r'`-e1o5{T#q]<V%^{OPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$_$a$e%m%t&R&k&n&o&r&t&u&w&{'T'b'r(T(V(](d(x(z)O)}*i+X+]+g,p,s,x-i-q.P.V.g.t.{/n0]0l0r1S1r2S2T2V2X2[2_2a3Q3W3d3l4z6T6e6f6i6|7[8t9T9_S(}#y#zS.b(m(n!s=l$Z$n'X)s-U-X/V2p4T5w6s:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SU$fd)_,mS(p#p'iU*v%R(w4OU0m+O.n7gQ5^0xQ7V3`Q9d7YR:s9em!tQ!r!v!y!z'`'l'm'n-e-u1o5{5}Q't!uS(f#g2US-s'k'wQ/s*]Q0R*jQ3U-vQ4f/tQ4r0TQ4s0UQ4x0^Q7r4`S7}4t4vS8R4y4{Q9r7sQ9v7yQ9{8OQ:Q8TS:{9w9xS;g:|;PS;s;h;iS;{;t;uS<P;|;}R<S<QQ#wbQ's!uS(e#g2US(g#m+WQ+Y%fQ+j%xQ+p&OU-r'k't'wQ.W(fU/r*]*`/wQ0S*jQ0V*lQ1O+kQ1u,aS3R-s-vQ3Z.`S4e/s/tQ4n0PS4q0R0^Q4u0WQ6W1vQ7P3US7q4`4bQ7u4fU7|4r4x4{Q8P4wQ8v6XS9q7r7sQ9u7yQ9}8RQ:O8SQ:c8wQ:y9rS:z9v9xQ;S:QQ;^:dS;f:{;PS;r;g;hS;z;s;uS<O;{;}Q<R<PQ<T<SQ=o=jQ={=tR=|=uV!wQ'`-e%^aOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$_$a$e%m%t&R&k&n&o&r&t&u&w&{'T'b'r(T(V(](d(x(z)O)}*i+X+]+g,p,s,x-i-q.P.V.g.t.{/n0]0l0r1S1r2S2T2V2X2[2_2a3Q3W3d3l4z6T6e6f6i6|7[8t9T9_S#wz!j!r=i$Z$n'X)s-U-X/V2p4T5w6s:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SR=o>R%^bOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$_$a$e%m%t&R&k&n&o&r&t&u&w&{'T'b'r(T(V(](d(x(z)O)}*i+X+]+g,p,s,x-i-q.P.V.g.t.{/n0]0l0r1S1r2S2T2V2X2[2_2a3Q3W3d3l4z6T6e6f6i6|7[8t9T9_Q%fj!^%xy!i!u%{%|%}'V'e'f'g'k'u*j+n+o-Y-l-m-t0R0U1R2u2|3T4r4s4v7}9{S&Oz!jQ+k%yQ,a&dW1v,b,c,d,eU6X1w1x1yS8w6Y6ZQ:d8x!r=j$Z$n'X)s-U-X/V2p4T5w6s:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SQ=t>QR=u>R%QeOPXYstuvw!Z!`!g!o#S#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$_$a$e%m%t&R&k&n&r&t&u&w&{'T'b'r(V(](d(x(z)O)}*i+X+]+g,p,s,x-i-q.P.V.g.t.{/n0]0l0r1S1r2S2T2V2X2[2_2a3Q3W3d3l4z6T6e6f6i6|7[8t9T9_Y#bWZ#W#Z(T!b%jm#h#i#l$x%e%h(^(h(i(j*Y*^*b+Z+[+^,o-V.T.Z.[.]._/m/p2d3[3]4a6r7TQ,n&o!p=k$Z$n)s-U-X/V2p4T5w6s:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SR=n'XU']!e%i*ZR2s-`%SdOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$_$a$e%m%t&R&k&n&r&t&u&w&{'T'b'r(T(V(](d(x(z)O)}*i+X+],p,s,x-i-q.P.V.t.{/n0]0l0r1S1r2S2T2V2X2[2_2a3Q3W3l4z6T6e6f6i6|8t9T9_!r)_$Z$n'X)s-U-X/V2p4T5w6s:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SQ,m&oQ0x+gQ3`.gQ7Y3dR9e7[!b$Tc#Y%q(S(Y(t(y)Z)[)`)g+x-x-}.S.U.s.v/b0p3O3V3k3{5X5c6{7Q7a9]:o<W!P<d)^)q-Z.|2k2n3p3y3z4P4X6u7b7k7l8k9X9g9m9n;W;`=v!f$Vc#Y%q(S(Y(t(y)W)X)Z)[)`)g+x-x-}.S.U.s.v/b0p3O3V3k3{5X5c6{7Q7a9]:o<W!T<f)^)q-Z.|2k2n3p3v3w3y3z4P4X6u7b7k7l8k9X9g9m9n;W;`=v!^$Zc#Y%q(S(Y(t(y)`)g+x-x-}.S.U.s.v/b0p3O3V3k3{5X5c6{7Q7a9]:o<WQ4_/kz>S)^)q-Z.|2k2n3p4P4X6u7b7k7l8k9X9g9m9n;W;`=vQ>X>ZR>Y>['QkOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$Z$_$a$e$n%m%t&R&k&n&o&r&t&u&w&{'T'X'b'r(T(V(](d(x(z)O)s)}*i+X+]+g,p,s,x-U-X-i-q.P.V.g.t.{/V/n0]0l0r1S1r2S2T2V2X2[2_2a2p3Q3W3d3l4T4z5w6T6e6f6i6s6|7[8t9T9_:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>SS$oh$pR4U/U'XgOPWXYZhstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$Z$_$a$e$n$p%m%t&R&k&n&o&r&t&u&w&{'T'X'b'r(T(V(](d(x(z)O)s)}*i+X+]+g,p,s,x-U-X-i-q.P.V.g.t.{/U/V/n0]0l0r1S1r2S2T2V2X2[2_2a2p3Q3W3d3l4T4z5w6T6e6f6i6s6|7[8t9T9_:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>ST$kf$qQ$ifS)j$l)nR)v$qT$jf$qT)l$l)n'XhOPWXYZhstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$Z$_$a$e$n$p%m%t&R&k&n&o&r&t&u&w&{'T'X'b'r(T(V(](d(x(z)O)s)}*i+X+]+g,p,s,x-U-X-i-q.P.V.g.t.{/U/V/n0]0l0r1S1r2S2T2V2X2[2_2a2p3Q3W3d3l4T4z5w6T6e6f6i6s6|7[8t9T9_:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>ST$oh$pQ$rhR)u$p%^jOPWXYZstuvw!Z!`!g!o#S#W#Z#d#o#u#x#{$O$P$Q$R$S$T$U$V$W$X$_$a$e%m%t&R&k&n&o&r&t&u&w&{'T'b'r(T(V(](d(x(z)O)}*i+X+]+g,p,s,x-i-q.P.V.g.t.{/n0]0l0r1S1r2S2T2V2X2[2_2a3Q3W3d3l4z6T6e6f6i6|7[8t9T9_!s>Q$Z$n'X)s-U-X/V2p4T5w6s:Z:m<U<X<Y<]<^<_<`<a<b<c<d<e<f<g<h<i<k<n<{=O=P=R=Z=[=e=f>S#glOPXZst!Z!`!o#S#d#o#{$n%m&k&n&o&r&t&u&w&{'T'b)O)s*i+]+g,p,s,x-i.g/V/n0]0l1r2S2T2V2X2[2_2a3d4T4z6T6e6f6i7[8t9T!U%Ri$d%O%Q%^%_%c*R*T*a*w*x/P/x0`0b0i0j0o4_5Q8V9p>P>X>Y#f(w#v$b$c$x${)y*V*Y*g+f+i,S,V.f/d/m/y/{1f1i1q3c4^4j4o5[5_6S7W7v8Q8[8q9b9y:P:`:r;Q;[;d;k<o<q<u<w<y=S=U=X=]=_=a=c=g>]>^Q+T%aQ/c*Oo4O<l<m<p<r<v<x<z=T=V=Y=^=`=b=d=h!U$yi$d%O%Q%^%_%c*R*T*a*w*x/P/x0`0b0i0j0o4_5Q8V9p>P>X>YQ*c$zU*l$|*Z*oQ+U%bQ0W*m#f=q#v$b$c$x${)y*V*Y*g+f+i,S,V.f/d/m/y/{1f1i1q3c4^4j4o5[5_6S7W7v8Q8[8q9b9y:P:`:r;Q;[;d;k<o<q<u<w<y=S=U=X=]=_=a=c=g>]>^n=r<l<m<p<r<v<x<z=T=V=Y=^=`=b=d=hQ=w>TQ=x>UQ=y>VR=z>W!U%Ri$d%O%Q%^%_%c*R*T*a*w*x/P/x0`0b0i0j0o4_5Q8V9p>P>X>Y#f(w#v$b$c$x${)y*V*Y*g+f+i,S,V.f/d/m/y/{1f1i1q3c4^4j4o5[5_6S7W7v8Q8[8q9b9y:P:`:r;Q;[;d;k<o<q<u<w<y=S=U=X=]=_=a=c=g>]>^o4O<l<m<p<r<v<x<z=T=V=Y=^=`=b=d=hnoOXst!Z#d%m&r&t&u&w,s,x2[2_S*f${*YQ-R'OQ-S'QR4i/y%[%Si#v$b$c$d$x${%O%Q%^%_%c)y*R*T*V*Y*a*g*w*x+f+i,S,V.f/P/d/m/x/y/{0`0b0i0j0o1f1i1q3c4^4_4j4o5Q5[5_6S7W7v8Q8V8[8q9b9p9y:P:`:r;Q;[;d;k<l<m<o<p<q<r<u<v<w<x<y<z=S=T=U=V=X=Y=]=^=_=`=a=b=c=d=g=h>P>X>Y>]>^Q,U&]Q1h,WQ5s1gR8h5tV*n$|*Z*oU*n$|*Z*oT5z1o5{S0P*i/nQ4w0]T8S4z:]Q+j%xQ0V*lQ1O+kQ1u,aQ6W1vQ8v6XQ:c8wR;^:d!U%Oi$d%O%Q%^%_%c*R*T*a*w*x/P/x0`0b0i0j0o4_5Q8V9p>P>X>Yx*R$v)e*S*u+V/v0d0e4R4g5R5S5W7p8U:R:x=p=}>OS0`*t0a#f<o#v$b$c$x${)y*V*Y*g+f+i,S,V.f/d/m/y/{1f1i1q3c4^4j4o5[5_6S7W7v8Q8[8q9b9y:P:`:r;Q;[;d;k<o<q<u<w<y=S=U=X=]=_=a=c=g>]>^n<p<l<m<p<r<v<x<z=T=V=Y=^=`=b=d=h!d=S(u)c*[*e.j.m.q/_/k/|0v1e3h4[4h4l5r7]7`7w7z8X8Z9t9|:S:};R;e;j;v>Z>[`=T3}7c7f7j9h:t:w;yS=_.l3iT=`7e9k!U%Qi$d%O%Q%^%_%c*R*T*a*w*x/P/x0`0b0i0j0o4_5Q8V9p>P>X>Y|*T$v)e*U*t+V/g/v0d0e4R4g4|5R5S5W7p8U:R:x=p=}>OS0b*u0c#f<q#v$b$c$x${)y*V*Y*g+f+i,S,V.f/d/m/y/{1f1i1q3c4^4j4o5[5_6S7W7v8Q8[8q9b9y:P:`:r;Q;[;d;k<o<q<u<w<y=S=U=X=]=_=a=c=g>]>^n<r<l<m<p<r<v<x<z=T=V=Y=^=`=b=d=h!h=U(u)c*[*e.k.l.q/_/k/|0v1e3f3h4[4h4l5r7]7^7`7w7z8X8Z9t9|:S:};R;e;j;v>Z>[d=V3}7d7e7j9h9i:t:u:w;yS=a.m3jT=b7f9lrnOXst!V!Z#d%m&i&r&t&u&w,s,x2[2_Q&f!UR,p&ornOXst!V!Z#d%m&i&r&t&u&w,s,x2[2_R&f!UQ,Y&^R1d,RsnOXst!V!Z#d%m&i&r&t&u&w,s,x2[2_Q1p,_S6R1s1tU8p6P6Q6US:_8r8sS;Y:^:aQ;m;ZR;w;nQ&m!VR,i&iR6_1|R:f8yW&Q|&V&W,OR1Z+vQ&r!WR,s&sR,y&xT2],x2_R,}&yQ,|&yR2f,}Q'y!{R-y'ySsOtQ#dXT%ps#dQ#OTR'{#OQ#RUR'}#RQ){$uR/`){Q#UVR(Q#UQ#XWU(W#X(X.QQ(X#YR.Q(YQ-^'YR2r-^Q.u(yS3m.u3nR3n.vQ-e'`R2v-eY!rQ'`-e1o5{R'j!rQ/Q)eR4S/QU#_W%h*YU(_#_(`.RQ(`#`R.R(ZQ-a']R2t-at`OXst!V!Z#d%m&i&k&r&t&u&w,s,x2[2_S#hZ%eU#r`#h.[R.[(jQ(k#jQ.X(gW.a(k.X3X7RQ3X.YR7R3YQ)n$lR/W)nQ$phR)t$pQ$`cU)a$`-|<jQ-|<WR<j)qQ/q*]W4c/q4d7t9sU4d/r/s/tS7t4e4fR9s7u$e*Q$v(u)c)e*[*e*t*u+Q+R+V.l.m.o.p.q/_/g/i/k/v/|0d0e0v1e3f3g3h3}4R4[4g4h4l4|5O5R5S5W5r7]7^7_7`7e7f7h7i7j7p7w7z8U8X8Z9h9i9j9t9|:R:S:t:u:v:w:x:};R;e;j;v;y=p=}>O>Z>[Q/z*eU4k/z4m7xQ4m/|R7x4lS*o$|*ZR0Y*ox*S$v)e*t*u+V/v0d0e4R4g5R5S5W7p8U:R:x=p=}>O!d.j(u)c*[*e.l.m.q/_/k/|0v1e3h4[4h4l5r7]7`7w7z8X8Z9t9|:S:};R;e;j;v>Z>[U/h*S.j7ca7c3}7e7f7j9h:t:w;yQ0a*tQ3i.lU4}0a3i9kR9k7e|*U$v)e*t*u+V/g/v0d0e4R4g4|5R5S5W7p8U:R:x=p=}>O!h.k(u)c*[*e.l.m.q/_/k/|0v1e3f3h4[4h4l5r7]7^7`7w7z8X8Z9t9|:S:};R;e;j;v>Z>[U/j*U.k7de7d3}7e7f7j9h9i:t:u:w;yQ0c*uQ3j.mU5P0c3j9lR9l7fQ*z%UR0g*zQ5]0vR8Y5]Q+_%kR0u+_Q5v1jS8j5v:[R:[8kQ,[&_R1m,[Q5{1oR8m5{Q1{,fS6]1{8zR8z6_Q1U+rW5h1U5j8a:VQ5j1XQ8a5iR:V8bQ+w&QR1[+wQ2_,xR6m2_YrOXst#dQ&v!ZQ+a%mQ,r&rQ,t&tQ,u&uQ,w&wQ2Y,sS2],x2_R6l2[Q%opQ&z!_Q&}!aQ'P!bQ'R!cQ'q!uQ+`%lQ+l%zQ,Q&XQ,h&mQ-P&|W-p'k's't'wQ-w'oQ0X*nQ1P+mQ1c,PS2O,i,lQ2g-OQ2h-RQ2i-SQ2}-oW3P-r-s-v-xQ5a1QQ5m1_Q5q1eQ6V1uQ6a2QQ6k2ZU6z3O3R3UQ6}3SQ8]5bQ8e5oQ8g5rQ8l5zQ8u6WQ8{6`S9[6{7PQ9^7OQ:W8cQ:b8vQ:g8|Q:n9]Q;U:XQ;]:cQ;a:oQ;l;VR;o;^Q%zyQ'd!iQ'o!uU+m%{%|%}Q-W'VU-k'e'f'gS-o'k'uQ0Q*jS1Q+n+oQ2o-YS2{-l-mQ3S-tS4p0R0UQ5b1RQ6v2uQ6y2|Q7O3TU7{4r4s4vQ9z7}R;O9{S$wi>PR*{%VU%Ui%V>PR0f*yQ$viS(u#v+iS)c$b$cQ)e$dQ*[$xS*e${*YQ*t%OQ*u%QQ+Q%^Q+R%_Q+V%cQ.l<oQ.m<qQ.o<uQ.p<wQ.q<yQ/_)yQ/g*RQ/i*TQ/k*VQ/v*aS/|*g/mQ0d*wQ0e*xl0v+f,V.f1i1q3c6S7W8q9b:`:r;[;dQ1e,SQ3f=SQ3g=UQ3h=XS3}<l<mQ4R/PS4[/d4^Q4g/xQ4h/yQ4l/{Q4|0`Q5O0bQ5R0iQ5S0jQ5W0oQ5r1fQ7]=]Q7^=_Q7_=aQ7`=cQ7e<pQ7f<rQ7h<vQ7i<xQ7j<zQ7p4_Q7w4jQ7z4oQ8U5QQ8X5[Q8Z5_Q9h=YQ9i=TQ9j=VQ9t7vQ9|8QQ:R8VQ:S8[Q:t=^Q:u=`Q:v=bQ:w=dQ:x9pQ:}9yQ;R:PQ;e=gQ;j;QQ;v;kQ;y=hQ=p>PQ=}>XQ>O>YQ>Z>]R>[>^Q+O%]Q.n<sR7g<tnpOXst!Z#d%m&r&t&u&w,s,x2[2_Q!fPS#fZ#oQ&|!`W'h!o*i0]4zQ(P#SQ)Q#{Q)r$nS,l&k&nQ,q&oQ-O&{S-T'T/nQ-g'bQ.x)OQ/[)sQ0s+]Q0y+gQ2W,pQ2y-iQ3a.gQ4W/VQ5U0lQ6Q1rQ6c2SQ6d2TQ6h2VQ6j2XQ6o2aQ7Z3dQ7m4TQ8s6TQ9P6eQ9Q6fQ9S6iQ9f7[Q:a8tR:k9T#[cOPXZst!Z!`!o#d#o#{%m&k&n&o&r&t&u&w&{'T'b)O*i+]+g,p,s,x-i.g/n0]0l1r2S2T2V2X2[2_2a3d4z6T6e6f6i7[8t9TQ#YWQ#eYQ%quQ%svS%uw!gS(S#W(VQ(Y#ZQ(t#uQ(y#xQ)R$OQ)S$PQ)T$QQ)U$RQ)V$SQ)W$TQ)X$UQ)Y$VQ)Z$WQ)[$XQ)^$ZQ)`$_Q)b$aQ)g$eW)q$n)s/V4TQ+d%tQ+x&RS-Z'X2pQ-x'rS-}(T.PQ.S(]Q.U(dQ.s(xQ.v(zQ.z<UQ.|<XQ.}<YQ/O<]Q/b)}Q0p+XQ2k-UQ2n-XQ3O-qQ3V.VQ3k.tQ3p<^Q3q<_Q3r<`Q3s<aQ3t<bQ3u<cQ3v<dQ3w<eQ3x<fQ3y<gQ3z<hQ3{.{Q3|<kQ4P<nQ4Q<{Q4X<iQ5X0rQ5c1SQ6u=OQ6{3QQ7Q3WQ7a3lQ7b=PQ7k=RQ7l=ZQ8k5wQ9X6sQ9]6|Q9g=[Q9m=eQ9n=fQ:o9_Q;W:ZQ;`:mQ<W#SR=v>SR#[WR'Z!el!tQ!r!v!y!z'`'l'm'n-e-u1o5{5}S'V!e-]U*j$|*Z*oS-Y'W'_S0U*k*qQ0^*rQ2u-cQ4v0[R4{0_R({#xQ!fQT-d'`-e]!qQ!r'`-e1o5{Q#p]R'i<VR)f$dY!uQ'`-e1o5{Q'k!rS'u!v!yS'w!z5}S-t'l'mQ-v'nR3T-uT#kZ%eS#jZ%eS%km,oU(g#h#i#lS.Y(h(iQ.^(jQ0t+^Q3Y.ZU3Z.[.]._S7S3[3]R9`7Td#^W#W#Z%h(T(^*Y+Z.T/mr#gZm#h#i#l%e(h(i(j+^.Z.[.]._3[3]7TS*]$x*bQ/t*^Q2U,oQ2l-VQ4`/pQ6q2dQ7s4aQ9W6rT=m'X+[V#aW%h*YU#`W%h*YS(U#W(^U(Z#Z+Z/mS-['X+[T.O(T.TV'^!e%i*ZQ$lfR)x$qT)m$l)nR4V/UT*_$x*bT*h${*YQ0w+fQ1g,VQ3_.fQ5t1iQ6P1qQ7X3cQ8r6SQ9c7WQ:^8qQ:p9bQ;Z:`Q;c:rQ;n;[R;q;dnqOXst!Z#d%m&r&t&u&w,s,x2[2_Q&l!VR,h&itmOXst!U!V!Z#d%m&i&r&t&u&w,s,x2[2_R,o&oT%lm,oR1k,XR,g&gQ&U|S+}&V&WR1^,OR+s&PT&p!W&sT&q!W&sT2^,x2_",nodeNames:"⚠ ArithOp ArithOp ?. JSXStartTag LineComment BlockComment Script Hashbang ExportDeclaration export Star as VariableName String Escape from ; default FunctionDeclaration async function VariableDefinition > < TypeParamList in out const TypeDefinition extends ThisType this LiteralType ArithOp Number BooleanLiteral TemplateType InterpolationEnd Interpolation InterpolationStart NullType null VoidType void TypeofType typeof MemberExpression . PropertyName [ TemplateString Escape Interpolation super RegExp ] ArrayExpression Spread , } { ObjectExpression Property async get set PropertyDefinition Block : NewTarget new NewExpression ) ( ArgList UnaryExpression delete LogicOp BitOp YieldExpression yield AwaitExpression await ParenthesizedExpression ClassExpression class ClassBody MethodDeclaration Decorator @ MemberExpression PrivatePropertyName CallExpression TypeArgList CompareOp < declare Privacy static abstract override PrivatePropertyDefinition PropertyDeclaration readonly accessor Optional TypeAnnotation Equals StaticBlock FunctionExpression ArrowFunction ParamList ParamList ArrayPattern ObjectPattern PatternProperty Privacy readonly Arrow MemberExpression BinaryExpression ArithOp ArithOp ArithOp ArithOp BitOp CompareOp instanceof satisfies CompareOp BitOp BitOp BitOp LogicOp LogicOp ConditionalExpression LogicOp LogicOp AssignmentExpression UpdateOp PostfixExpression CallExpression InstantiationExpression TaggedTemplateExpression DynamicImport import ImportMeta JSXElement JSXSelfCloseEndTag JSXSelfClosingTag JSXIdentifier JSXBuiltin JSXIdentifier JSXNamespacedName JSXMemberExpression JSXSpreadAttribute JSXAttribute JSXAttributeValue JSXEscape JSXEndTag JSXOpenTag JSXFragmentTag JSXText JSXEscape JSXStartCloseTag JSXCloseTag PrefixCast < ArrowFunction TypeParamList SequenceExpression InstantiationExpression KeyofType keyof UniqueType unique ImportType InferredType infer TypeName ParenthesizedType FunctionSignature ParamList NewSignature IndexedType TupleType Label ArrayType ReadonlyType ObjectType MethodType PropertyType IndexSignature PropertyDefinition CallSignature TypePredicate asserts is NewSignature new UnionType LogicOp IntersectionType LogicOp ConditionalType ParameterizedType ClassDeclaration abstract implements type VariableDeclaration let var using TypeAliasDeclaration InterfaceDeclaration interface EnumDeclaration enum EnumBody NamespaceDeclaration namespace module AmbientDeclaration declare GlobalDeclaration global ClassDeclaration ClassBody AmbientFunctionDeclaration ExportGroup VariableName VariableName ImportDeclaration defer ImportGroup ForStatement for ForSpec ForInSpec ForOfSpec of WhileStatement while WithStatement with DoStatement do IfStatement if else SwitchStatement switch SwitchBody CaseLabel case DefaultLabel TryStatement try CatchClause catch FinallyClause finally ReturnStatement return ThrowStatement throw BreakStatement break ContinueStatement continue DebuggerStatement debugger LabeledStatement ExpressionStatement SingleExpression SingleClassItem",maxTerm:380,context:W_,nodeProps:[["isolate",-8,5,6,14,37,39,51,53,55,""],["group",-26,9,17,19,68,207,211,215,216,218,221,224,234,237,243,245,247,249,252,258,264,266,268,270,272,274,275,"Statement",-34,13,14,32,35,36,42,51,54,55,57,62,70,72,76,80,82,84,85,110,111,120,121,136,139,141,142,143,144,145,147,148,167,169,171,"Expression",-23,31,33,37,41,43,45,173,175,177,178,180,181,182,184,185,186,188,189,190,201,203,205,206,"Type",-3,88,103,109,"ClassItem"],["openedBy",23,"<",38,"InterpolationStart",56,"[",60,"{",73,"(",160,"JSXStartCloseTag"],["closedBy",-2,24,168,">",40,"InterpolationEnd",50,"]",61,"}",74,")",165,"JSXEndTag"]],propSources:[eP],skippedNodes:[0,5,6,278],repeatNodeCount:37,tokenData:"$Fq07[R!bOX%ZXY+gYZ-yZ[+g[]%Z]^.c^p%Zpq+gqr/mrs3cst:_tuEruvJSvwLkwx! Yxy!'iyz!(sz{!)}{|!,q|}!.O}!O!,q!O!P!/Y!P!Q!9j!Q!R#:O!R![#<_![!]#I_!]!^#Jk!^!_#Ku!_!`$![!`!a$$v!a!b$*T!b!c$,r!c!}Er!}#O$-|#O#P$/W#P#Q$4o#Q#R$5y#R#SEr#S#T$7W#T#o$8b#o#p$<r#p#q$=h#q#r$>x#r#s$@U#s$f%Z$f$g+g$g#BYEr#BY#BZ$A`#BZ$ISEr$IS$I_$A`$I_$I|Er$I|$I}$Dk$I}$JO$Dk$JO$JTEr$JT$JU$A`$JU$KVEr$KV$KW$A`$KW&FUEr&FU&FV$A`&FV;'SEr;'S;=`I|<%l?HTEr?HT?HU$A`?HUOEr(n%d_$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z&j&hT$i&jO!^&c!_#o&c#p;'S&c;'S;=`&w<%lO&c&j&zP;=`<%l&c'|'U]$i&j(Z!bOY&}YZ&cZw&}wx&cx!^&}!^!_'}!_#O&}#O#P&c#P#o&}#o#p'}#p;'S&};'S;=`(l<%lO&}!b(SU(Z!bOY'}Zw'}x#O'}#P;'S'};'S;=`(f<%lO'}!b(iP;=`<%l'}'|(oP;=`<%l&}'[(y]$i&j(WpOY(rYZ&cZr(rrs&cs!^(r!^!_)r!_#O(r#O#P&c#P#o(r#o#p)r#p;'S(r;'S;=`*a<%lO(rp)wU(WpOY)rZr)rs#O)r#P;'S)r;'S;=`*Z<%lO)rp*^P;=`<%l)r'[*dP;=`<%l(r#S*nX(Wp(Z!bOY*gZr*grs'}sw*gwx)rx#O*g#P;'S*g;'S;=`+Z<%lO*g#S+^P;=`<%l*g(n+dP;=`<%l%Z07[+rq$i&j(Wp(Z!b'|0/lOX%ZXY+gYZ&cZ[+g[p%Zpq+gqr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p$f%Z$f$g+g$g#BY%Z#BY#BZ+g#BZ$IS%Z$IS$I_+g$I_$JT%Z$JT$JU+g$JU$KV%Z$KV$KW+g$KW&FU%Z&FU&FV+g&FV;'S%Z;'S;=`+a<%l?HT%Z?HT?HU+g?HUO%Z07[.ST(X#S$i&j'}0/lO!^&c!_#o&c#p;'S&c;'S;=`&w<%lO&c07[.n_$i&j(Wp(Z!b'}0/lOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z)3p/x`$i&j!p),Q(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`0z!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KW1V`#v(Ch$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`2X!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KW2d_#v(Ch$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'At3l_(V':f$i&j(Z!bOY4kYZ5qZr4krs7nsw4kwx5qx!^4k!^!_8p!_#O4k#O#P5q#P#o4k#o#p8p#p;'S4k;'S;=`:X<%lO4k(^4r_$i&j(Z!bOY4kYZ5qZr4krs7nsw4kwx5qx!^4k!^!_8p!_#O4k#O#P5q#P#o4k#o#p8p#p;'S4k;'S;=`:X<%lO4k&z5vX$i&jOr5qrs6cs!^5q!^!_6y!_#o5q#o#p6y#p;'S5q;'S;=`7h<%lO5q&z6jT$d`$i&jO!^&c!_#o&c#p;'S&c;'S;=`&w<%lO&c`6|TOr6yrs7]s;'S6y;'S;=`7b<%lO6y`7bO$d``7eP;=`<%l6y&z7kP;=`<%l5q(^7w]$d`$i&j(Z!bOY&}YZ&cZw&}wx&cx!^&}!^!_'}!_#O&}#O#P&c#P#o&}#o#p'}#p;'S&};'S;=`(l<%lO&}!r8uZ(Z!bOY8pYZ6yZr8prs9hsw8pwx6yx#O8p#O#P6y#P;'S8p;'S;=`:R<%lO8p!r9oU$d`(Z!bOY'}Zw'}x#O'}#P;'S'};'S;=`(f<%lO'}!r:UP;=`<%l8p(^:[P;=`<%l4k%9[:hh$i&j(Wp(Z!bOY%ZYZ&cZq%Zqr<Srs&}st%ZtuCruw%Zwx(rx!^%Z!^!_*g!_!c%Z!c!}Cr!}#O%Z#O#P&c#P#R%Z#R#SCr#S#T%Z#T#oCr#o#p*g#p$g%Z$g;'SCr;'S;=`El<%lOCr(r<__WS$i&j(Wp(Z!bOY<SYZ&cZr<Srs=^sw<Swx@nx!^<S!^!_Bm!_#O<S#O#P>`#P#o<S#o#pBm#p;'S<S;'S;=`Cl<%lO<S(Q=g]WS$i&j(Z!bOY=^YZ&cZw=^wx>`x!^=^!^!_?q!_#O=^#O#P>`#P#o=^#o#p?q#p;'S=^;'S;=`@h<%lO=^&n>gXWS$i&jOY>`YZ&cZ!^>`!^!_?S!_#o>`#o#p?S#p;'S>`;'S;=`?k<%lO>`S?XSWSOY?SZ;'S?S;'S;=`?e<%lO?SS?hP;=`<%l?S&n?nP;=`<%l>`!f?xWWS(Z!bOY?qZw?qwx?Sx#O?q#O#P?S#P;'S?q;'S;=`@b<%lO?q!f@eP;=`<%l?q(Q@kP;=`<%l=^'`@w]WS$i&j(WpOY@nYZ&cZr@nrs>`s!^@n!^!_Ap!_#O@n#O#P>`#P#o@n#o#pAp#p;'S@n;'S;=`Bg<%lO@ntAwWWS(WpOYApZrAprs?Ss#OAp#O#P?S#P;'SAp;'S;=`Ba<%lOAptBdP;=`<%lAp'`BjP;=`<%l@n#WBvYWS(Wp(Z!bOYBmZrBmrs?qswBmwxApx#OBm#O#P?S#P;'SBm;'S;=`Cf<%lOBm#WCiP;=`<%lBm(rCoP;=`<%l<S%9[C}i$i&j(o%1l(Wp(Z!bOY%ZYZ&cZr%Zrs&}st%ZtuCruw%Zwx(rx!Q%Z!Q![Cr![!^%Z!^!_*g!_!c%Z!c!}Cr!}#O%Z#O#P&c#P#R%Z#R#SCr#S#T%Z#T#oCr#o#p*g#p$g%Z$g;'SCr;'S;=`El<%lOCr%9[EoP;=`<%lCr07[FRk$i&j(Wp(Z!b$]#t(T,2j(e$I[OY%ZYZ&cZr%Zrs&}st%ZtuEruw%Zwx(rx}%Z}!OGv!O!Q%Z!Q![Er![!^%Z!^!_*g!_!c%Z!c!}Er!}#O%Z#O#P&c#P#R%Z#R#SEr#S#T%Z#T#oEr#o#p*g#p$g%Z$g;'SEr;'S;=`I|<%lOEr+dHRk$i&j(Wp(Z!b$]#tOY%ZYZ&cZr%Zrs&}st%ZtuGvuw%Zwx(rx}%Z}!OGv!O!Q%Z!Q![Gv![!^%Z!^!_*g!_!c%Z!c!}Gv!}#O%Z#O#P&c#P#R%Z#R#SGv#S#T%Z#T#oGv#o#p*g#p$g%Z$g;'SGv;'S;=`Iv<%lOGv+dIyP;=`<%lGv07[JPP;=`<%lEr(KWJ_`$i&j(Wp(Z!b#p(ChOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KWKl_$i&j$Q(Ch(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z,#xLva(z+JY$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sv%ZvwM{wx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KWNW`$i&j#z(Ch(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'At! c_(Y';W$i&j(WpOY!!bYZ!#hZr!!brs!#hsw!!bwx!$xx!^!!b!^!_!%z!_#O!!b#O#P!#h#P#o!!b#o#p!%z#p;'S!!b;'S;=`!'c<%lO!!b'l!!i_$i&j(WpOY!!bYZ!#hZr!!brs!#hsw!!bwx!$xx!^!!b!^!_!%z!_#O!!b#O#P!#h#P#o!!b#o#p!%z#p;'S!!b;'S;=`!'c<%lO!!b&z!#mX$i&jOw!#hwx6cx!^!#h!^!_!$Y!_#o!#h#o#p!$Y#p;'S!#h;'S;=`!$r<%lO!#h`!$]TOw!$Ywx7]x;'S!$Y;'S;=`!$l<%lO!$Y`!$oP;=`<%l!$Y&z!$uP;=`<%l!#h'l!%R]$d`$i&j(WpOY(rYZ&cZr(rrs&cs!^(r!^!_)r!_#O(r#O#P&c#P#o(r#o#p)r#p;'S(r;'S;=`*a<%lO(r!Q!&PZ(WpOY!%zYZ!$YZr!%zrs!$Ysw!%zwx!&rx#O!%z#O#P!$Y#P;'S!%z;'S;=`!']<%lO!%z!Q!&yU$d`(WpOY)rZr)rs#O)r#P;'S)r;'S;=`*Z<%lO)r!Q!'`P;=`<%l!%z'l!'fP;=`<%l!!b/5|!'t_!l/.^$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z#&U!)O_!k!Lf$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z-!n!*[b$i&j(Wp(Z!b(U%&f#q(ChOY%ZYZ&cZr%Zrs&}sw%Zwx(rxz%Zz{!+d{!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KW!+o`$i&j(Wp(Z!b#n(ChOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z+;x!,|`$i&j(Wp(Z!br+4YOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z,$U!.Z_!]+Jf$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z07[!/ec$i&j(Wp(Z!b!Q.2^OY%ZYZ&cZr%Zrs&}sw%Zwx(rx!O%Z!O!P!0p!P!Q%Z!Q![!3Y![!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z#%|!0ya$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!O%Z!O!P!2O!P!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z#%|!2Z_![!L^$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad!3eg$i&j(Wp(Z!bs'9tOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q![!3Y![!^%Z!^!_*g!_!g%Z!g!h!4|!h#O%Z#O#P&c#P#R%Z#R#S!3Y#S#X%Z#X#Y!4|#Y#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad!5Vg$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx{%Z{|!6n|}%Z}!O!6n!O!Q%Z!Q![!8S![!^%Z!^!_*g!_#O%Z#O#P&c#P#R%Z#R#S!8S#S#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad!6wc$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q![!8S![!^%Z!^!_*g!_#O%Z#O#P&c#P#R%Z#R#S!8S#S#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad!8_c$i&j(Wp(Z!bs'9tOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q![!8S![!^%Z!^!_*g!_#O%Z#O#P&c#P#R%Z#R#S!8S#S#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z07[!9uf$i&j(Wp(Z!b#o(ChOY!;ZYZ&cZr!;Zrs!<nsw!;Zwx!Lcxz!;Zz{#-}{!P!;Z!P!Q#/d!Q!^!;Z!^!_#(i!_!`#7S!`!a#8i!a!}!;Z!}#O#,f#O#P!Dy#P#o!;Z#o#p#(i#p;'S!;Z;'S;=`#-w<%lO!;Z?O!;fb$i&j(Wp(Z!b!X7`OY!;ZYZ&cZr!;Zrs!<nsw!;Zwx!Lcx!P!;Z!P!Q#&`!Q!^!;Z!^!_#(i!_!}!;Z!}#O#,f#O#P!Dy#P#o!;Z#o#p#(i#p;'S!;Z;'S;=`#-w<%lO!;Z>^!<w`$i&j(Z!b!X7`OY!<nYZ&cZw!<nwx!=yx!P!<n!P!Q!Eq!Q!^!<n!^!_!Gr!_!}!<n!}#O!KS#O#P!Dy#P#o!<n#o#p!Gr#p;'S!<n;'S;=`!L]<%lO!<n<z!>Q^$i&j!X7`OY!=yYZ&cZ!P!=y!P!Q!>|!Q!^!=y!^!_!@c!_!}!=y!}#O!CW#O#P!Dy#P#o!=y#o#p!@c#p;'S!=y;'S;=`!Ek<%lO!=y<z!?Td$i&j!X7`O!^&c!_#W&c#W#X!>|#X#Z&c#Z#[!>|#[#]&c#]#^!>|#^#a&c#a#b!>|#b#g&c#g#h!>|#h#i&c#i#j!>|#j#k!>|#k#m&c#m#n!>|#n#o&c#p;'S&c;'S;=`&w<%lO&c7`!@hX!X7`OY!@cZ!P!@c!P!Q!AT!Q!}!@c!}#O!Ar#O#P!Bq#P;'S!@c;'S;=`!CQ<%lO!@c7`!AYW!X7`#W#X!AT#Z#[!AT#]#^!AT#a#b!AT#g#h!AT#i#j!AT#j#k!AT#m#n!AT7`!AuVOY!ArZ#O!Ar#O#P!B[#P#Q!@c#Q;'S!Ar;'S;=`!Bk<%lO!Ar7`!B_SOY!ArZ;'S!Ar;'S;=`!Bk<%lO!Ar7`!BnP;=`<%l!Ar7`!BtSOY!@cZ;'S!@c;'S;=`!CQ<%lO!@c7`!CTP;=`<%l!@c<z!C][$i&jOY!CWYZ&cZ!^!CW!^!_!Ar!_#O!CW#O#P!DR#P#Q!=y#Q#o!CW#o#p!Ar#p;'S!CW;'S;=`!Ds<%lO!CW<z!DWX$i&jOY!CWYZ&cZ!^!CW!^!_!Ar!_#o!CW#o#p!Ar#p;'S!CW;'S;=`!Ds<%lO!CW<z!DvP;=`<%l!CW<z!EOX$i&jOY!=yYZ&cZ!^!=y!^!_!@c!_#o!=y#o#p!@c#p;'S!=y;'S;=`!Ek<%lO!=y<z!EnP;=`<%l!=y>^!Ezl$i&j(Z!b!X7`OY&}YZ&cZw&}wx&cx!^&}!^!_'}!_#O&}#O#P&c#P#W&}#W#X!Eq#X#Z&}#Z#[!Eq#[#]&}#]#^!Eq#^#a&}#a#b!Eq#b#g&}#g#h!Eq#h#i&}#i#j!Eq#j#k!Eq#k#m&}#m#n!Eq#n#o&}#o#p'}#p;'S&};'S;=`(l<%lO&}8r!GyZ(Z!b!X7`OY!GrZw!Grwx!@cx!P!Gr!P!Q!Hl!Q!}!Gr!}#O!JU#O#P!Bq#P;'S!Gr;'S;=`!J|<%lO!Gr8r!Hse(Z!b!X7`OY'}Zw'}x#O'}#P#W'}#W#X!Hl#X#Z'}#Z#[!Hl#[#]'}#]#^!Hl#^#a'}#a#b!Hl#b#g'}#g#h!Hl#h#i'}#i#j!Hl#j#k!Hl#k#m'}#m#n!Hl#n;'S'};'S;=`(f<%lO'}8r!JZX(Z!bOY!JUZw!JUwx!Arx#O!JU#O#P!B[#P#Q!Gr#Q;'S!JU;'S;=`!Jv<%lO!JU8r!JyP;=`<%l!JU8r!KPP;=`<%l!Gr>^!KZ^$i&j(Z!bOY!KSYZ&cZw!KSwx!CWx!^!KS!^!_!JU!_#O!KS#O#P!DR#P#Q!<n#Q#o!KS#o#p!JU#p;'S!KS;'S;=`!LV<%lO!KS>^!LYP;=`<%l!KS>^!L`P;=`<%l!<n=l!Ll`$i&j(Wp!X7`OY!LcYZ&cZr!Lcrs!=ys!P!Lc!P!Q!Mn!Q!^!Lc!^!_# o!_!}!Lc!}#O#%P#O#P!Dy#P#o!Lc#o#p# o#p;'S!Lc;'S;=`#&Y<%lO!Lc=l!Mwl$i&j(Wp!X7`OY(rYZ&cZr(rrs&cs!^(r!^!_)r!_#O(r#O#P&c#P#W(r#W#X!Mn#X#Z(r#Z#[!Mn#[#](r#]#^!Mn#^#a(r#a#b!Mn#b#g(r#g#h!Mn#h#i(r#i#j!Mn#j#k!Mn#k#m(r#m#n!Mn#n#o(r#o#p)r#p;'S(r;'S;=`*a<%lO(r8Q# vZ(Wp!X7`OY# oZr# ors!@cs!P# o!P!Q#!i!Q!}# o!}#O#$R#O#P!Bq#P;'S# o;'S;=`#$y<%lO# o8Q#!pe(Wp!X7`OY)rZr)rs#O)r#P#W)r#W#X#!i#X#Z)r#Z#[#!i#[#])r#]#^#!i#^#a)r#a#b#!i#b#g)r#g#h#!i#h#i)r#i#j#!i#j#k#!i#k#m)r#m#n#!i#n;'S)r;'S;=`*Z<%lO)r8Q#$WX(WpOY#$RZr#$Rrs!Ars#O#$R#O#P!B[#P#Q# o#Q;'S#$R;'S;=`#$s<%lO#$R8Q#$vP;=`<%l#$R8Q#$|P;=`<%l# o=l#%W^$i&j(WpOY#%PYZ&cZr#%Prs!CWs!^#%P!^!_#$R!_#O#%P#O#P!DR#P#Q!Lc#Q#o#%P#o#p#$R#p;'S#%P;'S;=`#&S<%lO#%P=l#&VP;=`<%l#%P=l#&]P;=`<%l!Lc?O#&kn$i&j(Wp(Z!b!X7`OY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#W%Z#W#X#&`#X#Z%Z#Z#[#&`#[#]%Z#]#^#&`#^#a%Z#a#b#&`#b#g%Z#g#h#&`#h#i%Z#i#j#&`#j#k#&`#k#m%Z#m#n#&`#n#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z9d#(r](Wp(Z!b!X7`OY#(iZr#(irs!Grsw#(iwx# ox!P#(i!P!Q#)k!Q!}#(i!}#O#+`#O#P!Bq#P;'S#(i;'S;=`#,`<%lO#(i9d#)th(Wp(Z!b!X7`OY*gZr*grs'}sw*gwx)rx#O*g#P#W*g#W#X#)k#X#Z*g#Z#[#)k#[#]*g#]#^#)k#^#a*g#a#b#)k#b#g*g#g#h#)k#h#i*g#i#j#)k#j#k#)k#k#m*g#m#n#)k#n;'S*g;'S;=`+Z<%lO*g9d#+gZ(Wp(Z!bOY#+`Zr#+`rs!JUsw#+`wx#$Rx#O#+`#O#P!B[#P#Q#(i#Q;'S#+`;'S;=`#,Y<%lO#+`9d#,]P;=`<%l#+`9d#,cP;=`<%l#(i?O#,o`$i&j(Wp(Z!bOY#,fYZ&cZr#,frs!KSsw#,fwx#%Px!^#,f!^!_#+`!_#O#,f#O#P!DR#P#Q!;Z#Q#o#,f#o#p#+`#p;'S#,f;'S;=`#-q<%lO#,f?O#-tP;=`<%l#,f?O#-zP;=`<%l!;Z07[#.[b$i&j(Wp(Z!b(O0/l!X7`OY!;ZYZ&cZr!;Zrs!<nsw!;Zwx!Lcx!P!;Z!P!Q#&`!Q!^!;Z!^!_#(i!_!}!;Z!}#O#,f#O#P!Dy#P#o!;Z#o#p#(i#p;'S!;Z;'S;=`#-w<%lO!;Z07[#/o_$i&j(Wp(Z!bT0/lOY#/dYZ&cZr#/drs#0nsw#/dwx#4Ox!^#/d!^!_#5}!_#O#/d#O#P#1p#P#o#/d#o#p#5}#p;'S#/d;'S;=`#6|<%lO#/d06j#0w]$i&j(Z!bT0/lOY#0nYZ&cZw#0nwx#1px!^#0n!^!_#3R!_#O#0n#O#P#1p#P#o#0n#o#p#3R#p;'S#0n;'S;=`#3x<%lO#0n05W#1wX$i&jT0/lOY#1pYZ&cZ!^#1p!^!_#2d!_#o#1p#o#p#2d#p;'S#1p;'S;=`#2{<%lO#1p0/l#2iST0/lOY#2dZ;'S#2d;'S;=`#2u<%lO#2d0/l#2xP;=`<%l#2d05W#3OP;=`<%l#1p01O#3YW(Z!bT0/lOY#3RZw#3Rwx#2dx#O#3R#O#P#2d#P;'S#3R;'S;=`#3r<%lO#3R01O#3uP;=`<%l#3R06j#3{P;=`<%l#0n05x#4X]$i&j(WpT0/lOY#4OYZ&cZr#4Ors#1ps!^#4O!^!_#5Q!_#O#4O#O#P#1p#P#o#4O#o#p#5Q#p;'S#4O;'S;=`#5w<%lO#4O00^#5XW(WpT0/lOY#5QZr#5Qrs#2ds#O#5Q#O#P#2d#P;'S#5Q;'S;=`#5q<%lO#5Q00^#5tP;=`<%l#5Q05x#5zP;=`<%l#4O01p#6WY(Wp(Z!bT0/lOY#5}Zr#5}rs#3Rsw#5}wx#5Qx#O#5}#O#P#2d#P;'S#5};'S;=`#6v<%lO#5}01p#6yP;=`<%l#5}07[#7PP;=`<%l#/d)3h#7ab$i&j$Q(Ch(Wp(Z!b!X7`OY!;ZYZ&cZr!;Zrs!<nsw!;Zwx!Lcx!P!;Z!P!Q#&`!Q!^!;Z!^!_#(i!_!}!;Z!}#O#,f#O#P!Dy#P#o!;Z#o#p#(i#p;'S!;Z;'S;=`#-w<%lO!;ZAt#8vb$Z#t$i&j(Wp(Z!b!X7`OY!;ZYZ&cZr!;Zrs!<nsw!;Zwx!Lcx!P!;Z!P!Q#&`!Q!^!;Z!^!_#(i!_!}!;Z!}#O#,f#O#P!Dy#P#o!;Z#o#p#(i#p;'S!;Z;'S;=`#-w<%lO!;Z'Ad#:Zp$i&j(Wp(Z!bs'9tOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!O%Z!O!P!3Y!P!Q%Z!Q![#<_![!^%Z!^!_*g!_!g%Z!g!h!4|!h#O%Z#O#P&c#P#R%Z#R#S#<_#S#U%Z#U#V#?i#V#X%Z#X#Y!4|#Y#b%Z#b#c#>_#c#d#Bq#d#l%Z#l#m#Es#m#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad#<jk$i&j(Wp(Z!bs'9tOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!O%Z!O!P!3Y!P!Q%Z!Q![#<_![!^%Z!^!_*g!_!g%Z!g!h!4|!h#O%Z#O#P&c#P#R%Z#R#S#<_#S#X%Z#X#Y!4|#Y#b%Z#b#c#>_#c#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad#>j_$i&j(Wp(Z!bs'9tOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad#?rd$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q!R#AQ!R!S#AQ!S!^%Z!^!_*g!_#O%Z#O#P&c#P#R%Z#R#S#AQ#S#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad#A]f$i&j(Wp(Z!bs'9tOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q!R#AQ!R!S#AQ!S!^%Z!^!_*g!_#O%Z#O#P&c#P#R%Z#R#S#AQ#S#b%Z#b#c#>_#c#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad#Bzc$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q!Y#DV!Y!^%Z!^!_*g!_#O%Z#O#P&c#P#R%Z#R#S#DV#S#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad#Dbe$i&j(Wp(Z!bs'9tOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q!Y#DV!Y!^%Z!^!_*g!_#O%Z#O#P&c#P#R%Z#R#S#DV#S#b%Z#b#c#>_#c#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad#E|g$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q![#Ge![!^%Z!^!_*g!_!c%Z!c!i#Ge!i#O%Z#O#P&c#P#R%Z#R#S#Ge#S#T%Z#T#Z#Ge#Z#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z'Ad#Gpi$i&j(Wp(Z!bs'9tOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!Q%Z!Q![#Ge![!^%Z!^!_*g!_!c%Z!c!i#Ge!i#O%Z#O#P&c#P#R%Z#R#S#Ge#S#T%Z#T#Z#Ge#Z#b%Z#b#c#>_#c#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z*)x#Il_!g$b$i&j$O)Lv(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z)[#Jv_al$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z04f#LS^h#)`#R-<U(Wp(Z!b$n7`OY*gZr*grs'}sw*gwx)rx!P*g!P!Q#MO!Q!^*g!^!_#Mt!_!`$ f!`#O*g#P;'S*g;'S;=`+Z<%lO*g(n#MXX$k&j(Wp(Z!bOY*gZr*grs'}sw*gwx)rx#O*g#P;'S*g;'S;=`+Z<%lO*g(El#M}Z#r(Ch(Wp(Z!bOY*gZr*grs'}sw*gwx)rx!_*g!_!`#Np!`#O*g#P;'S*g;'S;=`+Z<%lO*g(El#NyX$Q(Ch(Wp(Z!bOY*gZr*grs'}sw*gwx)rx#O*g#P;'S*g;'S;=`+Z<%lO*g(El$ oX#s(Ch(Wp(Z!bOY*gZr*grs'}sw*gwx)rx#O*g#P;'S*g;'S;=`+Z<%lO*g*)x$!ga#`*!Y$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`0z!`!a$#l!a#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(K[$#w_#k(Cl$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z*)x$%Vag!*r#s(Ch$f#|$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`$&[!`!a$'f!a#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KW$&g_#s(Ch$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KW$'qa#r(Ch$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`!a$(v!a#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KW$)R`#r(Ch$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(Kd$*`a(r(Ct$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!a%Z!a!b$+e!b#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KW$+p`$i&j#{(Ch(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z%#`$,}_!|$Ip$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z04f$.X_!S0,v$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(n$/]Z$i&jO!^$0O!^!_$0f!_#i$0O#i#j$0k#j#l$0O#l#m$2^#m#o$0O#o#p$0f#p;'S$0O;'S;=`$4i<%lO$0O(n$0VT_#S$i&jO!^&c!_#o&c#p;'S&c;'S;=`&w<%lO&c#S$0kO_#S(n$0p[$i&jO!Q&c!Q![$1f![!^&c!_!c&c!c!i$1f!i#T&c#T#Z$1f#Z#o&c#o#p$3|#p;'S&c;'S;=`&w<%lO&c(n$1kZ$i&jO!Q&c!Q![$2^![!^&c!_!c&c!c!i$2^!i#T&c#T#Z$2^#Z#o&c#p;'S&c;'S;=`&w<%lO&c(n$2cZ$i&jO!Q&c!Q![$3U![!^&c!_!c&c!c!i$3U!i#T&c#T#Z$3U#Z#o&c#p;'S&c;'S;=`&w<%lO&c(n$3ZZ$i&jO!Q&c!Q![$0O![!^&c!_!c&c!c!i$0O!i#T&c#T#Z$0O#Z#o&c#p;'S&c;'S;=`&w<%lO&c#S$4PR!Q![$4Y!c!i$4Y#T#Z$4Y#S$4]S!Q![$4Y!c!i$4Y#T#Z$4Y#q#r$0f(n$4lP;=`<%l$0O#1[$4z_!Y#)l$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z(KW$6U`#x(Ch$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z+;p$7c_$i&j(Wp(Z!b(a+4QOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z07[$8qk$i&j(Wp(Z!b(T,2j$_#t(e$I[OY%ZYZ&cZr%Zrs&}st%Ztu$8buw%Zwx(rx}%Z}!O$:f!O!Q%Z!Q![$8b![!^%Z!^!_*g!_!c%Z!c!}$8b!}#O%Z#O#P&c#P#R%Z#R#S$8b#S#T%Z#T#o$8b#o#p*g#p$g%Z$g;'S$8b;'S;=`$<l<%lO$8b+d$:qk$i&j(Wp(Z!b$_#tOY%ZYZ&cZr%Zrs&}st%Ztu$:fuw%Zwx(rx}%Z}!O$:f!O!Q%Z!Q![$:f![!^%Z!^!_*g!_!c%Z!c!}$:f!}#O%Z#O#P&c#P#R%Z#R#S$:f#S#T%Z#T#o$:f#o#p*g#p$g%Z$g;'S$:f;'S;=`$<f<%lO$:f+d$<iP;=`<%l$:f07[$<oP;=`<%l$8b#Jf$<{X!_#Hb(Wp(Z!bOY*gZr*grs'}sw*gwx)rx#O*g#P;'S*g;'S;=`+Z<%lO*g,#x$=sa(y+JY$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_!`Ka!`#O%Z#O#P&c#P#o%Z#o#p*g#p#q$+e#q;'S%Z;'S;=`+a<%lO%Z)>v$?V_!^(CdvBr$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z?O$@a_!q7`$i&j(Wp(Z!bOY%ZYZ&cZr%Zrs&}sw%Zwx(rx!^%Z!^!_*g!_#O%Z#O#P&c#P#o%Z#o#p*g#p;'S%Z;'S;=`+a<%lO%Z07[$Aq|$i&j(Wp(Z!b'|0/l$]#t(T,2j(e$I[OX%ZXY+gYZ&cZ[+g[p%Zpq+gqr%Zrs&}st%ZtuEruw%Zwx(rx}%Z}!OGv!O!Q%Z!Q![Er![!^%Z!^!_*g!_!c%Z!c!}Er!}#O%Z#O#P&c#P#R%Z#R#SEr#S#T%Z#T#oEr#o#p*g#p$f%Z$f$g+g$g#BYEr#BY#BZ$A`#BZ$ISEr$IS$I_$A`$I_$JTEr$JT$JU$A`$JU$KVEr$KV$KW$A`$KW&FUEr&FU&FV$A`&FV;'SEr;'S;=`I|<%l?HTEr?HT?HU$A`?HUOEr07[$D|k$i&j(Wp(Z!b'}0/l$]#t(T,2j(e$I[OY%ZYZ&cZr%Zrs&}st%ZtuEruw%Zwx(rx}%Z}!OGv!O!Q%Z!Q![Er![!^%Z!^!_*g!_!c%Z!c!}Er!}#O%Z#O#P&c#P#R%Z#R#SEr#S#T%Z#T#oEr#o#p*g#p$g%Z$g;'SEr;'S;=`I|<%lOEr",tokenizers:[U_,H_,K_,J_,2,3,4,5,6,7,8,9,10,11,12,13,14,G_,new xo("$S~RRtu[#O#Pg#S#T#|~_P#o#pb~gOx~~jVO#i!P#i#j!U#j#l!P#l#m!q#m;'S!P;'S;=`#v<%lO!P~!UO!U~~!XS!Q![!e!c!i!e#T#Z!e#o#p#Z~!hR!Q![!q!c!i!q#T#Z!q~!tR!Q![!}!c!i!}#T#Z!}~#QR!Q![!P!c!i!P#T#Z!P~#^R!Q![#g!c!i#g#T#Z#g~#jS!Q![#g!c!i#g#T#Z#g#q#r!P~#yP;=`<%l!P~$RO(c~~",141,340),new xo("j~RQYZXz{^~^O(Q~~aP!P!Qd~iO(R~~",25,323)],topRules:{Script:[0,7],SingleExpression:[1,276],SingleClassItem:[2,277]},dialects:{jsx:0,ts:15175},dynamicPrecedences:{80:1,82:1,94:1,169:1,199:1},specialized:[{term:327,get:t=>tP[t]||-1},{term:343,get:t=>iP[t]||-1},{term:95,get:t=>nP[t]||-1}],tokenPrec:15201}),ic=[Ke("function ${name}(${params}) {\n	${}\n}",{label:"function",detail:"definition",type:"keyword"}),Ke("for (let ${index} = 0; ${index} < ${bound}; ${index}++) {\n	${}\n}",{label:"for",detail:"loop",type:"keyword"}),Ke("for (let ${name} of ${collection}) {\n	${}\n}",{label:"for",detail:"of loop",type:"keyword"}),Ke("do {\n	${}\n} while (${})",{label:"do",detail:"loop",type:"keyword"}),Ke("while (${}) {\n	${}\n}",{label:"while",detail:"loop",type:"keyword"}),Ke(`try {
+	\${}
+} catch (\${error}) {
+	\${}
+}`,{label:"try",detail:"/ catch block",type:"keyword"}),Ke("if (${}) {\n	${}\n}",{label:"if",detail:"block",type:"keyword"}),Ke(`if (\${}) {
+	\${}
+} else {
+	\${}
+}`,{label:"if",detail:"/ else block",type:"keyword"}),Ke(`class \${name} {
+	constructor(\${params}) {
+		\${}
+	}
+}`,{label:"class",detail:"definition",type:"keyword"}),Ke('import {${names}} from "${module}"\n${}',{label:"import",detail:"named",type:"keyword"}),Ke('import ${name} from "${module}"\n${}',{label:"import",detail:"default",type:"keyword"})],hg=ic.concat([Ke("interface ${name} {\n	${}\n}",{label:"interface",detail:"definition",type:"keyword"}),Ke("type ${name} = ${type}",{label:"type",detail:"definition",type:"keyword"}),Ke("enum ${name} {\n	${}\n}",{label:"enum",detail:"definition",type:"keyword"})]),hd=new xm,fg=new Set(["Script","Block","FunctionExpression","FunctionDeclaration","ArrowFunction","MethodDeclaration","ForStatement"]);function Fn(t){return(e,i)=>{let n=e.node.getChild("VariableDefinition");return n&&i(n,t),!0}}const sP=["FunctionDeclaration"],oP={FunctionDeclaration:Fn("function"),ClassDeclaration:Fn("class"),ClassExpression:()=>!0,EnumDeclaration:Fn("constant"),TypeAliasDeclaration:Fn("type"),NamespaceDeclaration:Fn("namespace"),VariableDefinition(t,e){t.matchContext(sP)||e(t,"variable")},TypeDefinition(t,e){e(t,"type")},__proto__:null};function dg(t,e){let i=hd.get(e);if(i)return i;let n=[],r=!0;function s(o,l){let a=t.sliceString(o.from,o.to);n.push({label:a,type:l})}return e.cursor(ye.IncludeAnonymous).iterate(o=>{if(r)r=!1;else if(o.name){let l=oP[o.name];if(l&&l(o,s)||fg.has(o.name))return!1}else if(o.to-o.from>8192){for(let l of dg(t,o.node))n.push(l);return!1}}),hd.set(e,n),n}const ko=/^[\w$\xa1-\uffff][\w$\d\xa1-\uffff]*$/,nc=["TemplateString","String","RegExp","LineComment","BlockComment","VariableDefinition","TypeDefinition","Label","PropertyDefinition","PropertyName","PrivatePropertyDefinition","PrivatePropertyName","JSXText","JSXAttributeValue","JSXOpenTag","JSXCloseTag","JSXSelfClosingTag",".","?."];function pg(t){let e=Pe(t.state).resolveInner(t.pos,-1);if(nc.indexOf(e.name)>-1)return null;let i=e.name=="VariableName"||e.to-e.from<20&&ko.test(t.state.sliceDoc(e.from,e.to));if(!i&&!t.explicit)return null;let n=[];for(let r=e;r;r=r.parent)fg.has(r.name)&&(n=n.concat(dg(t.state.doc,r)));return{options:n,from:i?e.from:t.pos,validFor:ko}}function _l(t,e,i){var n;let r=[];for(;;){let s=e.firstChild,o;if(s?.name=="VariableName")return r.push(t(s)),{path:r.reverse(),name:i};if(s?.name=="MemberExpression"&&((n=o=s.lastChild)===null||n===void 0?void 0:n.name)=="PropertyName")r.push(t(o)),e=s;else return null}}function mg(t){let e=n=>t.state.doc.sliceString(n.from,n.to),i=Pe(t.state).resolveInner(t.pos,-1);return i.name=="PropertyName"?_l(e,i.parent,e(i)):(i.name=="."||i.name=="?.")&&i.parent.name=="MemberExpression"?_l(e,i.parent,""):nc.indexOf(i.name)>-1?null:i.name=="VariableName"||i.to-i.from<20&&ko.test(e(i))?{path:[],name:e(i)}:i.name=="MemberExpression"?_l(e,i,""):t.explicit?{path:[],name:""}:null}function lP(t,e){let i=[],n=new Set;for(let r=0;;r++){for(let o of(Object.getOwnPropertyNames||Object.keys)(t)){if(!/^[a-zA-Z_$\xaa-\uffdc][\w$\xaa-\uffdc]*$/.test(o)||n.has(o))continue;n.add(o);let l;try{l=t[o]}catch{continue}i.push({label:o,type:typeof l=="function"?/^[A-Z]/.test(o)?"class":e?"function":"method":e?"variable":"property",boost:-r})}let s=Object.getPrototypeOf(t);if(!s)return i;t=s}}function aP(t){let e=new Map;return i=>{let n=mg(i);if(!n)return null;let r=t;for(let o of n.path)if(r=r[o],!r)return null;let s=e.get(r);return s||e.set(r,s=lP(r,!n.path.length)),{from:i.pos-n.name.length,options:s,validFor:ko}}}const vt=gn.define({name:"javascript",parser:rP.configure({props:[An.add({IfStatement:Bs({except:/^\s*({|else\b)/}),TryStatement:Bs({except:/^\s*({|catch\b|finally\b)/}),LabeledStatement:gw,SwitchBody:t=>{let e=t.textAfter,i=/^\s*\}/.test(e),n=/^\s*(case|default)\b/.test(e);return t.baseIndent+(i?0:n?1:2)*t.unit},Block:Ow({closing:"}"}),ArrowFunction:t=>t.baseIndent+t.unit,"TemplateString BlockComment":()=>null,"Statement Property":Bs({except:/^\s*{/}),JSXElement(t){let e=/^\s*<\//.test(t.textAfter);return t.lineIndent(t.node.from)+(e?0:t.unit)},JSXEscape(t){let e=/\s*\}/.test(t.textAfter);return t.lineIndent(t.node.from)+(e?0:t.unit)},"JSXOpenTag JSXSelfClosingTag"(t){return t.column(t.node.from)+t.unit}}),jr.add({"Block ClassBody SwitchBody EnumBody ObjectExpression ArrayExpression ObjectType":_m,BlockComment(t){return{from:t.from+2,to:t.to-2}}})]}),languageData:{closeBrackets:{brackets:["(","[","{","'",'"',"`"]},commentTokens:{line:"//",block:{open:"/*",close:"*/"}},indentOnInput:/^\s*(?:case |default:|\{|\}|<\/)$/,wordChars:"$"}}),Og={test:t=>/^JSX/.test(t.name),facet:Zo({commentTokens:{block:{open:"{/*",close:"*/}"}}})},rc=vt.configure({dialect:"ts"},"typescript"),sc=vt.configure({dialect:"jsx",props:[Eu.add(t=>t.isTop?[Og]:void 0)]}),oc=vt.configure({dialect:"jsx ts",props:[Eu.add(t=>t.isTop?[Og]:void 0)]},"typescript");let gg=t=>({label:t,type:"keyword"});const bg="break case const continue default delete export extends false finally in instanceof let new return static super switch this throw true typeof var yield".split(" ").map(gg),uP=bg.concat(["declare","implements","private","protected","public"].map(gg));function xg(t={}){let e=t.jsx?t.typescript?oc:sc:t.typescript?rc:vt,i=t.typescript?hg.concat(uP):ic.concat(bg);return new yn(e,[vt.data.of({autocomplete:j3(nc,mO(i))}),vt.data.of({autocomplete:pg}),t.jsx?yg:[]])}function cP(t){for(;;){if(t.name=="JSXOpenTag"||t.name=="JSXSelfClosingTag"||t.name=="JSXFragmentTag")return t;if(t.name=="JSXEscape"||!t.parent)return null;t=t.parent}}function fd(t,e,i=t.length){for(let n=e?.firstChild;n;n=n.nextSibling)if(n.name=="JSXIdentifier"||n.name=="JSXBuiltin"||n.name=="JSXNamespacedName"||n.name=="JSXMemberExpression")return t.sliceString(n.from,Math.min(n.to,i));return""}const hP=typeof navigator=="object"&&/Android\b/.test(navigator.userAgent),yg=W.inputHandler.of((t,e,i,n,r)=>{if((hP?t.composing:t.compositionStarted)||t.state.readOnly||e!=i||n!=">"&&n!="/"||!vt.isActiveAt(t.state,e,-1))return!1;let s=r(),{state:o}=s,l=o.changeByRange(a=>{var u;let{head:c}=a,h=Pe(o).resolveInner(c-1,-1),f;if(h.name=="JSXStartTag"&&(h=h.parent),!(o.doc.sliceString(c-1,c)!=n||h.name=="JSXAttributeValue"&&h.to>c)){if(n==">"&&h.name=="JSXFragmentTag")return{range:a,changes:{from:c,insert:"</>"}};if(n=="/"&&h.name=="JSXStartCloseTag"){let d=h.parent,p=d.parent;if(p&&d.from==c-2&&((f=fd(o.doc,p.firstChild,c))||((u=p.firstChild)===null||u===void 0?void 0:u.name)=="JSXFragmentTag")){let m=`${f}>`;return{range:M.cursor(c+m.length,-1),changes:{from:c,insert:m}}}}else if(n==">"){let d=cP(h);if(d&&d.name=="JSXOpenTag"&&!/^\/?>|^<\//.test(o.doc.sliceString(c,c+2))&&(f=fd(o.doc,d,c)))return{range:a,changes:{from:c,insert:`</${f}>`}}}}return{range:a}});return l.changes.empty?!1:(t.dispatch([s,o.update(l,{userEvent:"input.complete",scrollIntoView:!0})]),!0)});function fP(t,e){return e||(e={parserOptions:{ecmaVersion:2019,sourceType:"module"},env:{browser:!0,node:!0,es6:!0,es2015:!0,es2017:!0,es2020:!0},rules:{}},t.getRules().forEach((i,n)=>{var r;!((r=i.meta.docs)===null||r===void 0)&&r.recommended&&(e.rules[n]=2)})),i=>{let{state:n}=i,r=[];for(let{from:s,to:o}of vt.findRegions(n)){let l=n.doc.lineAt(s),a={line:l.number-1,col:s-l.from,pos:s};for(let u of t.verify(n.sliceDoc(s,o),e))r.push(dP(u,n.doc,a))}return r}}function dd(t,e,i,n){return i.line(t+n.line).from+e+(t==1?n.col-1:-1)}function dP(t,e,i){let n=dd(t.line,t.column,e,i),r={from:n,to:t.endLine!=null&&t.endColumn!=1?dd(t.endLine,t.endColumn,e,i):n,message:t.message,source:t.ruleId?"eslint:"+t.ruleId:"eslint",severity:t.severity==1?"warning":"error"};if(t.fix){let{range:s,text:o}=t.fix,l=s[0]+i.pos-n,a=s[1]+i.pos-n;r.actions=[{name:"fix",apply(u,c){u.dispatch({changes:{from:c+l,to:c+a,insert:o},scrollIntoView:!0})}}]}return r}const Ss=Object.freeze(Object.defineProperty({__proto__:null,autoCloseTags:yg,completionPath:mg,esLint:fP,javascript:xg,javascriptLanguage:vt,jsxLanguage:sc,localCompletionSource:pg,scopeCompletionSource:aP,snippets:ic,tsxLanguage:oc,typescriptLanguage:rc,typescriptSnippets:hg},Symbol.toStringTag,{value:"Module"})),Bn=["_blank","_self","_top","_parent"],Pl=["ascii","utf-8","utf-16","latin1","latin1"],Cl=["get","post","put","delete"],Tl=["application/x-www-form-urlencoded","multipart/form-data","text/plain"],rt=["true","false"],G={},pP={a:{attrs:{href:null,ping:null,type:null,media:null,target:Bn,hreflang:null}},abbr:G,address:G,area:{attrs:{alt:null,coords:null,href:null,target:null,ping:null,media:null,hreflang:null,type:null,shape:["default","rect","circle","poly"]}},article:G,aside:G,audio:{attrs:{src:null,mediagroup:null,crossorigin:["anonymous","use-credentials"],preload:["none","metadata","auto"],autoplay:["autoplay"],loop:["loop"],controls:["controls"]}},b:G,base:{attrs:{href:null,target:Bn}},bdi:G,bdo:G,blockquote:{attrs:{cite:null}},body:G,br:G,button:{attrs:{form:null,formaction:null,name:null,value:null,autofocus:["autofocus"],disabled:["autofocus"],formenctype:Tl,formmethod:Cl,formnovalidate:["novalidate"],formtarget:Bn,type:["submit","reset","button"]}},canvas:{attrs:{width:null,height:null}},caption:G,center:G,cite:G,code:G,col:{attrs:{span:null}},colgroup:{attrs:{span:null}},command:{attrs:{type:["command","checkbox","radio"],label:null,icon:null,radiogroup:null,command:null,title:null,disabled:["disabled"],checked:["checked"]}},data:{attrs:{value:null}},datagrid:{attrs:{disabled:["disabled"],multiple:["multiple"]}},datalist:{attrs:{data:null}},dd:G,del:{attrs:{cite:null,datetime:null}},details:{attrs:{open:["open"]}},dfn:G,div:G,dl:G,dt:G,em:G,embed:{attrs:{src:null,type:null,width:null,height:null}},eventsource:{attrs:{src:null}},fieldset:{attrs:{disabled:["disabled"],form:null,name:null}},figcaption:G,figure:G,footer:G,form:{attrs:{action:null,name:null,"accept-charset":Pl,autocomplete:["on","off"],enctype:Tl,method:Cl,novalidate:["novalidate"],target:Bn}},h1:G,h2:G,h3:G,h4:G,h5:G,h6:G,head:{children:["title","base","link","style","meta","script","noscript","command"]},header:G,hgroup:G,hr:G,html:{attrs:{manifest:null}},i:G,iframe:{attrs:{src:null,srcdoc:null,name:null,width:null,height:null,sandbox:["allow-top-navigation","allow-same-origin","allow-forms","allow-scripts"],seamless:["seamless"]}},img:{attrs:{alt:null,src:null,ismap:null,usemap:null,width:null,height:null,crossorigin:["anonymous","use-credentials"]}},input:{attrs:{alt:null,dirname:null,form:null,formaction:null,height:null,list:null,max:null,maxlength:null,min:null,name:null,pattern:null,placeholder:null,size:null,src:null,step:null,value:null,width:null,accept:["audio/*","video/*","image/*"],autocomplete:["on","off"],autofocus:["autofocus"],checked:["checked"],disabled:["disabled"],formenctype:Tl,formmethod:Cl,formnovalidate:["novalidate"],formtarget:Bn,multiple:["multiple"],readonly:["readonly"],required:["required"],type:["hidden","text","search","tel","url","email","password","datetime","date","month","week","time","datetime-local","number","range","color","checkbox","radio","file","submit","image","reset","button"]}},ins:{attrs:{cite:null,datetime:null}},kbd:G,keygen:{attrs:{challenge:null,form:null,name:null,autofocus:["autofocus"],disabled:["disabled"],keytype:["RSA"]}},label:{attrs:{for:null,form:null}},legend:G,li:{attrs:{value:null}},link:{attrs:{href:null,type:null,hreflang:null,media:null,sizes:["all","16x16","16x16 32x32","16x16 32x32 64x64"]}},map:{attrs:{name:null}},mark:G,menu:{attrs:{label:null,type:["list","context","toolbar"]}},meta:{attrs:{content:null,charset:Pl,name:["viewport","application-name","author","description","generator","keywords"],"http-equiv":["content-language","content-type","default-style","refresh"]}},meter:{attrs:{value:null,min:null,low:null,high:null,max:null,optimum:null}},nav:G,noscript:G,object:{attrs:{data:null,type:null,name:null,usemap:null,form:null,width:null,height:null,typemustmatch:["typemustmatch"]}},ol:{attrs:{reversed:["reversed"],start:null,type:["1","a","A","i","I"]},children:["li","script","template","ul","ol"]},optgroup:{attrs:{disabled:["disabled"],label:null}},option:{attrs:{disabled:["disabled"],label:null,selected:["selected"],value:null}},output:{attrs:{for:null,form:null,name:null}},p:G,param:{attrs:{name:null,value:null}},pre:G,progress:{attrs:{value:null,max:null}},q:{attrs:{cite:null}},rp:G,rt:G,ruby:G,samp:G,script:{attrs:{type:["text/javascript"],src:null,async:["async"],defer:["defer"],charset:Pl}},section:G,select:{attrs:{form:null,name:null,size:null,autofocus:["autofocus"],disabled:["disabled"],multiple:["multiple"]}},slot:{attrs:{name:null}},small:G,source:{attrs:{src:null,type:null,media:null}},span:G,strong:G,style:{attrs:{type:["text/css"],media:null,scoped:null}},sub:G,summary:G,sup:G,table:G,tbody:G,td:{attrs:{colspan:null,rowspan:null,headers:null}},template:G,textarea:{attrs:{dirname:null,form:null,maxlength:null,name:null,placeholder:null,rows:null,cols:null,autofocus:["autofocus"],disabled:["disabled"],readonly:["readonly"],required:["required"],wrap:["soft","hard"]}},tfoot:G,th:{attrs:{colspan:null,rowspan:null,headers:null,scope:["row","col","rowgroup","colgroup"]}},thead:G,time:{attrs:{datetime:null}},title:G,tr:G,track:{attrs:{src:null,label:null,default:null,kind:["subtitles","captions","descriptions","chapters","metadata"],srclang:null}},ul:{children:["li","script","template","ul","ol"]},var:G,video:{attrs:{src:null,poster:null,width:null,height:null,crossorigin:["anonymous","use-credentials"],preload:["auto","metadata","none"],autoplay:["autoplay"],mediagroup:["movie"],muted:["muted"],controls:["controls"]}},wbr:G},kg={accesskey:null,class:null,contenteditable:rt,contextmenu:null,dir:["ltr","rtl","auto"],draggable:["true","false","auto"],dropzone:["copy","move","link","string:","file:"],hidden:["hidden"],id:null,inert:["inert"],itemid:null,itemprop:null,itemref:null,itemscope:["itemscope"],itemtype:null,lang:["ar","bn","de","en-GB","en-US","es","fr","hi","id","ja","pa","pt","ru","tr","zh"],spellcheck:rt,autocorrect:rt,autocapitalize:rt,style:null,tabindex:null,title:null,translate:["yes","no"],rel:["stylesheet","alternate","author","bookmark","help","license","next","nofollow","noreferrer","prefetch","prev","search","tag"],role:"alert application article banner button cell checkbox complementary contentinfo dialog document feed figure form grid gridcell heading img list listbox listitem main navigation region row rowgroup search switch tab table tabpanel textbox timer".split(" "),"aria-activedescendant":null,"aria-atomic":rt,"aria-autocomplete":["inline","list","both","none"],"aria-busy":rt,"aria-checked":["true","false","mixed","undefined"],"aria-controls":null,"aria-describedby":null,"aria-disabled":rt,"aria-dropeffect":null,"aria-expanded":["true","false","undefined"],"aria-flowto":null,"aria-grabbed":["true","false","undefined"],"aria-haspopup":rt,"aria-hidden":rt,"aria-invalid":["true","false","grammar","spelling"],"aria-label":null,"aria-labelledby":null,"aria-level":null,"aria-live":["off","polite","assertive"],"aria-multiline":rt,"aria-multiselectable":rt,"aria-owns":null,"aria-posinset":null,"aria-pressed":["true","false","mixed","undefined"],"aria-readonly":rt,"aria-relevant":null,"aria-required":rt,"aria-selected":["true","false","undefined"],"aria-setsize":null,"aria-sort":["ascending","descending","none","other"],"aria-valuemax":null,"aria-valuemin":null,"aria-valuenow":null,"aria-valuetext":null},vg="beforeunload copy cut dragstart dragover dragleave dragenter dragend drag paste focus blur change click load mousedown mouseenter mouseleave mouseup keydown keyup resize scroll unload".split(" ").map(t=>"on"+t);for(let t of vg)kg[t]=null;class Ar{constructor(e,i){this.tags={...pP,...e},this.globalAttrs={...kg,...i},this.allTags=Object.keys(this.tags),this.globalAttrNames=Object.keys(this.globalAttrs)}}Ar.default=new Ar;function Sn(t,e,i=t.length){if(!e)return"";let n=e.firstChild,r=n&&n.getChild("TagName");return r?t.sliceString(r.from,Math.min(r.to,i)):""}function wn(t,e=!1){for(;t;t=t.parent)if(t.name=="Element")if(e)e=!1;else return t;return null}function Sg(t,e,i){let n=i.tags[Sn(t,wn(e))];return n?.children||i.allTags}function lc(t,e){let i=[];for(let n=wn(e);n&&!n.type.isTop;n=wn(n.parent)){let r=Sn(t,n);if(r&&n.lastChild.name=="CloseTag")break;r&&i.indexOf(r)<0&&(e.name=="EndTag"||e.from>=n.firstChild.to)&&i.push(r)}return i}const wg=/^[:\-\.\w\u00b7-\uffff]*$/;function pd(t,e,i,n,r){let s=/\s*>/.test(t.sliceDoc(r,r+5))?"":">",o=wn(i,i.name=="StartTag"||i.name=="TagName");return{from:n,to:r,options:Sg(t.doc,o,e).map(l=>({label:l,type:"type"})).concat(lc(t.doc,i).map((l,a)=>({label:"/"+l,apply:"/"+l+s,type:"type",boost:99-a}))),validFor:/^\/?[:\-\.\w\u00b7-\uffff]*$/}}function md(t,e,i,n){let r=/\s*>/.test(t.sliceDoc(n,n+5))?"":">";return{from:i,to:n,options:lc(t.doc,e).map((s,o)=>({label:s,apply:s+r,type:"type",boost:99-o})),validFor:wg}}function mP(t,e,i,n){let r=[],s=0;for(let o of Sg(t.doc,i,e))r.push({label:"<"+o,type:"type"});for(let o of lc(t.doc,i))r.push({label:"</"+o+">",type:"type",boost:99-s++});return{from:n,to:n,options:r,validFor:/^<\/?[:\-\.\w\u00b7-\uffff]*$/}}function OP(t,e,i,n,r){let s=wn(i),o=s?e.tags[Sn(t.doc,s)]:null,l=o&&o.attrs?Object.keys(o.attrs):[],a=o&&o.globalAttrs===!1?l:l.length?l.concat(e.globalAttrNames):e.globalAttrNames;return{from:n,to:r,options:a.map(u=>({label:u,type:"property"})),validFor:wg}}function gP(t,e,i,n,r){var s;let o=(s=i.parent)===null||s===void 0?void 0:s.getChild("AttributeName"),l=[],a;if(o){let u=t.sliceDoc(o.from,o.to),c=e.globalAttrs[u];if(!c){let h=wn(i),f=h?e.tags[Sn(t.doc,h)]:null;c=f?.attrs&&f.attrs[u]}if(c){let h=t.sliceDoc(n,r).toLowerCase(),f='"',d='"';/^['"]/.test(h)?(a=h[0]=='"'?/^[^"]*$/:/^[^']*$/,f="",d=t.sliceDoc(r,r+1)==h[0]?"":h[0],h=h.slice(1),n++):a=/^[^\s<>='"]*$/;for(let p of c)l.push({label:p,apply:f+p+d,type:"constant"})}}return{from:n,to:r,options:l,validFor:a}}function Qg(t,e){let{state:i,pos:n}=e,r=Pe(i).resolveInner(n,-1),s=r.resolve(n);for(let o=n,l;s==r&&(l=r.childBefore(o));){let a=l.lastChild;if(!a||!a.type.isError||a.from<a.to)break;s=r=l,o=a.from}return r.name=="TagName"?r.parent&&/CloseTag$/.test(r.parent.name)?md(i,r,r.from,n):pd(i,t,r,r.from,n):r.name=="StartTag"||r.name=="IncompleteTag"?pd(i,t,r,n,n):r.name=="StartCloseTag"||r.name=="IncompleteCloseTag"?md(i,r,n,n):r.name=="OpenTag"||r.name=="SelfClosingTag"||r.name=="AttributeName"?OP(i,t,r,r.name=="AttributeName"?r.from:n,n):r.name=="Is"||r.name=="AttributeValue"||r.name=="UnquotedAttributeValue"?gP(i,t,r,r.name=="Is"?n:r.from,n):e.explicit&&(s.name=="Element"||s.name=="Text"||s.name=="Document")?mP(i,t,r,n):null}function $g(t){return Qg(Ar.default,t)}function _g(t){let{extraTags:e,extraGlobalAttributes:i}=t,n=i||e?new Ar(e,i):Ar.default;return r=>Qg(n,r)}const bP=vt.parser.configure({top:"SingleExpression"}),Pg=[{tag:"script",attrs:t=>t.type=="text/typescript"||t.lang=="ts",parser:rc.parser},{tag:"script",attrs:t=>t.type=="text/babel"||t.type=="text/jsx",parser:sc.parser},{tag:"script",attrs:t=>t.type=="text/typescript-jsx",parser:oc.parser},{tag:"script",attrs(t){return/^(importmap|speculationrules|application\/(.+\+)?json)$/i.test(t.type)},parser:bP},{tag:"script",attrs(t){return!t.type||/^(?:text|application)\/(?:x-)?(?:java|ecma)script$|^module$|^$/i.test(t.type)},parser:vt.parser},{tag:"style",attrs(t){return(!t.lang||t.lang=="css")&&(!t.type||/^(text\/)?(x-)?(stylesheet|css)$/i.test(t.type))},parser:Tr.parser}],Cg=[{name:"style",parser:Tr.parser.configure({top:"Styles"})}].concat(vg.map(t=>({name:t,parser:vt.parser}))),Tg=gn.define({name:"html",parser:N$.configure({props:[An.add({Element(t){let e=/^(\s*)(<\/)?/.exec(t.textAfter);return t.node.to<=t.pos+e[0].length?t.continue():t.lineIndent(t.node.from)+(e[2]?0:t.unit)},"OpenTag CloseTag SelfClosingTag"(t){return t.column(t.node.from)+t.unit},Document(t){if(t.pos+/\s*/.exec(t.textAfter)[0].length<t.node.to)return t.continue();let e=null,i;for(let n=t.node;;){let r=n.lastChild;if(!r||r.name!="Element"||r.to!=n.to)break;e=n=r}return e&&!((i=e.lastChild)&&(i.name=="CloseTag"||i.name=="SelfClosingTag"))?t.lineIndent(e.from)+t.unit:null}}),jr.add({Element(t){let e=t.firstChild,i=t.lastChild;return!e||e.name!="OpenTag"?null:{from:e.to,to:i.name=="CloseTag"?i.from:t.to}}}),Cm.add({"OpenTag CloseTag":t=>t.getChild("TagName")})]}),languageData:{commentTokens:{block:{open:"<!--",close:"-->"}},indentOnInput:/^\s*<\/\w+\W$/,wordChars:"-_"}}),ar=Tg.configure({wrap:tg(Pg,Cg)});function Ag(t={}){let e="",i;t.matchClosingTags===!1&&(e="noMatch"),t.selfClosingTags===!0&&(e=(e?e+" ":"")+"selfClosing"),(t.nestedLanguages&&t.nestedLanguages.length||t.nestedAttributes&&t.nestedAttributes.length)&&(i=tg((t.nestedLanguages||[]).concat(Pg),(t.nestedAttributes||[]).concat(Cg)));let n=i?Tg.configure({wrap:i,dialect:e}):e?ar.configure({dialect:e}):ar;return new yn(n,[ar.data.of({autocomplete:_g(t)}),t.autoCloseTags!==!1?Eg:[],xg().support,ug().support])}const Od=new Set("area base br col command embed frame hr img input keygen link meta param source track wbr menuitem".split(" ")),Eg=W.inputHandler.of((t,e,i,n,r)=>{if(t.composing||t.state.readOnly||e!=i||n!=">"&&n!="/"||!ar.isActiveAt(t.state,e,-1))return!1;let s=r(),{state:o}=s,l=o.changeByRange(a=>{var u,c,h;let f=o.doc.sliceString(a.from-1,a.to)==n,{head:d}=a,p=Pe(o).resolveInner(d,-1),m;if(f&&n==">"&&p.name=="EndTag"){let O=p.parent;if(((c=(u=O.parent)===null||u===void 0?void 0:u.lastChild)===null||c===void 0?void 0:c.name)!="CloseTag"&&(m=Sn(o.doc,O.parent,d))&&!Od.has(m)){let g=d+(o.doc.sliceString(d,d+1)===">"?1:0),b=`</${m}>`;return{range:a,changes:{from:d,to:g,insert:b}}}}else if(f&&n=="/"&&p.name=="IncompleteCloseTag"){let O=p.parent;if(p.from==d-2&&((h=O.lastChild)===null||h===void 0?void 0:h.name)!="CloseTag"&&(m=Sn(o.doc,O,d))&&!Od.has(m)){let g=d+(o.doc.sliceString(d,d+1)===">"?1:0),b=`${m}>`;return{range:M.cursor(d+b.length,-1),changes:{from:d,to:g,insert:b}}}}return{range:a}});return l.changes.empty?!1:(t.dispatch([s,o.update(l,{userEvent:"input.complete",scrollIntoView:!0})]),!0)}),xP=Object.freeze(Object.defineProperty({__proto__:null,autoCloseTags:Eg,html:Ag,htmlCompletionSource:$g,htmlCompletionSourceWith:_g,htmlLanguage:ar},Symbol.toStringTag,{value:"Module"})),Dg=Zo({commentTokens:{block:{open:"<!--",close:"-->"}}}),Mg=new te,Rg=VQ.configure({props:[jr.add(t=>!t.is("Block")||t.is("Document")||Ka(t)!=null||yP(t)?void 0:(e,i)=>({from:i.doc.lineAt(e.from).to,to:e.to})),Mg.add(Ka),An.add({Document:()=>null}),bi.add({Document:Dg})]});function Ka(t){let e=/^(?:ATX|Setext)Heading(\d)$/.exec(t.name);return e?+e[1]:void 0}function yP(t){return t.name=="OrderedList"||t.name=="BulletList"}function kP(t,e){let i=t;for(;;){let n=i.nextSibling,r;if(!n||(r=Ka(n.type))!=null&&r<=e)break;i=n}return i.to}const vP=bw.of((t,e,i)=>{for(let n=Pe(t).resolveInner(i,-1);n&&!(n.from<e);n=n.parent){let r=n.type.prop(Mg);if(r==null)continue;let s=kP(n,r);if(s>i)return{from:i,to:s}}return null});function ac(t){return new ft(Dg,t,[],"markdown")}const Lg=ac(Rg),SP=Rg.configure([KQ,e$,JQ,t$,{props:[jr.add({Table:(t,e)=>({from:e.doc.lineAt(t.from).to,to:t.to})})]}]),Er=ac(SP);function wP(t,e){return i=>{if(i&&t){let n=null;if(i=/\S*/.exec(i)[0],typeof t=="function"?n=t(i):n=C.matchLanguageName(t,i,!0),n instanceof C)return n.support?n.support.language.parser:Bi.getSkippingParser(n.load());if(n)return n.parser}return e?e.parser:null}}class Al{constructor(e,i,n,r,s,o,l){this.node=e,this.from=i,this.to=n,this.spaceBefore=r,this.spaceAfter=s,this.type=o,this.item=l}blank(e,i=!0){let n=this.spaceBefore+(this.node.name=="Blockquote"?">":"");if(e!=null){for(;n.length<e;)n+=" ";return n}else{for(let r=this.to-this.from-n.length-this.spaceAfter.length;r>0;r--)n+=" ";return n+(i?this.spaceAfter:"")}}marker(e,i){let n=this.node.name=="OrderedList"?String(+Ig(this.item,e)[2]+i):"";return this.spaceBefore+n+this.type+this.spaceAfter}}function Zg(t,e){let i=[],n=[];for(let r=t;r;r=r.parent){if(r.name=="FencedCode")return n;(r.name=="ListItem"||r.name=="Blockquote")&&i.push(r)}for(let r=i.length-1;r>=0;r--){let s=i[r],o,l=e.lineAt(s.from),a=s.from-l.from;if(s.name=="Blockquote"&&(o=/^ *>( ?)/.exec(l.text.slice(a))))n.push(new Al(s,a,a+o[0].length,"",o[1],">",null));else if(s.name=="ListItem"&&s.parent.name=="OrderedList"&&(o=/^( *)\d+([.)])( *)/.exec(l.text.slice(a)))){let u=o[3],c=o[0].length;u.length>=4&&(u=u.slice(0,u.length-4),c-=4),n.push(new Al(s.parent,a,a+c,o[1],u,o[2],s))}else if(s.name=="ListItem"&&s.parent.name=="BulletList"&&(o=/^( *)([-+*])( {1,4}\[[ xX]\])?( +)/.exec(l.text.slice(a)))){let u=o[4],c=o[0].length;u.length>4&&(u=u.slice(0,u.length-4),c-=4);let h=o[2];o[3]&&(h+=o[3].replace(/[xX]/," ")),n.push(new Al(s.parent,a,a+c,o[1],u,h,s))}}return n}function Ig(t,e){return/^(\s*)(\d+)(?=[.)])/.exec(e.sliceString(t.from,t.from+10))}function El(t,e,i,n=0){for(let r=-1,s=t;;){if(s.name=="ListItem"){let l=Ig(s,e),a=+l[2];if(r>=0){if(a!=r+1)return;i.push({from:s.from+l[1].length,to:s.from+l[0].length,insert:String(r+2+n)})}r=a}let o=s.nextSibling;if(!o)break;s=o}}function uc(t,e){let i=/^[ \t]*/.exec(t)[0].length;if(!i||e.facet(Tn)!="	")return t;let n=ti(t,4,i),r="";for(let s=n;s>0;)s>=4?(r+="	",s-=4):(r+=" ",s--);return r+t.slice(i)}const zg=(t={})=>({state:e,dispatch:i})=>{let n=Pe(e),{doc:r}=e,s=null,o=e.changeByRange(l=>{if(!l.empty||!Er.isActiveAt(e,l.from,-1)&&!Er.isActiveAt(e,l.from,1))return s={range:l};let a=l.from,u=r.lineAt(a),c=Zg(n.resolveInner(a,-1),r);for(;c.length&&c[c.length-1].from>a-u.from;)c.pop();if(!c.length)return s={range:l};let h=c[c.length-1];if(h.to-h.spaceAfter.length>a-u.from)return s={range:l};let f=a>=h.to-h.spaceAfter.length&&!/\S/.test(u.text.slice(h.to));if(h.item&&f){let g=h.node.firstChild,b=h.node.getChild("ListItem","ListItem");if(g.to>=a||b&&b.to<a||u.from>0&&!/[^\s>]/.test(r.lineAt(u.from-1).text)||t.nonTightLists===!1){let S=c.length>1?c[c.length-2]:null,x,y="";S&&S.item?(x=u.from+S.from,y=S.marker(r,1)):x=u.from+(S?S.to:0);let $=[{from:x,to:a,insert:y}];return h.node.name=="OrderedList"&&El(h.item,r,$,-2),S&&S.node.name=="OrderedList"&&El(S.item,r,$),{range:M.cursor(x+y.length),changes:$}}else{let S=bd(c,e,u);return{range:M.cursor(a+S.length+1),changes:{from:u.from,insert:S+e.lineBreak}}}}if(h.node.name=="Blockquote"&&f&&u.from){let g=r.lineAt(u.from-1),b=/>\s*$/.exec(g.text);if(b&&b.index==h.from){let S=e.changes([{from:g.from+b.index,to:g.to},{from:u.from+h.from,to:u.to}]);return{range:l.map(S),changes:S}}}let d=[];h.node.name=="OrderedList"&&El(h.item,r,d);let p=h.item&&h.item.from<u.from,m="";if(!p||/^[\s\d.)\-+*>]*/.exec(u.text)[0].length>=h.to)for(let g=0,b=c.length-1;g<=b;g++)m+=g==b&&!p?c[g].marker(r,1):c[g].blank(g<b?ti(u.text,4,c[g+1].from)-m.length:null);let O=a;for(;O>u.from&&/\s/.test(u.text.charAt(O-u.from-1));)O--;return m=uc(m,e),QP(h.node,e.doc)&&(m=bd(c,e,u)+e.lineBreak+m),d.push({from:O,to:a,insert:e.lineBreak+m}),{range:M.cursor(O+m.length+1),changes:d}});return s?!1:(i(e.update(o,{scrollIntoView:!0,userEvent:"input"})),!0)},Xg=zg();function gd(t){return t.name=="QuoteMark"||t.name=="ListMark"}function QP(t,e){if(t.name!="OrderedList"&&t.name!="BulletList")return!1;let i=t.firstChild,n=t.getChild("ListItem","ListItem");if(!n)return!1;let r=e.lineAt(i.to),s=e.lineAt(n.from),o=/^[\s>]*$/.test(r.text);return r.number+(o?0:1)<s.number}function bd(t,e,i){let n="";for(let r=0,s=t.length-2;r<=s;r++)n+=t[r].blank(r<s?ti(i.text,4,t[r+1].from)-n.length:null,r<s);return uc(n,e)}function $P(t,e){let i=t.resolveInner(e,-1),n=e;gd(i)&&(n=i.from,i=i.parent);for(let r;r=i.childBefore(n);)if(gd(r))n=r.from;else if(r.name=="OrderedList"||r.name=="BulletList")i=r.lastChild,n=i.to;else break;return i}const Vg=({state:t,dispatch:e})=>{let i=Pe(t),n=null,r=t.changeByRange(s=>{let o=s.from,{doc:l}=t;if(s.empty&&Er.isActiveAt(t,s.from)){let a=l.lineAt(o),u=Zg($P(i,o),l);if(u.length){let c=u[u.length-1],h=c.to-c.spaceAfter.length+(c.spaceAfter?1:0);if(o-a.from>h&&!/\S/.test(a.text.slice(h,o-a.from)))return{range:M.cursor(a.from+h),changes:{from:a.from+h,to:o}};if(o-a.from==h&&(!c.item||a.from<=c.item.from||!/\S/.test(a.text.slice(0,c.to)))){let f=a.from+c.from;if(c.item&&c.node.from<c.item.from&&/\S/.test(a.text.slice(c.from,c.to))){let d=c.blank(ti(a.text,4,c.to)-ti(a.text,4,c.from));return f==a.from&&(d=uc(d,t)),{range:M.cursor(f+d.length),changes:{from:f,to:a.from+c.to,insert:d}}}if(f<o)return{range:M.cursor(f),changes:{from:f,to:o}}}}}return n={range:s}});return n?!1:(e(t.update(r,{scrollIntoView:!0,userEvent:"delete"})),!0)},Fg=[{key:"Enter",run:Xg},{key:"Backspace",run:Vg}],Bg=Ag({matchClosingTags:!1});function qg(t={}){let{codeLanguages:e,defaultCodeLanguage:i,addKeymap:n=!0,base:{parser:r}=Lg,completeHTMLTags:s=!0,pasteURLAsLink:o=!0,htmlTagLanguage:l=Bg}=t;if(!(r instanceof Bo))throw new RangeError("Base parser provided to `markdown` should be a Markdown parser");let a=t.extensions?[t.extensions]:[],u=[l.support,vP],c;o&&u.push(jg),i instanceof yn?(u.push(i.support),c=i.language):i&&(c=i);let h=e||c?wP(e,c):void 0;a.push(BQ({codeParser:h,htmlParser:l.language.parser})),n&&u.push(ri.high(Br.of(Fg)));let f=ac(r.configure(a));return s&&u.push(f.data.of({autocomplete:_P})),new yn(f,u)}function _P(t){let{state:e,pos:i}=t,n=/<[:\-\.\w\u00b7-\uffff]*$/.exec(e.sliceDoc(i-25,i));if(!n)return null;let r=Pe(e).resolveInner(i,-1);for(;r&&!r.type.isTop;){if(r.name=="CodeBlock"||r.name=="FencedCode"||r.name=="ProcessingInstructionBlock"||r.name=="CommentBlock"||r.name=="Link"||r.name=="Image")return null;r=r.parent}return{from:i-n[0].length,to:i,options:PP(),validFor:/^<[:\-\.\w\u00b7-\uffff]*$/}}let Dl=null;function PP(){if(Dl)return Dl;let t=$g(new Vu(ae.create({extensions:Bg}),0,!0));return Dl=t?t.options:[]}const CP=/code|horizontalrule|html|link|comment|processing|escape|entity|image|mark|url/i,jg=W.domEventHandlers({paste:(t,e)=>{var i;let{main:n}=e.state.selection;if(n.empty)return!1;let r=(i=t.clipboardData)===null||i===void 0?void 0:i.getData("text/plain");if(!r||!/^(https?:\/\/|mailto:|xmpp:|www\.)/.test(r)||(/^www\./.test(r)&&(r="https://"+r),!Er.isActiveAt(e.state,n.from,1)))return!1;let s=Pe(e.state),o=!1;return s.iterate({from:n.from,to:n.to,enter:l=>{(l.from>n.from||CP.test(l.name))&&(o=!0)},leave:l=>{l.to<n.to&&(o=!0)}}),o?!1:(e.dispatch({changes:[{from:n.from,insert:"["},{from:n.to,insert:`](${r})`}],userEvent:"input.paste",scrollIntoView:!0}),!0)}}),TP=Object.freeze(Object.defineProperty({__proto__:null,commonmarkLanguage:Lg,deleteMarkupBackward:Vg,insertNewlineContinueMarkup:Xg,insertNewlineContinueMarkupCommand:zg,markdown:qg,markdownKeymap:Fg,markdownLanguage:Er,pasteURLAsLink:jg},Symbol.toStringTag,{value:"Module"}));function L(t){return new yn(Mu.define(t))}function oi(t){return T(()=>import("./index-BT-XfKMe.js"),__vite__mapDeps([0,1,2])).then(e=>e.sql({dialect:e[t]}))}const AP=[C.of({name:"C",extensions:["c","h","ino"],load(){return T(()=>import("./index-CdHIc1ud.js"),__vite__mapDeps([3,1,2])).then(t=>t.cpp())}}),C.of({name:"C++",alias:["cpp"],extensions:["cpp","c++","cc","cxx","hpp","h++","hh","hxx"],load(){return T(()=>import("./index-CdHIc1ud.js"),__vite__mapDeps([3,1,2])).then(t=>t.cpp())}}),C.of({name:"CQL",alias:["cassandra"],extensions:["cql"],load(){return oi("Cassandra")}}),C.of({name:"CSS",extensions:["css"],load(){return T(()=>Promise.resolve().then(()=>__),void 0).then(t=>t.css())}}),C.of({name:"Go",extensions:["go"],load(){return T(()=>import("./index-Ca2a99KL.js"),__vite__mapDeps([4,1,2])).then(t=>t.go())}}),C.of({name:"HTML",alias:["xhtml"],extensions:["html","htm","handlebars","hbs"],load(){return T(()=>Promise.resolve().then(()=>xP),void 0).then(t=>t.html())}}),C.of({name:"Java",extensions:["java"],load(){return T(()=>import("./index-DPPh6wlq.js"),__vite__mapDeps([5,1,2])).then(t=>t.java())}}),C.of({name:"JavaScript",alias:["ecmascript","js","node"],extensions:["js","mjs","cjs"],load(){return T(()=>Promise.resolve().then(()=>Ss),void 0).then(t=>t.javascript())}}),C.of({name:"Jinja",extensions:["j2","jinja","jinja2"],load(){return T(()=>import("./index-CA6FJKIU.js"),__vite__mapDeps([6,1,2])).then(t=>t.jinja())}}),C.of({name:"JSON",alias:["json5"],extensions:["json","map"],load(){return T(()=>import("./index-xobnwr9u.js"),__vite__mapDeps([7,1,2])).then(t=>t.json())}}),C.of({name:"JSX",extensions:["jsx"],load(){return T(()=>Promise.resolve().then(()=>Ss),void 0).then(t=>t.javascript({jsx:!0}))}}),C.of({name:"LESS",extensions:["less"],load(){return T(()=>import("./index-BeEZhhDq.js"),__vite__mapDeps([8,1,2])).then(t=>t.less())}}),C.of({name:"Liquid",extensions:["liquid"],load(){return T(()=>import("./index-B2leo8wf.js"),__vite__mapDeps([9,1,2])).then(t=>t.liquid())}}),C.of({name:"MariaDB SQL",load(){return oi("MariaSQL")}}),C.of({name:"Markdown",extensions:["md","markdown","mkd"],load(){return T(()=>Promise.resolve().then(()=>TP),void 0).then(t=>t.markdown())}}),C.of({name:"MS SQL",load(){return oi("MSSQL")}}),C.of({name:"MySQL",load(){return oi("MySQL")}}),C.of({name:"PHP",extensions:["php","php3","php4","php5","php7","phtml"],load(){return T(()=>import("./index-CW90xaTk.js"),__vite__mapDeps([10,1,2])).then(t=>t.php())}}),C.of({name:"PLSQL",extensions:["pls"],load(){return oi("PLSQL")}}),C.of({name:"PostgreSQL",load(){return oi("PostgreSQL")}}),C.of({name:"Python",extensions:["BUILD","bzl","py","pyw"],filename:/^(BUCK|BUILD)$/,load(){return T(()=>import("./index-Dsq5_9Ff.js"),__vite__mapDeps([11,1,2])).then(t=>t.python())}}),C.of({name:"Rust",extensions:["rs"],load(){return T(()=>import("./index-4Gh3Fja1.js"),__vite__mapDeps([12,1,2])).then(t=>t.rust())}}),C.of({name:"Sass",extensions:["sass"],load(){return T(()=>import("./index-ICdS2Lnn.js"),__vite__mapDeps([13,1,2])).then(t=>t.sass({indented:!0}))}}),C.of({name:"SCSS",extensions:["scss"],load(){return T(()=>import("./index-ICdS2Lnn.js"),__vite__mapDeps([13,1,2])).then(t=>t.sass())}}),C.of({name:"SQL",extensions:["sql"],load(){return oi("StandardSQL")}}),C.of({name:"SQLite",load(){return oi("SQLite")}}),C.of({name:"TSX",extensions:["tsx"],load(){return T(()=>Promise.resolve().then(()=>Ss),void 0).then(t=>t.javascript({jsx:!0,typescript:!0}))}}),C.of({name:"TypeScript",alias:["ts"],extensions:["ts","mts","cts"],load(){return T(()=>Promise.resolve().then(()=>Ss),void 0).then(t=>t.javascript({typescript:!0}))}}),C.of({name:"WebAssembly",extensions:["wat","wast"],load(){return T(()=>import("./index-OiHk26rL.js"),__vite__mapDeps([14,1,2])).then(t=>t.wast())}}),C.of({name:"XML",alias:["rss","wsdl","xsd"],extensions:["xml","xsl","xsd","svg"],load(){return T(()=>import("./index-BPvXnwWq.js"),__vite__mapDeps([15,1,2])).then(t=>t.xml())}}),C.of({name:"YAML",alias:["yml"],extensions:["yaml","yml"],load(){return T(()=>import("./index-CM6qQVH2.js"),__vite__mapDeps([16,1,2])).then(t=>t.yaml())}}),C.of({name:"APL",extensions:["dyalog","apl"],load(){return T(()=>import("./apl-B4CMkyY2.js"),[]).then(t=>L(t.apl))}}),C.of({name:"PGP",alias:["asciiarmor"],extensions:["asc","pgp","sig"],load(){return T(()=>import("./asciiarmor-Df11BRmG.js"),[]).then(t=>L(t.asciiArmor))}}),C.of({name:"ASN.1",extensions:["asn","asn1"],load(){return T(()=>import("./asn1-EdZsLKOL.js"),[]).then(t=>L(t.asn1({})))}}),C.of({name:"Asterisk",filename:/^extensions\.conf$/i,load(){return T(()=>import("./asterisk-B-8jnY81.js"),[]).then(t=>L(t.asterisk))}}),C.of({name:"Brainfuck",extensions:["b","bf"],load(){return T(()=>import("./brainfuck-C4LP7Hcl.js"),[]).then(t=>L(t.brainfuck))}}),C.of({name:"Cobol",extensions:["cob","cpy"],load(){return T(()=>import("./cobol-CWcv1MsR.js"),[]).then(t=>L(t.cobol))}}),C.of({name:"C#",alias:["csharp","cs"],extensions:["cs"],load(){return T(()=>import("./clike-B9uivgTg.js"),[]).then(t=>L(t.csharp))}}),C.of({name:"Clojure",extensions:["clj","cljc","cljx"],load(){return T(()=>import("./clojure-BMjYHr_A.js"),[]).then(t=>L(t.clojure))}}),C.of({name:"ClojureScript",extensions:["cljs"],load(){return T(()=>import("./clojure-BMjYHr_A.js"),[]).then(t=>L(t.clojure))}}),C.of({name:"Closure Stylesheets (GSS)",extensions:["gss"],load(){return T(()=>import("./css-BnMrqG3P.js"),[]).then(t=>L(t.gss))}}),C.of({name:"CMake",extensions:["cmake","cmake.in"],filename:/^CMakeLists\.txt$/,load(){return T(()=>import("./cmake-BQqOBYOt.js"),[]).then(t=>L(t.cmake))}}),C.of({name:"CoffeeScript",alias:["coffee","coffee-script"],extensions:["coffee"],load(){return T(()=>import("./coffeescript-S37ZYGWr.js"),[]).then(t=>L(t.coffeeScript))}}),C.of({name:"Common Lisp",alias:["lisp"],extensions:["cl","lisp","el"],load(){return T(()=>import("./commonlisp-DBKNyK5s.js"),[]).then(t=>L(t.commonLisp))}}),C.of({name:"Cypher",extensions:["cyp","cypher"],load(){return T(()=>import("./cypher-C_CwsFkJ.js"),[]).then(t=>L(t.cypher))}}),C.of({name:"Cython",extensions:["pyx","pxd","pxi"],load(){return T(()=>import("./python-BuPzkPfP.js"),[]).then(t=>L(t.cython))}}),C.of({name:"Crystal",extensions:["cr"],load(){return T(()=>import("./crystal-SjHAIU92.js"),[]).then(t=>L(t.crystal))}}),C.of({name:"D",extensions:["d"],load(){return T(()=>import("./d-pRatUO7H.js"),[]).then(t=>L(t.d))}}),C.of({name:"Dart",extensions:["dart"],load(){return T(()=>import("./clike-B9uivgTg.js"),[]).then(t=>L(t.dart))}}),C.of({name:"diff",extensions:["diff","patch"],load(){return T(()=>import("./diff-DbItnlRl.js"),[]).then(t=>L(t.diff))}}),C.of({name:"Dockerfile",filename:/^Dockerfile$/,load(){return T(()=>import("./dockerfile-BKs6k2Af.js"),__vite__mapDeps([17,18])).then(t=>L(t.dockerFile))}}),C.of({name:"DTD",extensions:["dtd"],load(){return T(()=>import("./dtd-DF_7sFjM.js"),[]).then(t=>L(t.dtd))}}),C.of({name:"Dylan",extensions:["dylan","dyl","intr"],load(){return T(()=>import("./dylan-DwRh75JA.js"),[]).then(t=>L(t.dylan))}}),C.of({name:"EBNF",load(){return T(()=>import("./ebnf-CDyGwa7X.js"),[]).then(t=>L(t.ebnf))}}),C.of({name:"ECL",extensions:["ecl"],load(){return T(()=>import("./ecl-Cabwm37j.js"),[]).then(t=>L(t.ecl))}}),C.of({name:"edn",extensions:["edn"],load(){return T(()=>import("./clojure-BMjYHr_A.js"),[]).then(t=>L(t.clojure))}}),C.of({name:"Eiffel",extensions:["e"],load(){return T(()=>import("./eiffel-CnydiIhH.js"),[]).then(t=>L(t.eiffel))}}),C.of({name:"Elm",extensions:["elm"],load(){return T(()=>import("./elm-vLlmbW-K.js"),[]).then(t=>L(t.elm))}}),C.of({name:"Erlang",extensions:["erl"],load(){return T(()=>import("./erlang-BNw1qcRV.js"),[]).then(t=>L(t.erlang))}}),C.of({name:"Esper",load(){return T(()=>import("./sql-D0XecflT.js"),[]).then(t=>L(t.esper))}}),C.of({name:"Factor",extensions:["factor"],load(){return T(()=>import("./factor-kuTfRLto.js"),__vite__mapDeps([19,18])).then(t=>L(t.factor))}}),C.of({name:"FCL",load(){return T(()=>import("./fcl-Kvtd6kyn.js"),[]).then(t=>L(t.fcl))}}),C.of({name:"Forth",extensions:["forth","fth","4th"],load(){return T(()=>import("./forth-Ffai-XNe.js"),[]).then(t=>L(t.forth))}}),C.of({name:"Fortran",extensions:["f","for","f77","f90","f95"],load(){return T(()=>import("./fortran-DYz_wnZ1.js"),[]).then(t=>L(t.fortran))}}),C.of({name:"F#",alias:["fsharp"],extensions:["fs"],load(){return T(()=>import("./mllike-CXdrOF99.js"),[]).then(t=>L(t.fSharp))}}),C.of({name:"Gas",extensions:["s"],load(){return T(()=>import("./gas-Bneqetm1.js"),[]).then(t=>L(t.gas))}}),C.of({name:"Gherkin",extensions:["feature"],load(){return T(()=>import("./gherkin-heZmZLOM.js"),[]).then(t=>L(t.gherkin))}}),C.of({name:"Groovy",extensions:["groovy","gradle"],filename:/^Jenkinsfile$/,load(){return T(()=>import("./groovy-D9Dt4D0W.js"),[]).then(t=>L(t.groovy))}}),C.of({name:"Haskell",extensions:["hs"],load(){return T(()=>import("./haskell-Cw1EW3IL.js"),[]).then(t=>L(t.haskell))}}),C.of({name:"Haxe",extensions:["hx"],load(){return T(()=>import("./haxe-H-WmDvRZ.js"),[]).then(t=>L(t.haxe))}}),C.of({name:"HXML",extensions:["hxml"],load(){return T(()=>import("./haxe-H-WmDvRZ.js"),[]).then(t=>L(t.hxml))}}),C.of({name:"HTTP",load(){return T(()=>import("./http-DBlCnlav.js"),[]).then(t=>L(t.http))}}),C.of({name:"IDL",extensions:["pro"],load(){return T(()=>import("./idl-BEugSyMb.js"),[]).then(t=>L(t.idl))}}),C.of({name:"JSON-LD",alias:["jsonld"],extensions:["jsonld"],load(){return T(()=>import("./javascript-iXu5QeM3.js"),[]).then(t=>L(t.jsonld))}}),C.of({name:"Julia",extensions:["jl"],load(){return T(()=>import("./julia-DuME0IfC.js"),[]).then(t=>L(t.julia))}}),C.of({name:"Kotlin",extensions:["kt","kts"],load(){return T(()=>import("./clike-B9uivgTg.js"),[]).then(t=>L(t.kotlin))}}),C.of({name:"LiveScript",alias:["ls"],extensions:["ls"],load(){return T(()=>import("./livescript-BwQOo05w.js"),[]).then(t=>L(t.liveScript))}}),C.of({name:"Lua",extensions:["lua"],load(){return T(()=>import("./lua-BgMRiT3U.js"),[]).then(t=>L(t.lua))}}),C.of({name:"mIRC",extensions:["mrc"],load(){return T(()=>import("./mirc-CjQqDB4T.js"),[]).then(t=>L(t.mirc))}}),C.of({name:"Mathematica",extensions:["m","nb","wl","wls"],load(){return T(()=>import("./mathematica-DTrFuWx2.js"),[]).then(t=>L(t.mathematica))}}),C.of({name:"Modelica",extensions:["mo"],load(){return T(()=>import("./modelica-Dc1JOy9r.js"),[]).then(t=>L(t.modelica))}}),C.of({name:"MUMPS",extensions:["mps"],load(){return T(()=>import("./mumps-BT43cFF4.js"),[]).then(t=>L(t.mumps))}}),C.of({name:"Mbox",extensions:["mbox"],load(){return T(()=>import("./mbox-CNhZ1qSd.js"),[]).then(t=>L(t.mbox))}}),C.of({name:"Nginx",filename:/nginx.*\.conf$/i,load(){return T(()=>import("./nginx-DdIZxoE0.js"),[]).then(t=>L(t.nginx))}}),C.of({name:"NSIS",extensions:["nsh","nsi"],load(){return T(()=>import("./nsis-LdVXkNf5.js"),__vite__mapDeps([20,18])).then(t=>L(t.nsis))}}),C.of({name:"NTriples",extensions:["nt","nq"],load(){return T(()=>import("./ntriples-BfvgReVJ.js"),[]).then(t=>L(t.ntriples))}}),C.of({name:"Objective-C",alias:["objective-c","objc"],extensions:["m"],load(){return T(()=>import("./clike-B9uivgTg.js"),[]).then(t=>L(t.objectiveC))}}),C.of({name:"Objective-C++",alias:["objective-c++","objc++"],extensions:["mm"],load(){return T(()=>import("./clike-B9uivgTg.js"),[]).then(t=>L(t.objectiveCpp))}}),C.of({name:"OCaml",extensions:["ml","mli","mll","mly"],load(){return T(()=>import("./mllike-CXdrOF99.js"),[]).then(t=>L(t.oCaml))}}),C.of({name:"Octave",extensions:["m"],load(){return T(()=>import("./octave-Ck1zUtKM.js"),[]).then(t=>L(t.octave))}}),C.of({name:"Oz",extensions:["oz"],load(){return T(()=>import("./oz-BzwKVEFT.js"),[]).then(t=>L(t.oz))}}),C.of({name:"Pascal",extensions:["p","pas"],load(){return T(()=>import("./pascal--L3eBynH.js"),[]).then(t=>L(t.pascal))}}),C.of({name:"Perl",extensions:["pl","pm"],load(){return T(()=>import("./perl-CdXCOZ3F.js"),[]).then(t=>L(t.perl))}}),C.of({name:"Pig",extensions:["pig"],load(){return T(()=>import("./pig-CevX1Tat.js"),[]).then(t=>L(t.pig))}}),C.of({name:"PowerShell",extensions:["ps1","psd1","psm1"],load(){return T(()=>import("./powershell-CFHJl5sT.js"),[]).then(t=>L(t.powerShell))}}),C.of({name:"Properties files",alias:["ini","properties"],extensions:["properties","ini","in"],load(){return T(()=>import("./properties-C78fOPTZ.js"),[]).then(t=>L(t.properties))}}),C.of({name:"ProtoBuf",extensions:["proto"],load(){return T(()=>import("./protobuf-ChK-085T.js"),[]).then(t=>L(t.protobuf))}}),C.of({name:"Pug",alias:["jade"],extensions:["pug","jade"],load(){return T(()=>import("./pug-DeIclll2.js"),__vite__mapDeps([21,22])).then(t=>L(t.pug))}}),C.of({name:"Puppet",extensions:["pp"],load(){return T(()=>import("./puppet-DMA9R1ak.js"),[]).then(t=>L(t.puppet))}}),C.of({name:"Q",extensions:["q"],load(){return T(()=>import("./q-pXgVlZs6.js"),[]).then(t=>L(t.q))}}),C.of({name:"R",alias:["rscript"],extensions:["r","R"],load(){return T(()=>import("./r-B6wPVr8A.js"),[]).then(t=>L(t.r))}}),C.of({name:"RPM Changes",load(){return T(()=>import("./rpm-CTu-6PCP.js"),[]).then(t=>L(t.rpmChanges))}}),C.of({name:"RPM Spec",extensions:["spec"],load(){return T(()=>import("./rpm-CTu-6PCP.js"),[]).then(t=>L(t.rpmSpec))}}),C.of({name:"Ruby",alias:["jruby","macruby","rake","rb","rbx"],extensions:["rb"],filename:/^(Gemfile|Rakefile)$/,load(){return T(()=>import("./ruby-B2Rjki9n.js"),[]).then(t=>L(t.ruby))}}),C.of({name:"SAS",extensions:["sas"],load(){return T(()=>import("./sas-B4kiWyti.js"),[]).then(t=>L(t.sas))}}),C.of({name:"Scala",extensions:["scala"],load(){return T(()=>import("./clike-B9uivgTg.js"),[]).then(t=>L(t.scala))}}),C.of({name:"Scheme",extensions:["scm","ss"],load(){return T(()=>import("./scheme-C41bIUwD.js"),[]).then(t=>L(t.scheme))}}),C.of({name:"Shell",alias:["bash","sh","zsh"],extensions:["sh","ksh","bash"],filename:/^PKGBUILD$/,load(){return T(()=>import("./shell-CjFT_Tl9.js"),[]).then(t=>L(t.shell))}}),C.of({name:"Sieve",extensions:["siv","sieve"],load(){return T(()=>import("./sieve-C3Gn_uJK.js"),[]).then(t=>L(t.sieve))}}),C.of({name:"Smalltalk",extensions:["st"],load(){return T(()=>import("./smalltalk-CnHTOXQT.js"),[]).then(t=>L(t.smalltalk))}}),C.of({name:"Solr",load(){return T(()=>import("./solr-DehyRSwq.js"),[]).then(t=>L(t.solr))}}),C.of({name:"SML",extensions:["sml","sig","fun","smackspec"],load(){return T(()=>import("./mllike-CXdrOF99.js"),[]).then(t=>L(t.sml))}}),C.of({name:"SPARQL",alias:["sparul"],extensions:["rq","sparql"],load(){return T(()=>import("./sparql-DkYu6x3z.js"),[]).then(t=>L(t.sparql))}}),C.of({name:"Spreadsheet",alias:["excel","formula"],load(){return T(()=>import("./spreadsheet-BCZA_wO0.js"),[]).then(t=>L(t.spreadsheet))}}),C.of({name:"Squirrel",extensions:["nut"],load(){return T(()=>import("./clike-B9uivgTg.js"),[]).then(t=>L(t.squirrel))}}),C.of({name:"Stylus",extensions:["styl"],load(){return T(()=>import("./stylus-B533Al4x.js"),[]).then(t=>L(t.stylus))}}),C.of({name:"Swift",extensions:["swift"],load(){return T(()=>import("./swift-BzpIVaGY.js"),[]).then(t=>L(t.swift))}}),C.of({name:"sTeX",load(){return T(()=>import("./stex-C3f8Ysf7.js"),[]).then(t=>L(t.stex))}}),C.of({name:"LaTeX",alias:["tex"],extensions:["text","ltx","tex"],load(){return T(()=>import("./stex-C3f8Ysf7.js"),[]).then(t=>L(t.stex))}}),C.of({name:"SystemVerilog",extensions:["v","sv","svh"],load(){return T(()=>import("./verilog-C6RDOZhf.js"),[]).then(t=>L(t.verilog))}}),C.of({name:"Tcl",extensions:["tcl"],load(){return T(()=>import("./tcl-DVfN8rqt.js"),[]).then(t=>L(t.tcl))}}),C.of({name:"Textile",extensions:["textile"],load(){return T(()=>import("./textile-CnDTJFAw.js"),[]).then(t=>L(t.textile))}}),C.of({name:"TiddlyWiki",load(){return T(()=>import("./tiddlywiki-DO-Gjzrf.js"),[]).then(t=>L(t.tiddlyWiki))}}),C.of({name:"Tiki wiki",load(){return T(()=>import("./tiki-DGYXhP31.js"),[]).then(t=>L(t.tiki))}}),C.of({name:"TOML",extensions:["toml"],load(){return T(()=>import("./toml-Bm5Em-hy.js"),[]).then(t=>L(t.toml))}}),C.of({name:"Troff",extensions:["1","2","3","4","5","6","7","8","9"],load(){return T(()=>import("./troff-wAsdV37c.js"),[]).then(t=>L(t.troff))}}),C.of({name:"TTCN",extensions:["ttcn","ttcn3","ttcnpp"],load(){return T(()=>import("./ttcn-CfJYG6tj.js"),[]).then(t=>L(t.ttcn))}}),C.of({name:"TTCN_CFG",extensions:["cfg"],load(){return T(()=>import("./ttcn-cfg-B9xdYoR4.js"),[]).then(t=>L(t.ttcnCfg))}}),C.of({name:"Turtle",extensions:["ttl"],load(){return T(()=>import("./turtle-B1tBg_DP.js"),[]).then(t=>L(t.turtle))}}),C.of({name:"Web IDL",extensions:["webidl"],load(){return T(()=>import("./webidl-ZXfAyPTL.js"),[]).then(t=>L(t.webIDL))}}),C.of({name:"VB.NET",extensions:["vb"],load(){return T(()=>import("./vb-CmGdzxic.js"),[]).then(t=>L(t.vb))}}),C.of({name:"VBScript",extensions:["vbs"],load(){return T(()=>import("./vbscript-BuJXcnF6.js"),[]).then(t=>L(t.vbScript))}}),C.of({name:"Velocity",extensions:["vtl"],load(){return T(()=>import("./velocity-D8B20fx6.js"),[]).then(t=>L(t.velocity))}}),C.of({name:"Verilog",extensions:["v"],load(){return T(()=>import("./verilog-C6RDOZhf.js"),[]).then(t=>L(t.verilog))}}),C.of({name:"VHDL",extensions:["vhd","vhdl"],load(){return T(()=>import("./vhdl-lSbBsy5d.js"),[]).then(t=>L(t.vhdl))}}),C.of({name:"XQuery",extensions:["xy","xquery","xq","xqm","xqy"],load(){return T(()=>import("./xquery-DzFWVndE.js"),[]).then(t=>L(t.xQuery))}}),C.of({name:"Yacas",extensions:["ys"],load(){return T(()=>import("./yacas-BJ4BC0dw.js"),[]).then(t=>L(t.yacas))}}),C.of({name:"Z80",extensions:["z80"],load(){return T(()=>import("./z80-Hz9HOZM7.js"),[]).then(t=>L(t.z80))}}),C.of({name:"MscGen",extensions:["mscgen","mscin","msc"],load(){return T(()=>import("./mscgen-BA5vi2Kp.js"),[]).then(t=>L(t.mscgen))}}),C.of({name:"Xù",extensions:["xu"],load(){return T(()=>import("./mscgen-BA5vi2Kp.js"),[]).then(t=>L(t.xu))}}),C.of({name:"MsGenny",extensions:["msgenny"],load(){return T(()=>import("./mscgen-BA5vi2Kp.js"),[]).then(t=>L(t.msgenny))}}),C.of({name:"Vue",extensions:["vue"],load(){return T(()=>import("./index-BMZDLcn_.js"),__vite__mapDeps([23,1,2])).then(t=>t.vue())}}),C.of({name:"Angular Template",load(){return T(()=>import("./index-8CbzS8YS.js"),__vite__mapDeps([24,1,2])).then(t=>t.angular())}})],xd=typeof String.prototype.normalize=="function"?t=>t.normalize("NFKD"):t=>t;class Dr{constructor(e,i,n=0,r=e.length,s,o){this.test=o,this.value={from:0,to:0},this.done=!1,this.matches=[],this.buffer="",this.bufferPos=0,this.iter=e.iterRange(n,r),this.bufferStart=n,this.normalize=s?l=>s(xd(l)):xd,this.query=this.normalize(i)}peek(){if(this.bufferPos==this.buffer.length){if(this.bufferStart+=this.buffer.length,this.iter.next(),this.iter.done)return-1;this.bufferPos=0,this.buffer=this.iter.value}return ui(this.buffer,this.bufferPos)}next(){for(;this.matches.length;)this.matches.pop();return this.nextOverlapping()}nextOverlapping(){for(;;){let e=this.peek();if(e<0)return this.done=!0,this;let i=Gp(e),n=this.bufferStart+this.bufferPos;this.bufferPos+=Di(e);let r=this.normalize(i);if(r.length)for(let s=0,o=n;;s++){let l=r.charCodeAt(s),a=this.match(l,o,this.bufferPos+this.bufferStart);if(s==r.length-1){if(a)return this.value=a,this;break}o==n&&s<i.length&&i.charCodeAt(s)==l&&o++}}}match(e,i,n){let r=null;for(let s=0;s<this.matches.length;s+=2){let o=this.matches[s],l=!1;this.query.charCodeAt(o)==e&&(o==this.query.length-1?r={from:this.matches[s+1],to:n}:(this.matches[s]++,l=!0)),l||(this.matches.splice(s,2),s-=2)}return this.query.charCodeAt(0)==e&&(this.query.length==1?r={from:i,to:n}:this.matches.push(1,i)),r&&this.test&&!this.test(r.from,r.to,this.buffer,this.bufferStart)&&(r=null),r}}typeof Symbol<"u"&&(Dr.prototype[Symbol.iterator]=function(){return this});const Yg={from:-1,to:-1,match:/.*/.exec("")},cc="gm"+(/x/.unicode==null?"":"u");class Ng{constructor(e,i,n,r=0,s=e.length){if(this.text=e,this.to=s,this.curLine="",this.done=!1,this.value=Yg,/\\[sWDnr]|\n|\r|\[\^/.test(i))return new Wg(e,i,n,r,s);this.re=new RegExp(i,cc+(n?.ignoreCase?"i":"")),this.test=n?.test,this.iter=e.iter();let o=e.lineAt(r);this.curLineStart=o.from,this.matchPos=vo(e,r),this.getLine(this.curLineStart)}getLine(e){this.iter.next(e),this.iter.lineBreak?this.curLine="":(this.curLine=this.iter.value,this.curLineStart+this.curLine.length>this.to&&(this.curLine=this.curLine.slice(0,this.to-this.curLineStart)),this.iter.next())}nextLine(){this.curLineStart=this.curLineStart+this.curLine.length+1,this.curLineStart>this.to?this.curLine="":this.getLine(0)}next(){for(let e=this.matchPos-this.curLineStart;;){this.re.lastIndex=e;let i=this.matchPos<=this.to&&this.re.exec(this.curLine);if(i){let n=this.curLineStart+i.index,r=n+i[0].length;if(this.matchPos=vo(this.text,r+(n==r?1:0)),n==this.curLineStart+this.curLine.length&&this.nextLine(),(n<r||n>this.value.to)&&(!this.test||this.test(n,r,i)))return this.value={from:n,to:r,match:i},this;e=this.matchPos-this.curLineStart}else if(this.curLineStart+this.curLine.length<this.to)this.nextLine(),e=0;else return this.done=!0,this}}}const Ml=new WeakMap;class ln{constructor(e,i){this.from=e,this.text=i}get to(){return this.from+this.text.length}static get(e,i,n){let r=Ml.get(e);if(!r||r.from>=n||r.to<=i){let l=new ln(i,e.sliceString(i,n));return Ml.set(e,l),l}if(r.from==i&&r.to==n)return r;let{text:s,from:o}=r;return o>i&&(s=e.sliceString(i,o)+s,o=i),r.to<n&&(s+=e.sliceString(r.to,n)),Ml.set(e,new ln(o,s)),new ln(i,s.slice(i-o,n-o))}}class Wg{constructor(e,i,n,r,s){this.text=e,this.to=s,this.done=!1,this.value=Yg,this.matchPos=vo(e,r),this.re=new RegExp(i,cc+(n?.ignoreCase?"i":"")),this.test=n?.test,this.flat=ln.get(e,r,this.chunkEnd(r+5e3))}chunkEnd(e){return e>=this.to?this.to:this.text.lineAt(e).to}next(){for(;;){let e=this.re.lastIndex=this.matchPos-this.flat.from,i=this.re.exec(this.flat.text);if(i&&!i[0]&&i.index==e&&(this.re.lastIndex=e+1,i=this.re.exec(this.flat.text)),i){let n=this.flat.from+i.index,r=n+i[0].length;if((this.flat.to>=this.to||i.index+i[0].length<=this.flat.text.length-10)&&(!this.test||this.test(n,r,i)))return this.value={from:n,to:r,match:i},this.matchPos=vo(this.text,r+(n==r?1:0)),this}if(this.flat.to==this.to)return this.done=!0,this;this.flat=ln.get(this.text,this.flat.from,this.chunkEnd(this.flat.from+this.flat.text.length*2))}}}typeof Symbol<"u"&&(Ng.prototype[Symbol.iterator]=Wg.prototype[Symbol.iterator]=function(){return this});function EP(t){try{return new RegExp(t,cc),!0}catch{return!1}}function vo(t,e){if(e>=t.length)return e;let i=t.lineAt(e),n;for(;e<i.to&&(n=i.text.charCodeAt(e-i.from))>=56320&&n<57344;)e++;return e}function Ja(t){let e=String(t.state.doc.lineAt(t.state.selection.main.head).number),i=Ie("input",{class:"cm-textfield",name:"line",value:e}),n=Ie("form",{class:"cm-gotoLine",onkeydown:s=>{s.keyCode==27?(s.preventDefault(),t.dispatch({effects:ur.of(!1)}),t.focus()):s.keyCode==13&&(s.preventDefault(),r())},onsubmit:s=>{s.preventDefault(),r()}},Ie("label",t.state.phrase("Go to line"),": ",i)," ",Ie("button",{class:"cm-button",type:"submit"},t.state.phrase("go")),Ie("button",{name:"close",onclick:()=>{t.dispatch({effects:ur.of(!1)}),t.focus()},"aria-label":t.state.phrase("close"),type:"button"},["×"]));function r(){let s=/^([+-])?(\d+)?(:\d+)?(%)?$/.exec(i.value);if(!s)return;let{state:o}=t,l=o.doc.lineAt(o.selection.main.head),[,a,u,c,h]=s,f=c?+c.slice(1):0,d=u?+u:l.number;if(u&&h){let O=d/100;a&&(O=O*(a=="-"?-1:1)+l.number/o.doc.lines),d=Math.round(o.doc.lines*O)}else u&&a&&(d=d*(a=="-"?-1:1)+l.number);let p=o.doc.line(Math.max(1,Math.min(o.doc.lines,d))),m=M.cursor(p.from+Math.max(0,Math.min(f,p.length)));t.dispatch({effects:[ur.of(!1),W.scrollIntoView(m.from,{y:"center"})],selection:m}),t.focus()}return{dom:n}}const ur=re.define(),yd=it.define({create(){return!0},update(t,e){for(let i of e.effects)i.is(ur)&&(t=i.value);return t},provide:t=>oo.from(t,e=>e?Ja:null)}),DP=t=>{let e=so(t,Ja);if(!e){let i=[ur.of(!0)];t.state.field(yd,!1)==null&&i.push(re.appendConfig.of([yd,MP])),t.dispatch({effects:i}),e=so(t,Ja)}return e&&e.dom.querySelector("input").select(),!0},MP=W.baseTheme({".cm-panel.cm-gotoLine":{padding:"2px 6px 4px",position:"relative","& label":{fontSize:"80%"},"& [name=close]":{position:"absolute",top:"0",bottom:"0",right:"4px",backgroundColor:"inherit",border:"none",font:"inherit",padding:"0"}}}),RP=({state:t,dispatch:e})=>{let{selection:i}=t,n=M.create(i.ranges.map(r=>t.wordAt(r.head)||M.cursor(r.head)),i.mainIndex);return n.eq(i)?!1:(e(t.update({selection:n})),!0)};function LP(t,e){let{main:i,ranges:n}=t.selection,r=t.wordAt(i.head),s=r&&r.from==i.from&&r.to==i.to;for(let o=!1,l=new Dr(t.doc,e,n[n.length-1].to);;)if(l.next(),l.done){if(o)return null;l=new Dr(t.doc,e,0,Math.max(0,n[n.length-1].from-1)),o=!0}else{if(o&&n.some(a=>a.from==l.value.from))continue;if(s){let a=t.wordAt(l.value.from);if(!a||a.from!=l.value.from||a.to!=l.value.to)continue}return l.value}}const ZP=({state:t,dispatch:e})=>{let{ranges:i}=t.selection;if(i.some(s=>s.from===s.to))return RP({state:t,dispatch:e});let n=t.sliceDoc(i[0].from,i[0].to);if(t.selection.ranges.some(s=>t.sliceDoc(s.from,s.to)!=n))return!1;let r=LP(t,n);return r?(e(t.update({selection:t.selection.addRange(M.range(r.from,r.to),!1),effects:W.scrollIntoView(r.to)})),!0):!1},Mn=U.define({combine(t){return Do(t,{top:!1,caseSensitive:!1,literal:!1,regexp:!1,wholeWord:!1,createPanel:e=>new GP(e),scrollToMatch:e=>W.scrollIntoView(e)})}});class Gg{constructor(e){this.search=e.search,this.caseSensitive=!!e.caseSensitive,this.literal=!!e.literal,this.regexp=!!e.regexp,this.replace=e.replace||"",this.valid=!!this.search&&(!this.regexp||EP(this.search)),this.unquoted=this.unquote(this.search),this.wholeWord=!!e.wholeWord}unquote(e){return this.literal?e:e.replace(/\\([nrt\\])/g,(i,n)=>n=="n"?`
+`:n=="r"?"\r":n=="t"?"	":"\\")}eq(e){return this.search==e.search&&this.replace==e.replace&&this.caseSensitive==e.caseSensitive&&this.regexp==e.regexp&&this.wholeWord==e.wholeWord}create(){return this.regexp?new VP(this):new zP(this)}getCursor(e,i=0,n){let r=e.doc?e:ae.create({doc:e});return n==null&&(n=r.doc.length),this.regexp?Gi(this,r,i,n):Wi(this,r,i,n)}}class Ug{constructor(e){this.spec=e}}function Wi(t,e,i,n){return new Dr(e.doc,t.unquoted,i,n,t.caseSensitive?void 0:r=>r.toLowerCase(),t.wholeWord?IP(e.doc,e.charCategorizer(e.selection.main.head)):void 0)}function IP(t,e){return(i,n,r,s)=>((s>i||s+r.length<n)&&(s=Math.max(0,i-2),r=t.sliceString(s,Math.min(t.length,n+2))),(e(So(r,i-s))!=Fe.Word||e(wo(r,i-s))!=Fe.Word)&&(e(wo(r,n-s))!=Fe.Word||e(So(r,n-s))!=Fe.Word))}class zP extends Ug{constructor(e){super(e)}nextMatch(e,i,n){let r=Wi(this.spec,e,n,e.doc.length).nextOverlapping();if(r.done){let s=Math.min(e.doc.length,i+this.spec.unquoted.length);r=Wi(this.spec,e,0,s).nextOverlapping()}return r.done||r.value.from==i&&r.value.to==n?null:r.value}prevMatchInRange(e,i,n){for(let r=n;;){let s=Math.max(i,r-1e4-this.spec.unquoted.length),o=Wi(this.spec,e,s,r),l=null;for(;!o.nextOverlapping().done;)l=o.value;if(l)return l;if(s==i)return null;r-=1e4}}prevMatch(e,i,n){let r=this.prevMatchInRange(e,0,i);return r||(r=this.prevMatchInRange(e,Math.max(0,n-this.spec.unquoted.length),e.doc.length)),r&&(r.from!=i||r.to!=n)?r:null}getReplacement(e){return this.spec.unquote(this.spec.replace)}matchAll(e,i){let n=Wi(this.spec,e,0,e.doc.length),r=[];for(;!n.next().done;){if(r.length>=i)return null;r.push(n.value)}return r}highlight(e,i,n,r){let s=Wi(this.spec,e,Math.max(0,i-this.spec.unquoted.length),Math.min(n+this.spec.unquoted.length,e.doc.length));for(;!s.next().done;)r(s.value.from,s.value.to)}}function Gi(t,e,i,n){return new Ng(e.doc,t.search,{ignoreCase:!t.caseSensitive,test:t.wholeWord?XP(e.charCategorizer(e.selection.main.head)):void 0},i,n)}function So(t,e){return t.slice(Ve(t,e,!1),e)}function wo(t,e){return t.slice(e,Ve(t,e))}function XP(t){return(e,i,n)=>!n[0].length||(t(So(n.input,n.index))!=Fe.Word||t(wo(n.input,n.index))!=Fe.Word)&&(t(wo(n.input,n.index+n[0].length))!=Fe.Word||t(So(n.input,n.index+n[0].length))!=Fe.Word)}class VP extends Ug{nextMatch(e,i,n){let r=Gi(this.spec,e,n,e.doc.length).next();return r.done&&(r=Gi(this.spec,e,0,i).next()),r.done?null:r.value}prevMatchInRange(e,i,n){for(let r=1;;r++){let s=Math.max(i,n-r*1e4),o=Gi(this.spec,e,s,n),l=null;for(;!o.next().done;)l=o.value;if(l&&(s==i||l.from>s+10))return l;if(s==i)return null}}prevMatch(e,i,n){return this.prevMatchInRange(e,0,i)||this.prevMatchInRange(e,n,e.doc.length)}getReplacement(e){return this.spec.unquote(this.spec.replace).replace(/\$([$&]|\d+)/g,(i,n)=>{if(n=="&")return e.match[0];if(n=="$")return"$";for(let r=n.length;r>0;r--){let s=+n.slice(0,r);if(s>0&&s<e.match.length)return e.match[s]+n.slice(r)}return i})}matchAll(e,i){let n=Gi(this.spec,e,0,e.doc.length),r=[];for(;!n.next().done;){if(r.length>=i)return null;r.push(n.value)}return r}highlight(e,i,n,r){let s=Gi(this.spec,e,Math.max(0,i-250),Math.min(n+250,e.doc.length));for(;!s.next().done;)r(s.value.from,s.value.to)}}const Mr=re.define(),hc=re.define(),xi=it.define({create(t){return new Rl(eu(t).create(),null)},update(t,e){for(let i of e.effects)i.is(Mr)?t=new Rl(i.value.create(),t.panel):i.is(hc)&&(t=new Rl(t.query,i.value?fc:null));return t},provide:t=>oo.from(t,e=>e.panel)});class Rl{constructor(e,i){this.query=e,this.panel=i}}const FP=Oe.mark({class:"cm-searchMatch"}),BP=Oe.mark({class:"cm-searchMatch cm-searchMatch-selected"}),qP=mt.fromClass(class{constructor(t){this.view=t,this.decorations=this.highlight(t.state.field(xi))}update(t){let e=t.state.field(xi);(e!=t.startState.field(xi)||t.docChanged||t.selectionSet||t.viewportChanged)&&(this.decorations=this.highlight(e))}highlight({query:t,panel:e}){if(!e||!t.spec.valid)return Oe.none;let{view:i}=this,n=new zi;for(let r=0,s=i.visibleRanges,o=s.length;r<o;r++){let{from:l,to:a}=s[r];for(;r<o-1&&a>s[r+1].from-500;)a=s[++r].to;t.highlight(i.state,l,a,(u,c)=>{let h=i.state.selection.ranges.some(f=>f.from==u&&f.to==c);n.add(u,c,h?BP:FP)})}return n.finish()}},{decorations:t=>t.decorations});function Gr(t){return e=>{let i=e.state.field(xi,!1);return i&&i.query.spec.valid?t(e,i):Jg(e)}}const Qo=Gr((t,{query:e})=>{let{to:i}=t.state.selection.main,n=e.nextMatch(t.state,i,i);if(!n)return!1;let r=M.single(n.from,n.to),s=t.state.facet(Mn);return t.dispatch({selection:r,effects:[dc(t,n),s.scrollToMatch(r.main,t)],userEvent:"select.search"}),Kg(t),!0}),$o=Gr((t,{query:e})=>{let{state:i}=t,{from:n}=i.selection.main,r=e.prevMatch(i,n,n);if(!r)return!1;let s=M.single(r.from,r.to),o=t.state.facet(Mn);return t.dispatch({selection:s,effects:[dc(t,r),o.scrollToMatch(s.main,t)],userEvent:"select.search"}),Kg(t),!0}),jP=Gr((t,{query:e})=>{let i=e.matchAll(t.state,1e3);return!i||!i.length?!1:(t.dispatch({selection:M.create(i.map(n=>M.range(n.from,n.to))),userEvent:"select.search.matches"}),!0)}),YP=({state:t,dispatch:e})=>{let i=t.selection;if(i.ranges.length>1||i.main.empty)return!1;let{from:n,to:r}=i.main,s=[],o=0;for(let l=new Dr(t.doc,t.sliceDoc(n,r));!l.next().done;){if(s.length>1e3)return!1;l.value.from==n&&(o=s.length),s.push(M.range(l.value.from,l.value.to))}return e(t.update({selection:M.create(s,o),userEvent:"select.search.matches"})),!0},kd=Gr((t,{query:e})=>{let{state:i}=t,{from:n,to:r}=i.selection.main;if(i.readOnly)return!1;let s=e.nextMatch(i,n,n);if(!s)return!1;let o=s,l=[],a,u,c=[];o.from==n&&o.to==r&&(u=i.toText(e.getReplacement(o)),l.push({from:o.from,to:o.to,insert:u}),o=e.nextMatch(i,o.from,o.to),c.push(W.announce.of(i.phrase("replaced match on line $",i.doc.lineAt(n).number)+".")));let h=t.state.changes(l);return o&&(a=M.single(o.from,o.to).map(h),c.push(dc(t,o)),c.push(i.facet(Mn).scrollToMatch(a.main,t))),t.dispatch({changes:h,selection:a,effects:c,userEvent:"input.replace"}),!0}),NP=Gr((t,{query:e})=>{if(t.state.readOnly)return!1;let i=e.matchAll(t.state,1e9).map(r=>{let{from:s,to:o}=r;return{from:s,to:o,insert:e.getReplacement(r)}});if(!i.length)return!1;let n=t.state.phrase("replaced $ matches",i.length)+".";return t.dispatch({changes:i,effects:W.announce.of(n),userEvent:"input.replace.all"}),!0});function fc(t){return t.state.facet(Mn).createPanel(t)}function eu(t,e){var i,n,r,s,o;let l=t.selection.main,a=l.empty||l.to>l.from+100?"":t.sliceDoc(l.from,l.to);if(e&&!a)return e;let u=t.facet(Mn);return new Gg({search:((i=e?.literal)!==null&&i!==void 0?i:u.literal)?a:a.replace(/\n/g,"\\n"),caseSensitive:(n=e?.caseSensitive)!==null&&n!==void 0?n:u.caseSensitive,literal:(r=e?.literal)!==null&&r!==void 0?r:u.literal,regexp:(s=e?.regexp)!==null&&s!==void 0?s:u.regexp,wholeWord:(o=e?.wholeWord)!==null&&o!==void 0?o:u.wholeWord})}function Hg(t){let e=so(t,fc);return e&&e.dom.querySelector("[main-field]")}function Kg(t){let e=Hg(t);e&&e==t.root.activeElement&&e.select()}const Jg=t=>{let e=t.state.field(xi,!1);if(e&&e.panel){let i=Hg(t);if(i&&i!=t.root.activeElement){let n=eu(t.state,e.query.spec);n.valid&&t.dispatch({effects:Mr.of(n)}),i.focus(),i.select()}}else t.dispatch({effects:[hc.of(!0),e?Mr.of(eu(t.state,e.query.spec)):re.appendConfig.of(HP)]});return!0},e1=t=>{let e=t.state.field(xi,!1);if(!e||!e.panel)return!1;let i=so(t,fc);return i&&i.dom.contains(t.root.activeElement)&&t.focus(),t.dispatch({effects:hc.of(!1)}),!0},WP=[{key:"Mod-f",run:Jg,scope:"editor search-panel"},{key:"F3",run:Qo,shift:$o,scope:"editor search-panel",preventDefault:!0},{key:"Mod-g",run:Qo,shift:$o,scope:"editor search-panel",preventDefault:!0},{key:"Escape",run:e1,scope:"editor search-panel"},{key:"Mod-Shift-l",run:YP},{key:"Mod-Alt-g",run:DP},{key:"Mod-d",run:ZP,preventDefault:!0}];class GP{constructor(e){this.view=e;let i=this.query=e.state.field(xi).query.spec;this.commit=this.commit.bind(this),this.searchField=Ie("input",{value:i.search,placeholder:st(e,"Find"),"aria-label":st(e,"Find"),class:"cm-textfield",name:"search",form:"","main-field":"true",onchange:this.commit,onkeyup:this.commit}),this.replaceField=Ie("input",{value:i.replace,placeholder:st(e,"Replace"),"aria-label":st(e,"Replace"),class:"cm-textfield",name:"replace",form:"",onchange:this.commit,onkeyup:this.commit}),this.caseField=Ie("input",{type:"checkbox",name:"case",form:"",checked:i.caseSensitive,onchange:this.commit}),this.reField=Ie("input",{type:"checkbox",name:"re",form:"",checked:i.regexp,onchange:this.commit}),this.wordField=Ie("input",{type:"checkbox",name:"word",form:"",checked:i.wholeWord,onchange:this.commit});function n(r,s,o){return Ie("button",{class:"cm-button",name:r,onclick:s,type:"button"},o)}this.dom=Ie("div",{onkeydown:r=>this.keydown(r),class:"cm-search"},[this.searchField,n("next",()=>Qo(e),[st(e,"next")]),n("prev",()=>$o(e),[st(e,"previous")]),n("select",()=>jP(e),[st(e,"all")]),Ie("label",null,[this.caseField,st(e,"match case")]),Ie("label",null,[this.reField,st(e,"regexp")]),Ie("label",null,[this.wordField,st(e,"by word")]),...e.state.readOnly?[]:[Ie("br"),this.replaceField,n("replace",()=>kd(e),[st(e,"replace")]),n("replaceAll",()=>NP(e),[st(e,"replace all")])],Ie("button",{name:"close",onclick:()=>e1(e),"aria-label":st(e,"close"),type:"button"},["×"])])}commit(){let e=new Gg({search:this.searchField.value,caseSensitive:this.caseField.checked,regexp:this.reField.checked,wholeWord:this.wordField.checked,replace:this.replaceField.value});e.eq(this.query)||(this.query=e,this.view.dispatch({effects:Mr.of(e)}))}keydown(e){wS(this.view,e,"search-panel")?e.preventDefault():e.keyCode==13&&e.target==this.searchField?(e.preventDefault(),(e.shiftKey?$o:Qo)(this.view)):e.keyCode==13&&e.target==this.replaceField&&(e.preventDefault(),kd(this.view))}update(e){for(let i of e.transactions)for(let n of i.effects)n.is(Mr)&&!n.value.eq(this.query)&&this.setQuery(n.value)}setQuery(e){this.query=e,this.searchField.value=e.search,this.replaceField.value=e.replace,this.caseField.checked=e.caseSensitive,this.reField.checked=e.regexp,this.wordField.checked=e.wholeWord}mount(){this.searchField.select()}get pos(){return 80}get top(){return this.view.state.facet(Mn).top}}function st(t,e){return t.state.phrase(e)}const ws=30,Qs=/[\s\.,:;?!]/;function dc(t,{from:e,to:i}){let n=t.state.doc.lineAt(e),r=t.state.doc.lineAt(i).to,s=Math.max(n.from,e-ws),o=Math.min(r,i+ws),l=t.state.sliceDoc(s,o);if(s!=n.from){for(let a=0;a<ws;a++)if(!Qs.test(l[a+1])&&Qs.test(l[a])){l=l.slice(a);break}}if(o!=r){for(let a=l.length-1;a>l.length-ws;a--)if(!Qs.test(l[a-1])&&Qs.test(l[a])){l=l.slice(0,a);break}}return W.announce.of(`${t.state.phrase("current match")}. ${l} ${t.state.phrase("on line")} ${n.number}.`)}const UP=W.baseTheme({".cm-panel.cm-search":{padding:"2px 6px 4px",position:"relative","& [name=close]":{position:"absolute",top:"0",right:"4px",backgroundColor:"inherit",border:"none",font:"inherit",padding:0,margin:0},"& input, & button, & label":{margin:".2em .6em .2em 0"},"& input[type=checkbox]":{marginRight:".2em"},"& label":{fontSize:"80%",whiteSpace:"pre"}},"&light .cm-searchMatch":{backgroundColor:"#ffff0054"},"&dark .cm-searchMatch":{backgroundColor:"#00ffff8a"},"&light .cm-searchMatch-selected":{backgroundColor:"#ff6a0054"},"&dark .cm-searchMatch-selected":{backgroundColor:"#ff00ff8a"}}),HP=[xi,ri.low(qP),UP],KP=(t,e,i)=>{const n=Q("editorId"),r=Q("setting");let s=()=>{},o=()=>{};const l=()=>{s();const a=i.value?.view.contentDOM.getRootNode(),u=a?.querySelector(`#${n} .cm-scroller`),c=a?.querySelector(`[id="${n}-preview-wrapper"]`),h=a?.querySelector(`[id="${n}-html-wrapper"]`);(c||h)&&([o,s]=(c?Z1:L1)(u,c||h,i.value),t.scrollAuto&&o())};ee([e,r],()=>{St(l)}),ee(()=>t.scrollAuto,a=>{a?o():s()}),ee(()=>r.value.previewOnly,a=>{a?s():o()}),we(l)},Ll=async(t,e,i)=>{if(/^h[1-6]$/.test(t))return JP(t,e);if(t==="prettier")return await e5(e,i);switch(t){case"bold":case"underline":case"italic":case"strikeThrough":case"sub":case"sup":case"codeRow":case"katexInline":case"katexBlock":return i5(t,e);case"quote":case"orderedList":case"unorderedList":case"task":return r5(t,e);case"code":return s5(i,e);case"table":return a5(i);case"link":{const n=e.getSelectedText(),{desc:r=n,url:s=""}=i,o=`[${r}](${s})`;return{text:o,options:{select:s==="",deviationStart:o.length-s.length-1,deviationEnd:-1}}}case"image":return l5(i,e);case"flow":case"sequence":case"gantt":case"class":case"state":case"pie":case"relationship":case"journey":return o5(t);case"universal":return u5(e.getSelectedText(),i);default:return{text:"",options:{}}}},JP=(t,e)=>{const i=t.slice(1),n="#".repeat(Number(i)),[r,s,o]=pc(e,{wholeLine:!0});return{text:`${n} ${r}`,options:{deviationStart:n.length+1,replaceStart:s,replaceEnd:o}}},e5=async(t,e)=>{const i=window.prettier||Ee.editorExtensions.prettier?.prettierInstance,n=[window.prettierPlugins?.markdown||Ee.editorExtensions.prettier?.parserMarkdownInstance];return!i||!n[0]?(R.emit(e.editorId,Yt,{name:"prettier",message:"prettier is undefined"}),{text:t.getValue(),options:{select:!1,replaceAll:!0}}):{text:await i.format(t.getValue(),{parser:"markdown",plugins:n}),options:{select:!1,replaceAll:!0}}},t5={bold:["**","**",2,-2],underline:["<u>","</u>",3,-4],italic:["*","*",1,-1],strikeThrough:["~~","~~",2,-2],sub:["~","~",1,-1],sup:["^","^",1,-1],codeRow:["`","`",1,-1],katexInline:["$","$",1,-1],katexBlock:[`
+$$
+`,`
+$$
+`,4,-4]},i5=(t,e)=>{const i=e.getSelectedText(),[n,r,s,o]=t5[t];return{text:`${n}${i}${r}`,options:{deviationStart:s,deviationEnd:o}}},n5={quote:"> ",unorderedList:"- ",orderedList:1,task:"- [ ] "},r5=(t,e)=>{const[i,n,r]=pc(e,{wholeLine:!0}),s=i.split(`
+`),o=n5[t],l=t==="orderedList"?s.map((c,h)=>`${o+h}. ${c}`):s.map(c=>`${o}${c}`),a=t==="orderedList"?"1. ":o.toString(),u=s.length===1?a.length:0;return{text:l.join(`
+`),options:{deviationStart:u,replaceStart:n,replaceEnd:r}}},s5=(t,e)=>{const[i,n,r]=pc(e),s=t.mode||"language",o=`
+\`\`\`${s}
+${t.text||i||""}
+\`\`\`
+`;return{text:o,options:{deviationStart:4,deviationEnd:4+s.length-o.length,replaceStart:n,replaceEnd:r}}},o5=t=>({text:`
+\`\`\`mermaid
+${{flow:`flowchart TD 
+  Start --> Stop`,sequence:`sequenceDiagram
+  A->>B: hello!
+  B-->>A: hi!`,gantt:`gantt
+title Gantt Chart
+dateFormat  YYYY-MM-DD`,class:`classDiagram
+  class Animal`,state:`stateDiagram-v2
+  s1 --> s2`,pie:`pie
+  "Dogs" : 386
+  "Cats" : 85
+  "Rats" : 15`,relationship:`erDiagram
+  CAR ||--o{ NAMED-DRIVER : allows`,journey:`journey
+  title My Journey`,...Ee.editorConfig.mermaidTemplate}[t]}
+\`\`\`
+`,options:{deviationStart:12,deviationEnd:-5}}),l5=(t,e)=>{const i=e.getSelectedText(),{desc:n=i,url:r="",urls:s}=t;let o="";const l=r===""&&(!s||s instanceof Array&&s.length===0);return s instanceof Array?o=s.reduce((a,u)=>{const{url:c="",alt:h="",title:f=""}=typeof u=="object"?u:{url:u};return a+`![${h}](${c}${f?" '"+f+"'":""})
+`},""):o=`![${n}](${r})
+`,{text:o,options:{select:r==="",deviationStart:l?o.length-r.length-2:o.length,deviationEnd:l?-2:0}}},a5=t=>{const{selectedShape:e={x:1,y:1}}=t,{x:i,y:n}=e;let r=`
+| Column`;for(let s=0;s<=n;s++)r+=" |";r+=`
+|`;for(let s=0;s<=n;s++)r+=" - |";for(let s=0;s<=i;s++){r+=`
+|`;for(let o=0;o<=n;o++)r+=" |"}return r+=`
+`,{text:r,options:{deviationStart:3,deviationEnd:10-r.length}}},u5=(t,e)=>{const{generate:i}=e,n=i(t);return{text:n.targetValue,options:{select:n.select??!0,deviationStart:n.deviationStart||0,deviationEnd:n.deviationEnd||0}}},pc=(t,e={wholeLine:!1})=>{const i=t.view.state,n=i.selection.main;if(n.empty){const r=i.doc.lineAt(n.from);return[i.doc.lineAt(n.from).text,r.from,r.to]}else if(e.wholeLine){const r=i.doc.lineAt(n.from),s=i.doc.lineAt(n.to);return[i.doc.sliceString(r.from,s.to),r.from,s.to]}return[i.doc.sliceString(n.from,n.to),n.from,n.to]},Ni=t=>{const e=new zt;return i=>(e.get(t.state)?t.dispatch({effects:e.reconfigure(i)}):t.dispatch({effects:re.appendConfig.of(e.of(i))}),!0)};class c5{view;maxLength=Number.MAX_SAFE_INTEGER;toggleTabSize;togglePlaceholder;setExtensions;toggleDisabled;toggleReadOnly;toggleMaxlength;getValue(){return this.view.state.doc.toString()}setValue(e,i=0,n=this.view.state.doc.length){this.view.dispatch({changes:{from:i,to:n,insert:e}})}getSelectedText(){const{from:e,to:i}=this.view.state.selection.main;return this.view.state.sliceDoc(e,i)}replaceSelectedText(e,i,n){const r={select:!0,deviationStart:0,deviationEnd:0,replaceAll:!1,replaceStart:-1,replaceEnd:-1,...i};try{if(r.replaceAll){if(this.setValue(e),e.length>this.maxLength)throw new Error("The input text is too long");return}if(this.view.state.doc.length-this.getSelectedText().length+e.length>this.maxLength)throw new Error("The input text is too long");const{from:s}=this.view.state.selection.main;r.replaceStart!==-1?this.view.dispatch({changes:{from:r.replaceStart,to:r.replaceEnd,insert:e}}):this.view.dispatch(this.view.state.replaceSelection(e)),r.select&&this.view.dispatch({selection:{anchor:r.replaceStart===-1?s+r.deviationStart:r.replaceStart+r.deviationStart,head:r.replaceStart===-1?s+e.length+r.deviationEnd:r.replaceStart+e.length+r.deviationEnd}}),this.view.focus()}catch(s){if(s.message==="The input text is too long")R.emit(n,Yt,{name:"overlength",message:s.message,data:e});else throw s}}constructor(e){this.view=e,this.toggleTabSize=Ni(this.view),this.togglePlaceholder=Ni(this.view),this.setExtensions=Ni(this.view),this.toggleDisabled=Ni(this.view),this.toggleReadOnly=Ni(this.view),this.toggleMaxlength=Ni(this.view)}setTabSize(e){this.toggleTabSize([ae.tabSize.of(e),Tn.of(" ".repeat(e))])}setPlaceholder(e){this.togglePlaceholder(RS(e))}focus(e){if(this.view.focus(),!e)return;let i=0,n=0,r=0;switch(e){case"start":break;case"end":{i=n=r=this.getValue().length;break}default:i=e.rangeAnchor||e.cursorPos,n=e.rangeHead||e.cursorPos,r=e.cursorPos}this.view.dispatch({scrollIntoView:!0,selection:M.create([M.range(i,n),M.cursor(r)],1)})}setDisabled(e){this.toggleDisabled([W.editable.of(!e)])}setReadOnly(e){this.toggleReadOnly([ae.readOnly.of(e)])}setMaxLength(e){this.maxLength=e,this.toggleMaxlength([ae.changeFilter.of(i=>i.newDoc.length<=e)])}}const h5=(t,e)=>{if(t===e)return!0;if(t.length!==e.length)return!1;for(let i=0;i<t.length;i++)if(t[i]!==e[i])return!1;return!0},f5=(t,e)=>{const i=ie(e.value);ee([e],()=>{(!i.value||!h5(i.value,e.value))&&(i.value=e.value,t())})},$s=(t,e,i,n,r)=>(s,o,l,a)=>{const u=`${t}${e}${i}${n}`,c=l+o.label.length+(r==="title"?i.length:0);s.dispatch({changes:{from:l,to:a,insert:u},selection:M.create([M.range(l+o.label.length+(r==="title"?1:-e.length),c),M.cursor(c)],1)}),s.focus()},vd=t=>(e,i,n,r)=>{const s=t.slice(r-n);e.dispatch(e.state.replaceSelection(`${s} `))},Sd=t=>{const e=i=>{const n=i.matchBefore(/^#+|^-\s*\[*\s*\]*|`+|\[|!\[*|^\|\s?\|?|\$\$?|!+\s*\w*/);return n===null||n.from==n.to&&i.explicit?null:{from:n.from,options:[...["h2","h3","h4","h5","h6"].map((r,s)=>{const o=new Array(s+2).fill("#").join("");return{label:o,type:"text",apply:vd(o)}}),...["unchecked","checked"].map(r=>{const s=r==="checked"?"- [x]":"- [ ]";return{label:s,type:"text",apply:vd(s)}}),...[["`",""],["```","language"],["```mermaid\n",""],["```echarts\n",""]].map(r=>({label:`${r[0]}${r[1]}`,type:"text",apply:$s(r[0],r[1],"",r[0]==="`"?"`":"\n```","type")})),{label:"[]()",type:"text"},{label:"![]()",type:"text"},{label:"| |",type:"text",detail:"table",apply:`| col | col | col |
+| - | - | - |
+| content | content | content |
+| content | content | content |`},{label:"$",type:"text",apply:$s("$","","","$","type")},{label:"$$",type:"text",apply:$s("$$","",`
+`,`
+$$`,"title")},...["note","abstract","info","tip","success","question","warning","failure","danger","bug","example","quote","hint","caution","error","attention"].map(r=>({label:`!!! ${r}`,type:"text",apply:$s("!!!",` ${r}`," Title",`
+
+!!!`,"title")}))]}};return _Q({override:t?[e,...t]:[e]})},d5=H({name:`${k}-divider`,setup(){return()=>w("div",{class:`${k}-divider`},null)}}),p5=H({name:"ToolbarBold",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.bold,disabled:i?.value,onClick:()=>{R.emit(t,J,"bold")},type:"button"},[w(ce,{name:"bold"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.bold])])}}),m5=H({name:"ToolbarCatalog",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName"),r=Q("catalogVisible");return()=>w("button",{class:[`${k}-toolbar-item`,r.value&&`${k}-toolbar-active`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.catalog,disabled:i?.value,onClick:()=>{R.emit(t,su)},key:"bar-catalog",type:"button"},[w(ce,{name:"catalog"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.catalog])])}}),O5=H({name:"ToolbarCode",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.code,disabled:i?.value,onClick:()=>{R.emit(t,J,"code")},type:"button"},[w(ce,{name:"code"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.code])])}}),g5=H({name:"ToolbarCodeRow",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.codeRow,disabled:i?.value,onClick:()=>{R.emit(t,J,"codeRow")},type:"button"},[w(ce,{name:"code-row"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.codeRow])])}}),b5=H({name:"ToolbarFullscreen",setup(){const t=Q("usedLanguageText"),e=Q("disabled"),i=Q("showToolbarName"),n=Q("setting"),{fullscreenHandler:r}=U5();return()=>w("button",{class:[`${k}-toolbar-item`,n.value.fullscreen&&`${k}-toolbar-active`,e?.value&&`${k}-disabled`],title:t.value.toolbarTips?.fullscreen,disabled:e?.value,onClick:()=>{r()},type:"button"},[w(ce,{name:n.value.fullscreen?"fullscreen-exit":"fullscreen"},null),i?.value&&w("div",{class:`${k}-toolbar-item-name`},[t.value.toolbarTips?.fullscreen])])}}),x5=H({name:"ToolbarGithub",setup(){const t=Q("usedLanguageText"),e=Q("disabled"),i=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,e?.value&&`${k}-disabled`],title:t.value.toolbarTips?.github,disabled:e?.value,onClick:()=>{x1("https://github.com/imzbf/md-editor-v3")},type:"button"},[w(ce,{name:"github"},null),i?.value&&w("div",{class:`${k}-toolbar-item-name`},[t.value.toolbarTips?.github])])}}),y5=H({name:"ToolbarHtmlPreview",setup(){const t=Q("usedLanguageText"),e=Q("disabled"),i=Q("showToolbarName"),n=Q("setting"),r=Q("updateSetting");return()=>w("button",{class:[`${k}-toolbar-item`,n.value.htmlPreview&&`${k}-toolbar-active`,e?.value&&`${k}-disabled`],title:t.value.toolbarTips?.htmlPreview,disabled:e?.value,onClick:()=>{r("htmlPreview")},type:"button"},[w(ce,{name:"preview-html"},null),i?.value&&w("div",{class:`${k}-toolbar-item-name`},[t.value.toolbarTips?.htmlPreview])])}}),k5=H({name:"ToolbarImage",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.image,disabled:i?.value,onClick:()=>{R.emit(t,J,"image")},type:"button"},[w(ce,{name:"image"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.image])])}}),v5={visible:{type:Boolean,default:!1},onCancel:{type:Function,default:()=>{}},onOk:{type:Function,default:()=>{}}},S5=H({name:`${k}-modal-clip`,props:v5,setup(t){const e=Q("usedLanguageText"),i=Q("editorId"),n=Q("rootRef");let r=Ee.editorExtensions.cropper.instance;const s=ie(),o=ie(),l=ie(),a=yt({cropperInited:!1,imgSelected:!1,imgSrc:"",isFullscreen:!1});let u=null;ee(()=>t.visible,()=>{t.visible&&!a.cropperInited&&(r=r||window.Cropper,s.value.onchange=()=>{if(!r){R.emit(i,Yt,{name:"Cropper",message:"Cropper is undefined"});return}const f=s.value.files||[];if(a.imgSelected=!0,f?.length>0){const d=new FileReader;d.onload=p=>{a.imgSrc=p.target.result},d.readAsDataURL(f[0])}})}),ee(()=>[a.imgSelected],()=>{l.value.style=""}),ee([Nl(()=>a.isFullscreen),Nl(()=>a.imgSrc)],()=>{a.imgSrc&&St(()=>{u?.destroy(),l.value.style="",o.value&&(u=new r(o.value,{viewMode:2,preview:n.value.getRootNode().querySelector(`.${k}-clip-preview-target`)}))})});const c=()=>{u.clear(),u.destroy(),u=null,s.value.value="",a.imgSelected=!1,a.imgSrc=""},h=f=>{a.isFullscreen=f};return()=>w(er,{class:`${k}-modal-clip`,title:e.value.clipModalTips?.title,visible:t.visible,onClose:t.onCancel,showAdjust:!0,isFullscreen:a.isFullscreen,onAdjust:h,width:"668px",height:"421px"},{default:()=>[w("div",{class:`${k}-form-item ${k}-clip`},[w("div",{class:`${k}-clip-main`},[a.imgSelected?w("div",{class:`${k}-clip-cropper`},[w("img",{src:a.imgSrc,ref:o,style:{display:"none"},alt:""},null),w("div",{class:`${k}-clip-delete`,onClick:c},[w(ce,{name:"delete"},null)])]):w("div",{class:`${k}-clip-upload`,onClick:()=>{s.value.click()},role:"button",tabindex:"0","aria-label":e.value.imgTitleItem?.upload},[w(ce,{name:"upload"},null)])]),w("div",{class:`${k}-clip-preview`},[w("div",{class:`${k}-clip-preview-target`,ref:l},null)])]),w("div",{class:`${k}-form-item`},[w("button",{class:`${k}-btn`,type:"button",onClick:()=>{if(u){const f=u.getCroppedCanvas();R.emit(i,Po,[E1(f.toDataURL("image/png"))],t.onOk),c()}}},[e.value.clipModalTips?.buttonUpload||e.value.linkModalTips?.buttonOK])]),w("input",{ref:s,accept:"image/*",type:"file",multiple:!1,style:{display:"none"},"aria-hidden":"true"},null)]})}}),w5={clipVisible:{type:Boolean,default:!1},onCancel:{type:Function,default:()=>{}},onOk:{type:Function,default:()=>{}}},Q5=H({name:`${k}-modals`,props:w5,setup(t){return()=>w(S5,{visible:t.clipVisible,onOk:t.onOk,onCancel:t.onCancel},null)}}),$5=H({name:"ToolbarImageDropdown",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName"),r=`${t}-toolbar-wrapper`,s=ie(!1),o=ie(!1),l=ie(),a=()=>{R.emit(t,Po,Array.from(l.value.files||[])),l.value.value=""},u=(p,m)=>{i?.value||R.emit(t,J,p,m)};we(()=>{l.value.addEventListener("change",a)});const c=p=>{s.value=p},h=()=>{o.value=!1},f=p=>{p&&u("image",{desc:p.desc,url:p.url,transform:!0}),o.value=!1},d=fe(()=>w("ul",{class:`${k}-menu`,onClick:()=>{s.value=!1},role:"menu"},[w("li",{class:`${k}-menu-item ${k}-menu-item-image`,onClick:()=>{u("image")},role:"menuitem",tabindex:"0"},[e.value.imgTitleItem?.link]),w("li",{class:`${k}-menu-item ${k}-menu-item-image`,onClick:()=>{l.value.click()},role:"menuitem",tabindex:"0"},[e.value.imgTitleItem?.upload]),w("li",{class:`${k}-menu-item ${k}-menu-item-image`,onClick:()=>{o.value=!0},role:"menuitem",tabindex:"0"},[e.value.imgTitleItem?.clip2upload])]));return()=>w(Rr,null,[w("label",{for:`${r}_label`,style:{display:"none"},"aria-label":e.value.imgTitleItem?.upload},null),w("input",{id:`${r}_label`,ref:l,accept:"image/*",type:"file",multiple:!0,style:{display:"none"}},null),w(Qn,{relative:`#${r}`,visible:s.value,onChange:c,disabled:i?.value,overlay:d.value},{default:()=>[w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.image,disabled:i?.value,type:"button"},[w(ce,{name:"image"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.image])])]}),w(Q5,{clipVisible:o.value,onCancel:h,onOk:f},null)])}}),_5=H({name:"ToolbarItalic",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.italic,disabled:i?.value,onClick:()=>{R.emit(t,J,"italic")},type:"button"},[w(ce,{name:"italic"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.italic])])}}),P5=H({name:"ToolbarKatex",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName"),r=`${t}-toolbar-wrapper`,s=ie(!1),o=u=>{i?.value||R.emit(t,J,u)},l=u=>{s.value=u},a=fe(()=>w("ul",{class:`${k}-menu`,onClick:()=>{s.value=!1},role:"menu"},[w("li",{class:`${k}-menu-item ${k}-menu-item-katex`,onClick:()=>{o("katexInline")},role:"menuitem",tabindex:"0"},[e.value.katex?.inline]),w("li",{class:`${k}-menu-item ${k}-menu-item-katex`,onClick:()=>{o("katexBlock")},role:"menuitem",tabindex:"0"},[e.value.katex?.block])]));return()=>w(Qn,{relative:`#${r}`,visible:s.value,onChange:l,disabled:i?.value,overlay:a.value,key:"bar-katex"},{default:()=>[w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.katex,disabled:i?.value,type:"button"},[w(ce,{name:"formula"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.katex])])]})}}),C5=H({name:"ToolbarLink",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.link,disabled:i?.value,onClick:()=>{R.emit(t,J,"link")},type:"button"},[w(ce,{name:"link"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.link])])}}),T5=H({name:"ToolbarMermaid",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName"),r=`${t}-toolbar-wrapper`,s=ie(!1),o=u=>{i?.value||R.emit(t,J,u)},l=u=>{s.value=u},a=fe(()=>w("ul",{class:`${k}-menu`,onClick:()=>{s.value=!1},role:"menu"},[w("li",{class:`${k}-menu-item ${k}-menu-item-mermaid`,onClick:()=>{o("flow")},role:"menuitem",tabindex:"0"},[e.value.mermaid?.flow]),w("li",{class:`${k}-menu-item ${k}-menu-item-mermaid`,onClick:()=>{o("sequence")},role:"menuitem",tabindex:"0"},[e.value.mermaid?.sequence]),w("li",{class:`${k}-menu-item ${k}-menu-item-mermaid`,onClick:()=>{o("gantt")},role:"menuitem",tabindex:"0"},[e.value.mermaid?.gantt]),w("li",{class:`${k}-menu-item ${k}-menu-item-mermaid`,onClick:()=>{o("class")},role:"menuitem",tabindex:"0"},[e.value.mermaid?.class]),w("li",{class:`${k}-menu-item ${k}-menu-item-mermaid`,onClick:()=>{o("state")},role:"menuitem",tabindex:"0"},[e.value.mermaid?.state]),w("li",{class:`${k}-menu-item ${k}-menu-item-mermaid`,onClick:()=>{o("pie")},role:"menuitem",tabindex:"0"},[e.value.mermaid?.pie]),w("li",{class:`${k}-menu-item ${k}-menu-item-mermaid`,onClick:()=>{o("relationship")},role:"menuitem",tabindex:"0"},[e.value.mermaid?.relationship]),w("li",{class:`${k}-menu-item ${k}-menu-item-mermaid`,onClick:()=>{o("journey")},role:"menuitem",tabindex:"0"},[e.value.mermaid?.journey])]));return()=>w(Qn,{relative:`#${r}`,visible:s.value,onChange:l,disabled:i?.value,overlay:a.value,key:"bar-mermaid"},{default:()=>[w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.mermaid,disabled:i?.value,type:"button"},[w(ce,{name:"mermaid"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.mermaid])])]})}}),A5=H({name:"ToolbarNext",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.next,disabled:i?.value,onClick:()=>{R.emit(t,ep)},type:"button"},[w(ce,{name:"next"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.next])])}}),E5=H({name:"ToolbarOrderedList",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.orderedList,disabled:i?.value,onClick:()=>{R.emit(t,J,"orderedList")},type:"button"},[w(ce,{name:"ordered-list"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.orderedList])])}}),D5=H({name:"ToolbarPageFullscreen",setup(){const t=Q("usedLanguageText"),e=Q("disabled"),i=Q("showToolbarName"),n=Q("setting"),r=Q("updateSetting");return()=>w("button",{class:[`${k}-toolbar-item`,n.value.pageFullscreen&&`${k}-toolbar-active`,e?.value&&`${k}-disabled`],title:t.value.toolbarTips?.pageFullscreen,disabled:e?.value,onClick:()=>{r("pageFullscreen")},type:"button"},[w(ce,{name:n.value.pageFullscreen?"minimize":"maximize"},null),i?.value&&w("div",{class:`${k}-toolbar-item-name`},[t.value.toolbarTips?.pageFullscreen])])}}),M5=H({name:"ToolbarPrettier",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.prettier,disabled:i?.value,onClick:()=>{R.emit(t,J,"prettier")},type:"button"},[w(ce,{name:"prettier"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.prettier])])}}),R5=H({name:"ToolbarPreview",setup(){const t=Q("usedLanguageText"),e=Q("disabled"),i=Q("showToolbarName"),n=Q("setting"),r=Q("updateSetting");return()=>w("button",{class:[`${k}-toolbar-item`,n.value.preview&&`${k}-toolbar-active`,e?.value&&`${k}-disabled`],title:t.value.toolbarTips?.preview,disabled:e?.value,onClick:()=>{r("preview")},type:"button"},[w(ce,{name:"preview"},null),i?.value&&w("div",{class:`${k}-toolbar-item-name`},[t.value.toolbarTips?.preview])])}}),L5=H({name:"ToolbarPreviewOnly",setup(){const t=Q("usedLanguageText"),e=Q("disabled"),i=Q("showToolbarName"),n=Q("setting"),r=Q("updateSetting");return()=>w("button",{class:[`${k}-toolbar-item`,n.value.previewOnly&&`${k}-toolbar-active`,e?.value&&`${k}-disabled`],title:t.value.toolbarTips?.previewOnly,disabled:e?.value,onClick:()=>{r("previewOnly")},type:"button"},[w(ce,{name:"preview-only"},null),i?.value&&w("div",{class:`${k}-toolbar-item-name`},[t.value.toolbarTips?.previewOnly])])}}),Z5=H({name:"ToolbarQuote",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.quote,disabled:i?.value,onClick:()=>{R.emit(t,J,"quote")},type:"button"},[w(ce,{name:"quote"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.quote])])}}),I5=H({name:"ToolbarRevoke",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.revoke,disabled:i?.value,onClick:()=>{R.emit(t,Jd)},type:"button"},[w(ce,{name:"revoke"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.revoke])])}}),z5=H({name:"ToolbarSave",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.save,disabled:i?.value,onClick:()=>{R.emit(t,_o)},type:"button"},[w(ce,{name:"save"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.save])])}}),X5=H({name:"ToolbarStrikeThrough",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.strikeThrough,disabled:i?.value,onClick:()=>{R.emit(t,J,"strikeThrough")},type:"button"},[w(ce,{name:"strike-through"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.strikeThrough])])}}),V5=H({name:"ToolbarSub",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.sub,disabled:i?.value,onClick:()=>{R.emit(t,J,"sub")},type:"button"},[w(ce,{name:"sub"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.sub])])}}),F5=H({name:"ToolbarSup",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.sup,disabled:i?.value,onClick:()=>{R.emit(t,J,"sup")},type:"button"},[w(ce,{name:"sup"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.sup])])}}),B5={tableShape:{type:Array,default:()=>[6,4]},onSelected:{type:Function,default:()=>{}}},q5=H({name:"TableShape",props:B5,setup(t){const e=yt({x:-1,y:-1}),i=fe(()=>JSON.stringify(t.tableShape)),n=()=>{const s=[...JSON.parse(i.value)];return(!s[2]||s[2]<s[0])&&(s[2]=s[0]),(!s[3]||s[3]<s[3])&&(s[3]=s[1]),s},r=ie(n());return ee([i],()=>{r.value=n()}),()=>w("div",{class:`${k}-table-shape`,onMouseleave:()=>{r.value=n(),e.x=-1,e.y=-1}},[new Array(r.value[1]).fill("").map((s,o)=>w("div",{class:`${k}-table-shape-row`,key:`table-shape-row-${o}`},[new Array(r.value[0]).fill("").map((l,a)=>w("div",{class:`${k}-table-shape-col`,key:`table-shape-col-${a}`,onMouseenter:()=>{e.x=o,e.y=a,a+1===r.value[0]&&a+1<r.value[2]?r.value[0]++:a+2<r.value[0]&&r.value[0]>t.tableShape[0]&&r.value[0]--,o+1===r.value[1]&&o+1<r.value[3]?r.value[1]++:o+2<r.value[1]&&r.value[1]>t.tableShape[1]&&r.value[1]--},onClick:()=>{t.onSelected(e)}},[w("div",{class:[`${k}-table-shape-col-default`,o<=e.x&&a<=e.y&&`${k}-table-shape-col-include`]},null)]))]))])}}),j5=H({name:"ToolbarTable",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName"),r=Q("tableShape"),s=`${t}-toolbar-wrapper`,o=ie(!1),l=c=>{o.value=c},a=c=>{i?.value||R.emit(t,J,"table",{selectedShape:c})},u=fe(()=>w(q5,{tableShape:r.value,onSelected:a},null));return()=>w(Qn,{relative:`#${s}`,visible:o.value,onChange:l,disabled:i?.value,key:"bar-table",overlay:u.value},{default:()=>[w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.table,disabled:i?.value,type:"button"},[w(ce,{name:"table"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.table])])]})}}),Y5=H({name:"ToolbarTask",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.task,disabled:i?.value,onClick:()=>{R.emit(t,J,"task")},type:"button"},[w(ce,{name:"task"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.task])])}}),N5=H({name:"ToolbarTitle",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName"),r=`${t}-toolbar-wrapper`,s=ie(!1),o=u=>{i?.value||R.emit(t,J,u)},l=u=>{s.value=u},a=fe(()=>w("ul",{class:`${k}-menu`,onClick:()=>{s.value=!1},role:"menu"},[w("li",{class:`${k}-menu-item ${k}-menu-item-title`,onClick:()=>{o("h1")},role:"menuitem",tabindex:"0"},[e.value.titleItem?.h1]),w("li",{class:`${k}-menu-item ${k}-menu-item-title`,onClick:()=>{o("h2")},role:"menuitem",tabindex:"0"},[e.value.titleItem?.h2]),w("li",{class:`${k}-menu-item ${k}-menu-item-title`,onClick:()=>{o("h3")},role:"menuitem",tabindex:"0"},[e.value.titleItem?.h3]),w("li",{class:`${k}-menu-item ${k}-menu-item-title`,onClick:()=>{o("h4")},role:"menuitem",tabindex:"0"},[e.value.titleItem?.h4]),w("li",{class:`${k}-menu-item ${k}-menu-item-title`,onClick:()=>{o("h5")},role:"menuitem",tabindex:"0"},[e.value.titleItem?.h5]),w("li",{class:`${k}-menu-item ${k}-menu-item-title`,onClick:()=>{o("h6")},role:"menuitem",tabindex:"0"},[e.value.titleItem?.h6])]));return()=>w(Qn,{relative:`#${r}`,visible:s.value,onChange:l,disabled:i?.value,overlay:a.value},{default:()=>[w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],disabled:i?.value,title:e.value.toolbarTips?.title,type:"button"},[w(ce,{name:"title"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.title])])]})}}),W5=H({name:"ToolbarUnderline",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.underline,disabled:i?.value,onClick:()=>{R.emit(t,J,"underline")},type:"button"},[w(ce,{name:"underline"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.underline])])}}),G5=H({name:"ToolbarUnorderedList",setup(){const t=Q("editorId"),e=Q("usedLanguageText"),i=Q("disabled"),n=Q("showToolbarName");return()=>w("button",{class:[`${k}-toolbar-item`,i?.value&&`${k}-disabled`],title:e.value.toolbarTips?.unorderedList,disabled:i?.value,onClick:()=>{R.emit(t,J,"unorderedList")},type:"button"},[w(ce,{name:"unordered-list"},null),n?.value&&w("div",{class:`${k}-toolbar-item-name`},[e.value.toolbarTips?.unorderedList])])}}),U5=()=>{const t=Q("editorId"),e=Q("setting"),i=Q("updateSetting"),{editorExtensions:n,editorExtensionsAttrs:r}=Ee;let s=n.screenfull.instance;const o=ie(!1),l=c=>{if(!s){R.emit(t,Yt,{name:"fullscreen",message:"fullscreen is undefined"});return}s.isEnabled?(o.value=!0,(c===void 0?!s.isFullscreen:c)?s.request():s.exit()):console.error("browser does not support screenfull!")},a=()=>{s&&s.isEnabled&&s.on("change",()=>{(o.value||e.value.fullscreen)&&(o.value=!1,i("fullscreen"))})},u=()=>{s=window.screenfull,a()};return we(()=>{a(),s||ut("script",{...r.screenfull?.js,src:n.screenfull.js,id:ct.screenfull,onload:u},"screenfull")}),we(()=>{R.on(t,{name:Kd,callback:l})}),{fullscreenHandler:l}};let H5=0;const t1=()=>{const t=Q("editorId"),e=Q("theme"),i=Q("previewTheme"),n=Q("language"),r=Q("disabled"),s=Q("noUploadImg"),o=Q("noPrettier"),l=Q("codeTheme"),a=Q("showToolbarName"),u=Q("setting"),c=Q("defToolbars");return{barRender:h=>{if(Ud.includes(h))switch(h){case"-":return w(d5,{key:`bar-${H5++}`},null);case"bold":return w(p5,{key:"bar-bold"},null);case"underline":return w(W5,{key:"bar-unorderline"},null);case"italic":return w(_5,{key:"bar-italic"},null);case"strikeThrough":return w(X5,{key:"bar-strikeThrough"},null);case"title":return w(N5,{key:"bar-title"},null);case"sub":return w(V5,{key:"bar-sub"},null);case"sup":return w(F5,{key:"bar-sup"},null);case"quote":return w(Z5,{key:"bar-quote"},null);case"unorderedList":return w(G5,{key:"bar-unorderedList"},null);case"orderedList":return w(E5,{key:"bar-orderedList"},null);case"task":return w(Y5,{key:"bar-task"},null);case"codeRow":return w(g5,{key:"bar-codeRow"},null);case"code":return w(O5,{key:"bar-code"},null);case"link":return w(C5,{key:"bar-link"},null);case"image":return s?w(k5,{key:"bar-image"},null):w($5,{key:"bar-imageDropdown"},null);case"table":return w(j5,{key:"bar-table"},null);case"revoke":return w(I5,{key:"bar-revoke"},null);case"next":return w(A5,{key:"bar-next"},null);case"save":return w(z5,{key:"bar-save"},null);case"prettier":return!o&&w(M5,{key:"bar-prettier"},null);case"pageFullscreen":return!u.value.fullscreen&&w(D5,{key:"bar-pageFullscreen"},null);case"fullscreen":return w(b5,{key:"bar-fullscreen"},null);case"catalog":return w(m5,{key:"bar-catalog"},null);case"preview":return w(R5,{key:"bar-preview"},null);case"previewOnly":return w(L5,{key:"bar-previewOnly"},null);case"htmlPreview":return w(y5,{key:"bar-htmlPreview"},null);case"github":return w(x5,{key:"bar-github"},null);case"mermaid":return w(T5,{key:"bar-mermaid"},null);case"katex":return w(P5,{key:"bar-katex"},null)}else if(c.value instanceof Array){const f=c.value[h];return f?cr(f,{theme:f.props?.theme||e.value,previewTheme:f.props?.theme||i.value,language:f.props?.theme||n.value,codeTheme:f.props?.codeTheme||l.value,disabled:f.props?.disabled||r.value,showToolbarName:f.props?.showToolbarName||a.value,insert(d){R.emit(t,J,"universal",{generate:d})}}):""}else if(c.value?.children instanceof Array){const f=c.value.children[h];return f?cr(f,{theme:f.props?.theme||e.value,previewTheme:f.props?.theme||i.value,language:f.props?.theme||n.value,codeTheme:f.props?.codeTheme||l.value,disabled:f.props?.disabled||r.value,showToolbarName:f.props?.showToolbarName||a.value,insert(d){R.emit(t,J,"universal",{generate:d})}}):""}else return""}}},K5=H({name:"FloatingToolbar",setup(){const t=Q("floatingToolbars"),{barRender:e}=t1();return()=>w("div",{class:`${k}-floating-toolbar`},[t.value.map(i=>e(i))])}}),tu=re.define(),J5=it.define({create(){return null},update(t,e){for(const i of e.effects)i.is(tu)&&(t=i.value);return t},provide:t=>Pu.from(t)}),e6=t=>{let e=null;const i=(s,o)=>{e&&e.kind===o.kind&&e.pos===o.pos||(e=o,s.dispatch({effects:tu.of({pos:o.pos,above:!0,arrow:!0,create:()=>{const l=document.createElement("div"),a=`${k}-floating-toolbar-container`;l.classList.add(a),l.dataset.state="hidden",requestAnimationFrame(()=>{l.dataset.state="visible"});const u=document.createElement("div");l.appendChild(u);const c=O1(K5);return t.privide(c),c.mount(l),{dom:l,destroy:()=>c.unmount()}}})}))},n=s=>{e&&(e=null,s.dispatch({effects:tu.of(null)}))},r=W.updateListener.of(s=>{if(s.selectionSet||s.docChanged){const o=s.state,l=o.selection.main;if(!l.empty)i(s.view,{kind:"selection",pos:l.anchor});else{const a=l.head,u=o.doc.lineAt(a);/^\s*$/.test(u.text)?i(s.view,{kind:"emptyLine",pos:a}):n(s.view)}}});return[J5,r]},t6="#e5c07b",wd="var(--md-color)",i6="#56b6c2",n6="#fff",Un="#3f4a54",Qd="#2d8cf0",r6="#2d8cf0",s6="#3f4a54",$d="#d19a66",o6="#c678dd",l6="#f6f6f6",a6="#ceedfa33",_d="var(--md-bk-color)",Zl="var(--md-bk-color)",u6="#bad5fa",Pd="#3f4a54",c6=W.theme({"&":{color:Un,backgroundColor:_d},".cm-content":{caretColor:Pd},".cm-cursor, .cm-dropCursor":{borderLeftColor:Pd},"&.cm-focused > .cm-scroller > .cm-selectionLayer .cm-selectionBackground, .cm-selectionBackground, .cm-content ::selection":{backgroundColor:u6},".cm-panels":{backgroundColor:l6,color:Un},".cm-panels.cm-panels-top":{borderBottom:"1px solid var(--md-border-color)"},".cm-panels.cm-panels-bottom":{borderTop:"1px solid var(--md-border-color)"},".cm-searchMatch":{backgroundColor:"#72a1ff59",outline:"1px solid #457dff"},".cm-searchMatch.cm-searchMatch-selected":{backgroundColor:"#6199ff2f"},".cm-activeLine":{backgroundColor:"#ceedfa33"},".cm-selectionMatch":{backgroundColor:"#aafe661a"},"&.cm-focused .cm-matchingBracket, &.cm-focused .cm-nonmatchingBracket":{backgroundColor:"#bad0f847"},".cm-gutters":{backgroundColor:_d,color:Un,borderRight:"1px solid",borderColor:"var(--md-border-color)"},".cm-activeLineGutter":{backgroundColor:a6},".cm-foldPlaceholder":{backgroundColor:"transparent",border:"none",color:"#ddd"},".cm-tooltip":{border:"1px solid var(--md-border-color)",backgroundColor:Zl},".cm-tooltip .cm-tooltip-arrow:before":{borderTopColor:"var(--md-border-color)",borderBottomColor:"var(--md-border-color)"},".cm-tooltip .cm-tooltip-arrow:after":{borderTopColor:Zl,borderBottomColor:Zl},".cm-tooltip-autocomplete":{"& > ul > li[aria-selected]":{color:Un}}}),h6=Yr.define([{tag:v.keyword,color:o6},{tag:[v.name,v.deleted,v.character,v.propertyName,v.macroName],color:wd},{tag:[v.function(v.variableName),v.labelName],color:r6},{tag:[v.color,v.constant(v.name),v.standard(v.name)],color:$d},{tag:[v.definition(v.name),v.separator],color:Un},{tag:[v.typeName,v.className,v.number,v.changed,v.annotation,v.modifier,v.self,v.namespace],color:t6},{tag:[v.operator,v.operatorKeyword,v.url,v.escape,v.regexp,v.link,v.special(v.string)],color:i6},{tag:[v.meta,v.comment],color:Qd},{tag:v.strong,fontWeight:"bold"},{tag:v.emphasis,fontStyle:"italic"},{tag:v.strikethrough,textDecoration:"line-through"},{tag:v.link,color:Qd,textDecoration:"underline"},{tag:v.heading,fontWeight:"bold",color:wd},{tag:[v.atom,v.bool,v.special(v.variableName)],color:$d},{tag:[v.processingInstruction,v.string,v.inserted],color:s6},{tag:v.invalid,color:n6}]),Cd=[c6,Pm(h6)],f6="#e5c07b",Td="var(--md-color)",d6="#56b6c2",p6="#ffffff",Hn="var(--md-color)",Ad="#e5c07b",m6="#e5c07b",O6="var(--md-color)",Ed="#d19a66",g6="#c678dd",b6="#21252b",x6="#2c313a",Dd="var(--md-bk-color)",Il="var(--md-bk-color)",y6="#ceedfa33",Md="#528bff",k6=W.theme({"&":{color:Hn,backgroundColor:Dd},".cm-content":{caretColor:Md},".cm-cursor, .cm-dropCursor":{borderLeftColor:Md},"&.cm-focused > .cm-scroller > .cm-selectionLayer .cm-selectionBackground, .cm-selectionBackground, .cm-content ::selection":{backgroundColor:y6},".cm-panels":{backgroundColor:b6,color:Hn},".cm-panels.cm-panels-top":{borderBottom:"1px solid var(--md-border-color)"},".cm-panels.cm-panels-bottom":{borderTop:"1px solid var(--md-border-color)"},".cm-searchMatch":{backgroundColor:"#72a1ff59",outline:"1px solid #457dff"},".cm-searchMatch.cm-searchMatch-selected":{backgroundColor:"#6199ff2f"},".cm-activeLine":{backgroundColor:"#ceedfa33"},".cm-selectionMatch":{backgroundColor:"#aafe661a"},"&.cm-focused .cm-matchingBracket, &.cm-focused .cm-nonmatchingBracket":{backgroundColor:"#bad0f847"},".cm-gutters":{backgroundColor:Dd,color:Hn,borderRight:"1px solid",borderColor:"var(--md-border-color)"},".cm-activeLineGutter":{backgroundColor:x6},".cm-foldPlaceholder":{backgroundColor:"transparent",border:"none",color:"#ddd"},".cm-tooltip":{border:"1px solid var(--md-border-color)",backgroundColor:Il},".cm-tooltip .cm-tooltip-arrow:before":{borderTopColor:"var(--md-border-color)",borderBottomColor:"var(--md-border-color)"},".cm-tooltip .cm-tooltip-arrow:after":{borderTopColor:Il,borderBottomColor:Il},".cm-tooltip-autocomplete":{"& > ul > li[aria-selected]":{color:Hn}}},{dark:!0}),v6=Yr.define([{tag:v.keyword,color:g6},{tag:[v.name,v.deleted,v.character,v.propertyName,v.macroName],color:Td},{tag:[v.function(v.variableName),v.labelName],color:m6},{tag:[v.color,v.constant(v.name),v.standard(v.name)],color:Ed},{tag:[v.definition(v.name),v.separator],color:Hn},{tag:[v.typeName,v.className,v.number,v.changed,v.annotation,v.modifier,v.self,v.namespace],color:f6},{tag:[v.operator,v.operatorKeyword,v.url,v.escape,v.regexp,v.link,v.special(v.string)],color:d6},{tag:[v.meta,v.comment],color:Ad},{tag:v.strong,fontWeight:"bold"},{tag:v.emphasis,fontStyle:"italic"},{tag:v.strikethrough,textDecoration:"line-through"},{tag:v.link,color:Ad,textDecoration:"underline"},{tag:v.heading,fontWeight:"bold",color:Td},{tag:[v.atom,v.bool,v.special(v.variableName)],color:Ed},{tag:[v.processingInstruction,v.string,v.inserted],color:O6},{tag:v.invalid,color:p6}]),Rd=[k6,Pm(v6)],S6=(t,e)=>{const i=Q("editorId"),n=r=>{r instanceof Promise?r.then(s=>{R.emit(i,J,"universal",{generate(){return{targetValue:s}}})}).catch(s=>{console.error(s)}):R.emit(i,J,"universal",{generate(){return{targetValue:r}}})};return r=>{if(!r.clipboardData)return;if(r.clipboardData.files.length>0){const{files:h}=r.clipboardData;R.emit(i,Po,Array.from(h).filter(f=>/image\/.*/.test(f.type))),r.preventDefault();return}const s=r.clipboardData.getData("text/plain"),o=e.value?.view.state.selection.main.to||0,l=e.value?.view.state.doc.lineAt(o).from||0,a=e.value?.view.state.doc.sliceString(l,o)||"",u=/!\[.*\]\(\s*$/.test(a),c=/!\[.*\]\((.*)\s?.*\)/.test(s);if(u){const h=t.transformImgUrl(s);n(h),r.preventDefault();return}else if(c){const h=s.match(new RegExp(`(?<=!\\[.*\\]\\()([^)\\s]+)(?=\\s?["']?.*["']?\\))`,"g"));h?Promise.all(h.map(f=>t.transformImgUrl(f))).then(f=>{n(f.reduce((d,p,m)=>d.replace(h[m],p),s))}).catch(f=>{console.error(f)}):n(s),r.preventDefault();return}if(t.autoDetectCode&&r.clipboardData.types.includes("vscode-editor-data")){const h=JSON.parse(r.clipboardData.getData("vscode-editor-data"));R.emit(i,J,"code",{mode:h.mode,text:r.clipboardData.getData("text/plain")}),r.preventDefault();return}t.maxlength&&s.length+t.modelValue.length>t.maxlength&&R.emit(i,Yt,{name:"overlength",message:"The input text is too long",data:s})}},w6=(t,e)=>[{key:"Ctrl-b",mac:"Cmd-b",run:()=>(R.emit(t,J,"bold"),!0)},{key:"Ctrl-d",mac:"Cmd-d",run:hO,preventDefault:!0},{key:"Ctrl-s",mac:"Cmd-s",run:i=>(R.emit(t,_o,i.state.doc.toString()),!0),shift:()=>(R.emit(t,J,"strikeThrough"),!0)},{key:"Ctrl-u",mac:"Cmd-u",preventDefault:!0,run:()=>(R.emit(t,J,"underline"),!0),shift:()=>(R.emit(t,J,"unorderedList"),!0)},{key:"Ctrl-i",mac:"Cmd-i",preventDefault:!0,run:()=>(R.emit(t,J,"italic"),!0),shift:()=>(R.emit(t,J,"image"),!0)},{key:"Ctrl-1",mac:"Cmd-1",run:()=>(R.emit(t,J,"h1"),!0)},{key:"Ctrl-2",mac:"Cmd-2",run:()=>(R.emit(t,J,"h2"),!0)},{key:"Ctrl-3",mac:"Cmd-3",run:()=>(R.emit(t,J,"h3"),!0)},{key:"Ctrl-4",mac:"Cmd-4",run:()=>(R.emit(t,J,"h4"),!0)},{key:"Ctrl-5",mac:"Cmd-5",run:()=>(R.emit(t,J,"h5"),!0)},{key:"Ctrl-6",mac:"Cmd-6",run:()=>(R.emit(t,J,"h6"),!0)},{key:"Ctrl-ArrowUp",mac:"Cmd-ArrowUp",run:()=>(R.emit(t,J,"sup"),!0)},{key:"Ctrl-ArrowDown",mac:"Cmd-ArrowDown",run:()=>(R.emit(t,J,"sub"),!0)},{key:"Ctrl-o",mac:"Cmd-o",run:()=>(R.emit(t,J,"orderedList"),!0)},{key:"Ctrl-c",mac:"Cmd-c",shift:()=>(R.emit(t,J,"code"),!0),any(i,n){return(n.ctrlKey||n.metaKey)&&n.altKey&&n.code==="KeyC"?(R.emit(t,J,"codeRow"),!0):!1}},{key:"Ctrl-l",mac:"Cmd-l",run:()=>(R.emit(t,J,"link"),!0)},{key:"Ctrl-f",mac:"Cmd-f",shift:()=>e.noPrettier?!1:(R.emit(t,J,"prettier"),!0)},{any:(i,n)=>(n.ctrlKey||n.metaKey)&&n.altKey&&n.shiftKey&&n.code==="KeyT"?(R.emit(t,J,"table"),!0):!1},...WP],Q6=/[a-z][a-z0-9.+-]*:\/\/[^\s<>"'`()]+(?:\([^\s<>"'`]*\)[^\s<>"'`]*)*/i,$6=/\/\/[^\s<>"'`()]+/i,_6=/data:[a-z]+\/[a-z0-9.+-]+(?:;base64)?,[a-z0-9+/=%]+/i,P6=/\/(?!\/)[^\s<>"'`()]+/i,Ld=new RegExp(`(?<![a-z0-9.+-])(${Q6.source}|${$6.source}|${_6.source}|${P6.source})`,"gi"),C6=(t,e,i)=>t.some(n=>n.from===e&&n.to===i),T6=t=>{const e=t.shortenText||(()=>"..."),i=re.define(),n=re.define(),r=(a,u)=>{const c=new zi,h=[];for(let f=1;f<=a.doc.lines;f++){const d=a.doc.line(f),p=d.text;Ld.lastIndex=0;let m;for(;m=Ld.exec(p);){if(!m[0])continue;const O=m[0];if(O.length<=t.maxLength)continue;const g=d.from+m.index,b=g+O.length;if(C6(u,g,b)){h.push({from:g,to:b});continue}const S=e(O);c.add(g,b,Oe.replace({widget:new s(S,O,g,b)}))}}return{deco:c.finish(),expanded:h}};class s extends _n{constructor(u,c,h,f){super(),this.short=u,this.raw=c,this.from=h,this.to=f}toDOM(u){const c=document.createElement("span");return c.textContent=this.short,c.className="cm-short-text",c.title=this.raw,c.style.display="inline",c.style.textDecoration="underline",c.addEventListener("mousedown",h=>{h.preventDefault(),h.stopPropagation(),u.dispatch({selection:M.cursor(this.from),effects:i.of({from:this.from,to:this.to,expand:!0})}),u.focus()}),c.addEventListener("click",h=>{h.preventDefault()}),c}ignoreEvent(){return!1}eq(u){return this.short===u.short&&this.raw===u.raw&&this.from===u.from&&this.to===u.to}}const o=it.define({create(a){return r(a,[])},update(a,u){let c=a.expanded;u.docChanged&&c.length&&(c=c.map(({from:f,to:d})=>({from:u.changes.mapPos(f,1),to:u.changes.mapPos(d,-1)})).filter(({from:f,to:d})=>f<d));let h=c!==a.expanded;for(const f of u.effects)f.is(i)?f.value.expand?c=[{from:f.value.from,to:f.value.to}]:c=c.filter(({from:d,to:p})=>d!==f.value.from||p!==f.value.to):f.is(n)&&c.length>0&&(c=[]);return!h&&c!==a.expanded&&(h=!0),u.docChanged||h?r(u.state,c):a},provide:a=>W.decorations.compute([a],u=>u.field(a).deco)}),l=W.domEventHandlers({mousedown(a,u){const c=u.state.field(o,!1);if(!c||c.expanded.length===0)return!1;const h=a.target;if(h&&u.dom.contains(h)){const f=u.posAtDOM(h,0);if(f!=null&&f!==-1&&c.expanded.some(({from:d,to:p})=>f>=d&&f<=p))return!1}return u.dispatch({effects:n.of(void 0)}),!1}});return[o,l]};W.EDIT_CONTEXT=!1;const i1=t=>t.extension instanceof Function?t.extension(t.options):t.extension,A6=t=>{const e=i1(t);return t.compartment?t.compartment.of(e):e},E6=t=>{const e=Q("tabWidth"),i=Q("editorId"),n=Q("theme"),r=Q("previewTheme"),s=Q("language"),o=Q("usedLanguageText"),l=Q("disabled"),a=Q("showToolbarName"),u=Q("customIcon"),c=Q("noUploadImg"),h=Q("tableShape"),f=Q("noPrettier"),d=Q("codeTheme"),p=Q("setting"),m=Q("updateSetting"),O=Q("catalogVisible"),g=Q("defToolbars"),b=Q("floatingToolbars"),S=Q("rootRef"),x=ie(),y=yi(),$=ie(!1),_=new zt,P=new zt,A=new zt,z=new zt,V=new zt,E=w6(i,{noPrettier:f}),X=()=>[...E,...F3,...Uw,B3],q={paste:S6(t,y),blur:t.onBlur,focus:t.onFocus,drop:t.onDrop,compositionstart:()=>{$.value=!0},compositionend:(I,K)=>{$.value=!1,t.updateModelValue(K.state.doc.toString())},input:I=>{t.onInput&&t.onInput(I);const{data:K}=I;t.maxlength&&t.modelValue.length+K.length>t.maxlength&&R.emit(i,Yt,{name:"overlength",message:"The input text is too long",data:K})}},B=e6({privide(I){I.provide("editorId",i),I.provide("theme",n),I.provide("previewTheme",r),I.provide("language",s),I.provide("disabled",l),I.provide("noUploadImg",c),I.provide("tableShape",h),I.provide("noPrettier",f),I.provide("codeTheme",d),I.provide("showToolbarName",a),I.provide("setting",p),I.provide("updateSetting",m),I.provide("usedLanguageText",o),I.provide("catalogVisible",O),I.provide("defToolbars",g),I.provide("tabWidth",e),I.provide("customIcon",u),I.provide("floatingToolbars",b),I.provide("rootRef",S)}}),D=[{type:"theme",extension:({theme:I})=>I.value==="light"?Cd:Rd,compartment:_,options:{theme:n}},{type:"updateListener",extension:W.updateListener.of(I=>{I.docChanged&&(t.onChange(I.state.doc.toString()),$.value||t.updateModelValue(I.state.doc.toString()))})},{type:"domEventHandlers",extension:W.domEventHandlers(q),compartment:z},{type:"completions",extension:Sd(t.completions),compartment:P},{type:"history",extension:Of(),compartment:A}],F=Ee.codeMirrorExtensions([{type:"lineWrapping",extension:W.lineWrapping},{type:"keymap",extension:Br.of(X())},{type:"drawSelection",extension:TS()},{type:"markdown",extension:qg({codeLanguages:AP})},{type:"linkShortener",extension:I=>T6(I),options:{maxLength:30}},{type:"floatingToolbar",extension:b.value.length>0?B:[],compartment:V}],{editorId:i,theme:n.value,keyBindings:X()}),Z=()=>[...D,...F].map(A6);return we(()=>{const I=new W({doc:t.modelValue,parent:x.value,extensions:Z()}),K=new c5(I);y.value=K,setTimeout(()=>{K.setTabSize(e),K.setDisabled(l.value),K.setReadOnly(t.readonly),t.placeholder&&K.setPlaceholder(t.placeholder),typeof t.maxlength=="number"&&K.setMaxLength(t.maxlength),t.autofocus&&I.focus()},0),R.on(i,{name:Jd,callback(){zu(I)}}),R.on(i,{name:ep,callback(){co(I)}}),R.on(i,{name:J,async callback(oe,ne={}){if(oe==="image"&&ne.transform){const de=t.transformImgUrl(ne.url);if(de instanceof Promise)de.then(async pe=>{const{text:me,options:He}=await Ll(oe,y.value,{...ne,url:pe});y.value?.replaceSelectedText(me,He,i)}).catch(pe=>{console.error(pe)});else{const{text:pe,options:me}=await Ll(oe,y.value,{...ne,url:de});y.value?.replaceSelectedText(pe,me,i)}}else{const{text:de,options:pe}=await Ll(oe,y.value,ne);y.value?.replaceSelectedText(de,pe,i)}}}),R.on(i,{name:ip,callback:y1(oe=>{const ne={...q},de=Object.keys(q);for(const pe in oe){const me=pe;de.includes(me)?ne[me]=(He,_i)=>{oe[me](He,_i),He.defaultPrevented||q[me](He,_i)}:ne[me]=oe[me]}y.value?.view.dispatch({effects:z.reconfigure(W.domEventHandlers(ne))})})}),R.on(i,{name:np,callback:(oe,ne)=>{const de=I.state.doc.line(oe);I.dispatch(I.state.update({changes:{from:de.from,to:de.to,insert:ne}}))}}),R.on(i,{name:rp,callback(){R.emit(i,Ns,I)}}),R.emit(i,Ns,I)}),ee(n,()=>{y.value?.view.dispatch({effects:_.reconfigure(n.value==="light"?Cd:Rd)})},{deep:!0}),ee(()=>t.completions,()=>{y.value?.view.dispatch({effects:P.reconfigure(Sd(t.completions))})},{deep:!0}),ee(()=>t.modelValue,()=>{y.value?.getValue()!==t.modelValue&&y.value?.setValue(t.modelValue)}),ee(()=>t.placeholder,()=>{y.value?.setPlaceholder(t.placeholder)}),ee([l],()=>{y.value?.setDisabled(l.value)}),ee(()=>t.readonly,()=>{y.value?.setDisabled(t.readonly)}),ee(()=>t.maxlength,()=>{t.maxlength&&y.value?.setMaxLength(t.maxlength)}),f5(()=>{const I=F.find(K=>K.type==="floatingToolbar");I?.compartment&&(b.value.length>0?y.value?.view.dispatch({effects:I.compartment.reconfigure(i1(I))}):y.value?.view.dispatch({effects:I.compartment.reconfigure([])}))},b),{inputWrapperRef:x,codeMirrorUt:y,resetHistory(){y.value?.view.dispatch({effects:A.reconfigure([])}),y.value?.view.dispatch({effects:A.reconfigure(Of())})}}},D6=(t,e,i)=>{const n=Q("setting"),r=fe(()=>/px$/.test(`${t.inputBoxWidth}`)?"50%":t.inputBoxWidth),s=yt({resizedWidth:r.value}),o=yt({width:r.value}),l=yt({left:r.value,display:"initial"}),a=h=>{const f=e.value?.offsetWidth||0,d=e.value?.getBoundingClientRect().x||0;let p=h.x-d;p/f<Hr?p=f*Hr:p>f-f*Hr&&(p=f-f*Hr);const m=`${p/f*100}%`;o.width=m,l.left=m,s.resizedWidth=m,t.oninputBoxWidthChange?.(m)},u=h=>{h.target===i.value&&document.addEventListener("mousemove",a)},c=()=>{document.removeEventListener("mousemove",a)};return ee([i],()=>{document.removeEventListener("mousedown",u),document.removeEventListener("mouseup",c),document.addEventListener("mousedown",u),document.addEventListener("mouseup",c)}),we(()=>{document.addEventListener("mousedown",u),document.addEventListener("mouseup",c)}),ni(()=>{document.removeEventListener("mousedown",u),document.removeEventListener("mouseup",c)}),ee([r],([h])=>{s.resizedWidth=h,o.width=h,l.left=h}),ee([()=>n.value.htmlPreview,()=>n.value.preview,()=>n.value.previewOnly],()=>{n.value.previewOnly?(o.width="0%",l.display="none"):!n.value.htmlPreview&&!n.value.preview?(o.width="100%",l.display="none"):(o.width=s.resizedWidth,l.display="initial")},{immediate:!0}),{inputWrapperStyle:o,resizeOperateStyle:l}},M6=()=>{const t=Q("editorId"),e=ie(!0),i=nu();return{onCatalogActive:(n,r)=>{const s=document.querySelector(`#${t} .${k}-catalog-editor`);if(!r||!e.value||!s)return;const o=r.offsetTop-s.scrollTop;(o>100||o<100)&&i(s,r.offsetTop-100)},onMouseenter:()=>e.value=!1,onMouseleave:()=>e.value=!0}},zl=H({name:`${v1}CustomScrollbar`,props:{id:{type:String,default:void 0},class:{type:[String,Array],default:void 0},scrollTarget:{type:String,default:void 0},alwaysShowTrack:{type:Boolean,default:!1},onMouseenter:{type:Function,default:()=>{}},onMouseleave:{type:Function,default:()=>{}}},setup(t,{slots:e}){const i=ie(null),n=ie(null),r=ie(null),s=ie(null);let o=null,l=null,a=!1,u=0,c=0;const h=()=>{if(!n.value||!i.value||!r.value||!s.value)return;const b=i.value.clientHeight,S=n.value.scrollHeight,x=n.value.scrollTop;if(S<=b){r.value.style.display="none",t.alwaysShowTrack||(s.value.style.display="none");return}else r.value.style.display="block",s.value.style.display="block";const y=b/S,$=Math.max(b*y,20),_=b-$,P=Math.min(x*y,_);r.value.style.height=`${$}px`,r.value.style.top=`${P}px`},f=()=>h(),d=b=>{a=!0,u=b.clientY,c=n.value.scrollTop,document.body.style.userSelect="none"},p=b=>{if(!a||!n.value||!i.value)return;const S=b.clientY-u,x=n.value.scrollHeight/i.value.clientHeight;n.value.scrollTop=c+S*x},m=()=>{a=!1,document.body.style.userSelect=""},O=b=>{n.value&&n.value.removeEventListener("scroll",f),n.value=b,n.value?(n.value.addEventListener("scroll",f),h()):s.value&&!t.alwaysShowTrack&&(s.value.style.display="none")},g=()=>{if(!i.value)return;const b=t.scrollTarget?i.value.querySelector(t.scrollTarget):i.value.firstElementChild;O(b)};return we(async()=>{await St(),g(),o=new MutationObserver(()=>{l&&cancelAnimationFrame(l),l=requestAnimationFrame(()=>{g()})}),o.observe(i.value,{childList:!0,subtree:!0}),window.addEventListener("resize",h),r.value?.addEventListener("mousedown",d),document.addEventListener("mousemove",p),document.addEventListener("mouseup",m)}),ni(()=>{o?.disconnect(),n.value&&n.value.removeEventListener("scroll",f),window.removeEventListener("resize",h),r.value?.removeEventListener("mousedown",d),document.removeEventListener("mousemove",p),document.removeEventListener("mouseup",m)}),()=>w("div",{id:t.id,class:[`${k}-custom-scrollbar`,t.class],ref:i,onMouseenter:t.onMouseenter,onMouseleave:t.onMouseleave},[e.default?.(),w("div",{class:`${k}-custom-scrollbar__track`,ref:s},[w("div",{class:`${k}-custom-scrollbar__thumb`,ref:r},null)])])}}),R6=nu(),L6={flex:1},Z6=H({name:"MDEditorContent",props:Ty,setup(t,e){const i=Q("editorId"),n=Q("catalogVisible"),r=Q("theme"),s=Q("setting"),o=ie(""),l=ie(),a=ie(),{inputWrapperRef:u,codeMirrorUt:c,resetHistory:h}=E6(t),{inputWrapperStyle:f,resizeOperateStyle:d}=D6(t,l,a);KP(t,o,c);const{onCatalogActive:p,onMouseenter:m,onMouseleave:O}=M6(),g=(x,y)=>{if(!s.value.preview&&y.line!==void 0){x.preventDefault();const $=c.value?.view;if($){const _=$.state.doc.line(y.line+1),P=$.lineBlockAt(_.from)?.top,A=$.scrollDOM;R6(A,P)}}},b=fe(()=>s.value.preview?"preview":"editor"),S=x=>{o.value=x,t.onHtmlChanged(x)};return e.expose({getSelectedText(){return c.value?.getSelectedText()},focus(x){c.value?.focus(x)},resetHistory:h,getEditorView(){return c.value?.view}}),()=>w("div",{class:`${k}-content`},[w("div",{class:`${k}-content-wrapper`,ref:l},[w(zl,{alwaysShowTrack:!0,scrollTarget:`#${i} .cm-scroller`,style:f},{default:()=>[w("div",{class:`${k}-input-wrapper`,ref:u},null)]}),(s.value.htmlPreview||s.value.preview)&&w("div",{class:`${k}-resize-operate`,style:d,ref:a},null),w(zl,{style:L6},{default:()=>[w(Xp,{modelValue:t.modelValue,onChange:t.onChange,onHtmlChanged:S,onGetCatalog:t.onGetCatalog,mdHeadingId:t.mdHeadingId,noMermaid:t.noMermaid,sanitize:t.sanitize,noKatex:t.noKatex,formatCopiedText:t.formatCopiedText,noHighlight:t.noHighlight,noImgZoomIn:t.noImgZoomIn,sanitizeMermaid:t.sanitizeMermaid,codeFoldable:t.codeFoldable,autoFoldThreshold:t.autoFoldThreshold,onRemount:t.onRemount,previewComponent:t.previewComponent,noEcharts:t.noEcharts},null)]})]),n.value&&w(zl,{class:`${k}-catalog-${t.catalogLayout}`,onMouseenter:m,onMouseleave:O},{default:()=>[w(Jn,{theme:r.value,class:`${k}-catalog-editor`,editorId:i,mdHeadingId:t.mdHeadingId,key:"internal-catalog",scrollElementOffsetTop:2,syncWith:b.value,onClick:g,catalogMaxDepth:t.catalogMaxDepth,onActive:p},null)]})])}}),I6=H({props:{modelValue:{type:String,default:""}},setup(t){const e=Q("usedLanguageText");return()=>w("div",{class:`${k}-footer-item`},[w("label",{class:`${k}-footer-label`},[`${e.value.footer?.markdownTotal}:`]),w("span",null,[t.modelValue?.length||0])])}}),z6={checked:{type:Boolean,default:!1},onChange:{type:Function,default:()=>{}},disabled:{type:Boolean,default:void 0}},X6=H({name:`${k}-checkbox`,props:z6,setup(t){return()=>w("div",{class:[`${k}-checkbox`,t.checked&&`${k}-checkbox-checked`,t.disabled&&`${k}-disabled`],onClick:()=>{t.disabled||t.onChange(!t.checked)}},null)}}),V6={scrollAuto:{type:Boolean},onScrollAutoChange:{type:Function,default:()=>{}}},F6=H({props:V6,setup(t){const e=Q("usedLanguageText"),i=Q("disabled");return()=>w("div",{class:[`${k}-footer-item`,i?.value&&`${k}-disabled`]},[w("label",{class:`${k}-footer-label`,onClick:()=>{i?.value||t.onScrollAutoChange(!t.scrollAuto)}},[e?.value.footer?.scrollAuto]),w(X6,{checked:t.scrollAuto,onChange:t.onScrollAutoChange,disabled:i?.value},null)])}}),B6={modelValue:{type:String,default:""},footers:{type:Array,default:[]},scrollAuto:{type:Boolean},noScrollAuto:{type:Boolean},onScrollAutoChange:{type:Function,default:()=>{}},defFooters:{type:Object}},q6=H({name:"MDEditorFooter",props:B6,setup(t){const e=Q("theme"),i=Q("language"),n=Q("disabled"),r=fe(()=>{const o=t.footers.indexOf("="),l=o===-1?t.footers:t.footers.slice(0,o),a=o===-1?[]:t.footers.slice(o,Number.MAX_SAFE_INTEGER);return[l,a]}),s=o=>{if(Hd.includes(o))switch(o){case"markdownTotal":return w(I6,{modelValue:t.modelValue},null);case"scrollSwitch":return!t.noScrollAuto&&w(F6,{scrollAuto:t.scrollAuto,onScrollAutoChange:t.onScrollAutoChange},null)}else if(t.defFooters instanceof Array){const l=t.defFooters[o];return l?cr(l,{theme:l.props?.theme||e.value,language:l.props?.language||i.value,disabled:l.props?.disabled||n?.value}):""}else if(t.defFooters&&t.defFooters.children instanceof Array){const l=t.defFooters.children[o];return l?cr(l,{theme:l.props?.theme||e.value,language:l.props?.language||i.value,disabled:l.props?.disabled||n?.value}):""}else return""};return()=>{const o=r.value[0].map(a=>s(a)),l=r.value[1].map(a=>s(a));return w("div",{class:`${k}-footer`},[w("div",{class:`${k}-footer-left`},[o]),w("div",{class:`${k}-footer-right`},[l])])}}}),j6={toolbars:{type:Array,default:()=>[]},toolbarsExclude:{type:Array,default:()=>[]}},Y6=H({name:"MDEditorToolbar",props:j6,setup(t){const e=Q("editorId"),i=Q("showToolbarName"),n=`${e}-toolbar-wrapper`,r=ie(),s=ie(),{barRender:o}=t1(),l=fe(()=>{const a=t.toolbars.filter(f=>!t.toolbarsExclude.includes(f)),u=a.indexOf("="),c=u===-1?a:a.slice(0,u+1),h=u===-1?[]:a.slice(u,Number.MAX_SAFE_INTEGER);return[c,h]});return ee(()=>t.toolbars,()=>{St(()=>{r.value&&k1(r.value)})},{immediate:!0}),()=>{const a=l.value[0].map(c=>o(c)),u=l.value[1].map(c=>o(c));return w(Rr,null,[t.toolbars.length>0&&w("div",{class:`${k}-toolbar-wrapper`,ref:r,id:n},[w("div",{class:[`${k}-toolbar`,i.value&&`${k}-stn`]},[w("div",{class:`${k}-toolbar-left`,ref:s},[a]),w("div",{class:`${k}-toolbar-right`},[u])])])])}}}),Xl=H({name:"MdEditorV3",props:My,emits:Ry,setup(t,e){const{noKatex:i,noMermaid:n,noHighlight:r}=t,s=yt({scrollAuto:t.scrollAuto}),o=ie(),l=ie(),a=fe(()=>Ge({props:t,ctx:e},"defToolbars")),u=fe(()=>Ge({props:t,ctx:e},"defFooters")),c=Ip(t),[h,f]=Hx(t,e,{editorId:c}),d=Kx(t,{editorId:c});Nx(t,e,{editorId:c}),Gx(t),Ux(t,e,{editorId:c}),Jx(t,e,{editorId:c,catalogVisible:d,setting:h,updateSetting:f,codeRef:l}),Wx(t,{rootRef:o,editorId:c,setting:h,updateSetting:f,catalogVisible:d,defToolbars:a}),ni(()=>{R.clear(c)});const p=A=>{e.emit("update:modelValue",A)},m=A=>{t.onChange?.(A),e.emit("onChange",A)},O=A=>{t.onHtmlChanged?.(A),e.emit("onHtmlChanged",A)},g=A=>{t.onGetCatalog?.(A),e.emit("onGetCatalog",A)},b=A=>{t.onBlur?.(A),e.emit("onBlur",A)},S=A=>{t.onFocus?.(A),e.emit("onFocus",A)},x=A=>{t.onInput?.(A),e.emit("onInput",A)},y=A=>{t.onDrop?.(A),e.emit("onDrop",A)},$=A=>{t.oninputBoxWidthChange?.(A),e.emit("oninputBoxWidthChange",A)},_=()=>{t.onRemount?.(),e.emit("onRemount")},P=A=>{s.scrollAuto=A};return()=>w("div",{id:c,class:[k,t.class,t.theme==="dark"&&`${k}-dark`,h.fullscreen||h.pageFullscreen?`${k}-fullscreen`:""],style:t.style,ref:o},[t.toolbars.length>0&&w(Y6,{toolbars:t.toolbars,toolbarsExclude:t.toolbarsExclude},null),w(Z6,{ref:l,modelValue:t.modelValue,mdHeadingId:t.mdHeadingId,noMermaid:n,sanitize:t.sanitize,placeholder:t.placeholder,noKatex:i,scrollAuto:s.scrollAuto,formatCopiedText:t.formatCopiedText,autofocus:t.autoFocus,readonly:t.readOnly,maxlength:t.maxLength,autoDetectCode:t.autoDetectCode,noHighlight:r,updateModelValue:p,onChange:m,onHtmlChanged:O,onGetCatalog:g,onBlur:b,onFocus:S,onInput:x,completions:t.completions,noImgZoomIn:t.noImgZoomIn,onDrop:y,inputBoxWidth:t.inputBoxWidth,oninputBoxWidthChange:$,sanitizeMermaid:t.sanitizeMermaid,transformImgUrl:t.transformImgUrl,codeFoldable:t.codeFoldable,autoFoldThreshold:t.autoFoldThreshold,onRemount:_,catalogLayout:t.catalogLayout,catalogMaxDepth:t.catalogMaxDepth,noEcharts:t.noEcharts,previewComponent:t.previewComponent},null),t.footers.length>0&&w(q6,{modelValue:t.modelValue,footers:t.footers,defFooters:u.value,noScrollAuto:!h.preview&&!h.htmlPreview||h.previewOnly,scrollAuto:s.scrollAuto,onScrollAutoChange:P},null)])}});Xl.install=t=>(t.component(Xl.name,Xl),t.use(Rs).use(Ps).use(Ms).use(Jn).use(Ds),t);const N6={onClick:{type:Function,default:void 0},language:{type:String,default:void 0},theme:{type:String,default:void 0},disabled:{type:Boolean,default:void 0}},Vl=H({name:"NormalFooterToolbar",props:N6,emits:["onClick"],setup(t,e){return()=>{const i=Ge({props:t,ctx:e});return w("div",{class:[`${k}-footer-item`,t.disabled&&`${k}-disabled`],onClick:n=>{t.disabled||(t.onClick?.(n),e.emit("onClick",n))}},[i])}}});Vl.install=t=>(t.component(Vl.name,Vl),t);var Fl={exports:{}},Qe={},Bl={exports:{}},Ti={},Zd;function n1(){if(Zd)return Ti;Zd=1;function t(){var s={};return s["align-content"]=!1,s["align-items"]=!1,s["align-self"]=!1,s["alignment-adjust"]=!1,s["alignment-baseline"]=!1,s.all=!1,s["anchor-point"]=!1,s.animation=!1,s["animation-delay"]=!1,s["animation-direction"]=!1,s["animation-duration"]=!1,s["animation-fill-mode"]=!1,s["animation-iteration-count"]=!1,s["animation-name"]=!1,s["animation-play-state"]=!1,s["animation-timing-function"]=!1,s.azimuth=!1,s["backface-visibility"]=!1,s.background=!0,s["background-attachment"]=!0,s["background-clip"]=!0,s["background-color"]=!0,s["background-image"]=!0,s["background-origin"]=!0,s["background-position"]=!0,s["background-repeat"]=!0,s["background-size"]=!0,s["baseline-shift"]=!1,s.binding=!1,s.bleed=!1,s["bookmark-label"]=!1,s["bookmark-level"]=!1,s["bookmark-state"]=!1,s.border=!0,s["border-bottom"]=!0,s["border-bottom-color"]=!0,s["border-bottom-left-radius"]=!0,s["border-bottom-right-radius"]=!0,s["border-bottom-style"]=!0,s["border-bottom-width"]=!0,s["border-collapse"]=!0,s["border-color"]=!0,s["border-image"]=!0,s["border-image-outset"]=!0,s["border-image-repeat"]=!0,s["border-image-slice"]=!0,s["border-image-source"]=!0,s["border-image-width"]=!0,s["border-left"]=!0,s["border-left-color"]=!0,s["border-left-style"]=!0,s["border-left-width"]=!0,s["border-radius"]=!0,s["border-right"]=!0,s["border-right-color"]=!0,s["border-right-style"]=!0,s["border-right-width"]=!0,s["border-spacing"]=!0,s["border-style"]=!0,s["border-top"]=!0,s["border-top-color"]=!0,s["border-top-left-radius"]=!0,s["border-top-right-radius"]=!0,s["border-top-style"]=!0,s["border-top-width"]=!0,s["border-width"]=!0,s.bottom=!1,s["box-decoration-break"]=!0,s["box-shadow"]=!0,s["box-sizing"]=!0,s["box-snap"]=!0,s["box-suppress"]=!0,s["break-after"]=!0,s["break-before"]=!0,s["break-inside"]=!0,s["caption-side"]=!1,s.chains=!1,s.clear=!0,s.clip=!1,s["clip-path"]=!1,s["clip-rule"]=!1,s.color=!0,s["color-interpolation-filters"]=!0,s["column-count"]=!1,s["column-fill"]=!1,s["column-gap"]=!1,s["column-rule"]=!1,s["column-rule-color"]=!1,s["column-rule-style"]=!1,s["column-rule-width"]=!1,s["column-span"]=!1,s["column-width"]=!1,s.columns=!1,s.contain=!1,s.content=!1,s["counter-increment"]=!1,s["counter-reset"]=!1,s["counter-set"]=!1,s.crop=!1,s.cue=!1,s["cue-after"]=!1,s["cue-before"]=!1,s.cursor=!1,s.direction=!1,s.display=!0,s["display-inside"]=!0,s["display-list"]=!0,s["display-outside"]=!0,s["dominant-baseline"]=!1,s.elevation=!1,s["empty-cells"]=!1,s.filter=!1,s.flex=!1,s["flex-basis"]=!1,s["flex-direction"]=!1,s["flex-flow"]=!1,s["flex-grow"]=!1,s["flex-shrink"]=!1,s["flex-wrap"]=!1,s.float=!1,s["float-offset"]=!1,s["flood-color"]=!1,s["flood-opacity"]=!1,s["flow-from"]=!1,s["flow-into"]=!1,s.font=!0,s["font-family"]=!0,s["font-feature-settings"]=!0,s["font-kerning"]=!0,s["font-language-override"]=!0,s["font-size"]=!0,s["font-size-adjust"]=!0,s["font-stretch"]=!0,s["font-style"]=!0,s["font-synthesis"]=!0,s["font-variant"]=!0,s["font-variant-alternates"]=!0,s["font-variant-caps"]=!0,s["font-variant-east-asian"]=!0,s["font-variant-ligatures"]=!0,s["font-variant-numeric"]=!0,s["font-variant-position"]=!0,s["font-weight"]=!0,s.grid=!1,s["grid-area"]=!1,s["grid-auto-columns"]=!1,s["grid-auto-flow"]=!1,s["grid-auto-rows"]=!1,s["grid-column"]=!1,s["grid-column-end"]=!1,s["grid-column-start"]=!1,s["grid-row"]=!1,s["grid-row-end"]=!1,s["grid-row-start"]=!1,s["grid-template"]=!1,s["grid-template-areas"]=!1,s["grid-template-columns"]=!1,s["grid-template-rows"]=!1,s["hanging-punctuation"]=!1,s.height=!0,s.hyphens=!1,s.icon=!1,s["image-orientation"]=!1,s["image-resolution"]=!1,s["ime-mode"]=!1,s["initial-letters"]=!1,s["inline-box-align"]=!1,s["justify-content"]=!1,s["justify-items"]=!1,s["justify-self"]=!1,s.left=!1,s["letter-spacing"]=!0,s["lighting-color"]=!0,s["line-box-contain"]=!1,s["line-break"]=!1,s["line-grid"]=!1,s["line-height"]=!1,s["line-snap"]=!1,s["line-stacking"]=!1,s["line-stacking-ruby"]=!1,s["line-stacking-shift"]=!1,s["line-stacking-strategy"]=!1,s["list-style"]=!0,s["list-style-image"]=!0,s["list-style-position"]=!0,s["list-style-type"]=!0,s.margin=!0,s["margin-bottom"]=!0,s["margin-left"]=!0,s["margin-right"]=!0,s["margin-top"]=!0,s["marker-offset"]=!1,s["marker-side"]=!1,s.marks=!1,s.mask=!1,s["mask-box"]=!1,s["mask-box-outset"]=!1,s["mask-box-repeat"]=!1,s["mask-box-slice"]=!1,s["mask-box-source"]=!1,s["mask-box-width"]=!1,s["mask-clip"]=!1,s["mask-image"]=!1,s["mask-origin"]=!1,s["mask-position"]=!1,s["mask-repeat"]=!1,s["mask-size"]=!1,s["mask-source-type"]=!1,s["mask-type"]=!1,s["max-height"]=!0,s["max-lines"]=!1,s["max-width"]=!0,s["min-height"]=!0,s["min-width"]=!0,s["move-to"]=!1,s["nav-down"]=!1,s["nav-index"]=!1,s["nav-left"]=!1,s["nav-right"]=!1,s["nav-up"]=!1,s["object-fit"]=!1,s["object-position"]=!1,s.opacity=!1,s.order=!1,s.orphans=!1,s.outline=!1,s["outline-color"]=!1,s["outline-offset"]=!1,s["outline-style"]=!1,s["outline-width"]=!1,s.overflow=!1,s["overflow-wrap"]=!1,s["overflow-x"]=!1,s["overflow-y"]=!1,s.padding=!0,s["padding-bottom"]=!0,s["padding-left"]=!0,s["padding-right"]=!0,s["padding-top"]=!0,s.page=!1,s["page-break-after"]=!1,s["page-break-before"]=!1,s["page-break-inside"]=!1,s["page-policy"]=!1,s.pause=!1,s["pause-after"]=!1,s["pause-before"]=!1,s.perspective=!1,s["perspective-origin"]=!1,s.pitch=!1,s["pitch-range"]=!1,s["play-during"]=!1,s.position=!1,s["presentation-level"]=!1,s.quotes=!1,s["region-fragment"]=!1,s.resize=!1,s.rest=!1,s["rest-after"]=!1,s["rest-before"]=!1,s.richness=!1,s.right=!1,s.rotation=!1,s["rotation-point"]=!1,s["ruby-align"]=!1,s["ruby-merge"]=!1,s["ruby-position"]=!1,s["shape-image-threshold"]=!1,s["shape-outside"]=!1,s["shape-margin"]=!1,s.size=!1,s.speak=!1,s["speak-as"]=!1,s["speak-header"]=!1,s["speak-numeral"]=!1,s["speak-punctuation"]=!1,s["speech-rate"]=!1,s.stress=!1,s["string-set"]=!1,s["tab-size"]=!1,s["table-layout"]=!1,s["text-align"]=!0,s["text-align-last"]=!0,s["text-combine-upright"]=!0,s["text-decoration"]=!0,s["text-decoration-color"]=!0,s["text-decoration-line"]=!0,s["text-decoration-skip"]=!0,s["text-decoration-style"]=!0,s["text-emphasis"]=!0,s["text-emphasis-color"]=!0,s["text-emphasis-position"]=!0,s["text-emphasis-style"]=!0,s["text-height"]=!0,s["text-indent"]=!0,s["text-justify"]=!0,s["text-orientation"]=!0,s["text-overflow"]=!0,s["text-shadow"]=!0,s["text-space-collapse"]=!0,s["text-transform"]=!0,s["text-underline-position"]=!0,s["text-wrap"]=!0,s.top=!1,s.transform=!1,s["transform-origin"]=!1,s["transform-style"]=!1,s.transition=!1,s["transition-delay"]=!1,s["transition-duration"]=!1,s["transition-property"]=!1,s["transition-timing-function"]=!1,s["unicode-bidi"]=!1,s["vertical-align"]=!1,s.visibility=!1,s["voice-balance"]=!1,s["voice-duration"]=!1,s["voice-family"]=!1,s["voice-pitch"]=!1,s["voice-range"]=!1,s["voice-rate"]=!1,s["voice-stress"]=!1,s["voice-volume"]=!1,s.volume=!1,s["white-space"]=!1,s.widows=!1,s.width=!0,s["will-change"]=!1,s["word-break"]=!0,s["word-spacing"]=!0,s["word-wrap"]=!0,s["wrap-flow"]=!1,s["wrap-through"]=!1,s["writing-mode"]=!1,s["z-index"]=!1,s}function e(s,o,l){}function i(s,o,l){}var n=/javascript\s*\:/img;function r(s,o){return n.test(o)?"":o}return Ti.whiteList=t(),Ti.getDefaultWhiteList=t,Ti.onAttr=e,Ti.onIgnoreAttr=i,Ti.safeAttrValue=r,Ti}var Id,zd;function r1(){return zd||(zd=1,Id={indexOf:function(t,e){var i,n;if(Array.prototype.indexOf)return t.indexOf(e);for(i=0,n=t.length;i<n;i++)if(t[i]===e)return i;return-1},forEach:function(t,e,i){var n,r;if(Array.prototype.forEach)return t.forEach(e,i);for(n=0,r=t.length;n<r;n++)e.call(i,t[n],n,t)},trim:function(t){return String.prototype.trim?t.trim():t.replace(/(^\s*)|(\s*$)/g,"")},trimRight:function(t){return String.prototype.trimRight?t.trimRight():t.replace(/(\s*$)/g,"")}}),Id}var ql,Xd;function W6(){if(Xd)return ql;Xd=1;var t=r1();function e(i,n){i=t.trimRight(i),i[i.length-1]!==";"&&(i+=";");var r=i.length,s=!1,o=0,l=0,a="";function u(){if(!s){var f=t.trim(i.slice(o,l)),d=f.indexOf(":");if(d!==-1){var p=t.trim(f.slice(0,d)),m=t.trim(f.slice(d+1));if(p){var O=n(o,a.length,p,m,f);O&&(a+=O+"; ")}}}o=l+1}for(;l<r;l++){var c=i[l];if(c==="/"&&i[l+1]==="*"){var h=i.indexOf("*/",l+2);if(h===-1)break;l=h+1,o=l+1,s=!1}else c==="("?s=!0:c===")"?s=!1:c===";"?s||u():c===`
+`&&u()}return t.trim(a)}return ql=e,ql}var jl,Vd;function G6(){if(Vd)return jl;Vd=1;var t=n1(),e=W6();r1();function i(s){return s==null}function n(s){var o={};for(var l in s)o[l]=s[l];return o}function r(s){s=n(s||{}),s.whiteList=s.whiteList||t.whiteList,s.onAttr=s.onAttr||t.onAttr,s.onIgnoreAttr=s.onIgnoreAttr||t.onIgnoreAttr,s.safeAttrValue=s.safeAttrValue||t.safeAttrValue,this.options=s}return r.prototype.process=function(s){if(s=s||"",s=s.toString(),!s)return"";var o=this,l=o.options,a=l.whiteList,u=l.onAttr,c=l.onIgnoreAttr,h=l.safeAttrValue,f=e(s,function(d,p,m,O,g){var b=a[m],S=!1;if(b===!0?S=b:typeof b=="function"?S=b(O):b instanceof RegExp&&(S=b.test(O)),S!==!0&&(S=!1),O=h(m,O),!!O){var x={position:p,sourcePosition:d,source:g,isWhite:S};if(S){var y=u(m,O,x);return i(y)?m+":"+O:y}else{var y=c(m,O,x);if(!i(y))return y}}});return f},jl=r,jl}var Fd;function iu(){return Fd||(Fd=1,(function(t,e){var i=n1(),n=G6();function r(o,l){var a=new n(l);return a.process(o)}e=t.exports=r,e.FilterCSS=n;for(var s in i)e[s]=i[s];typeof window<"u"&&(window.filterCSS=t.exports)})(Bl,Bl.exports)),Bl.exports}var Bd,qd;function mc(){return qd||(qd=1,Bd={indexOf:function(t,e){var i,n;if(Array.prototype.indexOf)return t.indexOf(e);for(i=0,n=t.length;i<n;i++)if(t[i]===e)return i;return-1},forEach:function(t,e,i){var n,r;if(Array.prototype.forEach)return t.forEach(e,i);for(n=0,r=t.length;n<r;n++)e.call(i,t[n],n,t)},trim:function(t){return String.prototype.trim?t.trim():t.replace(/(^\s*)|(\s*$)/g,"")},spaceIndex:function(t){var e=/\s|\n|\t/,i=e.exec(t);return i?i.index:-1}}),Bd}var jd;function s1(){if(jd)return Qe;jd=1;var t=iu().FilterCSS,e=iu().getDefaultWhiteList,i=mc();function n(){return{a:["target","href","title"],abbr:["title"],address:[],area:["shape","coords","href","alt"],article:[],aside:[],audio:["autoplay","controls","crossorigin","loop","muted","preload","src"],b:[],bdi:["dir"],bdo:["dir"],big:[],blockquote:["cite"],br:[],caption:[],center:[],cite:[],code:[],col:["align","valign","span","width"],colgroup:["align","valign","span","width"],dd:[],del:["datetime"],details:["open"],div:[],dl:[],dt:[],em:[],figcaption:[],figure:[],font:["color","size","face"],footer:[],h1:[],h2:[],h3:[],h4:[],h5:[],h6:[],header:[],hr:[],i:[],img:["src","alt","title","width","height","loading"],ins:["datetime"],kbd:[],li:[],mark:[],nav:[],ol:[],p:[],pre:[],s:[],section:[],small:[],span:[],sub:[],summary:[],sup:[],strong:[],strike:[],table:["width","border","align","valign"],tbody:["align","valign"],td:["width","rowspan","colspan","align","valign"],tfoot:["align","valign"],th:["width","rowspan","colspan","align","valign"],thead:["align","valign"],tr:["rowspan","align","valign"],tt:[],u:[],ul:[],video:["autoplay","controls","crossorigin","loop","muted","playsinline","poster","preload","src","height","width"]}}var r=new t;function s(D,F,Z){}function o(D,F,Z){}function l(D,F,Z){}function a(D,F,Z){}function u(D){return D.replace(h,"&lt;").replace(f,"&gt;")}function c(D,F,Z,I){if(Z=z(Z),F==="href"||F==="src"){if(Z=i.trim(Z),Z==="#")return"#";if(!(Z.substr(0,7)==="http://"||Z.substr(0,8)==="https://"||Z.substr(0,7)==="mailto:"||Z.substr(0,4)==="tel:"||Z.substr(0,11)==="data:image/"||Z.substr(0,6)==="ftp://"||Z.substr(0,2)==="./"||Z.substr(0,3)==="../"||Z[0]==="#"||Z[0]==="/"))return""}else if(F==="background"){if(b.lastIndex=0,b.test(Z))return""}else if(F==="style"){if(S.lastIndex=0,S.test(Z)||(x.lastIndex=0,x.test(Z)&&(b.lastIndex=0,b.test(Z))))return"";I!==!1&&(I=I||r,Z=I.process(Z))}return Z=V(Z),Z}var h=/</g,f=/>/g,d=/"/g,p=/&quot;/g,m=/&#([a-zA-Z0-9]*);?/gim,O=/&colon;?/gim,g=/&newline;?/gim,b=/((j\s*a\s*v\s*a|v\s*b|l\s*i\s*v\s*e)\s*s\s*c\s*r\s*i\s*p\s*t\s*|m\s*o\s*c\s*h\s*a):/gi,S=/e\s*x\s*p\s*r\s*e\s*s\s*s\s*i\s*o\s*n\s*\(.*/gi,x=/u\s*r\s*l\s*\(.*/gi;function y(D){return D.replace(d,"&quot;")}function $(D){return D.replace(p,'"')}function _(D){return D.replace(m,function(F,Z){return Z[0]==="x"||Z[0]==="X"?String.fromCharCode(parseInt(Z.substr(1),16)):String.fromCharCode(parseInt(Z,10))})}function P(D){return D.replace(O,":").replace(g," ")}function A(D){for(var F="",Z=0,I=D.length;Z<I;Z++)F+=D.charCodeAt(Z)<32?" ":D.charAt(Z);return i.trim(F)}function z(D){return D=$(D),D=_(D),D=P(D),D=A(D),D}function V(D){return D=y(D),D=u(D),D}function E(){return""}function X(D,F){typeof F!="function"&&(F=function(){});var Z=!Array.isArray(D);function I(ne){return Z?!0:i.indexOf(D,ne)!==-1}var K=[],oe=!1;return{onIgnoreTag:function(ne,de,pe){if(I(ne))if(pe.isClosing){var me="[/removed]",He=pe.position+me.length;return K.push([oe!==!1?oe:pe.position,He]),oe=!1,me}else return oe||(oe=pe.position),"[removed]";else return F(ne,de,pe)},remove:function(ne){var de="",pe=0;return i.forEach(K,function(me){de+=ne.slice(pe,me[0]),pe=me[1]}),de+=ne.slice(pe),de}}}function q(D){for(var F="",Z=0;Z<D.length;){var I=D.indexOf("<!--",Z);if(I===-1){F+=D.slice(Z);break}F+=D.slice(Z,I);var K=D.indexOf("-->",I);if(K===-1)break;Z=K+3}return F}function B(D){var F=D.split("");return F=F.filter(function(Z){var I=Z.charCodeAt(0);return I===127?!1:I<=31?I===10||I===13:!0}),F.join("")}return Qe.whiteList=n(),Qe.getDefaultWhiteList=n,Qe.onTag=s,Qe.onIgnoreTag=o,Qe.onTagAttr=l,Qe.onIgnoreTagAttr=a,Qe.safeAttrValue=c,Qe.escapeHtml=u,Qe.escapeQuote=y,Qe.unescapeQuote=$,Qe.escapeHtmlEntities=_,Qe.escapeDangerHtml5Entities=P,Qe.clearNonPrintableCharacter=A,Qe.friendlyAttrValue=z,Qe.escapeAttrValue=V,Qe.onIgnoreTagStripAll=E,Qe.StripTagBody=X,Qe.stripCommentTag=q,Qe.stripBlankChar=B,Qe.attributeWrapSign='"',Qe.cssFilter=r,Qe.getDefaultCSSWhiteList=e,Qe}var _s={},Yd;function o1(){if(Yd)return _s;Yd=1;var t=mc();function e(h){var f=t.spaceIndex(h),d;return f===-1?d=h.slice(1,-1):d=h.slice(1,f+1),d=t.trim(d).toLowerCase(),d.slice(0,1)==="/"&&(d=d.slice(1)),d.slice(-1)==="/"&&(d=d.slice(0,-1)),d}function i(h){return h.slice(0,2)==="</"}function n(h,f,d){var p="",m=0,O=!1,g=!1,b=0,S=h.length,x="",y="";e:for(b=0;b<S;b++){var $=h.charAt(b);if(O===!1){if($==="<"){O=b;continue}}else if(g===!1){if($==="<"){p+=d(h.slice(m,b)),O=b,m=b;continue}if($===">"||b===S-1){p+=d(h.slice(m,O)),y=h.slice(O,b+1),x=e(y),p+=f(O,p.length,x,y,i(y)),m=b+1,O=!1;continue}if($==='"'||$==="'")for(var _=1,P=h.charAt(b-_);P.trim()===""||P==="=";){if(P==="="){g=$;continue e}P=h.charAt(b-++_)}}else if($===g){g=!1;continue}}return m<S&&(p+=d(h.substr(m))),p}var r=/[^a-zA-Z0-9\\_:.-]/gim;function s(h,f){var d=0,p=0,m=[],O=!1,g=h.length;function b(_,P){if(_=t.trim(_),_=_.replace(r,"").toLowerCase(),!(_.length<1)){var A=f(_,P||"");A&&m.push(A)}}for(var S=0;S<g;S++){var x=h.charAt(S),y,$;if(O===!1&&x==="="){O=h.slice(d,S),d=S+1,p=h.charAt(d)==='"'||h.charAt(d)==="'"?d:l(h,S+1);continue}if(O!==!1&&S===p){if($=h.indexOf(x,S+1),$===-1)break;y=t.trim(h.slice(p+1,$)),b(O,y),O=!1,S=$,d=S+1;continue}if(/\s|\n|\t/.test(x))if(h=h.replace(/\s|\n|\t/g," "),O===!1)if($=o(h,S),$===-1){y=t.trim(h.slice(d,S)),b(y),O=!1,d=S+1;continue}else{S=$-1;continue}else if($=a(h,S-1),$===-1){y=t.trim(h.slice(d,S)),y=c(y),b(O,y),O=!1,d=S+1;continue}else continue}return d<h.length&&(O===!1?b(h.slice(d)):b(O,c(t.trim(h.slice(d))))),t.trim(m.join(" "))}function o(h,f){for(;f<h.length;f++){var d=h[f];if(d!==" ")return d==="="?f:-1}}function l(h,f){for(;f<h.length;f++){var d=h[f];if(d!==" ")return d==="'"||d==='"'?f:-1}}function a(h,f){for(;f>0;f--){var d=h[f];if(d!==" ")return d==="="?f:-1}}function u(h){return h[0]==='"'&&h[h.length-1]==='"'||h[0]==="'"&&h[h.length-1]==="'"}function c(h){return u(h)?h.substr(1,h.length-2):h}return _s.parseTag=n,_s.parseAttr=s,_s}var Yl,Nd;function U6(){if(Nd)return Yl;Nd=1;var t=iu().FilterCSS,e=s1(),i=o1(),n=i.parseTag,r=i.parseAttr,s=mc();function o(h){return h==null}function l(h){var f=s.spaceIndex(h);if(f===-1)return{html:"",closing:h[h.length-2]==="/"};h=s.trim(h.slice(f+1,-1));var d=h[h.length-1]==="/";return d&&(h=s.trim(h.slice(0,-1))),{html:h,closing:d}}function a(h){var f={};for(var d in h)f[d]=h[d];return f}function u(h){var f={};for(var d in h)Array.isArray(h[d])?f[d.toLowerCase()]=h[d].map(function(p){return p.toLowerCase()}):f[d.toLowerCase()]=h[d];return f}function c(h){h=a(h||{}),h.stripIgnoreTag&&(h.onIgnoreTag&&console.error('Notes: cannot use these two options "stripIgnoreTag" and "onIgnoreTag" at the same time'),h.onIgnoreTag=e.onIgnoreTagStripAll),h.whiteList||h.allowList?h.whiteList=u(h.whiteList||h.allowList):h.whiteList=e.whiteList,this.attributeWrapSign=h.singleQuotedAttributeValue===!0?"'":e.attributeWrapSign,h.onTag=h.onTag||e.onTag,h.onTagAttr=h.onTagAttr||e.onTagAttr,h.onIgnoreTag=h.onIgnoreTag||e.onIgnoreTag,h.onIgnoreTagAttr=h.onIgnoreTagAttr||e.onIgnoreTagAttr,h.safeAttrValue=h.safeAttrValue||e.safeAttrValue,h.escapeHtml=h.escapeHtml||e.escapeHtml,this.options=h,h.css===!1?this.cssFilter=!1:(h.css=h.css||{},this.cssFilter=new t(h.css))}return c.prototype.process=function(h){if(h=h||"",h=h.toString(),!h)return"";var f=this,d=f.options,p=d.whiteList,m=d.onTag,O=d.onIgnoreTag,g=d.onTagAttr,b=d.onIgnoreTagAttr,S=d.safeAttrValue,x=d.escapeHtml,y=f.attributeWrapSign,$=f.cssFilter;d.stripBlankChar&&(h=e.stripBlankChar(h)),d.allowCommentTag||(h=e.stripCommentTag(h));var _=!1;d.stripIgnoreTagBody&&(_=e.StripTagBody(d.stripIgnoreTagBody,O),O=_.onIgnoreTag);var P=n(h,function(A,z,V,E,X){var q={sourcePosition:A,position:z,isClosing:X,isWhite:Object.prototype.hasOwnProperty.call(p,V)},B=m(V,E,q);if(!o(B))return B;if(q.isWhite){if(q.isClosing)return"</"+V+">";var D=l(E),F=p[V],Z=r(D.html,function(I,K){var oe=s.indexOf(F,I)!==-1,ne=g(V,I,K,oe);return o(ne)?oe?(K=S(V,I,K,$),K?I+"="+y+K+y:I):(ne=b(V,I,K,oe),o(ne)?void 0:ne):ne});return E="<"+V,Z&&(E+=" "+Z),D.closing&&(E+=" /"),E+=">",E}else return B=O(V,E,q),o(B)?x(E):B},x);return _&&(P=_.remove(P)),P},Yl=c,Yl}var Wd;function H6(){return Wd||(Wd=1,(function(t,e){var i=s1(),n=o1(),r=U6();function s(l,a){var u=new r(a);return u.process(l)}e=t.exports=s,e.filterXSS=s,e.FilterXSS=r,(function(){for(var l in i)e[l]=i[l];for(var a in n)e[a]=n[a]})(),typeof window<"u"&&(window.filterXSS=t.exports);function o(){return typeof self<"u"&&typeof DedicatedWorkerGlobalScope<"u"&&self instanceof DedicatedWorkerGlobalScope}o()&&(self.filterXSS=t.exports)})(Fl,Fl.exports)),Fl.exports}H6();export{jO as C,Ot as E,ye as I,gn as L,xm as N,Ds as a,Xl as b,vn as c,yn as d,Bs as e,jr as f,j3 as g,mO as h,An as i,Pe as j,Ow as k,gw as l,_m as m,xo as n,Ke as o,W as p,M as q,Ag as r,Cn as s,v as t,ym as u,lg as v,Cm as w,vt as x};
@@ -0,0 +1 @@
+import{y as o}from"./index-LBqe1eNs.js";function r(s){const n=s instanceof FormData?s:(()=>{const t=new FormData;return Object.keys(s).forEach(e=>{t.append(e,s[e])}),t})();return o.post("/submission/submit",n,{headers:{"Content-Type":"multipart/form-data"}})}function u(s,n={}){return o.post("/submission/list",s,n)}function m(s){return o.get("/submission/detail",{params:{submissionId:s}})}function a(s){const n=new FormData;return n.append("submissionId",s.submissionId),n.append("score",s.score),o.post("/submission/score",n)}function p(s){return o.get("/submission/rank",{params:{competitionId:s}})}function c(s){return o.get("/submission/export",{params:{competitionId:s},responseType:"blob"})}function b(s){return o.get("/submission/score/detail",{params:{submissionId:s}})}function f(s){return o.get("/file/download",{params:{submissionId:s},responseType:"blob"})}export{f as downloadSubmission,c as exportScores,p as getCompetitionRank,b as getScoreDetail,m as getSubmissionDetail,u as listSubmissions,a as scoreSubmission,r as submitWork};
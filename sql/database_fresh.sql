@@ -133,10 +133,16 @@ CREATE TABLE `competition_submission` (
     `userId` BIGINT NULL COMMENT '提交用户ID（个人提交）',
     `teamId` BIGINT NULL COMMENT '提交队伍ID（团队提交）',
     `fileUrl` VARCHAR(1024) NOT NULL COMMENT '作品文件访问URL',
+    `fileName` VARCHAR(256) NULL COMMENT '作品原始文件名',
+    `fileSize` BIGINT NULL COMMENT '作品文件大小（字节）',
     `description` TEXT NULL COMMENT '作品描述（富文本）',
-    `score` INT NULL COMMENT '评分（管理员评审）',
-    `reviewerId` BIGINT NULL COMMENT '评分管理员ID',
+    `score` INT NULL COMMENT '评分（各评委平均分）',
+    `scoreSum` BIGINT DEFAULT 0 NOT NULL COMMENT '各评委评分之和',
+    `judgeCount` INT DEFAULT 0 NOT NULL COMMENT '已评分评委数',
+    `reviewerId` BIGINT NULL COMMENT '最近评分的评委ID',
     `status` TINYINT DEFAULT 0 NOT NULL COMMENT '状态：0-已提交待评审，1-已评分',
+    `leaseJudgeId` BIGINT NULL COMMENT '当前领取该提交的评委ID',
+    `leaseExpire` DATETIME NULL COMMENT '领取租约过期时间',
     `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '提交时间',
     `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     `isDelete` TINYINT DEFAULT 0 NOT NULL COMMENT '是否删除',
@@ -194,6 +200,89 @@ CREATE TABLE `chat_message` (
     CONSTRAINT `fk_message_sender` FOREIGN KEY (`senderId`) REFERENCES `user`(`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='招募帖公开留言表';
 
+-- ----------------------------
+-- 9. 竞赛评委表 competition_judge
+-- ----------------------------
+DROP TABLE IF EXISTS `competition_judge`;
+CREATE TABLE `competition_judge` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+    `competitionId` BIGINT NOT NULL COMMENT '竞赛ID',
+    `userId` BIGINT NOT NULL COMMENT '评委用户ID',
+    `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `isDelete` TINYINT DEFAULT 0 NOT NULL COMMENT '是否删除',
+    INDEX `idx_competitionId` (`competitionId`),
+    INDEX `idx_userId` (`userId`),
+    CONSTRAINT `fk_judge_competition` FOREIGN KEY (`competitionId`) REFERENCES `competition`(`id`),
+    CONSTRAINT `fk_judge_user` FOREIGN KEY (`userId`) REFERENCES `user`(`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='竞赛评委表';
+
+-- ----------------------------
+-- 10. 评委评分表 submission_judge_score
+-- ----------------------------
+DROP TABLE IF EXISTS `submission_judge_score`;
+CREATE TABLE `submission_judge_score` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+    `submissionId` BIGINT NOT NULL COMMENT '提交ID',
+    `competitionId` BIGINT NOT NULL COMMENT '竞赛ID',
+    `judgeId` BIGINT NOT NULL COMMENT '评委用户ID',
+    `score` INT NOT NULL COMMENT '评分',
+    `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    `isDelete` TINYINT DEFAULT 0 NOT NULL COMMENT '是否删除',
+    UNIQUE KEY `uk_submission_judge` (`submissionId`, `judgeId`),
+    INDEX `idx_competitionId` (`competitionId`),
+    INDEX `idx_judgeId` (`judgeId`),
+    CONSTRAINT `fk_judge_score_submission` FOREIGN KEY (`submissionId`) REFERENCES `competition_submission`(`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='评委评分表';
+
+-- ----------------------------
+-- 11. 文件内容引用计数表 file_blob
+-- ----------------------------
+DROP TABLE IF EXISTS `file_blob`;
+CREATE TABLE `file_blob` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+    `fileUrl` VARCHAR(512) NOT NULL COMMENT '文件访问URL（按内容哈希命名）',
+    `sha256` CHAR(64) NOT NULL COMMENT '文件内容 SHA-256',
+    `fileSize` BIGINT NOT NULL COMMENT '文件大小（字节）',
+    `refCount` INT DEFAULT 0 NOT NULL COMMENT '引用次数',
+    `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    UNIQUE KEY `uk_fileUrl` (`fileUrl`),
+    INDEX `idx_sha256` (`sha256`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='文件内容引用计数表';
+
+-- ----------------------------
+-- 12. 存储用量统计表 storage_usage
+-- ----------------------------
+DROP TABLE IF EXISTS `storage_usage`;
+CREATE TABLE `storage_usage` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+    `scopeType` VARCHAR(16) NOT NULL COMMENT '统计对象类型：user-用户，competition-竞赛',
+    `scopeId` BIGINT NOT NULL COMMENT '用户ID或竞赛ID',
+    `usedBytes` BIGINT DEFAULT 0 NOT NULL COMMENT '占用字节数（按引用计，相同内容多次上传分别计入）',
+    `fileCount` INT DEFAULT 0 NOT NULL COMMENT '文件数',
+    `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    UNIQUE KEY `uk_scope` (`scopeType`, `scopeId`),
+    INDEX `idx_scopeType_usedBytes` (`scopeType`, `usedBytes`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='存储用量统计表';
+
+-- ----------------------------
+-- 13. 上传文件归属表 upload_owner
+-- ----------------------------
+DROP TABLE IF EXISTS `upload_owner`;
+CREATE TABLE `upload_owner` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+    `fileUrl` VARCHAR(512) NOT NULL COMMENT '文件访问URL',
+    `userId` BIGINT NOT NULL COMMENT '上传者ID',
+    `fileSize` BIGINT NOT NULL COMMENT '文件大小（字节）',
+    `uploadCount` INT DEFAULT 0 NOT NULL COMMENT '计入用量且尚未退回的上传次数',
+    `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    UNIQUE KEY `uk_fileUrl_userId` (`fileUrl`, `userId`),
+    INDEX `idx_userId` (`userId`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='上传文件归属表';
+
 
 -- ============================================================
 -- ============================================================
@@ -0,0 +1,50 @@
+-- 数据库升级脚本 v2：评审与文件存储相关改动
+-- 适用于已执行过 database_upgrade.sql 的数据库，各步骤按顺序执行
+-- 执行前请备份数据库！
+
+USE cms;
+
+-- ==================== 第一步：多评委评分 ====================
+
+-- 提交表增加聚合分字段（score 改为各评委平均分）
+ALTER TABLE `competition_submission`
+  ADD COLUMN `scoreSum` BIGINT DEFAULT 0 NOT NULL COMMENT '各评委评分之和' AFTER `score`,
+  ADD COLUMN `judgeCount` INT DEFAULT 0 NOT NULL COMMENT '已评分评委数' AFTER `scoreSum`;
+
+-- 竞赛评委表
+CREATE TABLE IF NOT EXISTS `competition_judge` (
+  `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+  `competitionId` BIGINT NOT NULL COMMENT '竞赛ID',
+  `userId` BIGINT NOT NULL COMMENT '评委用户ID',
+  `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `isDelete` TINYINT DEFAULT 0 NOT NULL COMMENT '是否删除',
+  INDEX `idx_competitionId` (`competitionId`),
+  INDEX `idx_userId` (`userId`),
+  CONSTRAINT `fk_judge_competition` FOREIGN KEY (`competitionId`) REFERENCES `competition`(`id`),
+  CONSTRAINT `fk_judge_user` FOREIGN KEY (`userId`) REFERENCES `user`(`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='竞赛评委表';
+
+-- 评委评分表
+CREATE TABLE IF NOT EXISTS `submission_judge_score` (
+  `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+  `submissionId` BIGINT NOT NULL COMMENT '提交ID',
+  `competitionId` BIGINT NOT NULL COMMENT '竞赛ID',
+  `judgeId` BIGINT NOT NULL COMMENT '评委用户ID',
+  `score` INT NOT NULL COMMENT '评分',
+  `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  `isDelete` TINYINT DEFAULT 0 NOT NULL COMMENT '是否删除',
+  UNIQUE KEY `uk_submission_judge` (`submissionId`, `judgeId`),
+  INDEX `idx_competitionId` (`competitionId`),
+  INDEX `idx_judgeId` (`judgeId`),
+  CONSTRAINT `fk_judge_score_submission` FOREIGN KEY (`submissionId`) REFERENCES `competition_submission`(`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='评委评分表';
+
+-- 已有评分迁移为评分人的评委评分
+INSERT INTO `submission_judge_score` (`submissionId`, `competitionId`, `judgeId`, `score`)
+SELECT `id`, `competitionId`, `reviewerId`, `score` FROM `competition_submission`
+WHERE `score` IS NOT NULL AND `reviewerId` IS NOT NULL AND `isDelete` = 0;
+
+UPDATE `competition_submission`
+SET `scoreSum` = `score`, `judgeCount` = 1
+WHERE `score` IS NOT NULL AND `reviewerId` IS NOT NULL AND `isDelete` = 0;
@@ -0,0 +1,25 @@
+-- 数据库升级脚本 v3：内容寻址文件存储
+-- 适用于已执行过 database_upgrade_v2.sql 的数据库，各步骤按顺序执行
+-- 执行前请备份数据库！
+
+USE cms;
+
+-- ==================== 第一步：提交表记录原始文件名 ====================
+
+-- 作品文件按内容哈希命名，下载时使用上传时的文件名
+ALTER TABLE `competition_submission`
+  ADD COLUMN `fileName` VARCHAR(256) NULL COMMENT '作品原始文件名' AFTER `fileUrl`;
+
+-- ==================== 第二步：文件内容引用计数表 ====================
+
+CREATE TABLE IF NOT EXISTS `file_blob` (
+  `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+  `fileUrl` VARCHAR(512) NOT NULL COMMENT '文件访问URL（按内容哈希命名）',
+  `sha256` CHAR(64) NOT NULL COMMENT '文件内容 SHA-256',
+  `fileSize` BIGINT NOT NULL COMMENT '文件大小（字节）',
+  `refCount` INT DEFAULT 0 NOT NULL COMMENT '引用次数',
+  `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  UNIQUE KEY `uk_fileUrl` (`fileUrl`),
+  INDEX `idx_sha256` (`sha256`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='文件内容引用计数表';
@@ -0,0 +1,63 @@
+-- 数据库升级脚本 v4：存储用量统计
+-- 适用于已执行过 database_upgrade_v3.sql 的数据库，各步骤按顺序执行
+-- 执行前请备份数据库！
+
+USE cms;
+
+-- ==================== 第一步：提交表记录文件大小 ====================
+
+-- 覆盖旧稿时按旧稿大小扣减用量，不再查询文件
+ALTER TABLE `competition_submission`
+  ADD COLUMN `fileSize` BIGINT NULL COMMENT '作品文件大小（字节）' AFTER `fileName`;
+
+-- 已有提交的文件大小取自 file_blob（内容寻址之前的旧文件没有记录，保持为空）
+UPDATE `competition_submission` s
+  JOIN `file_blob` b ON b.fileUrl = s.fileUrl
+SET s.fileSize = b.fileSize
+WHERE s.fileSize IS NULL;
+
+-- ==================== 第二步：存储用量统计表 ====================
+
+CREATE TABLE IF NOT EXISTS `storage_usage` (
+  `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+  `scopeType` VARCHAR(16) NOT NULL COMMENT '统计对象类型：user-用户，competition-竞赛',
+  `scopeId` BIGINT NOT NULL COMMENT '用户ID或竞赛ID',
+  `usedBytes` BIGINT DEFAULT 0 NOT NULL COMMENT '占用字节数（按引用计，相同内容多次上传分别计入）',
+  `fileCount` INT DEFAULT 0 NOT NULL COMMENT '文件数',
+  `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  UNIQUE KEY `uk_scope` (`scopeType`, `scopeId`),
+  INDEX `idx_scopeType_usedBytes` (`scopeType`, `usedBytes`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='存储用量统计表';
+
+-- ==================== 第三步：上传文件归属表 ====================
+
+-- 图片、视频等普通上传计入了哪些用户，更换头像/封面或文件被清理时据此退回用量
+CREATE TABLE IF NOT EXISTS `upload_owner` (
+  `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键',
+  `fileUrl` VARCHAR(512) NOT NULL COMMENT '文件访问URL',
+  `userId` BIGINT NOT NULL COMMENT '上传者ID',
+  `fileSize` BIGINT NOT NULL COMMENT '文件大小（字节）',
+  `uploadCount` INT DEFAULT 0 NOT NULL COMMENT '计入用量且尚未退回的上传次数',
+  `createTime` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `updateTime` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  UNIQUE KEY `uk_fileUrl_userId` (`fileUrl`, `userId`),
+  INDEX `idx_userId` (`userId`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='上传文件归属表';
+
+-- ==================== 第四步：按已有提交初始化用量 ====================
+
+-- 之后由应用在每次上传、覆盖旧稿时增量更新；升级前的图片、视频等上传没有记录上传者，不计入
+INSERT INTO `storage_usage` (scopeType, scopeId, usedBytes, fileCount)
+SELECT 'competition', competitionId, IFNULL(SUM(fileSize), 0), COUNT(*)
+FROM `competition_submission`
+WHERE isDelete = 0
+GROUP BY competitionId
+ON DUPLICATE KEY UPDATE usedBytes = VALUES(usedBytes), fileCount = VALUES(fileCount);
+
+INSERT INTO `storage_usage` (scopeType, scopeId, usedBytes, fileCount)
+SELECT 'user', userId, IFNULL(SUM(fileSize), 0), COUNT(*)
+FROM `competition_submission`
+WHERE isDelete = 0 AND userId IS NOT NULL
+GROUP BY userId
+ON DUPLICATE KEY UPDATE usedBytes = VALUES(usedBytes), fileCount = VALUES(fileCount);
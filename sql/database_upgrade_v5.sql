@@ -0,0 +1,12 @@
+-- 数据库升级脚本 v5：评审租约持久化
+-- 适用于已执行过 database_upgrade_v4.sql 的数据库
+-- 执行前请备份数据库！
+
+USE cms;
+
+-- ==================== 第一步：提交表记录评审租约 ====================
+
+-- 评委领取提交时以条件更新抢占租约，多节点部署时由数据库决定归属，服务重启后租约仍然有效
+ALTER TABLE `competition_submission`
+  ADD COLUMN `leaseJudgeId` BIGINT NULL COMMENT '当前领取该提交的评委ID' AFTER `status`,
+  ADD COLUMN `leaseExpire` DATETIME NULL COMMENT '领取租约过期时间' AFTER `leaseJudgeId`;
@@ -3,10 +3,12 @@ package com.miji.cms;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
 @MapperScan("com.miji.cms.mapper")
+@EnableScheduling
 public class BackendApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,137 @@
+package com.miji.cms.config;
+
+import com.miji.cms.manager.BandwidthManager;
+import com.miji.cms.manager.BandwidthManager.Traffic;
+import com.miji.cms.manager.FileDownloadManager;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.Resource;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 按 {@link BandwidthManager} 的配置对响应限速：文件下载类路径计入文件下载配额，其余计入接口配额
+ * <p>
+ * 限速的文件下载不使用 Tomcat sendfile（sendfile 不经过响应输出流，无法计量）
+ */
+@Component
+public class BandwidthShapingFilter extends OncePerRequestFilter {
+
+    /**
+     * 计入文件下载配额的路径前缀
+     */
+    static final List<String> BULK_PATHS = Arrays.asList(
+            "/uploads/", "/file/download", "/file/archive/entry", "/file/image", "/submission/export");
+
+    @Resource
+    private BandwidthManager bandwidthManager;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Traffic traffic = isBulk(request) ? Traffic.BULK : Traffic.API;
+        if (!bandwidthManager.isShaped(traffic)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest shapedRequest = traffic == Traffic.BULK ? new WithoutSendfileRequest(request) : request;
+        chain.doFilter(shapedRequest, new ShapedResponse(response, traffic));
+    }
+
+    static boolean isBulk(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : BULK_PATHS) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class WithoutSendfileRequest extends HttpServletRequestWrapper {
+
+        WithoutSendfileRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return FileDownloadManager.SENDFILE_SUPPORT.equals(name) ? null : super.getAttribute(name);
+        }
+    }
+
+    private class ShapedResponse extends HttpServletResponseWrapper {
+
+        private final Traffic traffic;
+
+        private ServletOutputStream outputStream;
+
+        ShapedResponse(HttpServletResponse response, Traffic traffic) {
+            super(response);
+            this.traffic = traffic;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream original = super.getOutputStream();
+                outputStream = new ShapedServletOutputStream(original,
+                        bandwidthManager.shape(original, traffic));
+            }
+            return outputStream;
+        }
+    }
+
+    private static class ShapedServletOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream original;
+
+        private final OutputStream shaped;
+
+        ShapedServletOutputStream(ServletOutputStream original, OutputStream shaped) {
+            this.original = original;
+            this.shaped = shaped;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            shaped.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            shaped.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            shaped.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            shaped.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return original.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            original.setWriteListener(listener);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.miji.cms.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miji.cms.common.ErrorCode;
+import com.miji.cms.common.ResultUtils;
+import com.miji.cms.manager.DownloadSignatureManager;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.annotation.Resource;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 校验 /uploads/** 的签名地址（见 {@link DownloadSignatureManager}），通过后直接交给静态资源处理输出文件，
+ * 不查询数据库；受保护目录下没有签名的请求返回 403
+ */
+@Component
+public class SignedDownloadFilter extends OncePerRequestFilter {
+
+    private static final String UPLOAD_PREFIX = "/uploads/";
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Resource
+    private DownloadSignatureManager downloadSignatureManager;
+
+    @Resource
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !urlPathHelper.getPathWithinApplication(request).startsWith(UPLOAD_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        String signature = request.getParameter("signature");
+        if (signature == null) {
+            if (downloadSignatureManager.isProtected(path)) {
+                reject(response);
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String expires = request.getParameter("expires");
+        String name = request.getParameter("name");
+        if (!downloadSignatureManager.verify(path, expires, name, signature)) {
+            reject(response);
+            return;
+        }
+        request.setAttribute(DownloadSignatureManager.VERIFIED_ATTRIBUTE, Boolean.TRUE);
+        if (name != null) {
+            String encodedFileName = URLEncoder.encode(name, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+            response.setHeader("Content-Disposition", String.format(
+                    "attachment; filename=\"%s\"; filename*=UTF-8''%s", encodedFileName, encodedFileName));
+            request.setAttribute(DownloadSignatureManager.FILE_NAME_ATTRIBUTE, name);
+        }
+        chain.doFilter(request, new PrivateCacheResponse(response,
+                "private, max-age=" + downloadSignatureManager.remainingSeconds(expires)));
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ResultUtils.error(ErrorCode.NO_AUTH, "下载地址无效或已过期"));
+    }
+
+    /**
+     * 签名地址的内容不能被共享缓存保存，缓存时长不超过地址有效期（覆盖 /uploads/** 的长期公共缓存）
+     */
+    private static class PrivateCacheResponse extends HttpServletResponseWrapper {
+
+        PrivateCacheResponse(HttpServletResponse response, String cacheControl) {
+            super(response);
+            response.setHeader("Cache-Control", cacheControl);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!"Cache-Control".equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!"Cache-Control".equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.miji.cms.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miji.cms.common.ErrorCode;
+import com.miji.cms.common.ResultUtils;
+import com.miji.cms.manager.UploadAdmissionManager;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.Resource;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 上传准入：在读取请求体（解析 multipart、写临时文件）之前按 {@link UploadAdmissionManager} 申请额度，
+ * 超出预算时排队，仍无法准入时返回 503 与 Retry-After
+ */
+@Component
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    /**
+     * 需要准入控制的上传路径前缀（只限 POST / PUT）
+     */
+    static final List<String> UPLOAD_PATHS = Arrays.asList("/file/upload/", "/submission/submit");
+
+    @Resource
+    private UploadAdmissionManager uploadAdmissionManager;
+
+    @Resource
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!uploadAdmissionManager.isEnabled()
+                || !("POST".equals(request.getMethod()) || "PUT".equals(request.getMethod()))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return UPLOAD_PATHS.stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long bytes;
+        try {
+            bytes = uploadAdmissionManager.acquire(request.getContentLengthLong());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            bytes = -1;
+        }
+        if (bytes < 0) {
+            reject(response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            uploadAdmissionManager.release(bytes);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", String.valueOf(uploadAdmissionManager.getRetryAfterSeconds()));
+        // 没有读取请求体，告知客户端关闭连接，避免继续发送
+        response.setHeader("Connection", "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ResultUtils.error(ErrorCode.SYSTEM_ERROR, "上传人数较多，请稍后重试"));
+    }
+}
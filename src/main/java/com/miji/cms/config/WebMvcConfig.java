@@ -1,11 +1,24 @@
 package com.miji.cms.config;
 
+import com.miji.cms.manager.DownloadSignatureManager;
+import com.miji.cms.manager.FileStorage;
+import com.miji.cms.manager.LocalFileStorage;
+import com.miji.cms.manager.StaticAssetManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
 
+import javax.servlet.http.HttpServletRequest;
 import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
@@ -13,11 +26,99 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Value("${file.upload-path}")
     private String uploadPath;
 
+    @javax.annotation.Resource
+    private FileStorage fileStorage;
+
+    @javax.annotation.Resource
+    private StaticAssetManager staticAssetManager;
+
+    @javax.annotation.Resource
+    private DownloadSignatureManager downloadSignatureManager;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 前端打包产物文件名带内容哈希，内容不变；优先使用启动时预压缩的 gzip 版本
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations("file:" + staticAssetManager.getCacheDirectory() + File.separator,
+                        "classpath:/static/assets/")
+                .setCacheControl(immutable(Duration.ofDays(365)))
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+        registry.addResourceHandler("/favicon.ico")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.maxAge(7, TimeUnit.DAYS).cachePublic());
+
+        if (!(fileStorage instanceof LocalFileStorage)) {
+            // 远程存储时 /uploads/** 由 UploadRedirectController 跳转到对象存储
+            return;
+        }
         // 将 http://localhost:8080/uploads/** 映射到配置的上传路径
         String absolutePath = new File(uploadPath).getAbsolutePath() + File.separator;
+        // 已发布的成绩快照文件名带版本号、内容不变，允许浏览器与 CDN 长期缓存
+        registry.addResourceHandler("/uploads/results/**")
+                .addResourceLocations("file:" + absolutePath + "results" + File.separator)
+                .setCacheControl(immutable(Duration.ofDays(365)))
+                .resourceChain(false)
+                .addResolver(new StorageKeyResolver(downloadSignatureManager, "results/"));
+        // 上传文件按内容哈希（旧文件按 UUID）命名，同一地址内容不变
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + absolutePath);
+                .addResourceLocations("file:" + absolutePath)
+                .setCacheControl(immutable(Duration.ofDays(365)))
+                .resourceChain(false)
+                .addResolver(new StorageKeyResolver(downloadSignatureManager, ""));
+    }
+
+    /**
+     * public, max-age=..., immutable：浏览器在有效期内刷新页面也不再校验（当前版本的 CacheControl 不支持 immutable）
+     */
+    static CacheControl immutable(Duration maxAge) {
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        return new CacheControl() {
+            @Override
+            public String getHeaderValue() {
+                return cacheControl.getHeaderValue() + ", immutable";
+            }
+        };
+    }
+
+    /**
+     * 把访问路径换成存储键（按哈希分目录），再交给默认的 PathResourceResolver 查找文件；
+     * 以 . 开头的暂存目录（.tmp、.chunks、.cache）和成绩快照的 latest 版本指针（内容会变）不对外提供；
+     * 受保护目录下的文件只有签名校验通过（{@link SignedDownloadFilter}）后才输出，按实际存储键判断，与访问路径的写法无关
+     */
+    static class StorageKeyResolver extends AbstractResourceResolver {
+
+        private final DownloadSignatureManager downloadSignatureManager;
+
+        /**
+         * 资源处理器映射的子目录（相对 /uploads/），如 results/
+         */
+        private final String folder;
+
+        StorageKeyResolver(DownloadSignatureManager downloadSignatureManager, String folder) {
+            this.downloadSignatureManager = downloadSignatureManager;
+            this.folder = folder;
+        }
+
+        @Override
+        protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                                   List<? extends Resource> locations, ResourceResolverChain chain) {
+            if (requestPath.startsWith(".") || requestPath.endsWith("/latest") || "latest".equals(requestPath)) {
+                return null;
+            }
+            String key = FileStorage.keyOf(requestPath);
+            if (downloadSignatureManager.isProtectedKey(folder + key)
+                    && (request == null || request.getAttribute(DownloadSignatureManager.VERIFIED_ATTRIBUTE) == null)) {
+                return null;
+            }
+            return chain.resolveResource(request, key, locations);
+        }
+
+        @Override
+        protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                                ResourceResolverChain chain) {
+            return chain.resolveUrlPath(FileStorage.keyOf(resourceUrlPath), locations) != null
+                    ? resourceUrlPath : null;
+        }
     }
 }
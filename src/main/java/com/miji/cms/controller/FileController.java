@@ -4,19 +4,33 @@ import com.miji.cms.common.BaseResponse;
 import com.miji.cms.common.ErrorCode;
 import com.miji.cms.common.ResultUtils;
 import com.miji.cms.exception.BusinessException;
+import com.miji.cms.manager.FileDownloadManager;
+import com.miji.cms.manager.FileStorage;
 import com.miji.cms.model.domain.Submission;
+import com.miji.cms.model.request.ArchiveManifestVO;
+import com.miji.cms.model.request.BandwidthStatsVO;
+import com.miji.cms.model.request.ChunkUploadInitRequest;
+import com.miji.cms.model.request.ChunkUploadVO;
+import com.miji.cms.model.request.StorageMigrationVO;
+import com.miji.cms.model.request.StorageUsageVO;
+import com.miji.cms.model.request.UploadAdmissionVO;
+import com.miji.cms.model.request.UploadCleanupVO;
+import com.miji.cms.model.request.UploadProcessingStatsVO;
+import com.miji.cms.model.request.UploadProcessingVO;
 import com.miji.cms.service.FileUploadService;
 import com.miji.cms.service.SubmissionService;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.annotation.Resource;
-import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.*;
+import java.io.File;
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * 文件接口
@@ -29,12 +43,16 @@ public class FileController {
     @Resource
     private FileUploadService fileUploadService;
 
-    @Value("${file.upload-path}")
-    private String uploadPath;
+    @Resource
+    private FileStorage fileStorage;
 
     @Resource
     private SubmissionService submissionService;
 
+    @Resource
+    private FileDownloadManager fileDownloadManager;
+
+
 
     /**
      * 视频上传
@@ -42,8 +60,9 @@ public class FileController {
      * @return
      */
     @PostMapping("/upload/video")
-    public BaseResponse<String> uploadVideo(@RequestParam("file") MultipartFile file) {
-        String url = fileUploadService.uploadVideo(file);
+    public BaseResponse<String> uploadVideo(@RequestParam("file") MultipartFile file,
+                                            HttpServletRequest request) {
+        String url = fileUploadService.uploadVideo(file, request);
         return ResultUtils.success(url);
     }
 
@@ -53,8 +72,9 @@ public class FileController {
      * @return
      */
     @PostMapping("/upload/image")
-    public BaseResponse<String> uploadImage(@RequestParam("file") MultipartFile file) {
-        String url = fileUploadService.uploadImage(file);
+    public BaseResponse<String> uploadImage(@RequestParam("file") MultipartFile file,
+                                            HttpServletRequest request) {
+        String url = fileUploadService.uploadImage(file, request);
         return ResultUtils.success(url);
     }
 
@@ -64,38 +84,227 @@ public class FileController {
      * @return
      */
     @PostMapping("/upload/file")
-    public BaseResponse<String> uploadFile(@RequestParam("file") MultipartFile file) {
-        String url = fileUploadService.uploadFile(file);
+    public BaseResponse<String> uploadFile(@RequestParam("file") MultipartFile file,
+                                           HttpServletRequest request) {
+        String url = fileUploadService.uploadFile(file, request);
         return ResultUtils.success(url);
     }
 
     /**
-     * 文件下载
+     * 图片缩略图（列表页的封面、头像），按需生成并缓存；源图不会被修改，允许长期缓存
+     * @param url 图片地址，如 /uploads/images/xx.png
+     * @param width 期望宽度（像素），取不小于它的最近一档
+     * @param format jpg 或 png，可为空
+     * @param request
+     * @param response
+     */
+    @GetMapping("/image")
+    public void getImageVariant(
+            @RequestParam String url,
+            @RequestParam Integer width,
+            @RequestParam(required = false) String format,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        File file = fileUploadService.getImageVariant(url, width, format);
+        String contentType = file.getName().endsWith(".png") ? "image/png" : "image/jpeg";
+        try {
+            response.setHeader("Cache-Control", "public, max-age=31536000, immutable");
+            fileDownloadManager.send(file, contentType, request, response);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "图片读取失败");
+        }
+    }
+
+    /**
+     * 初始化分片上传（大文件、可断点续传）
+     * @param request
+     * @param httpRequest
+     * @return
+     */
+    @PostMapping("/upload/chunk/init")
+    public BaseResponse<ChunkUploadVO> initChunkUpload(
+            @RequestBody ChunkUploadInitRequest request,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(fileUploadService.initChunkUpload(request, httpRequest));
+    }
+
+    /**
+     * 上传分片，请求体为分片的原始字节（不使用 multipart）
+     * @param uploadId
+     * @param index 分片序号，从 0 开始
+     * @param httpRequest
+     * @return
+     */
+    @PutMapping("/upload/chunk")
+    public BaseResponse<Boolean> uploadChunk(
+            @RequestParam String uploadId,
+            @RequestParam Integer index,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(fileUploadService.uploadChunk(uploadId, index, httpRequest));
+    }
+
+    /**
+     * 查询分片上传状态（断点续传）
+     * @param uploadId
+     * @return
+     */
+    @GetMapping("/upload/chunk")
+    public BaseResponse<ChunkUploadVO> getChunkUpload(@RequestParam String uploadId) {
+        return ResultUtils.success(fileUploadService.getChunkUpload(uploadId));
+    }
+
+    /**
+     * 完成分片上传，返回文件 URL
+     * @param uploadId
+     * @return
+     */
+    @PostMapping("/upload/chunk/complete")
+    public BaseResponse<String> completeChunkUpload(@RequestParam String uploadId) {
+        return ResultUtils.success(fileUploadService.completeChunkUpload(uploadId));
+    }
+
+    /**
+     * 取消分片上传
+     * @param uploadId
+     * @return
+     */
+    @PostMapping("/upload/chunk/abort")
+    public BaseResponse<Boolean> abortChunkUpload(@RequestParam String uploadId) {
+        return ResultUtils.success(fileUploadService.abortChunkUpload(uploadId));
+    }
+
+    /**
+     * 开始迁移已有上传文件到当前存储（分目录存放 / 对象存储），管理员
+     * @param request
+     * @return 已有迁移在进行时返回 false
+     */
+    @PostMapping("/storage/migrate")
+    public BaseResponse<Boolean> startStorageMigration(HttpServletRequest request) {
+        return ResultUtils.success(fileUploadService.startStorageMigration(request));
+    }
+
+    /**
+     * 查询存储迁移进度，管理员
+     * @param request
+     * @return
+     */
+    @GetMapping("/storage/migrate")
+    public BaseResponse<StorageMigrationVO> getStorageMigrationStatus(HttpServletRequest request) {
+        return ResultUtils.success(fileUploadService.getStorageMigrationStatus(request));
+    }
+
+    /**
+     * 立即清理无引用的上传文件（平时每天定时执行），管理员
+     * @param request
+     * @return 已有清理在进行时返回 false
+     */
+    @PostMapping("/storage/cleanup")
+    public BaseResponse<Boolean> startUploadCleanup(HttpServletRequest request) {
+        return ResultUtils.success(fileUploadService.startUploadCleanup(request));
+    }
+
+    /**
+     * 查询最近一次无引用文件清理的结果，管理员
+     * @param request
+     * @return
+     */
+    @GetMapping("/storage/cleanup")
+    public BaseResponse<UploadCleanupVO> getUploadCleanupStatus(HttpServletRequest request) {
+        return ResultUtils.success(fileUploadService.getUploadCleanupStatus(request));
+    }
+
+    /**
+     * 查询存储用量（按占用从大到小），管理员
+     * @param scopeType user 或 competition
+     * @param scopeId 用户ID或竞赛ID，为空时列出占用最多的前 limit 个
+     * @param limit 默认 20
+     * @param request
+     * @return
+     */
+    @GetMapping("/storage/usage")
+    public BaseResponse<List<StorageUsageVO>> getStorageUsage(
+            @RequestParam String scopeType,
+            @RequestParam(required = false) Long scopeId,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return ResultUtils.success(fileUploadService.getStorageUsage(scopeType, scopeId, limit, request));
+    }
+
+    /**
+     * 查询下载限速统计（限速输出的字节数与等待时长），管理员
+     * @param request
+     * @return
+     */
+    @GetMapping("/bandwidth")
+    public BaseResponse<BandwidthStatsVO> getBandwidthStats(HttpServletRequest request) {
+        return ResultUtils.success(fileUploadService.getBandwidthStats(request));
+    }
+
+    /**
+     * 查询上传准入控制状态（进行中的上传、排队数、拒绝数），管理员
+     * @param request
+     * @return
+     */
+    @GetMapping("/admission")
+    public BaseResponse<UploadAdmissionVO> getUploadAdmissionStatus(HttpServletRequest request) {
+        return ResultUtils.success(fileUploadService.getUploadAdmissionStatus(request));
+    }
+
+    /**
+     * 查询上传文件的后台处理状态（元数据、缩略图、压缩包目录），上传后轮询；作品文件权限同作品下载
+     * @param url 上传接口返回的文件地址
+     * @param request
+     * @return
+     */
+    @GetMapping("/processing")
+    public BaseResponse<UploadProcessingVO> getUploadProcessing(@RequestParam String url, HttpServletRequest request) {
+        // 作品压缩包的条目数、解压大小等不能对外公开
+        submissionService.checkFileReadable(url, request);
+        return ResultUtils.success(fileUploadService.getUploadProcessing(url));
+    }
+
+    /**
+     * 查询上传后台处理队列状态，管理员
+     * @param request
+     * @return
+     */
+    @GetMapping("/processing/stats")
+    public BaseResponse<UploadProcessingStatsVO> getUploadProcessingStats(HttpServletRequest request) {
+        return ResultUtils.success(fileUploadService.getUploadProcessingStats(request));
+    }
+
+    /**
+     * 文件下载（支持断点续传与缓存校验），限提交人、队伍成员、竞赛创建者/评委和管理员
      * @param submissionId
+     * @param request
      * @param response
      */
     @GetMapping("/download")
     public void downloadFile(
             @RequestParam Long submissionId,
+            HttpServletRequest request,
             HttpServletResponse response) {
 
-        Submission submission = submissionService.getById(submissionId);
-        if (submission == null || submission.getIsDelete() == 1) {
-            throw new BusinessException(ErrorCode.PARAMS_ERROR, "提交不存在");
-        }
-
+        // 先鉴权，之后的跳转、转交给反向代理和应用输出三种方式都不再校验
+        Submission submission = submissionService.getDownloadableSubmission(submissionId, request);
         String fileUrl = submission.getFileUrl();
-        if (fileUrl == null) {
-            throw new BusinessException(ErrorCode.PARAMS_ERROR, "提交记录没有文件");
-        }
-
-        // uploadPath 示例：D:/cms/uploads
-        String basePath = uploadPath;
 
-        // fileUrl 示例：/uploads/files/xx.pdf
-        String relativePath = fileUrl.replaceFirst("/uploads/", "");   // => files/xx.pdf
-        File file = new File(basePath, relativePath);
+        // fileUrl 示例：/uploads/files/xx.pdf，存储键见 FileStorage.keyOf
+        String key = FileStorage.keyOf(fileUrl);
+        // 按内容哈希存储的文件使用提交时的原始文件名
+        String fileName = StringUtils.hasText(submission.getFileName())
+                ? submission.getFileName() : key.substring(key.lastIndexOf('/') + 1);
 
+        File file = fileStorage.getLocalFile(key);
+        if (file == null) {
+            // 远程存储：跳转到对象存储的限时地址，文件不经过应用节点
+            try {
+                response.sendRedirect(fileStorage.getDownloadUrl(key, fileName));
+            } catch (IOException e) {
+                throw new BusinessException(ErrorCode.SYSTEM_ERROR, "文件下载失败");
+            }
+            return;
+        }
         if (!file.exists()) {
             throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件不存在");
         }
@@ -104,12 +313,7 @@ public class FileController {
             // 避免影响之前 header
             response.reset();
 
-            // 强制下载，不看类型
-            response.setContentType("application/octet-stream");
-            response.setContentLengthLong(file.length());
-
             // 解决下载中文文件名乱码
-            String fileName = file.getName();
             String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
                     .replaceAll("\\+", "%20");
 
@@ -120,16 +324,9 @@ public class FileController {
             );
             response.setHeader("Content-Disposition", contentDisposition);
 
-            // 输出文件流
-            try (BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file));
-                 ServletOutputStream os = response.getOutputStream()) {
-
-                byte[] buffer = new byte[1024];
-                int len;
-                while ((len = bis.read(buffer)) != -1) {
-                    os.write(buffer, 0, len);
-                }
-                os.flush();
+            // 强制下载，不看类型；开启转交模式时由反向代理输出文件
+            if (!fileDownloadManager.offload(file, key, "application/octet-stream", response)) {
+                fileDownloadManager.send(file, "application/octet-stream", request, response);
             }
 
         } catch (IOException e) {
@@ -137,4 +334,47 @@ public class FileController {
         }
     }
 
+    /**
+     * 打包下载竞赛的全部提交作品（竞赛创建者/评委），ZIP 边读边写，大小不受限制
+     * @param competitionId
+     * @param status 只打包指定状态的提交（0-待评审，1-已评分），可为空
+     * @param request
+     * @param response
+     */
+    @GetMapping("/download/bundle")
+    public void downloadSubmissionBundle(
+            @RequestParam Long competitionId,
+            @RequestParam(required = false) Integer status,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        submissionService.downloadSubmissionBundle(competitionId, status, request, response);
+    }
+    /**
+     * 压缩包作品的文件列表（只读取 ZIP 目录，不下载整个文件；结果会缓存），权限同作品下载
+     * @param submissionId
+     * @param request
+     * @return
+     */
+    @GetMapping("/archive/manifest")
+    public BaseResponse<ArchiveManifestVO> getArchiveManifest(@RequestParam Long submissionId,
+                                                              HttpServletRequest request) {
+        return ResultUtils.success(submissionService.getArchiveManifest(submissionId, request));
+    }
+
+    /**
+     * 下载压缩包作品中的单个文件，只读取该文件在压缩包中的部分，权限同作品下载
+     * @param submissionId
+     * @param name 包内路径，取自文件列表
+     * @param request
+     * @param response
+     */
+    @GetMapping("/archive/entry")
+    public void downloadArchiveEntry(
+            @RequestParam Long submissionId,
+            @RequestParam String name,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        submissionService.downloadArchiveEntry(submissionId, name, request, response);
+    }
+
 }
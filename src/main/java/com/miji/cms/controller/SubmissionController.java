@@ -4,18 +4,28 @@ import com.miji.cms.common.BaseResponse;
 import com.miji.cms.common.ErrorCode;
 import com.miji.cms.common.ResultUtils;
 import com.miji.cms.exception.BusinessException;
+import com.miji.cms.manager.ResultSnapshotManager;
+import com.miji.cms.model.domain.CompetitionJudge;
 import com.miji.cms.model.domain.Submission;
+import com.miji.cms.model.domain.SubmissionJudgeScore;
 import com.miji.cms.model.request.SubmissionRankVO;
+import com.miji.cms.model.request.SubmissionScoreBatchRequest;
+import com.miji.cms.model.request.SubmissionScoreImportResultVO;
+import com.miji.cms.model.request.SubmissionScoreResultVO;
+import com.miji.cms.model.request.SubmissionScoreStatsVO;
 import com.miji.cms.model.request.SubmissionSubmitRequest;
 import com.miji.cms.model.request.SubmissionQueryRequest;
 import com.miji.cms.service.SubmissionService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.annotation.Resource;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -51,6 +61,16 @@ public class SubmissionController {
         return ResultUtils.success(submissionId);
     }
 
+    /**
+     * 使用分片上传的文件提交作品（先通过 /file/upload/chunk/* 以 submission 类型上传）
+     */
+    @PostMapping("/submit/chunked")
+    public BaseResponse<Long> submitWorkByUpload(
+            @RequestBody SubmissionSubmitRequest request,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.submitWorkByUpload(request, httpRequest));
+    }
+
     /**
      * 查询提交列表
      */
@@ -76,7 +96,7 @@ public class SubmissionController {
     }
 
     /**
-     * 管理员评分
+     * 评委评分
      */
     @PostMapping("/score")
     public BaseResponse<Boolean> scoreSubmission(
@@ -89,22 +109,215 @@ public class SubmissionController {
     }
 
     /**
-     * 成绩榜单（按照分数从高到低）
+     * 批量评分（竞赛创建者、该竞赛评委或管理员；无权限的条目逐条返回失败）
+     */
+    @PostMapping("/score/batch")
+    public BaseResponse<List<SubmissionScoreResultVO>> scoreSubmissionBatch(
+            @RequestBody SubmissionScoreBatchRequest request,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.scoreSubmissionBatch(request, httpRequest));
+    }
+
+    /**
+     * 添加评委
+     */
+    @PostMapping("/judge/add")
+    public BaseResponse<Boolean> addJudge(
+            @RequestParam Long competitionId,
+            @RequestParam Long userId,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.addJudge(competitionId, userId, httpRequest));
+    }
+
+    /**
+     * 移除评委
+     */
+    @PostMapping("/judge/remove")
+    public BaseResponse<Boolean> removeJudge(
+            @RequestParam Long competitionId,
+            @RequestParam Long userId,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.removeJudge(competitionId, userId, httpRequest));
+    }
+
+    /**
+     * 评委列表
+     */
+    @GetMapping("/judge/list")
+    public BaseResponse<List<CompetitionJudge>> listJudges(@RequestParam Long competitionId) {
+        return ResultUtils.success(submissionService.listJudges(competitionId));
+    }
+
+    /**
+     * 查询提交的各评委评分
+     */
+    @GetMapping("/score/judges")
+    public BaseResponse<List<SubmissionJudgeScore>> listJudgeScores(
+            @RequestParam Long submissionId,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.listJudgeScores(submissionId, httpRequest));
+    }
+
+    /**
+     * 领取待评审提交
+     */
+    @PostMapping("/queue/lease")
+    public BaseResponse<List<Submission>> leaseSubmissions(
+            @RequestParam Long competitionId,
+            @RequestParam(defaultValue = "10") Integer count,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.leaseSubmissions(competitionId, count, httpRequest));
+    }
+
+    /**
+     * 归还未评审的提交
+     */
+    @PostMapping("/queue/release")
+    public BaseResponse<Boolean> releaseSubmissions(
+            @RequestParam Long competitionId,
+            @RequestBody List<Long> submissionIds,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.releaseSubmissions(competitionId, submissionIds, httpRequest));
+    }
+
+    /**
+     * 成绩分布统计
+     */
+    @GetMapping("/score/stats")
+    public BaseResponse<SubmissionScoreStatsVO> getScoreStats(
+            @RequestParam Long competitionId,
+            @RequestParam(required = false) List<Double> percentiles,
+            @RequestParam(defaultValue = "10") Integer bucketWidth) {
+        return ResultUtils.success(submissionService.getScoreStats(competitionId, percentiles, bucketWidth));
+    }
+
+    /**
+     * 重建成绩分布统计
+     */
+    @PostMapping("/score/stats/rebuild")
+    public BaseResponse<Boolean> rebuildScoreStats(
+            @RequestParam Long competitionId,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.rebuildScoreStats(competitionId, httpRequest));
+    }
+
+    /**
+     * 成绩榜单（按照分数从高到低；成绩已发布时跳转到静态快照）
      */
     @GetMapping("/rank")
     public BaseResponse<List<SubmissionRankVO>> getCompetitionRank(
-            @RequestParam Long competitionId) {
+            @RequestParam Long competitionId,
+            HttpServletRequest httpRequest,
+            HttpServletResponse response) throws IOException {
+        // 已发布的竞赛直接跳转到静态快照
+        String url = submissionService.getPublishedResultUrl(competitionId, ResultSnapshotManager.TYPE_JSON);
+        if (url != null) {
+            response.sendRedirect(httpRequest.getContextPath() + url);
+            return null;
+        }
         return ResultUtils.success(submissionService.getCompetitionRank(competitionId));
     }
 
     /**
-     * 导出成绩表为 Excel
+     * 发布最终成绩（生成静态榜单快照）
+     */
+    @PostMapping("/result/publish")
+    public BaseResponse<Boolean> publishResult(
+            @RequestParam Long competitionId,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.publishResult(competitionId, httpRequest));
+    }
+
+    /**
+     * 撤销成绩发布
+     */
+    @PostMapping("/result/unpublish")
+    public BaseResponse<Boolean> unpublishResult(
+            @RequestParam Long competitionId,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.unpublishResult(competitionId, httpRequest));
+    }
+
+    /**
+     * 榜单前 k 名
+     */
+    @GetMapping("/rank/top")
+    public BaseResponse<List<SubmissionRankVO>> listRankTop(
+            @RequestParam Long competitionId,
+            @RequestParam(defaultValue = "10") Integer k) {
+        return ResultUtils.success(submissionService.listRankTop(competitionId, k));
+    }
+
+    /**
+     * 实时榜单（SSE），事件 snapshot 为完整的前 k 名，事件 delta 为名次变化
+     */
+    @GetMapping(value = "/rank/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLiveRank(
+            @RequestParam Long competitionId,
+            @RequestParam(defaultValue = "10") Integer k) {
+        return submissionService.subscribeLiveRank(competitionId, k);
+    }
+
+    /**
+     * 榜单分页
+     */
+    @GetMapping("/rank/page")
+    public BaseResponse<List<SubmissionRankVO>> listRankPage(
+            @RequestParam Long competitionId,
+            @RequestParam(defaultValue = "1") Integer current,
+            @RequestParam(defaultValue = "20") Integer pageSize) {
+        return ResultUtils.success(submissionService.listRankPage(competitionId, current, pageSize));
+    }
+
+    /**
+     * 查询某个提交的名次及前后名次
+     */
+    @GetMapping("/rank/around")
+    public BaseResponse<List<SubmissionRankVO>> listRankAround(
+            @RequestParam Long competitionId,
+            @RequestParam Long submissionId,
+            @RequestParam(defaultValue = "5") Integer radius) {
+        return ResultUtils.success(submissionService.listRankAround(competitionId, submissionId, radius));
+    }
+
+    /**
+     * 重建排名索引（竞赛创建者/管理员）
+     */
+    @PostMapping("/rank/rebuild")
+    public BaseResponse<Boolean> rebuildRankIndex(
+            @RequestParam Long competitionId,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.rebuildRankIndex(competitionId, httpRequest));
+    }
+
+    /**
+     * 导出成绩表为 Excel（stream=true 时使用流式导出，适合大竞赛；成绩已发布时跳转到静态快照）
      */
     @GetMapping("/export")
     public void exportCompetitionScore(
             @RequestParam Long competitionId,
-            HttpServletResponse response) {
-        submissionService.exportCompetitionScore(competitionId, response);
+            @RequestParam(defaultValue = "false") Boolean stream,
+            HttpServletRequest httpRequest,
+            HttpServletResponse response) throws IOException {
+        String url = submissionService.getPublishedResultUrl(competitionId, ResultSnapshotManager.TYPE_XLSX);
+        if (url != null) {
+            response.sendRedirect(httpRequest.getContextPath() + url);
+        } else if (Boolean.TRUE.equals(stream)) {
+            submissionService.exportCompetitionScoreStream(competitionId, response);
+        } else {
+            submissionService.exportCompetitionScore(competitionId, response);
+        }
+    }
+
+    /**
+     * 从 Excel 导入成绩，竞赛创建者、评委或管理员（表头需包含 submissionId、score 列，可直接使用导出的成绩表）
+     */
+    @PostMapping("/import")
+    public BaseResponse<SubmissionScoreImportResultVO> importCompetitionScore(
+            @RequestParam Long competitionId,
+            @RequestParam("file") MultipartFile file,
+            HttpServletRequest httpRequest) {
+        return ResultUtils.success(submissionService.importCompetitionScore(competitionId, file, httpRequest));
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.miji.cms.controller;
+
+import com.miji.cms.manager.DownloadSignatureManager;
+import com.miji.cms.manager.FileStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.annotation.Resource;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 远程存储（storage.type=s3）时的 /uploads/** 访问：跳转到对象存储的限时地址
+ */
+@RestController
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class UploadRedirectController {
+
+    private static final String UPLOAD_PREFIX = "/uploads/";
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Resource
+    private FileStorage fileStorage;
+
+    @GetMapping(UPLOAD_PREFIX + "**")
+    public void redirect(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = urlPathHelper.getPathWithinApplication(request).substring(UPLOAD_PREFIX.length());
+        if (path.isEmpty() || path.contains("..") || path.startsWith(".")) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        // 签名地址校验通过时带上下载文件名
+        String fileName = (String) request.getAttribute(DownloadSignatureManager.FILE_NAME_ATTRIBUTE);
+        response.sendRedirect(fileStorage.getDownloadUrl(FileStorage.keyOf(path), fileName));
+    }
+}
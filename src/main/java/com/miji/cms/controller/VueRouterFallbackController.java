@@ -1,20 +1,55 @@
 package com.miji.cms.controller;
 
+import com.miji.cms.manager.StaticAssetManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.annotation.Resource;
+import java.nio.charset.StandardCharsets;
 
 @Controller
 public class VueRouterFallbackController {
 
+    @Resource
+    private StaticAssetManager staticAssetManager;
+
+    /**
+     * 前端路由统一返回内存中的 index.html；内容随发布变化，每次使用前按 ETag 校验
+     */
     @RequestMapping({
-            "/", "/news", "/courses", "/about", "/profile",
+            "/", "/index.html", "/news", "/courses", "/about", "/profile",
             "/admin/**", "/competitions", "/competitions/{id}",
             "/team-detail", "/my-competitions", "/recruitments",
             "/recruitments/{id}", "/submissions/{competitionId}",
             "/rankings/{competitionId}"
             // 可以只列出你路由中存在的路径，或者用通配
     })
-    public String forwardToIndex() {
-        return "forward:/index.html";
+    public ResponseEntity<byte[]> index(WebRequest request) {
+        StaticAssetManager.IndexPage page = staticAssetManager.getIndexPage();
+        if (page == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? page.getGzipEtag() : page.getEtag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(page.getGzipContent());
+        }
+        return response.body(page.getContent());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,369 @@
+package com.miji.cms.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miji.cms.common.ErrorCode;
+import com.miji.cms.exception.BusinessException;
+import com.miji.cms.model.request.ArchiveEntryVO;
+import com.miji.cms.model.request.ArchiveManifestVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 压缩包预览：不下载整个文件，只按需读取 ZIP 中央目录列出文件，或单独读取其中一个条目
+ * <p>
+ * 先读取文件末尾（最多 64 KiB + 22 字节）找到目录结束记录（含 ZIP64），再按偏移读取中央目录；
+ * 读取单个条目时只读取它的本地文件头和压缩数据。本地与远程存储都按区间读取。
+ * 文件列表以 JSON 缓存在 {file.upload-path}/.cache/manifests，源文件不会被修改，缓存无需失效，
+ * 只在源文件被清理时一并删除
+ */
+@Component
+public class ArchiveManifestManager {
+
+    static final String CACHE_FOLDER = ".cache/manifests";
+
+    /**
+     * 最多列出的条目数
+     */
+    static final int MAX_ENTRIES = 10000;
+
+    /**
+     * 列出条目的文件名总字节数上限，防止构造的压缩包占用过多内存
+     */
+    static final int MAX_NAME_BYTES = 4 * 1024 * 1024;
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+    private static final int ZIP64_EOCD_SIGNATURE = 0x06064b50;
+
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int EOCD_LENGTH = 22;
+
+    private static final int ZIP64_LOCATOR_LENGTH = 20;
+
+    private static final int ZIP64_EOCD_LENGTH = 56;
+
+    private static final int CENTRAL_HEADER_LENGTH = 46;
+
+    private static final int LOCAL_HEADER_LENGTH = 30;
+
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    /**
+     * 未设置 UTF-8 标志的文件名多为 Windows 中文环境下打包的 GBK 编码
+     */
+    private static final Charset LEGACY_CHARSET = Charset.forName("GBK");
+
+    @Value("${file.upload-path}")
+    private String uploadPath;
+
+    @Resource
+    private FileStorage fileStorage;
+
+    @Resource
+    private ObjectMapper objectMapper;
+
+    /**
+     * 获取压缩包文件列表，没有缓存时读取中央目录
+     *
+     * @param fileUrl 压缩包地址 /uploads/...
+     */
+    public ArchiveManifestVO getManifest(String fileUrl) throws IOException {
+        Path cache = cachePath(fileUrl);
+        if (Files.exists(cache)) {
+            return objectMapper.readValue(cache.toFile(), ArchiveManifestVO.class);
+        }
+        ArchiveManifestVO manifest = readManifest(fileUrl);
+
+        Files.createDirectories(cache.getParent());
+        Path temp = Files.createTempFile(cache.getParent(), "manifest-", ".tmp");
+        try {
+            objectMapper.writeValue(temp.toFile(), manifest);
+            Files.move(temp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return manifest;
+    }
+
+    /**
+     * 按包内路径查找条目
+     */
+    public ArchiveEntryVO getEntry(String fileUrl, String name) throws IOException {
+        for (ArchiveEntryVO entry : getManifest(fileUrl).getEntries()) {
+            if (entry.getName().equals(name)) {
+                return entry;
+            }
+        }
+        throw new BusinessException(ErrorCode.PARAMS_ERROR, "压缩包中没有该文件");
+    }
+
+    /**
+     * 读取单个条目解压后的内容（最多 {@link ArchiveEntryVO#getSize()} 字节）
+     */
+    public InputStream openEntry(String fileUrl, ArchiveEntryVO entry) throws IOException {
+        if (entry.getDirectory()) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "不能读取目录");
+        }
+        if (entry.getEncrypted() || (entry.getMethod() != 0 && entry.getMethod() != 8)) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "不支持读取加密或使用其他压缩方式的文件");
+        }
+        String key = FileStorage.keyOf(fileUrl);
+        ByteBuffer header;
+        try (InputStream in = fileStorage.open(key, entry.getOffset(), LOCAL_HEADER_LENGTH)) {
+            header = littleEndian(in.readNBytes(LOCAL_HEADER_LENGTH));
+        }
+        if (header.limit() < LOCAL_HEADER_LENGTH || header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "压缩包已损坏");
+        }
+        long dataOffset = entry.getOffset() + LOCAL_HEADER_LENGTH
+                + Short.toUnsignedInt(header.getShort(26)) + Short.toUnsignedInt(header.getShort(28));
+
+        InputStream data = fileStorage.open(key, dataOffset, entry.getCompressedSize());
+        if (entry.getMethod() == 0) {
+            return data;
+        }
+        // 无头部的 DEFLATE 数据末尾需要补一个字节，Inflater 才能识别结束
+        InputStream padded = new SequenceInputStream(data, new ByteArrayInputStream(new byte[1]));
+        Inflater inflater = new Inflater(true);
+        return new LimitedInputStream(new InflaterInputStream(padded, inflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        }, entry.getSize());
+    }
+
+    /**
+     * 删除压缩包的文件列表缓存
+     */
+    public void evict(String fileUrl) throws IOException {
+        Files.deleteIfExists(cachePath(fileUrl));
+    }
+
+    ArchiveManifestVO readManifest(String fileUrl) throws IOException {
+        String key = FileStorage.keyOf(fileUrl);
+        long fileSize = fileStorage.size(key);
+
+        // 目录结束记录在文件末尾，后面最多跟 64 KiB 的注释
+        long tailStart = Math.max(0, fileSize - EOCD_LENGTH - MAX_COMMENT_LENGTH);
+        byte[] tailBytes;
+        try (InputStream in = fileStorage.open(key, tailStart, fileSize - tailStart)) {
+            tailBytes = in.readAllBytes();
+        }
+        ByteBuffer tail = littleEndian(tailBytes);
+        int eocd = findEndOfCentralDirectory(tail);
+        if (eocd < 0) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "不是有效的 ZIP 文件");
+        }
+        long entryCount = Short.toUnsignedInt(tail.getShort(eocd + 10));
+        long directorySize = Integer.toUnsignedLong(tail.getInt(eocd + 12));
+        long directoryOffset = Integer.toUnsignedLong(tail.getInt(eocd + 16));
+
+        if (eocd >= ZIP64_LOCATOR_LENGTH && tail.getInt(eocd - ZIP64_LOCATOR_LENGTH) == ZIP64_LOCATOR_SIGNATURE) {
+            long zip64Offset = tail.getLong(eocd - ZIP64_LOCATOR_LENGTH + 8);
+            ByteBuffer zip64;
+            try (InputStream in = fileStorage.open(key, zip64Offset, ZIP64_EOCD_LENGTH)) {
+                zip64 = littleEndian(in.readNBytes(ZIP64_EOCD_LENGTH));
+            }
+            if (zip64.limit() < ZIP64_EOCD_LENGTH || zip64.getInt(0) != ZIP64_EOCD_SIGNATURE) {
+                throw new BusinessException(ErrorCode.PARAMS_ERROR, "压缩包已损坏");
+            }
+            entryCount = zip64.getLong(32);
+            directorySize = zip64.getLong(40);
+            directoryOffset = zip64.getLong(48);
+        }
+        if (directoryOffset < 0 || directorySize < 0 || directoryOffset + directorySize > fileSize) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "压缩包已损坏");
+        }
+
+        ArchiveManifestVO manifest = new ArchiveManifestVO();
+        manifest.setFileUrl(fileUrl);
+        manifest.setFileSize(fileSize);
+        manifest.setEntryCount(entryCount);
+        List<ArchiveEntryVO> entries = new ArrayList<>((int) Math.min(entryCount, MAX_ENTRIES));
+        long totalSize = 0;
+        long nameBytes = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                fileStorage.open(key, directoryOffset, directorySize), 64 * 1024))) {
+            byte[] fixed = new byte[CENTRAL_HEADER_LENGTH];
+            ByteBuffer header = littleEndian(fixed);
+            for (long i = 0; i < entryCount && entries.size() < MAX_ENTRIES && nameBytes < MAX_NAME_BYTES; i++) {
+                in.readFully(fixed);
+                if (header.getInt(0) != CENTRAL_HEADER_SIGNATURE) {
+                    throw new BusinessException(ErrorCode.PARAMS_ERROR, "压缩包已损坏");
+                }
+                byte[] name = new byte[Short.toUnsignedInt(header.getShort(28))];
+                in.readFully(name);
+                byte[] extra = new byte[Short.toUnsignedInt(header.getShort(30))];
+                in.readFully(extra);
+                in.skipNBytes(Short.toUnsignedInt(header.getShort(32)));
+
+                ArchiveEntryVO entry = toEntry(header, name, extra);
+                entries.add(entry);
+                totalSize += entry.getSize();
+                nameBytes += name.length;
+            }
+        }
+        manifest.setEntries(entries);
+        manifest.setTotalSize(totalSize);
+        manifest.setTruncated(entries.size() < entryCount);
+        return manifest;
+    }
+
+    /**
+     * 从末尾向前查找目录结束记录，要求注释长度与剩余字节数一致，避免把注释中的签名当作记录
+     */
+    private static int findEndOfCentralDirectory(ByteBuffer tail) {
+        int fallback = -1;
+        for (int i = tail.limit() - EOCD_LENGTH; i >= 0; i--) {
+            if (tail.getInt(i) != EOCD_SIGNATURE) {
+                continue;
+            }
+            if (i + EOCD_LENGTH + Short.toUnsignedInt(tail.getShort(i + 20)) == tail.limit()) {
+                return i;
+            }
+            if (fallback < 0) {
+                fallback = i;
+            }
+        }
+        return fallback;
+    }
+
+    private static ArchiveEntryVO toEntry(ByteBuffer header, byte[] name, byte[] extra) {
+        int flags = Short.toUnsignedInt(header.getShort(8));
+        long compressedSize = Integer.toUnsignedLong(header.getInt(20));
+        long size = Integer.toUnsignedLong(header.getInt(24));
+        long offset = Integer.toUnsignedLong(header.getInt(42));
+
+        // ZIP64 扩展字段：只包含原字段为 0xFFFFFFFF 的值，依次为解压后大小、压缩后大小、本地文件头偏移
+        ByteBuffer fields = littleEndian(extra);
+        while (fields.remaining() >= 4) {
+            int id = Short.toUnsignedInt(fields.getShort());
+            int length = Short.toUnsignedInt(fields.getShort());
+            if (length > fields.remaining()) {
+                break;
+            }
+            if (id == 0x0001) {
+                ByteBuffer zip64 = fields.slice().order(ByteOrder.LITTLE_ENDIAN);
+                zip64.limit(length);
+                if (size == ZIP64_MAGIC && zip64.remaining() >= 8) {
+                    size = zip64.getLong();
+                }
+                if (compressedSize == ZIP64_MAGIC && zip64.remaining() >= 8) {
+                    compressedSize = zip64.getLong();
+                }
+                if (offset == ZIP64_MAGIC && zip64.remaining() >= 8) {
+                    offset = zip64.getLong();
+                }
+            }
+            fields.position(fields.position() + length);
+        }
+
+        ArchiveEntryVO entry = new ArchiveEntryVO();
+        entry.setName(decodeName(name, (flags & 0x0800) != 0));
+        entry.setDirectory(entry.getName().endsWith("/"));
+        entry.setSize(size);
+        entry.setCompressedSize(compressedSize);
+        entry.setMethod(Short.toUnsignedInt(header.getShort(10)));
+        entry.setEncrypted((flags & 0x0001) != 0);
+        entry.setLastModified(dosTime(Short.toUnsignedInt(header.getShort(14)),
+                Short.toUnsignedInt(header.getShort(12))));
+        entry.setOffset(offset);
+        return entry;
+    }
+
+    /**
+     * 设置了 UTF-8 标志时按 UTF-8 解码；否则先尝试 UTF-8（部分工具不设置标志），失败时按 GBK
+     */
+    static String decodeName(byte[] name, boolean utf8) {
+        if (utf8) {
+            return new String(name, StandardCharsets.UTF_8);
+        }
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(name))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return new String(name, LEGACY_CHARSET);
+        }
+    }
+
+    /**
+     * MS-DOS 日期时间（本地时间，精确到 2 秒），无效时返回 null
+     */
+    static Date dosTime(int date, int time) {
+        try {
+            LocalDateTime dateTime = LocalDateTime.of(((date >> 9) & 0x7F) + 1980, (date >> 5) & 0x0F, date & 0x1F,
+                    (time >> 11) & 0x1F, (time >> 5) & 0x3F, (time & 0x1F) * 2);
+            return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private Path cachePath(String fileUrl) {
+        String name = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+        // 内容寻址的文件名即内容哈希；旧文件名（UUID）同样不会被复用，用地址的哈希
+        String sourceId = FileStorage.HASH_NAME.matcher(name).matches()
+                ? name.substring(0, 64) : sha256(fileUrl);
+        return Paths.get(uploadPath, CACHE_FOLDER, sourceId.substring(0, 2), sourceId + ".json");
+    }
+
+    private static ByteBuffer littleEndian(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
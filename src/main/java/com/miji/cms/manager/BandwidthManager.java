@@ -0,0 +1,192 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.model.request.BandwidthStatsVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 响应限速：用令牌桶控制输出速率，避免大量下载占满网卡、拖慢所有接口
+ * <p>
+ * 文件下载（{@link Traffic#BULK}）与接口响应（{@link Traffic#API}）各有一个全局令牌桶，互不占用；
+ * 文件下载另有单连接上限，防止少数连接抢占全部带宽。速率为 0 时不限速。
+ * 每次最多按 {@link #CHUNK_SIZE} 字节取令牌，输出较为平滑
+ */
+@Component
+public class BandwidthManager {
+
+    static final int CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * 响应类型
+     */
+    public enum Traffic {
+        /**
+         * 文件下载、导出等大流量响应
+         */
+        BULK,
+        /**
+         * 普通接口响应
+         */
+        API
+    }
+
+    @Value("${download.bandwidth.bulk-bytes-per-second:0}")
+    private long bulkBytesPerSecond;
+
+    @Value("${download.bandwidth.per-connection-bytes-per-second:0}")
+    private long perConnectionBytesPerSecond;
+
+    @Value("${download.bandwidth.api-bytes-per-second:0}")
+    private long apiBytesPerSecond;
+
+    /**
+     * 令牌桶最多积攒的时长，决定空闲后允许的突发量
+     */
+    @Value("${download.bandwidth.burst-millis:200}")
+    private long burstMillis;
+
+    LongSupplier nanoClock = System::nanoTime;
+
+    private TokenBucket bulkBucket;
+
+    private TokenBucket apiBucket;
+
+    private final TrafficStats bulkStats = new TrafficStats();
+
+    private final TrafficStats apiStats = new TrafficStats();
+
+    @PostConstruct
+    public void init() {
+        bulkBucket = bucket(bulkBytesPerSecond);
+        apiBucket = bucket(apiBytesPerSecond);
+    }
+
+    /**
+     * 该类型的响应是否需要限速
+     */
+    public boolean isShaped(Traffic traffic) {
+        return traffic == Traffic.BULK ? bulkBucket != null || perConnectionBytesPerSecond > 0 : apiBucket != null;
+    }
+
+    /**
+     * 包装一个响应的输出流；文件下载同时受单连接上限约束
+     */
+    public OutputStream shape(OutputStream out, Traffic traffic) {
+        if (traffic == Traffic.BULK) {
+            return new ShapedOutputStream(out, bucket(perConnectionBytesPerSecond), bulkBucket, bulkStats);
+        }
+        return new ShapedOutputStream(out, null, apiBucket, apiStats);
+    }
+
+    public BandwidthStatsVO getStats() {
+        BandwidthStatsVO vo = new BandwidthStatsVO();
+        vo.setBulkBytesPerSecond(bulkBytesPerSecond);
+        vo.setPerConnectionBytesPerSecond(perConnectionBytesPerSecond);
+        vo.setApiBytesPerSecond(apiBytesPerSecond);
+        vo.setBulkBytes(bulkStats.bytes.get());
+        vo.setBulkThrottledBytes(bulkStats.throttledBytes.get());
+        vo.setBulkWaitMillis(TimeUnit.NANOSECONDS.toMillis(bulkStats.waitNanos.get()));
+        vo.setApiBytes(apiStats.bytes.get());
+        vo.setApiThrottledBytes(apiStats.throttledBytes.get());
+        vo.setApiWaitMillis(TimeUnit.NANOSECONDS.toMillis(apiStats.waitNanos.get()));
+        return vo;
+    }
+
+    private TokenBucket bucket(long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            return null;
+        }
+        // 至少能容纳一次输出，否则单次取令牌总会欠账
+        long capacity = Math.max(CHUNK_SIZE, bytesPerSecond * burstMillis / 1000);
+        return new TokenBucket(bytesPerSecond, capacity, nanoClock);
+    }
+
+    /**
+     * 等待指定时长，被中断时按 IO 中断处理（客户端断开、应用关闭）
+     */
+    void sleep(long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("限速等待被中断");
+        }
+    }
+
+    private static class TrafficStats {
+
+        final AtomicLong bytes = new AtomicLong();
+
+        final AtomicLong throttledBytes = new AtomicLong();
+
+        final AtomicLong waitNanos = new AtomicLong();
+    }
+
+    /**
+     * 先取单连接令牌再取全局令牌，慢连接等待期间不占用全局配额
+     */
+    private class ShapedOutputStream extends FilterOutputStream {
+
+        private final TokenBucket connection;
+
+        private final TokenBucket global;
+
+        private final TrafficStats stats;
+
+        ShapedOutputStream(OutputStream out, TokenBucket connection, TokenBucket global, TrafficStats stats) {
+            super(out);
+            this.connection = connection;
+            this.global = global;
+            this.stats = stats;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            acquire(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int chunk = Math.min(len, CHUNK_SIZE);
+                acquire(chunk);
+                out.write(b, off, chunk);
+                off += chunk;
+                len -= chunk;
+            }
+        }
+
+        private void acquire(int bytes) throws IOException {
+            long waited = 0;
+            if (connection != null) {
+                long wait = connection.reserve(bytes);
+                if (wait > 0) {
+                    sleep(wait);
+                    waited += wait;
+                }
+            }
+            if (global != null) {
+                long wait = global.reserve(bytes);
+                if (wait > 0) {
+                    sleep(wait);
+                    waited += wait;
+                }
+            }
+            stats.bytes.addAndGet(bytes);
+            if (waited > 0) {
+                stats.throttledBytes.addAndGet(bytes);
+                stats.waitNanos.addAndGet(waited);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.miji.cms.manager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 字符串布隆过滤器：mightContain 为 false 时一定不存在，为 true 时有 fpp 的概率误判
+ * <p>
+ * 哈希用 64 位 FNV-1a 的高低两半做双重哈希（Kirsch–Mitzenmacher），不是线程安全的
+ */
+class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 预计元素个数，超出后误判率上升
+     * @param fpp                期望误判率，如 0.001
+     */
+    BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) Math.min((m + 63) >>> 6, Integer.MAX_VALUE - 8)];
+        this.bitCount = (long) bits.length << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long getBitCount() {
+        return bitCount;
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    private long index(int combined) {
+        return (combined & 0xFFFFFFFFL) % bitCount;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        // FNV 低位扩散较弱，再混合一次（MurmurHash3 fmix64）
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9a3ec2b3b5bL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,343 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.common.ErrorCode;
+import com.miji.cms.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 分片上传（可断点续传）
+ * <p>
+ * 初始化时在 {file.upload-path}/.chunks 下预分配与目标文件等长的 .part 文件，每个分片直接从请求体写到
+ * 对应偏移，不经过 multipart 临时文件；已收到的分片记录在同名 .meta 文件中，服务重启后仍可继续上传。
+ * 全部分片到齐后把 .part 文件重命名到目标位置（同一磁盘，不再拷贝）
+ */
+@Component
+public class ChunkUploadManager {
+
+    static final String CHUNK_FOLDER = ".chunks";
+
+    @Value("${file.upload-path}")
+    private String uploadPath;
+
+    private final Map<String, UploadSession> sessionMap = new ConcurrentHashMap<>();
+
+    /**
+     * 创建上传会话并预分配文件
+     */
+    public UploadSession create(String type, String fileName, long fileSize, int chunkSize, Long userId)
+            throws IOException {
+        Files.createDirectories(chunkDir());
+        UploadSession session = new UploadSession(UUID.randomUUID().toString().replace("-", ""),
+                type, fileName, fileSize, chunkSize, userId, new BitSet());
+        try (RandomAccessFile raf = new RandomAccessFile(partPath(session.uploadId).toFile(), "rw")) {
+            raf.setLength(fileSize);
+        }
+        saveMeta(session);
+        sessionMap.put(session.uploadId, session);
+        return session;
+    }
+
+    /**
+     * 查询上传会话，内存中没有时从 .meta 文件恢复；不存在返回 null
+     */
+    public UploadSession get(String uploadId) {
+        if (uploadId == null || !uploadId.matches("[0-9a-f]{32}")) {
+            return null;
+        }
+        return sessionMap.computeIfAbsent(uploadId, this::loadMeta);
+    }
+
+    /**
+     * 把请求体写入第 index 个分片；分片数据长度必须与分片大小一致，重复上传同一分片会覆盖
+     * <p>
+     * 写入期间该分片登记为正在写入：同一分片不能并发写入，会话不能完成或取消；覆盖前先清除已收到标记，
+     * 写入中断时不会把只写了一半的分片当作已收到
+     */
+    public void writeChunk(UploadSession session, int index, InputStream in) throws IOException {
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "分片序号超出范围");
+        }
+        long offset = (long) index * session.chunkSize;
+        long length = Math.min(session.chunkSize, session.fileSize - offset);
+
+        synchronized (session) {
+            if (session.closed) {
+                throw new BusinessException(ErrorCode.PARAMS_ERROR, "上传会话已结束");
+            }
+            if (session.writing.get(index)) {
+                throw new BusinessException(ErrorCode.PARAMS_ERROR, "该分片正在上传，请稍后重试");
+            }
+            session.writing.set(index);
+            if (session.received.get(index)) {
+                session.received.clear(index);
+                try {
+                    saveMeta(session);
+                } catch (IOException | RuntimeException e) {
+                    session.writing.clear(index);
+                    throw e;
+                }
+            }
+        }
+        boolean success = false;
+        try {
+            ReadableByteChannel source = Channels.newChannel(in);
+            try (FileChannel channel = FileChannel.open(partPath(session.uploadId), StandardOpenOption.WRITE)) {
+                long written = 0;
+                while (written < length) {
+                    long n = channel.transferFrom(source, offset + written, length - written);
+                    if (n <= 0) {
+                        break;
+                    }
+                    written += n;
+                }
+                if (written < length || in.read() != -1) {
+                    throw new BusinessException(ErrorCode.PARAMS_ERROR, "分片大小不正确，应为 " + length + " 字节");
+                }
+            }
+            success = true;
+        } finally {
+            synchronized (session) {
+                session.writing.clear(index);
+                if (success) {
+                    session.received.set(index);
+                    saveMeta(session);
+                }
+            }
+        }
+    }
+
+    /**
+     * 全部分片到齐后移动到目标位置并结束会话
+     */
+    public void complete(UploadSession session, Path target) throws IOException {
+        synchronized (session) {
+            checkIdle(session);
+            if (!session.isComplete()) {
+                throw new BusinessException(ErrorCode.PARAMS_ERROR,
+                        "分片未上传完整，缺少 " + session.getMissingChunks().size() + " 个分片");
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(partPath(session.uploadId), target, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(metaPath(session.uploadId));
+            session.closed = true;
+            sessionMap.remove(session.uploadId);
+        }
+    }
+
+    /**
+     * 放弃上传，删除临时文件
+     */
+    public void abort(UploadSession session) throws IOException {
+        synchronized (session) {
+            checkIdle(session);
+            Files.deleteIfExists(partPath(session.uploadId));
+            Files.deleteIfExists(metaPath(session.uploadId));
+            session.closed = true;
+            sessionMap.remove(session.uploadId);
+        }
+    }
+
+    /**
+     * 会话已结束或仍有分片正在写入时抛出异常；调用方持有会话锁
+     */
+    private static void checkIdle(UploadSession session) {
+        if (session.closed) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "上传会话已结束");
+        }
+        if (!session.writing.isEmpty()) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "仍有分片正在上传，请稍后重试");
+        }
+    }
+
+    /**
+     * 清理 before 之后没有再上传分片的会话（.meta 每收到一个分片更新一次）以及没有 .meta 的残留文件
+     *
+     * @return 清理的会话数
+     */
+    public int purgeExpired(Instant before) throws IOException {
+        Path chunkDir = chunkDir();
+        if (!Files.isDirectory(chunkDir)) {
+            return 0;
+        }
+        int purged = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(chunkDir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String uploadId = name.substring(0, Math.max(name.indexOf('.'), 0));
+                try {
+                    if (!Files.getLastModifiedTime(file).toInstant().isBefore(before)) {
+                        continue;
+                    }
+                    if (name.endsWith(".meta")) {
+                        UploadSession session = get(uploadId);
+                        if (session != null) {
+                            try {
+                                abort(session);
+                                purged++;
+                            } catch (BusinessException e) {
+                                // 仍有分片正在写入或已被其他请求结束
+                            }
+                            continue;
+                        }
+                    } else if (Files.exists(metaPath(uploadId))) {
+                        // 由对应的 .meta 判断
+                        continue;
+                    }
+                    Files.deleteIfExists(file);
+                } catch (NoSuchFileException e) {
+                    // 已随会话一起删除
+                }
+            }
+        }
+        return purged;
+    }
+
+    private Path chunkDir() {
+        return Paths.get(uploadPath, CHUNK_FOLDER);
+    }
+
+    private Path partPath(String uploadId) {
+        return chunkDir().resolve(uploadId + ".part");
+    }
+
+    private Path metaPath(String uploadId) {
+        return chunkDir().resolve(uploadId + ".meta");
+    }
+
+    private void saveMeta(UploadSession session) throws IOException {
+        Properties meta = new Properties();
+        meta.setProperty("type", session.type);
+        meta.setProperty("fileName", session.fileName);
+        meta.setProperty("fileSize", String.valueOf(session.fileSize));
+        meta.setProperty("chunkSize", String.valueOf(session.chunkSize));
+        if (session.userId != null) {
+            meta.setProperty("userId", String.valueOf(session.userId));
+        }
+        meta.setProperty("received", Base64.getEncoder().encodeToString(session.received.toByteArray()));
+
+        Path tmp = chunkDir().resolve(session.uploadId + ".meta.tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp)) {
+            meta.store(writer, null);
+        }
+        Files.move(tmp, metaPath(session.uploadId), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private UploadSession loadMeta(String uploadId) {
+        Path metaPath = metaPath(uploadId);
+        if (!Files.exists(metaPath) || !Files.exists(partPath(uploadId))) {
+            return null;
+        }
+        Properties meta = new Properties();
+        try (Reader reader = Files.newBufferedReader(metaPath)) {
+            meta.load(reader);
+            String userId = meta.getProperty("userId");
+            return new UploadSession(uploadId,
+                    meta.getProperty("type"),
+                    meta.getProperty("fileName"),
+                    Long.parseLong(meta.getProperty("fileSize")),
+                    Integer.parseInt(meta.getProperty("chunkSize")),
+                    userId == null ? null : Long.valueOf(userId),
+                    BitSet.valueOf(Base64.getDecoder().decode(meta.getProperty("received"))));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 上传会话；received、writing、closed 的读写在会话锁内
+     */
+    public static class UploadSession {
+
+        private final String uploadId;
+
+        private final String type;
+
+        private final String fileName;
+
+        private final long fileSize;
+
+        private final int chunkSize;
+
+        private final Long userId;
+
+        private final BitSet received;
+
+        /**
+         * 正在写入的分片
+         */
+        private final BitSet writing = new BitSet();
+
+        /**
+         * 已完成或已取消
+         */
+        private boolean closed;
+
+        UploadSession(String uploadId, String type, String fileName, long fileSize, int chunkSize, Long userId,
+                      BitSet received) {
+            this.uploadId = uploadId;
+            this.type = type;
+            this.fileName = fileName;
+            this.fileSize = fileSize;
+            this.chunkSize = chunkSize;
+            this.userId = userId;
+            this.received = received;
+        }
+
+        public String getUploadId() {
+            return uploadId;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public long getFileSize() {
+            return fileSize;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public int getChunkCount() {
+            return (int) Math.max(1, (fileSize + chunkSize - 1) / chunkSize);
+        }
+
+        public synchronized List<Integer> getReceivedChunks() {
+            List<Integer> list = new ArrayList<>();
+            received.stream().forEach(list::add);
+            return list;
+        }
+
+        public synchronized List<Integer> getMissingChunks() {
+            List<Integer> list = new ArrayList<>();
+            for (int i = received.nextClearBit(0); i < getChunkCount(); i = received.nextClearBit(i + 1)) {
+                list.add(i);
+            }
+            return list;
+        }
+
+        public synchronized boolean isComplete() {
+            return received.cardinality() == getChunkCount();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.mapper.FileBlobMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.Resource;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 内容寻址文件存储
+ * <p>
+ * 上传先写入本地临时文件，计算 SHA-256 后以 /uploads/{folder}/{sha256}.{ext} 为地址存入 {@link FileStorage}；
+ * 目标已存在说明内容相同，直接丢弃临时文件，重复上传不再占用磁盘。每次存储在 file_blob 中引用次数加一，
+ * 引用方（如覆盖旧稿）不再使用时减一。不再被引用的文件不在这里删除，由 {@link UploadCleanupManager} 按宽限期回收，
+ * 避免与同时上传同一内容的请求竞争
+ */
+@Component
+public class ContentStoreManager {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    @Resource
+    private FileStorage fileStorage;
+
+    @Resource
+    private FileBlobMapper fileBlobMapper;
+
+    /**
+     * 创建临时文件，写入后交给 {@link #store(Path, String, String)}
+     */
+    public Path createTempFile() throws IOException {
+        return fileStorage.createTempFile();
+    }
+
+    /**
+     * 按内容存储上传的文件
+     *
+     * @see #store(Path, String, String)
+     */
+    public String store(MultipartFile file, String folder, String extension) throws IOException {
+        Path temp = createTempFile();
+        try {
+            // 容器已将 multipart 落盘时 transferTo 只是重命名
+            file.transferTo(temp.toFile());
+            return store(temp, folder, extension);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 按内容存储临时文件（调用后临时文件已被移动或删除）
+     *
+     * @param folder    上传子目录，如 images、submissions
+     * @param extension 扩展名（不含点），可为空
+     * @return 访问 URL：/uploads/{folder}/{sha256}.{ext}
+     */
+    public String store(Path source, String folder, String extension) throws IOException {
+        long size = Files.size(source);
+        String hash = sha256(source);
+        String fileName = StringUtils.hasText(extension) ? hash + "." + extension : hash;
+        String url = "/uploads/" + folder + "/" + fileName;
+        String key = FileStorage.keyOf(url);
+
+        // 先记录引用再检查文件：清理任务不会删除宽限期内引用次数有变化的文件
+        fileBlobMapper.acquire(url, hash, size, 1);
+        try {
+            if (fileStorage.exists(key)) {
+                // 相同内容已存储
+                Files.delete(source);
+            } else {
+                // 并发上传相同内容时后写入的覆盖先写入的，内容一致
+                fileStorage.put(key, source);
+            }
+        } catch (IOException | RuntimeException e) {
+            fileBlobMapper.release(url);
+            throw e;
+        }
+        return url;
+    }
+
+    /**
+     * 释放一次引用
+     */
+    public void release(String fileUrl) {
+        if (StringUtils.hasText(fileUrl)) {
+            fileBlobMapper.release(fileUrl);
+        }
+    }
+
+    /**
+     * 计算文件 SHA-256（小写十六进制）
+     */
+    static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,167 @@
+package com.miji.cms.manager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 带签名的限时下载地址：/uploads/...?expires=...&name=...&signature=...
+ * <p>
+ * 签名为 HMAC-SHA256(路径, 过期时间, 文件名)，由有权限的列表接口生成，校验只在内存中完成，
+ * 下载时不再查询数据库。过期时间向上取整到 {@link #EXPIRES_STEP_SECONDS}，同一文件在一段时间内
+ * 生成相同的地址，浏览器缓存仍然有效。{@link #protectedFolders} 下的文件必须使用签名地址访问
+ */
+@Slf4j
+@Component
+public class DownloadSignatureManager {
+
+    /**
+     * 校验通过后下载文件名所在的请求属性（远程存储跳转时使用）
+     */
+    public static final String FILE_NAME_ATTRIBUTE = DownloadSignatureManager.class.getName() + ".fileName";
+
+    /**
+     * 签名校验通过时设置的请求属性，输出文件前按存储键再次确认受保护目录的访问
+     */
+    public static final String VERIFIED_ATTRIBUTE = DownloadSignatureManager.class.getName() + ".verified";
+
+    static final long EXPIRES_STEP_SECONDS = 300;
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * 签名密钥，多节点部署时各节点必须相同；为空时启动时随机生成（重启后已发出的地址失效）
+     */
+    @Value("${download.signature.secret:}")
+    private String secret;
+
+    @Value("${download.signature.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    /**
+     * 只能通过签名地址访问的上传目录
+     */
+    @Value("${download.signature.protected-folders:}")
+    private List<String> protectedFolders;
+
+    Clock clock = Clock.systemUTC();
+
+    private SecretKeySpec key;
+
+    @PostConstruct
+    public void init() {
+        byte[] keyBytes;
+        if (StringUtils.hasText(secret)) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        } else {
+            log.warn("未配置 download.signature.secret，使用随机密钥，重启后已发出的下载地址失效");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        }
+        key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    /**
+     * 生成签名地址
+     *
+     * @param fileUrl  文件地址 /uploads/...
+     * @param fileName 下载时的文件名，可为空
+     */
+    public String sign(String fileUrl, String fileName) {
+        String name = StringUtils.hasText(fileName) ? fileName : null;
+        long now = clock.instant().getEpochSecond();
+        long expires = (now + ttlSeconds + EXPIRES_STEP_SECONDS - 1) / EXPIRES_STEP_SECONDS * EXPIRES_STEP_SECONDS;
+        StringBuilder url = new StringBuilder(fileUrl).append("?expires=").append(expires);
+        if (name != null) {
+            url.append("&name=").append(URLEncoder.encode(name, StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+        return url.append("&signature=").append(signature(fileUrl, expires, name)).toString();
+    }
+
+    /**
+     * 校验签名与有效期
+     *
+     * @param path    请求路径（不含 context path）
+     * @param expires 地址中的过期时间（秒）
+     */
+    public boolean verify(String path, String expires, String fileName, String signature) {
+        if (expires == null || signature == null) {
+            return false;
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(expires);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiresAt < clock.instant().getEpochSecond()) {
+            return false;
+        }
+        return MessageDigest.isEqual(signature(path, expiresAt, fileName).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 地址还有多少秒过期（用于响应的缓存时长）
+     */
+    public long remainingSeconds(String expires) {
+        return Math.max(0, Long.parseLong(expires) - clock.instant().getEpochSecond());
+    }
+
+    /**
+     * 路径是否必须使用签名地址访问
+     */
+    public boolean isProtected(String path) {
+        return path.startsWith("/uploads/") && isProtectedKey(path.substring("/uploads/".length()));
+    }
+
+    /**
+     * 存储键（或 /uploads/ 之后的路径）是否位于受保护目录
+     * <p>
+     * 取第一个非空、非 . 的路径段，忽略大小写比较：Windows 等大小写不敏感的文件系统上，
+     * Submissions/ 与 submissions/ 是同一个目录，多余的斜杠也会被静态资源处理去掉
+     */
+    public boolean isProtectedKey(String key) {
+        String[] segments = key.split("/");
+        int first = 0;
+        while (first < segments.length && (segments[first].isEmpty() || ".".equals(segments[first]))) {
+            first++;
+        }
+        // 只判断目录，目录下至少还有一段
+        if (first >= segments.length - 1) {
+            return false;
+        }
+        String folder = segments[first];
+        for (String protectedFolder : protectedFolders) {
+            if (StringUtils.hasText(protectedFolder) && folder.equalsIgnoreCase(protectedFolder.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String signature(String path, long expires, String fileName) {
+        String data = path + "\n" + expires + "\n" + (fileName == null ? "" : fileName);
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.miji.cms.manager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 文件下载输出：支持断点续传（Range / If-Range，单段与多段）、条件请求（ETag / Last-Modified 返回 304）
+ * <p>
+ * 运行在支持 sendfile 的 Tomcat 连接器上时，整文件或单段请求交给 Tomcat 用 sendfile 输出，
+ * 数据不经过 JVM 堆；否则用 {@link FileChannel#transferTo} 写入响应流
+ * <p>
+ * 部署在 nginx / Apache 后面时可开启转交模式（{@link #offload}）：应用只返回响应头，
+ * 由反向代理按 X-Accel-Redirect / X-Sendfile 读取文件并处理 Range、缓存校验
+ */
+@Component
+public class FileDownloadManager {
+
+    /**
+     * 单次请求最多接受的区间数，超出时忽略 Range 返回整个文件
+     */
+    static final int MAX_RANGES = 16;
+
+    public static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    static final String OFFLOAD_X_ACCEL_REDIRECT = "x-accel-redirect";
+
+    static final String OFFLOAD_X_SENDFILE = "x-sendfile";
+
+    /**
+     * 转交模式：none 由应用输出；x-accel-redirect 交给 nginx；x-sendfile 交给 Apache / lighttpd
+     */
+    @Value("${download.offload.mode:none}")
+    private String offloadMode;
+
+    /**
+     * x-accel-redirect 模式下 nginx 中指向上传目录的 internal location
+     */
+    @Value("${download.offload.internal-location:/internal-uploads/}")
+    private String internalLocation;
+
+    /**
+     * 开启转交模式时只设置响应头，文件由反向代理输出（调用方已完成鉴权并设置 Content-Disposition 等响应头）
+     * <p>
+     * 鉴权后的响应标记为 private，代理或 CDN 不会把它缓存给其他用户
+     *
+     * @param key 存储键，x-accel-redirect 模式下拼接到 internal location 之后
+     * @return 未开启转交模式时返回 false，由调用方自行输出
+     */
+    public boolean offload(File file, String key, String contentType, HttpServletResponse response)
+            throws IOException {
+        if (OFFLOAD_X_ACCEL_REDIRECT.equalsIgnoreCase(offloadMode)) {
+            String location = internalLocation.endsWith("/") ? internalLocation : internalLocation + "/";
+            response.setHeader("X-Accel-Redirect", location + UriUtils.encodePath(key, StandardCharsets.UTF_8));
+        } else if (OFFLOAD_X_SENDFILE.equalsIgnoreCase(offloadMode)) {
+            response.setHeader("X-Sendfile", file.getCanonicalPath());
+        } else {
+            return false;
+        }
+        // 代理保留应用给出的 Content-Type、Content-Disposition，自行计算长度与区间
+        response.setContentType(contentType);
+        response.setHeader("Cache-Control", "private");
+        return true;
+    }
+
+    /**
+     * 输出文件（调用方已设置 Content-Disposition 等业务响应头）
+     *
+     * @param contentType 文件内容类型
+     */
+    public void send(File file, String contentType, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = etag(length, lastModified);
+
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Accept-Ranges", "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        List<long[]> ranges = null;
+        String rangeHeader = request.getHeader("Range");
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+            ranges = parseRanges(rangeHeader, length);
+            if (ranges != null && ranges.isEmpty()) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader("Content-Range", "bytes */" + length);
+                return;
+            }
+        }
+
+        boolean head = "HEAD".equalsIgnoreCase(request.getMethod());
+        if (ranges == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!head) {
+                sendBody(file, 0, length, request, response);
+            }
+        } else if (ranges.size() == 1) {
+            long[] range = ranges.get(0);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader("Content-Range", contentRange(range, length));
+            response.setContentLengthLong(range[1] - range[0] + 1);
+            if (!head) {
+                sendBody(file, range[0], range[1] - range[0] + 1, request, response);
+            }
+        } else {
+            sendMultipart(file, contentType, ranges, length, head, response);
+        }
+    }
+
+    /**
+     * 强 ETag：由文件大小和修改时间生成，文件替换后必然变化
+     */
+    static String etag(long length, long lastModified) {
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    /**
+     * If-None-Match 优先；未携带时比较 If-Modified-Since（HTTP 日期精确到秒）
+     */
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, "If-Modified-Since");
+        return ifModifiedSince >= 0 && lastModified / 1000 * 1000 <= ifModifiedSince;
+    }
+
+    /**
+     * 没有 If-Range，或 If-Range 与当前文件一致时才按 Range 返回，否则返回整个文件
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        long date = dateHeader(request, "If-Range");
+        return date >= 0 && lastModified / 1000 * 1000 == date;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 解析 Range 头
+     *
+     * @return 闭区间 [start, end] 列表；语法错误或区间过多返回 null（忽略 Range），没有可满足的区间返回空列表
+     */
+    static List<long[]> parseRanges(String header, long length) {
+        if (!header.startsWith("bytes=")) {
+            return null;
+        }
+        String[] specs = header.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+        List<long[]> ranges = new ArrayList<>();
+        for (String spec : specs) {
+            spec = spec.trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                if (dash == 0) {
+                    // 后缀区间 -n：最后 n 个字节
+                    long suffix = Long.parseLong(spec.substring(1));
+                    if (suffix > 0 && length > 0) {
+                        ranges.add(new long[]{Math.max(0, length - suffix), length - 1});
+                    }
+                    continue;
+                }
+                long start = Long.parseLong(spec.substring(0, dash));
+                long end = dash == spec.length() - 1 ? length - 1 : Long.parseLong(spec.substring(dash + 1));
+                if (dash != spec.length() - 1 && end < start) {
+                    return null;
+                }
+                if (start < length) {
+                    ranges.add(new long[]{start, Math.min(end, length - 1)});
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return ranges;
+    }
+
+    private static String contentRange(long[] range, long length) {
+        return "bytes " + range[0] + "-" + range[1] + "/" + length;
+    }
+
+    /**
+     * 输出文件的一段：优先交给 Tomcat sendfile，否则 transferTo
+     */
+    private static void sendBody(File file, long start, long count, HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    private static void transfer(FileChannel channel, long start, long count, WritableByteChannel target)
+            throws IOException {
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            long written = channel.transferTo(position, remaining, target);
+            if (written <= 0) {
+                throw new EOFException("文件在下载过程中被截断");
+            }
+            position += written;
+            remaining -= written;
+        }
+    }
+
+    /**
+     * 多段区间：multipart/byteranges，Content-Length 预先算出
+     */
+    private static void sendMultipart(File file, String contentType, List<long[]> ranges, long length,
+                                      boolean head, HttpServletResponse response) throws IOException {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (long[] range : ranges) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + "Content-Type: " + contentType + "\r\n"
+                    + "Content-Range: " + contentRange(range, length) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + range[1] - range[0] + 1;
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        contentLength += closing.length;
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (head) {
+            return;
+        }
+
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                long[] range = ranges.get(i);
+                out.write(partHeaders.get(i));
+                transfer(channel, range[0], range[1] - range[0] + 1, target);
+            }
+        }
+        out.write(closing);
+        out.flush();
+    }
+}
@@ -0,0 +1,120 @@
+package com.miji.cms.manager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 上传文件存储
+ * <p>
+ * 对外的访问地址始终是 /uploads/{folder}/{name}，存储键由 {@link #keyOf(String)} 从地址得出：
+ * 按内容哈希命名的文件按哈希前 4 位分两级目录存放（{folder}/ab/cd/{name}），避免单个目录下文件过多；
+ * 其他文件（旧的 UUID 文件名、成绩快照）键与路径相同
+ */
+public interface FileStorage {
+
+    /**
+     * 内容寻址文件名：64 位小写十六进制 SHA-256，可带扩展名
+     */
+    Pattern HASH_NAME = Pattern.compile("[0-9a-f]{64}(\\.[^./]+)?");
+
+    /**
+     * 用户上传文件所在的目录（成绩快照 results 由 {@link ResultSnapshotManager} 管理，不在其中）
+     */
+    List<String> UPLOAD_FOLDERS = Arrays.asList("videos", "images", "files", "submissions");
+
+    /**
+     * 由访问地址（/uploads/...）或相对路径得出存储键
+     */
+    static String keyOf(String fileUrl) {
+        String path = fileUrl.startsWith("/uploads/") ? fileUrl.substring("/uploads/".length()) : fileUrl;
+        int slash = path.lastIndexOf('/');
+        String name = path.substring(slash + 1);
+        if (!HASH_NAME.matcher(name).matches()) {
+            return path;
+        }
+        String folder = slash < 0 ? "" : path.substring(0, slash + 1);
+        return folder + name.substring(0, 2) + "/" + name.substring(2, 4) + "/" + name;
+    }
+
+    /**
+     * 由存储键得出访问地址，{@link #keyOf(String)} 的逆运算
+     */
+    static String urlOf(String key) {
+        int slash = key.lastIndexOf('/');
+        String folder = slash < 0 ? "" : key.substring(0, slash + 1);
+        String name = key.substring(slash + 1);
+        if (HASH_NAME.matcher(name).matches()) {
+            String shard = name.substring(0, 2) + "/" + name.substring(2, 4) + "/";
+            if (folder.endsWith(shard)) {
+                folder = folder.substring(0, folder.length() - shard.length());
+            }
+        }
+        return "/uploads/" + folder + name;
+    }
+
+    /**
+     * 在本地暂存目录创建临时文件（与本地存储同一磁盘，{@link #put} 时只是重命名）
+     */
+    Path createTempFile() throws IOException;
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 保存文件，已存在时覆盖；完成后 source 不再存在
+     */
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * 读取文件，不存在时抛出 {@link java.nio.file.NoSuchFileException}
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 读取文件的一段（ZIP 目录等随机访问场景，不传输整个文件），不存在时抛出 {@link java.nio.file.NoSuchFileException}
+     *
+     * @param offset 起始位置
+     * @param length 最多读取的字节数，超出文件末尾的部分不返回
+     */
+    InputStream open(String key, long offset, long length) throws IOException;
+
+    /**
+     * 文件大小，不存在时抛出 {@link java.nio.file.NoSuchFileException}
+     */
+    long size(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * 逐个列出 prefix 目录下的文件（不一次性加载全部列表），以 . 开头的暂存目录跳过
+     *
+     * @param prefix 目录，如 images
+     */
+    void walk(String prefix, StoredFileVisitor visitor) throws IOException;
+
+    /**
+     * 本地存储返回对应文件（可能不存在），远程存储返回 null
+     */
+    File getLocalFile(String key);
+
+    /**
+     * 远程存储返回限时直链，本地存储返回 null
+     *
+     * @param fileName 下载时的文件名，为空时按浏览器默认方式打开
+     */
+    String getDownloadUrl(String key, String fileName);
+
+    /**
+     * {@link #walk} 的回调
+     */
+    @FunctionalInterface
+    interface StoredFileVisitor {
+
+        void visit(String key, long size, Instant lastModified) throws IOException;
+    }
+}
@@ -0,0 +1,254 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.common.ErrorCode;
+import com.miji.cms.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import javax.annotation.Resource;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 图片缩略图（按宽度等比缩放）
+ * <p>
+ * 缩略图缓存在本地 {file.upload-path}/.cache/images/{源文件哈希}/{宽度}.{格式}，源文件按内容寻址、不会被修改，
+ * 缓存无需失效，只在源文件被清理时一并删除。同一缩略图的并发请求只生成一次，其余请求等待结果。
+ * 宽度取 {@link #WIDTHS} 中不小于请求值的最小一档，避免任意宽度把缓存撑大
+ */
+@Slf4j
+@Component
+public class ImageVariantManager {
+
+    static final String CACHE_FOLDER = ".cache/images";
+
+    /**
+     * 可用的缩略图宽度
+     */
+    static final int[] WIDTHS = {64, 128, 256, 320, 480, 640, 960, 1280, 1920};
+
+    /**
+     * 源图最大像素数，防止小文件解码出超大图片
+     */
+    static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    @Value("${file.upload-path}")
+    private String uploadPath;
+
+    @Resource
+    private FileStorage fileStorage;
+
+    /**
+     * 正在生成的缩略图，键为缓存文件路径
+     */
+    private final ConcurrentHashMap<Path, CompletableFuture<Path>> generating = new ConcurrentHashMap<>();
+
+    /**
+     * 不小于 width 的最小可用宽度，超过最大档时取最大档
+     */
+    public static int snapWidth(int width) {
+        for (int candidate : WIDTHS) {
+            if (candidate >= width) {
+                return candidate;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    /**
+     * 获取缩略图文件，没有缓存时生成
+     *
+     * @param imageUrl 源图地址 /uploads/images/...
+     * @param width    {@link #snapWidth} 后的宽度；源图更窄时不放大
+     * @param format   jpg 或 png
+     */
+    public Path getVariant(String imageUrl, int width, String format) throws IOException {
+        Path target = variantPath(imageUrl, width, format);
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        CompletableFuture<Path> existing = generating.putIfAbsent(target, future);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            // 获得生成权之前另一个请求可能刚生成完
+            if (!Files.exists(target)) {
+                generate(FileStorage.keyOf(imageUrl), width, format, target);
+            }
+            future.complete(target);
+            return target;
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            generating.remove(target, future);
+        }
+    }
+
+    /**
+     * 删除源图的所有缩略图
+     */
+    public void evict(String imageUrl) throws IOException {
+        FileSystemUtils.deleteRecursively(variantPath(imageUrl, 0, "").getParent());
+    }
+
+    private Path variantPath(String imageUrl, int width, String format) {
+        String name = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+        // 内容寻址的文件名即内容哈希；旧文件名（UUID）同样不会被复用，用地址的哈希
+        String sourceId = FileStorage.HASH_NAME.matcher(name).matches()
+                ? name.substring(0, 64) : sha256(imageUrl);
+        return Paths.get(uploadPath, CACHE_FOLDER, sourceId.substring(0, 2), sourceId, width + "." + format);
+    }
+
+    private void generate(String key, int width, String format, Path target) throws IOException {
+        BufferedImage source = read(key, width);
+        BufferedImage resized = resize(source, width, "png".equals(format));
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+        try {
+            write(resized, format, temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.debug("生成缩略图: {} -> {}", key, target);
+    }
+
+    /**
+     * 解码源图；远大于目标宽度时隔行采样解码，减少内存与耗时
+     */
+    private BufferedImage read(String key, int width) throws IOException {
+        try (InputStream in = fileStorage.open(key);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new BusinessException(ErrorCode.PARAMS_ERROR, "无法识别的图片格式");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > MAX_SOURCE_PIXELS) {
+                    throw new BusinessException(ErrorCode.PARAMS_ERROR, "图片尺寸过大");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 保留至少两倍目标宽度，再由 resize 平滑缩小
+                int step = Math.max(1, sourceWidth / (width * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 逐次减半缩小到目标宽度（单次缩小过多会产生锯齿），不放大
+     */
+    static BufferedImage resize(BufferedImage source, int width, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(targetWidth, currentWidth / 2);
+            int nextHeight = nextWidth == targetWidth ? targetHeight : Math.max(targetHeight, currentHeight / 2);
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                if (!alpha) {
+                    // JPEG 没有透明通道，透明部分填白色
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, nextWidth, nextHeight);
+                }
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > targetWidth);
+        return current;
+    }
+
+    private static void write(BufferedImage image, String format, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static Path await(CompletableFuture<Path> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.miji.cms.manager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 评审任务队列（内存）
+ * <p>
+ * 每个竞赛一个待评审队列（由 status=0 的提交加载），评委按需领取若干条，领取后获得限时租约；
+ * 同一时刻一条提交只会租给一个评委，租约过期后自动回到队首重新分配，评分完成后出队。
+ * 各竞赛互不影响，同一竞赛内的操作加锁且只涉及领取数量级的数据
+ * <p>
+ * 队列只在本节点内决定分配顺序，租约以提交表的 leaseJudgeId/leaseExpire 为准：调用方对领取到的每条提交做条件更新，
+ * 失败（其他节点已领取）时调用 {@link #complete} 出队。队列在 ttlMillis 后从数据库重新加载，
+ * 多节点部署或服务重启后未评分且租约已过期的提交会回到队列
+ */
+@Component
+public class JudgeQueueManager {
+
+    /**
+     * 队列从数据库加载后的有效时长，0 表示不过期
+     */
+    @Value("${judge.queue-ttl-millis:60000}")
+    private long ttlMillis;
+
+    private final Map<Long, CompetitionQueue> queueMap = new ConcurrentHashMap<>();
+
+    private CompetitionQueue getOrLoad(Long competitionId, Supplier<List<Long>> loader) {
+        long now = System.currentTimeMillis();
+        CompetitionQueue queue = queueMap.get(competitionId);
+        if (queue != null && !isExpired(queue, now)) {
+            return queue;
+        }
+        return queueMap.compute(competitionId, (id, old) -> old != null && !isExpired(old, now)
+                ? old : new CompetitionQueue(loader.get()));
+    }
+
+    private boolean isExpired(CompetitionQueue queue, long now) {
+        return ttlMillis > 0 && now - queue.loadedAt >= ttlMillis;
+    }
+
+    /**
+     * 领取待评审提交：先续约该评委未过期的租约，再从队列补足到 count 条
+     *
+     * @param loader      竞赛队列未加载时，从数据库读取待评审提交ID
+     * @param leaseMillis 租约时长
+     * @return 该评委当前持有的提交ID
+     */
+    public List<Long> lease(Long competitionId, Long judgeId, int count, long leaseMillis,
+                            Supplier<List<Long>> loader) {
+        return getOrLoad(competitionId, loader).lease(judgeId, count, leaseMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * 评委主动归还未评审的提交
+     */
+    public void release(Long competitionId, Long judgeId, Collection<Long> submissionIds) {
+        CompetitionQueue queue = queueMap.get(competitionId);
+        if (queue != null) {
+            queue.release(judgeId, submissionIds);
+        }
+    }
+
+    /**
+     * 提交已评分，出队
+     */
+    public void complete(Long competitionId, Long submissionId) {
+        CompetitionQueue queue = queueMap.get(competitionId);
+        if (queue != null) {
+            queue.complete(submissionId);
+        }
+    }
+
+    /**
+     * 新提交或覆盖旧稿后重新待评审，入队；竞赛队列未加载时忽略（加载时会读到）
+     */
+    public void offer(Long competitionId, Long submissionId) {
+        CompetitionQueue queue = queueMap.get(competitionId);
+        if (queue != null) {
+            queue.offer(submissionId);
+        }
+    }
+
+    /**
+     * 移除竞赛队列，下次领取时从数据库重新加载
+     */
+    public void evict(Long competitionId) {
+        queueMap.remove(competitionId);
+    }
+
+    private static class Lease {
+
+        final Long submissionId;
+
+        final Long judgeId;
+
+        final long expireAt;
+
+        Lease(Long submissionId, Long judgeId, long expireAt) {
+            this.submissionId = submissionId;
+            this.judgeId = judgeId;
+            this.expireAt = expireAt;
+        }
+    }
+
+    /**
+     * 单个竞赛的队列：pending 为未领取的提交，leases 为已领取的提交，expiry 按过期时间排序用于回收
+     * <p>
+     * pendingSet 是未领取提交的准确集合；pending 只记录分配顺序，完成的提交不从中删除（ArrayDeque 删除中间元素是 O(n)），
+     * 领取时跳过不在 pendingSet 中的旧记录，旧记录过多时整体压缩
+     */
+    private static class CompetitionQueue {
+
+        private final Deque<Long> pending = new ArrayDeque<>();
+
+        private final Set<Long> pendingSet = new HashSet<>();
+
+        private final Map<Long, Lease> leases = new HashMap<>();
+
+        private final PriorityQueue<Lease> expiry = new PriorityQueue<>(Comparator.comparingLong(l -> l.expireAt));
+
+        private final long loadedAt = System.currentTimeMillis();
+
+        CompetitionQueue(List<Long> submissionIds) {
+            for (Long submissionId : submissionIds) {
+                offer(submissionId);
+            }
+        }
+
+        synchronized List<Long> lease(Long judgeId, int count, long leaseMillis, long now) {
+            reclaimExpired(now);
+            long expireAt = now + leaseMillis;
+
+            List<Long> result = new ArrayList<>();
+            for (Lease lease : new ArrayList<>(leases.values())) {
+                if (lease.judgeId.equals(judgeId) && result.size() < count) {
+                    putLease(new Lease(lease.submissionId, judgeId, expireAt));
+                    result.add(lease.submissionId);
+                }
+            }
+            while (result.size() < count && !pendingSet.isEmpty()) {
+                Long submissionId = pending.pollFirst();
+                if (!pendingSet.remove(submissionId)) {
+                    continue;
+                }
+                putLease(new Lease(submissionId, judgeId, expireAt));
+                result.add(submissionId);
+            }
+            return result;
+        }
+
+        synchronized void release(Long judgeId, Collection<Long> submissionIds) {
+            List<Long> released = new ArrayList<>();
+            for (Long submissionId : submissionIds) {
+                Lease lease = leases.get(submissionId);
+                if (lease != null && lease.judgeId.equals(judgeId)) {
+                    leases.remove(submissionId);
+                    released.add(submissionId);
+                }
+            }
+            requeueFirst(released);
+        }
+
+        synchronized void complete(Long submissionId) {
+            leases.remove(submissionId);
+            if (pendingSet.remove(submissionId)) {
+                compactIfStale();
+            }
+        }
+
+        synchronized void offer(Long submissionId) {
+            if (!leases.containsKey(submissionId) && pendingSet.add(submissionId)) {
+                pending.addLast(submissionId);
+            }
+        }
+
+        /**
+         * pending 中的旧记录超过有效记录时重建，只保留每个未领取提交第一次出现的位置
+         */
+        private void compactIfStale() {
+            if (pending.size() <= 2 * pendingSet.size() + 64) {
+                return;
+            }
+            Set<Long> kept = new HashSet<>();
+            pending.removeIf(submissionId -> !pendingSet.contains(submissionId) || !kept.add(submissionId));
+        }
+
+        private void putLease(Lease lease) {
+            leases.put(lease.submissionId, lease);
+            expiry.add(lease);
+        }
+
+        /**
+         * 回收过期租约；续约或已完成的提交在 expiry 中留有旧记录，与 leases 中的当前租约比对后丢弃
+         */
+        private void reclaimExpired(long now) {
+            List<Long> reclaimed = new ArrayList<>();
+            while (!expiry.isEmpty() && expiry.peek().expireAt <= now) {
+                Lease lease = expiry.poll();
+                if (leases.get(lease.submissionId) == lease) {
+                    leases.remove(lease.submissionId);
+                    reclaimed.add(lease.submissionId);
+                }
+            }
+            requeueFirst(reclaimed);
+        }
+
+        /**
+         * 放回队首，按提交ID升序（先提交的先分配）
+         */
+        private void requeueFirst(List<Long> submissionIds) {
+            submissionIds.sort(Comparator.reverseOrder());
+            for (Long submissionId : submissionIds) {
+                if (pendingSet.add(submissionId)) {
+                    pending.addFirst(submissionId);
+                }
+            }
+        }
+    }
+}
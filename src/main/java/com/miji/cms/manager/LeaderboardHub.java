@@ -0,0 +1,454 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.model.request.LeaderboardDeltaVO;
+import com.miji.cms.model.request.SubmissionRankVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 实时榜单推送中心（SSE）
+ * <p>
+ * 每个竞赛一个频道，保存最近一次推送的前 {@link #MAX_TOP} 名。评分后调用 {@link #publish}，
+ * 频道在后台线程重新取一次前 K 名并与上次比较，只向各客户端推送其关注范围内的变化；
+ * 短时间内的多次评分合并为一次推送。最后一个客户端断开时频道随之移除。
+ * <p>
+ * 每个客户端有独立的有界缓冲区，由独立的发送线程池发送，与刷新榜单的线程分开；
+ * 慢客户端缓冲区满时丢弃积压的增量，改为下一次发送完整榜单，
+ * 单次发送超过 {@link #SEND_TIMEOUT_MILLIS} 的客户端被中断并断开，不会阻塞评分、刷新与其他客户端
+ * <p>
+ * {@link #publish} 只通知本节点的频道；多节点部署时其他节点上的评分由定时轮询发现：
+ * 每隔 pollMillis 刷新一次有订阅者的频道（榜单取自按 rank.index.ttl-millis 重新加载的排名索引），
+ * 没有变化时不推送，其他节点的评分最迟在两者之和后推送到本节点的客户端
+ */
+@Slf4j
+@Component
+public class LeaderboardHub {
+
+    /**
+     * 客户端最多关注的名次
+     */
+    public static final int MAX_TOP = 100;
+
+    /**
+     * 每个客户端最多积压的事件数
+     */
+    static final int CLIENT_BUFFER_SIZE = 16;
+
+    /**
+     * 发送线程数与等待发送的客户端数上限
+     */
+    static final int SENDER_THREADS = 8;
+
+    static final int SENDER_QUEUE_CAPACITY = 1000;
+
+    /**
+     * 单次发送的超时时间
+     */
+    static final long SEND_TIMEOUT_MILLIS = 10_000;
+
+    static final String EVENT_SNAPSHOT = "snapshot";
+
+    static final String EVENT_DELTA = "delta";
+
+    /**
+     * 轮询有订阅者的频道的间隔，0 表示不轮询（单节点部署）
+     */
+    @Value("${leaderboard.poll-millis:5000}")
+    private long pollMillis;
+
+    private final Map<Long, Channel> channelMap = new ConcurrentHashMap<>();
+
+    /**
+     * 刷新榜单、检查发送超时
+     */
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2,
+            daemonThreads("leaderboard-hub"));
+
+    /**
+     * 向客户端发送事件；队列满时客户端改为下一次发送完整榜单
+     */
+    private final ExecutorService sender = new ThreadPoolExecutor(SENDER_THREADS, SENDER_THREADS,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(SENDER_QUEUE_CAPACITY),
+            daemonThreads("leaderboard-sender"));
+
+    public LeaderboardHub() {
+        scheduler.scheduleWithFixedDelay(() -> interruptStalledClients(System.currentTimeMillis()),
+                1, 1, TimeUnit.SECONDS);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (pollMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::pollChannels, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 订阅竞赛榜单，立即推送一次前 k 名，之后只推送变化
+     *
+     * @param topLoader 读取当前前 {@link #MAX_TOP} 名（按名次排序）
+     */
+    public void subscribe(Long competitionId, int k, SseEmitter emitter, Supplier<List<SubmissionRankVO>> topLoader) {
+        Client client = new Client(k, emitter);
+        emitter.onCompletion(client::detach);
+        emitter.onTimeout(client::detach);
+        emitter.onError(e -> client.detach());
+        // 频道可能恰好因最后一个客户端断开而移除，此时重新创建
+        Channel channel;
+        do {
+            channel = channelMap.computeIfAbsent(competitionId, id -> new Channel(id, topLoader));
+        } while (!channel.add(client));
+    }
+
+    /**
+     * 竞赛分数有变化，异步推送增量；没有订阅者时不做任何事
+     */
+    public void publish(Long competitionId) {
+        Channel channel = channelMap.get(competitionId);
+        if (channel != null && channel.hasClients() && channel.scheduled.compareAndSet(false, true)) {
+            scheduler.execute(channel::refresh);
+        }
+    }
+
+    /**
+     * 刷新全部有订阅者的频道，发现其他节点上的评分
+     */
+    void pollChannels() {
+        for (Long competitionId : channelMap.keySet()) {
+            publish(competitionId);
+        }
+    }
+
+    /**
+     * 当前订阅人数
+     */
+    public int subscriberCount(Long competitionId) {
+        Channel channel = channelMap.get(competitionId);
+        return channel == null ? 0 : channel.clients.size();
+    }
+
+    /**
+     * 有订阅者的竞赛数
+     */
+    int channelCount() {
+        return channelMap.size();
+    }
+
+    /**
+     * 中断发送超时的客户端，发送线程随之失败并断开该客户端
+     *
+     * @return 中断的客户端数
+     */
+    int interruptStalledClients(long now) {
+        int count = 0;
+        for (Channel channel : channelMap.values()) {
+            for (Client client : channel.clients) {
+                if (client.interruptIfStalled(now)) {
+                    count++;
+                }
+            }
+        }
+        if (count > 0) {
+            log.warn("{} 个实时榜单客户端发送超时，已断开", count);
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    /**
+     * 计算客户端关注的前 k 名从 oldTop 到 newTop 的变化
+     */
+    static LeaderboardDeltaVO diff(List<SubmissionRankVO> oldTop, List<SubmissionRankVO> newTop, int k) {
+        Map<Long, SubmissionRankVO> oldById = new HashMap<>();
+        for (SubmissionRankVO vo : oldTop.subList(0, Math.min(k, oldTop.size()))) {
+            oldById.put(vo.getSubmissionId(), vo);
+        }
+        LeaderboardDeltaVO delta = new LeaderboardDeltaVO();
+        for (SubmissionRankVO vo : newTop.subList(0, Math.min(k, newTop.size()))) {
+            SubmissionRankVO old = oldById.remove(vo.getSubmissionId());
+            if (old == null || !Objects.equals(old.getRank(), vo.getRank())
+                    || !Objects.equals(old.getScore(), vo.getScore())) {
+                delta.getUpdated().add(vo);
+            }
+        }
+        delta.getRemoved().addAll(oldById.keySet());
+        return delta;
+    }
+
+    private static List<SubmissionRankVO> head(List<SubmissionRankVO> top, int k) {
+        return new ArrayList<>(top.subList(0, Math.min(k, top.size())));
+    }
+
+    private static class Event {
+
+        final String name;
+
+        final Object data;
+
+        Event(String name, Object data) {
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    /**
+     * 单个竞赛的频道：lastTop 为最近一次推送给客户端的榜单，读写都在频道锁内；
+     * 最后一个客户端移除后频道作废并从 channelMap 移除，不再接受新客户端
+     */
+    private class Channel {
+
+        private final Long competitionId;
+
+        private final Supplier<List<SubmissionRankVO>> topLoader;
+
+        private final List<Client> clients = new CopyOnWriteArrayList<>();
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private List<SubmissionRankVO> lastTop;
+
+        private boolean retired;
+
+        Channel(Long competitionId, Supplier<List<SubmissionRankVO>> topLoader) {
+            this.competitionId = competitionId;
+            this.topLoader = topLoader;
+        }
+
+        boolean hasClients() {
+            return !clients.isEmpty();
+        }
+
+        /**
+         * @return 频道已作废时返回 false，由调用方换一个频道
+         */
+        synchronized boolean add(Client client) {
+            if (retired) {
+                return false;
+            }
+            if (!client.attach(this)) {
+                // 连接在订阅完成前已断开
+                return true;
+            }
+            if (lastTop == null) {
+                lastTop = topLoader.get();
+            }
+            clients.add(client);
+            client.offer(new Event(EVENT_SNAPSHOT, head(lastTop, client.k)));
+            return true;
+        }
+
+        void remove(Client client) {
+            synchronized (this) {
+                clients.remove(client);
+                if (!clients.isEmpty() || retired) {
+                    return;
+                }
+                // 无人订阅时不再跟踪榜单，下次订阅重新创建频道并读取
+                retired = true;
+                lastTop = null;
+            }
+            channelMap.remove(competitionId, this);
+        }
+
+        synchronized List<SubmissionRankVO> snapshot(int k) {
+            return lastTop == null ? new ArrayList<>() : head(lastTop, k);
+        }
+
+        /**
+         * 先清除调度标记再读取榜单：读取期间的新评分会再调度一次，不会漏推
+         */
+        synchronized void refresh() {
+            scheduled.set(false);
+            if (clients.isEmpty()) {
+                return;
+            }
+            List<SubmissionRankVO> newTop;
+            try {
+                newTop = topLoader.get();
+            } catch (Exception e) {
+                log.error("刷新实时榜单失败", e);
+                return;
+            }
+            List<SubmissionRankVO> oldTop = lastTop == null ? new ArrayList<>() : lastTop;
+            lastTop = newTop;
+            Map<Integer, LeaderboardDeltaVO> deltaByK = new HashMap<>();
+            for (Client client : clients) {
+                LeaderboardDeltaVO delta = deltaByK.computeIfAbsent(client.k, k -> diff(oldTop, newTop, k));
+                if (!delta.getUpdated().isEmpty() || !delta.getRemoved().isEmpty()) {
+                    client.offer(new Event(EVENT_DELTA, delta));
+                }
+            }
+        }
+    }
+
+    /**
+     * 单个客户端：buffer 有界，满时清空并标记 resync，下一次发送完整榜单代替积压的增量；
+     * 加锁顺序为先频道后客户端
+     */
+    private class Client {
+
+        private final int k;
+
+        private final SseEmitter emitter;
+
+        private final Deque<Event> buffer = new ArrayDeque<>();
+
+        private Channel channel;
+
+        private boolean resync;
+
+        private boolean draining;
+
+        private boolean closed;
+
+        /**
+         * 正在发送的线程及开始时间，未在发送时为 null
+         */
+        private Thread sendingThread;
+
+        private long sendingSince;
+
+        Client(int k, SseEmitter emitter) {
+            this.k = k;
+            this.emitter = emitter;
+        }
+
+        synchronized boolean attach(Channel channel) {
+            if (closed) {
+                return false;
+            }
+            this.channel = channel;
+            return true;
+        }
+
+        void offer(Event event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= CLIENT_BUFFER_SIZE) {
+                    buffer.clear();
+                    resync = true;
+                } else if (!resync) {
+                    buffer.addLast(event);
+                }
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 发送队列已满，下一次事件到来时改发完整榜单
+                synchronized (this) {
+                    draining = false;
+                    buffer.clear();
+                    resync = true;
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Event event;
+                synchronized (this) {
+                    if (closed) {
+                        return;
+                    }
+                    if (resync) {
+                        resync = false;
+                        event = null;
+                    } else if (buffer.isEmpty()) {
+                        draining = false;
+                        return;
+                    } else {
+                        event = buffer.pollFirst();
+                    }
+                }
+                if (event == null) {
+                    event = new Event(EVENT_SNAPSHOT, channel.snapshot(k));
+                }
+                synchronized (this) {
+                    sendingThread = Thread.currentThread();
+                    sendingSince = System.currentTimeMillis();
+                }
+                boolean sent;
+                try {
+                    emitter.send(SseEmitter.event().name(event.name).data(event.data));
+                    sent = true;
+                } catch (Exception e) {
+                    sent = false;
+                } finally {
+                    synchronized (this) {
+                        sendingThread = null;
+                    }
+                    // 清除发送结束前后到达的中断，线程继续服务其他客户端
+                    Thread.interrupted();
+                }
+                if (!sent) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 发送超时时中断发送线程
+         */
+        synchronized boolean interruptIfStalled(long now) {
+            if (sendingThread == null || now - sendingSince <= SEND_TIMEOUT_MILLIS) {
+                return false;
+            }
+            sendingThread.interrupt();
+            sendingThread = null;
+            return true;
+        }
+
+        /**
+         * 从频道移除，不再接收事件
+         */
+        void detach() {
+            Channel attached;
+            synchronized (this) {
+                closed = true;
+                buffer.clear();
+                attached = channel;
+            }
+            if (attached != null) {
+                attached.remove(this);
+            }
+        }
+
+        private void close() {
+            detach();
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // 连接已断开
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.miji.cms.manager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 本地磁盘存储，根目录为 {file.upload-path}（storage.type=local，默认）
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalFileStorage implements FileStorage {
+
+    static final String TMP_FOLDER = ".tmp";
+
+    @Value("${file.upload-path}")
+    private String uploadPath;
+
+    @Override
+    public Path createTempFile() throws IOException {
+        Path tmpDir = Paths.get(uploadPath, TMP_FOLDER);
+        Files.createDirectories(tmpDir);
+        return Files.createTempFile(tmpDir, "upload-", ".tmp");
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public InputStream open(String key, long offset, long length) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+        channel.position(offset);
+        return new LimitedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return Files.size(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public void walk(String prefix, StoredFileVisitor visitor) throws IOException {
+        Path root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Path start = resolve(prefix);
+        if (!Files.isDirectory(start)) {
+            return;
+        }
+        Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return !dir.equals(start) && dir.getFileName().toString().startsWith(".")
+                        ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (attrs.isRegularFile()) {
+                    String key = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                    visitor.visit(key, attrs.size(), attrs.lastModifiedTime().toInstant());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                // 遍历过程中被删除的文件
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Override
+    public File getLocalFile(String key) {
+        return resolve(key).toFile();
+    }
+
+    @Override
+    public String getDownloadUrl(String key, String fileName) {
+        return null;
+    }
+
+    /**
+     * 存储键对应的文件，不允许跳出根目录
+     */
+    private Path resolve(String key) {
+        Path root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("非法的存储路径: " + key);
+        }
+        return path;
+    }
+}
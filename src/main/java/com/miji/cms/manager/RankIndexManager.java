@@ -0,0 +1,220 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.model.domain.Submission;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 竞赛成绩排名索引（内存）
+ * <p>
+ * 每个竞赛一份有序索引，排序键为（分数降序，评分时间升序，提交ID升序）；
+ * 评分时增量更新，榜单查询不再访问数据库。服务重启后首次访问时从数据库加载，
+ * 数据不一致时可调用 {@link #rebuild} 重建；多节点部署时索引在 ttlMillis 后从数据库重新加载，
+ * 其他节点的评分最迟在这之后可见
+ */
+@Component
+public class RankIndexManager {
+
+    /**
+     * 排名顺序：分数高者在前；同分先评者在前；再按提交ID
+     */
+    static final Comparator<Submission> RANK_ORDER = Comparator
+            .comparing(Submission::getScore, Comparator.reverseOrder())
+            .thenComparing(Submission::getUpdateTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Submission::getId);
+
+    /**
+     * 索引从数据库加载后的有效时长，0 表示不过期（单节点部署）
+     */
+    @Value("${rank.index.ttl-millis:30000}")
+    private long ttlMillis;
+
+    private final Map<Long, CompetitionRank> rankMap = new ConcurrentHashMap<>();
+
+    /**
+     * 获取竞赛排名索引，未加载或已过期时用 loader 从数据库加载已评分提交
+     */
+    private CompetitionRank getOrLoad(Long competitionId, Supplier<List<Submission>> loader) {
+        long now = System.currentTimeMillis();
+        CompetitionRank rank = rankMap.get(competitionId);
+        if (rank != null && !isExpired(rank, now)) {
+            return rank;
+        }
+        return rankMap.compute(competitionId, (id, old) -> old != null && !isExpired(old, now)
+                ? old : new CompetitionRank(loader.get()));
+    }
+
+    private boolean isExpired(CompetitionRank rank, long now) {
+        return ttlMillis > 0 && now - rank.loadedAt >= ttlMillis;
+    }
+
+    /**
+     * 使用给定的已评分提交重建竞赛排名索引
+     */
+    public void rebuild(Long competitionId, List<Submission> scoredSubmissions) {
+        rankMap.put(competitionId, new CompetitionRank(scoredSubmissions));
+    }
+
+    /**
+     * 移除竞赛排名索引，下次访问时重新加载
+     */
+    public void evict(Long competitionId) {
+        rankMap.remove(competitionId);
+    }
+
+    /**
+     * 提交分数或内容变化后增量更新；竞赛索引尚未加载时忽略（加载时会读到最新数据）
+     */
+    public void update(Submission submission) {
+        CompetitionRank rank = rankMap.get(submission.getCompetitionId());
+        if (rank != null) {
+            rank.upsert(submission);
+        }
+    }
+
+    /**
+     * 已评分提交数量
+     */
+    public int size(Long competitionId, Supplier<List<Submission>> loader) {
+        return getOrLoad(competitionId, loader).size();
+    }
+
+    /**
+     * 按名次区间查询
+     *
+     * @param offset 起始下标（从 0 开始）
+     * @param limit  最多返回条数
+     */
+    public List<Submission> range(Long competitionId, int offset, int limit, Supplier<List<Submission>> loader) {
+        return getOrLoad(competitionId, loader).range(offset, limit);
+    }
+
+    /**
+     * 查询提交的名次（从 1 开始），未评分或不存在返回 0
+     */
+    public int rankOf(Long competitionId, Long submissionId, Supplier<List<Submission>> loader) {
+        return getOrLoad(competitionId, loader).rankOf(submissionId);
+    }
+
+    /**
+     * 查询提交所在名次及其前后各 radius 名的提交；提交未评分时返回 null
+     */
+    public RankWindow around(Long competitionId, Long submissionId, int radius,
+                             Supplier<List<Submission>> loader) {
+        return getOrLoad(competitionId, loader).around(submissionId, radius);
+    }
+
+    /**
+     * 名次窗口：submissions 中第 i 条的名次为 offset + i + 1
+     */
+    public static class RankWindow {
+
+        private final int offset;
+
+        private final List<Submission> submissions;
+
+        RankWindow(int offset, List<Submission> submissions) {
+            this.offset = offset;
+            this.submissions = submissions;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public List<Submission> getSubmissions() {
+            return submissions;
+        }
+    }
+
+    /**
+     * 单个竞赛的排名：跳表维护顺序，Map 按提交ID定位旧的排序键
+     */
+    private static class CompetitionRank {
+
+        private final RankSkipList<Submission> skipList = new RankSkipList<>(RANK_ORDER);
+
+        private final Map<Long, Submission> byId = new HashMap<>();
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private final long loadedAt = System.currentTimeMillis();
+
+        CompetitionRank(List<Submission> scoredSubmissions) {
+            for (Submission submission : scoredSubmissions) {
+                upsert(submission);
+            }
+        }
+
+        void upsert(Submission submission) {
+            lock.writeLock().lock();
+            try {
+                Submission old = byId.remove(submission.getId());
+                if (old != null) {
+                    skipList.remove(old);
+                }
+                if (submission.getScore() == null
+                        || (submission.getIsDelete() != null && submission.getIsDelete() == 1)) {
+                    return;
+                }
+                // 保存快照，避免外部修改对象导致排序键变化
+                Submission snapshot = new Submission();
+                BeanUtils.copyProperties(submission, snapshot);
+                byId.put(snapshot.getId(), snapshot);
+                skipList.insert(snapshot);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return skipList.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Submission> range(int offset, int limit) {
+            lock.readLock().lock();
+            try {
+                return skipList.range(offset, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int rankOf(Long submissionId) {
+            lock.readLock().lock();
+            try {
+                Submission submission = byId.get(submissionId);
+                return submission == null ? 0 : skipList.rankOf(submission);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        RankWindow around(Long submissionId, int radius) {
+            lock.readLock().lock();
+            try {
+                Submission submission = byId.get(submissionId);
+                if (submission == null) {
+                    return null;
+                }
+                int rank = skipList.rankOf(submission);
+                int offset = Math.max(0, rank - 1 - radius);
+                return new RankWindow(offset, skipList.range(offset, rank + radius - offset));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.miji.cms.manager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 带跨度（span）的可索引跳表，按名次定位与求名次均为 O(log n)
+ * <p>
+ * 结构与 Redis zset 的 zskiplist 一致；比较器必须是全序（不允许两个元素比较结果为 0），
+ * 非线程安全，由调用方加锁
+ *
+ * @param <T> 元素类型
+ */
+public class RankSkipList<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private static final double P = 0.25;
+
+    private final Comparator<? super T> comparator;
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+
+    private int level = 1;
+
+    private int size;
+
+    public RankSkipList(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    private static final class Node<T> {
+        final T value;
+        final Node<T>[] next;
+        final int[] span;
+
+        @SuppressWarnings("unchecked")
+        Node(T value, int level) {
+            this.value = value;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 插入元素（调用方保证元素不存在）
+     */
+    @SuppressWarnings("unchecked")
+    public void insert(T value) {
+        Node<T>[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        Node<T> node = new Node<>(value, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * 删除与 value 比较相等的元素
+     *
+     * @return 是否删除成功
+     */
+    @SuppressWarnings("unchecked")
+    public boolean remove(T value) {
+        Node<T>[] update = new Node[MAX_LEVEL];
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        x = x.next[0];
+        if (x == null || comparator.compare(x.value, value) != 0) {
+            return false;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i] -= 1;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 获取元素名次（从 1 开始），不存在返回 0
+     */
+    public int rankOf(T value) {
+        int rank = 0;
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].value, value) <= 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && comparator.compare(x.value, value) == 0) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 按名次区间取元素
+     *
+     * @param offset 起始下标（从 0 开始）
+     * @param limit  最多返回条数
+     */
+    public List<T> range(int offset, int limit) {
+        List<T> result = new ArrayList<>();
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return result;
+        }
+        Node<T> x = nodeAt(offset + 1);
+        while (x != null && result.size() < limit) {
+            result.add(x.value);
+            x = x.next[0];
+        }
+        return result;
+    }
+
+    private Node<T> nodeAt(int rank) {
+        int traversed = 0;
+        Node<T> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private int randomLevel() {
+        int newLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (newLevel < MAX_LEVEL && random.nextDouble() < P) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+}
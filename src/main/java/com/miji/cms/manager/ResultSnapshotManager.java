@@ -0,0 +1,156 @@
+package com.miji.cms.manager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 已发布成绩的静态快照
+ * <p>
+ * 快照存为 results/{competitionId}/rank-{version}.{json|xlsx}（见 {@link FileStorage}），文件名带版本号，
+ * 内容永不修改，可由 /uploads/** 长期缓存；同目录下的 latest 文件记录当前版本号。
+ * 当前版本缓存在内存中，查询是否已发布不访问数据库；多节点部署时其他节点发布或撤销后，
+ * 本节点最迟在 cacheMillis 后重新读取 latest 文件
+ */
+@Component
+public class ResultSnapshotManager {
+
+    public static final String TYPE_JSON = "json";
+
+    public static final String TYPE_XLSX = "xlsx";
+
+    private static final String RESULT_FOLDER = "results";
+
+    private static final String LATEST_FILE = "latest";
+
+    /**
+     * 未发布的缓存值
+     */
+    private static final long NOT_PUBLISHED = 0L;
+
+    /**
+     * 当前版本的缓存时长，0 表示不过期（单节点部署）
+     */
+    @Value("${result.snapshot.cache-millis:5000}")
+    private long cacheMillis;
+
+    @Resource
+    private FileStorage fileStorage;
+
+    private final Map<Long, CachedVersion> versionCache = new ConcurrentHashMap<>();
+
+    /**
+     * 快照内容写入器
+     */
+    @FunctionalInterface
+    public interface SnapshotWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * 写入新版本快照并切换为当前版本
+     */
+    public synchronized void publish(Long competitionId, SnapshotWriter jsonWriter, SnapshotWriter xlsxWriter)
+            throws IOException {
+        String dir = resultDir(competitionId);
+        long version = Math.max(System.currentTimeMillis(), getVersion(competitionId) + 1);
+        writeAtomically(dir + fileName(version, TYPE_JSON), jsonWriter);
+        writeAtomically(dir + fileName(version, TYPE_XLSX), xlsxWriter);
+        writeAtomically(dir + LATEST_FILE,
+                out -> out.write(String.valueOf(version).getBytes(StandardCharsets.UTF_8)));
+        versionCache.put(competitionId, new CachedVersion(version, System.currentTimeMillis()));
+    }
+
+    /**
+     * 撤销发布；已生成的快照文件保留（可能仍被客户端缓存引用）
+     */
+    public synchronized void unpublish(Long competitionId) throws IOException {
+        fileStorage.delete(resultDir(competitionId) + LATEST_FILE);
+        versionCache.put(competitionId, new CachedVersion(NOT_PUBLISHED, System.currentTimeMillis()));
+    }
+
+    public boolean isPublished(Long competitionId) {
+        return getVersion(competitionId) != NOT_PUBLISHED;
+    }
+
+    /**
+     * 当前快照的访问路径（/uploads/...），未发布返回 null
+     *
+     * @param type {@link #TYPE_JSON} 或 {@link #TYPE_XLSX}
+     */
+    public String getUrl(Long competitionId, String type) {
+        long version = getVersion(competitionId);
+        if (version == NOT_PUBLISHED) {
+            return null;
+        }
+        return "/uploads/" + resultDir(competitionId) + fileName(version, type);
+    }
+
+    private long getVersion(Long competitionId) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = versionCache.get(competitionId);
+        if (cached == null || isExpired(cached, now)) {
+            // 在 Map 锁内读取，不会覆盖同时发布写入的新版本
+            cached = versionCache.compute(competitionId, (id, old) -> old != null && !isExpired(old, now)
+                    ? old : new CachedVersion(readVersion(id), now));
+        }
+        return cached.version;
+    }
+
+    private boolean isExpired(CachedVersion cached, long now) {
+        return cacheMillis > 0 && now - cached.loadedAt >= cacheMillis;
+    }
+
+    private long readVersion(Long competitionId) {
+        try (InputStream in = fileStorage.open(resultDir(competitionId) + LATEST_FILE)) {
+            return Long.parseLong(new String(in.readAllBytes(), StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            // 未发布（latest 不存在）或内容损坏
+            return NOT_PUBLISHED;
+        }
+    }
+
+    private static String resultDir(Long competitionId) {
+        return RESULT_FOLDER + "/" + competitionId + "/";
+    }
+
+    private static String fileName(long version, String type) {
+        return "rank-" + version + "." + type;
+    }
+
+    /**
+     * 先写临时文件再整体存入，读取方不会看到写了一半的文件
+     */
+    private void writeAtomically(String key, SnapshotWriter writer) throws IOException {
+        Path tmp = fileStorage.createTempFile();
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.write(out);
+            }
+            fileStorage.put(key, tmp);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static final class CachedVersion {
+
+        final long version;
+
+        final long loadedAt;
+
+        CachedVersion(long version, long loadedAt) {
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
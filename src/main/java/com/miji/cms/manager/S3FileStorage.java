@@ -0,0 +1,452 @@
+package com.miji.cms.manager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * S3 兼容对象存储（storage.type=s3），多个应用节点共用同一个桶
+ * <p>
+ * 使用 path-style 地址（{endpoint}/{bucket}/{key}）和 AWS Signature V4 签名，兼容 AWS S3、MinIO 等；
+ * 下载通过预签名地址由对象存储直接提供，不经过应用节点。临时文件仍写在本地 {file.upload-path}/.tmp
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3FileStorage implements FileStorage {
+
+    static final String EMPTY_SHA256 = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+
+    private static final DateTimeFormatter AMZ_DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    @Value("${file.upload-path}")
+    private String uploadPath;
+
+    @Value("${storage.s3.endpoint}")
+    private String endpoint;
+
+    @Value("${storage.s3.region:us-east-1}")
+    private String region;
+
+    @Value("${storage.s3.bucket}")
+    private String bucket;
+
+    @Value("${storage.s3.access-key}")
+    private String accessKey;
+
+    @Value("${storage.s3.secret-key}")
+    private String secretKey;
+
+    /**
+     * 预签名下载地址有效期（秒）
+     */
+    @Value("${storage.s3.presign-seconds:900}")
+    private long presignSeconds;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    Clock clock = Clock.systemUTC();
+
+    @Override
+    public Path createTempFile() throws IOException {
+        Path tmpDir = Paths.get(uploadPath, LocalFileStorage.TMP_FOLDER);
+        Files.createDirectories(tmpDir);
+        return Files.createTempFile(tmpDir, "upload-", ".tmp");
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        HttpResponse<Void> response = send(signed("HEAD", key, null, EMPTY_SHA256)
+                .method("HEAD", HttpRequest.BodyPublishers.noBody()), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        check(response, key);
+        return true;
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        String contentType = MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        HttpResponse<Void> response = send(signed("PUT", key, contentType, UNSIGNED_PAYLOAD)
+                .header("Content-Type", contentType)
+                .PUT(HttpRequest.BodyPublishers.ofFile(source)), HttpResponse.BodyHandlers.discarding());
+        check(response, key);
+        Files.delete(source);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        HttpResponse<InputStream> response = send(signed("GET", key, null, EMPTY_SHA256).GET(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        return body(response, key, 200);
+    }
+
+    /**
+     * 带 Range 头的 GET，只传输需要的部分
+     */
+    @Override
+    public InputStream open(String key, long offset, long length) throws IOException {
+        if (length <= 0) {
+            return InputStream.nullInputStream();
+        }
+        HttpResponse<InputStream> response = send(signed("GET", key, null, EMPTY_SHA256)
+                        .header("Range", "bytes=" + offset + "-" + (offset + length - 1)).GET(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() == 416) {
+            // 起始位置超出文件末尾
+            response.body().close();
+            return InputStream.nullInputStream();
+        }
+        if (response.statusCode() == 200) {
+            // 服务端忽略了 Range，跳过前面的部分
+            InputStream in = body(response, key, 200);
+            in.skipNBytes(offset);
+            return new LimitedInputStream(in, length);
+        }
+        return new LimitedInputStream(body(response, key, 206), length);
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        HttpResponse<Void> response = send(signed("HEAD", key, null, EMPTY_SHA256)
+                .method("HEAD", HttpRequest.BodyPublishers.noBody()), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            throw new NoSuchFileException(key);
+        }
+        check(response, key);
+        return response.headers().firstValueAsLong("Content-Length")
+                .orElseThrow(() -> new IOException("S3 响应缺少 Content-Length: " + key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        HttpResponse<Void> response = send(signed("DELETE", key, null, EMPTY_SHA256).DELETE(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 404) {
+            check(response, key);
+        }
+    }
+
+    /**
+     * ListObjectsV2 分页列出，每页最多 1000 个对象
+     */
+    @Override
+    public void walk(String prefix, StoredFileVisitor visitor) throws IOException {
+        String folder = prefix.endsWith("/") ? prefix : prefix + "/";
+        String continuationToken = null;
+        do {
+            StringBuilder query = new StringBuilder("list-type=2&prefix=").append(encode(folder, true));
+            if (continuationToken != null) {
+                query.append("&continuation-token=").append(encode(continuationToken, true));
+            }
+            URI uri = URI.create(bucketUri() + "?" + query);
+            HttpResponse<InputStream> response = send(signed("GET", uri, null, EMPTY_SHA256).GET(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            Document page;
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new IOException("S3 列出对象失败: " + folder + "，状态码 " + response.statusCode());
+                }
+                page = parseXml(body);
+            }
+
+            NodeList contents = page.getElementsByTagName("Contents");
+            for (int i = 0; i < contents.getLength(); i++) {
+                Element object = (Element) contents.item(i);
+                String key = text(object, "Key");
+                if (key.substring(folder.length()).startsWith(".") || key.contains("/.")) {
+                    continue;
+                }
+                visitor.visit(key, Long.parseLong(text(object, "Size")), Instant.parse(text(object, "LastModified")));
+            }
+            continuationToken = "true".equals(text(page.getDocumentElement(), "IsTruncated"))
+                    ? text(page.getDocumentElement(), "NextContinuationToken") : null;
+        } while (continuationToken != null);
+    }
+
+    @Override
+    public File getLocalFile(String key) {
+        return null;
+    }
+
+    @Override
+    public String getDownloadUrl(String key, String fileName) {
+        URI uri = objectUri(key);
+        String amzDate = AMZ_DATE.format(clock.instant());
+        SortedMap<String, String> query = new TreeMap<>();
+        if (StringUtils.hasText(fileName)) {
+            String encoded = encode(fileName, true);
+            query.put("response-content-disposition",
+                    "attachment; filename=\"" + encoded + "\"; filename*=UTF-8''" + encoded);
+        }
+        return presign(uri, query, accessKey, secretKey, region, amzDate, presignSeconds);
+    }
+
+    private String bucketUri() {
+        String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+        return base + "/" + encode(bucket, true);
+    }
+
+    private URI objectUri(String key) {
+        return URI.create(bucketUri() + "/" + encode(key, false));
+    }
+
+    private HttpRequest.Builder signed(String method, String key, String contentType, String payloadHash) {
+        return signed(method, objectUri(key), contentType, payloadHash);
+    }
+
+    /**
+     * 构造带签名头的请求；contentType 不为空时参与签名
+     */
+    private HttpRequest.Builder signed(String method, URI uri, String contentType, String payloadHash) {
+        String amzDate = AMZ_DATE.format(clock.instant());
+        SortedMap<String, String> headers = new TreeMap<>();
+        headers.put("host", hostHeader(uri));
+        headers.put("x-amz-content-sha256", payloadHash);
+        headers.put("x-amz-date", amzDate);
+        if (contentType != null) {
+            headers.put("content-type", contentType);
+        }
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMinutes(10))
+                .header("x-amz-content-sha256", payloadHash)
+                .header("x-amz-date", amzDate)
+                .header("Authorization", authorization(method, uri, headers, payloadHash,
+                        accessKey, secretKey, region, amzDate));
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder request, HttpResponse.BodyHandler<T> handler)
+            throws IOException {
+        try {
+            return httpClient.send(request.build(), handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 请求被中断", e);
+        }
+    }
+
+    /**
+     * 状态码为 expected 时返回响应体，否则关闭响应并抛出异常
+     */
+    private static InputStream body(HttpResponse<InputStream> response, String key, int expected)
+            throws IOException {
+        if (response.statusCode() != expected) {
+            response.body().close();
+            if (response.statusCode() == 404) {
+                throw new NoSuchFileException(key);
+            }
+            throw new IOException("S3 读取失败: " + key + "，状态码 " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static void check(HttpResponse<?> response, String key) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 请求失败: " + key + "，状态码 " + response.statusCode());
+        }
+    }
+
+    private static Document parseXml(InputStream in) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return factory.newDocumentBuilder().parse(in);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("S3 响应解析失败", e);
+        }
+    }
+
+    /**
+     * 直接子元素的文本，不存在时返回 null
+     */
+    private static String text(Element parent, String tagName) {
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element && tagName.equals(((Element) child).getTagName())) {
+                return child.getTextContent();
+            }
+        }
+        return null;
+    }
+
+    // ==================== Signature V4 ====================
+
+    /**
+     * Authorization 头
+     *
+     * @param headers 参与签名的请求头（小写名称，须包含 host 与 x-amz-date）
+     */
+    static String authorization(String method, URI uri, SortedMap<String, String> headers, String payloadHash,
+                                String accessKey, String secretKey, String region, String amzDate) {
+        String signedHeaders = String.join(";", headers.keySet());
+        StringBuilder canonicalHeaders = new StringBuilder();
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            canonicalHeaders.append(header.getKey()).append(':').append(header.getValue().trim()).append('\n');
+        }
+        String canonicalRequest = method + "\n" + canonicalPath(uri) + "\n" + canonicalQuery(uri) + "\n"
+                + canonicalHeaders + "\n" + signedHeaders + "\n" + payloadHash;
+        String scope = amzDate.substring(0, 8) + "/" + region + "/s3/aws4_request";
+        String signature = sign(canonicalRequest, secretKey, region, amzDate);
+        return ALGORITHM + " Credential=" + accessKey + "/" + scope
+                + ",SignedHeaders=" + signedHeaders + ",Signature=" + signature;
+    }
+
+    /**
+     * 预签名 GET 地址
+     *
+     * @param query 额外的查询参数（未编码）
+     */
+    static String presign(URI uri, SortedMap<String, String> query, String accessKey, String secretKey,
+                          String region, String amzDate, long expiresSeconds) {
+        String scope = amzDate.substring(0, 8) + "/" + region + "/s3/aws4_request";
+        SortedMap<String, String> params = new TreeMap<>();
+        query.forEach((name, value) -> params.put(encode(name, true), encode(value, true)));
+        params.put("X-Amz-Algorithm", ALGORITHM);
+        params.put("X-Amz-Credential", encode(accessKey + "/" + scope, true));
+        params.put("X-Amz-Date", amzDate);
+        params.put("X-Amz-Expires", String.valueOf(expiresSeconds));
+        params.put("X-Amz-SignedHeaders", "host");
+        StringBuilder queryString = new StringBuilder();
+        params.forEach((name, value) -> queryString.append(queryString.length() == 0 ? "" : "&")
+                .append(name).append('=').append(value));
+
+        String canonicalRequest = "GET\n" + canonicalPath(uri) + "\n" + queryString + "\n"
+                + "host:" + hostHeader(uri) + "\n\nhost\n" + UNSIGNED_PAYLOAD;
+        String signature = sign(canonicalRequest, secretKey, region, amzDate);
+        return uri.getScheme() + "://" + uri.getRawAuthority() + canonicalPath(uri)
+                + "?" + queryString + "&X-Amz-Signature=" + signature;
+    }
+
+    private static String sign(String canonicalRequest, String secretKey, String region, String amzDate) {
+        String date = amzDate.substring(0, 8);
+        String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + date + "/" + region + "/s3/aws4_request\n"
+                + hex(sha256(canonicalRequest.getBytes(StandardCharsets.UTF_8)));
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+        key = hmac(key, region);
+        key = hmac(key, "s3");
+        key = hmac(key, "aws4_request");
+        return hex(hmac(key, stringToSign));
+    }
+
+    private static String canonicalPath(URI uri) {
+        String path = uri.getRawPath();
+        return path == null || path.isEmpty() ? "/" : path;
+    }
+
+    /**
+     * 查询参数按名称排序（地址中的参数已按 {@link #encode} 编码）
+     */
+    private static String canonicalQuery(URI uri) {
+        String rawQuery = uri.getRawQuery();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        SortedMap<String, String> params = new TreeMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            params.put(eq < 0 ? pair : pair.substring(0, eq), eq < 0 ? "" : pair.substring(eq + 1));
+        }
+        StringBuilder query = new StringBuilder();
+        params.forEach((name, value) -> query.append(query.length() == 0 ? "" : "&")
+                .append(name).append('=').append(value));
+        return query.toString();
+    }
+
+    /**
+     * 与 HttpClient 发送的 Host 头一致：非默认端口时带端口
+     */
+    private static String hostHeader(URI uri) {
+        int port = uri.getPort();
+        boolean defaultPort = port == -1
+                || ("http".equals(uri.getScheme()) && port == 80)
+                || ("https".equals(uri.getScheme()) && port == 443);
+        return defaultPort ? uri.getHost() : uri.getHost() + ":" + port;
+    }
+
+    /**
+     * RFC 3986 编码，只保留非保留字符；encodeSlash 为 false 时保留路径分隔符
+     */
+    static String encode(String value, boolean encodeSlash) {
+        StringBuilder encoded = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (c == '/' && !encodeSlash)) {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(Character.toUpperCase(Character.forDigit((c >> 4) & 0xF, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(c & 0xF, 16)));
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.miji.cms.manager;
+
+import java.util.*;
+
+/**
+ * 整数分数的分布（按分值计数）
+ * <p>
+ * 分数为整数且取值有限，按分值计数即可精确求百分位，空间只与不同分值的个数有关；
+ * 与 t-digest 等近似摘要相比支持删除（改分时扣除旧分），两个分布可直接合并。
+ * 非线程安全，由调用方加锁
+ */
+public class ScoreDistribution {
+
+    private final TreeMap<Integer, Long> counts = new TreeMap<>();
+
+    private long count;
+
+    private long sum;
+
+    public void add(int score) {
+        counts.merge(score, 1L, Long::sum);
+        count++;
+        sum += score;
+    }
+
+    /**
+     * 移除一个分数
+     *
+     * @return 分布中是否存在该分数
+     */
+    public boolean remove(int score) {
+        Long old = counts.get(score);
+        if (old == null) {
+            return false;
+        }
+        if (old == 1) {
+            counts.remove(score);
+        } else {
+            counts.put(score, old - 1);
+        }
+        count--;
+        sum -= score;
+        return true;
+    }
+
+    /**
+     * 合并另一个分布
+     */
+    public void merge(ScoreDistribution other) {
+        other.counts.forEach((score, c) -> counts.merge(score, c, Long::sum));
+        count += other.count;
+        sum += other.sum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 平均分，无数据返回 null
+     */
+    public Double mean() {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    public Integer min() {
+        return count == 0 ? null : counts.firstKey();
+    }
+
+    public Integer max() {
+        return count == 0 ? null : counts.lastKey();
+    }
+
+    /**
+     * 百分位数，排序后在相邻两个分数间线性插值（与 Excel PERCENTILE.INC 一致），无数据返回 null
+     *
+     * @param percentile 0 ~ 100
+     */
+    public Double percentile(double percentile) {
+        if (count == 0) {
+            return null;
+        }
+        double position = percentile / 100 * (count - 1);
+        long lowerIndex = (long) Math.floor(position);
+        long upperIndex = (long) Math.ceil(position);
+
+        Integer lower = null;
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            seen += entry.getValue();
+            if (lower == null && seen > lowerIndex) {
+                lower = entry.getKey();
+            }
+            if (seen > upperIndex) {
+                return lower + (position - lowerIndex) * (entry.getKey() - lower);
+            }
+        }
+        return (double) counts.lastKey();
+    }
+
+    /**
+     * 等宽分组直方图，从最低分所在组到最高分所在组（包含中间的空组）
+     *
+     * @param width 组宽，分组为 [lower, lower + width)
+     * @return 组下界 -> 数量
+     */
+    public SortedMap<Integer, Long> histogram(int width) {
+        SortedMap<Integer, Long> buckets = new TreeMap<>();
+        if (count == 0) {
+            return buckets;
+        }
+        int first = Math.floorDiv(counts.firstKey(), width) * width;
+        int last = Math.floorDiv(counts.lastKey(), width) * width;
+        for (long lower = first; lower <= last; lower += width) {
+            buckets.put((int) lower, 0L);
+        }
+        counts.forEach((score, c) -> buckets.merge(Math.floorDiv(score, width) * width, c, Long::sum));
+        return buckets;
+    }
+
+    /**
+     * 直方图分组数，用于调用方限制组宽过小
+     */
+    public long bucketCount(int width) {
+        if (count == 0) {
+            return 0;
+        }
+        return (long) Math.floorDiv(counts.lastKey(), width) - Math.floorDiv(counts.firstKey(), width) + 1;
+    }
+}
@@ -0,0 +1,106 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.model.domain.Submission;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 竞赛成绩分布统计（内存）
+ * <p>
+ * 每个竞赛维护一份 {@link ScoreDistribution}，评分时增量更新；服务重启后首次访问时从数据库加载，
+ * 数据不一致时可调用 {@link #rebuild} 重建；多节点部署时统计在 ttlMillis 后从数据库重新加载，
+ * 其他节点的评分最迟在这之后可见
+ */
+@Component
+public class ScoreStatsManager {
+
+    /**
+     * 统计从数据库加载后的有效时长，0 表示不过期（单节点部署）
+     */
+    @Value("${stats.ttl-millis:30000}")
+    private long ttlMillis;
+
+    private final Map<Long, CompetitionStats> statsMap = new ConcurrentHashMap<>();
+
+    /**
+     * 获取竞赛统计，未加载或已过期时用 loader 从数据库加载已评分提交
+     */
+    private CompetitionStats getOrLoad(Long competitionId, Supplier<List<Submission>> loader) {
+        long now = System.currentTimeMillis();
+        CompetitionStats stats = statsMap.get(competitionId);
+        if (stats != null && !isExpired(stats, now)) {
+            return stats;
+        }
+        return statsMap.compute(competitionId, (id, old) -> old != null && !isExpired(old, now)
+                ? old : new CompetitionStats(loader.get()));
+    }
+
+    private boolean isExpired(CompetitionStats stats, long now) {
+        return ttlMillis > 0 && now - stats.loadedAt >= ttlMillis;
+    }
+
+    /**
+     * 使用给定的已评分提交重建竞赛统计
+     */
+    public void rebuild(Long competitionId, List<Submission> scoredSubmissions) {
+        statsMap.put(competitionId, new CompetitionStats(scoredSubmissions));
+    }
+
+    /**
+     * 提交分数变化后增量更新；竞赛统计尚未加载时忽略（加载时会读到最新数据）
+     */
+    public void update(Submission submission) {
+        CompetitionStats stats = statsMap.get(submission.getCompetitionId());
+        if (stats != null) {
+            stats.upsert(submission);
+        }
+    }
+
+    /**
+     * 获取竞赛成绩分布的快照，可在锁外计算统计量
+     */
+    public ScoreDistribution snapshot(Long competitionId, Supplier<List<Submission>> loader) {
+        return getOrLoad(competitionId, loader).snapshot();
+    }
+
+    /**
+     * 单个竞赛的统计：记录每个提交当前计入的分数，用于改分时扣除旧值
+     */
+    private static class CompetitionStats {
+
+        private final ScoreDistribution distribution = new ScoreDistribution();
+
+        private final Map<Long, Integer> scoreById = new HashMap<>();
+
+        private final long loadedAt = System.currentTimeMillis();
+
+        CompetitionStats(List<Submission> scoredSubmissions) {
+            for (Submission submission : scoredSubmissions) {
+                upsert(submission);
+            }
+        }
+
+        synchronized void upsert(Submission submission) {
+            Integer old = scoreById.remove(submission.getId());
+            if (old != null) {
+                distribution.remove(old);
+            }
+            if (submission.getScore() == null
+                    || (submission.getIsDelete() != null && submission.getIsDelete() == 1)) {
+                return;
+            }
+            scoreById.put(submission.getId(), submission.getScore());
+            distribution.add(submission.getScore());
+        }
+
+        synchronized ScoreDistribution snapshot() {
+            ScoreDistribution copy = new ScoreDistribution();
+            copy.merge(distribution);
+            return copy;
+        }
+    }
+}
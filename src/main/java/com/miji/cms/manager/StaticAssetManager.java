@@ -0,0 +1,223 @@
+package com.miji.cms.manager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import javax.annotation.PostConstruct;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 打包在 classpath:/static 下的前端页面
+ * <p>
+ * 启动时把 assets 下可压缩的文件（js、css 等）预先 gzip 到 {file.upload-path}/.cache/static/assets，
+ * 与原文件放在同一目录，由 EncodedResourceResolver 按 Accept-Encoding 选择；文件名带内容哈希，
+ * 已生成的文件不再重复压缩。index.html 的原文、gzip 结果与 ETag 缓存在内存中
+ */
+@Slf4j
+@Component
+public class StaticAssetManager {
+
+    static final String CACHE_FOLDER = ".cache/static/assets";
+
+    private static final String ASSETS_PATTERN = "classpath:/static/assets/**";
+
+    private static final String INDEX_LOCATION = "classpath:/static/index.html";
+
+    private static final List<String> COMPRESSIBLE_EXTENSIONS =
+            Arrays.asList("js", "mjs", "css", "html", "svg", "json", "map", "txt", "xml", "ico");
+
+    /**
+     * 压缩后至少小 10% 才保留 gzip 版本
+     */
+    private static final double MIN_COMPRESSION_RATIO = 0.9;
+
+    @Value("${file.upload-path}")
+    private String uploadPath;
+
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    private volatile IndexPage indexPage;
+
+    @PostConstruct
+    public void init() {
+        try {
+            precompressAssets();
+        } catch (IOException e) {
+            // 预压缩失败不影响启动，assets 仍以原文提供
+            log.warn("前端资源预压缩失败", e);
+        }
+        indexPage = loadIndexPage();
+    }
+
+    /**
+     * 预压缩文件所在目录，作为 /assets/** 的第一个资源位置
+     */
+    public Path getCacheDirectory() {
+        return Paths.get(uploadPath, CACHE_FOLDER).toAbsolutePath();
+    }
+
+    /**
+     * 前端入口页面，打包中没有 index.html 时返回 null
+     */
+    public IndexPage getIndexPage() {
+        return indexPage;
+    }
+
+    void precompressAssets() throws IOException {
+        Path cacheDir = getCacheDirectory();
+        int compressed = 0;
+        for (Resource resource : resourceResolver.getResources(ASSETS_PATTERN)) {
+            String name = resource.getFilename();
+            if (name == null || !resource.isReadable() || !COMPRESSIBLE_EXTENSIONS.contains(extension(name))) {
+                continue;
+            }
+            byte[] content;
+            try (InputStream in = resource.getInputStream()) {
+                content = StreamUtils.copyToByteArray(in);
+            }
+            String relative = relativePath(resource.getURL().toString());
+            if (relative == null) {
+                continue;
+            }
+            Path original = cacheDir.resolve(relative);
+            Path gzipped = cacheDir.resolve(relative + ".gz");
+            if (Files.exists(gzipped) && Files.exists(original) && Files.size(original) == content.length) {
+                continue;
+            }
+            byte[] gzip = gzip(content);
+            if (gzip.length > content.length * MIN_COMPRESSION_RATIO) {
+                continue;
+            }
+            Files.createDirectories(original.getParent());
+            writeAtomically(original, content);
+            writeAtomically(gzipped, gzip);
+            compressed++;
+        }
+        log.info("前端资源预压缩完成，新生成 {} 个 gzip 文件: {}", compressed, cacheDir);
+    }
+
+    private IndexPage loadIndexPage() {
+        Resource resource = resourceResolver.getResource(INDEX_LOCATION);
+        if (!resource.exists()) {
+            log.warn("未找到 {}", INDEX_LOCATION);
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return new IndexPage(StreamUtils.copyToByteArray(in));
+        } catch (IOException e) {
+            log.error("读取 {} 失败", INDEX_LOCATION, e);
+            return null;
+        }
+    }
+
+    /**
+     * classpath 地址中 /static/assets/ 之后的部分（文件系统与 jar 中的地址均适用）
+     */
+    static String relativePath(String url) {
+        int index = url.lastIndexOf("/static/assets/");
+        if (index < 0) {
+            return null;
+        }
+        String relative = url.substring(index + "/static/assets/".length());
+        return relative.isEmpty() || relative.contains("..") ? null : relative;
+    }
+
+    static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), "asset-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(content);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String extension(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase();
+    }
+
+    /**
+     * 内存中的 index.html
+     */
+    public static class IndexPage {
+
+        private final byte[] content;
+
+        private final byte[] gzipContent;
+
+        private final String etag;
+
+        IndexPage(byte[] content) throws IOException {
+            this.content = content;
+            this.gzipContent = gzip(content);
+            this.etag = "\"" + sha256(content).substring(0, 32) + "\"";
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public byte[] getGzipContent() {
+            return gzipContent;
+        }
+
+        /**
+         * 原文的强 ETag
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * gzip 版本的强 ETag（不同编码的表示不能共用强 ETag）
+         */
+        public String getGzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        private static String sha256(byte[] content) {
+            try {
+                StringBuilder hex = new StringBuilder(64);
+                for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+                    hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.miji.cms.manager;
+
+import com.baomidou.mybatisplus.core.conditions.update.UpdateWrapper;
+import com.miji.cms.mapper.CompetitionMapper;
+import com.miji.cms.mapper.CompetitionSubmissionMapper;
+import com.miji.cms.mapper.FileBlobMapper;
+import com.miji.cms.mapper.UploadReferenceMapper;
+import com.miji.cms.mapper.UserMapper;
+import com.miji.cms.model.domain.Competition;
+import com.miji.cms.model.domain.User;
+import com.miji.cms.model.request.StorageMigrationVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.Resource;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 上传文件存储迁移：把 {file.upload-path} 下的已有文件迁移到当前 {@link FileStorage}
+ * <p>
+ * 逐个遍历文件（不在内存中保存文件列表），以 . 开头的暂存目录跳过：
+ * <ul>
+ *     <li>按内容哈希命名的文件移动到分目录的存储键，地址不变；</li>
+ *     <li>videos/images/files/submissions 下的旧 UUID 文件改为内容哈希命名，并改写作品、竞赛封面、用户头像
+ *     以及竞赛详情、招募描述、聊天消息等富文本中内嵌的地址（与 {@link UploadCleanupManager} 统计引用的列一致）；</li>
+ *     <li>其他文件（成绩快照）键与路径相同，只有远程存储需要上传。</li>
+ * </ul>
+ * 可重复执行，已迁移的文件会被跳过
+ */
+@Slf4j
+@Component
+public class StorageMigrationManager {
+
+    /**
+     * 旧作品文件名：{UUID}_{原始文件名}
+     */
+    private static final Pattern LEGACY_SUBMISSION_NAME =
+            Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}_.+");
+
+    @Value("${file.upload-path}")
+    private String uploadPath;
+
+    @Resource
+    private FileStorage fileStorage;
+
+    @Resource
+    private FileBlobMapper fileBlobMapper;
+
+    @Resource
+    private CompetitionSubmissionMapper competitionSubmissionMapper;
+
+    @Resource
+    private CompetitionMapper competitionMapper;
+
+    @Resource
+    private UserMapper userMapper;
+
+    @Resource
+    private UploadReferenceMapper uploadReferenceMapper;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicLong scanned = new AtomicLong();
+
+    private final AtomicLong moved = new AtomicLong();
+
+    private final AtomicLong deduplicated = new AtomicLong();
+
+    private final AtomicLong renamed = new AtomicLong();
+
+    private final AtomicLong referencesUpdated = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile Date startTime;
+
+    private volatile Date finishTime;
+
+    private volatile String error;
+
+    /**
+     * 在后台线程开始迁移
+     *
+     * @return 已有迁移在进行时返回 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::runMigration, "storage-migration");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public StorageMigrationVO getStatus() {
+        StorageMigrationVO vo = new StorageMigrationVO();
+        vo.setRunning(running.get());
+        vo.setStartTime(startTime);
+        vo.setFinishTime(finishTime);
+        vo.setScanned(scanned.get());
+        vo.setMoved(moved.get());
+        vo.setDeduplicated(deduplicated.get());
+        vo.setRenamed(renamed.get());
+        vo.setReferencesUpdated(referencesUpdated.get());
+        vo.setFailed(failed.get());
+        vo.setError(error);
+        return vo;
+    }
+
+    /**
+     * 同步执行迁移（调用方保证同一时间只有一次）
+     */
+    void runMigration() {
+        for (AtomicLong counter : Arrays.asList(scanned, moved, deduplicated, renamed, referencesUpdated, failed)) {
+            counter.set(0);
+        }
+        startTime = new Date();
+        finishTime = null;
+        error = null;
+        try {
+            migrate();
+        } catch (IOException | RuntimeException e) {
+            log.error("存储迁移中断", e);
+            error = e.getMessage();
+        } finally {
+            finishTime = new Date();
+            running.set(false);
+            log.info("存储迁移结束: {}", getStatus());
+        }
+    }
+
+    private void migrate() throws IOException {
+        Path root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        boolean local = fileStorage instanceof LocalFileStorage;
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                // .tmp、.chunks 等暂存目录
+                return !dir.equals(root) && dir.getFileName().toString().startsWith(".")
+                        ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!attrs.isRegularFile()) {
+                    return FileVisitResult.CONTINUE;
+                }
+                scanned.incrementAndGet();
+                String path = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                try {
+                    migrateFile(file, path, local);
+                } catch (IOException | RuntimeException e) {
+                    failed.incrementAndGet();
+                    log.warn("迁移文件失败: {}", path, e);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                failed.incrementAndGet();
+                log.warn("读取文件失败: {}", file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void migrateFile(Path file, String path, boolean local) throws IOException {
+        int slash = path.indexOf('/');
+        String folder = slash < 0 ? "" : path.substring(0, slash);
+        String name = file.getFileName().toString();
+
+        if (FileStorage.HASH_NAME.matcher(name).matches()) {
+            String key = FileStorage.keyOf(folder + "/" + name);
+            if (!(local && key.equals(path))) {
+                moveTo(key, file);
+            }
+        } else if (FileStorage.UPLOAD_FOLDERS.contains(folder) && slash == path.lastIndexOf('/')) {
+            contentAddress(file, folder, name);
+        } else if (!local) {
+            moveTo(path, file);
+        }
+    }
+
+    private void moveTo(String key, Path file) throws IOException {
+        if (fileStorage.exists(key)) {
+            Files.delete(file);
+            deduplicated.incrementAndGet();
+        } else {
+            fileStorage.put(key, file);
+            moved.incrementAndGet();
+        }
+    }
+
+    /**
+     * 旧文件改为内容哈希命名并改写引用；引用次数按改写的记录数计，没有引用的文件计为 0 等待清理
+     */
+    private void contentAddress(Path file, String folder, String name) throws IOException {
+        String extension = StringUtils.getFilenameExtension(name);
+        String hash = ContentStoreManager.sha256(file);
+        long size = Files.size(file);
+        String oldUrl = "/uploads/" + folder + "/" + name;
+        String newUrl = "/uploads/" + folder + "/" + (StringUtils.hasText(extension) ? hash + "." + extension : hash);
+
+        moveTo(FileStorage.keyOf(newUrl), file);
+
+        String originalName = "submissions".equals(folder) && LEGACY_SUBMISSION_NAME.matcher(name).matches()
+                ? name.substring(name.indexOf('_') + 1) : null;
+        int references = competitionSubmissionMapper.replaceFileUrl(oldUrl, newUrl, originalName)
+                + competitionMapper.update(null, new UpdateWrapper<Competition>()
+                        .set("coverUrl", newUrl).eq("coverUrl", oldUrl))
+                + userMapper.update(null, new UpdateWrapper<User>()
+                        .set("userUrl", newUrl).eq("userUrl", oldUrl));
+        // 富文本中的旧地址不改写会在清理时失去引用，改名后的文件随之被删除
+        for (UploadCleanupManager.ReferenceColumn column : UploadCleanupManager.REFERENCE_COLUMNS) {
+            if (column.richText) {
+                references += uploadReferenceMapper.replaceReferences(column.table, column.column, oldUrl, newUrl);
+            }
+        }
+        fileBlobMapper.acquire(newUrl, hash, size, references);
+
+        renamed.incrementAndGet();
+        referencesUpdated.addAndGet(references);
+    }
+}
@@ -0,0 +1,259 @@
+package com.miji.cms.manager;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.miji.cms.common.ErrorCode;
+import com.miji.cms.exception.BusinessException;
+import com.miji.cms.mapper.StorageUsageMapper;
+import com.miji.cms.mapper.UploadOwnerMapper;
+import com.miji.cms.model.domain.StorageUsage;
+import com.miji.cms.model.domain.UploadOwner;
+import com.miji.cms.model.request.StorageUsageVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 存储用量统计与配额
+ * <p>
+ * 每次上传、覆盖旧稿时按文件大小增量记录到用户与竞赛，不扫描上传目录。增量先在内存中合并，
+ * 定时批量写入 storage_usage（每次刷新一条 INSERT ... ON DUPLICATE KEY UPDATE），
+ * 上传高峰时数据库写入次数与上传次数无关。用量按引用计：相同内容的文件只存储一份，但每次上传分别计入上传者，
+ * 配额限制的是每个用户、每个竞赛“占用”的空间。进程异常退出时最多丢失一个刷新周期的增量
+ * <p>
+ * 作品在覆盖旧稿时按新旧大小的差值扣减；图片、视频等普通上传在 upload_owner 中记下上传者，
+ * 更换头像、封面或文件被清理时退回
+ */
+@Slf4j
+@Component
+public class StorageUsageManager {
+
+    public static final String SCOPE_USER = "user";
+
+    public static final String SCOPE_COMPETITION = "competition";
+
+    /**
+     * 单条语句最多写入的统计对象数
+     */
+    static final int FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * 每个用户的配额（字节），0 表示不限制
+     */
+    @Value("${storage.quota.user-bytes:0}")
+    private long userQuotaBytes;
+
+    /**
+     * 每个竞赛作品的配额（字节），0 表示不限制
+     */
+    @Value("${storage.quota.competition-bytes:0}")
+    private long competitionQuotaBytes;
+
+    @Resource
+    private StorageUsageMapper storageUsageMapper;
+
+    @Resource
+    private UploadOwnerMapper uploadOwnerMapper;
+
+    /**
+     * 尚未写入数据库的增量，键为 scopeType:scopeId；值不可变，用 merge 原子合并
+     */
+    private final ConcurrentHashMap<String, Delta> pending = new ConcurrentHashMap<>();
+
+    public boolean isQuotaEnabled() {
+        return userQuotaBytes > 0 || competitionQuotaBytes > 0;
+    }
+
+    /**
+     * 记录一次用量变化
+     *
+     * @param scopeId 为空时不记录（如未登录的上传）
+     * @param bytes   增加的字节数，覆盖旧稿时为新旧文件的差值
+     * @param files   增加的文件数
+     */
+    public void record(String scopeType, Long scopeId, long bytes, int files) {
+        if (scopeId == null || (bytes == 0 && files == 0)) {
+            return;
+        }
+        pending.merge(scopeType + ":" + scopeId, new Delta(scopeType, scopeId, bytes, files), Delta::plus);
+    }
+
+    /**
+     * 记录作品文件的用量，同时计入竞赛与提交人
+     */
+    public void recordSubmission(Long competitionId, Long userId, long bytes, int files) {
+        record(SCOPE_COMPETITION, competitionId, bytes, files);
+        record(SCOPE_USER, userId, bytes, files);
+    }
+
+    /**
+     * 记录一次普通上传（图片、视频、附件），计入上传者并记下归属
+     *
+     * @param userId 为空时不记录
+     */
+    public void recordUpload(Long userId, String fileUrl, long bytes) {
+        if (userId == null) {
+            return;
+        }
+        uploadOwnerMapper.acquire(fileUrl, userId, bytes);
+        record(SCOPE_USER, userId, bytes, 1);
+    }
+
+    /**
+     * 用户不再使用自己上传的文件（更换头像、封面），退回一次上传的用量；不是该用户上传的文件不处理
+     */
+    public void releaseUpload(Long userId, String fileUrl) {
+        if (userId == null || !StringUtils.hasText(fileUrl)) {
+            return;
+        }
+        UploadOwner owner = uploadOwnerMapper.selectOne(new QueryWrapper<UploadOwner>()
+                .eq("fileUrl", fileUrl)
+                .eq("userId", userId));
+        if (owner != null && uploadOwnerMapper.release(fileUrl, userId) > 0) {
+            record(SCOPE_USER, userId, -owner.getFileSize(), -1);
+        }
+    }
+
+    /**
+     * 文件已被清理，退回各上传者尚未退回的用量并删除归属记录
+     */
+    public void releaseDeleted(String fileUrl) {
+        List<UploadOwner> owners = uploadOwnerMapper.selectList(new QueryWrapper<UploadOwner>()
+                .eq("fileUrl", fileUrl));
+        if (owners.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(owners.size());
+        for (UploadOwner owner : owners) {
+            ids.add(owner.getId());
+            int count = owner.getUploadCount();
+            record(SCOPE_USER, owner.getUserId(), -owner.getFileSize() * count, -count);
+        }
+        uploadOwnerMapper.deleteBatchIds(ids);
+    }
+
+    /**
+     * 校验再写入 additionalBytes 后是否超出配额，超出时抛出异常
+     *
+     * @param competitionId 作品所属竞赛，非作品上传时为空
+     * @param userId        上传者，未登录时为空
+     */
+    public void checkQuota(Long competitionId, Long userId, long additionalBytes) {
+        if (additionalBytes <= 0) {
+            return;
+        }
+        if (competitionQuotaBytes > 0 && competitionId != null
+                && getUsedBytes(SCOPE_COMPETITION, competitionId) + additionalBytes > competitionQuotaBytes) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "竞赛作品存储空间已满，请联系竞赛管理员");
+        }
+        if (userQuotaBytes > 0 && userId != null
+                && getUsedBytes(SCOPE_USER, userId) + additionalBytes > userQuotaBytes) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "个人存储空间已满，请删除旧文件或联系管理员");
+        }
+    }
+
+    /**
+     * 当前用量：数据库中的值加上未刷新的增量
+     */
+    long getUsedBytes(String scopeType, Long scopeId) {
+        StorageUsage usage = storageUsageMapper.selectOne(new QueryWrapper<StorageUsage>()
+                .eq("scopeType", scopeType)
+                .eq("scopeId", scopeId));
+        Delta delta = pending.get(scopeType + ":" + scopeId);
+        long used = (usage == null ? 0 : usage.getUsedBytes()) + (delta == null ? 0 : delta.bytes);
+        return Math.max(used, 0);
+    }
+
+    /**
+     * 查询用量，按占用从大到小排序（先刷新未写入的增量）
+     *
+     * @param scopeId 为空时列出该类型用量最大的 limit 个
+     */
+    public List<StorageUsageVO> listUsage(String scopeType, Long scopeId, int limit) {
+        flush();
+        QueryWrapper<StorageUsage> wrapper = new QueryWrapper<StorageUsage>().eq("scopeType", scopeType);
+        if (scopeId != null) {
+            wrapper.eq("scopeId", scopeId);
+        }
+        wrapper.orderByDesc("usedBytes").last("LIMIT " + limit);
+        long quota = SCOPE_USER.equals(scopeType) ? userQuotaBytes : competitionQuotaBytes;
+
+        List<StorageUsageVO> result = new ArrayList<>();
+        for (StorageUsage usage : storageUsageMapper.selectList(wrapper)) {
+            StorageUsageVO vo = new StorageUsageVO();
+            vo.setScopeType(usage.getScopeType());
+            vo.setScopeId(usage.getScopeId());
+            vo.setUsedBytes(usage.getUsedBytes());
+            vo.setFileCount(usage.getFileCount());
+            vo.setQuotaBytes(quota);
+            vo.setUpdateTime(usage.getUpdateTime());
+            result.add(vo);
+        }
+        return result;
+    }
+
+    /**
+     * 把合并后的增量批量写入数据库；写入失败时放回，下次重试
+     */
+    @Scheduled(fixedDelayString = "${storage.usage.flush-millis:5000}")
+    @PreDestroy
+    public synchronized void flush() {
+        List<Delta> batch = new ArrayList<>();
+        for (String key : pending.keySet()) {
+            Delta delta = pending.remove(key);
+            if (delta != null && (delta.bytes != 0 || delta.files != 0)) {
+                batch.add(delta);
+            }
+        }
+        for (int start = 0; start < batch.size(); start += FLUSH_BATCH_SIZE) {
+            List<Delta> part = batch.subList(start, Math.min(start + FLUSH_BATCH_SIZE, batch.size()));
+            List<StorageUsage> rows = new ArrayList<>(part.size());
+            for (Delta delta : part) {
+                StorageUsage row = new StorageUsage();
+                row.setScopeType(delta.scopeType);
+                row.setScopeId(delta.scopeId);
+                row.setUsedBytes(delta.bytes);
+                row.setFileCount(delta.files);
+                rows.add(row);
+            }
+            try {
+                storageUsageMapper.addBatch(rows);
+            } catch (RuntimeException e) {
+                log.warn("写入存储用量失败，{} 条增量下次重试", batch.size() - start, e);
+                for (Delta delta : batch.subList(start, batch.size())) {
+                    pending.merge(delta.scopeType + ":" + delta.scopeId, delta, Delta::plus);
+                }
+                return;
+            }
+        }
+    }
+
+    private static final class Delta {
+
+        final String scopeType;
+
+        final Long scopeId;
+
+        final long bytes;
+
+        final int files;
+
+        Delta(String scopeType, Long scopeId, long bytes, int files) {
+            this.scopeType = scopeType;
+            this.scopeId = scopeId;
+            this.bytes = bytes;
+            this.files = files;
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(scopeType, scopeId, bytes + other.bytes, files + other.files);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.miji.cms.manager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 作品打包下载：把多个提交文件依次写入同一个 ZIP 输出流
+ * <p>
+ * 文件逐个读取、直接写入响应，不生成临时文件，内存只占用一个读缓冲区，与打包大小无关。
+ * 已压缩的格式（压缩包、音视频、图片、Office 文档等）不再压缩：本地存储时以 STORED 写入
+ * （需预先读一遍文件计算 CRC），远程存储时为避免重复下载，以不压缩级别的 DEFLATED 写入
+ */
+@Slf4j
+@Component
+public class SubmissionBundleManager {
+
+    /**
+     * 已压缩的文件格式
+     */
+    static final List<String> COMPRESSED_EXTENSIONS = Arrays.asList(
+            "zip", "rar", "7z", "gz", "tgz", "bz2", "xz", "jar", "apk",
+            "mp4", "mov", "mkv", "avi", "webm", "mp3", "aac", "m4a", "ogg", "flac",
+            "jpg", "jpeg", "png", "gif", "webp", "heic",
+            "docx", "xlsx", "pptx", "pdf");
+
+    /**
+     * 条目名称中不允许出现的字符（Windows 文件名限制与路径分隔符）
+     */
+    private static final String ILLEGAL_NAME_CHARS = "[\\\\/:*?\"<>|\\p{Cntrl}]";
+
+    private static final int MAX_PREFIX_LENGTH = 64;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Resource
+    private FileStorage fileStorage;
+
+    /**
+     * 创建写入 out 的 ZIP 流（条目名称使用 UTF-8）
+     */
+    public ZipOutputStream open(OutputStream out) {
+        return new ZipOutputStream(out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 写入一个提交文件
+     *
+     * @param entryName 条目名称，见 {@link #entryName}
+     * @param fileUrl   作品文件地址 /uploads/...
+     * @return 文件不存在时写入说明文件并返回 false
+     */
+    public boolean addFile(ZipOutputStream zip, String entryName, String fileUrl) throws IOException {
+        String key = FileStorage.keyOf(fileUrl);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        File local = fileStorage.getLocalFile(key);
+        if (local != null && !local.isFile()) {
+            return addMissing(zip, entryName);
+        }
+        if (local != null && isCompressed(entryName)) {
+            addStored(zip, entryName, local, buffer);
+            return true;
+        }
+
+        InputStream in;
+        try {
+            in = local != null ? Files.newInputStream(local.toPath()) : fileStorage.open(key);
+        } catch (NoSuchFileException e) {
+            return addMissing(zip, entryName);
+        }
+        try (InputStream source = in) {
+            zip.setMethod(ZipOutputStream.DEFLATED);
+            zip.setLevel(isCompressed(entryName) ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(entryName));
+            copy(source, zip, buffer);
+            zip.closeEntry();
+        }
+        return true;
+    }
+
+    /**
+     * STORED 条目需要在数据之前写出大小与 CRC，先读一遍文件计算
+     */
+    private static void addStored(ZipOutputStream zip, String entryName, File file, byte[] buffer)
+            throws IOException {
+        CRC32 crc = new CRC32();
+        long size = 0;
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        ZipEntry entry = new ZipEntry(entryName);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc.getValue());
+        zip.putNextEntry(entry);
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            // 两次读取之间文件被替换时，ZipOutputStream 校验大小与 CRC 失败并抛出 ZipException
+            copy(in, zip, buffer);
+        }
+        zip.closeEntry();
+    }
+
+    private static boolean addMissing(ZipOutputStream zip, String entryName) throws IOException {
+        log.warn("打包时作品文件不存在: {}", entryName);
+        zip.setMethod(ZipOutputStream.DEFLATED);
+        zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+        zip.putNextEntry(new ZipEntry(entryName + ".missing.txt"));
+        zip.write("作品文件不存在或已被删除".getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+        return false;
+    }
+
+    private static void copy(InputStream in, OutputStream out, byte[] buffer) throws IOException {
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    /**
+     * 条目名称：{队伍名或提交人}_{提交ID}.{原扩展名}，提交 ID 保证名称不重复
+     *
+     * @param owner    队伍名或提交人用户名，可为空
+     * @param fileName 原始文件名（或存储文件名），用于取扩展名
+     */
+    public static String entryName(String owner, Long submissionId, String fileName) {
+        String prefix = owner == null ? "" : owner.replaceAll(ILLEGAL_NAME_CHARS, "_").trim();
+        if (prefix.length() > MAX_PREFIX_LENGTH) {
+            prefix = prefix.substring(0, MAX_PREFIX_LENGTH);
+        }
+        // 只由点组成的名称（. 和 ..）在解压时有路径含义
+        if (prefix.replace(".", "").isEmpty()) {
+            prefix = "submission";
+        }
+        String extension = extension(fileName);
+        return prefix + "_" + submissionId + (extension.isEmpty() ? "" : "." + extension);
+    }
+
+    static boolean isCompressed(String name) {
+        return COMPRESSED_EXTENSIONS.contains(extension(name));
+    }
+
+    private static String extension(String name) {
+        if (name == null) {
+            return "";
+        }
+        int slash = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'));
+        int dot = name.lastIndexOf('.');
+        if (dot <= slash + 1 || dot == name.length() - 1) {
+            return "";
+        }
+        String extension = name.substring(dot + 1).toLowerCase();
+        return extension.matches("[0-9a-z]{1,10}") ? extension : "";
+    }
+}
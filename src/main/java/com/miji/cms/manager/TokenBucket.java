@@ -0,0 +1,47 @@
+package com.miji.cms.manager;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 令牌桶：每秒补充 rate 个令牌（字节），最多积攒 capacity 个
+ * <p>
+ * {@link #reserve} 直接扣除令牌，不足时记为欠账并返回需要等待的时长，调用方在锁外等待，
+ * 多个连接共用同一个桶时按请求先后排队，总速率不超过 rate
+ */
+class TokenBucket {
+
+    private final long rate;
+
+    private final long capacity;
+
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+
+    private long lastRefill;
+
+    TokenBucket(long rate, long capacity, LongSupplier nanoClock) {
+        this.rate = rate;
+        this.capacity = capacity;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * 取走 permits 个令牌
+     *
+     * @return 需要等待的纳秒数，令牌充足时为 0
+     */
+    synchronized long reserve(long permits) {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * (double) rate / 1_000_000_000L);
+        lastRefill = now;
+        tokens -= permits;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * 1_000_000_000L / rate);
+    }
+
+    long getRate() {
+        return rate;
+    }
+}
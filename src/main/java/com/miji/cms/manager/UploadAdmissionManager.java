@@ -0,0 +1,172 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.model.request.UploadAdmissionVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 上传准入控制：按请求声明的 Content-Length 统计进行中的上传总字节数，超出预算的上传排队等待，
+ * 队列已满或等待超时时拒绝
+ * <p>
+ * 预算中保留一部分给小文件（头像、封面等），大文件最多使用 maxBytes - reservedBytes，
+ * 截止前的大量作品提交不会挡住小文件上传。单个上传超过可用预算时按可用预算计，允许它单独进行
+ */
+@Component
+public class UploadAdmissionManager {
+
+    /**
+     * 进行中上传的总字节数上限，0 表示不限制
+     */
+    @Value("${upload.admission.max-bytes:0}")
+    private long maxBytes;
+
+    /**
+     * 保留给小文件的字节数
+     */
+    @Value("${upload.admission.reserved-bytes:0}")
+    private long reservedBytes;
+
+    /**
+     * 不超过该大小的上传视为小文件
+     */
+    @Value("${upload.admission.small-upload-bytes:1048576}")
+    private long smallUploadBytes;
+
+    /**
+     * 未声明 Content-Length（分块传输）的上传按该大小计
+     */
+    @Value("${upload.admission.unknown-length-bytes:20971520}")
+    private long unknownLengthBytes;
+
+    /**
+     * 最多排队的上传数
+     */
+    @Value("${upload.admission.max-queue:50}")
+    private int maxQueue;
+
+    /**
+     * 排队最长等待时间
+     */
+    @Value("${upload.admission.queue-timeout-millis:3000}")
+    private long queueTimeoutMillis;
+
+    @Value("${upload.admission.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private long inFlightBytes;
+
+    private int inFlightUploads;
+
+    private int queueDepth;
+
+    private int peakQueueDepth;
+
+    private final AtomicLong admitted = new AtomicLong();
+
+    private final AtomicLong delayed = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicLong timedOut = new AtomicLong();
+
+    public boolean isEnabled() {
+        return maxBytes > 0;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * 申请上传额度，必要时排队等待
+     *
+     * @param contentLength 请求声明的长度，未声明时为 -1
+     * @return 获得的额度（完成后交给 {@link #release}），被拒绝时返回 -1
+     */
+    public long acquire(long contentLength) throws InterruptedException {
+        long bytes = contentLength < 0 ? unknownLengthBytes : contentLength;
+        long limit = bytes <= smallUploadBytes ? maxBytes : Math.max(maxBytes - reservedBytes, 1);
+        bytes = Math.min(bytes, limit);
+
+        lock.lock();
+        try {
+            if (inFlightBytes + bytes <= limit) {
+                admit(bytes);
+                return bytes;
+            }
+            if (queueDepth >= maxQueue) {
+                rejected.incrementAndGet();
+                return -1;
+            }
+            queueDepth++;
+            peakQueueDepth = Math.max(peakQueueDepth, queueDepth);
+            try {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+                while (inFlightBytes + bytes > limit) {
+                    if (remaining <= 0) {
+                        rejected.incrementAndGet();
+                        timedOut.incrementAndGet();
+                        return -1;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } finally {
+                queueDepth--;
+            }
+            delayed.incrementAndGet();
+            admit(bytes);
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 上传结束（成功或失败）后归还额度
+     */
+    public void release(long bytes) {
+        lock.lock();
+        try {
+            inFlightBytes -= bytes;
+            inFlightUploads--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public UploadAdmissionVO getStatus() {
+        UploadAdmissionVO vo = new UploadAdmissionVO();
+        vo.setMaxBytes(maxBytes);
+        vo.setReservedBytes(reservedBytes);
+        lock.lock();
+        try {
+            vo.setInFlightBytes(inFlightBytes);
+            vo.setInFlightUploads(inFlightUploads);
+            vo.setQueueDepth(queueDepth);
+            vo.setPeakQueueDepth(peakQueueDepth);
+        } finally {
+            lock.unlock();
+        }
+        vo.setAdmitted(admitted.get());
+        vo.setDelayed(delayed.get());
+        vo.setRejected(rejected.get());
+        vo.setTimedOut(timedOut.get());
+        return vo;
+    }
+
+    private void admit(long bytes) {
+        inFlightBytes += bytes;
+        inFlightUploads++;
+        admitted.incrementAndGet();
+    }
+}
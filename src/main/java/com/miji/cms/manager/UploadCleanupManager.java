@@ -0,0 +1,346 @@
+package com.miji.cms.manager;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.miji.cms.mapper.FileBlobMapper;
+import com.miji.cms.mapper.UploadReferenceMapper;
+import com.miji.cms.model.domain.FileBlob;
+import com.miji.cms.model.request.UploadCleanupVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 无引用上传文件清理
+ * <p>
+ * 覆盖提交的旧作品、替换掉的封面和头像不会被立即删除（可能有进行中的请求仍在使用），由这里定期回收：
+ * <ol>
+ *     <li>按主键分批读取所有引用上传文件的列（含富文本中内嵌的地址），放入布隆过滤器；</li>
+ *     <li>逐个遍历 {@link FileStorage#UPLOAD_FOLDERS} 下的文件（不在内存中保存文件列表），
+ *     不在过滤器中且最后修改时间早于宽限期的文件视为无引用，连同 file_blob 记录、图片缩略图和压缩包文件列表缓存一起删除；</li>
+ *     <li>清理过期的分片上传会话和残留的临时文件。</li>
+ * </ol>
+ * 布隆过滤器只会把无引用的文件误判为有引用（少删），不会误删。宽限期内上传、尚未保存引用的文件，
+ * 以及宽限期内 file_blob 引用次数有变化（相同内容被再次上传）的文件都会保留
+ */
+@Slf4j
+@Component
+public class UploadCleanupManager {
+
+    /**
+     * 每批读取的记录数
+     */
+    static final int REFERENCE_BATCH = 1000;
+
+    /**
+     * 布隆过滤器误判率
+     */
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    /**
+     * 富文本列按每行平均内嵌的地址数估算过滤器容量
+     */
+    private static final int URLS_PER_RICH_TEXT = 4;
+
+    private static final Pattern UPLOAD_URL = Pattern.compile("/uploads/[^\\s\"'<>()?#]+");
+
+    /**
+     * 引用上传文件的列
+     */
+    static final List<ReferenceColumn> REFERENCE_COLUMNS = Arrays.asList(
+            new ReferenceColumn("competition_submission", "fileUrl", false),
+            new ReferenceColumn("competition", "coverUrl", false),
+            new ReferenceColumn("competition", "content", true),
+            new ReferenceColumn("user", "userUrl", false),
+            new ReferenceColumn("team_recruitment", "description", true),
+            new ReferenceColumn("chat_message", "content", true)
+    );
+
+    @Value("${file.upload-path}")
+    private String uploadPath;
+
+    /**
+     * 无引用文件保留时长
+     */
+    @Value("${storage.gc.grace-hours:24}")
+    private long graceHours;
+
+    /**
+     * 分片上传会话多久没有新分片后清理
+     */
+    @Value("${storage.gc.chunk-expire-hours:168}")
+    private long chunkExpireHours;
+
+    /**
+     * 只统计不删除
+     */
+    @Value("${storage.gc.dry-run:false}")
+    private boolean dryRun;
+
+    @Resource
+    private FileStorage fileStorage;
+
+    @Resource
+    private FileBlobMapper fileBlobMapper;
+
+    @Resource
+    private StorageUsageManager storageUsageManager;
+
+    @Resource
+    private UploadReferenceMapper uploadReferenceMapper;
+
+    @Resource
+    private ChunkUploadManager chunkUploadManager;
+
+    @Resource
+    private ImageVariantManager imageVariantManager;
+
+    @Resource
+    private ArchiveManifestManager archiveManifestManager;
+
+    Clock clock = Clock.systemUTC();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicLong references = new AtomicLong();
+
+    private final AtomicLong scanned = new AtomicLong();
+
+    private final AtomicLong recent = new AtomicLong();
+
+    private final AtomicLong orphans = new AtomicLong();
+
+    private final AtomicLong deleted = new AtomicLong();
+
+    private final AtomicLong deletedBytes = new AtomicLong();
+
+    private final AtomicLong chunkSessions = new AtomicLong();
+
+    private final AtomicLong tempFiles = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile Date startTime;
+
+    private volatile Date finishTime;
+
+    private volatile String error;
+
+    /**
+     * 定时清理，默认每天 03:30；storage.gc.cron 设为 - 时关闭
+     */
+    @Scheduled(cron = "${storage.gc.cron:0 30 3 * * ?}")
+    public void scheduledCleanup() {
+        if (!start()) {
+            log.info("上一次文件清理尚未结束，跳过本次");
+        }
+    }
+
+    /**
+     * 在后台线程开始清理
+     *
+     * @return 已有清理在进行时返回 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::runCleanup, "upload-cleanup");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public UploadCleanupVO getStatus() {
+        UploadCleanupVO vo = new UploadCleanupVO();
+        vo.setRunning(running.get());
+        vo.setDryRun(dryRun);
+        vo.setStartTime(startTime);
+        vo.setFinishTime(finishTime);
+        vo.setReferences(references.get());
+        vo.setScanned(scanned.get());
+        vo.setRecent(recent.get());
+        vo.setOrphans(orphans.get());
+        vo.setDeleted(deleted.get());
+        vo.setDeletedBytes(deletedBytes.get());
+        vo.setChunkSessions(chunkSessions.get());
+        vo.setTempFiles(tempFiles.get());
+        vo.setFailed(failed.get());
+        vo.setError(error);
+        return vo;
+    }
+
+    /**
+     * 同步执行清理（调用方保证同一时间只有一次）
+     */
+    void runCleanup() {
+        for (AtomicLong counter : Arrays.asList(references, scanned, recent, orphans, deleted, deletedBytes,
+                chunkSessions, tempFiles, failed)) {
+            counter.set(0);
+        }
+        startTime = new Date();
+        finishTime = null;
+        error = null;
+        try {
+            Instant now = clock.instant();
+            Instant before = now.minus(Duration.ofHours(graceHours));
+            cleanTemporary(now, before);
+
+            // 先读引用再遍历文件：遍历期间新上传的文件在宽限期内，不会被误删
+            BloomFilter live = loadReferences();
+            for (String folder : FileStorage.UPLOAD_FOLDERS) {
+                fileStorage.walk(folder, (key, size, lastModified) -> sweep(key, size, lastModified, live, before));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("文件清理中断", e);
+            error = e.getMessage();
+        } finally {
+            finishTime = new Date();
+            running.set(false);
+            log.info("文件清理结束: {}", getStatus());
+        }
+    }
+
+    /**
+     * 按主键分批读取引用，只在过滤器中保留哈希位，不保存地址本身
+     */
+    private BloomFilter loadReferences() {
+        long expected = 0;
+        for (ReferenceColumn column : REFERENCE_COLUMNS) {
+            long rows = uploadReferenceMapper.countReferences(column.table, column.column);
+            expected += column.richText ? rows * URLS_PER_RICH_TEXT : rows;
+        }
+        // 统计之后新增的引用会使误判率略有上升，只会少删
+        BloomFilter live = new BloomFilter(Math.max(expected, REFERENCE_BATCH), FALSE_POSITIVE_RATE);
+
+        for (ReferenceColumn column : REFERENCE_COLUMNS) {
+            long lastId = 0;
+            List<Map<String, Object>> rows;
+            do {
+                rows = uploadReferenceMapper.selectReferences(column.table, column.column, lastId, REFERENCE_BATCH);
+                for (Map<String, Object> row : rows) {
+                    lastId = ((Number) row.get("id")).longValue();
+                    Object value = row.get("value");
+                    if (value == null) {
+                        continue;
+                    }
+                    Matcher matcher = UPLOAD_URL.matcher(value.toString());
+                    while (matcher.find()) {
+                        live.put(matcher.group());
+                        references.incrementAndGet();
+                    }
+                }
+            } while (rows.size() == REFERENCE_BATCH);
+        }
+        return live;
+    }
+
+    private void sweep(String key, long size, Instant lastModified, BloomFilter live, Instant before) {
+        scanned.incrementAndGet();
+        String url = FileStorage.urlOf(key);
+        if (live.mightContain(url)) {
+            return;
+        }
+        if (!lastModified.isBefore(before)) {
+            recent.incrementAndGet();
+            return;
+        }
+        try {
+            boolean contentAddressed = FileStorage.HASH_NAME.matcher(url.substring(url.lastIndexOf('/') + 1)).matches();
+            // 宽限期内引用次数有变化：相同内容刚被上传，引用可能还未保存
+            if (contentAddressed && fileBlobMapper.selectCount(new QueryWrapper<FileBlob>()
+                    .eq("fileUrl", url).ge("updateTime", Date.from(before))) > 0) {
+                recent.incrementAndGet();
+                return;
+            }
+            orphans.incrementAndGet();
+            if (dryRun) {
+                return;
+            }
+            if (contentAddressed) {
+                fileBlobMapper.delete(new QueryWrapper<FileBlob>()
+                        .eq("fileUrl", url).lt("updateTime", Date.from(before)));
+                // 删除记录前后有新的上传，文件已被重新引用
+                if (fileBlobMapper.selectCount(new QueryWrapper<FileBlob>().eq("fileUrl", url)) > 0) {
+                    orphans.decrementAndGet();
+                    recent.incrementAndGet();
+                    return;
+                }
+            }
+            fileStorage.delete(key);
+            if (key.startsWith("images/")) {
+                imageVariantManager.evict(url);
+            } else {
+                archiveManifestManager.evict(url);
+            }
+            // 退回上传者的用量
+            storageUsageManager.releaseDeleted(url);
+            deleted.incrementAndGet();
+            deletedBytes.addAndGet(size);
+            log.info("删除无引用文件: {}（{} 字节，最后修改于 {}）", key, size, lastModified);
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("清理文件失败: {}", key, e);
+        }
+    }
+
+    /**
+     * 过期的分片上传会话与残留的临时文件（都在本地磁盘）
+     */
+    private void cleanTemporary(Instant now, Instant before) throws IOException {
+        chunkSessions.set(chunkUploadManager.purgeExpired(now.minus(Duration.ofHours(chunkExpireHours))));
+
+        Path tmpDir = Paths.get(uploadPath, LocalFileStorage.TMP_FOLDER);
+        if (!Files.isDirectory(tmpDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tmpDir)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(before)) {
+                        Files.delete(file);
+                        tempFiles.incrementAndGet();
+                    }
+                } catch (NoSuchFileException e) {
+                    // 上传已完成，临时文件已被移走
+                }
+            }
+        }
+    }
+
+    /**
+     * 引用上传文件的列
+     */
+    static class ReferenceColumn {
+
+        final String table;
+
+        final String column;
+
+        /**
+         * 富文本列，一行可能内嵌多个地址
+         */
+        final boolean richText;
+
+        ReferenceColumn(String table, String column, boolean richText) {
+            this.table = table;
+            this.column = column;
+            this.richText = richText;
+        }
+    }
+}
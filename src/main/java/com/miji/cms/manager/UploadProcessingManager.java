@@ -0,0 +1,355 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.model.request.ArchiveManifestVO;
+import com.miji.cms.model.request.UploadProcessingStatsVO;
+import com.miji.cms.model.request.UploadProcessingVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 上传后台处理流水线：文件存储完成、请求返回后，在独立线程中提取元数据、预生成缩略图、读取压缩包目录
+ * <p>
+ * 每个阶段有自己的有界队列和工作线程：下一阶段队列已满时本阶段阻塞，积压逐级向前传递；
+ * 第一阶段队列已满时新文件直接跳过（{@link #STATUS_SKIPPED}），缩略图与压缩包目录在访问时仍会按需生成，
+ * 请求线程从不等待。处理状态只保存在内存中，按上传地址查询，最多保留 maxTracked 条
+ */
+@Slf4j
+@Component
+public class UploadProcessingManager {
+
+    public static final String STATUS_QUEUED = "queued";
+
+    public static final String STATUS_PROCESSING = "processing";
+
+    public static final String STATUS_DONE = "done";
+
+    public static final String STATUS_FAILED = "failed";
+
+    public static final String STATUS_SKIPPED = "skipped";
+
+    /**
+     * 处理阶段，按顺序执行；图片之后生成缩略图，ZIP 之后读取目录
+     */
+    enum Stage {
+        METADATA("metadata"),
+        THUMBNAIL("thumbnail"),
+        ARCHIVE("archive");
+
+        final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * 预生成的缩略图宽度（列表页封面、头像常用的两档）
+     */
+    static final int[] THUMBNAIL_WIDTHS = {128, 320};
+
+    @Value("${upload.processing.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 每个阶段的工作线程数
+     */
+    @Value("${upload.processing.workers:2}")
+    private int workers;
+
+    /**
+     * 每个阶段的队列容量
+     */
+    @Value("${upload.processing.queue-capacity:200}")
+    private int queueCapacity;
+
+    /**
+     * 内存中最多保留的处理状态数，超出时丢弃最早的
+     */
+    @Value("${upload.processing.max-tracked:10000}")
+    private int maxTracked;
+
+    @Resource
+    private FileStorage fileStorage;
+
+    @Resource
+    private ImageVariantManager imageVariantManager;
+
+    @Resource
+    private ArchiveManifestManager archiveManifestManager;
+
+    private final Map<Stage, BlockingQueue<UploadProcessingVO>> queues = new EnumMap<>(Stage.class);
+
+    /**
+     * 处理状态，键为文件地址；访问需同步
+     */
+    private final Map<String, UploadProcessingVO> jobs = new LinkedHashMap<String, UploadProcessingVO>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, UploadProcessingVO> eldest) {
+            return size() > maxTracked;
+        }
+    };
+
+    private ExecutorService executor;
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong completed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicLong skipped = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        for (Stage stage : Stage.values()) {
+            queues.put(stage, new ArrayBlockingQueue<>(queueCapacity));
+        }
+        if (!enabled || workers <= 0) {
+            return;
+        }
+        executor = Executors.newFixedThreadPool(workers * Stage.values().length, runnable -> {
+            Thread thread = new Thread(runnable, "upload-processing");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Stage stage : Stage.values()) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> runStage(stage));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 登记存储完成的文件，交给后台处理；不阻塞调用线程
+     *
+     * @param fileUrl 文件地址 /uploads/...
+     */
+    public void submit(String fileUrl) {
+        if (!enabled || !StringUtils.hasText(fileUrl)) {
+            return;
+        }
+        UploadProcessingVO job;
+        synchronized (jobs) {
+            UploadProcessingVO existing = jobs.get(fileUrl);
+            // 内容寻址：相同地址的文件内容相同，已处理或正在处理时不再重复
+            if (existing != null && !STATUS_FAILED.equals(existing.getStatus())
+                    && !STATUS_SKIPPED.equals(existing.getStatus())) {
+                return;
+            }
+            job = new UploadProcessingVO();
+            job.setFileUrl(fileUrl);
+            job.setStatus(STATUS_QUEUED);
+            job.setStage(Stage.METADATA.label);
+            job.setSha256(sha256Of(fileUrl));
+            job.setCreateTime(new Date());
+            jobs.put(fileUrl, job);
+        }
+        submitted.incrementAndGet();
+        if (!queues.get(Stage.METADATA).offer(job)) {
+            skipped.incrementAndGet();
+            finish(job, STATUS_SKIPPED, "处理队列已满，缩略图等在访问时生成");
+        }
+    }
+
+    /**
+     * 查询文件的处理状态
+     *
+     * @return 没有记录（未登记或已被丢弃）时返回 null
+     */
+    public UploadProcessingVO getStatus(String fileUrl) {
+        UploadProcessingVO job;
+        synchronized (jobs) {
+            job = jobs.get(fileUrl);
+        }
+        if (job == null) {
+            return null;
+        }
+        UploadProcessingVO copy = new UploadProcessingVO();
+        synchronized (job) {
+            BeanUtils.copyProperties(job, copy);
+        }
+        return copy;
+    }
+
+    public UploadProcessingStatsVO getStats() {
+        UploadProcessingStatsVO vo = new UploadProcessingStatsVO();
+        vo.setQueueCapacity(queueCapacity);
+        vo.setMetadataQueue(queues.get(Stage.METADATA).size());
+        vo.setThumbnailQueue(queues.get(Stage.THUMBNAIL).size());
+        vo.setArchiveQueue(queues.get(Stage.ARCHIVE).size());
+        vo.setSubmitted(submitted.get());
+        vo.setCompleted(completed.get());
+        vo.setFailed(failed.get());
+        vo.setSkipped(skipped.get());
+        return vo;
+    }
+
+    private void runStage(Stage stage) {
+        BlockingQueue<UploadProcessingVO> queue = queues.get(stage);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                UploadProcessingVO job = queue.take();
+                Stage next;
+                try {
+                    update(job, STATUS_PROCESSING, stage);
+                    next = process(stage, job);
+                } catch (Exception e) {
+                    log.warn("上传文件后台处理失败: {} ({})", job.getFileUrl(), stage.label, e);
+                    failed.incrementAndGet();
+                    finish(job, STATUS_FAILED, e.getMessage());
+                    continue;
+                }
+                if (next == null) {
+                    completed.incrementAndGet();
+                    finish(job, STATUS_DONE, null);
+                } else {
+                    update(job, STATUS_QUEUED, next);
+                    // 下一阶段已满时在这里等待，本阶段的队列随之积压
+                    queues.get(next).put(job);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 执行一个阶段
+     *
+     * @return 下一阶段，处理完成时返回 null
+     */
+    Stage process(Stage stage, UploadProcessingVO job) throws IOException {
+        String fileUrl = job.getFileUrl();
+        switch (stage) {
+            case METADATA:
+                extractMetadata(job);
+                if (isThumbnailSource(fileUrl)) {
+                    return Stage.THUMBNAIL;
+                }
+                return isZip(fileUrl) ? Stage.ARCHIVE : null;
+            case THUMBNAIL:
+                String extension = extension(fileUrl);
+                // 与 /file/image 的默认格式一致，保留 png/gif 的透明背景
+                String format = "png".equals(extension) || "gif".equals(extension) ? "png" : "jpg";
+                for (int width : THUMBNAIL_WIDTHS) {
+                    imageVariantManager.getVariant(fileUrl, width, format);
+                }
+                return null;
+            case ARCHIVE:
+                ArchiveManifestVO manifest = archiveManifestManager.getManifest(fileUrl);
+                synchronized (job) {
+                    job.setEntryCount(manifest.getEntryCount());
+                    job.setTotalSize(manifest.getTotalSize());
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 文件大小、内容类型；图片只读取文件头获得宽高
+     */
+    private void extractMetadata(UploadProcessingVO job) throws IOException {
+        String fileUrl = job.getFileUrl();
+        String key = FileStorage.keyOf(fileUrl);
+        long size = fileStorage.size(key);
+        String contentType = MediaTypeFactory.getMediaType(fileUrl)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        Integer width = null;
+        Integer height = null;
+        if (contentType.startsWith("image/")) {
+            try (InputStream in = fileStorage.open(key);
+                 ImageInputStream image = ImageIO.createImageInputStream(in)) {
+                Iterator<ImageReader> readers = image == null ? null : ImageIO.getImageReaders(image);
+                if (readers != null && readers.hasNext()) {
+                    ImageReader reader = readers.next();
+                    try {
+                        reader.setInput(image, true, true);
+                        width = reader.getWidth(0);
+                        height = reader.getHeight(0);
+                    } finally {
+                        reader.dispose();
+                    }
+                }
+            }
+        }
+        synchronized (job) {
+            job.setFileSize(size);
+            job.setContentType(contentType);
+            job.setWidth(width);
+            job.setHeight(height);
+        }
+    }
+
+    private static void update(UploadProcessingVO job, String status, Stage stage) {
+        synchronized (job) {
+            job.setStatus(status);
+            job.setStage(stage.label);
+        }
+    }
+
+    private static void finish(UploadProcessingVO job, String status, String message) {
+        synchronized (job) {
+            job.setStatus(status);
+            job.setMessage(message);
+            job.setFinishTime(new Date());
+        }
+    }
+
+    /**
+     * 只为 /uploads/images/ 下 ImageIO 能解码的图片预生成缩略图（与 /file/image 的范围一致）
+     */
+    private static boolean isThumbnailSource(String fileUrl) {
+        return fileUrl.startsWith("/uploads/images/")
+                && ImageIO.getImageReadersBySuffix(extension(fileUrl)).hasNext();
+    }
+
+    private static boolean isZip(String fileUrl) {
+        return "zip".equals(extension(fileUrl));
+    }
+
+    private static String extension(String fileUrl) {
+        String extension = StringUtils.getFilenameExtension(fileUrl);
+        return extension == null ? "" : extension.toLowerCase();
+    }
+
+    /**
+     * 内容寻址的文件名即内容哈希，上传时已经计算过
+     */
+    private static String sha256Of(String fileUrl) {
+        String name = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+        return FileStorage.HASH_NAME.matcher(name).matches() ? name.substring(0, 64) : null;
+    }
+}
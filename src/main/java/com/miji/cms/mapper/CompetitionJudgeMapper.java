@@ -0,0 +1,12 @@
+package com.miji.cms.mapper;
+
+import com.miji.cms.model.domain.CompetitionJudge;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+
+/**
+* @description 针对表【competition_judge(竞赛评委表)】的数据库操作Mapper
+* @Entity com.miji.cms.model.domain.CompetitionJudge
+*/
+public interface CompetitionJudgeMapper extends BaseMapper<CompetitionJudge> {
+
+}
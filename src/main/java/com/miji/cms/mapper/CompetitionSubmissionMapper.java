@@ -2,6 +2,11 @@ package com.miji.cms.mapper;
 
 import com.miji.cms.model.domain.Submission;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.List;
 
 /**
 * @author 16427
@@ -11,8 +16,66 @@ import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 */
 public interface CompetitionSubmissionMapper extends BaseMapper<Submission> {
 
-}
+    /**
+     * 按名次顺序分页读取竞赛已评分提交：after 为上一页最后一条（首页传 null），从其后继续读取 limit 条
+     * <p>
+     * 排序与 {@link com.miji.cms.manager.RankIndexManager#RANK_ORDER} 一致（分数降序，评分时间升序且为空的排最后，提交ID升序），
+     * 每页是一条独立的短查询，页与页之间可以执行其他查询
+     */
+    @Select("<script>" +
+            "SELECT id, competitionId, registrationId, userId, teamId, fileUrl, description, score, " +
+            "scoreSum, judgeCount, reviewerId, status, createTime, updateTime, isDelete FROM competition_submission " +
+            "WHERE competitionId = #{competitionId} AND score IS NOT NULL AND isDelete = 0 " +
+            "<if test='after != null'>" +
+            "AND (score &lt; #{after.score} OR (score = #{after.score} AND " +
+            "<choose>" +
+            "<when test='after.updateTime != null'>" +
+            "(updateTime IS NULL OR updateTime &gt; #{after.updateTime} " +
+            "OR (updateTime = #{after.updateTime} AND id &gt; #{after.id}))" +
+            "</when>" +
+            "<otherwise>updateTime IS NULL AND id &gt; #{after.id}</otherwise>" +
+            "</choose>" +
+            "))" +
+            "</if>" +
+            "ORDER BY score DESC, updateTime IS NULL, updateTime ASC, id ASC LIMIT #{limit}" +
+            "</script>")
+    List<Submission> listScoredAfter(@Param("competitionId") Long competitionId, @Param("after") Submission after,
+                                     @Param("limit") int limit);
 
+    /**
+     * 增量更新聚合分：累加评委分数和与评委数，并以新值重算平均分
+     * （MySQL 单表 UPDATE 按赋值顺序使用已更新的列值，整行在行锁内原子完成）
+     */
+    @Update("UPDATE competition_submission SET scoreSum = scoreSum + #{scoreDelta}, " +
+            "judgeCount = judgeCount + #{countDelta}, " +
+            "score = IF(judgeCount = 0, NULL, ROUND(scoreSum / judgeCount)), " +
+            "status = IF(judgeCount = 0, 0, 1), reviewerId = #{reviewerId}, updateTime = NOW() " +
+            "WHERE id = #{id} AND isDelete = 0")
+    int applyScoreDelta(@Param("id") Long id, @Param("scoreDelta") long scoreDelta,
+                        @Param("countDelta") int countDelta, @Param("reviewerId") Long reviewerId);
 
+    /**
+     * 抢占或续约评审租约：提交仍待评审，且没有租约、租约已过期或本来就由该评委持有时成功
+     * （条件更新在行锁内完成，多个节点同时领取同一提交时只有一个返回 1）
+     */
+    @Update("UPDATE competition_submission SET leaseJudgeId = #{judgeId}, " +
+            "leaseExpire = DATE_ADD(NOW(), INTERVAL #{leaseSeconds} SECOND) " +
+            "WHERE id = #{id} AND status = 0 AND isDelete = 0 " +
+            "AND (leaseJudgeId IS NULL OR leaseJudgeId = #{judgeId} OR leaseExpire <= NOW())")
+    int tryLease(@Param("id") Long id, @Param("judgeId") Long judgeId, @Param("leaseSeconds") long leaseSeconds);
 
+    /**
+     * 归还评审租约；judgeId 为空时无条件清除（覆盖旧稿重新待评审）
+     */
+    @Update("<script>UPDATE competition_submission SET leaseJudgeId = NULL, leaseExpire = NULL " +
+            "WHERE id = #{id}<if test='judgeId != null'> AND leaseJudgeId = #{judgeId}</if></script>")
+    int releaseLease(@Param("id") Long id, @Param("judgeId") Long judgeId);
 
+    /**
+     * 存储迁移：替换作品文件地址，原始文件名为空时一并补上（包括已删除的记录）
+     */
+    @Update("UPDATE competition_submission SET fileUrl = #{newUrl}, fileName = COALESCE(fileName, #{fileName}) " +
+            "WHERE fileUrl = #{oldUrl}")
+    int replaceFileUrl(@Param("oldUrl") String oldUrl, @Param("newUrl") String newUrl,
+                       @Param("fileName") String fileName);
+}
@@ -0,0 +1,29 @@
+package com.miji.cms.mapper;
+
+import com.miji.cms.model.domain.FileBlob;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+
+/**
+* @description 针对表【file_blob(文件内容引用计数表)】的数据库操作Mapper
+* @Entity com.miji.cms.model.domain.FileBlob
+*/
+public interface FileBlobMapper extends BaseMapper<FileBlob> {
+
+    /**
+     * 引用次数加 count，首次出现时插入记录（依赖 fileUrl 唯一索引，并发上传同一内容也只有一条记录）
+     */
+    @Insert("INSERT INTO file_blob (fileUrl, sha256, fileSize, refCount) " +
+            "VALUES (#{fileUrl}, #{sha256}, #{fileSize}, #{count}) " +
+            "ON DUPLICATE KEY UPDATE refCount = refCount + #{count}")
+    int acquire(@Param("fileUrl") String fileUrl, @Param("sha256") String sha256,
+                @Param("fileSize") long fileSize, @Param("count") int count);
+
+    /**
+     * 引用次数减一，不会减到负数；非内容寻址的旧文件没有记录，影响 0 行
+     */
+    @Update("UPDATE file_blob SET refCount = refCount - 1 WHERE fileUrl = #{fileUrl} AND refCount > 0")
+    int release(@Param("fileUrl") String fileUrl);
+}
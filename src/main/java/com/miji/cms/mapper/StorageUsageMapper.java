@@ -0,0 +1,33 @@
+package com.miji.cms.mapper;
+
+import com.miji.cms.model.domain.StorageUsage;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+* @description 针对表【storage_usage(存储用量统计表)】的数据库操作Mapper
+* @Entity com.miji.cms.model.domain.StorageUsage
+*/
+public interface StorageUsageMapper extends BaseMapper<StorageUsage> {
+
+    /**
+     * 批量累加用量（usedBytes、fileCount 为增量，可以为负），首次出现时插入记录，一次刷新只执行一条语句；
+     * 插入与累加都不会小于 0（如扣减升级前没有统计的文件）
+     */
+    @Insert("<script>" +
+            "INSERT INTO storage_usage (scopeType, scopeId, usedBytes, fileCount) " +
+            "SELECT d.scopeType, d.scopeId, GREATEST(d.bytes, 0), GREATEST(d.files, 0) FROM (" +
+            "<foreach collection='deltas' item='delta' separator=' UNION ALL '>" +
+            "SELECT #{delta.scopeType} AS scopeType, #{delta.scopeId} AS scopeId, " +
+            "#{delta.usedBytes} AS bytes, #{delta.fileCount} AS files" +
+            "</foreach>" +
+            ") d " +
+            "ON DUPLICATE KEY UPDATE " +
+            "usedBytes = GREATEST(storage_usage.usedBytes + d.bytes, 0), " +
+            "fileCount = GREATEST(storage_usage.fileCount + d.files, 0)" +
+            "</script>")
+    int addBatch(@Param("deltas") List<StorageUsage> deltas);
+}
@@ -0,0 +1,12 @@
+package com.miji.cms.mapper;
+
+import com.miji.cms.model.domain.SubmissionJudgeScore;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+
+/**
+* @description 针对表【submission_judge_score(评委评分表)】的数据库操作Mapper
+* @Entity com.miji.cms.model.domain.SubmissionJudgeScore
+*/
+public interface SubmissionJudgeScoreMapper extends BaseMapper<SubmissionJudgeScore> {
+
+}
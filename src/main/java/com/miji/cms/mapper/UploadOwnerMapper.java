@@ -0,0 +1,29 @@
+package com.miji.cms.mapper;
+
+import com.miji.cms.model.domain.UploadOwner;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+
+/**
+* @description 针对表【upload_owner(上传文件归属表)】的数据库操作Mapper
+* @Entity com.miji.cms.model.domain.UploadOwner
+*/
+public interface UploadOwnerMapper extends BaseMapper<UploadOwner> {
+
+    /**
+     * 上传次数加一，首次上传时插入记录（依赖 fileUrl + userId 唯一索引）
+     */
+    @Insert("INSERT INTO upload_owner (fileUrl, userId, fileSize, uploadCount) " +
+            "VALUES (#{fileUrl}, #{userId}, #{fileSize}, 1) " +
+            "ON DUPLICATE KEY UPDATE uploadCount = uploadCount + 1")
+    int acquire(@Param("fileUrl") String fileUrl, @Param("userId") Long userId, @Param("fileSize") long fileSize);
+
+    /**
+     * 上传次数减一，不会减到负数；没有记录（升级前的上传、他人上传的文件）时影响 0 行
+     */
+    @Update("UPDATE upload_owner SET uploadCount = uploadCount - 1 " +
+            "WHERE fileUrl = #{fileUrl} AND userId = #{userId} AND uploadCount > 0")
+    int release(@Param("fileUrl") String fileUrl, @Param("userId") Long userId);
+}
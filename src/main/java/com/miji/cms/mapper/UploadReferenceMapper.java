@@ -0,0 +1,36 @@
+package com.miji.cms.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+* @description 按主键分批读取各表中引用上传文件（包含 /uploads/）的列，用于清理无引用文件；
+* 表名与列名只来自代码中的常量。不过滤逻辑删除，已删除记录引用的文件同样保留
+*/
+public interface UploadReferenceMapper {
+
+    @Select("SELECT COUNT(*) FROM `${table}` WHERE ${column} LIKE '%/uploads/%'")
+    long countReferences(@Param("table") String table, @Param("column") String column);
+
+    /**
+     * 主键大于 lastId 的下一批，每行包含 id 与 value 两列
+     */
+    @Select("SELECT id, ${column} AS value FROM `${table}` " +
+            "WHERE id > #{lastId} AND ${column} LIKE '%/uploads/%' ORDER BY id LIMIT #{limit}")
+    List<Map<String, Object>> selectReferences(@Param("table") String table, @Param("column") String column,
+                                               @Param("lastId") long lastId, @Param("limit") int limit);
+
+    /**
+     * 存储迁移：把列中内嵌的旧地址替换为新地址（包括已删除的记录）
+     *
+     * @return 改写的行数
+     */
+    @Update("UPDATE `${table}` SET ${column} = REPLACE(${column}, #{oldUrl}, #{newUrl}) " +
+            "WHERE ${column} LIKE CONCAT('%', #{oldUrl}, '%')")
+    int replaceReferences(@Param("table") String table, @Param("column") String column,
+                          @Param("oldUrl") String oldUrl, @Param("newUrl") String newUrl);
+}
@@ -0,0 +1,46 @@
+package com.miji.cms.model.domain;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+
+import java.io.Serializable;
+import java.util.Date;
+import lombok.Data;
+
+/**
+ * 竞赛评委表
+ * @TableName competition_judge
+ */
+@TableName(value ="competition_judge")
+@Data
+public class CompetitionJudge implements Serializable {
+    private static final long serialVersionUID = 2841907533021657342L;
+    /**
+     * 主键
+     */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 竞赛ID
+     */
+    private Long competitionId;
+
+    /**
+     * 评委用户ID
+     */
+    private Long userId;
+
+    /**
+     * 创建时间
+     */
+    private Date createTime;
+
+    /**
+     * 是否删除
+     */
+    @TableLogic
+    private Integer isDelete;
+}
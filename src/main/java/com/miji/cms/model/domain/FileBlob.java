@@ -0,0 +1,54 @@
+package com.miji.cms.model.domain;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+
+import java.io.Serializable;
+import java.util.Date;
+import lombok.Data;
+
+/**
+ * 文件内容引用计数表（相同内容的上传共用一个文件）
+ * @TableName file_blob
+ */
+@TableName(value ="file_blob")
+@Data
+public class FileBlob implements Serializable {
+    private static final long serialVersionUID = 3871209476512093847L;
+    /**
+     * 主键
+     */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 文件访问URL（按内容哈希命名）
+     */
+    private String fileUrl;
+
+    /**
+     * 文件内容 SHA-256
+     */
+    private String sha256;
+
+    /**
+     * 文件大小（字节）
+     */
+    private Long fileSize;
+
+    /**
+     * 引用次数
+     */
+    private Integer refCount;
+
+    /**
+     * 创建时间
+     */
+    private Date createTime;
+
+    /**
+     * 更新时间
+     */
+    private Date updateTime;
+}
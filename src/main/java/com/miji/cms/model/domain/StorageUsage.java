@@ -0,0 +1,54 @@
+package com.miji.cms.model.domain;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+
+import java.io.Serializable;
+import java.util.Date;
+import lombok.Data;
+
+/**
+ * 存储用量统计表（按用户、竞赛累计上传文件占用的字节数）
+ * @TableName storage_usage
+ */
+@TableName(value ="storage_usage")
+@Data
+public class StorageUsage implements Serializable {
+    private static final long serialVersionUID = 5902417736120384561L;
+    /**
+     * 主键
+     */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 统计对象类型：user-用户，competition-竞赛
+     */
+    private String scopeType;
+
+    /**
+     * 用户ID或竞赛ID
+     */
+    private Long scopeId;
+
+    /**
+     * 占用字节数（按引用计）
+     */
+    private Long usedBytes;
+
+    /**
+     * 文件数
+     */
+    private Integer fileCount;
+
+    /**
+     * 创建时间
+     */
+    private Date createTime;
+
+    /**
+     * 更新时间
+     */
+    private Date updateTime;
+}
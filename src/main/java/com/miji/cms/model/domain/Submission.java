@@ -2,6 +2,7 @@ package com.miji.cms.model.domain;
 
 import com.baomidou.mybatisplus.annotation.IdType;
 import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableLogic;
 import com.baomidou.mybatisplus.annotation.TableName;
 
@@ -48,18 +49,38 @@ public class Submission implements Serializable {
      */
     private String fileUrl;
 
+    /**
+     * 作品原始文件名（文件按内容哈希存储，下载时使用）
+     */
+    private String fileName;
+
+    /**
+     * 作品文件大小（字节），用于存储用量统计
+     */
+    private Long fileSize;
+
     /**
      * 作品描述（富文本）
      */
     private String description;
 
     /**
-     * 评分（管理员评审）
+     * 评分（各评委评分的平均分，四舍五入）
      */
     private Integer score;
 
     /**
-     * 评分管理员ID
+     * 各评委评分之和（增量维护）
+     */
+    private Long scoreSum;
+
+    /**
+     * 已评分评委数（增量维护）
+     */
+    private Integer judgeCount;
+
+    /**
+     * 最近一次评分的评委ID
      */
     private Long reviewerId;
 
@@ -83,4 +104,10 @@ public class Submission implements Serializable {
      */
     @TableLogic
     private Integer isDelete;
+
+    /**
+     * 带签名的限时下载地址（列表接口生成，不存储）
+     */
+    @TableField(exist = false)
+    private String downloadUrl;
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.miji.cms.model.domain;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+
+import java.io.Serializable;
+import java.util.Date;
+import lombok.Data;
+
+/**
+ * 评委评分表（每个评委对每个提交一条）
+ * @TableName submission_judge_score
+ */
+@TableName(value ="submission_judge_score")
+@Data
+public class SubmissionJudgeScore implements Serializable {
+    private static final long serialVersionUID = -6230486135794270158L;
+    /**
+     * 主键
+     */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 提交ID
+     */
+    private Long submissionId;
+
+    /**
+     * 竞赛ID
+     */
+    private Long competitionId;
+
+    /**
+     * 评委用户ID
+     */
+    private Long judgeId;
+
+    /**
+     * 评分
+     */
+    private Integer score;
+
+    /**
+     * 创建时间
+     */
+    private Date createTime;
+
+    /**
+     * 更新时间
+     */
+    private Date updateTime;
+
+    /**
+     * 是否删除
+     */
+    @TableLogic
+    private Integer isDelete;
+}
@@ -0,0 +1,54 @@
+package com.miji.cms.model.domain;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+
+import java.io.Serializable;
+import java.util.Date;
+import lombok.Data;
+
+/**
+ * 上传文件归属表（普通上传计入了哪些用户的存储用量，用于更换或清理文件时退回）
+ * @TableName upload_owner
+ */
+@TableName(value ="upload_owner")
+@Data
+public class UploadOwner implements Serializable {
+    private static final long serialVersionUID = 3180546672950271843L;
+    /**
+     * 主键
+     */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 文件访问URL
+     */
+    private String fileUrl;
+
+    /**
+     * 上传者ID
+     */
+    private Long userId;
+
+    /**
+     * 文件大小（字节）
+     */
+    private Long fileSize;
+
+    /**
+     * 计入用量且尚未退回的上传次数
+     */
+    private Integer uploadCount;
+
+    /**
+     * 创建时间
+     */
+    private Date createTime;
+
+    /**
+     * 更新时间
+     */
+    private Date updateTime;
+}
@@ -0,0 +1,28 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 压缩包中的一个条目
+ */
+@Data
+public class ArchiveEntryVO {
+
+    private String name;                // 包内路径，目录以 / 结尾
+
+    private Boolean directory;
+
+    private Long size;                  // 解压后大小
+
+    private Long compressedSize;
+
+    private Integer method;             // 0-STORED，8-DEFLATED，其他方式不支持单独读取
+
+    private Boolean encrypted;
+
+    private Date lastModified;
+
+    private Long offset;                // 本地文件头在压缩包中的位置，读取单个条目时使用
+}
@@ -0,0 +1,24 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 压缩包文件列表（只读取 ZIP 中央目录，不下载整个文件）
+ */
+@Data
+public class ArchiveManifestVO {
+
+    private String fileUrl;
+
+    private Long fileSize;              // 压缩包大小
+
+    private Long entryCount;            // 压缩包中的条目总数
+
+    private Long totalSize;             // 列出条目解压后的总大小
+
+    private Boolean truncated;          // 条目过多，只列出前一部分
+
+    private List<ArchiveEntryVO> entries;
+}
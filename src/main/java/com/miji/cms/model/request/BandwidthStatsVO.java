@@ -0,0 +1,28 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+/**
+ * 下载限速统计（自启动以来累计）
+ */
+@Data
+public class BandwidthStatsVO {
+
+    private Long bulkBytesPerSecond;            // 文件下载总速率上限，0 表示不限
+
+    private Long perConnectionBytesPerSecond;   // 单个文件下载的速率上限，0 表示不限
+
+    private Long apiBytesPerSecond;             // 接口响应总速率上限，0 表示不限
+
+    private Long bulkBytes;                     // 文件下载输出的字节数
+
+    private Long bulkThrottledBytes;            // 其中因限速而等待后输出的字节数
+
+    private Long bulkWaitMillis;                // 文件下载累计等待时长
+
+    private Long apiBytes;
+
+    private Long apiThrottledBytes;
+
+    private Long apiWaitMillis;
+}
@@ -0,0 +1,34 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * 初始化分片上传请求体
+ */
+@Data
+public class ChunkUploadInitRequest implements Serializable {
+
+    /**
+     * 文件类型：video / image / file / submission（作品，完成后通过提交作品接口使用）
+     */
+    private String type;
+
+    /**
+     * 原始文件名
+     */
+    private String fileName;
+
+    /**
+     * 文件总大小（字节）
+     */
+    private Long fileSize;
+
+    /**
+     * 分片大小（字节，可选，默认 8MB）
+     */
+    private Integer chunkSize;
+
+    private static final long serialVersionUID = 3419285537012286114L;
+}
@@ -0,0 +1,28 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 分片上传状态（断点续传时只需上传 missingChunks）
+ */
+@Data
+public class ChunkUploadVO {
+
+    private String uploadId;
+
+    private String type;
+
+    private String fileName;
+
+    private Long fileSize;
+
+    private Integer chunkSize;
+
+    private Integer chunkCount;
+
+    private List<Integer> receivedChunks;   // 已收到的分片序号（从 0 开始）
+
+    private List<Integer> missingChunks;    // 尚未收到的分片序号
+}
@@ -0,0 +1,17 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 实时榜单增量：客户端按 submissionId 更新名次与分数，删除掉出榜单的提交
+ */
+@Data
+public class LeaderboardDeltaVO {
+
+    private List<SubmissionRankVO> updated = new ArrayList<>();   // 新上榜或名次、分数有变化的提交
+
+    private List<Long> removed = new ArrayList<>();               // 掉出前 K 名的提交ID
+}
@@ -0,0 +1,32 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 上传文件存储迁移进度
+ */
+@Data
+public class StorageMigrationVO {
+
+    private Boolean running;
+
+    private Date startTime;
+
+    private Date finishTime;       // 进行中为 null
+
+    private Long scanned;          // 已检查的文件数
+
+    private Long moved;            // 移动到新存储位置的文件数
+
+    private Long deduplicated;     // 内容已存在、直接删除的文件数
+
+    private Long renamed;          // 旧文件名改为内容哈希命名的文件数
+
+    private Long referencesUpdated; // 改写的数据库引用数
+
+    private Long failed;
+
+    private String error;          // 迁移中断时的原因
+}
@@ -0,0 +1,24 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 用户或竞赛的存储用量
+ */
+@Data
+public class StorageUsageVO {
+
+    private String scopeType;           // user / competition
+
+    private Long scopeId;               // 用户ID或竞赛ID
+
+    private Long usedBytes;             // 占用字节数（按引用计，相同内容多次上传分别计入）
+
+    private Integer fileCount;
+
+    private Long quotaBytes;            // 配额，0 表示不限制
+
+    private Date updateTime;            // 最近一次写入统计表的时间
+}
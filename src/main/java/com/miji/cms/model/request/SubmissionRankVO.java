@@ -8,6 +8,8 @@ import java.util.Date;
 public class SubmissionRankVO {
     private Long submissionId;
 
+    private Integer rank;            // 名次（从 1 开始）
+
     private Long competitionId;
     private Long userId;
     private Long teamId;
@@ -0,0 +1,36 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 批量评分请求体
+ */
+@Data
+public class SubmissionScoreBatchRequest implements Serializable {
+
+    /**
+     * 评分项列表
+     */
+    private List<ScoreItem> items;
+
+    private static final long serialVersionUID = 1L;
+
+    @Data
+    public static class ScoreItem implements Serializable {
+
+        /**
+         * 提交ID
+         */
+        private Long submissionId;
+
+        /**
+         * 分数
+         */
+        private Integer score;
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,37 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 成绩导入结果
+ */
+@Data
+public class SubmissionScoreImportResultVO {
+
+    private Integer total = 0;         // 读取的数据行数
+
+    private Integer successCount = 0;
+
+    private Integer failCount = 0;
+
+    private List<RowError> errors = new ArrayList<>();   // 出错行（最多保留前若干条）
+
+    @Data
+    public static class RowError {
+
+        private Integer rowNum;        // Excel 行号（从 1 开始，含表头）
+
+        private Long submissionId;
+
+        private String message;
+
+        public RowError(Integer rowNum, Long submissionId, String message) {
+            this.rowNum = rowNum;
+            this.submissionId = submissionId;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.miji.cms.model.request;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import lombok.Data;
+
+/**
+ * 成绩导入行（按表头名匹配，可直接使用导出的成绩表填写分数后导入）
+ */
+@Data
+public class SubmissionScoreImportRow {
+
+    @ExcelProperty("submissionId")
+    private Long submissionId;
+
+    @ExcelProperty("score")
+    private Integer score;
+}
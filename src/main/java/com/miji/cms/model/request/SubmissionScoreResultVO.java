@@ -0,0 +1,31 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+/**
+ * 单条评分结果
+ */
+@Data
+public class SubmissionScoreResultVO {
+
+    private Long submissionId;
+
+    private Boolean success;
+
+    private String message;      // 失败原因
+
+    public static SubmissionScoreResultVO success(Long submissionId) {
+        SubmissionScoreResultVO vo = new SubmissionScoreResultVO();
+        vo.setSubmissionId(submissionId);
+        vo.setSuccess(true);
+        return vo;
+    }
+
+    public static SubmissionScoreResultVO fail(Long submissionId, String message) {
+        SubmissionScoreResultVO vo = new SubmissionScoreResultVO();
+        vo.setSubmissionId(submissionId);
+        vo.setSuccess(false);
+        vo.setMessage(message);
+        return vo;
+    }
+}
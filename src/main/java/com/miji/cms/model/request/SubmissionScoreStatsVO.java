@@ -0,0 +1,47 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 竞赛成绩分布统计
+ */
+@Data
+public class SubmissionScoreStatsVO {
+
+    private Long competitionId;
+
+    private Long count;            // 已评分提交数
+
+    private Double mean;           // 无数据时为 null，下同
+
+    private Integer min;
+
+    private Integer max;
+
+    private Double median;
+
+    private Map<String, Double> percentiles = new LinkedHashMap<>();   // 如 "p90" -> 87.5
+
+    private List<Bucket> histogram = new ArrayList<>();
+
+    @Data
+    public static class Bucket {
+
+        private Integer lower;         // 含
+
+        private Integer upper;         // 不含
+
+        private Long count;
+
+        public Bucket(Integer lower, Integer upper, Long count) {
+            this.lower = lower;
+            this.upper = upper;
+            this.count = count;
+        }
+    }
+}
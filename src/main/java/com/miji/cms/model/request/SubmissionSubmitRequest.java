@@ -25,6 +25,11 @@ public class SubmissionSubmitRequest implements Serializable {
      */
     private String description;
 
+    /**
+     * 分片上传ID（通过分片上传提交作品时使用，type 需为 submission）
+     */
+    private String uploadId;
+
 
     private static final long serialVersionUID = -6832795906753266308L;
 }
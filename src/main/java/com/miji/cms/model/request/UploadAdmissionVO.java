@@ -0,0 +1,30 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+/**
+ * 上传准入控制状态（计数自启动以来累计）
+ */
+@Data
+public class UploadAdmissionVO {
+
+    private Long maxBytes;              // 进行中上传的总字节数上限，0 表示不限制
+
+    private Long reservedBytes;         // 保留给小文件的字节数
+
+    private Long inFlightBytes;         // 进行中上传声明的总字节数
+
+    private Integer inFlightUploads;
+
+    private Integer queueDepth;         // 当前排队的上传数
+
+    private Integer peakQueueDepth;     // 排队数峰值
+
+    private Long admitted;              // 准入的上传数（含排队后准入）
+
+    private Long delayed;               // 排队后准入的上传数
+
+    private Long rejected;              // 被拒绝（返回 503）的上传数
+
+    private Long timedOut;              // 其中因排队超时被拒绝的上传数
+}
@@ -0,0 +1,40 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 无引用上传文件清理进度
+ */
+@Data
+public class UploadCleanupVO {
+
+    private Boolean running;
+
+    private Boolean dryRun;        // 只统计不删除
+
+    private Date startTime;
+
+    private Date finishTime;       // 进行中为 null
+
+    private Long references;       // 读取到的文件引用数
+
+    private Long scanned;          // 已检查的文件数
+
+    private Long recent;           // 无引用但仍在宽限期内、保留的文件数
+
+    private Long orphans;          // 无引用且超过宽限期的文件数
+
+    private Long deleted;          // 已删除的文件数
+
+    private Long deletedBytes;     // 已删除文件的总大小
+
+    private Long chunkSessions;    // 清理的过期分片上传会话数
+
+    private Long tempFiles;        // 清理的残留临时文件数
+
+    private Long failed;
+
+    private String error;          // 清理中断时的原因
+}
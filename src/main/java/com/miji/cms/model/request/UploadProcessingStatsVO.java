@@ -0,0 +1,26 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+/**
+ * 上传后台处理队列状态（计数自启动以来累计）
+ */
+@Data
+public class UploadProcessingStatsVO {
+
+    private Integer queueCapacity;      // 每个阶段的队列容量
+
+    private Integer metadataQueue;      // 等待提取元数据的文件数
+
+    private Integer thumbnailQueue;     // 等待生成缩略图的文件数
+
+    private Integer archiveQueue;       // 等待读取压缩包目录的文件数
+
+    private Long submitted;
+
+    private Long completed;
+
+    private Long failed;
+
+    private Long skipped;               // 队列已满未处理的文件数（访问时按需生成）
+}
@@ -0,0 +1,38 @@
+package com.miji.cms.model.request;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 上传文件的后台处理状态（元数据、缩略图、压缩包目录）
+ */
+@Data
+public class UploadProcessingVO {
+
+    private String fileUrl;
+
+    private String status;              // queued / processing / done / failed / skipped
+
+    private String stage;               // 当前或最后执行的阶段：metadata / thumbnail / archive
+
+    private String sha256;              // 内容哈希（上传时已计算，取自文件名）
+
+    private Long fileSize;
+
+    private String contentType;
+
+    private Integer width;              // 图片宽度（像素）
+
+    private Integer height;             // 图片高度（像素）
+
+    private Long entryCount;            // 压缩包中的条目总数
+
+    private Long totalSize;             // 压缩包解压后的总大小
+
+    private String message;             // 失败或跳过的原因
+
+    private Date createTime;
+
+    private Date finishTime;
+}
@@ -1,21 +1,124 @@
 package com.miji.cms.service;
 
+import com.miji.cms.model.request.BandwidthStatsVO;
+import com.miji.cms.model.request.ChunkUploadInitRequest;
+import com.miji.cms.model.request.ChunkUploadVO;
+import com.miji.cms.model.request.StorageMigrationVO;
+import com.miji.cms.model.request.StorageUsageVO;
+import com.miji.cms.model.request.UploadAdmissionVO;
+import com.miji.cms.model.request.UploadProcessingStatsVO;
+import com.miji.cms.model.request.UploadProcessingVO;
+import com.miji.cms.model.request.UploadCleanupVO;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.io.File;
+
 public interface FileUploadService {
 
     /**
-     * 上传视频文件
+     * 上传视频文件（登录时计入上传者的存储用量）
+     */
+    String uploadVideo(MultipartFile file, HttpServletRequest request);
+
+    /**
+     * 上传图片文件（登录时计入上传者的存储用量）
+     */
+    String uploadImage(MultipartFile file, HttpServletRequest request);
+
+    /**
+     * 上传通用文件（PDF/ZIP/DOCX 等）（登录时计入上传者的存储用量）
+     */
+    String uploadFile(MultipartFile file, HttpServletRequest request);
+
+    /**
+     * 获取图片缩略图文件（按需生成并缓存）
+     *
+     * @param url    图片地址，必须在 /uploads/images/ 下
+     * @param width  期望宽度，取不小于它的最近一档
+     * @param format jpg 或 png，为空时 png/gif 源图输出 png，其余输出 jpg
+     */
+    File getImageVariant(String url, Integer width, String format);
+
+    /**
+     * 初始化分片上传（需要登录）
+     */
+    ChunkUploadVO initChunkUpload(ChunkUploadInitRequest request, HttpServletRequest httpRequest);
+
+    /**
+     * 上传一个分片（请求体即分片数据）
+     */
+    Boolean uploadChunk(String uploadId, Integer index, HttpServletRequest httpRequest);
+
+    /**
+     * 查询分片上传状态（用于断点续传）
+     */
+    ChunkUploadVO getChunkUpload(String uploadId);
+
+    /**
+     * 完成分片上传，返回文件访问 URL
+     */
+    String completeChunkUpload(String uploadId);
+
+    /**
+     * 完成作品分片上传（提交作品时调用），返回文件访问 URL
+     *
+     * @param userId 提交人，必须是发起上传的用户
+     */
+    String completeSubmissionUpload(String uploadId, Long userId);
+
+    /**
+     * 放弃分片上传
+     */
+    Boolean abortChunkUpload(String uploadId);
+
+    /**
+     * 开始把已有上传文件迁移到当前存储（管理员）
+     *
+     * @return 已有迁移在进行时返回 false
+     */
+    Boolean startStorageMigration(HttpServletRequest request);
+
+    /**
+     * 查询存储迁移进度（管理员）
+     */
+    StorageMigrationVO getStorageMigrationStatus(HttpServletRequest request);
+
+    /**
+     * 开始清理无引用的上传文件（管理员）
+     *
+     * @return 已有清理在进行时返回 false
+     */
+    Boolean startUploadCleanup(HttpServletRequest request);
+
+    /**
+     * 查询无引用文件清理进度（管理员）
+     */
+    UploadCleanupVO getUploadCleanupStatus(HttpServletRequest request);
+
+    /**
+     * 查询下载限速统计（管理员）
+     */
+    BandwidthStatsVO getBandwidthStats(HttpServletRequest request);
+
+    /**
+     * 查询上传准入控制状态（管理员）
+     */
+    UploadAdmissionVO getUploadAdmissionStatus(HttpServletRequest request);
+
+    /**
+     * 查询上传文件的后台处理状态
      */
-    String uploadVideo(MultipartFile file);
+    UploadProcessingVO getUploadProcessing(String url);
 
     /**
-     * 上传图片文件
+     * 查询上传后台处理队列状态（管理员）
      */
-    String uploadImage(MultipartFile file);
+    UploadProcessingStatsVO getUploadProcessingStats(HttpServletRequest request);
 
     /**
-     * 上传通用文件（PDF/ZIP/DOCX 等）
+     * 查询用户或竞赛的存储用量（管理员）
      */
-    String uploadFile(MultipartFile file);
+    List<StorageUsageVO> getStorageUsage(String scopeType, Long scopeId, Integer limit, HttpServletRequest request);
 }
@@ -1,11 +1,19 @@
 package com.miji.cms.service;
 
 import com.baomidou.mybatisplus.extension.service.IService;
+import com.miji.cms.model.domain.CompetitionJudge;
 import com.miji.cms.model.domain.Submission;
+import com.miji.cms.model.domain.SubmissionJudgeScore;
+import com.miji.cms.model.request.ArchiveManifestVO;
 import com.miji.cms.model.request.SubmissionQueryRequest;
 import com.miji.cms.model.request.SubmissionRankVO;
+import com.miji.cms.model.request.SubmissionScoreBatchRequest;
+import com.miji.cms.model.request.SubmissionScoreImportResultVO;
+import com.miji.cms.model.request.SubmissionScoreResultVO;
+import com.miji.cms.model.request.SubmissionScoreStatsVO;
 import com.miji.cms.model.request.SubmissionSubmitRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -18,6 +26,11 @@ public interface SubmissionService extends IService<Submission> {
      */
     Long submitWork(SubmissionSubmitRequest request, MultipartFile file, HttpServletRequest httpRequest);
 
+    /**
+     * 使用分片上传的文件提交作品（覆盖旧稿），适合大文件
+     */
+    Long submitWorkByUpload(SubmissionSubmitRequest request, HttpServletRequest httpRequest);
+
     /**
      * 列出提交作品
      */
@@ -29,20 +42,151 @@ public interface SubmissionService extends IService<Submission> {
     Submission getSubmissionDetail(Long submissionId, HttpServletRequest httpRequest);
 
     /**
-     * 评分提交作品
+     * 获取当前用户可以下载文件的提交：提交人、队伍成员、竞赛创建者/评委或管理员
+     */
+    Submission getDownloadableSubmission(Long submissionId, HttpServletRequest httpRequest);
+
+    /**
+     * 校验当前用户能否查看上传文件的信息：作品目录下的文件权限同作品下载，其他文件不限制
+     */
+    void checkFileReadable(String fileUrl, HttpServletRequest httpRequest);
+
+    /**
+     * 评分提交作品（记录当前评委的分数，提交分数为各评委平均分）
      */
     Boolean scoreSubmission(Long submissionId, Integer score, HttpServletRequest httpRequest);
 
+    /**
+     * 批量评分（逐条返回结果）
+     */
+    List<SubmissionScoreResultVO> scoreSubmissionBatch(SubmissionScoreBatchRequest request, HttpServletRequest httpRequest);
+
+    /**
+     * 添加竞赛评委（竞赛创建者/管理员）
+     */
+    Boolean addJudge(Long competitionId, Long userId, HttpServletRequest httpRequest);
+
+    /**
+     * 移除竞赛评委（竞赛创建者/管理员）
+     */
+    Boolean removeJudge(Long competitionId, Long userId, HttpServletRequest httpRequest);
+
+    /**
+     * 竞赛评委列表
+     */
+    List<CompetitionJudge> listJudges(Long competitionId);
+
+    /**
+     * 查询提交的各评委评分
+     */
+    List<SubmissionJudgeScore> listJudgeScores(Long submissionId, HttpServletRequest httpRequest);
+
+    /**
+     * 评委领取待评审提交（限时租约，同一提交同一时刻只分配给一位评委）
+     */
+    List<Submission> leaseSubmissions(Long competitionId, Integer count, HttpServletRequest httpRequest);
+
+    /**
+     * 评委归还已领取但未评审的提交
+     */
+    Boolean releaseSubmissions(Long competitionId, List<Long> submissionIds, HttpServletRequest httpRequest);
+
+    /**
+     * 竞赛成绩分布统计（平均分、中位数、百分位、直方图）
+     *
+     * @param percentiles 需要的百分位（0 ~ 100），为空时返回默认百分位
+     * @param bucketWidth 直方图组宽
+     */
+    SubmissionScoreStatsVO getScoreStats(Long competitionId, List<Double> percentiles, Integer bucketWidth);
+
+    /**
+     * 从数据库重建竞赛成绩分布统计（竞赛创建者/管理员）
+     */
+    Boolean rebuildScoreStats(Long competitionId, HttpServletRequest httpRequest);
+
+    /**
+     * 发布最终成绩：将榜单生成为静态 JSON 与 Excel 快照（竞赛创建者/管理员，竞赛已结束且全部评审完成）
+     */
+    Boolean publishResult(Long competitionId, HttpServletRequest httpRequest);
+
+    /**
+     * 撤销成绩发布，恢复动态榜单与评分（竞赛创建者/管理员）
+     */
+    Boolean unpublishResult(Long competitionId, HttpServletRequest httpRequest);
+
+    /**
+     * 已发布成绩快照的访问路径，未发布返回 null
+     *
+     * @param type json 或 xlsx
+     */
+    String getPublishedResultUrl(Long competitionId, String type);
+
     /**
      * 竞赛成绩榜单
      */
     List<SubmissionRankVO> getCompetitionRank(Long competitionId);
 
+    /**
+     * 榜单前 k 名
+     */
+    List<SubmissionRankVO> listRankTop(Long competitionId, Integer k);
+
+    /**
+     * 订阅实时榜单（SSE）：先推送前 k 名，之后只推送名次变化
+     */
+    SseEmitter subscribeLiveRank(Long competitionId, Integer k);
+
+    /**
+     * 榜单分页（current 从 1 开始）
+     */
+    List<SubmissionRankVO> listRankPage(Long competitionId, Integer current, Integer pageSize);
+
+    /**
+     * 指定提交的名次及前后各 radius 名
+     */
+    List<SubmissionRankVO> listRankAround(Long competitionId, Long submissionId, Integer radius);
+
+    /**
+     * 从数据库重建竞赛排名索引
+     */
+    Boolean rebuildRankIndex(Long competitionId, HttpServletRequest httpRequest);
+
     /**
      * 导出成绩表
      */
     void exportCompetitionScore(Long competitionId, HttpServletResponse response);
 
+    /**
+     * 流式导出成绩表（按名次分页读取，内存占用与行数无关）
+     */
+    void exportCompetitionScoreStream(Long competitionId, HttpServletResponse response);
+
+    /**
+     * 将竞赛的提交作品打包为一个 ZIP 流式输出（竞赛创建者/评委）
+     *
+     * @param status 只打包指定状态的提交（0-待评审，1-已评分），为空时全部打包
+     */
+    void downloadSubmissionBundle(Long competitionId, Integer status, HttpServletRequest httpRequest,
+                                  HttpServletResponse response);
+
+    /**
+     * 压缩包作品的文件列表（权限同作品下载）
+     */
+    ArchiveManifestVO getArchiveManifest(Long submissionId, HttpServletRequest httpRequest);
+
+    /**
+     * 输出压缩包作品中的单个文件（权限同作品下载）
+     *
+     * @param name 包内路径，取自文件列表
+     */
+    void downloadArchiveEntry(Long submissionId, String name, HttpServletRequest httpRequest,
+                              HttpServletResponse response);
+
+    /**
+     * 从 Excel 导入成绩（竞赛创建者/评委/管理员；流式读取，分批校验写入，返回出错行）
+     */
+    SubmissionScoreImportResultVO importCompetitionScore(Long competitionId, MultipartFile file, HttpServletRequest httpRequest);
+
     /**
      * 查询成绩详情
      */
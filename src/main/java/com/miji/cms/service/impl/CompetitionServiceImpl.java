@@ -6,6 +6,7 @@ import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.miji.cms.common.ErrorCode;
 import com.miji.cms.constant.UserConstant;
 import com.miji.cms.exception.BusinessException;
+import com.miji.cms.manager.StorageUsageManager;
 import com.miji.cms.mapper.CompetitionRegistrationMapper;
 import com.miji.cms.mapper.TeamMapper;
 import com.miji.cms.mapper.TeamMemberMapper;
@@ -52,6 +53,9 @@ public class CompetitionServiceImpl extends ServiceImpl<CompetitionMapper, Compe
     @Resource
     private TeamMemberMapper teamMemberMapper;
 
+    @Resource
+    private StorageUsageManager storageUsageManager;
+
     @Override
     public long addCompetition(CompetitionCreateRequest request, HttpServletRequest httpRequest) {
         // 1. 权限校验（只有管理员或教师可发布）
@@ -99,6 +103,7 @@ public class CompetitionServiceImpl extends ServiceImpl<CompetitionMapper, Compe
         }
 
         // 4. 更新字符串字段
+        String oldCoverUrl = competition.getCoverUrl();
         if (StringUtils.isNotBlank(request.getName())) competition.setName(request.getName());
         if (StringUtils.isNotBlank(request.getSummary())) competition.setSummary(request.getSummary());
         if (StringUtils.isNotBlank(request.getContent())) competition.setContent(request.getContent());
@@ -114,7 +119,12 @@ public class CompetitionServiceImpl extends ServiceImpl<CompetitionMapper, Compe
         competition.setUpdateTime(new Date());
 
         // 7. 保存数据库
-        return this.updateById(competition);
+        boolean updated = this.updateById(competition);
+        // 更换封面后旧封面不再使用，退回其占用的存储用量
+        if (updated && oldCoverUrl != null && !oldCoverUrl.equals(competition.getCoverUrl())) {
+            storageUsageManager.releaseUpload(loginUser.getId(), oldCoverUrl);
+        }
+        return updated;
     }
 
     @Override
@@ -2,18 +2,42 @@ package com.miji.cms.service.impl;
 
 import com.miji.cms.exception.BusinessException;
 import com.miji.cms.common.ErrorCode;
+import com.miji.cms.manager.BandwidthManager;
+import com.miji.cms.manager.ChunkUploadManager;
+import com.miji.cms.manager.ContentStoreManager;
+import com.miji.cms.manager.ImageVariantManager;
+import com.miji.cms.manager.StorageMigrationManager;
+import com.miji.cms.manager.StorageUsageManager;
+import com.miji.cms.manager.UploadAdmissionManager;
+import com.miji.cms.manager.UploadCleanupManager;
+import com.miji.cms.manager.UploadProcessingManager;
+import com.miji.cms.model.domain.User;
+import com.miji.cms.model.request.BandwidthStatsVO;
+import com.miji.cms.model.request.ChunkUploadInitRequest;
+import com.miji.cms.model.request.ChunkUploadVO;
+import com.miji.cms.model.request.StorageMigrationVO;
+import com.miji.cms.model.request.StorageUsageVO;
+import com.miji.cms.model.request.UploadAdmissionVO;
+import com.miji.cms.model.request.UploadProcessingStatsVO;
+import com.miji.cms.model.request.UploadProcessingVO;
+import com.miji.cms.model.request.UploadCleanupVO;
 import com.miji.cms.service.FileUploadService;
+import com.miji.cms.service.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.Resource;
+import javax.servlet.http.HttpServletRequest;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @Slf4j
@@ -22,12 +46,73 @@ public class FileUploadServiceImpl implements FileUploadService {
     @Value("${file.upload-path}")
     private String uploadPath;
 
+    @Resource
+    private ChunkUploadManager chunkUploadManager;
+
+    @Resource
+    private ContentStoreManager contentStoreManager;
+
+    @Resource
+    private ImageVariantManager imageVariantManager;
+
+    @Resource
+    private StorageMigrationManager storageMigrationManager;
+
+    @Resource
+    private UploadCleanupManager uploadCleanupManager;
+
+    @Resource
+    private BandwidthManager bandwidthManager;
+
+    @Resource
+    private UploadAdmissionManager uploadAdmissionManager;
+
+    @Resource
+    private UploadProcessingManager uploadProcessingManager;
+
+    @Resource
+    private StorageUsageManager storageUsageManager;
+
+    @Resource
+    private UserService userService;
+
+    /**
+     * 分片上传的作品类型，完成后只能通过提交作品接口使用
+     */
+    private static final String TYPE_SUBMISSION = "submission";
+
+    /**
+     * 默认分片大小 8MB
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    private static final int MIN_CHUNK_SIZE = 256 << 10;
+
+    private static final int MAX_CHUNK_SIZE = 64 << 20;
+
+    /**
+     * 分片上传单个文件最大 10GB
+     */
+    private static final long MAX_CHUNK_UPLOAD_SIZE = 10L << 30;
+
     // 支持的视频格式
     private static final List<String> VIDEO_EXTENSIONS = Arrays.asList("mp4", "avi", "mov", "wmv", "flv", "mkv");
     
     // 支持的图片格式
     private static final List<String> IMAGE_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "bmp", "webp");
     
+    // 缩略图输出格式（JDK ImageIO 自带编码器）
+    private static final List<String> VARIANT_FORMATS = Arrays.asList("jpg", "png");
+
+    private static final int MAX_VARIANT_WIDTH = 4096;
+
+    /**
+     * 存储用量查询默认与最多返回的条数
+     */
+    private static final int DEFAULT_USAGE_LIMIT = 20;
+
+    private static final int MAX_USAGE_LIMIT = 1000;
+
     // 支持的文档和压缩包格式
     private static final List<String> DOCUMENT_EXTENSIONS = Arrays.asList(
             "pdf", "doc", "docx", "xls", "xlsx", "ppt", "pptx", "txt",
@@ -35,28 +120,31 @@ public class FileUploadServiceImpl implements FileUploadService {
     );
 
     @Override
-    public String uploadVideo(MultipartFile file) {
+    public String uploadVideo(MultipartFile file, HttpServletRequest request) {
         validateFileExtension(file, VIDEO_EXTENSIONS, "视频");
-        return uploadFileInternal(file, "videos");
+        return uploadFileInternal(file, "videos", request);
     }
 
     @Override
-    public String uploadImage(MultipartFile file) {
+    public String uploadImage(MultipartFile file, HttpServletRequest request) {
         validateFileExtension(file, IMAGE_EXTENSIONS, "图片");
-        return uploadFileInternal(file, "images");
+        return uploadFileInternal(file, "images", request);
     }
 
     @Override
-    public String uploadFile(MultipartFile file) {
+    public String uploadFile(MultipartFile file, HttpServletRequest request) {
         validateFileExtension(file, DOCUMENT_EXTENSIONS, "文档或压缩包");
-        return uploadFileInternal(file, "files");
+        return uploadFileInternal(file, "files", request);
     }
 
     /**
      * 验证文件扩展名
      */
     private void validateFileExtension(MultipartFile file, List<String> allowedExtensions, String fileType) {
-        String originalFilename = file.getOriginalFilename();
+        validateFileExtension(file.getOriginalFilename(), allowedExtensions, fileType);
+    }
+
+    private void validateFileExtension(String originalFilename, List<String> allowedExtensions, String fileType) {
         if (!StringUtils.hasText(originalFilename)) {
             throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件名不能为空");
         }
@@ -82,39 +170,306 @@ public class FileUploadServiceImpl implements FileUploadService {
     /**
      * 内部文件上传方法
      */
-    private String uploadFileInternal(MultipartFile file, String folder) {
+    private String uploadFileInternal(MultipartFile file, String folder, HttpServletRequest request) {
         if (file == null || file.isEmpty()) {
             throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件不能为空");
         }
 
-        // 生成唯一文件名
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-        String fileName = UUID.randomUUID().toString() + "_" + 
-                         System.currentTimeMillis() + "." + extension;
-        
-        // 构建目标路径
-        File dest = new File(uploadPath + File.separator + folder + File.separator + fileName);
-        
-        // 确保目录存在
-        if (!dest.getParentFile().exists()) {
-            boolean mkdirs = dest.getParentFile().mkdirs();
-            if (!mkdirs) {
-                log.error("创建上传目录失败: {}", dest.getParentFile().getAbsolutePath());
-                throw new BusinessException(ErrorCode.SYSTEM_ERROR, "创建上传目录失败");
-            }
-        }
+        String extension = getFileExtension(file.getOriginalFilename());
+        Long userId = getLoginUserId(request);
+        storageUsageManager.checkQuota(null, userId, file.getSize());
 
         try {
-            // 保存文件
-            file.transferTo(dest);
-            log.info("文件上传成功: {}", dest.getAbsolutePath());
+            // 按内容哈希存储，相同内容只保留一份
+            String url = contentStoreManager.store(file, folder, extension);
+            log.info("文件上传成功: {}", url);
+            storageUsageManager.recordUpload(userId, url, file.getSize());
+            // 元数据、缩略图等在后台处理，不占用请求时间
+            uploadProcessingManager.submit(url);
+            return url;
         } catch (IOException e) {
             log.error("文件上传失败", e);
             throw new BusinessException(ErrorCode.SYSTEM_ERROR, "文件上传失败: " + e.getMessage());
         }
+    }
+
+    @Override
+    public File getImageVariant(String url, Integer width, String format) {
+        if (!StringUtils.hasText(url) || !url.startsWith("/uploads/images/") || url.contains("..")
+                || url.indexOf('/', "/uploads/images/".length()) >= 0) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "只支持 /uploads/images/ 下的图片");
+        }
+        String extension = getFileExtension(url).toLowerCase();
+        if (!IMAGE_EXTENSIONS.contains(extension)) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "不支持的图片格式");
+        }
+        if (width == null || width <= 0 || width > MAX_VARIANT_WIDTH) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "宽度应在 1~" + MAX_VARIANT_WIDTH + " 之间");
+        }
+        if (!StringUtils.hasText(format)) {
+            // 保留 png/gif 的透明背景
+            format = "png".equals(extension) || "gif".equals(extension) ? "png" : "jpg";
+        }
+        format = "jpeg".equalsIgnoreCase(format) ? "jpg" : format.toLowerCase();
+        if (!VARIANT_FORMATS.contains(format)) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR,
+                    "不支持的输出格式，仅支持: " + String.join(", ", VARIANT_FORMATS));
+        }
+
+        try {
+            return imageVariantManager.getVariant(url, ImageVariantManager.snapWidth(width), format).toFile();
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "图片不存在");
+        } catch (IOException e) {
+            log.error("生成缩略图失败: {}", url, e);
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "生成缩略图失败");
+        }
+    }
+
+    @Override
+    public ChunkUploadVO initChunkUpload(ChunkUploadInitRequest request, HttpServletRequest httpRequest) {
+        if (request == null || request.getFileSize() == null || request.getFileSize() < 0) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件大小不能为空");
+        }
+        if (request.getFileSize() > MAX_CHUNK_UPLOAD_SIZE) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件不能超过 " + (MAX_CHUNK_UPLOAD_SIZE >> 30) + "GB");
+        }
+        int chunkSize = request.getChunkSize() == null ? DEFAULT_CHUNK_SIZE : request.getChunkSize();
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > MAX_CHUNK_SIZE) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "分片大小需在 256KB~64MB 之间");
+        }
+
+        String type = request.getType();
+        if ("video".equals(type)) {
+            validateFileExtension(request.getFileName(), VIDEO_EXTENSIONS, "视频");
+        } else if ("image".equals(type)) {
+            validateFileExtension(request.getFileName(), IMAGE_EXTENSIONS, "图片");
+        } else if ("file".equals(type)) {
+            validateFileExtension(request.getFileName(), DOCUMENT_EXTENSIONS, "文档或压缩包");
+        } else if (!TYPE_SUBMISSION.equals(type)) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "不支持的上传类型");
+        } else if (!StringUtils.hasText(request.getFileName())) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件名不能为空");
+        }
+
+        // 会话按声明的大小预分配磁盘并计入上传者配额，需要登录；作品上传绑定当前用户，提交作品时校验
+        User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
+        if (loginUser == null) {
+            throw new BusinessException(ErrorCode.NOT_LOGIN);
+        }
+        // 按声明的大小提前校验配额，超出时不必上传分片；作品所属竞赛的配额在提交时校验
+        storageUsageManager.checkQuota(null, loginUser.getId(), request.getFileSize());
+
+        // 去掉客户端可能携带的路径
+        String fileName = StringUtils.getFilename(request.getFileName().replace('\\', '/'));
+        if (!StringUtils.hasText(fileName)) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件名不能为空");
+        }
+
+        try {
+            ChunkUploadManager.UploadSession session = chunkUploadManager.create(type, fileName,
+                    request.getFileSize(), chunkSize, loginUser.getId());
+            return toChunkUploadVO(session);
+        } catch (IOException e) {
+            log.error("初始化分片上传失败", e);
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "初始化分片上传失败: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Boolean uploadChunk(String uploadId, Integer index, HttpServletRequest httpRequest) {
+        ChunkUploadManager.UploadSession session = getSession(uploadId);
+        if (index == null) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "分片序号不能为空");
+        }
+        try {
+            chunkUploadManager.writeChunk(session, index, httpRequest.getInputStream());
+        } catch (IOException e) {
+            log.error("分片上传失败", e);
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "分片上传失败: " + e.getMessage());
+        }
+        return true;
+    }
+
+    @Override
+    public ChunkUploadVO getChunkUpload(String uploadId) {
+        return toChunkUploadVO(getSession(uploadId));
+    }
+
+    @Override
+    public String completeChunkUpload(String uploadId) {
+        ChunkUploadManager.UploadSession session = getSession(uploadId);
+        if (TYPE_SUBMISSION.equals(session.getType())) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "作品请通过提交作品接口完成上传");
+        }
+        String url = completeTo(session, session.getType() + "s");
+        // 作品的用量在保存提交时计入竞赛与提交人
+        storageUsageManager.recordUpload(session.getUserId(), url, session.getFileSize());
+        return url;
+    }
+
+    @Override
+    public String completeSubmissionUpload(String uploadId, Long userId) {
+        ChunkUploadManager.UploadSession session = getSession(uploadId);
+        if (!TYPE_SUBMISSION.equals(session.getType()) || !userId.equals(session.getUserId())) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权使用该上传");
+        }
+        return completeTo(session, "submissions");
+    }
+
+    @Override
+    public Boolean abortChunkUpload(String uploadId) {
+        try {
+            chunkUploadManager.abort(getSession(uploadId));
+        } catch (IOException e) {
+            log.error("取消分片上传失败", e);
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "取消分片上传失败: " + e.getMessage());
+        }
+        return true;
+    }
+
+    @Override
+    public Boolean startStorageMigration(HttpServletRequest request) {
+        if (!userService.isAdmin(request)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限操作");
+        }
+        return storageMigrationManager.start();
+    }
+
+    @Override
+    public StorageMigrationVO getStorageMigrationStatus(HttpServletRequest request) {
+        if (!userService.isAdmin(request)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限查看");
+        }
+        return storageMigrationManager.getStatus();
+    }
+
+    @Override
+    public Boolean startUploadCleanup(HttpServletRequest request) {
+        if (!userService.isAdmin(request)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限操作");
+        }
+        return uploadCleanupManager.start();
+    }
+
+    @Override
+    public UploadCleanupVO getUploadCleanupStatus(HttpServletRequest request) {
+        if (!userService.isAdmin(request)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限查看");
+        }
+        return uploadCleanupManager.getStatus();
+    }
+
+    @Override
+    public BandwidthStatsVO getBandwidthStats(HttpServletRequest request) {
+        if (!userService.isAdmin(request)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限查看");
+        }
+        return bandwidthManager.getStats();
+    }
+
+    @Override
+    public UploadAdmissionVO getUploadAdmissionStatus(HttpServletRequest request) {
+        if (!userService.isAdmin(request)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限查看");
+        }
+        return uploadAdmissionManager.getStatus();
+    }
+
+    @Override
+    public UploadProcessingVO getUploadProcessing(String url) {
+        if (!StringUtils.hasText(url)) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件地址不能为空");
+        }
+        UploadProcessingVO status = uploadProcessingManager.getStatus(url);
+        if (status == null) {
+            throw new BusinessException(ErrorCode.NULL_ERROR, "没有该文件的处理记录");
+        }
+        return status;
+    }
+
+    @Override
+    public UploadProcessingStatsVO getUploadProcessingStats(HttpServletRequest request) {
+        if (!userService.isAdmin(request)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限查看");
+        }
+        return uploadProcessingManager.getStats();
+    }
+
+    @Override
+    public List<StorageUsageVO> getStorageUsage(String scopeType, Long scopeId, Integer limit,
+                                                HttpServletRequest request) {
+        if (!userService.isAdmin(request)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限查看");
+        }
+        if (!StorageUsageManager.SCOPE_USER.equals(scopeType)
+                && !StorageUsageManager.SCOPE_COMPETITION.equals(scopeType)) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "统计类型只能是 user 或 competition");
+        }
+        int size = limit == null ? DEFAULT_USAGE_LIMIT : limit;
+        if (size <= 0 || size > MAX_USAGE_LIMIT) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "数量应在 1~" + MAX_USAGE_LIMIT + " 之间");
+        }
+        return storageUsageManager.listUsage(scopeType, scopeId, size);
+    }
+
+    /**
+     * 当前登录用户ID，上传接口允许未登录时为空
+     */
+    private Long getLoginUserId(HttpServletRequest request) {
+        User loginUser = (User) request.getSession().getAttribute("userLoginState");
+        return loginUser == null ? null : loginUser.getId();
+    }
+
+    private ChunkUploadManager.UploadSession getSession(String uploadId) {
+        ChunkUploadManager.UploadSession session = chunkUploadManager.get(uploadId);
+        if (session == null) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "上传不存在或已结束");
+        }
+        return session;
+    }
+
+    private String completeTo(ChunkUploadManager.UploadSession session, String folder) {
+        Path temp = null;
+        try {
+            temp = contentStoreManager.createTempFile();
+            chunkUploadManager.complete(session, temp);
+            String url = contentStoreManager.store(temp, folder, getFileExtension(session.getFileName()));
+            log.info("分片上传完成: {}", url);
+            uploadProcessingManager.submit(url);
+            return url;
+        } catch (IOException e) {
+            log.error("完成分片上传失败", e);
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "完成分片上传失败: " + e.getMessage());
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 删除未被存储的临时文件
+     */
+    private void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("删除临时文件失败: {}", temp, e);
+        }
+    }
 
-        // 返回可访问 URL
-        return "/uploads/" + folder + "/" + fileName;
+    private ChunkUploadVO toChunkUploadVO(ChunkUploadManager.UploadSession session) {
+        ChunkUploadVO vo = new ChunkUploadVO();
+        vo.setUploadId(session.getUploadId());
+        vo.setType(session.getType());
+        vo.setFileName(session.getFileName());
+        vo.setFileSize(session.getFileSize());
+        vo.setChunkSize(session.getChunkSize());
+        vo.setChunkCount(session.getChunkCount());
+        vo.setReceivedChunks(session.getReceivedChunks());
+        vo.setMissingChunks(session.getMissingChunks());
+        return vo;
     }
 }
@@ -1,34 +1,74 @@
 package com.miji.cms.service.impl;
 
 import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelDataConvertException;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.write.metadata.WriteSheet;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miji.cms.common.ErrorCode;
+import com.miji.cms.common.ResultUtils;
 import com.miji.cms.exception.BusinessException;
+import com.miji.cms.manager.ArchiveManifestManager;
+import com.miji.cms.manager.ContentStoreManager;
+import com.miji.cms.manager.DownloadSignatureManager;
+import com.miji.cms.manager.JudgeQueueManager;
+import com.miji.cms.manager.LeaderboardHub;
+import com.miji.cms.manager.RankIndexManager;
+import com.miji.cms.manager.ResultSnapshotManager;
+import com.miji.cms.manager.ScoreDistribution;
+import com.miji.cms.manager.ScoreStatsManager;
+import com.miji.cms.manager.StorageUsageManager;
+import com.miji.cms.manager.SubmissionBundleManager;
+import com.miji.cms.manager.UploadProcessingManager;
+import com.miji.cms.mapper.CompetitionJudgeMapper;
 import com.miji.cms.mapper.CompetitionRegistrationMapper;
 import com.miji.cms.mapper.CompetitionSubmissionMapper;
+import com.miji.cms.mapper.SubmissionJudgeScoreMapper;
 import com.miji.cms.mapper.TeamMemberMapper;
 import com.miji.cms.mapper.TeamMapper;
 import com.miji.cms.model.domain.*;
+import com.miji.cms.model.request.ArchiveEntryVO;
+import com.miji.cms.model.request.ArchiveManifestVO;
+import com.miji.cms.model.request.ChunkUploadVO;
 import com.miji.cms.model.request.SubmissionQueryRequest;
 import com.miji.cms.model.request.SubmissionRankVO;
+import com.miji.cms.model.request.SubmissionScoreBatchRequest;
+import com.miji.cms.model.request.SubmissionScoreImportResultVO;
+import com.miji.cms.model.request.SubmissionScoreImportRow;
+import com.miji.cms.model.request.SubmissionScoreResultVO;
+import com.miji.cms.model.request.SubmissionScoreStatsVO;
 import com.miji.cms.model.request.SubmissionSubmitRequest;
 import com.miji.cms.service.*;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.annotation.Resource;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.net.URLEncoder;
-import java.util.Date;
-import java.util.List;
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.zip.ZipOutputStream;
 
 @Service
 public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapper, Submission>
@@ -52,8 +92,104 @@ public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapp
     @Resource
     private TeamMemberMapper teamMemberMapper;
 
-    @Value("${file.upload-path}")
-    private String uploadPath;
+    @Resource
+    private CompetitionJudgeMapper competitionJudgeMapper;
+
+    @Resource
+    private SubmissionJudgeScoreMapper submissionJudgeScoreMapper;
+
+    @Resource
+    private RankIndexManager rankIndexManager;
+
+    @Resource
+    private JudgeQueueManager judgeQueueManager;
+
+    @Resource
+    private ScoreStatsManager scoreStatsManager;
+
+    @Resource
+    private LeaderboardHub leaderboardHub;
+
+    @Resource
+    private ResultSnapshotManager resultSnapshotManager;
+
+    @Resource
+    private FileUploadService fileUploadService;
+
+    @Resource
+    private ContentStoreManager contentStoreManager;
+
+    @Resource
+    private SubmissionBundleManager submissionBundleManager;
+
+    @Resource
+    private DownloadSignatureManager downloadSignatureManager;
+
+    @Resource
+    private ArchiveManifestManager archiveManifestManager;
+
+    @Resource
+    private UploadProcessingManager uploadProcessingManager;
+
+    @Resource
+    private StorageUsageManager storageUsageManager;
+
+    @Resource
+    private ObjectMapper objectMapper;
+
+    @Resource
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 评审任务租约时长（秒），超时未评分的提交重新分配
+     */
+    @Value("${judge.lease-seconds:1800}")
+    private long judgeLeaseSeconds;
+
+    /**
+     * 榜单单次查询最大条数
+     */
+    private static final int MAX_RANK_PAGE_SIZE = 1000;
+
+    /**
+     * 批量评分单次最大条数
+     */
+    private static final int MAX_SCORE_BATCH_SIZE = 1000;
+
+    /**
+     * 成绩导入结果中最多返回的出错行数
+     */
+    private static final int MAX_IMPORT_ERRORS = 1000;
+
+    /**
+     * 流式导出每批写入的行数
+     */
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    /**
+     * 打包下载每批读取的提交数
+     */
+    private static final int BUNDLE_BATCH_SIZE = 100;
+
+    /**
+     * 评委单次最多领取的提交数
+     */
+    private static final int MAX_LEASE_COUNT = 100;
+
+    /**
+     * 成绩统计默认返回的百分位
+     */
+    private static final List<Double> DEFAULT_PERCENTILES = Arrays.asList(25.0, 50.0, 75.0, 90.0, 99.0);
+
+    /**
+     * 成绩直方图最大分组数
+     */
+    private static final int MAX_HISTOGRAM_BUCKETS = 1000;
+
+    /**
+     * 实时榜单连接超时（毫秒），超时后由浏览器 EventSource 自动重连
+     */
+    private static final long LIVE_RANK_TIMEOUT = 30 * 60 * 1000L;
 
     @Override
     public Long submitWork(SubmissionSubmitRequest request, MultipartFile file, HttpServletRequest httpRequest) {
@@ -61,8 +197,46 @@ public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapp
             throw new BusinessException(ErrorCode.PARAMS_ERROR, "参数或文件不能为空");
         }
 
-        // 1. 获取登录用户
+        CompetitionRegistration reg = checkSubmitRegistration(request, userService.getLoginUser(httpRequest));
+        checkStorageQuota(request, reg, file.getSize());
+
+        // 4. 文件上传：按内容哈希存储，重复提交相同文件不再占用磁盘
+        String fileName = file.getOriginalFilename() == null ? null
+                : StringUtils.getFilename(file.getOriginalFilename().replace('\\', '/'));
+        String fileUrl;
+        try {
+            fileUrl = contentStoreManager.store(file, "submissions", StringUtils.getFilenameExtension(fileName));
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "文件上传失败: " + e.getMessage());
+        }
+        // 元数据与压缩包目录在后台处理，请求只等待文件落盘
+        uploadProcessingManager.submit(fileUrl);
+
+        return saveSubmission(request, reg, fileUrl, fileName, file.getSize());
+    }
+
+    @Override
+    public Long submitWorkByUpload(SubmissionSubmitRequest request, HttpServletRequest httpRequest) {
+        if (request == null || request.getRegistrationId() == null || !StringUtils.hasText(request.getUploadId())) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "参数或上传ID不能为空");
+        }
+
         User loginUser = userService.getLoginUser(httpRequest);
+        CompetitionRegistration reg = checkSubmitRegistration(request, loginUser);
+
+        // 4. 分片已写入临时文件，移动到作品目录
+        ChunkUploadVO upload = fileUploadService.getChunkUpload(request.getUploadId());
+        checkStorageQuota(request, reg, upload.getFileSize());
+        String fileUrl = fileUploadService.completeSubmissionUpload(request.getUploadId(), loginUser.getId());
+
+        return saveSubmission(request, reg, fileUrl, upload.getFileName(), upload.getFileSize());
+    }
+
+    /**
+     * 校验登录与报名，返回报名记录
+     */
+    private CompetitionRegistration checkSubmitRegistration(SubmissionSubmitRequest request, User loginUser) {
+        // 1. 校验登录
         if (loginUser == null) {
             throw new BusinessException(ErrorCode.NOT_LOGIN);
         }
@@ -82,30 +256,48 @@ public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapp
                 throw new BusinessException(ErrorCode.NO_AUTH, "您不是队伍成员，无权提交作品");
             }
         }
+        return reg;
+    }
 
-        // 4. 文件上传
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        File dest = new File(uploadPath + File.separator + "submissions" + File.separator + fileName);
-        dest.getParentFile().mkdirs();
-        try {
-            file.transferTo(dest);
-        } catch (IOException e) {
-            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "文件上传失败: " + e.getMessage());
+    /**
+     * 校验竞赛与提交人的存储配额（覆盖旧稿时只计增加的部分）
+     */
+    private void checkStorageQuota(SubmissionSubmitRequest request, CompetitionRegistration reg, long fileSize) {
+        if (!storageUsageManager.isQuotaEnabled()) {
+            return;
         }
-        String fileUrl = "/uploads/submissions/" + fileName;
+        Submission old = lambdaQuery()
+                .eq(Submission::getRegistrationId, request.getRegistrationId())
+                .eq(Submission::getIsDelete, 0)
+                .one();
+        long oldSize = old != null && old.getFileSize() != null ? old.getFileSize() : 0;
+        storageUsageManager.checkQuota(reg.getCompetitionId(), reg.getUserId(), fileSize - oldSize);
+    }
 
+    /**
+     * 保存提交记录（已有提交时覆盖旧稿）
+     *
+     * @param fileName 作品原始文件名，下载时使用
+     * @param fileSize 作品文件大小，计入存储用量
+     */
+    private Long saveSubmission(SubmissionSubmitRequest request, CompetitionRegistration reg, String fileUrl,
+                                String fileName, long fileSize) {
         // 5. 检查是否已有提交（覆盖旧稿）
         Submission old = lambdaQuery()
                 .eq(Submission::getRegistrationId, request.getRegistrationId())
                 .eq(Submission::getIsDelete, 0)
                 .one();
 
+        String oldFileUrl = old != null ? old.getFileUrl() : null;
+        long oldFileSize = old != null && old.getFileSize() != null ? old.getFileSize() : 0;
         Submission submission = old != null ? old : new Submission();
 
         submission.setCompetitionId(reg.getCompetitionId());
         submission.setRegistrationId(request.getRegistrationId());
         submission.setDescription(request.getDescription());
         submission.setFileUrl(fileUrl);
+        submission.setFileName(fileName);
+        submission.setFileSize(fileSize);
         submission.setUserId(reg.getUserId());
         submission.setTeamId(reg.getTeamId());
         submission.setStatus(0);
@@ -116,13 +308,25 @@ public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapp
         }
 
         submission.setUpdateTime(new Date());
-        System.out.println("Submission 即将写入数据库：" + submission);
 
         if (old == null) {
             this.save(submission);
+            judgeQueueManager.offer(submission.getCompetitionId(), submission.getId());
+            storageUsageManager.recordSubmission(reg.getCompetitionId(), reg.getUserId(), fileSize, 1);
         } else {
             submission.setId(old.getId());
-            this.updateById(submission);
+            // 聚合分由评分增量维护，覆盖旧稿时不回写，避免覆盖并发的评分
+            Submission update = new Submission();
+            BeanUtils.copyProperties(submission, update, "score", "scoreSum", "judgeCount", "reviewerId");
+            this.updateById(update);
+            // 覆盖旧稿保留原分数，同步榜单中的文件与描述
+            rankIndexManager.update(submission);
+            // 重新置为待评审，清除旧租约，回到评审队列
+            baseMapper.releaseLease(submission.getId(), null);
+            judgeQueueManager.offer(submission.getCompetitionId(), submission.getId());
+            // 旧稿文件不再被本提交引用，用量按新旧文件大小的差值调整
+            contentStoreManager.release(oldFileUrl);
+            storageUsageManager.recordSubmission(reg.getCompetitionId(), reg.getUserId(), fileSize - oldFileSize, 0);
         }
 
         return submission.getId();
@@ -137,6 +341,63 @@ public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapp
         return submission;
     }
 
+    @Override
+    public Submission getDownloadableSubmission(Long submissionId, HttpServletRequest httpRequest) {
+        User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
+        if (loginUser == null) {
+            throw new BusinessException(ErrorCode.NOT_LOGIN);
+        }
+        Submission submission = getById(submissionId);
+        if (submission == null || submission.getIsDelete() == 1) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "提交不存在");
+        }
+        if (submission.getFileUrl() == null) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "提交记录没有文件");
+        }
+        if (loginUser.getId().equals(submission.getUserId())) {
+            return submission;
+        }
+        if (submission.getTeamId() != null && teamMemberMapper.selectCount(new QueryWrapper<TeamMember>()
+                .eq("teamId", submission.getTeamId())
+                .eq("userId", loginUser.getId())
+                .eq("isDelete", 0)) > 0) {
+            return submission;
+        }
+        if (userService.isAdmin(loginUser)) {
+            return submission;
+        }
+        Competition competition = competitionService.getById(submission.getCompetitionId());
+        if (competition == null || !canJudge(competition, loginUser)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限下载");
+        }
+        return submission;
+    }
+
+    @Override
+    public void checkFileReadable(String fileUrl, HttpServletRequest httpRequest) {
+        if (!downloadSignatureManager.isProtected(fileUrl)) {
+            return;
+        }
+        User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
+        if (loginUser == null) {
+            throw new BusinessException(ErrorCode.NOT_LOGIN);
+        }
+        // 按内容哈希存储时多份提交可能共用同一文件，能下载其中任一份即可
+        List<Submission> submissions = lambdaQuery()
+                .eq(Submission::getFileUrl, fileUrl)
+                .eq(Submission::getIsDelete, 0)
+                .list();
+        for (Submission submission : submissions) {
+            try {
+                getDownloadableSubmission(submission.getId(), httpRequest);
+                return;
+            } catch (BusinessException e) {
+                // 继续检查下一份提交
+            }
+        }
+        throw new BusinessException(ErrorCode.NO_AUTH, "无权限查看");
+    }
+
     @Override
     public List<Submission> listSubmissions(SubmissionQueryRequest request, HttpServletRequest httpRequest) {
         User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
@@ -154,10 +415,19 @@ public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapp
             wrapper.eq("userId", loginUser.getId());
         }
 
-        return list(wrapper);
+        List<Submission> submissions = list(wrapper);
+        // 只有列表接口做了权限校验，在这里发放签名下载地址，下载时不再查库
+        for (Submission submission : submissions) {
+            if (submission.getFileUrl() != null) {
+                submission.setDownloadUrl(
+                        downloadSignatureManager.sign(submission.getFileUrl(), submission.getFileName()));
+            }
+        }
+        return submissions;
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public Boolean scoreSubmission(Long submissionId, Integer score, HttpServletRequest httpRequest) {
         User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
         if (loginUser == null) {
@@ -170,26 +440,569 @@ public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapp
         }
 
         Competition competition = competitionService.getById(submission.getCompetitionId());
-        if (competition == null || !competition.getCreatorId().equals(loginUser.getId())) {
+        if (competition == null || !canJudge(competition, loginUser)) {
             throw new BusinessException(ErrorCode.NO_AUTH, "无权限评分");
         }
+        if (score == null) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "分数不能为空");
+        }
 
-        submission.setScore(score);
-        submission.setReviewerId(loginUser.getId());
-        submission.setStatus(1);
-        submission.setUpdateTime(new Date());
-        return updateById(submission);
+        recordJudgeScores(loginUser.getId(), Collections.singletonList(submission),
+                Collections.singletonMap(submissionId, score));
+        return true;
+    }
+
+    /**
+     * 是否可以评审该竞赛：竞赛创建者、已添加的评委或管理员
+     */
+    private boolean canJudge(Competition competition, User loginUser) {
+        if (competition.getCreatorId().equals(loginUser.getId()) || userService.isAdmin(loginUser)) {
+            return true;
+        }
+        Long count = competitionJudgeMapper.selectCount(new QueryWrapper<CompetitionJudge>()
+                .eq("competitionId", competition.getId())
+                .eq("userId", loginUser.getId()));
+        return count != null && count > 0;
+    }
+
+    /**
+     * 记录评委评分并增量维护提交的聚合分（分数和、评委数、平均分），不会重新汇总全部评委评分
+     *
+     * @param submissions 已校验的提交
+     * @param scores      提交ID -> 本评委的分数
+     */
+    private void recordJudgeScores(Long judgeId, Collection<Submission> submissions, Map<Long, Integer> scores) {
+        for (Submission submission : submissions) {
+            if (resultSnapshotManager.isPublished(submission.getCompetitionId())) {
+                throw new BusinessException(ErrorCode.PARAMS_ERROR, "成绩已发布，请先撤销发布再评分");
+            }
+        }
+        List<Long> submissionIds = submissions.stream().map(Submission::getId).collect(Collectors.toList());
+        // 锁定本评委已有的评分（没有时锁定唯一键间隙）：同一评委并发改分时按旧分计算的增量不会重复累加
+        Map<Long, SubmissionJudgeScore> existing = new HashMap<>();
+        for (SubmissionJudgeScore judgeScore : submissionJudgeScoreMapper.selectList(
+                new QueryWrapper<SubmissionJudgeScore>()
+                        .eq("judgeId", judgeId)
+                        .in("submissionId", submissionIds)
+                        .last("FOR UPDATE"))) {
+            existing.put(judgeScore.getSubmissionId(), judgeScore);
+        }
+
+        List<SubmissionJudgeScore> inserts = new ArrayList<>();
+        List<SubmissionJudgeScore> updates = new ArrayList<>();
+        List<ScoreDelta> deltas = new ArrayList<>();
+        Date now = new Date();
+        for (Submission submission : submissions) {
+            Integer score = scores.get(submission.getId());
+            SubmissionJudgeScore old = existing.get(submission.getId());
+            if (old == null) {
+                SubmissionJudgeScore judgeScore = new SubmissionJudgeScore();
+                judgeScore.setSubmissionId(submission.getId());
+                judgeScore.setCompetitionId(submission.getCompetitionId());
+                judgeScore.setJudgeId(judgeId);
+                judgeScore.setScore(score);
+                judgeScore.setCreateTime(now);
+                judgeScore.setUpdateTime(now);
+                inserts.add(judgeScore);
+                deltas.add(new ScoreDelta(submission.getId(), score, 1));
+            } else if (!old.getScore().equals(score)) {
+                SubmissionJudgeScore judgeScore = new SubmissionJudgeScore();
+                judgeScore.setId(old.getId());
+                judgeScore.setScore(score);
+                judgeScore.setUpdateTime(now);
+                updates.add(judgeScore);
+                deltas.add(new ScoreDelta(submission.getId(), (long) score - old.getScore(), 0));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        executeScoreBatch(judgeId, inserts, updates, deltas);
+        // 重新读取数据库算出的聚合分；事务提交后再同步排名索引与成绩统计、移出评审队列并推送榜单，
+        // 回滚时内存状态不受影响，其他请求也不会先于数据库看到新分数
+        List<Submission> updated = listByIds(submissionIds);
+        runAfterCommit(() -> {
+            Set<Long> competitionIds = new HashSet<>();
+            for (Submission submission : updated) {
+                rankIndexManager.update(submission);
+                scoreStatsManager.update(submission);
+                judgeQueueManager.complete(submission.getCompetitionId(), submission.getId());
+                competitionIds.add(submission.getCompetitionId());
+            }
+            for (Long competitionId : competitionIds) {
+                leaderboardHub.publish(competitionId);
+            }
+        });
+    }
+
+    /**
+     * 在当前事务提交后执行，没有事务时立即执行
+     */
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 在同一个批处理会话中写入评委评分与聚合分增量
+     */
+    boolean executeScoreBatch(Long judgeId, List<SubmissionJudgeScore> inserts,
+                              List<SubmissionJudgeScore> updates, List<ScoreDelta> deltas) {
+        return executeBatch(sqlSession -> {
+            SubmissionJudgeScoreMapper judgeScoreMapper = sqlSession.getMapper(SubmissionJudgeScoreMapper.class);
+            CompetitionSubmissionMapper submissionMapper = sqlSession.getMapper(CompetitionSubmissionMapper.class);
+            for (SubmissionJudgeScore judgeScore : inserts) {
+                judgeScoreMapper.insert(judgeScore);
+            }
+            for (SubmissionJudgeScore judgeScore : updates) {
+                judgeScoreMapper.updateById(judgeScore);
+            }
+            for (ScoreDelta delta : deltas) {
+                submissionMapper.applyScoreDelta(delta.submissionId, delta.scoreDelta, delta.countDelta, judgeId);
+            }
+        });
+    }
+
+    /**
+     * 单个提交的聚合分增量
+     */
+    static class ScoreDelta {
+
+        final Long submissionId;
+
+        final long scoreDelta;
+
+        final int countDelta;
+
+        ScoreDelta(Long submissionId, long scoreDelta, int countDelta) {
+            this.submissionId = submissionId;
+            this.scoreDelta = scoreDelta;
+            this.countDelta = countDelta;
+        }
+    }
+
+    @Override
+    public Boolean addJudge(Long competitionId, Long userId, HttpServletRequest httpRequest) {
+        checkCompetitionOwner(competitionId, httpRequest);
+        if (userId == null || userService.getById(userId) == null) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "用户不存在");
+        }
+        Long count = competitionJudgeMapper.selectCount(new QueryWrapper<CompetitionJudge>()
+                .eq("competitionId", competitionId)
+                .eq("userId", userId));
+        if (count != null && count > 0) {
+            return true;
+        }
+        CompetitionJudge judge = new CompetitionJudge();
+        judge.setCompetitionId(competitionId);
+        judge.setUserId(userId);
+        judge.setCreateTime(new Date());
+        return competitionJudgeMapper.insert(judge) > 0;
+    }
+
+    @Override
+    public Boolean removeJudge(Long competitionId, Long userId, HttpServletRequest httpRequest) {
+        checkCompetitionOwner(competitionId, httpRequest);
+        // 已给出的评分保留，仅取消后续评分权限
+        return competitionJudgeMapper.delete(new QueryWrapper<CompetitionJudge>()
+                .eq("competitionId", competitionId)
+                .eq("userId", userId)) > 0;
+    }
+
+    @Override
+    public List<CompetitionJudge> listJudges(Long competitionId) {
+        return competitionJudgeMapper.selectList(new QueryWrapper<CompetitionJudge>()
+                .eq("competitionId", competitionId));
+    }
+
+    @Override
+    public List<SubmissionJudgeScore> listJudgeScores(Long submissionId, HttpServletRequest httpRequest) {
+        User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
+        if (loginUser == null) {
+            throw new BusinessException(ErrorCode.NOT_LOGIN);
+        }
+        Submission submission = getById(submissionId);
+        if (submission == null) {
+            throw new BusinessException(ErrorCode.NULL_ERROR, "提交记录不存在");
+        }
+        Competition competition = competitionService.getById(submission.getCompetitionId());
+        if (competition == null || !canJudge(competition, loginUser)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限查看");
+        }
+        return submissionJudgeScoreMapper.selectList(new QueryWrapper<SubmissionJudgeScore>()
+                .eq("submissionId", submissionId));
+    }
+
+    @Override
+    public List<Submission> leaseSubmissions(Long competitionId, Integer count, HttpServletRequest httpRequest) {
+        if (count == null || count <= 0 || count > MAX_LEASE_COUNT) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "领取数量必须在 1 到 " + MAX_LEASE_COUNT + " 之间");
+        }
+        User loginUser = checkCanJudge(competitionId, httpRequest);
+
+        // 本节点队列给出候选，数据库条件更新决定归属：其他节点已领取、已评分或已删除的候选在本节点出队后补足，
+        // 仍待评审的会在队列过期重新加载时回来
+        List<Long> leasedIds;
+        List<Long> lost;
+        do {
+            leasedIds = judgeQueueManager.lease(competitionId, loginUser.getId(), count,
+                    judgeLeaseSeconds * 1000, () -> loadPendingSubmissionIds(competitionId));
+            lost = new ArrayList<>();
+            for (Long submissionId : leasedIds) {
+                if (baseMapper.tryLease(submissionId, loginUser.getId(), judgeLeaseSeconds) == 0) {
+                    lost.add(submissionId);
+                }
+            }
+            for (Long submissionId : lost) {
+                judgeQueueManager.complete(competitionId, submissionId);
+            }
+        } while (!lost.isEmpty());
+        if (leasedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Submission> submissionMap = listByIds(leasedIds).stream()
+                .collect(Collectors.toMap(Submission::getId, s -> s));
+        List<Submission> result = new ArrayList<>();
+        for (Long submissionId : leasedIds) {
+            Submission submission = submissionMap.get(submissionId);
+            // 队列之外被评分或删除的提交直接出队
+            if (submission == null || submission.getIsDelete() == 1 || !Objects.equals(submission.getStatus(), 0)) {
+                judgeQueueManager.complete(competitionId, submissionId);
+                continue;
+            }
+            result.add(submission);
+        }
+        return result;
+    }
+
+    @Override
+    public Boolean releaseSubmissions(Long competitionId, List<Long> submissionIds, HttpServletRequest httpRequest) {
+        if (submissionIds == null || submissionIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "提交ID不能为空");
+        }
+        User loginUser = checkCanJudge(competitionId, httpRequest);
+        for (Long submissionId : submissionIds) {
+            baseMapper.releaseLease(submissionId, loginUser.getId());
+        }
+        judgeQueueManager.release(competitionId, loginUser.getId(), submissionIds);
+        return true;
+    }
+
+    /**
+     * 从数据库加载竞赛待评审且未被领取（或租约已过期）的提交ID（用于构建评审队列），按提交先后排队
+     */
+    private List<Long> loadPendingSubmissionIds(Long competitionId) {
+        QueryWrapper<Submission> wrapper = new QueryWrapper<>();
+        wrapper.select("id")
+                .eq("competitionId", competitionId)
+                .eq("status", 0)
+                .and(w -> w.isNull("leaseJudgeId").or().apply("leaseExpire <= NOW()"))
+                .orderByAsc("id");
+        return list(wrapper).stream()
+                .map(Submission::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 校验当前用户可以评审该竞赛，返回登录用户
+     */
+    private User checkCanJudge(Long competitionId, HttpServletRequest httpRequest) {
+        User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
+        if (loginUser == null) {
+            throw new BusinessException(ErrorCode.NOT_LOGIN);
+        }
+        Competition competition = competitionService.getById(competitionId);
+        if (competition == null) {
+            throw new BusinessException(ErrorCode.NULL_ERROR, "竞赛不存在");
+        }
+        if (!canJudge(competition, loginUser)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限评分");
+        }
+        return loginUser;
+    }
+
+    @Override
+    public Boolean publishResult(Long competitionId, HttpServletRequest httpRequest) {
+        Competition competition = checkCompetitionOwner(competitionId, httpRequest);
+        if (competition.getEndTime() == null || competition.getEndTime().after(new Date())) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "竞赛尚未结束");
+        }
+        QueryWrapper<Submission> pendingWrapper = new QueryWrapper<>();
+        pendingWrapper.eq("competitionId", competitionId).eq("status", 0);
+        if (count(pendingWrapper) > 0) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "仍有未评审的提交");
+        }
+
+        // 排名索引是各节点的内存缓存，可能落后于其他节点的评分；发布前从数据库重建，快照以数据库为准
+        rankIndexManager.rebuild(competitionId, loadScoredSubmissions(competitionId));
+        List<SubmissionRankVO> data = getCompetitionRank(competitionId);
+        try {
+            resultSnapshotManager.publish(competitionId,
+                    out -> objectMapper.writeValue(out, ResultUtils.success(data)),
+                    out -> EasyExcel.write(out, SubmissionRankVO.class).sheet("成绩榜").doWrite(data));
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "发布成绩失败: " + e.getMessage());
+        }
+        return true;
+    }
+
+    @Override
+    public Boolean unpublishResult(Long competitionId, HttpServletRequest httpRequest) {
+        checkCompetitionOwner(competitionId, httpRequest);
+        try {
+            resultSnapshotManager.unpublish(competitionId);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "撤销发布失败: " + e.getMessage());
+        }
+        return true;
+    }
+
+    @Override
+    public String getPublishedResultUrl(Long competitionId, String type) {
+        return resultSnapshotManager.getUrl(competitionId, type);
+    }
+
+    /**
+     * 校验当前用户是竞赛创建者或管理员，返回竞赛
+     */
+    private Competition checkCompetitionOwner(Long competitionId, HttpServletRequest httpRequest) {
+        User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
+        if (loginUser == null) {
+            throw new BusinessException(ErrorCode.NOT_LOGIN);
+        }
+        Competition competition = competitionService.getById(competitionId);
+        if (competition == null) {
+            throw new BusinessException(ErrorCode.NULL_ERROR, "竞赛不存在");
+        }
+        if (!competition.getCreatorId().equals(loginUser.getId()) && !userService.isAdmin(loginUser)) {
+            throw new BusinessException(ErrorCode.NO_AUTH, "无权限操作");
+        }
+        return competition;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public List<SubmissionScoreResultVO> scoreSubmissionBatch(SubmissionScoreBatchRequest request,
+                                                              HttpServletRequest httpRequest) {
+        User loginUser = (User) httpRequest.getSession().getAttribute("userLoginState");
+        if (loginUser == null) {
+            throw new BusinessException(ErrorCode.NOT_LOGIN);
+        }
+        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "评分列表不能为空");
+        }
+        if (request.getItems().size() > MAX_SCORE_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "单次最多评分 " + MAX_SCORE_BATCH_SIZE + " 条");
+        }
+        return applyScores(request.getItems(), loginUser, null);
+    }
+
+    /**
+     * 批量评分：一次查询提交、一次查询竞赛，每个竞赛只校验一次权限（创建者、评委或管理员），
+     * 合法项在同一事务内以 JDBC batch 写入；返回与 items 顺序一致的逐条结果
+     *
+     * @param competitionId 非空时要求提交必须属于该竞赛
+     */
+    private List<SubmissionScoreResultVO> applyScores(List<SubmissionScoreBatchRequest.ScoreItem> items,
+                                                      User loginUser, Long competitionId) {
+        Set<Long> submissionIds = items.stream()
+                .map(SubmissionScoreBatchRequest.ScoreItem::getSubmissionId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Submission> submissionMap = new HashMap<>();
+        if (!submissionIds.isEmpty()) {
+            for (Submission submission : listByIds(submissionIds)) {
+                submissionMap.put(submission.getId(), submission);
+            }
+        }
+
+        Set<Long> competitionIds = submissionMap.values().stream()
+                .map(Submission::getCompetitionId)
+                .collect(Collectors.toSet());
+        Set<Long> allowedCompetitionIds = new HashSet<>();
+        if (userService.isAdmin(loginUser)) {
+            allowedCompetitionIds.addAll(competitionIds);
+        } else if (!competitionIds.isEmpty()) {
+            for (Competition competition : competitionService.listByIds(competitionIds)) {
+                if (competition.getCreatorId().equals(loginUser.getId())) {
+                    allowedCompetitionIds.add(competition.getId());
+                }
+            }
+            Set<Long> otherIds = new HashSet<>(competitionIds);
+            otherIds.removeAll(allowedCompetitionIds);
+            if (!otherIds.isEmpty()) {
+                for (CompetitionJudge judge : competitionJudgeMapper.selectList(new QueryWrapper<CompetitionJudge>()
+                        .eq("userId", loginUser.getId())
+                        .in("competitionId", otherIds))) {
+                    allowedCompetitionIds.add(judge.getCompetitionId());
+                }
+            }
+        }
+
+        List<SubmissionScoreResultVO> results = new ArrayList<>(items.size());
+        Map<Long, Integer> scores = new LinkedHashMap<>();
+        for (SubmissionScoreBatchRequest.ScoreItem item : items) {
+            Long submissionId = item.getSubmissionId();
+            Submission submission = submissionId == null ? null : submissionMap.get(submissionId);
+            if (submission == null || Integer.valueOf(1).equals(submission.getIsDelete())) {
+                results.add(SubmissionScoreResultVO.fail(submissionId, "提交不存在"));
+            } else if (competitionId != null && !competitionId.equals(submission.getCompetitionId())) {
+                results.add(SubmissionScoreResultVO.fail(submissionId, "提交不属于该竞赛"));
+            } else if (!allowedCompetitionIds.contains(submission.getCompetitionId())) {
+                results.add(SubmissionScoreResultVO.fail(submissionId, "无权限评分"));
+            } else if (item.getScore() == null) {
+                results.add(SubmissionScoreResultVO.fail(submissionId, "分数不能为空"));
+            } else if (scores.containsKey(submissionId)) {
+                results.add(SubmissionScoreResultVO.fail(submissionId, "重复的评分项"));
+            } else {
+                scores.put(submissionId, item.getScore());
+                results.add(SubmissionScoreResultVO.success(submissionId));
+            }
+        }
+
+        if (!scores.isEmpty()) {
+            List<Submission> toScore = scores.keySet().stream().map(submissionMap::get).collect(Collectors.toList());
+            recordJudgeScores(loginUser.getId(), toScore, scores);
+        }
+        return results;
     }
 
     @Override
     public List<SubmissionRankVO> getCompetitionRank(Long competitionId) {
-        List<Submission> list = this.lambdaQuery()
+        List<Submission> list = rankIndexManager.range(competitionId, 0, Integer.MAX_VALUE,
+                () -> loadScoredSubmissions(competitionId));
+        return fillRank(convertToRankVOList(list), 0);
+    }
+
+    @Override
+    public List<SubmissionRankVO> listRankTop(Long competitionId, Integer k) {
+        if (competitionId == null || k == null || k <= 0 || k > MAX_RANK_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "k 需在 1~" + MAX_RANK_PAGE_SIZE + " 之间");
+        }
+        List<Submission> list = rankIndexManager.range(competitionId, 0, k,
+                () -> loadScoredSubmissions(competitionId));
+        return fillRank(convertToRankVOList(list), 0);
+    }
+
+    @Override
+    public SseEmitter subscribeLiveRank(Long competitionId, Integer k) {
+        if (competitionId == null || k == null || k <= 0 || k > LeaderboardHub.MAX_TOP) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "k 需在 1~" + LeaderboardHub.MAX_TOP + " 之间");
+        }
+        SseEmitter emitter = new SseEmitter(LIVE_RANK_TIMEOUT);
+        leaderboardHub.subscribe(competitionId, k, emitter, () -> fillRank(convertToRankVOList(
+                rankIndexManager.range(competitionId, 0, LeaderboardHub.MAX_TOP,
+                        () -> loadScoredSubmissions(competitionId))), 0));
+        return emitter;
+    }
+
+    @Override
+    public List<SubmissionRankVO> listRankPage(Long competitionId, Integer current, Integer pageSize) {
+        if (competitionId == null || current == null || current <= 0
+                || pageSize == null || pageSize <= 0 || pageSize > MAX_RANK_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "分页参数错误");
+        }
+        int offset = (current - 1) * pageSize;
+        List<Submission> list = rankIndexManager.range(competitionId, offset, pageSize,
+                () -> loadScoredSubmissions(competitionId));
+        return fillRank(convertToRankVOList(list), offset);
+    }
+
+    @Override
+    public List<SubmissionRankVO> listRankAround(Long competitionId, Long submissionId, Integer radius) {
+        if (competitionId == null || submissionId == null || radius == null
+                || radius < 0 || radius > MAX_RANK_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "参数错误");
+        }
+        RankIndexManager.RankWindow window = rankIndexManager.around(competitionId, submissionId, radius,
+                () -> loadScoredSubmissions(competitionId));
+        if (window == null) {
+            throw new BusinessException(ErrorCode.NULL_ERROR, "该提交尚未评分或不属于该竞赛");
+        }
+        return fillRank(convertToRankVOList(window.getSubmissions()), window.getOffset());
+    }
+
+    @Override
+    public Boolean rebuildRankIndex(Long competitionId, HttpServletRequest httpRequest) {
+        checkCompetitionOwner(competitionId, httpRequest);
+        rankIndexManager.rebuild(competitionId, loadScoredSubmissions(competitionId));
+        leaderboardHub.publish(competitionId);
+        return true;
+    }
+
+    @Override
+    public SubmissionScoreStatsVO getScoreStats(Long competitionId, List<Double> percentiles, Integer bucketWidth) {
+        if (competitionId == null) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "竞赛ID不能为空");
+        }
+        if (percentiles == null || percentiles.isEmpty()) {
+            percentiles = DEFAULT_PERCENTILES;
+        }
+        for (Double p : percentiles) {
+            if (p == null || p < 0 || p > 100) {
+                throw new BusinessException(ErrorCode.PARAMS_ERROR, "百分位必须在 0 到 100 之间");
+            }
+        }
+        if (bucketWidth == null || bucketWidth <= 0) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "直方图组宽必须大于 0");
+        }
+
+        ScoreDistribution distribution = scoreStatsManager.snapshot(competitionId,
+                () -> loadScoredSubmissions(competitionId));
+        if (distribution.bucketCount(bucketWidth) > MAX_HISTOGRAM_BUCKETS) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "直方图组宽过小");
+        }
+
+        SubmissionScoreStatsVO vo = new SubmissionScoreStatsVO();
+        vo.setCompetitionId(competitionId);
+        vo.setCount(distribution.getCount());
+        vo.setMean(distribution.mean());
+        vo.setMin(distribution.min());
+        vo.setMax(distribution.max());
+        vo.setMedian(distribution.percentile(50));
+        for (Double p : percentiles) {
+            vo.getPercentiles().put("p" + BigDecimal.valueOf(p).stripTrailingZeros().toPlainString(),
+                    distribution.percentile(p));
+        }
+        distribution.histogram(bucketWidth).forEach((lower, count) ->
+                vo.getHistogram().add(new SubmissionScoreStatsVO.Bucket(lower, lower + bucketWidth, count)));
+        return vo;
+    }
+
+    @Override
+    public Boolean rebuildScoreStats(Long competitionId, HttpServletRequest httpRequest) {
+        checkCompetitionOwner(competitionId, httpRequest);
+        scoreStatsManager.rebuild(competitionId, loadScoredSubmissions(competitionId));
+        return true;
+    }
+
+    /**
+     * 从数据库加载竞赛全部已评分提交（用于构建排名索引与成绩统计）
+     */
+    private List<Submission> loadScoredSubmissions(Long competitionId) {
+        return this.lambdaQuery()
                 .eq(Submission::getCompetitionId, competitionId)
                 .isNotNull(Submission::getScore)
-                .orderByDesc(Submission::getScore)
                 .list();
+    }
 
-        return list.stream().map(this::convertToRankVO).collect(Collectors.toList());
+    /**
+     * 按顺序填充名次，第 i 条为 offset + i + 1
+     */
+    private List<SubmissionRankVO> fillRank(List<SubmissionRankVO> list, int offset) {
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).setRank(offset + i + 1);
+        }
+        return list;
     }
 
     @Override
@@ -211,33 +1024,289 @@ public class SubmissionServiceImpl extends ServiceImpl<CompetitionSubmissionMapp
         }
     }
 
+    @Override
+    public void exportCompetitionScoreStream(Long competitionId, HttpServletResponse response) {
+        try {
+            response.setContentType("application/vnd.ms-excel");
+            response.setCharacterEncoding("utf-8");
+            String fileName = URLEncoder.encode("竞赛成绩表-" + competitionId, "UTF-8");
+            response.setHeader("Content-Disposition", "attachment;filename=" + fileName + ".xlsx");
+
+            // 按名次键集分页读取，每页是独立的短查询，补全名称后追加到同一个 sheet，内存只保留一页
+            try (ExcelWriter excelWriter = EasyExcel.write(response.getOutputStream(), SubmissionRankVO.class).build()) {
+                WriteSheet writeSheet = EasyExcel.writerSheet("成绩榜").build();
+                Submission last = null;
+                int written = 0;
+                List<Submission> batch;
+                do {
+                    batch = baseMapper.listScoredAfter(competitionId, last, EXPORT_BATCH_SIZE);
+                    excelWriter.write(fillRank(convertToRankVOList(batch), written), writeSheet);
+                    written += batch.size();
+                    if (!batch.isEmpty()) {
+                        last = batch.get(batch.size() - 1);
+                    }
+                } while (batch.size() == EXPORT_BATCH_SIZE);
+            }
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "导出 Excel 失败");
+        }
+    }
+
+    @Override
+    public void downloadSubmissionBundle(Long competitionId, Integer status, HttpServletRequest httpRequest,
+                                         HttpServletResponse response) {
+        if (competitionId == null) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "竞赛ID不能为空");
+        }
+        if (status != null && status != 0 && status != 1) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "状态只能为 0 或 1");
+        }
+        checkCanJudge(competitionId, httpRequest);
+
+        response.setContentType("application/zip");
+        String fileName = URLEncoder.encode("竞赛作品-" + competitionId + ".zip", StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+        response.setHeader("Content-Disposition",
+                String.format("attachment; filename=\"%s\"; filename*=UTF-8''%s", fileName, fileName));
+
+        // 按主键分批读取，不持有长时间的数据库连接；文件逐个写入响应，大小未知，使用分块传输
+        try (ZipOutputStream zip = submissionBundleManager.open(response.getOutputStream())) {
+            long lastId = 0;
+            List<Submission> batch;
+            do {
+                QueryWrapper<Submission> wrapper = new QueryWrapper<>();
+                wrapper.eq("competitionId", competitionId)
+                        .eq(status != null, "status", status)
+                        .isNotNull("fileUrl")
+                        .gt("id", lastId)
+                        .orderByAsc("id")
+                        .last("LIMIT " + BUNDLE_BATCH_SIZE);
+                batch = list(wrapper);
+                List<SubmissionRankVO> owners = convertToRankVOList(batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    Submission submission = batch.get(i);
+                    lastId = submission.getId();
+                    SubmissionRankVO owner = owners.get(i);
+                    String name = submission.getTeamId() != null ? owner.getTeamName() : owner.getSubmitUserName();
+                    String original = StringUtils.hasText(submission.getFileName())
+                            ? submission.getFileName() : submission.getFileUrl();
+                    submissionBundleManager.addFile(zip,
+                            SubmissionBundleManager.entryName(name, submission.getId(), original),
+                            submission.getFileUrl());
+                }
+            } while (batch.size() == BUNDLE_BATCH_SIZE);
+        } catch (IOException e) {
+            // 响应可能已部分输出，客户端会收到不完整的压缩包
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "打包下载失败");
+        }
+    }
+
+    @Override
+    public ArchiveManifestVO getArchiveManifest(Long submissionId, HttpServletRequest httpRequest) {
+        Submission submission = getDownloadableSubmission(submissionId, httpRequest);
+        try {
+            return archiveManifestManager.getManifest(submission.getFileUrl());
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件不存在");
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "读取压缩包失败");
+        }
+    }
+
+    @Override
+    public void downloadArchiveEntry(Long submissionId, String name, HttpServletRequest httpRequest,
+                                     HttpServletResponse response) {
+        String fileUrl = getDownloadableSubmission(submissionId, httpRequest).getFileUrl();
+        try {
+            ArchiveEntryVO entry = archiveManifestManager.getEntry(fileUrl, name);
+            try (InputStream in = archiveManifestManager.openEntry(fileUrl, entry)) {
+                String fileName = name.substring(name.lastIndexOf('/') + 1);
+                String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                        .replaceAll("\\+", "%20");
+                // 包内文件可能是 html 等，一律作为附件下载，不在本站页面中打开
+                response.setHeader("Content-Disposition", String.format(
+                        "attachment; filename=\"%s\"; filename*=UTF-8''%s", encodedFileName, encodedFileName));
+                response.setHeader("X-Content-Type-Options", "nosniff");
+                response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+                response.setContentLengthLong(entry.getSize());
+                StreamUtils.copy(in, response.getOutputStream());
+            }
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "文件不存在");
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "读取压缩包失败");
+        }
+    }
+
+    @Override
+    public SubmissionScoreImportResultVO importCompetitionScore(Long competitionId, MultipartFile file,
+                                                                HttpServletRequest httpRequest) {
+        if (httpRequest.getSession().getAttribute("userLoginState") == null) {
+            throw new BusinessException(ErrorCode.NOT_LOGIN);
+        }
+        if (competitionId == null || file == null || file.isEmpty()) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "参数或文件不能为空");
+        }
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename == null
+                || !(originalFilename.toLowerCase().endsWith(".xlsx") || originalFilename.toLowerCase().endsWith(".xls"))) {
+            throw new BusinessException(ErrorCode.PARAMS_ERROR, "仅支持 xlsx/xls 文件");
+        }
+
+        // 与批量评分相同：竞赛创建者、评委或管理员
+        User loginUser = checkCanJudge(competitionId, httpRequest);
+
+        ScoreImportListener listener = new ScoreImportListener(competitionId, loginUser);
+        try {
+            EasyExcel.read(file.getInputStream(), SubmissionScoreImportRow.class, listener).sheet().doRead();
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "读取 Excel 失败: " + e.getMessage());
+        }
+        return listener.result;
+    }
+
+    /**
+     * 成绩导入监听器：逐行读取，每满一批校验并批量写入，内存只保留一批数据
+     */
+    private class ScoreImportListener implements ReadListener<SubmissionScoreImportRow> {
+
+        private final Long competitionId;
+
+        private final User loginUser;
+
+        private final List<SubmissionScoreBatchRequest.ScoreItem> items = new ArrayList<>(MAX_SCORE_BATCH_SIZE);
+
+        private final List<Integer> rowNums = new ArrayList<>(MAX_SCORE_BATCH_SIZE);
+
+        private final SubmissionScoreImportResultVO result = new SubmissionScoreImportResultVO();
+
+        ScoreImportListener(Long competitionId, User loginUser) {
+            this.competitionId = competitionId;
+            this.loginUser = loginUser;
+        }
+
+        @Override
+        public void invoke(SubmissionScoreImportRow row, AnalysisContext context) {
+            int rowNum = context.readRowHolder().getRowIndex() + 1;
+            result.setTotal(result.getTotal() + 1);
+            if (row.getSubmissionId() == null || row.getScore() == null) {
+                addError(rowNum, row.getSubmissionId(), "提交ID或分数为空");
+                return;
+            }
+            SubmissionScoreBatchRequest.ScoreItem item = new SubmissionScoreBatchRequest.ScoreItem();
+            item.setSubmissionId(row.getSubmissionId());
+            item.setScore(row.getScore());
+            items.add(item);
+            rowNums.add(rowNum);
+            if (items.size() >= MAX_SCORE_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onException(Exception exception, AnalysisContext context) throws Exception {
+            if (exception instanceof ExcelDataConvertException) {
+                ExcelDataConvertException convertException = (ExcelDataConvertException) exception;
+                result.setTotal(result.getTotal() + 1);
+                addError(convertException.getRowIndex() + 1, null,
+                        "第 " + (convertException.getColumnIndex() + 1) + " 列格式错误");
+                return;
+            }
+            throw exception;
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+            flush();
+            result.getErrors().sort(Comparator.comparing(SubmissionScoreImportResultVO.RowError::getRowNum));
+        }
+
+        private void flush() {
+            if (items.isEmpty()) {
+                return;
+            }
+            // 每批一个事务，评分行锁持有到本批写入完成
+            List<SubmissionScoreResultVO> results = transactionTemplate.execute(
+                    status -> applyScores(items, loginUser, competitionId));
+            for (int i = 0; i < results.size(); i++) {
+                SubmissionScoreResultVO vo = results.get(i);
+                if (vo.getSuccess()) {
+                    result.setSuccessCount(result.getSuccessCount() + 1);
+                } else {
+                    addError(rowNums.get(i), vo.getSubmissionId(), vo.getMessage());
+                }
+            }
+            items.clear();
+            rowNums.clear();
+        }
+
+        private void addError(int rowNum, Long submissionId, String message) {
+            result.setFailCount(result.getFailCount() + 1);
+            if (result.getErrors().size() < MAX_IMPORT_ERRORS) {
+                result.getErrors().add(new SubmissionScoreImportResultVO.RowError(rowNum, submissionId, message));
+            }
+        }
+    }
+
     @Override
     public SubmissionRankVO getScoreDetail(Long submissionId) {
         Submission submission = this.getById(submissionId);
         if (submission == null) {
             throw new BusinessException(ErrorCode.NULL_ERROR, "提交记录不存在");
         }
-        return convertToRankVO(submission);
+        SubmissionRankVO vo = convertToRankVOList(Collections.singletonList(submission)).get(0);
+        if (submission.getScore() != null) {
+            int rank = rankIndexManager.rankOf(submission.getCompetitionId(), submissionId,
+                    () -> loadScoredSubmissions(submission.getCompetitionId()));
+            vo.setRank(rank > 0 ? rank : null);
+        }
+        return vo;
     }
 
-    private SubmissionRankVO convertToRankVO(Submission submission) {
-        SubmissionRankVO vo = new SubmissionRankVO();
-        BeanUtils.copyProperties(submission, vo);
+    /**
+     * 批量组装榜单 VO：用户名、队伍名各用一次 IN 查询补全，查询次数与提交数量无关
+     */
+    private List<SubmissionRankVO> convertToRankVOList(List<Submission> submissions) {
+        if (submissions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> userIds = submissions.stream()
+                .map(Submission::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> teamIds = submissions.stream()
+                .map(Submission::getTeamId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-        if (submission.getUserId() != null) {
-            User user = userService.getById(submission.getUserId());
-            if (user != null) {
-                vo.setSubmitUserName(user.getUserName());
+        Map<Long, String> userNameMap = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (User user : userService.listByIds(userIds)) {
+                userNameMap.put(user.getId(), user.getUserName());
             }
         }
-
-        if (submission.getTeamId() != null) {
-            Team team = teamService.getById(submission.getTeamId());
-            if (team != null) {
-                vo.setTeamName(team.getName());
+        Map<Long, String> teamNameMap = new HashMap<>();
+        if (!teamIds.isEmpty()) {
+            for (Team team : teamService.listByIds(teamIds)) {
+                teamNameMap.put(team.getId(), team.getName());
             }
         }
 
-        return vo;
+        List<SubmissionRankVO> result = new ArrayList<>(submissions.size());
+        for (Submission submission : submissions) {
+            SubmissionRankVO vo = new SubmissionRankVO();
+            BeanUtils.copyProperties(submission, vo);
+            vo.setSubmissionId(submission.getId());
+            if (submission.getUserId() != null) {
+                vo.setSubmitUserName(userNameMap.get(submission.getUserId()));
+            }
+            if (submission.getTeamId() != null) {
+                vo.setTeamName(teamNameMap.get(submission.getTeamId()));
+            }
+            result.add(vo);
+        }
+        return result;
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.miji.cms.common.ErrorCode;
 import com.miji.cms.exception.BusinessException;
+import com.miji.cms.manager.StorageUsageManager;
 import com.miji.cms.model.domain.User;
 import com.miji.cms.service.UserService;
 import com.miji.cms.mapper.UserMapper;
@@ -33,6 +34,9 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User>
     @Resource
     private UserMapper userMapper;
 
+    @Resource
+    private StorageUsageManager storageUsageManager;
+
     //盐值，混淆密码
     final static String SALT = "miji";
 
@@ -208,7 +212,13 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User>
         if (oldUser == null) {
             throw new BusinessException(ErrorCode.NULL_ERROR);
         }
-        return userMapper.updateById(user);
+        int result = userMapper.updateById(user);
+        // 更换头像后旧头像不再使用，退回其占用的存储用量
+        String oldUrl = oldUser.getUserUrl();
+        if (result > 0 && user.getUserUrl() != null && oldUrl != null && !oldUrl.equals(user.getUserUrl())) {
+            storageUsageManager.releaseUpload(userId, oldUrl);
+        }
+        return result;
     }
 
 }
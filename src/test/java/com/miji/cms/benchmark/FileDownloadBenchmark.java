@@ -0,0 +1,126 @@
+package com.miji.cms.benchmark;
+
+import com.miji.cms.manager.FileDownloadManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 文件下载吞吐基准：对比原 1KB 缓冲循环与 FileChannel.transferTo 输出同一文件
+ * <p>
+ * 响应流只计数不保存，测的是服务端读文件与拷贝的开销；Tomcat sendfile 在内核完成，不在此基准内。
+ * 默认不执行，运行方式：mvn test -Dtest=FileDownloadBenchmark -Dbenchmark=true
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FileDownloadBenchmark {
+
+    private static final long FILE_SIZE = 256L << 20;
+
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void benchmarkDownloadThroughput() throws Exception {
+        File file = dir.resolve("video.mp4").toFile();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(FILE_SIZE);
+        }
+        FileDownloadManager manager = new FileDownloadManager();
+
+        // 预热，使文件进入页缓存并完成 JIT
+        legacyCopy(file, countingStream(new AtomicLong()));
+        manager.send(file, "application/octet-stream", new MockHttpServletRequest(), countingResponse(new AtomicLong()));
+
+        double legacy = measure(() -> {
+            AtomicLong written = new AtomicLong();
+            legacyCopy(file, countingStream(written));
+            return written.get();
+        });
+        double transfer = measure(() -> {
+            AtomicLong written = new AtomicLong();
+            manager.send(file, "application/octet-stream", new MockHttpServletRequest(), countingResponse(written));
+            return written.get();
+        });
+
+        log.info("download {} MB x {}: legacy 1KB loop = {} MB/s, transferTo = {} MB/s",
+                FILE_SIZE >> 20, ROUNDS, Math.round(legacy), Math.round(transfer));
+    }
+
+    private interface Download {
+        long run() throws IOException;
+    }
+
+    private static double measure(Download download) throws IOException {
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            bytes += download.run();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return (bytes >> 20) / seconds;
+    }
+
+    /**
+     * 改造前 FileController.downloadFile 的输出方式
+     */
+    private static void legacyCopy(File file, OutputStream os) throws IOException {
+        try (BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file))) {
+            byte[] buffer = new byte[1024];
+            int len;
+            while ((len = bis.read(buffer)) != -1) {
+                os.write(buffer, 0, len);
+            }
+            os.flush();
+        }
+    }
+
+    private static ServletOutputStream countingStream(AtomicLong written) {
+        return new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                written.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written.addAndGet(len);
+            }
+        };
+    }
+
+    private static HttpServletResponse countingResponse(AtomicLong written) throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream out = countingStream(written);
+        when(response.getOutputStream()).thenReturn(out);
+        return response;
+    }
+}
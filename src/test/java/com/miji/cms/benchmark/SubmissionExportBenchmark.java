@@ -0,0 +1,176 @@
+package com.miji.cms.benchmark;
+
+import com.miji.cms.manager.RankIndexManager;
+import com.miji.cms.mapper.CompetitionSubmissionMapper;
+import com.miji.cms.model.domain.Submission;
+import com.miji.cms.model.domain.User;
+import com.miji.cms.service.TeamService;
+import com.miji.cms.service.UserService;
+import com.miji.cms.service.impl.SubmissionServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 成绩导出内存基准：对比全量导出与流式导出 200k 行时的堆峰值
+ * <p>
+ * 默认不执行，运行方式：mvn test -Dtest=SubmissionExportBenchmark -Dbenchmark=true
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SubmissionExportBenchmark {
+
+    private static final int ROWS = 200_000;
+
+    @Test
+    void benchmarkExportPeakHeap() throws Exception {
+        long legacyPeak = measurePeakHeap(service -> service.exportCompetitionScore(1L, discardingResponse()));
+        long streamPeak = measurePeakHeap(service -> service.exportCompetitionScoreStream(1L, discardingResponse()));
+
+        log.info("export {} rows: legacy peak heap = {} MB, stream peak heap = {} MB",
+                ROWS, legacyPeak >> 20, streamPeak >> 20);
+    }
+
+    private long measurePeakHeap(Consumer<SubmissionServiceImpl> export) throws Exception {
+        SubmissionServiceImpl service = newService();
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memoryBean.getHeapMemoryUsage().getUsed();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong peak = new AtomicLong();
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+        try {
+            export.accept(service);
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        return Math.max(0, peak.get() - baseline);
+    }
+
+    private SubmissionServiceImpl newService() {
+        CompetitionSubmissionMapper mapper = mock(CompetitionSubmissionMapper.class);
+        when(mapper.selectList(any())).thenAnswer(invocation -> {
+            List<Submission> all = new ArrayList<>(ROWS);
+            syntheticRows().forEachRemaining(all::add);
+            return all;
+        });
+        when(mapper.listScoredAfter(eq(1L), any(), anyInt())).thenAnswer(invocation -> {
+            Submission after = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            long from = after == null ? 1 : after.getId() + 1;
+            List<Submission> page = new ArrayList<>(limit);
+            for (long id = from; id < from + limit && id <= ROWS; id++) {
+                page.add(syntheticRow(id));
+            }
+            return page;
+        });
+
+        UserService userService = mock(UserService.class);
+        when(userService.listByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<? extends Serializable> ids = invocation.getArgument(0);
+            List<User> users = new ArrayList<>(ids.size());
+            for (Serializable id : ids) {
+                User user = new User();
+                user.setId((Long) id);
+                user.setUserName("用户" + id);
+                users.add(user);
+            }
+            return users;
+        });
+
+        SubmissionServiceImpl service = new SubmissionServiceImpl();
+        ReflectionTestUtils.setField(service, "baseMapper", mapper);
+        ReflectionTestUtils.setField(service, "userService", userService);
+        ReflectionTestUtils.setField(service, "teamService", mock(TeamService.class));
+        ReflectionTestUtils.setField(service, "rankIndexManager", new RankIndexManager());
+        return service;
+    }
+
+    private static Iterator<Submission> syntheticRows() {
+        return new Iterator<Submission>() {
+            private long next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return next <= ROWS;
+            }
+
+            @Override
+            public Submission next() {
+                return syntheticRow(next++);
+            }
+        };
+    }
+
+    private static Submission syntheticRow(long id) {
+        Submission s = new Submission();
+        s.setId(id);
+        s.setCompetitionId(1L);
+        s.setUserId(id);
+        s.setScore((int) (ROWS - id));
+        s.setFileUrl("/uploads/submissions/" + UUID.randomUUID() + "_work.zip");
+        s.setDescription("作品描述 " + id);
+        s.setCreateTime(new Date());
+        s.setUpdateTime(new Date());
+        return s;
+    }
+
+    private static HttpServletResponse discardingResponse() {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+        try {
+            when(response.getOutputStream()).thenReturn(out);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+}
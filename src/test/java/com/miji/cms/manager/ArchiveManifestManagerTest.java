@@ -0,0 +1,162 @@
+package com.miji.cms.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miji.cms.exception.BusinessException;
+import com.miji.cms.model.request.ArchiveEntryVO;
+import com.miji.cms.model.request.ArchiveManifestVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArchiveManifestManager 单元测试
+ */
+class ArchiveManifestManagerTest {
+
+    private static final String URL = "/uploads/submissions/" + "e".repeat(64) + ".zip";
+
+    @TempDir
+    Path uploadDir;
+
+    private final ArchiveManifestManager manager = new ArchiveManifestManager();
+
+    private final byte[] text = "judges only need a peek\n".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] binary = new byte[3000];
+
+    @BeforeEach
+    void setUp() {
+        LocalFileStorage fileStorage = new LocalFileStorage();
+        ReflectionTestUtils.setField(fileStorage, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "fileStorage", fileStorage);
+        ReflectionTestUtils.setField(manager, "objectMapper", new ObjectMapper());
+        new Random(7).nextBytes(binary);
+    }
+
+    private Path writeZip(Charset charset, int extraEntries) throws Exception {
+        Path file = uploadDir.resolve(FileStorage.keyOf(URL));
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = Files.newOutputStream(file);
+             ZipOutputStream zip = new ZipOutputStream(out, charset)) {
+            zip.putNextEntry(new ZipEntry("src/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("src/说明.txt"));
+            zip.write(text);
+            zip.closeEntry();
+
+            ZipEntry stored = new ZipEntry("data.bin");
+            CRC32 crc = new CRC32();
+            crc.update(binary);
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(binary.length);
+            stored.setCrc(crc.getValue());
+            zip.putNextEntry(stored);
+            zip.write(binary);
+            zip.closeEntry();
+
+            for (int i = 0; i < extraEntries; i++) {
+                zip.putNextEntry(new ZipEntry("many/" + i));
+                zip.closeEntry();
+            }
+            zip.setComment("PK\u0005\u0006 not a real end record");
+        }
+        return file;
+    }
+
+    @Test
+    @DisplayName("列出文件并缓存，源文件删除后仍可从缓存读取")
+    void testManifest() throws Exception {
+        Path file = writeZip(StandardCharsets.UTF_8, 0);
+
+        ArchiveManifestVO manifest = manager.getManifest(URL);
+
+        assertEquals(Files.size(file), manifest.getFileSize());
+        assertEquals(3, manifest.getEntryCount());
+        assertFalse(manifest.getTruncated());
+        assertEquals(text.length + binary.length, manifest.getTotalSize());
+        ArchiveEntryVO dir = manifest.getEntries().get(0);
+        assertEquals("src/", dir.getName());
+        assertTrue(dir.getDirectory());
+        ArchiveEntryVO txt = manifest.getEntries().get(1);
+        assertEquals("src/说明.txt", txt.getName());
+        assertEquals(8, txt.getMethod());
+        assertTrue(txt.getCompressedSize() < txt.getSize());
+        assertNotNull(txt.getLastModified());
+        assertEquals(0, manifest.getEntries().get(2).getMethod());
+
+        Files.delete(file);
+        assertEquals(3, manager.getManifest(URL).getEntries().size());
+
+        manager.evict(URL);
+        assertThrows(NoSuchFileException.class, () -> manager.getManifest(URL));
+    }
+
+    @Test
+    @DisplayName("只读取单个条目，DEFLATED 与 STORED 均可解出原文")
+    void testOpenEntry() throws Exception {
+        writeZip(StandardCharsets.UTF_8, 0);
+
+        try (InputStream in = manager.openEntry(URL, manager.getEntry(URL, "src/说明.txt"))) {
+            assertArrayEquals(text, in.readAllBytes());
+        }
+        try (InputStream in = manager.openEntry(URL, manager.getEntry(URL, "data.bin"))) {
+            assertArrayEquals(binary, in.readAllBytes());
+        }
+        assertThrows(BusinessException.class, () -> manager.openEntry(URL, manager.getEntry(URL, "src/")));
+        assertThrows(BusinessException.class, () -> manager.getEntry(URL, "missing.txt"));
+    }
+
+    @Test
+    @DisplayName("没有 UTF-8 标志的文件名按 GBK 解码")
+    void testLegacyNames() throws Exception {
+        writeZip(Charset.forName("GBK"), 0);
+
+        assertEquals("src/说明.txt", manager.getManifest(URL).getEntries().get(1).getName());
+    }
+
+    @Test
+    @DisplayName("超过 65535 个条目时读取 ZIP64 目录，只列出前一部分")
+    void testZip64() throws Exception {
+        writeZip(StandardCharsets.UTF_8, 70000);
+
+        ArchiveManifestVO manifest = manager.readManifest(URL);
+
+        assertEquals(70003, manifest.getEntryCount());
+        assertEquals(ArchiveManifestManager.MAX_ENTRIES, manifest.getEntries().size());
+        assertTrue(manifest.getTruncated());
+    }
+
+    @Test
+    @DisplayName("不是 ZIP 文件")
+    void testNotZip() throws Exception {
+        Path file = uploadDir.resolve(FileStorage.keyOf(URL));
+        Files.createDirectories(file.getParent());
+        Files.write(file, text);
+
+        assertThrows(BusinessException.class, () -> manager.getManifest(URL));
+    }
+
+    @Test
+    @DisplayName("MS-DOS 时间转换")
+    void testDosTime() {
+        assertNotNull(ArchiveManifestManager.dosTime((45 << 9) | (3 << 5) | 14, (9 << 11) | (30 << 5) | 5));
+        assertNull(ArchiveManifestManager.dosTime(0, 0));
+    }
+}
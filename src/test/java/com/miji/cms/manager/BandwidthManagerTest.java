@@ -0,0 +1,108 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.manager.BandwidthManager.Traffic;
+import com.miji.cms.model.request.BandwidthStatsVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BandwidthManager 单元测试（使用模拟时钟，等待只推进时钟）
+ */
+class BandwidthManagerTest {
+
+    private static final long KB = 1024;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private BandwidthManager newManager(long bulk, long perConnection, long api) {
+        BandwidthManager manager = new BandwidthManager() {
+            @Override
+            void sleep(long nanos) {
+                now.addAndGet(nanos);
+            }
+        };
+        ReflectionTestUtils.setField(manager, "bulkBytesPerSecond", bulk);
+        ReflectionTestUtils.setField(manager, "perConnectionBytesPerSecond", perConnection);
+        ReflectionTestUtils.setField(manager, "apiBytesPerSecond", api);
+        ReflectionTestUtils.setField(manager, "burstMillis", 200L);
+        manager.nanoClock = now::get;
+        manager.init();
+        return manager;
+    }
+
+    @Test
+    @DisplayName("令牌不足时返回等待时长，空闲后最多积攒 capacity")
+    void testTokenBucket() {
+        TokenBucket bucket = new TokenBucket(1000, 500, now::get);
+
+        assertEquals(0, bucket.reserve(500));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(100));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(0, bucket.reserve(500));
+        assertTrue(bucket.reserve(1) > 0);
+    }
+
+    @Test
+    @DisplayName("单连接速率：1 MiB 以 256 KiB/s 输出约需 4 秒")
+    void testPerConnection() throws Exception {
+        BandwidthManager manager = newManager(0, 256 * KB, 0);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        byte[] data = new byte[(int) (1024 * KB)];
+
+        try (OutputStream out = manager.shape(target, Traffic.BULK)) {
+            out.write(data);
+        }
+
+        assertEquals(data.length, target.size());
+        double seconds = now.get() / 1e9;
+        // 初始积攒 200ms 的令牌（51.2 KiB），前 3 个 16 KiB 分块不等待
+        assertEquals((1024 - 51.2) / 256.0, seconds, 0.01);
+        BandwidthStatsVO stats = manager.getStats();
+        assertEquals(data.length, stats.getBulkBytes());
+        assertEquals(data.length - 3 * BandwidthManager.CHUNK_SIZE, stats.getBulkThrottledBytes());
+        assertEquals(Math.round(seconds * 1000), stats.getBulkWaitMillis(), 1);
+        assertEquals(0, stats.getApiBytes());
+    }
+
+    @Test
+    @DisplayName("多个下载共用全局配额，接口响应使用独立配额")
+    void testGlobalBudgets() throws Exception {
+        BandwidthManager manager = newManager(512 * KB, 0, 0);
+        byte[] data = new byte[(int) (512 * KB)];
+
+        try (OutputStream first = manager.shape(new ByteArrayOutputStream(), Traffic.BULK);
+             OutputStream second = manager.shape(new ByteArrayOutputStream(), Traffic.BULK)) {
+            first.write(data);
+            second.write(data);
+        }
+        // 1 MiB 以 512 KiB/s 输出，扣除初始 burst（102.4 KiB）
+        assertEquals((1024 - 102.4) / 512, now.get() / 1e9, 0.01);
+
+        assertTrue(manager.isShaped(Traffic.BULK));
+        assertFalse(manager.isShaped(Traffic.API));
+        long before = now.get();
+        try (OutputStream api = manager.shape(new ByteArrayOutputStream(), Traffic.API)) {
+            api.write(data);
+        }
+        assertEquals(before, now.get());
+        assertEquals(data.length, manager.getStats().getApiBytes());
+        assertEquals(0, manager.getStats().getApiThrottledBytes());
+    }
+
+    @Test
+    @DisplayName("未配置速率时不限速")
+    void testDisabled() {
+        BandwidthManager manager = newManager(0, 0, 0);
+
+        assertFalse(manager.isShaped(Traffic.BULK));
+        assertFalse(manager.isShaped(Traffic.API));
+    }
+}
@@ -0,0 +1,44 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BloomFilter 单元测试
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("放入的元素一定命中，误判率接近设定值")
+    void testNoFalseNegativesAndFpp() {
+        int n = 20000;
+        BloomFilter filter = new BloomFilter(n, 0.01);
+        for (int i = 0; i < n; i++) {
+            filter.put("/uploads/images/" + i + ".png");
+        }
+        for (int i = 0; i < n; i++) {
+            assertTrue(filter.mightContain("/uploads/images/" + i + ".png"));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < n; i++) {
+            if (filter.mightContain("/uploads/files/" + i + ".pdf")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < n * 0.02, "误判 " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("按容量与误判率计算位数和哈希函数个数")
+    void testSizing() {
+        BloomFilter filter = new BloomFilter(1000, 0.001);
+
+        // m = -n ln p / (ln 2)^2 ≈ 14378，向上取整到 64 的倍数
+        assertEquals(14400, filter.getBitCount());
+        assertEquals(10, filter.getHashCount());
+        assertFalse(filter.mightContain("anything"));
+    }
+}
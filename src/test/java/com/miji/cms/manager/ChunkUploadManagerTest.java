@@ -0,0 +1,241 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChunkUploadManager 单元测试
+ */
+class ChunkUploadManagerTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    @TempDir
+    Path uploadDir;
+
+    private ChunkUploadManager manager;
+
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() {
+        manager = newManager();
+        content = new byte[CHUNK_SIZE * 3 + 100];
+        new Random(42).nextBytes(content);
+    }
+
+    private ChunkUploadManager newManager() {
+        ChunkUploadManager m = new ChunkUploadManager();
+        ReflectionTestUtils.setField(m, "uploadPath", uploadDir.toString());
+        return m;
+    }
+
+    private ByteArrayInputStream chunk(int index) {
+        int offset = index * CHUNK_SIZE;
+        return new ByteArrayInputStream(content, offset, Math.min(CHUNK_SIZE, content.length - offset));
+    }
+
+    @Test
+    @DisplayName("乱序上传分片后合并内容正确")
+    void testOutOfOrderChunks() throws Exception {
+        ChunkUploadManager.UploadSession session = manager.create("video", "a.mp4", content.length, CHUNK_SIZE, null);
+        assertEquals(4, session.getChunkCount());
+
+        for (int index : new int[]{3, 1, 0, 2}) {
+            manager.writeChunk(session, index, chunk(index));
+        }
+        assertTrue(session.isComplete());
+
+        Path target = uploadDir.resolve("videos").resolve("a.mp4");
+        manager.complete(session, target);
+
+        assertArrayEquals(content, Files.readAllBytes(target));
+        assertNull(manager.get(session.getUploadId()));
+        try (Stream<Path> files = Files.list(uploadDir.resolve(ChunkUploadManager.CHUNK_FOLDER))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("服务重启后从 meta 文件恢复已上传分片")
+    void testResumeAfterRestart() throws Exception {
+        ChunkUploadManager.UploadSession session = manager.create("submission", "work.zip", content.length,
+                CHUNK_SIZE, 7L);
+        manager.writeChunk(session, 0, chunk(0));
+        manager.writeChunk(session, 2, chunk(2));
+
+        ChunkUploadManager restarted = newManager();
+        ChunkUploadManager.UploadSession resumed = restarted.get(session.getUploadId());
+
+        assertNotNull(resumed);
+        assertEquals("submission", resumed.getType());
+        assertEquals("work.zip", resumed.getFileName());
+        assertEquals(7L, resumed.getUserId());
+        assertEquals(Arrays.asList(0, 2), resumed.getReceivedChunks());
+        assertEquals(Arrays.asList(1, 3), resumed.getMissingChunks());
+
+        restarted.writeChunk(resumed, 1, chunk(1));
+        restarted.writeChunk(resumed, 3, chunk(3));
+        Path target = uploadDir.resolve("submissions").resolve("work.zip");
+        restarted.complete(resumed, target);
+
+        assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    @DisplayName("分片长度不符时拒绝且不标记为已收到")
+    void testWrongChunkSize() throws Exception {
+        ChunkUploadManager.UploadSession session = manager.create("video", "a.mp4", content.length, CHUNK_SIZE, null);
+
+        assertThrows(BusinessException.class,
+                () -> manager.writeChunk(session, 0, new ByteArrayInputStream(new byte[CHUNK_SIZE - 1])));
+        assertThrows(BusinessException.class,
+                () -> manager.writeChunk(session, 0, new ByteArrayInputStream(new byte[CHUNK_SIZE + 1])));
+        assertThrows(BusinessException.class,
+                () -> manager.writeChunk(session, 4, new ByteArrayInputStream(new byte[0])));
+        assertEquals(Collections.emptyList(), session.getReceivedChunks());
+    }
+
+    @Test
+    @DisplayName("覆盖已收到的分片失败时清除已收到标记")
+    void testFailedOverwriteClearsReceived() throws Exception {
+        ChunkUploadManager.UploadSession session = manager.create("video", "a.mp4", content.length, CHUNK_SIZE, null);
+        manager.writeChunk(session, 0, chunk(0));
+
+        assertThrows(BusinessException.class,
+                () -> manager.writeChunk(session, 0, new ByteArrayInputStream(new byte[CHUNK_SIZE - 1])));
+
+        assertEquals(Collections.emptyList(), session.getReceivedChunks());
+        assertEquals(Collections.emptyList(), newManager().get(session.getUploadId()).getReceivedChunks());
+    }
+
+    @Test
+    @DisplayName("分片写入期间不能完成、取消或重复写入同一分片")
+    void testWriteInFlight() throws Exception {
+        ChunkUploadManager.UploadSession session = manager.create("file", "a.bin", CHUNK_SIZE, CHUNK_SIZE, null);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream slow = new FilterInputStream(new ByteArrayInputStream(content, 0, CHUNK_SIZE)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                reading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+                return super.read(b, off, len);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> write = executor.submit(() -> {
+                manager.writeChunk(session, 0, slow);
+                return null;
+            });
+            assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+            Path target = uploadDir.resolve("files").resolve("a.bin");
+            assertThrows(BusinessException.class, () -> manager.complete(session, target));
+            assertThrows(BusinessException.class, () -> manager.abort(session));
+            assertThrows(BusinessException.class, () -> manager.writeChunk(session, 0, chunk(0)));
+
+            release.countDown();
+            write.get(5, TimeUnit.SECONDS);
+            manager.complete(session, target);
+            assertArrayEquals(Arrays.copyOf(content, CHUNK_SIZE), Files.readAllBytes(target));
+            // 会话结束后不能再写入
+            assertThrows(BusinessException.class, () -> manager.writeChunk(session, 0, chunk(0)));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("分片未到齐时不能完成")
+    void testCompleteWithMissingChunks() throws Exception {
+        ChunkUploadManager.UploadSession session = manager.create("video", "a.mp4", content.length, CHUNK_SIZE, null);
+        manager.writeChunk(session, 0, chunk(0));
+
+        Path target = uploadDir.resolve("videos").resolve("a.mp4");
+        assertThrows(BusinessException.class, () -> manager.complete(session, target));
+        assertFalse(Files.exists(target));
+        assertNotNull(manager.get(session.getUploadId()));
+    }
+
+    @Test
+    @DisplayName("空文件只有一个空分片")
+    void testEmptyFile() throws Exception {
+        ChunkUploadManager.UploadSession session = manager.create("file", "empty.txt", 0, CHUNK_SIZE, null);
+        assertEquals(1, session.getChunkCount());
+
+        manager.writeChunk(session, 0, new ByteArrayInputStream(new byte[0]));
+        Path target = uploadDir.resolve("files").resolve("empty.txt");
+        manager.complete(session, target);
+
+        assertEquals(0, Files.size(target));
+    }
+
+    @Test
+    @DisplayName("取消上传删除临时文件，非法 ID 返回 null")
+    void testAbortAndInvalidId() throws Exception {
+        ChunkUploadManager.UploadSession session = manager.create("video", "a.mp4", content.length, CHUNK_SIZE, null);
+        manager.abort(session);
+
+        assertNull(manager.get(session.getUploadId()));
+        assertNull(newManager().get(session.getUploadId()));
+        assertNull(manager.get("../../etc/passwd"));
+        assertNull(manager.get(null));
+    }
+
+    @Test
+    @DisplayName("清理长时间没有新分片的会话和残留文件，活跃会话保留")
+    void testPurgeExpired() throws Exception {
+        ChunkUploadManager.UploadSession stale = manager.create("video", "a.mp4", content.length, CHUNK_SIZE, null);
+        ChunkUploadManager.UploadSession active = manager.create("video", "b.mp4", content.length, CHUNK_SIZE, null);
+        manager.writeChunk(active, 0, chunk(0));
+        Path chunkDir = uploadDir.resolve(ChunkUploadManager.CHUNK_FOLDER);
+        Path leftover = Files.write(chunkDir.resolve("0123456789abcdef0123456789abcdef.part"), new byte[10]);
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(8)));
+        for (Path file : Arrays.asList(chunkDir.resolve(stale.getUploadId() + ".meta"),
+                chunkDir.resolve(stale.getUploadId() + ".part"), leftover)) {
+            Files.setLastModifiedTime(file, old);
+        }
+
+        assertEquals(1, manager.purgeExpired(Instant.now().minus(Duration.ofDays(7))));
+
+        assertNull(manager.get(stale.getUploadId()));
+        assertFalse(Files.exists(leftover));
+        assertNotNull(newManager().get(active.getUploadId()));
+        try (Stream<Path> files = Files.list(chunkDir)) {
+            assertEquals(2, files.count());
+        }
+    }
+}
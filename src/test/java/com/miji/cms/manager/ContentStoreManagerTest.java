@@ -0,0 +1,87 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.mapper.FileBlobMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ContentStoreManager 单元测试
+ */
+class ContentStoreManagerTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private final FileBlobMapper fileBlobMapper = mock(FileBlobMapper.class);
+
+    private final ContentStoreManager manager = new ContentStoreManager();
+
+    @BeforeEach
+    void setUp() {
+        LocalFileStorage fileStorage = new LocalFileStorage();
+        ReflectionTestUtils.setField(fileStorage, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "fileStorage", fileStorage);
+        ReflectionTestUtils.setField(manager, "fileBlobMapper", fileBlobMapper);
+    }
+
+    private Path temp(String content) throws Exception {
+        Path temp = manager.createTempFile();
+        Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+        return temp;
+    }
+
+    @Test
+    @DisplayName("按 SHA-256 命名存储并增加引用")
+    void testStore() throws Exception {
+        Path temp = temp("abc");
+
+        String url = manager.store(temp, "files", "txt");
+
+        String hash = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+        assertEquals("/uploads/files/" + hash + ".txt", url);
+        assertEquals("abc", new String(Files.readAllBytes(uploadDir.resolve("files/ba/78").resolve(hash + ".txt")),
+                StandardCharsets.UTF_8));
+        assertFalse(Files.exists(temp));
+        verify(fileBlobMapper).acquire(url, hash, 3L, 1);
+    }
+
+    @Test
+    @DisplayName("重复内容不再写入，只增加引用")
+    void testStoreDuplicate() throws Exception {
+        String first = manager.store(temp("same"), "submissions", "zip");
+        String second = manager.store(temp("same"), "submissions", "zip");
+
+        assertEquals(first, second);
+        try (Stream<Path> files = Files.walk(uploadDir.resolve("submissions"))) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+        try (Stream<Path> files = Files.list(uploadDir.resolve(LocalFileStorage.TMP_FOLDER))) {
+            assertEquals(0, files.count());
+        }
+        verify(fileBlobMapper, times(2)).acquire(eq(first), anyString(), eq(4L), eq(1));
+    }
+
+    @Test
+    @DisplayName("没有扩展名时只用哈希命名，释放空地址不访问数据库")
+    void testNoExtensionAndRelease() throws Exception {
+        String url = manager.store(temp(""), "files", null);
+
+        assertEquals("/uploads/files/e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", url);
+
+        manager.release(url);
+        manager.release(null);
+        verify(fileBlobMapper).release(url);
+        verify(fileBlobMapper, times(1)).release(anyString());
+    }
+}
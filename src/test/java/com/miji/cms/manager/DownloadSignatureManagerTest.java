@@ -0,0 +1,140 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DownloadSignatureManager 单元测试
+ */
+class DownloadSignatureManagerTest {
+
+    private static final String FILE_URL = "/uploads/submissions/ab/abcdef.zip";
+
+    private static final long NOW = 1_000_000;
+
+    private final DownloadSignatureManager manager = new DownloadSignatureManager();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(manager, "secret", "test-secret");
+        ReflectionTestUtils.setField(manager, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(manager, "protectedFolders", Arrays.asList("submissions", " results "));
+        manager.clock = Clock.fixed(Instant.ofEpochSecond(NOW), ZoneOffset.UTC);
+        manager.init();
+    }
+
+    @Test
+    @DisplayName("签名地址可以通过校验，文件名按 UTF-8 编码")
+    void testSignAndVerify() {
+        String url = manager.sign(FILE_URL, "作品 1.zip");
+
+        assertTrue(url.startsWith(FILE_URL + "?expires="));
+        assertTrue(url.contains("&name=%E4%BD%9C%E5%93%81%201.zip&"));
+        assertEquals("作品 1.zip", param(url, "name"));
+        assertTrue(manager.verify(FILE_URL, param(url, "expires"), param(url, "name"), param(url, "signature")));
+    }
+
+    @Test
+    @DisplayName("没有文件名时地址不带 name 参数")
+    void testSignWithoutName() {
+        String url = manager.sign(FILE_URL, " ");
+
+        assertNull(param(url, "name"));
+        assertTrue(manager.verify(FILE_URL, param(url, "expires"), null, param(url, "signature")));
+    }
+
+    @Test
+    @DisplayName("过期时间向上取整，短时间内生成相同的地址")
+    void testExpiresRounded() {
+        String url = manager.sign(FILE_URL, "a.zip");
+        long expires = Long.parseLong(param(url, "expires"));
+
+        assertEquals(0, expires % DownloadSignatureManager.EXPIRES_STEP_SECONDS);
+        assertTrue(expires >= NOW + 3600 && expires < NOW + 3600 + DownloadSignatureManager.EXPIRES_STEP_SECONDS);
+        assertEquals(expires - NOW, manager.remainingSeconds(param(url, "expires")));
+
+        manager.clock = Clock.fixed(Instant.ofEpochSecond(NOW + 100), ZoneOffset.UTC);
+        assertEquals(url, manager.sign(FILE_URL, "a.zip"));
+    }
+
+    @Test
+    @DisplayName("过期后校验失败")
+    void testExpired() {
+        String url = manager.sign(FILE_URL, "a.zip");
+        long expires = Long.parseLong(param(url, "expires"));
+
+        manager.clock = Clock.fixed(Instant.ofEpochSecond(expires + 1), ZoneOffset.UTC);
+        assertFalse(manager.verify(FILE_URL, param(url, "expires"), "a.zip", param(url, "signature")));
+    }
+
+    @Test
+    @DisplayName("篡改路径、文件名、过期时间或签名后校验失败")
+    void testTampered() {
+        String url = manager.sign(FILE_URL, "a.zip");
+        String expires = param(url, "expires");
+        String signature = param(url, "signature");
+
+        assertFalse(manager.verify("/uploads/submissions/ab/other.zip", expires, "a.zip", signature));
+        assertFalse(manager.verify(FILE_URL, expires, "b.zip", signature));
+        assertFalse(manager.verify(FILE_URL, String.valueOf(Long.parseLong(expires) + 300), "a.zip", signature));
+        assertFalse(manager.verify(FILE_URL, expires, "a.zip", signature.substring(1)));
+        assertFalse(manager.verify(FILE_URL, "abc", "a.zip", signature));
+        assertFalse(manager.verify(FILE_URL, null, "a.zip", signature));
+    }
+
+    @Test
+    @DisplayName("其他密钥生成的签名校验失败")
+    void testDifferentSecret() {
+        DownloadSignatureManager other = new DownloadSignatureManager();
+        ReflectionTestUtils.setField(other, "secret", "other-secret");
+        ReflectionTestUtils.setField(other, "ttlSeconds", 3600L);
+        other.clock = manager.clock;
+        other.init();
+        String url = other.sign(FILE_URL, "a.zip");
+
+        assertFalse(manager.verify(FILE_URL, param(url, "expires"), "a.zip", param(url, "signature")));
+    }
+
+    @Test
+    @DisplayName("只有受保护目录下的文件必须使用签名地址")
+    void testIsProtected() {
+        assertTrue(manager.isProtected(FILE_URL));
+        assertTrue(manager.isProtected("/uploads/results/1/latest.json"));
+        assertFalse(manager.isProtected("/uploads/avatars/a.png"));
+        assertFalse(manager.isProtected("/uploads/submissions-old/a.zip"));
+    }
+
+    @Test
+    @DisplayName("受保护目录忽略大小写，多余的斜杠和 . 不能绕过")
+    void testIsProtectedCanonical() {
+        assertTrue(manager.isProtected("/uploads/Submissions/a.zip"));
+        assertTrue(manager.isProtected("/uploads/SUBMISSIONS/a.zip"));
+        assertTrue(manager.isProtected("/uploads//submissions/a.zip"));
+        assertTrue(manager.isProtected("/uploads/./submissions/a.zip"));
+        assertTrue(manager.isProtectedKey("Submissions/ab/cd/a.zip"));
+        assertFalse(manager.isProtected("/uploads/submissions"));
+        assertFalse(manager.isProtectedKey("images/submissions.png"));
+    }
+
+    private static String param(String url, String name) {
+        String query = url.substring(url.indexOf('?') + 1);
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,212 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FileDownloadManager 单元测试
+ */
+class FileDownloadManagerTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    @TempDir
+    Path dir;
+
+    private final FileDownloadManager manager = new FileDownloadManager();
+
+    private File file;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.write(dir.resolve("work.zip"), CONTENT.getBytes(StandardCharsets.UTF_8)).toFile();
+        request = new MockHttpServletRequest("GET", "/file/download");
+        response = new MockHttpServletResponse();
+    }
+
+    private void send() throws Exception {
+        manager.send(file, "application/octet-stream", request, response);
+    }
+
+    @Test
+    @DisplayName("无 Range 返回整个文件及校验头")
+    void testFullDownload() throws Exception {
+        send();
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+        assertEquals(CONTENT.length(), response.getContentLengthLong());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertEquals(FileDownloadManager.etag(file.length(), file.lastModified()), response.getHeader("ETag"));
+        assertNotNull(response.getHeader("Last-Modified"));
+    }
+
+    @Test
+    @DisplayName("单段区间返回 206")
+    void testSingleRange() throws Exception {
+        request.addHeader("Range", "bytes=10-15");
+
+        send();
+
+        assertEquals(206, response.getStatus());
+        assertEquals("abcdef", response.getContentAsString());
+        assertEquals("bytes 10-15/36", response.getHeader("Content-Range"));
+        assertEquals(6, response.getContentLengthLong());
+    }
+
+    @Test
+    @DisplayName("后缀区间与开放区间")
+    void testSuffixAndOpenRange() throws Exception {
+        request.addHeader("Range", "bytes=-4");
+        send();
+        assertEquals("wxyz", response.getContentAsString());
+
+        response = new MockHttpServletResponse();
+        request = new MockHttpServletRequest("GET", "/file/download");
+        request.addHeader("Range", "bytes=30-");
+        send();
+        assertEquals("uvwxyz", response.getContentAsString());
+        assertEquals("bytes 30-35/36", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    @DisplayName("多段区间返回 multipart/byteranges")
+    void testMultiRange() throws Exception {
+        request.addHeader("Range", "bytes=0-1, 34-");
+
+        send();
+
+        assertEquals(206, response.getStatus());
+        String contentType = response.getContentType();
+        assertTrue(contentType.startsWith("multipart/byteranges; boundary="));
+        String boundary = contentType.substring(contentType.indexOf('=') + 1);
+        String body = response.getContentAsString();
+        assertEquals(body.length(), response.getContentLengthLong());
+        assertTrue(body.contains("Content-Range: bytes 0-1/36\r\n\r\n01\r\n--" + boundary));
+        assertTrue(body.contains("Content-Range: bytes 34-35/36\r\n\r\nyz\r\n--" + boundary + "--\r\n"));
+    }
+
+    @Test
+    @DisplayName("区间超出文件返回 416")
+    void testUnsatisfiableRange() throws Exception {
+        request.addHeader("Range", "bytes=100-200");
+
+        send();
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */36", response.getHeader("Content-Range"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("ETag 匹配返回 304")
+    void testIfNoneMatch() throws Exception {
+        request.addHeader("If-None-Match", FileDownloadManager.etag(file.length(), file.lastModified()));
+
+        send();
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("文件未修改返回 304")
+    void testIfModifiedSince() throws Exception {
+        request.addHeader("If-Modified-Since", file.lastModified() + 1000);
+
+        send();
+
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("If-Range 不匹配时忽略 Range 返回整个文件")
+    void testIfRangeMismatch() throws Exception {
+        request.addHeader("Range", "bytes=0-1");
+        request.addHeader("If-Range", "\"stale\"");
+
+        send();
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("支持 sendfile 时交给容器输出")
+    void testSendfile() throws Exception {
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=5-9");
+
+        send();
+
+        assertEquals(206, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(file.getCanonicalPath(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(5L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    @DisplayName("Range 语法错误或区间过多时忽略")
+    void testParseRanges() {
+        assertNull(FileDownloadManager.parseRanges("items=0-1", 10));
+        assertNull(FileDownloadManager.parseRanges("bytes=5-1", 10));
+        assertNull(FileDownloadManager.parseRanges("bytes=a-b", 10));
+        assertNull(FileDownloadManager.parseRanges("bytes=" + "0-0,".repeat(FileDownloadManager.MAX_RANGES) + "1-1", 10));
+        List<long[]> ranges = FileDownloadManager.parseRanges("bytes=8-20,-0", 10);
+        assertEquals(1, ranges.size());
+        assertArrayEquals(new long[]{8, 9}, ranges.get(0));
+    }
+
+    @Test
+    @DisplayName("未开启转交模式时由应用输出")
+    void testOffloadDisabled() throws Exception {
+        ReflectionTestUtils.setField(manager, "offloadMode", "none");
+
+        assertFalse(manager.offload(file, "submissions/ab/work.zip", "application/octet-stream", response));
+        assertNull(response.getHeader("X-Accel-Redirect"));
+        assertNull(response.getHeader("X-Sendfile"));
+    }
+
+    @Test
+    @DisplayName("x-accel-redirect 模式只返回 internal location，不输出文件内容")
+    void testOffloadAccelRedirect() throws Exception {
+        ReflectionTestUtils.setField(manager, "offloadMode", "x-accel-redirect");
+        ReflectionTestUtils.setField(manager, "internalLocation", "/internal-uploads");
+        response.setHeader("Content-Disposition", "attachment; filename=\"work.zip\"");
+
+        assertTrue(manager.offload(file, "files/ab/my work.zip", "application/octet-stream", response));
+        assertEquals("/internal-uploads/files/ab/my%20work.zip", response.getHeader("X-Accel-Redirect"));
+        assertEquals("application/octet-stream", response.getContentType());
+        assertEquals("attachment; filename=\"work.zip\"", response.getHeader("Content-Disposition"));
+        assertEquals("private", response.getHeader("Cache-Control"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("x-sendfile 模式返回文件的绝对路径")
+    void testOffloadSendfile() throws Exception {
+        ReflectionTestUtils.setField(manager, "offloadMode", "x-sendfile");
+
+        assertTrue(manager.offload(file, "submissions/ab/work.zip", "application/octet-stream", response));
+        assertEquals(file.getCanonicalPath(), response.getHeader("X-Sendfile"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,145 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ImageVariantManager 单元测试
+ */
+class ImageVariantManagerTest {
+
+    private static final String HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalFileStorage fileStorage;
+
+    private final ImageVariantManager manager = new ImageVariantManager();
+
+    @BeforeEach
+    void setUp() {
+        LocalFileStorage storage = new LocalFileStorage();
+        ReflectionTestUtils.setField(storage, "uploadPath", uploadDir.toString());
+        fileStorage = spy(storage);
+        ReflectionTestUtils.setField(manager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "fileStorage", fileStorage);
+    }
+
+    private String image(String name, int width, int height, int type, String format) throws Exception {
+        String url = "/uploads/images/" + name;
+        Path file = uploadDir.resolve(FileStorage.keyOf(url));
+        Files.createDirectories(file.getParent());
+        ImageIO.write(new BufferedImage(width, height, type), format, file.toFile());
+        return url;
+    }
+
+    @Test
+    @DisplayName("宽度取最近的一档")
+    void testSnapWidth() {
+        assertEquals(64, ImageVariantManager.snapWidth(1));
+        assertEquals(256, ImageVariantManager.snapWidth(200));
+        assertEquals(320, ImageVariantManager.snapWidth(320));
+        assertEquals(1920, ImageVariantManager.snapWidth(4000));
+    }
+
+    @Test
+    @DisplayName("等比缩小并缓存，再次请求直接使用缓存")
+    void testResizeAndCache() throws Exception {
+        String url = image(HASH + ".png", 1600, 1200, BufferedImage.TYPE_INT_ARGB, "png");
+
+        Path variant = manager.getVariant(url, 256, "jpg");
+
+        BufferedImage image = ImageIO.read(variant.toFile());
+        assertEquals(256, image.getWidth());
+        assertEquals(192, image.getHeight());
+        assertTrue(variant.startsWith(uploadDir.resolve(ImageVariantManager.CACHE_FOLDER).resolve("ba").resolve(HASH)));
+
+        assertEquals(variant, manager.getVariant(url, 256, "jpg"));
+        verify(fileStorage, times(1)).open(anyString());
+    }
+
+    @Test
+    @DisplayName("源图比目标窄时不放大，png 保留透明通道")
+    void testNoUpscale() throws Exception {
+        String url = image("0f8fad5b-d9cb-469f-a165-70867728950e.png", 100, 50, BufferedImage.TYPE_INT_ARGB, "png");
+
+        BufferedImage image = ImageIO.read(manager.getVariant(url, 640, "png").toFile());
+
+        assertEquals(100, image.getWidth());
+        assertEquals(50, image.getHeight());
+        assertTrue(image.getColorModel().hasAlpha());
+    }
+
+    @Test
+    @DisplayName("同一缩略图的并发请求只生成一次")
+    void testConcurrentRequestsCoalesced() throws Exception {
+        String url = image(HASH + ".jpg", 2000, 1000, BufferedImage.TYPE_INT_RGB, "jpg");
+        int threads = 8;
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Path>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    ready.await();
+                    return manager.getVariant(url, 128, "jpg");
+                }));
+            }
+            ready.countDown();
+            Path first = results.get(0).get();
+            for (Future<Path> result : results) {
+                assertEquals(first, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(fileStorage, times(1)).open(anyString());
+    }
+
+    @Test
+    @DisplayName("源图不存在或不是图片时报错，不留下缓存")
+    void testInvalidSource() throws Exception {
+        assertThrows(NoSuchFileException.class, () -> manager.getVariant("/uploads/images/missing.png", 64, "png"));
+
+        Path fake = uploadDir.resolve("images/fake.png");
+        Files.createDirectories(fake.getParent());
+        Files.write(fake, "not an image".getBytes());
+        assertThrows(BusinessException.class, () -> manager.getVariant("/uploads/images/fake.png", 64, "png"));
+        assertFalse(Files.exists(uploadDir.resolve(ImageVariantManager.CACHE_FOLDER)));
+    }
+
+    @Test
+    @DisplayName("清理源图时删除全部缩略图")
+    void testEvict() throws Exception {
+        String url = image(HASH + ".png", 300, 300, BufferedImage.TYPE_INT_RGB, "png");
+        Path small = manager.getVariant(url, 64, "png");
+        Path large = manager.getVariant(url, 128, "jpg");
+
+        manager.evict(url);
+
+        assertFalse(Files.exists(small));
+        assertFalse(Files.exists(large));
+        assertEquals(url, FileStorage.urlOf(FileStorage.keyOf(url)));
+    }
+}
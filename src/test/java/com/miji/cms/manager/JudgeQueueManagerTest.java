@@ -0,0 +1,139 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JudgeQueueManager 单元测试
+ */
+class JudgeQueueManagerTest {
+
+    private static final long LONG_LEASE = 60_000;
+
+    private static List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("多个评委并发领取，每条提交恰好分配一次")
+    void testConcurrentLeaseNoDuplicates() throws Exception {
+        JudgeQueueManager manager = new JudgeQueueManager();
+        int total = 10000;
+        int judges = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(judges);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (long judgeId = 1; judgeId <= judges; judgeId++) {
+            long judge = judgeId;
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> got = new ArrayList<>();
+                while (true) {
+                    List<Long> batch = manager.lease(1L, judge, 7, LONG_LEASE, () -> ids(1, total));
+                    if (batch.isEmpty()) {
+                        return got;
+                    }
+                    got.addAll(batch);
+                    for (Long submissionId : batch) {
+                        manager.complete(1L, submissionId);
+                    }
+                }
+            }));
+        }
+        start.countDown();
+
+        Set<Long> seen = new HashSet<>();
+        int count = 0;
+        for (Future<List<Long>> future : futures) {
+            List<Long> got = future.get(30, TimeUnit.SECONDS);
+            count += got.size();
+            seen.addAll(got);
+        }
+        executor.shutdown();
+
+        assertEquals(total, count);
+        assertEquals(total, seen.size());
+    }
+
+    @Test
+    @DisplayName("租约过期后提交回到队首分配给其他评委")
+    void testExpiredLeaseReclaimed() throws Exception {
+        JudgeQueueManager manager = new JudgeQueueManager();
+        assertEquals(ids(1, 2), manager.lease(1L, 1L, 2, 1, () -> ids(1, 5)));
+
+        Thread.sleep(5);
+
+        assertEquals(ids(1, 3), manager.lease(1L, 2L, 3, LONG_LEASE, () -> ids(1, 5)));
+        // 原评委的租约已失效，只能领取剩余的提交
+        assertEquals(ids(4, 5), manager.lease(1L, 1L, 3, LONG_LEASE, () -> ids(1, 5)));
+    }
+
+    @Test
+    @DisplayName("只能归还自己持有的提交")
+    void testReleaseOnlyOwnLeases() {
+        JudgeQueueManager manager = new JudgeQueueManager();
+        manager.lease(1L, 1L, 2, LONG_LEASE, () -> ids(1, 3));
+
+        manager.release(1L, 2L, ids(1, 2));
+        assertEquals(ids(3, 3), manager.lease(1L, 2L, 5, LONG_LEASE, () -> ids(1, 3)));
+
+        manager.release(1L, 1L, ids(2, 2));
+        assertEquals(Arrays.asList(3L, 2L), manager.lease(1L, 2L, 5, LONG_LEASE, () -> ids(1, 3)));
+    }
+
+    @Test
+    @DisplayName("新提交入队，已在队列或已被领取的提交不重复入队")
+    void testOfferDeduplicates() {
+        JudgeQueueManager manager = new JudgeQueueManager();
+        manager.offer(1L, 9L);
+        assertEquals(ids(1, 1), manager.lease(1L, 1L, 1, LONG_LEASE, () -> ids(1, 2)));
+
+        manager.offer(1L, 1L);
+        manager.offer(1L, 2L);
+        manager.offer(1L, 3L);
+        assertEquals(ids(2, 3), manager.lease(1L, 2L, 5, LONG_LEASE, () -> ids(1, 2)));
+    }
+
+    @Test
+    @DisplayName("未领取的提交完成后不再分配，重新入队后仍可分配")
+    void testCompletePendingSkipped() {
+        JudgeQueueManager manager = new JudgeQueueManager();
+        manager.lease(1L, 1L, 0, LONG_LEASE, () -> ids(1, 1000));
+        // 完成大部分未领取的提交，旧记录超过有效记录，触发压缩
+        for (long submissionId = 1; submissionId <= 1000; submissionId++) {
+            if (submissionId % 10 != 0) {
+                manager.complete(1L, submissionId);
+            }
+        }
+        manager.offer(1L, 1L);
+
+        List<Long> leased = manager.lease(1L, 2L, 1000, LONG_LEASE, () -> ids(1, 1000));
+
+        assertEquals(101, leased.size());
+        assertEquals(new HashSet<>(leased).size(), leased.size());
+        assertTrue(leased.contains(1L));
+        List<Long> remaining = leased.stream().filter(id -> id != 1L).collect(Collectors.toList());
+        assertEquals(LongStream.rangeClosed(1, 100).map(i -> i * 10).boxed().collect(Collectors.toList()), remaining);
+        assertTrue(manager.lease(1L, 3L, 5, LONG_LEASE, () -> ids(1, 1000)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("队列过期后从数据库重新加载")
+    void testReloadAfterTtl() throws Exception {
+        JudgeQueueManager manager = new JudgeQueueManager();
+        ReflectionTestUtils.setField(manager, "ttlMillis", 1L);
+        assertEquals(ids(1, 2), manager.lease(1L, 1L, 2, LONG_LEASE, () -> ids(1, 3)));
+
+        Thread.sleep(5);
+        // 其他节点归还了 1、2，数据库中重新待评审
+        assertEquals(ids(1, 1), manager.lease(1L, 2L, 1, LONG_LEASE, () -> ids(1, 3)));
+    }
+}
@@ -0,0 +1,265 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.model.request.LeaderboardDeltaVO;
+import com.miji.cms.model.request.SubmissionRankVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LeaderboardHub 单元测试
+ */
+class LeaderboardHubTest {
+
+    private static final Pattern EVENT_NAME = Pattern.compile("event:(\\w+)");
+
+    private final LeaderboardHub hub = new LeaderboardHub();
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    /**
+     * 记录发送的事件；gate 未放行前发送会阻塞，用于模拟慢客户端
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final BlockingQueue<Object[]> events = new LinkedBlockingQueue<>();
+
+        final CountDownLatch gate;
+
+        RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            String name = null;
+            Object data = null;
+            for (DataWithMediaType item : builder.build()) {
+                if (item.getData() instanceof String) {
+                    Matcher matcher = EVENT_NAME.matcher((String) item.getData());
+                    if (matcher.find()) {
+                        name = matcher.group(1);
+                    }
+                } else {
+                    data = item.getData();
+                }
+            }
+            events.add(new Object[]{name, data});
+        }
+
+        Object[] next() throws InterruptedException {
+            Object[] event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "未收到事件");
+            return event;
+        }
+    }
+
+    private static SubmissionRankVO row(long submissionId, int rank, int score) {
+        SubmissionRankVO vo = new SubmissionRankVO();
+        vo.setSubmissionId(submissionId);
+        vo.setRank(rank);
+        vo.setScore(score);
+        return vo;
+    }
+
+    @Test
+    @DisplayName("订阅后先收到完整榜单，评分后只收到变化")
+    @SuppressWarnings("unchecked")
+    void testSnapshotThenDelta() throws Exception {
+        AtomicReference<List<SubmissionRankVO>> top = new AtomicReference<>(
+                Arrays.asList(row(1, 1, 90), row(2, 2, 80), row(3, 3, 70)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(1L, 2, emitter, top::get);
+
+        Object[] snapshot = emitter.next();
+        assertEquals("snapshot", snapshot[0]);
+        assertEquals(2, ((List<SubmissionRankVO>) snapshot[1]).size());
+
+        top.set(Arrays.asList(row(3, 1, 95), row(1, 2, 90), row(2, 3, 80)));
+        hub.publish(1L);
+
+        Object[] event = emitter.next();
+        assertEquals("delta", event[0]);
+        LeaderboardDeltaVO delta = (LeaderboardDeltaVO) event[1];
+        assertEquals(2, delta.getUpdated().size());
+        assertEquals(3L, delta.getUpdated().get(0).getSubmissionId());
+        assertEquals(1L, delta.getUpdated().get(1).getSubmissionId());
+        assertEquals(Collections.singletonList(2L), delta.getRemoved());
+    }
+
+    @Test
+    @DisplayName("轮询发现其他节点上的评分并推送变化，没有变化时不推送")
+    void testPollPushesRemoteChanges() throws Exception {
+        AtomicReference<List<SubmissionRankVO>> top = new AtomicReference<>(
+                Arrays.asList(row(1, 1, 90), row(2, 2, 80)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(1L, 2, emitter, top::get);
+        emitter.next();
+
+        hub.pollChannels();
+        assertNull(emitter.events.poll(200, TimeUnit.MILLISECONDS));
+
+        // 其他节点评分后，重新加载的排名索引中名次变化
+        top.set(Arrays.asList(row(2, 1, 95), row(1, 2, 90)));
+        hub.pollChannels();
+        assertEquals("delta", emitter.next()[0]);
+    }
+
+    @Test
+    @DisplayName("关注范围外的变化不推送")
+    void testNoEventOutsideTopK() throws Exception {
+        AtomicReference<List<SubmissionRankVO>> top = new AtomicReference<>(
+                Arrays.asList(row(1, 1, 90), row(2, 2, 80), row(3, 3, 70)));
+        RecordingEmitter narrow = new RecordingEmitter();
+        RecordingEmitter wide = new RecordingEmitter();
+        hub.subscribe(1L, 1, narrow, top::get);
+        hub.subscribe(1L, 3, wide, top::get);
+        narrow.next();
+        wide.next();
+
+        top.set(Arrays.asList(row(1, 1, 90), row(2, 2, 80), row(3, 3, 75)));
+        hub.publish(1L);
+
+        assertEquals("delta", wide.next()[0]);
+        assertNull(narrow.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("慢客户端缓冲区满后合并为一次完整榜单，不影响其他客户端")
+    @SuppressWarnings("unchecked")
+    void testSlowClientCoalescedToSnapshot() throws Exception {
+        AtomicReference<List<SubmissionRankVO>> top = new AtomicReference<>(
+                Collections.singletonList(row(1, 1, 0)));
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(gate);
+        RecordingEmitter fast = new RecordingEmitter();
+        hub.subscribe(1L, 1, slow, top::get);
+        hub.subscribe(1L, 1, fast, top::get);
+        fast.next();
+
+        int updates = LeaderboardHub.CLIENT_BUFFER_SIZE * 3;
+        for (int score = 1; score <= updates; score++) {
+            top.set(Collections.singletonList(row(1, 1, score)));
+            hub.publish(1L);
+            Object[] event = fast.next();
+            assertEquals(score, ((LeaderboardDeltaVO) event[1]).getUpdated().get(0).getScore());
+        }
+        gate.countDown();
+
+        List<Object[]> received = new ArrayList<>();
+        Object[] event;
+        while ((event = slow.events.poll(500, TimeUnit.MILLISECONDS)) != null) {
+            received.add(event);
+        }
+        assertTrue(received.size() < updates, "积压的增量应被合并");
+        Object[] last = received.get(received.size() - 1);
+        assertEquals("snapshot", last[0]);
+        assertEquals(updates, ((List<SubmissionRankVO>) last[1]).get(0).getScore());
+    }
+
+    @Test
+    @DisplayName("发送失败的客户端被移除")
+    void testBrokenClientRemoved() throws Exception {
+        SseEmitter broken = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("连接已断开");
+            }
+        };
+        hub.subscribe(1L, 1, broken, ArrayList::new);
+
+        for (int i = 0; i < 50 && hub.subscriberCount(1L) > 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, hub.subscriberCount(1L));
+        assertEquals(0, hub.channelCount());
+    }
+
+    @Test
+    @DisplayName("最后一个客户端断开后移除频道，再次订阅时重新创建")
+    void testEmptyChannelRemoved() throws Exception {
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        hub.subscribe(1L, 1, first, ArrayList::new);
+        hub.subscribe(1L, 1, second, ArrayList::new);
+        first.next();
+        second.next();
+
+        // 测试中没有异步请求，直接触发连接完成回调
+        ((Runnable) ReflectionTestUtils.getField(first, "completionCallback")).run();
+        assertEquals(1, hub.channelCount());
+        ((Runnable) ReflectionTestUtils.getField(second, "completionCallback")).run();
+        assertEquals(0, hub.channelCount());
+
+        RecordingEmitter third = new RecordingEmitter();
+        hub.subscribe(1L, 1, third, ArrayList::new);
+        assertEquals("snapshot", third.next()[0]);
+        assertEquals(1, hub.channelCount());
+    }
+
+    @Test
+    @DisplayName("发送超时的客户端被中断并移除，其他客户端照常接收")
+    void testStalledClientInterrupted() throws Exception {
+        AtomicReference<List<SubmissionRankVO>> top = new AtomicReference<>(
+                Collections.singletonList(row(1, 1, 0)));
+        RecordingEmitter stalled = new RecordingEmitter(new CountDownLatch(1));
+        RecordingEmitter fast = new RecordingEmitter();
+        hub.subscribe(1L, 1, stalled, top::get);
+        hub.subscribe(1L, 1, fast, top::get);
+        fast.next();
+
+        int interrupted = 0;
+        for (int i = 0; i < 50 && interrupted == 0; i++) {
+            Thread.sleep(20);
+            interrupted = hub.interruptStalledClients(
+                    System.currentTimeMillis() + LeaderboardHub.SEND_TIMEOUT_MILLIS + 1);
+        }
+        assertEquals(1, interrupted);
+        for (int i = 0; i < 50 && hub.subscriberCount(1L) > 1; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, hub.subscriberCount(1L));
+
+        top.set(Collections.singletonList(row(1, 1, 10)));
+        hub.publish(1L);
+        assertEquals("delta", fast.next()[0]);
+        assertTrue(stalled.events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("计算前 k 名的变化")
+    void testDiff() {
+        List<SubmissionRankVO> oldTop = Arrays.asList(row(1, 1, 90), row(2, 2, 80));
+        List<SubmissionRankVO> newTop = Arrays.asList(row(1, 1, 90), row(3, 2, 85), row(2, 3, 80));
+
+        LeaderboardDeltaVO delta = LeaderboardHub.diff(oldTop, newTop, 2);
+
+        assertEquals(1, delta.getUpdated().size());
+        assertEquals(3L, delta.getUpdated().get(0).getSubmissionId());
+        assertEquals(Collections.singletonList(2L), delta.getRemoved());
+        assertTrue(LeaderboardHub.diff(newTop, newTop, 3).getUpdated().isEmpty());
+    }
+}
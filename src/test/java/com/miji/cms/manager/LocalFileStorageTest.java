@@ -0,0 +1,116 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LocalFileStorage 与存储键单元测试
+ */
+class LocalFileStorageTest {
+
+    private static final String HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    Path uploadDir;
+
+    private final LocalFileStorage storage = new LocalFileStorage();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storage, "uploadPath", uploadDir.toString());
+    }
+
+    @Test
+    @DisplayName("哈希命名的文件按前 4 位分两级目录，其他路径不变")
+    void testKeyOf() {
+        assertEquals("images/ba/78/" + HASH + ".png", FileStorage.keyOf("/uploads/images/" + HASH + ".png"));
+        assertEquals("files/ba/78/" + HASH, FileStorage.keyOf("files/" + HASH));
+        assertEquals("submissions/3f2a-uuid_作品.zip", FileStorage.keyOf("/uploads/submissions/3f2a-uuid_作品.zip"));
+        assertEquals("results/7/leaderboard-v2.json", FileStorage.keyOf("/uploads/results/7/leaderboard-v2.json"));
+    }
+
+    @Test
+    @DisplayName("由存储键还原访问地址")
+    void testUrlOf() {
+        for (String url : new String[]{"/uploads/images/" + HASH + ".png", "/uploads/files/" + HASH,
+                "/uploads/submissions/3f2a-uuid_a.zip", "/uploads/results/7/leaderboard-v2.json"}) {
+            assertEquals(url, FileStorage.urlOf(FileStorage.keyOf(url)));
+        }
+        // 迁移前未分目录的哈希文件
+        assertEquals("/uploads/images/" + HASH + ".png", FileStorage.urlOf("images/" + HASH + ".png"));
+    }
+
+    @Test
+    @DisplayName("遍历目录下的文件，跳过暂存目录")
+    void testWalk() throws Exception {
+        Path sharded = uploadDir.resolve(FileStorage.keyOf("/uploads/images/" + HASH + ".png"));
+        Files.createDirectories(sharded.getParent());
+        Files.write(sharded, new byte[5]);
+        Files.createDirectories(uploadDir.resolve("images/.cache"));
+        Files.write(uploadDir.resolve("images/.cache/x.png"), new byte[1]);
+        Files.createDirectories(uploadDir.resolve("files"));
+        Files.write(uploadDir.resolve("files/a.pdf"), new byte[1]);
+
+        List<String> keys = new ArrayList<>();
+        storage.walk("images", (key, size, lastModified) -> {
+            keys.add(key);
+            assertEquals(5, size);
+            assertNotNull(lastModified);
+        });
+        storage.walk("videos", (key, size, lastModified) -> fail("不存在的目录"));
+
+        assertEquals(Collections.singletonList("images/ba/78/" + HASH + ".png"), keys);
+    }
+
+    @Test
+    @DisplayName("写入、覆盖、读取与删除")
+    void testPutOpenDelete() throws Exception {
+        String key = FileStorage.keyOf("/uploads/files/" + HASH + ".txt");
+        Path temp = storage.createTempFile();
+        Files.write(temp, "abc".getBytes(StandardCharsets.UTF_8));
+
+        storage.put(key, temp);
+
+        assertFalse(Files.exists(temp));
+        assertTrue(storage.exists(key));
+        assertEquals(uploadDir.resolve(key).toFile(), storage.getLocalFile(key));
+        assertNull(storage.getDownloadUrl(key, "a.txt"));
+
+        Path other = storage.createTempFile();
+        Files.write(other, "xyz".getBytes(StandardCharsets.UTF_8));
+        storage.put(key, other);
+        try (InputStream in = storage.open(key)) {
+            assertEquals("xyz", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(3, storage.size(key));
+        try (InputStream in = storage.open(key, 1, 5)) {
+            assertEquals("yz", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        storage.delete(key);
+        assertFalse(storage.exists(key));
+        assertThrows(NoSuchFileException.class, () -> storage.open(key));
+    }
+
+    @Test
+    @DisplayName("不允许访问根目录之外的路径")
+    void testTraversalRejected() {
+        assertThrows(IllegalArgumentException.class, () -> storage.exists("../secret.txt"));
+        assertThrows(IllegalArgumentException.class, () -> storage.getLocalFile("files/../../secret.txt"));
+        assertThrows(IllegalArgumentException.class, () -> storage.exists(""));
+    }
+}
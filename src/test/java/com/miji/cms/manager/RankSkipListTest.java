@@ -0,0 +1,67 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RankSkipList 单元测试
+ */
+class RankSkipListTest {
+
+    @Test
+    @DisplayName("随机插入删除后名次与区间查询与排序列表一致")
+    void testRandomOperationsMatchSortedList() {
+        Random random = new Random(42);
+        RankSkipList<Integer> skipList = new RankSkipList<>(Comparator.reverseOrder());
+        List<Integer> expected = new ArrayList<>();
+
+        for (int round = 0; round < 5000; round++) {
+            int value = random.nextInt(2000);
+            if (expected.contains(value)) {
+                assertTrue(skipList.remove(value));
+                expected.remove(Integer.valueOf(value));
+            } else {
+                skipList.insert(value);
+                expected.add(value);
+            }
+        }
+        expected.sort(Comparator.reverseOrder());
+
+        assertEquals(expected.size(), skipList.size());
+        assertEquals(expected, skipList.range(0, Integer.MAX_VALUE));
+        for (int i = 0; i < expected.size(); i += 37) {
+            assertEquals(i + 1, skipList.rankOf(expected.get(i)));
+            assertEquals(expected.subList(i, Math.min(i + 10, expected.size())), skipList.range(i, 10));
+        }
+    }
+
+    @Test
+    @DisplayName("不存在的元素名次为 0，删除失败")
+    void testMissingElement() {
+        RankSkipList<Integer> skipList = new RankSkipList<>(Comparator.naturalOrder());
+        skipList.insert(1);
+        skipList.insert(3);
+
+        assertEquals(0, skipList.rankOf(2));
+        assertFalse(skipList.remove(2));
+        assertEquals(2, skipList.rankOf(3));
+    }
+
+    @Test
+    @DisplayName("越界区间返回空列表")
+    void testRangeOutOfBounds() {
+        RankSkipList<Integer> skipList = new RankSkipList<>(Comparator.naturalOrder());
+        assertEquals(Collections.emptyList(), skipList.range(0, 10));
+        skipList.insert(1);
+        assertEquals(Collections.emptyList(), skipList.range(1, 10));
+        assertEquals(Collections.emptyList(), skipList.range(-1, 10));
+    }
+}
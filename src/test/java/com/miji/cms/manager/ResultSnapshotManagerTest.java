@@ -0,0 +1,97 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResultSnapshotManager 单元测试
+ */
+class ResultSnapshotManagerTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ResultSnapshotManager newManager() {
+        ResultSnapshotManager manager = new ResultSnapshotManager();
+        LocalFileStorage fileStorage = new LocalFileStorage();
+        ReflectionTestUtils.setField(fileStorage, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "fileStorage", fileStorage);
+        return manager;
+    }
+
+    private static ResultSnapshotManager.SnapshotWriter text(String content) {
+        return out -> out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(String url) throws Exception {
+        return new String(Files.readAllBytes(uploadDir.resolve(url.replaceFirst("/uploads/", ""))),
+                StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("重新发布生成新版本，旧版本文件保留不变")
+    void testRepublishCreatesNewVersion() throws Exception {
+        ResultSnapshotManager manager = newManager();
+        manager.publish(1L, text("v1"), text("x1"));
+        String first = manager.getUrl(1L, ResultSnapshotManager.TYPE_JSON);
+
+        manager.publish(1L, text("v2"), text("x2"));
+        String second = manager.getUrl(1L, ResultSnapshotManager.TYPE_JSON);
+
+        assertNotEquals(first, second);
+        assertEquals("v1", read(first));
+        assertEquals("v2", read(second));
+        assertEquals("x2", read(manager.getUrl(1L, ResultSnapshotManager.TYPE_XLSX)));
+    }
+
+    @Test
+    @DisplayName("重启后从 latest 文件恢复当前版本")
+    void testVersionRestoredFromDisk() throws Exception {
+        ResultSnapshotManager manager = newManager();
+        manager.publish(1L, text("v1"), text("x1"));
+
+        ResultSnapshotManager restarted = newManager();
+        assertTrue(restarted.isPublished(1L));
+        assertEquals(manager.getUrl(1L, ResultSnapshotManager.TYPE_JSON),
+                restarted.getUrl(1L, ResultSnapshotManager.TYPE_JSON));
+        assertFalse(restarted.isPublished(2L));
+    }
+
+    @Test
+    @DisplayName("撤销发布")
+    void testUnpublish() throws Exception {
+        ResultSnapshotManager manager = newManager();
+        manager.publish(1L, text("v1"), text("x1"));
+
+        manager.unpublish(1L);
+
+        assertNull(manager.getUrl(1L, ResultSnapshotManager.TYPE_JSON));
+        assertFalse(newManager().isPublished(1L));
+    }
+
+    @Test
+    @DisplayName("其他节点发布或撤销后，缓存过期时重新读取 latest 文件")
+    void testCacheExpires() throws Exception {
+        ResultSnapshotManager node1 = newManager();
+        ResultSnapshotManager node2 = newManager();
+        ReflectionTestUtils.setField(node2, "cacheMillis", 1L);
+        assertFalse(node2.isPublished(1L));
+
+        node1.publish(1L, text("v1"), text("x1"));
+        Thread.sleep(5);
+        assertEquals(node1.getUrl(1L, ResultSnapshotManager.TYPE_JSON),
+                node2.getUrl(1L, ResultSnapshotManager.TYPE_JSON));
+
+        node1.unpublish(1L);
+        Thread.sleep(5);
+        assertFalse(node2.isPublished(1L));
+    }
+}
@@ -0,0 +1,113 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScoreDistribution 单元测试
+ */
+class ScoreDistributionTest {
+
+    /**
+     * 对排序数组按相邻插值求百分位，作为对照
+     */
+    private static double expectedPercentile(List<Integer> sorted, double percentile) {
+        double position = percentile / 100 * (sorted.size() - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        return sorted.get(lower) + (position - lower) * (sorted.get(upper) - sorted.get(lower));
+    }
+
+    @Test
+    @DisplayName("随机增删后统计量与排序列表一致")
+    void testRandomOperationsMatchSortedList() {
+        Random random = new Random(7);
+        ScoreDistribution distribution = new ScoreDistribution();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int round = 0; round < 5000; round++) {
+            if (!expected.isEmpty() && random.nextInt(4) == 0) {
+                Integer score = expected.remove(random.nextInt(expected.size()));
+                assertTrue(distribution.remove(score));
+            } else {
+                int score = random.nextInt(101);
+                expected.add(score);
+                distribution.add(score);
+            }
+        }
+        Collections.sort(expected);
+
+        assertEquals(expected.size(), distribution.getCount());
+        assertEquals(expected.get(0), distribution.min());
+        assertEquals(expected.get(expected.size() - 1), distribution.max());
+        assertEquals(expected.stream().mapToInt(Integer::intValue).average().getAsDouble(), distribution.mean(), 1e-9);
+        for (double p : new double[]{0, 1, 25, 50, 62.5, 90, 99, 100}) {
+            assertEquals(expectedPercentile(expected, p), distribution.percentile(p), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("中位数在两个分数间插值")
+    void testPercentileInterpolation() {
+        ScoreDistribution distribution = new ScoreDistribution();
+        distribution.add(60);
+        distribution.add(80);
+        distribution.add(80);
+        distribution.add(90);
+
+        assertEquals(80.0, distribution.percentile(50));
+        assertEquals(60.0, distribution.percentile(0));
+        assertEquals(90.0, distribution.percentile(100));
+        assertEquals(85.0, distribution.percentile(83.33333333333334), 1e-9);
+    }
+
+    @Test
+    @DisplayName("合并两个分布")
+    void testMerge() {
+        ScoreDistribution a = new ScoreDistribution();
+        ScoreDistribution b = new ScoreDistribution();
+        a.add(10);
+        a.add(20);
+        b.add(20);
+        b.add(40);
+
+        a.merge(b);
+
+        assertEquals(4, a.getCount());
+        assertEquals(22.5, a.mean());
+        assertEquals(20.0, a.percentile(50));
+        assertEquals(40, a.max());
+    }
+
+    @Test
+    @DisplayName("直方图包含中间的空组")
+    void testHistogram() {
+        ScoreDistribution distribution = new ScoreDistribution();
+        distribution.add(55);
+        distribution.add(59);
+        distribution.add(81);
+        distribution.add(100);
+
+        SortedMap<Integer, Long> histogram = distribution.histogram(10);
+
+        assertEquals(Arrays.asList(50, 60, 70, 80, 90, 100), new ArrayList<>(histogram.keySet()));
+        assertEquals(Arrays.asList(2L, 0L, 0L, 1L, 0L, 1L), new ArrayList<>(histogram.values()));
+        assertEquals(6, distribution.bucketCount(10));
+    }
+
+    @Test
+    @DisplayName("无数据时统计量为空，删除不存在的分数失败")
+    void testEmpty() {
+        ScoreDistribution distribution = new ScoreDistribution();
+
+        assertNull(distribution.mean());
+        assertNull(distribution.percentile(50));
+        assertNull(distribution.min());
+        assertTrue(distribution.histogram(10).isEmpty());
+        assertFalse(distribution.remove(1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StaticAssetManager 单元测试
+ */
+class StaticAssetManagerTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private StaticAssetManager newManager() {
+        StaticAssetManager manager = new StaticAssetManager();
+        ReflectionTestUtils.setField(manager, "uploadPath", uploadDir.toString());
+        return manager;
+    }
+
+    @Test
+    @DisplayName("取 classpath 地址中 /static/assets/ 之后的部分")
+    void testRelativePath() {
+        assertEquals("index-abc.js", StaticAssetManager.relativePath("file:/app/classes/static/assets/index-abc.js"));
+        assertEquals("fonts/a.svg",
+                StaticAssetManager.relativePath("jar:file:/app.jar!/BOOT-INF/classes!/static/assets/fonts/a.svg"));
+        assertNull(StaticAssetManager.relativePath("file:/app/classes/static/index.html"));
+        assertNull(StaticAssetManager.relativePath("file:/app/classes/static/assets/../index.html"));
+    }
+
+    @Test
+    @DisplayName("gzip 结果可以还原")
+    void testGzip() throws Exception {
+        byte[] content = "console.log('hello');\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = StaticAssetManager.gzip(content);
+        assertTrue(gzip.length < content.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(content, StreamUtils.copyToByteArray(in));
+        }
+    }
+
+    @Test
+    @DisplayName("原文与 gzip 版本使用不同的强 ETag")
+    void testIndexPageEtag() throws Exception {
+        StaticAssetManager.IndexPage page = new StaticAssetManager.IndexPage(
+                "<html></html>".getBytes(StandardCharsets.UTF_8));
+        assertTrue(page.getEtag().matches("\"[0-9a-f]{32}\""));
+        assertTrue(page.getGzipEtag().endsWith("-gzip\""));
+        assertEquals(page.getEtag(), new StaticAssetManager.IndexPage(page.getContent()).getEtag());
+    }
+
+    @Test
+    @DisplayName("启动时预压缩打包的 js/css 并加载 index.html")
+    void testInit() throws Exception {
+        StaticAssetManager manager = newManager();
+        manager.init();
+
+        Path cacheDir = manager.getCacheDirectory();
+        assertEquals(uploadDir.resolve(StaticAssetManager.CACHE_FOLDER).toAbsolutePath(), cacheDir);
+        Path js;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            js = files.filter(p -> p.toString().endsWith(".js")).findFirst().orElseThrow();
+        }
+        Path gz = js.resolveSibling(js.getFileName() + ".gz");
+        assertTrue(Files.exists(gz));
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(gz))) {
+            assertArrayEquals(Files.readAllBytes(js), StreamUtils.copyToByteArray(in));
+        }
+        assertNotNull(manager.getIndexPage());
+
+        // 再次启动时不重复生成
+        long modified = Files.getLastModifiedTime(gz).toMillis();
+        Files.setLastModifiedTime(gz, FileTime.fromMillis(modified - 60_000));
+        newManager().init();
+        assertEquals(modified - 60_000, Files.getLastModifiedTime(gz).toMillis());
+    }
+}
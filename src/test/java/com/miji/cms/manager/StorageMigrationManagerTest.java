@@ -0,0 +1,177 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.mapper.CompetitionMapper;
+import com.miji.cms.mapper.CompetitionSubmissionMapper;
+import com.miji.cms.mapper.FileBlobMapper;
+import com.miji.cms.mapper.UploadReferenceMapper;
+import com.miji.cms.mapper.UserMapper;
+import com.miji.cms.model.request.StorageMigrationVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * StorageMigrationManager 单元测试
+ */
+class StorageMigrationManagerTest {
+
+    /**
+     * "abc" 的 SHA-256
+     */
+    private static final String HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    private static final String LEGACY_NAME = "0f8fad5b-d9cb-469f-a165-70867728950e_report.zip";
+
+    @TempDir
+    Path uploadDir;
+
+    private final FileBlobMapper fileBlobMapper = mock(FileBlobMapper.class);
+
+    private final CompetitionSubmissionMapper submissionMapper = mock(CompetitionSubmissionMapper.class);
+
+    private final CompetitionMapper competitionMapper = mock(CompetitionMapper.class);
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+
+    private final UploadReferenceMapper uploadReferenceMapper = mock(UploadReferenceMapper.class);
+
+    private final StorageMigrationManager manager = new StorageMigrationManager();
+
+    @BeforeEach
+    void setUp() {
+        LocalFileStorage fileStorage = new LocalFileStorage();
+        ReflectionTestUtils.setField(fileStorage, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "fileStorage", fileStorage);
+        ReflectionTestUtils.setField(manager, "fileBlobMapper", fileBlobMapper);
+        ReflectionTestUtils.setField(manager, "competitionSubmissionMapper", submissionMapper);
+        ReflectionTestUtils.setField(manager, "competitionMapper", competitionMapper);
+        ReflectionTestUtils.setField(manager, "userMapper", userMapper);
+        ReflectionTestUtils.setField(manager, "uploadReferenceMapper", uploadReferenceMapper);
+    }
+
+    private Path write(String path, String content) throws Exception {
+        Path file = uploadDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    @DisplayName("哈希命名的文件移动到分目录，暂存目录与成绩快照不动")
+    void testShardHashNamedFiles() throws Exception {
+        Path flat = write("images/" + HASH + ".png", "abc");
+        Path temp = write(".tmp/upload-1.tmp", "partial");
+        Path snapshot = write("results/7/leaderboard-v1.json", "[]");
+
+        manager.runMigration();
+
+        assertFalse(Files.exists(flat));
+        assertTrue(Files.exists(uploadDir.resolve("images/ba/78/" + HASH + ".png")));
+        assertTrue(Files.exists(temp));
+        assertTrue(Files.exists(snapshot));
+        StorageMigrationVO status = manager.getStatus();
+        assertFalse(status.getRunning());
+        assertEquals(2, status.getScanned());
+        assertEquals(1, status.getMoved());
+        assertEquals(0, status.getFailed());
+        verifyNoInteractions(fileBlobMapper, submissionMapper);
+    }
+
+    @Test
+    @DisplayName("旧作品文件改为哈希命名并改写引用，保留原始文件名")
+    void testContentAddressLegacyFile() throws Exception {
+        Path legacy = write("submissions/" + LEGACY_NAME, "abc");
+        String oldUrl = "/uploads/submissions/" + LEGACY_NAME;
+        String newUrl = "/uploads/submissions/" + HASH + ".zip";
+        when(submissionMapper.replaceFileUrl(oldUrl, newUrl, "report.zip")).thenReturn(2);
+
+        manager.runMigration();
+
+        assertFalse(Files.exists(legacy));
+        assertTrue(Files.exists(uploadDir.resolve("submissions/ba/78/" + HASH + ".zip")));
+        verify(fileBlobMapper).acquire(newUrl, HASH, 3L, 2);
+        StorageMigrationVO status = manager.getStatus();
+        assertEquals(1, status.getRenamed());
+        assertEquals(2, status.getReferencesUpdated());
+    }
+
+    @Test
+    @DisplayName("旧图片与已有文件内容相同时只保留一份，封面和头像地址改写")
+    void testLegacyDuplicate() throws Exception {
+        write("images/ba/78/" + HASH + ".png", "abc");
+        Path legacy = write("images/cover.png", "abc");
+        when(competitionMapper.update(isNull(), any())).thenReturn(1);
+
+        manager.runMigration();
+
+        assertFalse(Files.exists(legacy));
+        verify(submissionMapper).replaceFileUrl("/uploads/images/cover.png",
+                "/uploads/images/" + HASH + ".png", null);
+        verify(fileBlobMapper).acquire("/uploads/images/" + HASH + ".png", HASH, 3L, 1);
+        assertEquals(1, manager.getStatus().getDeduplicated());
+    }
+
+    @Test
+    @DisplayName("富文本中内嵌的旧图片地址一并改写，并计入引用次数")
+    void testRewriteRichTextReferences() throws Exception {
+        Path legacy = write("images/" + "0f8fad5b-d9cb-469f-a165-70867728950e.png", "abc");
+        String oldUrl = "/uploads/images/0f8fad5b-d9cb-469f-a165-70867728950e.png";
+        String newUrl = "/uploads/images/" + HASH + ".png";
+        when(uploadReferenceMapper.replaceReferences("competition", "content", oldUrl, newUrl)).thenReturn(1);
+        when(uploadReferenceMapper.replaceReferences("chat_message", "content", oldUrl, newUrl)).thenReturn(2);
+
+        manager.runMigration();
+
+        assertFalse(Files.exists(legacy));
+        verify(uploadReferenceMapper).replaceReferences("team_recruitment", "description", oldUrl, newUrl);
+        verify(uploadReferenceMapper, never()).replaceReferences(eq("competition"), eq("coverUrl"), any(), any());
+        // 清理时按富文本中的新地址判断引用，file_blob 也记下这些引用
+        verify(fileBlobMapper).acquire(newUrl, HASH, 3L, 3);
+        assertEquals(3, manager.getStatus().getReferencesUpdated());
+    }
+
+    @Test
+    @DisplayName("重复执行不再移动或改写")
+    void testIdempotent() throws Exception {
+        write("files/" + HASH + ".txt", "abc");
+        write("videos/old.mp4", "video");
+        manager.runMigration();
+        clearInvocations(fileBlobMapper, submissionMapper, competitionMapper, userMapper, uploadReferenceMapper);
+
+        manager.runMigration();
+
+        StorageMigrationVO status = manager.getStatus();
+        assertEquals(2, status.getScanned());
+        assertEquals(0, status.getMoved());
+        assertEquals(0, status.getRenamed());
+        verify(fileBlobMapper, never()).acquire(anyString(), anyString(), anyLong(), anyInt());
+        verify(submissionMapper, never()).replaceFileUrl(anyString(), anyString(), eq(null));
+        verify(uploadReferenceMapper, never()).replaceReferences(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("迁移进行中不能重复开始")
+    void testStartOnce() {
+        ReflectionTestUtils.setField(manager, "running", new AtomicBoolean(true));
+
+        assertFalse(manager.start());
+        assertTrue(manager.getStatus().getRunning());
+    }
+}
@@ -0,0 +1,250 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.common.ErrorCode;
+import com.miji.cms.exception.BusinessException;
+import com.miji.cms.mapper.StorageUsageMapper;
+import com.miji.cms.mapper.UploadOwnerMapper;
+import com.miji.cms.model.domain.StorageUsage;
+import com.miji.cms.model.domain.UploadOwner;
+import com.miji.cms.model.request.StorageUsageVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * StorageUsageManager 单元测试
+ */
+class StorageUsageManagerTest {
+
+    private final StorageUsageManager manager = new StorageUsageManager();
+
+    private StorageUsageMapper mapper;
+
+    private UploadOwnerMapper uploadOwnerMapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(StorageUsageMapper.class);
+        uploadOwnerMapper = mock(UploadOwnerMapper.class);
+        ReflectionTestUtils.setField(manager, "storageUsageMapper", mapper);
+        ReflectionTestUtils.setField(manager, "uploadOwnerMapper", uploadOwnerMapper);
+    }
+
+    private static UploadOwner owner(long id, long userId, long fileSize, int uploadCount) {
+        UploadOwner owner = new UploadOwner();
+        owner.setId(id);
+        owner.setFileUrl("/uploads/images/a.png");
+        owner.setUserId(userId);
+        owner.setFileSize(fileSize);
+        owner.setUploadCount(uploadCount);
+        return owner;
+    }
+
+    private static StorageUsage usage(String scopeType, long scopeId, long usedBytes) {
+        StorageUsage usage = new StorageUsage();
+        usage.setScopeType(scopeType);
+        usage.setScopeId(scopeId);
+        usage.setUsedBytes(usedBytes);
+        usage.setFileCount(1);
+        return usage;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StorageUsage> flushed() {
+        ArgumentCaptor<List<StorageUsage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mapper).addBatch(captor.capture());
+        List<StorageUsage> rows = captor.getValue();
+        rows.sort(Comparator.comparing(StorageUsage::getScopeType).thenComparing(StorageUsage::getScopeId));
+        return rows;
+    }
+
+    @Test
+    @DisplayName("增量在内存中合并，一次刷新写入一条语句")
+    void testFlushMergesDeltas() {
+        manager.recordSubmission(100L, 1L, 1000, 1);
+        manager.recordSubmission(100L, 2L, 500, 1);
+        // 覆盖旧稿：新文件比旧文件小 200 字节
+        manager.recordSubmission(100L, 1L, -200, 0);
+        manager.record(StorageUsageManager.SCOPE_USER, 1L, 50, 1);
+
+        manager.flush();
+
+        List<StorageUsage> rows = flushed();
+        assertEquals(3, rows.size());
+        assertEquals(StorageUsageManager.SCOPE_COMPETITION, rows.get(0).getScopeType());
+        assertEquals(1300L, rows.get(0).getUsedBytes());
+        assertEquals(2, rows.get(0).getFileCount());
+        assertEquals(1L, rows.get(1).getScopeId());
+        assertEquals(850L, rows.get(1).getUsedBytes());
+        assertEquals(2, rows.get(1).getFileCount());
+        assertEquals(500L, rows.get(2).getUsedBytes());
+
+        // 已写入的增量不再重复写入
+        manager.flush();
+        verify(mapper, times(1)).addBatch(any());
+    }
+
+    @Test
+    @DisplayName("未登录或没有变化时不记录")
+    void testIgnoreEmpty() {
+        manager.record(StorageUsageManager.SCOPE_USER, null, 100, 1);
+        manager.record(StorageUsageManager.SCOPE_USER, 1L, 0, 0);
+        manager.recordSubmission(100L, 1L, 100, 0);
+        manager.recordSubmission(100L, 1L, -100, 0);
+
+        manager.flush();
+
+        verify(mapper, never()).addBatch(any());
+    }
+
+    @Test
+    @DisplayName("写入失败时增量放回，下次重试")
+    void testFlushFailureRetries() {
+        manager.record(StorageUsageManager.SCOPE_USER, 1L, 100, 1);
+        when(mapper.addBatch(any())).thenThrow(new RuntimeException("db down")).thenReturn(1);
+
+        manager.flush();
+        manager.record(StorageUsageManager.SCOPE_USER, 1L, 20, 1);
+        manager.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StorageUsage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mapper, times(2)).addBatch(captor.capture());
+        StorageUsage retried = captor.getAllValues().get(1).get(0);
+        assertEquals(120L, retried.getUsedBytes());
+        assertEquals(2, retried.getFileCount());
+    }
+
+    @Test
+    @DisplayName("超过批量大小时分多条语句写入")
+    void testFlushInBatches() {
+        for (long id = 0; id < StorageUsageManager.FLUSH_BATCH_SIZE + 1; id++) {
+            manager.record(StorageUsageManager.SCOPE_USER, id, 1, 1);
+        }
+
+        manager.flush();
+
+        verify(mapper, times(2)).addBatch(any());
+    }
+
+    @Test
+    @DisplayName("配额按已写入的用量加未刷新的增量计算")
+    void testCheckQuota() {
+        ReflectionTestUtils.setField(manager, "userQuotaBytes", 1000L);
+        ReflectionTestUtils.setField(manager, "competitionQuotaBytes", 5000L);
+        when(mapper.selectOne(any())).thenReturn(usage(StorageUsageManager.SCOPE_USER, 1L, 600));
+        manager.record(StorageUsageManager.SCOPE_USER, 1L, 300, 1);
+
+        assertTrue(manager.isQuotaEnabled());
+        manager.checkQuota(null, 1L, 100);
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> manager.checkQuota(null, 1L, 101));
+        assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
+        // 文件变小或未登录时不校验
+        manager.checkQuota(null, 1L, -50);
+        manager.checkQuota(null, null, 10_000);
+    }
+
+    @Test
+    @DisplayName("竞赛配额单独校验")
+    void testCompetitionQuota() {
+        ReflectionTestUtils.setField(manager, "competitionQuotaBytes", 5000L);
+        when(mapper.selectOne(any())).thenReturn(usage(StorageUsageManager.SCOPE_COMPETITION, 100L, 4900));
+
+        assertThrows(BusinessException.class, () -> manager.checkQuota(100L, 1L, 200));
+        // 未配置个人配额，非作品上传不受限制
+        manager.checkQuota(null, 1L, 200);
+    }
+
+    @Test
+    @DisplayName("未配置配额时不查询数据库")
+    void testQuotaDisabled() {
+        assertFalse(manager.isQuotaEnabled());
+        manager.checkQuota(100L, 1L, Long.MAX_VALUE / 2);
+
+        verify(mapper, never()).selectOne(any());
+    }
+
+    @Test
+    @DisplayName("查询用量前先刷新增量")
+    void testListUsageFlushesFirst() {
+        ReflectionTestUtils.setField(manager, "userQuotaBytes", 1000L);
+        manager.record(StorageUsageManager.SCOPE_USER, 1L, 100, 1);
+        when(mapper.selectList(any())).thenReturn(
+                Collections.singletonList(usage(StorageUsageManager.SCOPE_USER, 1L, 100)));
+
+        List<StorageUsageVO> result = manager.listUsage(StorageUsageManager.SCOPE_USER, null, 20);
+
+        verify(mapper).addBatch(any());
+        assertEquals(1, result.size());
+        assertEquals(100L, result.get(0).getUsedBytes());
+        assertEquals(1000L, result.get(0).getQuotaBytes());
+    }
+
+    @Test
+    @DisplayName("上传时登记归属并计入个人用量")
+    void testRecordUpload() {
+        manager.recordUpload(1L, "/uploads/images/a.png", 300);
+        manager.recordUpload(null, "/uploads/images/b.png", 300);
+
+        verify(uploadOwnerMapper).acquire("/uploads/images/a.png", 1L, 300);
+        verifyNoMoreInteractions(uploadOwnerMapper);
+        manager.flush();
+        List<StorageUsage> rows = flushed();
+        assertEquals(1, rows.size());
+        assertEquals(300L, rows.get(0).getUsedBytes());
+        assertEquals(1, rows.get(0).getFileCount());
+    }
+
+    @Test
+    @DisplayName("更换头像封面时只退回自己上传且尚未退回的用量")
+    void testReleaseUpload() {
+        when(uploadOwnerMapper.selectOne(any())).thenReturn(owner(1L, 1L, 300, 1));
+        when(uploadOwnerMapper.release("/uploads/images/a.png", 1L)).thenReturn(1, 0);
+
+        manager.releaseUpload(1L, "/uploads/images/a.png");
+        // 已经退回过，不再重复扣减
+        manager.releaseUpload(1L, "/uploads/images/a.png");
+
+        manager.flush();
+        List<StorageUsage> rows = flushed();
+        assertEquals(-300L, rows.get(0).getUsedBytes());
+        assertEquals(-1, rows.get(0).getFileCount());
+    }
+
+    @Test
+    @DisplayName("不是该用户上传的文件不退回")
+    void testReleaseUploadNotOwner() {
+        manager.releaseUpload(1L, "/uploads/images/a.png");
+
+        verify(uploadOwnerMapper, never()).release(any(), any());
+        manager.flush();
+        verify(mapper, never()).addBatch(any());
+    }
+
+    @Test
+    @DisplayName("文件被清理后退回每个上传者剩余的用量并删除归属记录")
+    void testReleaseDeleted() {
+        when(uploadOwnerMapper.selectList(any())).thenReturn(List.of(owner(1L, 1L, 300, 2), owner(2L, 2L, 300, 1)));
+
+        manager.releaseDeleted("/uploads/images/a.png");
+
+        verify(uploadOwnerMapper).deleteBatchIds(List.of(1L, 2L));
+        manager.flush();
+        List<StorageUsage> rows = flushed();
+        assertEquals(-600L, rows.get(0).getUsedBytes());
+        assertEquals(-2, rows.get(0).getFileCount());
+        assertEquals(-300L, rows.get(1).getUsedBytes());
+        assertEquals(-1, rows.get(1).getFileCount());
+    }
+}
@@ -0,0 +1,89 @@
+package com.miji.cms.manager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SubmissionBundleManager 单元测试
+ */
+class SubmissionBundleManagerTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private final SubmissionBundleManager manager = new SubmissionBundleManager();
+
+    @BeforeEach
+    void setUp() {
+        LocalFileStorage fileStorage = new LocalFileStorage();
+        ReflectionTestUtils.setField(fileStorage, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "fileStorage", fileStorage);
+    }
+
+    private void write(String url, byte[] content) throws Exception {
+        Path file = uploadDir.resolve(FileStorage.keyOf(url));
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+    }
+
+    @Test
+    @DisplayName("条目名称由队伍名、提交ID与原扩展名组成")
+    void testEntryName() {
+        assertEquals("测试团队_7.zip", SubmissionBundleManager.entryName("测试团队", 7L, "作品.ZIP"));
+        assertEquals("a_b_c_8.pdf", SubmissionBundleManager.entryName("a/b\\c", 8L, "/uploads/files/x.pdf"));
+        assertEquals("submission_9", SubmissionBundleManager.entryName("..", 9L, "README"));
+        assertEquals("submission_10", SubmissionBundleManager.entryName(null, 10L, "bad.ex/t"));
+        assertEquals(64 + "_11".length(), SubmissionBundleManager.entryName("x".repeat(100), 11L, null).length());
+    }
+
+    @Test
+    @DisplayName("已压缩格式以 STORED 写入，其他格式压缩，缺失的文件写入说明")
+    void testAddFile() throws Exception {
+        byte[] archive = new byte[4096];
+        new Random(1).nextBytes(archive);
+        byte[] text = "hello world\n".repeat(500).getBytes(StandardCharsets.UTF_8);
+        write("/uploads/submissions/a.zip", archive);
+        write("/uploads/submissions/b.txt", text);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = manager.open(out)) {
+            assertTrue(manager.addFile(zip, "队伍A_1.zip", "/uploads/submissions/a.zip"));
+            assertTrue(manager.addFile(zip, "队伍B_2.txt", "/uploads/submissions/b.txt"));
+            assertFalse(manager.addFile(zip, "队伍C_3.pdf", "/uploads/submissions/missing.pdf"));
+        }
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()),
+                StandardCharsets.UTF_8)) {
+            ZipEntry entry = zip.getNextEntry();
+            assertEquals("队伍A_1.zip", entry.getName());
+            assertEquals(ZipEntry.STORED, entry.getMethod());
+            assertArrayEquals(archive, StreamUtils.copyToByteArray(zip));
+
+            entry = zip.getNextEntry();
+            assertEquals("队伍B_2.txt", entry.getName());
+            assertEquals(ZipEntry.DEFLATED, entry.getMethod());
+            assertArrayEquals(text, StreamUtils.copyToByteArray(zip));
+
+            entry = zip.getNextEntry();
+            assertEquals("队伍C_3.pdf.missing.txt", entry.getName());
+            assertNull(zip.getNextEntry());
+        }
+        assertTrue(out.size() < archive.length + text.length);
+    }
+}
@@ -0,0 +1,97 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.model.request.UploadAdmissionVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UploadAdmissionManager 单元测试
+ */
+class UploadAdmissionManagerTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private final UploadAdmissionManager manager = new UploadAdmissionManager();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(manager, "maxBytes", 100 * MB);
+        ReflectionTestUtils.setField(manager, "reservedBytes", 10 * MB);
+        ReflectionTestUtils.setField(manager, "smallUploadBytes", MB);
+        ReflectionTestUtils.setField(manager, "unknownLengthBytes", 20 * MB);
+        ReflectionTestUtils.setField(manager, "maxQueue", 1);
+        ReflectionTestUtils.setField(manager, "queueTimeoutMillis", 50L);
+    }
+
+    @Test
+    @DisplayName("大文件不能占用保留额度，小文件仍可上传")
+    void testReservedForSmallUploads() throws Exception {
+        assertEquals(60 * MB, manager.acquire(60 * MB));
+        assertEquals(30 * MB, manager.acquire(30 * MB));
+
+        assertEquals(-1, manager.acquire(5 * MB));
+        assertEquals(MB, manager.acquire(MB));
+
+        UploadAdmissionVO status = manager.getStatus();
+        assertEquals(91 * MB, status.getInFlightBytes());
+        assertEquals(3, status.getInFlightUploads());
+        assertEquals(1, status.getRejected());
+        assertEquals(1, status.getTimedOut());
+    }
+
+    @Test
+    @DisplayName("排队的上传在额度归还后准入")
+    void testQueued() throws Exception {
+        long first = manager.acquire(80 * MB);
+        ReflectionTestUtils.setField(manager, "queueTimeoutMillis", 5000L);
+
+        CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return manager.acquire(50 * MB);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (manager.getStatus().getQueueDepth() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, manager.getStatus().getQueueDepth());
+        // 队列已满，直接拒绝
+        assertEquals(-1, manager.acquire(50 * MB));
+
+        manager.release(first);
+        assertEquals(50 * MB, waiting.get(5, TimeUnit.SECONDS));
+        UploadAdmissionVO status = manager.getStatus();
+        assertEquals(0, status.getQueueDepth());
+        assertEquals(1, status.getPeakQueueDepth());
+        assertEquals(1, status.getDelayed());
+        assertEquals(1, status.getRejected());
+        assertEquals(0, status.getTimedOut());
+    }
+
+    @Test
+    @DisplayName("超过可用预算的上传按可用预算计，未声明长度按默认大小计")
+    void testOversizeAndUnknownLength() throws Exception {
+        assertEquals(90 * MB, manager.acquire(500 * MB));
+        manager.release(90 * MB);
+
+        assertEquals(20 * MB, manager.acquire(-1));
+        assertEquals(20 * MB, manager.getStatus().getInFlightBytes());
+    }
+
+    @Test
+    @DisplayName("未配置预算时不启用")
+    void testDisabled() {
+        ReflectionTestUtils.setField(manager, "maxBytes", 0L);
+
+        assertFalse(manager.isEnabled());
+    }
+}
@@ -0,0 +1,198 @@
+package com.miji.cms.manager;
+
+import com.miji.cms.mapper.FileBlobMapper;
+import com.miji.cms.mapper.UploadReferenceMapper;
+import com.miji.cms.model.request.UploadCleanupVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * UploadCleanupManager 单元测试
+ */
+class UploadCleanupManagerTest {
+
+    private static final String LIVE = repeat('a') + ".zip";
+
+    private static final String ORPHAN = repeat('b') + ".zip";
+
+    private static final String EMBEDDED = repeat('c') + ".png";
+
+    @TempDir
+    Path uploadDir;
+
+    private final FileBlobMapper fileBlobMapper = mock(FileBlobMapper.class);
+
+    private final UploadReferenceMapper uploadReferenceMapper = mock(UploadReferenceMapper.class);
+
+    private final StorageUsageManager storageUsageManager = mock(StorageUsageManager.class);
+
+    private final UploadCleanupManager manager = new UploadCleanupManager();
+
+    private final FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+
+    private static String repeat(char c) {
+        return String.valueOf(c).repeat(64);
+    }
+
+    @BeforeEach
+    void setUp() {
+        LocalFileStorage fileStorage = new LocalFileStorage();
+        ReflectionTestUtils.setField(fileStorage, "uploadPath", uploadDir.toString());
+        ChunkUploadManager chunkUploadManager = new ChunkUploadManager();
+        ReflectionTestUtils.setField(chunkUploadManager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "graceHours", 24L);
+        ReflectionTestUtils.setField(manager, "chunkExpireHours", 168L);
+        ReflectionTestUtils.setField(manager, "fileStorage", fileStorage);
+        ReflectionTestUtils.setField(manager, "fileBlobMapper", fileBlobMapper);
+        ReflectionTestUtils.setField(manager, "uploadReferenceMapper", uploadReferenceMapper);
+        ReflectionTestUtils.setField(manager, "chunkUploadManager", chunkUploadManager);
+        ReflectionTestUtils.setField(manager, "storageUsageManager", storageUsageManager);
+        ImageVariantManager imageVariantManager = new ImageVariantManager();
+        ReflectionTestUtils.setField(imageVariantManager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "imageVariantManager", imageVariantManager);
+        ArchiveManifestManager archiveManifestManager = new ArchiveManifestManager();
+        ReflectionTestUtils.setField(archiveManifestManager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(manager, "archiveManifestManager", archiveManifestManager);
+    }
+
+    private Path write(String url, FileTime lastModified) throws Exception {
+        Path file = uploadDir.resolve(FileStorage.keyOf(url));
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[8]);
+        Files.setLastModifiedTime(file, lastModified);
+        return file;
+    }
+
+    private static Map<String, Object> row(long id, String value) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("value", value);
+        return row;
+    }
+
+    private void references(String table, String column, String value) {
+        when(uploadReferenceMapper.selectReferences(eq(table), eq(column), eq(0L), anyInt()))
+                .thenReturn(Collections.singletonList(row(1, value)));
+    }
+
+    @Test
+    @DisplayName("删除超过宽限期的无引用文件，保留被引用的和宽限期内的文件")
+    void testSweep() throws Exception {
+        Path live = write("/uploads/submissions/" + LIVE, old);
+        Path orphan = write("/uploads/submissions/" + ORPHAN, old);
+        Path embedded = write("/uploads/images/" + EMBEDDED, old);
+        Path legacy = write("/uploads/images/old-cover.png", old);
+        Path fresh = write("/uploads/images/new-cover.png", FileTime.from(Instant.now()));
+        Path snapshot = write("/uploads/results/7/leaderboard-v1.json", old);
+        references("competition_submission", "fileUrl", "/uploads/submissions/" + LIVE);
+        references("competition", "content", "<p><img src=\"http://cms.example.com/uploads/images/" + EMBEDDED
+                + "\"></p>");
+
+        manager.runCleanup();
+
+        assertTrue(Files.exists(live));
+        assertTrue(Files.exists(embedded));
+        assertTrue(Files.exists(fresh));
+        assertTrue(Files.exists(snapshot));
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(legacy));
+        verify(fileBlobMapper).delete(any());
+        verify(storageUsageManager).releaseDeleted("/uploads/submissions/" + ORPHAN);
+        verify(storageUsageManager).releaseDeleted("/uploads/images/old-cover.png");
+        verify(storageUsageManager, never()).releaseDeleted("/uploads/submissions/" + LIVE);
+
+        UploadCleanupVO status = manager.getStatus();
+        assertFalse(status.getRunning());
+        assertEquals(2, status.getReferences());
+        assertEquals(5, status.getScanned());
+        assertEquals(1, status.getRecent());
+        assertEquals(2, status.getOrphans());
+        assertEquals(2, status.getDeleted());
+        assertEquals(16, status.getDeletedBytes());
+        assertNull(status.getError());
+    }
+
+    @Test
+    @DisplayName("宽限期内相同内容被再次上传时保留文件")
+    void testRecentlyAcquired() throws Exception {
+        Path orphan = write("/uploads/submissions/" + ORPHAN, old);
+        when(fileBlobMapper.selectCount(any())).thenReturn(1L);
+
+        manager.runCleanup();
+
+        assertTrue(Files.exists(orphan));
+        verify(fileBlobMapper, never()).delete(any());
+        assertEquals(1, manager.getStatus().getRecent());
+        assertEquals(0, manager.getStatus().getOrphans());
+    }
+
+    @Test
+    @DisplayName("只统计模式不删除文件")
+    void testDryRun() throws Exception {
+        ReflectionTestUtils.setField(manager, "dryRun", true);
+        Path orphan = write("/uploads/files/old.pdf", old);
+
+        manager.runCleanup();
+
+        assertTrue(Files.exists(orphan));
+        assertEquals(1, manager.getStatus().getOrphans());
+        assertEquals(0, manager.getStatus().getDeleted());
+        verify(storageUsageManager, never()).releaseDeleted(any());
+    }
+
+    @Test
+    @DisplayName("按主键分批读取引用")
+    void testKeysetBatches() throws Exception {
+        List<Map<String, Object>> first = new ArrayList<>();
+        for (int i = 1; i <= UploadCleanupManager.REFERENCE_BATCH; i++) {
+            first.add(row(i, "/uploads/images/" + i + ".png"));
+        }
+        when(uploadReferenceMapper.selectReferences(eq("user"), eq("userUrl"), eq(0L), anyInt())).thenReturn(first);
+        when(uploadReferenceMapper.selectReferences(eq("user"), eq("userUrl"),
+                eq((long) UploadCleanupManager.REFERENCE_BATCH), anyInt()))
+                .thenReturn(Collections.singletonList(row(5000, "/uploads/images/last.png")));
+        Path last = write("/uploads/images/last.png", old);
+
+        manager.runCleanup();
+
+        assertTrue(Files.exists(last));
+        assertEquals(UploadCleanupManager.REFERENCE_BATCH + 1, manager.getStatus().getReferences());
+        verify(uploadReferenceMapper, times(2)).selectReferences(eq("user"), eq("userUrl"), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("清理残留的临时文件")
+    void testTemporaryFiles() throws Exception {
+        Path tmpDir = Files.createDirectories(uploadDir.resolve(LocalFileStorage.TMP_FOLDER));
+        Path stale = Files.write(tmpDir.resolve("upload-1.tmp"), new byte[1]);
+        Files.setLastModifiedTime(stale, old);
+        Path inProgress = Files.write(tmpDir.resolve("upload-2.tmp"), new byte[1]);
+
+        manager.runCleanup();
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(inProgress));
+        assertEquals(1, manager.getStatus().getTempFiles());
+    }
+}
@@ -0,0 +1,209 @@
+package com.miji.cms.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miji.cms.model.request.UploadProcessingStatsVO;
+import com.miji.cms.model.request.UploadProcessingVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UploadProcessingManager 单元测试
+ */
+class UploadProcessingManagerTest {
+
+    private static final String IMAGE_URL = "/uploads/images/" + "a".repeat(64) + ".png";
+
+    private static final String ZIP_URL = "/uploads/submissions/" + "b".repeat(64) + ".zip";
+
+    private static final String DOC_URL = "/uploads/files/" + "c".repeat(64) + ".pdf";
+
+    @TempDir
+    Path uploadDir;
+
+    private final UploadProcessingManager manager = new UploadProcessingManager();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalFileStorage fileStorage = new LocalFileStorage();
+        ReflectionTestUtils.setField(fileStorage, "uploadPath", uploadDir.toString());
+        ImageVariantManager imageVariantManager = new ImageVariantManager();
+        ReflectionTestUtils.setField(imageVariantManager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(imageVariantManager, "fileStorage", fileStorage);
+        ArchiveManifestManager archiveManifestManager = new ArchiveManifestManager();
+        ReflectionTestUtils.setField(archiveManifestManager, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(archiveManifestManager, "fileStorage", fileStorage);
+        ReflectionTestUtils.setField(archiveManifestManager, "objectMapper", new ObjectMapper());
+
+        ReflectionTestUtils.setField(manager, "enabled", true);
+        ReflectionTestUtils.setField(manager, "workers", 1);
+        ReflectionTestUtils.setField(manager, "queueCapacity", 10);
+        ReflectionTestUtils.setField(manager, "maxTracked", 100);
+        ReflectionTestUtils.setField(manager, "fileStorage", fileStorage);
+        ReflectionTestUtils.setField(manager, "imageVariantManager", imageVariantManager);
+        ReflectionTestUtils.setField(manager, "archiveManifestManager", archiveManifestManager);
+
+        Path image = file(IMAGE_URL);
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", image.toFile());
+        try (OutputStream out = Files.newOutputStream(file(ZIP_URL));
+             ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 3; i++) {
+                zip.putNextEntry(new ZipEntry("src/" + i + ".txt"));
+                zip.write("hello".getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        Files.write(file(DOC_URL), new byte[100]);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+    }
+
+    private Path file(String url) throws Exception {
+        Path file = uploadDir.resolve(FileStorage.keyOf(url));
+        Files.createDirectories(file.getParent());
+        return file;
+    }
+
+    private UploadProcessingVO await(String url) throws Exception {
+        for (int i = 0; i < 500; i++) {
+            UploadProcessingVO status = manager.getStatus(url);
+            if (status != null && !UploadProcessingManager.STATUS_QUEUED.equals(status.getStatus())
+                    && !UploadProcessingManager.STATUS_PROCESSING.equals(status.getStatus())) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        fail("处理超时: " + url);
+        return null;
+    }
+
+    @Test
+    @DisplayName("图片提取宽高并预生成缩略图")
+    void testImage() throws Exception {
+        manager.init();
+        manager.submit(IMAGE_URL);
+
+        UploadProcessingVO status = await(IMAGE_URL);
+        assertEquals(UploadProcessingManager.STATUS_DONE, status.getStatus());
+        assertEquals("thumbnail", status.getStage());
+        assertEquals("a".repeat(64), status.getSha256());
+        assertEquals("image/png", status.getContentType());
+        assertEquals(800, status.getWidth());
+        assertEquals(600, status.getHeight());
+        assertEquals(Files.size(file(IMAGE_URL)), status.getFileSize());
+        assertNotNull(status.getFinishTime());
+        for (int width : UploadProcessingManager.THUMBNAIL_WIDTHS) {
+            assertTrue(Files.exists(uploadDir.resolve(ImageVariantManager.CACHE_FOLDER)
+                    .resolve("aa").resolve("a".repeat(64)).resolve(width + ".png")));
+        }
+    }
+
+    @Test
+    @DisplayName("ZIP 读取目录并缓存")
+    void testArchive() throws Exception {
+        manager.init();
+        manager.submit(ZIP_URL);
+
+        UploadProcessingVO status = await(ZIP_URL);
+        assertEquals(UploadProcessingManager.STATUS_DONE, status.getStatus());
+        assertEquals("archive", status.getStage());
+        assertEquals(3L, status.getEntryCount());
+        assertEquals(15L, status.getTotalSize());
+        assertTrue(Files.exists(uploadDir.resolve(ArchiveManifestManager.CACHE_FOLDER)));
+    }
+
+    @Test
+    @DisplayName("其他文件只提取元数据")
+    void testMetadataOnly() throws Exception {
+        manager.init();
+        manager.submit(DOC_URL);
+
+        UploadProcessingVO status = await(DOC_URL);
+        assertEquals(UploadProcessingManager.STATUS_DONE, status.getStatus());
+        assertEquals("metadata", status.getStage());
+        assertEquals("application/pdf", status.getContentType());
+        assertEquals(100L, status.getFileSize());
+        assertNull(status.getWidth());
+    }
+
+    @Test
+    @DisplayName("处理失败时记录原因")
+    void testFailed() throws Exception {
+        String url = "/uploads/submissions/" + "d".repeat(64) + ".zip";
+        Files.write(file(url), "not a zip".getBytes(StandardCharsets.UTF_8));
+        manager.init();
+        manager.submit(url);
+
+        UploadProcessingVO status = await(url);
+        assertEquals(UploadProcessingManager.STATUS_FAILED, status.getStatus());
+        assertEquals("archive", status.getStage());
+        assertNotNull(status.getMessage());
+        assertEquals(1L, manager.getStats().getFailed());
+    }
+
+    @Test
+    @DisplayName("队列已满时跳过，不阻塞调用方")
+    void testQueueFull() {
+        ReflectionTestUtils.setField(manager, "workers", 0);
+        ReflectionTestUtils.setField(manager, "queueCapacity", 1);
+        manager.init();
+
+        manager.submit(IMAGE_URL);
+        manager.submit(ZIP_URL);
+
+        assertEquals(UploadProcessingManager.STATUS_QUEUED, manager.getStatus(IMAGE_URL).getStatus());
+        UploadProcessingVO skipped = manager.getStatus(ZIP_URL);
+        assertEquals(UploadProcessingManager.STATUS_SKIPPED, skipped.getStatus());
+        assertNotNull(skipped.getMessage());
+        UploadProcessingStatsVO stats = manager.getStats();
+        assertEquals(1, stats.getMetadataQueue());
+        assertEquals(2L, stats.getSubmitted());
+        assertEquals(1L, stats.getSkipped());
+    }
+
+    @Test
+    @DisplayName("相同地址正在处理时不重复登记，跳过后可以重新登记")
+    void testDuplicateSubmit() {
+        ReflectionTestUtils.setField(manager, "workers", 0);
+        ReflectionTestUtils.setField(manager, "queueCapacity", 1);
+        manager.init();
+
+        manager.submit(IMAGE_URL);
+        manager.submit(IMAGE_URL);
+        assertEquals(1L, manager.getStats().getSubmitted());
+        assertEquals(1, manager.getStats().getMetadataQueue());
+
+        manager.submit(ZIP_URL);
+        manager.submit(ZIP_URL);
+        assertEquals(3L, manager.getStats().getSubmitted());
+        assertEquals(2L, manager.getStats().getSkipped());
+    }
+
+    @Test
+    @DisplayName("关闭后不登记，也不保留状态")
+    void testDisabled() {
+        ReflectionTestUtils.setField(manager, "enabled", false);
+        manager.init();
+
+        manager.submit(IMAGE_URL);
+        assertNull(manager.getStatus(IMAGE_URL));
+        assertEquals(0L, manager.getStats().getSubmitted());
+    }
+}
@@ -5,6 +5,7 @@ import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.miji.cms.common.ErrorCode;
 import com.miji.cms.constant.UserConstant;
 import com.miji.cms.exception.BusinessException;
+import com.miji.cms.manager.StorageUsageManager;
 import com.miji.cms.mapper.CompetitionMapper;
 import com.miji.cms.mapper.CompetitionRegistrationMapper;
 import com.miji.cms.mapper.TeamMapper;
@@ -54,6 +55,9 @@ class CompetitionServiceImplTest {
     @Mock
     private TeamMemberMapper teamMemberMapper;
 
+    @Mock
+    private StorageUsageManager storageUsageManager;
+
     @Mock
     private HttpServletRequest httpRequest;
 
@@ -185,6 +189,24 @@ class CompetitionServiceImplTest {
 
             assertTrue(result);
             verify(competitionService, times(1)).updateById(any(Competition.class));
+            verify(storageUsageManager, never()).releaseUpload(any(), any());
+        }
+
+        @Test
+        @DisplayName("更换封面后退回旧封面的存储用量")
+        void testUpdateCompetition_ReplaceCover() {
+            when(httpRequest.getSession()).thenReturn(session);
+            when(session.getAttribute(UserConstant.USER_LOGIN_STATE)).thenReturn(adminUser);
+            testCompetition.setCoverUrl("/uploads/images/old.png");
+            doReturn(testCompetition).when(competitionService).getById(1L);
+            doReturn(true).when(competitionService).updateById(any(Competition.class));
+
+            CompetitionUpdateRequest request = new CompetitionUpdateRequest();
+            request.setId(1L);
+            request.setCoverUrl("/uploads/images/new.png");
+
+            assertTrue(competitionService.updateCompetition(request, httpRequest));
+            verify(storageUsageManager).releaseUpload(1L, "/uploads/images/old.png");
         }
 
         @Test
@@ -2,6 +2,19 @@ package com.miji.cms.service.impl;
 
 import com.miji.cms.common.ErrorCode;
 import com.miji.cms.exception.BusinessException;
+import com.miji.cms.manager.ChunkUploadManager;
+import com.miji.cms.manager.ContentStoreManager;
+import com.miji.cms.manager.FileStorage;
+import com.miji.cms.manager.ImageVariantManager;
+import com.miji.cms.manager.LocalFileStorage;
+import com.miji.cms.manager.StorageMigrationManager;
+import com.miji.cms.manager.StorageUsageManager;
+import com.miji.cms.manager.UploadProcessingManager;
+import com.miji.cms.mapper.FileBlobMapper;
+import com.miji.cms.model.domain.User;
+import com.miji.cms.model.request.ChunkUploadInitRequest;
+import com.miji.cms.model.request.ChunkUploadVO;
+import com.miji.cms.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,16 +23,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -35,12 +59,40 @@ class FileUploadServiceImplTest {
     @Mock
     private MultipartFile mockFile;
 
+    @Spy
+    private ContentStoreManager contentStoreManager = new ContentStoreManager();
+
+    @Mock
+    private FileBlobMapper fileBlobMapper;
+
+    @Mock
+    private ImageVariantManager imageVariantManager;
+
+    @Mock
+    private StorageMigrationManager storageMigrationManager;
+
+    @Mock
+    private UploadProcessingManager uploadProcessingManager;
+
+    @Mock
+    private StorageUsageManager storageUsageManager;
+
+    @Mock
+    private UserService userService;
+
     @TempDir
     Path tempDir;
 
+    private MockHttpServletRequest httpRequest;
+
     @BeforeEach
     void setUp() {
+        httpRequest = new MockHttpServletRequest();
         ReflectionTestUtils.setField(fileUploadService, "uploadPath", tempDir.toString());
+        LocalFileStorage fileStorage = new LocalFileStorage();
+        ReflectionTestUtils.setField(fileStorage, "uploadPath", tempDir.toString());
+        ReflectionTestUtils.setField(contentStoreManager, "fileStorage", fileStorage);
+        ReflectionTestUtils.setField(contentStoreManager, "fileBlobMapper", fileBlobMapper);
     }
 
     @Nested
@@ -54,7 +106,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadVideo(mockFile);
+            String result = fileUploadService.uploadVideo(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.startsWith("/uploads/videos/"));
@@ -68,7 +120,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadVideo(mockFile);
+            String result = fileUploadService.uploadVideo(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".avi"));
@@ -81,7 +133,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadVideo(mockFile);
+            String result = fileUploadService.uploadVideo(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".mov"));
@@ -94,7 +146,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn("test_video.exe");
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadVideo(mockFile));
+                    () -> fileUploadService.uploadVideo(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
 
@@ -104,7 +156,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn("");
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadVideo(mockFile));
+                    () -> fileUploadService.uploadVideo(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
 
@@ -114,7 +166,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn(null);
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadVideo(mockFile));
+                    () -> fileUploadService.uploadVideo(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
     }
@@ -130,11 +182,13 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadImage(mockFile);
+            String result = fileUploadService.uploadImage(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.startsWith("/uploads/images/"));
             assertTrue(result.endsWith(".jpg"));
+            // 缩略图等交给后台处理
+            verify(uploadProcessingManager).submit(result);
         }
 
         @Test
@@ -144,7 +198,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadImage(mockFile);
+            String result = fileUploadService.uploadImage(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".png"));
@@ -156,7 +210,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn("test_image.tiff");
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadImage(mockFile));
+                    () -> fileUploadService.uploadImage(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
     }
@@ -172,7 +226,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.startsWith("/uploads/files/"));
@@ -186,7 +240,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".docx"));
@@ -199,7 +253,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".zip"));
@@ -211,7 +265,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn("test_file.exe");
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadFile(mockFile));
+                    () -> fileUploadService.uploadFile(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
     }
@@ -229,7 +283,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(true);
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadFile(mockFile));
+                    () -> fileUploadService.uploadFile(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
 
@@ -241,7 +295,7 @@ class FileUploadServiceImplTest {
             doThrow(new IOException("模拟IO异常")).when(mockFile).transferTo(any(File.class));
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadFile(mockFile));
+                    () -> fileUploadService.uploadFile(mockFile, httpRequest));
             assertEquals(ErrorCode.SYSTEM_ERROR.getCode(), exception.getCode());
         }
 
@@ -252,7 +306,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn("testfile");
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadFile(mockFile));
+                    () -> fileUploadService.uploadFile(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
     }
@@ -262,31 +316,30 @@ class FileUploadServiceImplTest {
     class FileNameGenerationTests {
 
         @Test
-        @DisplayName("生成的文件名唯一性测试")
-        void testUploadFile_UniqueFileName() throws IOException {
+        @DisplayName("相同内容生成相同文件名")
+        void testUploadFile_SameContentSameFileName() throws IOException {
             when(mockFile.getOriginalFilename()).thenReturn("test.pdf");
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result1 = fileUploadService.uploadFile(mockFile);
-            String result2 = fileUploadService.uploadFile(mockFile);
+            String result1 = fileUploadService.uploadFile(mockFile, httpRequest);
+            String result2 = fileUploadService.uploadFile(mockFile, httpRequest);
 
-            assertNotEquals(result1, result2, "两次上传应该生成不同的文件名");
+            assertEquals(result1, result2, "相同内容应只存储一份");
         }
 
         @Test
-        @DisplayName("生成的文件名包含UUID和时间戳")
+        @DisplayName("生成的文件名为内容哈希加扩展名")
         void testUploadFile_FileNameFormat() throws IOException {
             when(mockFile.getOriginalFilename()).thenReturn("original_name.pdf");
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             String fileName = result.substring(result.lastIndexOf("/") + 1);
-            assertTrue(fileName.contains("_"));
-            assertTrue(fileName.endsWith(".pdf"));
+            assertTrue(fileName.matches("[0-9a-f]{64}\\.pdf"));
         }
     }
 
@@ -301,7 +354,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadVideo(mockFile);
+            String result = fileUploadService.uploadVideo(mockFile, httpRequest);
 
             assertTrue(result.contains("/videos/"));
         }
@@ -313,7 +366,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadImage(mockFile);
+            String result = fileUploadService.uploadImage(mockFile, httpRequest);
 
             assertTrue(result.contains("/images/"));
         }
@@ -325,7 +378,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertTrue(result.contains("/files/"));
         }
@@ -342,7 +395,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadVideo(mockFile);
+            String result = fileUploadService.uploadVideo(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".wmv"));
@@ -355,7 +408,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadVideo(mockFile);
+            String result = fileUploadService.uploadVideo(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".flv"));
@@ -368,7 +421,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadVideo(mockFile);
+            String result = fileUploadService.uploadVideo(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".mkv"));
@@ -386,7 +439,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadImage(mockFile);
+            String result = fileUploadService.uploadImage(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".jpeg"));
@@ -399,7 +452,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadImage(mockFile);
+            String result = fileUploadService.uploadImage(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".gif"));
@@ -412,7 +465,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadImage(mockFile);
+            String result = fileUploadService.uploadImage(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".bmp"));
@@ -425,7 +478,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadImage(mockFile);
+            String result = fileUploadService.uploadImage(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".webp"));
@@ -443,7 +496,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".doc"));
@@ -456,7 +509,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".xls"));
@@ -469,7 +522,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".xlsx"));
@@ -482,7 +535,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".ppt"));
@@ -495,7 +548,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".pptx"));
@@ -508,7 +561,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".txt"));
@@ -521,7 +574,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".rar"));
@@ -534,7 +587,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".7z"));
@@ -547,7 +600,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".tar"));
@@ -560,7 +613,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".gz"));
@@ -578,7 +631,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".PDF"));
@@ -591,7 +644,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".PdF"));
@@ -603,7 +656,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn(".pdf");
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadFile(mockFile));
+                    () -> fileUploadService.uploadFile(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
 
@@ -614,7 +667,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(false);
             doNothing().when(mockFile).transferTo(any(File.class));
 
-            String result = fileUploadService.uploadFile(mockFile);
+            String result = fileUploadService.uploadFile(mockFile, httpRequest);
 
             assertNotNull(result);
             assertTrue(result.endsWith(".pdf"));
@@ -627,7 +680,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(true);
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadVideo(mockFile));
+                    () -> fileUploadService.uploadVideo(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
 
@@ -638,7 +691,7 @@ class FileUploadServiceImplTest {
             when(mockFile.isEmpty()).thenReturn(true);
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadImage(mockFile));
+                    () -> fileUploadService.uploadImage(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
 
@@ -648,7 +701,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn("");
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadImage(mockFile));
+                    () -> fileUploadService.uploadImage(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
 
@@ -658,7 +711,7 @@ class FileUploadServiceImplTest {
             when(mockFile.getOriginalFilename()).thenReturn(null);
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadImage(mockFile));
+                    () -> fileUploadService.uploadImage(mockFile, httpRequest));
             assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
         }
     }
@@ -675,7 +728,7 @@ class FileUploadServiceImplTest {
             doThrow(new IOException("模拟IO异常")).when(mockFile).transferTo(any(File.class));
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadVideo(mockFile));
+                    () -> fileUploadService.uploadVideo(mockFile, httpRequest));
             assertEquals(ErrorCode.SYSTEM_ERROR.getCode(), exception.getCode());
         }
     }
@@ -692,8 +745,325 @@ class FileUploadServiceImplTest {
             doThrow(new IOException("模拟IO异常")).when(mockFile).transferTo(any(File.class));
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileUploadService.uploadImage(mockFile));
+                    () -> fileUploadService.uploadImage(mockFile, httpRequest));
             assertEquals(ErrorCode.SYSTEM_ERROR.getCode(), exception.getCode());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("内容寻址存储测试")
+    class ContentAddressedTests {
+
+        @Test
+        @DisplayName("相同内容的上传返回同一地址且只存一份")
+        void testSameContentDeduplicated() throws IOException {
+            byte[] content = "same cover".getBytes();
+            String first = fileUploadService.uploadImage(
+                    new MockMultipartFile("file", "a.png", "image/png", content), httpRequest);
+            String second = fileUploadService.uploadImage(
+                    new MockMultipartFile("file", "b.png", "image/png", content), httpRequest);
+            String other = fileUploadService.uploadImage(
+                    new MockMultipartFile("file", "c.png", "image/png", "other cover".getBytes()), httpRequest);
+
+            assertEquals(first, second);
+            assertNotEquals(first, other);
+            try (Stream<Path> files = Files.walk(tempDir.resolve("images"))) {
+                assertEquals(2, files.filter(Files::isRegularFile).count());
+            }
+            verify(fileBlobMapper, times(2)).acquire(eq(first), anyString(), eq((long) content.length), eq(1));
+        }
+
+        @Test
+        @DisplayName("分片上传与普通上传相同内容时共用文件")
+        void testChunkUploadSharesBlob() {
+            ChunkUploadManager chunkUploadManager = new ChunkUploadManager();
+            ReflectionTestUtils.setField(chunkUploadManager, "uploadPath", tempDir.toString());
+            ReflectionTestUtils.setField(fileUploadService, "chunkUploadManager", chunkUploadManager);
+            byte[] content = "same video".getBytes();
+
+            String direct = fileUploadService.uploadVideo(
+                    new MockMultipartFile("file", "a.mp4", "video/mp4", content), httpRequest);
+
+            ChunkUploadInitRequest request = new ChunkUploadInitRequest();
+            request.setType("video");
+            request.setFileName("b.mp4");
+            request.setFileSize((long) content.length);
+            User user = new User();
+            user.setId(7L);
+            httpRequest.getSession().setAttribute("userLoginState", user);
+            ChunkUploadVO vo = fileUploadService.initChunkUpload(request, httpRequest);
+            MockHttpServletRequest chunk = new MockHttpServletRequest("PUT", "/file/upload/chunk");
+            chunk.setContent(content);
+            fileUploadService.uploadChunk(vo.getUploadId(), 0, chunk);
+
+            assertEquals(direct, fileUploadService.completeChunkUpload(vo.getUploadId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("分片上传测试")
+    class ChunkUploadTests {
+
+        private static final int CHUNK_SIZE = 256 * 1024;
+
+        private MockHttpServletRequest httpRequest;
+
+        @BeforeEach
+        void setUp() {
+            ChunkUploadManager chunkUploadManager = new ChunkUploadManager();
+            ReflectionTestUtils.setField(chunkUploadManager, "uploadPath", tempDir.toString());
+            ReflectionTestUtils.setField(fileUploadService, "chunkUploadManager", chunkUploadManager);
+
+            User user = new User();
+            user.setId(1L);
+            httpRequest = new MockHttpServletRequest();
+            httpRequest.getSession().setAttribute("userLoginState", user);
+        }
+
+        private ChunkUploadInitRequest initRequest(String type, String fileName, long fileSize) {
+            ChunkUploadInitRequest request = new ChunkUploadInitRequest();
+            request.setType(type);
+            request.setFileName(fileName);
+            request.setFileSize(fileSize);
+            request.setChunkSize(CHUNK_SIZE);
+            return request;
+        }
+
+        private MockHttpServletRequest chunkRequest(byte[] content, int index) {
+            int offset = index * CHUNK_SIZE;
+            MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/file/upload/chunk");
+            request.setContent(Arrays.copyOfRange(content, offset, Math.min(content.length, offset + CHUNK_SIZE)));
+            return request;
+        }
+
+        @Test
+        @DisplayName("视频分片上传完成后返回访问地址")
+        void testVideoChunkUpload_Success() throws IOException {
+            byte[] content = new byte[CHUNK_SIZE * 2 + 10];
+            new Random(1).nextBytes(content);
+
+            ChunkUploadVO vo = fileUploadService.initChunkUpload(initRequest("video", "demo.mp4", content.length),
+                    httpRequest);
+            assertEquals(3, vo.getChunkCount());
+
+            fileUploadService.uploadChunk(vo.getUploadId(), 2, chunkRequest(content, 2));
+            fileUploadService.uploadChunk(vo.getUploadId(), 0, chunkRequest(content, 0));
+            assertEquals(Collections.singletonList(1), fileUploadService.getChunkUpload(vo.getUploadId()).getMissingChunks());
+            fileUploadService.uploadChunk(vo.getUploadId(), 1, chunkRequest(content, 1));
+
+            String url = fileUploadService.completeChunkUpload(vo.getUploadId());
+
+            assertTrue(url.startsWith("/uploads/videos/"));
+            assertTrue(url.endsWith(".mp4"));
+            Path saved = tempDir.resolve(FileStorage.keyOf(url));
+            assertArrayEquals(content, Files.readAllBytes(saved));
+        }
+
+        @Test
+        @DisplayName("不支持的扩展名、分片大小或类型被拒绝")
+        void testInitChunkUpload_InvalidParams() {
+            assertThrows(BusinessException.class, () ->
+                    fileUploadService.initChunkUpload(initRequest("video", "demo.exe", 10), httpRequest));
+            assertThrows(BusinessException.class, () ->
+                    fileUploadService.initChunkUpload(initRequest("other", "demo.mp4", 10), httpRequest));
+
+            ChunkUploadInitRequest tooSmall = initRequest("video", "demo.mp4", 10);
+            tooSmall.setChunkSize(1024);
+            assertThrows(BusinessException.class, () -> fileUploadService.initChunkUpload(tooSmall, httpRequest));
+        }
+
+        @Test
+        @DisplayName("分片上传需登录，未登录不能预分配磁盘")
+        void testChunkUpload_NotLogin() {
+            MockHttpServletRequest anonymous = new MockHttpServletRequest();
+            for (String type : Arrays.asList("video", "image", "file")) {
+                String fileName = "video".equals(type) ? "a.mp4" : "image".equals(type) ? "a.png" : "a.zip";
+                BusinessException exception = assertThrows(BusinessException.class, () ->
+                        fileUploadService.initChunkUpload(initRequest(type, fileName, 10L << 30), anonymous));
+                assertEquals(ErrorCode.NOT_LOGIN.getCode(), exception.getCode());
+            }
+        }
+
+        @Test
+        @DisplayName("作品上传需登录，且只能由上传者提交")
+        void testSubmissionChunkUpload_Owner() {
+            MockHttpServletRequest anonymous = new MockHttpServletRequest();
+            BusinessException exception = assertThrows(BusinessException.class, () ->
+                    fileUploadService.initChunkUpload(initRequest("submission", "work.zip", 10), anonymous));
+            assertEquals(ErrorCode.NOT_LOGIN.getCode(), exception.getCode());
+
+            byte[] content = new byte[10];
+            ChunkUploadVO vo = fileUploadService.initChunkUpload(
+                    initRequest("submission", "dir\\work.zip", content.length), httpRequest);
+            assertEquals("work.zip", vo.getFileName());
+            fileUploadService.uploadChunk(vo.getUploadId(), 0, chunkRequest(content, 0));
+
+            assertThrows(BusinessException.class, () -> fileUploadService.completeChunkUpload(vo.getUploadId()));
+            exception = assertThrows(BusinessException.class,
+                    () -> fileUploadService.completeSubmissionUpload(vo.getUploadId(), 2L));
+            assertEquals(ErrorCode.NO_AUTH.getCode(), exception.getCode());
+
+            String url = fileUploadService.completeSubmissionUpload(vo.getUploadId(), 1L);
+            assertTrue(url.startsWith("/uploads/submissions/"));
+            assertTrue(url.endsWith(".zip"));
+        }
+
+        @Test
+        @DisplayName("取消后上传不存在")
+        void testAbortChunkUpload() {
+            ChunkUploadVO vo = fileUploadService.initChunkUpload(initRequest("video", "demo.mp4", 10), httpRequest);
+
+            assertTrue(fileUploadService.abortChunkUpload(vo.getUploadId()));
+            assertThrows(BusinessException.class, () -> fileUploadService.getChunkUpload(vo.getUploadId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("图片缩略图测试")
+    class ImageVariantTests {
+
+        @Test
+        @DisplayName("只允许 /uploads/images/ 下的图片")
+        void testRejectOutsideImages() {
+            for (String url : new String[]{"/uploads/files/a.png", "/uploads/images/../files/a.png",
+                    "/uploads/images/ab/cd/a.png", "/uploads/images/a.pdf", ""}) {
+                BusinessException exception = assertThrows(BusinessException.class,
+                        () -> fileUploadService.getImageVariant(url, 128, null), url);
+                assertEquals(ErrorCode.PARAMS_ERROR.getCode(), exception.getCode());
+            }
+            verifyNoInteractions(imageVariantManager);
+        }
+
+        @Test
+        @DisplayName("校验宽度与输出格式")
+        void testRejectWidthAndFormat() {
+            assertThrows(BusinessException.class, () -> fileUploadService.getImageVariant("/uploads/images/a.png", 0, null));
+            assertThrows(BusinessException.class, () -> fileUploadService.getImageVariant("/uploads/images/a.png", 5000, null));
+            assertThrows(BusinessException.class, () -> fileUploadService.getImageVariant("/uploads/images/a.png", 128, "webp"));
+            verifyNoInteractions(imageVariantManager);
+        }
+
+        @Test
+        @DisplayName("宽度取最近一档，未指定格式时 png 保持 png、其余输出 jpg")
+        void testDefaults() throws IOException {
+            when(imageVariantManager.getVariant(anyString(), anyInt(), anyString())).thenReturn(tempDir.resolve("x"));
+
+            fileUploadService.getImageVariant("/uploads/images/a.png", 200, null);
+            fileUploadService.getImageVariant("/uploads/images/b.JPEG", 100, null);
+            fileUploadService.getImageVariant("/uploads/images/c.png", 100, "JPEG");
+
+            verify(imageVariantManager).getVariant("/uploads/images/a.png", 256, "png");
+            verify(imageVariantManager).getVariant("/uploads/images/b.JPEG", 128, "jpg");
+            verify(imageVariantManager).getVariant("/uploads/images/c.png", 128, "jpg");
+        }
+
+        @Test
+        @DisplayName("源图不存在")
+        void testMissing() throws IOException {
+            when(imageVariantManager.getVariant(anyString(), anyInt(), anyString()))
+                    .thenThrow(new NoSuchFileException("images/a.png"));
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> fileUploadService.getImageVariant("/uploads/images/a.png", 64, "png"));
+            assertEquals("图片不存在", exception.getDescription());
+        }
+    }
+
+    @Nested
+    @DisplayName("存储迁移测试")
+    class StorageMigrationTests {
+
+        @Test
+        @DisplayName("非管理员不能开始迁移")
+        void testStartNotAdmin() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            when(userService.isAdmin(request)).thenReturn(false);
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> fileUploadService.startStorageMigration(request));
+            assertEquals(ErrorCode.NO_AUTH.getCode(), exception.getCode());
+            verifyNoInteractions(storageMigrationManager);
+        }
+
+        @Test
+        @DisplayName("管理员开始迁移，进行中时返回 false")
+        void testStartAdmin() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            when(userService.isAdmin(request)).thenReturn(true);
+            when(storageMigrationManager.start()).thenReturn(true, false);
+
+            assertTrue(fileUploadService.startStorageMigration(request));
+            assertFalse(fileUploadService.startStorageMigration(request));
+        }
+    }
+
+    @Nested
+    @DisplayName("存储用量测试")
+    class StorageUsageTests {
+
+        @Test
+        @DisplayName("登录用户的上传计入个人用量")
+        void testUploadRecordsUserUsage() {
+            User user = new User();
+            user.setId(7L);
+            httpRequest.getSession().setAttribute("userLoginState", user);
+            byte[] content = "cover".getBytes();
+
+            fileUploadService.uploadImage(new MockMultipartFile("file", "a.png", "image/png", content), httpRequest);
+
+            verify(storageUsageManager).checkQuota(null, 7L, content.length);
+            verify(storageUsageManager).recordUpload(eq(7L), startsWith("/uploads/images/"), eq((long) content.length));
+        }
+
+        @Test
+        @DisplayName("超出配额时不存储文件")
+        void testQuotaExceeded() {
+            doThrow(new BusinessException(ErrorCode.PARAMS_ERROR, "个人存储空间已满"))
+                    .when(storageUsageManager).checkQuota(any(), any(), anyLong());
+
+            assertThrows(BusinessException.class, () -> fileUploadService.uploadFile(
+                    new MockMultipartFile("file", "a.pdf", "application/pdf", "pdf".getBytes()), httpRequest));
+            assertFalse(Files.exists(tempDir.resolve("files")));
+            verify(storageUsageManager, never()).recordUpload(any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("分片上传按声明的大小提前校验配额")
+        void testChunkUploadQuota() {
+            User user = new User();
+            user.setId(7L);
+            httpRequest.getSession().setAttribute("userLoginState", user);
+            doThrow(new BusinessException(ErrorCode.PARAMS_ERROR, "个人存储空间已满"))
+                    .when(storageUsageManager).checkQuota(null, 7L, 1024L);
+            ChunkUploadInitRequest request = new ChunkUploadInitRequest();
+            request.setType("file");
+            request.setFileName("a.zip");
+            request.setFileSize(1024L);
+
+            assertThrows(BusinessException.class, () -> fileUploadService.initChunkUpload(request, httpRequest));
+        }
+
+        @Test
+        @DisplayName("查询用量需要管理员权限")
+        void testGetStorageUsageNoAuth() {
+            when(userService.isAdmin(httpRequest)).thenReturn(false);
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> fileUploadService.getStorageUsage("user", null, null, httpRequest));
+            assertEquals(ErrorCode.NO_AUTH.getCode(), exception.getCode());
+        }
+
+        @Test
+        @DisplayName("查询用量校验统计类型与数量")
+        void testGetStorageUsageParams() {
+            when(userService.isAdmin(httpRequest)).thenReturn(true);
+
+            assertThrows(BusinessException.class,
+                    () -> fileUploadService.getStorageUsage("team", null, null, httpRequest));
+            assertThrows(BusinessException.class,
+                    () -> fileUploadService.getStorageUsage("user", null, 0, httpRequest));
+            fileUploadService.getStorageUsage("competition", 100L, null, httpRequest);
+            verify(storageUsageManager).listUsage("competition", 100L, 20);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.miji.cms.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.miji.cms.exception.BusinessException;
+import com.miji.cms.manager.StorageUsageManager;
 import com.miji.cms.mapper.UserMapper;
 import com.miji.cms.model.domain.User;
 import com.miji.cms.service.impl.UserServiceImpl;
@@ -33,6 +34,9 @@ class UserServiceImplTest {
     @Mock
     private HttpSession session;
 
+    @Mock
+    private StorageUsageManager storageUsageManager;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -283,6 +287,25 @@ class UserServiceImplTest {
             assertEquals(1, res);
         }
 
+        @Test
+        void testUpdateUserAvatarReleasesOldUpload() {
+            User user = new User();
+            user.setId(10L);
+            user.setUserUrl("/uploads/images/new.png");
+
+            User loginUser = new User();
+            loginUser.setId(10L);
+            loginUser.setUserRole(0);
+
+            User oldUser = new User();
+            oldUser.setUserUrl("/uploads/images/old.png");
+            when(userMapper.selectById(10L)).thenReturn(oldUser);
+            when(userMapper.updateById(user)).thenReturn(1);
+
+            userService.updateUser(user, loginUser);
+            verify(storageUsageManager).releaseUpload(10L, "/uploads/images/old.png");
+        }
+
         @Test
         void testUpdateUserNoAuth() {
             User user = new User();